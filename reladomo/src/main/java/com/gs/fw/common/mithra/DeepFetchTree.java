@@ -18,6 +18,7 @@ package com.gs.fw.common.mithra;
 
 
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
+import com.gs.fw.common.mithra.finder.DeepFetchDecision;
 import com.gs.fw.common.mithra.finder.DeepRelationshipAttribute;
 
 import java.util.List;
@@ -33,4 +34,10 @@ public interface DeepFetchTree
      * @return unmodifiable list of the children of this node, or an empty list if there are no children.
      */
     public List<DeepFetchTree> getChildren();
+
+    /**
+     * @return how the relationship in this node was chosen to be fetched the last time the tree was resolved, or null
+     * on the root, for adhoc deep fetches and before the tree is resolved.
+     */
+    public DeepFetchDecision getDeepFetchDecision();
 }
@@ -107,7 +107,6 @@ public class MithraManager
             Class.forName(MithraDatedTransactionalObjectImpl.class.getName());
             Class.forName(MithraTransactionalObjectImpl.class.getName());
             Class.forName(MithraUnsafe.class.getName());
-            Class.forName(NonLruQueryIndex.class.getName());
             Class.forName(PeekableQueue.class.getName());
             Class.forName(ServerTransactionWorkerTask.class.getName());
             Class.forName(SingleListBasedQueue.class.getName());
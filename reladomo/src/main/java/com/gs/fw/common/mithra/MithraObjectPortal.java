@@ -59,6 +59,11 @@ public interface MithraObjectPortal
 
     public QueryCache getQueryCache();
 
+    /**
+     * @return the query cache shared by all threads, even when called inside a transaction
+     */
+    public QueryCache zGetNonTransactionalQueryCache();
+
     public RelatedFinder getFinder();
 
     public MithraDatabaseObject getDatabaseObject();
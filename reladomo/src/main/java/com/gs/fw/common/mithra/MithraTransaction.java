@@ -29,6 +29,7 @@ import com.gs.fw.common.mithra.behavior.txparticipation.TxParticipationMode;
 import com.gs.fw.common.mithra.cache.Cache;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.notification.MithraNotificationEvent;
+import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.transaction.MithraTransactionalResource;
 import com.gs.fw.common.mithra.transaction.TransactionLocalMap;
 import com.gs.fw.common.mithra.transaction.TransactionStyle;
@@ -231,6 +232,11 @@ public abstract class MithraTransaction implements TransactionalBehaviorChooser
 
     public abstract void enrollCache(Cache cache);
 
+    /**
+     * the query cache's maintained queries are patched once, when this transaction has committed all its objects
+     */
+    public abstract void enrollMaintainedQueryCache(QueryCache queryCache);
+
     public abstract void insert(MithraTransactionalObject obj) throws MithraDatabaseException;
 
     public abstract void update(MithraTransactionalObject obj, AttributeUpdateWrapper attributeUpdateWrapper) throws MithraDatabaseException;
@@ -328,6 +334,17 @@ public abstract class MithraTransaction implements TransactionalBehaviorChooser
 
     public abstract void enrollReadLocked(MithraTransactionalObject mithraTransactionalObject);
 
+    /**
+     * records the committed data of an object read without enrollment, to be validated when the transaction commits
+     * @return false if the object must be enrolled for read instead, because it had a conflict earlier in this transaction
+     */
+    public abstract boolean enrollOptimisticRead(MithraTransactionalObject mithraTransactionalObject);
+
+    /**
+     * after a conflict, the object is enrolled for read for the rest of the transaction
+     */
+    public abstract void escalateOptimisticRead(MithraTransactionalObject mithraTransactionalObject);
+
     public abstract boolean isInFuture(long time);
 
     public abstract void addSharedDatedTransactionalState(DatedTransactionalState datedTransactionalState);
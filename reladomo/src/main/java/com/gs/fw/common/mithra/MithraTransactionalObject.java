@@ -147,6 +147,11 @@ public interface MithraTransactionalObject extends MithraObject, MithraTransacti
 
     public boolean zIsDataChanged(MithraDataObject data);
 
+    /**
+     * @return true if another transaction committed a change to this object since data was its committed data
+     */
+    public boolean zIsDataStale(MithraDataObject data);
+
     /**
      * This method is used to compare the non primary key attrributes of two Mithra transactional objects.
      *
@@ -20,6 +20,7 @@ import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.MithraTransactionalObject;
 import com.gs.fw.common.mithra.TransactionalState;
 import com.gs.fw.common.mithra.behavior.TransactionalBehavior;
+import com.gs.fw.common.mithra.behavior.txparticipation.TxParticipationMode;
 import com.gs.fw.common.mithra.transaction.MithraTempTransaction;
 
 
@@ -138,7 +139,7 @@ public abstract class PersistenceState
         TransactionalBehavior result = null;
         if (transactionalState == null || transactionalState.hasNoTransactions()) // object is not in a transaction
         {
-            if (threadTx.zIsInOperationEvaluationMode() || !mto.zGetPortal().getTxParticipationMode(threadTx).mustParticipateInTxOnRead())
+            if (threadTx.zIsInOperationEvaluationMode() || isReadWithoutEnrollment(threadTx, mto, persistenceState))
             {
                 result = allStates[persistenceState].getForNoTransaction();
             }
@@ -156,7 +157,17 @@ public abstract class PersistenceState
             }
             else
             {
-                if (threadTx.zIsInOperationEvaluationMode() || !mto.zGetPortal().getTxParticipationMode(threadTx).mustParticipateInTxOnRead())
+                if (threadTx.zIsInOperationEvaluationMode())
+                {
+                    result = allStates[persistenceState].getForNoTransaction();
+                }
+                else if (isOptimisticRead(threadTx, mto, persistenceState) && transactionalState.isEnrolledForWriteByOther(threadTx))
+                {
+                    // a conflict: from now on, this transaction enrolls the object for read, as the full participation mode does
+                    threadTx.escalateOptimisticRead(mto);
+                    transactionalState.waitForTransactions(threadTx);
+                }
+                else if (isReadWithoutEnrollment(threadTx, mto, persistenceState))
                 {
                     result = allStates[persistenceState].getForNoTransaction();
                 }
@@ -176,6 +187,21 @@ public abstract class PersistenceState
         return result;
     }
 
+    private static boolean isOptimisticRead(MithraTransaction threadTx, MithraTransactionalObject mto, int persistenceState)
+    {
+        return persistenceState == PERSISTED && mto.zGetPortal().getTxParticipationMode(threadTx).isOptimisticRead();
+    }
+
+    private static boolean isReadWithoutEnrollment(MithraTransaction threadTx, MithraTransactionalObject mto, int persistenceState)
+    {
+        TxParticipationMode participationMode = mto.zGetPortal().getTxParticipationMode(threadTx);
+        if (persistenceState == PERSISTED && participationMode.isOptimisticRead())
+        {
+            return threadTx.enrollOptimisticRead(mto);
+        }
+        return !participationMode.mustParticipateInTxOnRead();
+    }
+
     public static TransactionalBehavior getTransactionalBehaviorForTransactionForDeleteWithWaitIfNecessary(MithraTransaction threadTx,
                                                                                                            MithraTransactionalObject mto, TransactionalState transactionalState, int persistenceState)
     {
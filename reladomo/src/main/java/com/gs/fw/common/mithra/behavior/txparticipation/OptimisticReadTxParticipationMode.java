@@ -0,0 +1,61 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.behavior.txparticipation;
+
+/**
+ * Reads neither lock nor enroll the objects they return. The transaction records the version of each object it
+ * reads and checks, when it commits, that no other transaction changed them. An object that another transaction
+ * is writing when it is read is enrolled for read, as in {@link FullTransactionalParticipationMode}.
+ * <p>
+ * For a class with a version attribute, the versions read are checked against the database at commit, so changes
+ * made by other jvms are caught too. For a class without one, only the cache is checked: the mode then only detects
+ * changes made in this jvm, and must not be used when other processes write the same table.
+ */
+public class OptimisticReadTxParticipationMode extends TxParticipationMode
+{
+
+    private static final OptimisticReadTxParticipationMode instance = new OptimisticReadTxParticipationMode();
+
+    public OptimisticReadTxParticipationMode()
+    {
+    }
+
+    public static OptimisticReadTxParticipationMode getInstance()
+    {
+        return OptimisticReadTxParticipationMode.instance;
+    }
+
+    public boolean mustLockOnRead()
+    {
+        return false;
+    }
+
+    public boolean mustParticipateInTxOnRead()
+    {
+        return false;
+    }
+
+    public boolean isOptimisticRead()
+    {
+        return true;
+    }
+
+    public Object readResolve()
+    {
+        return OptimisticReadTxParticipationMode.getInstance();
+    }
+}
@@ -50,4 +50,12 @@ public abstract class TxParticipationMode implements Externalizable
     {
         return false;
     }
+
+    /**
+     * @return true if reads are not enrolled in the transaction, but their versions are validated when it commits
+     */
+    public boolean isOptimisticRead()
+    {
+        return false;
+    }
 }
@@ -19,6 +19,9 @@ package com.gs.fw.common.mithra.cache;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.cache.offheap.MasterCacheUplink;
 import com.gs.fw.common.mithra.cache.offheap.MasterSyncResult;
 import com.gs.fw.common.mithra.extractor.Extractor;
@@ -73,6 +76,16 @@ public abstract class AbstractCache implements Cache
         return indices.length - 1;
     }
 
+    public void addStringSearchIndex(StringAttribute attribute)
+    {
+        throw new MithraBusinessException("string search indices are only supported for full caches of non-dated classes");
+    }
+
+    public StringSearchIndex getStringSearchIndex(Attribute attribute)
+    {
+        return null;
+    }
+
     protected int getBestIndexReferenceBasedOnAttributes(List attributes)
     {
         Index best = null;
@@ -176,7 +189,7 @@ public abstract class AbstractCache implements Cache
 
     protected abstract boolean isSubset(List attributes, Extractor[] candidateAttributes);
 
-    private static <T> T[] copyAndAdd(Class<T> clazz, T[] array, T newItem)
+    protected static <T> T[] copyAndAdd(Class<T> clazz, T[] array, T newItem)
     {
         T[] newArray = (T[]) Array.newInstance(clazz, array.length + 1);
         System.arraycopy(array, 0, newArray, 0, array.length);
@@ -23,6 +23,7 @@ import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.fw.common.mithra.*;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
 import com.gs.fw.common.mithra.behavior.TemporalContainer;
 import com.gs.fw.common.mithra.behavior.state.PersistedState;
@@ -58,6 +59,7 @@ public abstract class AbstractNonDatedCache extends AbstractCache
     private final long timeToLive;
     private final long relationshipTimeToLive;
     protected UnderlyingObjectGetter underlyingObjectGetter;
+    private Index[] stringSearchIndices = new Index[0];
 
     public AbstractNonDatedCache(Attribute[] pkAttributes, MithraObjectFactory factory, long timeToLive, long relationshipTimeToLive)
     {
@@ -167,6 +169,70 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         return indexRef+1;
     }
 
+    public void addStringSearchIndex(StringAttribute attribute)
+    {
+        if (!this.isFullCache())
+        {
+            super.addStringSearchIndex(attribute);
+        }
+        try
+        {
+            this.readWriteLock.acquireWriteLock();
+            if (this.findStringSearchIndex(attribute) == null)
+            {
+                StringSearchIndex index = this.createStringSearchIndex(attribute);
+                index.initialize(this.primaryKeyIndex);
+                this.stringSearchIndices = copyAndAdd(Index.class, this.stringSearchIndices, index);
+                this.populateAttributeToIndexMap(new Extractor[] { attribute }, index);
+            }
+        }
+        finally
+        {
+            this.readWriteLock.release();
+        }
+    }
+
+    protected StringSearchIndex createStringSearchIndex(StringAttribute attribute)
+    {
+        return new StringSearchIndex(attribute.getAttributeName(), this.primaryKeyAttributes, attribute, false, this.underlyingObjectGetter);
+    }
+
+    public StringSearchIndex getStringSearchIndex(Attribute attribute)
+    {
+        return this.findStringSearchIndex(attribute);
+    }
+
+    protected StringSearchIndex findStringSearchIndex(Attribute attribute)
+    {
+        Index[] stringSearchIndices = this.stringSearchIndices;
+        for (int i = 0; i < stringSearchIndices.length; i++)
+        {
+            if (((StringSearchIndex) stringSearchIndices[i]).getAttribute().equals(attribute))
+            {
+                return (StringSearchIndex) stringSearchIndices[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the lookup indices followed by the string search indices, which follow every change to the cache but
+     * can't answer lookups
+     */
+    protected Index[] getMaintainedIndices()
+    {
+        Index[] stringSearchIndices = this.stringSearchIndices;
+        Index[] indices = this.indices;
+        if (stringSearchIndices.length == 0)
+        {
+            return indices;
+        }
+        Index[] result = new Index[indices.length + stringSearchIndices.length];
+        System.arraycopy(indices, 0, result, 0, indices.length);
+        System.arraycopy(stringSearchIndices, 0, result, indices.length, stringSearchIndices.length);
+        return result;
+    }
+
     public int addTypedIndex(Extractor[] attributes, Class type, Class underlyingType)
     {
         int indexRef = -1;
@@ -196,9 +262,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         try
         {
             this.readWriteLock.acquireWriteLock();
-            for (int i = 0; i < indices.length; i++)
+            Index[] maintained = this.getMaintainedIndices();
+            for (int i = 0; i < maintained.length; i++)
             {
-                indices[i].clear();
+                maintained[i].clear();
             }
         }
         finally
@@ -467,9 +534,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         try
         {
             this.readWriteLock.acquireWriteLock();
-            for (int i = 0; i < this.indices.length; i++)
+            Index[] maintained = this.getMaintainedIndices();
+            for (int i = 0; i < maintained.length; i++)
             {
-                indices[i].remove(object);
+                maintained[i].remove(object);
             }
         }
         finally
@@ -588,14 +656,15 @@ public abstract class AbstractNonDatedCache extends AbstractCache
             this.readWriteLock.acquireWriteLock();
             lock = Boolean.TRUE;
             FastList checkToReindexList = new FastList(updatedDataList.size());
+            Index[] maintained = this.getMaintainedIndices();
             for (int i = 0; i < deletedData.size(); i++)
             {
                 MithraObject object = (MithraObject) primaryKeyIndex.removeUsingUnderlying(deletedData.get(i));
                 if (object != null)
                 {
-                    for (int j = 1; j < this.indices.length; j++)
+                    for (int j = 1; j < maintained.length; j++)
                     {
-                        Index index = this.indices[j];
+                        Index index = maintained[j];
                         index.remove(object);
                     }
                     this.markObjectAsDeleted(object);
@@ -752,9 +821,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         try
         {
             this.readWriteLock.acquireWriteLock();
-            for (int j = 0; j < this.indices.length; j++)
+            Index[] maintained = this.getMaintainedIndices();
+            for (int j = 0; j < maintained.length; j++)
             {
-                Index index = this.indices[j];
+                Index index = maintained[j];
                 for (int i = 0; i < objects.size(); i++)
                 {
                     index.remove(objects.get(i));
@@ -773,9 +843,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         {
             this.readWriteLock.acquireWriteLock();
             List toRemove = this.primaryKeyIndex.removeAll(filter);
-            for (int j = 1; j < this.indices.length; j++)
+            Index[] maintained = this.getMaintainedIndices();
+            for (int j = 1; j < maintained.length; j++)
             {
-                Index index = this.indices[j];
+                Index index = maintained[j];
                 for (int i = 0; i < toRemove.size(); i++)
                 {
                     index.remove(toRemove.get(i));
@@ -793,9 +864,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
         try
         {
             this.readWriteLock.acquireWriteLock();
-            for (int i = 0; i < this.indices.length; i++)
+            Index[] maintained = this.getMaintainedIndices();
+            for (int i = 0; i < maintained.length; i++)
             {
-                indices[i].removeUsingUnderlying(object);
+                maintained[i].removeUsingUnderlying(object);
             }
         }
         finally
@@ -821,9 +893,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
             if (dirty != null)
             {
                 dirty.zMarkDirty();
-                for (int i = 1; i < this.indices.length; i++)
+                Index[] maintained = this.getMaintainedIndices();
+                for (int i = 1; i < maintained.length; i++)
                 {
-                    indices[i].removeUsingUnderlying(object);
+                    maintained[i].removeUsingUnderlying(object);
                 }
             }
             return dirty != null;
@@ -858,9 +931,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
                     if (dirty != null)
                     {
                         dirty.zMarkDirty();
-                        for (int i = 1; i < this.indices.length; i++)
+                        Index[] maintained = this.getMaintainedIndices();
+                        for (int i = 1; i < maintained.length; i++)
                         {
-                            indices[i].remove(object);
+                            maintained[i].remove(object);
                         }
                     }
                 }
@@ -1150,9 +1224,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
     protected Object addToIndicies(MithraObject result, boolean weak)
     {
         Object old = weak ? this.primaryKeyIndex.putWeak(result) : this.primaryKeyIndex.put(result);
-        for (int i = 1; i < this.indices.length; i++)
+        Index[] maintained = this.getMaintainedIndices();
+        for (int i = 1; i < maintained.length; i++)
         {
-            indices[i].put(result);
+            maintained[i].put(result);
         }
         return old;
     }
@@ -1682,9 +1757,10 @@ public abstract class AbstractNonDatedCache extends AbstractCache
 
                 if (this.primaryKeyIndex.evictCollectedReferences())
                 {
-                    for (int i = 1; i < indices.length; i++)
+                    Index[] maintained = this.getMaintainedIndices();
+                    for (int i = 1; i < maintained.length; i++)
                     {
-                        Index index = indices[i];
+                        Index index = maintained[i];
                         if (index != null)
                         {
                             index.evictCollectedReferences();
@@ -1702,7 +1778,7 @@ public abstract class AbstractNonDatedCache extends AbstractCache
     @Override
     public void destroy()
     {
-        for(Index index: indices)
+        for(Index index: this.getMaintainedIndices())
         {
             index.destroy();
         }
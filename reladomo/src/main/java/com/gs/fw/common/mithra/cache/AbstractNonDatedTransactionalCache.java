@@ -24,6 +24,7 @@ import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.fw.common.mithra.*;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
 import com.gs.fw.common.mithra.behavior.AbstractTransactionalBehavior;
 
@@ -75,6 +76,23 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
         return this.noIndexReference;
     }
 
+    @Override
+    protected StringSearchIndex createStringSearchIndex(StringAttribute attribute)
+    {
+        return new StringSearchIndex(attribute.getAttributeName(), this.getPrimaryKeyAttributes(), attribute, true, null);
+    }
+
+    @Override
+    public StringSearchIndex getStringSearchIndex(Attribute attribute)
+    {
+        if (MithraManagerProvider.getMithraManager().isInTransaction())
+        {
+            // the index only holds committed values
+            return null;
+        }
+        return super.getStringSearchIndex(attribute);
+    }
+
     @Override
     protected void reindexAffectedIndicesAndSetData(MithraObject object, MithraDataObject newData,
             UnifiedSet affectedIndicies, Object optionalBehavior)
@@ -200,7 +218,7 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
         try
         {
             this.getCacheLock().acquireWriteLock();
-            Index[] indices = this.getIndices();
+            Index[] indices = this.getMaintainedIndices();
             for(int i=0;i<indices.length;i++)
             {
                 TransactionalIndex index = (TransactionalIndex) indices[i];
@@ -248,7 +266,7 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
         try
         {
             this.getCacheLock().acquireWriteLock();
-            Index[] indices = this.getIndices();
+            Index[] indices = this.getMaintainedIndices();
             for(int i=0;i<indices.length;i++)
             {
                 TransactionalIndex index = (TransactionalIndex) indices[i];
@@ -270,7 +288,7 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
         try
         {
             this.getCacheLock().acquireWriteLock();
-            Index[] indices = this.getIndices();
+            Index[] indices = this.getMaintainedIndices();
             for(int i=0;i<indices.length;i++)
             {
                 TransactionalIndex index = (TransactionalIndex) indices[i];
@@ -289,7 +307,7 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
         try
         {
             this.getCacheLock().acquireWriteLock();
-            Index[] indices = this.getIndices();
+            Index[] indices = this.getMaintainedIndices();
             for(int i=0;i<indices.length;i++)
             {
                 TransactionalIndex index = (TransactionalIndex) indices[i];
@@ -322,7 +340,7 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
         try
         {
             this.getCacheLock().acquireWriteLock();
-            Index[] indices = this.getIndices();
+            Index[] indices = this.getMaintainedIndices();
             for(int i=0;i<indices.length;i++)
             {
                 TransactionalIndex index = (TransactionalIndex) indices[i];
@@ -340,7 +358,7 @@ public abstract class AbstractNonDatedTransactionalCache extends AbstractNonDate
     {
         TransactionalIndex primaryKeyIndex = ((TransactionalIndex) this.getPrimaryKeyIndex());
         Object old = primaryKeyIndex.putIgnoringTransaction(result, result.zGetCurrentData(), weak);
-        Index[] indices = this.getIndices();
+        Index[] indices = this.getMaintainedIndices();
         for(int i=1;i<indices.length;i++)
         {
             TransactionalIndex index = (TransactionalIndex) indices[i];
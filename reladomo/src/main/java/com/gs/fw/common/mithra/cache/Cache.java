@@ -19,6 +19,7 @@ package com.gs.fw.common.mithra.cache;
 import com.gs.collections.api.set.primitive.*;
 import com.gs.fw.common.mithra.*;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
 import com.gs.fw.common.mithra.behavior.TemporalContainer;
 import com.gs.fw.common.mithra.cache.offheap.MasterCacheUplink;
@@ -65,6 +66,17 @@ public interface Cache
 
     public int addTypedUniqueIndex(Extractor[] attributes, Class type, Class underlyingType);
 
+    /**
+     * adds a trigram index that narrows in-memory contains, startsWith, endsWith and wildcard searches on the attribute.
+     * Only supported by full caches of non-dated classes.
+     */
+    public void addStringSearchIndex(StringAttribute attribute);
+
+    /**
+     * @return the string search index on the attribute, or null if there isn't one or it can't be used right now
+     */
+    public StringSearchIndex getStringSearchIndex(Attribute attribute);
+
     public boolean isFullCache();
 
     public boolean isPartialCache();
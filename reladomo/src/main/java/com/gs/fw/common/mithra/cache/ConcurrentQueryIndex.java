@@ -0,0 +1,542 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache;
+
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrent index of cached queries. Lookups go straight to a ConcurrentHashMap and take no lock.
+ * <p>
+ * Every cached query is referenced softly (weakly if its result is very large and nothing is retained, as in a
+ * full cache). In a partial cache, some of them are also retained with a hard reference so they survive garbage
+ * collection. The retained queries are bounded by retained size, the summed lengths of their results, with one
+ * budget for plain queries and one for relationship queries.
+ * <p>
+ * When a budget is full, a query that is put or hit can only replace the least recently used query of a small
+ * random sample of retained queries, and only if it was used more often. Use is estimated with a count-min
+ * sketch of recent lookups (TinyLFU admission). A scan of one-off queries can't flush the queries that are used
+ * again and again.
+ */
+public class ConcurrentQueryIndex implements QueryIndex
+{
+    private static final int SAMPLE_SIZE = 8;
+    private static final int MIN_SKETCH_COUNTERS = 256;
+    private static final int MAX_SKETCH_COUNTERS = 1 << 18;
+
+    private final ConcurrentHashMap<Operation, Entry> map = new ConcurrentHashMap<Operation, Entry>();
+    private final ReferenceQueue<CachedQuery> queue = new ReferenceQueue<CachedQuery>();
+    private final RetainedSet queries;
+    private final RetainedSet relationships;
+    private final FrequencySketch sketch;
+    private final long timeToLive;
+    private final long relationshipTimeToLive;
+    private final int weakThreshold;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * creates an index that retains nothing; used for full caches.
+     */
+    public ConcurrentQueryIndex()
+    {
+        this(0, 0, 0, 0, Cache.WEAK_THRESHOLD);
+    }
+
+    /**
+     * @param maxQueryRetainedSize the maximum summed result size of the retained plain queries
+     * @param maxRelationshipRetainedSize the maximum summed result size of the retained relationship queries
+     * @param timeToLive milliseconds after which a query is no longer returned for a plain lookup. 0 means forever.
+     * @param relationshipTimeToLive milliseconds after which a query is no longer returned for a relationship lookup. 0 means forever.
+     */
+    public ConcurrentQueryIndex(int maxQueryRetainedSize, int maxRelationshipRetainedSize, long timeToLive, long relationshipTimeToLive)
+    {
+        this(maxQueryRetainedSize, maxRelationshipRetainedSize, timeToLive, relationshipTimeToLive, Integer.MAX_VALUE);
+    }
+
+    private ConcurrentQueryIndex(int maxQueryRetainedSize, int maxRelationshipRetainedSize, long timeToLive,
+            long relationshipTimeToLive, int weakThreshold)
+    {
+        this.queries = new RetainedSet(maxQueryRetainedSize);
+        this.relationships = new RetainedSet(maxRelationshipRetainedSize);
+        this.timeToLive = timeToLive;
+        this.relationshipTimeToLive = relationshipTimeToLive;
+        this.weakThreshold = weakThreshold;
+        long totalSize = (long) maxQueryRetainedSize + maxRelationshipRetainedSize;
+        this.sketch = totalSize == 0 ? null : new FrequencySketch(sketchCounters(totalSize));
+    }
+
+    private static int sketchCounters(long totalRetainedSize)
+    {
+        // sized for the number of retained entries, assuming a few rows per entry
+        long entries = totalRetainedSize >> 3;
+        int counters = MIN_SKETCH_COUNTERS;
+        while (counters < (entries << 4) && counters < MAX_SKETCH_COUNTERS)
+        {
+            counters <<= 1;
+        }
+        return counters;
+    }
+
+    public CachedQuery get(Operation op, boolean forRelationship)
+    {
+        Entry entry = this.map.get(op);
+        CachedQuery result = null;
+        if (entry != null)
+        {
+            result = entry.getCachedQuery();
+            if (result == null || result.isExpired())
+            {
+                this.remove(entry);
+                result = null;
+            }
+        }
+        if (result == null)
+        {
+            this.expungeCollectedEntries();
+            if (this.sketch != null) this.sketch.increment(op.hashCode());
+            this.misses.incrementAndGet();
+            return null;
+        }
+        long live = forRelationship ? this.relationshipTimeToLive : this.timeToLive;
+        if (live > 0 && entry.creationTime + live <= CacheClock.getTime())
+        {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        this.hits.incrementAndGet();
+        if (this.sketch != null)
+        {
+            this.sketch.increment(entry.hash);
+            RetainedSet set = this.getRetainedSet(entry);
+            entry.lastAccess = set.nextAccess();
+            if (entry.retainedIndex < 0 && set.maxSize > 0)
+            {
+                set.admit(entry, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the query that was put
+     */
+    public CachedQuery put(CachedQuery key, boolean isForRelationship)
+    {
+        this.expungeCollectedEntries();
+        Operation op = key.getOperation();
+        int hash = op.hashCode();
+        List result = key.getResult();
+        int size = result == null ? 0 : result.size();
+        long creationTime = this.timeToLive > 0 || this.relationshipTimeToLive > 0 ? CacheClock.getTime() : 0;
+        Entry entry = new Entry(op, hash, Math.max(1, size), creationTime, isForRelationship, key, size >= this.weakThreshold, this.queue);
+        Entry old = this.map.put(op, entry);
+        if (old != null)
+        {
+            if (old.forRelationship) entry.forRelationship = true;
+            this.release(old);
+        }
+        if (this.sketch != null)
+        {
+            this.sketch.increment(hash);
+            RetainedSet set = this.getRetainedSet(entry);
+            entry.lastAccess = set.nextAccess();
+            if (set.maxSize > 0)
+            {
+                set.admit(entry, key);
+            }
+        }
+        return key;
+    }
+
+    public void clear()
+    {
+        this.map.clear();
+        this.queries.clear();
+        this.relationships.clear();
+        while (this.queue.poll() != null)
+            ;
+    }
+
+    public int roughSize()
+    {
+        return this.map.size();
+    }
+
+    public void destroy()
+    {
+        this.clear();
+    }
+
+    public long getHits()
+    {
+        return this.hits.get();
+    }
+
+    public long getMisses()
+    {
+        return this.misses.get();
+    }
+
+    public long getEvictions()
+    {
+        return this.evictions.get();
+    }
+
+    public long getRetainedSize()
+    {
+        return (long) this.queries.retainedSize + this.relationships.retainedSize;
+    }
+
+    public int getEntryCount()
+    {
+        return this.map.size();
+    }
+
+    /**
+     * removes the entries whose queries were garbage collected. Also done as part of put and missed get.
+     */
+    public void expungeCollectedEntries()
+    {
+        Reference<? extends CachedQuery> reference;
+        while ((reference = this.queue.poll()) != null)
+        {
+            Entry entry = ((EntryReference) reference).getEntry();
+            this.map.remove(entry.operation, entry);
+        }
+    }
+
+    private RetainedSet getRetainedSet(Entry entry)
+    {
+        return entry.forRelationship ? this.relationships : this.queries;
+    }
+
+    private void remove(Entry entry)
+    {
+        this.map.remove(entry.operation, entry);
+        this.release(entry);
+    }
+
+    private void release(Entry entry)
+    {
+        RetainedSet owner = entry.owner;
+        if (owner != null)
+        {
+            owner.release(entry);
+        }
+    }
+
+    private final class RetainedSet
+    {
+        private final int maxSize;
+        private Entry[] entries = new Entry[16];
+        private int count;
+        private volatile int retainedSize;
+        private int randomSeed = 0x2545F491;
+        private int accessClock; // updated without a lock; a lost increment only makes an access look a bit older
+
+        private RetainedSet(int maxSize)
+        {
+            this.maxSize = maxSize;
+        }
+
+        private int nextAccess()
+        {
+            return ++accessClock;
+        }
+
+        private synchronized void admit(Entry entry, CachedQuery query)
+        {
+            if (entry.retainedIndex >= 0 || entry.weight > maxSize || map.get(entry.operation) != entry)
+            {
+                return;
+            }
+            while (retainedSize + entry.weight > maxSize)
+            {
+                Entry victim = this.sampleVictim();
+                CachedQuery victimQuery = victim.retained;
+                if (victimQuery != null && !victimQuery.isExpired()
+                        && sketch.frequency(entry.hash) <= sketch.frequency(victim.hash))
+                {
+                    return;
+                }
+                this.removeRetained(victim);
+                evictions.incrementAndGet();
+            }
+            if (count == entries.length)
+            {
+                Entry[] newEntries = new Entry[entries.length << 1];
+                System.arraycopy(entries, 0, newEntries, 0, count);
+                entries = newEntries;
+            }
+            entry.retained = query;
+            entry.retainedIndex = count;
+            entry.owner = this;
+            entries[count++] = entry;
+            retainedSize += entry.weight;
+            if (retainedSize > maxSize >> 1)
+            {
+                sketch.allocate();
+            }
+        }
+
+        private Entry sampleVictim()
+        {
+            if (count <= SAMPLE_SIZE)
+            {
+                return this.leastRecent();
+            }
+            Entry victim = null;
+            for (int i = 0; i < SAMPLE_SIZE; i++)
+            {
+                Entry candidate = entries[this.nextRandom(count)];
+                if (victim == null || candidate.lastAccess - victim.lastAccess < 0)
+                {
+                    victim = candidate;
+                }
+            }
+            return victim;
+        }
+
+        private Entry leastRecent()
+        {
+            Entry victim = entries[0];
+            for (int i = 1; i < count; i++)
+            {
+                if (entries[i].lastAccess - victim.lastAccess < 0)
+                {
+                    victim = entries[i];
+                }
+            }
+            return victim;
+        }
+
+        private int nextRandom(int bound)
+        {
+            // xorshift; the sample doesn't need a good generator
+            int x = randomSeed;
+            x ^= x << 13;
+            x ^= x >>> 17;
+            x ^= x << 5;
+            randomSeed = x;
+            return (x & Integer.MAX_VALUE) % bound;
+        }
+
+        private synchronized void release(Entry entry)
+        {
+            if (entry.owner == this && entry.retainedIndex >= 0)
+            {
+                this.removeRetained(entry);
+            }
+        }
+
+        private void removeRetained(Entry entry)
+        {
+            int index = entry.retainedIndex;
+            count--;
+            if (index != count)
+            {
+                Entry last = entries[count];
+                entries[index] = last;
+                last.retainedIndex = index;
+            }
+            entries[count] = null;
+            retainedSize -= entry.weight;
+            entry.retainedIndex = -1;
+            entry.retained = null;
+        }
+
+        private synchronized void clear()
+        {
+            for (int i = 0; i < count; i++)
+            {
+                entries[i].retainedIndex = -1;
+                entries[i].retained = null;
+                entries[i] = null;
+            }
+            count = 0;
+            retainedSize = 0;
+        }
+    }
+
+    private static final class Entry
+    {
+        private final Operation operation;
+        private final int hash;
+        private final int weight;
+        private final long creationTime;
+        private final Reference<CachedQuery> reference;
+        private boolean forRelationship;
+        private volatile CachedQuery retained;
+        private volatile int retainedIndex = -1; // written under the owner's lock
+        private RetainedSet owner;
+        private int lastAccess;
+
+        private Entry(Operation operation, int hash, int weight, long creationTime, boolean forRelationship,
+                CachedQuery query, boolean weak, ReferenceQueue<CachedQuery> queue)
+        {
+            this.operation = operation;
+            this.hash = hash;
+            this.weight = weight;
+            this.creationTime = creationTime;
+            this.forRelationship = forRelationship;
+            this.reference = weak ? new WeakEntryReference(query, queue, this) : new SoftEntryReference(query, queue, this);
+        }
+
+        private CachedQuery getCachedQuery()
+        {
+            CachedQuery result = this.retained;
+            if (result == null)
+            {
+                result = this.reference.get();
+            }
+            return result;
+        }
+    }
+
+    private interface EntryReference
+    {
+        public Entry getEntry();
+    }
+
+    private static final class SoftEntryReference extends SoftReference<CachedQuery> implements EntryReference
+    {
+        private final Entry entry;
+
+        private SoftEntryReference(CachedQuery query, ReferenceQueue<CachedQuery> queue, Entry entry)
+        {
+            super(query, queue);
+            this.entry = entry;
+        }
+
+        public Entry getEntry()
+        {
+            return entry;
+        }
+    }
+
+    private static final class WeakEntryReference extends WeakReference<CachedQuery> implements EntryReference
+    {
+        private final Entry entry;
+
+        private WeakEntryReference(CachedQuery query, ReferenceQueue<CachedQuery> queue, Entry entry)
+        {
+            super(query, queue);
+            this.entry = entry;
+        }
+
+        public Entry getEntry()
+        {
+            return entry;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4 bit counters, 16 to a long. All counters are halved after a number of increments,
+     * so the estimates follow recent use. The table is only allocated once a retained set is half full, so the
+     * many small indices that never fill up (e.g. the ones of transactional query caches) don't pay for it.
+     * Increments are not synchronized; one lost under contention only makes an estimate slightly low.
+     */
+    private static final class FrequencySketch
+    {
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int[] SEEDS = { 0x97cb3127, 0xcc9e2d51, 0x1b873593, 0x85ebca6b };
+
+        private final int counters;
+        private final int counterMask;
+        private final int sampleSize;
+        private volatile long[] table;
+        private int additions;
+
+        private FrequencySketch(int counters)
+        {
+            this.counters = counters;
+            this.counterMask = counters - 1;
+            this.sampleSize = (counters >>> 4) * 10;
+        }
+
+        private synchronized void allocate()
+        {
+            if (this.table == null)
+            {
+                this.table = new long[counters >>> 4];
+            }
+        }
+
+        private int indexOf(int hash, int depth)
+        {
+            int h = (hash ^ (hash >>> 16)) * SEEDS[depth];
+            h ^= h >>> 15;
+            return h & counterMask;
+        }
+
+        private void increment(int hash)
+        {
+            long[] table = this.table;
+            if (table == null) return;
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++)
+            {
+                int index = indexOf(hash, i);
+                int shift = (index & 15) << 2;
+                long word = table[index >>> 4];
+                if (((word >>> shift) & 0xfL) != 0xfL)
+                {
+                    table[index >>> 4] = word + (1L << shift);
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize)
+            {
+                reset(table);
+            }
+        }
+
+        private int frequency(int hash)
+        {
+            long[] table = this.table;
+            if (table == null) return 0;
+            int result = 15;
+            for (int i = 0; i < SEEDS.length; i++)
+            {
+                int index = indexOf(hash, i);
+                int count = (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xfL);
+                if (count < result) result = count;
+            }
+            return result;
+        }
+
+        private void reset(long[] table)
+        {
+            additions = 0;
+            for (int i = 0; i < table.length; i++)
+            {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+        }
+    }
+}
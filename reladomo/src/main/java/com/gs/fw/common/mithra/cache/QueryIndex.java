@@ -29,4 +29,18 @@ public interface QueryIndex
     public int roughSize();
 
     public void destroy();
+
+    public long getHits();
+
+    public long getMisses();
+
+    /**
+     * @return the number of queries that were no longer retained to keep the retained size in bounds
+     */
+    public long getEvictions();
+
+    /**
+     * @return the summed result size of the queries retained in memory
+     */
+    public long getRetainedSize();
 }
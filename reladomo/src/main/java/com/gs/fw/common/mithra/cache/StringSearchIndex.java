@@ -0,0 +1,514 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.cache;
+
+import com.gs.collections.api.iterator.LongIterator;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.primitive.LongObjectHashMap;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.collections.impl.set.mutable.primitive.LongHashSet;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.extractor.RelationshipHashStrategy;
+import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import com.gs.fw.common.mithra.util.Filter2;
+import org.slf4j.Logger;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A trigram index on a string attribute of a fully cached, non-dated class. It narrows the candidates for
+ * contains, startsWith, endsWith and wildcard operations; the candidates must still be verified against the operation.
+ * <p>
+ * Each value is padded with {@link #ANCHOR} on both ends before it's cut into trigrams, so a fragment anchored the
+ * same way only matches at the start (or end) of a value.
+ * <p>
+ * In a transactional cache, the index holds the committed state only: changes are picked up when they're committed
+ * and the index must not be used inside a transaction.
+ * <p>
+ * The cache keeps these indices apart from its lookup indices: they're maintained on every change, but never chosen
+ * to resolve an operation, so the lookup methods here are not supported.
+ */
+public class StringSearchIndex implements Index, TransactionalIndex
+{
+    public static final char ANCHOR = '\u0000';
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final StringAttribute attribute;
+    private final Extractor[] extractors;
+    private final boolean transactional;
+    private final UnderlyingObjectGetter underlyingObjectGetter;
+    private final FullUniqueIndex entriesByPrimaryKey;
+    private final LongObjectHashMap<Set<Entry>> postings = new LongObjectHashMap<Set<Entry>>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public StringSearchIndex(String indexName, Extractor[] pkExtractors, StringAttribute attribute, boolean transactional,
+            UnderlyingObjectGetter underlyingObjectGetter)
+    {
+        this.attribute = attribute;
+        this.extractors = new Extractor[] { attribute };
+        this.transactional = transactional;
+        this.underlyingObjectGetter = underlyingObjectGetter == null ? new NonTransactionalUnderlyingObjectGetter() : underlyingObjectGetter;
+        this.entriesByPrimaryKey = new FullUniqueIndex(indexName, pkExtractors);
+        this.entriesByPrimaryKey.setUnderlyingObjectGetter(new UnderlyingObjectGetter()
+        {
+            public Object getUnderlyingObject(Object o)
+            {
+                return StringSearchIndex.this.underlyingObjectGetter.getUnderlyingObject(((Entry) o).businessObject);
+            }
+        });
+    }
+
+    public StringAttribute getAttribute()
+    {
+        return attribute;
+    }
+
+    /**
+     * @param fragments literal strings that any matching value must contain, padded with {@link #ANCHOR} where they
+     * must be at the start or the end of the value
+     * @return the objects that contain all the fragments, or null if the fragments are too short to narrow the search
+     */
+    public List getCandidates(String[] fragments)
+    {
+        LongHashSet grams = new LongHashSet();
+        for (String fragment : fragments)
+        {
+            addGrams(fragment, grams);
+        }
+        if (grams.isEmpty())
+        {
+            return null;
+        }
+        lock.readLock().lock();
+        try
+        {
+            Set<Entry>[] sets = new Set[grams.size()];
+            int smallest = 0;
+            int count = 0;
+            for (LongIterator it = grams.longIterator(); it.hasNext(); )
+            {
+                Set<Entry> set = postings.get(it.next());
+                if (set == null)
+                {
+                    return new FastList(0);
+                }
+                if (count == 0 || set.size() < sets[smallest].size())
+                {
+                    smallest = count;
+                }
+                sets[count++] = set;
+            }
+            FastList result = new FastList(sets[smallest].size());
+            for (Entry entry : sets[smallest])
+            {
+                boolean inAll = true;
+                for (int i = 0; i < sets.length && inAll; i++)
+                {
+                    inAll = i == smallest || sets[i].contains(entry);
+                }
+                if (inAll)
+                {
+                    result.add(entry.businessObject);
+                }
+            }
+            return result;
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size()
+    {
+        lock.readLock().lock();
+        try
+        {
+            return entriesByPrimaryKey.size();
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void initialize(IterableIndex primaryKeyIndex)
+    {
+        primaryKeyIndex.forAll(new DoUntilProcedure()
+        {
+            public boolean execute(Object object)
+            {
+                putIgnoringTransaction(object, underlyingObjectGetter.getUnderlyingObject(object), false);
+                return false;
+            }
+        });
+    }
+
+    private static void addGrams(String fragment, LongHashSet grams)
+    {
+        for (int i = 0; i + GRAM_LENGTH <= fragment.length(); i++)
+        {
+            grams.add(gramAt(fragment, i));
+        }
+    }
+
+    private static long gramAt(String s, int start)
+    {
+        return ((long) s.charAt(start) << 32) | ((long) s.charAt(start + 1) << 16) | s.charAt(start + 2);
+    }
+
+    private static String pad(String value)
+    {
+        return ANCHOR + value + ANCHOR;
+    }
+
+    private boolean isIgnoredForTransaction()
+    {
+        return transactional && MithraManagerProvider.getMithraManager().zGetCurrentTransactionWithNoCheck() != null;
+    }
+
+    private Object putEntry(Object businessObject, Object underlying)
+    {
+        Entry entry = new Entry(businessObject, this.attribute.stringValueOf(underlying));
+        lock.writeLock().lock();
+        try
+        {
+            Entry old = (Entry) entriesByPrimaryKey.putUsingUnderlying(entry, underlying);
+            if (old != null)
+            {
+                unindex(old);
+            }
+            index(entry);
+            return old == null ? null : old.businessObject;
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Object removeEntry(Object underlying)
+    {
+        lock.writeLock().lock();
+        try
+        {
+            Entry old = (Entry) entriesByPrimaryKey.removeUsingUnderlying(underlying);
+            if (old == null)
+            {
+                return null;
+            }
+            unindex(old);
+            return old.businessObject;
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Entry entry)
+    {
+        if (entry.value == null) return;
+        String padded = pad(entry.value);
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++)
+        {
+            long gram = gramAt(padded, i);
+            Set<Entry> set = postings.get(gram);
+            if (set == null)
+            {
+                set = UnifiedSet.newSet(4);
+                postings.put(gram, set);
+            }
+            set.add(entry);
+        }
+    }
+
+    private void unindex(Entry entry)
+    {
+        if (entry.value == null) return;
+        String padded = pad(entry.value);
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++)
+        {
+            long gram = gramAt(padded, i);
+            Set<Entry> set = postings.get(gram);
+            if (set != null)
+            {
+                set.remove(entry);
+                if (set.isEmpty())
+                {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public Object put(Object businessObject)
+    {
+        if (isIgnoredForTransaction())
+        {
+            return null;
+        }
+        return putEntry(businessObject, underlyingObjectGetter.getUnderlyingObject(businessObject));
+    }
+
+    public Object putUsingUnderlying(Object businessObject, Object underlying)
+    {
+        if (isIgnoredForTransaction())
+        {
+            return null;
+        }
+        return putEntry(businessObject, underlying);
+    }
+
+    public Object remove(Object businessObject)
+    {
+        if (isIgnoredForTransaction())
+        {
+            return null;
+        }
+        return removeEntry(underlyingObjectGetter.getUnderlyingObject(businessObject));
+    }
+
+    public Object removeUsingUnderlying(Object underlyingObject)
+    {
+        return removeEntry(underlyingObject);
+    }
+
+    public Object putIgnoringTransaction(Object object, Object newData, boolean weak)
+    {
+        return putEntry(object, newData);
+    }
+
+    public Object removeIgnoringTransaction(Object object)
+    {
+        return removeEntry(underlyingObjectGetter.getUnderlyingObject(object));
+    }
+
+    public Object preparePut(Object object)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public void commitPreparedForIndex(Object index)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public Object getFromPreparedUsingData(Object data)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
+    public void prepareForCommit(MithraTransaction tx)
+    {
+        // the committed objects are indexed as they're committed
+    }
+
+    public void commit(MithraTransaction tx)
+    {
+        // nothing to do
+    }
+
+    public void rollback(MithraTransaction tx)
+    {
+        // nothing was done in the transaction
+    }
+
+    public boolean prepareForReindex(Object businessObject, MithraTransaction tx)
+    {
+        return false;
+    }
+
+    public void finishForReindex(Object businessObject, MithraTransaction tx)
+    {
+        // changes in a transaction are picked up on commit
+    }
+
+    public void prepareForReindexInTransaction(Object businessObject, MithraTransaction tx)
+    {
+        // changes in a transaction are picked up on commit
+    }
+
+    public void clear()
+    {
+        lock.writeLock().lock();
+        try
+        {
+            entriesByPrimaryKey.clear();
+            postings.clear();
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void destroy()
+    {
+        this.clear();
+    }
+
+    public Extractor[] getExtractors()
+    {
+        return this.extractors;
+    }
+
+    public boolean isUnique()
+    {
+        return false;
+    }
+
+    public boolean isInitialized()
+    {
+        return true;
+    }
+
+    public Index getInitialized(IterableIndex iterableIndex)
+    {
+        return this;
+    }
+
+    public int getAverageReturnSize()
+    {
+        return this.size();
+    }
+
+    public long getMaxReturnSize(int multiplier)
+    {
+        return this.size();
+    }
+
+    public void setUnderlyingObjectGetter(UnderlyingObjectGetter underlyingObjectGetter)
+    {
+        // the cache's getter is passed in on construction
+    }
+
+    public boolean evictCollectedReferences()
+    {
+        return false;
+    }
+
+    public boolean needToEvictCollectedReferences()
+    {
+        return false;
+    }
+
+    public void reportSpaceUsage(Logger logger, String className)
+    {
+        logger.info(className + " string search index on " + attribute.getAttributeName() + ": " + this.size()
+                + " values, " + postings.size() + " trigrams");
+    }
+
+    public void ensureExtraCapacity(int size)
+    {
+        // nothing to do
+    }
+
+    public long getOffHeapAllocatedIndexSize()
+    {
+        return 0;
+    }
+
+    public long getOffHeapUsedIndexSize()
+    {
+        return 0;
+    }
+
+    public Object get(Object dataHolder, List extractors)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(Object dataHolder, Extractor[] extractors)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public boolean contains(Object dataHolder, Extractor[] extractors, Filter2 filter)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(Object indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(byte[] indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(int indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(long indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(double indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(boolean indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(float indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(char indexValue)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object getNulls()
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    public Object get(Object srcObject, Object srcData, RelationshipHashStrategy relationshipHashStrategy, Timestamp asOfDate0, Timestamp asOfDate1)
+    {
+        throw new RuntimeException("string search indices can't be used for lookups");
+    }
+
+    private static final class Entry
+    {
+        private final Object businessObject;
+        private final String value;
+
+        private Entry(Object businessObject, String value)
+        {
+            this.businessObject = businessObject;
+            this.value = value;
+        }
+    }
+}
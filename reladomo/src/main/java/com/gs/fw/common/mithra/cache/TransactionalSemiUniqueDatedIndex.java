@@ -49,6 +49,8 @@ public abstract class TransactionalSemiUniqueDatedIndex implements Transactional
     private SemiUniqueDatedIndex mainIndex;
     private TransactionLocal perTransactionStorage = new TransactionLocal();
     private final FastList preparedIndices = new FastList();
+    // read without the lock, so a lookup that misses the main index does not contend when nothing is being committed
+    private volatile int preparedIndexCount;
     private final boolean offHeap;
 
     public TransactionalSemiUniqueDatedIndex(String indexName, Extractor[] extractors, AsOfAttribute[] asOfAttributes,
@@ -407,6 +409,10 @@ public abstract class TransactionalSemiUniqueDatedIndex implements Transactional
 
     public Object getFromPreparedUsingData(Object data)
     {
+        if (this.preparedIndexCount == 0)
+        {
+            return null;
+        }
         Object result = null;
         synchronized(this.preparedIndices)
         {
@@ -508,6 +514,7 @@ public abstract class TransactionalSemiUniqueDatedIndex implements Transactional
             synchronized(this.preparedIndices)
             {
                 this.preparedIndices.add(perThreadAddedIndex);
+                this.preparedIndexCount = this.preparedIndices.size();
             }
         }
     }
@@ -521,6 +528,7 @@ public abstract class TransactionalSemiUniqueDatedIndex implements Transactional
             synchronized (this.preparedIndices)
             {
                 this.preparedIndices.remove(addedIndex);
+                this.preparedIndexCount = this.preparedIndices.size();
             }
         }
     }
@@ -45,6 +45,8 @@ public abstract class TransactionalUniqueIndex implements PrimaryKeyIndex, Trans
     private static final NonTransactionalUnderlyingObjectGetter nonTransactionalUnderlyingObjectGetter = new NonTransactionalUnderlyingObjectGetter();
     private TransactionLocal perTransactionStorage = new TransactionLocal();
     private final FastList preparedIndices = new FastList();
+    // read without the lock, so a lookup that misses the main index does not contend when nothing is being committed
+    private volatile int preparedIndexCount;
 
     public TransactionalUniqueIndex(String indexName, Extractor[] extractors, long timeToLive, long relationshipTimeToLive)
     {
@@ -343,6 +345,10 @@ public abstract class TransactionalUniqueIndex implements PrimaryKeyIndex, Trans
 
     public Object getFromPreparedUsingData(Object data)
     {
+        if (this.preparedIndexCount == 0)
+        {
+            return null;
+        }
         Object result = null;
         synchronized (this.preparedIndices)
         {
@@ -632,6 +638,7 @@ public abstract class TransactionalUniqueIndex implements PrimaryKeyIndex, Trans
         synchronized (this.preparedIndices)
         {
             this.preparedIndices.add(perThreadAddedIndex);
+            this.preparedIndexCount = this.preparedIndices.size();
         }
         return perThreadAddedIndex;
     }
@@ -641,6 +648,7 @@ public abstract class TransactionalUniqueIndex implements PrimaryKeyIndex, Trans
         synchronized (this.preparedIndices)
         {
             this.preparedIndices.remove(index);
+            this.preparedIndexCount = this.preparedIndices.size();
         }
     }
 
@@ -658,6 +666,7 @@ public abstract class TransactionalUniqueIndex implements PrimaryKeyIndex, Trans
             synchronized (this.preparedIndices)
             {
                 this.preparedIndices.add(perThreadAddedIndex);
+                this.preparedIndexCount = this.preparedIndices.size();
             }
         }
     }
@@ -671,6 +680,7 @@ public abstract class TransactionalUniqueIndex implements PrimaryKeyIndex, Trans
             synchronized (this.preparedIndices)
             {
                 this.preparedIndices.remove(addedIndex);
+                this.preparedIndexCount = this.preparedIndices.size();
             }
         }
 
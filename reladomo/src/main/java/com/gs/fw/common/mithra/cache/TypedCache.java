@@ -20,6 +20,7 @@ import com.gs.collections.api.set.primitive.*;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.fw.common.mithra.*;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
 import com.gs.fw.common.mithra.behavior.TemporalContainer;
 import com.gs.fw.common.mithra.cache.offheap.MasterCacheUplink;
@@ -128,6 +129,16 @@ public class TypedCache implements Cache
         return this.cache.addTypedUniqueIndex(attributes, type, underlyingType);
     }
 
+    public void addStringSearchIndex(StringAttribute attribute)
+    {
+        this.cache.addStringSearchIndex(attribute);
+    }
+
+    public StringSearchIndex getStringSearchIndex(Attribute attribute)
+    {
+        return this.cache.getStringSearchIndex(attribute);
+    }
+
     public boolean isFullCache()
     {
         return this.cache.isFullCache();
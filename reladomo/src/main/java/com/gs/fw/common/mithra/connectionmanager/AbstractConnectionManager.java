@@ -19,6 +19,7 @@ package com.gs.fw.common.mithra.connectionmanager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.gs.fw.common.mithra.MithraDatabaseException;
+import com.gs.fw.common.mithra.util.DurationHistogram;
 import com.gs.fw.common.mithra.util.MithraProcessInfo;
 import com.gs.fw.common.mithra.util.WrappedConnection;
 
@@ -234,6 +235,22 @@ public abstract class AbstractConnectionManager
         return connectionPool.getNumIdle();
     }
 
+    /**
+     * @return the time spent waiting for a connection while all connections were in use
+     */
+    public DurationHistogram getConnectionWaitHistogram()
+    {
+        return connectionPool.getBorrowWaitHistogram();
+    }
+
+    /**
+     * @return how long connections were held before being closed (returned to the pool)
+     */
+    public DurationHistogram getConnectionHoldTimeHistogram()
+    {
+        return connectionPool.getHoldTimeHistogram();
+    }
+
     /**
      * sets the LDAP name that is used to resolve this connection.
      * @param ldapServerName for example: "NYPARAD01"
@@ -17,9 +17,14 @@
 package com.gs.fw.common.mithra.connectionmanager;
 
 
-import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import com.gs.fw.common.mithra.util.DurationHistogram;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,7 +83,8 @@ import org.slf4j.LoggerFactory;
  *    <li>
  *      When {<i>whenExhaustedAction</i>}
  *      is {@link #WHEN_EXHAUSTED_BLOCK}, {@link #borrowObject} will block
- *      (invoke {@link Object#wait} until a new or idle object is available.
+ *      until a new or idle object is available. Blocked threads are served in
+ *      the order they arrived.
  *      If a positive {<i>maxWait</i>}
  *      value is supplied, the {@link #borrowObject} will block for at
  *      most that many milliseconds, after which a {@link NoSuchElementException}
@@ -130,6 +136,15 @@ import org.slf4j.LoggerFactory;
  *  </li>
  * </ul>
  * <p>
+ * The pool does not lock on borrow or return. Active objects are counted by a fair
+ * {@link Semaphore}, and idle objects sit in a lock free queue, oldest first. An object
+ * returned by a thread is handed back to that same thread on its next borrow, if no other
+ * thread took it in the meantime; otherwise the oldest idle object is used.
+ * <p>
+ * The time spent waiting on an exhausted pool is recorded in {@link #getBorrowWaitHistogram()}.
+ * Pooled objects that track their own use report how long they were held through
+ * {@link #recordHoldTime(long)}.
+ * <p>
  *
  * @author Rodney Waldhoff
  * @author Dirk Verbeeck
@@ -253,6 +268,8 @@ public class ObjectPoolWithThreadAffinity<E>
     /**
      * Idle object evition Timer. Shared between all {@link ObjectPoolWithThreadAffinity}s
      */
+    private static final int MIN_CLAIMED_BEFORE_SWEEP = 32;
+
     private static final Timer EVICTION_TIMER = new Timer("MithraConnectionPool Evictor", true);
     //--- private attributes ---------------------------------------
 
@@ -261,21 +278,21 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @see #getMaxIdle
      */
-    private int maxIdle = DEFAULT_MAX_IDLE;
+    private final int maxIdle;
 
     /**
      * The cap on the minimum number of idle instances in the pool.
      *
      * @see #getMinIdle
      */
-    private int minIdle = DEFAULT_MIN_IDLE;
+    private final int minIdle;
 
     /**
      * The cap on the total number of active instances from the pool.
      *
      * @see #getMaxActive
      */
-    private int maxActive = DEFAULT_MAX_ACTIVE;
+    private final int maxActive;
 
     /**
      * The maximum amount of time (in millis) the
@@ -291,7 +308,7 @@ public class ObjectPoolWithThreadAffinity<E>
      * @see #WHEN_EXHAUSTED_BLOCK
      * @see #getWhenExhaustedAction
      */
-    private long maxWait = DEFAULT_MAX_WAIT;
+    private final long maxWait;
 
     /**
      * The action to take when the {@link #borrowObject} method
@@ -304,7 +321,7 @@ public class ObjectPoolWithThreadAffinity<E>
      * @see #DEFAULT_WHEN_EXHAUSTED_ACTION
      * @see #getWhenExhaustedAction
      */
-    private byte whenExhaustedAction = DEFAULT_WHEN_EXHAUSTED_ACTION;
+    private final byte whenExhaustedAction;
 
     /**
      * When <tt>true</tt>, objects will be
@@ -316,7 +333,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @see #getTestOnBorrow
      */
-    private boolean testOnBorrow = DEFAULT_TEST_ON_BORROW;
+    private final boolean testOnBorrow;
 
     /**
      * The number of milliseconds to sleep between runs of the
@@ -326,7 +343,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @see #getTimeBetweenEvictionRunsMillis
      */
-    private long timeBetweenEvictionRunsMillis = DEFAULT_TIME_BETWEEN_EVICTION_RUNS_MILLIS;
+    private final long timeBetweenEvictionRunsMillis;
 
     /**
      * The minimum amount of time an object may sit idle in the pool
@@ -338,7 +355,7 @@ public class ObjectPoolWithThreadAffinity<E>
      * @see #getMinEvictableIdleTimeMillis
      * @see #getTimeBetweenEvictionRunsMillis
      */
-    private long minEvictableIdleTimeMillis = DEFAULT_MIN_EVICTABLE_IDLE_TIME_MILLIS;
+    private final long minEvictableIdleTimeMillis;
 
     /**
      * The minimum amount of time an object may sit idle in the pool
@@ -350,9 +367,25 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @see #getSoftMinEvictableIdleTimeMillis
      */
-    private long softMinEvictableIdleTimeMillis = DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME_MILLIS;
+    private final long softMinEvictableIdleTimeMillis;
+
+    /**
+     * Idle objects, oldest first. An entry is claimed by whichever thread empties it first. An entry
+     * taken through {@link #lastReturned} stays linked here, empty, until it's polled or swept.
+     */
+    private final ConcurrentLinkedQueue<IdleEntry<E>> idleObjects = new ConcurrentLinkedQueue<IdleEntry<E>>();
+
+    /**
+     * The entry for the object most recently returned by the current thread.
+     */
+    private final ThreadLocal<IdleEntry<E>> lastReturned = new ThreadLocal<IdleEntry<E>>();
+
+    private final AtomicInteger numIdle = new AtomicInteger();
 
-    private LruListWithThreadAffinity<E> pool = null;
+    /**
+     * Entries claimed in place since the last sweep of {@link #idleObjects}.
+     */
+    private final AtomicInteger numClaimedInPlace = new AtomicInteger();
 
     private final PoolableObjectFactory<E> factory;
 
@@ -360,7 +393,16 @@ public class ObjectPoolWithThreadAffinity<E>
      * The number of objects {@link #borrowObject} borrowed
      * from the pool, but not yet returned.
      */
-    private int numActive = 0;
+    private final AtomicInteger numActive = new AtomicInteger();
+
+    /**
+     * One permit per object that may be active, or null when the number of active objects is not capped.
+     */
+    private final Semaphore permits;
+
+    private final DurationHistogram borrowWaitHistogram = new DurationHistogram();
+
+    private final DurationHistogram holdTimeHistogram = new DurationHistogram();
 
     /**
      * My idle object eviction {@link TimerTask}, if any.
@@ -401,7 +443,7 @@ public class ObjectPoolWithThreadAffinity<E>
         this.minEvictableIdleTimeMillis = minEvictableIdleTimeMillis;
         this.softMinEvictableIdleTimeMillis = softMinEvictableIdleTimeMillis;
 
-        pool = new LruListWithThreadAffinity();
+        this.permits = maxActive < 0 || whenExhaustedAction == WHEN_EXHAUSTED_GROW ? null : new Semaphore(maxActive, true);
         startEvictor(this.timeBetweenEvictionRunsMillis);
     }
 
@@ -414,7 +456,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return the cap on the total number of active instances from my pool.
      */
-    public synchronized int getMaxActive()
+    public int getMaxActive()
     {
         return maxActive;
     }
@@ -431,7 +473,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return one of {@link #WHEN_EXHAUSTED_BLOCK}, {@link #WHEN_EXHAUSTED_FAIL} or {@link #WHEN_EXHAUSTED_GROW}
      */
-    public synchronized byte getWhenExhaustedAction()
+    public byte getWhenExhaustedAction()
     {
         return whenExhaustedAction;
     }
@@ -449,7 +491,7 @@ public class ObjectPoolWithThreadAffinity<E>
      * @return maximum number of milliseconds to block when borrowing an object.
      * @see #WHEN_EXHAUSTED_BLOCK
      */
-    public synchronized long getMaxWait()
+    public long getMaxWait()
     {
         return maxWait;
     }
@@ -459,7 +501,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return the cap on the number of "idle" instances in the pool.
      */
-    public synchronized int getMaxIdle()
+    public int getMaxIdle()
     {
         return maxIdle;
     }
@@ -471,7 +513,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return The minimum number of objects.
      */
-    public synchronized int getMinIdle()
+    public int getMinIdle()
     {
         return minIdle;
     }
@@ -486,7 +528,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return <code>true</code> if objects are validated before being borrowed.
      */
-    public synchronized boolean getTestOnBorrow()
+    public boolean getTestOnBorrow()
     {
         return testOnBorrow;
     }
@@ -499,7 +541,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return number of milliseconds to sleep between evictor runs.
      */
-    public synchronized long getTimeBetweenEvictionRunsMillis()
+    public long getTimeBetweenEvictionRunsMillis()
     {
         return timeBetweenEvictionRunsMillis;
     }
@@ -511,7 +553,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return minimum amount of time an object may sit idle in the pool before it is eligible for eviction.
      */
-    public synchronized long getMinEvictableIdleTimeMillis()
+    public long getMinEvictableIdleTimeMillis()
     {
         return minEvictableIdleTimeMillis;
     }
@@ -524,7 +566,7 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return minimum amount of time an object may sit idle in the pool before it is eligible for eviction.
      */
-    public synchronized long getSoftMinEvictableIdleTimeMillis()
+    public long getSoftMinEvictableIdleTimeMillis()
     {
         return softMinEvictableIdleTimeMillis;
     }
@@ -541,75 +583,11 @@ public class ObjectPoolWithThreadAffinity<E>
     public E borrowObject() throws Exception
     {
         assertOpen();
-        long starttime = System.currentTimeMillis();
+        acquirePermit();
+        numActive.incrementAndGet();
         for (; ;)
         {
-
-            E obj = null;
-
-            // if there are any sleeping, just grab one of those
-            synchronized (this)
-            {
-                obj = pool.remove();
-
-                // otherwise
-                if (null == obj)
-                {
-                    // check if we can create one
-                    // (note we know that the num sleeping is 0, else we wouldn't be here)
-                    if (maxActive < 0 || numActive < maxActive)
-                    {
-                        // allow new object to be created
-                    }
-                    else
-                    {
-                        // the pool is exhausted
-                        switch (whenExhaustedAction)
-                        {
-                            case WHEN_EXHAUSTED_GROW:
-                                // allow new object to be created
-                                break;
-                            case WHEN_EXHAUSTED_FAIL:
-                                throw new NoSuchElementException("Pool exhausted");
-                            case WHEN_EXHAUSTED_BLOCK:
-                                try
-                                {
-                                    if (maxWait <= 0)
-                                    {
-                                        wait();
-                                    }
-                                    else
-                                    {
-                                        // this code may be executed again after a notify then continue cycle
-                                        // so, need to calculate the amount of time to wait
-                                        final long elapsed = (System.currentTimeMillis() - starttime);
-                                        final long waitTime = maxWait - elapsed;
-                                        if (waitTime > 0)
-                                        {
-                                            wait(waitTime);
-                                        }
-                                    }
-                                }
-                                catch (InterruptedException e)
-                                {
-                                    Thread.currentThread().interrupt();
-                                    throw e;
-                                }
-                                if (maxWait > 0 && ((System.currentTimeMillis() - starttime) >= maxWait))
-                                {
-                                    throw new NoSuchElementException("Timeout waiting for idle object");
-                                }
-                                else
-                                {
-                                    continue; // keep looping
-                                }
-                            default:
-                                throw new IllegalArgumentException("WhenExhaustedAction property " + whenExhaustedAction + " not recognized.");
-                        }
-                    }
-                }
-                numActive++;
-            }
+            E obj = takeIdleObject();
 
             // create new object when needed
             boolean newlyCreated = false;
@@ -626,11 +604,7 @@ public class ObjectPoolWithThreadAffinity<E>
                     if (!newlyCreated)
                     {
                         // object cannot be created
-                        synchronized (this)
-                        {
-                            numActive--;
-                            notifyAll();
-                        }
+                        releaseActive();
                     }
                 }
             }
@@ -648,18 +622,107 @@ public class ObjectPoolWithThreadAffinity<E>
             catch (Throwable e)
             {
                 reportException("object activation or validation failed ", e);
-                synchronized (this)
-                {
-                    // object cannot be activated or is invalid
-                    numActive--;
-                    notifyAll();
-                }
                 destroyObject(obj);
-                if (newlyCreated)
+                // keep looping, we still hold the permit
+            }
+        }
+    }
+
+    private void acquirePermit() throws InterruptedException
+    {
+        if (permits == null)
+        {
+            return;
+        }
+        long startTime = System.nanoTime();
+        try
+        {
+            switch (whenExhaustedAction)
+            {
+                case WHEN_EXHAUSTED_FAIL:
+                    if (!permits.tryAcquire())
+                    {
+                        throw new NoSuchElementException("Pool exhausted");
+                    }
+                    break;
+                case WHEN_EXHAUSTED_BLOCK:
+                    if (maxWait <= 0)
+                    {
+                        permits.acquire();
+                    }
+                    else if (!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS))
+                    {
+                        throw new NoSuchElementException("Timeout waiting for idle object");
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("WhenExhaustedAction property " + whenExhaustedAction + " not recognized.");
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        finally
+        {
+            borrowWaitHistogram.record(System.nanoTime() - startTime);
+        }
+    }
+
+    private void releaseActive()
+    {
+        numActive.decrementAndGet();
+        if (permits != null)
+        {
+            permits.release();
+        }
+    }
+
+    private E takeIdleObject()
+    {
+        IdleEntry<E> entry = lastReturned.get();
+        if (entry != null)
+        {
+            lastReturned.set(null);
+            E obj = entry.take();
+            if (obj != null)
+            {
+                numIdle.decrementAndGet();
+                if (numClaimedInPlace.incrementAndGet() > Math.max(numIdle.get(), MIN_CLAIMED_BEFORE_SWEEP))
                 {
-                    throw new NoSuchElementException("Could not create a validated object, cause: " + e.getMessage());
+                    sweepClaimedEntries();
                 }
-                // keep looping
+                return obj;
+            }
+        }
+        while ((entry = idleObjects.poll()) != null)
+        {
+            E obj = entry.take();
+            if (obj != null)
+            {
+                numIdle.decrementAndGet();
+                return obj;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Unlinks the entries that were claimed in place. The sweep only runs once the number of such entries
+     * is comparable to the number of idle objects, so its cost is spread over the claims that made it necessary.
+     */
+    private void sweepClaimedEntries()
+    {
+        if (numClaimedInPlace.getAndSet(0) == 0)
+        {
+            return; // another thread is sweeping
+        }
+        for (Iterator<IdleEntry<E>> it = idleObjects.iterator(); it.hasNext(); )
+        {
+            if (it.next().get() == null)
+            {
+                it.remove();
             }
         }
     }
@@ -704,31 +767,25 @@ public class ObjectPoolWithThreadAffinity<E>
         }
         finally
         {
-
-            synchronized (this)
-            {
-                numActive--;
-                notifyAll(); // numActive has changed
-            }
+            releaseActive();
         }
     }
 
     /**
      * Clears any objects sitting idle in the pool.
      */
-    public synchronized void clear()
+    public void clear()
     {
-        pool.forEachUntil(new DoUntilProcedure<E>()
+        IdleEntry<E> entry;
+        while ((entry = idleObjects.poll()) != null)
         {
-            public boolean execute(E object)
+            E obj = entry.take();
+            if (obj != null)
             {
-                destroyObject(object);
-                return false;
+                numIdle.decrementAndGet();
+                destroyObject(obj);
             }
-        });
-        pool.clear();
-        numActive = 0;
-        notifyAll(); // num sleeping has changed
+        }
     }
 
     /**
@@ -736,9 +793,9 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return the number of instances currently borrowed from this pool
      */
-    public synchronized int getNumActive()
+    public int getNumActive()
     {
-        return numActive;
+        return numActive.get();
     }
 
     /**
@@ -746,9 +803,30 @@ public class ObjectPoolWithThreadAffinity<E>
      *
      * @return the number of instances currently idle in this pool
      */
-    public synchronized int getNumIdle()
+    public int getNumIdle()
+    {
+        return numIdle.get();
+    }
+
+    /**
+     * @return the time {@link #borrowObject} spent waiting for the number of active objects to drop below the cap
+     */
+    public DurationHistogram getBorrowWaitHistogram()
+    {
+        return borrowWaitHistogram;
+    }
+
+    /**
+     * @return how long borrowed objects were held, as reported through {@link #recordHoldTime(long)}
+     */
+    public DurationHistogram getHoldTimeHistogram()
     {
-        return pool.size();
+        return holdTimeHistogram;
+    }
+
+    public void recordHoldTime(long holdTimeNanos)
+    {
+        holdTimeHistogram.record(holdTimeNanos);
     }
 
     /**
@@ -784,22 +862,24 @@ public class ObjectPoolWithThreadAffinity<E>
         finally
         {
             boolean shouldDestroy = !success;
-
-            synchronized (this)
+            if (success)
             {
-                if (decrementNumActive)
-                {
-                    numActive--;
-                }
-                if ((maxIdle >= 0) && (pool.size() >= maxIdle))
+                if (numIdle.incrementAndGet() > maxIdle && maxIdle >= 0)
                 {
+                    numIdle.decrementAndGet();
                     shouldDestroy = true;
                 }
-                else if (success)
+                else
                 {
-                    pool.add(obj);
+                    IdleEntry<E> entry = new IdleEntry<E>(obj);
+                    idleObjects.add(entry);
+                    lastReturned.set(entry);
                 }
-                notifyAll(); // numActive has changed
+            }
+            // the object is idle before the permit is released, so a waiting borrower finds it
+            if (decrementNumActive)
+            {
+                releaseActive();
             }
 
             if (shouldDestroy)
@@ -811,11 +891,8 @@ public class ObjectPoolWithThreadAffinity<E>
 
     public void close() throws Exception
     {
-        synchronized (this)
-        {
-            clear();
-            startEvictor(-1L);
-        }
+        clear();
+        startEvictor(-1L);
     }
 
     /**
@@ -827,12 +904,7 @@ public class ObjectPoolWithThreadAffinity<E>
     {
         assertOpen();
 
-        boolean isEmpty;
-        synchronized (this)
-        {
-            isEmpty = pool.isEmpty();
-        }
-        if (!isEmpty)
+        if (getNumIdle() > 0)
         {
             if (softMinEvictableIdleTimeMillis > 0)
             {
@@ -849,16 +921,17 @@ public class ObjectPoolWithThreadAffinity<E>
 
     private void evict(long lastAccessTime, int maxToEvict)
     {
-        if (maxToEvict > 0)
+        int evicted = 0;
+        IdleEntry<E> entry;
+        while (evicted < maxToEvict && (entry = idleObjects.peek()) != null && entry.storeTime < lastAccessTime)
         {
-            List<E> toEvict;
-            synchronized (this)
-            {
-                toEvict = pool.removeEvictable(lastAccessTime, maxToEvict);
-            }
-            for(int i=0;i<toEvict.size();i++)
+            E obj = entry.take();
+            idleObjects.remove(entry);
+            if (obj != null)
             {
-                destroyObject(toEvict.get(i));
+                numIdle.decrementAndGet();
+                destroyObject(obj);
+                evicted++;
             }
         }
     }
@@ -888,6 +961,24 @@ public class ObjectPoolWithThreadAffinity<E>
 
     //--- inner classes ----------------------------------------------
 
+    /**
+     * An idle object. Whoever takes the object first gets it; later attempts see null.
+     */
+    private static final class IdleEntry<E> extends AtomicReference<E>
+    {
+        private final long storeTime = System.currentTimeMillis();
+
+        private IdleEntry(E obj)
+        {
+            super(obj);
+        }
+
+        private E take()
+        {
+            return this.getAndSet(null);
+        }
+    }
+
     /**
      * The idle object evictor {@link TimerTask}.
      *
@@ -41,6 +41,7 @@ public class PooledConnection extends WrappedConnection
     private final List<Statement> allStatements = FastList.newList();
 
     private int state = STATE_ACTIVE;
+    private long borrowTime = System.nanoTime();
 
     public PooledConnection(Connection c, ObjectPoolWithThreadAffinity<? extends Connection> pool, int statementsToPool)
     {
@@ -60,6 +61,7 @@ public class PooledConnection extends WrappedConnection
     {
         checkNotDead();
         this.state = STATE_ACTIVE;
+        this.borrowTime = System.nanoTime();
     }
 
     private void checkNotDead() throws SQLException
@@ -91,6 +93,7 @@ public class PooledConnection extends WrappedConnection
         {
             try
             {
+                pool.recordHoldTime(System.nanoTime() - this.borrowTime);
                 pool.returnObject(this);
                 this.state = STATE_IN_POOL;
             }
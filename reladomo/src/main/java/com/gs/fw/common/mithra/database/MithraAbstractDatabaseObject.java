@@ -86,6 +86,7 @@ public abstract class MithraAbstractDatabaseObject
     protected LoadOperationProvider loadOperationProvider = new DefaultLoadOperationProvider();
     private MithraStatsListener statsListener;
     protected ConnectionManagerWrapper connectionManagerWrapper;
+    private final SqlStatementCache sqlStatementCache = new SqlStatementCache();
 
     private final String fullyQualifiedFinderClassName;
     private final int totalColumnsInResultSet;
@@ -200,7 +201,7 @@ public abstract class MithraAbstractDatabaseObject
         return hasSourceAttribute;
     }
 
-    protected ConnectionManagerWrapper getConnectionManagerWrapper()
+    public ConnectionManagerWrapper getConnectionManagerWrapper()
     {
         return this.connectionManagerWrapper;
     }
@@ -298,6 +299,11 @@ public abstract class MithraAbstractDatabaseObject
         return this.getMithraObjectPortal().getPerformanceData();
     }
 
+    public SqlStatementCache zGetSqlStatementCache()
+    {
+        return this.sqlStatementCache;
+    }
+
     public void setDefaultSchema(String schema)
     {
         this.defaultSchema = schema;
@@ -500,22 +506,27 @@ public abstract class MithraAbstractDatabaseObject
         MithraTransaction tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
         if (tx != null)
         {
-            Operation originalOperation = query.getAnalyzedOperation().getOriginalOperation();
-            MithraObjectPortal targetPortal = originalOperation.getResultObjectPortal();
-            boolean locking = targetPortal.getTxParticipationMode(tx).mustLockOnRead();
-            if (!locking)
+            tx.setWriteOperationMode(isLockingRead(tx, query) ? MithraTransaction.OperationMode.TRANSACTIONAL_READ : MithraTransaction.OperationMode.READ);
+        }
+    }
+
+    private static boolean isLockingRead(MithraTransaction tx, SqlQuery query)
+    {
+        Operation originalOperation = query.getAnalyzedOperation().getOriginalOperation();
+        MithraObjectPortal targetPortal = originalOperation.getResultObjectPortal();
+        boolean locking = targetPortal.getTxParticipationMode(tx).mustLockOnRead();
+        if (!locking)
+        {
+            UnifiedSet portals = new UnifiedSet(3);
+            originalOperation.addDependentPortalsToSet(portals);
+            Iterator it = portals.iterator();
+            while (it.hasNext() && !locking)
             {
-                UnifiedSet portals = new UnifiedSet(3);
-                originalOperation.addDependentPortalsToSet(portals);
-                Iterator it = portals.iterator();
-                while (it.hasNext() && !locking)
-                {
-                    MithraObjectPortal portal = (MithraObjectPortal) it.next();
-                    locking = portal.getTxParticipationMode(tx).mustLockOnRead();
-                }
+                MithraObjectPortal portal = (MithraObjectPortal) it.next();
+                locking = portal.getTxParticipationMode(tx).mustLockOnRead();
             }
-            tx.setWriteOperationMode(locking ? MithraTransaction.OperationMode.TRANSACTIONAL_READ : MithraTransaction.OperationMode.READ);
         }
+        return locking;
     }
 
     protected void reportWarnings(PreparedStatement stm) throws SQLException
@@ -1158,6 +1169,14 @@ public abstract class MithraAbstractDatabaseObject
 
     public CachedQuery find(AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship, int rowcount, int numberOfThreads, boolean bypassCache, boolean forceImplicitJoin)
     {
+        if (rowcount == 0 && orderby == null)
+        {
+            MultiResultSetFind.Member prefetched = MultiResultSetFind.take(this, analyzedOperation.getOriginalOperation(), forceImplicitJoin);
+            if (prefetched != null)
+            {
+                return this.finishMultiResultSetFind(prefetched, forRelationship);
+            }
+        }
         if (rowcount > 0 || numberOfThreads == 1)
         {
             return this.findSequential(analyzedOperation, orderby, forRelationship, rowcount, forceImplicitJoin);
@@ -1182,6 +1201,7 @@ public abstract class MithraAbstractDatabaseObject
         boolean mustResetRowCount = false;
         List portalList = cachedQuery.getPortalList();
         ObjectWithMapperStack[] asOfOpWithStacks = this.getAsOfOpWithStacks(query, analyzedOperation);
+        AtomicOperation[] statementCacheOperations = SqlStatementCache.getCacheableOperations(analyzedOperation);
 
         for (int sourceNum = 0; sourceNum < sourceCount && !reachedMaxRowCount; sourceNum++)
         {
@@ -1195,7 +1215,21 @@ public abstract class MithraAbstractDatabaseObject
 
             DatabaseType dt = this.getDatabaseTypeGenericSource(source);
             final TimeZone timeZone = getDatabaseTimeZoneGenericSource(source);
-            int queries = query.prepareQueryForSource(sourceNum, dt, timeZone);
+            SqlStatementCache.Key statementKey = null;
+            SqlStatementCache.Template statementTemplate = null;
+            if (statementCacheOperations != null)
+            {
+                boolean inTransaction = MithraManagerProvider.getMithraManager().isInTransaction();
+                int lockOnReadMask = inTransaction ? SqlStatementCache.getLockOnReadMask(analyzedOperation.getAnalyzedOperation().getResultObjectPortal()) : 0;
+                if (lockOnReadMask >= 0)
+                {
+                    statementKey = SqlStatementCache.createKey(statementCacheOperations, orderby, rowcount, forceImplicitJoin,
+                            inTransaction, lockOnReadMask, dt, this.getFullyQualifiedTableNameGenericSource(source));
+                    statementTemplate = this.sqlStatementCache.getTemplate(statementKey);
+                }
+            }
+            int queries = statementTemplate == null ? query.prepareQueryForSource(sourceNum, dt, timeZone) :
+                    query.prepareQueryFromTemplate(sourceNum, dt, timeZone, statementTemplate.getParameterSetters(statementCacheOperations));
             try
             {
                 Connection con = null;
@@ -1209,7 +1243,11 @@ public abstract class MithraAbstractDatabaseObject
                     {
                         long queryStartTime = System.currentTimeMillis();
                         mustResetRowCount = limitRowCount(rowcount, dt, con);
-                        lastStatement = prepareStatementString(analyzedOperation, rowcount, query, source, dt, q, con);
+                        lastStatement = prepareStatementString(analyzedOperation, rowcount, query, source, dt, q, con, statementTemplate);
+                        if (statementKey != null && statementTemplate == null)
+                        {
+                            this.sqlStatementCache.cacheStatement(statementKey, query, lastStatement, statementCacheOperations);
+                        }
                         stm = prepareDatabaseStatement(query, con, lastStatement);
                         rs = stm.executeQuery();
                         int numberOfResultsBefore = result.size();
@@ -1250,6 +1288,70 @@ public abstract class MithraAbstractDatabaseObject
         return processResults(orderby, forRelationship, startTime, query, cachedQuery, cachedQuery2, result, reachedMaxRowCount);
     }
 
+    /**
+     * prepares the statement for a find that can be sent to the database together with other finds.
+     * @return null if the find needs more than one statement, temp tables, or a database type that can't return
+     * multiple result sets
+     */
+    MultiResultSetFind.Member prepareMultiResultSetFind(AnalyzedOperation analyzedOperation, boolean forceImplicitJoin)
+    {
+        SqlQuery query = new SqlQuery(analyzedOperation, null, forceImplicitJoin);
+        if (query.getNumberOfSources() != 1)
+        {
+            return null;
+        }
+        Object source = this.getSourceAttributeValueForSelectedObjectGeneric(query, 0);
+        DatabaseType dt = this.getDatabaseTypeGenericSource(source);
+        if (!dt.supportsMultipleResultSets())
+        {
+            return null;
+        }
+        CachedQuery cachedQuery = new CachedQuery(analyzedOperation.getOriginalOperation(), null);
+        CachedQuery cachedQuery2 = createSecondCachedQuery(analyzedOperation, null, cachedQuery);
+        TimeZone timeZone = getDatabaseTimeZoneGenericSource(source);
+        query.prepareQueryForSource(0, dt, timeZone);
+        if (!query.isSingleStatementWithoutTempTables())
+        {
+            query.cleanTempForSource(0, dt);
+            return null;
+        }
+        String statement;
+        try
+        {
+            query.prepareForQuery(0);
+            statement = this.findGetStatement(dt, query, analyzedOperation, 0);
+        }
+        catch (SQLException e)
+        {
+            // left to the normal find, which reports the failure
+            query.cleanTempForSource(0, dt);
+            return null;
+        }
+        MithraTransaction tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+        return new MultiResultSetFind.Member(this, analyzedOperation, query, source, dt, timeZone, statement, forceImplicitJoin,
+                tx != null && isLockingRead(tx, query), cachedQuery, cachedQuery2);
+    }
+
+    void readMultiResultSetFind(MultiResultSetFind.Member member, ResultSet rs) throws SQLException
+    {
+        String databaseIdentifier = this.getDatabaseIdentifierGenericSource(member.getSource());
+        List portalList = member.getCachedQuery().getPortalList();
+        for (int p = 0; p < portalList.size(); p++)
+        {
+            MithraObjectPortal portal = (MithraObjectPortal) portalList.get(p);
+            portal.registerForNotification(databaseIdentifier);
+        }
+        ObjectWithMapperStack[] asOfOpWithStacks = this.getAsOfOpWithStacks(member.getQuery(), member.getAnalyzedOperation());
+        processResultSet(rs, member.getResult(), member.getSource(), asOfOpWithStacks, this.getMithraObjectPortal().getCache(),
+                member.getDatabaseType(), 0, member.getTimeZone());
+    }
+
+    private CachedQuery finishMultiResultSetFind(MultiResultSetFind.Member member, boolean forRelationship)
+    {
+        return processResults(null, forRelationship, member.getStartTime(), member.getQuery(), member.getCachedQuery(),
+                member.getCachedQuery2(), member.getResult(), false);
+    }
+
     private CachedQuery processResults(OrderBy orderby,
                                        boolean forRelationship,
                                        long startTime,
@@ -1355,7 +1457,7 @@ public abstract class MithraAbstractDatabaseObject
                         {
                             countingLock.lockForTurn(queryNum);
                             con = getConnectionForQueryGenericSource(query, source);
-                            lastStatement = prepareStatementString(analyzedOperation, 0, query, source, dt, queryNum, con);
+                            lastStatement = prepareStatementString(analyzedOperation, 0, query, source, dt, queryNum, con, null);
                             stm = prepareDatabaseStatement(query, con, lastStatement);
                             countingLock.releaseTurn(queryNum);
 
@@ -1488,11 +1590,12 @@ public abstract class MithraAbstractDatabaseObject
         return stm;
     }
 
-    private String prepareStatementString(AnalyzedOperation analyzedOperation, int rowcount, SqlQuery query, Object source, DatabaseType dt, int q, Connection con)
+    private String prepareStatementString(AnalyzedOperation analyzedOperation, int rowcount, SqlQuery query, Object source, DatabaseType dt, int q,
+            Connection con, SqlStatementCache.Template statementTemplate)
             throws SQLException
     {
         query.prepareForQuery(q);
-        String statement = findGetStatement(dt, query, analyzedOperation, rowcount);
+        String statement = statementTemplate == null ? findGetStatement(dt, query, analyzedOperation, rowcount) : statementTemplate.getStatement();
 
         if (this.getSqlLogger().isDebugEnabled())
         {
@@ -1935,6 +2038,11 @@ public abstract class MithraAbstractDatabaseObject
     }
 
     protected void reloadCache(List analyzedOperations)
+    {
+        this.reloadCache(analyzedOperations, true);
+    }
+
+    private void reloadCache(List analyzedOperations, boolean removeRowsNotRead)
     {
         synchronized (this)
         {
@@ -1961,7 +2069,7 @@ public abstract class MithraAbstractDatabaseObject
                 this.getInsertUpdateListBasedOnDataFromDB(query, newDataList, updatedDataList, fullUniqueIndex, portalList);
             }
 
-            List deletedData = this.getDeletedData(fullUniqueIndex);
+            List deletedData = removeRowsNotRead ? this.getDeletedData(fullUniqueIndex) : ListFactory.EMPTY_LIST;
             cache.updateCache(newDataList, updatedDataList, deletedData);
             if (this.getSqlLogger().isDebugEnabled())
             {
@@ -2018,6 +2126,21 @@ public abstract class MithraAbstractDatabaseObject
         this.loadFullCache();
     }
 
+    /**
+     * Reads the rows of the full cache load that also match the operation, and adds or updates them in the cache
+     * without removing the rows that were not read.
+     */
+    public void loadChangedRowsIntoFullCache(Operation changedRows)
+    {
+        List<Operation> ops = this.getOperationsForFullCacheLoad();
+        MithraFastList<AnalyzedOperation> analyzedOps = new MithraFastList<AnalyzedOperation>(ops.size());
+        for (int i = 0; i < ops.size(); i++)
+        {
+            analyzedOps.add(new AnalyzedOperation(ops.get(i).and(changedRows)));
+        }
+        this.reloadCache(analyzedOps, false);
+    }
+
     public RenewedCacheStats renewCacheForOperation(Operation op)
     {
         synchronized (this)
@@ -0,0 +1,400 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.database;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.fw.common.mithra.MithraDatabaseException;
+import com.gs.fw.common.mithra.MithraDatabaseObject;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.finder.AnalyzedOperation;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.SqlQuery;
+import com.gs.fw.common.mithra.portal.MithraAbstractObjectPortal;
+import com.gs.fw.common.mithra.remote.RemoteFindBatch;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.util.MithraFastList;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Sends the finds for several operations to the database in one statement and reads their results from consecutive
+ * result sets. Deep fetch uses it in a transaction, where the relationships under a node are otherwise fetched one
+ * round trip at a time.
+ * <p>
+ * Only finds that need one statement without temp tables take part, and only on database types that
+ * {@link DatabaseType#supportsMultipleResultSets() support multiple result sets}. Finds that share a connection
+ * manager, source and locking mode are sent together; a group of a single find is left to the normal path.
+ * <p>
+ * The results are held for the current thread until {@link MithraAbstractDatabaseObject} is asked to find the same
+ * operation, so query caching and retrieve counts are unchanged. Results that are never asked for are dropped by
+ * {@link #release()}.
+ * <p>
+ * Finds on remote portals are passed to a {@link RemoteFindBatch}, in or outside a transaction.
+ */
+public class MultiResultSetFind
+{
+    private static final ThreadLocal<Map<Operation, Member>> PREFETCHED = new ThreadLocal<Map<Operation, Member>>();
+
+    private final FastList<Member> members = FastList.newList();
+    private final RemoteFindBatch remoteFindBatch = new RemoteFindBatch();
+
+    public void add(Operation op, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        if (this.remoteFindBatch.add(op, bypassCache, forceImplicitJoin) || !MithraManagerProvider.getMithraManager().isInTransaction())
+        {
+            return;
+        }
+        MithraObjectPortal portal = op.getResultObjectPortal();
+        MithraDatabaseObject databaseObject = portal.getDatabaseObject();
+        if (!(databaseObject instanceof MithraAbstractDatabaseObject) || !(portal instanceof MithraAbstractObjectPortal)
+                || ((MithraAbstractObjectPortal) portal).getMithraObjectReader() != databaseObject)
+        {
+            return;
+        }
+        for (int i = 0; i < this.members.size(); i++)
+        {
+            if (this.members.get(i).getOperation().equals(op)) return;
+        }
+        Member member = ((MithraAbstractDatabaseObject) databaseObject).prepareMultiResultSetFind(new AnalyzedOperation(op), forceImplicitJoin);
+        if (member != null)
+        {
+            this.members.add(member);
+        }
+    }
+
+    /**
+     * runs the finds that can share a statement with at least one other find. If a statement fails, the results of
+     * this batch are dropped before the exception is thrown.
+     * @return the number of finds that were run
+     */
+    public int execute()
+    {
+        FastList<FastList<Member>> groups = this.groupMembers();
+        boolean succeeded = false;
+        try
+        {
+            int executed = this.remoteFindBatch.execute();
+            for (int i = 0; i < groups.size(); i++)
+            {
+                FastList<Member> group = groups.get(i);
+                if (group.size() > 1)
+                {
+                    executeGroup(group);
+                    executed += group.size();
+                }
+                else
+                {
+                    group.get(0).cleanTemp();
+                }
+            }
+            succeeded = true;
+            return executed;
+        }
+        finally
+        {
+            if (!succeeded)
+            {
+                this.release();
+            }
+        }
+    }
+
+    private FastList<FastList<Member>> groupMembers()
+    {
+        FastList<FastList<Member>> groups = FastList.newList();
+        FastList<Integer> parameterCounts = FastList.newList();
+        for (int i = 0; i < this.members.size(); i++)
+        {
+            Member member = this.members.get(i);
+            boolean added = false;
+            for (int g = 0; g < groups.size() && !added; g++)
+            {
+                Member first = groups.get(g).get(0);
+                int parameterCount = parameterCounts.get(g) + member.getParameterCount();
+                if (first.canShareStatementWith(member) && parameterCount <= first.databaseType.getMaxSearchableArguments())
+                {
+                    groups.get(g).add(member);
+                    parameterCounts.set(g, parameterCount);
+                    added = true;
+                }
+            }
+            if (!added)
+            {
+                groups.add(FastList.newListWith(member));
+                parameterCounts.add(member.getParameterCount());
+            }
+        }
+        return groups;
+    }
+
+    private static void executeGroup(List<Member> group)
+    {
+        Member first = group.get(0);
+        MithraAbstractDatabaseObject databaseObject = first.databaseObject;
+        MithraTransaction tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < group.size(); i++)
+        {
+            Member member = group.get(i);
+            if (tx != null)
+            {
+                tx.executeBufferedOperationsForOperation(member.analyzedOperation.getAnalyzedOperation(), true);
+            }
+            if (i > 0)
+            {
+                builder.append(first.databaseType.getMultiStatementSeparator());
+            }
+            builder.append(member.statement);
+        }
+        String statement = builder.toString();
+        Connection con = null;
+        PreparedStatement stm = null;
+        ResultSet rs = null;
+        try
+        {
+            con = databaseObject.getConnectionForQueryGenericSource(first.query, first.source);
+            if (databaseObject.getSqlLogger().isDebugEnabled())
+            {
+                for (int i = 0; i < group.size(); i++)
+                {
+                    Member member = group.get(i);
+                    PrintablePreparedStatement pps = new PrintablePreparedStatement(member.statement);
+                    member.query.setStatementParameters(pps);
+                    databaseObject.logWithSource(databaseObject.getSqlLogger(), first.source, "connection:" + System.identityHashCode(con)
+                            + " find " + (i + 1) + " of " + group.size() + " in one statement with: " + pps.getPrintableStatement());
+                }
+            }
+            stm = con.prepareStatement(statement);
+            int count = 1;
+            for (int i = 0; i < group.size(); i++)
+            {
+                count = group.get(i).query.setStatementParameters(stm, count);
+            }
+            boolean isResultSet = stm.execute();
+            Map<Operation, Member> prefetched = getPrefetched();
+            for (int i = 0; i < group.size(); i++)
+            {
+                while (!isResultSet && stm.getUpdateCount() != -1)
+                {
+                    isResultSet = stm.getMoreResults();
+                }
+                Member member = group.get(i);
+                if (!isResultSet)
+                {
+                    throw new SQLException("expected " + group.size() + " result sets, but got " + i);
+                }
+                rs = stm.getResultSet();
+                member.databaseObject.readMultiResultSetFind(member, rs);
+                rs.close();
+                rs = null;
+                prefetched.put(member.getOperation(), member);
+                isResultSet = stm.getMoreResults();
+            }
+        }
+        catch (SQLException e)
+        {
+            databaseObject.analyzeAndWrapSqlExceptionGenericSource("find failed for statement " + statement + "\nwith message: " + e.getMessage(), e, first.source, con);
+        }
+        finally
+        {
+            databaseObject.closeDatabaseObjects(con, stm, rs);
+            for (int i = 0; i < group.size(); i++)
+            {
+                group.get(i).cleanTemp();
+            }
+        }
+    }
+
+    private static Map<Operation, Member> getPrefetched()
+    {
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        if (prefetched == null)
+        {
+            prefetched = UnifiedMap.newMap();
+            PREFETCHED.set(prefetched);
+        }
+        return prefetched;
+    }
+
+    /**
+     * drops the results of this batch that were not asked for
+     */
+    public void release()
+    {
+        this.remoteFindBatch.release();
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        if (prefetched == null) return;
+        for (int i = 0; i < this.members.size(); i++)
+        {
+            Member member = this.members.get(i);
+            if (prefetched.get(member.getOperation()) == member)
+            {
+                prefetched.remove(member.getOperation());
+            }
+        }
+        if (prefetched.isEmpty())
+        {
+            PREFETCHED.remove();
+        }
+    }
+
+    /**
+     * @return the number of results held for the current thread that were not asked for yet
+     */
+    public static int zGetPrefetchedCount()
+    {
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        return prefetched == null ? 0 : prefetched.size();
+    }
+
+    static Member take(MithraAbstractDatabaseObject databaseObject, Operation op, boolean forceImplicitJoin)
+    {
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        if (prefetched == null) return null;
+        Member member = prefetched.get(op);
+        if (member == null || member.databaseObject != databaseObject || member.forceImplicitJoin != forceImplicitJoin)
+        {
+            return null;
+        }
+        prefetched.remove(op);
+        return member;
+    }
+
+    static class Member
+    {
+        private final MithraAbstractDatabaseObject databaseObject;
+        private final AnalyzedOperation analyzedOperation;
+        private final SqlQuery query;
+        private final Object source;
+        private final DatabaseType databaseType;
+        private final TimeZone timeZone;
+        private final String statement;
+        private final boolean forceImplicitJoin;
+        private final boolean lockingRead;
+        private final CachedQuery cachedQuery;
+        private final CachedQuery cachedQuery2;
+        private final MithraFastList result = new MithraFastList();
+        private final long startTime = System.currentTimeMillis();
+        private int parameterCount = -1;
+
+        Member(MithraAbstractDatabaseObject databaseObject, AnalyzedOperation analyzedOperation, SqlQuery query, Object source,
+                DatabaseType databaseType, TimeZone timeZone, String statement, boolean forceImplicitJoin, boolean lockingRead,
+                CachedQuery cachedQuery, CachedQuery cachedQuery2)
+        {
+            this.databaseObject = databaseObject;
+            this.analyzedOperation = analyzedOperation;
+            this.query = query;
+            this.source = source;
+            this.databaseType = databaseType;
+            this.timeZone = timeZone;
+            this.statement = statement;
+            this.forceImplicitJoin = forceImplicitJoin;
+            this.lockingRead = lockingRead;
+            this.cachedQuery = cachedQuery;
+            this.cachedQuery2 = cachedQuery2;
+        }
+
+        private Operation getOperation()
+        {
+            return this.analyzedOperation.getOriginalOperation();
+        }
+
+        private int getParameterCount()
+        {
+            if (this.parameterCount < 0)
+            {
+                try
+                {
+                    this.parameterCount = this.query.setStatementParameters(new PrintablePreparedStatement(this.statement), 1) - 1;
+                }
+                catch (SQLException e)
+                {
+                    throw new MithraDatabaseException("could not count the parameters of " + this.statement, e);
+                }
+            }
+            return this.parameterCount;
+        }
+
+        private boolean canShareStatementWith(Member other)
+        {
+            return this.databaseObject.getConnectionManager() == other.databaseObject.getConnectionManager()
+                    && this.databaseType == other.databaseType && this.lockingRead == other.lockingRead
+                    && (this.source == null ? other.source == null : this.source.equals(other.source));
+        }
+
+        private void cleanTemp()
+        {
+            this.query.cleanTempForSource(0, this.databaseType);
+        }
+
+        AnalyzedOperation getAnalyzedOperation()
+        {
+            return analyzedOperation;
+        }
+
+        SqlQuery getQuery()
+        {
+            return query;
+        }
+
+        Object getSource()
+        {
+            return source;
+        }
+
+        DatabaseType getDatabaseType()
+        {
+            return databaseType;
+        }
+
+        TimeZone getTimeZone()
+        {
+            return timeZone;
+        }
+
+        CachedQuery getCachedQuery()
+        {
+            return cachedQuery;
+        }
+
+        CachedQuery getCachedQuery2()
+        {
+            return cachedQuery2;
+        }
+
+        MithraFastList getResult()
+        {
+            return result;
+        }
+
+        long getStartTime()
+        {
+            return startTime;
+        }
+    }
+}
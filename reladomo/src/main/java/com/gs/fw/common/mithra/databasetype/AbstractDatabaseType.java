@@ -283,6 +283,36 @@ public abstract class AbstractDatabaseType implements DatabaseType
         return this.hasSelectUnionMultiInsert() || this.hasValuesMultiInsert();
     }
 
+    public String getSqlArrayElementType(Class valueType)
+    {
+        return null;
+    }
+
+    public String getArrayInClause(String fullyQualifiedLeftHandExpression, String elementType, boolean not)
+    {
+        throw new RuntimeException("array parameters are not supported by "+this.getClass().getName());
+    }
+
+    public String getArrayTupleInClause(String[] fullyQualifiedLeftHandExpressions, String[] elementTypes)
+    {
+        throw new RuntimeException("array parameters are not supported by "+this.getClass().getName());
+    }
+
+    public void setArrayParameter(PreparedStatement ps, int index, String elementType, Object[] values) throws SQLException
+    {
+        throw new RuntimeException("array parameters are not supported by "+this.getClass().getName());
+    }
+
+    public boolean supportsMultipleResultSets()
+    {
+        return false;
+    }
+
+    public String getMultiStatementSeparator()
+    {
+        return ";\n";
+    }
+
     public boolean supportsMultiValueInClause()
     {
         return false;
@@ -152,6 +152,32 @@ public interface DatabaseType extends CommonDatabaseType
 
     public int getMaxSearchableArguments();
 
+    /**
+     * @return the sql type of the elements of an array parameter holding values of the given type, or null if
+     * in-clauses of that type can't be bound as a single array parameter
+     */
+    public String getSqlArrayElementType(Class valueType);
+
+    /**
+     * @return a condition that tests the expression against all the values of a single array parameter
+     */
+    public String getArrayInClause(String fullyQualifiedLeftHandExpression, String elementType, boolean not);
+
+    /**
+     * @return a condition that tests the expressions against the tuples zipped from one array parameter per expression
+     */
+    public String getArrayTupleInClause(String[] fullyQualifiedLeftHandExpressions, String[] elementTypes);
+
+    public void setArrayParameter(PreparedStatement ps, int index, String elementType, Object[] values) throws SQLException;
+
+    /**
+     * @return true if several select statements can be sent in one prepared statement, with their results read from
+     * consecutive result sets
+     */
+    public boolean supportsMultipleResultSets();
+
+    public String getMultiStatementSeparator();
+
     public int getMaxUnionCount();
 
     public String getModFunction(String fullyQualifiedLeftHandExpression, int divisor);
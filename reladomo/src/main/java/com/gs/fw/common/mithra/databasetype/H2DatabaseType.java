@@ -292,6 +292,45 @@ public class H2DatabaseType extends AbstractDatabaseType
         return "decimal";
     }
 
+    @Override
+    public String getSqlArrayElementType(Class valueType)
+    {
+        if (valueType == Integer.class) return "int";
+        if (valueType == Long.class) return "bigint";
+        if (valueType == String.class) return "varchar";
+        return null;
+    }
+
+    @Override
+    public String getArrayInClause(String fullyQualifiedLeftHandExpression, String elementType, boolean not)
+    {
+        return fullyQualifiedLeftHandExpression + (not ? " not in" : " in") + " (select x from table(x " + elementType + " = ?))";
+    }
+
+    @Override
+    public String getArrayTupleInClause(String[] fullyQualifiedLeftHandExpressions, String[] elementTypes)
+    {
+        StringBuilder builder = new StringBuilder("exists (select 1 from table(");
+        for (int i = 0; i < elementTypes.length; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append('c').append(i).append(' ').append(elementTypes[i]).append(" = ?");
+        }
+        builder.append(") arr where ");
+        for (int i = 0; i < fullyQualifiedLeftHandExpressions.length; i++)
+        {
+            if (i > 0) builder.append(" and ");
+            builder.append("arr.c").append(i).append(" = ").append(fullyQualifiedLeftHandExpressions[i]);
+        }
+        return builder.append(')').toString();
+    }
+
+    @Override
+    public void setArrayParameter(PreparedStatement ps, int index, String elementType, Object[] values) throws SQLException
+    {
+        ps.setObject(index, values);
+    }
+
     public String getCreateSchema(String schema)
     {
         return "CREATE SCHEMA IF NOT EXISTS "+schema+" AUTHORIZATION sa";
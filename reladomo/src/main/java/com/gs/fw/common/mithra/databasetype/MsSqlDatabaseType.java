@@ -183,6 +183,12 @@ public class MsSqlDatabaseType extends AbstractDatabaseType
         return true;
     }
 
+    @Override
+    public boolean supportsMultipleResultSets()
+    {
+        return true;
+    }
+
     public String getSelect(String columns, SqlQuery query, String groupBy, boolean isInTransaction, int rowCount)
     {
         StringBuilder selectWithoutWhere = new StringBuilder("select ");
@@ -22,6 +22,7 @@ import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.attribute.TimestampAttribute;
 import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
 import com.gs.fw.common.mithra.finder.SqlQuery;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
 import com.gs.fw.common.mithra.util.MithraFastList;
@@ -30,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -98,6 +100,12 @@ public class PostgresDatabaseType extends AbstractDatabaseType
         return true;
     }
 
+    @Override
+    public boolean supportsMultipleResultSets()
+    {
+        return true;
+    }
+
     public void setTempSchema(String tempSchema)
     {
         this.tempSchema = tempSchema;
@@ -297,6 +305,52 @@ public class PostgresDatabaseType extends AbstractDatabaseType
         return "numeric";
     }
 
+    @Override
+    public String getSqlArrayElementType(Class valueType)
+    {
+        if (valueType == Integer.class) return "int4";
+        if (valueType == Long.class) return "int8";
+        if (valueType == String.class) return "varchar";
+        return null;
+    }
+
+    @Override
+    public String getArrayInClause(String fullyQualifiedLeftHandExpression, String elementType, boolean not)
+    {
+        return fullyQualifiedLeftHandExpression + (not ? " <> all(?)" : " = any(?)");
+    }
+
+    @Override
+    public String getArrayTupleInClause(String[] fullyQualifiedLeftHandExpressions, String[] elementTypes)
+    {
+        StringBuilder builder = new StringBuilder("exists (select 1 from (select ");
+        for (int i = 0; i < elementTypes.length; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append("unnest(?) c").append(i);
+        }
+        builder.append(") arr where ");
+        for (int i = 0; i < fullyQualifiedLeftHandExpressions.length; i++)
+        {
+            if (i > 0) builder.append(" and ");
+            builder.append("arr.c").append(i).append(" = ").append(fullyQualifiedLeftHandExpressions[i]);
+        }
+        return builder.append(')').toString();
+    }
+
+    @Override
+    public void setArrayParameter(PreparedStatement ps, int index, String elementType, Object[] values) throws SQLException
+    {
+        if (ps instanceof PrintablePreparedStatement)
+        {
+            ((PrintablePreparedStatement) ps).setPrintableArray(index, values);
+        }
+        else
+        {
+            ps.setArray(index, ps.getConnection().createArrayOf(elementType, values));
+        }
+    }
+
     public String getCreateSchema(String schema)
     {
         return "CREATE SCHEMA IF NOT EXISTS "+schema+" AUTHORIZATION sa";
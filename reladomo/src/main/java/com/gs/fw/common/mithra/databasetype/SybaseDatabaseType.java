@@ -305,6 +305,18 @@ public class SybaseDatabaseType extends AbstractDatabaseType
         return true;
     }
 
+    @Override
+    public boolean supportsMultipleResultSets()
+    {
+        return true;
+    }
+
+    @Override
+    public String getMultiStatementSeparator()
+    {
+        return "\n";
+    }
+
     public String getSelect(String columns, SqlQuery query, String groupBy, boolean isInTransaction, int rowCount)
     {
         StringBuilder selectWithoutWhere = new StringBuilder("select ");
@@ -122,6 +122,12 @@ public class SybaseIqDatabaseType extends SybaseDatabaseType
         return MAX_CLAUSES;
     }
 
+    @Override
+    public boolean supportsMultipleResultSets()
+    {
+        return false;
+    }
+
     public int getMaxSearchableArguments()
     {
         return MAX_SEARCHABLE_ARGUMENTS;
@@ -0,0 +1,172 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.extractor.asm;
+
+import com.gs.fw.common.mithra.util.Time;
+import com.gs.fw.common.mithra.util.serializer.AnnotatedMethodSerializer;
+import com.gs.mithra.asm.ClassWriter;
+import com.gs.mithra.asm.Label;
+import com.gs.mithra.asm.MethodVisitor;
+import com.gs.mithra.asm.Opcodes;
+import com.gs.mithra.asm.Type;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes a subclass of AnnotatedMethodSerializer for the annotated methods of one class. The generated serialize
+ * method calls each method directly and passes primitive results, and the unboxed values of wrapper results, to the
+ * typed write method of the SerialWriter. Nulls, and results without a typed write method, go through the superclass.
+ */
+public class AnnotatedMethodSerializerWriter
+{
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private static final String SUPER_CLASS = "com/gs/fw/common/mithra/util/serializer/AnnotatedMethodSerializer";
+    private static final String CONTEXT = "Lcom/gs/fw/common/mithra/util/serializer/ReladomoSerializationContext;";
+    private static final String WRITER_CLASS = "com/gs/fw/common/mithra/util/serializer/SerialWriter";
+    private static final String WRITER = "L" + WRITER_CLASS + ";";
+
+    private static final int CONTEXT_VAR = 1;
+    private static final int WRITER_VAR = 2;
+    private static final int OBJECT_VAR = 3;
+    private static final int OWNER_VAR = 4;
+    private static final int RESULT_VAR = 5;
+
+    public Class createClass(Class clazz, List<Method> methods)
+    {
+        String className = "mithra/gen/AnnotatedMethodSerializer" + count.incrementAndGet();
+        ClassWriter cw = ExtractorWriter.createClassWriterWithConstructor(className, SUPER_CLASS);
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "serialize", "(" + CONTEXT + WRITER + "Ljava/lang/Object;)V", null, new String[] { "java/lang/Exception" });
+        mv.visitCode();
+        String owner = Type.getInternalName(clazz);
+        mv.visitVarInsn(Opcodes.ALOAD, OBJECT_VAR);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        mv.visitVarInsn(Opcodes.ASTORE, OWNER_VAR);
+        for (int i = 0; i < methods.size(); i++)
+        {
+            writeMethod(mv, className, owner, methods.get(i), i);
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+        return ExtractorWriter.loadClass(className, cw);
+    }
+
+    private void writeMethod(MethodVisitor mv, String className, String owner, Method method, int index)
+    {
+        Class returnType = method.getReturnType();
+        String name = AnnotatedMethodSerializer.getMethodAttributeName(method);
+        if (returnType.isPrimitive())
+        {
+            mv.visitVarInsn(Opcodes.ALOAD, WRITER_VAR);
+            mv.visitVarInsn(Opcodes.ALOAD, CONTEXT_VAR);
+            mv.visitLdcInsn(name);
+            callMethod(mv, owner, method);
+            callTypedWrite(mv, returnType);
+            return;
+        }
+        callMethod(mv, owner, method);
+        mv.visitVarInsn(Opcodes.ASTORE, RESULT_VAR);
+        mv.visitVarInsn(Opcodes.ALOAD, RESULT_VAR);
+        Label notNull = new Label();
+        Label end = new Label();
+        mv.visitJumpInsn(Opcodes.IFNONNULL, notNull);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitVarInsn(Opcodes.ALOAD, CONTEXT_VAR);
+        mv.visitVarInsn(Opcodes.ALOAD, WRITER_VAR);
+        mv.visitLdcInsn(Integer.valueOf(index));
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, className, "writeNull", "(" + CONTEXT + WRITER + "I)V");
+        mv.visitJumpInsn(Opcodes.GOTO, end);
+        mv.visitLabel(notNull);
+        Class primitiveType = primitiveTypeOf(returnType);
+        if (primitiveType != null)
+        {
+            mv.visitVarInsn(Opcodes.ALOAD, WRITER_VAR);
+            mv.visitVarInsn(Opcodes.ALOAD, CONTEXT_VAR);
+            mv.visitLdcInsn(name);
+            mv.visitVarInsn(Opcodes.ALOAD, RESULT_VAR);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(returnType), primitiveType.getName() + "Value",
+                    "()" + Type.getDescriptor(primitiveType));
+            callTypedWrite(mv, primitiveType);
+        }
+        else if (typedWriteName(returnType) != null)
+        {
+            mv.visitVarInsn(Opcodes.ALOAD, WRITER_VAR);
+            mv.visitVarInsn(Opcodes.ALOAD, CONTEXT_VAR);
+            mv.visitLdcInsn(name);
+            mv.visitVarInsn(Opcodes.ALOAD, RESULT_VAR);
+            callTypedWrite(mv, returnType);
+        }
+        else
+        {
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitVarInsn(Opcodes.ALOAD, CONTEXT_VAR);
+            mv.visitLdcInsn(Integer.valueOf(index));
+            mv.visitVarInsn(Opcodes.ALOAD, RESULT_VAR);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, className, "writeByType", "(" + CONTEXT + "ILjava/lang/Object;)V");
+        }
+        mv.visitLabel(end);
+    }
+
+    private void callMethod(MethodVisitor mv, String owner, Method method)
+    {
+        mv.visitVarInsn(Opcodes.ALOAD, OWNER_VAR);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, method.getName(), Type.getMethodDescriptor(method));
+    }
+
+    private void callTypedWrite(MethodVisitor mv, Class type)
+    {
+        mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, WRITER_CLASS, typedWriteName(type),
+                "(" + CONTEXT + "Ljava/lang/String;" + Type.getDescriptor(type) + ")V");
+    }
+
+    private static String typedWriteName(Class type)
+    {
+        if (type == Boolean.TYPE) return "writeBoolean";
+        if (type == Byte.TYPE) return "writeByte";
+        if (type == Short.TYPE) return "writeShort";
+        if (type == Integer.TYPE) return "writeInt";
+        if (type == Long.TYPE) return "writeLong";
+        if (type == Character.TYPE) return "writeChar";
+        if (type == Float.TYPE) return "writeFloat";
+        if (type == Double.TYPE) return "writeDouble";
+        if (type == String.class) return "writeString";
+        if (type == BigDecimal.class) return "writeBigDecimal";
+        if (type == Timestamp.class) return "writeTimestamp";
+        if (type == Time.class) return "writeTime";
+        if (type == byte[].class) return "writeByteArray";
+        return null;
+    }
+
+    private static Class primitiveTypeOf(Class wrapper)
+    {
+        if (wrapper == Boolean.class) return Boolean.TYPE;
+        if (wrapper == Byte.class) return Byte.TYPE;
+        if (wrapper == Short.class) return Short.TYPE;
+        if (wrapper == Integer.class) return Integer.TYPE;
+        if (wrapper == Long.class) return Long.TYPE;
+        if (wrapper == Character.class) return Character.TYPE;
+        if (wrapper == Float.class) return Float.TYPE;
+        if (wrapper == Double.class) return Double.TYPE;
+        return null;
+    }
+}
@@ -366,6 +366,11 @@ public class ExtractorWriter
         return classLoader.load(className.replace('/', '.'), data);
     }
 
+    public static boolean isGeneratedClass(Class clazz)
+    {
+        return clazz.getClassLoader() == classLoader;
+    }
+
     protected static ClassWriter createClassWriterWithConstructor(String className, String superClass)
     {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
@@ -0,0 +1,273 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.extractor.asm;
+
+import com.gs.fw.common.mithra.finder.CompiledOperationShape;
+import com.gs.mithra.asm.ClassWriter;
+import com.gs.mithra.asm.Label;
+import com.gs.mithra.asm.MethodVisitor;
+import com.gs.mithra.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes a subclass of CompiledOperationMatcher for a CompiledOperationShape. The generated class keeps each
+ * leaf's attribute in a field typed with the exact generated attribute class (see ExtractorWriter), so the value
+ * and null checks are monomorphic calls straight into the data getters, and keeps each leaf's parameter in a
+ * primitive field. The whole and/or tree is evaluated with short circuit jumps in a single method.
+ */
+public class OperationMatcherWriter
+{
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private static final String SUPER_CLASS = "com/gs/fw/common/mithra/finder/CompiledOperationMatcher";
+    private static final String OPERATION_ARRAY = "[Lcom/gs/fw/common/mithra/finder/Operation;";
+    private static final String ATOMIC_OPERATION = "com/gs/fw/common/mithra/finder/AbstractAtomicOperation";
+
+    public Class createClass(CompiledOperationShape shape)
+    {
+        String className = "mithra/gen/OperationMatcher" + count.incrementAndGet();
+        ClassWriter cw = ExtractorWriter.createClassWriterWithConstructor(className, SUPER_CLASS);
+        List<CompiledOperationShape> leaves = new ArrayList<CompiledOperationShape>();
+        shape.addLeavesTo(leaves);
+        for (int i = 0; i < leaves.size(); i++)
+        {
+            CompiledOperationShape leaf = leaves.get(i);
+            cw.visitField(Opcodes.ACC_PRIVATE, attributeField(leaf), attributeDescriptor(leaf), null, null).visitEnd();
+            cw.visitField(Opcodes.ACC_PRIVATE, parameterField(leaf), primitiveDescriptor(leaf), null, null).visitEnd();
+        }
+        addBindMethod(cw, className, leaves);
+        addMatchesMethod(cw, className, shape);
+        cw.visitEnd();
+        return ExtractorWriter.loadClass(className, cw);
+    }
+
+    private void addBindMethod(ClassWriter cw, String className, List<CompiledOperationShape> leaves)
+    {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "zBind", "(" + OPERATION_ARRAY + ")V", null, null);
+        mv.visitCode();
+        for (int i = 0; i < leaves.size(); i++)
+        {
+            CompiledOperationShape leaf = leaves.get(i);
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            loadLeafOperation(mv, leaf);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, ATOMIC_OPERATION);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, ATOMIC_OPERATION, "getAttribute", "()Lcom/gs/fw/common/mithra/attribute/Attribute;");
+            mv.visitTypeInsn(Opcodes.CHECKCAST, attributeClassName(leaf));
+            mv.visitFieldInsn(Opcodes.PUTFIELD, className, attributeField(leaf), attributeDescriptor(leaf));
+
+            String paramInterface = parameterInterface(leaf);
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            loadLeafOperation(mv, leaf);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, paramInterface);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, paramInterface, "getParameter", "()" + primitiveDescriptor(leaf));
+            mv.visitFieldInsn(Opcodes.PUTFIELD, className, parameterField(leaf), primitiveDescriptor(leaf));
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void loadLeafOperation(MethodVisitor mv, CompiledOperationShape leaf)
+    {
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitLdcInsn(Integer.valueOf(leaf.getLeafIndex()));
+        mv.visitInsn(Opcodes.AALOAD);
+    }
+
+    private void addMatchesMethod(ClassWriter cw, String className, CompiledOperationShape shape)
+    {
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PROTECTED, "matchesWithoutDeleteCheck", "(Ljava/lang/Object;)Z", null, null);
+        mv.visitCode();
+        Label matched = new Label();
+        Label notMatched = new Label();
+        writeShape(mv, className, shape, matched, notMatched);
+        mv.visitLabel(matched);
+        mv.visitInsn(Opcodes.ICONST_1);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitLabel(notMatched);
+        mv.visitInsn(Opcodes.ICONST_0);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void writeShape(MethodVisitor mv, String className, CompiledOperationShape shape, Label matched, Label notMatched)
+    {
+        if (shape.isLeaf())
+        {
+            writeLeaf(mv, className, shape, matched, notMatched);
+            return;
+        }
+        CompiledOperationShape[] children = shape.getChildren();
+        for (int i = 0; i < children.length - 1; i++)
+        {
+            Label next = new Label();
+            if (shape.isAnd())
+            {
+                writeShape(mv, className, children[i], next, notMatched);
+            }
+            else
+            {
+                writeShape(mv, className, children[i], matched, next);
+            }
+            mv.visitLabel(next);
+        }
+        writeShape(mv, className, children[children.length - 1], matched, notMatched);
+    }
+
+    private void writeLeaf(MethodVisitor mv, String className, CompiledOperationShape leaf, Label matched, Label notMatched)
+    {
+        String attributeClassName = attributeClassName(leaf);
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, attributeField(leaf), attributeDescriptor(leaf));
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, attributeClassName, "isAttributeNull", "(Ljava/lang/Object;)Z");
+        mv.visitJumpInsn(Opcodes.IFNE, notMatched);
+
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, attributeField(leaf), attributeDescriptor(leaf));
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, attributeClassName, valueOfMethod(leaf), "(Ljava/lang/Object;)" + primitiveDescriptor(leaf));
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, className, parameterField(leaf), primitiveDescriptor(leaf));
+        int comparison = leaf.getComparison();
+        if (leaf.getValueType() == CompiledOperationShape.INT)
+        {
+            mv.visitJumpInsn(intCompareJumpIfNotMatched(comparison), notMatched);
+        }
+        else
+        {
+            if (leaf.getValueType() == CompiledOperationShape.LONG)
+            {
+                mv.visitInsn(Opcodes.LCMP);
+            }
+            else if (comparison == CompiledOperationShape.LESS_THAN || comparison == CompiledOperationShape.LESS_THAN_EQUALS)
+            {
+                // same as javac: NaN must compare as not less than
+                mv.visitInsn(Opcodes.DCMPG);
+            }
+            else
+            {
+                mv.visitInsn(Opcodes.DCMPL);
+            }
+            mv.visitJumpInsn(compareResultJumpIfNotMatched(comparison), notMatched);
+        }
+        mv.visitJumpInsn(Opcodes.GOTO, matched);
+    }
+
+    private int intCompareJumpIfNotMatched(int comparison)
+    {
+        switch (comparison)
+        {
+            case CompiledOperationShape.EQ:
+                return Opcodes.IF_ICMPNE;
+            case CompiledOperationShape.NOT_EQ:
+                return Opcodes.IF_ICMPEQ;
+            case CompiledOperationShape.GREATER_THAN:
+                return Opcodes.IF_ICMPLE;
+            case CompiledOperationShape.GREATER_THAN_EQUALS:
+                return Opcodes.IF_ICMPLT;
+            case CompiledOperationShape.LESS_THAN:
+                return Opcodes.IF_ICMPGE;
+            case CompiledOperationShape.LESS_THAN_EQUALS:
+                return Opcodes.IF_ICMPGT;
+        }
+        throw new RuntimeException("unknown comparison " + comparison);
+    }
+
+    private int compareResultJumpIfNotMatched(int comparison)
+    {
+        switch (comparison)
+        {
+            case CompiledOperationShape.EQ:
+                return Opcodes.IFNE;
+            case CompiledOperationShape.NOT_EQ:
+                return Opcodes.IFEQ;
+            case CompiledOperationShape.GREATER_THAN:
+                return Opcodes.IFLE;
+            case CompiledOperationShape.GREATER_THAN_EQUALS:
+                return Opcodes.IFLT;
+            case CompiledOperationShape.LESS_THAN:
+                return Opcodes.IFGE;
+            case CompiledOperationShape.LESS_THAN_EQUALS:
+                return Opcodes.IFGT;
+        }
+        throw new RuntimeException("unknown comparison " + comparison);
+    }
+
+    private String attributeField(CompiledOperationShape leaf)
+    {
+        return "attribute" + leaf.getLeafIndex();
+    }
+
+    private String parameterField(CompiledOperationShape leaf)
+    {
+        return "parameter" + leaf.getLeafIndex();
+    }
+
+    private String attributeClassName(CompiledOperationShape leaf)
+    {
+        return leaf.getAttributeClass().getName().replace('.', '/');
+    }
+
+    private String attributeDescriptor(CompiledOperationShape leaf)
+    {
+        return "L" + attributeClassName(leaf) + ";";
+    }
+
+    private String primitiveDescriptor(CompiledOperationShape leaf)
+    {
+        switch (leaf.getValueType())
+        {
+            case CompiledOperationShape.INT:
+                return "I";
+            case CompiledOperationShape.LONG:
+                return "J";
+            default:
+                return "D";
+        }
+    }
+
+    private String valueOfMethod(CompiledOperationShape leaf)
+    {
+        switch (leaf.getValueType())
+        {
+            case CompiledOperationShape.INT:
+                return "intValueOf";
+            case CompiledOperationShape.LONG:
+                return "longValueOf";
+            default:
+                return "doubleValueOf";
+        }
+    }
+
+    private String parameterInterface(CompiledOperationShape leaf)
+    {
+        switch (leaf.getValueType())
+        {
+            case CompiledOperationShape.INT:
+                return "com/gs/fw/common/mithra/finder/paramop/OpWithIntParam";
+            case CompiledOperationShape.LONG:
+                return "com/gs/fw/common/mithra/finder/paramop/OpWithLongParam";
+            default:
+                return "com/gs/fw/common/mithra/finder/paramop/OpWithDoubleParam";
+        }
+    }
+}
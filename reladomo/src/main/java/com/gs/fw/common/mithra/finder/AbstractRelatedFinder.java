@@ -23,9 +23,11 @@ import com.gs.fw.common.mithra.attribute.AsOfAttribute;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.attribute.SourceAttributeType;
 import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.database.MultiResultSetFind;
 import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.notification.listener.MithraApplicationClassLevelNotificationListener;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -311,6 +313,26 @@ public abstract class AbstractRelatedFinder<ReturnType, ParentOwnerType, ReturnO
         return null;
     }
 
+    public void zAddToMultiResultSetFind(DeepFetchNode node, MultiResultSetFind multiResultSetFind, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        DeepFetchStrategy strategy = this.getDeepFetchStrategy();
+        if (strategy != null)
+        {
+            strategy.addToMultiResultSetFind(node, multiResultSetFind, bypassCache, forceImplicitJoin);
+        }
+    }
+
+    public CachedQuery zCreateDeepFetchQuery(DeepFetchNode node)
+    {
+        DeepFetchStrategy strategy = this.getDeepFetchStrategy();
+        return strategy == null ? null : strategy.createDeepFetchQuery(node);
+    }
+
+    public List zCacheDeepFetchQuery(DeepFetchNode node, CachedQuery cachedQuery)
+    {
+        return this.getDeepFetchStrategy().cacheDeepFetchQuery(node, cachedQuery);
+    }
+
     public DeepFetchResult zDeepFetchFirstLinkInMemory(DeepFetchNode node)
     {
         DeepFetchStrategy strategy = this.getDeepFetchStrategy();
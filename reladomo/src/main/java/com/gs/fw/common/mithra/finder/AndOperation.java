@@ -28,6 +28,7 @@ import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.AsOfAttribute;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.cache.Cache;
 import com.gs.fw.common.mithra.finder.sqcache.NoMatchRequiresExactSmr;
 import com.gs.fw.common.mithra.finder.sqcache.NoMatchSmr;
 import com.gs.fw.common.mithra.finder.sqcache.ShapeMatchResult;
@@ -203,6 +204,12 @@ public class AndOperation implements Operation
     public List applyOperationToFullCache()
     {
         combineOperands();
+        Cache cache = this.getResultObjectPortal().getCache();
+        CompiledOperationMatcher compiled = OperationCompiler.getInstance().compileForCacheScan(this, cache.size());
+        if (compiled != null)
+        {
+            return compiled.applyToFullCache(cache);
+        }
         int otherAppliedOperation = -2;
         int appliedOperation = -1;
         List result = null;
@@ -308,8 +315,15 @@ public class AndOperation implements Operation
         final InternalList parallelComplexList = new InternalList(operands.size());
         final InternalList atomicList = new InternalList(operands.size());
         separateComplexAndAtomic(appliedOperation, otherAppliedOperation, complexList, atomicList, parallelComplexList);
-        final Operation[] atomic = new Operation[atomicList.size()];
-        atomicList.toArray(atomic);
+        Operation[] atomicOps = new Operation[atomicList.size()];
+        atomicList.toArray(atomicOps);
+        CompiledOperationMatcher compiled = OperationCompiler.getInstance().compileAnd(atomicOps, result.size());
+        if (compiled != null)
+        {
+            result = compiled.applyOperation(result);
+            atomicOps = new Operation[0];
+        }
+        final Operation[] atomic = atomicOps;
         final Operation[] complex = new Operation[complexList.size()];
         complexList.toArray(complex);
         MithraCpuBoundThreadPool pool = MithraCpuBoundThreadPool.getInstance();
@@ -435,7 +449,18 @@ public class AndOperation implements Operation
         InternalList complex = new InternalList(operands.size() - 1);
         InternalList atomic = new InternalList(operands.size() - 1);
         separateComplexAndAtomic(appliedOperation, otherAppliedOperation, complex, atomic, complex);
+        CompiledOperationMatcher compiled = null;
         if (atomic.size() > 1)
+        {
+            Operation[] atomicOps = new Operation[atomic.size()];
+            atomic.toArray(atomicOps);
+            compiled = OperationCompiler.getInstance().compileAnd(atomicOps, result.size());
+        }
+        if (compiled != null)
+        {
+            result = compiled.applyOperation(result);
+        }
+        else if (atomic.size() > 1)
         {
             int size = result.size();
             MithraFastList newResults = new MithraFastList(size);
@@ -602,7 +627,7 @@ public class AndOperation implements Operation
         return applyOperationExcept(-1, -2, list);
     }
 
-    private InternalList getOperands()
+    protected InternalList getOperands()
     {
         return operands;
     }
@@ -56,6 +56,13 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
     {
         if (this.getAttribute().isSourceAttribute()) return;
         String fullyQualifiedColumnName = this.getAttribute().getFullyQualifiedLeftHandExpression(query);
+        String arrayElementType = this.getArrayElementType(query);
+        if (arrayElementType != null)
+        {
+            query.appendWhereClause(query.getDatabaseType().getArrayInClause(fullyQualifiedColumnName, arrayElementType, this.isNot()));
+            query.addSqlParameterSetter(this);
+            return;
+        }
         query.appendWhereClause(fullyQualifiedColumnName);
         if (isNot()) query.appendWhereClause("not");
         query.appendWhereClause("in (");
@@ -79,6 +86,12 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
 
     public int setSqlParameters(PreparedStatement pstmt, int startIndex, SqlQuery query) throws SQLException
     {
+        String arrayElementType = this.getArrayElementType(query);
+        if (arrayElementType != null)
+        {
+            query.getDatabaseType().setArrayParameter(pstmt, startIndex, arrayElementType, this.getSetValuesForArrayParameter());
+            return 1;
+        }
         int start = 0;
         int valuesSet = 0;
         int numberToSet = this.getSetSize();
@@ -100,6 +113,58 @@ public abstract class AtomicSetBasedOperation extends AbstractAtomicOperation im
         return valuesSet;
     }
 
+    /**
+     * large sets are bound as a single array parameter where the database supports it, so the statement doesn't
+     * change with the set size and never has to be split or replaced with a temp table join.
+     * @return the array element type, or null if the set's values are bound one by one
+     */
+    protected String getArrayElementType(SqlQuery query)
+    {
+        return this.getArrayElementType(query.getDatabaseType());
+    }
+
+    private String getArrayElementType(DatabaseType databaseType)
+    {
+        if (this.getSetSize() <= POSSIBLE_SPLIT_THRESHOLD) return null;
+        return databaseType.getSqlArrayElementType(this.getAttribute().valueType());
+    }
+
+    /**
+     * @return the set size as far as the text of the generated statement is concerned: 0 when the set is bound as
+     * an array parameter
+     */
+    protected int getStatementSetSize(DatabaseType databaseType)
+    {
+        return this.getArrayElementType(databaseType) == null ? this.getSetSize() : 0;
+    }
+
+    private Object[] getSetValuesForArrayParameter()
+    {
+        this.populateCopiedArray();
+        Class valueType = this.getAttribute().valueType();
+        Object[] values = new Object[this.getSetSize()];
+        for (int i = 0; i < values.length; i++)
+        {
+            if (valueType == Integer.class)
+            {
+                values[i] = Integer.valueOf(this.getSetValueAsInt(i));
+            }
+            else if (valueType == Long.class)
+            {
+                values[i] = Long.valueOf(this.getSetValueAsLong(i));
+            }
+            else if (valueType == String.class)
+            {
+                values[i] = this.getSetValueAsString(i);
+            }
+            else
+            {
+                throw new RuntimeException("unexpected array parameter type "+valueType.getName());
+            }
+        }
+        return values;
+    }
+
     public String getSubSelectStringForTupleTempContext(TupleTempContext tempContext, Object source, PersisterId persisterId)
     {
         return "select c0 from "+tempContext.getFullyQualifiedTableName(source, persisterId);
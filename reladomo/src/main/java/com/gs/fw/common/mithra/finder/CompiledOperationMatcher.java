@@ -0,0 +1,121 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.finder;
+
+import com.gs.fw.common.mithra.MithraDeletedException;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.util.DoUntilProcedure;
+import com.gs.fw.common.mithra.util.CpuBoundTask;
+import com.gs.fw.common.mithra.util.FixedCountTaskFactory;
+import com.gs.fw.common.mithra.util.MithraCompositeList;
+import com.gs.fw.common.mithra.util.MithraCpuBoundThreadPool;
+import com.gs.fw.common.mithra.util.MithraFastList;
+
+import java.util.List;
+
+/**
+ * Superclass of the matchers generated by {@link com.gs.fw.common.mithra.extractor.asm.OperationMatcherWriter}.
+ * A generated subclass evaluates a whole operation tree in one method, calling the generated attribute
+ * extractors directly. Instances are created per operation via {@link OperationCompiler}.
+ */
+public abstract class CompiledOperationMatcher
+{
+    public boolean matches(Object o)
+    {
+        try
+        {
+            return matchesWithoutDeleteCheck(o);
+        }
+        catch (MithraDeletedException e)
+        {
+            // this is a rare exception, so we don't check for deleted up front
+            return false;
+        }
+    }
+
+    protected abstract boolean matchesWithoutDeleteCheck(Object o);
+
+    /**
+     * copies the attributes and parameters of the leaf operations (in depth first order) into the generated fields
+     */
+    public abstract void zBind(Operation[] leaves);
+
+    public List applyToFullCache(Cache cache)
+    {
+        final MithraFastList result = new MithraFastList();
+        cache.forAll(new DoUntilProcedure()
+        {
+            public boolean execute(Object o)
+            {
+                if (matches(o)) result.add(o);
+                return false;
+            }
+        });
+        return result;
+    }
+
+    public List applyOperation(List list)
+    {
+        if (MithraCpuBoundThreadPool.isParallelizable(list.size()))
+        {
+            return applyInParallel(list);
+        }
+        return applySerially(list);
+    }
+
+    private List applySerially(List list)
+    {
+        int listSize = list.size();
+        MithraFastList result = null;
+        for (int i = 0; i < listSize; i++)
+        {
+            Object item = list.get(i);
+            result = AbstractAtomicOperation.copyToResultAfterFirstMismatch(list, listSize, result, i, item, this.matches(item));
+        }
+        if (result == null) return list;
+        return result;
+    }
+
+    private List applyInParallel(List list)
+    {
+        MithraCpuBoundThreadPool pool = MithraCpuBoundThreadPool.getInstance();
+        List<List> lists = pool.split(list);
+        int chunks = lists.size();
+        CpuBoundTask[] tasks = new CpuBoundTask[chunks];
+        final List[] localResults = new List[chunks];
+        for (int i = 0; i < chunks; i++)
+        {
+            final List sublist = lists.get(i);
+            final int chunk = i;
+            tasks[i] = new CpuBoundTask()
+            {
+                @Override
+                public void execute()
+                {
+                    localResults[chunk] = applySerially(sublist);
+                }
+            };
+        }
+        new FixedCountTaskFactory(tasks).startAndWorkUntilFinished();
+        List result = new MithraCompositeList(localResults.length);
+        for (List localResult : localResults)
+        {
+            result.addAll(localResult);
+        }
+        return result;
+    }
+}
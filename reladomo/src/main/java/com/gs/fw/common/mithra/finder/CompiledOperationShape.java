@@ -0,0 +1,151 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.finder;
+
+import com.gs.fw.common.mithra.util.HashUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The parameter-free shape of an operation tree that can be compiled into a single matcher class.
+ * Two operations with equal shapes differ only in their parameter values and share the generated class.
+ */
+public class CompiledOperationShape
+{
+    public static final int AND = 1;
+    public static final int OR = 2;
+    public static final int LEAF = 3;
+
+    public static final int INT = 1;
+    public static final int LONG = 2;
+    public static final int DOUBLE = 3;
+
+    public static final int EQ = 1;
+    public static final int NOT_EQ = 2;
+    public static final int GREATER_THAN = 3;
+    public static final int GREATER_THAN_EQUALS = 4;
+    public static final int LESS_THAN = 5;
+    public static final int LESS_THAN_EQUALS = 6;
+
+    private final int type;
+    private final CompiledOperationShape[] children;
+    private final Class operationClass;
+    private final Class attributeClass;
+    private final int valueType;
+    private final int comparison;
+    private final int leafIndex;
+    private final int hashCode;
+
+    private CompiledOperationShape(int type, CompiledOperationShape[] children, Class operationClass, Class attributeClass,
+            int valueType, int comparison, int leafIndex, int hashCode)
+    {
+        this.type = type;
+        this.children = children;
+        this.operationClass = operationClass;
+        this.attributeClass = attributeClass;
+        this.valueType = valueType;
+        this.comparison = comparison;
+        this.leafIndex = leafIndex;
+        this.hashCode = hashCode;
+    }
+
+    public static CompiledOperationShape createLeaf(int shapeHash, Class operationClass, Class attributeClass, int valueType, int comparison, int leafIndex)
+    {
+        int hash = HashUtil.combineHashes(HashUtil.combineHashes(shapeHash, operationClass.hashCode()), attributeClass.hashCode());
+        return new CompiledOperationShape(LEAF, null, operationClass, attributeClass, valueType, comparison, leafIndex, hash);
+    }
+
+    public static CompiledOperationShape createNode(int shapeHash, int type, List<CompiledOperationShape> children)
+    {
+        CompiledOperationShape[] childArray = new CompiledOperationShape[children.size()];
+        children.toArray(childArray);
+        int hash = HashUtil.combineHashes(shapeHash, type);
+        for (CompiledOperationShape child : childArray)
+        {
+            hash = HashUtil.combineHashes(hash, child.hashCode);
+        }
+        return new CompiledOperationShape(type, childArray, null, null, 0, 0, -1, hash);
+    }
+
+    public boolean isLeaf()
+    {
+        return type == LEAF;
+    }
+
+    public boolean isAnd()
+    {
+        return type == AND;
+    }
+
+    public CompiledOperationShape[] getChildren()
+    {
+        return children;
+    }
+
+    public Class getAttributeClass()
+    {
+        return attributeClass;
+    }
+
+    public int getValueType()
+    {
+        return valueType;
+    }
+
+    public int getComparison()
+    {
+        return comparison;
+    }
+
+    public int getLeafIndex()
+    {
+        return leafIndex;
+    }
+
+    public void addLeavesTo(List<CompiledOperationShape> leaves)
+    {
+        if (this.isLeaf())
+        {
+            leaves.add(this);
+        }
+        else
+        {
+            for (CompiledOperationShape child : children)
+            {
+                child.addLeavesTo(leaves);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof CompiledOperationShape)) return false;
+        CompiledOperationShape other = (CompiledOperationShape) obj;
+        return this.hashCode == other.hashCode && this.type == other.type && this.leafIndex == other.leafIndex
+                && this.operationClass == other.operationClass && this.attributeClass == other.attributeClass
+                && Arrays.equals(this.children, other.children);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.finder;
+
+
+/**
+ * How {@link DeepFetchPlanner} chose to fetch one relationship of a deep fetch, and the numbers it chose from.
+ * Only {@link Choice#SHARED_TEMP_TABLE} changes how the relationship is fetched; the other choices describe what
+ * its deep fetch strategy does.
+ */
+public class DeepFetchDecision
+{
+    public enum Choice
+    {
+        /** left to the relationship's deep fetch strategy; only simple to-many relationships are planned */
+        STRATEGY,
+        /** the related class is fully cached, or the query cache holds a relationship that would have shared a temp table */
+        IN_MEMORY,
+        /** an in-clause of the parents' join values */
+        IN_CLAUSE,
+        /** a join to a temp table of the parents' join values, shared by the relationships with the same join values */
+        SHARED_TEMP_TABLE,
+        /** a join to the operation that found the parents */
+        IMPLICIT_JOIN
+    }
+
+    private final String relationshipName;
+    private final Choice choice;
+    private final int parentCount;
+    private final int estimatedRelatedCount;
+    private final int tempTableSharers;
+
+    public DeepFetchDecision(String relationshipName, Choice choice, int parentCount, int estimatedRelatedCount, int tempTableSharers)
+    {
+        this.relationshipName = relationshipName;
+        this.choice = choice;
+        this.parentCount = parentCount;
+        this.estimatedRelatedCount = estimatedRelatedCount;
+        this.tempTableSharers = tempTableSharers;
+    }
+
+    public String getRelationshipName()
+    {
+        return relationshipName;
+    }
+
+    public Choice getChoice()
+    {
+        return choice;
+    }
+
+    public int getParentCount()
+    {
+        return parentCount;
+    }
+
+    /**
+     * @return the number of related objects expected from the average size of the cache index on the join attribute,
+     * or the number of parents if the cache has no such index
+     */
+    public int getEstimatedRelatedCount()
+    {
+        return estimatedRelatedCount;
+    }
+
+    /**
+     * @return the number of relationships fetched with the same temp table, or 0 if no temp table is shared
+     */
+    public int getTempTableSharers()
+    {
+        return tempTableSharers;
+    }
+
+    public DeepFetchDecision withChoice(Choice choice, int tempTableSharers)
+    {
+        return new DeepFetchDecision(this.relationshipName, choice, this.parentCount, this.estimatedRelatedCount, tempTableSharers);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.relationshipName + ": " + this.choice + " for " + this.parentCount + " parents, about "
+                + this.estimatedRelatedCount + " related objects"
+                + (this.tempTableSharers > 0 ? ", temp table shared by " + this.tempTableSharers : "");
+    }
+}
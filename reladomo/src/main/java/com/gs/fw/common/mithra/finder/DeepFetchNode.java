@@ -23,10 +23,12 @@ import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.database.MultiResultSetFind;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.extractor.IdentityExtractor;
 import com.gs.fw.common.mithra.notification.MithraDatabaseIdentifierExtractor;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteFindBatch;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
 import com.gs.fw.common.mithra.util.*;
 import com.gs.fw.finder.Navigation;
@@ -71,6 +73,9 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
     private boolean fullyResolved = false;
     private transient List resolvedList;
     private transient List[] chainedResults;
+    private transient DeepFetchDecision deepFetchDecision;
+    private transient CachedQuery plannedDeepFetchQuery;
+    private DeepFetchPlanner deepFetchPlanner;
     private static final int PERCENT_COMPLETE_TO_IGNORE = 80;
     private static final ExecutorWithFinish CURRENT_THREAD_EXECUTOR = new CurrentThreadExecutorService();
 
@@ -96,6 +101,7 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
         }
         result.resolvedList = this.resolvedList;
         result.chainedResults = this.chainedResults;
+        result.deepFetchPlanner = this.deepFetchPlanner;
         if (children != null)
         {
             result.children = FastList.newList(children.size());
@@ -114,6 +120,58 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
         return (List<DeepFetchTree>) (List) this.children.toImmutable();
     }
 
+    @Override
+    public DeepFetchDecision getDeepFetchDecision()
+    {
+        return this.deepFetchDecision;
+    }
+
+    void setDeepFetchDecision(DeepFetchDecision deepFetchDecision)
+    {
+        this.deepFetchDecision = deepFetchDecision;
+    }
+
+    void setPlannedDeepFetchQuery(CachedQuery plannedDeepFetchQuery)
+    {
+        this.plannedDeepFetchQuery = plannedDeepFetchQuery;
+    }
+
+    /**
+     * Sets the planner used for this node and the nodes below it that don't have their own.
+     */
+    public void setDeepFetchPlanner(DeepFetchPlanner deepFetchPlanner)
+    {
+        this.deepFetchPlanner = deepFetchPlanner;
+    }
+
+    private DeepFetchPlanner getDeepFetchPlanner()
+    {
+        DeepFetchNode cur = this;
+        while(cur != null)
+        {
+            if (cur.deepFetchPlanner != null) return cur.deepFetchPlanner;
+            cur = cur.parent;
+        }
+        return DeepFetchPlanner.DEFAULT;
+    }
+
+    int getDepth()
+    {
+        int depth = 0;
+        DeepFetchNode cur = this.parent;
+        while(cur != null)
+        {
+            depth++;
+            cur = cur.parent;
+        }
+        return depth;
+    }
+
+    private boolean isFetchedWithSharedTempTable()
+    {
+        return this.deepFetchDecision != null && this.deepFetchDecision.getChoice() == DeepFetchDecision.Choice.SHARED_TEMP_TABLE;
+    }
+
     public void setResolvedList(List resolvedList, int chainPosition)
     {
         if (chainedResults == null || chainPosition == chainedResults.length - 1)
@@ -224,14 +282,103 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
             markChildrenResolved();
             return 0;
         }
-        //todo: choice for temp tables across children comes here.
         parentRunnable.setChildCount(children.size());
+        List<DeepFetchNode> sharedTempTableChildren = this.getDeepFetchPlanner().planChildren(this, this.children, this.resolvedList, bypassCache);
+        if (!sharedTempTableChildren.isEmpty())
+        {
+            this.deepFetchWithSharedTempTable(sharedTempTableChildren);
+        }
+        MultiResultSetFind multiResultSetFind = null;
+        try
+        {
+            multiResultSetFind = this.prefetchChildrenInBatch(bypassCache, executor, forceImplicitJoin);
+            for(int i=0;i<children.size();i++)
+            {
+                DeepFetchNode child = children.get(i);
+                child.deepFetchStartingFromSelf(bypassCache, executor, parentRunnable, forceImplicitJoin);
+            }
+        }
+        finally
+        {
+            if (multiResultSetFind != null)
+            {
+                multiResultSetFind.release();
+            }
+        }
+        return children.size();
+    }
+
+    private void deepFetchWithSharedTempTable(List<DeepFetchNode> sharedTempTableChildren)
+    {
+        CachedQuery[] deepFetchQueries = new CachedQuery[sharedTempTableChildren.size()];
+        for(int i=0;i<sharedTempTableChildren.size();i++)
+        {
+            DeepFetchNode child = sharedTempTableChildren.get(i);
+            deepFetchQueries[i] = child.plannedDeepFetchQuery;
+            child.plannedDeepFetchQuery = null;
+        }
+        this.deepFetchManyChildrenAdhoc(sharedTempTableChildren, false);
+        for(int i=0;i<sharedTempTableChildren.size();i++)
+        {
+            DeepFetchNode child = sharedTempTableChildren.get(i);
+            if (deepFetchQueries[i] != null && child.resolvedList != null)
+            {
+                child.addToCachedQueryList(child.relatedFinder.zCacheDeepFetchQuery(child, deepFetchQueries[i]));
+            }
+        }
+    }
+
+    /**
+     * In a transaction, the children are fetched one after the other on the current thread. Their finds are sent to
+     * the database in one statement first, where the database can return multiple result sets.
+     */
+    private MultiResultSetFind prefetchChildrenInBatch(boolean bypassCache, Executor executor, boolean forceImplicitJoin)
+    {
+        if (children.size() < 2)
+        {
+            return null;
+        }
+        // outside a transaction, only finds on remote portals are batched, and only when the children are fetched on this thread
+        if (!MithraManagerProvider.getMithraManager().isInTransaction() && (executor != CURRENT_THREAD_EXECUTOR || !this.hasRemoteChild()))
+        {
+            return null;
+        }
+        MultiResultSetFind multiResultSetFind = new MultiResultSetFind();
         for(int i=0;i<children.size();i++)
         {
             DeepFetchNode child = children.get(i);
-            child.deepFetchStartingFromSelf(bypassCache, executor, parentRunnable, forceImplicitJoin);
+            if (child.isFetchedWithSharedTempTable()) continue;
+            child.relatedFinder.zAddToMultiResultSetFind(child, multiResultSetFind, child.isBypassCache(bypassCache), forceImplicitJoin);
         }
-        return children.size();
+        multiResultSetFind.execute();
+        return multiResultSetFind;
+    }
+
+    private boolean hasRemoteChild()
+    {
+        for(int i=0;i<children.size();i++)
+        {
+            if (RemoteFindBatch.isRemote(children.get(i).relatedFinder.getMithraObjectPortal())) return true;
+        }
+        return false;
+    }
+
+    boolean isBypassCache(boolean bypassCache)
+    {
+        if (bypassCache || relatedFinder.getMithraObjectPortal().isCacheDisabled())
+        {
+            return true;
+        }
+        DeepFetchNode parent = this.parent;
+        while (parent != null)
+        {
+            if (parent.relatedFinder.getMithraObjectPortal().isCacheDisabled())
+            {
+                return true;
+            }
+            parent = parent.parent;
+        }
+        return false;
     }
 
     private void markChildrenResolved()
@@ -440,7 +587,7 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
 
             if (!childrenToProcess.isEmpty())
             {
-                deepFetchManyChildrenAdhoc(childrenToProcess);
+                deepFetchManyChildrenAdhoc(childrenToProcess, true);
             }
             for(int i=0;i<children.size();i++)
             {
@@ -476,7 +623,7 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
         return relatedFinder.zGetMapper().getFromPortal().getPersisterId();
     }
 
-    private void deepFetchManyChildrenAdhoc(List<DeepFetchNode> childrenToProcess)
+    private void deepFetchManyChildrenAdhoc(List<DeepFetchNode> childrenToProcess, boolean inClauseAllowed)
     {
         List originalResolvedList = this.resolvedList;
         List<List> segregatedBySource = this.segregateBySource(originalResolvedList);
@@ -543,7 +690,7 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
                     else
                     {
                         Attribute singleAttribute = deepFetchKey.leftAttributesWithFilters.iterator().next();
-                        if (deepFetchKey.leftAttributesWithFilters.size() == 1 && !singleAttribute.isAsOfAttribute() && resolvedList.size() < DeepRelationshipUtility.MAX_SIMPLIFIED_IN)
+                        if (inClauseAllowed && deepFetchKey.leftAttributesWithFilters.size() == 1 && !singleAttribute.isAsOfAttribute() && resolvedList.size() < DeepRelationshipUtility.MAX_SIMPLIFIED_IN)
                         {
                             FastList chainedChildren = FastList.newList(children.size());
                             for (int i = 0; i < children.size(); i++)
@@ -883,7 +1030,7 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
         return mapper.getSimplifiedJoinOp(parentList, maxSimplifiedIn, this, differentPersisterThanParent);
     }
 
-    private boolean differentPersisterIdThanParent(Mapper mapper)
+    boolean differentPersisterIdThanParent(Mapper mapper)
     {
         UnifiedSet<MithraObjectPortal> set = new UnifiedSet<MithraObjectPortal>();
         mapper.addDepenedentPortalsToSet(set);
@@ -1018,23 +1165,8 @@ public class DeepFetchNode implements Serializable, DeepFetchTree
 
         public void run()
         {
-            if (!bypassCache)
-            {
-                if (relatedFinder.getMithraObjectPortal().isCacheDisabled())
-                {
-                    bypassCache = true;
-                }
-                DeepFetchNode parent = DeepFetchNode.this.parent;
-                while (!bypassCache && parent != null)
-                {
-                    if (parent.relatedFinder.getMithraObjectPortal().isCacheDisabled())
-                    {
-                        bypassCache = true;
-                    }
-                    parent = parent.parent;
-                }
-            }
-            if (bypassCache || isRecursivelyPartiallyCached())
+            bypassCache = isBypassCache(bypassCache);
+            if (!isFetchedWithSharedTempTable() && (bypassCache || isRecursivelyPartiallyCached()))
             {
                 List cachedQueryList = relatedFinder.zDeepFetch(DeepFetchNode.this, bypassCache, forceImplicitJoin);
                 addToCachedQueryList(cachedQueryList);
@@ -0,0 +1,223 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.finder;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.fw.common.mithra.MithraDatabaseObject;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.IndexReference;
+import com.gs.fw.common.mithra.database.MithraCodeGeneratedDatabaseObject;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.portal.MithraAbstractObjectPortal;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Picks how each child of a deep fetch node is fetched. Only simple to-many relationships are planned; the others
+ * are left to their deep fetch strategy.
+ * <p>
+ * A relationship to a fully cached class is resolved in memory. Otherwise, the cost of a fetch is counted in parent
+ * rows the database has to process:
+ * <ul>
+ * <li>an in-clause is used while the parents fit in the in-clause limit of the database type;</li>
+ * <li>beyond that, a large in-clause is turned into a temp table for each relationship, costing the temp table
+ * overhead plus the parents;</li>
+ * <li>beyond {@link DeepRelationshipUtility#setMaxSimplifiedIn(int) the simplified in-clause limit}, the operation
+ * that found the parents is joined again, once for each level of the deep fetch above the relationship;</li>
+ * <li>a temp table of parent keys shared by the k relationships that join on the same attributes costs each of them
+ * (overhead + parents) / k, and is used when that is cheaper, unless the query cache already holds the relationship.</li>
+ * </ul>
+ * Only the shared temp table changes how a relationship is fetched; the other choices describe what its deep fetch
+ * strategy will do. The decisions are kept on the {@link com.gs.fw.common.mithra.DeepFetchTree} nodes and logged at
+ * debug level.
+ */
+public class DeepFetchPlanner implements Serializable
+{
+    private static final Logger logger = LoggerFactory.getLogger(DeepFetchPlanner.class);
+
+    public static final int DEFAULT_TEMP_TABLE_OVERHEAD = 100;
+
+    static final DeepFetchPlanner DEFAULT = new DeepFetchPlanner(DEFAULT_TEMP_TABLE_OVERHEAD);
+
+    private final int tempTableOverhead;
+
+    /**
+     * @param tempTableOverhead the cost of creating and populating a temp table, in parent rows
+     */
+    public DeepFetchPlanner(int tempTableOverhead)
+    {
+        this.tempTableOverhead = tempTableOverhead;
+    }
+
+    /**
+     * decides how to fetch each child and records the decision on it
+     * @return the children to fetch with a shared temp table of parent keys
+     */
+    List<DeepFetchNode> planChildren(DeepFetchNode parent, List<DeepFetchNode> children, List parentList, boolean bypassCache)
+    {
+        int parentCount = parentList.size();
+        int joinDepth = parent.getDepth() + 1;
+        boolean inTransaction = MithraManagerProvider.getMithraManager().isInTransaction();
+        Map<Set<Attribute>, FastList<DeepFetchNode>> tempTableCandidates = null;
+        int[] ownCosts = new int[children.size()];
+        for (int i = 0; i < children.size(); i++)
+        {
+            DeepFetchNode child = children.get(i);
+            AbstractRelatedFinder relatedFinder = child.getRelatedFinder();
+            if (!relatedFinder.isSimple() || relatedFinder.isToOne())
+            {
+                child.setDeepFetchDecision(new DeepFetchDecision(relatedFinder.getRelationshipName(), DeepFetchDecision.Choice.STRATEGY, parentCount, parentCount, 0));
+                continue;
+            }
+            MithraObjectPortal portal = relatedFinder.getMithraObjectPortal();
+            Mapper mapper = relatedFinder.zGetMapper();
+            DeepFetchDecision decision = new DeepFetchDecision(relatedFinder.getRelationshipName(), DeepFetchDecision.Choice.STRATEGY,
+                    parentCount, estimateRelatedCount(portal, mapper, parentCount), 0);
+            boolean useCache = !child.isBypassCache(bypassCache) && !portal.isCacheDisabled();
+            if (useCache && !inTransaction && mapper.isFullyCachedIgnoringLeft())
+            {
+                child.setDeepFetchDecision(decision.withChoice(DeepFetchDecision.Choice.IN_MEMORY, 0));
+                continue;
+            }
+            DatabaseType dt = portal.getFinder().getSourceAttribute() == null ? getDatabaseType(portal) : null;
+            int inClauseLimit = dt == null ? DeepRelationshipUtility.MAX_SIMPLIFIED_IN : Math.min(DeepRelationshipUtility.MAX_SIMPLIFIED_IN, dt.getMaxClauses());
+            if (parentCount <= inClauseLimit)
+            {
+                child.setDeepFetchDecision(decision.withChoice(DeepFetchDecision.Choice.IN_CLAUSE, 0));
+                continue;
+            }
+            boolean simplifiedInClause = parentCount <= DeepRelationshipUtility.MAX_SIMPLIFIED_IN;
+            ownCosts[i] = simplifiedInClause ? tempTableOverhead + parentCount : parentCount * joinDepth;
+            child.setDeepFetchDecision(decision.withChoice(simplifiedInClause ? DeepFetchDecision.Choice.IN_CLAUSE : DeepFetchDecision.Choice.IMPLICIT_JOIN, 0));
+            Set<Attribute> leftAttributes = mapper.getAllLeftAttributes();
+            if (dt != null && (!inTransaction || dt.createTempTableAllowedInTransaction()) && !leftAttributes.isEmpty()
+                    && mapper.isMappableForTempJoin(leftAttributes) && !child.differentPersisterIdThanParent(mapper))
+            {
+                if (tempTableCandidates == null)
+                {
+                    tempTableCandidates = UnifiedMap.newMap();
+                }
+                FastList<DeepFetchNode> candidates = tempTableCandidates.get(leftAttributes);
+                if (candidates == null)
+                {
+                    candidates = FastList.newList(2);
+                    tempTableCandidates.put(leftAttributes, candidates);
+                }
+                candidates.add(child);
+            }
+        }
+        FastList<DeepFetchNode> result = FastList.newList();
+        if (tempTableCandidates != null)
+        {
+            for (FastList<DeepFetchNode> candidates : tempTableCandidates.values())
+            {
+                // fewer sharers only make the temp table dearer, so a child that loses now never wins
+                removeCheaperAlone(candidates, children, ownCosts, (tempTableOverhead + parentCount) / candidates.size());
+                removeFoundInQueryCache(candidates, bypassCache);
+                int sharers = candidates.size();
+                if (sharers == 0) continue;
+                int sharedCost = (tempTableOverhead + parentCount) / sharers;
+                for (int i = 0; i < sharers; i++)
+                {
+                    DeepFetchNode child = candidates.get(i);
+                    if (sharedCost < ownCosts[children.indexOf(child)])
+                    {
+                        child.setDeepFetchDecision(child.getDeepFetchDecision().withChoice(DeepFetchDecision.Choice.SHARED_TEMP_TABLE, sharers));
+                        result.add(child);
+                    }
+                }
+            }
+        }
+        if (logger.isDebugEnabled())
+        {
+            for (int i = 0; i < children.size(); i++)
+            {
+                logger.debug("deep fetch plan for " + children.get(i).getDeepFetchDecision());
+            }
+        }
+        return result;
+    }
+
+    private static void removeCheaperAlone(FastList<DeepFetchNode> candidates, List<DeepFetchNode> children, int[] ownCosts, int sharedCost)
+    {
+        for (int i = candidates.size() - 1; i >= 0; i--)
+        {
+            if (sharedCost >= ownCosts[children.indexOf(candidates.get(i))])
+            {
+                candidates.remove(i);
+            }
+        }
+    }
+
+    /**
+     * The deep fetch query of a candidate is needed to cache its result once it's fetched with the shared temp table,
+     * so it's only created here, for the remaining candidates, and kept on the node.
+     */
+    private static void removeFoundInQueryCache(FastList<DeepFetchNode> candidates, boolean bypassCache)
+    {
+        for (int i = candidates.size() - 1; i >= 0; i--)
+        {
+            DeepFetchNode child = candidates.get(i);
+            CachedQuery deepFetchQuery = child.getRelatedFinder().zCreateDeepFetchQuery(child);
+            child.setPlannedDeepFetchQuery(deepFetchQuery);
+            MithraObjectPortal portal = child.getRelatedFinder().getMithraObjectPortal();
+            if (deepFetchQuery != null && !child.isBypassCache(bypassCache) && !portal.isCacheDisabled()
+                    && portal.getQueryCache().findByEquality(deepFetchQuery.getOperation()) != null)
+            {
+                child.setDeepFetchDecision(child.getDeepFetchDecision().withChoice(DeepFetchDecision.Choice.IN_MEMORY, 0));
+                candidates.remove(i);
+            }
+        }
+    }
+
+    private static int estimateRelatedCount(MithraObjectPortal portal, Mapper mapper, int parentCount)
+    {
+        Cache cache = portal.getCache();
+        IndexReference indexReference = cache.getIndexRef(mapper.getAnyRightAttribute());
+        if (indexReference != null && indexReference.isValid() && indexReference.indexReference != IndexReference.AS_OF_PROXY_INDEX_ID)
+        {
+            return cache.getAverageReturnSize(indexReference.indexReference, parentCount);
+        }
+        return parentCount;
+    }
+
+    private static boolean isLocal(MithraObjectPortal portal, MithraDatabaseObject databaseObject)
+    {
+        // on a remote client, the database object only deserializes and has no connection manager
+        return portal instanceof MithraAbstractObjectPortal && ((MithraAbstractObjectPortal) portal).getMithraObjectReader() == databaseObject;
+    }
+
+    private static DatabaseType getDatabaseType(MithraObjectPortal portal)
+    {
+        MithraDatabaseObject databaseObject = portal.getDatabaseObject();
+        if (databaseObject instanceof MithraCodeGeneratedDatabaseObject && isLocal(portal, databaseObject))
+        {
+            return ((MithraCodeGeneratedDatabaseObject) databaseObject).getDatabaseTypeGenericSource(null);
+        }
+        return null;
+    }
+}
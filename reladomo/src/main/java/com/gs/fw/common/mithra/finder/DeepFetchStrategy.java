@@ -18,6 +18,8 @@ package com.gs.fw.common.mithra.finder;
 
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.database.MultiResultSetFind;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
 
 import java.util.List;
@@ -44,4 +46,33 @@ public abstract class DeepFetchStrategy
     {
         return false;
     }
+
+    /**
+     * adds the find that {@link #deepFetch(DeepFetchNode, boolean, boolean)} would send to the server, so it can be
+     * sent together with the finds of the sibling nodes. Strategies that resolve in memory or need more than one find
+     * add nothing.
+     */
+    public void addToMultiResultSetFind(DeepFetchNode node, MultiResultSetFind multiResultSetFind, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        // nothing to add by default
+    }
+
+    /**
+     * @return an empty query for the related objects of all the node's parents, or null if the strategy can't express
+     * them as one operation. It's created before the related objects are fetched, so it can detect concurrent updates.
+     */
+    public CachedQuery createDeepFetchQuery(DeepFetchNode node)
+    {
+        return null;
+    }
+
+    /**
+     * caches the node's resolved list, fetched without {@link #deepFetch(DeepFetchNode, boolean, boolean)}, in the query
+     * from {@link #createDeepFetchQuery(DeepFetchNode)}
+     * @return the cached queries to keep with the node
+     */
+    public List cacheDeepFetchQuery(DeepFetchNode node, CachedQuery cachedQuery)
+    {
+        return null;
+    }
 }
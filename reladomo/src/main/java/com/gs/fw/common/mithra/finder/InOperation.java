@@ -148,6 +148,7 @@ public abstract class InOperation extends AtomicSetBasedOperation implements Ope
     public int getClauseCount(SqlQuery query)
     {
         if (this.getAttribute().isSourceAttribute()) return 0;
+        if (this.getArrayElementType(query) != null) return 1;
         return this.getSetSize();
     }
 
@@ -86,6 +86,11 @@ public class MultiEqualityOperation implements Operation, EqualityOperation
         System.arraycopy(toCopyTwo, 0, atomicOperations, toCopyOne.length, toCopyTwo.length);
     }
 
+    protected AtomicOperation[] getAtomicOperations()
+    {
+        return atomicOperations;
+    }
+
     private static AtomicOperation[] removeDuplicates(AtomicOperation[] ops)
     {
         int duplicateCount = 0;
@@ -39,6 +39,7 @@ import com.gs.fw.common.mithra.finder.sqcache.ExactMatchSmr;
 import com.gs.fw.common.mithra.finder.sqcache.NoMatchRequiresExactSmr;
 import com.gs.fw.common.mithra.finder.sqcache.ShapeMatchResult;
 import com.gs.fw.common.mithra.notification.MithraDatabaseIdentifierExtractor;
+import com.gs.fw.common.mithra.tempobject.Tuple;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
 import com.gs.fw.common.mithra.util.*;
 
@@ -646,6 +647,16 @@ public class MultiInOperation implements Operation, SqlParameterSetter
             query.appendWhereClause(")");
             query.addSqlParameterSetter(this);
         }
+        else if (this.getArrayElementTypes(query) != null)
+        {
+            String[] leftHandExpressions = new String[this.attributes.length];
+            for(int i=0;i<this.attributes.length;i++)
+            {
+                leftHandExpressions[i] = attributes[i].getFullyQualifiedLeftHandExpression(query);
+            }
+            query.appendWhereClause(query.getDatabaseType().getArrayTupleInClause(leftHandExpressions, this.getArrayElementTypes(query)));
+            query.addSqlParameterSetter(this);
+        }
         else
         {
             TupleTempContext tempContext = query.getMultiInTempContext(this);
@@ -710,6 +721,21 @@ public class MultiInOperation implements Operation, SqlParameterSetter
             tempContext.destroy();
             return tuples.size() * tupleAttributes.length;
         }
+        String[] elementTypes = this.getArrayElementTypes(query);
+        if (elementTypes != null)
+        {
+            List tuples = mithraTupleSet.getTupleList();
+            for(int k=0;k<elementTypes.length;k++)
+            {
+                Object[] values = new Object[tuples.size()];
+                for(int i=0;i<tuples.size();i++)
+                {
+                    values[i] = getTupleValue((Tuple) tuples.get(i), k, attributes[k].valueType());
+                }
+                query.getDatabaseType().setArrayParameter(pstmt, startIndex + k, elementTypes[k], values);
+            }
+            return elementTypes.length;
+        }
         //no parameters to set otherwise
         return 0;
     }
@@ -723,6 +749,32 @@ public class MultiInOperation implements Operation, SqlParameterSetter
         return mithraTupleSet.getExtractors().length;
     }
 
+    /**
+     * large tuple sets are bound as one array parameter per attribute where the database supports it, instead of
+     * being inserted into a temp table
+     * @return the array element types, or null if a temp table is used
+     */
+    private String[] getArrayElementTypes(SqlQuery query)
+    {
+        if (hasAsOfAttributes()) return null;
+        String[] elementTypes = new String[this.attributes.length];
+        for(int i=0;i<this.attributes.length;i++)
+        {
+            elementTypes[i] = query.getDatabaseType().getSqlArrayElementType(this.attributes[i].valueType());
+            if (elementTypes[i] == null) return null;
+        }
+        return elementTypes;
+    }
+
+    private static Object getTupleValue(Tuple tuple, int index, Class valueType)
+    {
+        if (tuple.isAttributeNull(index)) return null;
+        if (valueType == Integer.class) return Integer.valueOf(tuple.getAttributeAsInt(index));
+        if (valueType == Long.class) return Long.valueOf(tuple.getAttributeAsLong(index));
+        if (valueType == String.class) return tuple.getAttributeAsString(index);
+        throw new RuntimeException("unexpected array parameter type "+valueType.getName());
+    }
+
     private boolean isSmallAndHasNoAsOfAttributes()
     {
         return mithraTupleSet.size() * mithraTupleSet.getExtractors().length < 10 && !hasAsOfAttributes();
@@ -124,6 +124,7 @@ public abstract class NotInOperation extends AtomicSetBasedOperation
 
     public int getClauseCount(SqlQuery query)
     {
+        if (this.getArrayElementType(query) != null) return 1;
         return this.getSetSize();
     }
 
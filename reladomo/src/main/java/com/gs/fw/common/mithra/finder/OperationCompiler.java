@@ -0,0 +1,274 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.finder;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.extractor.asm.ExtractorWriter;
+import com.gs.fw.common.mithra.extractor.asm.OperationMatcherWriter;
+import com.gs.fw.common.mithra.finder.doubleop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.util.InternalList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles trees of and/or/atomic operations into a single generated matcher class per operation shape.
+ * Only atomic operations on int, long and double attributes whose extractors were generated by
+ * {@link ExtractorWriter} are compiled; any other operation in the tree makes the whole tree fall back
+ * to the regular (interpreted) evaluation.
+ * The compiled matcher applies an operation to a large list, and replaces the full scan of a cache when no part of
+ * the operation can use an index. Matching a single object with {@link Operation#matches} stays interpreted:
+ * binding a matcher costs more than evaluating the tree once.
+ * Can be turned off with -Dmithra.compileOperations=false
+ */
+public class OperationCompiler
+{
+    private static final Logger logger = LoggerFactory.getLogger(OperationCompiler.class.getName());
+
+    public static final int COMPILE_THRESHOLD = 500;
+    private static final int MAX_COMPILED_SHAPES = 2000;
+    private static final boolean ENABLED = !"false".equals(System.getProperty("mithra.compileOperations"));
+    private static final Object NOT_COMPILABLE = new Object();
+
+    private static final Map<Class, int[]> LEAF_TYPES = new HashMap<Class, int[]>();
+
+    static
+    {
+        addLeafType(IntegerEqOperation.class, CompiledOperationShape.INT, CompiledOperationShape.EQ);
+        addLeafType(IntegerNotEqOperation.class, CompiledOperationShape.INT, CompiledOperationShape.NOT_EQ);
+        addLeafType(IntegerGreaterThanOperation.class, CompiledOperationShape.INT, CompiledOperationShape.GREATER_THAN);
+        addLeafType(IntegerGreaterThanEqualsOperation.class, CompiledOperationShape.INT, CompiledOperationShape.GREATER_THAN_EQUALS);
+        addLeafType(IntegerLessThanOperation.class, CompiledOperationShape.INT, CompiledOperationShape.LESS_THAN);
+        addLeafType(IntegerLessThanEqualsOperation.class, CompiledOperationShape.INT, CompiledOperationShape.LESS_THAN_EQUALS);
+
+        addLeafType(LongEqOperation.class, CompiledOperationShape.LONG, CompiledOperationShape.EQ);
+        addLeafType(LongNotEqOperation.class, CompiledOperationShape.LONG, CompiledOperationShape.NOT_EQ);
+        addLeafType(LongGreaterThanOperation.class, CompiledOperationShape.LONG, CompiledOperationShape.GREATER_THAN);
+        addLeafType(LongGreaterThanEqualsOperation.class, CompiledOperationShape.LONG, CompiledOperationShape.GREATER_THAN_EQUALS);
+        addLeafType(LongLessThanOperation.class, CompiledOperationShape.LONG, CompiledOperationShape.LESS_THAN);
+        addLeafType(LongLessThanEqualsOperation.class, CompiledOperationShape.LONG, CompiledOperationShape.LESS_THAN_EQUALS);
+
+        addLeafType(DoubleEqOperation.class, CompiledOperationShape.DOUBLE, CompiledOperationShape.EQ);
+        addLeafType(DoubleNotEqOperation.class, CompiledOperationShape.DOUBLE, CompiledOperationShape.NOT_EQ);
+        addLeafType(DoubleGreaterThanOperation.class, CompiledOperationShape.DOUBLE, CompiledOperationShape.GREATER_THAN);
+        addLeafType(DoubleGreaterThanEqualsOperation.class, CompiledOperationShape.DOUBLE, CompiledOperationShape.GREATER_THAN_EQUALS);
+        addLeafType(DoubleLessThanOperation.class, CompiledOperationShape.DOUBLE, CompiledOperationShape.LESS_THAN);
+        addLeafType(DoubleLessThanEqualsOperation.class, CompiledOperationShape.DOUBLE, CompiledOperationShape.LESS_THAN_EQUALS);
+    }
+
+    private static final OperationCompiler instance = new OperationCompiler();
+
+    private final ConcurrentHashMap<CompiledOperationShape, Object> compiledShapes = new ConcurrentHashMap<CompiledOperationShape, Object>();
+    private final OperationMatcherWriter writer = new OperationMatcherWriter();
+
+    private static void addLeafType(Class operationClass, int valueType, int comparison)
+    {
+        LEAF_TYPES.put(operationClass, new int[] { valueType, comparison });
+    }
+
+    public static OperationCompiler getInstance()
+    {
+        return instance;
+    }
+
+    /**
+     * @return a matcher for the operation, or null if the list is too small to benefit or the operation can't be compiled
+     */
+    public CompiledOperationMatcher compile(Operation op, int listSize)
+    {
+        if (!ENABLED || listSize < COMPILE_THRESHOLD)
+        {
+            return null;
+        }
+        FastList<Operation> leaves = FastList.newList();
+        CompiledOperationShape shape = createShape(op, leaves);
+        if (shape == null)
+        {
+            return null;
+        }
+        return compile(shape, leaves);
+    }
+
+    /**
+     * @return a matcher for the conjunction of the operations, or null if the list is too small to benefit
+     * or any of the operations can't be compiled
+     */
+    public CompiledOperationMatcher compileAnd(Operation[] ops, int listSize)
+    {
+        if (!ENABLED || listSize < COMPILE_THRESHOLD || ops.length < 2)
+        {
+            return null;
+        }
+        FastList<Operation> leaves = FastList.newList();
+        CompiledOperationShape shape = createNode(CompiledOperationShape.AND, 0, ops, leaves);
+        if (shape == null)
+        {
+            return null;
+        }
+        return compile(shape, leaves);
+    }
+
+    /**
+     * @return a matcher to scan the whole cache with, or null if the cache is too small to benefit, the operation
+     * can't be compiled, or any part of it can be resolved through an index instead
+     */
+    public CompiledOperationMatcher compileForCacheScan(Operation op, int cacheSize)
+    {
+        if (!ENABLED || cacheSize < COMPILE_THRESHOLD || op.getResultObjectPortal().getClassMetaData().isDated() || usesIndex(op))
+        {
+            return null;
+        }
+        FastList<Operation> leaves = FastList.newList();
+        CompiledOperationShape shape = createShape(op, leaves);
+        if (shape == null)
+        {
+            return null;
+        }
+        return compile(shape, leaves);
+    }
+
+    private boolean usesIndex(Operation op)
+    {
+        if (op instanceof AndOperation)
+        {
+            InternalList operands = ((AndOperation) op).getOperands();
+            for (int i = 0; i < operands.size(); i++)
+            {
+                if (usesIndex((Operation) operands.get(i))) return true;
+            }
+            return false;
+        }
+        if (op instanceof OrOperation)
+        {
+            Operation[] operations = ((OrOperation) op).getOperations();
+            for (Operation child : operations)
+            {
+                if (usesIndex(child)) return true;
+            }
+            return false;
+        }
+        // a multi equality may be resolved by a multi attribute index
+        return op instanceof MultiEqualityOperation || (op instanceof AbstractAtomicOperation && ((AbstractAtomicOperation) op).isIndexed());
+    }
+
+    public int getCompiledShapeCount()
+    {
+        return compiledShapes.size();
+    }
+
+    private CompiledOperationMatcher compile(CompiledOperationShape shape, FastList<Operation> leaves)
+    {
+        Object compiled = compiledShapes.get(shape);
+        if (compiled == null)
+        {
+            if (compiledShapes.size() >= MAX_COMPILED_SHAPES)
+            {
+                return null;
+            }
+            compiled = createMatcherClass(shape);
+            Object existing = compiledShapes.putIfAbsent(shape, compiled);
+            if (existing != null)
+            {
+                compiled = existing;
+            }
+        }
+        if (compiled == NOT_COMPILABLE)
+        {
+            return null;
+        }
+        try
+        {
+            CompiledOperationMatcher matcher = (CompiledOperationMatcher) ((Class) compiled).newInstance();
+            Operation[] leafArray = new Operation[leaves.size()];
+            leaves.toArray(leafArray);
+            matcher.zBind(leafArray);
+            return matcher;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("could not instantiate compiled matcher "+compiled, e);
+        }
+    }
+
+    private Object createMatcherClass(CompiledOperationShape shape)
+    {
+        try
+        {
+            return writer.createClass(shape);
+        }
+        catch (Throwable t)
+        {
+            logger.warn("could not compile operation shape, will use the interpreted operation", t);
+            return NOT_COMPILABLE;
+        }
+    }
+
+    private CompiledOperationShape createShape(Operation op, List<Operation> leaves)
+    {
+        if (op instanceof AndOperation)
+        {
+            InternalList operands = ((AndOperation) op).getOperands();
+            Operation[] ops = new Operation[operands.size()];
+            operands.toArray(ops);
+            return createNode(CompiledOperationShape.AND, op.zShapeHash(), ops, leaves);
+        }
+        if (op instanceof OrOperation)
+        {
+            return createNode(CompiledOperationShape.OR, op.zShapeHash(), ((OrOperation) op).getOperations(), leaves);
+        }
+        if (op instanceof MultiEqualityOperation)
+        {
+            return createNode(CompiledOperationShape.AND, op.zShapeHash(), ((MultiEqualityOperation) op).getAtomicOperations(), leaves);
+        }
+        int[] leafType = LEAF_TYPES.get(op.getClass());
+        if (leafType == null)
+        {
+            return null;
+        }
+        Attribute attribute = ((AbstractAtomicOperation) op).getAttribute();
+        if (!ExtractorWriter.isGeneratedClass(attribute.getClass()))
+        {
+            return null;
+        }
+        CompiledOperationShape leaf = CompiledOperationShape.createLeaf(op.zShapeHash(), op.getClass(), attribute.getClass(),
+                leafType[0], leafType[1], leaves.size());
+        leaves.add(op);
+        return leaf;
+    }
+
+    private CompiledOperationShape createNode(int type, int shapeHash, Operation[] ops, List<Operation> leaves)
+    {
+        FastList<CompiledOperationShape> children = FastList.newList(ops.length);
+        for (Operation child : ops)
+        {
+            CompiledOperationShape childShape = createShape(child, leaves);
+            if (childShape == null)
+            {
+                return null;
+            }
+            children.add(childShape);
+        }
+        return CompiledOperationShape.createNode(shapeHash, type, children);
+    }
+}
@@ -25,6 +25,7 @@ import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.AsOfAttribute;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.cache.Cache;
 import com.gs.fw.common.mithra.cache.ConcurrentFullUniqueIndex;
 import com.gs.fw.common.mithra.cache.ExtractorBasedHashStrategy;
 import com.gs.fw.common.mithra.cache.FullUniqueIndex;
@@ -229,6 +230,12 @@ public class OrOperation implements Operation
 
     public List applyOperationToFullCache()
     {
+        Cache cache = this.getResultObjectPortal().getCache();
+        CompiledOperationMatcher compiled = OperationCompiler.getInstance().compileForCacheScan(this, cache.size());
+        if (compiled != null)
+        {
+            return compiled.applyToFullCache(cache);
+        }
         FullUniqueIndex result = new FullUniqueIndex(ExtractorBasedHashStrategy.IDENTITY_HASH_STRATEGY);
         for (int i = 0; i < operations.length; i++)
         {
@@ -260,6 +267,11 @@ public class OrOperation implements Operation
 
     public List applyOperation(List list)
     {
+        CompiledOperationMatcher compiled = OperationCompiler.getInstance().compile(this, list.size());
+        if (compiled != null)
+        {
+            return compiled.applyOperation(list);
+        }
         if (MithraCpuBoundThreadPool.isParallelizable(list.size()))
         {
             return applyToLargeResultsInParallel(list);
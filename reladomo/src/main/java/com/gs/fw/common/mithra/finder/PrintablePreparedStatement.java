@@ -467,9 +467,39 @@ public class PrintablePreparedStatement implements PreparedStatement
 
     public void setObject(int parameterIndex, Object x) throws SQLException
     {
+        if (x instanceof Object[])
+        {
+            this.setPrintableArray(parameterIndex, (Object[]) x);
+            return;
+        }
         throw new RuntimeException("not implemented");
     }
 
+    /**
+     * prints the values of an array parameter, as bound by DatabaseType.setArrayParameter
+     */
+    public void setPrintableArray(int parameterIndex, Object[] values)
+    {
+        if (!handleNull(parameterIndex, values))
+        {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0; i < values.length; i++)
+            {
+                if (i > 0) builder.append(',');
+                Object value = values[i];
+                if (value instanceof String)
+                {
+                    builder.append('\'').append(value).append('\'');
+                }
+                else
+                {
+                    builder.append(value);
+                }
+            }
+            this.setPrintableParameter(parameterIndex, builder.append(')').toString());
+        }
+    }
+
     public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException
     {
         throw new RuntimeException("not implemented");
@@ -20,6 +20,7 @@ import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.database.MultiResultSetFind;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.querycache.QueryCache;
@@ -68,6 +69,47 @@ public class SimpleToManyDeepFetchStrategy extends SingleLinkDeepFetchStrategy
         return deepFetchToManyFromServer(opToListMap, bypassCache, immediateParentList, complexList, node);
     }
 
+    @Override
+    public void addToMultiResultSetFind(DeepFetchNode node, MultiResultSetFind multiResultSetFind, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        List immediateParentList = getImmediateParentList(node);
+        if (immediateParentList.size() == 0) return;
+        Operation complexOp = ((MithraList) this.mapOpToList(node)).getOperation();
+        MithraObjectPortal portal = complexOp.getResultObjectPortal();
+        if (!bypassCache && !portal.isCacheDisabled() && portal.getQueryCache().findByEquality(complexOp) != null)
+        {
+            return;
+        }
+        Operation simplifiedJoinOp = node.getSimplifiedJoinOp(this.mapper, immediateParentList);
+        if (simplifiedJoinOp != null)
+        {
+            multiResultSetFind.add(simplifiedJoinOp, bypassCache, false);
+        }
+        else
+        {
+            multiResultSetFind.add(complexOp, bypassCache, forceImplicitJoin);
+        }
+    }
+
+    @Override
+    public CachedQuery createDeepFetchQuery(DeepFetchNode node)
+    {
+        return new CachedQuery(((MithraList) this.mapOpToList(node)).getOperation(), this.orderBy);
+    }
+
+    @Override
+    public List cacheDeepFetchQuery(DeepFetchNode node, CachedQuery cachedQuery)
+    {
+        FastList resolvedList = new FastList(node.getResolvedList());
+        if (this.orderBy != null)
+        {
+            resolvedList.sortThis(this.orderBy);
+        }
+        cachedQuery.setResult(resolvedList);
+        cacheComplexQuery(cachedQuery, true);
+        return FastList.newListWith(cachedQuery);
+    }
+
     private List cacheResultsForToMany(HashMap<Operation, List> opToListMap, List immediateParentList, List list, DeepFetchNode node)
     {
         int roughSize = (list.size() / immediateParentList.size()) + 1;
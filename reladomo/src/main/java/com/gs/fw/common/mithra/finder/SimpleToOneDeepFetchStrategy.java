@@ -25,6 +25,7 @@ import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.extractor.IdentityExtractor;
 import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.database.MultiResultSetFind;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
 
 import java.util.*;
@@ -241,6 +242,19 @@ public class SimpleToOneDeepFetchStrategy extends SingleLinkDeepFetchStrategy
         this.mapper.clearLeftOverFromObjectCache(opToParentMap.values(), null, null);
     }
 
+    @Override
+    public void addToMultiResultSetFind(DeepFetchNode node, MultiResultSetFind multiResultSetFind, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        if (!bypassCache && !this.mapper.getFromPortal().isCacheDisabled()) return;
+        List immediateParentList = getImmediateParentList(node);
+        if (immediateParentList.size() == 0) return;
+        Operation simplifiedJoinOp = node.getSimplifiedJoinOp(this.mapper, immediateParentList);
+        if (simplifiedJoinOp != null)
+        {
+            multiResultSetFind.add(simplifiedJoinOp, bypassCache, false);
+        }
+    }
+
     protected List deepFetchToOneFromServer(boolean bypassCache, List immediateParentList, MithraList complexList, DeepFetchNode node, boolean forceImplicitJoin)
     {
         if (bypassCache || complexList.getOperation().getResultObjectPortal().isCacheDisabled())
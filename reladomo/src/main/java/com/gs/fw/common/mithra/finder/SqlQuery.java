@@ -29,6 +29,7 @@ import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.notification.MithraDatabaseIdentifierExtractor;
 import com.gs.fw.common.mithra.tempobject.TupleTempContext;
 import com.gs.fw.common.mithra.util.InternalList;
+import com.gs.fw.common.mithra.util.ListFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -144,6 +145,56 @@ public class SqlQuery implements MapperStack
     }
 
     public int prepareQueryForSource(int sourceNumber, DatabaseType dt, TimeZone timeZone, boolean isParallel)
+    {
+        resetForSource(sourceNumber, dt, timeZone, isParallel);
+        prepareQuery();
+        return this.getNumberOfQueries();
+    }
+
+    /**
+     * prepares the query to set the parameters of a statement generated earlier for an operation of the same shape.
+     * No sql is generated; the where clause only holds the given parameter setters.
+     * @return the number of queries, which is always 1
+     */
+    public int prepareQueryFromTemplate(int sourceNumber, DatabaseType dt, TimeZone timeZone, List<SqlParameterSetter> parameterSetters)
+    {
+        resetForSource(sourceNumber, dt, timeZone, false);
+        for (int i = 0; i < parameterSetters.size(); i++)
+        {
+            this.whereClause.addSqlParameterSetter(parameterSetters.get(i));
+        }
+        this.numberOfQueries = 1;
+        return this.numberOfQueries;
+    }
+
+    /**
+     * @return the parameter setters of the prepared query, in binding order, or null if the statement can't be
+     * reused for another operation of the same shape (joins, temp tables, unions or split queries)
+     */
+    public List<SqlParameterSetter> getReusableParameterSetters()
+    {
+        if (this.numberOfQueries != 1 || this.numberOfUnions != 1 || this.largeInClause != null
+                || (this.tupleTempContextList != null && !this.tupleTempContextList.isEmpty())
+                || this.whereClause.hasTempTableJoins() || getIdExtractor().getRawMapperStackToJoinClauseMap() != null)
+        {
+            return null;
+        }
+        List<SqlParameterSetter> parameterSetters = this.whereClause.getSqlParameterSetters();
+        return parameterSetters == null ? ListFactory.EMPTY_LIST : parameterSetters;
+    }
+
+    /**
+     * @return true if the prepared query is one statement that needs no temp tables, so it can be sent to the database
+     * together with other statements
+     */
+    public boolean isSingleStatementWithoutTempTables()
+    {
+        return this.numberOfQueries == 1 && this.largeInClause == null
+                && (this.tupleTempContextList == null || this.tupleTempContextList.isEmpty())
+                && !this.whereClause.hasTempTableJoins();
+    }
+
+    private void resetForSource(int sourceNumber, DatabaseType dt, TimeZone timeZone, boolean isParallel)
     {
         this.currentSourceNumber = sourceNumber;
         this.timeZone = timeZone;
@@ -173,8 +224,6 @@ public class SqlQuery implements MapperStack
         {
             setOperationWhereClausePositionList.clear();
         }
-        prepareQuery();
-        return this.getNumberOfQueries();
     }
 
     private String safeToString()
@@ -561,13 +610,22 @@ public class SqlQuery implements MapperStack
 
     public void setStatementParameters(PreparedStatement ps) throws SQLException
     {
-        int count = 1;
+        setStatementParameters(ps, 1);
+    }
+
+    /**
+     * sets the parameters of the current query starting at the given index
+     * @return the index after the last parameter set
+     */
+    public int setStatementParameters(PreparedStatement ps, int count) throws SQLException
+    {
         for (int u = 0; u < this.numberOfUnions; u++)
         {
             this.currentUnionNumber = u + currentQueryNumber * getMaxUnionCount();
             count = setJoinParameters(ps, count);
             count = this.whereClause.setSqlParameters(this, ps, count, this);
         }
+        return count;
     }
 
     protected int setJoinParameters(PreparedStatement ps, int count) throws SQLException
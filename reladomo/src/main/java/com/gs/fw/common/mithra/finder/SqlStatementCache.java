@@ -0,0 +1,303 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.finder;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.util.InternalList;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the text of generated select statements by the shape of their operation. A query that only differs from
+ * an earlier one in its parameter values skips sql generation, and the jdbc driver sees a stable statement text.
+ * <p>
+ * Only single table operations are cached: an atomic operation, or an and of atomic operations, using equality,
+ * range, null checks and in-clauses. The parameters of a cached statement are set by the atomic operations of the
+ * new operation, in the order recorded when the statement was generated.
+ * <p>
+ * When the cache is full, the least recently used statement is evicted. Use is tracked with an unsynchronized clock,
+ * so the order is approximate under concurrent access.
+ */
+public class SqlStatementCache
+{
+    public static final int MAX_STATEMENTS = 500;
+
+    private final ConcurrentHashMap<Key, Template> templates = new ConcurrentHashMap<Key, Template>();
+    private long clock;
+
+    /**
+     * @return the atomic operations in the order the sql is generated, or null if statements for the operation can't
+     * be cached
+     */
+    public static AtomicOperation[] getCacheableOperations(AnalyzedOperation analyzedOperation)
+    {
+        if (analyzedOperation.hasAsOfAttributes()) return null;
+        Operation op = analyzedOperation.getAnalyzedOperation();
+        if (op.getResultObjectPortal().getFinder().getSourceAttribute() != null) return null;
+        FastList<AtomicOperation> operations = FastList.newList(4);
+        if (!addCacheableOperations(op, operations)) return null;
+        return operations.toArray(new AtomicOperation[operations.size()]);
+    }
+
+    private static boolean addCacheableOperations(Operation op, List<AtomicOperation> operations)
+    {
+        if (op instanceof AndOperation)
+        {
+            AndOperation andOperation = (AndOperation) op;
+            andOperation.combineOperands();
+            InternalList operands = andOperation.getOperands();
+            for (int i = 0; i < operands.size(); i++)
+            {
+                if (!addCacheableOperations((Operation) operands.get(i), operations)) return false;
+            }
+            return true;
+        }
+        if (op instanceof MultiEqualityOperation)
+        {
+            AtomicOperation[] atomicOperations = ((MultiEqualityOperation) op).getAtomicOperations();
+            for (int i = 0; i < atomicOperations.length; i++)
+            {
+                if (!addCacheableOperations(atomicOperations[i], operations)) return false;
+            }
+            return true;
+        }
+        if (op instanceof AsOfOperation) return false;
+        if (op instanceof AtomicEqualityOperation || op instanceof AtomicNotEqualityOperation || op instanceof RangeOperation
+                || op instanceof AtomicSetBasedOperation || op instanceof IsNotNullOperation)
+        {
+            operations.add((AtomicOperation) op);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return a bit for the portal and each of its super class portals, set if reads of that table take a lock
+     * in the current transaction, or -1 if the hierarchy is too deep to fit the mask
+     */
+    public static int getLockOnReadMask(MithraObjectPortal portal)
+    {
+        int mask = portal.getTxParticipationMode().mustLockOnRead() ? 1 : 0;
+        MithraObjectPortal[] superClassPortals = portal.getSuperClassPortals();
+        if (superClassPortals != null)
+        {
+            if (superClassPortals.length > 30) return -1;
+            for (int i = 0; i < superClassPortals.length; i++)
+            {
+                if (superClassPortals[i].getTxParticipationMode().mustLockOnRead())
+                {
+                    mask |= 2 << i;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @param lockOnReadMask the mask from {@link #getLockOnReadMask(MithraObjectPortal)}; the lock clause of the
+     * statement depends on the transaction participation mode of each table
+     */
+    public static Key createKey(AtomicOperation[] operations, OrderBy orderBy, int rowCount, boolean forceImplicitJoin,
+            boolean inTransaction, int lockOnReadMask, DatabaseType databaseType, String fullyQualifiedTableName)
+    {
+        return new Key(operations, orderBy, rowCount, forceImplicitJoin, inTransaction, lockOnReadMask, databaseType, fullyQualifiedTableName);
+    }
+
+    public Template getTemplate(Key key)
+    {
+        Template template = this.templates.get(key);
+        if (template != null)
+        {
+            template.lastUsed = ++this.clock;
+        }
+        return template;
+    }
+
+    /**
+     * caches the statement generated for the query, if the query's parameters are all set by the given operations
+     */
+    public void cacheStatement(Key key, SqlQuery query, String statement, AtomicOperation[] operations)
+    {
+        List<SqlParameterSetter> parameterSetters = query.getReusableParameterSetters();
+        if (parameterSetters == null) return;
+        int[] parameterPlan = new int[parameterSetters.size()];
+        for (int i = 0; i < parameterPlan.length; i++)
+        {
+            parameterPlan[i] = indexOf(operations, parameterSetters.get(i));
+            if (parameterPlan[i] < 0) return;
+        }
+        if (this.templates.size() >= MAX_STATEMENTS)
+        {
+            this.evictLeastRecentlyUsed();
+        }
+        Template template = new Template(statement, parameterPlan);
+        template.lastUsed = ++this.clock;
+        this.templates.putIfAbsent(key, template);
+    }
+
+    private void evictLeastRecentlyUsed()
+    {
+        Key oldestKey = null;
+        long oldest = Long.MAX_VALUE;
+        for (Iterator<Map.Entry<Key, Template>> it = this.templates.entrySet().iterator(); it.hasNext(); )
+        {
+            Map.Entry<Key, Template> entry = it.next();
+            if (entry.getValue().lastUsed < oldest)
+            {
+                oldest = entry.getValue().lastUsed;
+                oldestKey = entry.getKey();
+            }
+        }
+        if (oldestKey != null)
+        {
+            this.templates.remove(oldestKey);
+        }
+    }
+
+    private static int indexOf(AtomicOperation[] operations, SqlParameterSetter parameterSetter)
+    {
+        for (int i = 0; i < operations.length; i++)
+        {
+            if (operations[i] == parameterSetter) return i;
+        }
+        return -1;
+    }
+
+    public int size()
+    {
+        return this.templates.size();
+    }
+
+    public void clear()
+    {
+        this.templates.clear();
+    }
+
+    public static class Template
+    {
+        private final String statement;
+        private final int[] parameterPlan;
+        private long lastUsed;
+
+        private Template(String statement, int[] parameterPlan)
+        {
+            this.statement = statement;
+            this.parameterPlan = parameterPlan;
+        }
+
+        public String getStatement()
+        {
+            return statement;
+        }
+
+        public List<SqlParameterSetter> getParameterSetters(AtomicOperation[] operations)
+        {
+            FastList<SqlParameterSetter> parameterSetters = FastList.newList(this.parameterPlan.length);
+            for (int i = 0; i < this.parameterPlan.length; i++)
+            {
+                parameterSetters.add((SqlParameterSetter) operations[this.parameterPlan[i]]);
+            }
+            return parameterSetters;
+        }
+    }
+
+    public static class Key
+    {
+        private final Class[] operationClasses;
+        private final Attribute[] attributes;
+        private final int[] setSizes;
+        private final OrderBy orderBy;
+        private final int rowCount;
+        private final boolean forceImplicitJoin;
+        private final boolean inTransaction;
+        private final int lockOnReadMask;
+        private final DatabaseType databaseType;
+        private final String fullyQualifiedTableName;
+        private final int hashCode;
+
+        private Key(AtomicOperation[] operations, OrderBy orderBy, int rowCount, boolean forceImplicitJoin,
+                boolean inTransaction, int lockOnReadMask, DatabaseType databaseType, String fullyQualifiedTableName)
+        {
+            this.operationClasses = new Class[operations.length];
+            this.attributes = new Attribute[operations.length];
+            this.setSizes = new int[operations.length];
+            int hash = rowCount;
+            for (int i = 0; i < operations.length; i++)
+            {
+                AtomicOperation op = operations[i];
+                this.operationClasses[i] = op.getClass();
+                this.attributes[i] = op.getAttribute();
+                if (op instanceof AtomicSetBasedOperation)
+                {
+                    this.setSizes[i] = ((AtomicSetBasedOperation) op).getStatementSetSize(databaseType);
+                }
+                hash = 31 * hash + op.zShapeHash() + this.setSizes[i];
+            }
+            this.orderBy = orderBy;
+            this.rowCount = rowCount;
+            this.forceImplicitJoin = forceImplicitJoin;
+            this.inTransaction = inTransaction;
+            this.lockOnReadMask = lockOnReadMask;
+            this.databaseType = databaseType;
+            this.fullyQualifiedTableName = fullyQualifiedTableName;
+            if (orderBy != null)
+            {
+                hash = 31 * hash + orderBy.hashCode();
+            }
+            this.hashCode = hash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            if (this.hashCode != other.hashCode || this.rowCount != other.rowCount || this.forceImplicitJoin != other.forceImplicitJoin
+                    || this.inTransaction != other.inTransaction || this.lockOnReadMask != other.lockOnReadMask
+                    || this.databaseType != other.databaseType
+                    || this.operationClasses.length != other.operationClasses.length
+                    || !this.fullyQualifiedTableName.equals(other.fullyQualifiedTableName))
+            {
+                return false;
+            }
+            for (int i = 0; i < this.operationClasses.length; i++)
+            {
+                if (this.operationClasses[i] != other.operationClasses[i] || this.setSizes[i] != other.setSizes[i]
+                        || !this.attributes[i].equals(other.attributes[i]))
+                {
+                    return false;
+                }
+            }
+            return this.orderBy == null ? other.orderBy == null : this.orderBy.equals(other.orderBy);
+        }
+    }
+}
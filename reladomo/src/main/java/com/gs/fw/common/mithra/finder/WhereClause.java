@@ -321,6 +321,16 @@ public class WhereClause
         this.sqlParameterSetters.add(sqlParameterSetter);
     }
 
+    public List<SqlParameterSetter> getSqlParameterSetters()
+    {
+        return sqlParameterSetters;
+    }
+
+    public boolean hasTempTableJoins()
+    {
+        return tempTableJoins != null && !tempTableJoins.isEmpty();
+    }
+
     public Object getOwner()
     {
         return owner;
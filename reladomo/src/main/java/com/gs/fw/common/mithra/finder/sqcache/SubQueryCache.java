@@ -16,6 +16,10 @@
 
 package com.gs.fw.common.mithra.finder.sqcache;
 
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.finder.All;
 import com.gs.fw.common.mithra.finder.AnalyzedOperation;
 import com.gs.fw.common.mithra.finder.Operation;
@@ -25,34 +29,183 @@ import com.gs.fw.common.mithra.querycache.QueryCache;
 
 import java.lang.ref.WeakReference;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Keeps recently cached queries as candidates for resolving narrower queries in memory.
+ * A cached query can only be a superset of a query that constrains all of its attributes, so entries are bucketed by
+ * one of their attributes, and a lookup only checks the buckets of the attributes it constrains. It resolves from the
+ * smallest matching superset first.
+ * When full, the entry with the lowest (result size * hits) score is evicted.
+ * Sizes can be set with -Dmithra.subQueryCache.maxEntries and -Dmithra.subQueryCache.maxResultSize
+ */
 public class SubQueryCache
 {
-    private static final int MAX_REFS = 8;
-    private static final int BITS_MASK = MAX_REFS - 1;
-    private static final int MAX_SUBQUERY_SIZE = 30000; // see TestPerformance
-    //todo: use Unsafe to write these as volatile
-    private WeakReference<CachedQuery>[] hashTable = new WeakReference[MAX_REFS];
-    private WeakReference<CachedQuery> allOperation;
+    private static final int DEFAULT_MAX_ENTRIES = Integer.parseInt(System.getProperty("mithra.subQueryCache.maxEntries", "64"));
+    private static final int DEFAULT_MAX_SUBQUERY_SIZE = Integer.parseInt(System.getProperty("mithra.subQueryCache.maxResultSize", "30000")); // see TestPerformance
+
+    private final int maxEntries;
+    private final int maxSubQuerySize;
+    private final ConcurrentHashMap<Attribute, Entry[]> entriesByAttribute = new ConcurrentHashMap<Attribute, Entry[]>();
+    private final AtomicInteger entryCount = new AtomicInteger();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile WeakReference<CachedQuery> allOperation;
+    private long hitsAtLastAging;
+
+    public SubQueryCache()
+    {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_SUBQUERY_SIZE);
+    }
+
+    public SubQueryCache(int maxEntries, int maxSubQuerySize)
+    {
+        this.maxEntries = maxEntries;
+        this.maxSubQuerySize = maxSubQuerySize;
+    }
 
     public void cacheQuery(CachedQuery query)
     {
-        if (query.getResult().size() > MAX_SUBQUERY_SIZE)
+        int size = query.getResult().size();
+        if (size > maxSubQuerySize)
         {
             return;
         }
-        if (query.getOperation() instanceof All)
+        Operation operation = query.getOperation();
+        if (operation instanceof All)
         {
             allOperation = new WeakReference<CachedQuery>(query);
         }
-        else if (query.getOperation().zIsShapeCachable() && !query.isSubQuery())
+        else if (operation.zIsShapeCachable() && !query.isSubQuery())
+        {
+            Attribute key = getBucketAttribute(operation);
+            if (key != null)
+            {
+                addEntry(key, query, size);
+            }
+        }
+    }
+
+    /**
+     * @return the attribute with the lowest hash code, so the same operation always lands in the same bucket. As of
+     * attributes are only used when there is nothing else, as most operations on a dated class constrain them.
+     */
+    private static Attribute getBucketAttribute(Operation operation)
+    {
+        UnifiedSet<Attribute> attributes = new UnifiedSet<Attribute>(4);
+        operation.addDepenedentAttributesToSet(attributes);
+        Attribute result = null;
+        for(Attribute a: attributes)
+        {
+            if (result == null || isBetterBucket(a, result))
+            {
+                result = a;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isBetterBucket(Attribute candidate, Attribute current)
+    {
+        boolean candidateAsOf = candidate instanceof AsOfAttribute;
+        if (candidateAsOf != current instanceof AsOfAttribute)
+        {
+            return !candidateAsOf;
+        }
+        return candidate.hashCode() < current.hashCode();
+    }
+
+    private synchronized void addEntry(Attribute key, CachedQuery query, int size)
+    {
+        Entry[] existing = entriesByAttribute.get(key);
+        FastList<Entry> entries = FastList.newList(existing == null ? 1 : existing.length + 1);
+        if (existing != null)
+        {
+            for(Entry e: existing)
+            {
+                CachedQuery cached = e.get();
+                if (cached != null && !cached.getOperation().equals(query.getOperation()))
+                {
+                    entries.add(e);
+                }
+            }
+            entryCount.addAndGet(entries.size() - existing.length);
+        }
+        entries.add(new Entry(query, size));
+        entriesByAttribute.put(key, entries.toArray(new Entry[entries.size()]));
+        if (entryCount.incrementAndGet() > maxEntries)
+        {
+            evict();
+        }
+        if (hits.get() - hitsAtLastAging > maxEntries * 8L)
+        {
+            ageHits();
+        }
+    }
+
+    private void ageHits()
+    {
+        // halving the hit counts lets formerly popular queries be evicted eventually
+        hitsAtLastAging = hits.get();
+        for(Entry[] entries: entriesByAttribute.values())
+        {
+            for(Entry e: entries)
+            {
+                e.halveHits();
+            }
+        }
+    }
+
+    private void evict()
+    {
+        Attribute victimKey = null;
+        Entry victim = null;
+        long victimScore = Long.MAX_VALUE;
+        for(Iterator<Attribute> it = entriesByAttribute.keySet().iterator(); it.hasNext(); )
+        {
+            Attribute key = it.next();
+            Entry[] entries = entriesByAttribute.get(key);
+            for(Entry e: entries)
+            {
+                long score = e.isLive() ? e.getScore() : -1;
+                if (score < victimScore)
+                {
+                    victimScore = score;
+                    victim = e;
+                    victimKey = key;
+                }
+            }
+        }
+        if (victim != null)
         {
-            int index = query.getOperation().zShapeHash() & BITS_MASK;
-            hashTable[index] = new WeakReference<CachedQuery>(query);
+            removeEntry(victimKey, victim);
         }
     }
 
+    private void removeEntry(Attribute key, Entry toRemove)
+    {
+        Entry[] entries = entriesByAttribute.get(key);
+        if (entries.length == 1)
+        {
+            entriesByAttribute.remove(key);
+        }
+        else
+        {
+            Entry[] newEntries = new Entry[entries.length - 1];
+            int pos = 0;
+            for(Entry e: entries)
+            {
+                if (e != toRemove) newEntries[pos++] = e;
+            }
+            entriesByAttribute.put(key, newEntries);
+        }
+        entryCount.decrementAndGet();
+    }
+
     public CachedQuery resolveAndCacheSubQuery(Operation op, AnalyzedOperation analyzedOperation, OrderBy orderBy, QueryCache cache, boolean forRelationship)
     {
         Operation toFind = op;
@@ -60,24 +213,70 @@ public class SubQueryCache
         {
             toFind = analyzedOperation.getAnalyzedOperation();
         }
-        CachedQuery result = null;
-        for(int i=0;i<MAX_REFS;i++)
+        FastList<Entry> superMatches = null;
+        FastList<ShapeMatchResult> superMatchResults = null;
+        UnifiedSet<Attribute> attributes = new UnifiedSet<Attribute>(4);
+        toFind.addDepenedentAttributesToSet(attributes);
+        for(Attribute attribute: attributes)
         {
-            CachedQuery query = unwrap(hashTable[i]);
-            if (query != null)
+            Entry[] entries = entriesByAttribute.get(attribute);
+            if (entries == null) continue;
+            for(Entry entry: entries)
             {
-                ShapeMatchResult shapeMatchResult = toFind.zShapeMatch(query.getOperation());
-                List resolved = shapeMatchResult.resolve(cache);
-                result = createAndCacheCachedQuery(op, analyzedOperation, orderBy, cache, forRelationship, resolved);
+                CachedQuery query = unwrap(entry);
+                if (query != null)
+                {
+                    ShapeMatchResult shapeMatchResult = toFind.zShapeMatch(query.getOperation());
+                    if (shapeMatchResult.isSuperMatch())
+                    {
+                        if (superMatches == null)
+                        {
+                            superMatches = FastList.newList(4);
+                            superMatchResults = FastList.newList(4);
+                        }
+                        int pos = 0;
+                        while (pos < superMatches.size() && superMatches.get(pos).size <= entry.size) pos++;
+                        superMatches.add(pos, entry);
+                        superMatchResults.add(pos, shapeMatchResult);
+                    }
+                }
+            }
+        }
+        if (superMatches != null)
+        {
+            for(int i=0;i<superMatches.size();i++)
+            {
+                CachedQuery result = resolve(op, analyzedOperation, orderBy, cache, forRelationship, superMatches.get(i), superMatchResults.get(i));
+                if (result != null) return result;
             }
         }
-        if (result != null) return result;
 
+        CachedQuery result = null;
         CachedQuery all = unwrap(allOperation);
         if (all != null && all.getOperation().getResultObjectPortal() == toFind.getResultObjectPortal() && toFind.zCanFilterInMemory())
         {
             result = createAndCacheCachedQuery(op, analyzedOperation, orderBy, cache, forRelationship, op.applyOperation(all.getResult()));
         }
+        if (result == null)
+        {
+            misses.incrementAndGet();
+        }
+        else
+        {
+            hits.incrementAndGet();
+        }
+        return result;
+    }
+
+    private CachedQuery resolve(Operation op, AnalyzedOperation analyzedOperation, OrderBy orderBy, QueryCache cache,
+            boolean forRelationship, Entry entry, ShapeMatchResult shapeMatchResult)
+    {
+        CachedQuery result = createAndCacheCachedQuery(op, analyzedOperation, orderBy, cache, forRelationship, shapeMatchResult.resolve(cache));
+        if (result != null)
+        {
+            entry.hit();
+            hits.incrementAndGet();
+        }
         return result;
     }
 
@@ -120,12 +319,58 @@ public class SubQueryCache
         return null;
     }
 
-    public void clear()
+    public long getHits()
+    {
+        return hits.get();
+    }
+
+    public long getMisses()
+    {
+        return misses.get();
+    }
+
+    public int getEntryCount()
+    {
+        return entryCount.get();
+    }
+
+    public synchronized void clear()
     {
         this.allOperation = null;
-        for(int i=0;i<MAX_REFS;i++)
+        this.entriesByAttribute.clear();
+        this.entryCount.set(0);
+    }
+
+    private static class Entry extends WeakReference<CachedQuery>
+    {
+        private final int size;
+        private final AtomicInteger hits = new AtomicInteger();
+
+        private Entry(CachedQuery query, int size)
+        {
+            super(query);
+            this.size = size;
+        }
+
+        public void hit()
+        {
+            hits.incrementAndGet();
+        }
+
+        public void halveHits()
+        {
+            hits.set(hits.get() >> 1);
+        }
+
+        public boolean isLive()
+        {
+            CachedQuery query = this.get();
+            return query != null && !query.isExpired();
+        }
+
+        public long getScore()
         {
-            this.hashTable[i] = null;
+            return (long) (size + 1) * (hits.get() + 1);
         }
     }
 }
@@ -46,4 +46,10 @@ public class StringContainsOperation extends StringLikeOperation
         Object s = extractor.valueOf(o);
         return s != null && ((String)s).indexOf(this.getParameter()) >=0;
     }
+
+    @Override
+    protected String[] getSearchFragments()
+    {
+        return new String[] { this.getParameter() };
+    }
 }
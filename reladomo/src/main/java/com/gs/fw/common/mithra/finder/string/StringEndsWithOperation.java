@@ -17,6 +17,7 @@
 package com.gs.fw.common.mithra.finder.string;
 
 import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.cache.StringSearchIndex;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.finder.SqlQuery;
 import com.gs.fw.common.mithra.finder.ToStringContext;
@@ -46,4 +47,10 @@ public class StringEndsWithOperation extends StringLikeOperation
         Object s = extractor.valueOf(o);
         return s != null && ((String)s).endsWith(this.getParameter());
     }
+
+    @Override
+    protected String[] getSearchFragments()
+    {
+        return new String[] { this.getParameter() + StringSearchIndex.ANCHOR };
+    }
 }
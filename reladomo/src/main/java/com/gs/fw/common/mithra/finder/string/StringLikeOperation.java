@@ -17,6 +17,7 @@
 package com.gs.fw.common.mithra.finder.string;
 
 import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.cache.StringSearchIndex;
 import com.gs.fw.common.mithra.finder.*;
 import com.gs.fw.common.mithra.finder.sqcache.ExactMatchSmr;
 import com.gs.fw.common.mithra.finder.sqcache.NoMatchSmr;
@@ -60,6 +61,31 @@ public abstract class StringLikeOperation extends AbstractAtomicOperation
         return null;
     }
 
+    @Override
+    public List applyOperationToFullCache()
+    {
+        StringSearchIndex searchIndex = this.getCache().getStringSearchIndex(this.getAttribute());
+        if (searchIndex != null)
+        {
+            String[] fragments = this.getSearchFragments();
+            List candidates = fragments == null ? null : searchIndex.getCandidates(fragments);
+            if (candidates != null)
+            {
+                return this.applyOperation(candidates);
+            }
+        }
+        return super.applyOperationToFullCache();
+    }
+
+    /**
+     * @return literal strings every matching value contains, padded with StringSearchIndex.ANCHOR where they
+     * must be at the start or end of the value; null if there aren't any
+     */
+    protected String[] getSearchFragments()
+    {
+        return null;
+    }
+
     public int hashCode()
     {
         return this.getClass().hashCode() ^ this.getAttribute().hashCode() ^ this.parameter.hashCode();
@@ -17,6 +17,7 @@
 package com.gs.fw.common.mithra.finder.string;
 
 import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.cache.StringSearchIndex;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.extractor.StringExtractor;
 import com.gs.fw.common.mithra.finder.SqlQuery;
@@ -47,4 +48,10 @@ public class StringStartsWithOperation extends StringLikeOperation
         String s = ((StringExtractor) extractor).stringValueOf(o);
         return s != null && s.startsWith(this.getParameter());
     }
+
+    @Override
+    protected String[] getSearchFragments()
+    {
+        return new String[] { StringSearchIndex.ANCHOR + this.getParameter() };
+    }
 }
@@ -16,7 +16,9 @@
 
 package com.gs.fw.common.mithra.finder.string;
 
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.cache.StringSearchIndex;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.finder.SqlQuery;
 import com.gs.fw.common.mithra.finder.ToStringContext;
@@ -52,4 +54,34 @@ public class StringWildCardEqOperation extends StringLikeOperation
     {
         return parser.matches((String) extractor.valueOf(o));
     }
+
+    @Override
+    protected String[] getSearchFragments()
+    {
+        String pattern = this.getParameter();
+        if (pattern.indexOf('\'') >= 0)
+        {
+            return null; // escaped wildcards are left to the full scan
+        }
+        FastList<String> fragments = FastList.newList();
+        int start = 0;
+        for (int i = 0; i <= pattern.length(); i++)
+        {
+            if (i == pattern.length() || pattern.charAt(i) == '*' || pattern.charAt(i) == '?')
+            {
+                String fragment = pattern.substring(start, i);
+                if (start == 0)
+                {
+                    fragment = StringSearchIndex.ANCHOR + fragment;
+                }
+                if (i == pattern.length())
+                {
+                    fragment = fragment + StringSearchIndex.ANCHOR;
+                }
+                fragments.add(fragment);
+                start = i + 1;
+            }
+        }
+        return fragments.toArray(new String[fragments.size()]);
+    }
 }
@@ -17,11 +17,9 @@
 package com.gs.fw.common.mithra.mtloader;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Callable;
 
-import com.gs.fw.common.mithra.MithraTransactionalObject;
 import com.gs.fw.common.mithra.cache.FullUniqueIndex;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.util.QueueExecutor;
@@ -29,33 +27,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
-public abstract class AbstractMatcherThread<T> extends Thread
+public abstract class AbstractMatcherThread<T> extends BaseMatcherThread<T>
 {
     protected static Logger logger = LoggerFactory.getLogger(AbstractMatcherThread.class);
 
-    protected static final Comparator DEFAULT_COMPARATOR = new AbstractMatcherThread.DefaultComparator();
-    public static final int DEFAULT_MAX_AHEAD = 50000000;
     protected static final int DEFAULT_INDEX_SIZE = 1000000;
 
     protected final List<Callable> thingsToDo = new ArrayList<Callable>(10000);
     protected boolean fileDone;
     protected boolean dbDone;
-    protected Comparator comparator = AbstractMatcherThread.DEFAULT_COMPARATOR;
     protected FullUniqueIndex<T> fileIndex;
     protected FullUniqueIndex<T> dbIndex;
-    protected final Object finishedLock = new Object();
-    protected boolean finished = false;
     protected int totalFile = 0;
     protected int totalDb = 0;
     protected final Object waitForOther = new Object();
-    protected QueueExecutor executor;
-    protected AbortException abortException;
-    protected int maxAhead = DEFAULT_MAX_AHEAD;
 
     public AbstractMatcherThread(QueueExecutor queueExecutor, Extractor[] extractor)
     {
+        super(queueExecutor);
         this.setName("Matcher thread");
-        this.executor = queueExecutor;
 
         fileIndex = new FullUniqueIndex(extractor, DEFAULT_INDEX_SIZE);
         dbIndex = new FullUniqueIndex(extractor, DEFAULT_INDEX_SIZE);
@@ -63,8 +53,8 @@ public abstract class AbstractMatcherThread<T> extends Thread
 
     public AbstractMatcherThread(QueueExecutor queueExecutor, Extractor[] extractor, int indexSize)
     {
+        super(queueExecutor);
         this.setName("Matcher thread");
-        this.executor = queueExecutor;
 
         if (indexSize <= 0)
         {
@@ -84,39 +74,15 @@ public abstract class AbstractMatcherThread<T> extends Thread
 
     protected abstract void processDbRecordsForTermination(List<T> dbRecords);
 
-    public void setComparator(Comparator comparator)
-    {
-        this.comparator = comparator;
-    }
-
     public void setMustAbort(Throwable cause)
     {
         synchronized (thingsToDo)
         {
-            this.abortException = new AbortException("unexpected abort", cause);
+            super.setMustAbort(cause);
             thingsToDo.notify();
         }
     }
 
-    protected void checkForAbort()
-            throws AbortException
-    {
-        if (this.abortException != null)
-        {
-            throw this.abortException;
-        }
-    }
-
-    public int getMaxAhead()
-    {
-        return maxAhead;
-    }
-
-    public void setMaxAhead(int maxAhead)
-    {
-        this.maxAhead = maxAhead;
-    }
-
     public void setFileDone()
     {
         synchronized (thingsToDo)
@@ -189,26 +155,6 @@ public abstract class AbstractMatcherThread<T> extends Thread
         }
     }
 
-    public void waitTillDone() throws AbortException
-    {
-        synchronized (this.finishedLock)
-        {
-            while (!finished)
-            {
-                try
-                {
-                    checkForAbort();
-                    this.finishedLock.wait();
-                }
-                catch (InterruptedException e)
-                {
-                    // huh?
-                }
-            }
-        }
-        checkForAbort();
-    }
-
     public void run()
     {
         boolean done;
@@ -343,18 +289,4 @@ public abstract class AbstractMatcherThread<T> extends Thread
             return null;
         }
     }
-
-    private static class DefaultComparator implements Comparator
-    {
-        public int compare(Object o1, Object o2)
-        {
-            MithraTransactionalObject t1 = (MithraTransactionalObject) o1;
-            MithraTransactionalObject t2 = (MithraTransactionalObject) o2;
-            if (t1.nonPrimaryKeyAttributesChanged(t2))
-            {
-                return 1;
-            }
-            return 0;
-        }
-    }
 }
@@ -0,0 +1,116 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.mtloader;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.gs.fw.common.mithra.MithraTransactionalObject;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+
+/**
+ * What the input threads and the caller see of a matcher: it takes the records of both sides, is told when each
+ * side is done, and can be waited on or aborted. AbstractMatcherThread adds the indices and the matching itself.
+ */
+public abstract class BaseMatcherThread<T> extends Thread
+{
+    protected static final Comparator DEFAULT_COMPARATOR = new BaseMatcherThread.DefaultComparator();
+    public static final int DEFAULT_MAX_AHEAD = 50000000;
+
+    protected Comparator comparator = BaseMatcherThread.DEFAULT_COMPARATOR;
+    protected final Object finishedLock = new Object();
+    protected boolean finished = false;
+    protected QueueExecutor executor;
+    protected AbortException abortException;
+    protected int maxAhead = DEFAULT_MAX_AHEAD;
+
+    protected BaseMatcherThread(QueueExecutor queueExecutor)
+    {
+        this.executor = queueExecutor;
+    }
+
+    public abstract void setFileDone();
+
+    public abstract void setDbDone();
+
+    public abstract void addFileRecords(List<T> records) throws AbortException;
+
+    public abstract void addDbRecords(List<T> records) throws AbortException;
+
+    public void setComparator(Comparator comparator)
+    {
+        this.comparator = comparator;
+    }
+
+    public void setMustAbort(Throwable cause)
+    {
+        this.abortException = new AbortException("unexpected abort", cause);
+    }
+
+    protected void checkForAbort()
+            throws AbortException
+    {
+        if (this.abortException != null)
+        {
+            throw this.abortException;
+        }
+    }
+
+    public int getMaxAhead()
+    {
+        return maxAhead;
+    }
+
+    public void setMaxAhead(int maxAhead)
+    {
+        this.maxAhead = maxAhead;
+    }
+
+    public void waitTillDone() throws AbortException
+    {
+        synchronized (this.finishedLock)
+        {
+            while (!finished)
+            {
+                try
+                {
+                    checkForAbort();
+                    this.finishedLock.wait();
+                }
+                catch (InterruptedException e)
+                {
+                    // huh?
+                }
+            }
+        }
+        checkForAbort();
+    }
+
+    private static class DefaultComparator implements Comparator
+    {
+        public int compare(Object o1, Object o2)
+        {
+            MithraTransactionalObject t1 = (MithraTransactionalObject) o1;
+            MithraTransactionalObject t2 = (MithraTransactionalObject) o2;
+            if (t1.nonPrimaryKeyAttributesChanged(t2))
+            {
+                return 1;
+            }
+            return 0;
+        }
+    }
+}
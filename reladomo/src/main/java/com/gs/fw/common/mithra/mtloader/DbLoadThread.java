@@ -33,12 +33,17 @@ public class DbLoadThread extends Thread
     private static final int BUCKET_SIZE = 100;
 
     private DelegatingList delegatingList;
-    private AbstractMatcherThread matcherThread;
+    private BaseMatcherThread matcherThread;
     private AbstractAtomicOperation filter;
 
     private long lastPrintout;
 
     public DbLoadThread(DelegatingList delegatingList, Operation filter, AbstractMatcherThread matcherThread)
+    {
+        this(delegatingList, filter, (BaseMatcherThread) matcherThread);
+    }
+
+    public DbLoadThread(DelegatingList delegatingList, Operation filter, BaseMatcherThread matcherThread)
     {
         this.delegatingList = delegatingList;
         this.matcherThread = matcherThread;
@@ -0,0 +1,324 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.mtloader;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.cache.ExtractorBasedHashStrategy;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spreads the matching over a number of matcher threads. Each record goes to the partition picked by the hash of its
+ * key, so a file record and a database record with the same key always meet in the same partition, and each partition
+ * only holds its share of the unmatched records.
+ * <p>
+ * All partitions feed the same executor, which must accept calls from several threads (SingleQueueExecutor does).
+ * The executor is only finished once every partition is done.
+ */
+public class PartitionedMatcherThread<T> extends BaseMatcherThread<T>
+{
+    protected static Logger logger = LoggerFactory.getLogger(PartitionedMatcherThread.class);
+
+    private final ExtractorBasedHashStrategy hashStrategy;
+    private final AbstractMatcherThread<T>[] partitions;
+
+    public PartitionedMatcherThread(QueueExecutor queueExecutor, Extractor[] extractor, int numberOfPartitions)
+    {
+        this(queueExecutor, extractor, numberOfPartitions, AbstractMatcherThread.DEFAULT_INDEX_SIZE / numberOfPartitions);
+    }
+
+    /**
+     * @param indexSize the initial size of the indices of each partition
+     */
+    public PartitionedMatcherThread(QueueExecutor queueExecutor, Extractor[] extractor, int numberOfPartitions, int indexSize)
+    {
+        super(queueExecutor);
+        if (numberOfPartitions <= 0)
+        {
+            throw new IllegalArgumentException("numberOfPartitions must be positive, not " + numberOfPartitions);
+        }
+        this.setName("Partitioned matcher thread");
+        this.hashStrategy = ExtractorBasedHashStrategy.create(extractor);
+        this.partitions = new AbstractMatcherThread[numberOfPartitions];
+        QueueExecutor partitionExecutor = new PartitionQueueExecutor(queueExecutor);
+        for (int i = 0; i < numberOfPartitions; i++)
+        {
+            this.partitions[i] = this.createPartition(partitionExecutor, extractor, indexSize);
+            this.partitions[i].setName("Matcher thread " + i);
+        }
+    }
+
+    /**
+     * Called from the constructor, once per partition. Subclasses can return their own matcher (for example a
+     * MatcherThread that overrides the handle methods, or a SortedMergeMatcherThread, as each partition gets its
+     * records in the order they were added).
+     *
+     * @param partitionExecutor the shared executor, which the partition can flush but not finish
+     */
+    protected AbstractMatcherThread<T> createPartition(QueueExecutor partitionExecutor, Extractor[] extractor, int indexSize)
+    {
+        return new MatcherThread<T>(partitionExecutor, extractor, indexSize);
+    }
+
+    public int getNumberOfPartitions()
+    {
+        return this.partitions.length;
+    }
+
+    public AbstractMatcherThread<T> getPartition(int index)
+    {
+        return this.partitions[index];
+    }
+
+    @Override
+    public void setComparator(Comparator comparator)
+    {
+        super.setComparator(comparator);
+        for (AbstractMatcherThread<T> partition : this.partitions)
+        {
+            partition.setComparator(comparator);
+        }
+    }
+
+    @Override
+    public void setMaxAhead(int maxAhead)
+    {
+        super.setMaxAhead(maxAhead);
+        for (AbstractMatcherThread<T> partition : this.partitions)
+        {
+            partition.setMaxAhead(maxAhead);
+        }
+    }
+
+    @Override
+    public void setMustAbort(Throwable cause)
+    {
+        super.setMustAbort(cause);
+        for (AbstractMatcherThread<T> partition : this.partitions)
+        {
+            partition.setMustAbort(cause);
+        }
+    }
+
+    @Override
+    public void setFileDone()
+    {
+        for (AbstractMatcherThread<T> partition : this.partitions)
+        {
+            partition.setFileDone();
+        }
+    }
+
+    @Override
+    public void setDbDone()
+    {
+        for (AbstractMatcherThread<T> partition : this.partitions)
+        {
+            partition.setDbDone();
+        }
+    }
+
+    @Override
+    public void addFileRecords(List<T> records) throws AbortException
+    {
+        checkForAbort();
+        List<T>[] split = this.split(records);
+        for (int i = 0; i < split.length; i++)
+        {
+            if (split[i] != null)
+            {
+                this.partitions[i].addFileRecords(split[i]);
+            }
+        }
+    }
+
+    @Override
+    public void addDbRecords(List<T> records) throws AbortException
+    {
+        checkForAbort();
+        List<T>[] split = this.split(records);
+        for (int i = 0; i < split.length; i++)
+        {
+            if (split[i] != null)
+            {
+                this.partitions[i].addDbRecords(split[i]);
+            }
+        }
+    }
+
+    private List<T>[] split(List<T> records)
+    {
+        int numberOfPartitions = this.partitions.length;
+        List<T>[] split = new List[numberOfPartitions];
+        int expectedSize = records.size() / numberOfPartitions + 1;
+        for (int i = 0; i < records.size(); i++)
+        {
+            T record = records.get(i);
+            int partition = this.partitionFor(record);
+            if (split[partition] == null)
+            {
+                split[partition] = FastList.newList(expectedSize);
+            }
+            split[partition].add(record);
+        }
+        return split;
+    }
+
+    protected int partitionFor(T record)
+    {
+        int hash = this.hashStrategy.computeHashCode(record);
+        hash ^= (hash >>> 20) ^ (hash >>> 12);
+        hash ^= (hash >>> 7) ^ (hash >>> 4);
+        return (hash & Integer.MAX_VALUE) % this.partitions.length;
+    }
+
+    @Override
+    public synchronized void start()
+    {
+        for (AbstractMatcherThread<T> partition : this.partitions)
+        {
+            partition.start();
+        }
+        super.start();
+    }
+
+    public void run()
+    {
+        try
+        {
+            for (AbstractMatcherThread<T> partition : this.partitions)
+            {
+                try
+                {
+                    partition.waitTillDone();
+                }
+                catch (AbortException e)
+                {
+                    if (this.abortException == null)
+                    {
+                        this.setMustAbort(e.getCause() == null ? e : e.getCause());
+                    }
+                }
+            }
+
+            executor.flushUpdate();
+            executor.waitUntilFinished();
+        }
+        catch (Throwable ex)
+        {
+            this.abortException = new AbortException("Unexpected Exception.", ex);
+        }
+
+        synchronized (this.finishedLock)
+        {
+            this.finished = true;
+            finishedLock.notifyAll();
+        }
+    }
+
+    /**
+     * The view of the shared executor given to the partitions: it flushes, but only the partitioned matcher waits
+     * for the executor to finish.
+     */
+    protected static class PartitionQueueExecutor implements QueueExecutor
+    {
+        private final QueueExecutor executor;
+
+        public PartitionQueueExecutor(QueueExecutor executor)
+        {
+            this.executor = executor;
+        }
+
+        public void setUseBulkInsert()
+        {
+            this.executor.setUseBulkInsert();
+        }
+
+        public void setLogInterval(int logIntervalInMilliseconds)
+        {
+            this.executor.setLogInterval(logIntervalInMilliseconds);
+        }
+
+        public void addForTermination(Object o)
+        {
+            this.executor.addForTermination(o);
+        }
+
+        public void addForInsert(Object o)
+        {
+            this.executor.addForInsert(o);
+        }
+
+        public void addForUpdate(Object dbObject, Object fileObject)
+        {
+            this.executor.addForUpdate(dbObject, fileObject);
+        }
+
+        public void flushTermination()
+        {
+            this.executor.flushTermination();
+        }
+
+        public void flushInsert()
+        {
+            this.executor.flushInsert();
+        }
+
+        public void flushUpdate()
+        {
+            this.executor.flushUpdate();
+        }
+
+        public void waitUntilFinished()
+        {
+            this.executor.flushTermination();
+            this.executor.flushUpdate();
+            this.executor.flushInsert();
+        }
+
+        public boolean anyFailed()
+        {
+            return this.executor.anyFailed();
+        }
+
+        public Throwable getError()
+        {
+            return this.executor.getError();
+        }
+
+        public int getTotalUpdates()
+        {
+            return this.executor.getTotalUpdates();
+        }
+
+        public int getTotalInserts()
+        {
+            return this.executor.getTotalInserts();
+        }
+
+        public int getTotalTerminates()
+        {
+            return this.executor.getTotalTerminates();
+        }
+    }
+}
@@ -28,11 +28,16 @@ public class PlainInputThread extends Thread
     private static Logger logger = LoggerFactory.getLogger(PlainInputThread.class);
 
     private InputLoader inputLoader;
-    private AbstractMatcherThread matcherThread;
+    private BaseMatcherThread matcherThread;
     private long lastReportTime = 0;
     private static final long MIN_REPORT_PERIOD = 30000;
 
     public PlainInputThread(InputLoader<MithraTransactionalObject> inputLoader, AbstractMatcherThread matcherThread)
+    {
+        this(inputLoader, (BaseMatcherThread) matcherThread);
+    }
+
+    public PlainInputThread(InputLoader<MithraTransactionalObject> inputLoader, BaseMatcherThread matcherThread)
     {
         this.inputLoader = inputLoader;
         this.matcherThread = matcherThread;
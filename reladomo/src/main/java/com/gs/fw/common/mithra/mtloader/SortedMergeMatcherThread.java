@@ -0,0 +1,239 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.mtloader;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A matcher for a file and a database list that are both sorted by key, for example with the order by of the
+ * database list set to the key attributes. The two streams are merged as they arrive, so only the records of the side
+ * that is ahead are kept, instead of every unmatched record. The side that is ahead waits when it gets more than
+ * maxAhead records in front of the other.
+ * <p>
+ * Records with equal keys, as decided by the key order, are matched in the order they arrive. An unsorted stream
+ * aborts the load.
+ */
+public class SortedMergeMatcherThread<T> extends MatcherThread<T>
+{
+    protected static Logger logger = LoggerFactory.getLogger(SortedMergeMatcherThread.class);
+
+    public static final int DEFAULT_MERGE_MAX_AHEAD = 100000;
+
+    private final Comparator keyOrder;
+    private final ArrayDeque<T> pendingFile = new ArrayDeque<T>();
+    private final ArrayDeque<T> pendingDb = new ArrayDeque<T>();
+    private T lastFile;
+    private T lastDb;
+
+    /**
+     * @param keyOrder orders the records by their key, the same way both streams are sorted
+     */
+    public SortedMergeMatcherThread(QueueExecutor queueExecutor, Extractor[] extractor, Comparator keyOrder)
+    {
+        super(queueExecutor, extractor, 1);
+        this.setName("Merge matcher thread");
+        this.keyOrder = keyOrder;
+        this.maxAhead = DEFAULT_MERGE_MAX_AHEAD;
+    }
+
+    public Callable constructDbDoneCallable()
+    {
+        return new MergeDatabaseDoneCallable();
+    }
+
+    public Callable constructFileDoneCallable()
+    {
+        return new MergeFileDoneCallable();
+    }
+
+    @Override
+    public void addDbRecords(List<T> records) throws AbortException
+    {
+        super.addDbRecords(records);
+        synchronized (this.waitForOther)
+        {
+            while (!fileDone && totalDb > totalFile + maxAhead)
+            {
+                checkForAbort();
+                try
+                {
+                    this.waitForOther.wait();
+                }
+                catch (InterruptedException e)
+                {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setMustAbort(Throwable cause)
+    {
+        super.setMustAbort(cause);
+        synchronized (this.waitForOther)
+        {
+            this.waitForOther.notifyAll();
+        }
+    }
+
+    @Override
+    protected void processFileRecords(List<T> fileRecords)
+    {
+        super.processFileRecords(fileRecords);
+        synchronized (this.waitForOther)
+        {
+            if (totalFile + maxAhead >= totalDb)
+            {
+                this.waitForOther.notify();
+            }
+        }
+    }
+
+    @Override
+    protected void processRecords(List<T> records, FullUniqueIndex<T> index, FullUniqueIndex<T> matchIndex, boolean fromFile)
+    {
+        if (fromFile)
+        {
+            this.lastFile = this.append(records, this.pendingFile, this.lastFile, "file");
+        }
+        else
+        {
+            this.lastDb = this.append(records, this.pendingDb, this.lastDb, "database");
+        }
+        this.merge();
+    }
+
+    @Override
+    protected void processFileRecordsForInsert(List<T> fileRecords)
+    {
+        this.processRecords(fileRecords, null, null, true);
+        this.drainFinishedSides();
+    }
+
+    @Override
+    protected void processDbRecordsForTermination(List<T> dbRecords)
+    {
+        this.processRecords(dbRecords, null, null, false);
+        this.drainFinishedSides();
+    }
+
+    private T append(List<T> records, ArrayDeque<T> pending, T last, String side)
+    {
+        for (int i = 0; i < records.size(); i++)
+        {
+            T o = records.get(i);
+            if (last != null && this.keyOrder.compare(last, o) > 0)
+            {
+                throw new MithraBusinessException("the " + side + " records are not sorted by key: " + o + " came after " + last);
+            }
+            pending.addLast(o);
+            last = o;
+        }
+        return last;
+    }
+
+    private void merge()
+    {
+        while (!this.pendingFile.isEmpty() && !this.pendingDb.isEmpty())
+        {
+            int result = this.keyOrder.compare(this.pendingFile.peekFirst(), this.pendingDb.peekFirst());
+            if (result < 0)
+            {
+                handleInsert(this.pendingFile.removeFirst());
+            }
+            else if (result > 0)
+            {
+                handleDeleteOrTerminate(this.pendingDb.removeFirst());
+            }
+            else
+            {
+                compareAndUpdateIfNecessary(this.pendingDb.removeFirst(), this.pendingFile.removeFirst());
+            }
+        }
+    }
+
+    /**
+     * once a side is done and merged, nothing can match what the other side has left
+     */
+    private void drainFinishedSides()
+    {
+        if (dbDone && this.pendingDb.isEmpty())
+        {
+            while (!this.pendingFile.isEmpty())
+            {
+                handleInsert(this.pendingFile.removeFirst());
+            }
+        }
+        if (fileDone && this.pendingFile.isEmpty())
+        {
+            while (!this.pendingDb.isEmpty())
+            {
+                handleDeleteOrTerminate(this.pendingDb.removeFirst());
+            }
+        }
+    }
+
+    private class MergeDatabaseDoneCallable implements Callable
+    {
+        public Object call() throws Exception
+        {
+            synchronized (finishedLock)
+            {
+                dbDone = true;
+            }
+            drainFinishedSides();
+            executor.flushInsert();
+            synchronized (waitForOther)
+            {
+                waitForOther.notify();
+            }
+            handleMatcherFinishedWithDatabaseSide();
+            return null;
+        }
+    }
+
+    private class MergeFileDoneCallable implements Callable
+    {
+        public Object call() throws Exception
+        {
+            synchronized (finishedLock)
+            {
+                fileDone = true;
+            }
+            drainFinishedSides();
+            executor.flushTermination();
+            synchronized (waitForOther)
+            {
+                waitForOther.notify();
+            }
+            handleMatcherFinishedWithFileSide();
+            return null;
+        }
+    }
+}
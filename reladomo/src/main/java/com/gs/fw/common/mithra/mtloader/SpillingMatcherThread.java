@@ -0,0 +1,731 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.mtloader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraTransactionalObject;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.cache.ExtractorBasedHashStrategy;
+import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A matcher that keeps at most maxInMemory unmatched records in memory. When there are more, the unmatched records of
+ * the bigger side are written to a run file in the spill directory, sorted by the hash of their key. Spilled records
+ * are matched once both sides are done, by merging the runs of each side and matching the records that have the same
+ * key.
+ * <p>
+ * The records must be serializable Reladomo objects, and are written with their full data. Persisted objects from the
+ * database are written as detached copies, so reading them back doesn't go to the database. A spilled database record
+ * is passed to handleKeyMatchedBeforeCompare and handleIdenticalMatch as its detached copy; the original is only found
+ * by primary key when the record is updated or terminated, with one find for each batch of such records.
+ * <p>
+ * At most maxMergeFanIn runs of a side are merged at once. A side with more runs is first merged down in passes that
+ * write intermediate runs.
+ * <p>
+ * Until the first spill, this matcher behaves exactly like MatcherThread.
+ */
+public class SpillingMatcherThread<T> extends MatcherThread<T>
+{
+    protected static Logger logger = LoggerFactory.getLogger(SpillingMatcherThread.class);
+
+    private static final int RESET_INTERVAL = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int ORIGINAL_BATCH_SIZE = 500;
+
+    public static final int DEFAULT_MAX_MERGE_FAN_IN = 64;
+
+    private final ExtractorBasedHashStrategy hashStrategy;
+    private final File spillDirectory;
+    private final int maxInMemory;
+    private final List<SpillRun> fileRuns = FastList.newList();
+    private final List<SpillRun> dbRuns = FastList.newList();
+    private boolean spilled;
+    private int maxMergeFanIn = DEFAULT_MAX_MERGE_FAN_IN;
+    private final List<T> recordsWithoutOriginal = FastList.newList();
+    private final List<T> fileRecordsForOriginal = FastList.newList();
+
+    public SpillingMatcherThread(QueueExecutor queueExecutor, Extractor[] extractor, File spillDirectory, int maxInMemory)
+    {
+        super(queueExecutor, extractor, Math.min(maxInMemory, DEFAULT_INDEX_SIZE));
+        if (maxInMemory <= 0)
+        {
+            throw new IllegalArgumentException("maxInMemory must be positive, not " + maxInMemory);
+        }
+        this.setName("Spilling matcher thread");
+        this.hashStrategy = ExtractorBasedHashStrategy.create(extractor);
+        this.spillDirectory = spillDirectory;
+        this.maxInMemory = maxInMemory;
+    }
+
+    public boolean isSpilled()
+    {
+        return this.spilled;
+    }
+
+    public int getMaxMergeFanIn()
+    {
+        return this.maxMergeFanIn;
+    }
+
+    /**
+     * @param maxMergeFanIn the most run files of a side that are open at once while merging; at least 2
+     */
+    public void setMaxMergeFanIn(int maxMergeFanIn)
+    {
+        if (maxMergeFanIn < 2)
+        {
+            throw new IllegalArgumentException("maxMergeFanIn must be at least 2, not " + maxMergeFanIn);
+        }
+        this.maxMergeFanIn = maxMergeFanIn;
+    }
+
+    @Override
+    public Callable constructDbDoneCallable()
+    {
+        return new SpillDatabaseDoneCallable(super.constructDbDoneCallable());
+    }
+
+    @Override
+    public Callable constructFileDoneCallable()
+    {
+        return new SpillFileDoneCallable(super.constructFileDoneCallable());
+    }
+
+    @Override
+    protected void processRecords(List<T> records, FullUniqueIndex<T> index, FullUniqueIndex<T> matchIndex, boolean fromFile)
+    {
+        super.processRecords(records, index, matchIndex, fromFile);
+        if (fileIndex.size() + dbIndex.size() > this.maxInMemory)
+        {
+            if (fileIndex.size() >= dbIndex.size())
+            {
+                this.spill(fileIndex, this.fileRuns, "file", false);
+            }
+            else
+            {
+                this.spill(dbIndex, this.dbRuns, "db", true);
+            }
+        }
+    }
+
+    /**
+     * once spilled, a record without a match in memory may still match a spilled record, so it is kept
+     */
+    @Override
+    protected void processFileRecordsForInsert(List<T> fileRecords)
+    {
+        if (this.spilled)
+        {
+            this.processRecords(fileRecords, fileIndex, dbIndex, true);
+        }
+        else
+        {
+            super.processFileRecordsForInsert(fileRecords);
+        }
+    }
+
+    @Override
+    protected void processDbRecordsForTermination(List<T> dbRecords)
+    {
+        if (this.spilled)
+        {
+            this.processRecords(dbRecords, dbIndex, fileIndex, false);
+        }
+        else
+        {
+            super.processDbRecordsForTermination(dbRecords);
+        }
+    }
+
+    private void spill(FullUniqueIndex<T> index, List<SpillRun> runs, String side, boolean detachPersisted)
+    {
+        List<T> all = index.getAll();
+        index.clear();
+        long[] order = new long[all.size()];
+        for (int i = 0; i < order.length; i++)
+        {
+            order[i] = ((long) this.hashStrategy.computeHashCode(all.get(i)) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        SpillRun run = null;
+        ObjectOutputStream out = null;
+        try
+        {
+            run = this.createRun(runs, side, order.length);
+            out = run.openForWrite();
+            for (int i = 0; i < order.length; i++)
+            {
+                Object record = all.get((int) order[i]);
+                writeRecord(out, i, (int) (order[i] >> 32), detachPersisted ? detachIfPersisted(record) : record);
+            }
+            out.close();
+        }
+        catch (IOException e)
+        {
+            throw new MithraBusinessException("could not spill " + order.length + " " + side + " records to " + (run == null ? this.spillDirectory : run.file), e);
+        }
+        finally
+        {
+            closeQuietly(out);
+        }
+        this.spilled = true;
+        logger.info("Spilled " + order.length + " unmatched " + side + " records to " + run.file);
+    }
+
+    private SpillRun createRun(List<SpillRun> runs, String side, int size) throws IOException
+    {
+        SpillRun run = new SpillRun(File.createTempFile("mtloader-" + side + "-", ".run", this.spillDirectory), size);
+        runs.add(run);
+        return run;
+    }
+
+    private static void writeRecord(ObjectOutputStream out, int position, int hash, Object record) throws IOException
+    {
+        out.writeInt(hash);
+        out.writeObject(record);
+        if (position % RESET_INTERVAL == RESET_INTERVAL - 1)
+        {
+            out.reset();
+        }
+    }
+
+    /**
+     * merges the oldest runs into one until the side has no more than maxMergeFanIn runs
+     */
+    private void reduceRuns(List<SpillRun> runs, String side) throws IOException, ClassNotFoundException
+    {
+        while (runs.size() > this.maxMergeFanIn)
+        {
+            List<SpillRun> toMerge = FastList.newList(runs.subList(0, this.maxMergeFanIn));
+            runs.subList(0, this.maxMergeFanIn).clear();
+            int size = 0;
+            for (int i = 0; i < toMerge.size(); i++)
+            {
+                size += toMerge.get(i).remaining;
+            }
+            RunMerger merger = null;
+            ObjectOutputStream out = null;
+            try
+            {
+                merger = new RunMerger(toMerge);
+                SpillRun run = this.createRun(runs, side, size);
+                out = run.openForWrite();
+                for (int i = 0; merger.hasNext(); i++)
+                {
+                    int hash = merger.peekHash();
+                    writeRecord(out, i, hash, merger.next());
+                }
+                out.close();
+            }
+            finally
+            {
+                closeQuietly(out);
+                if (merger == null)
+                {
+                    deleteRuns(toMerge);
+                }
+                else
+                {
+                    merger.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * a persisted object would be serialized with its primary key only and looked up again when read back, so its
+     * detached copy is written instead
+     */
+    private static Object detachIfPersisted(Object record)
+    {
+        if (record instanceof MithraTransactionalObject)
+        {
+            MithraTransactionalObject object = (MithraTransactionalObject) record;
+            if (!object.isInMemoryAndNotInserted() && !object.isInMemoryNonTransactional() && !object.zIsDetached())
+            {
+                return object.getDetachedCopy();
+            }
+        }
+        return record;
+    }
+
+    private static boolean isDetached(Object record)
+    {
+        return record instanceof MithraTransactionalObject && ((MithraTransactionalObject) record).zIsDetached();
+    }
+
+    /**
+     * updates the database record from the file record, or deletes it if there is no file record. A detached database
+     * record is kept until its original is found with the rest of its batch.
+     */
+    private void handleWithOriginal(T dbRecord, T fileRecord)
+    {
+        if (!isDetached(dbRecord))
+        {
+            this.handleMatched(dbRecord, fileRecord);
+            return;
+        }
+        this.recordsWithoutOriginal.add(dbRecord);
+        this.fileRecordsForOriginal.add(fileRecord);
+        if (this.recordsWithoutOriginal.size() >= ORIGINAL_BATCH_SIZE)
+        {
+            this.handleRecordsWithoutOriginal();
+        }
+    }
+
+    private void handleMatched(T dbRecord, T fileRecord)
+    {
+        if (fileRecord == null)
+        {
+            handleDeleteOrTerminate(dbRecord);
+        }
+        else
+        {
+            compareAndUpdateIfNecessary(dbRecord, fileRecord);
+        }
+    }
+
+    private void handleRecordsWithoutOriginal()
+    {
+        if (this.recordsWithoutOriginal.isEmpty())
+        {
+            return;
+        }
+        OriginalFinder originals = new OriginalFinder(this.recordsWithoutOriginal);
+        for (int i = 0; i < this.recordsWithoutOriginal.size(); i++)
+        {
+            T record = this.recordsWithoutOriginal.get(i);
+            T original = (T) originals.getOriginal((MithraTransactionalObject) record);
+            if (original == null)
+            {
+                throw new MithraBusinessException("spilled database record " + record + " was deleted before it was matched");
+            }
+            this.handleMatched(original, this.fileRecordsForOriginal.get(i));
+        }
+        this.recordsWithoutOriginal.clear();
+        this.fileRecordsForOriginal.clear();
+    }
+
+    private void matchSpilledRecords() throws IOException, ClassNotFoundException
+    {
+        if (fileIndex.size() > 0)
+        {
+            this.spill(fileIndex, this.fileRuns, "file", false);
+        }
+        if (dbIndex.size() > 0)
+        {
+            this.spill(dbIndex, this.dbRuns, "db", true);
+        }
+        logger.info("Matching " + this.fileRuns.size() + " file runs with " + this.dbRuns.size() + " db runs");
+        this.reduceRuns(this.fileRuns, "file");
+        this.reduceRuns(this.dbRuns, "db");
+        RunMerger fileMerger = new RunMerger(this.fileRuns);
+        RunMerger dbMerger = new RunMerger(this.dbRuns);
+        try
+        {
+            List<T> fileGroup = FastList.newList();
+            List<T> dbGroup = FastList.newList();
+            while (fileMerger.hasNext() || dbMerger.hasNext())
+            {
+                int hash;
+                if (!dbMerger.hasNext() || (fileMerger.hasNext() && fileMerger.peekHash() < dbMerger.peekHash()))
+                {
+                    hash = fileMerger.peekHash();
+                }
+                else
+                {
+                    hash = dbMerger.peekHash();
+                }
+                while (fileMerger.hasNext() && fileMerger.peekHash() == hash)
+                {
+                    fileGroup.add((T) fileMerger.next());
+                }
+                while (dbMerger.hasNext() && dbMerger.peekHash() == hash)
+                {
+                    dbGroup.add((T) dbMerger.next());
+                }
+                this.matchGroup(fileGroup, dbGroup);
+                fileGroup.clear();
+                dbGroup.clear();
+            }
+            this.handleRecordsWithoutOriginal();
+        }
+        finally
+        {
+            fileMerger.close();
+            dbMerger.close();
+            this.fileRuns.clear();
+            this.dbRuns.clear();
+        }
+    }
+
+    private void matchGroup(List<T> fileGroup, List<T> dbGroup)
+    {
+        for (int i = 0; i < fileGroup.size(); i++)
+        {
+            T fileRecord = fileGroup.get(i);
+            T match = null;
+            for (int j = 0; j < dbGroup.size(); j++)
+            {
+                if (this.hashStrategy.equals(dbGroup.get(j), fileRecord))
+                {
+                    match = dbGroup.remove(j);
+                    break;
+                }
+            }
+            if (match == null)
+            {
+                handleInsert(fileRecord);
+            }
+            else if (this.comparator.compare(match, fileRecord) == 0)
+            {
+                compareAndUpdateIfNecessary(match, fileRecord);
+            }
+            else
+            {
+                this.handleWithOriginal(match, fileRecord);
+            }
+        }
+        for (int i = 0; i < dbGroup.size(); i++)
+        {
+            this.handleWithOriginal(dbGroup.get(i), null);
+        }
+    }
+
+    @Override
+    public void run()
+    {
+        try
+        {
+            super.run();
+        }
+        finally
+        {
+            deleteRuns(this.fileRuns);
+            deleteRuns(this.dbRuns);
+        }
+    }
+
+    private static void deleteRuns(List<SpillRun> runs)
+    {
+        for (int i = 0; i < runs.size(); i++)
+        {
+            runs.get(i).close();
+        }
+        runs.clear();
+    }
+
+    private void finishSpilled() throws Exception
+    {
+        this.matchSpilledRecords();
+        executor.flushInsert();
+        executor.flushTermination();
+        handleMatcherFinishedWithDatabaseSide();
+        handleMatcherFinishedWithFileSide();
+    }
+
+    private static void closeQuietly(java.io.Closeable closeable)
+    {
+        if (closeable != null)
+        {
+            try
+            {
+                closeable.close();
+            }
+            catch (IOException e)
+            {
+                // ignore
+            }
+        }
+    }
+
+    private class SpillDatabaseDoneCallable implements Callable
+    {
+        private final Callable inMemoryDone;
+
+        private SpillDatabaseDoneCallable(Callable inMemoryDone)
+        {
+            this.inMemoryDone = inMemoryDone;
+        }
+
+        public Object call() throws Exception
+        {
+            if (!spilled)
+            {
+                return this.inMemoryDone.call();
+            }
+            boolean bothDone;
+            synchronized (finishedLock)
+            {
+                dbDone = true;
+                bothDone = fileDone;
+            }
+            synchronized (waitForOther)
+            {
+                waitForOther.notify();
+            }
+            if (bothDone)
+            {
+                finishSpilled();
+            }
+            return null;
+        }
+    }
+
+    private class SpillFileDoneCallable implements Callable
+    {
+        private final Callable inMemoryDone;
+
+        private SpillFileDoneCallable(Callable inMemoryDone)
+        {
+            this.inMemoryDone = inMemoryDone;
+        }
+
+        public Object call() throws Exception
+        {
+            if (!spilled)
+            {
+                return this.inMemoryDone.call();
+            }
+            boolean bothDone;
+            synchronized (finishedLock)
+            {
+                fileDone = true;
+                bothDone = dbDone;
+            }
+            if (bothDone)
+            {
+                finishSpilled();
+            }
+            return null;
+        }
+    }
+
+    private static class SpillRun
+    {
+        private final File file;
+        private int remaining;
+        private ObjectInputStream in;
+        private int hash;
+        private Object current;
+
+        private SpillRun(File file, int size)
+        {
+            this.file = file;
+            this.remaining = size;
+        }
+
+        private ObjectOutputStream openForWrite() throws IOException
+        {
+            return new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(this.file), BUFFER_SIZE));
+        }
+
+        private boolean next() throws IOException, ClassNotFoundException
+        {
+            if (this.in == null)
+            {
+                this.in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(this.file), BUFFER_SIZE));
+            }
+            if (this.remaining == 0)
+            {
+                this.current = null;
+                return false;
+            }
+            this.remaining--;
+            this.hash = this.in.readInt();
+            this.current = this.in.readObject();
+            return true;
+        }
+
+        private void close()
+        {
+            closeQuietly(this.in);
+            this.file.delete();
+        }
+    }
+
+    /**
+     * finds the originals of detached records, with one find for each class, source and set of as-of dates
+     */
+    private static class OriginalFinder
+    {
+        private final UnifiedMap<List, FullUniqueIndex> originalsByFind = UnifiedMap.newMap();
+
+        private OriginalFinder(List records)
+        {
+            UnifiedMap<List, List> recordsByFind = UnifiedMap.newMap();
+            for (int i = 0; i < records.size(); i++)
+            {
+                MithraTransactionalObject record = (MithraTransactionalObject) records.get(i);
+                List findKey = getFindKey(record);
+                List sameFind = recordsByFind.get(findKey);
+                if (sameFind == null)
+                {
+                    sameFind = FastList.newList();
+                    recordsByFind.put(findKey, sameFind);
+                }
+                sameFind.add(record);
+            }
+            for (List findKey : recordsByFind.keySet())
+            {
+                List sameFind = recordsByFind.get(findKey);
+                RelatedFinder finder = ((MithraTransactionalObject) sameFind.get(0)).zGetPortal().getFinder();
+                Attribute[] pkAttributes = finder.getPrimaryKeyAttributes();
+                List originals = finder.findMany(getFindOperation(finder, pkAttributes, sameFind));
+                FullUniqueIndex index = new FullUniqueIndex(pkAttributes, originals.size());
+                for (int i = 0; i < originals.size(); i++)
+                {
+                    index.put(originals.get(i));
+                }
+                this.originalsByFind.put(findKey, index);
+            }
+        }
+
+        private static List getFindKey(MithraTransactionalObject record)
+        {
+            RelatedFinder finder = record.zGetPortal().getFinder();
+            FastList findKey = FastList.newListWith(finder);
+            Attribute sourceAttribute = finder.getSourceAttribute();
+            if (sourceAttribute != null)
+            {
+                findKey.add(sourceAttribute.valueOf(record));
+            }
+            AsOfAttribute[] asOfAttributes = finder.getAsOfAttributes();
+            for (int i = 0; asOfAttributes != null && i < asOfAttributes.length; i++)
+            {
+                findKey.add(asOfAttributes[i].timestampValueOf(record));
+            }
+            return findKey;
+        }
+
+        private static Operation getFindOperation(RelatedFinder finder, Attribute[] pkAttributes, List records)
+        {
+            Operation op;
+            if (pkAttributes.length == 1)
+            {
+                op = pkAttributes[0].in(records, pkAttributes[0]);
+            }
+            else
+            {
+                Attribute[] tupledWith = new Attribute[pkAttributes.length - 1];
+                System.arraycopy(pkAttributes, 1, tupledWith, 0, tupledWith.length);
+                op = pkAttributes[0].tupleWith(tupledWith).in(records, pkAttributes);
+            }
+            Object first = records.get(0);
+            Attribute sourceAttribute = finder.getSourceAttribute();
+            if (sourceAttribute != null && !Arrays.asList(pkAttributes).contains(sourceAttribute))
+            {
+                op = op.and(sourceAttribute.nonPrimitiveEq(sourceAttribute.valueOf(first)));
+            }
+            AsOfAttribute[] asOfAttributes = finder.getAsOfAttributes();
+            for (int i = 0; asOfAttributes != null && i < asOfAttributes.length; i++)
+            {
+                op = op.and(asOfAttributes[i].eq(asOfAttributes[i].timestampValueOf(first)));
+            }
+            return op;
+        }
+
+        private Object getOriginal(MithraTransactionalObject record)
+        {
+            FullUniqueIndex index = this.originalsByFind.get(getFindKey(record));
+            return index.get(record, index.getExtractors());
+        }
+    }
+
+    /**
+     * merges the runs of one side into a single stream sorted by hash
+     */
+    private static class RunMerger
+    {
+        private final List<SpillRun> runs;
+        private final PriorityQueue<SpillRun> queue;
+
+        private RunMerger(List<SpillRun> runs) throws IOException, ClassNotFoundException
+        {
+            this.runs = runs;
+            this.queue = new PriorityQueue<SpillRun>(Math.max(1, runs.size()), new Comparator<SpillRun>()
+            {
+                public int compare(SpillRun o1, SpillRun o2)
+                {
+                    return o1.hash < o2.hash ? -1 : (o1.hash == o2.hash ? 0 : 1);
+                }
+            });
+            for (int i = 0; i < runs.size(); i++)
+            {
+                SpillRun run = runs.get(i);
+                if (run.next())
+                {
+                    this.queue.add(run);
+                }
+            }
+        }
+
+        private boolean hasNext()
+        {
+            return !this.queue.isEmpty();
+        }
+
+        private int peekHash()
+        {
+            return this.queue.peek().hash;
+        }
+
+        private Object next() throws IOException, ClassNotFoundException
+        {
+            SpillRun run = this.queue.poll();
+            Object result = run.current;
+            if (run.next())
+            {
+                this.queue.add(run);
+            }
+            return result;
+        }
+
+        private void close()
+        {
+            for (int i = 0; i < this.runs.size(); i++)
+            {
+                this.runs.get(i).close();
+            }
+        }
+    }
+}
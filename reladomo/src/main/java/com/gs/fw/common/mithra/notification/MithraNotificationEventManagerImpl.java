@@ -61,7 +61,7 @@ public class MithraNotificationEventManagerImpl implements MithraNotificationEve
     private ExecutorService queuedExecutor;
     private ScheduledExecutorService clockDaemon;
     private static final int PERIOD = 100;
-    private LZ4BlockOutputStream lz4BlockOutputStream = new LZ4BlockOutputStream(null, false);
+    private LZ4BlockOutputStream lz4BlockOutputStream = new LZ4BlockOutputStream(null, LZ4BlockOutputStream.DEFAULT_BLOCK_SIZE, false, true);
     private LZ4BlockInputStream lz4BlockInputStream = new LZ4BlockInputStream(null);
     private volatile boolean shutdown;
     private Thread shutdownHook = null;
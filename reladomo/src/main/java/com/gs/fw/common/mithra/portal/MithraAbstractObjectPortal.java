@@ -403,6 +403,11 @@ public abstract class MithraAbstractObjectPortal implements MithraObjectPortal
         return queryCache;
     }
 
+    public QueryCache zGetNonTransactionalQueryCache()
+    {
+        return queryCache;
+    }
+
     public Cache getCache()
     {
         return cache;
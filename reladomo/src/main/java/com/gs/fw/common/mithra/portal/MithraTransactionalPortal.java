@@ -378,6 +378,10 @@ public class MithraTransactionalPortal extends MithraAbstractObjectPortal
 
     public void setTxParticipationMode(TxParticipationMode mode, MithraTransaction tx)
     {
+        if (mode.isOptimisticRead() && this.getFinder().getAsOfAttributes() != null)
+        {
+            throw new MithraBusinessException("optimistic reads are not supported for dated objects: " + this.getFinder().getFinderClassName());
+        }
         this.txPatricipationMode.set(tx, mode);
         this.getMithraObjectPersister().setTxParticipationMode(mode, tx);
     }
@@ -228,6 +228,11 @@ public class UninitializedPortal implements MithraObjectPortal
         return initializeNow("getQueryCache").getQueryCache();
     }
 
+    public QueryCache zGetNonTransactionalQueryCache()
+    {
+        return initializeNow("zGetNonTransactionalQueryCache").zGetNonTransactionalQueryCache();
+    }
+
     public MithraObjectPortal[] getSuperClassPortals()
     {
         return initializeNow("getSuperClassPortals").getSuperClassPortals();
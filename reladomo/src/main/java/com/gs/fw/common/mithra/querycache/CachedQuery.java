@@ -17,7 +17,10 @@
 package com.gs.fw.common.mithra.querycache;
 
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.fw.common.mithra.MithraObject;
 import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.UpdateCountHolder;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
@@ -37,6 +40,7 @@ public class CachedQuery
     private UpdateCountHolder[] updateCountHolders;
     private int[] originalValues;
     private byte compactBools = 0;
+    private volatile CachedQueryMaintainer maintainer;
 
     private static final int MAX_FULL_CACHE_RELATIONSHIPS_TO_KEEP = 100000;
 
@@ -215,6 +219,8 @@ public class CachedQuery
 
     public boolean isExpired()
     {
+        CachedQueryMaintainer maintainer = this.maintainer;
+        if (maintainer != null) return maintainer.isExpired();
         for(int i=0;i<updateCountHolders.length;i++)
         {
             if (originalValues[i] != updateCountHolders[i].getUpdateCount()) return true;
@@ -227,11 +233,55 @@ public class CachedQuery
         return operation;
     }
 
+    public OrderBy getOrderBy()
+    {
+        return orderBy;
+    }
+
     public List getResult()
     {
+        CachedQueryMaintainer maintainer = this.maintainer;
+        if (maintainer != null) return maintainer.getResult();
         return result;
     }
 
+    public boolean isMaintained()
+    {
+        return this.maintainer != null;
+    }
+
+    /**
+     * the result of a maintained query is patched as objects are committed, rather than expired.
+     * Only queries that depend on a single, non-dated, transactional class can be maintained.
+     * @return true if the query is maintained
+     */
+    public boolean maintainResult()
+    {
+        if (this.maintainer != null) return true;
+        if (this.result == null || this.updateCountHolders == null || this.wasDefaulted() || this.isModifiable() || this.reachedMaxRetrieveCount())
+        {
+            return false;
+        }
+        MithraObjectPortal portal = this.operation.getResultObjectPortal();
+        if (!portal.isTransactional() || portal.getFinder().getAsOfAttributes() != null || this.getPortalList().size() != 1)
+        {
+            return false;
+        }
+        this.maintainer = new CachedQueryMaintainer(this.updateCountHolders, this.originalValues, this.result);
+        return true;
+    }
+
+    protected boolean isMaintenanceLost()
+    {
+        CachedQueryMaintainer maintainer = this.maintainer;
+        return maintainer != null && maintainer.isLost();
+    }
+
+    protected void objectsCommitted(MithraTransaction tx, List<MithraObject> objects, BooleanArrayList removed)
+    {
+        this.maintainer.objectsCommitted(this, tx, objects, removed);
+    }
+
     public void setResult(List result)
     {
         int size = result.size();
@@ -298,11 +348,12 @@ public class CachedQuery
     public CachedQuery getCloneForEquivalentOperation(Operation op, OrderBy orderBy)
     {
         CachedQuery clone = new CachedQuery(op, orderBy, this);
-        clone.result = this.result;
+        List result = this.getResult();
+        clone.result = result;
         clone.setWasDefaulted();
-        if (!this.hasSameOrderBy(orderBy) && this.result.size() > 1)
+        if (!this.hasSameOrderBy(orderBy) && result.size() > 1)
         {
-            FastList newOrderedList = new FastList(this.result);
+            FastList newOrderedList = new FastList(result);
             newOrderedList.sortThis(orderBy);
             clone.result = newOrderedList;
         }
@@ -312,9 +363,10 @@ public class CachedQuery
     public CachedQuery getCloneIfDifferentOrderBy(OrderBy orderBy)
     {
         CachedQuery clone = this;
-        if (!this.hasSameOrderBy(orderBy) && this.result.size() > 1)
+        List result = this.getResult();
+        if (!this.hasSameOrderBy(orderBy) && result.size() > 1)
         {
-            FastList newOrderedList = new FastList(this.result);
+            FastList newOrderedList = new FastList(result);
             newOrderedList.sortThis(orderBy);
             clone = new CachedQuery(this.operation, orderBy, newOrderedList, this.updateCountHolders, this.originalValues);
         }
@@ -323,7 +375,7 @@ public class CachedQuery
 
     public CachedQuery getModifiableClone()
     {
-        List newOrderedList = new FastList(this.result);
+        List newOrderedList = new FastList(this.getResult());
         CachedQuery result = new CachedQuery(this.operation, orderBy, newOrderedList, this.updateCountHolders, this.originalValues);
         result.setIsModifiable();
         return result;
@@ -0,0 +1,285 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.querycache;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.finder.UpdateCountHolder;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.util.ListFactory;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the result of a maintained CachedQuery up to date as objects are committed, instead of letting the
+ * query expire on the first update count change.
+ * <p>
+ * A committing transaction re-tests its changed objects against the operation and replaces the result with one
+ * patched copy per transaction (the old list may still be iterated by readers). The transaction's own update count increments
+ * (visible as the per-transaction counts while it commits) are remembered and absorbed once they show up in the
+ * non-transactional counts. Any other change to the counts, or an object the operation can't evaluate in memory,
+ * makes the query expire for good.
+ */
+class CachedQueryMaintainer
+{
+    private final UpdateCountHolder[] updateCountHolders;
+    private volatile int[] originalValues;
+    private volatile List result;
+    private volatile boolean lost;
+
+    private MithraTransaction pendingTransaction;
+    private boolean[] pendingIncrements;
+
+    CachedQueryMaintainer(UpdateCountHolder[] updateCountHolders, int[] originalValues, List result)
+    {
+        this.updateCountHolders = updateCountHolders;
+        this.originalValues = originalValues;
+        this.result = result;
+    }
+
+    public List getResult()
+    {
+        return result;
+    }
+
+    public boolean isLost()
+    {
+        return lost;
+    }
+
+    public boolean isExpired()
+    {
+        if (lost) return true;
+        int[] values = this.originalValues;
+        for(int i=0;i<updateCountHolders.length;i++)
+        {
+            if (values[i] != updateCountHolders[i].getUpdateCount())
+            {
+                return isExpiredAfterAbsorbingCommit();
+            }
+        }
+        return false;
+    }
+
+    private synchronized boolean isExpiredAfterAbsorbingCommit()
+    {
+        if (MithraManagerProvider.getMithraManager().zGetCurrentTransactionWithNoCheck() != null)
+        {
+            // inside a transaction, the counts are per transaction and the shared result is not usable
+            return true;
+        }
+        return !absorbPendingCommit() || pendingTransaction != null;
+    }
+
+    /**
+     * @return false if the counts changed in a way that can't be explained by the pending transaction
+     */
+    private boolean absorbPendingCommit()
+    {
+        if (lost) return false;
+        int[] current = getNonTxUpdateCounts();
+        int[] values = this.originalValues;
+        boolean partiallyCommitted = false;
+        for(int i=0;i<current.length;i++)
+        {
+            int delta = current[i] - values[i];
+            if (delta != 0 && (delta != 1 || pendingIncrements == null || !pendingIncrements[i]))
+            {
+                lost = true;
+                return false;
+            }
+            if (delta == 0 && pendingIncrements != null && pendingIncrements[i])
+            {
+                partiallyCommitted = true;
+            }
+        }
+        if (pendingTransaction != null && !partiallyCommitted)
+        {
+            this.originalValues = current;
+            this.pendingTransaction = null;
+            this.pendingIncrements = null;
+        }
+        return true;
+    }
+
+    /**
+     * @param objects the objects committed by tx, of which the ones with removed set were deleted
+     */
+    public synchronized void objectsCommitted(CachedQuery query, MithraTransaction tx, List<MithraObject> objects, BooleanArrayList removed)
+    {
+        if (tx == null || !absorbPendingCommit() || (pendingTransaction != null && pendingTransaction != tx))
+        {
+            lost = true;
+            return;
+        }
+        if (pendingTransaction == null)
+        {
+            pendingTransaction = tx;
+            pendingIncrements = new boolean[updateCountHolders.length];
+        }
+        for(int i=0;i<updateCountHolders.length;i++)
+        {
+            // the transaction increments the shared count once on commit if it incremented its own count
+            if (updateCountHolders[i].getUpdateCount() > 0) pendingIncrements[i] = true;
+        }
+        IdentityHashMap<MithraObject, Boolean> matches = new IdentityHashMap<MithraObject, Boolean>(objects.size() * 2);
+        for(int i=0;i<objects.size();i++)
+        {
+            MithraObject object = objects.get(i);
+            Boolean matched = Boolean.FALSE;
+            if (!removed.get(i))
+            {
+                // the transaction is no longer usable for reading the object, so the operation is evaluated on the data
+                matched = null;
+                try
+                {
+                    matched = query.getOperation().matches(object.zGetCurrentData());
+                }
+                catch (RuntimeException e)
+                {
+                    // can't be evaluated in memory; the query just expires
+                }
+                if (matched == null)
+                {
+                    lost = true;
+                    return;
+                }
+            }
+            matches.put(object, matched);
+        }
+        List newResult = patch(this.result, matches, query.getOrderBy());
+        if (newResult != null)
+        {
+            this.result = newResult;
+        }
+    }
+
+    private int[] getNonTxUpdateCounts()
+    {
+        int[] current = new int[updateCountHolders.length];
+        for(int i=0;i<updateCountHolders.length;i++)
+        {
+            current[i] = updateCountHolders[i].getNonTxUpdateCount();
+        }
+        return current;
+    }
+
+    /**
+     * @return a patched copy of list, or null if none of the changed objects changes it
+     */
+    private static List patch(List list, IdentityHashMap<MithraObject, Boolean> matches, OrderBy orderBy)
+    {
+        int matchCount = 0;
+        for(Boolean matched: matches.values())
+        {
+            if (matched.booleanValue()) matchCount++;
+        }
+        int found = 0;
+        boolean changed = false;
+        for(int i=0;i<list.size();i++)
+        {
+            Boolean matched = matches.get(list.get(i));
+            if (matched != null)
+            {
+                found++;
+                changed |= !matched.booleanValue() || (orderBy != null && !isInOrder(list, i, orderBy));
+            }
+        }
+        if (!changed && found == matchCount) return null;
+
+        FastList newList = new FastList(list.size() + matchCount - found);
+        IdentityHashMap<MithraObject, Boolean> toAdd = new IdentityHashMap<MithraObject, Boolean>(matches);
+        for(int i=0;i<list.size();i++)
+        {
+            MithraObject object = (MithraObject) list.get(i);
+            Boolean matched = matches.get(object);
+            if (matched == null)
+            {
+                newList.add(object);
+            }
+            else if (orderBy == null && matched.booleanValue())
+            {
+                // without an order by, an object that still matches keeps its place
+                newList.add(object);
+                toAdd.remove(object);
+            }
+        }
+        FastList additions = FastList.newList(matchCount);
+        for(Map.Entry<MithraObject, Boolean> entry: toAdd.entrySet())
+        {
+            if (entry.getValue().booleanValue()) additions.add(entry.getKey());
+        }
+        if (orderBy == null)
+        {
+            newList.addAll(additions);
+        }
+        else
+        {
+            newList = merge(newList, additions, orderBy);
+        }
+        if (newList.isEmpty()) return ListFactory.EMPTY_LIST;
+        return newList;
+    }
+
+    private static FastList merge(FastList sorted, FastList additions, final OrderBy orderBy)
+    {
+        if (additions.isEmpty()) return sorted;
+        Collections.sort(additions, new Comparator<MithraObject>()
+        {
+            public int compare(MithraObject left, MithraObject right)
+            {
+                return CachedQueryMaintainer.compare(orderBy, left, right);
+            }
+        });
+        FastList merged = new FastList(sorted.size() + additions.size());
+        int addPos = 0;
+        for(int i=0;i<sorted.size();i++)
+        {
+            MithraObject object = (MithraObject) sorted.get(i);
+            // an added object goes after the existing objects it compares equal to
+            while (addPos < additions.size() && compare(orderBy, object, (MithraObject) additions.get(addPos)) > 0)
+            {
+                merged.add(additions.get(addPos++));
+            }
+            merged.add(object);
+        }
+        while (addPos < additions.size())
+        {
+            merged.add(additions.get(addPos++));
+        }
+        return merged;
+    }
+
+    private static boolean isInOrder(List list, int position, OrderBy orderBy)
+    {
+        MithraObject object = (MithraObject) list.get(position);
+        return (position == 0 || compare(orderBy, (MithraObject) list.get(position - 1), object) <= 0)
+                && (position == list.size() - 1 || compare(orderBy, object, (MithraObject) list.get(position + 1)) <= 0);
+    }
+
+    private static int compare(OrderBy orderBy, MithraObject left, MithraObject right)
+    {
+        return orderBy.compare(left.zGetCurrentData(), right.zGetCurrentData());
+    }
+}
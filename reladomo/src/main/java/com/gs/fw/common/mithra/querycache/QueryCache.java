@@ -16,20 +16,36 @@
 
 package com.gs.fw.common.mithra.querycache;
 
-import com.gs.fw.common.mithra.cache.LruQueryIndex;
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.list.mutable.primitive.BooleanArrayList;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.cache.CacheClock;
-import com.gs.fw.common.mithra.cache.NonLruQueryIndex;
+import com.gs.fw.common.mithra.cache.ConcurrentQueryIndex;
 import com.gs.fw.common.mithra.cache.QueryIndex;
 import com.gs.fw.common.mithra.finder.AnalyzedOperation;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.finder.sqcache.SubQueryCache;
 
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+
 
 public class QueryCache
 {
     private QueryIndex cache;
     private SubQueryCache subQueryCache;
+    private volatile boolean maintainQueries;
+    private FastList<WeakReference<CachedQuery>> maintainedQueries;
+    private MithraTransaction committingTransaction;
+    private FastList<MithraObject> committedObjects;
+    private BooleanArrayList committedRemoved;
+
+    private static final int MAX_MAINTAINED_QUERIES = 1000;
+    // minQueriesToKeep and relationshipCacheSize are configured as numbers of queries; the index is bounded by retained result size
+    private static final int ROWS_PER_QUERY = Integer.parseInt(System.getProperty("mithra.queryCache.rowsPerQuery", "100"));
 
     public QueryCache(int relationshipCacheSize, int minQueriesToKeep)
     {
@@ -40,11 +56,11 @@ public class QueryCache
     {
         if (fullCache || (relationshipCacheSize == 0 && minQueriesToKeep == 0 && timeToLive == 0 && relationshipTimeToLive == 0))
         {
-            this.cache = new NonLruQueryIndex();
+            this.cache = new ConcurrentQueryIndex();
         }
         else
         {
-            this.cache = new LruQueryIndex(minQueriesToKeep, relationshipCacheSize, timeToLive, relationshipTimeToLive);
+            this.cache = new ConcurrentQueryIndex(minQueriesToKeep * ROWS_PER_QUERY, relationshipCacheSize * ROWS_PER_QUERY, timeToLive, relationshipTimeToLive);
             if (timeToLive > 0) CacheClock.register(timeToLive);
             if (relationshipTimeToLive > 0) CacheClock.register(relationshipTimeToLive);
         }
@@ -54,16 +70,121 @@ public class QueryCache
         }
     }
 
+    /**
+     * In maintained mode, the results of newly cached queries on a non-dated transactional class are patched
+     * as objects of that class are committed, instead of expiring on every update to the class.
+     */
+    public void setMaintainQueries(boolean maintainQueries)
+    {
+        synchronized (this)
+        {
+            this.maintainedQueries = maintainQueries ? new FastList<WeakReference<CachedQuery>>() : null;
+            this.committingTransaction = null;
+            this.committedObjects = null;
+            this.committedRemoved = null;
+            this.maintainQueries = maintainQueries;
+        }
+    }
+
+    public boolean isMaintainingQueries()
+    {
+        return this.maintainQueries;
+    }
+
     public void cacheQueryForRelationship(CachedQuery query)
     {
         this.cache.put(query, true);
         cacheSubquery(query);
+        maintainQuery(query);
     }
 
     public void cacheQuery(CachedQuery query)
     {
         this.cache.put(query, false);
         cacheSubquery(query);
+        maintainQuery(query);
+    }
+
+    private void maintainQuery(CachedQuery query)
+    {
+        if (this.maintainQueries)
+        {
+            synchronized (this)
+            {
+                if (this.maintainedQueries != null && this.maintainedQueries.size() < MAX_MAINTAINED_QUERIES && query.maintainResult())
+                {
+                    this.maintainedQueries.add(new WeakReference<CachedQuery>(query));
+                }
+            }
+        }
+    }
+
+    /**
+     * called by a committing transaction for each inserted, updated or deleted object of this cache's class.
+     * The objects are buffered and patched into the maintained queries once per transaction, by
+     * {@link #commitMaintainedQueries(MithraTransaction)}.
+     */
+    public void objectCommitted(MithraObject object, boolean removed)
+    {
+        if (!this.maintainQueries) return;
+        MithraTransaction tx = MithraManagerProvider.getMithraManager().zGetCurrentTransactionWithNoCheck();
+        synchronized (this)
+        {
+            if (this.maintainedQueries == null || this.maintainedQueries.isEmpty()) return;
+            if (this.committingTransaction != tx || tx == null)
+            {
+                this.patchMaintainedQueries();
+                this.committingTransaction = tx;
+                this.committedObjects = FastList.newList();
+                this.committedRemoved = new BooleanArrayList();
+                if (tx != null)
+                {
+                    tx.enrollMaintainedQueryCache(this);
+                }
+            }
+            this.committedObjects.add(object);
+            this.committedRemoved.add(removed);
+            if (tx == null)
+            {
+                // not in a transaction, so the queries are lost rather than patched
+                this.patchMaintainedQueries();
+            }
+        }
+    }
+
+    /**
+     * called once by a committing transaction, after its objects were committed and before the update counts change
+     */
+    public synchronized void commitMaintainedQueries(MithraTransaction tx)
+    {
+        if (this.committingTransaction == tx)
+        {
+            this.patchMaintainedQueries();
+        }
+    }
+
+    private void patchMaintainedQueries()
+    {
+        if (this.committedObjects == null) return;
+        MithraTransaction tx = this.committingTransaction;
+        FastList<MithraObject> objects = this.committedObjects;
+        BooleanArrayList removed = this.committedRemoved;
+        this.committingTransaction = null;
+        this.committedObjects = null;
+        this.committedRemoved = null;
+        if (this.maintainedQueries == null) return;
+        for(Iterator<WeakReference<CachedQuery>> it = this.maintainedQueries.iterator(); it.hasNext(); )
+        {
+            CachedQuery query = it.next().get();
+            if (query != null)
+            {
+                query.objectsCommitted(tx, objects, removed);
+            }
+            if (query == null || query.isMaintenanceLost())
+            {
+                it.remove();
+            }
+        }
     }
 
     private void cacheSubquery(CachedQuery query)
@@ -91,6 +212,13 @@ public class QueryCache
         {
             this.subQueryCache.clear();
         }
+        synchronized (this)
+        {
+            if (this.maintainedQueries != null)
+            {
+                this.maintainedQueries.clear();
+            }
+        }
     }
 
     public int roughSize()
@@ -98,6 +226,11 @@ public class QueryCache
         return this.cache.roughSize();
     }
 
+    public QueryIndex getQueryIndex()
+    {
+        return this.cache;
+    }
+
     public void destroy()
     {
         this.cache.destroy();
@@ -109,9 +242,15 @@ public class QueryCache
         if (query.prepareToCacheQuery(forRelationship, this))
         {
             this.cache.put(query, forRelationship);
+            maintainQuery(query);
         }
     }
 
+    public SubQueryCache getSubQueryCache()
+    {
+        return subQueryCache;
+    }
+
     public CachedQuery findBySubQuery(Operation op, AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship)
     {
         if (this.subQueryCache != null)
@@ -0,0 +1,140 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote;
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.VersionAttribute;
+import com.gs.fw.common.mithra.cache.FullUniqueIndex;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The primary keys and versions of the objects a client already holds for a remote find. The server sends a reference
+ * to the client's object instead of the full data when the version it has is the same.
+ * <p>
+ * Only classes with an optimistic lock attribute can be sent this way: the version is the value of that attribute,
+ * so objects with the same version have the same data.
+ */
+public class ExternalizableKnownVersions implements Externalizable
+{
+    private transient List mithraObjects;
+    private List mithraDataObjects;
+    private long[] versions;
+    private transient FullUniqueIndex primaryKeyIndex;
+    private transient Map<MithraDataObject, Integer> positions;
+
+    public ExternalizableKnownVersions(List mithraObjects, RelatedFinder finder)
+    {
+        this.mithraObjects = mithraObjects;
+        this.mithraDataObjects = new ArrayList(mithraObjects.size());
+        this.versions = new long[mithraObjects.size()];
+        VersionAttribute versionAttribute = finder.getVersionAttribute();
+        for (int i = 0; i < mithraObjects.size(); i++)
+        {
+            MithraDataObject data = ((MithraObject) mithraObjects.get(i)).zGetCurrentData();
+            this.mithraDataObjects.add(data);
+            this.versions[i] = computeVersion(data, versionAttribute);
+        }
+    }
+
+    public ExternalizableKnownVersions()
+    {
+        // for externalizable
+    }
+
+    public int size()
+    {
+        return this.mithraDataObjects.size();
+    }
+
+    /**
+     * @return the client's object at the given position; only available where this was created
+     */
+    public MithraObject getKnownObject(int position)
+    {
+        return (MithraObject) this.mithraObjects.get(position);
+    }
+
+    /**
+     * @return the position of the known object with the same primary key and version as the data, or -1
+     */
+    public int findSameVersion(MithraDataObject data, RelatedFinder finder)
+    {
+        if (this.primaryKeyIndex == null)
+        {
+            this.primaryKeyIndex = new FullUniqueIndex(finder.getPrimaryKeyAttributes(), this.mithraDataObjects.size());
+            this.positions = new IdentityHashMap<MithraDataObject, Integer>(this.mithraDataObjects.size());
+            for (int i = 0; i < this.mithraDataObjects.size(); i++)
+            {
+                MithraDataObject known = (MithraDataObject) this.mithraDataObjects.get(i);
+                this.primaryKeyIndex.put(known);
+                this.positions.put(known, i);
+            }
+        }
+        MithraDataObject known = (MithraDataObject) this.primaryKeyIndex.getFromData(data);
+        if (known == null) return -1;
+        int position = this.positions.get(known);
+        return this.versions[position] == computeVersion(data, finder.getVersionAttribute()) ? position : -1;
+    }
+
+    private static long computeVersion(MithraDataObject data, VersionAttribute versionAttribute)
+    {
+        Object version = ((Attribute) versionAttribute).valueOf(data);
+        if (version instanceof Timestamp)
+        {
+            return ((Timestamp) version).getTime() * 1000000 + ((Timestamp) version).getNanos() % 1000000;
+        }
+        return version == null ? Long.MIN_VALUE : ((Number) version).longValue();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(MithraSerialUtil.getDataClassNameToSerialize((MithraDataObject) this.mithraDataObjects.get(0)));
+        out.writeInt(this.mithraDataObjects.size());
+        for (int i = 0; i < this.mithraDataObjects.size(); i++)
+        {
+            ((MithraDataObject) this.mithraDataObjects.get(i)).zSerializePrimaryKey(out);
+            out.writeLong(this.versions[i]);
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        Class dataClass = MithraSerialUtil.getDataClassToInstantiate((String) in.readObject());
+        int count = in.readInt();
+        this.mithraDataObjects = new ArrayList(count);
+        this.versions = new long[count];
+        for (int i = 0; i < count; i++)
+        {
+            MithraDataObject mithraDataObject = MithraSerialUtil.instantiateData(dataClass);
+            mithraDataObject.zDeserializePrimaryKey(in);
+            this.mithraDataObjects.add(mithraDataObject);
+            this.versions[i] = in.readLong();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.util.ExceptionCatchingThread;
+import com.gs.fw.common.mithra.util.ExceptionHandlingTask;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+
+/**
+ * The results of several finds sent in one request. Outside a transaction, the server runs the finds in parallel.
+ */
+public class RemoteBatchFindResult extends MithraRemoteResult
+{
+    private RemoteQueryResult[] results;
+
+    public RemoteBatchFindResult(RemoteQueryResult[] results)
+    {
+        this.results = results;
+    }
+
+    public RemoteBatchFindResult()
+    {
+        // for externalizable
+    }
+
+    public void run()
+    {
+        if (this.results.length == 1 || MithraManagerProvider.getMithraManager().isInTransaction())
+        {
+            for (int i = 0; i < this.results.length; i++)
+            {
+                this.results[i].run();
+            }
+            return;
+        }
+        ExceptionHandlingTask[] tasks = new ExceptionHandlingTask[this.results.length];
+        for (int i = 1; i < this.results.length; i++)
+        {
+            final RemoteQueryResult result = this.results[i];
+            tasks[i] = new ExceptionHandlingTask()
+            {
+                public void execute()
+                {
+                    result.run();
+                }
+            };
+            ExceptionCatchingThread.submitTask(tasks[i]);
+        }
+        try
+        {
+            this.results[0].run();
+        }
+        finally
+        {
+            for (int i = 1; i < tasks.length; i++)
+            {
+                tasks[i].waitUntilDoneIgnoringExceptions();
+            }
+        }
+        for (int i = 1; i < tasks.length; i++)
+        {
+            tasks[i].waitUntilDoneWithExceptionHandling();
+        }
+    }
+
+    public RemoteQueryResult[] getResults()
+    {
+        return results;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.readRemoteTransactionId(in);
+        this.results = new RemoteQueryResult[in.readInt()];
+        for (int i = 0; i < this.results.length; i++)
+        {
+            this.results[i] = new RemoteQueryResult();
+            this.results[i].readExternal(in);
+        }
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        this.writeRemoteTransactionId(out);
+        out.writeInt(this.results.length);
+        for (int i = 0; i < this.results.length; i++)
+        {
+            this.results[i].writeExternal(out);
+        }
+    }
+}
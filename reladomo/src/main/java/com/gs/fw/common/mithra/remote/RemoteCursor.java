@@ -19,6 +19,8 @@ package com.gs.fw.common.mithra.remote;
 import com.gs.fw.common.mithra.MithraBusinessException;
 import com.gs.fw.common.mithra.list.cursor.Cursor;
 import com.gs.fw.common.mithra.util.AutoShutdownThreadExecutor;
+import com.gs.fw.common.mithra.util.ExceptionCatchingThread;
+import com.gs.fw.common.mithra.util.ExceptionHandlingTask;
 import com.gs.collections.impl.map.mutable.primitive.IntObjectHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,10 +28,14 @@ import org.slf4j.LoggerFactory;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 
 public class RemoteCursor implements Cursor
 {
+    private static final RemoteContinuedCursorResult END_OF_STREAM = new RemoteContinuedCursorResult();
+
     private RemoteMithraObjectPersister remoteMithraObjectPersister;
     private List currentBatch;
     private boolean isRemoteSideFinished;
@@ -44,6 +50,9 @@ public class RemoteCursor implements Cursor
     private IntObjectHashMap<RemoteContinuedCursorResult> orderedResults;
     private AutoShutdownThreadExecutor executor;
     private volatile Throwable error;
+    private int prefetchDepth;
+    private ArrayBlockingQueue<RemoteContinuedCursorResult> prefetched;
+    private StreamingContinue streamingContinue;
 
     public RemoteCursor(RemoteMithraObjectPersister remoteMithraObjectPersister, List initialList, boolean isRemoteSideFinished,
             int remoteQueueSize, RemoteTransactionId remoteCursorId)
@@ -87,6 +96,13 @@ public class RemoteCursor implements Cursor
                 }
             }
         }
+        if (streamingContinue != null)
+        {
+            streamingContinue.stop();
+            prefetched.clear();
+            streamingContinue.waitUntilDoneIgnoringExceptions();
+            isRemoteSideFinishedWaitingInQueue = streamingContinue.isReachedEnd();
+        }
         if (isRemoteSideFinished || isRemoteSideFinishedWaitingInQueue) return;
         this.remoteMithraObjectPersister.closeCursor(this.remoteCursorId);
         checkError();
@@ -146,6 +162,10 @@ public class RemoteCursor implements Cursor
                     }
                 }
             }
+            else if (prefetchDepth > 0 && !this.isTransactional)
+            {
+                readMoreStreaming();
+            }
             else
             {
                 readMoreSingleThreaded();
@@ -195,6 +215,40 @@ public class RemoteCursor implements Cursor
         }
     }
 
+    private void readMoreStreaming()
+    {
+        if (streamingContinue == null)
+        {
+            prefetched = new ArrayBlockingQueue<RemoteContinuedCursorResult>(prefetchDepth);
+            streamingContinue = new StreamingContinue();
+            ExceptionCatchingThread.submitTask(streamingContinue);
+        }
+        RemoteContinuedCursorResult continuedCursorResult = null;
+        while (continuedCursorResult == null)
+        {
+            try
+            {
+                continuedCursorResult = prefetched.take();
+            }
+            catch (InterruptedException e)
+            {
+                //ignore
+            }
+        }
+        checkError();
+        if (continuedCursorResult == END_OF_STREAM)
+        {
+            this.currentPos = 0;
+            this.currentBatch = Collections.EMPTY_LIST;
+            this.remoteQueueSize = 0;
+            this.isRemoteSideFinished = true;
+        }
+        else
+        {
+            setMoreObjects(continuedCursorResult);
+        }
+    }
+
     private void setMoreObjects(RemoteContinuedCursorResult continuedCursorResult)
     {
         if (continuedCursorResult != null)
@@ -237,6 +291,72 @@ public class RemoteCursor implements Cursor
         this.isTransactional = transactional;
     }
 
+    /**
+     * a single threaded cursor outside a transaction reads up to this many results ahead on another thread
+     */
+    public void setPrefetchDepth(int prefetchDepth)
+    {
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    private class StreamingContinue extends ExceptionHandlingTask
+    {
+        private volatile boolean stopped;
+        private volatile boolean reachedEnd;
+
+        public void execute()
+        {
+            try
+            {
+                while (!stopped)
+                {
+                    RemoteContinuedCursorResult continuedCursorResult = remoteMithraObjectPersister.continueCursor(RemoteCursor.this);
+                    if (continuedCursorResult == null)
+                    {
+                        reachedEnd = true;
+                        offer(END_OF_STREAM);
+                        return;
+                    }
+                    reachedEnd = continuedCursorResult.isFinished();
+                    if (!offer(continuedCursorResult) || reachedEnd) return;
+                }
+            }
+            catch (Throwable e)
+            {
+                error = e;
+                remoteMithraObjectPersister.getLogger().error("Remote cursor error ", error);
+                offer(END_OF_STREAM);
+            }
+        }
+
+        // the capacity of the queue is the number of results the server may send ahead of the caller
+        private boolean offer(RemoteContinuedCursorResult continuedCursorResult)
+        {
+            while (!stopped)
+            {
+                try
+                {
+                    if (prefetched.offer(continuedCursorResult, 100, TimeUnit.MILLISECONDS)) return true;
+                }
+                catch (InterruptedException e)
+                {
+                    //ignore
+                }
+            }
+            return false;
+        }
+
+        public void stop()
+        {
+            this.stopped = true;
+        }
+
+        public boolean isReachedEnd()
+        {
+            return reachedEnd;
+        }
+    }
+
     private class AsyncContinue implements Runnable
     {
         public void run()
@@ -42,7 +42,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 public class RemoteCursorResult extends MithraRemoteResult
 {
-    private static final int BATCH_SIZE = 1000;
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
     private static final AtomicInteger ID_FACTORY = new AtomicInteger(0);
     private static final UnifiedMap<RemoteTransactionId, RemoteCursorResult> CURSOR_MAP = new UnifiedMap<RemoteTransactionId, RemoteCursorResult>();
     private static final Logger logger = LoggerFactory.getLogger(RemoteCursorResult.class.getName());
@@ -53,6 +53,8 @@ public class RemoteCursorResult extends MithraRemoteResult
     private transient boolean bypassCache;
     private transient int maxObjectsToRetrieve;
     private transient int maxParallelDegree;
+    private transient int chunkSize = DEFAULT_CHUNK_SIZE;
+    private transient int prefetchDepth;
     private transient ServerContext serverContext;
     private transient ServerCursorExecutor serverCursorExecutor;
     private transient Worker worker;
@@ -89,6 +91,20 @@ public class RemoteCursorResult extends MithraRemoteResult
         this.forceImplicitJoin = forceImplicitJoin;
     }
 
+    /**
+     * @param chunkSize the number of objects sent in each response
+     * @param prefetchDepth the number of chunks the client reads ahead; the server keeps at least one more than that
+     * queued so a streaming client does not wait on the database
+     */
+    public RemoteCursorResult(Operation op, Filter postLoadOperation, OrderBy orderBy, boolean bypassCache, int maxObjectsToRetrieve,
+                              int maxParallelDegree, ServerContext serverContext, int vmId, boolean forceImplicitJoin,
+                              int chunkSize, int prefetchDepth)
+    {
+        this(op, postLoadOperation, orderBy, bypassCache, maxObjectsToRetrieve, maxParallelDegree, serverContext, vmId, forceImplicitJoin);
+        this.chunkSize = chunkSize;
+        this.prefetchDepth = prefetchDepth;
+    }
+
     public void run()
     {
         MithraObjectPortal portal = op.getResultObjectPortal();
@@ -226,7 +242,7 @@ public class RemoteCursorResult extends MithraRemoteResult
 
     private int getMaxQueueLength()
     {
-        return maxParallelDegree * 3;
+        return Math.max(maxParallelDegree * 3, prefetchDepth + 1);
     }
 
     public static RemoteCursorResult getExisting(RemoteTransactionId remoteCursorId)
@@ -340,9 +356,9 @@ public class RemoteCursorResult extends MithraRemoteResult
         {
             if (done) return;
             if (result.isEmpty()) queueResult(Collections.EMPTY_LIST);
-            for (int i = 0; i < result.size(); i += BATCH_SIZE)
+            for (int i = 0; i < result.size(); i += chunkSize)
             {
-                queueResult(result.subList(i, Math.min(result.size(), i + BATCH_SIZE)));
+                queueResult(result.subList(i, Math.min(result.size(), i + chunkSize)));
             }
             done = true;
         }
@@ -391,7 +407,7 @@ public class RemoteCursorResult extends MithraRemoteResult
                     return;
                 }
                 FastList list = new FastList();
-                for (int i = 0; i < BATCH_SIZE && cursor.hasNext() && !markedForClosure; i++)
+                for (int i = 0; i < chunkSize && cursor.hasNext() && !markedForClosure; i++)
                 {
                     list.add(cursor.next());
                 }
@@ -0,0 +1,235 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.MithraTransactionException;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.portal.MithraAbstractObjectPortal;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends the finds for several operations on remote portals to their server in one request. The server runs them in
+ * parallel outside a transaction. Deep fetch uses it for the relationships under a node; it can also be used
+ * directly before resolving lists that are known to be needed together:
+ * <pre>
+ * RemoteFindBatch batch = new RemoteFindBatch();
+ * batch.add(OrderFinder.userId().eq(1), false, false);
+ * batch.add(OrderItemFinder.state().eq("Completed"), false, false);
+ * batch.execute();
+ * try
+ * {
+ *     // resolve the two lists
+ * }
+ * finally
+ * {
+ *     batch.release();
+ * }
+ * </pre>
+ * The results are held for the current thread until {@link RemoteMithraObjectPersister} is asked to find the same
+ * operation without an order by or a row count, so query caching and notification registration are unchanged.
+ * Results that are never asked for are dropped by {@link #release()}.
+ */
+public class RemoteFindBatch
+{
+    private static final ThreadLocal<Map<Operation, Member>> PREFETCHED = new ThreadLocal<Map<Operation, Member>>();
+
+    private final FastList<Member> members = FastList.newList();
+
+    /**
+     * @return false if the operation is not on a remote portal, and was not added
+     */
+    public boolean add(Operation op, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        MithraObjectPortal portal = op.getResultObjectPortal();
+        if (!isRemote(portal))
+        {
+            return false;
+        }
+        for (int i = 0; i < this.members.size(); i++)
+        {
+            if (this.members.get(i).operation.equals(op)) return true;
+        }
+        RemoteMithraObjectPersister persister = (RemoteMithraObjectPersister) ((MithraAbstractObjectPortal) portal).getMithraObjectReader();
+        this.members.add(new Member(persister, op, bypassCache, forceImplicitJoin));
+        return true;
+    }
+
+    public static boolean isRemote(MithraObjectPortal portal)
+    {
+        return portal instanceof MithraAbstractObjectPortal
+                && ((MithraAbstractObjectPortal) portal).getMithraObjectReader() instanceof RemoteMithraObjectPersister;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.members.isEmpty();
+    }
+
+    /**
+     * sends one request for each server that has at least two finds. If a request fails, the results of this batch
+     * are dropped before the exception is thrown.
+     * @return the number of finds that were sent
+     */
+    public int execute()
+    {
+        Map<RemoteMithraService, FastList<Member>> groups = UnifiedMap.newMap();
+        for (int i = 0; i < this.members.size(); i++)
+        {
+            Member member = this.members.get(i);
+            FastList<Member> group = groups.get(member.persister.getRemoteMithraService());
+            if (group == null)
+            {
+                group = FastList.newList();
+                groups.put(member.persister.getRemoteMithraService(), group);
+            }
+            group.add(member);
+        }
+        int executed = 0;
+        boolean succeeded = false;
+        try
+        {
+            for (FastList<Member> group : groups.values())
+            {
+                if (group.size() > 1)
+                {
+                    executeGroup(group);
+                    executed += group.size();
+                }
+            }
+            succeeded = true;
+        }
+        finally
+        {
+            if (!succeeded)
+            {
+                this.release();
+            }
+        }
+        return executed;
+    }
+
+    private static void executeGroup(List<Member> group)
+    {
+        RemoteMithraObjectPersister persister = group.get(0).persister;
+        MithraTransaction currentTransaction = MithraManagerProvider.getMithraManager().getCurrentTransaction();
+        ClientTransactionContext context = persister.getOrCreateContext(currentTransaction);
+        FastList<Operation> operations = FastList.newList(group.size());
+        boolean[] bypassCache = new boolean[group.size()];
+        boolean[] forceImplicitJoin = new boolean[group.size()];
+        for (int i = 0; i < group.size(); i++)
+        {
+            Member member = group.get(i);
+            operations.add(member.operation);
+            bypassCache[i] = member.bypassCache;
+            forceImplicitJoin[i] = member.forceImplicitJoin;
+        }
+        if (persister.getLogger().isDebugEnabled())
+        {
+            persister.getLogger().debug("remote find of " + group.size() + " operations in one request");
+        }
+        RemoteBatchFindResult batchResult = null;
+        try
+        {
+            batchResult = persister.getRemoteMithraService().findBatch(context.getRemoteTransactionId(),
+                    context.getTransactionTimeoutWithoutException(), context.getXid(), operations, bypassCache, forceImplicitJoin);
+        }
+        catch (MithraTransactionException e)
+        {
+            persister.setRemoteServiceOnException(context, e);
+        }
+        MithraManagerProvider.getMithraManager().incrementRemoteRetrieveCount();
+        context.setRemoteTransactionId(batchResult.getRemoteTransactionId());
+        RemoteQueryResult[] results = batchResult.getResults();
+        Map<Operation, Member> prefetched = getPrefetched();
+        for (int i = 0; i < group.size(); i++)
+        {
+            Member member = group.get(i);
+            member.result = results[i];
+            prefetched.put(member.operation, member);
+        }
+    }
+
+    private static Map<Operation, Member> getPrefetched()
+    {
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        if (prefetched == null)
+        {
+            prefetched = UnifiedMap.newMap();
+            PREFETCHED.set(prefetched);
+        }
+        return prefetched;
+    }
+
+    /**
+     * drops the results of this batch that were not asked for
+     */
+    public void release()
+    {
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        if (prefetched == null) return;
+        for (int i = 0; i < this.members.size(); i++)
+        {
+            Member member = this.members.get(i);
+            if (prefetched.get(member.operation) == member)
+            {
+                prefetched.remove(member.operation);
+            }
+        }
+        if (prefetched.isEmpty())
+        {
+            PREFETCHED.remove();
+        }
+    }
+
+    static RemoteQueryResult take(RemoteMithraService remoteMithraService, Operation op, boolean bypassCache, boolean forceImplicitJoin)
+    {
+        Map<Operation, Member> prefetched = PREFETCHED.get();
+        if (prefetched == null) return null;
+        Member member = prefetched.get(op);
+        if (member == null || member.persister.getRemoteMithraService() != remoteMithraService
+                || (bypassCache && !member.bypassCache) || member.forceImplicitJoin != forceImplicitJoin)
+        {
+            return null;
+        }
+        prefetched.remove(op);
+        return member.result;
+    }
+
+    private static class Member
+    {
+        private final RemoteMithraObjectPersister persister;
+        private final Operation operation;
+        private final boolean bypassCache;
+        private final boolean forceImplicitJoin;
+        private RemoteQueryResult result;
+
+        private Member(RemoteMithraObjectPersister persister, Operation operation, boolean bypassCache, boolean forceImplicitJoin)
+        {
+            this.persister = persister;
+            this.operation = operation;
+            this.bypassCache = bypassCache;
+            this.forceImplicitJoin = forceImplicitJoin;
+        }
+    }
+}
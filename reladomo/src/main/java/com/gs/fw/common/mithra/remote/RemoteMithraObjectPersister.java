@@ -49,6 +49,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class RemoteMithraObjectPersister implements MithraDatedObjectPersister, MithraTuplePersister
@@ -58,6 +59,11 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
     private UpdateDataChooser updateDataChooser;
     private Logger logger;
     private static final ClientTransactionContext NULL_CLIENT_TRANSACTION_CONTEXT = new ClientTransactionContext(null, null);
+    private static final int MAX_KNOWN_VERSIONS = 10000;
+    private volatile boolean sendKnownVersions;
+    private final AtomicLong knownObjectsNotResent = new AtomicLong();
+    private volatile int cursorChunkSize = RemoteCursorResult.DEFAULT_CHUNK_SIZE;
+    private volatile int cursorPrefetchDepth;
 
     public RemoteMithraObjectPersister(RemoteMithraService remoteMithraService, RelatedFinder finder,
                                        boolean isDated)
@@ -93,6 +99,11 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         return finder;
     }
 
+    RemoteMithraService getRemoteMithraService()
+    {
+        return remoteMithraService;
+    }
+
     public void loadFullCache()
     {
         RemoteReloadResult result = this.remoteMithraService.reload(this.getPortal().getMithraObjectDeserializer().getOperationsForFullCacheLoad());
@@ -115,6 +126,65 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         return logger;
     }
 
+    /**
+     * When set, a find outside a transaction sends the primary keys and versions of the matching objects already in
+     * the client cache, and the server sends only the objects that are new or changed in full. Only classes with an
+     * optimistic lock attribute take part; dated objects and classes without a version are always sent in full.
+     */
+    public void setSendKnownVersions(boolean sendKnownVersions)
+    {
+        this.sendKnownVersions = sendKnownVersions;
+    }
+
+    public boolean isSendKnownVersions()
+    {
+        return sendKnownVersions;
+    }
+
+    /**
+     * @return the number of found objects the server did not send because the client already had the same version
+     */
+    public long getKnownObjectsNotResent()
+    {
+        return knownObjectsNotResent.get();
+    }
+
+    /**
+     * Sets the number of objects the server sends in each response of a cursor. The default is 1000.
+     */
+    public void setCursorChunkSize(int cursorChunkSize)
+    {
+        if (cursorChunkSize < 1)
+        {
+            throw new IllegalArgumentException("cursor chunk size must be positive, not " + cursorChunkSize);
+        }
+        this.cursorChunkSize = cursorChunkSize;
+    }
+
+    public int getCursorChunkSize()
+    {
+        return cursorChunkSize;
+    }
+
+    /**
+     * When set, a single threaded cursor outside a transaction reads up to this many chunks ahead on a separate
+     * thread while the caller processes the current one, and the server keeps producing the chunks that follow.
+     * The default of 0 reads each chunk when the previous one is used up.
+     */
+    public void setCursorPrefetchDepth(int cursorPrefetchDepth)
+    {
+        if (cursorPrefetchDepth < 0)
+        {
+            throw new IllegalArgumentException("cursor prefetch depth must not be negative, not " + cursorPrefetchDepth);
+        }
+        this.cursorPrefetchDepth = cursorPrefetchDepth;
+    }
+
+    public int getCursorPrefetchDepth()
+    {
+        return cursorPrefetchDepth;
+    }
+
     public Cursor findCursor(AnalyzedOperation analyzedOperation, Filter postLoadFilter, OrderBy orderby, int rowcount, boolean bypassCache, int maxParallelDegree, boolean forceImplicitJoin)
     {
         if (this.logger.isDebugEnabled())
@@ -124,13 +194,25 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         MithraTransaction currentTransaction = MithraManagerProvider.getMithraManager().getCurrentTransaction();
         ClientTransactionContext context = getOrCreateContext(currentTransaction);
 
+        int chunkSize = this.cursorChunkSize;
+        int prefetchDepth = this.cursorPrefetchDepth;
         RemoteCursorResult queryResult = null;
         try
         {
-            queryResult = this.remoteMithraService.findRemoteCursorResult(
-                    context.getRemoteTransactionId(), context.getTransactionTimeoutWithoutException(), context.getXid(),
-                    analyzedOperation.getOriginalOperation(), postLoadFilter,
-                    orderby, bypassCache, rowcount, maxParallelDegree, forceImplicitJoin);
+            if (chunkSize == RemoteCursorResult.DEFAULT_CHUNK_SIZE && prefetchDepth == 0)
+            {
+                queryResult = this.remoteMithraService.findRemoteCursorResult(
+                        context.getRemoteTransactionId(), context.getTransactionTimeoutWithoutException(), context.getXid(),
+                        analyzedOperation.getOriginalOperation(), postLoadFilter,
+                        orderby, bypassCache, rowcount, maxParallelDegree, forceImplicitJoin);
+            }
+            else
+            {
+                queryResult = this.remoteMithraService.findStreamingCursorResult(
+                        context.getRemoteTransactionId(), context.getTransactionTimeoutWithoutException(), context.getXid(),
+                        analyzedOperation.getOriginalOperation(), postLoadFilter,
+                        orderby, bypassCache, rowcount, maxParallelDegree, forceImplicitJoin, chunkSize, prefetchDepth);
+            }
         }
         catch (MithraTransactionException e)
         {
@@ -145,10 +227,11 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         RemoteCursor cursor = queryResult.getCursor(this);
         cursor.setMaxParallelDegree(maxParallelDegree);
         cursor.setTransactional(currentTransaction != null);
+        cursor.setPrefetchDepth(prefetchDepth);
         return cursor;
     }
 
-    private ClientTransactionContext getOrCreateContext(MithraTransaction currentTransaction)
+    ClientTransactionContext getOrCreateContext(MithraTransaction currentTransaction)
     {
         if (currentTransaction == null) return NULL_CLIENT_TRANSACTION_CONTEXT;
         ClientTransactionContext context = ClientTransactionContextManager.getInstance().getClientTransactionContext(this.remoteMithraService, currentTransaction);
@@ -167,34 +250,79 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         {
             this.logger.debug("remote find: " + analyzedOperation.getOriginalOperation().toString());
         }
+        RemoteQueryResult queryResult = orderby == null && rowcount == 0 ?
+                RemoteFindBatch.take(this.remoteMithraService, analyzedOperation.getOriginalOperation(), bypassCache, forceImplicitJoin) : null;
+        if (queryResult == null)
+        {
+            queryResult = this.findRemotely(analyzedOperation, orderby, forRelationship, rowcount, bypassCache, forceImplicitJoin);
+        }
+
+        CachedQuery cachedQuery = cacheRemoteAnalyzedOperation(analyzedOperation, orderby, queryResult, forRelationship);
+        queryResult.registerForNotification();
+
+        this.getPortal().getPerformanceData().recordTimeForFind(queryResult.getDeserializedResult().size(), startTime);
+        if (this.logger.isDebugEnabled())
+        {
+            long duration = System.currentTimeMillis() - startTime;
+            int size = cachedQuery.getResult().size();
+            this.logger.debug("retrieved " + size + " objects in " + duration + " ms. " + (size > 0 ? duration / (double) size + " ms per object" : ""));
+        }
+        return cachedQuery;
+    }
+
+    private RemoteQueryResult findRemotely(AnalyzedOperation analyzedOperation, OrderBy orderby, boolean forRelationship, int rowcount, boolean bypassCache, boolean forceImplicitJoin)
+    {
         MithraTransaction currentTransaction = MithraManagerProvider.getMithraManager().getCurrentTransaction();
         ClientTransactionContext context = getOrCreateContext(currentTransaction);
         RemoteQueryResult queryResult = null;
+        ExternalizableKnownVersions knownVersions = currentTransaction == null ? this.createKnownVersions(analyzedOperation.getOriginalOperation()) : null;
         try
         {
-            queryResult = this.remoteMithraService.find(context.getRemoteTransactionId(), context.getTransactionTimeoutWithoutException(), context.getXid(),
-                    analyzedOperation.getOriginalOperation(),
-                    orderby, bypassCache, forRelationship, rowcount, forceImplicitJoin);
+            if (knownVersions == null)
+            {
+                queryResult = this.remoteMithraService.find(context.getRemoteTransactionId(), context.getTransactionTimeoutWithoutException(), context.getXid(),
+                        analyzedOperation.getOriginalOperation(),
+                        orderby, bypassCache, forRelationship, rowcount, forceImplicitJoin);
+            }
+            else
+            {
+                queryResult = this.remoteMithraService.findWithKnownVersions(context.getRemoteTransactionId(), context.getTransactionTimeoutWithoutException(), context.getXid(),
+                        analyzedOperation.getOriginalOperation(),
+                        orderby, bypassCache, forRelationship, rowcount, forceImplicitJoin, knownVersions);
+            }
         }
         catch (MithraTransactionException e)
         {
             setRemoteServiceOnException(context, e);
         }
-
-        CachedQuery cachedQuery = cacheRemoteAnalyzedOperation(analyzedOperation, orderby, queryResult, forRelationship);
+        if (knownVersions != null)
+        {
+            RemoteQueryResultWithKnownVersions knownVersionsResult = (RemoteQueryResultWithKnownVersions) queryResult;
+            knownVersionsResult.resolveKnownObjects(knownVersions);
+            this.knownObjectsNotResent.addAndGet(knownVersionsResult.getKnownObjectCount());
+            if (this.logger.isDebugEnabled())
+            {
+                this.logger.debug("sent " + knownVersions.size() + " known versions, " + knownVersionsResult.getKnownObjectCount() + " objects were not resent");
+            }
+        }
         MithraManagerProvider.getMithraManager().incrementRemoteRetrieveCount();
-
-        queryResult.registerForNotification();
         context.setRemoteTransactionId(queryResult.getRemoteTransactionId());
+        return queryResult;
+    }
 
-        this.getPortal().getPerformanceData().recordTimeForFind(queryResult.getDeserializedResult().size(), startTime);
-        if (this.logger.isDebugEnabled())
+    private ExternalizableKnownVersions createKnownVersions(Operation op)
+    {
+        if (!this.sendKnownVersions || this.finder.getVersionAttribute() == null || this.finder.getAsOfAttributes() != null
+                || this.getPortal().isCacheDisabled())
         {
-            long duration = System.currentTimeMillis() - startTime;
-            int size = cachedQuery.getResult().size();
-            this.logger.debug("retrieved " + size + " objects in " + duration + " ms. " + (size > 0 ? duration / (double) size + " ms per object" : ""));
+            return null;
         }
-        return cachedQuery;
+        List known = this.getPortal().zFindInMemoryWithoutAnalysis(op, true);
+        if (known == null || known.isEmpty() || known.size() > MAX_KNOWN_VERSIONS)
+        {
+            return null;
+        }
+        return new ExternalizableKnownVersions(known, this.finder);
     }
 
     private CachedQuery cacheRemoteAnalyzedOperation(AnalyzedOperation analyzedOperation, OrderBy orderby, RemoteQueryResult queryResult, boolean forRelationship)
@@ -432,7 +560,7 @@ public class RemoteMithraObjectPersister implements MithraDatedObjectPersister,
         }
     }
 
-    private void setRemoteServiceOnException(ClientTransactionContext context, MithraTransactionException e)
+    void setRemoteServiceOnException(ClientTransactionContext context, MithraTransactionException e)
     {
         MithraTransaction tx = MithraManagerProvider.getMithraManager().getCurrentTransaction();
         if (e.mustWaitForRemoteTransaction())
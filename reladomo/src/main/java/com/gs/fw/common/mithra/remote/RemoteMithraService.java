@@ -42,6 +42,14 @@ public interface RemoteMithraService
                                   Operation op, OrderBy orderBy, boolean bypassCache,
                                   boolean forRelationship, int maxObjectsToRetrieve, boolean forceImplicitJoin) throws MithraException;
 
+    public RemoteQueryResultWithKnownVersions findWithKnownVersions(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
+                                  Operation op, OrderBy orderBy, boolean bypassCache,
+                                  boolean forRelationship, int maxObjectsToRetrieve, boolean forceImplicitJoin,
+                                  ExternalizableKnownVersions knownVersions) throws MithraException;
+
+    public RemoteBatchFindResult findBatch(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
+                                  List<Operation> operations, boolean[] bypassCache, boolean[] forceImplicitJoin) throws MithraException;
+
     public RemoteMithraObjectConfig[] getObjectConfigurations();
 
     public RemoteRefreshResult refresh(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
@@ -136,6 +144,11 @@ public interface RemoteMithraService
                                                      Operation originalOperation, Filter postLoadFilter, OrderBy orderby,
                                                      boolean bypassCache, int rowcount, int maxParallelDegree, boolean forceImplicitJoin);
 
+    public RemoteCursorResult findStreamingCursorResult(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
+                                                     Operation originalOperation, Filter postLoadFilter, OrderBy orderby,
+                                                     boolean bypassCache, int rowcount, int maxParallelDegree, boolean forceImplicitJoin,
+                                                     int chunkSize, int prefetchDepth);
+
     public RemoteContinuedCursorResult continueCursor(RemoteTransactionId remoteCursorId);
 
     public void closeCursor(RemoteTransactionId remoteCursorId);
@@ -110,6 +110,40 @@ public class RemoteMithraServiceImpl implements RemoteMithraService
         ServerContext serverContext = this.prepareServerContext(remoteTransactionId, transactionTimeout, xid);
         // we purposely ignore the forRelationship flag, in case the server is set to cacheType="none"
         RemoteQueryResult result = new RemoteQueryResult(op, orderBy, bypassCache, false, maxObjectsToRetrieve, serverContext, forceImplicitJoin);
+        return executeFind(serverContext, result, op);
+    }
+
+    public RemoteQueryResultWithKnownVersions findWithKnownVersions(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
+                                  Operation op, OrderBy orderBy, boolean bypassCache,
+                                  boolean forRelationship, int maxObjectsToRetrieve, boolean forceImplicitJoin,
+                                  ExternalizableKnownVersions knownVersions) throws MithraException
+    {
+        ServerContext serverContext = this.prepareServerContext(remoteTransactionId, transactionTimeout, xid);
+        RemoteQueryResultWithKnownVersions result = new RemoteQueryResultWithKnownVersions(op, orderBy, bypassCache, false, maxObjectsToRetrieve, serverContext, forceImplicitJoin, knownVersions);
+        executeFind(serverContext, result, op);
+        return result;
+    }
+
+    public RemoteBatchFindResult findBatch(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
+                                  List<Operation> operations, boolean[] bypassCache, boolean[] forceImplicitJoin) throws MithraException
+    {
+        ServerContext serverContext = this.prepareServerContext(remoteTransactionId, transactionTimeout, xid);
+        RemoteQueryResult[] results = new RemoteQueryResult[operations.size()];
+        for (int i = 0; i < results.length; i++)
+        {
+            results[i] = new RemoteQueryResult(operations.get(i), null, bypassCache[i], false, 0, serverContext, forceImplicitJoin[i]);
+        }
+        RemoteBatchFindResult result = new RemoteBatchFindResult(results);
+        serverContext.execute(result);
+        if (logger.isDebugEnabled())
+        {
+            logger.debug("server side ran " + results.length + " finds in one request");
+        }
+        return result;
+    }
+
+    private RemoteQueryResult executeFind(ServerContext serverContext, RemoteQueryResult result, Operation op)
+    {
         if (logger.isDebugEnabled())
         {
             logger.debug("server side context " + serverContext.getClass().getName());
@@ -617,11 +651,19 @@ public class RemoteMithraServiceImpl implements RemoteMithraService
 
     public RemoteCursorResult findRemoteCursorResult(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
                                                      Operation op, Filter postLoadFilter, OrderBy orderBy, boolean bypassCache, int maxObjectsToRetrieve, int maxParallelDegree, boolean forceImplicitJoin)
+    {
+        return this.findStreamingCursorResult(remoteTransactionId, transactionTimeout, xid, op, postLoadFilter, orderBy, bypassCache,
+                maxObjectsToRetrieve, maxParallelDegree, forceImplicitJoin, RemoteCursorResult.DEFAULT_CHUNK_SIZE, 0);
+    }
+
+    public RemoteCursorResult findStreamingCursorResult(RemoteTransactionId remoteTransactionId, int transactionTimeout, Xid xid,
+                                                     Operation op, Filter postLoadFilter, OrderBy orderBy, boolean bypassCache, int maxObjectsToRetrieve,
+                                                     int maxParallelDegree, boolean forceImplicitJoin, int chunkSize, int prefetchDepth)
     {
         ServerContext serverContext = this.prepareServerContext(remoteTransactionId, transactionTimeout, xid);
         // we purposely ignore the forRelationship flag, in case the server is set to cacheType="none"
         RemoteCursorResult result = new RemoteCursorResult(op, postLoadFilter, orderBy, bypassCache, maxObjectsToRetrieve, maxParallelDegree,
-                serverContext, VM_ID, forceImplicitJoin);
+                serverContext, VM_ID, forceImplicitJoin, chunkSize, prefetchDepth);
         if (logger.isDebugEnabled())
         {
             logger.debug("server side context " + serverContext.getClass().getName());
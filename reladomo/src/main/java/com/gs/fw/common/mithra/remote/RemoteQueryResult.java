@@ -97,7 +97,7 @@ public class RemoteQueryResult extends MithraRemoteResult
             throw new IOException("version of the object "+mithraObjectPortal.getFinder().getClass().getName()+
                     " does not match this version. Server version "+serverVersion+" local version "+localVersion);
         }
-        this.deserializedResult = mithraObjectPortal.getMithraObjectDeserializer().deserializeList(op, in, false);
+        this.deserializedResult = this.readResult(mithraObjectPortal, in);
 
         this.databaseIdentifierMap = readDatabaseIdentifierMap(in);
     }
@@ -108,13 +108,28 @@ public class RemoteQueryResult extends MithraRemoteResult
         out.writeObject(op);
         out.writeBoolean(this.reachedMaxRetrieveCount);
         out.writeInt(op.getResultObjectPortal().getFinder().getSerialVersionId());
+        this.writeResult(out, serverSideList, serverContext);
+        writeDatabaseIdentifierMap(out, this.databaseIdentifierMap);
+    }
+
+    protected void writeResult(ObjectOutput out, List serverSideList, ServerContext serverContext) throws IOException
+    {
         out.writeInt(serverSideList.size());
         for(int i=0;i<serverSideList.size();i++)
         {
             MithraObject mithraObject = (MithraObject) serverSideList.get(i);
             serverContext.serializeFullData(mithraObject, out);
         }
-        writeDatabaseIdentifierMap(out, this.databaseIdentifierMap);
+    }
+
+    protected List readResult(MithraObjectPortal mithraObjectPortal, ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        return mithraObjectPortal.getMithraObjectDeserializer().deserializeList(op, in, false);
+    }
+
+    protected Operation getOperation()
+    {
+        return op;
     }
 
     public List getDeserializedResult()
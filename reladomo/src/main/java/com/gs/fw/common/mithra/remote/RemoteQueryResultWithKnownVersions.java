@@ -0,0 +1,129 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.remote;
+
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraObjectDeserializer;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.util.MithraFastList;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.List;
+
+/**
+ * The result of {@link RemoteMithraService#findWithKnownVersions}. Each object is written as a reference to the
+ * client's object when the client sent the same version for it, and as full data otherwise. Plain finds use
+ * {@link RemoteQueryResult}, which always writes full data.
+ */
+public class RemoteQueryResultWithKnownVersions extends RemoteQueryResult
+{
+    private static final byte FULL_DATA = 0;
+    private static final byte KNOWN_VERSION = 1;
+
+    private transient ExternalizableKnownVersions knownVersions;
+    private transient int knownObjectCount;
+
+    public RemoteQueryResultWithKnownVersions(Operation op, OrderBy orderBy, boolean bypassCache, boolean forRelationship,
+            int maxObjectsToRetrieve, ServerContext serverContext, boolean forceImplicitJoin, ExternalizableKnownVersions knownVersions)
+    {
+        super(op, orderBy, bypassCache, forRelationship, maxObjectsToRetrieve, serverContext, forceImplicitJoin);
+        this.knownVersions = knownVersions;
+    }
+
+    public RemoteQueryResultWithKnownVersions()
+    {
+        // for externalizable
+    }
+
+    @Override
+    protected void writeResult(ObjectOutput out, List serverSideList, ServerContext serverContext) throws IOException
+    {
+        RelatedFinder finder = this.getOperation().getResultObjectPortal().getFinder();
+        out.writeInt(serverSideList.size());
+        for(int i=0;i<serverSideList.size();i++)
+        {
+            MithraObject mithraObject = (MithraObject) serverSideList.get(i);
+            int position = this.knownVersions.findSameVersion(mithraObject.zGetCurrentData(), finder);
+            if (position >= 0)
+            {
+                out.writeByte(KNOWN_VERSION);
+                out.writeInt(position);
+                this.knownObjectCount++;
+            }
+            else
+            {
+                out.writeByte(FULL_DATA);
+                serverContext.serializeFullData(mithraObject, out);
+            }
+        }
+    }
+
+    @Override
+    protected List readResult(MithraObjectPortal mithraObjectPortal, ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        MithraObjectDeserializer deserializer = mithraObjectPortal.getMithraObjectDeserializer();
+        Cache cache = mithraObjectPortal.getCache();
+        int size = in.readInt();
+        List result = new MithraFastList(size);
+        for (int i = 0; i < size; i++)
+        {
+            if (in.readByte() == KNOWN_VERSION)
+            {
+                result.add(Integer.valueOf(in.readInt()));
+                this.knownObjectCount++;
+            }
+            else
+            {
+                MithraDataObject data = deserializer.deserializeFullData(in);
+                result.add(cache.getObjectFromData(data));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * replaces the references the server sent for unchanged objects with the client's objects
+     */
+    public void resolveKnownObjects(ExternalizableKnownVersions knownVersions)
+    {
+        if (this.knownObjectCount == 0) return;
+        List result = this.getDeserializedResult();
+        for (int i = 0; i < result.size(); i++)
+        {
+            Object o = result.get(i);
+            if (o instanceof Integer)
+            {
+                result.set(i, knownVersions.getKnownObject((Integer) o));
+            }
+        }
+    }
+
+    /**
+     * @return the number of objects that were sent as a reference to the client's object instead of full data
+     */
+    public int getKnownObjectCount()
+    {
+        return knownObjectCount;
+    }
+}
@@ -159,6 +159,11 @@ public abstract class MithraDatedTransactionalObjectImpl implements MithraDatedT
         return behavior.getCurrentDataForRead(this).changed(data);
     }
 
+    public boolean zIsDataStale(MithraDataObject data)
+    {
+        throw new RuntimeException("optimistic reads are not supported for dated objects");
+    }
+
     public void zSetInserted()
     {
         // nothing to do
@@ -277,6 +277,10 @@ public abstract class MithraTransactionalObjectImpl implements MithraTransaction
         }
 
         this.transactionalState = null;
+        if (this.currentData != null && (txState.isDeleted() || txState.isPersisted()))
+        {
+            this.zGetPortal().zGetNonTransactionalQueryCache().objectCommitted(this, txState.isDeleted());
+        }
     }
 
     public void zHandleRollback(MithraTransaction tx)
@@ -565,6 +569,12 @@ public abstract class MithraTransactionalObjectImpl implements MithraTransaction
         return behavior.getCurrentDataForRead(this).changed(data);
     }
 
+    public boolean zIsDataStale(MithraDataObject data)
+    {
+        // committed updates replace the data, they do not change it in place
+        return this.currentData != data || this.persistenceState == PersistenceState.DELETED;
+    }
+
     public boolean isModifiedSinceDetachment()
     {
         TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
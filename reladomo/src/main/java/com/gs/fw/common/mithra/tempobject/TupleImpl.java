@@ -250,6 +250,11 @@ public abstract class TupleImpl implements Tuple, Serializable, MithraTransactio
         throw new RuntimeException("not implemented");
     }
 
+    public boolean zIsDataStale(MithraDataObject data)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
     public boolean zIsDetached()
     {
         throw new RuntimeException("not implemented");
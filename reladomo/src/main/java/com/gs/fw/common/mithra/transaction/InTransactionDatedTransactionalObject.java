@@ -308,6 +308,11 @@ public class InTransactionDatedTransactionalObject implements MithraDatedTransac
         throw new RuntimeException("not implemented");
     }
 
+    public boolean zIsDataStale(MithraDataObject data)
+    {
+        throw new RuntimeException("not implemented");
+    }
+
     public boolean nonPrimaryKeyAttributesChanged(MithraTransactionalObject other)
     {
         throw new RuntimeException("not implemented");
@@ -18,9 +18,11 @@
 package com.gs.fw.common.mithra.transaction;
 
 import com.gs.collections.api.block.procedure.Procedure;
+import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.fw.common.mithra.DatedTransactionalState;
+import com.gs.fw.common.mithra.MithraDataObject;
 import com.gs.fw.common.mithra.MithraDatabaseException;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraObjectPortal;
@@ -29,16 +31,21 @@ import com.gs.fw.common.mithra.MithraTransactionException;
 import com.gs.fw.common.mithra.MithraTransactionalObject;
 import com.gs.fw.common.mithra.TransactionalState;
 import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.behavior.PerPortalTemporalContainer;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
 import com.gs.fw.common.mithra.behavior.txparticipation.TxParticipationMode;
 import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.notification.MithraNotificationEvent;
+import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.util.InternalList;
 import com.gs.fw.common.mithra.util.MithraPerformanceData;
 import org.slf4j.Logger;
 
 import javax.transaction.Status;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +80,12 @@ public abstract class MithraLocalTransaction extends MithraTransaction
     private UnifiedMap<DatedTransactionalState, DatedTransactionalState> sharedDatedTxStates;
     private UnifiedMap<MithraObjectPortal, PerPortalTemporalContainer> perPortalTemporalContainerMap;
     private boolean sharedTxStatesCleared;
+    // keyed by identity: the hashCode of a business object reads its data, which would come back here
+    private IdentityHashMap<MithraTransactionalObject, MithraDataObject> optimisticReads;
+    private IdentityHashMap<MithraTransactionalObject, MithraTransactionalObject> escalatedOptimisticReads;
+    // consecutive getters usually read the same object; it is recorded once and then found here without a map lookup
+    private MithraTransactionalObject lastOptimisticRead;
+    private InternalList maintainedQueryCaches;
 
     private int expectedExecuteReturn;
     private int expectedExecuteBatchReturn;
@@ -244,6 +257,108 @@ public abstract class MithraLocalTransaction extends MithraTransaction
         this.readLockedObjects.add(mithraTransactionalObject);
     }
 
+    @Override
+    public boolean enrollOptimisticRead(MithraTransactionalObject mithraTransactionalObject)
+    {
+        if (mithraTransactionalObject == this.lastOptimisticRead)
+        {
+            return true;
+        }
+        if (this.escalatedOptimisticReads != null && this.escalatedOptimisticReads.containsKey(mithraTransactionalObject))
+        {
+            return false;
+        }
+        if (this.optimisticReads == null)
+        {
+            this.optimisticReads = new IdentityHashMap<MithraTransactionalObject, MithraDataObject>();
+        }
+        if (!this.optimisticReads.containsKey(mithraTransactionalObject))
+        {
+            this.optimisticReads.put(mithraTransactionalObject, mithraTransactionalObject.zGetNonTxData());
+        }
+        this.lastOptimisticRead = mithraTransactionalObject;
+        return true;
+    }
+
+    @Override
+    public void escalateOptimisticRead(MithraTransactionalObject mithraTransactionalObject)
+    {
+        if (this.escalatedOptimisticReads == null)
+        {
+            this.escalatedOptimisticReads = new IdentityHashMap<MithraTransactionalObject, MithraTransactionalObject>();
+        }
+        this.escalatedOptimisticReads.put(mithraTransactionalObject, mithraTransactionalObject);
+        if (this.lastOptimisticRead == mithraTransactionalObject)
+        {
+            this.lastOptimisticRead = null;
+        }
+    }
+
+    protected void validateOptimisticReads()
+    {
+        IdentityHashMap<MithraTransactionalObject, MithraDataObject> reads = this.optimisticReads;
+        if (reads == null)
+        {
+            return;
+        }
+        this.optimisticReads = null;
+        this.lastOptimisticRead = null;
+        UnifiedMap<MithraObjectPortal, FastList<MithraDataObject>> versionedReads = null;
+        for (Map.Entry<MithraTransactionalObject, MithraDataObject> entry : reads.entrySet())
+        {
+            MithraTransactionalObject object = entry.getKey();
+            if (object.zIsDataStale(entry.getValue()))
+            {
+                throw new MithraOptimisticLockException("Optimistic read failed: " + object.getClass().getName() +
+                        " with primary key " + entry.getValue().zGetPrintablePrimaryKey() + " was changed by another transaction", true);
+            }
+            MithraObjectPortal portal = object.zGetPortal();
+            // an object this transaction wrote is locked, and its update already checked the version
+            if (portal.getFinder().getVersionAttribute() != null && !object.zIsParticipatingInTransaction(this))
+            {
+                if (versionedReads == null)
+                {
+                    versionedReads = UnifiedMap.newMap();
+                }
+                FastList<MithraDataObject> portalReads = versionedReads.get(portal);
+                if (portalReads == null)
+                {
+                    portalReads = FastList.newList();
+                    versionedReads.put(portal, portalReads);
+                }
+                portalReads.add(entry.getValue());
+            }
+        }
+        if (versionedReads != null)
+        {
+            for (Map.Entry<MithraObjectPortal, FastList<MithraDataObject>> entry : versionedReads.entrySet())
+            {
+                this.validateVersionsInDatabase(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * the cache only sees the changes made in this jvm. For a class with a version attribute, the versions that were
+     * read are also checked against the database, with one count per class.
+     */
+    private void validateVersionsInDatabase(MithraObjectPortal portal, List<MithraDataObject> reads)
+    {
+        Attribute[] pkAttributes = portal.getFinder().getPrimaryKeyAttributes();
+        Attribute[] pkAndVersion = new Attribute[pkAttributes.length + 1];
+        System.arraycopy(pkAttributes, 0, pkAndVersion, 0, pkAttributes.length);
+        pkAndVersion[pkAttributes.length] = (Attribute) portal.getFinder().getVersionAttribute();
+        Attribute[] tupledWith = new Attribute[pkAttributes.length];
+        System.arraycopy(pkAndVersion, 1, tupledWith, 0, tupledWith.length);
+        Operation sameVersions = pkAndVersion[0].tupleWith(tupledWith).in(reads, pkAndVersion);
+        int unchanged = portal.count(sameVersions);
+        if (unchanged != reads.size())
+        {
+            throw new MithraOptimisticLockException("Optimistic read failed: " + (reads.size() - unchanged) + " of " + reads.size() +
+                    " " + portal.getBusinessClassName() + " objects read by this transaction were changed or deleted by another transaction", true);
+        }
+    }
+
     @Override
     public boolean isInFuture(long time)
     {
@@ -338,6 +453,10 @@ public abstract class MithraLocalTransaction extends MithraTransaction
 
     protected void finalCleanup(byte statusToSet)
     {
+        this.optimisticReads = null;
+        this.escalatedOptimisticReads = null;
+        this.lastOptimisticRead = null;
+        this.commitMaintainedQueryCaches();
         if (customPortals != null)
         {
             Iterator it = customPortals.iterator();
@@ -381,6 +500,7 @@ public abstract class MithraLocalTransaction extends MithraTransaction
                 MithraTransactionalResource obj = (MithraTransactionalResource) this.txObjects.get(i);
                 obj.zHandleCommit();
             }
+            this.commitMaintainedQueryCaches();
             Iterator it = this.txCaches.iterator();
             for (int i=0; i<this.txCaches.size(); i++)
             {
@@ -523,6 +643,29 @@ public abstract class MithraLocalTransaction extends MithraTransaction
         }
     }
 
+    @Override
+    public void enrollMaintainedQueryCache(QueryCache queryCache)
+    {
+        if (this.maintainedQueryCaches == null)
+        {
+            this.maintainedQueryCaches = new InternalList(2);
+        }
+        this.maintainedQueryCaches.add(queryCache);
+    }
+
+    private void commitMaintainedQueryCaches()
+    {
+        InternalList queryCaches = this.maintainedQueryCaches;
+        if (queryCaches != null)
+        {
+            this.maintainedQueryCaches = null;
+            for (int i = 0; i < queryCaches.size(); i++)
+            {
+                ((QueryCache) queryCaches.get(i)).commitMaintainedQueries(this);
+            }
+        }
+    }
+
     @Override
     public void waitForTransactionToFinish() throws MithraTransactionException
     {
@@ -24,6 +24,7 @@ import com.gs.fw.common.mithra.behavior.PerPortalTemporalContainer;
 import com.gs.fw.common.mithra.cache.Cache;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.notification.MithraNotificationEvent;
+import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.util.MithraPerformanceData;
 
 import javax.transaction.RollbackException;
@@ -182,6 +183,12 @@ public class MithraNestedTransaction extends MithraTransaction implements JtaBas
         getMithraRootTransaction().enrollCache(cache);
     }
 
+    @Override
+    public void enrollMaintainedQueryCache(QueryCache queryCache)
+    {
+        getMithraRootTransaction().enrollMaintainedQueryCache(queryCache);
+    }
+
     @Override
     public void insert(MithraTransactionalObject obj) throws MithraDatabaseException
     {
@@ -455,6 +462,18 @@ public class MithraNestedTransaction extends MithraTransaction implements JtaBas
         this.getMithraRootTransaction().enrollReadLocked(object);
     }
 
+    @Override
+    public boolean enrollOptimisticRead(MithraTransactionalObject object)
+    {
+        return this.getMithraRootTransaction().enrollOptimisticRead(object);
+    }
+
+    @Override
+    public void escalateOptimisticRead(MithraTransactionalObject object)
+    {
+        this.getMithraRootTransaction().escalateOptimisticRead(object);
+    }
+
     @Override
     public boolean isInFuture(long time)
     {
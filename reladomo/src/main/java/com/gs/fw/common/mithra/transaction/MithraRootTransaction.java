@@ -826,6 +826,7 @@ public class MithraRootTransaction extends MithraLocalTransaction implements Syn
 
         this.txStatus = MITHRA_STATUS_COMMITTING;
         this.executeBufferedOperations();
+        this.validateOptimisticReads();
 
         notifyBeforeCommitLifeCycleListeners();
 
@@ -141,6 +141,18 @@ public class MithraTempTransaction extends MithraLocalTransaction
         //nothing to do
     }
 
+    @Override
+    public boolean enrollOptimisticRead(MithraTransactionalObject mithraTransactionalObject)
+    {
+        return true;
+    }
+
+    @Override
+    public void escalateOptimisticRead(MithraTransactionalObject mithraTransactionalObject)
+    {
+        //nothing to do
+    }
+
     @Override
     public int getJtaTransactionStatus() throws MithraTransactionException
     {
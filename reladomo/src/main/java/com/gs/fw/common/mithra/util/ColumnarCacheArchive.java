@@ -0,0 +1,459 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.util;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.IntegerAttribute;
+import com.gs.fw.common.mithra.attribute.LongAttribute;
+import com.gs.fw.common.mithra.attribute.SingleColumnAttribute;
+import com.gs.fw.common.mithra.attribute.SingleColumnEnumAttribute;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.remote.MithraSerialUtil;
+import com.gs.fw.common.mithra.util.fileparser.BitsInBytes;
+import com.gs.fw.common.mithra.util.fileparser.ColumnarInStream;
+import com.gs.fw.common.mithra.util.fileparser.ColumnarOutStream;
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockInputStream;
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockOutputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * The rows of the columnar cache archive, {@link MithraRuntimeCacheController#COLUMNAR_CACHE_ARCHIVE_VERSION}.
+ * The rows are split into blocks, and each block is encoded column by column with the columnar encoding of
+ * {@link SingleColumnAttribute} and compressed on its own, so blocks are encoded and decoded on several threads.
+ * Integer and long columns are delta encoded, and string columns with repeated values are dictionary encoded.
+ */
+public class ColumnarCacheArchive
+{
+    public static final int DEFAULT_BLOCK_SIZE = 16384;
+
+    private static final byte PLAIN = 0;
+    private static final byte DELTA = 1;
+    private static final byte DICTIONARY = 2;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final int threads;
+    private final int blockSize;
+    private Attribute[] attributes;
+    private boolean finished;
+
+    public ColumnarCacheArchive(int threads, int blockSize)
+    {
+        this.threads = threads;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return false if the source attribute or one of the persistent attributes of the class has no columnar encoding
+     */
+    public static boolean isSupported(RelatedFinder finder)
+    {
+        Attribute[] archivedAttributes = getArchivedAttributes(finder);
+        for (int i = 0; i < archivedAttributes.length; i++)
+        {
+            if (!(archivedAttributes[i] instanceof SingleColumnAttribute) || archivedAttributes[i] instanceof SingleColumnEnumAttribute)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Attribute[] getArchivedAttributes(RelatedFinder finder)
+    {
+        Attribute[] persistentAttributes = finder.getPersistentAttributes();
+        Attribute sourceAttribute = finder.getSourceAttribute();
+        if (sourceAttribute == null)
+        {
+            return persistentAttributes;
+        }
+        Attribute[] result = new Attribute[persistentAttributes.length + 1];
+        result[0] = sourceAttribute;
+        System.arraycopy(persistentAttributes, 0, result, 1, persistentAttributes.length);
+        return result;
+    }
+
+    public void writeAttributes(DataOutputStream out, RelatedFinder finder) throws IOException
+    {
+        this.attributes = getArchivedAttributes(finder);
+        out.writeInt(this.attributes.length);
+        for (int i = 0; i < this.attributes.length; i++)
+        {
+            out.writeUTF(this.attributes[i].getAttributeName());
+        }
+    }
+
+    public void readAttributes(DataInputStream in, RelatedFinder finder) throws IOException
+    {
+        this.attributes = new Attribute[in.readInt()];
+        for (int i = 0; i < this.attributes.length; i++)
+        {
+            String attributeName = in.readUTF();
+            this.attributes[i] = finder.getAttributeByName(attributeName);
+            if (this.attributes[i] == null)
+            {
+                throw new MithraBusinessException("Could not find attribute " + attributeName + " of archived class " + finder.getFinderClassName());
+            }
+        }
+    }
+
+    /**
+     * writes the data in blocks, followed by an empty block
+     */
+    public void writeBlocks(DataOutputStream out, final List data) throws IOException
+    {
+        for (int waveStart = 0; waveStart < data.size(); waveStart += this.blockSize * this.threads)
+        {
+            int blocks = Math.min(this.threads, (data.size() - waveStart + this.blockSize - 1) / this.blockSize);
+            final int[] rows = new int[blocks];
+            final byte[][] encoded = new byte[blocks][];
+            ThreadConservingExecutor executor = new ThreadConservingExecutor(Math.min(this.threads, blocks));
+            for (int b = 0; b < blocks; b++)
+            {
+                final int block = b;
+                final int start = waveStart + b * this.blockSize;
+                rows[b] = Math.min(this.blockSize, data.size() - start);
+                executor.submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        try
+                        {
+                            encoded[block] = encodeBlock(data.subList(start, start + rows[block]));
+                        }
+                        catch (IOException e)
+                        {
+                            throw new RuntimeException("could not encode cache archive block", e);
+                        }
+                    }
+                });
+            }
+            executor.finish();
+            for (int b = 0; b < blocks; b++)
+            {
+                out.writeInt(rows[b]);
+                out.writeInt(encoded[b].length);
+                out.write(encoded[b]);
+            }
+        }
+        out.writeInt(0);
+    }
+
+    /**
+     * @return the data of the next blocks, decoded in parallel, or null after the last block
+     */
+    public List<MithraDataObject> readBlocks(DataInputStream in, final Class dataClass) throws IOException
+    {
+        if (this.finished)
+        {
+            return null;
+        }
+        final int[] rows = new int[this.threads];
+        final byte[][] encoded = new byte[this.threads][];
+        int blocks = 0;
+        boolean done = false;
+        while (blocks < this.threads && !done)
+        {
+            rows[blocks] = in.readInt();
+            done = rows[blocks] == 0;
+            if (!done)
+            {
+                encoded[blocks] = new byte[in.readInt()];
+                in.readFully(encoded[blocks]);
+                blocks++;
+            }
+        }
+        if (blocks == 0)
+        {
+            return null;
+        }
+        final List[] decoded = new List[blocks];
+        ThreadConservingExecutor executor = new ThreadConservingExecutor(blocks);
+        for (int b = 0; b < blocks; b++)
+        {
+            final int block = b;
+            executor.submit(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        decoded[block] = decodeBlock(encoded[block], rows[block], dataClass);
+                    }
+                    catch (IOException e)
+                    {
+                        throw new RuntimeException("could not decode cache archive block", e);
+                    }
+                }
+            });
+        }
+        executor.finish();
+        int size = 0;
+        for (int b = 0; b < blocks; b++)
+        {
+            size += decoded[b].size();
+        }
+        FastList<MithraDataObject> result = FastList.newList(size);
+        for (int b = 0; b < blocks; b++)
+        {
+            result.addAll(decoded[b]);
+        }
+        this.finished = done;
+        return result;
+    }
+
+    private byte[] encodeBlock(List data) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.size() * 16);
+        LZ4BlockOutputStream lz4 = new LZ4BlockOutputStream(bytes, false);
+        BufferedOutputStream buffered = new BufferedOutputStream(lz4, MithraRuntimeCacheController.PRE_COMPRESS_BUFFER_SIZE);
+        ColumnarOutStream out = new ColumnarOutStream(buffered);
+        for (int i = 0; i < this.attributes.length; i++)
+        {
+            encodeColumn(this.attributes[i], data, out);
+        }
+        buffered.flush();
+        lz4.finish();
+        return bytes.toByteArray();
+    }
+
+    private List decodeBlock(byte[] encoded, int rows, Class dataClass) throws IOException
+    {
+        FastList data = FastList.newList(rows);
+        for (int i = 0; i < rows; i++)
+        {
+            data.add(MithraSerialUtil.instantiateData(dataClass));
+        }
+        ColumnarInStream in = new ColumnarInStream(new BufferedInputStream(new LZ4BlockInputStream(new ByteArrayInputStream(encoded)),
+                MithraRuntimeCacheController.PRE_COMPRESS_BUFFER_SIZE));
+        for (int i = 0; i < this.attributes.length; i++)
+        {
+            decodeColumn(this.attributes[i], data, in);
+        }
+        return data;
+    }
+
+    private static void encodeColumn(Attribute attribute, List data, ColumnarOutStream out) throws IOException
+    {
+        if (attribute instanceof IntegerAttribute || attribute instanceof LongAttribute)
+        {
+            if (encodeDelta(attribute, data, out)) return;
+        }
+        else if (attribute instanceof StringAttribute)
+        {
+            if (encodeDictionary((StringAttribute) attribute, data, out)) return;
+        }
+        out.write(PLAIN);
+        ((SingleColumnAttribute) attribute).zEncodeColumnarData(data, out);
+    }
+
+    private static void decodeColumn(Attribute attribute, List data, ColumnarInStream in) throws IOException
+    {
+        int encoding = in.readWithException();
+        if (encoding == DELTA)
+        {
+            decodeDelta(attribute, data, in);
+        }
+        else if (encoding == DICTIONARY)
+        {
+            decodeDictionary((StringAttribute) attribute, data, in);
+        }
+        else
+        {
+            ((SingleColumnAttribute) attribute).zDecodeColumnarData(data, in);
+        }
+    }
+
+    private static long longValueOf(Attribute attribute, Object o)
+    {
+        if (attribute instanceof IntegerAttribute)
+        {
+            return ((IntegerAttribute) attribute).intValueOf(o);
+        }
+        return ((LongAttribute) attribute).longValueOf(o);
+    }
+
+    // the differences between consecutive non-null values, zigzag encoded, in as few bytes as the largest needs
+    private static boolean encodeDelta(Attribute attribute, List data, ColumnarOutStream out) throws IOException
+    {
+        FastList<Object> nonNull = FastList.newList(data.size());
+        for (int i = 0; i < data.size(); i++)
+        {
+            if (!attribute.isAttributeNull(data.get(i)))
+            {
+                nonNull.add(data.get(i));
+            }
+        }
+        long[] zigzag = new long[nonNull.size()];
+        long all = 0;
+        long previous = nonNull.isEmpty() ? 0 : longValueOf(attribute, nonNull.get(0));
+        long base = previous;
+        for (int i = 1; i < nonNull.size(); i++)
+        {
+            long value = longValueOf(attribute, nonNull.get(i));
+            long delta = value - previous;
+            zigzag[i] = (delta << 1) ^ (delta >> 63);
+            all |= zigzag[i];
+            previous = value;
+        }
+        int width = (64 - Long.numberOfLeadingZeros(all) + 7) >> 3;
+        if (width >= (attribute instanceof IntegerAttribute ? 4 : 8))
+        {
+            return false;
+        }
+        out.write(DELTA);
+        out.encodeColumnarNull(data, (SingleColumnAttribute) attribute);
+        out.writeLong(base);
+        out.write(width);
+        for (int p = 0; p < width << 3; p += 8)
+        {
+            for (int i = 1; i < zigzag.length; i++)
+            {
+                out.write((int) ((zigzag[i] >>> p) & 0xFF));
+            }
+        }
+        return true;
+    }
+
+    private static void decodeDelta(Attribute attribute, List data, ColumnarInStream in) throws IOException
+    {
+        BitsInBytes nulls = in.decodeColumnarNull((SingleColumnAttribute) attribute, data);
+        FastList<Object> nonNull = FastList.newList(data.size());
+        for (int i = 0; i < data.size(); i++)
+        {
+            if (nulls == null || !nulls.get(i))
+            {
+                nonNull.add(data.get(i));
+            }
+        }
+        long base = in.readLong();
+        int width = in.readWithException();
+        long[] zigzag = new long[nonNull.size()];
+        for (int p = 0; p < width << 3; p += 8)
+        {
+            for (int i = 1; i < zigzag.length; i++)
+            {
+                zigzag[i] |= ((long) in.readWithException()) << p;
+            }
+        }
+        long value = base;
+        for (int i = 0; i < zigzag.length; i++)
+        {
+            value += (zigzag[i] >>> 1) ^ -(zigzag[i] & 1);
+            if (attribute instanceof IntegerAttribute)
+            {
+                ((IntegerAttribute) attribute).setIntValue(nonNull.get(i), (int) value);
+            }
+            else
+            {
+                ((LongAttribute) attribute).setLongValue(nonNull.get(i), value);
+            }
+        }
+    }
+
+    // the distinct values, then for each non-null row the position of its value, in as few bytes as the count needs
+    private static boolean encodeDictionary(StringAttribute attribute, List data, ColumnarOutStream out) throws IOException
+    {
+        UnifiedMap<String, Integer> positions = UnifiedMap.newMap();
+        FastList<String> values = FastList.newList();
+        int[] codes = new int[data.size()];
+        int nonNull = 0;
+        for (int i = 0; i < data.size(); i++)
+        {
+            if (!attribute.isAttributeNull(data.get(i)))
+            {
+                String value = attribute.stringValueOf(data.get(i));
+                Integer position = positions.get(value);
+                if (position == null)
+                {
+                    position = values.size();
+                    positions.put(value, position);
+                    values.add(value);
+                }
+                codes[nonNull++] = position;
+            }
+        }
+        if (values.size() * 2 > nonNull)
+        {
+            return false;
+        }
+        out.write(DICTIONARY);
+        out.encodeColumnarNull(data, (SingleColumnAttribute) attribute);
+        out.writeInt(values.size());
+        for (int i = 0; i < values.size(); i++)
+        {
+            byte[] bytes = values.get(i).getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        int width = (32 - Integer.numberOfLeadingZeros(values.size() - 1) + 7) >> 3;
+        for (int p = 0; p < width << 3; p += 8)
+        {
+            for (int i = 0; i < nonNull; i++)
+            {
+                out.write((codes[i] >>> p) & 0xFF);
+            }
+        }
+        return true;
+    }
+
+    private static void decodeDictionary(StringAttribute attribute, List data, ColumnarInStream in) throws IOException
+    {
+        BitsInBytes nulls = in.decodeColumnarNull((SingleColumnAttribute) attribute, data);
+        String[] values = new String[in.readInt()];
+        for (int i = 0; i < values.length; i++)
+        {
+            byte[] bytes = new byte[in.readInt()];
+            in.fullyRead(bytes);
+            values[i] = new String(bytes, UTF_8);
+        }
+        FastList<Object> nonNull = FastList.newList(data.size());
+        for (int i = 0; i < data.size(); i++)
+        {
+            if (nulls == null || !nulls.get(i))
+            {
+                nonNull.add(data.get(i));
+            }
+        }
+        int width = (32 - Integer.numberOfLeadingZeros(values.length - 1) + 7) >> 3;
+        int[] codes = new int[nonNull.size()];
+        for (int p = 0; p < width << 3; p += 8)
+        {
+            for (int i = 0; i < codes.length; i++)
+            {
+                codes[i] |= in.readWithException() << p;
+            }
+        }
+        for (int i = 0; i < codes.length; i++)
+        {
+            attribute.setStringValue(nonNull.get(i), values[codes[i]]);
+        }
+    }
+}
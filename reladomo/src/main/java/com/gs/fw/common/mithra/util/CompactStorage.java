@@ -0,0 +1,64 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.util;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+
+/**
+ * Narrowing conversions for attributes declared with compactStorage. The generated setters call these, so a value
+ * that does not fit the narrower field fails instead of being silently truncated.
+ */
+public class CompactStorage
+{
+    private CompactStorage()
+    {
+        // static methods only
+    }
+
+    public static byte toByte(long value, String attributeName)
+    {
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE)
+        {
+            throw outOfRange(value, attributeName, "byte");
+        }
+        return (byte) value;
+    }
+
+    public static short toShort(long value, String attributeName)
+    {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE)
+        {
+            throw outOfRange(value, attributeName, "short");
+        }
+        return (short) value;
+    }
+
+    public static int toInt(long value, String attributeName)
+    {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+        {
+            throw outOfRange(value, attributeName, "int");
+        }
+        return (int) value;
+    }
+
+    private static MithraBusinessException outOfRange(long value, String attributeName, String storage)
+    {
+        return new MithraBusinessException("Attribute '"+attributeName+"' is stored as a "+storage+" and cannot hold "+value);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.util;
+
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.fw.common.mithra.MithraBusinessException;
+
+/**
+ * The codes of a String attribute declared with compactStorage. Code 0 is null; the other codes are handed out in
+ * the order the values are first seen and are never reused, so a dictionary only suits attributes with few distinct
+ * values. The values are also added to the {@link StringPool}, which keeps off-heap lookups working.
+ */
+public class CompactStringDictionary
+{
+    private final String attributeName;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Integer> codes = ConcurrentHashMap.newMap();
+    private volatile String[] values = new String[16];
+    private int size = 1;
+
+    public CompactStringDictionary(String attributeName, int maxSize)
+    {
+        this.attributeName = attributeName;
+        this.maxSize = maxSize;
+    }
+
+    public int encode(String value)
+    {
+        if (value == null) return 0;
+        Integer code = this.codes.get(value);
+        if (code != null) return code;
+        return this.addValue(value);
+    }
+
+    public String decode(int code)
+    {
+        return this.values[code];
+    }
+
+    public synchronized int size()
+    {
+        return this.size - 1;
+    }
+
+    private synchronized int addValue(String value)
+    {
+        Integer code = this.codes.get(value);
+        if (code != null) return code;
+        if (this.size > this.maxSize)
+        {
+            throw new MithraBusinessException("Attribute '"+this.attributeName+"' cannot hold more than "+this.maxSize+" distinct values in its compact storage, adding: "+value);
+        }
+        String[] current = this.values;
+        if (this.size == current.length)
+        {
+            String[] newValues = new String[current.length << 1];
+            System.arraycopy(current, 0, newValues, 0, current.length);
+            current = newValues;
+        }
+        int newCode = this.size;
+        current[newCode] = StringPool.getInstance().getOrAddToCache(value, true);
+        // the volatile write publishes the new entry before its code can be seen
+        this.values = current;
+        this.codes.put(current[newCode], newCode);
+        this.size++;
+        return newCode;
+    }
+}
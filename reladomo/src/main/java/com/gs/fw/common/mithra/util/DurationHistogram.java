@@ -0,0 +1,131 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free histogram of durations. Durations are recorded in nanoseconds and counted in buckets of microseconds,
+ * where bucket i holds durations below 2^i microseconds (bucket 0 holds durations below one microsecond). The last
+ * bucket holds everything longer than the previous one.
+ */
+public class DurationHistogram
+{
+    public static final int BUCKETS = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long durationNanos)
+    {
+        long micros = durationNanos < 0 ? 0 : durationNanos / 1000;
+        this.counts.incrementAndGet(bucketFor(micros));
+        this.totalMicros.addAndGet(micros);
+        long max = this.maxMicros.get();
+        while (micros > max && !this.maxMicros.compareAndSet(max, micros))
+        {
+            max = this.maxMicros.get();
+        }
+    }
+
+    private static int bucketFor(long micros)
+    {
+        int bucket = 64 - Long.numberOfLeadingZeros(micros);
+        return bucket < BUCKETS ? bucket : BUCKETS - 1;
+    }
+
+    /**
+     * @return the exclusive upper bound, in microseconds, of the durations counted in the bucket
+     */
+    public static long getBucketUpperBoundMicros(int bucket)
+    {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    public long getBucketCount(int bucket)
+    {
+        return this.counts.get(bucket);
+    }
+
+    public long getCount()
+    {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            count += this.counts.get(i);
+        }
+        return count;
+    }
+
+    public long getTotalMicros()
+    {
+        return this.totalMicros.get();
+    }
+
+    public long getMaxMicros()
+    {
+        return this.maxMicros.get();
+    }
+
+    public double getAverageMicros()
+    {
+        long count = this.getCount();
+        return count == 0 ? 0 : this.totalMicros.get() / (double) count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the upper bound, in microseconds, of the bucket that holds the given percentile, capped by the largest
+     * recorded duration
+     */
+    public long getPercentileMicros(double percentile)
+    {
+        long count = this.getCount();
+        if (count == 0) return 0;
+        long target = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += this.counts.get(i);
+            if (seen >= target && seen > 0)
+            {
+                return Math.min(getBucketUpperBoundMicros(i), this.maxMicros.get());
+            }
+        }
+        return this.maxMicros.get();
+    }
+
+    public void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            this.counts.set(i, 0);
+        }
+        this.totalMicros.set(0);
+        this.maxMicros.set(0);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "DurationHistogram[count=" + this.getCount() + "; averageMicros=" + this.getAverageMicros()
+                + "; p50Micros<=" + this.getPercentileMicros(50) + "; p99Micros<=" + this.getPercentileMicros(99)
+                + "; maxMicros=" + this.getMaxMicros() + ']';
+    }
+}
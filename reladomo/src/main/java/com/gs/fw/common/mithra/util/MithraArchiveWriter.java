@@ -49,7 +49,7 @@ public class MithraArchiveWriter
             started = true;
             out.write(MithraRuntimeCacheController.CACHE_ARCHIVE_VERSION);
             out.write(MithraRuntimeCacheController.CACHE_COMPRESSION_VERSION);
-            zip = new LZ4BlockOutputStream(out, false);
+            zip = new LZ4BlockOutputStream(out, LZ4BlockOutputStream.DEFAULT_BLOCK_SIZE, false, true);
             oos = new ObjectOutputStream(new BufferedOutputStream(zip, MithraRuntimeCacheController.PRE_COMPRESS_BUFFER_SIZE));
             oos.writeObject(cacheController.getClassName());
             oos.writeInt(cacheController.getMithraObjectPortal().getFinder().getSerialVersionId());
@@ -0,0 +1,377 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.util;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.database.MithraAbstractDatabaseObject;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.portal.MithraAbstractObjectPortal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the caches of fully cached classes to a directory, periodically and when the JVM shuts down, and restores
+ * them on startup instead of loading them from the database. Each class has its own file, in the columnar cache archive
+ * format of {@link MithraRuntimeCacheController#archiveCacheColumnar(java.io.OutputStream, Filter)}, so the classes
+ * restore in parallel on the cache loader threads, and the blocks of each class on the cpu bound threads.
+ * <p>
+ * After a class is restored, it is caught up with the database. For a class with a processing date, only the rows
+ * that started or ended after the snapshot was taken are read, less a margin for notification lag and clock skew;
+ * rows purged from the table in the meantime stay in the cache until it is next reloaded. Other classes have nothing
+ * that marks a changed row, so by default they are neither written nor restored, and load from the database as usual.
+ * If stale reads are acceptable for a while after startup, they can be restored too: they are then reloaded on a
+ * separate thread and answer from the snapshot until that is done (see {@link #waitForCatchUp()}).
+ */
+public class MithraCacheSnapshotter
+{
+    private static final Logger logger = LoggerFactory.getLogger(MithraCacheSnapshotter.class.getName());
+
+    private static final byte SNAPSHOT_VERSION = 1;
+    private static final long CATCH_UP_MARGIN = 5 * 60 * 1000L;
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+    private final File directory;
+    private final long periodInMillis;
+    private final boolean restoreNonDatedClasses;
+    private final FastList<MithraObjectPortal> portals = FastList.newList();
+    private final FastList<ExceptionHandlingTask> reloads = FastList.newList();
+    private ScheduledExecutorService scheduler;
+    private Thread shutdownHook;
+    private volatile boolean shutdown;
+
+    /**
+     * @param periodInMillis how often the caches are written; 0 writes them only when the JVM shuts down
+     */
+    public MithraCacheSnapshotter(File directory, long periodInMillis)
+    {
+        this(directory, periodInMillis, false);
+    }
+
+    /**
+     * @param periodInMillis how often the caches are written; 0 writes them only when the JVM shuts down
+     * @param restoreNonDatedClasses whether classes without a processing date are restored too, serving the snapshot
+     * until they're reloaded from the database in the background
+     */
+    public MithraCacheSnapshotter(File directory, long periodInMillis, boolean restoreNonDatedClasses)
+    {
+        this.directory = directory;
+        this.periodInMillis = periodInMillis;
+        this.restoreNonDatedClasses = restoreNonDatedClasses;
+    }
+
+    public File getDirectory()
+    {
+        return directory;
+    }
+
+    public static boolean canSnapshot(MithraObjectPortal portal)
+    {
+        return portal.getCache().isFullCache() && !portal.isPureHome() && !portal.isReplicated()
+                && portal.getSuperClassPortals() == null && portal instanceof MithraAbstractObjectPortal
+                && ((MithraAbstractObjectPortal) portal).getMithraObjectReader() instanceof MithraAbstractDatabaseObject;
+    }
+
+    private boolean isRestored(MithraObjectPortal portal)
+    {
+        return canSnapshot(portal) && (this.restoreNonDatedClasses || getProcessingDate(portal) != null);
+    }
+
+    /**
+     * restores the cache of the portal from its snapshot, or loads it from the database if that is not possible
+     */
+    public void loadCache(MithraObjectPortal portal)
+    {
+        if (!this.isRestored(portal) || !this.restore(portal))
+        {
+            portal.loadCache();
+        }
+    }
+
+    /**
+     * @return false if there is no usable snapshot for the portal, or the portal is not restored from snapshots;
+     * its cache may then hold part of the snapshot
+     */
+    public boolean restore(MithraObjectPortal portal)
+    {
+        File file = this.getSnapshotFile(portal);
+        if (!this.isRestored(portal) || !file.exists())
+        {
+            return false;
+        }
+        long snapshotTime;
+        DataInputStream in = null;
+        try
+        {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), MithraRuntimeCacheController.POST_COMPRESS_BUFFER_SIZE));
+            byte version = in.readByte();
+            if (version != SNAPSHOT_VERSION)
+            {
+                logger.warn("Ignoring cache snapshot " + file + " with unknown version " + version);
+                return false;
+            }
+            snapshotTime = in.readLong();
+            getCacheController(portal).readCacheFromArchive(in);
+        }
+        catch (Exception e)
+        {
+            logger.warn("Could not restore the cache from " + file, e);
+            return false;
+        }
+        finally
+        {
+            closeQuietly(in);
+        }
+        this.catchUp(portal, snapshotTime);
+        return true;
+    }
+
+    private void catchUp(final MithraObjectPortal portal, long snapshotTime)
+    {
+        AsOfAttribute processingDate = getProcessingDate(portal);
+        if (processingDate != null)
+        {
+            Timestamp since = new Timestamp(snapshotTime - CATCH_UP_MARGIN);
+            Operation changed = processingDate.getFromAttribute().greaterThanEquals(since).or(
+                    processingDate.getToAttribute().greaterThanEquals(since).and(processingDate.getToAttribute().notEq(processingDate.getInfinityDate())));
+            MithraAbstractDatabaseObject databaseObject = (MithraAbstractDatabaseObject) ((MithraAbstractObjectPortal) portal).getMithraObjectReader();
+            databaseObject.loadChangedRowsIntoFullCache(changed);
+            portal.clearQueryCache();
+            portal.incrementClassUpdateCount();
+        }
+        else
+        {
+            ExceptionHandlingTask reload = new ExceptionHandlingTask()
+            {
+                public void execute()
+                {
+                    portal.reloadCache();
+                }
+            };
+            synchronized (this.reloads)
+            {
+                this.reloads.add(reload);
+            }
+            ExceptionCatchingThread.submitTask(reload);
+        }
+    }
+
+    private static AsOfAttribute getProcessingDate(MithraObjectPortal portal)
+    {
+        AsOfAttribute[] asOfAttributes = portal.getFinder().getAsOfAttributes();
+        if (asOfAttributes != null)
+        {
+            for (AsOfAttribute asOfAttribute : asOfAttributes)
+            {
+                if (asOfAttribute.isProcessingDate())
+                {
+                    return asOfAttribute;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * waits for the reloads of restored classes without a processing date
+     */
+    public void waitForCatchUp()
+    {
+        FastList<ExceptionHandlingTask> toWaitFor;
+        synchronized (this.reloads)
+        {
+            toWaitFor = FastList.newList(this.reloads);
+            this.reloads.clear();
+        }
+        for (int i = 0; i < toWaitFor.size(); i++)
+        {
+            toWaitFor.get(i).waitUntilDoneWithExceptionHandling();
+        }
+    }
+
+    public void snapshot(MithraObjectPortal portal) throws IOException
+    {
+        long snapshotTime = System.currentTimeMillis();
+        File file = this.getSnapshotFile(portal);
+        File tempFile = new File(this.directory, file.getName() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile));
+        try
+        {
+            out.writeByte(SNAPSHOT_VERSION);
+            out.writeLong(snapshotTime);
+            getCacheController(portal).archiveCacheColumnar(out, null);
+        }
+        finally
+        {
+            out.close();
+        }
+        if (file.exists() && !file.delete() || !tempFile.renameTo(file))
+        {
+            throw new IOException("Could not replace " + file + " with " + tempFile);
+        }
+    }
+
+    /**
+     * writes the snapshots of all classes that were added, logging the classes that could not be written
+     */
+    public void snapshotAll()
+    {
+        FastList<MithraObjectPortal> toSnapshot;
+        synchronized (this.portals)
+        {
+            toSnapshot = FastList.newList(this.portals);
+        }
+        for (int i = 0; i < toSnapshot.size(); i++)
+        {
+            MithraObjectPortal portal = toSnapshot.get(i);
+            try
+            {
+                this.snapshot(portal);
+            }
+            catch (Throwable e)
+            {
+                logger.error("Could not write the cache snapshot of " + portal.getFinder().getFinderClassName(), e);
+            }
+        }
+    }
+
+    /**
+     * adds the classes that are restored from snapshots to the ones written periodically and on shutdown
+     */
+    public void addPortals(List<MithraObjectPortal> portalsToAdd)
+    {
+        synchronized (this.portals)
+        {
+            for (int i = 0; i < portalsToAdd.size(); i++)
+            {
+                MithraObjectPortal portal = portalsToAdd.get(i);
+                if (this.isRestored(portal) && !this.portals.contains(portal))
+                {
+                    this.portals.add(portal);
+                }
+            }
+            if (!this.portals.isEmpty() && this.shutdownHook == null && !this.shutdown)
+            {
+                this.start();
+            }
+        }
+    }
+
+    private void start()
+    {
+        this.shutdownHook = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                if (!shutdown)
+                {
+                    snapshotAll();
+                }
+            }
+        };
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+        if (this.periodInMillis > 0)
+        {
+            this.scheduler = Executors.newScheduledThreadPool(1, new ThreadFactory()
+            {
+                public Thread newThread(Runnable r)
+                {
+                    Thread t = new Thread(r);
+                    t.setDaemon(true);
+                    t.setName("Mithra Cache Snapshot");
+                    return t;
+                }
+            });
+            this.scheduler.scheduleWithFixedDelay(new Runnable()
+            {
+                public void run()
+                {
+                    snapshotAll();
+                }
+            }, this.periodInMillis, this.periodInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * stops the periodic snapshots, without writing the snapshots on shutdown
+     */
+    public void shutdown()
+    {
+        synchronized (this.portals)
+        {
+            this.shutdown = true;
+            if (this.scheduler != null)
+            {
+                this.scheduler.shutdown();
+                this.scheduler = null;
+            }
+            if (this.shutdownHook != null)
+            {
+                try
+                {
+                    Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+                }
+                catch (IllegalStateException e)
+                {
+                    // already shutting down
+                }
+                this.shutdownHook = null;
+            }
+        }
+    }
+
+    public File getSnapshotFile(MithraObjectPortal portal)
+    {
+        return new File(this.directory, portal.getClassMetaData().getBusinessOrInterfaceClassName() + SNAPSHOT_SUFFIX);
+    }
+
+    private static MithraRuntimeCacheController getCacheController(MithraObjectPortal portal)
+    {
+        return new MithraRuntimeCacheController(portal.getClassMetaData().getFinderClass());
+    }
+
+    private static void closeQuietly(DataInputStream in)
+    {
+        if (in != null)
+        {
+            try
+            {
+                in.close();
+            }
+            catch (IOException e)
+            {
+                logger.warn("Could not close cache snapshot", e);
+            }
+        }
+    }
+}
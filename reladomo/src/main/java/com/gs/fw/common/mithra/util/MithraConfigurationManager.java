@@ -33,6 +33,7 @@ import com.gs.fw.common.mithra.mithraruntime.*;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -59,6 +60,7 @@ public class MithraConfigurationManager
     private final ConcurrentHashMap<String, MasterCacheUplink> masterCacheUplinkMap = ConcurrentHashMap.newMap();
     private int defaultMinQueriesToKeep = 32;
     private int defaultRelationshipCacheSize = 10000;
+    private volatile MithraCacheSnapshotter cacheSnapshotter;
     private final UnifiedMap uninitialized = new UnifiedMap();
     private final Set<String> initializedClasses = new UnifiedSet<String>();
     private static final Class[] GET_INSTANCE_PARAMETER_TYPES = new Class[] { Properties.class };
@@ -87,6 +89,40 @@ public class MithraConfigurationManager
         this.defaultRelationshipCacheSize = defaultRelationshipCacheSize;
     }
 
+    /**
+     * restores fully cached classes with a processing date from snapshots in the directory when their caches are
+     * loaded, and writes their snapshots there when the JVM shuts down and, if the period is positive, every period
+     * milliseconds. See {@link MithraCacheSnapshotter}.
+     * @param directory the directory for the snapshots, or null to stop snapshotting
+     * @param periodInMillis how often the snapshots are written; 0 writes them only on shutdown
+     */
+    public void setCacheSnapshotDirectory(File directory, long periodInMillis)
+    {
+        this.setCacheSnapshotDirectory(directory, periodInMillis, false);
+    }
+
+    /**
+     * like {@link #setCacheSnapshotDirectory(File, long)}, optionally restoring fully cached classes without a
+     * processing date as well. Nothing marks the rows of such a class that changed since its snapshot, so it's
+     * reloaded from the database on a separate thread: until that is done, which may be well after
+     * {@link #loadMithraCache} returns, it serves the possibly stale rows of the snapshot.
+     * {@link MithraCacheSnapshotter#waitForCatchUp()} waits for the reloads.
+     * @param restoreNonDatedClasses true to accept stale reads from classes without a processing date after startup
+     */
+    public void setCacheSnapshotDirectory(File directory, long periodInMillis, boolean restoreNonDatedClasses)
+    {
+        if (this.cacheSnapshotter != null)
+        {
+            this.cacheSnapshotter.shutdown();
+        }
+        this.cacheSnapshotter = directory == null ? null : new MithraCacheSnapshotter(directory, periodInMillis, restoreNonDatedClasses);
+    }
+
+    public MithraCacheSnapshotter getCacheSnapshotter()
+    {
+        return this.cacheSnapshotter;
+    }
+
     public MasterCacheUplink getMasterCacheUplink(String masterCacheId)
     {
         return this.masterCacheUplinkMap.get(masterCacheId);
@@ -231,13 +267,18 @@ public class MithraConfigurationManager
      */
     public void loadMithraCache(List<MithraObjectPortal> portals, int threads) throws MithraBusinessException
     {
+        MithraCacheSnapshotter snapshotter = this.cacheSnapshotter;
         ThreadConservingExecutor executor = new ThreadConservingExecutor(threads);
         for(int i=0;i<portals.size();i++)
         {
             final MithraObjectPortal portal = portals.get(i);
-            executor.submit(new PortalLoadCacheRunnable(portal));
+            executor.submit(new PortalLoadCacheRunnable(portal, snapshotter));
         }
         executor.finish();
+        if (snapshotter != null)
+        {
+            snapshotter.addPortals(portals);
+        }
     }
 
     public void readConfiguration(InputStream mithraFileIs) throws MithraBusinessException
@@ -1787,15 +1828,24 @@ public class MithraConfigurationManager
     private static class PortalLoadCacheRunnable implements Runnable
     {
         private MithraObjectPortal portal;
+        private MithraCacheSnapshotter snapshotter;
 
-        private PortalLoadCacheRunnable(MithraObjectPortal portal)
+        private PortalLoadCacheRunnable(MithraObjectPortal portal, MithraCacheSnapshotter snapshotter)
         {
             this.portal = portal;
+            this.snapshotter = snapshotter;
         }
 
         public void run()
         {
-            portal.loadCache();
+            if (snapshotter == null)
+            {
+                portal.loadCache();
+            }
+            else
+            {
+                snapshotter.loadCache(portal);
+            }
         }
     }
 }
@@ -19,8 +19,10 @@ package com.gs.fw.common.mithra.util;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.collections.impl.list.mutable.FastList;
 import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.cache.Cache;
 import com.gs.fw.common.mithra.cache.PrimaryKeyIndex;
+import com.gs.fw.common.mithra.cache.QueryIndex;
 import com.gs.fw.common.mithra.database.*;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
@@ -41,6 +43,7 @@ public class MithraRuntimeCacheController
     private static Logger logger = LoggerFactory.getLogger(MithraRuntimeCacheController.class.getName());
 
     public static final byte CACHE_ARCHIVE_VERSION = 2;
+    public static final byte COLUMNAR_CACHE_ARCHIVE_VERSION = 3;
     public static final byte JZLIB_CACHE_COMPRESSION_VERSION = 1;
     public static final byte CACHE_COMPRESSION_VERSION = 2;
 
@@ -100,6 +103,27 @@ public class MithraRuntimeCacheController
         }
     }
 
+    /**
+     * turns on (or off) patching of cached query results as objects are committed, rather than expiring them.
+     * Only applies to non-dated transactional classes.
+     */
+    public void setMaintainCachedQueries(boolean maintainCachedQueries)
+    {
+        if (!this.relatedFinder.isTemporary())
+        {
+            this.getMithraObjectPortal().zGetNonTransactionalQueryCache().setMaintainQueries(maintainCachedQueries);
+        }
+    }
+
+    /**
+     * adds an in-memory trigram index on the attribute, used to narrow contains, startsWith, endsWith and
+     * wildCardEq searches without scanning the cache. Only supported for fully cached non-dated classes.
+     */
+    public void addStringSearchIndex(StringAttribute attribute)
+    {
+        this.getCache().addStringSearchIndex(attribute);
+    }
+
     public void reloadCache()
     {
         if (!this.relatedFinder.isTemporary())
@@ -232,6 +256,42 @@ public class MithraRuntimeCacheController
         }
     }
 
+    /**
+     * writes the cache in the columnar archive format, {@link ColumnarCacheArchive}, which is smaller than the format
+     * of {@link #archiveCache(OutputStream, Filter)} and is written and read on several threads. Only this version
+     * and later read it. Partial caches, and classes with an attribute that has no columnar encoding, are written
+     * with {@link #archiveCache(OutputStream, Filter)}.
+     * @param filterDatesToKeep the objects it matches are not written; may be null
+     */
+    public void archiveCacheColumnar(OutputStream out, Filter filterDatesToKeep) throws IOException
+    {
+        MithraObjectPortal portal = getMithraObjectPortal();
+        if (this.isPartialCache() || !ColumnarCacheArchive.isSupported(portal.getFinder()))
+        {
+            archiveCache(out, filterDatesToKeep);
+            return;
+        }
+        List cached = portal.getCache().getPrimayKeyIndexCopy().getAll();
+        FastList<MithraDataObject> data = new FastList<MithraDataObject>(cached.size());
+        for (int i = 0; i < cached.size(); i++)
+        {
+            Object o = cached.get(i);
+            if (filterDatesToKeep == null || !filterDatesToKeep.matches(o))
+            {
+                data.add(o instanceof MithraObject ? ((MithraObject) o).zGetCurrentData() : (MithraDataObject) o);
+            }
+        }
+        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out, POST_COMPRESS_BUFFER_SIZE));
+        dataOut.write(COLUMNAR_CACHE_ARCHIVE_VERSION);
+        dataOut.write(CACHE_COMPRESSION_VERSION);
+        dataOut.writeUTF(getClassName());
+        dataOut.writeInt(portal.getFinder().getSerialVersionId());
+        ColumnarCacheArchive archive = new ColumnarCacheArchive(MithraCpuBoundThreadPool.getInstance().getThreads(), ColumnarCacheArchive.DEFAULT_BLOCK_SIZE);
+        archive.writeAttributes(dataOut, portal.getFinder());
+        archive.writeBlocks(dataOut, data);
+        dataOut.flush();
+    }
+
     public void readCacheFromArchive(InputStream in) throws IOException, ClassNotFoundException
     {
         readArchive(in, true, null);
@@ -252,122 +312,172 @@ public class MithraRuntimeCacheController
     {
         in = new BufferedInputStream(in, POST_COMPRESS_BUFFER_SIZE);
         MithraObjectPortal portal = this.getMithraObjectPortal();
-        Cache cache = portal.getCache();
-        PrimaryKeyIndex fullUniqueIndex = null;
-        if (!this.isPartialCache())
-        {
-            fullUniqueIndex = cache.getPrimayKeyIndexCopy();
-        }
-        MithraObjectDeserializer deserializer = portal.getMithraObjectDeserializer();
-        FastList newDataList = new FastList();
-        FastList updatedDataList = new FastList();
         byte archiveVersion = (byte) in.read();
-        if (archiveVersion > CACHE_ARCHIVE_VERSION)
+        if (archiveVersion > COLUMNAR_CACHE_ARCHIVE_VERSION)
         {
             throw new MithraBusinessException("unknown cache archive version "+archiveVersion);
         }
-        ObjectInputStream ois = null;
         byte compression = (byte) in.read();
         if (compression == JZLIB_CACHE_COMPRESSION_VERSION)
         {
             throw new MithraBusinessException("Jzlib compression is no longer supported. Use an older version of Mithra (14.6.x is the last version with Jzlib support)");
         }
-        else if (compression == CACHE_COMPRESSION_VERSION)
-        {
-            ois = new ObjectInputStream(new LZ4BlockInputStream(in));
-        }
         if (compression > CACHE_COMPRESSION_VERSION)
         {
             throw new MithraBusinessException("unknown cache compression type "+compression);
         }
-        String finderClassName = (String) ois.readObject();
+        ArchivedDataLoader loader = new ArchivedDataLoader(removeLeftOver, filterOfDatesToKeep);
+        if (archiveVersion == COLUMNAR_CACHE_ARCHIVE_VERSION)
+        {
+            DataInputStream dataIn = new DataInputStream(in);
+            this.checkArchivedClass(dataIn.readUTF(), dataIn.readInt());
+            ColumnarCacheArchive archive = new ColumnarCacheArchive(MithraCpuBoundThreadPool.getInstance().getThreads(), ColumnarCacheArchive.DEFAULT_BLOCK_SIZE);
+            archive.readAttributes(dataIn, portal.getFinder());
+            Class dataClass = this.metaData.getOnHeapDataClass();
+            List<MithraDataObject> data = archive.readBlocks(dataIn, dataClass);
+            while (data != null)
+            {
+                for (int i = 0; i < data.size(); i++)
+                {
+                    loader.add(data.get(i));
+                }
+                data = archive.readBlocks(dataIn, dataClass);
+            }
+        }
+        else
+        {
+            ObjectInputStream ois = new ObjectInputStream(new LZ4BlockInputStream(in));
+            this.checkArchivedClass((String) ois.readObject(), ois.readInt());
+            MithraObjectDeserializer deserializer = portal.getMithraObjectDeserializer();
+            boolean waitForZero = archiveVersion > 1;
+            boolean done;
+            do
+            {
+                int size = ois.readInt();
+                done = size == 0;
+                for(int i=0;i<size;i++)
+                {
+                    loader.add(deserializer.deserializeFullData(ois));
+                }
+            }
+            while(waitForZero && !done);
+        }
+        loader.finish();
+    }
+
+    private void checkArchivedClass(String finderClassName, int serialVersion)
+    {
         if (!finderClassName.equals(getClassName()))
         {
             throw new MithraBusinessException("Wrong cache archive. Expecting "+getClassName()+" but got "+
              finderClassName);
         }
-        int serialVersion = ois.readInt();
-        if (serialVersion != portal.getFinder().getSerialVersionId())
+        if (serialVersion != this.getMithraObjectPortal().getFinder().getSerialVersionId())
         {
             throw new MithraBusinessException("Wrong serial version for class "+getClassName()+" Expecting "+
-                portal.getFinder().getSerialVersionId()+" but got "+serialVersion);
+                this.getMithraObjectPortal().getFinder().getSerialVersionId()+" but got "+serialVersion);
         }
-        boolean waitForZero = archiveVersion > 1;
-        boolean done;
-        Set<String> databaseIdentifiers = UnifiedSet.newSet(4);
+    }
 
-        int chunkSize = removeLeftOver ? Integer.MAX_VALUE : 500000; // cannot chunk if need to removeLeftovers
-        do
+    private class ArchivedDataLoader
+    {
+        private final MithraObjectPortal portal = getMithraObjectPortal();
+        private final Cache cache = portal.getCache();
+        private final MithraObjectDeserializer deserializer = portal.getMithraObjectDeserializer();
+        private final PrimaryKeyIndex fullUniqueIndex = isPartialCache() ? null : cache.getPrimayKeyIndexCopy();
+        private final MithraCodeGeneratedDatabaseObject databaseObject = portal.isPureHome() ? null : (MithraCodeGeneratedDatabaseObject) portal.getDatabaseObject();
+        private final UnifiedSet sources = UnifiedSet.newSet();
+        private final FastList newDataList = new FastList();
+        private final FastList updatedDataList = new FastList();
+        private final boolean removeLeftOver;
+        private final Filter filterOfDatesToKeep;
+        private final int chunkSize;
+
+        private ArchivedDataLoader(boolean removeLeftOver, Filter filterOfDatesToKeep)
         {
-            int size = ois.readInt();
-            done = size == 0;
+            this.removeLeftOver = removeLeftOver;
+            this.filterOfDatesToKeep = filterOfDatesToKeep;
+            this.chunkSize = removeLeftOver ? Integer.MAX_VALUE : 500000; // cannot chunk if need to removeLeftovers
+        }
 
-            if (portal.isPureHome())
+        private void add(MithraDataObject data)
+        {
+            //check if this object is from the right date. If not, don't add to any list
+            if(filterOfDatesToKeep == null || !filterOfDatesToKeep.matches(data))
             {
-                for(int i=0;i<size;i++)
+                if (databaseObject != null)
                 {
-                    MithraDataObject data = deserializer.deserializeFullData(ois);
-                    //check if this object is from the right date. If not, don't add to any list
-                    if(filterOfDatesToKeep == null || !filterOfDatesToKeep.matches(data))
-                    {
-                        deserializer.analyzeChangeForReload(fullUniqueIndex, data, newDataList, updatedDataList);
-                    }
-
-                    if (newDataList.size() + updatedDataList.size() > chunkSize)
-                    {
-                        cache.updateCache(newDataList, updatedDataList, ListFactory.EMPTY_LIST); // only called with removeLeftOver == false
-                        newDataList.clear();
-                        updatedDataList.clear();
-                    }
+                    sources.add(databaseObject.getSourceAttributeValueFromObjectGeneric(data));
                 }
+                deserializer.analyzeChangeForReload(fullUniqueIndex, data, newDataList, updatedDataList);
             }
-            else
+
+            if (newDataList.size() + updatedDataList.size() > chunkSize)
             {
-                MithraCodeGeneratedDatabaseObject databaseObject = (MithraCodeGeneratedDatabaseObject) this.getMithraObjectPortal().getDatabaseObject();
-                UnifiedSet sources = UnifiedSet.newSet();
-                for(int i=0;i<size;i++)
+                cache.updateCache(newDataList, updatedDataList, ListFactory.EMPTY_LIST); // only called with removeLeftOver == false
+                newDataList.clear();
+                updatedDataList.clear();
+            }
+        }
+
+        private void finish()
+        {
+            List leftOver = ListFactory.EMPTY_LIST;
+            if (removeLeftOver)
+            {
+                if (isPartialCache())
                 {
-                    MithraDataObject data = deserializer.deserializeFullData(ois);
-                    //check if this object is from the right date. If not, don't add to any list
-                    if(filterOfDatesToKeep == null || !filterOfDatesToKeep.matches(data))
-                    {
-                        Object sourceAttribute = databaseObject.getSourceAttributeValueFromObjectGeneric(data);
-                        sources.add(sourceAttribute);
-                        deserializer.analyzeChangeForReload(fullUniqueIndex, data, newDataList, updatedDataList);
-                    }
-
-                    if (newDataList.size() + updatedDataList.size() > chunkSize)
-                    {
-                        cache.updateCache(newDataList, updatedDataList, ListFactory.EMPTY_LIST); // only called with removeLeftOver == false
-                        newDataList.clear();
-                        updatedDataList.clear();
-                    }
+                    clearQueryCache();
                 }
-                for (Object each : sources)
+                else
                 {
-                    databaseIdentifiers.add(databaseObject.getDatabaseIdentifierGenericSource(each));
+                    leftOver = fullUniqueIndex.getAll();
                 }
             }
-        }
-        while(waitForZero && !done);
-        List leftOver = ListFactory.EMPTY_LIST;
-        if (removeLeftOver)
-        {
-            if (this.isPartialCache())
+            cache.updateCache(newDataList, updatedDataList, leftOver);
+            portal.incrementClassUpdateCount();
+            Set<String> databaseIdentifiers = UnifiedSet.newSet(4);
+            for (Object each : sources)
             {
-                this.clearQueryCache();
+                databaseIdentifiers.add(databaseObject.getDatabaseIdentifierGenericSource(each));
             }
-            else
+            for (String dbId : databaseIdentifiers)
             {
-                leftOver = fullUniqueIndex.getAll();
+                portal.registerForNotification(dbId);
             }
         }
-        cache.updateCache(newDataList, updatedDataList, leftOver);
-        this.getMithraObjectPortal().incrementClassUpdateCount();
-        for (String dbId : databaseIdentifiers)
-        {
-            this.getMithraObjectPortal().registerForNotification(dbId);
-        }
+    }
+
+    public long getQueryCacheHits()
+    {
+        if (this.relatedFinder.isTemporary()) return 0;
+        return this.getQueryIndex().getHits();
+    }
+
+    public long getQueryCacheMisses()
+    {
+        if (this.relatedFinder.isTemporary()) return 0;
+        return this.getQueryIndex().getMisses();
+    }
+
+    public long getQueryCacheEvictions()
+    {
+        if (this.relatedFinder.isTemporary()) return 0;
+        return this.getQueryIndex().getEvictions();
+    }
+
+    /**
+     * @return the summed result size of the cached queries that are kept in memory regardless of garbage collection
+     */
+    public long getQueryCacheRetainedSize()
+    {
+        if (this.relatedFinder.isTemporary()) return 0;
+        return this.getQueryIndex().getRetainedSize();
+    }
+
+    private QueryIndex getQueryIndex()
+    {
+        return this.getMithraObjectPortal().zGetNonTransactionalQueryCache().getQueryIndex();
     }
 
     public boolean isTemporaryObject()
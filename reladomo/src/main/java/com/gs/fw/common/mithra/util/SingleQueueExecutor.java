@@ -20,6 +20,7 @@ import com.gs.fw.common.mithra.*;
 import com.gs.fw.common.mithra.attribute.AsOfAttribute;
 import com.gs.fw.common.mithra.attribute.VersionAttribute;
 import com.gs.fw.common.mithra.behavior.txparticipation.ReadCacheWithOptimisticLockingTxParticipationMode;
+import com.gs.fw.common.mithra.database.MithraCodeGeneratedDatabaseObject;
 import com.gs.fw.common.mithra.database.SyslogChecker;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
@@ -45,7 +46,10 @@ import java.util.concurrent.atomic.AtomicLong;
  * the first column in the unique database index be used for hashing. All Mithra object attributes can be used
  * for hashing.
  *
- * This class is not synchronized. It expects to be called from a single thread or be extrenally synchronized.
+ * The add methods can be called from many threads. Each thread stages its objects in one of a few striped buffers,
+ * which are handed to the queues in batches of getMultiInsertBatchSize objects (for the database type of the finder),
+ * so the threads rarely contend on a single lock. The other methods expect to be called from a single thread or be
+ * externally synchronized.
  *
  * The typical usage of this class is as follows:
  *
@@ -73,6 +77,9 @@ public class SingleQueueExecutor implements QueueExecutor
 {
     private static Logger logger = LoggerFactory.getLogger(SingleQueueExecutor.class.getName());
 
+    private static final int DEFAULT_STAGING_SIZE = 100;
+    private static final int MAX_STAGING_STRIPES = 64;
+
     protected ThreadPoolExecutor[] executor;
     protected ThreadPoolExecutor insertExecutor;
     protected MithraFastList updateAndTerminateList;
@@ -86,6 +93,10 @@ public class SingleQueueExecutor implements QueueExecutor
     private int totalUpdates;
     private int totalInserts;
     private int totalTerminates;
+    private final StagingBuffer[] stagingBuffers;
+    private int stagingSize;
+    private final QueueStatistics[] updateQueueStatistics;
+    private final QueueStatistics insertQueueStatistics = new QueueStatistics();
     protected final AtomicInteger processedUpdatesAndTerminates = new AtomicInteger();
     protected final AtomicInteger processedInserts = new AtomicInteger();
     private volatile int updatesAndTerminatesQueued;
@@ -186,6 +197,17 @@ public class SingleQueueExecutor implements QueueExecutor
         insertList = new MithraFastList(insertBatchSize);
         insertForUpdateList = new MithraFastList(insertBatchSize);
         updateAndTerminateList = new MithraFastList(minBatchesBeforeQueuing * batchSize);
+        this.stagingSize = Math.min(this.computeStagingSize(), this.insertBatchSize);
+        this.stagingBuffers = new StagingBuffer[Math.min(MAX_STAGING_STRIPES, Runtime.getRuntime().availableProcessors())];
+        for (int i = 0; i < this.stagingBuffers.length; i++)
+        {
+            this.stagingBuffers[i] = new StagingBuffer(this.stagingSize);
+        }
+        this.updateQueueStatistics = new QueueStatistics[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++)
+        {
+            this.updateQueueStatistics[i] = new QueueStatistics();
+        }
         lastLogTime = System.currentTimeMillis();
         this.transactionStyle = new TransactionStyle(MithraManagerProvider.getMithraManager().getTransactionTimeout(), maxRetriesBeforeRequeue, this.retryOnTimeout);
     }
@@ -193,6 +215,39 @@ public class SingleQueueExecutor implements QueueExecutor
     public void setInsertBatchSize(int insertBatchSize)
     {
         this.insertBatchSize = insertBatchSize;
+        this.stagingSize = Math.min(this.stagingSize, insertBatchSize);
+    }
+
+    private int computeStagingSize()
+    {
+        try
+        {
+            MithraDatabaseObject databaseObject = this.finder.getMithraObjectPortal().getDatabaseObject();
+            if (databaseObject instanceof MithraCodeGeneratedDatabaseObject && this.finder.getSourceAttribute() == null)
+            {
+                int multiInsertBatchSize = ((MithraCodeGeneratedDatabaseObject) databaseObject).getDatabaseTypeGenericSource(null)
+                        .getMultiInsertBatchSize(this.finder.getPersistentAttributes().length);
+                if (multiInsertBatchSize > 0)
+                {
+                    return multiInsertBatchSize;
+                }
+            }
+        }
+        catch (RuntimeException e)
+        {
+            logger.debug("could not get the multi insert batch size, using " + DEFAULT_STAGING_SIZE, e);
+        }
+        return DEFAULT_STAGING_SIZE;
+    }
+
+    public int getStagingSize()
+    {
+        return this.stagingSize;
+    }
+
+    private StagingBuffer getStagingBuffer()
+    {
+        return this.stagingBuffers[(int) (Thread.currentThread().getId() % this.stagingBuffers.length)];
     }
 
     public int getNumberOfThreads()
@@ -315,12 +370,21 @@ public class SingleQueueExecutor implements QueueExecutor
         insertExecutor.execute(new CallableWrapper(task, this, counter, insertExecutor, this.retryOnTimeout));
     }
 
-    public synchronized void addForTermination(Object o)
+    public void addForTermination(Object o)
     {
         checkFailed();
-        this.totalTerminates++;
-        updateAndTerminateList.add(createTerminateOperation((MithraTransactionalObject) o));
-        checkForUpdateSubmission();
+        TransactionOperation operation = createTerminateOperation((MithraTransactionalObject) o);
+        StagingBuffer buffer = this.getStagingBuffer();
+        MithraFastList full;
+        synchronized (buffer)
+        {
+            buffer.totalTerminates++;
+            full = buffer.addUpdateOrTerminate(operation, this.stagingSize);
+        }
+        if (full != null)
+        {
+            this.transferUpdatesAndTerminates(full);
+        }
     }
 
     private void checkFailed()
@@ -335,14 +399,58 @@ public class SingleQueueExecutor implements QueueExecutor
         }
     }
 
-    public synchronized void addForInsert(Object o)
+    public void addForInsert(Object o)
     {
         checkFailed();
-        this.totalInserts++;
-        insertList.add(o);
+        StagingBuffer buffer = this.getStagingBuffer();
+        MithraFastList full;
+        synchronized (buffer)
+        {
+            buffer.totalInserts++;
+            full = buffer.addInsert(o, this.stagingSize);
+        }
+        if (full != null)
+        {
+            this.transferInserts(full);
+        }
+    }
+
+    private synchronized void transferInserts(MithraFastList staged)
+    {
+        insertList.addAll(staged);
         checkForInsertSubmission();
     }
 
+    private synchronized void transferUpdatesAndTerminates(MithraFastList staged)
+    {
+        updateAndTerminateList.addAll(staged);
+        checkForUpdateSubmission();
+    }
+
+    /**
+     * moves everything staged by the adding threads to the queues' lists. Must be called with the lock held.
+     */
+    private void drainStagingBuffers()
+    {
+        for (int i = 0; i < this.stagingBuffers.length; i++)
+        {
+            StagingBuffer buffer = this.stagingBuffers[i];
+            synchronized (buffer)
+            {
+                if (!buffer.inserts.isEmpty())
+                {
+                    insertList.addAll(buffer.inserts);
+                    buffer.inserts.clear();
+                }
+                if (!buffer.updatesAndTerminates.isEmpty())
+                {
+                    updateAndTerminateList.addAll(buffer.updatesAndTerminates);
+                    buffer.updatesAndTerminates.clear();
+                }
+            }
+        }
+    }
+
     public synchronized void addAllForInsert(List list)
     {
         checkFailed();
@@ -419,14 +527,22 @@ public class SingleQueueExecutor implements QueueExecutor
         return end;
     }
 
-    public synchronized void addForUpdate(Object dbObject, Object fileObject)
+    public void addForUpdate(Object dbObject, Object fileObject)
     {
         checkFailed();
-        this.totalUpdates++;
         UpdateOperation pair = createUpdateOperation((MithraTransactionalObject) dbObject,
                 (MithraTransactionalObject) fileObject);
-        updateAndTerminateList.add(pair);
-        checkForUpdateSubmission();
+        StagingBuffer buffer = this.getStagingBuffer();
+        MithraFastList full;
+        synchronized (buffer)
+        {
+            buffer.totalUpdates++;
+            full = buffer.addUpdateOrTerminate(pair, this.stagingSize);
+        }
+        if (full != null)
+        {
+            this.transferUpdatesAndTerminates(full);
+        }
     }
 
     private void checkForUpdateSubmission()
@@ -540,6 +656,7 @@ public class SingleQueueExecutor implements QueueExecutor
      */
     public synchronized void flushInsert()
     {
+        this.drainStagingBuffers();
         if (!insertForUpdateList.isEmpty())
         {
             int sent = this.submitInsert(insertForUpdateList);
@@ -571,6 +688,7 @@ public class SingleQueueExecutor implements QueueExecutor
 
     public synchronized void flushUpdatesAndTerminates()
     {
+        this.drainStagingBuffers();
         if (!updateAndTerminateList.isEmpty())
         {
             int sent = this.submitUpdatesAndTerminates();
@@ -701,37 +819,95 @@ public class SingleQueueExecutor implements QueueExecutor
 
     public int getTotalUpdates()
     {
-        return totalUpdates;
+        int result = totalUpdates;
+        for (StagingBuffer buffer : this.stagingBuffers)
+        {
+            result += buffer.totalUpdates;
+        }
+        return result;
     }
 
     public int getTotalInserts()
     {
-        return totalInserts;
+        int result = totalInserts;
+        for (StagingBuffer buffer : this.stagingBuffers)
+        {
+            result += buffer.totalInserts;
+        }
+        return result;
     }
 
     public int getTotalTerminates()
     {
-        return totalTerminates;
+        int result = totalTerminates;
+        for (StagingBuffer buffer : this.stagingBuffers)
+        {
+            result += buffer.totalTerminates;
+        }
+        return result;
     }
 
     public int getPendingUpdatesAndTerminates()
     {
-        return updateAndTerminateList.size();
+        int result = updateAndTerminateList.size();
+        for (StagingBuffer buffer : this.stagingBuffers)
+        {
+            result += buffer.updatesAndTerminates.size();
+        }
+        return result;
     }
 
     public int getPendingInserts()
     {
-        return insertList.size();
+        int result = insertList.size();
+        for (StagingBuffer buffer : this.stagingBuffers)
+        {
+            result += buffer.inserts.size();
+        }
+        return result;
     }
 
     public int getProcessedUpdatesAndTerminates()
     {
-        return totalUpdates+totalTerminates-updateAndTerminateList.size();
+        return getTotalUpdates() + getTotalTerminates() - getPendingUpdatesAndTerminates();
     }
 
     public int getProcessedInserts()
     {
-        return totalInserts-insertList.size();
+        return getTotalInserts() - getPendingInserts();
+    }
+
+    /**
+     * @param queueNumber from 0 to getNumberOfThreads() - 1
+     * @return the throughput and latency of the tasks run by the update and terminate queue
+     */
+    public QueueStatistics getUpdateQueueStatistics(int queueNumber)
+    {
+        return this.updateQueueStatistics[queueNumber];
+    }
+
+    /**
+     * @return the throughput and latency of the tasks run by the insert threads
+     */
+    public QueueStatistics getInsertQueueStatistics()
+    {
+        return this.insertQueueStatistics;
+    }
+
+    protected QueueStatistics getStatisticsForTask(CallableTask task, ThreadPoolExecutor taskExecutor)
+    {
+        if (task instanceof InsertTask)
+        {
+            return this.insertQueueStatistics;
+        }
+        for (int i = 0; i < numberOfUpdateThreads; i++)
+        {
+            if (executor[i] == taskExecutor)
+            {
+                return this.updateQueueStatistics[i];
+            }
+        }
+        return null;
     }
 
     protected void logResults()
@@ -753,8 +929,11 @@ public class SingleQueueExecutor implements QueueExecutor
             logger.error("All tasks did not complete. See the exceptions above");
         }
         int total = this.insertsQueued + this.updatesAndTerminatesQueued;
-        String msg = "Finished processing " + total + " tasks. Inserted " + this.totalInserts + ", updated " + this.totalUpdates +
-                " and terminated " + this.totalTerminates + " objects.\n";
+        int totalInserts = this.getTotalInserts();
+        int totalUpdates = this.getTotalUpdates();
+        int totalTerminates = this.getTotalTerminates();
+        String msg = "Finished processing " + total + " tasks. Inserted " + totalInserts + ", updated " + totalUpdates +
+                " and terminated " + totalTerminates + " objects.\n";
         if (timeInInsert.get() > 0)
         {
             double inserts = (double) totalInserts;
@@ -782,6 +961,7 @@ public class SingleQueueExecutor implements QueueExecutor
         private final AtomicInteger counter;
         private final ThreadPoolExecutor executor;
         private boolean retryOnTimeout = true;
+        private final long submitTime = System.currentTimeMillis();
 
         public CallableWrapper(CallableTask callable, SingleQueueExecutor sqe, AtomicInteger counter,
                 ThreadPoolExecutor executor)
@@ -809,7 +989,14 @@ public class SingleQueueExecutor implements QueueExecutor
                 {
                     this.waitForSyslog();
                 }
+                long start = System.currentTimeMillis();
                 callable.call();
+                QueueStatistics statistics = sqe.getStatisticsForTask(callable, this.executor);
+                if (statistics != null)
+                {
+                    long end = System.currentTimeMillis();
+                    statistics.taskFinished(callable.getOperations().size(), end - start, end - this.submitTime);
+                }
                 counter.incrementAndGet();
                 sqe.logResults();
                 callable = null;
@@ -911,6 +1098,114 @@ public class SingleQueueExecutor implements QueueExecutor
         return new UpdateAndTerminateTask(operations, command);
     }
 
+    /**
+     * Collects the objects added by the threads that map to it, until there are enough to hand them to a queue.
+     * The counts are only changed with the buffer's lock held.
+     */
+    private static class StagingBuffer
+    {
+        private MithraFastList inserts;
+        private MithraFastList updatesAndTerminates;
+        private int totalInserts;
+        private int totalUpdates;
+        private int totalTerminates;
+
+        private StagingBuffer(int stagingSize)
+        {
+            this.inserts = new MithraFastList(stagingSize);
+            this.updatesAndTerminates = new MithraFastList(stagingSize);
+        }
+
+        /**
+         * @return the staged inserts, if they should be handed to the queue
+         */
+        private MithraFastList addInsert(Object o, int stagingSize)
+        {
+            this.inserts.add(o);
+            if (this.inserts.size() < stagingSize)
+            {
+                return null;
+            }
+            MithraFastList full = this.inserts;
+            this.inserts = new MithraFastList(stagingSize);
+            return full;
+        }
+
+        private MithraFastList addUpdateOrTerminate(TransactionOperation operation, int stagingSize)
+        {
+            this.updatesAndTerminates.add(operation);
+            if (this.updatesAndTerminates.size() < stagingSize)
+            {
+                return null;
+            }
+            MithraFastList full = this.updatesAndTerminates;
+            this.updatesAndTerminates = new MithraFastList(stagingSize);
+            return full;
+        }
+    }
+
+    /**
+     * Throughput and latency of the tasks run by one queue. The latency of a task is the time from its submission
+     * to the end of its transaction, including any time spent waiting in the queue and retrying.
+     */
+    public static class QueueStatistics
+    {
+        private final AtomicLong tasks = new AtomicLong();
+        private final AtomicLong objects = new AtomicLong();
+        private final AtomicLong busyTime = new AtomicLong();
+        private final AtomicLong latency = new AtomicLong();
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        protected void taskFinished(int objectCount, long taskTime, long taskLatency)
+        {
+            this.tasks.incrementAndGet();
+            this.objects.addAndGet(objectCount);
+            this.busyTime.addAndGet(taskTime);
+            this.latency.addAndGet(taskLatency);
+            long max = this.maxLatency.get();
+            while (taskLatency > max && !this.maxLatency.compareAndSet(max, taskLatency))
+            {
+                max = this.maxLatency.get();
+            }
+        }
+
+        public long getTasks()
+        {
+            return this.tasks.get();
+        }
+
+        public long getObjects()
+        {
+            return this.objects.get();
+        }
+
+        /**
+         * @return the objects processed per second of time spent in the queue's transactions
+         */
+        public double getObjectsPerSecond()
+        {
+            long time = this.busyTime.get();
+            return time == 0 ? 0 : this.objects.get() * 1000.0 / time;
+        }
+
+        public double getAverageLatencyMillis()
+        {
+            long count = this.tasks.get();
+            return count == 0 ? 0 : (double) this.latency.get() / count;
+        }
+
+        public long getMaxLatencyMillis()
+        {
+            return this.maxLatency.get();
+        }
+
+        public String toString()
+        {
+            return this.getTasks() + " tasks, " + this.getObjects() + " objects, " + this.getObjectsPerSecond() + " objects/s, average latency "
+                    + this.getAverageLatencyMillis() + " ms, max latency " + this.getMaxLatencyMillis() + " ms";
+        }
+    }
+
     public abstract static class TransactionOperation
     {
         protected MithraTransactionalObject txObject;
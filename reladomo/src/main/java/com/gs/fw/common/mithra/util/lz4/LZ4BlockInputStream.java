@@ -279,6 +279,122 @@ public final class LZ4BlockInputStream extends FilterInputStream
     }
 
     public int decompress(byte[] src, final int srcOff, byte[] dest, final int destOff, int destLen) throws IOException
+    {
+        if (LZ4UnsafeUtils.UNALIGNED_ACCESS_ALLOWED)
+        {
+            return decompressUnsafe(src, srcOff, dest, destOff, destLen);
+        }
+        return decompressSafe(src, srcOff, dest, destOff, destLen);
+    }
+
+    /**
+     * same as {@link #decompressSafe(byte[], int, byte[], int, int)}, but copies literals and matches that are at least
+     * eight bytes back eight bytes at a time. Literals too close to the end of the source are copied safely.
+     */
+    public int decompressUnsafe(byte[] src, final int srcOff, byte[] dest, final int destOff, int destLen) throws IOException
+    {
+        if (destLen == 0)
+        {
+            if (src[srcOff] != 0)
+            {
+                throw new IOException("Malformed input at " + srcOff);
+            }
+            return 1;
+        }
+
+        final int destEnd = destOff + destLen;
+
+        int sOff = srcOff;
+        int dOff = destOff;
+
+        while (true)
+        {
+            final int token = src[sOff++] & 0xFF;
+
+            // literals
+            int literalLen = token >>> ML_BITS;
+            if (literalLen == RUN_MASK)
+            {
+                byte len;
+                while ((len = src[sOff++]) == (byte) 0xFF)
+                {
+                    literalLen += 0xFF;
+                }
+                literalLen += len & 0xFF;
+            }
+
+            final int literalCopyEnd = dOff + literalLen;
+            if (literalCopyEnd > destEnd - COPY_LENGTH)
+            {
+                if (literalCopyEnd != destEnd)
+                {
+                    throw new IOException("Malformed input at " + sOff);
+                }
+                else
+                {
+                    safeArraycopy(src, sOff, dest, dOff, literalLen);
+                    sOff += literalLen;
+                    break; // EOF
+                }
+            }
+
+            if (sOff + literalLen + COPY_LENGTH <= src.length)
+            {
+                LZ4UnsafeUtils.wildArraycopy(src, sOff, dest, dOff, literalLen);
+            }
+            else
+            {
+                wildArraycopy(src, sOff, dest, dOff, literalLen);
+            }
+            sOff += literalLen;
+            dOff = literalCopyEnd;
+
+            // matchs
+            final int matchDec = (src[sOff++] & 0xFF) | ((src[sOff++] & 0xFF) << 8);
+            int matchOff = dOff - matchDec;
+
+            if (matchOff < destOff)
+            {
+                throw new IOException("Malformed input at " + sOff);
+            }
+
+            int matchLen = token & ML_MASK;
+            if (matchLen == ML_MASK)
+            {
+                byte len;
+                while ((len = src[sOff++]) == (byte) 0xFF)
+                {
+                    matchLen += 0xFF;
+                }
+                matchLen += len & 0xFF;
+            }
+            matchLen += MIN_MATCH;
+
+            final int matchCopyEnd = dOff + matchLen;
+
+            if (matchCopyEnd > destEnd - COPY_LENGTH)
+            {
+                if (matchCopyEnd > destEnd)
+                {
+                    throw new IOException("Malformed input at " + sOff);
+                }
+                safeIncrementalCopy(dest, matchOff, dOff, matchLen);
+            }
+            else if (matchDec < COPY_LENGTH)
+            {
+                wildIncrementalCopy(dest, matchOff, dOff, matchCopyEnd);
+            }
+            else
+            {
+                LZ4UnsafeUtils.wildIncrementalCopy(dest, matchOff, dOff, matchCopyEnd);
+            }
+            dOff = matchCopyEnd;
+        }
+
+        return sOff - srcOff;
+    }
+
+    public int decompressSafe(byte[] src, final int srcOff, byte[] dest, final int destOff, int destLen) throws IOException
     {
         if (destLen == 0)
         {
@@ -70,6 +70,8 @@ public final class LZ4BlockOutputStream extends FilterOutputStream
 
     static final int DEFAULT_SEED = 0x9747b28c;
 
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
     private static int compressionLevel(int blockSize)
     {
         if (blockSize < MIN_BLOCK_SIZE)
@@ -90,7 +92,7 @@ public final class LZ4BlockOutputStream extends FilterOutputStream
 
     private final int blockSize;
     private final int compressionLevel;
-    private final LZ4HCJavaSafeCompressor compressor;
+    private final LZ4Compressor compressor;
     private final Checksum checksum;
     private final byte[] buffer;
     private final byte[] compressedBuffer;
@@ -100,7 +102,7 @@ public final class LZ4BlockOutputStream extends FilterOutputStream
 
     public LZ4BlockOutputStream(OutputStream out, boolean syncFlush)
     {
-        this(out, 64*1024, syncFlush);
+        this(out, DEFAULT_BLOCK_SIZE, syncFlush);
     }
     /**
      * Create a new {@link java.io.OutputStream} with configurable block size. Large
@@ -113,10 +115,19 @@ public final class LZ4BlockOutputStream extends FilterOutputStream
      * @param syncFlush  true if pending data should also be flushed on {@link #flush()}
      */
     public LZ4BlockOutputStream(OutputStream out, int blockSize, boolean syncFlush)
+    {
+        this(out, blockSize, syncFlush, false);
+    }
+
+    /**
+     * @param fastCompression true to compress with {@link LZ4JavaSafeCompressor}, for streams where latency matters more
+     *                        than size; the blocks are read the same way either way
+     */
+    public LZ4BlockOutputStream(OutputStream out, int blockSize, boolean syncFlush, boolean fastCompression)
     {
         super(out);
         this.blockSize = blockSize;
-        this.compressor = new LZ4HCJavaSafeCompressor();
+        this.compressor = fastCompression ? new LZ4JavaSafeCompressor() : new LZ4HCJavaSafeCompressor();
         this.checksum = new Adler32();
         this.compressionLevel = compressionLevel(blockSize);
         this.buffer = new byte[blockSize];
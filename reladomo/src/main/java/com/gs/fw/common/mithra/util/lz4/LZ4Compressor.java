@@ -0,0 +1,58 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+    Copyright Adrien Grand (based on Yann Collet's BSD licensed LZ4 implementation)
+    changes copyright Goldman Sachs, licensed under Apache 2.0 license
+*/
+package com.gs.fw.common.mithra.util.lz4;
+
+/**
+ * Compresses one LZ4 block. Both implementations write the same block format, so any of them can be used with
+ * {@link LZ4BlockInputStream}.
+ */
+public abstract class LZ4Compressor
+{
+    public final int maxCompressedLength(int length)
+    {
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("length must be >= 0, got " + length);
+        }
+        return length + length / 255 + 16;
+    }
+
+    public final int compress(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff)
+    {
+        return compress(src, srcOff, srcLen, dest, destOff, dest.length - destOff);
+    }
+
+    public abstract int compress(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff, int maxDestLen);
+}
@@ -34,7 +34,6 @@
 */
 package com.gs.fw.common.mithra.util.lz4;
 
-import java.nio.ByteOrder;
 import java.util.Arrays;
 
 import static com.gs.fw.common.mithra.util.lz4.LZ4Utils.*;
@@ -43,9 +42,8 @@ import static com.gs.fw.common.mithra.util.lz4.LZ4Utils.*;
  * High compression compressor written in pure Java without using the unofficial
  * sun.misc.Unsafe API.
  */
-public class LZ4HCJavaSafeCompressor
+public class LZ4HCJavaSafeCompressor extends LZ4Compressor
 {
-    private static final ByteOrder NATIVE_BYTE_ORDER = ByteOrder.nativeOrder();
     private static final int OPTIMAL_ML = ML_MASK - 1 + MIN_MATCH;
 
     private final HashTable ht = new HashTable(0);
@@ -54,21 +52,6 @@ public class LZ4HCJavaSafeCompressor
     private final Match match2 = new Match();
     private final Match match3 = new Match();
 
-    public final int maxCompressedLength(int length)
-    {
-        if (length < 0)
-        {
-            throw new IllegalArgumentException("length must be >= 0, got " + length);
-        }
-        return length + length / 255 + 16;
-    }
-
-    public final int compress(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff)
-    {
-        return compress(src, srcOff, srcLen, dest, destOff, dest.length - destOff);
-    }
-
-
     static void copyTo(Match m1, Match m2)
     {
         m2.len = m1.len;
@@ -239,110 +222,6 @@ public class LZ4HCJavaSafeCompressor
         return dOff - destOff;
     }
 
-    static int encodeSequence(byte[] src, int anchor, int matchOff, int matchRef, int matchLen, byte[] dest, int dOff, int destEnd)
-    {
-        final int runLen = matchOff - anchor;
-        final int tokenOff = dOff++;
-
-        if (dOff + runLen + (2 + 1 + LAST_LITERALS) + (runLen >>> 8) > destEnd)
-        {
-            throw new RuntimeException("maxDestLen is too small");
-        }
-
-        int token;
-        if (runLen >= RUN_MASK)
-        {
-            token = (byte) (RUN_MASK << ML_BITS);
-            dOff = writeLen(runLen - RUN_MASK, dest, dOff);
-        }
-        else
-        {
-            token = runLen << ML_BITS;
-        }
-
-        // copy literals
-        wildArraycopy(src, anchor, dest, dOff, runLen);
-        dOff += runLen;
-
-        // encode offset
-        final int matchDec = matchOff - matchRef;
-        dest[dOff++] = (byte) matchDec;
-        dest[dOff++] = (byte) (matchDec >>> 8);
-
-        // encode match len
-        matchLen -= 4;
-        if (dOff + (1 + LAST_LITERALS) + (matchLen >>> 8) > destEnd)
-        {
-            throw new RuntimeException("maxDestLen is too small");
-        }
-        if (matchLen >= ML_MASK)
-        {
-            token |= ML_MASK;
-            dOff = writeLen(matchLen - RUN_MASK, dest, dOff);
-        }
-        else
-        {
-            token |= matchLen;
-        }
-
-        dest[tokenOff] = (byte) token;
-
-        return dOff;
-    }
-
-    static int lastLiterals(byte[] src, int sOff, int srcLen, byte[] dest, int dOff, int destEnd)
-    {
-        final int runLen = srcLen;
-
-        if (dOff + runLen + 1 + (runLen + 255 - RUN_MASK) / 255 > destEnd)
-        {
-            throw new RuntimeException("maxDestLen is too small");
-        }
-
-        if (runLen >= RUN_MASK)
-        {
-            dest[dOff++] = (byte) (RUN_MASK << ML_BITS);
-            dOff = writeLen(runLen - RUN_MASK, dest, dOff);
-        }
-        else
-        {
-            dest[dOff++] = (byte) (runLen << ML_BITS);
-        }
-        // copy literals
-        System.arraycopy(src, sOff, dest, dOff, runLen);
-        dOff += runLen;
-
-        return dOff;
-    }
-
-    static int writeLen(int len, byte[] dest, int dOff)
-    {
-        while (len >= 0xFF)
-        {
-            dest[dOff++] = (byte) 0xFF;
-            len -= 0xFF;
-        }
-        dest[dOff++] = (byte) len;
-        return dOff;
-    }
-
-    static boolean readIntEquals(byte[] buf, int i, int j)
-    {
-        return buf[i] == buf[j] && buf[i + 1] == buf[j + 1] && buf[i + 2] == buf[j + 2] && buf[i + 3] == buf[j + 3];
-    }
-
-    public static int readInt(byte[] buf, int i)
-    {
-        if (NATIVE_BYTE_ORDER == ByteOrder.BIG_ENDIAN)
-        {
-            return readIntBE(buf, i);
-        }
-        else
-        {
-            return readIntLE(buf, i);
-        }
-    }
-
     class HashTable
     {
         static final int HASH_LOG_HC = 15;
@@ -0,0 +1,116 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+    Copyright Adrien Grand (based on Yann Collet's BSD licensed LZ4 implementation)
+    changes copyright Goldman Sachs, licensed under Apache 2.0 license
+*/
+package com.gs.fw.common.mithra.util.lz4;
+
+import java.util.Arrays;
+
+import static com.gs.fw.common.mithra.util.lz4.LZ4Utils.*;
+
+/**
+ * Fast compressor written in pure Java without using the unofficial sun.misc.Unsafe API.
+ * It keeps only the last position for each hash and takes the first match it finds, skipping ahead faster
+ * through data that does not compress. It is several times faster than {@link LZ4HCJavaSafeCompressor},
+ * for a somewhat larger output.
+ */
+public class LZ4JavaSafeCompressor extends LZ4Compressor
+{
+    static final int HASH_LOG = MEMORY_USAGE - 2;
+    static final int HASH_TABLE_SIZE = 1 << HASH_LOG;
+    static final int SKIP_STRENGTH = 6;
+    static final int MAX_DISTANCE = 1 << 16;
+
+    private final int[] hashTable = new int[HASH_TABLE_SIZE];
+
+    private static int hash(int i)
+    {
+        return (i * -1640531535) >>> ((MIN_MATCH * 8) - HASH_LOG);
+    }
+
+    public int compress(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff, int maxDestLen)
+    {
+        final int srcEnd = srcOff + srcLen;
+        final int destEnd = destOff + maxDestLen;
+        final int mfLimit = srcEnd - MF_LIMIT;
+        final int matchLimit = srcEnd - LAST_LITERALS;
+
+        int sOff = srcOff;
+        int dOff = destOff;
+        int anchor = sOff++;
+
+        Arrays.fill(hashTable, srcOff);
+
+        main:
+        while (true)
+        {
+            // find a match, stepping further the longer none is found
+            int forwardOff = sOff;
+            int ref;
+            int step = 1;
+            int searchMatchNb = 1 << SKIP_STRENGTH;
+            do
+            {
+                sOff = forwardOff;
+                forwardOff += step;
+                step = searchMatchNb++ >>> SKIP_STRENGTH;
+                if (forwardOff > mfLimit)
+                {
+                    break main;
+                }
+                final int h = hash(readInt(src, sOff));
+                ref = hashTable[h];
+                hashTable[h] = sOff;
+            } while (sOff - ref >= MAX_DISTANCE || !readIntEquals(src, ref, sOff));
+
+            // extend the match backwards over the pending literals
+            final int excess = commonBytesBackward(src, ref, sOff, srcOff, anchor);
+            sOff -= excess;
+            ref -= excess;
+
+            final int matchLen = MIN_MATCH + commonBytes(src, ref + MIN_MATCH, sOff + MIN_MATCH, matchLimit);
+            dOff = encodeSequence(src, anchor, sOff, ref, matchLen, dest, dOff, destEnd);
+            sOff += matchLen;
+            anchor = sOff;
+
+            if (sOff > mfLimit)
+            {
+                break;
+            }
+            hashTable[hash(readInt(src, sOff - 2))] = sOff - 2;
+        }
+
+        dOff = lastLiterals(src, anchor, srcEnd - anchor, dest, dOff, destEnd);
+        return dOff - destOff;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+    Copyright Adrien Grand (based on Yann Collet's BSD licensed LZ4 implementation)
+    changes copyright Goldman Sachs, licensed under Apache 2.0 license
+*/
+package com.gs.fw.common.mithra.util.lz4;
+
+import com.gs.fw.common.mithra.util.MithraUnsafe;
+import sun.misc.Unsafe;
+
+/**
+ * Copies used by the decompressor that move eight bytes at a time with unaligned long reads and writes.
+ * Only used on platforms that allow unaligned access; callers must keep every eight byte read and write
+ * inside the arrays.
+ */
+enum LZ4UnsafeUtils
+{
+    ;
+
+    static final boolean UNALIGNED_ACCESS_ALLOWED;
+    private static final Unsafe UNSAFE;
+    private static final long BYTE_ARRAY_OFFSET;
+
+    static
+    {
+        String arch = System.getProperty("os.arch");
+        UNALIGNED_ACCESS_ALLOWED = arch != null && arch.matches("^(i[3-6]86|x86(_64)?|x64|amd64|aarch64)$");
+        UNSAFE = MithraUnsafe.getUnsafe();
+        BYTE_ARRAY_OFFSET = UNSAFE.arrayBaseOffset(byte[].class);
+        if (UNSAFE.arrayIndexScale(byte[].class) != 1)
+        {
+            throw new AssertionError("byte array scale must be 1");
+        }
+    }
+
+    static void copy8Bytes(byte[] src, int sOff, byte[] dest, int dOff)
+    {
+        UNSAFE.putLong(dest, BYTE_ARRAY_OFFSET + dOff, UNSAFE.getLong(src, BYTE_ARRAY_OFFSET + sOff));
+    }
+
+    static void wildArraycopy(byte[] src, int sOff, byte[] dest, int dOff, int len)
+    {
+        for (int i = 0; i < len; i += 8)
+        {
+            copy8Bytes(src, sOff + i, dest, dOff + i);
+        }
+    }
+
+    /**
+     * copies a match that starts at least eight bytes before dOff, so the long reads never overlap the writes
+     */
+    static void wildIncrementalCopy(byte[] dest, int matchOff, int dOff, int matchCopyEnd)
+    {
+        do
+        {
+            copy8Bytes(dest, matchOff, dest, dOff);
+            matchOff += 8;
+            dOff += 8;
+        } while (dOff < matchCopyEnd);
+    }
+}
@@ -40,6 +40,8 @@ enum LZ4Utils
 {
     ;
 
+    static final ByteOrder NATIVE_BYTE_ORDER = ByteOrder.nativeOrder();
+
     static final int MEMORY_USAGE = 14;
 
     static final int MIN_MATCH = 4;
@@ -124,4 +126,108 @@ enum LZ4Utils
         return (buf[i] & 0xFF) | ((buf[i + 1] & 0xFF) << 8) | ((buf[i + 2] & 0xFF) << 16) | ((buf[i + 3] & 0xFF) << 24);
     }
 
+    static int encodeSequence(byte[] src, int anchor, int matchOff, int matchRef, int matchLen, byte[] dest, int dOff, int destEnd)
+    {
+        final int runLen = matchOff - anchor;
+        final int tokenOff = dOff++;
+
+        if (dOff + runLen + (2 + 1 + LAST_LITERALS) + (runLen >>> 8) > destEnd)
+        {
+            throw new RuntimeException("maxDestLen is too small");
+        }
+
+        int token;
+        if (runLen >= RUN_MASK)
+        {
+            token = (byte) (RUN_MASK << ML_BITS);
+            dOff = writeLen(runLen - RUN_MASK, dest, dOff);
+        }
+        else
+        {
+            token = runLen << ML_BITS;
+        }
+
+        // copy literals
+        wildArraycopy(src, anchor, dest, dOff, runLen);
+        dOff += runLen;
+
+        // encode offset
+        final int matchDec = matchOff - matchRef;
+        dest[dOff++] = (byte) matchDec;
+        dest[dOff++] = (byte) (matchDec >>> 8);
+
+        // encode match len
+        matchLen -= 4;
+        if (dOff + (1 + LAST_LITERALS) + (matchLen >>> 8) > destEnd)
+        {
+            throw new RuntimeException("maxDestLen is too small");
+        }
+        if (matchLen >= ML_MASK)
+        {
+            token |= ML_MASK;
+            dOff = writeLen(matchLen - RUN_MASK, dest, dOff);
+        }
+        else
+        {
+            token |= matchLen;
+        }
+
+        dest[tokenOff] = (byte) token;
+
+        return dOff;
+    }
+
+    static int lastLiterals(byte[] src, int sOff, int srcLen, byte[] dest, int dOff, int destEnd)
+    {
+        final int runLen = srcLen;
+
+        if (dOff + runLen + 1 + (runLen + 255 - RUN_MASK) / 255 > destEnd)
+        {
+            throw new RuntimeException("maxDestLen is too small");
+        }
+
+        if (runLen >= RUN_MASK)
+        {
+            dest[dOff++] = (byte) (RUN_MASK << ML_BITS);
+            dOff = writeLen(runLen - RUN_MASK, dest, dOff);
+        }
+        else
+        {
+            dest[dOff++] = (byte) (runLen << ML_BITS);
+        }
+        // copy literals
+        System.arraycopy(src, sOff, dest, dOff, runLen);
+        dOff += runLen;
+
+        return dOff;
+    }
+
+    static int writeLen(int len, byte[] dest, int dOff)
+    {
+        while (len >= 0xFF)
+        {
+            dest[dOff++] = (byte) 0xFF;
+            len -= 0xFF;
+        }
+        dest[dOff++] = (byte) len;
+        return dOff;
+    }
+
+    static boolean readIntEquals(byte[] buf, int i, int j)
+    {
+        return buf[i] == buf[j] && buf[i + 1] == buf[j + 1] && buf[i + 2] == buf[j + 2] && buf[i + 3] == buf[j + 3];
+    }
+
+    static int readInt(byte[] buf, int i)
+    {
+        if (NATIVE_BYTE_ORDER == ByteOrder.BIG_ENDIAN)
+        {
+            return readIntBE(buf, i);
+        }
+        else
+        {
+            return readIntLE(buf, i);
+        }
+    }
+
 }
@@ -0,0 +1,209 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.util.serializer;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
+import com.gs.fw.common.mithra.extractor.asm.AnnotatedMethodSerializerWriter;
+import com.gs.fw.common.mithra.util.ListFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Writes the results of the {@link ReladomoSerialize} methods of one class. Where the class and methods can be called
+ * directly, the subclass is generated by {@link AnnotatedMethodSerializerWriter} and calls each method and the typed
+ * write method of the {@link SerialWriter} without reflection or boxing. Otherwise, the methods are invoked reflectively.
+ */
+public abstract class AnnotatedMethodSerializer
+{
+    private static final Logger logger = LoggerFactory.getLogger(AnnotatedMethodSerializer.class.getName());
+
+    private static final AnnotatedMethodSerializerWriter GENERATOR = new AnnotatedMethodSerializerWriter();
+    private static final ConcurrentHashMap<List<Object>, AnnotatedMethodSerializer> CACHE = ConcurrentHashMap.newMap();
+
+    private List<Method> methods;
+    private String[] names;
+
+    /**
+     * @return the serializer for the methods of the class, generating it on first use; it is shared by all
+     * serialization configs that serialize the same methods
+     */
+    public static AnnotatedMethodSerializer forMethods(Class clazz, List<Method> methods)
+    {
+        FastList<Object> key = FastList.newList(methods.size() + 1);
+        key.add(clazz);
+        key.addAll(methods);
+        AnnotatedMethodSerializer serializer = CACHE.get(key);
+        if (serializer == null)
+        {
+            serializer = create(clazz, methods);
+            AnnotatedMethodSerializer existing = CACHE.putIfAbsent(key, serializer);
+            if (existing != null)
+            {
+                serializer = existing;
+            }
+        }
+        return serializer;
+    }
+
+    private static AnnotatedMethodSerializer create(Class clazz, List<Method> methods)
+    {
+        AnnotatedMethodSerializer result = null;
+        if (methods.isEmpty())
+        {
+            result = new ReflectiveSerializer();
+            methods = ListFactory.EMPTY_LIST;
+        }
+        else if (canGenerate(clazz, methods))
+        {
+            try
+            {
+                result = (AnnotatedMethodSerializer) GENERATOR.createClass(clazz, methods).newInstance();
+            }
+            catch (Exception e)
+            {
+                logger.warn("Could not generate the serializer for the annotated methods of " + clazz.getName() + ", calling them reflectively", e);
+            }
+        }
+        if (result == null)
+        {
+            result = new ReflectiveSerializer();
+        }
+        result.methods = methods;
+        result.names = new String[methods.size()];
+        for (int i = 0; i < methods.size(); i++)
+        {
+            result.names[i] = getMethodAttributeName(methods.get(i));
+        }
+        return result;
+    }
+
+    private static boolean canGenerate(Class clazz, List<Method> methods)
+    {
+        if (!Modifier.isPublic(clazz.getModifiers()) || !isVisibleToGeneratedClasses(clazz))
+        {
+            return false;
+        }
+        for (int i = 0; i < methods.size(); i++)
+        {
+            Class returnType = methods.get(i).getReturnType();
+            if (!returnType.isPrimitive() && !isVisibleToGeneratedClasses(returnType))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisibleToGeneratedClasses(Class clazz)
+    {
+        while (clazz.isArray())
+        {
+            clazz = clazz.getComponentType();
+        }
+        if (clazz.isPrimitive())
+        {
+            return true;
+        }
+        try
+        {
+            return Class.forName(clazz.getName(), false, AnnotatedMethodSerializerWriter.class.getClassLoader()) == clazz;
+        }
+        catch (ClassNotFoundException e)
+        {
+            return false;
+        }
+    }
+
+    public static String getMethodAttributeName(Method method)
+    {
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 4 && Character.isUpperCase(name.charAt(3)))
+        {
+            return Character.toLowerCase(name.charAt(3))+name.substring(4);
+        }
+        return name;
+    }
+
+    public List<Method> getMethods()
+    {
+        return methods;
+    }
+
+    public int size()
+    {
+        return methods.size();
+    }
+
+    public String getName(int index)
+    {
+        return names[index];
+    }
+
+    public abstract void serialize(ReladomoSerializationContext context, SerialWriter writer, Object object) throws Exception;
+
+    // called by the generated subclasses for null results and for types without a typed write method
+
+    protected void writeNull(ReladomoSerializationContext context, SerialWriter writer, int index) throws Exception
+    {
+        writer.writeNull(context, names[index], methods.get(index).getReturnType());
+    }
+
+    protected void writeByType(ReladomoSerializationContext context, int index, Object value) throws Exception
+    {
+        context.writeByType(null, value, names[index]);
+    }
+
+    private static class ReflectiveSerializer extends AnnotatedMethodSerializer
+    {
+        @Override
+        public void serialize(ReladomoSerializationContext context, SerialWriter writer, Object object) throws Exception
+        {
+            List<Method> methods = this.getMethods();
+            for (int i = 0; i < methods.size(); i++)
+            {
+                Method method = methods.get(i);
+                Object methodResult;
+                try
+                {
+                    methodResult = method.invoke(object, null);
+                }
+                catch (IllegalAccessException e)
+                {
+                    throw new RuntimeException("Could not call method "+method.getName()+" on class "+object.getClass().getName(), e);
+                }
+                catch (InvocationTargetException e)
+                {
+                    throw new RuntimeException("Could not call method "+method.getName()+" on class "+object.getClass().getName(), e);
+                }
+                if (methodResult == null)
+                {
+                    this.writeNull(context, writer, i);
+                }
+                else
+                {
+                    this.writeByType(context, i, methodResult);
+                }
+            }
+        }
+    }
+}
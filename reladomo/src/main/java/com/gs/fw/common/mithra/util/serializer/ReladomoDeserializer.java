@@ -917,7 +917,7 @@ public class ReladomoDeserializer<T extends MithraObject>
             Attribute attr = settableAttributes.get(i);
             if (partial.isAttributeSet(attr, metaData))
             {
-                attr.setValue(obj, attr.valueOf(partial.dataObject));
+                attr.copyValueFrom(obj, partial.dataObject);
             }
         }
         //todo: deserializable methods
@@ -16,19 +16,24 @@
 
 package com.gs.fw.common.mithra.util.serializer;
 
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.MithraBusinessException;
 import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraObject;
 import com.gs.fw.common.mithra.MithraTransactionalObject;
 import com.gs.fw.common.mithra.attribute.*;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
+import com.gs.fw.common.mithra.util.DoWhileProcedure;
 import com.gs.fw.common.mithra.util.Time;
+import com.gs.fw.finder.Navigation;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ReladomoSerializationContext
 {
@@ -49,11 +54,49 @@ public class ReladomoSerializationContext
 
     protected SerializationNode currentNode;
 
+    private static final ConcurrentHashMap<Class, Boolean> overridesAnnotatedMethodsByClass = new ConcurrentHashMap<Class, Boolean>();
+
+    private final boolean overridesAnnotatedMethods;
+
     public ReladomoSerializationContext(SerializationConfig serializationConfig, SerialWriter writer)
     {
         this.serializationConfig = serializationConfig;
         this.currentNode = this.serializationConfig.getRootNode();
         this.writer = writer;
+        this.overridesAnnotatedMethods = overridesAnnotatedMethods(this.getClass());
+    }
+
+    /**
+     * a subclass that overrides the reflective annotated method hooks keeps going through them
+     */
+    private static boolean overridesAnnotatedMethods(Class contextClass)
+    {
+        Boolean result = overridesAnnotatedMethodsByClass.get(contextClass);
+        if (result == null)
+        {
+            result = overrides(contextClass, "getAnnotatedMethods", Object.class)
+                    || overrides(contextClass, "serializeAnnotatedMethods", MithraObject.class, List.class)
+                    || overrides(contextClass, "serializeAnnotatedListMethods", Object.class, List.class);
+            overridesAnnotatedMethodsByClass.put(contextClass, result);
+        }
+        return result;
+    }
+
+    private static boolean overrides(Class contextClass, String methodName, Class... parameterTypes)
+    {
+        for (Class c = contextClass; c != ReladomoSerializationContext.class; c = c.getSuperclass())
+        {
+            try
+            {
+                c.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            }
+            catch (NoSuchMethodException e)
+            {
+                // not declared at this level
+            }
+        }
+        return false;
     }
 
     public void serializeReladomoObject(MithraObject reladomoObject)
@@ -83,9 +126,18 @@ public class ReladomoSerializationContext
             serializeLinks(reladomoObject);
             writer.endLinks(this);
 
-            List<Method> annotatedMethods = getAnnotatedMethods(reladomoObject);
-            writer.startAnnotatedMethod(reladomoObject, this, annotatedMethods.size());
-            serializeAnnotatedMethods(reladomoObject, annotatedMethods);
+            if (this.overridesAnnotatedMethods)
+            {
+                List<Method> annotatedMethods = getAnnotatedMethods(reladomoObject);
+                writer.startAnnotatedMethod(reladomoObject, this, annotatedMethods.size());
+                serializeAnnotatedMethods(reladomoObject, annotatedMethods);
+            }
+            else
+            {
+                AnnotatedMethodSerializer annotatedMethods = getAnnotatedMethodSerializer(reladomoObject);
+                writer.startAnnotatedMethod(reladomoObject, this, annotatedMethods.size());
+                annotatedMethods.serialize(this, writer, reladomoObject);
+            }
             writer.endAnnotatedMethod(reladomoObject, this);
 
             writer.endReladomoObject(reladomoObject, this);
@@ -102,69 +154,38 @@ public class ReladomoSerializationContext
         return this.serializationConfig.getAnnotatedMethods(reladomoObject.getClass());
     }
 
-    protected void serializeLinks(MithraObject reladomoObject) throws Exception
+    protected AnnotatedMethodSerializer getAnnotatedMethodSerializer(Object reladomoObject)
     {
-        List<SerializationNode> links = this.currentNode.getLinks();
-        for(int i=0;i<links.size();i++)
-        {
-            SerializationNode linkNode = links.get(i);
-            writer.writeLink(this, linkNode.getRelatedFinder().getRelationshipName(), linkNode.getLinkAttributes());
-        }
+        return this.serializationConfig.getAnnotatedMethodSerializer(reladomoObject.getClass());
     }
 
+    /**
+     * @deprecated override {@link #getAnnotatedMethodSerializer(Object)} instead. Annotated methods are only written
+     * through this method, and found through {@link #getAnnotatedMethods(Object)}, when a subclass overrides either.
+     */
+    @Deprecated
     protected void serializeAnnotatedMethods(MithraObject reladomoObject, List<Method> annotatedMethods) throws Exception
     {
-        for(int i=0;i<annotatedMethods.size();i++)
-        {
-            Method method = annotatedMethods.get(i);
-            try
-            {
-                Object methodResult = method.invoke(reladomoObject, null);
-                if (methodResult == null)
-                {
-                    writer.writeNull(this, getMethodAttributeName(method), method.getReturnType());
-                }
-                else
-                {
-                    writeByType(reladomoObject, methodResult, getMethodAttributeName(method));
-                }
-            }
-            catch (IllegalAccessException e)
-            {
-                throw new RuntimeException("Could not call method "+method.getName()+" on class "+reladomoObject.getClass().getName(), e);
-            }
-            catch (InvocationTargetException e)
-            {
-                throw new RuntimeException("Could not call method "+method.getName()+" on class "+reladomoObject.getClass().getName(), e);
-            }
-        }
+        AnnotatedMethodSerializer.forMethods(reladomoObject.getClass(), annotatedMethods).serialize(this, writer, reladomoObject);
     }
 
+    /**
+     * @deprecated override {@link #getAnnotatedMethodSerializer(Object)} instead. Annotated list methods are only
+     * written through this method when a subclass overrides it or one of the other annotated method hooks.
+     */
+    @Deprecated
     protected void serializeAnnotatedListMethods(Object list, List<Method> annotatedMethods) throws Exception
     {
-        for(int i=0;i<annotatedMethods.size();i++)
+        AnnotatedMethodSerializer.forMethods(list.getClass(), annotatedMethods).serialize(this, writer, list);
+    }
+
+    protected void serializeLinks(MithraObject reladomoObject) throws Exception
+    {
+        List<SerializationNode> links = this.currentNode.getLinks();
+        for(int i=0;i<links.size();i++)
         {
-            Method method = annotatedMethods.get(i);
-            try
-            {
-                Object methodResult = method.invoke(list, null);
-                if (methodResult == null)
-                {
-                    writer.writeNull(this, getMethodAttributeName(method), method.getReturnType());
-                }
-                else
-                {
-                    writeByType(null, methodResult, getMethodAttributeName(method));
-                }
-            }
-            catch (IllegalAccessException e)
-            {
-                throw new RuntimeException("Could not call method "+method.getName()+" on class "+list.getClass().getName(), e);
-            }
-            catch (InvocationTargetException e)
-            {
-                throw new RuntimeException("Could not call method "+method.getName()+" on class "+list.getClass().getName(), e);
-            }
+            SerializationNode linkNode = links.get(i);
+            writer.writeLink(this, linkNode.getRelatedFinder().getRelationshipName(), linkNode.getLinkAttributes());
         }
     }
 
@@ -188,7 +209,7 @@ public class ReladomoSerializationContext
         }
         else if (methodResult instanceof Long)
         {
-            writer.writeByte(this, methodAttributeName, ((Byte) methodResult));
+            writer.writeLong(this, methodAttributeName, ((Long) methodResult));
         }
         else if (methodResult instanceof Character)
         {
@@ -232,16 +253,6 @@ public class ReladomoSerializationContext
         }
     }
 
-    private String getMethodAttributeName(Method method)
-    {
-        String name = method.getName();
-        if (name.startsWith("get") && name.length() > 4 && Character.isUpperCase(name.charAt(3)))
-        {
-            return Character.toLowerCase(name.charAt(3))+name.substring(4);
-        }
-        return name;
-    }
-
     protected void serializeRelationships(MithraObject reladomoObject) throws Exception
     {
         SerializationNode pushedNode = this.currentNode;
@@ -340,9 +351,18 @@ public class ReladomoSerializationContext
             writer.endReladomoListMedatadata(reladomoList, this);
         }
 
-        List<Method> annotatedMethods = getAnnotatedMethods(reladomoList);
-        writer.startListAnnotatedMethods(reladomoList, this, annotatedMethods.size());
-        serializeAnnotatedListMethods(reladomoList, annotatedMethods);
+        if (this.overridesAnnotatedMethods)
+        {
+            List<Method> annotatedMethods = getAnnotatedMethods(reladomoList);
+            writer.startListAnnotatedMethods(reladomoList, this, annotatedMethods.size());
+            serializeAnnotatedListMethods(reladomoList, annotatedMethods);
+        }
+        else
+        {
+            AnnotatedMethodSerializer annotatedMethods = getAnnotatedMethodSerializer(reladomoList);
+            writer.startListAnnotatedMethods(reladomoList, this, annotatedMethods.size());
+            annotatedMethods.serialize(this, writer, reladomoList);
+        }
         writer.endListAnnotatedMethods(reladomoList, this);
 
         writer.startReladomoListElements(reladomoList, this);
@@ -357,6 +377,154 @@ public class ReladomoSerializationContext
         this.currentObjectBeingSerialized = previousList;
     }
 
+    /**
+     * Serializes the list without resolving it: the objects are read with a cursor, in chunks of chunkSize, and the
+     * relationships in the config are deep fetched for each chunk before it is written. Only one chunk is held at a
+     * time, so memory stays bounded for any size of list. The list size is not written with the metadata, and the
+     * annotated methods of the list are not called, as both would resolve the whole list.
+     * <p>
+     * The list must not have deep fetches of its own; the config decides what is fetched with each chunk.
+     * <p>
+     * The deep fetch of a chunk runs while the cursor is open. In a transaction both would use the transaction's
+     * connection, which many drivers can't share with an open result set, so an operation based list with deep fetches
+     * can't be streamed in a transaction.
+     */
+    public void serializeReladomoListStreaming(MithraList reladomoList, int chunkSize)
+    {
+        if (reladomoList.isOperationBased() && !this.currentNode.getChildren().isEmpty()
+                && MithraManagerProvider.getMithraManager().isInTransaction())
+        {
+            throw new MithraBusinessException("Can't stream a list with deep fetches in a transaction; serialize the resolved list instead");
+        }
+        try
+        {
+            writer.startReladomoList(reladomoList, this);
+
+            serializeStreamedListComponents(reladomoList, chunkSize);
+
+            writer.endReladomoList(reladomoList, this);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("Could not serialize list", e);
+        }
+    }
+
+    protected void serializeStreamedListComponents(final MithraList reladomoList, final int chunkSize) throws Exception
+    {
+        Object previousList = this.currentObjectBeingSerialized;
+        this.currentObjectBeingSerialized = reladomoList;
+        if (this.serializationConfig.serializeMetaData())
+        {
+            writer.startReladomoListMetatdata(reladomoList, this);
+            writer.writeString(this, RELADOMO_CLASS_NAME, getCurrentClassName());
+            writer.endReladomoListMedatadata(reladomoList, this);
+        }
+
+        writer.startReladomoListElements(reladomoList, this);
+        final FastList<MithraObject> chunk = FastList.newList(chunkSize);
+        final int[] written = new int[1];
+        reladomoList.forEachWithCursor(new DoWhileProcedure()
+        {
+            public boolean execute(Object object)
+            {
+                chunk.add((MithraObject) object);
+                if (chunk.size() == chunkSize)
+                {
+                    written[0] = serializeChunk(reladomoList, chunk, written[0]);
+                }
+                return true;
+            }
+        });
+        serializeChunk(reladomoList, chunk, written[0]);
+        writer.endReladomoListElements(reladomoList, this);
+        this.currentObjectBeingSerialized = previousList;
+    }
+
+    private int serializeChunk(MithraList reladomoList, FastList<MithraObject> chunk, int written)
+    {
+        if (chunk.isEmpty())
+        {
+            return written;
+        }
+        try
+        {
+            MithraList chunkList = this.currentNode.getRelatedFinder().constructEmptyList();
+            chunkList.addAll(chunk);
+            deepFetchChunk(chunkList, this.currentNode);
+            for(int i=0;i<chunk.size();i++)
+            {
+                MithraObject reladomoObject = chunk.get(i);
+                writer.startReladomoListItem(reladomoList, this, written, reladomoObject);
+                serializeReladomoObject(reladomoObject);
+                writer.endReladomoListItem(reladomoList, this, written, reladomoObject);
+                written++;
+            }
+            chunk.clear();
+            streamedChunkWritten();
+            return written;
+        }
+        catch (RuntimeException e)
+        {
+            throw e;
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException("Could not serialize list", e);
+        }
+    }
+
+    /**
+     * resolves the relationships under the node for all the objects of the chunk, one level at a time
+     */
+    protected void deepFetchChunk(MithraList chunk, SerializationNode node)
+    {
+        List<SerializationNode> children = node.getChildren();
+        if (children.isEmpty() || chunk.isEmpty())
+        {
+            return;
+        }
+        for(int i=0;i<children.size();i++)
+        {
+            chunk.deepFetch((Navigation) children.get(i).getRelatedFinder());
+        }
+        chunk.forceResolve();
+        for(int i=0;i<children.size();i++)
+        {
+            SerializationNode child = children.get(i);
+            if (child.getChildren().isEmpty())
+            {
+                continue;
+            }
+            AbstractRelatedFinder relatedFinder = child.getRelatedFinder();
+            MithraList related = relatedFinder.constructEmptyList();
+            for(int j=0;j<chunk.size();j++)
+            {
+                Object value = relatedFinder.valueOf(chunk.get(j));
+                if (relatedFinder.isToOne())
+                {
+                    if (value != null)
+                    {
+                        related.add(value);
+                    }
+                }
+                else
+                {
+                    related.addAll((MithraList) value);
+                }
+            }
+            deepFetchChunk(related, child);
+        }
+    }
+
+    /**
+     * called after each chunk of a streamed list is written; subclasses flush their output here
+     */
+    protected void streamedChunkWritten() throws Exception
+    {
+        // nothing to do
+    }
+
     protected String getCurrentClassName()
     {
         String finderClassName = this.currentNode.getRelatedFinder().getFinderClassName();
@@ -17,6 +17,7 @@
 package com.gs.fw.common.mithra.util.serializer;
 
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.map.mutable.ConcurrentHashMap;
 import com.gs.collections.impl.map.mutable.UnifiedMap;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
 import com.gs.fw.common.mithra.MithraList;
@@ -37,6 +38,7 @@ public class SerializationConfig
     private Set<Class> annotatedContextNames;
     private Set<Method> excludedMethods;
     private boolean serializeMetaData = true;
+    private final ConcurrentHashMap<Class, AnnotatedMethodSerializer> annotatedMethodSerializers = ConcurrentHashMap.newMap();
 
     public static SerializationConfig byName(String name)
     {
@@ -150,6 +152,21 @@ public class SerializationConfig
         return methods;
     }
 
+    public AnnotatedMethodSerializer getAnnotatedMethodSerializer(Class clazz)
+    {
+        AnnotatedMethodSerializer serializer = this.annotatedMethodSerializers.get(clazz);
+        if (serializer == null)
+        {
+            serializer = AnnotatedMethodSerializer.forMethods(clazz, this.getAnnotatedMethods(clazz));
+            AnnotatedMethodSerializer existing = this.annotatedMethodSerializers.putIfAbsent(clazz, serializer);
+            if (existing != null)
+            {
+                serializer = existing;
+            }
+        }
+        return serializer;
+    }
+
     public SerializationConfig withDeepDependents()
     {
         SerializationConfig config = new SerializationConfig();
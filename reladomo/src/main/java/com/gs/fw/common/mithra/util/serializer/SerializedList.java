@@ -29,6 +29,7 @@ public class SerializedList<U extends MithraObject,T extends MithraList<U>>
     private T wrapped;
     private SerializationConfig config;
     private ReladomoDeserializer deserializer;
+    private int streamingChunkSize;
 
     public SerializedList(T wrapped, SerializationConfig config)
     {
@@ -36,6 +37,22 @@ public class SerializedList<U extends MithraObject,T extends MithraList<U>>
         this.config = config;
     }
 
+    /**
+     * The list is streamed when it is serialized: it is read with a cursor instead of being resolved, and written
+     * in chunks of streamingChunkSize objects, with the relationships in the config deep fetched for each chunk.
+     * See {@link ReladomoSerializationContext#serializeReladomoListStreaming(MithraList, int)}.
+     */
+    public SerializedList(T wrapped, SerializationConfig config, int streamingChunkSize)
+    {
+        if (streamingChunkSize <= 0)
+        {
+            throw new IllegalArgumentException("streaming chunk size must be positive, not " + streamingChunkSize);
+        }
+        this.wrapped = wrapped;
+        this.config = config;
+        this.streamingChunkSize = streamingChunkSize;
+    }
+
     public SerializedList(T wrapped, String configName)
     {
         this.wrapped = wrapped;
@@ -83,4 +100,14 @@ public class SerializedList<U extends MithraObject,T extends MithraList<U>>
     {
         return config;
     }
+
+    public boolean isStreaming()
+    {
+        return this.streamingChunkSize > 0;
+    }
+
+    public int getStreamingChunkSize()
+    {
+        return streamingChunkSize;
+    }
 }
@@ -34,6 +34,9 @@ import com.gs.fw.common.mithra.test.mtloader.TestMatcherThread;
 import com.gs.fw.common.mithra.test.mtloader.TestMatcherThreadCustomComparator;
 import com.gs.fw.common.mithra.test.mtloader.TestNonUniqueMatcherThread;
 import com.gs.fw.common.mithra.test.mtloader.TestNonUniqueMatcherThreadCustomComparator;
+import com.gs.fw.common.mithra.test.mtloader.TestPartitionedMatcherThread;
+import com.gs.fw.common.mithra.test.mtloader.TestSortedMergeMatcherThread;
+import com.gs.fw.common.mithra.test.mtloader.TestSpillingMatcherThread;
 import com.gs.fw.common.mithra.test.overlap.OverlapFixerBusinessDateMilestonedTest;
 import com.gs.fw.common.mithra.test.overlap.OverlapFixerFullyMilestonedTest;
 import com.gs.fw.common.mithra.test.overlap.OverlapFixerProcessingDateMilestonedTest;
@@ -188,6 +191,7 @@ public class MithraTestSuite
         suite.addTestSuite(TestMappedAttributes.class);
 
         suite.addTestSuite(TestVerboseSerializer.class);
+        suite.addTestSuite(TestLZ4BlockStream.class);
         suite.addTestSuite(MithraArrayTupleTupleSetTest.class);
 
         suite.addTestSuite(TestReadOnlyTransactionParticipation.class);
@@ -218,6 +222,7 @@ public class MithraTestSuite
         // pure objects
         suite.addTestSuite(TestPureObjects.class);
         suite.addTestSuite(TestPureTransactionalObject.class);
+        suite.addTestSuite(TestCompactStorage.class);
         suite.addTestSuite(TestPureBitemporalTransactionalObject.class);
 
         // temp objects
@@ -252,6 +257,7 @@ public class MithraTestSuite
         suite.addTestSuite(TestMithraInterfaceType.class);
 
         suite.addTestSuite(TestOperation.class);
+        suite.addTestSuite(TestCompiledOperation.class);
         suite.addTestSuite(OverlapFixerFullyMilestonedTest.class);
         suite.addTestSuite(OverlapFixerBusinessDateMilestonedTest.class);
         suite.addTestSuite(OverlapFixerProcessingDateMilestonedTest.class);
@@ -279,6 +285,9 @@ public class MithraTestSuite
         suite.addTestSuite(TestMatcherThreadCustomComparator.class);
         suite.addTestSuite(TestNonUniqueMatcherThread.class);
         suite.addTestSuite(TestNonUniqueMatcherThreadCustomComparator.class);
+        suite.addTestSuite(TestPartitionedMatcherThread.class);
+        suite.addTestSuite(TestSortedMergeMatcherThread.class);
+        suite.addTestSuite(TestSpillingMatcherThread.class);
 
         // H2 Batch Operations
         suite.addTestSuite(TestH2NegativeBatchSizeTestCases.class);
@@ -295,6 +304,10 @@ public class MithraTestSuite
 
         //SubQuery
         suite.addTestSuite(TestSubQueryCache.class);
+        suite.addTestSuite(TestMaintainedQueryCache.class);
+        suite.addTestSuite(TestStringSearchIndex.class);
+        suite.addTestSuite(TestSqlStatementCache.class);
+        suite.addTestSuite(TestMultiResultSetFind.class);
 
         return suite;
     }
@@ -91,6 +91,42 @@ public class NonDatedSingleQueueExecutorTest extends MithraTestAbstract
         assertEquals(getAllProducts().size(), 212);
     }
 
+    public void testAddForInsertFromManyThreads() throws Exception
+    {
+        new ProductList(ProductFinder.all()).deleteAll();
+        final SingleQueueExecutor executor = createSqeForProduct();
+        final ProductList products = createNonDatedMithraObj(1000);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++)
+        {
+            final int first = t;
+            threads[t] = new Thread()
+            {
+                public void run()
+                {
+                    for (int i = first; i < products.size(); i += 4)
+                    {
+                        executor.addForInsert(products.get(i));
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+        assertEquals(1000, executor.getTotalInserts());
+        executor.waitUntilFinished();
+
+        assertEquals(1000, getAllProducts().size());
+        assertEquals(0, executor.getPendingInserts());
+        SingleQueueExecutor.QueueStatistics statistics = executor.getInsertQueueStatistics();
+        assertEquals(1000, statistics.getObjects());
+        assertTrue(statistics.getTasks() > 0);
+        assertTrue(statistics.getMaxLatencyMillis() >= statistics.getAverageLatencyMillis());
+    }
+
     public void testAddForUpdate()
     {
         final SingleQueueExecutor executor = createSqeForProduct();
@@ -139,6 +175,7 @@ public class NonDatedSingleQueueExecutorTest extends MithraTestAbstract
             }
         }
         executor.waitUntilFinished();
+        assertEquals(51, executor.getUpdateQueueStatistics(0).getObjects() + executor.getUpdateQueueStatistics(1).getObjects());
 
         products = getAllProducts();
         assertEquals(products.size(), 51);
@@ -18,8 +18,12 @@ package com.gs.fw.common.mithra.test;
 
 import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
 import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.remote.RemoteCursorResult;
+import com.gs.fw.common.mithra.remote.RemoteFindBatch;
+import com.gs.fw.common.mithra.remote.RemoteMithraObjectPersister;
 import com.gs.fw.common.mithra.test.aggregate.TestAggregateBeanList;
 import com.gs.fw.common.mithra.test.aggregate.TestAggregateBeanListForSubclass;
 import com.gs.fw.common.mithra.test.aggregate.TestAggregateBeanListImmutability;
@@ -89,6 +93,7 @@ public class TestClientPortal extends RemoteMithraServerTestCase
         result.add(User.class);
         result.add(Order.class);
         result.add(OrderItem.class);
+        result.add(OptimisticOrder.class);
         result.add(AuditedOrder.class);
         result.add(AuditedOrderItem.class);
         result.add(AuditedOrderStatus.class);
@@ -2293,6 +2298,107 @@ public class TestClientPortal extends RemoteMithraServerTestCase
         con.close();
     }
 
+    public void testFindWithKnownVersions() throws Exception
+    {
+        RemoteMithraObjectPersister persister = (RemoteMithraObjectPersister) OptimisticOrderFinder.getMithraObjectPortal().getMithraObjectPersister();
+        persister.setSendKnownVersions(true);
+        try
+        {
+            OptimisticOrderList orders = OptimisticOrderFinder.findManyBypassCache(OptimisticOrderFinder.userId().eq(1));
+            assertEquals(3, orders.size());
+            OptimisticOrder first = OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(1));
+            OptimisticOrder second = OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(2));
+            long notResent = persister.getKnownObjectsNotResent();
+
+            this.getRemoteSlaveVm().executeMethod("serverUpdateOptimisticOrderDescription");
+            orders = OptimisticOrderFinder.findManyBypassCache(OptimisticOrderFinder.userId().eq(1));
+            assertEquals(3, orders.size());
+            assertEquals(notResent + 2, persister.getKnownObjectsNotResent());
+            assertSame(first, OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(1)));
+            assertSame(second, OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(2)));
+            assertTrue(orders.contains(second));
+            assertEquals("changed on server", first.getDescription());
+            assertEquals(2, first.getVersion());
+            assertEquals("Second order", second.getDescription());
+        }
+        finally
+        {
+            persister.setSendKnownVersions(false);
+        }
+    }
+
+    public void testFindWithoutVersionAttributeSendsFullData() throws Exception
+    {
+        RemoteMithraObjectPersister persister = (RemoteMithraObjectPersister) OrderFinder.getMithraObjectPortal().getMithraObjectPersister();
+        persister.setSendKnownVersions(true);
+        try
+        {
+            assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(1)).size());
+            assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(1)).size());
+            assertEquals(0, persister.getKnownObjectsNotResent());
+        }
+        finally
+        {
+            persister.setSendKnownVersions(false);
+        }
+    }
+
+    public void testDeepFetchSiblingsInOneRequest()
+    {
+        OrderList orders = new OrderList(OrderFinder.userId().eq(1));
+        orders.deepFetch(OrderFinder.items());
+        orders.deepFetch(OrderFinder.expensiveItems(11.0));
+        int count = MithraManagerProvider.getMithraManager().getRemoteRetrieveCount();
+        orders.forceResolve();
+        int expectedRequests = (OrderFinder.getMithraObjectPortal().isFullyCached() ? 0 : 1) + (OrderItemFinder.getMithraObjectPortal().isFullyCached() ? 0 : 1);
+        assertEquals(count + expectedRequests, MithraManagerProvider.getMithraManager().getRemoteRetrieveCount());
+
+        int itemCount = 0;
+        for (int i = 0; i < orders.size(); i++)
+        {
+            Order order = orders.getOrderAt(i);
+            itemCount += order.getItems().size();
+            for (int j = 0; j < order.getExpensiveItems(11.0).size(); j++)
+            {
+                assertTrue(order.getExpensiveItems(11.0).getOrderItemAt(j).getOriginalPrice() >= 11.0);
+            }
+        }
+        assertEquals(count + expectedRequests, MithraManagerProvider.getMithraManager().getRemoteRetrieveCount());
+        assertEquals(OrderItemFinder.findManyBypassCache(OrderItemFinder.order().userId().eq(1)).size(), itemCount);
+    }
+
+    public void testRemoteFindBatch()
+    {
+        Operation ordersOp = OrderFinder.userId().eq(1);
+        Operation itemsOp = OrderItemFinder.state().eq("In-Progress");
+        RemoteFindBatch batch = new RemoteFindBatch();
+        assertTrue(batch.add(ordersOp, true, false));
+        assertTrue(batch.add(itemsOp, true, false));
+        int count = MithraManagerProvider.getMithraManager().getRemoteRetrieveCount();
+        assertEquals(2, batch.execute());
+        try
+        {
+            OrderList orders = OrderFinder.findManyBypassCache(ordersOp);
+            OrderItemList items = OrderItemFinder.findManyBypassCache(itemsOp);
+            assertEquals(3, orders.size());
+            assertTrue(items.size() > 0);
+            assertEquals(count + 1, MithraManagerProvider.getMithraManager().getRemoteRetrieveCount());
+        }
+        finally
+        {
+            batch.release();
+        }
+        OrderFinder.findManyBypassCache(ordersOp).forceResolve();
+        assertEquals(count + 2, MithraManagerProvider.getMithraManager().getRemoteRetrieveCount());
+    }
+
+    public void serverUpdateOptimisticOrderDescription()
+    {
+        MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+        OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(1)).setDescription("changed on server");
+        tx.commit();
+    }
+
     public void testSettingBusinessToDate() throws Exception
     {
         long time = System.currentTimeMillis() - 10000;
@@ -2611,6 +2717,36 @@ public class TestClientPortal extends RemoteMithraServerTestCase
         getTestCursor().testCursorWithLargeResult(4);
     }
 
+    public void testCursorWithLargeResultStreaming()
+    {
+        RemoteMithraObjectPersister persister = (RemoteMithraObjectPersister) OrderFinder.getMithraObjectPortal().getMithraObjectPersister();
+        persister.setCursorChunkSize(300);
+        persister.setCursorPrefetchDepth(4);
+        try
+        {
+            getTestCursor().testCursorWithLargeResult();
+        }
+        finally
+        {
+            persister.setCursorChunkSize(RemoteCursorResult.DEFAULT_CHUNK_SIZE);
+            persister.setCursorPrefetchDepth(0);
+        }
+    }
+
+    public void testCursorWithLargeResultStreamingAndAborted()
+    {
+        RemoteMithraObjectPersister persister = (RemoteMithraObjectPersister) OrderFinder.getMithraObjectPortal().getMithraObjectPersister();
+        persister.setCursorPrefetchDepth(2);
+        try
+        {
+            getTestCursor().testCursorWithLargeResultAndAborted();
+        }
+        finally
+        {
+            persister.setCursorPrefetchDepth(0);
+        }
+    }
+
     public void testCursorInTransactionWithLargeResult()
             throws Exception
     {
@@ -0,0 +1,244 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.test.domain.PureCompactOrder;
+import com.gs.fw.common.mithra.test.domain.PureCompactOrderFinder;
+import com.gs.fw.common.mithra.test.domain.PureCompactOrderList;
+import com.gs.fw.common.mithra.test.domain.PureOrder;
+import com.gs.fw.common.mithra.test.util.SerializationTestUtil;
+import com.gs.fw.common.mithra.util.CompactStringDictionary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+
+public class TestCompactStorage extends MithraTestAbstract
+{
+    private static final Logger logger = LoggerFactory.getLogger(TestCompactStorage.class.getName());
+
+    private static final String[] STATES = { "In-Progress", "Gift Wrapped", "Delivered" };
+
+    public Class[] getRestrictedClassList()
+    {
+        return new Class[]
+        {
+            PureCompactOrder.class,
+            PureOrder.class,
+        };
+    }
+
+    public void testDataUsesNarrowFields() throws Exception
+    {
+        PureCompactOrder order = new PureCompactOrder();
+        order.setOrderId(1);
+        Class dataClass = order.zGetCurrentData().getClass();
+        assertEquals(short.class, dataClass.getDeclaredField("userId").getType());
+        assertEquals(byte.class, dataClass.getDeclaredField("state").getType());
+        assertEquals(int.class, dataClass.getDeclaredField("quantity").getType());
+        assertEquals(String.class, dataClass.getDeclaredField("trackingId").getType());
+    }
+
+    public void testInsertAndFind()
+    {
+        insertOrders(100);
+        PureCompactOrderFinder.clearQueryCache();
+
+        PureCompactOrderList list = PureCompactOrderFinder.findMany(PureCompactOrderFinder.all());
+        list.setOrderBy(PureCompactOrderFinder.orderId().ascendingOrderBy());
+        assertEquals(100, list.size());
+        for (int i = 0; i < list.size(); i++)
+        {
+            assertOrder(i, list.get(i));
+        }
+        assertEquals(100 / STATES.length + 1, PureCompactOrderFinder.findMany(PureCompactOrderFinder.state().eq(STATES[0])).size());
+        assertEquals(1, PureCompactOrderFinder.findMany(PureCompactOrderFinder.userId().eq(-1005)).size());
+    }
+
+    public void testUpdate()
+    {
+        insertOrders(3);
+        final PureCompactOrder order = PureCompactOrderFinder.findOne(PureCompactOrderFinder.orderId().eq(1));
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                order.setState("Returned");
+                order.setUserId(Short.MAX_VALUE);
+                order.setQuantity(Integer.MIN_VALUE);
+                return null;
+            }
+        });
+        assertEquals("Returned", order.getState());
+        assertEquals(Short.MAX_VALUE, order.getUserId());
+        assertEquals(Integer.MIN_VALUE, order.getQuantity());
+        assertEquals(1, PureCompactOrderFinder.findMany(PureCompactOrderFinder.state().eq("Returned")).size());
+    }
+
+    public void testNullValues()
+    {
+        PureCompactOrder order = new PureCompactOrder();
+        order.setOrderId(1);
+        order.setUserIdNull();
+        order.setState(null);
+        order.insert();
+        PureCompactOrderFinder.clearQueryCache();
+
+        PureCompactOrder found = PureCompactOrderFinder.findOne(PureCompactOrderFinder.orderId().eq(1));
+        assertTrue(found.isUserIdNull());
+        assertNull(found.getState());
+        assertTrue(found.isStateNull());
+    }
+
+    public void testValueOutOfRangeIsRejected()
+    {
+        PureCompactOrder order = new PureCompactOrder();
+        try
+        {
+            order.setUserId(Short.MAX_VALUE + 1);
+            fail("should not get here");
+        }
+        catch (MithraBusinessException e)
+        {
+            assertTrue(e.getMessage().contains("userId"));
+        }
+        try
+        {
+            order.setQuantity(Integer.MAX_VALUE + 1L);
+            fail("should not get here");
+        }
+        catch (MithraBusinessException e)
+        {
+            assertTrue(e.getMessage().contains("quantity"));
+        }
+    }
+
+    public void testSerialization() throws Exception
+    {
+        PureCompactOrder order = new PureCompactOrder();
+        fillOrder(order, 7);
+        PureCompactOrder copy = SerializationTestUtil.serializeDeserialize(order);
+        assertOrder(7, copy);
+    }
+
+    public void testDictionaryLimit()
+    {
+        CompactStringDictionary dictionary = new CompactStringDictionary("state", 2);
+        assertEquals(0, dictionary.encode(null));
+        assertNull(dictionary.decode(0));
+        int a = dictionary.encode("A");
+        int b = dictionary.encode("B");
+        assertEquals(a, dictionary.encode(new String("A")));
+        assertEquals("A", dictionary.decode(a));
+        assertEquals("B", dictionary.decode(b));
+        assertEquals(2, dictionary.size());
+        try
+        {
+            dictionary.encode("C");
+            fail("should not get here");
+        }
+        catch (MithraBusinessException e)
+        {
+            assertTrue(e.getMessage().contains("state"));
+        }
+    }
+
+    // This is a benchmark which should not be executed in the continuous build but may be renamed for adhoc testing
+    public void xtestHeapFootprint()
+    {
+        int count = 1000000;
+        Object[] objects = new Object[count];
+        long before = usedMemory();
+        for (int i = 0; i < count; i++)
+        {
+            PureOrder order = new PureOrder();
+            order.setOrderId(i);
+            order.setUserId(i % 1000);
+            order.setState(STATES[i % STATES.length]);
+            objects[i] = order;
+        }
+        long current = usedMemory() - before;
+        objects = new Object[count];
+        before = usedMemory();
+        for (int i = 0; i < count; i++)
+        {
+            PureCompactOrder order = new PureCompactOrder();
+            order.setOrderId(i);
+            order.setUserId(i % 1000);
+            order.setState(STATES[i % STATES.length]);
+            objects[i] = order;
+        }
+        long compact = usedMemory() - before;
+        logger.info("current layout: " + current / count + " bytes per object, compact layout: " + compact / count + " bytes per object (" + objects.length + " objects)");
+    }
+
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+        {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private void insertOrders(final int count)
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                PureCompactOrderList list = new PureCompactOrderList();
+                for (int i = 0; i < count; i++)
+                {
+                    PureCompactOrder order = new PureCompactOrder();
+                    fillOrder(order, i);
+                    list.add(order);
+                }
+                list.insertAll();
+                return null;
+            }
+        });
+    }
+
+    private void fillOrder(PureCompactOrder order, int i)
+    {
+        order.setOrderId(i);
+        order.setOrderDate(new Timestamp(1000000000000L + i * 1000L));
+        order.setUserId(-1000 - i);
+        order.setDescription("order " + i);
+        order.setState(STATES[i % STATES.length]);
+        order.setTrackingId("T" + i);
+        order.setQuantity(i * 1000L);
+    }
+
+    private void assertOrder(int i, PureCompactOrder order)
+    {
+        assertEquals(i, order.getOrderId());
+        assertEquals(new Timestamp(1000000000000L + i * 1000L), order.getOrderDate());
+        assertEquals(-1000 - i, order.getUserId());
+        assertEquals("order " + i, order.getDescription());
+        assertEquals(STATES[i % STATES.length], order.getState());
+        assertEquals("T" + i, order.getTrackingId());
+        assertEquals(i * 1000L, order.getQuantity());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.fw.common.mithra.finder.CompiledOperationMatcher;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.OperationCompiler;
+import com.gs.fw.common.mithra.test.domain.*;
+
+import java.util.List;
+
+public class TestCompiledOperation extends MithraTestAbstract
+{
+    private static final int LARGE_LIST = OperationCompiler.COMPILE_THRESHOLD;
+
+    public void testIntegerOperations()
+    {
+        assertCompiledMatches(OrderItemFinder.orderId().eq(2).and(OrderItemFinder.productId().greaterThan(1)));
+        assertCompiledMatches(OrderItemFinder.orderId().notEq(2).and(OrderItemFinder.productId().lessThanEquals(1)));
+        assertCompiledMatches(OrderItemFinder.orderId().greaterThanEquals(2).and(OrderItemFinder.productId().lessThan(3)));
+    }
+
+    public void testDoubleOperations()
+    {
+        assertCompiledMatches(OrderItemFinder.originalPrice().greaterThan(10.5).and(OrderItemFinder.discountPrice().lessThan(15.0)));
+        assertCompiledMatches(OrderItemFinder.originalPrice().eq(10.5).and(OrderItemFinder.discountPrice().notEq(10.0)));
+        assertCompiledMatches(OrderItemFinder.originalPrice().greaterThanEquals(15.5).and(OrderItemFinder.quantity().lessThanEquals(20)));
+    }
+
+    public void testOrOperation()
+    {
+        assertCompiledMatches(OrderItemFinder.orderId().eq(55).or(OrderItemFinder.originalPrice().greaterThan(15.0)));
+        assertCompiledMatches(OrderItemFinder.orderId().eq(1).or(OrderItemFinder.orderId().eq(2).and(OrderItemFinder.productId().eq(3))));
+    }
+
+    public void testNullableAttributes()
+    {
+        assertCompiledMatches(NullTestFinder.noDefaultNullInt().eq(1000000).or(NullTestFinder.notNullInt().eq(8000000)));
+        assertCompiledMatches(NullTestFinder.noDefaultNullLong().notEq(5).and(NullTestFinder.notNullLong().greaterThan(5)));
+        assertCompiledMatches(NullTestFinder.noDefaultNullDouble().lessThan(1.0e9).or(NullTestFinder.noDefaultNullInt().notEq(3)));
+    }
+
+    public void testSameShapeReusesClass()
+    {
+        CompiledOperationMatcher first = OperationCompiler.getInstance().compile(OrderItemFinder.orderId().eq(1).or(OrderItemFinder.productId().eq(1)), LARGE_LIST);
+        CompiledOperationMatcher second = OperationCompiler.getInstance().compile(OrderItemFinder.orderId().eq(2).or(OrderItemFinder.productId().eq(3)), LARGE_LIST);
+        assertSame(first.getClass(), second.getClass());
+    }
+
+    public void testNotCompiled()
+    {
+        OperationCompiler compiler = OperationCompiler.getInstance();
+        assertNull(compiler.compile(OrderItemFinder.orderId().eq(1).or(OrderItemFinder.productId().eq(1)), 1));
+        assertNull(compiler.compile(OrderItemFinder.orderId().eq(1).or(OrderItemFinder.state().eq("In-Progress")), LARGE_LIST));
+    }
+
+    public void testCacheScan()
+    {
+        OrderItemList all = OrderItemFinder.findMany(OrderItemFinder.all());
+        all.forceResolve();
+        Operation op = OrderItemFinder.originalPrice().greaterThan(10.5).or(OrderItemFinder.discountPrice().lessThan(12.0));
+        CompiledOperationMatcher matcher = OperationCompiler.getInstance().compileForCacheScan(op, LARGE_LIST);
+        assertNotNull(matcher);
+        List scanned = matcher.applyToFullCache(OrderItemFinder.getMithraObjectPortal().getCache());
+        UnifiedSet expected = UnifiedSet.newSet();
+        for (Object o : all)
+        {
+            if (op.matches(o)) expected.add(o);
+        }
+        assertTrue(expected.size() > 0);
+        assertEquals(expected, UnifiedSet.newSet(scanned));
+        assertNull(OperationCompiler.getInstance().compileForCacheScan(op, 1));
+        assertNull(OperationCompiler.getInstance().compileForCacheScan(OrderItemFinder.id().eq(1).or(OrderItemFinder.discountPrice().lessThan(12.0)), LARGE_LIST));
+    }
+
+    private void assertCompiledMatches(Operation op)
+    {
+        CompiledOperationMatcher matcher = OperationCompiler.getInstance().compile(op, LARGE_LIST);
+        assertNotNull(matcher);
+        List all = op.getResultObjectPortal().getFinder().findMany(op.getResultObjectPortal().getFinder().all());
+        assertTrue(all.size() > 0);
+        FastList expected = FastList.newList();
+        for (Object o : all)
+        {
+            boolean matched = op.matches(o);
+            assertEquals(matched, matcher.matches(o));
+            if (matched) expected.add(o);
+        }
+        assertEquals(expected, matcher.applyOperation(FastList.newList(all)));
+    }
+}
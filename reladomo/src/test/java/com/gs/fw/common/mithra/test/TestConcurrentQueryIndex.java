@@ -18,7 +18,7 @@ package com.gs.fw.common.mithra.test;
 
 import com.gs.fw.common.mithra.MithraObjectPortal;
 import com.gs.fw.common.mithra.cache.ConcurrentWeakPool;
-import com.gs.fw.common.mithra.cache.NonLruQueryIndex;
+import com.gs.fw.common.mithra.cache.ConcurrentQueryIndex;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
 import com.gs.fw.common.mithra.test.domain.OrderDatabaseObject;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
@@ -101,7 +101,7 @@ public class TestConcurrentQueryIndex extends TestCase
     private void runPut(int threads, CachedQuery[] data, int max)
             throws ParseException
     {
-        NonLruQueryIndex index = new NonLruQueryIndex();
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex();
         ExceptionCatchingThread[] runners = new ExceptionCatchingThread[threads];
         PutRunnable[] runnables = new PutRunnable[threads];
         int chunkSize = max/threads;
@@ -122,14 +122,14 @@ public class TestConcurrentQueryIndex extends TestCase
             runners[i].joinWithExceptionHandling();
         }
         System.out.println("running with "+threads+" threads took "+(System.currentTimeMillis() - start)/1000.0+" s");
-        assertEquals(index.size(), index.getEntryCount());
+        assertEquals(index.roughSize(), index.getEntryCount());
         for(int i = 0;i<threads;i++)
         {
             runnables[i].verifyExistence();
         }
 
         assertEquals(max, index.getEntryCount());
-        assertEquals(max, index.size());
+        assertEquals(max, index.roughSize());
     }
 
     public void testPutAndClearWithManyThreads() throws Exception
@@ -152,15 +152,15 @@ public class TestConcurrentQueryIndex extends TestCase
 
     public void testClear()
     {
-        NonLruQueryIndex index = new NonLruQueryIndex();
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex();
         for(int i=0;i<100000;i++)
         {
             index.put(createCachedQuery(-i), false);
         }
         forceGC();
         index.clear();
-        assertEquals(index.size(), index.getEntryCount());
-        assertEquals(0, index.size());
+        assertEquals(index.roughSize(), index.getEntryCount());
+        assertEquals(0, index.roughSize());
         for(int i=0;i<100000;i++)
         {
             assertNull(index.get(createCachedQuery(-i).getOperation(), false));
@@ -171,7 +171,7 @@ public class TestConcurrentQueryIndex extends TestCase
     private void runPutAndClear(int threads, CachedQuery[] data, int max)
             throws ParseException
     {
-        NonLruQueryIndex index = new NonLruQueryIndex();
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex();
         ExceptionCatchingThread[] runners = new ExceptionCatchingThread[threads];
         PutWithConcurrentClearRunnable[] runnables = new PutWithConcurrentClearRunnable[threads];
         int chunkSize = max/threads;
@@ -199,7 +199,7 @@ public class TestConcurrentQueryIndex extends TestCase
             runners[i].joinWithExceptionHandling();
         }
         System.out.println("running with "+threads+" threads took "+(System.currentTimeMillis() - start)/1000.0+" s");
-        assertEquals(index.size(), index.getEntryCount());
+        assertEquals(index.roughSize(), index.getEntryCount());
         for(int i=1;i<100000;i++)
         {
             if (index.get(createCachedQuery(-i).getOperation(), false) != null)
@@ -214,9 +214,9 @@ public class TestConcurrentQueryIndex extends TestCase
         private int start;
         private int max;
         private CachedQuery[] data;
-        private NonLruQueryIndex index;
+        private ConcurrentQueryIndex index;
 
-        private PutWithConcurrentClearRunnable(int start, int max, CachedQuery[] data, NonLruQueryIndex index)
+        private PutWithConcurrentClearRunnable(int start, int max, CachedQuery[] data, ConcurrentQueryIndex index)
         {
             this.start = start;
             this.max = max;
@@ -239,10 +239,10 @@ public class TestConcurrentQueryIndex extends TestCase
         private int start;
         private int max;
         private CachedQuery[] data;
-        private NonLruQueryIndex index;
+        private ConcurrentQueryIndex index;
         private Object[] results;
 
-        private PutRunnable(int start, int max, CachedQuery[] data, NonLruQueryIndex index)
+        private PutRunnable(int start, int max, CachedQuery[] data, ConcurrentQueryIndex index)
         {
             this.start = start;
             this.max = max;
@@ -274,8 +274,7 @@ public class TestConcurrentQueryIndex extends TestCase
     {
         final int max = 1 << 20;
         final CachedQuery[] toKeep = new CachedQuery[1 << 16];
-        final NonLruQueryIndexWithSyncEviction index = new NonLruQueryIndexWithSyncEviction();
-        index.zRemoveListener();
+        final ConcurrentQueryIndex index = new ConcurrentQueryIndex();
         final AtomicInteger done = new AtomicInteger(0);
         ExceptionCatchingThread putter = new ExceptionCatchingThread(new Runnable()
         {
@@ -299,42 +298,27 @@ public class TestConcurrentQueryIndex extends TestCase
             public void run()
             {
                 while(done.get() == 0)
-                    index.reallyEvict();
-                index.reallyEvict();
+                    index.expungeCollectedEntries();
+                index.expungeCollectedEntries();
             }
         });
         evictor.start();
         putter.start();
         putter.joinWithExceptionHandling();
         evictor.joinWithExceptionHandling();
-        assertEquals(index.size(), index.getEntryCount());
-        System.out.println("Total evicted before GC: "+(max - index.size()));
+        assertEquals(index.roughSize(), index.getEntryCount());
+        System.out.println("Total evicted before GC: "+(max - index.roughSize()));
         forceGC();
-        index.reallyEvict();
-        System.out.println("Total evicted after GC: "+(max - index.size()));
-        assertEquals(index.size(), index.getEntryCount());
-        assertTrue(index.size() >= toKeep.length);
+        index.expungeCollectedEntries();
+        System.out.println("Total evicted after GC: "+(max - index.roughSize()));
+        assertEquals(index.roughSize(), index.getEntryCount());
+        assertTrue(index.roughSize() >= toKeep.length);
         for(int i=0;i<toKeep.length;i++)
         {
             assertSame(toKeep[i], index.get(toKeep[i].getOperation(), false));
         }
     }
 
-    private static class NonLruQueryIndexWithSyncEviction extends NonLruQueryIndex
-    {
-        @Override
-        public boolean evictCollectedReferences()
-        {
-            // do nothing.
-            return false;
-        }
-
-        public void reallyEvict()
-        {
-            super.evictCollectedReferences();
-        }
-    }
-
     private void forceGC()
     {
         System.gc();
@@ -364,12 +348,12 @@ public class TestConcurrentQueryIndex extends TestCase
 
     public void testDuplicatePut()
     {
-        NonLruQueryIndex index = new NonLruQueryIndex();
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex();
 
         index.put(createCachedQuery(10), false);
         index.put(createCachedQuery(10), false);
         assertEquals(1, index.getEntryCount());
-        assertEquals(1, index.size());
+        assertEquals(1, index.roughSize());
     }
 
     public void testContendedPut() throws Exception
@@ -383,7 +367,7 @@ public class TestConcurrentQueryIndex extends TestCase
         }
         final CachedQuery data[] = shuffle(orderedData);
         final Exchanger exchanger = new Exchanger();
-        final NonLruQueryIndex index = new NonLruQueryIndex();
+        final ConcurrentQueryIndex index = new ConcurrentQueryIndex();
         PutRunnableWithExchange first = new PutRunnableWithExchange(0, max, data, index, exchanger);
         PutRunnableWithExchange second = new PutRunnableWithExchange(0, max, data, index, exchanger);
         ExceptionCatchingThread firstThread = new ExceptionCatchingThread(first);
@@ -392,7 +376,7 @@ public class TestConcurrentQueryIndex extends TestCase
         secondThread.start();
         firstThread.joinWithExceptionHandling();
         secondThread.joinWithExceptionHandling();
-        assertEquals(max, index.size());
+        assertEquals(max, index.roughSize());
         assertEquals(max, index.getEntryCount());
         first.verifyExistence();
         second.verifyExistence();
@@ -403,11 +387,11 @@ public class TestConcurrentQueryIndex extends TestCase
         private int start;
         private int max;
         private CachedQuery[] data;
-        private NonLruQueryIndex index;
+        private ConcurrentQueryIndex index;
         private CachedQuery[] results;
         private Exchanger exchanger;
 
-        private PutRunnableWithExchange(int start, int max, CachedQuery[] data, NonLruQueryIndex index, Exchanger exchanger)
+        private PutRunnableWithExchange(int start, int max, CachedQuery[] data, ConcurrentQueryIndex index, Exchanger exchanger)
         {
             this.start = start;
             this.max = max;
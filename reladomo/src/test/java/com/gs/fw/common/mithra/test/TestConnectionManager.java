@@ -22,11 +22,13 @@ import com.gs.fw.common.mithra.TransactionalCommand;
 import com.gs.fw.common.mithra.connectionmanager.ObjectPoolWithThreadAffinity;
 import com.gs.fw.common.mithra.connectionmanager.PoolableObjectFactory;
 import com.gs.fw.common.mithra.test.domain.User;
+import com.gs.fw.common.mithra.util.DurationHistogram;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.NoSuchElementException;
 
 public class TestConnectionManager extends MithraTestAbstract
 {
@@ -242,6 +244,188 @@ public class TestConnectionManager extends MithraTestAbstract
         borrowAndReturn(objectPool);
     }
 
+    public void testObjectPoolThreadAffinity() throws Exception
+    {
+        final ObjectPoolWithThreadAffinity objectPool = new ObjectPoolWithThreadAffinity(new CountingFactory(), 10,
+                1000, 5, 0, true, true, -1, -1, -1);
+        Object first = objectPool.borrowObject();
+        Object second = objectPool.borrowObject();
+        objectPool.returnObject(first);
+        objectPool.returnObject(second);
+        assertEquals(0, objectPool.getNumActive());
+        assertEquals(2, objectPool.getNumIdle());
+
+        // the thread gets back what it returned last, other threads get the oldest idle object
+        assertSame(second, objectPool.borrowObject());
+        final Object[] fromOtherThread = new Object[1];
+        Thread other = new Thread()
+        {
+            public void run()
+            {
+                try
+                {
+                    fromOtherThread[0] = objectPool.borrowObject();
+                    objectPool.returnObject(fromOtherThread[0]);
+                }
+                catch (Exception e)
+                {
+                    getLogger().error("borrow failed", e);
+                }
+            }
+        };
+        other.start();
+        other.join();
+        assertSame(first, fromOtherThread[0]);
+        assertEquals(1, objectPool.getNumActive());
+        assertEquals(1, objectPool.getNumIdle());
+        assertSame(first, objectPool.borrowObject());
+        assertEquals(2, objectPool.getNumActive());
+        assertEquals(0, objectPool.getNumIdle());
+    }
+
+    public void testObjectPoolRepeatedAffinityReuse() throws Exception
+    {
+        final ObjectPoolWithThreadAffinity objectPool = new ObjectPoolWithThreadAffinity(new CountingFactory(), 10,
+                1000, 5, 0, true, true, -1, -1, -1);
+        Object first = objectPool.borrowObject();
+        Object second = objectPool.borrowObject();
+        objectPool.returnObject(first);
+        objectPool.returnObject(second);
+        // enough reuse to sweep the claimed entries several times
+        for (int i = 0; i < 1000; i++)
+        {
+            assertSame(second, objectPool.borrowObject());
+            objectPool.returnObject(second);
+        }
+        assertEquals(0, objectPool.getNumActive());
+        assertEquals(2, objectPool.getNumIdle());
+        final Object[] fromOtherThread = new Object[1];
+        Thread other = new Thread()
+        {
+            public void run()
+            {
+                try
+                {
+                    fromOtherThread[0] = objectPool.borrowObject();
+                }
+                catch (Exception e)
+                {
+                    getLogger().error("borrow failed", e);
+                }
+            }
+        };
+        other.start();
+        other.join();
+        assertSame(first, fromOtherThread[0]);
+        assertSame(second, objectPool.borrowObject());
+        assertEquals(0, objectPool.getNumIdle());
+    }
+
+    public void testObjectPoolMaxIdle() throws Exception
+    {
+        ObjectPoolWithThreadAffinity objectPool = new ObjectPoolWithThreadAffinity(new CountingFactory(), 10,
+                1000, 2, 0, true, true, -1, -1, -1);
+        Object[] borrowed = new Object[4];
+        for (int i = 0; i < borrowed.length; i++)
+        {
+            borrowed[i] = objectPool.borrowObject();
+        }
+        for (int i = 0; i < borrowed.length; i++)
+        {
+            objectPool.returnObject(borrowed[i]);
+        }
+        assertEquals(0, objectPool.getNumActive());
+        assertEquals(2, objectPool.getNumIdle());
+        objectPool.clear();
+        assertEquals(0, objectPool.getNumIdle());
+    }
+
+    public void testExhaustedObjectPoolTimesOut() throws Exception
+    {
+        ObjectPoolWithThreadAffinity objectPool = new ObjectPoolWithThreadAffinity(new CountingFactory(), 1,
+                50, 1, 0, true, true, -1, -1, -1);
+        Object first = objectPool.borrowObject();
+        try
+        {
+            objectPool.borrowObject();
+            fail("pool should be exhausted");
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+        assertEquals(1, objectPool.getNumActive());
+        DurationHistogram waits = objectPool.getBorrowWaitHistogram();
+        assertEquals(2, waits.getCount());
+        assertTrue(waits.getMaxMicros() >= 40000);
+
+        objectPool.returnObject(first);
+        assertSame(first, objectPool.borrowObject());
+    }
+
+    public void testExhaustedObjectPoolServesWaitersInOrder() throws Exception
+    {
+        final ObjectPoolWithThreadAffinity objectPool = new ObjectPoolWithThreadAffinity(new CountingFactory(), 1,
+                10000, 1, 0, true, true, -1, -1, -1);
+        Object borrowed = objectPool.borrowObject();
+        final int waiterCount = 3;
+        final int[] order = new int[waiterCount];
+        final int[] served = new int[1];
+        Thread[] waiters = new Thread[waiterCount];
+        for (int i = 0; i < waiterCount; i++)
+        {
+            final int waiter = i;
+            waiters[i] = new Thread()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        Object obj = objectPool.borrowObject();
+                        synchronized (order)
+                        {
+                            order[served[0]++] = waiter;
+                        }
+                        objectPool.returnObject(obj);
+                    }
+                    catch (Exception e)
+                    {
+                        getLogger().error("borrow failed", e);
+                    }
+                }
+            };
+            waiters[i].start();
+            // let the waiter queue up before starting the next one
+            while (waiters[i].getState() != Thread.State.TIMED_WAITING)
+            {
+                sleep(5);
+            }
+        }
+        objectPool.returnObject(borrowed);
+        for (int i = 0; i < waiterCount; i++)
+        {
+            waiters[i].join();
+        }
+        assertEquals(waiterCount, served[0]);
+        for (int i = 0; i < waiterCount; i++)
+        {
+            assertEquals(i, order[i]);
+        }
+        assertEquals(0, objectPool.getNumActive());
+        assertEquals(1, objectPool.getNumIdle());
+    }
+
+    public void testConnectionHoldTimeHistogram() throws Exception
+    {
+        DurationHistogram holdTimes = ConnectionManagerForTests.getInstance().getDefaultConnectionManager().getConnectionHoldTimeHistogram();
+        long before = holdTimes.getCount();
+        Connection connection = getConnection();
+        sleep(20);
+        connection.close();
+        assertEquals(before + 1, holdTimes.getCount());
+        assertTrue(holdTimes.getMaxMicros() >= 15000);
+    }
+
     private void borrowAndReturn(ObjectPoolWithThreadAffinity objectPool)
             throws Exception
     {
@@ -276,6 +460,33 @@ public class TestConnectionManager extends MithraTestAbstract
         objectPool.returnObject(ten);
     }
 
+    private static class CountingFactory implements PoolableObjectFactory
+    {
+        private int count = 0;
+
+        public void activateObject(Object o) throws Exception
+        {
+        }
+
+        public void destroyObject(Object o) throws Exception
+        {
+        }
+
+        public synchronized Object makeObject(ObjectPoolWithThreadAffinity pool) throws Exception
+        {
+            return new Integer(count++);
+        }
+
+        public void passivateObject(Object o) throws Exception
+        {
+        }
+
+        public boolean validateObject(Object o)
+        {
+            return true;
+        }
+    }
+
     private static class BadFactory implements PoolableObjectFactory
     {
         private int count = 0;
@@ -23,6 +23,7 @@ import com.gs.collections.impl.set.mutable.primitive.*;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.database.SqlLogSnooper;
 import com.gs.fw.common.mithra.finder.AtomicEqualityOperation;
 import com.gs.fw.common.mithra.finder.InOperation;
 import com.gs.fw.common.mithra.finder.None;
@@ -31,6 +32,8 @@ import com.gs.fw.common.mithra.test.domain.*;
 import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
 import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
 import com.gs.fw.common.mithra.util.DoWhileProcedure;
+import com.gs.fw.common.mithra.util.MithraArrayTupleTupleSet;
+import com.gs.fw.common.mithra.util.TupleSet;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
@@ -932,6 +935,55 @@ extends TestSqlDatatypes
         assertEquals(3, orders.size());
     }
 
+    public void testLargeInBoundAsArray()
+    {
+        assertEquals("int", H2DatabaseTypeForTests.getInstance().getSqlArrayElementType(Integer.class));
+        assertNull(H2DatabaseTypeForTests.getInstance().getSqlArrayElementType(Timestamp.class));
+
+        IntHashSet idSet = createIntHashSet(500);
+        SqlLogSnooper.startSqlSnooping();
+        assertEquals(7, OrderFinder.findManyBypassCache(OrderFinder.orderId().in(idSet)).size());
+        String sql = SqlLogSnooper.completeSqlSnooping();
+        assertTrue(sql.contains("table(x int = "));
+        idSet.remove(1);
+        idSet.remove(55);
+        assertEquals(2, OrderFinder.findManyBypassCache(OrderFinder.orderId().notIn(idSet)).size());
+
+        Set<String> descriptions = new HashSet<String>();
+        for (int i = 0; i < 20; i++)
+        {
+            descriptions.add("no such order " + i);
+        }
+        descriptions.add("First order");
+        descriptions.add("Third order");
+        assertEquals(2, OrderFinder.findManyBypassCache(OrderFinder.description().in(descriptions)).size());
+
+        LongHashSet longSet = new LongHashSet();
+        for (int i = 0; i < 3000; i++)
+        {
+            longSet.add(i);
+        }
+        assertEquals(ParaDeskFinder.findManyBypassCache(ParaDeskFinder.connectionLong().lessThan(3000)).size(),
+                ParaDeskFinder.findManyBypassCache(ParaDeskFinder.connectionLong().in(longSet)).size());
+    }
+
+    public void testLargeTupleInBoundAsArrays()
+    {
+        TupleSet set = new MithraArrayTupleTupleSet();
+        for (int i = 0; i < 20; i++)
+        {
+            set.add(1000 + i, "no such order");
+        }
+        set.add(1, "First order");
+        set.add(4, "Fourth order, different user");
+        set.add(2, "Third order");
+        OrderList list = OrderFinder.findManyBypassCache(OrderFinder.orderId().tupleWith(OrderFinder.description()).in(set));
+        list.setOrderBy(OrderFinder.orderId().ascendingOrderBy());
+        assertEquals(2, list.size());
+        assertEquals(1, list.get(0).getOrderId());
+        assertEquals(4, list.get(1).getOrderId());
+    }
+
     public void testHugeInClauseWithSourelessToSourceJoin() throws Exception
     {
         IntHashSet intHashSet = new IntHashSet();
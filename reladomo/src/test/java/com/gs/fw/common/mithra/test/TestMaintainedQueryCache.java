@@ -0,0 +1,200 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+
+import java.sql.Timestamp;
+
+public class TestMaintainedQueryCache extends MithraTestAbstract
+{
+    private MithraRuntimeCacheController controller = new MithraRuntimeCacheController(OrderFinder.class);
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        controller.setMaintainCachedQueries(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        controller.setMaintainCachedQueries(false);
+        super.tearDown();
+    }
+
+    public void testInsertPatchesCachedResult()
+    {
+        Operation op = OrderFinder.userId().eq(1);
+        assertEquals(3, findOrderedById(op).size());
+
+        insertOrder(1000, 1, "maintained");
+        insertOrder(1001, 2, "other user");
+
+        int retrievalCount = this.getRetrievalCount();
+        OrderList orders = findOrderedById(op);
+        assertEquals(4, orders.size());
+        assertEquals(1000, orders.get(3).getOrderId());
+        assertEquals(retrievalCount, this.getRetrievalCount());
+    }
+
+    public void testUpdateAndDeletePatchCachedResult()
+    {
+        Operation op = OrderFinder.userId().eq(1);
+        assertEquals(3, findOrderedById(op).size());
+
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderFinder.findOne(OrderFinder.orderId().eq(2)).setUserId(7);
+                OrderFinder.findOne(OrderFinder.orderId().eq(4)).setUserId(1);
+                OrderFinder.findOne(OrderFinder.orderId().eq(3)).delete();
+                return null;
+            }
+        });
+
+        int retrievalCount = this.getRetrievalCount();
+        OrderList orders = findOrderedById(op);
+        assertEquals(2, orders.size());
+        assertEquals(1, orders.get(0).getOrderId());
+        assertEquals(4, orders.get(1).getOrderId());
+        assertEquals(retrievalCount, this.getRetrievalCount());
+    }
+
+    public void testUpdateKeepsOrder()
+    {
+        Operation op = OrderFinder.userId().eq(1);
+        OrderList orders = new OrderList(op);
+        orders.setOrderBy(OrderFinder.description().ascendingOrderBy());
+        assertEquals(3, orders.size());
+        assertEquals(1, orders.get(0).getOrderId());
+
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderFinder.findOne(OrderFinder.orderId().eq(1)).setDescription("Zulu order");
+                return null;
+            }
+        });
+
+        int retrievalCount = this.getRetrievalCount();
+        orders = new OrderList(op);
+        orders.setOrderBy(OrderFinder.description().ascendingOrderBy());
+        assertEquals(3, orders.size());
+        assertEquals(2, orders.get(0).getOrderId());
+        assertEquals(3, orders.get(1).getOrderId());
+        assertEquals(1, orders.get(2).getOrderId());
+        assertEquals(retrievalCount, this.getRetrievalCount());
+    }
+
+    public void testManyChangesInOneTransactionKeepOrder()
+    {
+        final Operation op = OrderFinder.userId().eq(1);
+        OrderList orders = new OrderList(op);
+        orders.setOrderBy(OrderFinder.description().ascendingOrderBy());
+        assertEquals(3, orders.size());
+
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                newOrder(1000, 1, "A order").insert();
+                newOrder(1001, 1, "Zz order").insert();
+                newOrder(1002, 2, "M order").insert();
+                OrderFinder.findOne(OrderFinder.orderId().eq(2)).setDescription("Aa order");
+                OrderFinder.findOne(OrderFinder.orderId().eq(3)).delete();
+                return null;
+            }
+        });
+
+        int retrievalCount = this.getRetrievalCount();
+        orders = new OrderList(op);
+        orders.setOrderBy(OrderFinder.description().ascendingOrderBy());
+        assertEquals(4, orders.size());
+        assertEquals(1000, orders.get(0).getOrderId());
+        assertEquals(2, orders.get(1).getOrderId());
+        assertEquals(1, orders.get(2).getOrderId());
+        assertEquals(1001, orders.get(3).getOrderId());
+        assertEquals(retrievalCount, this.getRetrievalCount());
+    }
+
+    public void testExpiresOnUnmaintainedChange()
+    {
+        Operation op = OrderFinder.userId().eq(1);
+        assertEquals(3, findOrderedById(op).size());
+
+        OrderFinder.getMithraObjectPortal().incrementClassUpdateCount();
+        assertTrue(OrderFinder.getMithraObjectPortal().zGetNonTransactionalQueryCache().findByEquality(op) == null
+                || OrderFinder.getMithraObjectPortal().zGetNonTransactionalQueryCache().findByEquality(op).isExpired());
+        assertEquals(3, findOrderedById(op).size());
+    }
+
+    public void testNotMaintainedWhenDisabled()
+    {
+        controller.setMaintainCachedQueries(false);
+        Operation op = OrderFinder.userId().eq(1);
+        assertEquals(3, findOrderedById(op).size());
+
+        insertOrder(1000, 1, "not maintained");
+
+        OrderList orders = findOrderedById(op);
+        assertEquals(4, orders.size());
+        assertFalse(OrderFinder.getMithraObjectPortal().zGetNonTransactionalQueryCache().findByEquality(op).isMaintained());
+    }
+
+    private OrderList findOrderedById(Operation op)
+    {
+        OrderList orders = new OrderList(op);
+        orders.setOrderBy(OrderFinder.orderId().ascendingOrderBy());
+        orders.forceResolve();
+        return orders;
+    }
+
+    private void insertOrder(final int orderId, final int userId, final String description)
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                newOrder(orderId, userId, description).insert();
+                return null;
+            }
+        });
+    }
+
+    private Order newOrder(int orderId, int userId, String description)
+    {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setUserId(userId);
+        order.setDescription(description);
+        order.setState("In-Progress");
+        order.setTrackingId("999");
+        order.setOrderDate(new Timestamp(System.currentTimeMillis()));
+        return order;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.MithraDatabaseException;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.connectionmanager.ConnectionManagerWrapper;
+import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
+import com.gs.fw.common.mithra.database.MithraAbstractDatabaseObject;
+import com.gs.fw.common.mithra.database.MultiResultSetFind;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderItemFinder;
+import com.gs.fw.common.mithra.test.domain.OrderItemList;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * H2 can't return multiple result sets, so these tests give the children of a deep fetch a connection manager whose
+ * database type claims it can, and whose connections run a combined statement one part at a time.
+ */
+public class TestMultiResultSetFind extends MithraTestAbstract
+{
+    private static final String SEPARATOR = ";\n";
+
+    private MultiResultSetConnectionManager connectionManager;
+    private List<MithraAbstractDatabaseObject> databaseObjects;
+    private List<Object> originalConnectionManagers;
+    private List<ConnectionManagerWrapper> originalWrappers;
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        this.connectionManager = new MultiResultSetConnectionManager();
+        ConnectionManagerWrapper wrapper = new ConnectionManagerWrapper(this.connectionManager);
+        this.databaseObjects = FastList.newListWith(
+                (MithraAbstractDatabaseObject) OrderItemFinder.getMithraObjectPortal().getDatabaseObject(),
+                (MithraAbstractDatabaseObject) OrderStatusFinder.getMithraObjectPortal().getDatabaseObject());
+        this.originalConnectionManagers = FastList.newList();
+        this.originalWrappers = FastList.newList();
+        for (int i = 0; i < this.databaseObjects.size(); i++)
+        {
+            MithraAbstractDatabaseObject databaseObject = this.databaseObjects.get(i);
+            this.originalConnectionManagers.add(databaseObject.getConnectionManager());
+            this.originalWrappers.add(databaseObject.getConnectionManagerWrapper());
+            databaseObject.setConnectionManager(this.connectionManager, wrapper);
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception
+    {
+        for (int i = 0; i < this.databaseObjects.size(); i++)
+        {
+            this.databaseObjects.get(i).setConnectionManager(this.originalConnectionManagers.get(i), this.originalWrappers.get(i));
+        }
+        super.tearDown();
+    }
+
+    public void testSiblingsAreFetchedInOneStatement()
+    {
+        final int expectedItems = new OrderItemList(OrderItemFinder.order().orderId().greaterThan(1)).size();
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderList orders = new OrderList(OrderFinder.orderId().greaterThan(1));
+                orders.deepFetch(OrderFinder.items());
+                orders.deepFetch(OrderFinder.orderStatus());
+                orders.setBypassCache(true);
+                orders.forceResolve();
+                assertEquals(1, connectionManager.combinedStatements);
+
+                int dbCalls = dbCalls();
+                int items = 0;
+                for (int i = 0; i < orders.size(); i++)
+                {
+                    items += orders.get(i).getItems().size();
+                    orders.get(i).getOrderStatus();
+                }
+                assertEquals(expectedItems, items);
+                assertEquals(dbCalls, dbCalls());
+                return null;
+            }
+        });
+        assertEquals(0, MultiResultSetFind.zGetPrefetchedCount());
+    }
+
+    public void testFailedStatementClearsPrefetchedResults()
+    {
+        this.connectionManager.failAfterFirstResultSet = true;
+        try
+        {
+            MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+            {
+                public Object executeTransaction(MithraTransaction tx) throws Throwable
+                {
+                    OrderList orders = new OrderList(OrderFinder.orderId().greaterThan(1));
+                    orders.deepFetch(OrderFinder.items());
+                    orders.deepFetch(OrderFinder.orderStatus());
+                    orders.setBypassCache(true);
+                    orders.forceResolve();
+                    return null;
+                }
+            }, 0);
+            fail("the combined statement should have failed");
+        }
+        catch (MithraDatabaseException e)
+        {
+            // expected
+        }
+        assertEquals(1, this.connectionManager.combinedStatements);
+        assertEquals(0, MultiResultSetFind.zGetPrefetchedCount());
+    }
+
+    private static class MultiResultSetConnectionManager implements SourcelessConnectionManager
+    {
+        private final ConnectionManagerForTests delegate = ConnectionManagerForTests.getInstance();
+        private final DatabaseType databaseType = new MultiResultSetH2DatabaseType();
+        private int combinedStatements;
+        private boolean failAfterFirstResultSet;
+
+        public BulkLoader createBulkLoader() throws BulkLoaderException
+        {
+            return this.delegate.createBulkLoader();
+        }
+
+        public Connection getConnection()
+        {
+            final Connection connection = this.delegate.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[] { Connection.class }, new InvocationHandler()
+            {
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+                {
+                    if (method.getName().equals("prepareStatement") && args.length == 1 && ((String) args[0]).contains(SEPARATOR))
+                    {
+                        combinedStatements++;
+                        return new CombinedStatement(connection, (String) args[0], failAfterFirstResultSet).createProxy();
+                    }
+                    return invokeOn(connection, method, args);
+                }
+            });
+        }
+
+        public DatabaseType getDatabaseType()
+        {
+            return this.databaseType;
+        }
+
+        public TimeZone getDatabaseTimeZone()
+        {
+            return this.delegate.getDatabaseTimeZone();
+        }
+
+        public String getDatabaseIdentifier()
+        {
+            return this.delegate.getDatabaseIdentifier();
+        }
+    }
+
+    private static class MultiResultSetH2DatabaseType extends H2DatabaseType
+    {
+        @Override
+        public boolean supportsMultipleResultSets()
+        {
+            return true;
+        }
+
+        @Override
+        public String getMultiStatementSeparator()
+        {
+            return SEPARATOR;
+        }
+    }
+
+    /**
+     * runs each part of a combined statement as its own statement, and returns their results as consecutive result sets
+     */
+    private static class CombinedStatement implements InvocationHandler
+    {
+        private final PreparedStatement[] parts;
+        private final int[] firstParameters;
+        private final boolean failAfterFirstResultSet;
+        private int current;
+
+        private CombinedStatement(Connection connection, String statement, boolean failAfterFirstResultSet) throws SQLException
+        {
+            String[] sqls = statement.split(SEPARATOR);
+            this.parts = new PreparedStatement[sqls.length];
+            this.firstParameters = new int[sqls.length];
+            this.failAfterFirstResultSet = failAfterFirstResultSet;
+            int parameter = 1;
+            for (int i = 0; i < sqls.length; i++)
+            {
+                this.parts[i] = connection.prepareStatement(sqls[i]);
+                this.firstParameters[i] = parameter;
+                parameter += this.parts[i].getParameterMetaData().getParameterCount();
+            }
+        }
+
+        private PreparedStatement createProxy()
+        {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class[] { PreparedStatement.class }, this);
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+        {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && method.getParameterTypes()[0] == int.class)
+            {
+                int part = this.parts.length - 1;
+                while (this.firstParameters[part] > (Integer) args[0]) part--;
+                Object[] partArgs = args.clone();
+                partArgs[0] = (Integer) args[0] - this.firstParameters[part] + 1;
+                return invokeOn(this.parts[part], method, partArgs);
+            }
+            if (name.equals("execute"))
+            {
+                this.current = 0;
+                this.parts[0].execute();
+                return true;
+            }
+            if (name.equals("getResultSet"))
+            {
+                return this.parts[this.current].getResultSet();
+            }
+            if (name.equals("getMoreResults"))
+            {
+                if (this.failAfterFirstResultSet)
+                {
+                    throw new SQLException("failing the combined statement after its first result set");
+                }
+                this.current++;
+                if (this.current == this.parts.length) return false;
+                this.parts[this.current].execute();
+                return true;
+            }
+            if (name.equals("getUpdateCount"))
+            {
+                return -1;
+            }
+            Object result = null;
+            for (int i = 0; i < this.parts.length; i++)
+            {
+                result = invokeOn(this.parts[i], method, args);
+            }
+            return result;
+        }
+    }
+
+    private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable
+    {
+        try
+        {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException e)
+        {
+            throw e.getCause();
+        }
+    }
+}
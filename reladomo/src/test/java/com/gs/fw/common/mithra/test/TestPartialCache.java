@@ -24,12 +24,14 @@ import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.orderby.OrderBy;
 import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.test.domain.OrderDatabaseObject;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
 import com.gs.fw.common.mithra.util.MithraConfigurationManager;
 import junit.framework.TestCase;
 
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -61,7 +63,7 @@ public class TestPartialCache extends TestCase
 
     public void testQueryIndexDoesNotRunOutOfMemory()
     {
-        LruQueryIndex index = new LruQueryIndex(16, 10000, 0, 0);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(16, 10000, 0, 0);
         for (int i = 0; i < 1000000; i++)
         {
             CachedQuery key = new CachedQuery(OrderFinder.userId().eq(i), null);
@@ -71,7 +73,7 @@ public class TestPartialCache extends TestCase
 
     public void testQueryIndexPutGet()
     {
-        LruQueryIndex index = new LruQueryIndex(16, 10000, 0, 0);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(16, 10000, 0, 0);
         CachedQuery key = new CachedQuery(OrderFinder.userId().eq(50), null);
         index.put(key, false);
         assertSame(key, index.get(OrderFinder.userId().eq(50), false));
@@ -79,7 +81,7 @@ public class TestPartialCache extends TestCase
 
     public void testQueryIndexExpiration()
     {
-        LruQueryIndex index = new LruQueryIndex(16, 10000, 0, 0);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(16, 10000, 0, 0);
         CachedQuery key = new CachedQuery(OrderFinder.userId().eq(50), null);
         index.put(key, false);
         OrderFinder.userId().incrementUpdateCount();
@@ -88,7 +90,7 @@ public class TestPartialCache extends TestCase
 
     public void testQueryRelationshipsAreNotGced()
     {
-        LruQueryIndex index = new LruQueryIndex(16, 100, 0, 0);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(16, 100, 0, 0);
         CachedQuery key = new CachedQuery(OrderFinder.orderId().eq(50), null);
         index.put(key, true);
         key = null; // so it can be gc'ed.
@@ -102,7 +104,7 @@ public class TestPartialCache extends TestCase
 
     public void testQueryIndexLru()
     {
-        LruQueryIndex index = new LruQueryIndex(4, 100, 0, 0);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(4, 100, 0, 0);
         for (int i = 0; i < 1000000; i++)
         {
             CachedQuery key = new CachedQuery(OrderFinder.userId().eq(i), null);
@@ -118,6 +120,83 @@ public class TestPartialCache extends TestCase
         }
     }
 
+    public void testQueryIndexResistsScan()
+    {
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(16, 500, 0, 0);
+        for (int i = 0; i < 10; i++)
+        {
+            index.put(createCachedQuery(OrderFinder.orderId().eq(i), 50), true);
+        }
+        for (int i = 100; i < 10100; i++)
+        {
+            index.put(createCachedQuery(OrderFinder.orderId().eq(i), 50), true);
+            if (i % 10 == 0)
+            {
+                assertNotNull(index.get(OrderFinder.orderId().eq(i % 100 / 10), true));
+            }
+        }
+        assertEquals(500, index.getRetainedSize());
+        for (int i = 0; i < 10; i++)
+        {
+            assertNotNull(index.get(OrderFinder.orderId().eq(i), true));
+        }
+    }
+
+    public void testQueryIndexBoundedByRetainedSize()
+    {
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(0, 100, 0, 0);
+        index.put(createCachedQuery(OrderFinder.orderId().eq(1000), 200), true);
+        assertEquals(0, index.getRetainedSize());
+        for (int i = 0; i < 3; i++)
+        {
+            index.put(createCachedQuery(OrderFinder.orderId().eq(i), 30), true);
+        }
+        for (int i = 0; i < 3; i++)
+        {
+            assertNotNull(index.get(OrderFinder.orderId().eq(i), true));
+            assertNotNull(index.get(OrderFinder.orderId().eq(i), true));
+        }
+        index.put(createCachedQuery(OrderFinder.orderId().eq(3), 30), true);
+        assertEquals(90, index.getRetainedSize());
+        assertEquals(0, index.getEvictions());
+
+        // the fourth query was not admitted, but once it's used more often than the others it replaces one of them
+        assertNotNull(index.get(OrderFinder.orderId().eq(3), true));
+        assertNotNull(index.get(OrderFinder.orderId().eq(3), true));
+        assertEquals(90, index.getRetainedSize());
+        assertEquals(1, index.getEvictions());
+    }
+
+    public void testQueryCacheRelationshipSizeIsAQueryCount()
+    {
+        QueryCache queryCache = new QueryCache(2, 0, 0, 0, false);
+        queryCache.cacheQueryForRelationship(createCachedQuery(OrderFinder.orderId().eq(1), 50));
+        queryCache.cacheQueryForRelationship(createCachedQuery(OrderFinder.orderId().eq(2), 50));
+        assertEquals(100, queryCache.getQueryIndex().getRetainedSize());
+    }
+
+    public void testQueryIndexStatistics()
+    {
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(16, 100, 0, 0);
+        index.put(createCachedQuery(OrderFinder.orderId().eq(1), 5), false);
+        assertNotNull(index.get(OrderFinder.orderId().eq(1), false));
+        assertNotNull(index.get(OrderFinder.orderId().eq(1), false));
+        assertNull(index.get(OrderFinder.orderId().eq(2), false));
+        assertEquals(2, index.getHits());
+        assertEquals(1, index.getMisses());
+        assertEquals(5, index.getRetainedSize());
+        index.clear();
+        assertEquals(0, index.getRetainedSize());
+        assertEquals(0, index.roughSize());
+    }
+
+    private CachedQuery createCachedQuery(Operation op, int resultSize)
+    {
+        CachedQuery query = new CachedQuery(op, null);
+        query.setResult(Collections.nCopies(resultSize, new Object()));
+        return query;
+    }
+
     public void sleep(long millis)
     {
         long now = System.currentTimeMillis();
@@ -140,7 +219,7 @@ public class TestPartialCache extends TestCase
     public void testQueryIndexTimeout()
     {
         int timeToLive = 100;
-        LruQueryIndex index = new LruQueryIndex(100, 100, timeToLive, 0);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(100, 100, timeToLive, 0);
         for (int i = 0; i < 100; i++)
         {
             CachedQuery key = new CachedQuery(OrderFinder.userId().eq(i), null);
@@ -163,7 +242,7 @@ public class TestPartialCache extends TestCase
     public void testQueryIndexTimeoutForRelationship()
     {
         int timeToLive = 1000;
-        LruQueryIndex index = new LruQueryIndex(100, 100, timeToLive, timeToLive);
+        ConcurrentQueryIndex index = new ConcurrentQueryIndex(100, 100, timeToLive, timeToLive);
         for (int i = 0; i < 100; i++)
         {
             CachedQuery key = new CachedQuery(OrderFinder.userId().eq(i), null);
@@ -16,18 +16,27 @@
 
 package com.gs.fw.common.mithra.test;
 
+import com.gs.fw.common.mithra.MithraBusinessException;
 import com.gs.fw.common.mithra.MithraDatabaseException;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.txparticipation.OptimisticReadTxParticipationMode;
 import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.test.domain.OptimisticOrder;
+import com.gs.fw.common.mithra.test.domain.OptimisticOrderFinder;
 import com.gs.fw.common.mithra.test.domain.Order;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
 import com.gs.fw.common.mithra.test.domain.ParaDeskFinder;
+import com.gs.fw.common.mithra.test.domain.TinyBalanceFinder;
 import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
 import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialList;
 import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialFinder;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.concurrent.Exchanger;
 
 
@@ -142,6 +151,209 @@ public class TestReadOnlyTransactionParticipation extends MithraTestAbstract
         });
     }
 
+    public void testOptimisticReadDoesNotEnroll()
+    {
+        final Order order = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+        assertNotNull(order);
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderFinder.setTransactionModeOptimisticRead(tx);
+                order.getDescription();
+                assertFalse(order.zIsParticipatingInTransaction(tx));
+                Order order2 = OrderFinder.findOne(OrderFinder.orderId().eq(2));
+                order2.getDescription();
+                assertFalse(order2.zIsParticipatingInTransaction(tx));
+                order2.setUserId(1245);
+                assertTrue(order2.zIsParticipatingInTransaction(tx));
+                return null;
+            }
+        });
+        assertEquals(1245, OrderFinder.findOne(OrderFinder.orderId().eq(2)).getUserId());
+    }
+
+    public void testOptimisticReadFailsCommitAfterConcurrentUpdate()
+    {
+        final Order order = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+        assertNotNull(order);
+        final Exchanger rendezvous = new Exchanger();
+        Runnable reader = new Runnable()
+        {
+            public void run()
+            {
+                MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+                OrderFinder.setTransactionModeOptimisticRead(tx);
+                order.getDescription();
+                assertFalse(order.zIsParticipatingInTransaction(tx));
+                waitForOtherThread(rendezvous); // 1
+                waitForOtherThread(rendezvous); // 2
+                try
+                {
+                    tx.commit();
+                    fail("commit must fail after a concurrent update");
+                }
+                catch (MithraOptimisticLockException e)
+                {
+                    assertTrue(e.isRetriable());
+                    tx.rollback();
+                }
+            }
+        };
+        Runnable writer = new Runnable()
+        {
+            public void run()
+            {
+                waitForOtherThread(rendezvous); // 1
+                MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+                {
+                    public Object executeTransaction(MithraTransaction tx) throws Throwable
+                    {
+                        order.setUserId(order.getUserId() + 100);
+                        return null;
+                    }
+                });
+                waitForOtherThread(rendezvous); // 2
+            }
+        };
+        assertTrue(this.runMultithreadedTest(reader, writer));
+    }
+
+    public void testOptimisticReadOfVersionedObjectCommits()
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OptimisticOrderFinder.setTransactionModeOptimisticRead(tx);
+                OptimisticOrder order = OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(1));
+                assertEquals("123", order.getTrackingId());
+                assertFalse(order.zIsParticipatingInTransaction(tx));
+                OptimisticOrder order2 = OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(2));
+                order2.setState("new state");
+                return null;
+            }
+        });
+        assertEquals("new state", OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(2)).getState());
+    }
+
+    public void testOptimisticReadIsRejectedForDatedObjects()
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                try
+                {
+                    tx.setTxParticipationMode(TinyBalanceFinder.getMithraObjectPortal(), OptimisticReadTxParticipationMode.getInstance());
+                    fail("optimistic reads must be rejected for a dated class");
+                }
+                catch (MithraBusinessException e)
+                {
+                    // expected
+                }
+                return null;
+            }
+        });
+    }
+
+    public void testOptimisticReadFailsCommitAfterUpdateOutsideThisJvm()
+    {
+        final Exchanger rendezvous = new Exchanger();
+        Runnable reader = new Runnable()
+        {
+            public void run()
+            {
+                MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+                OptimisticOrderFinder.setTransactionModeOptimisticRead(tx);
+                OptimisticOrder order = OptimisticOrderFinder.findOne(OptimisticOrderFinder.orderId().eq(1));
+                assertEquals("123", order.getTrackingId());
+                waitForOtherThread(rendezvous); // 1
+                waitForOtherThread(rendezvous); // 2
+                try
+                {
+                    tx.commit();
+                    fail("commit must fail after an update the cache did not see");
+                }
+                catch (MithraOptimisticLockException e)
+                {
+                    assertTrue(e.isRetriable());
+                    tx.rollback();
+                }
+            }
+        };
+        Runnable writer = new Runnable()
+        {
+            public void run()
+            {
+                waitForOtherThread(rendezvous); // 1
+                updateOptimisticOrderViaDirectSql();
+                waitForOtherThread(rendezvous); // 2
+            }
+        };
+        assertTrue(this.runMultithreadedTest(reader, writer));
+    }
+
+    private void updateOptimisticOrderViaDirectSql()
+    {
+        int updated = 0;
+        try
+        {
+            Connection con = this.getConnection();
+            PreparedStatement ps = con.prepareStatement("update OPTIMISTIC_ORDER set TRACKING_ID = 'abc', VERSION = VERSION + 1 where ORDER_ID = 1");
+            updated = ps.executeUpdate();
+            ps.close();
+            con.close();
+        }
+        catch (SQLException e)
+        {
+            throw new RuntimeException("unexpected sql exception", e);
+        }
+        assertEquals(1, updated);
+    }
+
+    public void testOptimisticReadWaitsForWriterAndEnrolls()
+    {
+        final Order order = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+        assertNotNull(order);
+        final int userId = order.getUserId();
+        final Exchanger rendezvous = new Exchanger();
+        Runnable writer = new Runnable()
+        {
+            public void run()
+            {
+                MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+                {
+                    public Object executeTransaction(MithraTransaction tx) throws Throwable
+                    {
+                        order.setUserId(userId + 100);
+                        waitForOtherThread(rendezvous); // 1
+                        sleep(200);
+                        return null;
+                    }
+                });
+            }
+        };
+        Runnable reader = new Runnable()
+        {
+            public void run()
+            {
+                waitForOtherThread(rendezvous); // 1
+                MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+                {
+                    public Object executeTransaction(MithraTransaction tx) throws Throwable
+                    {
+                        OrderFinder.setTransactionModeOptimisticRead(tx);
+                        assertEquals(userId + 100, order.getUserId());
+                        assertTrue(order.zIsParticipatingInTransaction(tx));
+                        return null;
+                    }
+                });
+            }
+        };
+        assertTrue(this.runMultithreadedTest(writer, reader));
+    }
+
     public void testReadOnlyObjectQueryCacheInTransaction()
     {
         final Operation operation = TestTamsMithraTrialFinder.trialId().greaterThan("2").and(
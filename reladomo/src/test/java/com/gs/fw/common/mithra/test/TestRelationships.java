@@ -19,10 +19,14 @@ package com.gs.fw.common.mithra.test;
 
 import com.gs.collections.api.block.function.Function;
 import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.fw.common.mithra.DeepFetchTree;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import com.gs.fw.common.mithra.MithraTransaction;
 import com.gs.fw.common.mithra.TransactionalCommand;
 import com.gs.fw.common.mithra.cache.CacheClock;
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import com.gs.fw.common.mithra.databasetype.MsSqlDatabaseType;
+import com.gs.fw.common.mithra.databasetype.SybaseDatabaseType;
 import com.gs.fw.common.mithra.finder.*;
 import com.gs.fw.common.mithra.test.domain.*;
 import com.gs.fw.common.mithra.test.glew.LewContract;
@@ -1149,6 +1153,108 @@ public class TestRelationships extends MithraTestAbstract
         }
     }
 
+    public void testDeepFetchSiblingsInTransaction()
+    {
+        // siblings are only sent in one statement where the database can return multiple result sets
+        assertFalse(H2DatabaseType.getInstance().supportsMultipleResultSets());
+        assertTrue(SybaseDatabaseType.getInstance().supportsMultipleResultSets());
+        assertTrue(MsSqlDatabaseType.getInstance().supportsMultipleResultSets());
+
+        final int expectedItems = new OrderItemList(OrderItemFinder.order().orderId().greaterThan(1)).size();
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderList orders = new OrderList(OrderFinder.orderId().greaterThan(1));
+                orders.deepFetch(OrderFinder.items().productInfo());
+                orders.deepFetch(OrderFinder.orderStatus());
+                orders.setBypassCache(true);
+                orders.forceResolve();
+
+                int dbCalls = dbCalls();
+                int items = 0;
+                for(int i=0;i<orders.size();i++)
+                {
+                    Order order = orders.get(i);
+                    items += order.getItems().size();
+                    order.getOrderStatus();
+                }
+                assertEquals(expectedItems, items);
+                assertEquals(expectedItems, orders.getItems().size());
+                assertEquals(dbCalls, dbCalls());
+                return null;
+            }
+        });
+    }
+
+    public void testDeepFetchPlanChoices()
+    {
+        OrderList orders = new OrderList(OrderFinder.orderId().greaterThan(1));
+        orders.deepFetch(OrderFinder.items());
+        orders.deepFetch(OrderFinder.orderStatus());
+        orders.setBypassCache(true);
+        orders.forceResolve();
+        List<DeepFetchTree> children = orders.getDeepFetchTree().getChildren();
+        assertEquals(DeepFetchDecision.Choice.IN_CLAUSE, children.get(0).getDeepFetchDecision().getChoice());
+        assertEquals(orders.size(), children.get(0).getDeepFetchDecision().getParentCount());
+        assertEquals(DeepFetchDecision.Choice.STRATEGY, children.get(1).getDeepFetchDecision().getChoice());
+
+        DeepRelationshipUtility.setMaxSimplifiedIn(2);
+        try
+        {
+            orders = new OrderList(OrderFinder.orderId().greaterThan(1));
+            orders.deepFetch(OrderFinder.items());
+            ((DeepFetchNode) orders.getDeepFetchTree()).setDeepFetchPlanner(new DeepFetchPlanner(0));
+            orders.setBypassCache(true);
+            orders.forceResolve();
+            // a temp table for one relationship costs as much as joining the orders again
+            assertEquals(DeepFetchDecision.Choice.IMPLICIT_JOIN, orders.getDeepFetchTree().getChildren().get(0).getDeepFetchDecision().getChoice());
+        }
+        finally
+        {
+            DeepRelationshipUtility.setMaxSimplifiedIn(1000);
+        }
+    }
+
+    public void testDeepFetchPlanSharesTempTable()
+    {
+        DeepRelationshipUtility.setMaxSimplifiedIn(2);
+        try
+        {
+            OrderList orders = new OrderList(OrderFinder.all());
+            orders.deepFetch(OrderFinder.items());
+            orders.deepFetch(OrderFinder.itemsWithInterfaces());
+            ((DeepFetchNode) orders.getDeepFetchTree()).setDeepFetchPlanner(new DeepFetchPlanner(0));
+            orders.setBypassCache(true);
+            orders.forceResolve();
+            List<DeepFetchTree> children = orders.getDeepFetchTree().getChildren();
+            for(int i=0;i<children.size();i++)
+            {
+                DeepFetchDecision decision = children.get(i).getDeepFetchDecision();
+                assertEquals(DeepFetchDecision.Choice.SHARED_TEMP_TABLE, decision.getChoice());
+                assertEquals(2, decision.getTempTableSharers());
+                assertEquals(orders.size(), decision.getParentCount());
+            }
+
+            int dbCalls = dbCalls();
+            int items = 0;
+            int itemsWithInterfaces = 0;
+            for(int i=0;i<orders.size();i++)
+            {
+                items += orders.get(i).getItems().size();
+                itemsWithInterfaces += orders.get(i).getItemsWithInterfaces().size();
+            }
+            assertEquals(items, orders.getItems().size());
+            assertEquals(dbCalls, dbCalls());
+            assertEquals(OrderItemFinder.findManyBypassCache(OrderItemFinder.all()).size(), items);
+            assertEquals(OrderItemWiFinder.findManyBypassCache(OrderItemWiFinder.all()).size(), itemsWithInterfaces);
+        }
+        finally
+        {
+            DeepRelationshipUtility.setMaxSimplifiedIn(1000);
+        }
+    }
+
     public void testQueryCacheTimedExpiration()
     {
         if (OrderItemWiFinder.getMithraObjectPortal().getCache().isPartialCache())
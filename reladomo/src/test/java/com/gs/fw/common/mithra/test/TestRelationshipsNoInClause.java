@@ -49,4 +49,9 @@ public class TestRelationshipsNoInClause extends TestRelationships
     {
         // do nothing, test is only for in-clause
     }
+
+    public void testDeepFetchPlanChoices()
+    {
+        // do nothing, test is only for in-clause
+    }
 }
@@ -16,15 +16,26 @@
 package com.gs.fw.common.mithra.test;
 
 import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.MithraDataObject;
 import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.attribute.Attribute;
 import com.gs.fw.common.mithra.cache.AbstractDatedCache;
+import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.util.ColumnarCacheArchive;
 import com.gs.fw.common.mithra.util.Filter;
 import com.gs.fw.common.mithra.util.KeepOnlySpecifiedDatesFilter;
+import com.gs.fw.common.mithra.util.MithraCacheSnapshotter;
+import com.gs.fw.common.mithra.util.MithraConfigurationManager;
 import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.sql.Timestamp;
 import java.util.*;
 
@@ -132,6 +143,201 @@ extends MithraTestAbstract
         assertEquals(filteredCount, this.getCachedTinyBalances().size());
     }
 
+    public void testColumnarCacheArchiveTransactional() throws Exception
+    {
+        MithraRuntimeCacheController cacheController = new MithraRuntimeCacheController(OrderFinder.class);
+        if (cacheController.isPartialCache())
+        {
+            return;
+        }
+        int sizeBefore = OrderFinder.findMany(OrderFinder.all()).size();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(2048);
+        cacheController.archiveCacheColumnar(baos, null);
+        byte[] bytes = baos.toByteArray();
+        assertEquals(MithraRuntimeCacheController.COLUMNAR_CACHE_ARCHIVE_VERSION, bytes[0]);
+
+        cacheController.getMithraObjectPortal().getCache().clear();
+        cacheController.clearQueryCache();
+        cacheController.readCacheFromArchive(new ByteArrayInputStream(bytes));
+        OrderList orders2 = OrderFinder.findMany(OrderFinder.all());
+        assertEquals(sizeBefore, orders2.size());
+        Order order = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+        assertEquals("First order", order.getDescription());
+        assertEquals(1, order.getUserId());
+    }
+
+    public void testColumnarCacheArchiveDated() throws Exception
+    {
+        MithraRuntimeCacheController cacheController = new MithraRuntimeCacheController(TinyBalanceFinder.class);
+        if (cacheController.isPartialCache())
+        {
+            return;
+        }
+        TinyBalanceList balances = this.getCachedTinyBalances();
+        int sizeBefore = balances.size();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(2048);
+        cacheController.archiveCacheColumnar(baos, null);
+
+        cacheController.getMithraObjectPortal().getCache().clear();
+        cacheController.clearQueryCache();
+        cacheController.readCacheFromArchive(new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(sizeBefore, this.getCachedTinyBalances().size());
+    }
+
+    public void testColumnarCacheArchiveBlocks() throws Exception
+    {
+        OrderList orders = OrderFinder.findMany(OrderFinder.all());
+        orders.setOrderBy(OrderFinder.orderId().ascendingOrderBy());
+        FastList<MithraDataObject> data = FastList.newList();
+        for (int i = 0; i < 5; i++)
+        {
+            for (Order order : orders)
+            {
+                data.add(order.zGetCurrentData());
+            }
+        }
+        ColumnarCacheArchive archive = new ColumnarCacheArchive(3, 7);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(2048);
+        DataOutputStream out = new DataOutputStream(baos);
+        archive.writeAttributes(out, OrderFinder.getFinderInstance());
+        archive.writeBlocks(out, data);
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        ColumnarCacheArchive readArchive = new ColumnarCacheArchive(2, 7);
+        readArchive.readAttributes(in, OrderFinder.getFinderInstance());
+        FastList<MithraDataObject> read = FastList.newList();
+        List<MithraDataObject> blocks = readArchive.readBlocks(in, data.get(0).getClass());
+        while (blocks != null)
+        {
+            read.addAll(blocks);
+            blocks = readArchive.readBlocks(in, data.get(0).getClass());
+        }
+        assertEquals(data.size(), read.size());
+        Attribute[] attributes = OrderFinder.getFinderInstance().getPersistentAttributes();
+        for (int i = 0; i < data.size(); i++)
+        {
+            for (Attribute attribute : attributes)
+            {
+                assertEquals(attribute.valueOf(data.get(i)), attribute.valueOf(read.get(i)));
+            }
+        }
+    }
+
+    public void testCacheSnapshotCatchesUpDatedClass() throws Exception
+    {
+        MithraObjectPortal portal = TinyBalanceFinder.getMithraObjectPortal();
+        if (!MithraCacheSnapshotter.canSnapshot(portal))
+        {
+            return;
+        }
+        File directory = createSnapshotDirectory();
+        MithraCacheSnapshotter snapshotter = new MithraCacheSnapshotter(directory, 0);
+        try
+        {
+            assertFalse(snapshotter.restore(portal));
+            snapshotter.snapshot(portal);
+            assertTrue(snapshotter.getSnapshotFile(portal).exists());
+
+            Timestamp ts = Timestamp.valueOf("2005-01-11 18:30:00.0");
+            Operation op = TinyBalanceFinder.acmapCode().eq("A").and(TinyBalanceFinder.balanceId().eq(20)).and(TinyBalanceFinder.businessDate().eq(ts));
+            TinyBalance balance = TinyBalanceFinder.findOne(op);
+            MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+            balance.setQuantity(1234.5);
+            tx.commit();
+            int sizeAfterUpdate = this.getCachedTinyBalances().size();
+
+            assertTrue(snapshotter.restore(portal));
+            assertEquals(sizeAfterUpdate, this.getCachedTinyBalances().size());
+            assertEquals(1234.5, TinyBalanceFinder.findOne(op).getQuantity(), 0.0);
+        }
+        finally
+        {
+            snapshotter.shutdown();
+            deleteSnapshotDirectory(directory);
+        }
+    }
+
+    public void testCacheSnapshotReloadsNonDatedClass() throws Exception
+    {
+        MithraObjectPortal portal = OrderFinder.getMithraObjectPortal();
+        if (!MithraCacheSnapshotter.canSnapshot(portal))
+        {
+            return;
+        }
+        File directory = createSnapshotDirectory();
+        MithraConfigurationManager configManager = MithraManagerProvider.getMithraManager().getConfigManager();
+        configManager.setCacheSnapshotDirectory(directory, 0, true);
+        try
+        {
+            MithraCacheSnapshotter snapshotter = configManager.getCacheSnapshotter();
+            snapshotter.snapshot(portal);
+            int size = OrderFinder.findMany(OrderFinder.all()).size();
+            Order order = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+            MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+            order.setDescription("changed after the snapshot");
+            tx.commit();
+
+            configManager.loadMithraCache(FastList.newListWith(portal), 1);
+            snapshotter.waitForCatchUp();
+            assertEquals(size, OrderFinder.findMany(OrderFinder.all()).size());
+            assertEquals("changed after the snapshot", OrderFinder.findOne(OrderFinder.orderId().eq(1)).getDescription());
+        }
+        finally
+        {
+            configManager.setCacheSnapshotDirectory(null, 0);
+            deleteSnapshotDirectory(directory);
+        }
+    }
+
+    public void testCacheSnapshotSkipsNonDatedClassByDefault() throws Exception
+    {
+        MithraObjectPortal portal = OrderFinder.getMithraObjectPortal();
+        if (!MithraCacheSnapshotter.canSnapshot(portal))
+        {
+            return;
+        }
+        File directory = createSnapshotDirectory();
+        MithraConfigurationManager configManager = MithraManagerProvider.getMithraManager().getConfigManager();
+        configManager.setCacheSnapshotDirectory(directory, 0);
+        try
+        {
+            MithraCacheSnapshotter snapshotter = configManager.getCacheSnapshotter();
+            snapshotter.snapshot(portal);
+            Order order = OrderFinder.findOne(OrderFinder.orderId().eq(1));
+            MithraTransaction tx = MithraManagerProvider.getMithraManager().startOrContinueTransaction();
+            order.setDescription("changed after the snapshot");
+            tx.commit();
+
+            assertFalse(snapshotter.restore(portal));
+            configManager.loadMithraCache(FastList.newListWith(portal), 1);
+            assertEquals("changed after the snapshot", OrderFinder.findOne(OrderFinder.orderId().eq(1)).getDescription());
+        }
+        finally
+        {
+            configManager.setCacheSnapshotDirectory(null, 0);
+            deleteSnapshotDirectory(directory);
+        }
+    }
+
+    private File createSnapshotDirectory() throws Exception
+    {
+        File directory = File.createTempFile("cacheSnapshot", "");
+        assertTrue(directory.delete());
+        assertTrue(directory.mkdir());
+        return directory;
+    }
+
+    private void deleteSnapshotDirectory(File directory)
+    {
+        File[] files = directory.listFiles();
+        for (int i = 0; i < files.length; i++)
+        {
+            files[i].delete();
+        }
+        directory.delete();
+    }
+
     public void tearDown ()
     {
         AbstractDatedCache.zLIST_CHUNK_SIZE = 1000;
@@ -0,0 +1,165 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.behavior.txparticipation.ReadCacheWithOptimisticLockingTxParticipationMode;
+import com.gs.fw.common.mithra.database.MithraAbstractDatabaseObject;
+import com.gs.fw.common.mithra.database.SqlLogSnooper;
+import com.gs.fw.common.mithra.finder.SqlStatementCache;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+
+public class TestSqlStatementCache extends MithraTestAbstract
+{
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        getStatementCache().clear();
+    }
+
+    public void testSameShapeReusesStatement()
+    {
+        SqlLogSnooper.startSqlSnooping();
+        OrderList first = OrderFinder.findManyBypassCache(OrderFinder.userId().eq(1).and(OrderFinder.state().eq("In-Progress")));
+        assertEquals(3, first.size());
+        String firstSql = getStatement(SqlLogSnooper.completeSqlSnooping());
+        assertEquals(1, getStatementCache().size());
+
+        SqlLogSnooper.startSqlSnooping();
+        OrderList second = OrderFinder.findManyBypassCache(OrderFinder.userId().eq(3).and(OrderFinder.state().eq("Gummed up")));
+        assertEquals(3, second.size());
+        String secondSql = getStatement(SqlLogSnooper.completeSqlSnooping());
+        assertEquals(1, getStatementCache().size());
+        assertEquals(firstSql.replace("'In-Progress'", "'Gummed up'").replace("= 1", "= 3"), secondSql);
+
+        assertEquals(1, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(2).and(OrderFinder.state().eq("In-Progress"))).size());
+        assertEquals(0, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(2).and(OrderFinder.state().eq("Gummed up"))).size());
+    }
+
+    public void testDifferentShapesAreCachedSeparately()
+    {
+        assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(1)).size());
+        assertEquals(4, OrderFinder.findManyBypassCache(OrderFinder.userId().notEq(1)).size());
+        assertEquals(4, OrderFinder.findManyBypassCache(OrderFinder.orderId().greaterThan(3)).size());
+        assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.orderId().lessThan(4)).size());
+        assertEquals(4, getStatementCache().size());
+
+        assertEquals(1, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(2)).size());
+        assertEquals(6, OrderFinder.findManyBypassCache(OrderFinder.userId().notEq(2)).size());
+        assertEquals(2, OrderFinder.findManyBypassCache(OrderFinder.orderId().greaterThan(55)).size());
+        assertEquals(1, OrderFinder.findManyBypassCache(OrderFinder.orderId().lessThan(2)).size());
+        assertEquals(4, getStatementCache().size());
+    }
+
+    public void testInClauseSizeIsPartOfShape()
+    {
+        IntHashSet two = IntHashSet.newSetWith(1, 2);
+        IntHashSet three = IntHashSet.newSetWith(1, 2, 55);
+        assertEquals(2, OrderFinder.findManyBypassCache(OrderFinder.orderId().in(two)).size());
+        assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.orderId().in(three)).size());
+        assertEquals(2, getStatementCache().size());
+        assertEquals(2, OrderFinder.findManyBypassCache(OrderFinder.orderId().in(IntHashSet.newSetWith(3, 4))).size());
+        assertEquals(2, getStatementCache().size());
+    }
+
+    public void testOrderByAndRowCount()
+    {
+        OrderList orders = new OrderList(OrderFinder.userId().eq(1));
+        orders.setBypassCache(true);
+        orders.setOrderBy(OrderFinder.orderId().descendingOrderBy());
+        assertEquals(3, orders.get(0).getOrderId());
+
+        orders = new OrderList(OrderFinder.userId().eq(3));
+        orders.setBypassCache(true);
+        orders.setOrderBy(OrderFinder.orderId().descendingOrderBy());
+        assertEquals(57, orders.get(0).getOrderId());
+        assertEquals(1, getStatementCache().size());
+
+        orders = new OrderList(OrderFinder.userId().eq(3));
+        orders.setBypassCache(true);
+        orders.setOrderBy(OrderFinder.orderId().ascendingOrderBy());
+        orders.setMaxObjectsToRetrieve(2);
+        assertEquals(2, orders.size());
+        assertEquals(55, orders.get(0).getOrderId());
+        assertEquals(2, getStatementCache().size());
+    }
+
+    public void testTransactionUsesItsOwnStatement()
+    {
+        assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(1)).size());
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                assertEquals(1, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(2)).size());
+                return null;
+            }
+        });
+        assertEquals(2, getStatementCache().size());
+    }
+
+    public void testLockModeIsPartOfShape()
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                assertEquals(3, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(1)).size());
+                assertEquals(1, getStatementCache().size());
+                tx.setTxParticipationMode(OrderFinder.getMithraObjectPortal(), ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+                assertEquals(1, OrderFinder.findManyBypassCache(OrderFinder.userId().eq(2)).size());
+                assertEquals(2, getStatementCache().size());
+                return null;
+            }
+        });
+    }
+
+    public void testFullCacheEvictsInsteadOfClearing()
+    {
+        for (int i = 1; i <= SqlStatementCache.MAX_STATEMENTS + 10; i++)
+        {
+            OrderList orders = new OrderList(OrderFinder.orderId().greaterThan(0));
+            orders.setBypassCache(true);
+            orders.setMaxObjectsToRetrieve(i);
+            orders.forceResolve();
+            assertEquals(Math.min(i, SqlStatementCache.MAX_STATEMENTS), getStatementCache().size());
+        }
+    }
+
+    public void testRelatedOperationIsNotCached()
+    {
+        assertEquals(1, OrderFinder.findManyBypassCache(OrderFinder.items().discountPrice().greaterThan(12.0)).size());
+        assertEquals(0, getStatementCache().size());
+    }
+
+    private static String getStatement(String snoopedSql)
+    {
+        int start = snoopedSql.indexOf("select");
+        int end = snoopedSql.indexOf("retrieved", start);
+        return end < 0 ? snoopedSql.substring(start) : snoopedSql.substring(start, end);
+    }
+
+    private SqlStatementCache getStatementCache()
+    {
+        return ((MithraAbstractDatabaseObject) OrderFinder.getMithraObjectPortal().getDatabaseObject()).zGetSqlStatementCache();
+    }
+}
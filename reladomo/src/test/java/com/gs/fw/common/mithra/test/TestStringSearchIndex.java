@@ -0,0 +1,184 @@
+/*
+  Copyright 2016 Goldman Sachs.
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing,
+  software distributed under the License is distributed on an
+  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+  KIND, either express or implied.  See the License for the
+  specific language governing permissions and limitations
+  under the License.
+ */
+
+package com.gs.fw.common.mithra.test;
+
+import com.gs.collections.impl.set.mutable.UnifiedSet;
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
+import com.gs.fw.common.mithra.cache.StringSearchIndex;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+
+import java.sql.Timestamp;
+
+public class TestStringSearchIndex extends MithraTestAbstract
+{
+    private MithraRuntimeCacheController controller = new MithraRuntimeCacheController(OrderFinder.class);
+
+    @Override
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        if (!controller.isPartialCache())
+        {
+            controller.addStringSearchIndex(OrderFinder.description());
+        }
+    }
+
+    public void testOnlySupportedForFullCache()
+    {
+        if (controller.isPartialCache())
+        {
+            try
+            {
+                controller.addStringSearchIndex(OrderFinder.description());
+                fail("partial caches can't have a string search index");
+            }
+            catch (MithraBusinessException e)
+            {
+                // expected
+            }
+        }
+        else
+        {
+            assertNotNull(getSearchIndex());
+            assertEquals(OrderFinder.findMany(OrderFinder.all()).size(), getSearchIndex().size());
+        }
+    }
+
+    public void testCandidatesAreNarrowed()
+    {
+        if (controller.isPartialCache()) return;
+        assertEquals(3, getSearchIndex().getCandidates(new String[] { "different" }).size());
+        assertEquals(1, getSearchIndex().getCandidates(new String[] { StringSearchIndex.ANCHOR + "Fi" }).size());
+        assertEquals(0, getSearchIndex().getCandidates(new String[] { "no such thing" }).size());
+        assertNull(getSearchIndex().getCandidates(new String[] { "or" }));
+    }
+
+    public void testContains()
+    {
+        assertEquals(6, new OrderList(OrderFinder.description().contains("order")).size());
+        assertEquals(3, new OrderList(OrderFinder.description().contains("different")).size());
+        assertEquals(0, new OrderList(OrderFinder.description().contains("no such thing")).size());
+        assertEquals(7, new OrderList(OrderFinder.description().contains("r")).size());
+    }
+
+    public void testStartsWithAndEndsWith()
+    {
+        assertEquals(1, new OrderList(OrderFinder.description().startsWith("Fi")).size());
+        assertEquals(2, new OrderList(OrderFinder.description().startsWith("F")).size());
+        assertEquals(3, new OrderList(OrderFinder.description().endsWith("user")).size());
+        assertEquals(2, new OrderList(OrderFinder.description().endsWith("d order")).size());
+    }
+
+    public void testWildCard()
+    {
+        assertEquals(3, new OrderList(OrderFinder.description().wildCardEq("S*order*")).size());
+        assertEquals(3, new OrderList(OrderFinder.description().wildCardEq("*th order*")).size());
+        assertEquals(1, new OrderList(OrderFinder.description().wildCardEq("Third ?rder")).size());
+        assertEquals(1, new OrderList(OrderFinder.description().wildCardEq("First order")).size());
+        assertEquals(0, new OrderList(OrderFinder.description().wildCardEq("First")).size());
+    }
+
+    public void testLookupsDoNotSeeTheSearchIndex()
+    {
+        assertEquals(1, new OrderList(OrderFinder.description().eq("First order")).size());
+        assertEquals(2, new OrderList(OrderFinder.description().in(UnifiedSet.newSetWith("First order", "Second order"))).size());
+        assertEquals(3, new OrderList(OrderFinder.description().contains("different")).size());
+    }
+
+    public void testIndexFollowsCommits()
+    {
+        insertOrder(1000, "Searchable widget");
+        assertEquals(1, new OrderList(OrderFinder.description().contains("widget")).size());
+
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderFinder.findOne(OrderFinder.orderId().eq(1000)).setDescription("Searchable gadget");
+                // inside the transaction, the uncommitted value is visible
+                assertEquals(1, new OrderList(OrderFinder.description().contains("gadget")).size());
+                assertEquals(0, new OrderList(OrderFinder.description().contains("widget")).size());
+                return null;
+            }
+        });
+        assertEquals(0, new OrderList(OrderFinder.description().contains("widget")).size());
+        assertEquals(1, new OrderList(OrderFinder.description().contains("gadget")).size());
+        assertEquals(1, new OrderList(OrderFinder.description().startsWith("Searchable")).size());
+
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                OrderFinder.findOne(OrderFinder.orderId().eq(1000)).delete();
+                return null;
+            }
+        });
+        assertEquals(0, new OrderList(OrderFinder.description().contains("gadget")).size());
+    }
+
+    public void testRollbackLeavesIndexUnchanged()
+    {
+        try
+        {
+            MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+            {
+                public Object executeTransaction(MithraTransaction tx) throws Throwable
+                {
+                    OrderFinder.findOne(OrderFinder.orderId().eq(1)).setDescription("Rolled back");
+                    throw new RuntimeException("for testing");
+                }
+            });
+            fail("should have thrown");
+        }
+        catch (RuntimeException e)
+        {
+            // expected
+        }
+        assertEquals(0, new OrderList(OrderFinder.description().contains("Rolled")).size());
+        assertEquals(1, new OrderList(OrderFinder.description().startsWith("First")).size());
+    }
+
+    private StringSearchIndex getSearchIndex()
+    {
+        return OrderFinder.getMithraObjectPortal().getCache().getStringSearchIndex(OrderFinder.description());
+    }
+
+    private void insertOrder(final int orderId, final String description)
+    {
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                Order order = new Order();
+                order.setOrderId(orderId);
+                order.setUserId(1);
+                order.setDescription(description);
+                order.setState("In-Progress");
+                order.setTrackingId("999");
+                order.setOrderDate(new Timestamp(System.currentTimeMillis()));
+                order.insert();
+                return null;
+            }
+        });
+    }
+}
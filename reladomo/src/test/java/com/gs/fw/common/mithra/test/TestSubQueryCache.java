@@ -21,6 +21,9 @@ import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.finder.sqcache.SubQueryCache;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
 import com.gs.fw.common.mithra.test.domain.*;
 
 import java.util.List;
@@ -505,6 +508,75 @@ public class TestSubQueryCache extends MithraTestAbstract
         }
     }
 
+    public void testManyShapesAreKept()
+    {
+        SubQueryCache subQueryCache = OrderFinder.getMithraObjectPortal().getQueryCache().getSubQueryCache();
+        if (subQueryCache != null)
+        {
+            OrderFinder.findMany(OrderFinder.userId().greaterThan(0)).forceResolve();
+            for(int i=0;i<20;i++)
+            {
+                OrderFinder.findMany(OrderFinder.description().eq("no such order "+i).and(OrderFinder.orderId().greaterThan(i))).forceResolve();
+            }
+            long hits = subQueryCache.getHits();
+            assertOrderSubQuery(OrderFinder.userId().greaterThan(0), OrderFinder.userId().eq(3));
+            assertTrue(subQueryCache.getHits() > hits);
+        }
+    }
+
+    public void testSmallestSupersetIsUsed()
+    {
+        SubQueryCache subQueryCache = OrderFinder.getMithraObjectPortal().getQueryCache().getSubQueryCache();
+        if (subQueryCache != null)
+        {
+            OrderFinder.findMany(OrderFinder.userId().greaterThan(0)).forceResolve();
+            OrderFinder.findMany(OrderFinder.userId().greaterThan(2)).forceResolve();
+            assertOrderSubQuery(OrderFinder.userId().greaterThan(2), OrderFinder.userId().eq(3));
+        }
+    }
+
+    public void testEvictionByScore()
+    {
+        SubQueryCache subQueryCache = new SubQueryCache(2, 100);
+        QueryCache queryCache = OrderFinder.getMithraObjectPortal().getQueryCache();
+        Operation popular = OrderFinder.userId().greaterThan(0);
+        Operation unpopular = OrderFinder.orderId().lessThan(3);
+        Operation newcomer = OrderFinder.orderId().greaterThan(0);
+        CachedQuery popularQuery = cacheInSubQueryCache(subQueryCache, popular, OrderFinder.findMany(popular));
+        CachedQuery unpopularQuery = cacheInSubQueryCache(subQueryCache, unpopular, OrderFinder.findMany(unpopular));
+        assertNotNull(subQueryCache.resolveAndCacheSubQuery(OrderFinder.orderId().lessThan(2), null, null, queryCache, false));
+        for (int i = 0; i < 10; i++)
+        {
+            assertNotNull(subQueryCache.resolveAndCacheSubQuery(OrderFinder.userId().greaterThan(1), null, null, queryCache, false));
+        }
+
+        // the newcomer scores more than the unpopular query, which is evicted
+        CachedQuery newcomerQuery = cacheInSubQueryCache(subQueryCache, newcomer, OrderFinder.findMany(newcomer));
+        assertEquals(2, subQueryCache.getEntryCount());
+        assertNull(subQueryCache.resolveAndCacheSubQuery(OrderFinder.orderId().lessThan(2), null, null, queryCache, false));
+        assertNotNull(subQueryCache.resolveAndCacheSubQuery(OrderFinder.userId().greaterThan(2), null, null, queryCache, false));
+        assertNotNull(subQueryCache.resolveAndCacheSubQuery(OrderFinder.orderId().greaterThan(1), null, null, queryCache, false));
+
+        // caching the same operation again replaces its entry
+        cacheInSubQueryCache(subQueryCache, popular, OrderFinder.findMany(popular));
+        assertEquals(2, subQueryCache.getEntryCount());
+        subQueryCache.clear();
+        assertEquals(0, subQueryCache.getEntryCount());
+
+        // entries are held weakly
+        assertNotNull(popularQuery);
+        assertNotNull(unpopularQuery);
+        assertNotNull(newcomerQuery);
+    }
+
+    private CachedQuery cacheInSubQueryCache(SubQueryCache subQueryCache, Operation op, List result)
+    {
+        CachedQuery query = new CachedQuery(op, null);
+        query.setResult(result);
+        subQueryCache.cacheQuery(query);
+        return query;
+    }
+
     private void assertOrderSubQuery(Operation op, Operation subOp)
     {
         RelatedFinder finderInstance = OrderFinder.getFinderInstance();
@@ -30,7 +30,7 @@ import com.gs.fw.common.mithra.MithraTransactionalObject;
 import com.gs.fw.common.mithra.extractor.Extractor;
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.mtloader.AbortException;
-import com.gs.fw.common.mithra.mtloader.AbstractMatcherThread;
+import com.gs.fw.common.mithra.mtloader.BaseMatcherThread;
 import com.gs.fw.common.mithra.mtloader.DbLoadThread;
 import com.gs.fw.common.mithra.mtloader.InputLoader;
 import com.gs.fw.common.mithra.mtloader.PlainInputThread;
@@ -55,7 +55,7 @@ public abstract class MithraMatcherThreadTestAbstract extends TestCase
     private static Timestamp JAN_ONE_TWENTY_FIFTEEN = getTimestamp("2015-01-01 00:00:00.0");
     protected static int INDEX_SIZE = 100;
 
-    protected abstract AbstractMatcherThread getMatcherThread(QueueExecutor bitemporalOrderExecutor, Extractor[] bitemporalOrderExtractor);
+    protected abstract BaseMatcherThread getMatcherThread(QueueExecutor bitemporalOrderExecutor, Extractor[] bitemporalOrderExtractor);
 
     protected static Comparator<BitemporalOrder> COMPARATOR = Comparators.byIntFunction(new IntFunction<BitemporalOrder>()
     {
@@ -97,7 +97,7 @@ public abstract class MithraMatcherThreadTestAbstract extends TestCase
         return bitemporalOrderExecutor;
     }
 
-    private BitemporalOrderList getDbList()
+    protected BitemporalOrderList getDbList()
     {
         Operation op = BitemporalOrderFinder.businessDate().eq(new Timestamp(System.currentTimeMillis()));
         op = op.and(BitemporalOrderFinder.processingDateFrom().lessThan(new Timestamp(System.currentTimeMillis())));
@@ -123,7 +123,7 @@ public abstract class MithraMatcherThreadTestAbstract extends TestCase
     {
         QueueExecutor bitemporalOrderExecutor = getQueueExecutor();
         Extractor[] bitemporalOrderExtractor = getExtractor();
-        AbstractMatcherThread matcherThread = getMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor);
+        BaseMatcherThread matcherThread = getMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor);
         matcherThread.start();
 
         DbLoadThread dbLoadThread = new DbLoadThread(getDbList(), null, matcherThread);
@@ -152,18 +152,32 @@ public abstract class MithraMatcherThreadTestAbstract extends TestCase
 
     // All three operations are in the matcher thread (synchronous)
     protected QueueExecutor loadData_noDbThread()
+    {
+        return this.loadData_noDbThread(Integer.MAX_VALUE);
+    }
+
+    // as above, passing the records to the matcher in batches of at most batchSize
+    protected QueueExecutor loadData_noDbThread(int batchSize)
     {
         QueueExecutor bitemporalOrderExecutor = this.getQueueExecutor();
         Extractor[] bitemporalOrderExtractor = this.getExtractor();
-        AbstractMatcherThread matcherThread = this.getMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor);
+        BaseMatcherThread matcherThread = this.getMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor);
 
         matcherThread.start();
         try
         {
-            matcherThread.addDbRecords(this.getDbList());
+            List<BitemporalOrder> dbList = this.getDbList();
+            for (int i = 0; i < dbList.size(); i += batchSize)
+            {
+                matcherThread.addDbRecords(FastList.newList(dbList.subList(i, Math.min(dbList.size(), i + batchSize))));
+            }
             matcherThread.setDbDone();
 
-            matcherThread.addFileRecords(this.getFileList());
+            List<BitemporalOrder> fileList = this.getFileList();
+            for (int i = 0; i < fileList.size(); i += batchSize)
+            {
+                matcherThread.addFileRecords(FastList.newList(fileList.subList(i, Math.min(fileList.size(), i + batchSize))));
+            }
             matcherThread.setFileDone();
 
             matcherThread.waitTillDone();
@@ -182,7 +196,7 @@ public abstract class MithraMatcherThreadTestAbstract extends TestCase
         return bitemporalOrderExecutor;
     }
 
-    private void assertResultsDefaultComparator(QueueExecutor bitemporalOrderItemExecutor)
+    protected void assertResultsDefaultComparator(QueueExecutor bitemporalOrderItemExecutor)
     {
         Assert.assertEquals("Total inserts: ", 2, bitemporalOrderItemExecutor.getTotalInserts());
         Assert.assertEquals("Total updates: ", 3, bitemporalOrderItemExecutor.getTotalUpdates());
@@ -240,7 +254,7 @@ public abstract class MithraMatcherThreadTestAbstract extends TestCase
         Assert.assertNull(item7);
     }
 
-    private static List<BitemporalOrder> getFileList()
+    protected static List<BitemporalOrder> getFileList()
     {
         // item1 -> new row
         // item2 -> change in description
@@ -0,0 +1,33 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.test.mtloader;
+
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.mtloader.BaseMatcherThread;
+import com.gs.fw.common.mithra.mtloader.PartitionedMatcherThread;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+
+
+public class TestPartitionedMatcherThread extends MithraMatcherThreadTestAbstract
+{
+    @Override
+    protected BaseMatcherThread getMatcherThread(QueueExecutor bitemporalOrderExecutor, Extractor[] bitemporalOrderExtractor)
+    {
+        return new PartitionedMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor, 3, INDEX_SIZE);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.test.mtloader;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.mtloader.AbortException;
+import com.gs.fw.common.mithra.mtloader.AbstractMatcherThread;
+import com.gs.fw.common.mithra.mtloader.SortedMergeMatcherThread;
+import com.gs.fw.common.mithra.test.domain.BitemporalOrder;
+import com.gs.fw.common.mithra.test.domain.BitemporalOrderFinder;
+import com.gs.fw.common.mithra.test.domain.BitemporalOrderList;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+import com.gs.fw.common.mithra.util.SingleQueueExecutor;
+
+
+public class TestSortedMergeMatcherThread extends MithraMatcherThreadTestAbstract
+{
+    @Override
+    protected AbstractMatcherThread getMatcherThread(QueueExecutor bitemporalOrderExecutor, Extractor[] bitemporalOrderExtractor)
+    {
+        return new SortedMergeMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor, BitemporalOrderFinder.orderId().ascendingOrderBy());
+    }
+
+    @Override
+    protected BitemporalOrderList getDbList()
+    {
+        BitemporalOrderList list = super.getDbList();
+        list.setOrderBy(BitemporalOrderFinder.orderId().ascendingOrderBy());
+        return list;
+    }
+
+    public void testUnsortedInputAborts() throws Exception
+    {
+        QueueExecutor executor = new SingleQueueExecutor(1, BitemporalOrderFinder.orderId().ascendingOrderBy(), 300, BitemporalOrderFinder.getFinderInstance(), 2);
+        AbstractMatcherThread matcherThread = this.getMatcherThread(executor, new Extractor[]{BitemporalOrderFinder.orderId()});
+        matcherThread.start();
+
+        List<BitemporalOrder> fileList = FastList.newList(getFileList());
+        Collections.reverse(fileList);
+        matcherThread.addFileRecords(fileList);
+        matcherThread.setFileDone();
+        matcherThread.setDbDone();
+        try
+        {
+            matcherThread.waitTillDone();
+            fail("the file records are not sorted");
+        }
+        catch (AbortException e)
+        {
+            assertTrue(e.getCause().getMessage().contains("not sorted"));
+        }
+        assertEquals(0, executor.getTotalInserts());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+
+package com.gs.fw.common.mithra.test.mtloader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.gs.collections.impl.list.mutable.FastList;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.mtloader.AbstractMatcherThread;
+import com.gs.fw.common.mithra.mtloader.SpillingMatcherThread;
+import com.gs.fw.common.mithra.test.domain.BitemporalOrder;
+import com.gs.fw.common.mithra.util.QueueExecutor;
+
+
+public class TestSpillingMatcherThread extends MithraMatcherThreadTestAbstract
+{
+    private File spillDirectory;
+    private SpillingMatcherThread lastMatcherThread;
+    private final List<Object> identicalMatches = FastList.newList();
+    private int maxInMemory = 2;
+    private int maxMergeFanIn = SpillingMatcherThread.DEFAULT_MAX_MERGE_FAN_IN;
+
+    protected void setUp() throws Exception
+    {
+        super.setUp();
+        this.spillDirectory = File.createTempFile("mtloaderTest", "");
+        this.spillDirectory.delete();
+        this.spillDirectory.mkdir();
+    }
+
+    protected void tearDown() throws Exception
+    {
+        File[] files = this.spillDirectory.listFiles();
+        for (int i = 0; files != null && i < files.length; i++)
+        {
+            files[i].delete();
+        }
+        this.spillDirectory.delete();
+        super.tearDown();
+    }
+
+    @Override
+    protected AbstractMatcherThread getMatcherThread(QueueExecutor bitemporalOrderExecutor, Extractor[] bitemporalOrderExtractor)
+    {
+        this.lastMatcherThread = new SpillingMatcherThread(bitemporalOrderExecutor, bitemporalOrderExtractor, this.spillDirectory, this.maxInMemory)
+        {
+            @Override
+            protected void handleIdenticalMatch(Object oldObject, Object newObject)
+            {
+                identicalMatches.add(oldObject);
+            }
+        };
+        this.lastMatcherThread.setMaxMergeFanIn(this.maxMergeFanIn);
+        return this.lastMatcherThread;
+    }
+
+    public void testSpilledRunsAreRemoved() throws IOException
+    {
+        this.loadData_noDbThread();
+        assertTrue(this.lastMatcherThread.isSpilled());
+        assertEquals(0, this.spillDirectory.listFiles().length);
+    }
+
+    public void testRunsAreMergedInPasses() throws IOException
+    {
+        this.maxInMemory = 1;
+        this.maxMergeFanIn = 2;
+        this.assertResultsDefaultComparator(this.loadData_noDbThread(1));
+        assertTrue(this.lastMatcherThread.isSpilled());
+        assertEquals(0, this.spillDirectory.listFiles().length);
+    }
+
+    public void testSpilledDatabaseRecordsAreReadBackWithTheirData() throws IOException
+    {
+        this.loadData_noDbThread();
+        assertTrue(this.lastMatcherThread.isSpilled());
+        assertEquals(1, this.identicalMatches.size());
+        BitemporalOrder unchanged = (BitemporalOrder) this.identicalMatches.get(0);
+        assertTrue(unchanged.zIsDetached());
+        assertEquals(5, unchanged.getOrderId());
+        assertEquals("fifty a", unchanged.getDescription());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ Copyright 2016 Goldman Sachs.
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+   http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing,
+ software distributed under the License is distributed on an
+ "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ KIND, either express or implied.  See the License for the
+ specific language governing permissions and limitations
+ under the License.
+ */
+
+package com.gs.fw.common.mithra.test.util;
+
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockInputStream;
+import com.gs.fw.common.mithra.util.lz4.LZ4BlockOutputStream;
+import com.gs.fw.common.mithra.util.lz4.LZ4Compressor;
+import com.gs.fw.common.mithra.util.lz4.LZ4HCJavaSafeCompressor;
+import com.gs.fw.common.mithra.util.lz4.LZ4JavaSafeCompressor;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+
+public class TestLZ4BlockStream extends TestCase
+{
+    public void testFastCompressorRoundTrip() throws IOException
+    {
+        assertRoundTrip(new LZ4JavaSafeCompressor());
+    }
+
+    public void testHighCompressionRoundTrip() throws IOException
+    {
+        assertRoundTrip(new LZ4HCJavaSafeCompressor());
+    }
+
+    public void testStreamRoundTrip() throws IOException
+    {
+        byte[] data = createText(300000);
+        for (int i = 0; i < 2; i++)
+        {
+            boolean fastCompression = i == 0;
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            LZ4BlockOutputStream out = new LZ4BlockOutputStream(bytes, 1024, false, fastCompression);
+            out.write(data, 0, 1000);
+            out.write(data, 1000, data.length - 1000);
+            out.close();
+
+            LZ4BlockInputStream in = new LZ4BlockInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+            byte[] read = new byte[data.length];
+            int total = 0;
+            int r;
+            while ((r = in.read(read, total, read.length - total)) > 0)
+            {
+                total += r;
+            }
+            assertEquals(data.length, total);
+            assertEquals(-1, in.read());
+            assertTrue(Arrays.equals(data, read));
+        }
+    }
+
+    public void testCompressionRatio() throws IOException
+    {
+        byte[] data = createText(LZ4BlockOutputStream.DEFAULT_BLOCK_SIZE);
+        int fastLength = assertCompressedRoundTrip(new LZ4JavaSafeCompressor(), data);
+        int highCompressionLength = assertCompressedRoundTrip(new LZ4HCJavaSafeCompressor(), data);
+        assertTrue(fastLength * 2 < data.length);
+        assertTrue(highCompressionLength < fastLength);
+    }
+
+    private static int assertCompressedRoundTrip(LZ4Compressor compressor, byte[] data) throws IOException
+    {
+        byte[] compressed = new byte[compressor.maxCompressedLength(data.length)];
+        int compressedLength = compressor.compress(data, 0, data.length, compressed, 0);
+        LZ4BlockInputStream decompressor = new LZ4BlockInputStream(null);
+        byte[] decompressed = new byte[data.length];
+        decompressor.decompressSafe(compressed, 0, decompressed, 0, data.length);
+        assertTrue(Arrays.equals(data, decompressed));
+        Arrays.fill(decompressed, (byte) 0);
+        decompressor.decompressUnsafe(compressed, 0, decompressed, 0, data.length);
+        assertTrue(Arrays.equals(data, decompressed));
+        return compressedLength;
+    }
+
+    private void assertRoundTrip(LZ4Compressor compressor) throws IOException
+    {
+        Random random = new Random(12345);
+        byte[] randomBytes = new byte[70000];
+        random.nextBytes(randomBytes);
+        byte[] runs = new byte[70000];
+        for (int i = 0; i < runs.length; i++)
+        {
+            runs[i] = (byte) ((i / 1000) % 3 == 0 ? 'a' : i % (1 + (i / 1000) % 7));
+        }
+        byte[][] inputs = new byte[][] { new byte[0], new byte[] { 1 }, Arrays.copyOf(randomBytes, 13),
+                createText(20), randomBytes, runs, createText(200000) };
+        for (byte[] input : inputs)
+        {
+            byte[] compressed = new byte[compressor.maxCompressedLength(input.length) + 3];
+            int compressedLength = compressor.compress(input, 0, input.length, compressed, 3);
+            byte[] exact = new byte[compressedLength];
+            System.arraycopy(compressed, 3, exact, 0, compressedLength);
+
+            LZ4BlockInputStream decompressor = new LZ4BlockInputStream(null);
+            byte[] safe = new byte[input.length];
+            assertEquals(compressedLength, decompressor.decompressSafe(exact, 0, safe, 0, input.length));
+            assertTrue(Arrays.equals(input, safe));
+            byte[] unsafe = new byte[input.length];
+            assertEquals(compressedLength, decompressor.decompressUnsafe(exact, 0, unsafe, 0, input.length));
+            assertTrue(Arrays.equals(input, unsafe));
+        }
+    }
+
+    private static byte[] createText(int length)
+    {
+        Random random = new Random(length);
+        String[] words = new String[] { "order", "item", "balance", "quantity", "In-Progress", "Completed", "2004-01-12 00:00:00.000", "|" };
+        StringBuilder builder = new StringBuilder(length + 30);
+        while (builder.length() < length)
+        {
+            builder.append(words[random.nextInt(words.length)]).append(random.nextInt(1000)).append(' ');
+        }
+        builder.setLength(length);
+        return builder.toString().getBytes();
+    }
+}
@@ -117,6 +117,24 @@ public abstract class TestRoundTripListStringBased extends MithraTestAbstract
         }
     }
 
+    @Test
+    public void testOrderTwoDeepStreaming() throws Exception
+    {
+        SerializationConfig config = SerializationConfig.shallowWithDefaultAttributes(OrderFinder.getFinderInstance());
+        config = config.withDeepFetches(OrderFinder.orderStatus(), OrderFinder.items().orderItemStatus());
+        String sb = fromSerializedString(new SerializedList<Order, OrderList>((OrderFinder.findMany(OrderFinder.all())), config, 3));
+
+        SerializedList<Order, OrderList> serialized = toSerializedString(sb);
+        OrderList list = serialized.getWrapped();
+        assertEquals(7, list.size());
+        for(int i=0;i<list.size();i++)
+        {
+            Order order = list.get(i);
+            assertTrue(order.zIsDetached());
+            assertEquals(OrderFinder.findOne(OrderFinder.orderId().eq(order.getOrderId())).getItems().size(), order.getItems().size());
+        }
+    }
+
     @Test
     public void testOrderWithDependents() throws Exception
     {
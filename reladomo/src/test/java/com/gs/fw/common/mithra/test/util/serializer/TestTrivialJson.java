@@ -16,14 +16,20 @@
 
 package com.gs.fw.common.mithra.test.util.serializer;
 
+import com.gs.fw.common.mithra.extractor.asm.ExtractorWriter;
 import com.gs.fw.common.mithra.test.MithraTestAbstract;
 import com.gs.fw.common.mithra.test.domain.Order;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderItemList;
 import com.gs.fw.common.mithra.test.domain.SerialView;
 import com.gs.fw.common.mithra.util.serializer.SerializationConfig;
 import com.gs.fw.common.mithra.util.serializer.Serialized;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
 public class TestTrivialJson extends MithraTestAbstract
 {
     static
@@ -141,6 +147,46 @@ public class TestTrivialJson extends MithraTestAbstract
         assertFalse(sb.contains("_rdoClassName"));
     }
     
+    @Test
+    public void testAnnotatedMethodsAreGenerated() throws Exception
+    {
+        SerializationConfig config = SerializationConfig.shallowWithDefaultAttributes(OrderFinder.getFinderInstance());
+        config = config.withDeepFetches(OrderFinder.items());
+        config = config.withAnnotatedMethods(SerialView.Shorter.class);
+        config = config.withAnnotatedMethods(SerialView.Longer.class);
+        String sb = toJson(new Serialized((OrderFinder.findOne(OrderFinder.orderId().eq(2))), config));
+
+        assertTrue(sb.contains("\"hashCode\": 2"));
+        assertTrue(sb.contains("\"trackedDescription\": \"Second order 124\""));
+        assertTrue(sb.contains("\"sum\": "));
+        assertTrue(ExtractorWriter.isGeneratedClass(config.getAnnotatedMethodSerializer(Order.class).getClass()));
+        assertTrue(ExtractorWriter.isGeneratedClass(config.getAnnotatedMethodSerializer(OrderItemList.class).getClass()));
+        assertSame(config.getAnnotatedMethodSerializer(Order.class),
+                config.withoutMetaData().getAnnotatedMethodSerializer(Order.class));
+    }
+
+    @Test
+    public void testOverriddenAnnotatedMethodsAreUsed() throws Exception
+    {
+        SerializationConfig config = SerializationConfig.shallowWithDefaultAttributes(OrderFinder.getFinderInstance());
+        config = config.withAnnotatedMethods(SerialView.Longer.class);
+        Serialized serialized = new Serialized((OrderFinder.findOne(OrderFinder.orderId().eq(2))), config);
+        assertTrue(toJson(serialized).contains("\"trackedDescription\""));
+
+        StringBuilder sb = new StringBuilder();
+        AppendableSerialContext context = new AppendableSerialContext(config, new TrivialJsonSerialWriter(), sb)
+        {
+            @Override
+            protected List<Method> getAnnotatedMethods(Object reladomoObject)
+            {
+                return Collections.emptyList();
+            }
+        };
+        context.serializeReladomoObject(serialized.getWrapped());
+        assertTrue(sb.toString().contains("\"orderId\""));
+        assertFalse(sb.toString().contains("\"trackedDescription\""));
+    }
+
     protected String toJson(Serialized serialized) throws Exception
     {
         StringBuilder sb = new StringBuilder();
@@ -16,6 +16,10 @@
 
 package com.gs.fw.common.mithra.test.util.serializer;
 
+import com.gs.fw.common.mithra.MithraBusinessException;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
 import com.gs.fw.common.mithra.test.MithraTestAbstract;
 import com.gs.fw.common.mithra.test.domain.Order;
 import com.gs.fw.common.mithra.test.domain.OrderFinder;
@@ -125,11 +129,72 @@ public class TestTrivialJsonList extends MithraTestAbstract
         System.out.println(sb);
     }
     
+    @Test
+    public void testStreamingMatchesResolvedList() throws Exception
+    {
+        SerializationConfig config = SerializationConfig.shallowWithDefaultAttributes(OrderFinder.getFinderInstance());
+        config = config.withDeepFetches(OrderFinder.orderStatus(), OrderFinder.items().orderItemStatus());
+        config = config.withoutMetaData();
+        String resolved = toJson(new SerializedList<Order, OrderList>((OrderFinder.findMany(OrderFinder.all())), config));
+        for(int chunkSize = 1; chunkSize <= 8; chunkSize++)
+        {
+            assertEquals(resolved, toJson(new SerializedList<Order, OrderList>((OrderFinder.findMany(OrderFinder.all())), config, chunkSize)));
+        }
+    }
+
+    @Test
+    public void testStreamingInTransaction() throws Exception
+    {
+        final SerializationConfig config = SerializationConfig.shallowWithDefaultAttributes(OrderFinder.getFinderInstance()).withoutMetaData();
+        final String resolved = toJson(new SerializedList<Order, OrderList>((OrderFinder.findMany(OrderFinder.all())), config));
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                assertEquals(resolved, toJson(new SerializedList<Order, OrderList>((OrderFinder.findMany(OrderFinder.all())), config, 3)));
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testStreamingWithDeepFetchesInTransactionIsRejected() throws Exception
+    {
+        final SerializationConfig config = SerializationConfig.shallowWithDefaultAttributes(OrderFinder.getFinderInstance())
+                .withDeepFetches(OrderFinder.orderStatus(), OrderFinder.items().orderItemStatus()).withoutMetaData();
+        MithraManagerProvider.getMithraManager().executeTransactionalCommand(new TransactionalCommand()
+        {
+            public Object executeTransaction(MithraTransaction tx) throws Throwable
+            {
+                try
+                {
+                    toJson(new SerializedList<Order, OrderList>((OrderFinder.findMany(OrderFinder.all())), config, 3));
+                    fail("streaming with deep fetches should be rejected in a transaction");
+                }
+                catch (MithraBusinessException e)
+                {
+                    // expected
+                }
+                OrderList orders = new OrderList(OrderFinder.findMany(OrderFinder.all()));
+                assertEquals(toJson(new SerializedList<Order, OrderList>(orders, config)),
+                        toJson(new SerializedList<Order, OrderList>(orders, config, 3)));
+                return null;
+            }
+        });
+    }
+
     protected String toJson(SerializedList serialized) throws Exception
     {
         StringBuilder sb = new StringBuilder();
         AppendableSerialContext context = new AppendableSerialContext(serialized.getConfig(), new TrivialJsonSerialWriter(), sb);
-        context.serializeReladomoList(serialized.getWrapped());
+        if (serialized.isStreaming())
+        {
+            context.serializeReladomoListStreaming(serialized.getWrapped(), serialized.getStreamingChunkSize());
+        }
+        else
+        {
+            context.serializeReladomoList(serialized.getWrapped());
+        }
         return sb.toString();
     }
 
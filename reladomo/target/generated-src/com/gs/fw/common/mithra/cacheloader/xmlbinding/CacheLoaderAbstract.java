@@ -0,0 +1,23 @@
+package com.gs.fw.common.mithra.cacheloader.xmlbinding;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.List;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class CacheLoaderAbstract extends CacheLoaderType
+{
+	public void toXml(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+		this.toXml(marshaller, "CacheLoader");
+	}
+
+	protected boolean parseAttribute(MithraCacheLoaderUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		super.parseAttribute(unmarshaller,attributeName,attributeValue);
+		return true;
+	}
+}
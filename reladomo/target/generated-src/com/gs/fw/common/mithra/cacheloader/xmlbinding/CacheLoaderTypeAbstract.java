@@ -0,0 +1,504 @@
+package com.gs.fw.common.mithra.cacheloader.xmlbinding;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class CacheLoaderTypeAbstract implements java.io.Serializable
+{
+	private String defaultTopLevelLoaderFactory ;
+	private String defaultDependentLoaderFactory ;
+	private String defaultDependentLoaderHelperFactory ;
+	private String threadsPerDbServer = "10";
+	private boolean _isThreadsPerDbServerSet;
+	private String syslogCheckThreshold = "45";
+	private boolean _isSyslogCheckThresholdSet;
+	private String syslogCheckWaitTime = "1200";
+	private boolean _isSyslogCheckWaitTimeSet;
+	private String reportedSlowSQLTime = "17";
+	private boolean _isReportedSlowSQLTimeSet;
+	private String reportedSlowSQLPerRowTime = "5";
+	private boolean _isReportedSlowSQLPerRowTimeSet;
+	private String captureLoadingTaskDetails = "false";
+	private boolean _isCaptureLoadingTaskDetailsSet;
+	private List<TopLevelLoaderType> topLevelLoaders = MithraCacheLoaderUnmarshaller.emptyList();
+	private List<DependentLoaderType> dependentLoaders = MithraCacheLoaderUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraCacheLoaderUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+		topLevelLoaders = (List<TopLevelLoaderType>) unmarshaller.newList();
+		dependentLoaders = (List<DependentLoaderType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraCacheLoaderUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in CacheLoaderType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type CacheLoaderType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("TopLevelLoader"))
+		{
+			return 1;
+		}
+
+		if (elementName.equals("DependentLoader"))
+		{
+			return 2;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraCacheLoaderUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("TopLevelLoader"))
+		{
+			TopLevelLoaderType _topLevelLoader = new TopLevelLoaderType();
+			_topLevelLoader.parse(unmarshaller, "TopLevelLoader");
+			_topLevelLoader._setParent(this);
+			this.getTopLevelLoaders().add(_topLevelLoader);
+		}
+
+		if (elementName.equals("DependentLoader"))
+		{
+			DependentLoaderType _dependentLoader = new DependentLoaderType();
+			_dependentLoader.parse(unmarshaller, "DependentLoader");
+			_dependentLoader._setParent(this);
+			this.getDependentLoaders().add(_dependentLoader);
+		}
+	}
+
+	protected void parseAttributes(MithraCacheLoaderUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+	}
+
+	protected boolean parseAttribute(MithraCacheLoaderUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("defaultTopLevelLoaderFactory"))
+		{
+			this.setDefaultTopLevelLoaderFactory(unmarshaller.toToken("defaultTopLevelLoaderFactory", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("defaultDependentLoaderFactory"))
+		{
+			this.setDefaultDependentLoaderFactory(unmarshaller.toToken("defaultDependentLoaderFactory", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("defaultDependentLoaderHelperFactory"))
+		{
+			this.setDefaultDependentLoaderHelperFactory(unmarshaller.toToken("defaultDependentLoaderHelperFactory", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("threadsPerDbServer"))
+		{
+			this.setThreadsPerDbServer(unmarshaller.toToken("threadsPerDbServer", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("syslogCheckThreshold"))
+		{
+			this.setSyslogCheckThreshold(unmarshaller.toToken("syslogCheckThreshold", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("syslogCheckWaitTime"))
+		{
+			this.setSyslogCheckWaitTime(unmarshaller.toToken("syslogCheckWaitTime", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("reportedSlowSQLTime"))
+		{
+			this.setReportedSlowSQLTime(unmarshaller.toToken("reportedSlowSQLTime", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("reportedSlowSQLPerRowTime"))
+		{
+			this.setReportedSlowSQLPerRowTime(unmarshaller.toToken("reportedSlowSQLPerRowTime", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("captureLoadingTaskDetails"))
+		{
+			this.setCaptureLoadingTaskDetails(unmarshaller.toToken("captureLoadingTaskDetails", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	public String getDefaultTopLevelLoaderFactory()
+	{
+		return this.defaultTopLevelLoaderFactory;
+	}
+
+	public void setDefaultTopLevelLoaderFactory(String defaultTopLevelLoaderFactory)
+	{
+		this.defaultTopLevelLoaderFactory = defaultTopLevelLoaderFactory;
+	}
+
+	public boolean isDefaultTopLevelLoaderFactorySet()
+	{
+		return defaultTopLevelLoaderFactory != null;
+	}
+
+	public void unsetDefaultTopLevelLoaderFactory()
+	{
+		defaultTopLevelLoaderFactory = null;
+	}
+
+	public String getDefaultDependentLoaderFactory()
+	{
+		return this.defaultDependentLoaderFactory;
+	}
+
+	public void setDefaultDependentLoaderFactory(String defaultDependentLoaderFactory)
+	{
+		this.defaultDependentLoaderFactory = defaultDependentLoaderFactory;
+	}
+
+	public boolean isDefaultDependentLoaderFactorySet()
+	{
+		return defaultDependentLoaderFactory != null;
+	}
+
+	public void unsetDefaultDependentLoaderFactory()
+	{
+		defaultDependentLoaderFactory = null;
+	}
+
+	public String getDefaultDependentLoaderHelperFactory()
+	{
+		return this.defaultDependentLoaderHelperFactory;
+	}
+
+	public void setDefaultDependentLoaderHelperFactory(String defaultDependentLoaderHelperFactory)
+	{
+		this.defaultDependentLoaderHelperFactory = defaultDependentLoaderHelperFactory;
+	}
+
+	public boolean isDefaultDependentLoaderHelperFactorySet()
+	{
+		return defaultDependentLoaderHelperFactory != null;
+	}
+
+	public void unsetDefaultDependentLoaderHelperFactory()
+	{
+		defaultDependentLoaderHelperFactory = null;
+	}
+
+	public String getThreadsPerDbServer()
+	{
+		return this.threadsPerDbServer;
+	}
+
+	public void setThreadsPerDbServer(String threadsPerDbServer)
+	{
+		this.threadsPerDbServer = threadsPerDbServer;
+		this._isThreadsPerDbServerSet = true;
+	}
+
+	public boolean isThreadsPerDbServerSet()
+	{
+		return _isThreadsPerDbServerSet;
+	}
+
+	public void unsetThreadsPerDbServer()
+	{
+		_isThreadsPerDbServerSet = false;
+		threadsPerDbServer = "10";
+	}
+
+	public String getSyslogCheckThreshold()
+	{
+		return this.syslogCheckThreshold;
+	}
+
+	public void setSyslogCheckThreshold(String syslogCheckThreshold)
+	{
+		this.syslogCheckThreshold = syslogCheckThreshold;
+		this._isSyslogCheckThresholdSet = true;
+	}
+
+	public boolean isSyslogCheckThresholdSet()
+	{
+		return _isSyslogCheckThresholdSet;
+	}
+
+	public void unsetSyslogCheckThreshold()
+	{
+		_isSyslogCheckThresholdSet = false;
+		syslogCheckThreshold = "45";
+	}
+
+	public String getSyslogCheckWaitTime()
+	{
+		return this.syslogCheckWaitTime;
+	}
+
+	public void setSyslogCheckWaitTime(String syslogCheckWaitTime)
+	{
+		this.syslogCheckWaitTime = syslogCheckWaitTime;
+		this._isSyslogCheckWaitTimeSet = true;
+	}
+
+	public boolean isSyslogCheckWaitTimeSet()
+	{
+		return _isSyslogCheckWaitTimeSet;
+	}
+
+	public void unsetSyslogCheckWaitTime()
+	{
+		_isSyslogCheckWaitTimeSet = false;
+		syslogCheckWaitTime = "1200";
+	}
+
+	public String getReportedSlowSQLTime()
+	{
+		return this.reportedSlowSQLTime;
+	}
+
+	public void setReportedSlowSQLTime(String reportedSlowSQLTime)
+	{
+		this.reportedSlowSQLTime = reportedSlowSQLTime;
+		this._isReportedSlowSQLTimeSet = true;
+	}
+
+	public boolean isReportedSlowSQLTimeSet()
+	{
+		return _isReportedSlowSQLTimeSet;
+	}
+
+	public void unsetReportedSlowSQLTime()
+	{
+		_isReportedSlowSQLTimeSet = false;
+		reportedSlowSQLTime = "17";
+	}
+
+	public String getReportedSlowSQLPerRowTime()
+	{
+		return this.reportedSlowSQLPerRowTime;
+	}
+
+	public void setReportedSlowSQLPerRowTime(String reportedSlowSQLPerRowTime)
+	{
+		this.reportedSlowSQLPerRowTime = reportedSlowSQLPerRowTime;
+		this._isReportedSlowSQLPerRowTimeSet = true;
+	}
+
+	public boolean isReportedSlowSQLPerRowTimeSet()
+	{
+		return _isReportedSlowSQLPerRowTimeSet;
+	}
+
+	public void unsetReportedSlowSQLPerRowTime()
+	{
+		_isReportedSlowSQLPerRowTimeSet = false;
+		reportedSlowSQLPerRowTime = "5";
+	}
+
+	public String getCaptureLoadingTaskDetails()
+	{
+		return this.captureLoadingTaskDetails;
+	}
+
+	public void setCaptureLoadingTaskDetails(String captureLoadingTaskDetails)
+	{
+		this.captureLoadingTaskDetails = captureLoadingTaskDetails;
+		this._isCaptureLoadingTaskDetailsSet = true;
+	}
+
+	public boolean isCaptureLoadingTaskDetailsSet()
+	{
+		return _isCaptureLoadingTaskDetailsSet;
+	}
+
+	public void unsetCaptureLoadingTaskDetails()
+	{
+		_isCaptureLoadingTaskDetailsSet = false;
+		captureLoadingTaskDetails = "false";
+	}
+
+	public List<TopLevelLoaderType> getTopLevelLoaders()
+	{
+		return this.topLevelLoaders;
+	}
+
+	public void setTopLevelLoaders(List<TopLevelLoaderType> topLevelLoaders)
+	{
+		this.topLevelLoaders = topLevelLoaders;
+	}
+
+	public boolean isTopLevelLoadersSet()
+	{
+		return topLevelLoaders != null && topLevelLoaders.size() > 0;
+	}
+
+	public List<DependentLoaderType> getDependentLoaders()
+	{
+		return this.dependentLoaders;
+	}
+
+	public void setDependentLoaders(List<DependentLoaderType> dependentLoaders)
+	{
+		this.dependentLoaders = dependentLoaders;
+	}
+
+	public boolean isDependentLoadersSet()
+	{
+		return dependentLoaders != null && dependentLoaders.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+		if (isDefaultTopLevelLoaderFactorySet())
+		{
+			marshaller.writeAttribute("defaultTopLevelLoaderFactory", defaultTopLevelLoaderFactory);
+		}
+
+		if (isDefaultDependentLoaderFactorySet())
+		{
+			marshaller.writeAttribute("defaultDependentLoaderFactory", defaultDependentLoaderFactory);
+		}
+
+		if (isDefaultDependentLoaderHelperFactorySet())
+		{
+			marshaller.writeAttribute("defaultDependentLoaderHelperFactory", defaultDependentLoaderHelperFactory);
+		}
+
+		if (isThreadsPerDbServerSet())
+		{
+			marshaller.writeAttribute("threadsPerDbServer", threadsPerDbServer);
+		}
+
+		if (isSyslogCheckThresholdSet())
+		{
+			marshaller.writeAttribute("syslogCheckThreshold", syslogCheckThreshold);
+		}
+
+		if (isSyslogCheckWaitTimeSet())
+		{
+			marshaller.writeAttribute("syslogCheckWaitTime", syslogCheckWaitTime);
+		}
+
+		if (isReportedSlowSQLTimeSet())
+		{
+			marshaller.writeAttribute("reportedSlowSQLTime", reportedSlowSQLTime);
+		}
+
+		if (isReportedSlowSQLPerRowTimeSet())
+		{
+			marshaller.writeAttribute("reportedSlowSQLPerRowTime", reportedSlowSQLPerRowTime);
+		}
+
+		if (isCaptureLoadingTaskDetailsSet())
+		{
+			marshaller.writeAttribute("captureLoadingTaskDetails", captureLoadingTaskDetails);
+		}
+	}
+
+	protected void marshallContent(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+		if (isTopLevelLoadersSet())
+		{
+			for(TopLevelLoaderType topLevelLoader: this.topLevelLoaders)
+			{
+				topLevelLoader.toXml(marshaller, "TopLevelLoader");
+			}
+		}
+
+		if (isDependentLoadersSet())
+		{
+			for(DependentLoaderType dependentLoader: this.dependentLoaders)
+			{
+				dependentLoader.toXml(marshaller, "DependentLoader");
+			}
+		}
+	}
+
+	public void toXml(MithraCacheLoaderMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
@@ -0,0 +1,330 @@
+package com.gs.fw.common.mithra.cacheloader.xmlbinding;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class DependentLoaderTypeAbstract implements java.io.Serializable
+{
+	private String factoryClass ;
+	private String helperFactoryClass ;
+	private String classToLoad ;
+	private String relationship ;
+	private String sourceAttributes ;
+	private List<ParamType> params = MithraCacheLoaderUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraCacheLoaderUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+		params = (List<ParamType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraCacheLoaderUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in DependentLoaderType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type DependentLoaderType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Param"))
+		{
+			return 1;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraCacheLoaderUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Param"))
+		{
+			ParamType _param = new ParamType();
+			_param.parse(unmarshaller, "Param");
+			_param._setParent(this);
+			this.getParams().add(_param);
+		}
+	}
+
+	protected void parseAttributes(MithraCacheLoaderUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraCacheLoaderUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("factoryClass"))
+		{
+			this.setFactoryClass(unmarshaller.toToken("factoryClass", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("helperFactoryClass"))
+		{
+			this.setHelperFactoryClass(unmarshaller.toToken("helperFactoryClass", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("classToLoad"))
+		{
+			this.setClassToLoad(unmarshaller.toToken("classToLoad", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("relationship"))
+		{
+			this.setRelationship(unmarshaller.toToken("relationship", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("sourceAttributes"))
+		{
+			this.setSourceAttributes(unmarshaller.toToken("sourceAttributes", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraCacheLoaderUnmarshaller unmarshaller)
+	{
+		if (!isRelationshipSet())
+		{
+			unmarshaller.throwException("Attribute 'relationship' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getFactoryClass()
+	{
+		return this.factoryClass;
+	}
+
+	public void setFactoryClass(String factoryClass)
+	{
+		this.factoryClass = factoryClass;
+	}
+
+	public boolean isFactoryClassSet()
+	{
+		return factoryClass != null;
+	}
+
+	public void unsetFactoryClass()
+	{
+		factoryClass = null;
+	}
+
+	public String getHelperFactoryClass()
+	{
+		return this.helperFactoryClass;
+	}
+
+	public void setHelperFactoryClass(String helperFactoryClass)
+	{
+		this.helperFactoryClass = helperFactoryClass;
+	}
+
+	public boolean isHelperFactoryClassSet()
+	{
+		return helperFactoryClass != null;
+	}
+
+	public void unsetHelperFactoryClass()
+	{
+		helperFactoryClass = null;
+	}
+
+	public String getClassToLoad()
+	{
+		return this.classToLoad;
+	}
+
+	public void setClassToLoad(String classToLoad)
+	{
+		this.classToLoad = classToLoad;
+	}
+
+	public boolean isClassToLoadSet()
+	{
+		return classToLoad != null;
+	}
+
+	public void unsetClassToLoad()
+	{
+		classToLoad = null;
+	}
+
+	public String getRelationship()
+	{
+		return this.relationship;
+	}
+
+	public void setRelationship(String relationship)
+	{
+		this.relationship = relationship;
+	}
+
+	public boolean isRelationshipSet()
+	{
+		return relationship != null;
+	}
+
+	public void unsetRelationship()
+	{
+		relationship = null;
+	}
+
+	public String getSourceAttributes()
+	{
+		return this.sourceAttributes;
+	}
+
+	public void setSourceAttributes(String sourceAttributes)
+	{
+		this.sourceAttributes = sourceAttributes;
+	}
+
+	public boolean isSourceAttributesSet()
+	{
+		return sourceAttributes != null;
+	}
+
+	public void unsetSourceAttributes()
+	{
+		sourceAttributes = null;
+	}
+
+	public List<ParamType> getParams()
+	{
+		return this.params;
+	}
+
+	public void setParams(List<ParamType> params)
+	{
+		this.params = params;
+	}
+
+	public boolean isParamsSet()
+	{
+		return params != null && params.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+		if (isFactoryClassSet())
+		{
+			marshaller.writeAttribute("factoryClass", factoryClass);
+		}
+
+		if (isHelperFactoryClassSet())
+		{
+			marshaller.writeAttribute("helperFactoryClass", helperFactoryClass);
+		}
+
+		if (isClassToLoadSet())
+		{
+			marshaller.writeAttribute("classToLoad", classToLoad);
+		}
+
+		if (isRelationshipSet())
+		{
+			marshaller.writeAttribute("relationship", relationship);
+		}
+
+		if (isSourceAttributesSet())
+		{
+			marshaller.writeAttribute("sourceAttributes", sourceAttributes);
+		}
+	}
+
+	protected void marshallContent(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraCacheLoaderMarshaller marshaller) throws IOException
+	{
+		if (isParamsSet())
+		{
+			for(ParamType param: this.params)
+			{
+				param.toXml(marshaller, "Param");
+			}
+		}
+	}
+
+	public void toXml(MithraCacheLoaderMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
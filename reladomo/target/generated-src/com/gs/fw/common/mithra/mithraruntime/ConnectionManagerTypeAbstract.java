@@ -0,0 +1,555 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ConnectionManagerTypeAbstract implements java.io.Serializable
+{
+	private String className ;
+	private long replicationPollingInterval = 300000;
+	private boolean _isReplicationPollingIntervalSet;
+	private boolean useMultiUpdate = true;
+	private boolean _isUseMultiUpdateSet;
+	private boolean threeTierExport = true;
+	private boolean _isThreeTierExportSet;
+	private boolean offHeapReplicationExport = true;
+	private boolean _isOffHeapReplicationExportSet;
+	private int initialLoaderThreads = 1;
+	private boolean _isInitialLoaderThreadsSet;
+	private String loadOperationProvider ;
+	private String replicationSchemaName ;
+	private List<PropertyType> properties = MithraRuntimeUnmarshaller.emptyList();
+	private List<MithraObjectConfigurationType> mithraObjectConfigurations = MithraRuntimeUnmarshaller.emptyList();
+	private List<MithraTemporaryObjectConfigurationType> mithraTemporaryObjectConfigurations = MithraRuntimeUnmarshaller.emptyList();
+	private List<SchemaType> schemas = MithraRuntimeUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		properties = (List<PropertyType>) unmarshaller.newList();
+		mithraObjectConfigurations = (List<MithraObjectConfigurationType>) unmarshaller.newList();
+		mithraTemporaryObjectConfigurations = (List<MithraTemporaryObjectConfigurationType>) unmarshaller.newList();
+		schemas = (List<SchemaType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in ConnectionManagerType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type ConnectionManagerType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Property"))
+		{
+			return 1;
+		}
+
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			return 2;
+		}
+
+		if (elementName.equals("MithraTemporaryObjectConfiguration"))
+		{
+			return 3;
+		}
+
+		if (elementName.equals("Schema"))
+		{
+			return 4;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraRuntimeUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Property"))
+		{
+			PropertyType _property = new PropertyType();
+			_property.parse(unmarshaller, "Property");
+			_property._setParent(this);
+			this.getProperties().add(_property);
+		}
+
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			MithraObjectConfigurationType _mithraObjectConfiguration = new MithraObjectConfigurationType();
+			_mithraObjectConfiguration.parse(unmarshaller, "MithraObjectConfiguration");
+			_mithraObjectConfiguration._setParent(this);
+			this.getMithraObjectConfigurations().add(_mithraObjectConfiguration);
+		}
+
+		if (elementName.equals("MithraTemporaryObjectConfiguration"))
+		{
+			MithraTemporaryObjectConfigurationType _mithraTemporaryObjectConfiguration = new MithraTemporaryObjectConfigurationType();
+			_mithraTemporaryObjectConfiguration.parse(unmarshaller, "MithraTemporaryObjectConfiguration");
+			_mithraTemporaryObjectConfiguration._setParent(this);
+			this.getMithraTemporaryObjectConfigurations().add(_mithraTemporaryObjectConfiguration);
+		}
+
+		if (elementName.equals("Schema"))
+		{
+			SchemaType _schema = new SchemaType();
+			_schema.parse(unmarshaller, "Schema");
+			_schema._setParent(this);
+			this.getSchemas().add(_schema);
+		}
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("className"))
+		{
+			this.setClassName(unmarshaller.toToken("className", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("replicationPollingInterval"))
+		{
+			this.setReplicationPollingInterval(unmarshaller.parseLong("replicationPollingInterval", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("useMultiUpdate"))
+		{
+			this.setUseMultiUpdate(unmarshaller.parseBoolean("useMultiUpdate", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("threeTierExport"))
+		{
+			this.setThreeTierExport(unmarshaller.parseBoolean("threeTierExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapReplicationExport"))
+		{
+			this.setOffHeapReplicationExport(unmarshaller.parseBoolean("offHeapReplicationExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("initialLoaderThreads"))
+		{
+			this.setInitialLoaderThreads(unmarshaller.parseInt("initialLoaderThreads", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("loadOperationProvider"))
+		{
+			this.setLoadOperationProvider(unmarshaller.toToken("loadOperationProvider", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("replicationSchemaName"))
+		{
+			this.setReplicationSchemaName(unmarshaller.toToken("replicationSchemaName", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isClassNameSet())
+		{
+			unmarshaller.throwException("Attribute 'className' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getClassName()
+	{
+		return this.className;
+	}
+
+	public void setClassName(String className)
+	{
+		this.className = className;
+	}
+
+	public boolean isClassNameSet()
+	{
+		return className != null;
+	}
+
+	public void unsetClassName()
+	{
+		className = null;
+	}
+
+	public long getReplicationPollingInterval()
+	{
+		return this.replicationPollingInterval;
+	}
+
+	public void setReplicationPollingInterval(long replicationPollingInterval)
+	{
+		this.replicationPollingInterval = replicationPollingInterval;
+		this._isReplicationPollingIntervalSet = true;
+	}
+
+	public boolean isReplicationPollingIntervalSet()
+	{
+		return _isReplicationPollingIntervalSet;
+	}
+
+	public void unsetReplicationPollingInterval()
+	{
+		_isReplicationPollingIntervalSet = false;
+		replicationPollingInterval = 300000;
+	}
+
+	public boolean isUseMultiUpdate()
+	{
+		return this.useMultiUpdate;
+	}
+
+	public void setUseMultiUpdate(boolean useMultiUpdate)
+	{
+		this.useMultiUpdate = useMultiUpdate;
+		this._isUseMultiUpdateSet = true;
+	}
+
+	public boolean isUseMultiUpdateSet()
+	{
+		return _isUseMultiUpdateSet;
+	}
+
+	public void unsetUseMultiUpdate()
+	{
+		_isUseMultiUpdateSet = false;
+		useMultiUpdate = true;
+	}
+
+	public boolean isThreeTierExport()
+	{
+		return this.threeTierExport;
+	}
+
+	public void setThreeTierExport(boolean threeTierExport)
+	{
+		this.threeTierExport = threeTierExport;
+		this._isThreeTierExportSet = true;
+	}
+
+	public boolean isThreeTierExportSet()
+	{
+		return _isThreeTierExportSet;
+	}
+
+	public void unsetThreeTierExport()
+	{
+		_isThreeTierExportSet = false;
+		threeTierExport = true;
+	}
+
+	public boolean isOffHeapReplicationExport()
+	{
+		return this.offHeapReplicationExport;
+	}
+
+	public void setOffHeapReplicationExport(boolean offHeapReplicationExport)
+	{
+		this.offHeapReplicationExport = offHeapReplicationExport;
+		this._isOffHeapReplicationExportSet = true;
+	}
+
+	public boolean isOffHeapReplicationExportSet()
+	{
+		return _isOffHeapReplicationExportSet;
+	}
+
+	public void unsetOffHeapReplicationExport()
+	{
+		_isOffHeapReplicationExportSet = false;
+		offHeapReplicationExport = true;
+	}
+
+	public int getInitialLoaderThreads()
+	{
+		return this.initialLoaderThreads;
+	}
+
+	public void setInitialLoaderThreads(int initialLoaderThreads)
+	{
+		this.initialLoaderThreads = initialLoaderThreads;
+		this._isInitialLoaderThreadsSet = true;
+	}
+
+	public boolean isInitialLoaderThreadsSet()
+	{
+		return _isInitialLoaderThreadsSet;
+	}
+
+	public void unsetInitialLoaderThreads()
+	{
+		_isInitialLoaderThreadsSet = false;
+		initialLoaderThreads = 1;
+	}
+
+	public String getLoadOperationProvider()
+	{
+		return this.loadOperationProvider;
+	}
+
+	public void setLoadOperationProvider(String loadOperationProvider)
+	{
+		this.loadOperationProvider = loadOperationProvider;
+	}
+
+	public boolean isLoadOperationProviderSet()
+	{
+		return loadOperationProvider != null;
+	}
+
+	public void unsetLoadOperationProvider()
+	{
+		loadOperationProvider = null;
+	}
+
+	public String getReplicationSchemaName()
+	{
+		return this.replicationSchemaName;
+	}
+
+	public void setReplicationSchemaName(String replicationSchemaName)
+	{
+		this.replicationSchemaName = replicationSchemaName;
+	}
+
+	public boolean isReplicationSchemaNameSet()
+	{
+		return replicationSchemaName != null;
+	}
+
+	public void unsetReplicationSchemaName()
+	{
+		replicationSchemaName = null;
+	}
+
+	public List<PropertyType> getProperties()
+	{
+		return this.properties;
+	}
+
+	public void setProperties(List<PropertyType> properties)
+	{
+		this.properties = properties;
+	}
+
+	public boolean isPropertiesSet()
+	{
+		return properties != null && properties.size() > 0;
+	}
+
+	public List<MithraObjectConfigurationType> getMithraObjectConfigurations()
+	{
+		return this.mithraObjectConfigurations;
+	}
+
+	public void setMithraObjectConfigurations(List<MithraObjectConfigurationType> mithraObjectConfigurations)
+	{
+		this.mithraObjectConfigurations = mithraObjectConfigurations;
+	}
+
+	public boolean isMithraObjectConfigurationsSet()
+	{
+		return mithraObjectConfigurations != null && mithraObjectConfigurations.size() > 0;
+	}
+
+	public List<MithraTemporaryObjectConfigurationType> getMithraTemporaryObjectConfigurations()
+	{
+		return this.mithraTemporaryObjectConfigurations;
+	}
+
+	public void setMithraTemporaryObjectConfigurations(List<MithraTemporaryObjectConfigurationType> mithraTemporaryObjectConfigurations)
+	{
+		this.mithraTemporaryObjectConfigurations = mithraTemporaryObjectConfigurations;
+	}
+
+	public boolean isMithraTemporaryObjectConfigurationsSet()
+	{
+		return mithraTemporaryObjectConfigurations != null && mithraTemporaryObjectConfigurations.size() > 0;
+	}
+
+	public List<SchemaType> getSchemas()
+	{
+		return this.schemas;
+	}
+
+	public void setSchemas(List<SchemaType> schemas)
+	{
+		this.schemas = schemas;
+	}
+
+	public boolean isSchemasSet()
+	{
+		return schemas != null && schemas.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isClassNameSet())
+		{
+			marshaller.writeAttribute("className", className);
+		}
+
+		if (isReplicationPollingIntervalSet())
+		{
+			marshaller.writeAttribute("replicationPollingInterval", replicationPollingInterval);
+		}
+
+		if (isUseMultiUpdateSet())
+		{
+			marshaller.writeAttribute("useMultiUpdate", useMultiUpdate);
+		}
+
+		if (isThreeTierExportSet())
+		{
+			marshaller.writeAttribute("threeTierExport", threeTierExport);
+		}
+
+		if (isOffHeapReplicationExportSet())
+		{
+			marshaller.writeAttribute("offHeapReplicationExport", offHeapReplicationExport);
+		}
+
+		if (isInitialLoaderThreadsSet())
+		{
+			marshaller.writeAttribute("initialLoaderThreads", initialLoaderThreads);
+		}
+
+		if (isLoadOperationProviderSet())
+		{
+			marshaller.writeAttribute("loadOperationProvider", loadOperationProvider);
+		}
+
+		if (isReplicationSchemaNameSet())
+		{
+			marshaller.writeAttribute("replicationSchemaName", replicationSchemaName);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isPropertiesSet())
+		{
+			for(PropertyType property: this.properties)
+			{
+				property.toXml(marshaller, "Property");
+			}
+		}
+
+		if (isMithraObjectConfigurationsSet())
+		{
+			for(MithraObjectConfigurationType mithraObjectConfiguration: this.mithraObjectConfigurations)
+			{
+				mithraObjectConfiguration.toXml(marshaller, "MithraObjectConfiguration");
+			}
+		}
+
+		if (isMithraTemporaryObjectConfigurationsSet())
+		{
+			for(MithraTemporaryObjectConfigurationType mithraTemporaryObjectConfiguration: this.mithraTemporaryObjectConfigurations)
+			{
+				mithraTemporaryObjectConfiguration.toXml(marshaller, "MithraTemporaryObjectConfiguration");
+			}
+		}
+
+		if (isSchemasSet())
+		{
+			for(SchemaType schema: this.schemas)
+			{
+				schema.toXml(marshaller, "Schema");
+			}
+		}
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
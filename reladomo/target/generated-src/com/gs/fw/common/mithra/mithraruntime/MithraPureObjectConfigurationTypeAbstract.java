@@ -0,0 +1,325 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MithraPureObjectConfigurationTypeAbstract implements java.io.Serializable
+{
+	private String className ;
+	private boolean offHeapFullCache = false;
+	private boolean _isOffHeapFullCacheSet;
+	private String factoryParameter ;
+	private int relationshipCacheSize ;
+	private boolean _isRelationshipCacheSizeSet;
+	private int minQueriesToKeep ;
+	private boolean _isMinQueriesToKeepSet;
+	private boolean threeTierExport = true;
+	private boolean _isThreeTierExportSet;
+	private boolean offHeapReplicationExport = true;
+	private boolean _isOffHeapReplicationExportSet;
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		unmarshaller.skipToEndOfElement(typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("className"))
+		{
+			this.setClassName(unmarshaller.toToken("className", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapFullCache"))
+		{
+			this.setOffHeapFullCache(unmarshaller.parseBoolean("offHeapFullCache", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("factoryParameter"))
+		{
+			this.setFactoryParameter(unmarshaller.toToken("factoryParameter", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("relationshipCacheSize"))
+		{
+			this.setRelationshipCacheSize(unmarshaller.parseInt("relationshipCacheSize", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("minQueriesToKeep"))
+		{
+			this.setMinQueriesToKeep(unmarshaller.parseInt("minQueriesToKeep", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("threeTierExport"))
+		{
+			this.setThreeTierExport(unmarshaller.parseBoolean("threeTierExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapReplicationExport"))
+		{
+			this.setOffHeapReplicationExport(unmarshaller.parseBoolean("offHeapReplicationExport", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isClassNameSet())
+		{
+			unmarshaller.throwException("Attribute 'className' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getClassName()
+	{
+		return this.className;
+	}
+
+	public void setClassName(String className)
+	{
+		this.className = className;
+	}
+
+	public boolean isClassNameSet()
+	{
+		return className != null;
+	}
+
+	public void unsetClassName()
+	{
+		className = null;
+	}
+
+	public boolean isOffHeapFullCache()
+	{
+		return this.offHeapFullCache;
+	}
+
+	public void setOffHeapFullCache(boolean offHeapFullCache)
+	{
+		this.offHeapFullCache = offHeapFullCache;
+		this._isOffHeapFullCacheSet = true;
+	}
+
+	public boolean isOffHeapFullCacheSet()
+	{
+		return _isOffHeapFullCacheSet;
+	}
+
+	public void unsetOffHeapFullCache()
+	{
+		_isOffHeapFullCacheSet = false;
+		offHeapFullCache = false;
+	}
+
+	public String getFactoryParameter()
+	{
+		return this.factoryParameter;
+	}
+
+	public void setFactoryParameter(String factoryParameter)
+	{
+		this.factoryParameter = factoryParameter;
+	}
+
+	public boolean isFactoryParameterSet()
+	{
+		return factoryParameter != null;
+	}
+
+	public void unsetFactoryParameter()
+	{
+		factoryParameter = null;
+	}
+
+	public int getRelationshipCacheSize()
+	{
+		return this.relationshipCacheSize;
+	}
+
+	public void setRelationshipCacheSize(int relationshipCacheSize)
+	{
+		this.relationshipCacheSize = relationshipCacheSize;
+		this._isRelationshipCacheSizeSet = true;
+	}
+
+	public boolean isRelationshipCacheSizeSet()
+	{
+		return _isRelationshipCacheSizeSet;
+	}
+
+	public void unsetRelationshipCacheSize()
+	{
+		_isRelationshipCacheSizeSet = false;
+		relationshipCacheSize = 0;
+	}
+
+	public int getMinQueriesToKeep()
+	{
+		return this.minQueriesToKeep;
+	}
+
+	public void setMinQueriesToKeep(int minQueriesToKeep)
+	{
+		this.minQueriesToKeep = minQueriesToKeep;
+		this._isMinQueriesToKeepSet = true;
+	}
+
+	public boolean isMinQueriesToKeepSet()
+	{
+		return _isMinQueriesToKeepSet;
+	}
+
+	public void unsetMinQueriesToKeep()
+	{
+		_isMinQueriesToKeepSet = false;
+		minQueriesToKeep = 0;
+	}
+
+	public boolean isThreeTierExport()
+	{
+		return this.threeTierExport;
+	}
+
+	public void setThreeTierExport(boolean threeTierExport)
+	{
+		this.threeTierExport = threeTierExport;
+		this._isThreeTierExportSet = true;
+	}
+
+	public boolean isThreeTierExportSet()
+	{
+		return _isThreeTierExportSet;
+	}
+
+	public void unsetThreeTierExport()
+	{
+		_isThreeTierExportSet = false;
+		threeTierExport = true;
+	}
+
+	public boolean isOffHeapReplicationExport()
+	{
+		return this.offHeapReplicationExport;
+	}
+
+	public void setOffHeapReplicationExport(boolean offHeapReplicationExport)
+	{
+		this.offHeapReplicationExport = offHeapReplicationExport;
+		this._isOffHeapReplicationExportSet = true;
+	}
+
+	public boolean isOffHeapReplicationExportSet()
+	{
+		return _isOffHeapReplicationExportSet;
+	}
+
+	public void unsetOffHeapReplicationExport()
+	{
+		_isOffHeapReplicationExportSet = false;
+		offHeapReplicationExport = true;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isClassNameSet())
+		{
+			marshaller.writeAttribute("className", className);
+		}
+
+		if (isOffHeapFullCacheSet())
+		{
+			marshaller.writeAttribute("offHeapFullCache", offHeapFullCache);
+		}
+
+		if (isFactoryParameterSet())
+		{
+			marshaller.writeAttribute("factoryParameter", factoryParameter);
+		}
+
+		if (isRelationshipCacheSizeSet())
+		{
+			marshaller.writeAttribute("relationshipCacheSize", relationshipCacheSize);
+		}
+
+		if (isMinQueriesToKeepSet())
+		{
+			marshaller.writeAttribute("minQueriesToKeep", minQueriesToKeep);
+		}
+
+		if (isThreeTierExportSet())
+		{
+			marshaller.writeAttribute("threeTierExport", threeTierExport);
+		}
+
+		if (isOffHeapReplicationExportSet())
+		{
+			marshaller.writeAttribute("offHeapReplicationExport", offHeapReplicationExport);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
@@ -0,0 +1,23 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.List;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MithraRuntimeAbstract extends MithraRuntimeType
+{
+	public void toXml(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		this.toXml(marshaller, "MithraRuntime");
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		super.parseAttribute(unmarshaller,attributeName,attributeValue);
+		return true;
+	}
+}
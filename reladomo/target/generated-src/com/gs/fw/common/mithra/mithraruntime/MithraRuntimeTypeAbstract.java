@@ -0,0 +1,417 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class MithraRuntimeTypeAbstract implements java.io.Serializable
+{
+	private int defaultRelationshipCacheSize = 10000;
+	private boolean _isDefaultRelationshipCacheSizeSet;
+	private int defaultMinQueriesToKeep = 32;
+	private boolean _isDefaultMinQueriesToKeepSet;
+	private long defaultCacheTimeToLive = 0;
+	private boolean _isDefaultCacheTimeToLiveSet;
+	private long defaultRelationshipCacheTimeToLive = 0;
+	private boolean _isDefaultRelationshipCacheTimeToLiveSet;
+	private List<ConnectionManagerType> connectionManagers = MithraRuntimeUnmarshaller.emptyList();
+	private List<RemoteServerType> remoteServers = MithraRuntimeUnmarshaller.emptyList();
+	private List<MasterCacheReplicationServerType> masterCacheReplicationServers = MithraRuntimeUnmarshaller.emptyList();
+	private PureObjectsType pureObjects ;
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		connectionManagers = (List<ConnectionManagerType>) unmarshaller.newList();
+		remoteServers = (List<RemoteServerType>) unmarshaller.newList();
+		masterCacheReplicationServers = (List<MasterCacheReplicationServerType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in MithraRuntimeType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type MithraRuntimeType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("ConnectionManager"))
+		{
+			return 1;
+		}
+
+		if (elementName.equals("RemoteServer"))
+		{
+			return 2;
+		}
+
+		if (elementName.equals("MasterCacheReplicationServer"))
+		{
+			return 3;
+		}
+
+		if (elementName.equals("PureObjects"))
+		{
+			return 4;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraRuntimeUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("ConnectionManager"))
+		{
+			ConnectionManagerType _connectionManager = new ConnectionManagerType();
+			_connectionManager.parse(unmarshaller, "ConnectionManager");
+			_connectionManager._setParent(this);
+			this.getConnectionManagers().add(_connectionManager);
+		}
+
+		if (elementName.equals("RemoteServer"))
+		{
+			RemoteServerType _remoteServer = new RemoteServerType();
+			_remoteServer.parse(unmarshaller, "RemoteServer");
+			_remoteServer._setParent(this);
+			this.getRemoteServers().add(_remoteServer);
+		}
+
+		if (elementName.equals("MasterCacheReplicationServer"))
+		{
+			MasterCacheReplicationServerType _masterCacheReplicationServer = new MasterCacheReplicationServerType();
+			_masterCacheReplicationServer.parse(unmarshaller, "MasterCacheReplicationServer");
+			_masterCacheReplicationServer._setParent(this);
+			this.getMasterCacheReplicationServers().add(_masterCacheReplicationServer);
+		}
+
+		if (elementName.equals("PureObjects"))
+		{
+			if (!this.isPureObjectsSet())
+			{
+				PureObjectsType _pureObjects = new PureObjectsType();
+				_pureObjects.parse(unmarshaller, "PureObjects");
+				_pureObjects._setParent(this);
+				this.setPureObjects(_pureObjects);
+			}
+			else
+			{
+				unmarshaller.throwException("too many occurrences of element PureObjects in type MithraRuntimeType. Max occurrences is 1");
+			}
+		}
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("defaultRelationshipCacheSize"))
+		{
+			this.setDefaultRelationshipCacheSize(unmarshaller.parseInt("defaultRelationshipCacheSize", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("defaultMinQueriesToKeep"))
+		{
+			this.setDefaultMinQueriesToKeep(unmarshaller.parseInt("defaultMinQueriesToKeep", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("defaultCacheTimeToLive"))
+		{
+			this.setDefaultCacheTimeToLive(unmarshaller.parseLong("defaultCacheTimeToLive", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("defaultRelationshipCacheTimeToLive"))
+		{
+			this.setDefaultRelationshipCacheTimeToLive(unmarshaller.parseLong("defaultRelationshipCacheTimeToLive", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	public int getDefaultRelationshipCacheSize()
+	{
+		return this.defaultRelationshipCacheSize;
+	}
+
+	public void setDefaultRelationshipCacheSize(int defaultRelationshipCacheSize)
+	{
+		this.defaultRelationshipCacheSize = defaultRelationshipCacheSize;
+		this._isDefaultRelationshipCacheSizeSet = true;
+	}
+
+	public boolean isDefaultRelationshipCacheSizeSet()
+	{
+		return _isDefaultRelationshipCacheSizeSet;
+	}
+
+	public void unsetDefaultRelationshipCacheSize()
+	{
+		_isDefaultRelationshipCacheSizeSet = false;
+		defaultRelationshipCacheSize = 10000;
+	}
+
+	public int getDefaultMinQueriesToKeep()
+	{
+		return this.defaultMinQueriesToKeep;
+	}
+
+	public void setDefaultMinQueriesToKeep(int defaultMinQueriesToKeep)
+	{
+		this.defaultMinQueriesToKeep = defaultMinQueriesToKeep;
+		this._isDefaultMinQueriesToKeepSet = true;
+	}
+
+	public boolean isDefaultMinQueriesToKeepSet()
+	{
+		return _isDefaultMinQueriesToKeepSet;
+	}
+
+	public void unsetDefaultMinQueriesToKeep()
+	{
+		_isDefaultMinQueriesToKeepSet = false;
+		defaultMinQueriesToKeep = 32;
+	}
+
+	public long getDefaultCacheTimeToLive()
+	{
+		return this.defaultCacheTimeToLive;
+	}
+
+	public void setDefaultCacheTimeToLive(long defaultCacheTimeToLive)
+	{
+		this.defaultCacheTimeToLive = defaultCacheTimeToLive;
+		this._isDefaultCacheTimeToLiveSet = true;
+	}
+
+	public boolean isDefaultCacheTimeToLiveSet()
+	{
+		return _isDefaultCacheTimeToLiveSet;
+	}
+
+	public void unsetDefaultCacheTimeToLive()
+	{
+		_isDefaultCacheTimeToLiveSet = false;
+		defaultCacheTimeToLive = 0;
+	}
+
+	public long getDefaultRelationshipCacheTimeToLive()
+	{
+		return this.defaultRelationshipCacheTimeToLive;
+	}
+
+	public void setDefaultRelationshipCacheTimeToLive(long defaultRelationshipCacheTimeToLive)
+	{
+		this.defaultRelationshipCacheTimeToLive = defaultRelationshipCacheTimeToLive;
+		this._isDefaultRelationshipCacheTimeToLiveSet = true;
+	}
+
+	public boolean isDefaultRelationshipCacheTimeToLiveSet()
+	{
+		return _isDefaultRelationshipCacheTimeToLiveSet;
+	}
+
+	public void unsetDefaultRelationshipCacheTimeToLive()
+	{
+		_isDefaultRelationshipCacheTimeToLiveSet = false;
+		defaultRelationshipCacheTimeToLive = 0;
+	}
+
+	public List<ConnectionManagerType> getConnectionManagers()
+	{
+		return this.connectionManagers;
+	}
+
+	public void setConnectionManagers(List<ConnectionManagerType> connectionManagers)
+	{
+		this.connectionManagers = connectionManagers;
+	}
+
+	public boolean isConnectionManagersSet()
+	{
+		return connectionManagers != null && connectionManagers.size() > 0;
+	}
+
+	public List<RemoteServerType> getRemoteServers()
+	{
+		return this.remoteServers;
+	}
+
+	public void setRemoteServers(List<RemoteServerType> remoteServers)
+	{
+		this.remoteServers = remoteServers;
+	}
+
+	public boolean isRemoteServersSet()
+	{
+		return remoteServers != null && remoteServers.size() > 0;
+	}
+
+	public List<MasterCacheReplicationServerType> getMasterCacheReplicationServers()
+	{
+		return this.masterCacheReplicationServers;
+	}
+
+	public void setMasterCacheReplicationServers(List<MasterCacheReplicationServerType> masterCacheReplicationServers)
+	{
+		this.masterCacheReplicationServers = masterCacheReplicationServers;
+	}
+
+	public boolean isMasterCacheReplicationServersSet()
+	{
+		return masterCacheReplicationServers != null && masterCacheReplicationServers.size() > 0;
+	}
+
+	public PureObjectsType getPureObjects()
+	{
+		return this.pureObjects;
+	}
+
+	public void setPureObjects(PureObjectsType pureObjects)
+	{
+		this.pureObjects = pureObjects;
+	}
+
+	public boolean isPureObjectsSet()
+	{
+		return pureObjects != null;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isDefaultRelationshipCacheSizeSet())
+		{
+			marshaller.writeAttribute("defaultRelationshipCacheSize", defaultRelationshipCacheSize);
+		}
+
+		if (isDefaultMinQueriesToKeepSet())
+		{
+			marshaller.writeAttribute("defaultMinQueriesToKeep", defaultMinQueriesToKeep);
+		}
+
+		if (isDefaultCacheTimeToLiveSet())
+		{
+			marshaller.writeAttribute("defaultCacheTimeToLive", defaultCacheTimeToLive);
+		}
+
+		if (isDefaultRelationshipCacheTimeToLiveSet())
+		{
+			marshaller.writeAttribute("defaultRelationshipCacheTimeToLive", defaultRelationshipCacheTimeToLive);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isConnectionManagersSet())
+		{
+			for(ConnectionManagerType connectionManager: this.connectionManagers)
+			{
+				connectionManager.toXml(marshaller, "ConnectionManager");
+			}
+		}
+
+		if (isRemoteServersSet())
+		{
+			for(RemoteServerType remoteServer: this.remoteServers)
+			{
+				remoteServer.toXml(marshaller, "RemoteServer");
+			}
+		}
+
+		if (isMasterCacheReplicationServersSet())
+		{
+			for(MasterCacheReplicationServerType masterCacheReplicationServer: this.masterCacheReplicationServers)
+			{
+				masterCacheReplicationServer.toXml(marshaller, "MasterCacheReplicationServer");
+			}
+		}
+
+		if (isPureObjectsSet())
+		{
+			pureObjects.toXml(marshaller, "PureObjects");
+		}
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
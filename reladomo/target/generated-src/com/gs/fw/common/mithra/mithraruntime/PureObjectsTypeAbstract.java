@@ -0,0 +1,272 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class PureObjectsTypeAbstract implements java.io.Serializable
+{
+	private boolean threeTierExport = true;
+	private boolean _isThreeTierExportSet;
+	private boolean offHeapReplicationExport = true;
+	private boolean _isOffHeapReplicationExportSet;
+	private String notificationIdentifier ;
+	private List<MithraPureObjectConfigurationType> mithraObjectConfigurations = MithraRuntimeUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		mithraObjectConfigurations = (List<MithraPureObjectConfigurationType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in PureObjectsType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type PureObjectsType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			return 1;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraRuntimeUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			MithraPureObjectConfigurationType _mithraObjectConfiguration = new MithraPureObjectConfigurationType();
+			_mithraObjectConfiguration.parse(unmarshaller, "MithraObjectConfiguration");
+			_mithraObjectConfiguration._setParent(this);
+			this.getMithraObjectConfigurations().add(_mithraObjectConfiguration);
+		}
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("threeTierExport"))
+		{
+			this.setThreeTierExport(unmarshaller.parseBoolean("threeTierExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("offHeapReplicationExport"))
+		{
+			this.setOffHeapReplicationExport(unmarshaller.parseBoolean("offHeapReplicationExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("notificationIdentifier"))
+		{
+			this.setNotificationIdentifier(unmarshaller.toToken("notificationIdentifier", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isNotificationIdentifierSet())
+		{
+			unmarshaller.throwException("Attribute 'notificationIdentifier' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public boolean isThreeTierExport()
+	{
+		return this.threeTierExport;
+	}
+
+	public void setThreeTierExport(boolean threeTierExport)
+	{
+		this.threeTierExport = threeTierExport;
+		this._isThreeTierExportSet = true;
+	}
+
+	public boolean isThreeTierExportSet()
+	{
+		return _isThreeTierExportSet;
+	}
+
+	public void unsetThreeTierExport()
+	{
+		_isThreeTierExportSet = false;
+		threeTierExport = true;
+	}
+
+	public boolean isOffHeapReplicationExport()
+	{
+		return this.offHeapReplicationExport;
+	}
+
+	public void setOffHeapReplicationExport(boolean offHeapReplicationExport)
+	{
+		this.offHeapReplicationExport = offHeapReplicationExport;
+		this._isOffHeapReplicationExportSet = true;
+	}
+
+	public boolean isOffHeapReplicationExportSet()
+	{
+		return _isOffHeapReplicationExportSet;
+	}
+
+	public void unsetOffHeapReplicationExport()
+	{
+		_isOffHeapReplicationExportSet = false;
+		offHeapReplicationExport = true;
+	}
+
+	public String getNotificationIdentifier()
+	{
+		return this.notificationIdentifier;
+	}
+
+	public void setNotificationIdentifier(String notificationIdentifier)
+	{
+		this.notificationIdentifier = notificationIdentifier;
+	}
+
+	public boolean isNotificationIdentifierSet()
+	{
+		return notificationIdentifier != null;
+	}
+
+	public void unsetNotificationIdentifier()
+	{
+		notificationIdentifier = null;
+	}
+
+	public List<MithraPureObjectConfigurationType> getMithraObjectConfigurations()
+	{
+		return this.mithraObjectConfigurations;
+	}
+
+	public void setMithraObjectConfigurations(List<MithraPureObjectConfigurationType> mithraObjectConfigurations)
+	{
+		this.mithraObjectConfigurations = mithraObjectConfigurations;
+	}
+
+	public boolean isMithraObjectConfigurationsSet()
+	{
+		return mithraObjectConfigurations != null && mithraObjectConfigurations.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isThreeTierExportSet())
+		{
+			marshaller.writeAttribute("threeTierExport", threeTierExport);
+		}
+
+		if (isOffHeapReplicationExportSet())
+		{
+			marshaller.writeAttribute("offHeapReplicationExport", offHeapReplicationExport);
+		}
+
+		if (isNotificationIdentifierSet())
+		{
+			marshaller.writeAttribute("notificationIdentifier", notificationIdentifier);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isMithraObjectConfigurationsSet())
+		{
+			for(MithraPureObjectConfigurationType mithraObjectConfiguration: this.mithraObjectConfigurations)
+			{
+				mithraObjectConfiguration.toXml(marshaller, "MithraObjectConfiguration");
+			}
+		}
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
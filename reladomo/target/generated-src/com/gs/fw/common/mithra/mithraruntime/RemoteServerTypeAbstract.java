@@ -0,0 +1,380 @@
+package com.gs.fw.common.mithra.mithraruntime;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+/**
+* This file was automatically generated using FreyaXml 1.5.0. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class RemoteServerTypeAbstract implements java.io.Serializable
+{
+	private String className ;
+	private int overrideRelationshipCacheSize = 10000;
+	private boolean _isOverrideRelationshipCacheSizeSet;
+	private int overrideMinQueriesToKeep = 32;
+	private boolean _isOverrideMinQueriesToKeepSet;
+	private boolean threeTierExport = false;
+	private boolean _isThreeTierExportSet;
+	private int initialLoaderThreads = 1;
+	private boolean _isInitialLoaderThreadsSet;
+	private List<PropertyType> properties = MithraRuntimeUnmarshaller.emptyList();
+	private List<MithraObjectConfigurationType> mithraObjectConfigurations = MithraRuntimeUnmarshaller.emptyList();
+	private Object _parent;
+	public Object parent()
+	{
+		return this._parent;
+	}
+
+	public void _setParent(Object parent)
+	{
+		this._parent = parent;
+	}
+
+	public void parse(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.parseAttributes(unmarshaller);
+		this.parseElements(unmarshaller, typeName);
+	}
+
+	protected void initListElements(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		properties = (List<PropertyType>) unmarshaller.newList();
+		mithraObjectConfigurations = (List<MithraObjectConfigurationType>) unmarshaller.newList();
+	}
+
+	protected void parseElements(MithraRuntimeUnmarshaller unmarshaller, String typeName) throws XMLStreamException
+	{
+		this.initListElements(unmarshaller);
+		int eventType = unmarshaller.getNextStartOrEnd();
+		if (!unmarshaller.isAtEnd(eventType, typeName))
+		{
+			XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+			int currentElementState = Integer.MAX_VALUE;
+			int state = 0;
+			while(eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				String elementName = xmlStreamReader.getLocalName();
+				currentElementState = getState(elementName);
+				if(state <= currentElementState)
+				{
+					if (state < 0)
+					{
+						unmarshaller.throwException("unexpected element in RemoteServerType: "+elementName);
+					}
+				}
+				else
+				{
+					unmarshaller.throwException("element out of order " + elementName + " in type RemoteServerType");
+				}
+
+				parseElement(unmarshaller, state, elementName);
+				state = currentElementState;
+				eventType = unmarshaller.getNextStartOrEnd();
+			}
+
+			unmarshaller.expectEnd(eventType, typeName);
+			checkListMinOccurs(unmarshaller);
+		}
+	}
+
+	protected void checkListMinOccurs(MithraRuntimeUnmarshaller unmarshaller)
+	{
+	}
+
+	protected int getState(String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Property"))
+		{
+			return 1;
+		}
+
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			return 2;
+		}
+
+		return -1;
+	}
+
+	protected void parseElement(MithraRuntimeUnmarshaller unmarshaller, int state, String elementName) throws XMLStreamException
+	{
+		if (elementName.equals("Property"))
+		{
+			PropertyType _property = new PropertyType();
+			_property.parse(unmarshaller, "Property");
+			_property._setParent(this);
+			this.getProperties().add(_property);
+		}
+
+		if (elementName.equals("MithraObjectConfiguration"))
+		{
+			MithraObjectConfigurationType _mithraObjectConfiguration = new MithraObjectConfigurationType();
+			_mithraObjectConfiguration.parse(unmarshaller, "MithraObjectConfiguration");
+			_mithraObjectConfiguration._setParent(this);
+			this.getMithraObjectConfigurations().add(_mithraObjectConfiguration);
+		}
+	}
+
+	protected void parseAttributes(MithraRuntimeUnmarshaller unmarshaller) throws XMLStreamException
+	{
+		XMLStreamReader xmlStreamReader = unmarshaller.getXmlStreamReader();
+		int attributes = xmlStreamReader.getAttributeCount();
+		for(int i=0;i<attributes;i++)
+		{
+			String attributeName = xmlStreamReader.getAttributeName(i).getLocalPart();
+			String attributeValue = xmlStreamReader.getAttributeValue(i);
+			if (!parseAttribute(unmarshaller, attributeName, attributeValue))
+			{
+				unmarshaller.unknownAttribute(attributeName, attributeValue);
+			}
+		}
+
+		checkMandatoryAttributes(unmarshaller);
+	}
+
+	protected boolean parseAttribute(MithraRuntimeUnmarshaller unmarshaller, String attributeName, String attributeValue) throws XMLStreamException
+	{
+		if (attributeName.equals("className"))
+		{
+			this.setClassName(unmarshaller.toToken("className", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("overrideRelationshipCacheSize"))
+		{
+			this.setOverrideRelationshipCacheSize(unmarshaller.parseInt("overrideRelationshipCacheSize", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("overrideMinQueriesToKeep"))
+		{
+			this.setOverrideMinQueriesToKeep(unmarshaller.parseInt("overrideMinQueriesToKeep", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("threeTierExport"))
+		{
+			this.setThreeTierExport(unmarshaller.parseBoolean("threeTierExport", attributeValue));
+			return true;
+		}
+
+		if (attributeName.equals("initialLoaderThreads"))
+		{
+			this.setInitialLoaderThreads(unmarshaller.parseInt("initialLoaderThreads", attributeValue));
+			return true;
+		}
+
+		return false;
+	}
+
+	protected void checkMandatoryAttributes(MithraRuntimeUnmarshaller unmarshaller)
+	{
+		if (!isClassNameSet())
+		{
+			unmarshaller.throwException("Attribute 'className' is not set in element '"+this.getClass().getName()+"'");
+		}
+	}
+
+	public String getClassName()
+	{
+		return this.className;
+	}
+
+	public void setClassName(String className)
+	{
+		this.className = className;
+	}
+
+	public boolean isClassNameSet()
+	{
+		return className != null;
+	}
+
+	public void unsetClassName()
+	{
+		className = null;
+	}
+
+	public int getOverrideRelationshipCacheSize()
+	{
+		return this.overrideRelationshipCacheSize;
+	}
+
+	public void setOverrideRelationshipCacheSize(int overrideRelationshipCacheSize)
+	{
+		this.overrideRelationshipCacheSize = overrideRelationshipCacheSize;
+		this._isOverrideRelationshipCacheSizeSet = true;
+	}
+
+	public boolean isOverrideRelationshipCacheSizeSet()
+	{
+		return _isOverrideRelationshipCacheSizeSet;
+	}
+
+	public void unsetOverrideRelationshipCacheSize()
+	{
+		_isOverrideRelationshipCacheSizeSet = false;
+		overrideRelationshipCacheSize = 10000;
+	}
+
+	public int getOverrideMinQueriesToKeep()
+	{
+		return this.overrideMinQueriesToKeep;
+	}
+
+	public void setOverrideMinQueriesToKeep(int overrideMinQueriesToKeep)
+	{
+		this.overrideMinQueriesToKeep = overrideMinQueriesToKeep;
+		this._isOverrideMinQueriesToKeepSet = true;
+	}
+
+	public boolean isOverrideMinQueriesToKeepSet()
+	{
+		return _isOverrideMinQueriesToKeepSet;
+	}
+
+	public void unsetOverrideMinQueriesToKeep()
+	{
+		_isOverrideMinQueriesToKeepSet = false;
+		overrideMinQueriesToKeep = 32;
+	}
+
+	public boolean isThreeTierExport()
+	{
+		return this.threeTierExport;
+	}
+
+	public void setThreeTierExport(boolean threeTierExport)
+	{
+		this.threeTierExport = threeTierExport;
+		this._isThreeTierExportSet = true;
+	}
+
+	public boolean isThreeTierExportSet()
+	{
+		return _isThreeTierExportSet;
+	}
+
+	public void unsetThreeTierExport()
+	{
+		_isThreeTierExportSet = false;
+		threeTierExport = false;
+	}
+
+	public int getInitialLoaderThreads()
+	{
+		return this.initialLoaderThreads;
+	}
+
+	public void setInitialLoaderThreads(int initialLoaderThreads)
+	{
+		this.initialLoaderThreads = initialLoaderThreads;
+		this._isInitialLoaderThreadsSet = true;
+	}
+
+	public boolean isInitialLoaderThreadsSet()
+	{
+		return _isInitialLoaderThreadsSet;
+	}
+
+	public void unsetInitialLoaderThreads()
+	{
+		_isInitialLoaderThreadsSet = false;
+		initialLoaderThreads = 1;
+	}
+
+	public List<PropertyType> getProperties()
+	{
+		return this.properties;
+	}
+
+	public void setProperties(List<PropertyType> properties)
+	{
+		this.properties = properties;
+	}
+
+	public boolean isPropertiesSet()
+	{
+		return properties != null && properties.size() > 0;
+	}
+
+	public List<MithraObjectConfigurationType> getMithraObjectConfigurations()
+	{
+		return this.mithraObjectConfigurations;
+	}
+
+	public void setMithraObjectConfigurations(List<MithraObjectConfigurationType> mithraObjectConfigurations)
+	{
+		this.mithraObjectConfigurations = mithraObjectConfigurations;
+	}
+
+	public boolean isMithraObjectConfigurationsSet()
+	{
+		return mithraObjectConfigurations != null && mithraObjectConfigurations.size() > 0;
+	}
+
+	protected void marshallAttributes(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isClassNameSet())
+		{
+			marshaller.writeAttribute("className", className);
+		}
+
+		if (isOverrideRelationshipCacheSizeSet())
+		{
+			marshaller.writeAttribute("overrideRelationshipCacheSize", overrideRelationshipCacheSize);
+		}
+
+		if (isOverrideMinQueriesToKeepSet())
+		{
+			marshaller.writeAttribute("overrideMinQueriesToKeep", overrideMinQueriesToKeep);
+		}
+
+		if (isThreeTierExportSet())
+		{
+			marshaller.writeAttribute("threeTierExport", threeTierExport);
+		}
+
+		if (isInitialLoaderThreadsSet())
+		{
+			marshaller.writeAttribute("initialLoaderThreads", initialLoaderThreads);
+		}
+	}
+
+	protected void marshallContent(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+	}
+
+	protected void marshallElements(MithraRuntimeMarshaller marshaller) throws IOException
+	{
+		if (isPropertiesSet())
+		{
+			for(PropertyType property: this.properties)
+			{
+				property.toXml(marshaller, "Property");
+			}
+		}
+
+		if (isMithraObjectConfigurationsSet())
+		{
+			for(MithraObjectConfigurationType mithraObjectConfiguration: this.mithraObjectConfigurations)
+			{
+				mithraObjectConfiguration.toXml(marshaller, "MithraObjectConfiguration");
+			}
+		}
+	}
+
+	public void toXml(MithraRuntimeMarshaller marshaller, String tagName) throws IOException
+	{
+		marshaller.writeStartTag(tagName);
+		marshallAttributes(marshaller);
+		marshallContent(marshaller);
+		marshallElements(marshaller);
+		marshaller.writeEndTag(tagName);
+	}
+}
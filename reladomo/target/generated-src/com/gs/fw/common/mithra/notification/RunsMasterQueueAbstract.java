@@ -0,0 +1,322 @@
+package com.gs.fw.common.mithra.notification;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class RunsMasterQueueAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(RunsMasterQueue.class.getName());
+	public RunsMasterQueueAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public RunsMasterQueue getDetachedCopy() throws MithraBusinessException
+	{
+		return (RunsMasterQueue) super.getDetachedCopy();
+	}
+
+	public RunsMasterQueue getNonPersistentCopy() throws MithraBusinessException
+	{
+		RunsMasterQueue result = (RunsMasterQueue) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public RunsMasterQueue copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (RunsMasterQueue) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public RunsMasterQueue zFindOriginal()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.currentData;
+		Operation op;
+		op = RunsMasterQueueFinder.eventId().eq(data.getEventId());
+		op = op.and(RunsMasterQueueFinder.sourceId().eq(data.getSourceId()));
+		return RunsMasterQueueFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new RunsMasterQueueData();
+	}
+
+	protected void zSetFromRunsMasterQueueData( RunsMasterQueueData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromRunsMasterQueueData( RunsMasterQueueData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isEntityNull()
+	{
+		return ((RunsMasterQueueData) this.zSynchronizedGetData()).isEntityNull();
+	}
+
+	public String getEntity()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.zSynchronizedGetData();
+		return data.getEntity();
+	}
+
+	public void setEntity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'entity' cannot exceed maximum length of 64: " + newValue);
+		zSetString(RunsMasterQueueFinder.entity(), newValue, false, false );
+	}
+
+	public boolean isEventIdNull()
+	{
+		return ((RunsMasterQueueData) this.zSynchronizedGetData()).isEventIdNull();
+	}
+
+	public int getEventId()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.zSynchronizedGetData();
+		return data.getEventId();
+	}
+
+	public void setEventId(int newValue)
+	{
+		zSetInteger(RunsMasterQueueFinder.eventId(), newValue, true, false ,false);
+	}
+
+	public boolean isLastUpdateTimeNull()
+	{
+		return ((RunsMasterQueueData) this.zSynchronizedGetData()).isLastUpdateTimeNull();
+	}
+
+	public Timestamp getLastUpdateTime()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.zSynchronizedGetData();
+		return data.getLastUpdateTime();
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(RunsMasterQueueFinder.lastUpdateTime(), newValue, false, false );
+	}
+
+	public boolean isLastUpdateUserIdNull()
+	{
+		return ((RunsMasterQueueData) this.zSynchronizedGetData()).isLastUpdateUserIdNull();
+	}
+
+	public String getLastUpdateUserId()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.zSynchronizedGetData();
+		return data.getLastUpdateUserId();
+	}
+
+	public void setLastUpdateUserId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'lastUpdateUserId' cannot exceed maximum length of 30: " + newValue);
+		zSetString(RunsMasterQueueFinder.lastUpdateUserId(), newValue, false, false );
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return ((RunsMasterQueueData) this.zSynchronizedGetData()).isSourceIdNull();
+	}
+
+	public int getSourceId()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.zSynchronizedGetData();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(RunsMasterQueueFinder.sourceId(), newValue, false, false ,false);
+	}
+
+	public boolean isTranIdNull()
+	{
+		return ((RunsMasterQueueData) this.zSynchronizedGetData()).isTranIdNull();
+	}
+
+	public byte[] getTranId()
+	{
+		RunsMasterQueueData data = (RunsMasterQueueData) this.zSynchronizedGetData();
+		return data.getTranId();
+	}
+
+	public void setTranId(byte[] newValue)
+	{
+		zSetByteArray(RunsMasterQueueFinder.tranId(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		RunsMasterQueueData _newData = (RunsMasterQueueData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		RunsMasterQueueData _newData = (RunsMasterQueueData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RunsMasterQueueData _newData = (RunsMasterQueueData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public RunsMasterQueue zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RunsMasterQueue original = (RunsMasterQueue) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return RunsMasterQueueFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return RunsMasterQueueFinder.getMithraObjectPortal();
+	}
+
+	public RunsMasterQueue getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, RunsMasterQueueFinder.entity(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, RunsMasterQueueFinder.lastUpdateTime(), false);
+		changed |= zUpdateString(behavior, data, newData, RunsMasterQueueFinder.lastUpdateUserId(), false);
+		changed |= zUpdateByteArray(behavior, data, newData, RunsMasterQueueFinder.tranId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, RunsMasterQueueFinder.eventId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, RunsMasterQueueFinder.sourceId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		RunsMasterQueueAbstract result = (RunsMasterQueueAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,142 @@
+package com.gs.fw.common.mithra.notification;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class RunsMasterQueueListAbstract extends DelegatingList<RunsMasterQueue> implements MithraTransactionalList<RunsMasterQueue>
+{
+	public RunsMasterQueueListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public RunsMasterQueueListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public RunsMasterQueueListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public RunsMasterQueueListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public RunsMasterQueue[] elements()
+	{
+		RunsMasterQueue[] result = new RunsMasterQueue[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public RunsMasterQueueList intersection(RunsMasterQueueList another)
+	{
+		return (RunsMasterQueueList)super.intersection(another);
+	}
+
+	public RunsMasterQueue getRunsMasterQueueAt(int index)
+	{
+		return (RunsMasterQueue)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RunsMasterQueueFinder.getMithraObjectPortal();
+	}
+
+	public RunsMasterQueueList getNonPersistentCopy()
+	{
+		RunsMasterQueueList result = new RunsMasterQueueList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public RunsMasterQueueList asAdhoc()
+	{
+		return (RunsMasterQueueList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	public RunsMasterQueueList merge(MithraTransactionalList<RunsMasterQueue> incoming, TopLevelMergeOptions<RunsMasterQueue> mergeOptions)
+	{
+		return (RunsMasterQueueList) super.merge(incoming, mergeOptions);
+	}
+
+	public RunsMasterQueueList getDetachedCopy()
+	{
+		RunsMasterQueueList result = new RunsMasterQueueList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setEntity(String newValue)
+	{
+		zSetString(RunsMasterQueueFinder.entity(), newValue);
+	}
+
+	public void setEventId(int newValue)
+	{
+		zSetInteger(RunsMasterQueueFinder.eventId(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(RunsMasterQueueFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUpdateUserId(String newValue)
+	{
+		zSetString(RunsMasterQueueFinder.lastUpdateUserId(), newValue);
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(RunsMasterQueueFinder.sourceId(), newValue);
+	}
+
+	public void setTranId(byte[] newValue)
+	{
+		zSetByteArray(RunsMasterQueueFinder.tranId(), newValue);
+	}
+}
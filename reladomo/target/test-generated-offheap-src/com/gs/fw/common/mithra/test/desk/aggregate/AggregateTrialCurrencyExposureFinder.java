@@ -0,0 +1,2366 @@
+package com.gs.fw.common.mithra.test.desk.aggregate;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AggregateTrialCurrencyExposureFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/desk/aggregate/AggregateTrialCurrencyExposure";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposure";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposure");
+	private static final AggregateTrialCurrencyExposureSingleFinder<AggregateTrialCurrencyExposure, Object, AggregateTrialCurrencyExposure> finder = new AggregateTrialCurrencyExposureSingleFinder<AggregateTrialCurrencyExposure, Object, AggregateTrialCurrencyExposure>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AggregateTrialCurrencyExposureFinder.AggregateTrialCurrencyExposureRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("account9Digits");
+		finderMethodMap.addNormalAttributeName("positionType");
+		finderMethodMap.addNormalAttributeName("currency");
+		finderMethodMap.addNormalAttributeName("productCurrency");
+		finderMethodMap.addNormalAttributeName("dataLevel");
+		finderMethodMap.addNormalAttributeName("interestReceivable");
+		finderMethodMap.addNormalAttributeName("interestPayable");
+		finderMethodMap.addNormalAttributeName("interestIncome");
+		finderMethodMap.addNormalAttributeName("interestExpense");
+		finderMethodMap.addNormalAttributeName("interestBought");
+		finderMethodMap.addNormalAttributeName("interestSold");
+		finderMethodMap.addNormalAttributeName("interestReceivableDiscount");
+		finderMethodMap.addNormalAttributeName("interestPayableDiscount");
+		finderMethodMap.addNormalAttributeName("interestIncomeDiscount");
+		finderMethodMap.addNormalAttributeName("interestExpenseDiscount");
+		finderMethodMap.addNormalAttributeName("unrecAdjustmentInterest");
+		finderMethodMap.addNormalAttributeName("otherAdjustmentInterest");
+		finderMethodMap.addNormalAttributeName("costLong");
+		finderMethodMap.addNormalAttributeName("costShort");
+		finderMethodMap.addNormalAttributeName("marketValueLong");
+		finderMethodMap.addNormalAttributeName("marketValueShort");
+		finderMethodMap.addNormalAttributeName("futureMarketValueLong");
+		finderMethodMap.addNormalAttributeName("futureMarketValueShort");
+		finderMethodMap.addNormalAttributeName("trading");
+		finderMethodMap.addNormalAttributeName("realized");
+		finderMethodMap.addNormalAttributeName("unrealized");
+		finderMethodMap.addNormalAttributeName("futureRealized");
+		finderMethodMap.addNormalAttributeName("futureUnrealized");
+		finderMethodMap.addNormalAttributeName("currencyRealized");
+		finderMethodMap.addNormalAttributeName("currencyUnrealized");
+		finderMethodMap.addNormalAttributeName("unrealizedAdjustment");
+		finderMethodMap.addNormalAttributeName("miscellaneousUnrealizedAdjustment");
+		finderMethodMap.addNormalAttributeName("creditValuationAdjustment");
+		finderMethodMap.addNormalAttributeName("liquidityAdjustment");
+		finderMethodMap.addNormalAttributeName("npvAjustment");
+		finderMethodMap.addNormalAttributeName("modelAdjustment");
+		finderMethodMap.addNormalAttributeName("bidOfferAdjustment");
+		finderMethodMap.addNormalAttributeName("withholdingTaxAdjustment");
+		finderMethodMap.addNormalAttributeName("customerReceivableAdjustment");
+		finderMethodMap.addNormalAttributeName("customerPayableAdjustment");
+		finderMethodMap.addNormalAttributeName("marketVsHedgeAdjustment");
+		finderMethodMap.addNormalAttributeName("unobsPnlAdjustment");
+		finderMethodMap.addNormalAttributeName("realizedAdjustment");
+		finderMethodMap.addNormalAttributeName("otherRealized");
+		finderMethodMap.addNormalAttributeName("newBiz");
+		finderMethodMap.addNormalAttributeName("transferTax");
+		finderMethodMap.addNormalAttributeName("exchangeTax");
+		finderMethodMap.addNormalAttributeName("tradeFee");
+		finderMethodMap.addNormalAttributeName("cashDifference");
+		finderMethodMap.addNormalAttributeName("baseControl");
+		finderMethodMap.addNormalAttributeName("currencyPos");
+		finderMethodMap.addNormalAttributeName("expensePos");
+		finderMethodMap.addNormalAttributeName("futureRealizedNd");
+		finderMethodMap.addNormalAttributeName("futureOptPremND");
+		finderMethodMap.addNormalAttributeName("unsettledPurchaseInterest");
+		finderMethodMap.addNormalAttributeName("otherAdjustment");
+		finderMethodMap.addNormalAttributeName("pendingAccrualRealized");
+		finderMethodMap.addNormalAttributeName("expenseAccrual");
+		finderMethodMap.addNormalAttributeName("expensePayable");
+		finderMethodMap.addNormalAttributeName("otherUnrealizedAdjustment");
+		finderMethodMap.addNormalAttributeName("contractNpv");
+		finderMethodMap.addNormalAttributeName("valuationAdjustment");
+		finderMethodMap.addNormalAttributeName("fxRevaluationAdjustment");
+		finderMethodMap.addNormalAttributeName("dividendAccrualLong");
+		finderMethodMap.addNormalAttributeName("dividendAccrualShort");
+		finderMethodMap.addNormalAttributeName("netCost");
+		finderMethodMap.addNormalAttributeName("dividendPaidReceived");
+		finderMethodMap.addNormalAttributeName("fwdNewBiz");
+		finderMethodMap.addNormalAttributeName("fwdRollNewBiz");
+		finderMethodMap.addNormalAttributeName("mtm");
+		finderMethodMap.addNormalAttributeName("gmiUnrealized");
+		finderMethodMap.addNormalAttributeName("reserveMarketValue");
+		finderMethodMap.addNormalAttributeName("miscellaneousUnrealizedNbAdjustment");
+		finderMethodMap.addNormalAttributeName("npvNbAdjustment");
+		finderMethodMap.addNormalAttributeName("allocationPnl");
+		finderMethodMap.addNormalAttributeName("paydownPnl");
+		finderMethodMap.addNormalAttributeName("paydownLtdPnl");
+		finderMethodMap.addNormalAttributeName("otherPnl");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AggregateTrialCurrencyExposure findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AggregateTrialCurrencyExposure findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AggregateTrialCurrencyExposureList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AggregateTrialCurrencyExposureList) finder.findMany(operation);
+	}
+
+	public static AggregateTrialCurrencyExposureList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AggregateTrialCurrencyExposureList) finder.findManyBypassCache(operation);
+	}
+
+	private static AggregateTrialCurrencyExposure findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AggregateTrialCurrencyExposure) FinderUtils.findOne(found);
+	}
+
+	public static AggregateTrialCurrencyExposure findByPrimaryKey(int account9Digits, int positionType, String currency, String productCurrency)
+	{
+		return finder.findByPrimaryKey(account9Digits, positionType, currency, productCurrency);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AggregateTrialCurrencyExposureData _castedTargetData = (AggregateTrialCurrencyExposureData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getAccount9Digits() && _bean.getI2AsInteger() == _castedTargetData.getPositionType() && _bean.getO1AsString().equals(_castedTargetData.getCurrency()) && _bean.getO2AsString().equals(_castedTargetData.getProductCurrency()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getO1AsString())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.offHeapHash(_bean.getO1AsString())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static AggregateTrialCurrencyExposure zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AggregateTrialCurrencyExposure) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AggregateTrialCurrencyExposureRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AggregateTrialCurrencyExposure, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> account9Digits;
+		private IntegerAttribute<ParentOwnerType> positionType;
+		private StringAttribute<ParentOwnerType> currency;
+		private StringAttribute<ParentOwnerType> productCurrency;
+		private IntegerAttribute<ParentOwnerType> dataLevel;
+		private DoubleAttribute<ParentOwnerType> interestReceivable;
+		private DoubleAttribute<ParentOwnerType> interestPayable;
+		private DoubleAttribute<ParentOwnerType> interestIncome;
+		private DoubleAttribute<ParentOwnerType> interestExpense;
+		private DoubleAttribute<ParentOwnerType> interestBought;
+		private DoubleAttribute<ParentOwnerType> interestSold;
+		private DoubleAttribute<ParentOwnerType> interestReceivableDiscount;
+		private DoubleAttribute<ParentOwnerType> interestPayableDiscount;
+		private DoubleAttribute<ParentOwnerType> interestIncomeDiscount;
+		private DoubleAttribute<ParentOwnerType> interestExpenseDiscount;
+		private DoubleAttribute<ParentOwnerType> unrecAdjustmentInterest;
+		private DoubleAttribute<ParentOwnerType> otherAdjustmentInterest;
+		private DoubleAttribute<ParentOwnerType> costLong;
+		private DoubleAttribute<ParentOwnerType> costShort;
+		private DoubleAttribute<ParentOwnerType> marketValueLong;
+		private DoubleAttribute<ParentOwnerType> marketValueShort;
+		private DoubleAttribute<ParentOwnerType> futureMarketValueLong;
+		private DoubleAttribute<ParentOwnerType> futureMarketValueShort;
+		private DoubleAttribute<ParentOwnerType> trading;
+		private DoubleAttribute<ParentOwnerType> realized;
+		private DoubleAttribute<ParentOwnerType> unrealized;
+		private DoubleAttribute<ParentOwnerType> futureRealized;
+		private DoubleAttribute<ParentOwnerType> futureUnrealized;
+		private DoubleAttribute<ParentOwnerType> currencyRealized;
+		private DoubleAttribute<ParentOwnerType> currencyUnrealized;
+		private DoubleAttribute<ParentOwnerType> unrealizedAdjustment;
+		private DoubleAttribute<ParentOwnerType> miscellaneousUnrealizedAdjustment;
+		private DoubleAttribute<ParentOwnerType> creditValuationAdjustment;
+		private DoubleAttribute<ParentOwnerType> liquidityAdjustment;
+		private DoubleAttribute<ParentOwnerType> npvAjustment;
+		private DoubleAttribute<ParentOwnerType> modelAdjustment;
+		private DoubleAttribute<ParentOwnerType> bidOfferAdjustment;
+		private DoubleAttribute<ParentOwnerType> withholdingTaxAdjustment;
+		private DoubleAttribute<ParentOwnerType> customerReceivableAdjustment;
+		private DoubleAttribute<ParentOwnerType> customerPayableAdjustment;
+		private DoubleAttribute<ParentOwnerType> marketVsHedgeAdjustment;
+		private DoubleAttribute<ParentOwnerType> unobsPnlAdjustment;
+		private DoubleAttribute<ParentOwnerType> realizedAdjustment;
+		private DoubleAttribute<ParentOwnerType> otherRealized;
+		private DoubleAttribute<ParentOwnerType> newBiz;
+		private DoubleAttribute<ParentOwnerType> transferTax;
+		private DoubleAttribute<ParentOwnerType> exchangeTax;
+		private DoubleAttribute<ParentOwnerType> tradeFee;
+		private DoubleAttribute<ParentOwnerType> cashDifference;
+		private DoubleAttribute<ParentOwnerType> baseControl;
+		private DoubleAttribute<ParentOwnerType> currencyPos;
+		private DoubleAttribute<ParentOwnerType> expensePos;
+		private DoubleAttribute<ParentOwnerType> futureRealizedNd;
+		private DoubleAttribute<ParentOwnerType> futureOptPremND;
+		private DoubleAttribute<ParentOwnerType> unsettledPurchaseInterest;
+		private DoubleAttribute<ParentOwnerType> otherAdjustment;
+		private DoubleAttribute<ParentOwnerType> pendingAccrualRealized;
+		private DoubleAttribute<ParentOwnerType> expenseAccrual;
+		private DoubleAttribute<ParentOwnerType> expensePayable;
+		private DoubleAttribute<ParentOwnerType> otherUnrealizedAdjustment;
+		private DoubleAttribute<ParentOwnerType> contractNpv;
+		private DoubleAttribute<ParentOwnerType> valuationAdjustment;
+		private DoubleAttribute<ParentOwnerType> fxRevaluationAdjustment;
+		private DoubleAttribute<ParentOwnerType> dividendAccrualLong;
+		private DoubleAttribute<ParentOwnerType> dividendAccrualShort;
+		private DoubleAttribute<ParentOwnerType> netCost;
+		private DoubleAttribute<ParentOwnerType> dividendPaidReceived;
+		private DoubleAttribute<ParentOwnerType> fwdNewBiz;
+		private DoubleAttribute<ParentOwnerType> fwdRollNewBiz;
+		private DoubleAttribute<ParentOwnerType> mtm;
+		private DoubleAttribute<ParentOwnerType> gmiUnrealized;
+		private DoubleAttribute<ParentOwnerType> reserveMarketValue;
+		private DoubleAttribute<ParentOwnerType> miscellaneousUnrealizedNbAdjustment;
+		private DoubleAttribute<ParentOwnerType> npvNbAdjustment;
+		private DoubleAttribute<ParentOwnerType> allocationPnl;
+		private DoubleAttribute<ParentOwnerType> paydownPnl;
+		private DoubleAttribute<ParentOwnerType> paydownLtdPnl;
+		private DoubleAttribute<ParentOwnerType> otherPnl;
+		public AggregateTrialCurrencyExposureRelatedFinder()
+		{
+			super();
+		}
+
+		public AggregateTrialCurrencyExposureRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposureFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AggregateTrialCurrencyExposureFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AggregateTrialCurrencyExposureFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AggregateTrialCurrencyExposureFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[78];
+			attributes[0] = this.account9Digits();
+			attributes[1] = this.positionType();
+			attributes[2] = this.currency();
+			attributes[3] = this.productCurrency();
+			attributes[4] = this.dataLevel();
+			attributes[5] = this.interestReceivable();
+			attributes[6] = this.interestPayable();
+			attributes[7] = this.interestIncome();
+			attributes[8] = this.interestExpense();
+			attributes[9] = this.interestBought();
+			attributes[10] = this.interestSold();
+			attributes[11] = this.interestReceivableDiscount();
+			attributes[12] = this.interestPayableDiscount();
+			attributes[13] = this.interestIncomeDiscount();
+			attributes[14] = this.interestExpenseDiscount();
+			attributes[15] = this.unrecAdjustmentInterest();
+			attributes[16] = this.otherAdjustmentInterest();
+			attributes[17] = this.costLong();
+			attributes[18] = this.costShort();
+			attributes[19] = this.marketValueLong();
+			attributes[20] = this.marketValueShort();
+			attributes[21] = this.futureMarketValueLong();
+			attributes[22] = this.futureMarketValueShort();
+			attributes[23] = this.trading();
+			attributes[24] = this.realized();
+			attributes[25] = this.unrealized();
+			attributes[26] = this.futureRealized();
+			attributes[27] = this.futureUnrealized();
+			attributes[28] = this.currencyRealized();
+			attributes[29] = this.currencyUnrealized();
+			attributes[30] = this.unrealizedAdjustment();
+			attributes[31] = this.miscellaneousUnrealizedAdjustment();
+			attributes[32] = this.creditValuationAdjustment();
+			attributes[33] = this.liquidityAdjustment();
+			attributes[34] = this.npvAjustment();
+			attributes[35] = this.modelAdjustment();
+			attributes[36] = this.bidOfferAdjustment();
+			attributes[37] = this.withholdingTaxAdjustment();
+			attributes[38] = this.customerReceivableAdjustment();
+			attributes[39] = this.customerPayableAdjustment();
+			attributes[40] = this.marketVsHedgeAdjustment();
+			attributes[41] = this.unobsPnlAdjustment();
+			attributes[42] = this.realizedAdjustment();
+			attributes[43] = this.otherRealized();
+			attributes[44] = this.newBiz();
+			attributes[45] = this.transferTax();
+			attributes[46] = this.exchangeTax();
+			attributes[47] = this.tradeFee();
+			attributes[48] = this.cashDifference();
+			attributes[49] = this.baseControl();
+			attributes[50] = this.currencyPos();
+			attributes[51] = this.expensePos();
+			attributes[52] = this.futureRealizedNd();
+			attributes[53] = this.futureOptPremND();
+			attributes[54] = this.unsettledPurchaseInterest();
+			attributes[55] = this.otherAdjustment();
+			attributes[56] = this.pendingAccrualRealized();
+			attributes[57] = this.expenseAccrual();
+			attributes[58] = this.expensePayable();
+			attributes[59] = this.otherUnrealizedAdjustment();
+			attributes[60] = this.contractNpv();
+			attributes[61] = this.valuationAdjustment();
+			attributes[62] = this.fxRevaluationAdjustment();
+			attributes[63] = this.dividendAccrualLong();
+			attributes[64] = this.dividendAccrualShort();
+			attributes[65] = this.netCost();
+			attributes[66] = this.dividendPaidReceived();
+			attributes[67] = this.fwdNewBiz();
+			attributes[68] = this.fwdRollNewBiz();
+			attributes[69] = this.mtm();
+			attributes[70] = this.gmiUnrealized();
+			attributes[71] = this.reserveMarketValue();
+			attributes[72] = this.miscellaneousUnrealizedNbAdjustment();
+			attributes[73] = this.npvNbAdjustment();
+			attributes[74] = this.allocationPnl();
+			attributes[75] = this.paydownPnl();
+			attributes[76] = this.paydownLtdPnl();
+			attributes[77] = this.otherPnl();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AggregateTrialCurrencyExposure findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AggregateTrialCurrencyExposureFinder.findOne(operation, false);
+		}
+
+		public AggregateTrialCurrencyExposure findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AggregateTrialCurrencyExposureFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AggregateTrialCurrencyExposure> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AggregateTrialCurrencyExposureList((Operation) operation);
+		}
+
+		public MithraList<? extends AggregateTrialCurrencyExposure> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AggregateTrialCurrencyExposureList result = (AggregateTrialCurrencyExposureList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AggregateTrialCurrencyExposure> constructEmptyList()
+		{
+			return new AggregateTrialCurrencyExposureList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 351746143;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> account9Digits()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.account9Digits;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("GROUP_I","","account9Digits",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AggregateTrialCurrencyExposureFinder.account9Digits(), this.mapper, this.zGetValueSelector());
+				this.account9Digits = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> positionType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.positionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("POS_TYP_C","","positionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AggregateTrialCurrencyExposureFinder.positionType(), this.mapper, this.zGetValueSelector());
+				this.positionType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> currency()
+		{
+			StringAttribute<ParentOwnerType> result = this.currency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DENOM_CURR_C","","currency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(AggregateTrialCurrencyExposureFinder.currency(), this.mapper, this.zGetValueSelector());
+				this.currency = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productCurrency()
+		{
+			StringAttribute<ParentOwnerType> result = this.productCurrency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_CURR_C","","productCurrency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(AggregateTrialCurrencyExposureFinder.productCurrency(), this.mapper, this.zGetValueSelector());
+				this.productCurrency = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> dataLevel()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.dataLevel;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("VIEW_I","","dataLevel",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AggregateTrialCurrencyExposureFinder.dataLevel(), this.mapper, this.zGetValueSelector());
+				this.dataLevel = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestReceivable()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestReceivable;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_REC_M","","interestReceivable",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestReceivable(), this.mapper, this.zGetValueSelector());
+				this.interestReceivable = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestPayable()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestPayable;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_PAY_M","","interestPayable",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestPayable(), this.mapper, this.zGetValueSelector());
+				this.interestPayable = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestIncome()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestIncome;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_INC_M","","interestIncome",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestIncome(), this.mapper, this.zGetValueSelector());
+				this.interestIncome = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestExpense()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestExpense;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_EXP_M","","interestExpense",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestExpense(), this.mapper, this.zGetValueSelector());
+				this.interestExpense = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestBought()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestBought;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_BOUGHT_M","","interestBought",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestBought(), this.mapper, this.zGetValueSelector());
+				this.interestBought = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestSold()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestSold;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_SOLD_M","","interestSold",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestSold(), this.mapper, this.zGetValueSelector());
+				this.interestSold = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestReceivableDiscount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestReceivableDiscount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_REC_DISC_M","","interestReceivableDiscount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestReceivableDiscount(), this.mapper, this.zGetValueSelector());
+				this.interestReceivableDiscount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestPayableDiscount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestPayableDiscount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_PAY_DISC_M","","interestPayableDiscount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestPayableDiscount(), this.mapper, this.zGetValueSelector());
+				this.interestPayableDiscount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestIncomeDiscount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestIncomeDiscount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_INC_DISC_M","","interestIncomeDiscount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestIncomeDiscount(), this.mapper, this.zGetValueSelector());
+				this.interestIncomeDiscount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> interestExpenseDiscount()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.interestExpenseDiscount;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INT_EXP_DISC_M","","interestExpenseDiscount",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.interestExpenseDiscount(), this.mapper, this.zGetValueSelector());
+				this.interestExpenseDiscount = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unrecAdjustmentInterest()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unrecAdjustmentInterest;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ADJ_INT_UNREC_M","","unrecAdjustmentInterest",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.unrecAdjustmentInterest(), this.mapper, this.zGetValueSelector());
+				this.unrecAdjustmentInterest = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherAdjustmentInterest()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherAdjustmentInterest;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ADJ_INT_OTHER_M","","otherAdjustmentInterest",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.otherAdjustmentInterest(), this.mapper, this.zGetValueSelector());
+				this.otherAdjustmentInterest = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> costLong()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.costLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("COST_LG_M","","costLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.costLong(), this.mapper, this.zGetValueSelector());
+				this.costLong = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> costShort()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.costShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("COST_ST_M","","costShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.costShort(), this.mapper, this.zGetValueSelector());
+				this.costShort = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> marketValueLong()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.marketValueLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MKT_VAL_LG_M","","marketValueLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.marketValueLong(), this.mapper, this.zGetValueSelector());
+				this.marketValueLong = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> marketValueShort()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.marketValueShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MKT_VAL_ST_M","","marketValueShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.marketValueShort(), this.mapper, this.zGetValueSelector());
+				this.marketValueShort = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> futureMarketValueLong()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.futureMarketValueLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FUT_MKT_VAL_LG_M","","futureMarketValueLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.futureMarketValueLong(), this.mapper, this.zGetValueSelector());
+				this.futureMarketValueLong = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> futureMarketValueShort()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.futureMarketValueShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FUT_MKT_VAL_ST_M","","futureMarketValueShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.futureMarketValueShort(), this.mapper, this.zGetValueSelector());
+				this.futureMarketValueShort = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> trading()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.trading;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ECONOMIC_M","","trading",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.trading(), this.mapper, this.zGetValueSelector());
+				this.trading = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> realized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.realized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("REALIZED_M","","realized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.realized(), this.mapper, this.zGetValueSelector());
+				this.realized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unrealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unrealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNREALIZED_M","","unrealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.unrealized(), this.mapper, this.zGetValueSelector());
+				this.unrealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> futureRealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.futureRealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FUT_RLZD_M","","futureRealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.futureRealized(), this.mapper, this.zGetValueSelector());
+				this.futureRealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> futureUnrealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.futureUnrealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FUT_UNRLZD_M","","futureUnrealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.futureUnrealized(), this.mapper, this.zGetValueSelector());
+				this.futureUnrealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> currencyRealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.currencyRealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CURR_RLZD_M","","currencyRealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.currencyRealized(), this.mapper, this.zGetValueSelector());
+				this.currencyRealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> currencyUnrealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.currencyUnrealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CURR_UNRLZD_M","","currencyUnrealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.currencyUnrealized(), this.mapper, this.zGetValueSelector());
+				this.currencyUnrealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unrealizedAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unrealizedAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNREALIZED_ADJ_M","","unrealizedAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.unrealizedAdjustment(), this.mapper, this.zGetValueSelector());
+				this.unrealizedAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> miscellaneousUnrealizedAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.miscellaneousUnrealizedAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNREAL_MISC_ADJ_M","","miscellaneousUnrealizedAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedAdjustment(), this.mapper, this.zGetValueSelector());
+				this.miscellaneousUnrealizedAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> creditValuationAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.creditValuationAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CRED_VAL_ADJ_M","","creditValuationAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.creditValuationAdjustment(), this.mapper, this.zGetValueSelector());
+				this.creditValuationAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> liquidityAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.liquidityAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("LIQUIDITY_ADJ_M","","liquidityAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.liquidityAdjustment(), this.mapper, this.zGetValueSelector());
+				this.liquidityAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> npvAjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.npvAjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NPV_ADJ_M","","npvAjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.npvAjustment(), this.mapper, this.zGetValueSelector());
+				this.npvAjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> modelAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.modelAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MODEL_ADJ_M","","modelAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.modelAdjustment(), this.mapper, this.zGetValueSelector());
+				this.modelAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> bidOfferAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.bidOfferAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("BIDOFFER_ADJ_M","","bidOfferAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.bidOfferAdjustment(), this.mapper, this.zGetValueSelector());
+				this.bidOfferAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> withholdingTaxAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.withholdingTaxAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("WITHOLDINGTAX_ADJ_M","","withholdingTaxAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.withholdingTaxAdjustment(), this.mapper, this.zGetValueSelector());
+				this.withholdingTaxAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> customerReceivableAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.customerReceivableAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CUSTRECV_ADJ_M","","customerReceivableAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.customerReceivableAdjustment(), this.mapper, this.zGetValueSelector());
+				this.customerReceivableAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> customerPayableAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.customerPayableAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CUSTPAY_ADJ_M","","customerPayableAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.customerPayableAdjustment(), this.mapper, this.zGetValueSelector());
+				this.customerPayableAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> marketVsHedgeAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.marketVsHedgeAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MARKVSHEDGE_ADJ_M","","marketVsHedgeAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.marketVsHedgeAdjustment(), this.mapper, this.zGetValueSelector());
+				this.marketVsHedgeAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unobsPnlAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unobsPnlAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNOBSPNL_ADJ_M","","unobsPnlAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.unobsPnlAdjustment(), this.mapper, this.zGetValueSelector());
+				this.unobsPnlAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> realizedAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.realizedAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("REALIZED_ADJ_M","","realizedAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.realizedAdjustment(), this.mapper, this.zGetValueSelector());
+				this.realizedAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherRealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherRealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OTHER_RLZD_M","","otherRealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.otherRealized(), this.mapper, this.zGetValueSelector());
+				this.otherRealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> newBiz()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.newBiz;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NEW_BIZ_M","","newBiz",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.newBiz(), this.mapper, this.zGetValueSelector());
+				this.newBiz = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> transferTax()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.transferTax;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRANSFER_TAX_M","","transferTax",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.transferTax(), this.mapper, this.zGetValueSelector());
+				this.transferTax = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> exchangeTax()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.exchangeTax;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("EXCHANGE_TAX_M","","exchangeTax",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.exchangeTax(), this.mapper, this.zGetValueSelector());
+				this.exchangeTax = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> tradeFee()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.tradeFee;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRADE_FEE_M","","tradeFee",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.tradeFee(), this.mapper, this.zGetValueSelector());
+				this.tradeFee = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> cashDifference()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.cashDifference;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CASH_DIFF_M","","cashDifference",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.cashDifference(), this.mapper, this.zGetValueSelector());
+				this.cashDifference = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> baseControl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.baseControl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("BASE_CONTROL_M","","baseControl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.baseControl(), this.mapper, this.zGetValueSelector());
+				this.baseControl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> currencyPos()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.currencyPos;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CURR_POS_M","","currencyPos",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.currencyPos(), this.mapper, this.zGetValueSelector());
+				this.currencyPos = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> expensePos()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.expensePos;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("EXPENSE_POS_M","","expensePos",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.expensePos(), this.mapper, this.zGetValueSelector());
+				this.expensePos = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> futureRealizedNd()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.futureRealizedNd;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FUT_REAL_ND_M","","futureRealizedNd",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.futureRealizedNd(), this.mapper, this.zGetValueSelector());
+				this.futureRealizedNd = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> futureOptPremND()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.futureOptPremND;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FUT_OPTPREM_ND_M","","futureOptPremND",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.futureOptPremND(), this.mapper, this.zGetValueSelector());
+				this.futureOptPremND = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unsettledPurchaseInterest()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unsettledPurchaseInterest;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNSETL_PURCH_INT_M","","unsettledPurchaseInterest",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.unsettledPurchaseInterest(), this.mapper, this.zGetValueSelector());
+				this.unsettledPurchaseInterest = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OTHER_ADJ_M","","otherAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.otherAdjustment(), this.mapper, this.zGetValueSelector());
+				this.otherAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pendingAccrualRealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pendingAccrualRealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PND_ACC_REAL_M","","pendingAccrualRealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.pendingAccrualRealized(), this.mapper, this.zGetValueSelector());
+				this.pendingAccrualRealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> expenseAccrual()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.expenseAccrual;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("EXP_ACC_M","","expenseAccrual",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.expenseAccrual(), this.mapper, this.zGetValueSelector());
+				this.expenseAccrual = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> expensePayable()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.expensePayable;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("EXP_PAY_M","","expensePayable",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.expensePayable(), this.mapper, this.zGetValueSelector());
+				this.expensePayable = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherUnrealizedAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherUnrealizedAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OTHER_UNRLZD_ADJ_M","","otherUnrealizedAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.otherUnrealizedAdjustment(), this.mapper, this.zGetValueSelector());
+				this.otherUnrealizedAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> contractNpv()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.contractNpv;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CONTRACT_NPV_M","","contractNpv",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.contractNpv(), this.mapper, this.zGetValueSelector());
+				this.contractNpv = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> valuationAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.valuationAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("VAL_ADJ_M","","valuationAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.valuationAdjustment(), this.mapper, this.zGetValueSelector());
+				this.valuationAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fxRevaluationAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fxRevaluationAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FX_REVAL_ADJ_M","","fxRevaluationAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.fxRevaluationAdjustment(), this.mapper, this.zGetValueSelector());
+				this.fxRevaluationAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> dividendAccrualLong()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.dividendAccrualLong;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DIV_ACC_LG_M","","dividendAccrualLong",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.dividendAccrualLong(), this.mapper, this.zGetValueSelector());
+				this.dividendAccrualLong = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> dividendAccrualShort()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.dividendAccrualShort;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DIV_ACC_ST_M","","dividendAccrualShort",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.dividendAccrualShort(), this.mapper, this.zGetValueSelector());
+				this.dividendAccrualShort = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> netCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.netCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NET_COST_M","","netCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.netCost(), this.mapper, this.zGetValueSelector());
+				this.netCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> dividendPaidReceived()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.dividendPaidReceived;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DIV_PAID_RCVD_M","","dividendPaidReceived",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.dividendPaidReceived(), this.mapper, this.zGetValueSelector());
+				this.dividendPaidReceived = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fwdNewBiz()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fwdNewBiz;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FWD_NEW_BIZ_M","","fwdNewBiz",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.fwdNewBiz(), this.mapper, this.zGetValueSelector());
+				this.fwdNewBiz = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fwdRollNewBiz()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fwdRollNewBiz;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FWD_ROLL_NEW_BIZ_M","","fwdRollNewBiz",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.fwdRollNewBiz(), this.mapper, this.zGetValueSelector());
+				this.fwdRollNewBiz = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtm()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtm;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTM_M","","mtm",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.mtm(), this.mapper, this.zGetValueSelector());
+				this.mtm = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> gmiUnrealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.gmiUnrealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("GMI_UNRLZD_M","","gmiUnrealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.gmiUnrealized(), this.mapper, this.zGetValueSelector());
+				this.gmiUnrealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> reserveMarketValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.reserveMarketValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("RES_MKT_VAL_M","","reserveMarketValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.reserveMarketValue(), this.mapper, this.zGetValueSelector());
+				this.reserveMarketValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> miscellaneousUnrealizedNbAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.miscellaneousUnrealizedNbAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNREAL_MISC_NB_ADJ_M","","miscellaneousUnrealizedNbAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.miscellaneousUnrealizedNbAdjustment(), this.mapper, this.zGetValueSelector());
+				this.miscellaneousUnrealizedNbAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> npvNbAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.npvNbAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NPV_NB_ADJ_M","","npvNbAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.npvNbAdjustment(), this.mapper, this.zGetValueSelector());
+				this.npvNbAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> allocationPnl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.allocationPnl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ALLOC_PNL_M","","allocationPnl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.allocationPnl(), this.mapper, this.zGetValueSelector());
+				this.allocationPnl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> paydownPnl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.paydownPnl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PAYDWN_M","","paydownPnl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.paydownPnl(), this.mapper, this.zGetValueSelector());
+				this.paydownPnl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> paydownLtdPnl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.paydownLtdPnl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PAYDWN_LTD_M","","paydownLtdPnl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.paydownLtdPnl(), this.mapper, this.zGetValueSelector());
+				this.paydownLtdPnl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherPnl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherPnl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OTHR_PNL_M","","otherPnl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AggregateTrialCurrencyExposureFinder.otherPnl(), this.mapper, this.zGetValueSelector());
+				this.otherPnl = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AggregateTrialCurrencyExposureFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AggregateTrialCurrencyExposureFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AggregateTrialCurrencyExposureCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AggregateTrialCurrencyExposureRelatedFinder<ParentOwnerType, ReturnType, AggregateTrialCurrencyExposureList, OwnerType>
+	{
+		public AggregateTrialCurrencyExposureCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AggregateTrialCurrencyExposureCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AggregateTrialCurrencyExposureCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AggregateTrialCurrencyExposureCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AggregateTrialCurrencyExposureSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AggregateTrialCurrencyExposureRelatedFinder<ParentOwnerType, ReturnType, AggregateTrialCurrencyExposureList, OwnerType>
+	implements ToOneFinder
+	{
+		public AggregateTrialCurrencyExposureSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AggregateTrialCurrencyExposureSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AggregateTrialCurrencyExposure other)
+		{
+			return this.account9Digits().eq(other.getAccount9Digits())
+			.and(this.positionType().eq(other.getPositionType()))
+			.and(this.currency().eq(other.getCurrency()))
+			.and(this.productCurrency().eq(other.getProductCurrency()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AggregateTrialCurrencyExposure findByPrimaryKey(int account9Digits, int positionType, String currency, String productCurrency)
+		{
+			AggregateTrialCurrencyExposure _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (currency != null && productCurrency != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(account9Digits);
+				_bean.setI2AsInteger(positionType);
+				_bean.setO1(currency);
+				_bean.setO2(productCurrency);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AggregateTrialCurrencyExposure) _related;
+			if (_related == null)
+			{
+				_op = this.account9Digits().eq(account9Digits).and(this.positionType().eq(positionType)).and(this.currency().eq(currency)).and(this.productCurrency().eq(productCurrency));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AggregateTrialCurrencyExposureSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AggregateTrialCurrencyExposureSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AggregateTrialCurrencyExposureSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TAGTRIAL_CURR.GROUP_I **/
+	public static IntegerAttribute<AggregateTrialCurrencyExposure> account9Digits()
+	{
+		return finder.account9Digits();
+	}
+
+	/** maps to TAGTRIAL_CURR.POS_TYP_C **/
+	public static IntegerAttribute<AggregateTrialCurrencyExposure> positionType()
+	{
+		return finder.positionType();
+	}
+
+	/** maps to TAGTRIAL_CURR.DENOM_CURR_C **/
+	public static StringAttribute<AggregateTrialCurrencyExposure> currency()
+	{
+		return finder.currency();
+	}
+
+	/** maps to TAGTRIAL_CURR.PROD_CURR_C **/
+	public static StringAttribute<AggregateTrialCurrencyExposure> productCurrency()
+	{
+		return finder.productCurrency();
+	}
+
+	/** maps to TAGTRIAL_CURR.VIEW_I **/
+	public static IntegerAttribute<AggregateTrialCurrencyExposure> dataLevel()
+	{
+		return finder.dataLevel();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_REC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestReceivable()
+	{
+		return finder.interestReceivable();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_PAY_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestPayable()
+	{
+		return finder.interestPayable();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_INC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestIncome()
+	{
+		return finder.interestIncome();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_EXP_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestExpense()
+	{
+		return finder.interestExpense();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_BOUGHT_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestBought()
+	{
+		return finder.interestBought();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_SOLD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestSold()
+	{
+		return finder.interestSold();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_REC_DISC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestReceivableDiscount()
+	{
+		return finder.interestReceivableDiscount();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_PAY_DISC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestPayableDiscount()
+	{
+		return finder.interestPayableDiscount();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_INC_DISC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestIncomeDiscount()
+	{
+		return finder.interestIncomeDiscount();
+	}
+
+	/** maps to TAGTRIAL_CURR.INT_EXP_DISC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> interestExpenseDiscount()
+	{
+		return finder.interestExpenseDiscount();
+	}
+
+	/** maps to TAGTRIAL_CURR.ADJ_INT_UNREC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> unrecAdjustmentInterest()
+	{
+		return finder.unrecAdjustmentInterest();
+	}
+
+	/** maps to TAGTRIAL_CURR.ADJ_INT_OTHER_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> otherAdjustmentInterest()
+	{
+		return finder.otherAdjustmentInterest();
+	}
+
+	/** maps to TAGTRIAL_CURR.COST_LG_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> costLong()
+	{
+		return finder.costLong();
+	}
+
+	/** maps to TAGTRIAL_CURR.COST_ST_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> costShort()
+	{
+		return finder.costShort();
+	}
+
+	/** maps to TAGTRIAL_CURR.MKT_VAL_LG_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> marketValueLong()
+	{
+		return finder.marketValueLong();
+	}
+
+	/** maps to TAGTRIAL_CURR.MKT_VAL_ST_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> marketValueShort()
+	{
+		return finder.marketValueShort();
+	}
+
+	/** maps to TAGTRIAL_CURR.FUT_MKT_VAL_LG_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> futureMarketValueLong()
+	{
+		return finder.futureMarketValueLong();
+	}
+
+	/** maps to TAGTRIAL_CURR.FUT_MKT_VAL_ST_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> futureMarketValueShort()
+	{
+		return finder.futureMarketValueShort();
+	}
+
+	/** maps to TAGTRIAL_CURR.ECONOMIC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> trading()
+	{
+		return finder.trading();
+	}
+
+	/** maps to TAGTRIAL_CURR.REALIZED_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> realized()
+	{
+		return finder.realized();
+	}
+
+	/** maps to TAGTRIAL_CURR.UNREALIZED_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> unrealized()
+	{
+		return finder.unrealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.FUT_RLZD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> futureRealized()
+	{
+		return finder.futureRealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.FUT_UNRLZD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> futureUnrealized()
+	{
+		return finder.futureUnrealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.CURR_RLZD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> currencyRealized()
+	{
+		return finder.currencyRealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.CURR_UNRLZD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> currencyUnrealized()
+	{
+		return finder.currencyUnrealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.UNREALIZED_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> unrealizedAdjustment()
+	{
+		return finder.unrealizedAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.UNREAL_MISC_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> miscellaneousUnrealizedAdjustment()
+	{
+		return finder.miscellaneousUnrealizedAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.CRED_VAL_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> creditValuationAdjustment()
+	{
+		return finder.creditValuationAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.LIQUIDITY_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> liquidityAdjustment()
+	{
+		return finder.liquidityAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.NPV_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> npvAjustment()
+	{
+		return finder.npvAjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.MODEL_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> modelAdjustment()
+	{
+		return finder.modelAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.BIDOFFER_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> bidOfferAdjustment()
+	{
+		return finder.bidOfferAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.WITHOLDINGTAX_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> withholdingTaxAdjustment()
+	{
+		return finder.withholdingTaxAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.CUSTRECV_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> customerReceivableAdjustment()
+	{
+		return finder.customerReceivableAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.CUSTPAY_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> customerPayableAdjustment()
+	{
+		return finder.customerPayableAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.MARKVSHEDGE_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> marketVsHedgeAdjustment()
+	{
+		return finder.marketVsHedgeAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.UNOBSPNL_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> unobsPnlAdjustment()
+	{
+		return finder.unobsPnlAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.REALIZED_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> realizedAdjustment()
+	{
+		return finder.realizedAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.OTHER_RLZD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> otherRealized()
+	{
+		return finder.otherRealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.NEW_BIZ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> newBiz()
+	{
+		return finder.newBiz();
+	}
+
+	/** maps to TAGTRIAL_CURR.TRANSFER_TAX_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> transferTax()
+	{
+		return finder.transferTax();
+	}
+
+	/** maps to TAGTRIAL_CURR.EXCHANGE_TAX_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> exchangeTax()
+	{
+		return finder.exchangeTax();
+	}
+
+	/** maps to TAGTRIAL_CURR.TRADE_FEE_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> tradeFee()
+	{
+		return finder.tradeFee();
+	}
+
+	/** maps to TAGTRIAL_CURR.CASH_DIFF_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> cashDifference()
+	{
+		return finder.cashDifference();
+	}
+
+	/** maps to TAGTRIAL_CURR.BASE_CONTROL_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> baseControl()
+	{
+		return finder.baseControl();
+	}
+
+	/** maps to TAGTRIAL_CURR.CURR_POS_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> currencyPos()
+	{
+		return finder.currencyPos();
+	}
+
+	/** maps to TAGTRIAL_CURR.EXPENSE_POS_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> expensePos()
+	{
+		return finder.expensePos();
+	}
+
+	/** maps to TAGTRIAL_CURR.FUT_REAL_ND_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> futureRealizedNd()
+	{
+		return finder.futureRealizedNd();
+	}
+
+	/** maps to TAGTRIAL_CURR.FUT_OPTPREM_ND_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> futureOptPremND()
+	{
+		return finder.futureOptPremND();
+	}
+
+	/** maps to TAGTRIAL_CURR.UNSETL_PURCH_INT_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> unsettledPurchaseInterest()
+	{
+		return finder.unsettledPurchaseInterest();
+	}
+
+	/** maps to TAGTRIAL_CURR.OTHER_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> otherAdjustment()
+	{
+		return finder.otherAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.PND_ACC_REAL_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> pendingAccrualRealized()
+	{
+		return finder.pendingAccrualRealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.EXP_ACC_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> expenseAccrual()
+	{
+		return finder.expenseAccrual();
+	}
+
+	/** maps to TAGTRIAL_CURR.EXP_PAY_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> expensePayable()
+	{
+		return finder.expensePayable();
+	}
+
+	/** maps to TAGTRIAL_CURR.OTHER_UNRLZD_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> otherUnrealizedAdjustment()
+	{
+		return finder.otherUnrealizedAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.CONTRACT_NPV_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> contractNpv()
+	{
+		return finder.contractNpv();
+	}
+
+	/** maps to TAGTRIAL_CURR.VAL_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> valuationAdjustment()
+	{
+		return finder.valuationAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.FX_REVAL_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> fxRevaluationAdjustment()
+	{
+		return finder.fxRevaluationAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.DIV_ACC_LG_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> dividendAccrualLong()
+	{
+		return finder.dividendAccrualLong();
+	}
+
+	/** maps to TAGTRIAL_CURR.DIV_ACC_ST_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> dividendAccrualShort()
+	{
+		return finder.dividendAccrualShort();
+	}
+
+	/** maps to TAGTRIAL_CURR.NET_COST_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> netCost()
+	{
+		return finder.netCost();
+	}
+
+	/** maps to TAGTRIAL_CURR.DIV_PAID_RCVD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> dividendPaidReceived()
+	{
+		return finder.dividendPaidReceived();
+	}
+
+	/** maps to TAGTRIAL_CURR.FWD_NEW_BIZ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> fwdNewBiz()
+	{
+		return finder.fwdNewBiz();
+	}
+
+	/** maps to TAGTRIAL_CURR.FWD_ROLL_NEW_BIZ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> fwdRollNewBiz()
+	{
+		return finder.fwdRollNewBiz();
+	}
+
+	/** maps to TAGTRIAL_CURR.MTM_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> mtm()
+	{
+		return finder.mtm();
+	}
+
+	/** maps to TAGTRIAL_CURR.GMI_UNRLZD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> gmiUnrealized()
+	{
+		return finder.gmiUnrealized();
+	}
+
+	/** maps to TAGTRIAL_CURR.RES_MKT_VAL_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> reserveMarketValue()
+	{
+		return finder.reserveMarketValue();
+	}
+
+	/** maps to TAGTRIAL_CURR.UNREAL_MISC_NB_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> miscellaneousUnrealizedNbAdjustment()
+	{
+		return finder.miscellaneousUnrealizedNbAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.NPV_NB_ADJ_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> npvNbAdjustment()
+	{
+		return finder.npvNbAdjustment();
+	}
+
+	/** maps to TAGTRIAL_CURR.ALLOC_PNL_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> allocationPnl()
+	{
+		return finder.allocationPnl();
+	}
+
+	/** maps to TAGTRIAL_CURR.PAYDWN_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> paydownPnl()
+	{
+		return finder.paydownPnl();
+	}
+
+	/** maps to TAGTRIAL_CURR.PAYDWN_LTD_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> paydownLtdPnl()
+	{
+		return finder.paydownLtdPnl();
+	}
+
+	/** maps to TAGTRIAL_CURR.OTHR_PNL_M **/
+	public static DoubleAttribute<AggregateTrialCurrencyExposure> otherPnl()
+	{
+		return finder.otherPnl();
+	}
+
+	public static Operation eq(AggregateTrialCurrencyExposure other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(account9Digits());
+	}
+
+	public static AggregateTrialCurrencyExposureSingleFinder<AggregateTrialCurrencyExposure, Object, AggregateTrialCurrencyExposure> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			account9Digits()
+			, positionType()
+			, currency()
+			, productCurrency()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			account9Digits()
+			, account9Digits()
+			, positionType()
+			, currency()
+			, productCurrency()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[73];
+		result[0] = interestReceivable();
+		result[1] = interestPayable();
+		result[2] = interestIncome();
+		result[3] = interestExpense();
+		result[4] = interestBought();
+		result[5] = interestSold();
+		result[6] = interestReceivableDiscount();
+		result[7] = interestPayableDiscount();
+		result[8] = interestIncomeDiscount();
+		result[9] = interestExpenseDiscount();
+		result[10] = unrecAdjustmentInterest();
+		result[11] = otherAdjustmentInterest();
+		result[12] = costLong();
+		result[13] = costShort();
+		result[14] = marketValueLong();
+		result[15] = marketValueShort();
+		result[16] = futureMarketValueLong();
+		result[17] = futureMarketValueShort();
+		result[18] = trading();
+		result[19] = realized();
+		result[20] = unrealized();
+		result[21] = futureRealized();
+		result[22] = futureUnrealized();
+		result[23] = currencyRealized();
+		result[24] = currencyUnrealized();
+		result[25] = unrealizedAdjustment();
+		result[26] = miscellaneousUnrealizedAdjustment();
+		result[27] = creditValuationAdjustment();
+		result[28] = liquidityAdjustment();
+		result[29] = npvAjustment();
+		result[30] = modelAdjustment();
+		result[31] = bidOfferAdjustment();
+		result[32] = withholdingTaxAdjustment();
+		result[33] = customerReceivableAdjustment();
+		result[34] = customerPayableAdjustment();
+		result[35] = marketVsHedgeAdjustment();
+		result[36] = unobsPnlAdjustment();
+		result[37] = realizedAdjustment();
+		result[38] = otherRealized();
+		result[39] = newBiz();
+		result[40] = transferTax();
+		result[41] = exchangeTax();
+		result[42] = tradeFee();
+		result[43] = cashDifference();
+		result[44] = baseControl();
+		result[45] = currencyPos();
+		result[46] = expensePos();
+		result[47] = futureRealizedNd();
+		result[48] = futureOptPremND();
+		result[49] = unsettledPurchaseInterest();
+		result[50] = otherAdjustment();
+		result[51] = pendingAccrualRealized();
+		result[52] = expenseAccrual();
+		result[53] = expensePayable();
+		result[54] = otherUnrealizedAdjustment();
+		result[55] = contractNpv();
+		result[56] = valuationAdjustment();
+		result[57] = fxRevaluationAdjustment();
+		result[58] = dividendAccrualLong();
+		result[59] = dividendAccrualShort();
+		result[60] = netCost();
+		result[61] = dividendPaidReceived();
+		result[62] = fwdNewBiz();
+		result[63] = fwdRollNewBiz();
+		result[64] = mtm();
+		result[65] = gmiUnrealized();
+		result[66] = reserveMarketValue();
+		result[67] = miscellaneousUnrealizedNbAdjustment();
+		result[68] = npvNbAdjustment();
+		result[69] = allocationPnl();
+		result[70] = paydownPnl();
+		result[71] = paydownLtdPnl();
+		result[72] = otherPnl();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.desk.aggregate.AggregateTrialCurrencyExposure");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
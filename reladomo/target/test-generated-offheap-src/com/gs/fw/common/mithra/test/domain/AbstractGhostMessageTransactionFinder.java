@@ -0,0 +1,90 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.attribute.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AbstractGhostMessageTransactionFinder<Result extends AbstractGhostMessageTransaction> extends RelatedFinder<Result>
+{
+	public RelatedFinder getRelationshipFinderByName(String relationshipName);
+	public Attribute getAttributeByName(String attributeName);
+	public SourceAttributeType getSourceAttributeType();
+	public IntegerAttribute transactionId();
+	public StringAttribute transactionType();
+	public StringAttribute accountId();
+	public StringAttribute profitCenter();
+	public IntegerAttribute prodId();
+	public StringAttribute gsn();
+	public StringAttribute cusip();
+	public StringAttribute productIsinNumber();
+	public IntegerAttribute productHubReference();
+	public StringAttribute productCedelNumber();
+	public StringAttribute transactionBuySell();
+	public StringAttribute tradeDate();
+	public StringAttribute settleDate();
+	public StringAttribute transactionCurrency();
+	public DoubleAttribute transactionQuantity();
+	public StringAttribute transactionStatus();
+	public StringAttribute transactionActionCode();
+	public StringAttribute transactionRefNumber();
+	public StringAttribute matchTransactionRefNumber();
+	public DoubleAttribute transactionPrice();
+	public StringAttribute transactionCostCurrency();
+	public DoubleAttribute transactionCost();
+	public DoubleAttribute transactionCostBase();
+	public DoubleAttribute transactionPurInt();
+	public DoubleAttribute transactionPurIntBase();
+	public StringAttribute transactionSettleCurrency();
+	public DoubleAttribute transactionSettleAmount();
+	public DoubleAttribute transactionSettleBaseAmount();
+	public DoubleAttribute transactionDeductAmount();
+	public DoubleAttribute transactionDeductBaseAmount();
+	public DoubleAttribute transactionOrigFaceValue();
+	public StringAttribute transactionFactor();
+	public DoubleAttribute transactionXferTaxA();
+	public DoubleAttribute transactionXferTaxB();
+	public DoubleAttribute fxRate();
+	public StringAttribute transactionCode();
+	public StringAttribute marketCode();
+	public StringAttribute exdivStatus();
+	public StringAttribute transactionCustomer();
+	public StringAttribute crossAccountId();
+	public StringAttribute counterPartyType();
+	public StringAttribute brokerAccountNumber();
+	public StringAttribute brokerName();
+	public StringAttribute transactionOffice();
+	public StringAttribute clearingAgent();
+	public StringAttribute trader();
+	public DoubleAttribute transactionExtPrice();
+	public StringAttribute transactionExecTime();
+	public StringAttribute transactionMemo();
+	public StringAttribute transactionSource();
+	public StringAttribute transactionClose();
+	public IntegerAttribute transactionVersion();
+	public StringAttribute transactionFactory();
+	public StringAttribute transactionIgnore();
+	public StringAttribute trail1();
+	public StringAttribute trail2();
+	public StringAttribute trail3();
+	public StringAttribute trail4();
+	public StringAttribute trail5();
+	public StringAttribute trail6();
+	public StringAttribute trail7();
+	public StringAttribute trail8();
+	public TimestampAttribute processedDate();
+	public StringAttribute acmapCode();
+}
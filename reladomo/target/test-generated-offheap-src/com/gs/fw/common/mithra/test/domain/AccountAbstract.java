@@ -0,0 +1,684 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class AccountAbstract
+implements MithraObject, Serializable
+, AccountInterface
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy fortamsAccount = new TamsAccountRhs();
+	private static final RelationshipHashStrategy fortrial = new TrialRhs();
+	private static final RelationshipHashStrategy fortrialA = new TrialARhs();
+	private static final RelationshipHashStrategy fortrialB = new TrialBRhs();
+	private static final class TamsAccountRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TamsAccountFinder.businessDate();
+		private AsOfAttribute processingDate = TamsAccountFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			TamsAccountData _castedTargetData = (TamsAccountData) _targetData;
+			if (_castedSrcObject.getAccountNumber()!= null && _castedSrcObject.getAccountNumber().equals(_castedTargetData.getAccountNumber()) && _castedSrcObject.getDeskId()!= null && _castedSrcObject.getDeskId().equals(_castedTargetData.getDeskId()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getAccountNumber()),HashUtil.hash(_castedSrcObject.getDeskId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_castedSrcObject.getAccountNumber()),HashUtil.offHeapHash(_castedSrcObject.getDeskId()));
+		}
+	}
+
+	private static final class TrialRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			Trial _castedTargetData = (Trial) _targetData;
+			if (!_castedSrcObject.isTrialIdNull() && _castedSrcObject.getTrialId().equals(_castedTargetData.getTrialId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getTrialId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.offHeapHash(_castedSrcObject.getTrialId());
+		}
+	}
+
+	private static final class TrialARhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			Trial _castedTargetData = (Trial) _targetData;
+			if (!_castedSrcObject.isTrialIdNull() && _castedSrcObject.getTrialId().equals(_castedTargetData.getTrialId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getTrialId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.offHeapHash(_castedSrcObject.getTrialId());
+		}
+	}
+
+	private static final class TrialBRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			Trial _castedTargetData = (Trial) _targetData;
+			if (!_castedSrcObject.isTrialIdNull() && _castedSrcObject.getTrialId().equals(_castedTargetData.getTrialId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getTrialId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Account _castedSrcObject = (Account) _srcObject;
+			return HashUtil.offHeapHash(_castedSrcObject.getTrialId());
+		}
+	}
+
+	private String accountNumber;
+	private String code;
+	private String deskId;
+	private String pnlGroupId;
+	private String trialId;
+	public final boolean isAccountNumberNull()
+	{
+		return this.getAccountNumber() == null;
+	}
+
+	public final boolean isCodeNull()
+	{
+		return this.getCode() == null;
+	}
+
+	public final boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isPnlGroupIdNull()
+	{
+		return this.getPnlGroupId() == null;
+	}
+
+	public boolean isTrialIdNull()
+	{
+		return this.getTrialId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountNumber);
+		out.writeObject(this.code);
+		out.writeObject(this.deskId);
+		out.writeObject(this.pnlGroupId);
+		out.writeObject(this.trialId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		AccountData data = new AccountData();
+		data.setAccountNumber(accountNumber);
+		data.setCode(code);
+		data.setDeskId(deskId);
+		data.setPnlGroupId(pnlGroupId);
+		data.setTrialId(trialId);
+		return data;
+	}
+
+	public Account getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		AccountAbstract copy = (AccountAbstract) AccountFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Account)copy;
+	}
+
+	protected void zSetFromAccountData(AccountData data)
+	{
+		this.setFromAccountData(data);
+	}
+
+	public void setFromAccountData(AccountData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		accountNumber = data.getAccountNumber();
+		code = data.getCode();
+		deskId = data.getDeskId();
+		pnlGroupId = data.getPnlGroupId();
+		trialId = data.getTrialId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromAccountData((AccountData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public final String getAccountNumber()
+	{
+		return this.accountNumber;
+	}
+
+	public void setAccountNumber(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.accountNumber = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public final String getCode()
+	{
+		return this.code;
+	}
+
+	public void setCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.code = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public final String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public void setDeskId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public String getPnlGroupId()
+	{
+		return this.pnlGroupId;
+	}
+
+	public void setPnlGroupId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.pnlGroupId = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	public String getTrialId()
+	{
+		return this.trialId;
+	}
+
+	public void setTrialId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.trialId = StringPool.getInstance().getOrAddToCache(value, AccountFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TamsAccount.accountNumber = this.accountNumber</pre>
+	* @return The tams account
+	*/
+	public final TamsAccount getTamsAccount()
+	{
+		TamsAccount _result = null;
+		if (_relationships != null)
+		{
+			_result = (TamsAccount)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = TamsAccountFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fortamsAccount,com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(),com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+				if (!(_related instanceof NulledRelation)) _result = (TamsAccount) _related;
+				if (_related == null)
+				{
+					_result = TamsAccountFinder.zFindOneForRelationship(zGetTamsAccountOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Trial.trialId = this.trialId</pre>
+	* @return The trial
+	*/
+	public Trial getTrial()
+	{
+		Trial _result = null;
+		if (_relationships != null)
+		{
+			_result = (Trial)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isTrialIdNull())
+			{
+				_portal = TrialFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fortrial, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Trial) _related;
+				if (_related == null)
+				{
+					_result = TrialFinder.zFindOneForRelationship(zGetTrialOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.trialId = Trial.trialId and this.deskId =  "A" )</pre>
+	* @see Trial#getAccountsFromA() reverse relationship Trial.getAccountsFromA()
+	* @return The trial a
+	*/
+	public Trial getTrialA()
+	{
+		Trial _result = null;
+		if (_relationships != null)
+		{
+			_result = (Trial)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if ((!this.isTrialIdNull()) && (this.getDeskId().equals("A")))
+			{
+				_portal = TrialFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fortrialA, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Trial) _related;
+				if (_related == null)
+				{
+					_result = TrialFinder.zFindOneForRelationship(zGetTrialAOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.trialId = Trial.trialId and this.deskId =  "B" )</pre>
+	* @see Trial#getAccountsFromB() reverse relationship Trial.getAccountsFromB()
+	* @return The trial b
+	*/
+	public Trial getTrialB()
+	{
+		Trial _result = null;
+		if (_relationships != null)
+		{
+			_result = (Trial)(_relationships[3]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if ((!this.isTrialIdNull()) && (this.getDeskId().equals("B")))
+			{
+				_portal = TrialFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fortrialB, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Trial) _related;
+				if (_related == null)
+				{
+					_result = TrialFinder.zFindOneForRelationship(zGetTrialBOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setTamsAccount(TamsAccount tamsAccount)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[0] = tamsAccount;
+		if (tamsAccount == null)
+		{
+			this.setAccountNumber(null);
+			this.setDeskId(null);
+		}
+		else
+		{
+			this.setAccountNumber(tamsAccount.getAccountNumber());
+			this.setDeskId(tamsAccount.getDeskId());
+		}
+	}
+
+	public void setTrial(Trial trial)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[1] = trial;
+		if (trial == null)
+		{
+			this.setTrialId(null);
+		}
+		else
+		{
+			this.setTrialId(trial.getTrialId());
+		}
+	}
+
+	public void setTrialA(Trial trialA)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[2] = trialA;
+		if (trialA == null)
+		{
+			this.setTrialId(null);
+		}
+		else
+		{
+			this.setTrialId(trialA.getTrialId());
+		}
+	}
+
+	public void setTrialB(Trial trialB)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[4];
+		}
+
+		_relationships[3] = trialB;
+		if (trialB == null)
+		{
+			this.setTrialId(null);
+		}
+		else
+		{
+			this.setTrialId(trialB.getTrialId());
+		}
+	}
+
+	public Operation zGetTamsAccountOperation()
+	{
+		AccountAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(AccountFinder.tamsAccount().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetTrialOperation()
+	{
+		AccountAbstract _data = this;
+		return TrialFinder.trialId().eq(_data.getTrialId());
+	}
+
+	public Operation zGetTrialAOperation()
+	{
+		AccountAbstract _data = this;
+		return TrialFinder.trialId().eq(_data.getTrialId());
+	}
+
+	public Operation zGetTrialBOperation()
+	{
+		AccountAbstract _data = this;
+		return TrialFinder.trialId().eq(_data.getTrialId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final AccountData accountData = (AccountData) newData;
+		if (!isCodeNull() ? !getCode().equals(accountData.getCode()) : !accountData.isCodeNull())
+		{
+			return true;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(accountData.getDeskId()) : !accountData.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isPnlGroupIdNull() ? !getPnlGroupId().equals(accountData.getPnlGroupId()) : !accountData.isPnlGroupIdNull())
+		{
+			return true;
+		}
+
+		if (!isTrialIdNull() ? !getTrialId().equals(accountData.getTrialId()) : !accountData.isTrialIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountNumber: "+"'"+getAccountNumber()+"'"+ " / ";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.accountNumber);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+			this.code = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+			this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+			this.pnlGroupId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+			this.trialId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.accountNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AccountFinder.accountNumber().eq(this.getAccountNumber());
+			return AccountFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
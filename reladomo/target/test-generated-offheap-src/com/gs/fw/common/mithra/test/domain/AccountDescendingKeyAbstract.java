@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AccountDescendingKeyAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AccountDescendingKey.class.getName());
+	public AccountDescendingKeyAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AccountDescendingKey getDetachedCopy() throws MithraBusinessException
+	{
+		return (AccountDescendingKey) super.getDetachedCopy();
+	}
+
+	public AccountDescendingKey getNonPersistentCopy() throws MithraBusinessException
+	{
+		AccountDescendingKey result = (AccountDescendingKey) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public AccountDescendingKey copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AccountDescendingKey) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AccountDescendingKey zFindOriginal()
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData) this.currentData;
+		Operation op;
+		op = AccountDescendingKeyFinder.accountId().eq(data.getAccountId());
+		op = op.and(AccountDescendingKeyFinder.deskId().eq(data.getDeskId()));
+		return AccountDescendingKeyFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AccountDescendingKeyData();
+	}
+
+	protected void zSetFromAccountDescendingKeyData( AccountDescendingKeyData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAccountDescendingKeyData( AccountDescendingKeyData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountDescriptionNull()
+	{
+		return ((AccountDescendingKeyData) this.zSynchronizedGetData()).isAccountDescriptionNull();
+	}
+
+	public String getAccountDescription()
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData) this.zSynchronizedGetData();
+		return data.getAccountDescription();
+	}
+
+	public void setAccountDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'accountDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(AccountDescendingKeyFinder.accountDescription(), newValue, false, false );
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return ((AccountDescendingKeyData) this.zSynchronizedGetData()).isAccountIdNull();
+	}
+
+	public long getAccountId()
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData) this.zSynchronizedGetData();
+		return data.getAccountId();
+	}
+
+	public void setAccountId(long newValue)
+	{
+		zSetLong(AccountDescendingKeyFinder.accountId(), newValue, true, false ,false);
+	}
+
+	public boolean isAccountOpeningDateNull()
+	{
+		return ((AccountDescendingKeyData) this.zSynchronizedGetData()).isAccountOpeningDateNull();
+	}
+
+	public Timestamp getAccountOpeningDate()
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData) this.zSynchronizedGetData();
+		return data.getAccountOpeningDate();
+	}
+
+	public void setAccountOpeningDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountDescendingKeyFinder.accountOpeningDate(), newValue, false, false );
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((AccountDescendingKeyData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		AccountDescendingKeyData data = (AccountDescendingKeyData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountDescendingKeyFinder.deskId(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AccountDescendingKeyData _newData = (AccountDescendingKeyData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AccountDescendingKeyData _newData = (AccountDescendingKeyData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountDescendingKeyData _newData = (AccountDescendingKeyData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AccountDescendingKey zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		AccountDescendingKey original = (AccountDescendingKey) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AccountDescendingKeyFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AccountDescendingKeyFinder.getMithraObjectPortal();
+	}
+
+	public AccountDescendingKey getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, AccountDescendingKeyFinder.accountDescription(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AccountDescendingKeyFinder.accountOpeningDate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, AccountDescendingKeyFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, AccountDescendingKeyFinder.deskId(), false);
+		return changed;
+	}
+
+	public long generateAndSetAccountId()
+	{
+		long nextValue =(long) this.generateAccountId();
+		this.setAccountId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsAccountIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		AccountDescendingKeyData data = (AccountDescendingKeyData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsAccountIdSet();
+	}
+
+	protected long generateAccountId()
+	{
+		Object sourceAttribute = this.getDeskId();
+		AccountDescendingKeyFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("DecrementingSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AccountDescendingKeyData data = (AccountDescendingKeyData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsAccountIdSet())
+		{
+			data.setAccountId(generateAccountId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AccountDescendingKeyAbstract result = (AccountDescendingKeyAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,355 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AccountDescendingKeyData
+implements MithraDataObject
+{
+	private String accountDescription;
+	private long accountId;
+	private Timestamp accountOpeningDate;
+	private String deskId;
+	public boolean isAccountDescriptionNull()
+	{
+		return this.getAccountDescription() == null;
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return false;
+	}
+
+	public boolean isAccountOpeningDateNull()
+	{
+		return this.getAccountOpeningDate() == null;
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountDescription);
+		out.writeLong(this.accountId);
+		out.writeBoolean(_isAccountIdSet);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.accountOpeningDate);
+		out.writeObject(this.deskId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getAccountDescription()
+	{
+		return this.accountDescription;
+	}
+
+	public int zGetAccountDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountDescription);
+	}
+
+	public void setAccountDescription(String value)
+	{
+		this.accountDescription = StringPool.getInstance().getOrAddToCache(value, AccountDescendingKeyFinder.isFullCache());
+	}
+
+	public void setAccountDescriptionNull()
+	{
+		this.setAccountDescription(null);
+	}
+
+	public long getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public void setAccountId(long value)
+	{
+		this.accountId = value;
+		_isAccountIdSet = true;
+	}
+
+	public void setAccountIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getAccountOpeningDate()
+	{
+		return this.accountOpeningDate;
+	}
+
+	public long zGetAccountOpeningDateAsLong()
+	{
+		if (accountOpeningDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return accountOpeningDate.getTime();
+	}
+
+	public void setAccountOpeningDate(Timestamp value)
+	{
+		this.accountOpeningDate = TimestampPool.getInstance().getOrAddToCache(value, AccountDescendingKeyFinder.isFullCache(), AccountDescendingKeyFinder.isOffHeap());
+	}
+
+	public void setAccountOpeningDateNull()
+	{
+		this.setAccountOpeningDate(null);
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AccountDescendingKeyFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public boolean _isAccountIdSet;
+	public boolean zGetIsAccountIdSet()
+	{
+		return _isAccountIdSet;
+	}
+
+	protected void copyInto(AccountDescendingKeyData copy, boolean withRelationships)
+	{
+		copy.accountDescription = this.accountDescription;
+		copy.accountId = this.accountId;
+		copy.accountOpeningDate = this.accountOpeningDate;
+		copy.deskId = this.deskId;
+		copy._isAccountIdSet = this._isAccountIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountDescendingKeyFinder.isFullCache());
+		this.accountId = in.readLong();
+		_isAccountIdSet = in.readBoolean();
+		this.accountOpeningDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AccountDescendingKeyFinder.isFullCache(), AccountDescendingKeyFinder.isOffHeap());
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountDescendingKeyFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AccountDescendingKeyData otherData = (AccountDescendingKeyData) other;
+		if (getAccountId() != otherData.getAccountId())
+		{
+			return false;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.accountId);
+		out.writeObject(this.deskId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountId = in.readLong();
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AccountDescendingKeyFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AccountDescendingKeyData accountDescendingKeyData = (AccountDescendingKeyData) newData;
+		this.setAccountDescription(accountDescendingKeyData.getAccountDescription());
+		this.setAccountOpeningDate(accountDescendingKeyData.getAccountOpeningDate());
+		this.setDeskId(accountDescendingKeyData.getDeskId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AccountDescendingKeyData other = (AccountDescendingKeyData) newData;
+		if (!isAccountDescriptionNull() ? !getAccountDescription().equals(other.getAccountDescription()) : !other.isAccountDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isAccountOpeningDateNull() ? !getAccountOpeningDate().equals(other.getAccountOpeningDate()) : !other.isAccountOpeningDateNull())
+		{
+			return true;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AccountDescendingKeyData copy = new AccountDescendingKeyData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AccountDescendingKeyData copy = new AccountDescendingKeyData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountId: "+(""+getAccountId())+ " / ";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountDescendingKeyData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AccountDescendingKeyFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AccountDescendingKeyFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AccountDescendingKeyData";
+	}
+}
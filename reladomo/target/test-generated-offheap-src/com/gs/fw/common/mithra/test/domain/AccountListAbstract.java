@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountListAbstract extends DelegatingList<Account> implements MithraList<Account>
+{
+	public AccountListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Account[] elements()
+	{
+		Account[] result = new Account[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountList intersection(AccountList another)
+	{
+		return (AccountList)super.intersection(another);
+	}
+
+	public Account getAccountAt(int index)
+	{
+		return (Account)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TamsAccount.accountNumber = this.accountNumber</pre>
+	* @return The tams account
+	*/
+	public TamsAccountList getTamsAccounts()
+	{
+		return (TamsAccountList) this.getDelegated().resolveRelationship(this, AccountFinder.tamsAccount());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Trial.trialId = this.trialId</pre>
+	* @return The trial
+	*/
+	public TrialList getTrials()
+	{
+		return (TrialList) this.getDelegated().resolveRelationship(this, AccountFinder.trial());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.trialId = Trial.trialId and this.deskId =  "A" )</pre>
+	* @see Trial#getAccountsFromA() reverse relationship Trial.getAccountsFromA()
+	* @return The trial a
+	*/
+	public TrialList getTrialAs()
+	{
+		return (TrialList) this.getDelegated().resolveRelationship(this, AccountFinder.trialA());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.trialId = Trial.trialId and this.deskId =  "B" )</pre>
+	* @see Trial#getAccountsFromB() reverse relationship Trial.getAccountsFromB()
+	* @return The trial b
+	*/
+	public TrialList getTrialBs()
+	{
+		return (TrialList) this.getDelegated().resolveRelationship(this, AccountFinder.trialB());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountFinder.getMithraObjectPortal();
+	}
+
+	public AccountList getNonPersistentCopy()
+	{
+		AccountList result = new AccountList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountList asAdhoc()
+	{
+		return (AccountList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Account> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,149 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AccountTransactionMaxListAbstract extends DelegatingList<AccountTransactionMax> implements MithraTransactionalList<AccountTransactionMax>
+{
+	public AccountTransactionMaxListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AccountTransactionMaxListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AccountTransactionMaxListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AccountTransactionMaxListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AccountTransactionMax[] elements()
+	{
+		AccountTransactionMax[] result = new AccountTransactionMax[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AccountTransactionMaxList intersection(AccountTransactionMaxList another)
+	{
+		return (AccountTransactionMaxList)super.intersection(another);
+	}
+
+	public AccountTransactionMax getAccountTransactionMaxAt(int index)
+	{
+		return (AccountTransactionMax)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AccountTransactionMaxFinder.getMithraObjectPortal();
+	}
+
+	public AccountTransactionMaxList getNonPersistentCopy()
+	{
+		AccountTransactionMaxList result = new AccountTransactionMaxList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AccountTransactionMaxList asAdhoc()
+	{
+		return (AccountTransactionMaxList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AccountTransactionMax> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AccountTransactionMaxList merge(MithraTransactionalList<AccountTransactionMax> incoming, TopLevelMergeOptions<AccountTransactionMax> mergeOptions)
+	{
+		return (AccountTransactionMaxList) super.merge(incoming, mergeOptions);
+	}
+
+	public AccountTransactionMaxList getDetachedCopy()
+	{
+		AccountTransactionMaxList result = new AccountTransactionMaxList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(AccountTransactionMaxFinder.deskId(), newValue);
+	}
+
+	public void setTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(AccountTransactionMaxFinder.transactionDate(), newValue);
+	}
+
+	public void setTransactionDescription(String newValue)
+	{
+		zSetString(AccountTransactionMaxFinder.transactionDescription(), newValue);
+	}
+
+	public void setTransactionId(long newValue)
+	{
+		zSetLong(AccountTransactionMaxFinder.transactionId(), newValue);
+	}
+}
@@ -0,0 +1,456 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class AdjustmentAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy fordatedAccount = new DatedAccountRhs();
+	private static final class DatedAccountRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedAccountFinder.businessDate();
+		private AsOfAttribute processingDate = DatedAccountFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Adjustment _castedSrcObject = (Adjustment) _srcObject;
+			DatedAccountData _castedTargetData = (DatedAccountData) _targetData;
+			if (!_castedSrcObject.isAccountIdNull() && _castedSrcObject.getAccountId() == _castedTargetData.getId() && _castedSrcObject.getDeskId()!= null && _castedSrcObject.getDeskId().equals(_castedTargetData.getDeskId()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Adjustment _castedSrcObject = (Adjustment) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getAccountId(), _castedSrcObject.isAccountIdNull()),HashUtil.hash(_castedSrcObject.getDeskId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Adjustment _castedSrcObject = (Adjustment) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getAccountId(), _castedSrcObject.isAccountIdNull()),HashUtil.offHeapHash(_castedSrcObject.getDeskId()));
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private int accountId;
+	private double adjustmentAmount;
+	private String deskId;
+	private int id;
+	private double originalAmount;
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isOriginalAmountNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isAdjustmentAmountNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.accountId);
+		out.writeDouble(this.adjustmentAmount);
+		out.writeObject(this.deskId);
+		out.writeInt(this.id);
+		out.writeDouble(this.originalAmount);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		AdjustmentData data = new AdjustmentData();
+		data.setAccountId(accountId);
+		data.setAdjustmentAmount(adjustmentAmount);
+		data.setDeskId(deskId);
+		data.setId(id);
+		data.setOriginalAmount(originalAmount);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public Adjustment getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		AdjustmentAbstract copy = (AdjustmentAbstract) AdjustmentFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Adjustment)copy;
+	}
+
+	protected void zSetFromAdjustmentData(AdjustmentData data)
+	{
+		this.setFromAdjustmentData(data);
+	}
+
+	public void setFromAdjustmentData(AdjustmentData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		accountId = data.getAccountId();
+		adjustmentAmount = data.getAdjustmentAmount();
+		deskId = data.getDeskId();
+		id = data.getId();
+		originalAmount = data.getOriginalAmount();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AdjustmentFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromAdjustmentData((AdjustmentData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getAccountId()
+	{
+		if (isAccountIdNull()) throwNullPrimitiveException("accountId");
+		return this.accountId;
+	}
+
+	public void setAccountId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.accountId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public double getAdjustmentAmount()
+	{
+		if (isAdjustmentAmountNull()) throwNullPrimitiveException("adjustmentAmount");
+		return this.adjustmentAmount;
+	}
+
+	public void setAdjustmentAmount(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.adjustmentAmount = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public void setDeskId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, AdjustmentFinder.isFullCache());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public double getOriginalAmount()
+	{
+		if (isOriginalAmountNull()) throwNullPrimitiveException("originalAmount");
+		return this.originalAmount;
+	}
+
+	public void setOriginalAmount(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.originalAmount = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setOriginalAmountNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setAdjustmentAmountNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setAccountIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedAccount.id = this.accountId</pre>
+	* @return The dated account
+	*/
+	public DatedAccount getDatedAccount()
+	{
+		DatedAccount _result = null;
+		if (_relationships != null)
+		{
+			_result = (DatedAccount)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isAccountIdNull())
+			{
+				_portal = DatedAccountFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fordatedAccount,com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(),com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+				if (!(_related instanceof NulledRelation)) _result = (DatedAccount) _related;
+				if (_related == null)
+				{
+					_result = DatedAccountFinder.zFindOneForRelationship(zGetDatedAccountOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setDatedAccount(DatedAccount datedAccount)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = datedAccount;
+		if (datedAccount == null)
+		{
+			this.setAccountIdNull();
+			this.setDeskId(null);
+		}
+		else
+		{
+			this.setAccountId(datedAccount.getId());
+			this.setDeskId(datedAccount.getDeskId());
+		}
+	}
+
+	public Operation zGetDatedAccountOperation()
+	{
+		AdjustmentAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(AdjustmentFinder.datedAccount().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final AdjustmentData adjustmentData = (AdjustmentData) newData;
+		if (isNullBits0 != adjustmentData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (accountId != adjustmentData.getAccountId())
+		{
+			return true;
+		}
+
+		if (adjustmentAmount != adjustmentData.getAdjustmentAmount())
+		{
+			return true;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(adjustmentData.getDeskId()) : !adjustmentData.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (originalAmount != adjustmentData.getOriginalAmount())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "id: "+(""+getId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = in.readInt();
+			this.adjustmentAmount = in.readDouble();
+			this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AdjustmentFinder.isFullCache());
+			this.id = in.readInt();
+			this.originalAmount = in.readDouble();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AdjustmentFinder.id().eq(this.getId());
+			return AdjustmentFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,615 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AllJavaTypesInPkData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private boolean booleanPk;
+	private byte bytePk;
+	private char charPk;
+	private Date datePk;
+	private double doubleNonPk;
+	private double doublePk;
+	private float floatPk;
+	private int intPk;
+	private long longPk;
+	private short shortPk;
+	private String stringPk;
+	private Timestamp timestampPk;
+	public boolean isBooleanPkNull()
+	{
+		return false;
+	}
+
+	public boolean isBytePkNull()
+	{
+		return false;
+	}
+
+	public boolean isCharPkNull()
+	{
+		return false;
+	}
+
+	public boolean isDatePkNull()
+	{
+		return this.getDatePk() == null;
+	}
+
+	public boolean isDoublePkNull()
+	{
+		return false;
+	}
+
+	public boolean isFloatPkNull()
+	{
+		return false;
+	}
+
+	public boolean isIntPkNull()
+	{
+		return false;
+	}
+
+	public boolean isLongPkNull()
+	{
+		return false;
+	}
+
+	public boolean isShortPkNull()
+	{
+		return false;
+	}
+
+	public boolean isStringPkNull()
+	{
+		return this.getStringPk() == null;
+	}
+
+	public boolean isTimestampPkNull()
+	{
+		return this.getTimestampPk() == null;
+	}
+
+	public boolean isDoubleNonPkNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.booleanPk);
+		out.writeByte(this.bytePk);
+		out.writeChar(this.charPk);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.datePk);
+		out.writeDouble(this.doubleNonPk);
+		out.writeDouble(this.doublePk);
+		out.writeFloat(this.floatPk);
+		out.writeInt(this.intPk);
+		out.writeLong(this.longPk);
+		out.writeShort(this.shortPk);
+		out.writeObject(this.stringPk);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampPk);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public boolean isBooleanPk()
+	{
+		return this.booleanPk;
+	}
+
+	public void setBooleanPk(boolean value)
+	{
+		this.booleanPk = value;
+	}
+
+	public void setBooleanPkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public byte getBytePk()
+	{
+		return this.bytePk;
+	}
+
+	public void setBytePk(byte value)
+	{
+		this.bytePk = value;
+	}
+
+	public void setBytePkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public char getCharPk()
+	{
+		return this.charPk;
+	}
+
+	public void setCharPk(char value)
+	{
+		this.charPk = value;
+	}
+
+	public void setCharPkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Date getDatePk()
+	{
+		return this.datePk;
+	}
+
+	public void setDatePk(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.datePk = (java.sql.Date) value;
+		}
+		else
+		{
+			this.datePk = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setDatePkNull()
+	{
+		this.setDatePk(null);
+	}
+
+	public double getDoubleNonPk()
+	{
+		return this.doubleNonPk;
+	}
+
+	public void setDoubleNonPk(double value)
+	{
+		this.doubleNonPk = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public double getDoublePk()
+	{
+		return this.doublePk;
+	}
+
+	public void setDoublePk(double value)
+	{
+		this.doublePk = value;
+	}
+
+	public void setDoublePkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public float getFloatPk()
+	{
+		return this.floatPk;
+	}
+
+	public void setFloatPk(float value)
+	{
+		this.floatPk = value;
+	}
+
+	public void setFloatPkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getIntPk()
+	{
+		return this.intPk;
+	}
+
+	public void setIntPk(int value)
+	{
+		this.intPk = value;
+	}
+
+	public void setIntPkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public long getLongPk()
+	{
+		return this.longPk;
+	}
+
+	public void setLongPk(long value)
+	{
+		this.longPk = value;
+	}
+
+	public void setLongPkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public short getShortPk()
+	{
+		return this.shortPk;
+	}
+
+	public void setShortPk(short value)
+	{
+		this.shortPk = value;
+	}
+
+	public void setShortPkNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getStringPk()
+	{
+		return this.stringPk;
+	}
+
+	public int zGetStringPkAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(stringPk);
+	}
+
+	public void setStringPk(String value)
+	{
+		this.stringPk = StringPool.getInstance().getOrAddToCache(value, AllJavaTypesInPkFinder.isFullCache());
+	}
+
+	public void setStringPkNull()
+	{
+		this.setStringPk(null);
+	}
+
+	public Timestamp getTimestampPk()
+	{
+		return this.timestampPk;
+	}
+
+	public long zGetTimestampPkAsLong()
+	{
+		if (timestampPk == null) return TimestampPool.OFF_HEAP_NULL;
+		return timestampPk.getTime();
+	}
+
+	public void setTimestampPk(Timestamp value)
+	{
+		this.timestampPk = TimestampPool.getInstance().getOrAddToCache(value, AllJavaTypesInPkFinder.isFullCache(), AllJavaTypesInPkFinder.isOffHeap());
+	}
+
+	public void setTimestampPkNull()
+	{
+		this.setTimestampPk(null);
+	}
+
+	public void setDoubleNonPkNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(AllJavaTypesInPkData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.booleanPk = this.booleanPk;
+		copy.bytePk = this.bytePk;
+		copy.charPk = this.charPk;
+		copy.datePk = this.datePk;
+		copy.doubleNonPk = this.doubleNonPk;
+		copy.doublePk = this.doublePk;
+		copy.floatPk = this.floatPk;
+		copy.intPk = this.intPk;
+		copy.longPk = this.longPk;
+		copy.shortPk = this.shortPk;
+		copy.stringPk = this.stringPk;
+		copy.timestampPk = this.timestampPk;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.booleanPk = in.readBoolean();
+		this.bytePk = in.readByte();
+		this.charPk = in.readChar();
+		this.datePk = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.doubleNonPk = in.readDouble();
+		this.doublePk = in.readDouble();
+		this.floatPk = in.readFloat();
+		this.intPk = in.readInt();
+		this.longPk = in.readLong();
+		this.shortPk = in.readShort();
+		this.stringPk = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AllJavaTypesInPkFinder.isFullCache());
+		this.timestampPk = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AllJavaTypesInPkFinder.isFullCache(), AllJavaTypesInPkFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final AllJavaTypesInPkData otherData = (AllJavaTypesInPkData) other;
+		if (isBooleanPk() != otherData.isBooleanPk())
+		{
+			return false;
+		}
+
+		if (getBytePk() != otherData.getBytePk())
+		{
+			return false;
+		}
+
+		if (getCharPk() != otherData.getCharPk())
+		{
+			return false;
+		}
+
+		if (!isDatePkNull() ? !getDatePk().equals(otherData.getDatePk()) : !otherData.isDatePkNull())
+		{
+			return false;
+		}
+
+		if (getDoublePk() != otherData.getDoublePk())
+		{
+			return false;
+		}
+
+		if (getFloatPk() != otherData.getFloatPk())
+		{
+			return false;
+		}
+
+		if (getIntPk() != otherData.getIntPk())
+		{
+			return false;
+		}
+
+		if (getLongPk() != otherData.getLongPk())
+		{
+			return false;
+		}
+
+		if (getShortPk() != otherData.getShortPk())
+		{
+			return false;
+		}
+
+		if (!isStringPkNull() ? !getStringPk().equals(otherData.getStringPk()) : !otherData.isStringPkNull())
+		{
+			return false;
+		}
+
+		if (!isTimestampPkNull() ? !getTimestampPk().equals(otherData.getTimestampPk()) : !otherData.isTimestampPkNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeBoolean(this.booleanPk);
+		out.writeByte(this.bytePk);
+		out.writeChar(this.charPk);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.datePk);
+		out.writeDouble(this.doublePk);
+		out.writeFloat(this.floatPk);
+		out.writeInt(this.intPk);
+		out.writeLong(this.longPk);
+		out.writeShort(this.shortPk);
+		out.writeObject(this.stringPk);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.timestampPk);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.booleanPk = in.readBoolean();
+		this.bytePk = in.readByte();
+		this.charPk = in.readChar();
+		this.datePk = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.doublePk = in.readDouble();
+		this.floatPk = in.readFloat();
+		this.intPk = in.readInt();
+		this.longPk = in.readLong();
+		this.shortPk = in.readShort();
+		this.stringPk = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AllJavaTypesInPkFinder.isFullCache());
+		this.timestampPk = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AllJavaTypesInPkFinder.isFullCache(), AllJavaTypesInPkFinder.isOffHeap());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final AllJavaTypesInPkData allJavaTypesInPkData = (AllJavaTypesInPkData) newData;
+		this.setDoubleNonPk(allJavaTypesInPkData.getDoubleNonPk());
+		if (allJavaTypesInPkData.isDoubleNonPkNull()) this.setDoubleNonPkNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final AllJavaTypesInPkData other = (AllJavaTypesInPkData) newData;
+		if ( isDoubleNonPkNull() != other.isDoubleNonPkNull() || Math.abs(getDoubleNonPk() - other.getDoubleNonPk()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		AllJavaTypesInPkData copy = new AllJavaTypesInPkData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		AllJavaTypesInPkData copy = new AllJavaTypesInPkData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "booleanPk: "+(""+isBooleanPk())+ " / ";
+		result += "bytePk: "+(""+getBytePk())+ " / ";
+		result += "charPk: "+(""+getCharPk())+ " / ";
+		result += "datePk: "+PrintablePreparedStatement.dateFormat.print(getDatePk().getTime())+ " / ";
+		result += "doublePk: "+(""+getDoublePk())+ " / ";
+		result += "floatPk: "+(""+getFloatPk())+ " / ";
+		result += "intPk: "+(""+getIntPk())+ " / ";
+		result += "longPk: "+(""+getLongPk())+ " / ";
+		result += "shortPk: "+(""+getShortPk())+ " / ";
+		result += "stringPk: "+"'"+getStringPk()+"'"+ " / ";
+		result += "timestampPk: "+(isTimestampPkNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getTimestampPk().getTime()))+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.AllJavaTypesInPkData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return AllJavaTypesInPkFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return AllJavaTypesInPkFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.AllJavaTypesInPkData";
+	}
+}
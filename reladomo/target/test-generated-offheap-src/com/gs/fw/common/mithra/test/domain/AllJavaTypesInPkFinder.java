@@ -0,0 +1,824 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AllJavaTypesInPkFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AllJavaTypesInPk";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AllJavaTypesInPk";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AllJavaTypesInPk");
+	private static final AllJavaTypesInPkSingleFinder<AllJavaTypesInPk, Object, AllJavaTypesInPk> finder = new AllJavaTypesInPkSingleFinder<AllJavaTypesInPk, Object, AllJavaTypesInPk>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AllJavaTypesInPkFinder.AllJavaTypesInPkRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("booleanPk");
+		finderMethodMap.addNormalAttributeName("bytePk");
+		finderMethodMap.addNormalAttributeName("charPk");
+		finderMethodMap.addNormalAttributeName("datePk");
+		finderMethodMap.addNormalAttributeName("doublePk");
+		finderMethodMap.addNormalAttributeName("floatPk");
+		finderMethodMap.addNormalAttributeName("intPk");
+		finderMethodMap.addNormalAttributeName("longPk");
+		finderMethodMap.addNormalAttributeName("shortPk");
+		finderMethodMap.addNormalAttributeName("stringPk");
+		finderMethodMap.addNormalAttributeName("timestampPk");
+		finderMethodMap.addNormalAttributeName("doubleNonPk");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AllJavaTypesInPk findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AllJavaTypesInPk findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AllJavaTypesInPkList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AllJavaTypesInPkList) finder.findMany(operation);
+	}
+
+	public static AllJavaTypesInPkList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AllJavaTypesInPkList) finder.findManyBypassCache(operation);
+	}
+
+	private static AllJavaTypesInPk findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AllJavaTypesInPk) FinderUtils.findOne(found);
+	}
+
+	public static AllJavaTypesInPk findByPrimaryKey(boolean booleanPk, byte bytePk, char charPk, Date datePk, double doublePk, float floatPk, int intPk, long longPk, short shortPk, String stringPk, Timestamp timestampPk)
+	{
+		return finder.findByPrimaryKey(booleanPk, bytePk, charPk, datePk, doublePk, floatPk, intPk, longPk, shortPk, stringPk, timestampPk);
+	}
+
+	public static AllJavaTypesInPk zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AllJavaTypesInPk) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AllJavaTypesInPkRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AllJavaTypesInPk, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private BooleanAttribute<ParentOwnerType> booleanPk;
+		private ByteAttribute<ParentOwnerType> bytePk;
+		private CharAttribute<ParentOwnerType> charPk;
+		private DateAttribute<ParentOwnerType> datePk;
+		private DoubleAttribute<ParentOwnerType> doublePk;
+		private FloatAttribute<ParentOwnerType> floatPk;
+		private IntegerAttribute<ParentOwnerType> intPk;
+		private LongAttribute<ParentOwnerType> longPk;
+		private ShortAttribute<ParentOwnerType> shortPk;
+		private StringAttribute<ParentOwnerType> stringPk;
+		private TimestampAttribute<ParentOwnerType> timestampPk;
+		private DoubleAttribute<ParentOwnerType> doubleNonPk;
+		public AllJavaTypesInPkRelatedFinder()
+		{
+			super();
+		}
+
+		public AllJavaTypesInPkRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AllJavaTypesInPkFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AllJavaTypesInPkFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AllJavaTypesInPkFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AllJavaTypesInPkFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[12];
+			attributes[0] = this.booleanPk();
+			attributes[1] = this.bytePk();
+			attributes[2] = this.charPk();
+			attributes[3] = this.datePk();
+			attributes[4] = this.doublePk();
+			attributes[5] = this.floatPk();
+			attributes[6] = this.intPk();
+			attributes[7] = this.longPk();
+			attributes[8] = this.shortPk();
+			attributes[9] = this.stringPk();
+			attributes[10] = this.timestampPk();
+			attributes[11] = this.doubleNonPk();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AllJavaTypesInPk findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AllJavaTypesInPkFinder.findOne(operation, false);
+		}
+
+		public AllJavaTypesInPk findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AllJavaTypesInPkFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AllJavaTypesInPk> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AllJavaTypesInPkList((Operation) operation);
+		}
+
+		public MithraList<? extends AllJavaTypesInPk> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AllJavaTypesInPkList result = (AllJavaTypesInPkList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AllJavaTypesInPk> constructEmptyList()
+		{
+			return new AllJavaTypesInPkList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -782766009;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public BooleanAttribute<ParentOwnerType> booleanPk()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.booleanPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("BOOLEAN_PK","","booleanPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(AllJavaTypesInPkFinder.booleanPk(), this.mapper, this.zGetValueSelector());
+				this.booleanPk = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> bytePk()
+		{
+			ByteAttribute<ParentOwnerType> result = this.bytePk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_PK","","bytePk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedByteAttribute(AllJavaTypesInPkFinder.bytePk(), this.mapper, this.zGetValueSelector());
+				this.bytePk = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charPk()
+		{
+			CharAttribute<ParentOwnerType> result = this.charPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_PK","","charPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedCharAttribute(AllJavaTypesInPkFinder.charPk(), this.mapper, this.zGetValueSelector());
+				this.charPk = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> datePk()
+		{
+			DateAttribute<ParentOwnerType> result = this.datePk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("DATE_PK","","datePk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(AllJavaTypesInPkFinder.datePk(), this.mapper, this.zGetValueSelector());
+				this.datePk = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doublePk()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doublePk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_PK","","doublePk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AllJavaTypesInPkFinder.doublePk(), this.mapper, this.zGetValueSelector());
+				this.doublePk = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatPk()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_PK","","floatPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(AllJavaTypesInPkFinder.floatPk(), this.mapper, this.zGetValueSelector());
+				this.floatPk = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intPk()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_PK","","intPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AllJavaTypesInPkFinder.intPk(), this.mapper, this.zGetValueSelector());
+				this.intPk = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longPk()
+		{
+			LongAttribute<ParentOwnerType> result = this.longPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_PK","","longPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(AllJavaTypesInPkFinder.longPk(), this.mapper, this.zGetValueSelector());
+				this.longPk = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortPk()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_PK","","shortPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedShortAttribute(AllJavaTypesInPkFinder.shortPk(), this.mapper, this.zGetValueSelector());
+				this.shortPk = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> stringPk()
+		{
+			StringAttribute<ParentOwnerType> result = this.stringPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STRING_PK","","stringPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(AllJavaTypesInPkFinder.stringPk(), this.mapper, this.zGetValueSelector());
+				this.stringPk = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> timestampPk()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.timestampPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TIMESTAMP_PK","","timestampPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(AllJavaTypesInPkFinder.timestampPk(), this.mapper, this.zGetValueSelector());
+				this.timestampPk = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleNonPk()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleNonPk;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_NON_PK","","doubleNonPk",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(AllJavaTypesInPkFinder.doubleNonPk(), this.mapper, this.zGetValueSelector());
+				this.doubleNonPk = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AllJavaTypesInPkFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AllJavaTypesInPkFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AllJavaTypesInPkCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AllJavaTypesInPkRelatedFinder<ParentOwnerType, ReturnType, AllJavaTypesInPkList, OwnerType>
+	{
+		public AllJavaTypesInPkCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AllJavaTypesInPkCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AllJavaTypesInPkCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AllJavaTypesInPkCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AllJavaTypesInPkSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AllJavaTypesInPkRelatedFinder<ParentOwnerType, ReturnType, AllJavaTypesInPkList, OwnerType>
+	implements ToOneFinder
+	{
+		public AllJavaTypesInPkSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AllJavaTypesInPkSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AllJavaTypesInPk other)
+		{
+			return this.booleanPk().eq(other.isBooleanPk())
+			.and(this.bytePk().eq(other.getBytePk()))
+			.and(this.charPk().eq(other.getCharPk()))
+			.and(this.datePk().eq(other.getDatePk()))
+			.and(this.doublePk().eq(other.getDoublePk()))
+			.and(this.floatPk().eq(other.getFloatPk()))
+			.and(this.intPk().eq(other.getIntPk()))
+			.and(this.longPk().eq(other.getLongPk()))
+			.and(this.shortPk().eq(other.getShortPk()))
+			.and(this.stringPk().eq(other.getStringPk()))
+			.and(this.timestampPk().eq(other.getTimestampPk()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AllJavaTypesInPk findByPrimaryKey(boolean booleanPk, byte bytePk, char charPk, Date datePk, double doublePk, float floatPk, int intPk, long longPk, short shortPk, String stringPk, Timestamp timestampPk)
+		{
+			AllJavaTypesInPk _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (AllJavaTypesInPk) _related;
+			if (_related == null)
+			{
+				_op = this.booleanPk().eq(booleanPk).and(this.bytePk().eq(bytePk)).and(this.charPk().eq(charPk)).and(this.datePk().eq(datePk)).and(this.doublePk().eq(doublePk)).and(this.floatPk().eq(floatPk)).and(this.intPk().eq(intPk)).and(this.longPk().eq(longPk)).and(this.shortPk().eq(shortPk)).and(this.stringPk().eq(stringPk)).and(this.timestampPk().eq(timestampPk));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AllJavaTypesInPkSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AllJavaTypesInPkSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AllJavaTypesInPkSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to ALL_JAVA_TYPES.BOOLEAN_PK **/
+	public static BooleanAttribute<AllJavaTypesInPk> booleanPk()
+	{
+		return finder.booleanPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.BYTE_PK **/
+	public static ByteAttribute<AllJavaTypesInPk> bytePk()
+	{
+		return finder.bytePk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.CHAR_PK **/
+	public static CharAttribute<AllJavaTypesInPk> charPk()
+	{
+		return finder.charPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.DATE_PK **/
+	public static DateAttribute<AllJavaTypesInPk> datePk()
+	{
+		return finder.datePk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.DOUBLE_PK **/
+	public static DoubleAttribute<AllJavaTypesInPk> doublePk()
+	{
+		return finder.doublePk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.FLOAT_PK **/
+	public static FloatAttribute<AllJavaTypesInPk> floatPk()
+	{
+		return finder.floatPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.INT_PK **/
+	public static IntegerAttribute<AllJavaTypesInPk> intPk()
+	{
+		return finder.intPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.LONG_PK **/
+	public static LongAttribute<AllJavaTypesInPk> longPk()
+	{
+		return finder.longPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.SHORT_PK **/
+	public static ShortAttribute<AllJavaTypesInPk> shortPk()
+	{
+		return finder.shortPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.STRING_PK **/
+	public static StringAttribute<AllJavaTypesInPk> stringPk()
+	{
+		return finder.stringPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.TIMESTAMP_PK **/
+	public static TimestampAttribute<AllJavaTypesInPk> timestampPk()
+	{
+		return finder.timestampPk();
+	}
+
+	/** maps to ALL_JAVA_TYPES.DOUBLE_NON_PK **/
+	public static DoubleAttribute<AllJavaTypesInPk> doubleNonPk()
+	{
+		return finder.doubleNonPk();
+	}
+
+	public static Operation eq(AllJavaTypesInPk other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(booleanPk());
+	}
+
+	public static AllJavaTypesInPkSingleFinder<AllJavaTypesInPk, Object, AllJavaTypesInPk> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanPk()
+			, bytePk()
+			, charPk()
+			, datePk()
+			, doublePk()
+			, floatPk()
+			, intPk()
+			, longPk()
+			, shortPk()
+			, stringPk()
+			, timestampPk()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			booleanPk()
+			, booleanPk()
+			, bytePk()
+			, charPk()
+			, datePk()
+			, doublePk()
+			, floatPk()
+			, intPk()
+			, longPk()
+			, shortPk()
+			, stringPk()
+			, timestampPk()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = doublePk();
+		result[1] = doubleNonPk();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AllJavaTypesInPk");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,642 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class AllTypesIqAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(AllTypesIq.class.getName());
+	public AllTypesIqAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AllTypesIq getDetachedCopy() throws MithraBusinessException
+	{
+		return (AllTypesIq) super.getDetachedCopy();
+	}
+
+	public AllTypesIq getNonPersistentCopy() throws MithraBusinessException
+	{
+		AllTypesIq result = (AllTypesIq) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public AllTypesIq copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AllTypesIq) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public AllTypesIq zFindOriginal()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.currentData;
+		Operation op;
+		op = AllTypesIqFinder.id().eq(data.getId());
+		return AllTypesIqFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AllTypesIqData();
+	}
+
+	protected void zSetFromAllTypesIqData( AllTypesIqData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromAllTypesIqData( AllTypesIqData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isBooleanValueNull();
+	}
+
+	public boolean isBooleanValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.isBooleanValue();
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(AllTypesIqFinder.booleanValue(), newValue, false, false ,false);
+	}
+
+	public boolean isByteValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isByteValueNull();
+	}
+
+	public byte getByteValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getByteValue();
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(AllTypesIqFinder.byteValue(), newValue, false, false ,false);
+	}
+
+	public boolean isCharValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isCharValueNull();
+	}
+
+	public char getCharValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getCharValue();
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(AllTypesIqFinder.charValue(), newValue, false, false ,false);
+	}
+
+	public boolean isDateValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isDateValueNull();
+	}
+
+	public Date getDateValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getDateValue();
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(AllTypesIqFinder.dateValue(), newValue, false, false );
+	}
+
+	public boolean isDoubleValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isDoubleValueNull();
+	}
+
+	public double getDoubleValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getDoubleValue();
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(AllTypesIqFinder.doubleValue(), newValue, false, false ,false);
+	}
+
+	public boolean isFloatValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isFloatValueNull();
+	}
+
+	public float getFloatValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getFloatValue();
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(AllTypesIqFinder.floatValue(), newValue, false, false ,false);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AllTypesIqFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isIntValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isIntValueNull();
+	}
+
+	public int getIntValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getIntValue();
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(AllTypesIqFinder.intValue(), newValue, false, false ,false);
+	}
+
+	public boolean isLongValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isLongValueNull();
+	}
+
+	public long getLongValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getLongValue();
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(AllTypesIqFinder.longValue(), newValue, false, false ,false);
+	}
+
+	public boolean isNullableByteValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableByteValueNull();
+	}
+
+	public byte getNullableByteValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableByteValueNull()) MithraNullPrimitiveException.throwNew("nullableByteValue", data);
+		return data.getNullableByteValue();
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(AllTypesIqFinder.nullableByteValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableCharValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableCharValueNull();
+	}
+
+	public char getNullableCharValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableCharValueNull()) MithraNullPrimitiveException.throwNew("nullableCharValue", data);
+		return data.getNullableCharValue();
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(AllTypesIqFinder.nullableCharValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableDateValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableDateValueNull();
+	}
+
+	public Date getNullableDateValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getNullableDateValue();
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(AllTypesIqFinder.nullableDateValue(), newValue, false, false );
+	}
+
+	public boolean isNullableDoubleValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableDoubleValueNull();
+	}
+
+	public double getNullableDoubleValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableDoubleValueNull()) MithraNullPrimitiveException.throwNew("nullableDoubleValue", data);
+		return data.getNullableDoubleValue();
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(AllTypesIqFinder.nullableDoubleValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableFloatValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableFloatValueNull();
+	}
+
+	public float getNullableFloatValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableFloatValueNull()) MithraNullPrimitiveException.throwNew("nullableFloatValue", data);
+		return data.getNullableFloatValue();
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(AllTypesIqFinder.nullableFloatValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableIntValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableIntValueNull();
+	}
+
+	public int getNullableIntValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableIntValueNull()) MithraNullPrimitiveException.throwNew("nullableIntValue", data);
+		return data.getNullableIntValue();
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(AllTypesIqFinder.nullableIntValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableLongValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableLongValueNull();
+	}
+
+	public long getNullableLongValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableLongValueNull()) MithraNullPrimitiveException.throwNew("nullableLongValue", data);
+		return data.getNullableLongValue();
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(AllTypesIqFinder.nullableLongValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableShortValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableShortValueNull();
+	}
+
+	public short getNullableShortValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		if (data.isNullableShortValueNull()) MithraNullPrimitiveException.throwNew("nullableShortValue", data);
+		return data.getNullableShortValue();
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(AllTypesIqFinder.nullableShortValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableStringValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableStringValueNull();
+	}
+
+	public String getNullableStringValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getNullableStringValue();
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(AllTypesIqFinder.nullableStringValue(), newValue, false, false );
+	}
+
+	public boolean isNullableTimestampValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isNullableTimestampValueNull();
+	}
+
+	public Timestamp getNullableTimestampValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getNullableTimestampValue();
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(AllTypesIqFinder.nullableTimestampValue(), newValue, false, false );
+	}
+
+	public boolean isShortValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isShortValueNull();
+	}
+
+	public short getShortValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getShortValue();
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(AllTypesIqFinder.shortValue(), newValue, false, false ,false);
+	}
+
+	public boolean isStringValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isStringValueNull();
+	}
+
+	public String getStringValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getStringValue();
+	}
+
+	public void setStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(AllTypesIqFinder.stringValue(), newValue, false, false );
+	}
+
+	public boolean isTimestampValueNull()
+	{
+		return ((AllTypesIqData) this.zSynchronizedGetData()).isTimestampValueNull();
+	}
+
+	public Timestamp getTimestampValue()
+	{
+		AllTypesIqData data = (AllTypesIqData) this.zSynchronizedGetData();
+		return data.getTimestampValue();
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(AllTypesIqFinder.timestampValue(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, AllTypesIqFinder.nullableByteValue(), false);
+		zNullify(behavior, data, AllTypesIqFinder.nullableShortValue(), false);
+		zNullify(behavior, data, AllTypesIqFinder.nullableCharValue(), false);
+		zNullify(behavior, data, AllTypesIqFinder.nullableIntValue(), false);
+		zNullify(behavior, data, AllTypesIqFinder.nullableLongValue(), false);
+		zNullify(behavior, data, AllTypesIqFinder.nullableFloatValue(), false);
+		zNullify(behavior, data, AllTypesIqFinder.nullableDoubleValue(), false);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableByteValue(), false);
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableShortValue(), false);
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableCharValue(), false);
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableIntValue(), false);
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableLongValue(), false);
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableFloatValue(), false);
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zNullify(AllTypesIqFinder.nullableDoubleValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AllTypesIqData _newData = (AllTypesIqData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		AllTypesIqData _newData = (AllTypesIqData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AllTypesIqData _newData = (AllTypesIqData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public AllTypesIq zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		AllTypesIq original = (AllTypesIq) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return AllTypesIqFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AllTypesIqFinder.getMithraObjectPortal();
+	}
+
+	public AllTypesIq getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, AllTypesIqFinder.booleanValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, AllTypesIqFinder.byteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, AllTypesIqFinder.charValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, AllTypesIqFinder.dateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AllTypesIqFinder.doubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, AllTypesIqFinder.floatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AllTypesIqFinder.intValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, AllTypesIqFinder.longValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, AllTypesIqFinder.nullableByteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, AllTypesIqFinder.nullableCharValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, AllTypesIqFinder.nullableDateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AllTypesIqFinder.nullableDoubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, AllTypesIqFinder.nullableFloatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AllTypesIqFinder.nullableIntValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, AllTypesIqFinder.nullableLongValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, AllTypesIqFinder.nullableShortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, AllTypesIqFinder.nullableStringValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AllTypesIqFinder.nullableTimestampValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, AllTypesIqFinder.shortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, AllTypesIqFinder.stringValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, AllTypesIqFinder.timestampValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, AllTypesIqFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		AllTypesIqAbstract result = (AllTypesIqAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,270 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AllTypesIqListAbstract extends DelegatingList<AllTypesIq> implements MithraTransactionalList<AllTypesIq>
+{
+	public AllTypesIqListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AllTypesIqListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AllTypesIqListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AllTypesIqListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AllTypesIq[] elements()
+	{
+		AllTypesIq[] result = new AllTypesIq[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AllTypesIqList intersection(AllTypesIqList another)
+	{
+		return (AllTypesIqList)super.intersection(another);
+	}
+
+	public AllTypesIq getAllTypesIqAt(int index)
+	{
+		return (AllTypesIq)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AllTypesIqFinder.getMithraObjectPortal();
+	}
+
+	public AllTypesIqList getNonPersistentCopy()
+	{
+		AllTypesIqList result = new AllTypesIqList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AllTypesIqList asAdhoc()
+	{
+		return (AllTypesIqList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AllTypesIq> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AllTypesIqList merge(MithraTransactionalList<AllTypesIq> incoming, TopLevelMergeOptions<AllTypesIq> mergeOptions)
+	{
+		return (AllTypesIqList) super.merge(incoming, mergeOptions);
+	}
+
+	public AllTypesIqList getDetachedCopy()
+	{
+		AllTypesIqList result = new AllTypesIqList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(AllTypesIqFinder.booleanValue(), newValue);
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(AllTypesIqFinder.byteValue(), newValue);
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(AllTypesIqFinder.charValue(), newValue);
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(AllTypesIqFinder.dateValue(), newValue);
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(AllTypesIqFinder.doubleValue(), newValue);
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(AllTypesIqFinder.floatValue(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AllTypesIqFinder.id(), newValue);
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(AllTypesIqFinder.intValue(), newValue);
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(AllTypesIqFinder.longValue(), newValue);
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(AllTypesIqFinder.nullableByteValue(), newValue);
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(AllTypesIqFinder.nullableCharValue(), newValue);
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(AllTypesIqFinder.nullableDateValue(), newValue);
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(AllTypesIqFinder.nullableDoubleValue(), newValue);
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(AllTypesIqFinder.nullableFloatValue(), newValue);
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(AllTypesIqFinder.nullableIntValue(), newValue);
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(AllTypesIqFinder.nullableLongValue(), newValue);
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(AllTypesIqFinder.nullableShortValue(), newValue);
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		zSetString(AllTypesIqFinder.nullableStringValue(), newValue);
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(AllTypesIqFinder.nullableTimestampValue(), newValue);
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(AllTypesIqFinder.shortValue(), newValue);
+	}
+
+	public void setStringValue(String newValue)
+	{
+		zSetString(AllTypesIqFinder.stringValue(), newValue);
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(AllTypesIqFinder.timestampValue(), newValue);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableByteValue());
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableShortValue());
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableCharValue());
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableIntValue());
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableLongValue());
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableFloatValue());
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zSetAttributeNull(AllTypesIqFinder.nullableDoubleValue());
+	}
+}
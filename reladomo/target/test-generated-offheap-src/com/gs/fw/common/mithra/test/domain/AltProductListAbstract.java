@@ -0,0 +1,157 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AltProductListAbstract extends DelegatingList<AltProduct> implements MithraTransactionalList<AltProduct>
+{
+	public AltProductListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AltProductListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AltProductListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AltProductListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AltProduct[] elements()
+	{
+		AltProduct[] result = new AltProduct[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AltProductList intersection(AltProductList another)
+	{
+		return (AltProductList)super.intersection(another);
+	}
+
+	public AltProduct getAltProductAt(int index)
+	{
+		return (AltProduct)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = AltSynonym.productId</pre>
+	* @return synonyms
+	*/
+	public AltSynonymList getSynonyms()
+	{
+		return (AltSynonymList) this.getDelegated().resolveRelationship(this, AltProductFinder.synonyms());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = AltSynonym.productId and
+	AltSynonym.synonymTypeId = AltSynonymType.synonymTypeId and
+	AltSynonymType.name = {synonymTypeName}</pre>
+	* @return The synonym by type
+	*/
+	public AltSynonymList getSynonymByTypes(String synonymTypeName)
+	{
+		return (AltSynonymList) this.getDelegated().resolveRelationship(this, AltProductFinder.synonymByType(synonymTypeName));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AltProductFinder.getMithraObjectPortal();
+	}
+
+	public AltProductList getNonPersistentCopy()
+	{
+		AltProductList result = new AltProductList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AltProductList asAdhoc()
+	{
+		return (AltProductList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AltProduct> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AltProductList merge(MithraTransactionalList<AltProduct> incoming, TopLevelMergeOptions<AltProduct> mergeOptions)
+	{
+		return (AltProductList) super.merge(incoming, mergeOptions);
+	}
+
+	public AltProductList getDetachedCopy()
+	{
+		AltProductList result = new AltProductList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(AltProductFinder.name(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(AltProductFinder.productId(), newValue);
+	}
+}
@@ -0,0 +1,780 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AltSynonymFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AltSynonym";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AltSynonym";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AltSynonym");
+	private static final AltSynonymSingleFinder<AltSynonym, Object, AltSynonym> finder = new AltSynonymSingleFinder<AltSynonym, Object, AltSynonym>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AltSynonymFinder.AltSynonymRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("synonymTypeId");
+		finderMethodMap.addNormalAttributeName("value");
+		finderMethodMap.addRelationshipName("synonymType");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = AltSynonymFinder.synonymTypeId().constructEqualityMapper(AltSynonymTypeFinder.synonymTypeId());
+			result[1] = AltSynonymTypeFinder.synonymTypeId().constructEqualityMapper(AltSynonymFinder.synonymTypeId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AltSynonym findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AltSynonym findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AltSynonymList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AltSynonymList) finder.findMany(operation);
+	}
+
+	public static AltSynonymList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AltSynonymList) finder.findManyBypassCache(operation);
+	}
+
+	private static AltSynonym findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AltSynonym) FinderUtils.findOne(found);
+	}
+
+	public static AltSynonym findByPrimaryKey(int productId, int synonymTypeId)
+	{
+		return finder.findByPrimaryKey(productId, synonymTypeId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AltSynonymData _castedTargetData = (AltSynonymData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getI2AsInteger() == _castedTargetData.getSynonymTypeId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static AltSynonym zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AltSynonym) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AltSynonymRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AltSynonym, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> synonymTypeId;
+		private StringAttribute<ParentOwnerType> value;
+		private AltSynonymSynonymTypeFinderSubclass<ParentOwnerType> synonymType;
+		public AltSynonymRelatedFinder()
+		{
+			super();
+		}
+
+		public AltSynonymRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AltSynonymFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AltSynonymFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AltSynonymFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AltSynonymFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.productId();
+			attributes[1] = this.synonymTypeId();
+			attributes[2] = this.value();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.synonymType());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AltSynonym findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AltSynonymFinder.findOne(operation, false);
+		}
+
+		public AltSynonym findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AltSynonymFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AltSynonym> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AltSynonymList((Operation) operation);
+		}
+
+		public MithraList<? extends AltSynonym> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AltSynonymList result = (AltSynonymList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AltSynonym> constructEmptyList()
+		{
+			return new AltSynonymList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1831096770;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AltSynonymFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "AltProduct", "synonyms");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> synonymTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.synonymTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SYNONYM_TYPE_ID","","synonymTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(AltSynonymFinder.synonymTypeId(), this.mapper, this.zGetValueSelector());
+				this.synonymTypeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> value()
+		{
+			StringAttribute<ParentOwnerType> result = this.value;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("VALUE","","value",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,12,true, false) :
+					new MappedStringAttribute(AltSynonymFinder.value(), this.mapper, this.zGetValueSelector());
+				this.value = result;
+			}
+
+			return result;
+		}
+
+		public AltSynonymTypeFinder.AltSynonymTypeSingleFinderForRelatedClasses<ParentOwnerType, AltSynonymType, AltSynonym> synonymType()
+		{
+			AltSynonymSynonymTypeFinderSubclass<ParentOwnerType> result = this.synonymType;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AltSynonymFinder.zGetAltSynonymSynonymTypeReverseMapper());
+				newMapper.setToMany(false);
+				result = new AltSynonymSynonymTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.synonymType = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AltSynonymFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AltSynonymFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AltSynonymCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AltSynonymRelatedFinder<ParentOwnerType, ReturnType, AltSynonymList, OwnerType>
+	{
+		public AltSynonymCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AltSynonymCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AltSynonymCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AltSynonymCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AltSynonymSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AltSynonymRelatedFinder<ParentOwnerType, ReturnType, AltSynonymList, OwnerType>
+	implements ToOneFinder
+	{
+		public AltSynonymSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AltSynonymSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AltSynonym other)
+		{
+			return this.productId().eq(other.getProductId())
+			.and(this.synonymTypeId().eq(other.getSynonymTypeId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AltSynonym findByPrimaryKey(int productId, int synonymTypeId)
+		{
+			AltSynonym _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(productId);
+				_bean.setI2AsInteger(synonymTypeId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AltSynonym) _related;
+			if (_related == null)
+			{
+				_op = this.productId().eq(productId).and(this.synonymTypeId().eq(synonymTypeId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AltSynonymSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AltSynonymSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AltSynonymSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper synonymTypeReverseMapper = null;
+	public static Mapper zGetAltSynonymSynonymTypeReverseMapper()
+	{
+		if (synonymTypeReverseMapper == null)
+		{
+			synonymTypeReverseMapper = zConstructAltSynonymSynonymTypeReverseMapper();
+		}
+
+		return synonymTypeReverseMapper;
+	}
+
+	private static Mapper synonymTypeMapper = null;
+	public static Mapper zGetAltSynonymSynonymTypeMapper()
+	{
+		if (synonymTypeMapper == null)
+		{
+			synonymTypeMapper = zConstructAltSynonymSynonymTypeMapper();
+		}
+
+		return synonymTypeMapper;
+	}
+
+	private static Mapper synonymTypePureReverseMapper = null;
+	public static Mapper zGetAltSynonymSynonymTypePureReverseMapper()
+	{
+		if (synonymTypePureReverseMapper == null)
+		{
+			synonymTypePureReverseMapper = zConstructAltSynonymSynonymTypePureReverseMapper();
+		}
+
+		return synonymTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructAltSynonymSynonymTypePureReverseMapper()
+	{
+		Mapper synonymTypeMapper = AltSynonymFinder.zGetConstantJoin(0);
+		synonymTypeMapper.setName("synonymType");
+		return synonymTypeMapper;
+	}
+
+	private static Mapper zConstructAltSynonymSynonymTypeReverseMapper()
+	{
+		Mapper synonymTypeMapper = AltSynonymFinder.zGetConstantJoin(0);
+		synonymTypeMapper.setName("synonymType");
+		return synonymTypeMapper;
+	}
+
+	private static Mapper zConstructAltSynonymSynonymTypeMapper()
+	{
+		Mapper synonymTypeMapper = AltSynonymFinder.zGetConstantJoin(1);
+		synonymTypeMapper.setName("synonymType_Reverse");
+		return synonymTypeMapper;
+	}
+
+	/** maps to ALT_SYNONYM.PRODUCT_ID **/
+	public static IntegerAttribute<AltSynonym> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to ALT_SYNONYM.SYNONYM_TYPE_ID **/
+	public static IntegerAttribute<AltSynonym> synonymTypeId()
+	{
+		return finder.synonymTypeId();
+	}
+
+	/** maps to ALT_SYNONYM.VALUE **/
+	public static StringAttribute<AltSynonym> value()
+	{
+		return finder.value();
+	}
+
+	public static AltSynonymTypeFinder.AltSynonymTypeSingleFinderForRelatedClasses<AltSynonym, AltSynonymType, AltSynonym> synonymType()
+	{
+		return finder.synonymType();
+	}
+
+	public static class AltSynonymSynonymTypeFinderSubclass<ParentOwnerType> extends AltSynonymTypeFinder.AltSynonymTypeSingleFinderForRelatedClasses<ParentOwnerType, AltSynonymType, AltSynonym>
+	{
+		public AltSynonymSynonymTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "synonymType";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AltSynonymSynonymTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AltSynonymType plainValueOf(AltSynonym _obj)
+		{
+			return _obj.getSynonymType();
+		}
+
+		protected AltSynonymTypeList plainListValueOf(Object _obj)
+		{
+			return ((AltSynonymList)_obj).getSynonymTypes();
+		}
+	}
+
+	public static Operation eq(AltSynonym other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(productId());
+	}
+
+	public static AltSynonymSingleFinder<AltSynonym, Object, AltSynonym> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+			, synonymTypeId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+			, productId()
+			, synonymTypeId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			synonymTypeId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			AltProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			AltProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AltSynonym");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
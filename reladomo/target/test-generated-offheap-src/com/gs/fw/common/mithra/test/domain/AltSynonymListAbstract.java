@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AltSynonymListAbstract extends DelegatingList<AltSynonym> implements MithraTransactionalList<AltSynonym>
+{
+	public AltSynonymListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AltSynonymListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AltSynonymListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AltSynonymListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AltSynonym[] elements()
+	{
+		AltSynonym[] result = new AltSynonym[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AltSynonymList intersection(AltSynonymList another)
+	{
+		return (AltSynonymList)super.intersection(another);
+	}
+
+	public AltSynonym getAltSynonymAt(int index)
+	{
+		return (AltSynonym)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.synonymTypeId = AltSynonymType.synonymTypeId</pre>
+	* @return The synonym type
+	*/
+	public AltSynonymTypeList getSynonymTypes()
+	{
+		return (AltSynonymTypeList) this.getDelegated().resolveRelationship(this, AltSynonymFinder.synonymType());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AltSynonymFinder.getMithraObjectPortal();
+	}
+
+	public AltSynonymList getNonPersistentCopy()
+	{
+		AltSynonymList result = new AltSynonymList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AltSynonymList asAdhoc()
+	{
+		return (AltSynonymList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AltSynonym> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AltSynonymList merge(MithraTransactionalList<AltSynonym> incoming, TopLevelMergeOptions<AltSynonym> mergeOptions)
+	{
+		return (AltSynonymList) super.merge(incoming, mergeOptions);
+	}
+
+	public AltSynonymList getDetachedCopy()
+	{
+		AltSynonymList result = new AltSynonymList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(AltSynonymFinder.productId(), newValue);
+	}
+
+	public void setSynonymTypeId(int newValue)
+	{
+		zSetInteger(AltSynonymFinder.synonymTypeId(), newValue);
+	}
+
+	public void setValue(String newValue)
+	{
+		zSetString(AltSynonymFinder.value(), newValue);
+	}
+}
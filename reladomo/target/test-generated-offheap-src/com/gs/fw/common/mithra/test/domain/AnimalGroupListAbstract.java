@@ -0,0 +1,124 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimal;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalAbstract;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalData;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalFinder;
+import com.gs.fw.common.mithra.test.domain.inherited.TxAnimalList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AnimalGroupListAbstract extends DelegatingList<AnimalGroup> implements MithraList<AnimalGroup>
+{
+	public AnimalGroupListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AnimalGroupListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AnimalGroupListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AnimalGroupListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public AnimalGroup[] elements()
+	{
+		AnimalGroup[] result = new AnimalGroup[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AnimalGroupList intersection(AnimalGroupList another)
+	{
+		return (AnimalGroupList)super.intersection(another);
+	}
+
+	public AnimalGroup getAnimalGroupAt(int index)
+	{
+		return (AnimalGroup)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TxAnimal.animalGroupId = this.id</pre>
+	* @see TxAnimal#getGroup() reverse relationship TxAnimal.getGroup()
+	* @return animal
+	*/
+	public TxAnimalList getAnimal()
+	{
+		return (TxAnimalList) this.getDelegated().resolveRelationship(this, AnimalGroupFinder.animal());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AnimalGroupFinder.getMithraObjectPortal();
+	}
+
+	public AnimalGroupList getNonPersistentCopy()
+	{
+		AnimalGroupList result = new AnimalGroupList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AnimalGroupList asAdhoc()
+	{
+		return (AnimalGroupList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AnimalGroup> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,196 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditOnlyBalanceListAbstract extends DelegatingList<AuditOnlyBalance> implements MithraDatedTransactionalList<AuditOnlyBalance>
+{
+	public AuditOnlyBalanceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditOnlyBalanceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditOnlyBalanceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditOnlyBalanceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditOnlyBalance[] elements()
+	{
+		AuditOnlyBalance[] result = new AuditOnlyBalance[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditOnlyBalanceList intersection(AuditOnlyBalanceList another)
+	{
+		return (AuditOnlyBalanceList)super.intersection(another);
+	}
+
+	public AuditOnlyBalance getAuditOnlyBalanceAt(int index)
+	{
+		return (AuditOnlyBalance)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		return (AuditOnlyBalanceList) this.getDelegated().resolveRelationship(this, AuditOnlyBalanceFinder.auditedBalanceByInterest());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}</pre>
+	* @return audited balance by interest for quantity
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantity(double quantity)
+	{
+		return (AuditOnlyBalanceList) this.getDelegated().resolveRelationship(this, AuditOnlyBalanceFinder.auditedBalanceByInterestForQuantity(quantity));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest and AuditOnlyBalance.quantity > {quantity}
+	and this.quantity > 1</pre>
+	* @return audited balance by interest for quantity with check
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterestForQuantityWithCheck(double quantity)
+	{
+		return (AuditOnlyBalanceList) this.getDelegated().resolveRelationship(this, AuditOnlyBalanceFinder.auditedBalanceByInterestForQuantityWithCheck(quantity));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditOnlyBalanceFinder.getMithraObjectPortal();
+	}
+
+	public AuditOnlyBalanceList getNonPersistentCopy()
+	{
+		AuditOnlyBalanceList result = new AuditOnlyBalanceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditOnlyBalanceList asAdhoc()
+	{
+		return (AuditOnlyBalanceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AuditOnlyBalance> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AuditOnlyBalanceList merge(MithraTransactionalList<AuditOnlyBalance> incoming, TopLevelMergeOptions<AuditOnlyBalance> mergeOptions)
+	{
+		return (AuditOnlyBalanceList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditOnlyBalanceList getDetachedCopy()
+	{
+		AuditOnlyBalanceList result = new AuditOnlyBalanceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(AuditOnlyBalanceFinder.acmapCode(), newValue);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(AuditOnlyBalanceFinder.balanceId(), newValue);
+	}
+
+	public void setInterest(double newValue)
+	{
+		zSetDouble(AuditOnlyBalanceFinder.interest(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditOnlyBalanceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditOnlyBalanceFinder.processingDateTo(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(AuditOnlyBalanceFinder.quantity(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
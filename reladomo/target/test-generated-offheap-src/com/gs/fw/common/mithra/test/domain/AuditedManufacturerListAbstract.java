@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedManufacturerListAbstract extends DelegatingList<AuditedManufacturer> implements MithraDatedTransactionalList<AuditedManufacturer>
+{
+	public AuditedManufacturerListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedManufacturerListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedManufacturerListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedManufacturerListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedManufacturer[] elements()
+	{
+		AuditedManufacturer[] result = new AuditedManufacturer[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedManufacturerList intersection(AuditedManufacturerList another)
+	{
+		return (AuditedManufacturerList)super.intersection(another);
+	}
+
+	public AuditedManufacturer getAuditedManufacturerAt(int index)
+	{
+		return (AuditedManufacturer)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = AuditedOrderItem.manufacturerId</pre>
+	* @see AuditedOrderItem#getManufacturer() reverse relationship AuditedOrderItem.getManufacturer()
+	* @return audited order items
+	*/
+	public AuditedOrderItemList getAuditedOrderItems()
+	{
+		return (AuditedOrderItemList) this.getDelegated().resolveRelationship(this, AuditedManufacturerFinder.auditedOrderItems());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedManufacturerFinder.getMithraObjectPortal();
+	}
+
+	public AuditedManufacturerList getNonPersistentCopy()
+	{
+		AuditedManufacturerList result = new AuditedManufacturerList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedManufacturerList asAdhoc()
+	{
+		return (AuditedManufacturerList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AuditedManufacturer> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AuditedManufacturerList merge(MithraTransactionalList<AuditedManufacturer> incoming, TopLevelMergeOptions<AuditedManufacturer> mergeOptions)
+	{
+		return (AuditedManufacturerList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedManufacturerList getDetachedCopy()
+	{
+		AuditedManufacturerList result = new AuditedManufacturerList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCreditRating(int newValue)
+	{
+		zSetInteger(AuditedManufacturerFinder.creditRating(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AuditedManufacturerFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(AuditedManufacturerFinder.name(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedManufacturerFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedManufacturerFinder.processingDateTo(), newValue);
+	}
+
+	public void setCreditRatingNull()
+	{
+		zSetAttributeNull(AuditedManufacturerFinder.creditRating());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1517 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class AuditedOrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+, OrderItemInterface
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		AuditedOrderItemFinder.processingDate()
+	, AuditedOrderItemFinder.zGetDoubleAttributes(),AuditedOrderItemFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(AuditedOrderItem.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy forauditedOrderItemStatus = new AuditedOrderItemStatusRhs();
+	private static final RelationshipHashStrategy formanufacturer = new ManufacturerRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final RelationshipHashStrategy fordirectRefOrder = new DirectRefOrderRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class AuditedOrderItemStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderItemStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrderItem _castedSrcObject = (AuditedOrderItem) _srcObject;
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			AuditedOrderItemStatusData _castedTargetData = (AuditedOrderItemStatusData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getItemId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ManufacturerRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedManufacturerFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrderItem _castedSrcObject = (AuditedOrderItem) _srcObject;
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			AuditedManufacturerData _castedTargetData = (AuditedManufacturerData) _targetData;
+			if (!_castedSrcData.isManufacturerIdNull() && _castedSrcData.getManufacturerId() == _castedTargetData.getId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getManufacturerId(), _castedSrcData.isManufacturerIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrderItem _castedSrcObject = (AuditedOrderItem) _srcObject;
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			AuditedOrderData _castedTargetData = (AuditedOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class DirectRefOrderRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedOrderFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedOrderItem _castedSrcObject = (AuditedOrderItem) _srcObject;
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			AuditedOrderData _castedTargetData = (AuditedOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedOrderItemData _castedSrcData = (AuditedOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isAuditedOrderItemStatusModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_data.getAuditedOrderItemStatus() instanceof NulledRelation)
+		{
+			AuditedOrderItemStatus _existing = this.getOriginalPersistentObject().getAuditedOrderItemStatus();
+			return _existing != null;
+		}
+
+		AuditedOrderItemStatus auditedOrderItemStatus =
+		(AuditedOrderItemStatus) _data.getAuditedOrderItemStatus();
+		if( auditedOrderItemStatus != null)
+		{
+			return auditedOrderItemStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	private Object __directRefOrder;
+	public AuditedOrderItemAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedOrderItemFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public AuditedOrderItemData zSynchronizedGetData()
+	{
+		return (AuditedOrderItemData) super.zSynchronizedGetData();
+	}
+
+	protected void zClearAllDirectRefs()
+	{
+		__directRefOrder = null;
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !AuditedOrderItemFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		if (behavior.isPersisted()) return;
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		if (_behavior.isPersisted()) return;
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderItemStatus auditedOrderItemStatus =
+		(AuditedOrderItemStatus ) _data.getAuditedOrderItemStatus();
+		_behavior.insert(this);
+		if (auditedOrderItemStatus != null)
+		{
+			auditedOrderItemStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		AuditedOrderItemFinder.AuditedOrderItemRelatedFinder parentFinder = (AuditedOrderItemFinder.AuditedOrderItemRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _newData = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getAuditedOrderItemStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.auditedOrderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			AuditedOrderItemStatus auditedOrderItemStatus =
+			(AuditedOrderItemStatus) _newData.getAuditedOrderItemStatus();
+			RelatedFinder dependentFinder = parentFinder.auditedOrderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, auditedOrderItemStatus != null, navigationStats);
+			if (auditedOrderItemStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(auditedOrderItemStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public AuditedOrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		if (_behavior.isPersisted()) return (AuditedOrderItem) this;
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		AuditedOrderItemStatus auditedOrderItemStatus =
+		(AuditedOrderItemStatus ) _data.getAuditedOrderItemStatus();
+		AuditedOrderItem original = (AuditedOrderItem) _behavior.copyThenInsert(this);
+		if (auditedOrderItemStatus != null)
+		{
+			auditedOrderItemStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			AuditedOrderItemFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public AuditedOrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderItemAbstract result = (AuditedOrderItemAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (AuditedOrderItem ) result;
+	}
+
+	public AuditedOrderItem zFindOriginal()
+	{
+		AuditedOrderItemData data = (AuditedOrderItemData) this.currentData;
+		Operation op;
+		op = AuditedOrderItemFinder.id().eq(data.getId());
+		op = op.and(AuditedOrderItemFinder.processingDate().eq(this.getProcessingDate()));
+		return AuditedOrderItemFinder.findOne(op);
+	}
+
+	public AuditedOrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedOrderItemAbstract result = (AuditedOrderItemAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (AuditedOrderItem ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isAuditedOrderItemStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public AuditedOrderItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		if (behavior.isPersisted()) return (AuditedOrderItem) this;
+		return (AuditedOrderItem) behavior.updateOriginalOrInsert(this);
+	}
+
+	public AuditedOrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (AuditedOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			AuditedOrderItemData data = (AuditedOrderItemData) this.currentData;
+			Operation op = AuditedOrderItemFinder.processingDate().eq(this.processingDate);
+			op = op.and(AuditedOrderItemFinder.id().eq(data.getId()));
+			return AuditedOrderItemFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return this.zSynchronizedGetData().isDiscountPriceNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return this.zSynchronizedGetData().isManufacturerIdNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return this.zSynchronizedGetData().isOriginalPriceNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		AuditedOrderItemData data = this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(AuditedOrderItemFinder.discountPrice(), newValue, false ,true);
+	}
+
+	public void setDiscountPriceUsingInPlaceUpdate(double newValue)
+	{
+		this.zCheckDoubleValue(newValue);
+		AuditedOrderItemData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (AuditedOrderItemData) behavior.getCurrentDataForRead(this);
+		if ( !data.isDiscountPriceNull() &&
+		newValue == data.getDiscountPrice()) return;
+		AttributeUpdateWrapper updateWrapper =
+		new DoubleUpdateWrapper(
+			AuditedOrderItemFinder.discountPrice(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(AuditedOrderItemFinder.id(), newValue, true ,false);
+		if (d == null) return;
+		AuditedOrderItemData data = (AuditedOrderItemData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			AuditedOrderItemStatus auditedOrderItemStatus =
+			(AuditedOrderItemStatus) data.getAuditedOrderItemStatus();
+			if (auditedOrderItemStatus != null)
+			{
+				auditedOrderItemStatus.setItemId(newValue);
+			}
+		}
+	}
+
+	public int getManufacturerId()
+	{
+		AuditedOrderItemData data = this.zSynchronizedGetData();
+		if (data.isManufacturerIdNull()) MithraNullPrimitiveException.throwNew("manufacturerId", data);
+		return data.getManufacturerId();
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.manufacturerId(), newValue, false ,true);
+	}
+
+	public int getOrderId()
+	{
+		AuditedOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.orderId(), newValue, false ,true);
+	}
+
+	public double getOriginalPrice()
+	{
+		AuditedOrderItemData data = this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(AuditedOrderItemFinder.originalPrice(), newValue, false ,true);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		AuditedOrderItemData data = this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.productId(), newValue, true ,true);
+	}
+
+	public double getQuantity()
+	{
+		AuditedOrderItemData data = this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(AuditedOrderItemFinder.quantity(), newValue, false ,true);
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(AuditedOrderItemFinder.state(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, AuditedOrderItemFinder.orderId(), false, mustCheckCurrent);
+		zNullify(behavior, data, AuditedOrderItemFinder.productId(), true, mustCheckCurrent);
+		zNullify(behavior, data, AuditedOrderItemFinder.quantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, AuditedOrderItemFinder.originalPrice(), false, mustCheckCurrent);
+		zNullify(behavior, data, AuditedOrderItemFinder.discountPrice(), false, mustCheckCurrent);
+		zNullify(behavior, data, AuditedOrderItemFinder.manufacturerId(), false, mustCheckCurrent);
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(AuditedOrderItemFinder.orderId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(AuditedOrderItemFinder.productId(), false);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(AuditedOrderItemFinder.quantity(), false);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(AuditedOrderItemFinder.originalPrice(), false);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(AuditedOrderItemFinder.discountPrice(), false);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zNullify(AuditedOrderItemFinder.manufacturerId(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		AuditedOrderItemData _newData = (AuditedOrderItemData) _data;
+		if (_newData.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNull();
+		}
+		else
+		{
+			this.setDiscountPriceUsingInPlaceUpdate(_newData.getDiscountPrice());
+		}
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		AuditedOrderItemData _newData = (AuditedOrderItemData) _data;
+		if (_newData.getAuditedOrderItemStatus() instanceof NulledRelation)
+		{
+			AuditedOrderItemStatus auditedOrderItemStatus =
+			this.getAuditedOrderItemStatus();
+			if (auditedOrderItemStatus != null)
+			{
+				auditedOrderItemStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			AuditedOrderItemStatus auditedOrderItemStatus =
+			(AuditedOrderItemStatus) _newData.getAuditedOrderItemStatus();
+			if (auditedOrderItemStatus != null)
+			{
+				AuditedOrderItemStatus _existing =
+				this.getAuditedOrderItemStatus();
+				if (_existing == null)
+				{
+					auditedOrderItemStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(auditedOrderItemStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(auditedOrderItemStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		AuditedOrderItemData _newData = (AuditedOrderItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getAuditedOrderItemStatus() != null && !(_newData.getAuditedOrderItemStatus() instanceof NulledRelation))
+		{
+			((AuditedOrderItemStatus)_newData.getAuditedOrderItemStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		AuditedOrderItemData _newData = (AuditedOrderItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getAuditedOrderItemStatus() != null && !(_newData.getAuditedOrderItemStatus() instanceof NulledRelation))
+		{
+			((AuditedOrderItemStatus)_newData.getAuditedOrderItemStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = AuditedOrderItemStatus.itemId</pre>
+	* @return The audited order item status
+	*/
+	public AuditedOrderItemStatus getAuditedOrderItemStatus()
+	{
+		AuditedOrderItemStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = AuditedOrderItemStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forauditedOrderItemStatus,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrderItemStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.auditedOrderItemStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getAuditedOrderItemStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (AuditedOrderItemStatus) _data.getAuditedOrderItemStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.auditedOrderItemStatus().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedOrderItemStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setAuditedOrderItemStatus(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrderItemStatus) _data.getAuditedOrderItemStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderItemStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setAuditedOrderItemStatus(AuditedOrderItemStatus auditedOrderItemStatus)
+	{
+		AuditedOrderItemStatus _auditedOrderItemStatus = (AuditedOrderItemStatus) auditedOrderItemStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getAuditedOrderItemStatus();
+			_data.setAuditedOrderItemStatus(_auditedOrderItemStatus);
+			if (_auditedOrderItemStatus != null)
+			{
+				_auditedOrderItemStatus.setItemId(_data.getId());
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setAuditedOrderItemStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			AuditedOrderItemStatus _existing = this.getAuditedOrderItemStatus();
+			if (_auditedOrderItemStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_auditedOrderItemStatus != null)
+				{
+					_auditedOrderItemStatus.setItemId(_data.getId());
+					_auditedOrderItemStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedManufacturer.id = this.manufacturerId</pre>
+	* @see AuditedManufacturer#getAuditedOrderItems() reverse relationship AuditedManufacturer.getAuditedOrderItems()
+	* @return The manufacturer
+	*/
+	public AuditedManufacturer getManufacturer()
+	{
+		AuditedManufacturer _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isManufacturerIdNull())
+			{
+				_portal = AuditedManufacturerFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, formanufacturer,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedManufacturer) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.manufacturer().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getManufacturer() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (AuditedManufacturer) _data.getManufacturer();
+			if (_result == null)
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.manufacturer().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedManufacturerFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setManufacturer(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedManufacturer) _data.getManufacturer();
+			if (_result == null)
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.manufacturer().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedManufacturerFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setManufacturer(AuditedManufacturer manufacturer)
+	{
+		AuditedManufacturer _manufacturer = (AuditedManufacturer) manufacturer;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getManufacturer();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((AuditedManufacturer)_prev).getAuditedOrderItems()).zMarkMoved( (AuditedOrderItem) this);
+			}
+
+			_data.setManufacturer(_manufacturer);
+			_manufacturer.getAuditedOrderItems().add((AuditedOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_manufacturer == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(
+					_manufacturer.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainermanufacturer(AuditedManufacturerAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setManufacturer(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = AuditedOrder.orderId</pre>
+	* @see AuditedOrder#getItems() reverse relationship AuditedOrder.getItems()
+	* @return The order
+	*/
+	public AuditedOrder getOrder()
+	{
+		AuditedOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = AuditedOrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (AuditedOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.order().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrder(AuditedOrder order)
+	{
+		AuditedOrder _order = (AuditedOrder) order;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((AuditedOrder)_prev).getItems()).zMarkMoved( (AuditedOrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add((AuditedOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(AuditedOrderAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = AuditedOrder.orderId</pre>
+	* @see AuditedOrder#getDirectRefitems() reverse relationship AuditedOrder.getDirectRefitems()
+	* @return The direct ref order
+	*/
+	public AuditedOrder getDirectRefOrder()
+	{
+		AuditedOrder _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = AuditedOrderFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = this.__directRefOrder;
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (AuditedOrder) _portal.unwrapRelatedObject(this, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.zClearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, fordirectRefOrder,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedOrder) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.directRefOrder().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.directRefOrder().zGetRelationshipMultiExtractor(), this);
+					_result = AuditedOrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (AuditedOrder) _data.getDirectRefOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedOrderItemFinder.directRefOrder().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = AuditedOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			this.__directRefOrder = (_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setDirectRefOrder(AuditedOrder directRefOrder)
+	{
+		AuditedOrder _directRefOrder = (AuditedOrder) directRefOrder;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		AuditedOrderItemData _data = (AuditedOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDirectRefOrder(_directRefOrder);
+			if (_directRefOrder == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_directRefOrder.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_directRefOrder == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_directRefOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedOrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new AuditedOrderItemData.AuditedOrderItemDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedOrderItemData data = (AuditedOrderItemData) AuditedOrderItemFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedOrderItem has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromAuditedOrderItemData( AuditedOrderItemData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromAuditedOrderItemData( AuditedOrderItemData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) AuditedOrderItemFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(AuditedOrderItemAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		AuditedOrderItemAbstract from = (AuditedOrderItemAbstract) f;
+		AuditedOrderItemData newData = from.zSynchronizedGetData();
+		if (from.isDiscountPriceNull())
+		{
+			this.setDiscountPriceNull();
+		}
+		else
+		{
+			this.setDiscountPrice(newData.getDiscountPrice());
+		}
+
+		if (from.isManufacturerIdNull())
+		{
+			this.setManufacturerIdNull();
+		}
+		else
+		{
+			this.setManufacturerId(newData.getManufacturerId());
+		}
+
+		if (from.isOrderIdNull())
+		{
+			this.setOrderIdNull();
+		}
+		else
+		{
+			this.setOrderId(newData.getOrderId());
+		}
+
+		if (from.isOriginalPriceNull())
+		{
+			this.setOriginalPriceNull();
+		}
+		else
+		{
+			this.setOriginalPrice(newData.getOriginalPrice());
+		}
+
+		if (from.isProductIdNull())
+		{
+			this.setProductIdNull();
+		}
+		else
+		{
+			this.setProductId(newData.getProductId());
+		}
+
+		if (from.isQuantityNull())
+		{
+			this.setQuantityNull();
+		}
+		else
+		{
+			this.setQuantity(newData.getQuantity());
+		}
+
+		this.setState(newData.getState());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		AuditedOrderItemData newData = (AuditedOrderItemData) d;
+		AuditedOrderItemData data = (AuditedOrderItemData) nd;
+		if (AuditedOrderItemFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, AuditedOrderItemFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderItemFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderItemFinder.manufacturerId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderItemFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, AuditedOrderItemFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, AuditedOrderItemFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, AuditedOrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, AuditedOrderItemFinder.state(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		{
+			AuditedOrderItemStatus related = this.getAuditedOrderItemStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedOrderItemData data = ((AuditedOrderItemData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderItemData data = ((AuditedOrderItemData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		AuditedOrderItemData data = ((AuditedOrderItemData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedOrderItemFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedOrderItemData localData = (AuditedOrderItemData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class AuditedOrderItemStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderItemStatus item = (AuditedOrderItemStatus) relatedObject;
+			item.setItemId(getId());
+		}
+	}
+
+	protected class AuditedOrderItemStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			AuditedOrderItemStatus item = (AuditedOrderItemStatus) relatedObject;
+			item.setItemId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,1269 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class AuditedOrderItemFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/AuditedOrderItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.AuditedOrderItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrderItem");
+	private static final AuditedOrderItemSingleFinder<AuditedOrderItem, Object, AuditedOrderItem> finder = new AuditedOrderItemSingleFinder<AuditedOrderItem, Object, AuditedOrderItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(AuditedOrderItemFinder.AuditedOrderItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("auditedOrderItemStatus");
+		finderMethodMap.addRelationshipName("manufacturer");
+		finderMethodMap.addRelationshipName("order");
+		finderMethodMap.addRelationshipName("directRefOrder");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = AuditedOrderItemFinder.id().constructEqualityMapper(AuditedOrderItemStatusFinder.itemId());
+			result[1] = AuditedOrderItemStatusFinder.itemId().constructEqualityMapper(AuditedOrderItemFinder.id());
+			result[2] = AuditedOrderItemFinder.processingDate().constructEqualityMapper(AuditedOrderItemStatusFinder.processingDate());
+			result[3] = AuditedOrderItemStatusFinder.processingDate().constructEqualityMapper(AuditedOrderItemFinder.processingDate());
+			result[4] = AuditedOrderItemFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[5] = ProductFinder.productId().constructEqualityMapper(AuditedOrderItemFinder.productId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static AuditedOrderItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static AuditedOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static AuditedOrderItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderItemList) finder.findMany(operation);
+	}
+
+	public static AuditedOrderItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (AuditedOrderItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static AuditedOrderItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (AuditedOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static AuditedOrderItem findByPrimaryKey(int id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			AuditedOrderItemData _castedTargetData = (AuditedOrderItemData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return AuditedOrderItemFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static AuditedOrderItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (AuditedOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class AuditedOrderItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<AuditedOrderItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderItemInterfaceFinder<AuditedOrderItem>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AuditedOrderItemProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private AuditedOrderItemAuditedOrderItemStatusFinderSubclass<ParentOwnerType> auditedOrderItemStatus;
+		private AuditedOrderItemManufacturerFinderSubclass<ParentOwnerType> manufacturer;
+		private AuditedOrderItemOrderFinderSubclass<ParentOwnerType> order;
+		private AuditedOrderItemDirectRefOrderFinderSubclass<ParentOwnerType> directRefOrder;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public AuditedOrderItemRelatedFinder()
+		{
+			super();
+		}
+
+		public AuditedOrderItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedOrderItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return AuditedOrderItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return AuditedOrderItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return AuditedOrderItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			attributes[7] = this.manufacturerId();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(5);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.auditedOrderItemStatus());
+				relatedFinders.add(this.manufacturer());
+				relatedFinders.add(this.order());
+				relatedFinders.add(this.directRefOrder());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.auditedOrderItemStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public AuditedOrderItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderItemFinder.findOne(operation, false);
+		}
+
+		public AuditedOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return AuditedOrderItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends AuditedOrderItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new AuditedOrderItemList((Operation) operation);
+		}
+
+		public MithraList<? extends AuditedOrderItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			AuditedOrderItemList result = (AuditedOrderItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends AuditedOrderItem> constructEmptyList()
+		{
+			return new AuditedOrderItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -614956631;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(AuditedOrderItemFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,24,4,2,false, false) :
+					new MappedIntegerAttribute(AuditedOrderItemFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "AuditedOrder", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,52,4,4,false, false) :
+					new MappedIntegerAttribute(AuditedOrderItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,56,4,5, false) :
+					new MappedDoubleAttribute(AuditedOrderItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,28,4,3, false) :
+					new MappedDoubleAttribute(AuditedOrderItemFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,4,0, false) :
+					new MappedDoubleAttribute(AuditedOrderItemFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STATE","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,64,-1,-1,20,true, false) :
+					new MappedStringAttribute(AuditedOrderItemFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,20,4,1,false, false) :
+					new MappedIntegerAttribute(AuditedOrderItemFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manufacturer");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "AuditedManufacturer", "auditedOrderItems");
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,36,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,AuditedOrderItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderItemFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,44,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,AuditedOrderItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(AuditedOrderItemFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),AuditedOrderItemFinder.processingDateInfinity,false,false,AuditedOrderItemFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(AuditedOrderItemFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, AuditedOrderItem> productInfo()
+		{
+			AuditedOrderItemProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderItemFinder.zGetAuditedOrderItemProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderItemProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderItemStatusFinder.AuditedOrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemStatus, AuditedOrderItem> auditedOrderItemStatus()
+		{
+			AuditedOrderItemAuditedOrderItemStatusFinderSubclass<ParentOwnerType> result = this.auditedOrderItemStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderItemFinder.zGetAuditedOrderItemAuditedOrderItemStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderItemAuditedOrderItemStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.auditedOrderItemStatus = result;
+			}
+
+			return result;
+		}
+
+		public AuditedManufacturerFinder.AuditedManufacturerSingleFinderForRelatedClasses<ParentOwnerType, AuditedManufacturer, AuditedOrderItem> manufacturer()
+		{
+			AuditedOrderItemManufacturerFinderSubclass<ParentOwnerType> result = this.manufacturer;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedManufacturerFinder.zGetAuditedManufacturerAuditedOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderItemManufacturerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manufacturer = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderFinder.AuditedOrderSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrder, AuditedOrderItem> order()
+		{
+			AuditedOrderItemOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderItemOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public AuditedOrderFinder.AuditedOrderSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrder, AuditedOrderItem> directRefOrder()
+		{
+			AuditedOrderItemDirectRefOrderFinderSubclass<ParentOwnerType> result = this.directRefOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(AuditedOrderFinder.zGetAuditedOrderDirectRefitemsMapper());
+				newMapper.setToMany(false);
+				result = new AuditedOrderItemDirectRefOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.directRefOrder = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return AuditedOrderItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return AuditedOrderItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class AuditedOrderItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends AuditedOrderItemRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderItemList, OwnerType>
+	{
+		public AuditedOrderItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class AuditedOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends AuditedOrderItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class AuditedOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderItemRelatedFinder<ParentOwnerType, ReturnType, AuditedOrderItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public AuditedOrderItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public AuditedOrderItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(AuditedOrderItem other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public AuditedOrderItem findByPrimaryKey(int id, Timestamp processingDate)
+		{
+			AuditedOrderItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (AuditedOrderItem) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class AuditedOrderItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends AuditedOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public AuditedOrderItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructAuditedOrderItemProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetAuditedOrderItemProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructAuditedOrderItemProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructAuditedOrderItemProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = AuditedOrderItemFinder.zGetConstantJoin(4);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = AuditedOrderItemFinder.zGetConstantJoin(4);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemProductInfoMapper()
+	{
+		Mapper productInfoMapper = AuditedOrderItemFinder.zGetConstantJoin(5);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	private static Mapper auditedOrderItemStatusReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemAuditedOrderItemStatusReverseMapper()
+	{
+		if (auditedOrderItemStatusReverseMapper == null)
+		{
+			auditedOrderItemStatusReverseMapper = zConstructAuditedOrderItemAuditedOrderItemStatusReverseMapper();
+		}
+
+		return auditedOrderItemStatusReverseMapper;
+	}
+
+	private static Mapper auditedOrderItemStatusMapper = null;
+	public static Mapper zGetAuditedOrderItemAuditedOrderItemStatusMapper()
+	{
+		if (auditedOrderItemStatusMapper == null)
+		{
+			auditedOrderItemStatusMapper = zConstructAuditedOrderItemAuditedOrderItemStatusMapper();
+		}
+
+		return auditedOrderItemStatusMapper;
+	}
+
+	private static Mapper auditedOrderItemStatusPureReverseMapper = null;
+	public static Mapper zGetAuditedOrderItemAuditedOrderItemStatusPureReverseMapper()
+	{
+		if (auditedOrderItemStatusPureReverseMapper == null)
+		{
+			auditedOrderItemStatusPureReverseMapper = zConstructAuditedOrderItemAuditedOrderItemStatusPureReverseMapper();
+		}
+
+		return auditedOrderItemStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemAuditedOrderItemStatusPureReverseMapper()
+	{
+		InternalList auditedOrderItemStatusMapperMapperList = new InternalList(2);
+		auditedOrderItemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(0));
+		auditedOrderItemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(2));
+		Mapper auditedOrderItemStatusMapper = new MultiEqualityMapper(auditedOrderItemStatusMapperMapperList);
+		auditedOrderItemStatusMapper.setName("auditedOrderItemStatus");
+		return auditedOrderItemStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemAuditedOrderItemStatusReverseMapper()
+	{
+		InternalList auditedOrderItemStatusMapperMapperList = new InternalList(2);
+		auditedOrderItemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(0));
+		auditedOrderItemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(2));
+		Mapper auditedOrderItemStatusMapper = new MultiEqualityMapper(auditedOrderItemStatusMapperMapperList);
+		auditedOrderItemStatusMapper.setName("auditedOrderItemStatus");
+		return auditedOrderItemStatusMapper;
+	}
+
+	private static Mapper zConstructAuditedOrderItemAuditedOrderItemStatusMapper()
+	{
+		InternalList auditedOrderItemStatusMapperMapperList = new InternalList(2);
+		auditedOrderItemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(1));
+		auditedOrderItemStatusMapperMapperList.add(AuditedOrderItemFinder.zGetConstantJoin(3));
+		Mapper auditedOrderItemStatusMapper = new MultiEqualityMapper(auditedOrderItemStatusMapperMapperList);
+		auditedOrderItemStatusMapper.setName("auditedOrderItemStatus_Reverse");
+		return auditedOrderItemStatusMapper;
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.ID **/
+	public static IntegerAttribute<AuditedOrderItem> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.ORDER_ID **/
+	public static IntegerAttribute<AuditedOrderItem> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<AuditedOrderItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.QUANTITY **/
+	public static DoubleAttribute<AuditedOrderItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.ORIGINAL_PRICE **/
+	public static DoubleAttribute<AuditedOrderItem> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.DISCOUNT_PRICE **/
+	public static DoubleAttribute<AuditedOrderItem> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.STATE **/
+	public static StringAttribute<AuditedOrderItem> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.MANUFACTURER_ID **/
+	public static IntegerAttribute<AuditedOrderItem> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.IN_Z **/
+	public static TimestampAttribute<AuditedOrderItem> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to AUDITED_ORDER_ITEM.OUT_Z **/
+	public static TimestampAttribute<AuditedOrderItem> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<AuditedOrderItem> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<AuditedOrderItem, Product, AuditedOrderItem> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class AuditedOrderItemProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, AuditedOrderItem>
+	{
+		public AuditedOrderItemProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(AuditedOrderItem _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderItemList)_obj).getProductInfos();
+		}
+	}
+
+	public static AuditedOrderItemStatusFinder.AuditedOrderItemStatusSingleFinderForRelatedClasses<AuditedOrderItem, AuditedOrderItemStatus, AuditedOrderItem> auditedOrderItemStatus()
+	{
+		return finder.auditedOrderItemStatus();
+	}
+
+	public static class AuditedOrderItemAuditedOrderItemStatusFinderSubclass<ParentOwnerType> extends AuditedOrderItemStatusFinder.AuditedOrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrderItemStatus, AuditedOrderItem>
+	{
+		public AuditedOrderItemAuditedOrderItemStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "auditedOrderItemStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderItemStatusFinder.itemId(),
+				AuditedOrderItemStatusFinder.processingDate()).withExtractors(
+				AuditedOrderItemFinder.id(),
+				AuditedOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemAuditedOrderItemStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((AuditedOrderItem) _obj).isAuditedOrderItemStatusModifiedSinceDetachment();
+		}
+
+		protected AuditedOrderItemStatus plainValueOf(AuditedOrderItem _obj)
+		{
+			return _obj.getAuditedOrderItemStatus();
+		}
+
+		protected AuditedOrderItemStatusList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderItemList)_obj).getAuditedOrderItemStatus();
+		}
+	}
+
+	public static AuditedManufacturerFinder.AuditedManufacturerSingleFinderForRelatedClasses<AuditedOrderItem, AuditedManufacturer, AuditedOrderItem> manufacturer()
+	{
+		return finder.manufacturer();
+	}
+
+	public static class AuditedOrderItemManufacturerFinderSubclass<ParentOwnerType> extends AuditedManufacturerFinder.AuditedManufacturerSingleFinderForRelatedClasses<ParentOwnerType, AuditedManufacturer, AuditedOrderItem>
+	{
+		public AuditedOrderItemManufacturerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manufacturer";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedManufacturerFinder.id(),
+				AuditedManufacturerFinder.processingDate()).withExtractors(
+				AuditedOrderItemFinder.manufacturerId(),
+				AuditedOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemManufacturerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedManufacturer plainValueOf(AuditedOrderItem _obj)
+		{
+			return _obj.getManufacturer();
+		}
+
+		protected AuditedManufacturerList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderItemList)_obj).getManufacturers();
+		}
+	}
+
+	public static AuditedOrderFinder.AuditedOrderSingleFinderForRelatedClasses<AuditedOrderItem, AuditedOrder, AuditedOrderItem> order()
+	{
+		return finder.order();
+	}
+
+	public static class AuditedOrderItemOrderFinderSubclass<ParentOwnerType> extends AuditedOrderFinder.AuditedOrderSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrder, AuditedOrderItem>
+	{
+		public AuditedOrderItemOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()).withExtractors(
+				AuditedOrderItemFinder.orderId(),
+				AuditedOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrder plainValueOf(AuditedOrderItem _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected AuditedOrderList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderItemList)_obj).getOrders();
+		}
+	}
+
+	public static AuditedOrderFinder.AuditedOrderSingleFinderForRelatedClasses<AuditedOrderItem, AuditedOrder, AuditedOrderItem> directRefOrder()
+	{
+		return finder.directRefOrder();
+	}
+
+	public static class AuditedOrderItemDirectRefOrderFinderSubclass<ParentOwnerType> extends AuditedOrderFinder.AuditedOrderSingleFinderForRelatedClasses<ParentOwnerType, AuditedOrder, AuditedOrderItem>
+	{
+		public AuditedOrderItemDirectRefOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "directRefOrder";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditedOrderFinder.orderId(),
+				AuditedOrderFinder.processingDate()).withExtractors(
+				AuditedOrderItemFinder.orderId(),
+				AuditedOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new AuditedOrderItemDirectRefOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditedOrder plainValueOf(AuditedOrderItem _obj)
+		{
+			return _obj.getDirectRefOrder();
+		}
+
+		protected AuditedOrderList plainListValueOf(Object _obj)
+		{
+			return ((AuditedOrderItemList)_obj).getDirectRefOrders();
+		}
+	}
+
+	public static Operation eq(AuditedOrderItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static AuditedOrderItemSingleFinder<AuditedOrderItem, Object, AuditedOrderItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			manufacturerId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			orderId()
+			, productId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.AuditedOrderItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,290 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderItemListAbstract extends DelegatingList<AuditedOrderItem> implements MithraDatedTransactionalList<AuditedOrderItem>
+{
+	public AuditedOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrderItem[] elements()
+	{
+		AuditedOrderItem[] result = new AuditedOrderItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderItemList intersection(AuditedOrderItemList another)
+	{
+		return (AuditedOrderItemList)super.intersection(another);
+	}
+
+	public AuditedOrderItem getAuditedOrderItemAt(int index)
+	{
+		return (AuditedOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.getDelegated().resolveRelationship(this, AuditedOrderItemFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = AuditedOrderItemStatus.itemId</pre>
+	* @return The audited order item status
+	*/
+	public AuditedOrderItemStatusList getAuditedOrderItemStatus()
+	{
+		return (AuditedOrderItemStatusList) this.getDelegated().resolveRelationship(this, AuditedOrderItemFinder.auditedOrderItemStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedManufacturer.id = this.manufacturerId</pre>
+	* @see AuditedManufacturer#getAuditedOrderItems() reverse relationship AuditedManufacturer.getAuditedOrderItems()
+	* @return The manufacturer
+	*/
+	public AuditedManufacturerList getManufacturers()
+	{
+		return (AuditedManufacturerList) this.getDelegated().resolveRelationship(this, AuditedOrderItemFinder.manufacturer());
+	}
+
+	public void zSetParentContainermanufacturer(AuditedManufacturerAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			AuditedOrderItem item = this.getAuditedOrderItemAt(i);
+			item.zSetParentContainermanufacturer(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = AuditedOrder.orderId</pre>
+	* @see AuditedOrder#getItems() reverse relationship AuditedOrder.getItems()
+	* @return The order
+	*/
+	public AuditedOrderList getOrders()
+	{
+		return (AuditedOrderList) this.getDelegated().resolveRelationship(this, AuditedOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(AuditedOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			AuditedOrderItem item = this.getAuditedOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = AuditedOrder.orderId</pre>
+	* @see AuditedOrder#getDirectRefitems() reverse relationship AuditedOrder.getDirectRefitems()
+	* @return The direct ref order
+	*/
+	public AuditedOrderList getDirectRefOrders()
+	{
+		return (AuditedOrderList) this.getDelegated().resolveRelationship(this, AuditedOrderItemFinder.directRefOrder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderItemList getNonPersistentCopy()
+	{
+		AuditedOrderItemList result = new AuditedOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderItemList asAdhoc()
+	{
+		return (AuditedOrderItemList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AuditedOrderItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderItemList merge(MithraTransactionalList<AuditedOrderItem> incoming, TopLevelMergeOptions<AuditedOrderItem> mergeOptions)
+	{
+		return (AuditedOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderItemList getDetachedCopy()
+	{
+		AuditedOrderItemList result = new AuditedOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(AuditedOrderItemFinder.discountPrice(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.id(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.manufacturerId(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(AuditedOrderItemFinder.originalPrice(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(AuditedOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(AuditedOrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(AuditedOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(AuditedOrderItemFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(AuditedOrderItemFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(AuditedOrderItemFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(AuditedOrderItemFinder.discountPrice());
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(AuditedOrderItemFinder.manufacturerId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
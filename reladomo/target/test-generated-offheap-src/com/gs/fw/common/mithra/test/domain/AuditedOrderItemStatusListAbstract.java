@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderItemStatusListAbstract extends DelegatingList<AuditedOrderItemStatus> implements MithraDatedTransactionalList<AuditedOrderItemStatus>
+{
+	public AuditedOrderItemStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderItemStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderItemStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderItemStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrderItemStatus[] elements()
+	{
+		AuditedOrderItemStatus[] result = new AuditedOrderItemStatus[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderItemStatusList intersection(AuditedOrderItemStatusList another)
+	{
+		return (AuditedOrderItemStatusList)super.intersection(another);
+	}
+
+	public AuditedOrderItemStatus getAuditedOrderItemStatusAt(int index)
+	{
+		return (AuditedOrderItemStatus)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderItemStatusFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderItemStatusList getNonPersistentCopy()
+	{
+		AuditedOrderItemStatusList result = new AuditedOrderItemStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderItemStatusList asAdhoc()
+	{
+		return (AuditedOrderItemStatusList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AuditedOrderItemStatus> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderItemStatusList merge(MithraTransactionalList<AuditedOrderItemStatus> incoming, TopLevelMergeOptions<AuditedOrderItemStatus> mergeOptions)
+	{
+		return (AuditedOrderItemStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderItemStatusList getDetachedCopy()
+	{
+		AuditedOrderItemStatusList result = new AuditedOrderItemStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(AuditedOrderItemStatusFinder.itemId(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(AuditedOrderItemStatusFinder.lastUser(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemStatusFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderItemStatusFinder.processingDateTo(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(AuditedOrderItemStatusFinder.status(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(AuditedOrderItemStatusFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedOrderStatusWithNonDatedOrderListAbstract extends DelegatingList<AuditedOrderStatusWithNonDatedOrder> implements MithraDatedTransactionalList<AuditedOrderStatusWithNonDatedOrder>
+{
+	public AuditedOrderStatusWithNonDatedOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder[] elements()
+	{
+		AuditedOrderStatusWithNonDatedOrder[] result = new AuditedOrderStatusWithNonDatedOrder[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderList intersection(AuditedOrderStatusWithNonDatedOrderList another)
+	{
+		return (AuditedOrderStatusWithNonDatedOrderList)super.intersection(another);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrder getAuditedOrderStatusWithNonDatedOrderAt(int index)
+	{
+		return (AuditedOrderStatusWithNonDatedOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWithAuditedStatus.orderId</pre>
+	* @see OrderWithAuditedStatus#getOrderStatus() reverse relationship OrderWithAuditedStatus.getOrderStatus()
+	* @return The order
+	*/
+	public OrderWithAuditedStatusList getOrders()
+	{
+		return (OrderWithAuditedStatusList) this.getDelegated().resolveRelationship(this, AuditedOrderStatusWithNonDatedOrderFinder.order());
+	}
+
+	public void zSetParentContainerorder(OrderWithAuditedStatusAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			AuditedOrderStatusWithNonDatedOrder item = this.getAuditedOrderStatusWithNonDatedOrderAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedOrderStatusWithNonDatedOrderFinder.getMithraObjectPortal();
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderList getNonPersistentCopy()
+	{
+		AuditedOrderStatusWithNonDatedOrderList result = new AuditedOrderStatusWithNonDatedOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderList asAdhoc()
+	{
+		return (AuditedOrderStatusWithNonDatedOrderList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AuditedOrderStatusWithNonDatedOrder> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderList merge(MithraTransactionalList<AuditedOrderStatusWithNonDatedOrder> incoming, TopLevelMergeOptions<AuditedOrderStatusWithNonDatedOrder> mergeOptions)
+	{
+		return (AuditedOrderStatusWithNonDatedOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public AuditedOrderStatusWithNonDatedOrderList getDetachedCopy()
+	{
+		AuditedOrderStatusWithNonDatedOrderList result = new AuditedOrderStatusWithNonDatedOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusWithNonDatedOrderFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(AuditedOrderStatusWithNonDatedOrderFinder.lastUser(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusWithNonDatedOrderFinder.orderId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusWithNonDatedOrderFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AuditedOrderStatusWithNonDatedOrderFinder.processingDateTo(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(AuditedOrderStatusWithNonDatedOrderFinder.status(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(AuditedOrderStatusWithNonDatedOrderFinder.status());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
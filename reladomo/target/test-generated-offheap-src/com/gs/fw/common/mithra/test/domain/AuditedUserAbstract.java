@@ -0,0 +1,1029 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class AuditedUserAbstract
+implements MithraDatedObject, Serializable
+{
+	protected AuditedUserData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fordefaultGroup = new DefaultGroupRhs();
+	private static final class DefaultGroupRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = AuditedGroupFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			AuditedUser _castedSrcObject = (AuditedUser) _srcObject;
+			AuditedUserData _castedSrcData = (AuditedUserData) _srcData;
+			AuditedGroupData _castedTargetData = (AuditedGroupData) _targetData;
+			if (!_castedSrcData.isDefaultGroupIdNull() && _castedSrcData.getDefaultGroupId() == _castedTargetData.getId() && _castedSrcData.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			AuditedUserData _castedSrcData = (AuditedUserData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getDefaultGroupId(), _castedSrcData.isDefaultGroupIdNull()),HashUtil.hash(_castedSrcData.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public AuditedUserAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, AuditedUserFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromAuditedUserData( AuditedUserData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromAuditedUserData( AuditedUserData data )
+	{
+		this.setFromAuditedUserData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromAuditedUserData( (AuditedUserData) data );
+	}
+
+	public AuditedUser getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		AuditedUserAbstract copy = (AuditedUserAbstract)
+		AuditedUserFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (AuditedUser)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		AuditedUserData data = (AuditedUserData) AuditedUserFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("AuditedUser has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return AuditedUserFinder.getMithraObjectPortal().getCache();
+	}
+
+	public AuditedUserData zGetCurrentDataWithCheck()
+	{
+		AuditedUserData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private AuditedUserData zRefreshData(AuditedUserData current)
+	{
+		AuditedUserData newData = (AuditedUserData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("AuditedUser has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(AuditedUserData current)
+	{
+		boolean refresh = !AuditedUserFinder.processingDate().dataMatches(current, processingDate);
+		return refresh;
+	}
+
+	private AuditedUserData zGetOrInitializeInMemoryData()
+	{
+		AuditedUserData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new AuditedUserData.AuditedUserDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		AuditedUserData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			AuditedUserData newData = (AuditedUserData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isActiveNull()
+	{
+		return this.zGetCurrentDataWithCheck().isActiveNull();
+	}
+
+	public boolean isActive()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.isActive();
+	}
+
+	public void setActive(boolean newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setActive(newValue);
+	}
+
+	public boolean isDefaultGroupIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDefaultGroupIdNull();
+	}
+
+	public int getDefaultGroupId()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		if (data.isDefaultGroupIdNull())
+		MithraNullPrimitiveException.throwNew("defaultGroupId", data);
+		return data.getDefaultGroupId();
+	}
+
+	public void setDefaultGroupId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDefaultGroupId(newValue);
+	}
+
+	public boolean isIdNull()
+	{
+		return this.currentData.isIdNull();
+	}
+
+	public int getId()
+	{
+		AuditedUserData data = this.currentData;
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setId(newValue);
+	}
+
+	public boolean isLastUpdateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isLastUpdateNull();
+	}
+
+	public Timestamp getLastUpdate()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getLastUpdate();
+	}
+
+	public void setLastUpdate(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setLastUpdate(newValue);
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNameNull();
+	}
+
+	public String getName()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setName(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isProfileIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProfileIdNull();
+	}
+
+	public int getProfileId()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getProfileId();
+	}
+
+	public void setProfileId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProfileId(newValue);
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isSourceIdNull();
+	}
+
+	public int getSourceId()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setSourceId(newValue);
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isUserIdNull();
+	}
+
+	public String getUserId()
+	{
+		AuditedUserData data = this.zGetCurrentDataWithCheck();
+		return data.getUserId();
+	}
+
+	public void setUserId(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setUserId(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setActiveNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setActiveNull();
+	}
+
+	public void setDefaultGroupIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDefaultGroupIdNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and AuditedGroup.id = AuditedUserGroup.dependentId</pre>
+	* Order By: <code>name DESC</code>.
+	* @see AuditedGroup#getUsers() reverse relationship AuditedGroup.getUsers()
+	* @return groups
+	*/
+	public AuditedGroupList getGroups()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroupList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroupList) _data.getGroups();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new MappedOperation(AuditedUserFinder.zGetGroupsMapperFragment(), AuditedUserGroupFinder.ownerId().eq(_data.getId()).and(AuditedUserGroupFinder.sourceId().eq(_data.getSourceId())).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedGroupList(_op);
+				_result.zSetForRelationship();
+				_result.setOrderBy(AuditedGroupFinder.name().descendingOrderBy());
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and AuditedGroup.id = AuditedUserGroup.dependentId and AuditedUserGroup.dependentId = 2</pre>
+	* Order By: <code>name DESC</code>.
+	* @return groups2
+	*/
+	public AuditedGroupList getGroups2()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroupList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroupList) _data.getGroups2();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new MappedOperation(AuditedUserFinder.zGetGroups2MapperFragment(), AuditedUserGroupFinder.ownerId().eq(_data.getId()).and(AuditedUserGroupFinder.sourceId().eq(_data.getSourceId())).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate())).and(AuditedUserGroupFinder.zGetConstantOperation(0)));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedGroupList(_op);
+				_result.zSetForRelationship();
+				_result.setOrderBy(AuditedGroupFinder.name().descendingOrderBy());
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id
+	and AuditedUserGroup.sourceId = 1
+	and AuditedGroup.id = AuditedUserGroup.dependentId
+	and AuditedGroup.sourceId = 2</pre>
+	* @see AuditedGroup#getSourceUsers() reverse relationship AuditedGroup.getSourceUsers()
+	* @return source groups
+	*/
+	public AuditedGroupList getSourceGroups()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroupList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroupList) _data.getSourceGroups();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new MappedOperation(AuditedUserFinder.zGetSourceGroupsMapperFragment(), AuditedUserGroupFinder.ownerId().eq(_data.getId()).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate())).and(AuditedUserGroupFinder.zGetConstantOperation(1)));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedGroupList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedGroup.id = this.defaultGroupId)</pre>
+	* @see AuditedGroup#getDefaultUsers() reverse relationship AuditedGroup.getDefaultUsers()
+	* @return The default group
+	*/
+	public AuditedGroup getDefaultGroup()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroup) _data.getDefaultGroup();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isDefaultGroupIdNull())
+			{
+				_portal = AuditedGroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordefaultGroup,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (AuditedGroup) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedUserFinder.defaultGroup().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = AuditedGroup.id and (AuditedGroup.type = 7)</pre>
+	* @see AuditedGroup#getGroup7activeUsers() reverse relationship AuditedGroup.getGroup7activeUsers()
+	* @return The group7
+	*/
+	public AuditedGroup getGroup7()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroup) _data.getGroup7();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isDefaultGroupIdNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedUserFinder.group7().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.id = AuditedGroup.managerId) and (this.defaultGroupId = AuditedGroup.id)</pre>
+	* @return The managed default group
+	*/
+	public AuditedGroup getManagedDefaultGroup()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroup) _data.getManagedDefaultGroup();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isDefaultGroupIdNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedUserFinder.managedDefaultGroup().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = AuditedGroup.id and (AuditedUser.id = AuditedGroup.managerId)</pre>
+	* @return The default group manager
+	*/
+	public AuditedUser getDefaultGroupManager()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedUser _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUser) _data.getDefaultGroupManager();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			if (!_data.isDefaultGroupIdNull())
+			{
+				{
+					_op = new MappedOperation(AuditedUserFinder.zGetDefaultGroupManagerMapperFragment(), AuditedGroupFinder.id().eq(_data.getDefaultGroupId()).and(AuditedGroupFinder.sourceId().eq(_data.getSourceId())).and(AuditedGroupFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedUserFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and AuditedGroup.id = AuditedUserGroup.dependentId and AuditedUser.id = AuditedGroup.managerId</pre>
+	* @return groups with managers
+	*/
+	public AuditedGroupList getGroupsWithManagers()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedGroupList _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedGroupList) _data.getGroupsWithManagers();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new MappedOperation(AuditedUserFinder.zGetGroupsWithManagersMapperFragment(), AuditedUserGroupFinder.ownerId().eq(_data.getId()).and(AuditedUserGroupFinder.sourceId().eq(_data.getSourceId())).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = new AuditedGroupList(_op);
+				_result.zSetForRelationship();
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and UserGroup.dependentId = 2</pre>
+	* @return The user groups2
+	*/
+	public AuditedUserGroup getUserGroups2()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedUserGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUserGroup) _data.getUserGroups2();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = AuditedUserGroupFinder.ownerId().eq(_data.getId()).and(AuditedUserGroupFinder.sourceId().eq(_data.getSourceId())).and(AuditedUserGroupFinder.processingDate().eq(this.getProcessingDate()));
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedUserGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id</pre>
+	* @return The user groups
+	*/
+	public AuditedUserGroup getUserGroups()
+	{
+		AuditedUserData _data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		AuditedUserGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (AuditedUserGroup) _data.getUserGroups();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(AuditedUserFinder.userGroups().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = AuditedUserGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setGroups(AuditedGroupList groups)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setGroups(groups);
+	}
+
+	public void setGroups2(AuditedGroupList groups2)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setGroups2(groups2);
+	}
+
+	public void setSourceGroups(AuditedGroupList sourceGroups)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setSourceGroups(sourceGroups);
+	}
+
+	public void setDefaultGroup(AuditedGroup defaultGroup)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setDefaultGroup(defaultGroup);
+		if (defaultGroup == null)
+		{
+			this.setDefaultGroupIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setDefaultGroupId(
+				defaultGroup.getId());
+			this.setSourceId(
+				defaultGroup.getSourceId());
+		}
+	}
+
+	public void setGroup7(AuditedGroup group7)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setGroup7(group7);
+		if (group7 == null)
+		{
+			this.setDefaultGroupIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setDefaultGroupId(
+				group7.getId());
+			this.setSourceId(
+				group7.getSourceId());
+		}
+	}
+
+	public void setManagedDefaultGroup(AuditedGroup managedDefaultGroup)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setManagedDefaultGroup(managedDefaultGroup);
+		if (managedDefaultGroup == null)
+		{
+			this.setId(0);
+			this.setDefaultGroupIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(
+				managedDefaultGroup.getManagerId());
+			this.setDefaultGroupId(
+				managedDefaultGroup.getId());
+			this.setSourceId(
+				managedDefaultGroup.getSourceId());
+		}
+	}
+
+	public void setDefaultGroupManager(AuditedUser defaultGroupManager)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setDefaultGroupManager(defaultGroupManager);
+	}
+
+	public void setGroupsWithManagers(AuditedGroupList groupsWithManagers)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setGroupsWithManagers(groupsWithManagers);
+	}
+
+	public void setUserGroups2(AuditedUserGroup userGroups2)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setUserGroups2(userGroups2);
+		if (userGroups2 == null)
+		{
+			this.setId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(
+				userGroups2.getOwnerId());
+			this.setSourceId(
+				userGroups2.getSourceId());
+		}
+	}
+
+	public void setUserGroups(AuditedUserGroup userGroups)
+	{
+		this.ensureSetAttributeAllowed();
+		AuditedUserData _data = this.zGetCurrentDataWithCheck();
+		_data.setUserGroups(userGroups);
+		if (userGroups == null)
+		{
+			this.setId(0);
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setId(
+				userGroups.getOwnerId());
+			this.setSourceId(
+				userGroups.getSourceId());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		AuditedUserData data = ((AuditedUserData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		AuditedUserData data = ((AuditedUserData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new AuditedUserData.AuditedUserDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), AuditedUserFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = AuditedUserFinder.processingDate().eq(processingDate);
+			op = op.and(AuditedUserFinder.id().eq(currentData.getId()));
+			op = op.and(AuditedUserFinder.sourceId().eq(currentData.getSourceId()));
+			return AuditedUserFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		AuditedUserData localData = (AuditedUserData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return AuditedUserFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,1568 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface AuditedUserData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 58;
+	boolean isActiveNull();
+	boolean isActive();
+	void setActive(boolean value);
+	void setActiveNull();
+	boolean isDefaultGroupIdNull();
+	int getDefaultGroupId();
+	void setDefaultGroupId(int value);
+	void setDefaultGroupIdNull();
+	boolean isIdNull();
+	int getId();
+	void setId(int value);
+	void setIdNull();
+	boolean isLastUpdateNull();
+	Timestamp getLastUpdate();
+	void setLastUpdate(Timestamp value);
+	void setLastUpdateNull();
+	long zGetLastUpdateAsLong();
+	boolean isNameNull();
+	String getName();
+	void setName(String value);
+	void setNameNull();
+	int zGetNameAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isProfileIdNull();
+	int getProfileId();
+	void setProfileId(int value);
+	void setProfileIdNull();
+	boolean isSourceIdNull();
+	int getSourceId();
+	void setSourceId(int value);
+	void setSourceIdNull();
+	boolean isUserIdNull();
+	String getUserId();
+	void setUserId(String value);
+	void setUserIdNull();
+	int zGetUserIdAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getGroups();
+	void setGroups(Object related);
+	Object getGroups2();
+	void setGroups2(Object related);
+	Object getSourceGroups();
+	void setSourceGroups(Object related);
+	Object getDefaultGroup();
+	void setDefaultGroup(Object related);
+	Object getGroup7();
+	void setGroup7(Object related);
+	Object getManagedDefaultGroup();
+	void setManagedDefaultGroup(Object related);
+	Object getDefaultGroupManager();
+	void setDefaultGroupManager(Object related);
+	Object getGroupsWithManagers();
+	void setGroupsWithManagers(Object related);
+	Object getUserGroups2();
+	void setUserGroups2(Object related);
+	Object getUserGroups();
+	void setUserGroups(Object related);
+	public class AuditedUserDataOnHeap implements AuditedUserData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private boolean active;
+		private int defaultGroupId;
+		private int id;
+		private Timestamp lastUpdate;
+		private String name;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private int profileId;
+		private int sourceId;
+		private String userId;
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isLastUpdateNull()
+		{
+			return this.getLastUpdate() == null;
+		}
+
+		public boolean isNameNull()
+		{
+			return this.getName() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isProfileIdNull()
+		{
+			return false;
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isUserIdNull()
+		{
+			return this.getUserId() == null;
+		}
+
+		public boolean isActiveNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isDefaultGroupIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeBoolean(this.active);
+			out.writeInt(this.defaultGroupId);
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.lastUpdate);
+			out.writeObject(this.name);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedUserFinder.processingDate().getInfinityDate());
+			out.writeInt(this.profileId);
+			out.writeInt(this.sourceId);
+			out.writeObject(this.userId);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public boolean isActive()
+		{
+			return this.active;
+		}
+
+		public void setActive(boolean value)
+		{
+			this.active = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public int getDefaultGroupId()
+		{
+			return this.defaultGroupId;
+		}
+
+		public void setDefaultGroupId(int value)
+		{
+			this.defaultGroupId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public int getId()
+		{
+			return this.id;
+		}
+
+		public void setId(int value)
+		{
+			this.id = value;
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLastUpdate()
+		{
+			return this.lastUpdate;
+		}
+
+		public long zGetLastUpdateAsLong()
+		{
+			if (lastUpdate == null) return TimestampPool.OFF_HEAP_NULL;
+			return lastUpdate.getTime();
+		}
+
+		public void setLastUpdate(Timestamp value)
+		{
+			this.lastUpdate = TimestampPool.getInstance().getOrAddToCache(value, AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+		}
+
+		public void setLastUpdateNull()
+		{
+			this.setLastUpdate(null);
+		}
+
+		public String getName()
+		{
+			return this.name;
+		}
+
+		public int zGetNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+		}
+
+		public void setName(String value)
+		{
+			this.name = StringPool.getInstance().getOrAddToCache(value, AuditedUserFinder.isFullCache());
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProfileId()
+		{
+			return this.profileId;
+		}
+
+		public void setProfileId(int value)
+		{
+			this.profileId = value;
+		}
+
+		public void setProfileIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSourceId()
+		{
+			return this.sourceId;
+		}
+
+		public void setSourceId(int value)
+		{
+			this.sourceId = value;
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUserId()
+		{
+			return this.userId;
+		}
+
+		public int zGetUserIdAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(userId);
+		}
+
+		public void setUserId(String value)
+		{
+			this.userId = value;
+		}
+
+		public void setUserIdNull()
+		{
+			this.setUserId(null);
+		}
+
+		public void setActiveNull()
+		{
+			setActive((boolean)true);
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setDefaultGroupIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(AuditedUserDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.active = this.active;
+			copy.defaultGroupId = this.defaultGroupId;
+			copy.id = this.id;
+			copy.lastUpdate = this.lastUpdate;
+			copy.name = this.name;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.profileId = this.profileId;
+			copy.sourceId = this.sourceId;
+			copy.userId = this.userId;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[10];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.active = in.readBoolean();
+			this.defaultGroupId = in.readInt();
+			this.id = in.readInt();
+			this.lastUpdate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), AuditedUserFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedUserFinder.processingDate().getInfinityDate()), AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+			this.profileId = in.readInt();
+			this.sourceId = in.readInt();
+			this.userId = (String)in.readObject();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final AuditedUserData otherData = (AuditedUserData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.id);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, AuditedUserFinder.processingDate().getInfinityDate());
+			out.writeInt(this.sourceId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.id = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, AuditedUserFinder.processingDate().getInfinityDate()), AuditedUserFinder.isFullCache(), AuditedUserFinder.isOffHeap());
+			this.sourceId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getGroups()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[3];
+			}
+
+			return null;
+		}
+
+		public void setGroups(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[3] = related;
+		}
+
+		public Object getGroups2()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[4];
+			}
+
+			return null;
+		}
+
+		public void setGroups2(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[4] = related;
+		}
+
+		public Object getSourceGroups()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[7];
+			}
+
+			return null;
+		}
+
+		public void setSourceGroups(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[7] = related;
+		}
+
+		public Object getDefaultGroup()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setDefaultGroup(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public Object getGroup7()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[2];
+			}
+
+			return null;
+		}
+
+		public void setGroup7(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[2] = related;
+		}
+
+		public Object getManagedDefaultGroup()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[6];
+			}
+
+			return null;
+		}
+
+		public void setManagedDefaultGroup(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[6] = related;
+		}
+
+		public Object getDefaultGroupManager()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[1];
+			}
+
+			return null;
+		}
+
+		public void setDefaultGroupManager(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[1] = related;
+		}
+
+		public Object getGroupsWithManagers()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[5];
+			}
+
+			return null;
+		}
+
+		public void setGroupsWithManagers(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[5] = related;
+		}
+
+		public Object getUserGroups2()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[9];
+			}
+
+			return null;
+		}
+
+		public void setUserGroups2(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[9] = related;
+		}
+
+		public Object getUserGroups()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[8];
+			}
+
+			return null;
+		}
+
+		public void setUserGroups(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[10];
+			}
+
+			_relationships[8] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			AuditedUserDataOffHeap data = new AuditedUserDataOffHeap();
+			data.setActive(this.isActive());
+			if (this.isActiveNull()) data.setActiveNull();
+			data.setDefaultGroupId(this.getDefaultGroupId());
+			if (this.isDefaultGroupIdNull()) data.setDefaultGroupIdNull();
+			data.setId(this.getId());
+			data.setLastUpdate(this.getLastUpdate());
+			data.setName(this.getName());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setProfileId(this.getProfileId());
+			data.setSourceId(this.getSourceId());
+			data.setUserId(this.getUserId());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedUserData auditedUserData = (AuditedUserData) newData;
+			this.setActive(auditedUserData.isActive());
+			if (auditedUserData.isActiveNull()) this.setActiveNull();
+			this.setDefaultGroupId(auditedUserData.getDefaultGroupId());
+			if (auditedUserData.isDefaultGroupIdNull()) this.setDefaultGroupIdNull();
+			this.setLastUpdate(auditedUserData.getLastUpdate());
+			this.setName(auditedUserData.getName());
+			this.setProcessingDateFrom(auditedUserData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedUserData.getProcessingDateTo());
+			this.setProfileId(auditedUserData.getProfileId());
+			this.setSourceId(auditedUserData.getSourceId());
+			this.setUserId(auditedUserData.getUserId());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedUserData other = (AuditedUserData) newData;
+			if ( isActiveNull() != other.isActiveNull() || isActive() != other.isActive())
+			{
+				return true;
+			}
+
+			if ( isDefaultGroupIdNull() != other.isDefaultGroupIdNull() || getDefaultGroupId() != other.getDefaultGroupId())
+			{
+				return true;
+			}
+
+			if (!isLastUpdateNull() ? !getLastUpdate().equals(other.getLastUpdate()) : !other.isLastUpdateNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( getProfileId() != other.getProfileId())
+			{
+				return true;
+			}
+
+			if ( getSourceId() != other.getSourceId())
+			{
+				return true;
+			}
+
+			if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedUserDataOnHeap copy = new AuditedUserDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedUserDataOnHeap copy = new AuditedUserDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedUserData otherData = (AuditedUserData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedUserData otherData = (AuditedUserData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedUserData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedUserFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedUserFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedUserData";
+		}
+	}
+
+	public class AuditedUserDataOffHeap extends MithraOffHeapDataObject implements AuditedUserData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public AuditedUserDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 21);
+			this.zSetTimestamp(_storage, value, 33);
+			this.zSetTimestamp(_storage, value, 41);
+		}
+
+		public AuditedUserDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isActiveNull()
+		{
+			return zIsBooleanNull(_storage, 16);
+		}
+
+		public boolean isDefaultGroupIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isIdNull()
+		{
+			return false;
+		}
+
+		public boolean isLastUpdateNull()
+		{
+			return zIsTimestampNull(_storage, 21);
+		}
+
+		public boolean isNameNull()
+		{
+			return zIsStringNull(_storage, 29);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 33);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 41);
+		}
+
+		public boolean isProfileIdNull()
+		{
+			return false;
+		}
+
+		public boolean isSourceIdNull()
+		{
+			return false;
+		}
+
+		public boolean isUserIdNull()
+		{
+			return zIsStringNull(_storage, 53);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeBoolean(this.isActive());
+			out.writeInt(this.getDefaultGroupId());
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetLastUpdateAsLong());
+			out.writeObject(this.getName());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedUserFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getProfileId());
+			out.writeInt(this.getSourceId());
+			out.writeObject(this.getUserId());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isActiveNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isDefaultGroupIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public boolean isActive()
+		{
+			return zGetBoolean(_storage, 16);
+		}
+
+		public void setActive(boolean value)
+		{
+			zSetBoolean(_storage, value, 16);
+		}
+
+		public int getDefaultGroupId()
+		{
+			return zGetInteger(_storage, 17);
+		}
+
+		public void setDefaultGroupId(int value)
+		{
+			zSetInteger(_storage, value, 17, 4, 0);
+		}
+
+		public int getId()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setId(int value)
+		{
+			zSetInteger(_storage, value, 12, -1, -1);
+		}
+
+		public void setIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getLastUpdate()
+		{
+			return zGetTimestamp(_storage, 21);
+		}
+
+		public long zGetLastUpdateAsLong()
+		{
+			return zGetLong(_storage, 21);
+		}
+
+		public void setLastUpdate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 21);
+		}
+
+		public void setLastUpdateNull()
+		{
+			this.setLastUpdate(null);
+		}
+
+		public String getName()
+		{
+			return zGetString(_storage, 29);
+		}
+
+		public int zGetNameAsInt()
+		{
+			return zGetInteger(_storage, 29);
+		}
+
+		public void setName(String value)
+		{
+			zSetString(_storage, value, 29);
+		}
+
+		public void setNameNull()
+		{
+			this.setName(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 33);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 33);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 33);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 41);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 41);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 41);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getProfileId()
+		{
+			return zGetInteger(_storage, 49);
+		}
+
+		public void setProfileId(int value)
+		{
+			zSetInteger(_storage, value, 49, -1, -1);
+		}
+
+		public void setProfileIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getSourceId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setSourceId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setSourceIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUserId()
+		{
+			return zGetString(_storage, 53);
+		}
+
+		public int zGetUserIdAsInt()
+		{
+			return zGetInteger(_storage, 53);
+		}
+
+		public void setUserId(String value)
+		{
+			zSetString(_storage, value, 53);
+		}
+
+		public void setUserIdNull()
+		{
+			this.setUserId(null);
+		}
+
+		public void setActiveNull()
+		{
+			setActive((boolean)true);
+			zSetBooleanNull(_storage, 16);
+		}
+
+		public void setDefaultGroupIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(AuditedUserDataOnHeap copy, boolean withRelationships)
+		{
+			copy.active = this.isActive();
+			copy.defaultGroupId = this.getDefaultGroupId();
+			copy.id = this.getId();
+			copy.lastUpdate = this.getLastUpdate();
+			copy.name = this.getName();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.profileId = this.getProfileId();
+			copy.sourceId = this.getSourceId();
+			copy.userId = this.getUserId();
+			if (isActiveNull())
+			{
+				copy.setActiveNull();
+			}
+
+			if (isDefaultGroupIdNull())
+			{
+				copy.setDefaultGroupIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetBoolean(_storage, in.readBoolean(), 16);
+			zSetInteger(_storage, in.readInt(), 17, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 21);
+			zSetString(_storage, (String)in.readObject(), 29);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 33);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 41);
+			zSetInteger(_storage, in.readInt(), 49, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 53);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof AuditedUserDataOffHeap)
+			{
+				final AuditedUserDataOffHeap otherData = (AuditedUserDataOffHeap) other;
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final AuditedUserData otherData = (AuditedUserData) other;
+			if (getId() != otherData.getId())
+			{
+				return false;
+			}
+
+			if (getSourceId() != otherData.getSourceId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getId());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), AuditedUserFinder.processingDate().getInfinityDate());
+			out.writeInt(this.getSourceId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 33);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 41);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getGroups()
+		{
+			return null;
+		}
+
+		public void setGroups(Object related)
+		{
+		}
+
+		public Object getGroups2()
+		{
+			return null;
+		}
+
+		public void setGroups2(Object related)
+		{
+		}
+
+		public Object getSourceGroups()
+		{
+			return null;
+		}
+
+		public void setSourceGroups(Object related)
+		{
+		}
+
+		public Object getDefaultGroup()
+		{
+			return null;
+		}
+
+		public void setDefaultGroup(Object related)
+		{
+		}
+
+		public Object getGroup7()
+		{
+			return null;
+		}
+
+		public void setGroup7(Object related)
+		{
+		}
+
+		public Object getManagedDefaultGroup()
+		{
+			return null;
+		}
+
+		public void setManagedDefaultGroup(Object related)
+		{
+		}
+
+		public Object getDefaultGroupManager()
+		{
+			return null;
+		}
+
+		public void setDefaultGroupManager(Object related)
+		{
+		}
+
+		public Object getGroupsWithManagers()
+		{
+			return null;
+		}
+
+		public void setGroupsWithManagers(Object related)
+		{
+		}
+
+		public Object getUserGroups2()
+		{
+			return null;
+		}
+
+		public void setUserGroups2(Object related)
+		{
+		}
+
+		public Object getUserGroups()
+		{
+			return null;
+		}
+
+		public void setUserGroups(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final AuditedUserData auditedUserData = (AuditedUserData) newData;
+			this.setActive(auditedUserData.isActive());
+			if (auditedUserData.isActiveNull()) this.setActiveNull();
+			this.setDefaultGroupId(auditedUserData.getDefaultGroupId());
+			if (auditedUserData.isDefaultGroupIdNull()) this.setDefaultGroupIdNull();
+			this.setLastUpdate(auditedUserData.getLastUpdate());
+			this.setName(auditedUserData.getName());
+			this.setProcessingDateFrom(auditedUserData.getProcessingDateFrom());
+			this.setProcessingDateTo(auditedUserData.getProcessingDateTo());
+			this.setProfileId(auditedUserData.getProfileId());
+			this.setSourceId(auditedUserData.getSourceId());
+			this.setUserId(auditedUserData.getUserId());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final AuditedUserData other = (AuditedUserData) newData;
+			if ( isActiveNull() != other.isActiveNull() || isActive() != other.isActive())
+			{
+				return true;
+			}
+
+			if ( isDefaultGroupIdNull() != other.isDefaultGroupIdNull() || getDefaultGroupId() != other.getDefaultGroupId())
+			{
+				return true;
+			}
+
+			if (!isLastUpdateNull() ? !getLastUpdate().equals(other.getLastUpdate()) : !other.isLastUpdateNull())
+			{
+				return true;
+			}
+
+			if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+			{
+				return true;
+			}
+
+			if ( getProfileId() != other.getProfileId())
+			{
+				return true;
+			}
+
+			if ( getSourceId() != other.getSourceId())
+			{
+				return true;
+			}
+
+			if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			AuditedUserDataOnHeap copy = new AuditedUserDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			AuditedUserDataOnHeap copy = new AuditedUserDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "id: "+(""+getId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "sourceId: "+(""+getSourceId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			AuditedUserData otherData = (AuditedUserData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			AuditedUserData otherData = (AuditedUserData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedUserData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return AuditedUserFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return AuditedUserFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.AuditedUserData";
+		}
+	}
+}
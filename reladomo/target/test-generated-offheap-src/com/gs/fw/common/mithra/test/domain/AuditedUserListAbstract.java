@@ -0,0 +1,217 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AuditedUserListAbstract extends DelegatingList<AuditedUser> implements MithraList<AuditedUser>
+{
+	public AuditedUserListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AuditedUserListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AuditedUserListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AuditedUserListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public AuditedUser[] elements()
+	{
+		AuditedUser[] result = new AuditedUser[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AuditedUserList intersection(AuditedUserList another)
+	{
+		return (AuditedUserList)super.intersection(another);
+	}
+
+	public AuditedUser getAuditedUserAt(int index)
+	{
+		return (AuditedUser)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and AuditedGroup.id = AuditedUserGroup.dependentId</pre>
+	* Order By: <code>name DESC</code>.
+	* @see AuditedGroup#getUsers() reverse relationship AuditedGroup.getUsers()
+	* @return groups
+	*/
+	public AuditedGroupList getGroups()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.groups());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and AuditedGroup.id = AuditedUserGroup.dependentId and AuditedUserGroup.dependentId = 2</pre>
+	* Order By: <code>name DESC</code>.
+	* @return groups2
+	*/
+	public AuditedGroupList getGroups2()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.groups2());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id
+	and AuditedUserGroup.sourceId = 1
+	and AuditedGroup.id = AuditedUserGroup.dependentId
+	and AuditedGroup.sourceId = 2</pre>
+	* @see AuditedGroup#getSourceUsers() reverse relationship AuditedGroup.getSourceUsers()
+	* @return source groups
+	*/
+	public AuditedGroupList getSourceGroups()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.sourceGroups());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(AuditedGroup.id = this.defaultGroupId)</pre>
+	* @see AuditedGroup#getDefaultUsers() reverse relationship AuditedGroup.getDefaultUsers()
+	* @return The default group
+	*/
+	public AuditedGroupList getDefaultGroups()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.defaultGroup());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = AuditedGroup.id and (AuditedGroup.type = 7)</pre>
+	* @see AuditedGroup#getGroup7activeUsers() reverse relationship AuditedGroup.getGroup7activeUsers()
+	* @return The group7
+	*/
+	public AuditedGroupList getGroup7s()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.group7());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.id = AuditedGroup.managerId) and (this.defaultGroupId = AuditedGroup.id)</pre>
+	* @return The managed default group
+	*/
+	public AuditedGroupList getManagedDefaultGroups()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.managedDefaultGroup());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = AuditedGroup.id and (AuditedUser.id = AuditedGroup.managerId)</pre>
+	* @return The default group manager
+	*/
+	public AuditedUserList getDefaultGroupManagers()
+	{
+		return (AuditedUserList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.defaultGroupManager());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and AuditedGroup.id = AuditedUserGroup.dependentId and AuditedUser.id = AuditedGroup.managerId</pre>
+	* @return groups with managers
+	*/
+	public AuditedGroupList getGroupsWithManagers()
+	{
+		return (AuditedGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.groupsWithManagers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id and UserGroup.dependentId = 2</pre>
+	* @return The user groups2
+	*/
+	public AuditedUserGroupList getUserGroups2s()
+	{
+		return (AuditedUserGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.userGroups2());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedUserGroup.ownerId = this.id</pre>
+	* @return The user groups
+	*/
+	public AuditedUserGroupList getUserGroups()
+	{
+		return (AuditedUserGroupList) this.getDelegated().resolveRelationship(this, AuditedUserFinder.userGroups());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AuditedUserFinder.getMithraObjectPortal();
+	}
+
+	public AuditedUserList getNonPersistentCopy()
+	{
+		AuditedUserList result = new AuditedUserList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AuditedUserList asAdhoc()
+	{
+		return (AuditedUserList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AuditedUser> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,734 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BigOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(BigOrder.class.getName());
+	public BigOrderAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BigOrder getDetachedCopy() throws MithraBusinessException
+	{
+		return (BigOrder) super.getDetachedCopy();
+	}
+
+	public BigOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		BigOrder result = (BigOrder) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public BigOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BigOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public BigOrder zFindOriginal()
+	{
+		BigOrderData data = (BigOrderData) this.currentData;
+		Operation op;
+		op = BigOrderFinder.orderId().eq(data.getOrderId());
+		return BigOrderFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BigOrderData();
+	}
+
+	protected void zSetFromBigOrderData( BigOrderData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBigOrderData( BigOrderData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((BigOrderData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		BigOrderData data = (BigOrderData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(BigOrderFinder.description(), newValue, false, false );
+	}
+
+	public boolean isDiscountPercentageNull()
+	{
+		return ((BigOrderData) this.zSynchronizedGetData()).isDiscountPercentageNull();
+	}
+
+	public BigDecimal getDiscountPercentage()
+	{
+		BigOrderData data = (BigOrderData) this.zSynchronizedGetData();
+		return data.getDiscountPercentage();
+	}
+
+	public void setDiscountPercentage(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderFinder.discountPercentage(), newValue, false, false );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((BigOrderData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		BigOrderData data = (BigOrderData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BigOrderFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((BigOrderData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		BigOrderData data = (BigOrderData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BigOrderFinder.orderId(), newValue, true, false ,false);
+		if (d == null) return;
+		BigOrderData data = (BigOrderData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			BigOrderItemList items =
+			(BigOrderItemList ) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+		}
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((BigOrderData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		BigOrderData data = (BigOrderData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BigOrderFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, BigOrderFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(BigOrderFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BigOrderData _newData = (BigOrderData) _data;
+		{
+			BigOrderItemList items =
+			(BigOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BigOrderData _newData = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BigOrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _newData = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BigOrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId</pre>
+	* @see BigOrderItem#getOrder() reverse relationship BigOrderItem.getOrder()
+	* @return items
+	*/
+	public BigOrderItemList getItems()
+	{
+		BigOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = BigOrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (BigOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = BigOrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new BigOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BigOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new BigOrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BigOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(BigOrderItemList items)
+	{
+		BigOrderItemList _items = (BigOrderItemList) items;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(BigOrderItemFinder.orderId().eq(_data.getOrderId()),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			BigOrderItemList itemsToDelete = new BigOrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				BigOrderItem item = _items.getBigOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		BigOrderItemList items =
+		(BigOrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId and BigOrderItem.price = 9.99</pre>
+	* @return nine nine nine items
+	*/
+	public BigOrderItemList getNineNineNineItems()
+	{
+		BigOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BigOrderFinder.nineNineNineItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BigOrderFinder.nineNineNineItems().zGetRelationshipMultiExtractor(), this);
+					_result = new BigOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BigOrderItemList) _data.getNineNineNineItems();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BigOrderFinder.nineNineNineItems().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setNineNineNineItems(BigOrderItemList nineNineNineItems)
+	{
+		BigOrderItemList _nineNineNineItems = (BigOrderItemList) nineNineNineItems;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNineNineNineItems(_nineNineNineItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId and BigOrderItem.price <= 9.99</pre>
+	* @return cheap items
+	*/
+	public BigOrderItemList getCheapItems()
+	{
+		BigOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = BigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BigOrderItemFinder.zGetConstantOperation(1));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = BigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BigOrderItemFinder.zGetConstantOperation(1));
+					_result = new BigOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BigOrderItemList) _data.getCheapItems();
+			if (_result == null)
+			{
+				{
+					_op = BigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BigOrderItemFinder.zGetConstantOperation(1));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setCheapItems(BigOrderItemList cheapItems)
+	{
+		BigOrderItemList _cheapItems = (BigOrderItemList) cheapItems;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCheapItems(_cheapItems);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId
+	and BigOrderItem.price = {price}</pre>
+	* @return items by price
+	*/
+	public BigOrderItemList getItemsByPrice(BigDecimal price)
+	{
+		BigOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BigOrderItemFinder.price().eq(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId
+	and BigOrderItem.price = {price}</pre>
+	* @return items by double price
+	*/
+	public BigOrderItemList getItemsByDoublePrice(double price)
+	{
+		BigOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BigOrderItemFinder.price().eq(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BigOrderItem.orderId = this.orderId
+	and BigOrderItem.bigPrice in {prices}</pre>
+	* @return items for product price set
+	*/
+	public BigOrderItemList getItemsForProductPriceSet(Set prices)
+	{
+		BigOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BigOrderItemFinder.orderId().eq(_data.getOrderId()).and(BigOrderItemFinder.bigPrice().in(prices));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BigOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+		BigOrderItemList items =
+		(BigOrderItemList) _data.getItems();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BigOrderFinder.BigOrderRelatedFinder parentFinder = (BigOrderFinder.BigOrderRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _newData = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			BigOrderItemList items =
+			(BigOrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public BigOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BigOrderData _data = (BigOrderData) _behavior.getCurrentDataForWrite(this);
+		BigOrderItemList items =
+		(BigOrderItemList) _data.getItems();
+		BigOrder original = (BigOrder) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getItems().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BigOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BigOrderFinder.getMithraObjectPortal();
+	}
+
+	public BigOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BigOrderFinder.description(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, BigOrderFinder.discountPercentage(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BigOrderFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BigOrderFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BigOrderFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BigOrderAbstract result = (BigOrderAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BigOrderItem item = (BigOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BigOrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BigOrderItem item = (BigOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,1286 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BigOrderFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BigOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BigOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BigOrder");
+	private static final BigOrderSingleFinder<BigOrder, Object, BigOrder> finder = new BigOrderSingleFinder<BigOrder, Object, BigOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BigOrderFinder.BigOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("discountPercentage");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("nineNineNineItems");
+		finderMethodMap.addRelationshipName("cheapItems");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = BigOrderFinder.orderId().constructEqualityMapper(BigOrderItemFinder.orderId());
+			result[1] = BigOrderItemFinder.orderId().constructEqualityMapper(BigOrderFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BigOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BigOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BigOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BigOrderList) finder.findMany(operation);
+	}
+
+	public static BigOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BigOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static BigOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BigOrder) FinderUtils.findOne(found);
+	}
+
+	public static BigOrder findByPrimaryKey(int orderId)
+	{
+		return finder.findByPrimaryKey(orderId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BigOrderData _castedTargetData = (BigOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BigOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BigOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BigOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BigOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private BigDecimalAttribute<ParentOwnerType> discountPercentage;
+		private BigOrderItemsFinderSubclass<ParentOwnerType> items;
+		private BigOrderNineNineNineItemsFinderSubclass<ParentOwnerType> nineNineNineItems;
+		private BigOrderCheapItemsFinderSubclass<ParentOwnerType> cheapItems;
+		public BigOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public BigOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BigOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BigOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BigOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BigOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.discountPercentage();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.nineNineNineItems());
+				relatedFinders.add(this.cheapItems());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.items());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BigOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BigOrderFinder.findOne(operation, false);
+		}
+
+		public BigOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BigOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BigOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BigOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends BigOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BigOrderList result = (BigOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BigOrder> constructEmptyList()
+		{
+			return new BigOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 956401489;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BigOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BigOrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BigOrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(BigOrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> discountPercentage()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.discountPercentage;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("DISC_PCTG","","discountPercentage",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,3,3, false) :
+					new MappedBigDecimalAttribute(BigOrderFinder.discountPercentage(), this.mapper, this.zGetValueSelector());
+				this.discountPercentage = result;
+			}
+
+			return result;
+		}
+
+		public BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder> items()
+		{
+			BigOrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BigOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder> nineNineNineItems()
+		{
+			BigOrderNineNineNineItemsFinderSubclass<ParentOwnerType> result = this.nineNineNineItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderNineNineNineItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BigOrderNineNineNineItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nineNineNineItems = result;
+			}
+
+			return result;
+		}
+
+		public BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder> cheapItems()
+		{
+			BigOrderCheapItemsFinderSubclass<ParentOwnerType> result = this.cheapItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderCheapItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BigOrderCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.cheapItems = result;
+			}
+
+			return result;
+		}
+
+		public BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder> itemsByPrice(BigDecimal price)
+		{
+			BigOrderItemsByPriceFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderItemsByPriceReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BigOrderItemsByPriceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder> itemsByDoublePrice(double price)
+		{
+			BigOrderItemsByDoublePriceFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderItemsByDoublePriceReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BigOrderItemsByDoublePriceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder> itemsForProductPriceSet(Set prices)
+		{
+			BigOrderItemsForProductPriceSetFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BigOrderFinder.zGetBigOrderItemsForProductPriceSetReverseMapper(prices));
+			newMapper.setToMany(true);
+			result = new BigOrderItemsForProductPriceSetFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,prices);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BigOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BigOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BigOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BigOrderRelatedFinder<ParentOwnerType, ReturnType, BigOrderList, OwnerType>
+	{
+		public BigOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BigOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BigOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BigOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BigOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BigOrderRelatedFinder<ParentOwnerType, ReturnType, BigOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public BigOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BigOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BigOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BigOrder findByPrimaryKey(int orderId)
+		{
+			BigOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BigOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BigOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BigOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BigOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetBigOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructBigOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetBigOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructBigOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetBigOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructBigOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsPureReverseMapper()
+	{
+		Mapper itemsMapper = BigOrderFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsReverseMapper()
+	{
+		Mapper itemsMapper = BigOrderFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsMapper()
+	{
+		Mapper itemsMapper = BigOrderFinder.zGetConstantJoin(1);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper nineNineNineItemsReverseMapper = null;
+	public static Mapper zGetBigOrderNineNineNineItemsReverseMapper()
+	{
+		if (nineNineNineItemsReverseMapper == null)
+		{
+			nineNineNineItemsReverseMapper = zConstructBigOrderNineNineNineItemsReverseMapper();
+		}
+
+		return nineNineNineItemsReverseMapper;
+	}
+
+	private static Mapper nineNineNineItemsMapper = null;
+	public static Mapper zGetBigOrderNineNineNineItemsMapper()
+	{
+		if (nineNineNineItemsMapper == null)
+		{
+			nineNineNineItemsMapper = zConstructBigOrderNineNineNineItemsMapper();
+		}
+
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper nineNineNineItemsPureReverseMapper = null;
+	public static Mapper zGetBigOrderNineNineNineItemsPureReverseMapper()
+	{
+		if (nineNineNineItemsPureReverseMapper == null)
+		{
+			nineNineNineItemsPureReverseMapper = zConstructBigOrderNineNineNineItemsPureReverseMapper();
+		}
+
+		return nineNineNineItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderNineNineNineItemsPureReverseMapper()
+	{
+		Mapper nineNineNineItemsMapper = BigOrderFinder.zGetConstantJoin(0);
+		nineNineNineItemsMapper.setName("nineNineNineItems");
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper zConstructBigOrderNineNineNineItemsReverseMapper()
+	{
+		Mapper nineNineNineItemsMapperInnerMapper = BigOrderFinder.zGetConstantJoin(0);
+		Mapper nineNineNineItemsMapper = new FilteredMapper(nineNineNineItemsMapperInnerMapper, null, BigOrderItemFinder.zGetConstantOperation(0));
+		nineNineNineItemsMapper.setName("nineNineNineItems");
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper zConstructBigOrderNineNineNineItemsMapper()
+	{
+		Mapper nineNineNineItemsMapperInnerMapper = BigOrderFinder.zGetConstantJoin(1);
+		Mapper nineNineNineItemsMapper = new FilteredMapper(nineNineNineItemsMapperInnerMapper, BigOrderItemFinder.zGetConstantOperation(0), null);
+		nineNineNineItemsMapper.setName("nineNineNineItems_Reverse");
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper cheapItemsReverseMapper = null;
+	public static Mapper zGetBigOrderCheapItemsReverseMapper()
+	{
+		if (cheapItemsReverseMapper == null)
+		{
+			cheapItemsReverseMapper = zConstructBigOrderCheapItemsReverseMapper();
+		}
+
+		return cheapItemsReverseMapper;
+	}
+
+	private static Mapper cheapItemsMapper = null;
+	public static Mapper zGetBigOrderCheapItemsMapper()
+	{
+		if (cheapItemsMapper == null)
+		{
+			cheapItemsMapper = zConstructBigOrderCheapItemsMapper();
+		}
+
+		return cheapItemsMapper;
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetBigOrderCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructBigOrderCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderCheapItemsPureReverseMapper()
+	{
+		Mapper cheapItemsMapper = BigOrderFinder.zGetConstantJoin(0);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBigOrderCheapItemsReverseMapper()
+	{
+		Mapper cheapItemsMapperInnerMapper = BigOrderFinder.zGetConstantJoin(0);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, BigOrderItemFinder.zGetConstantOperation(1));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBigOrderCheapItemsMapper()
+	{
+		Mapper cheapItemsMapperInnerMapper = BigOrderFinder.zGetConstantJoin(1);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, BigOrderItemFinder.zGetConstantOperation(1), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	public static Mapper zGetBigOrderItemsByPriceReverseMapper(BigDecimal price)
+	{
+		return zConstructBigOrderItemsByPriceReverseMapper(price);
+	}
+
+	public static Mapper zGetBigOrderItemsByPriceMapper(BigDecimal price)
+	{
+		return zConstructBigOrderItemsByPriceMapper(price);
+	}
+
+	private static Mapper itemsByPricePureReverseMapper = null;
+	public static Mapper zGetBigOrderItemsByPricePureReverseMapper()
+	{
+		if (itemsByPricePureReverseMapper == null)
+		{
+			itemsByPricePureReverseMapper = zConstructBigOrderItemsByPricePureReverseMapper();
+		}
+
+		return itemsByPricePureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsByPricePureReverseMapper()
+	{
+		Mapper itemsByPriceMapper = BigOrderFinder.zGetConstantJoin(0);
+		itemsByPriceMapper.setName("itemsByPrice");
+		return itemsByPriceMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsByPriceReverseMapper(BigDecimal price)
+	{
+		Mapper itemsByPriceMapperInnerMapper = BigOrderFinder.zGetConstantJoin(0);
+		Mapper itemsByPriceMapper = new FilteredMapper(itemsByPriceMapperInnerMapper, null, BigOrderItemFinder.price().eq(price));
+		itemsByPriceMapper.setName("itemsByPrice");
+		return itemsByPriceMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsByPriceMapper(BigDecimal price)
+	{
+		Mapper itemsByPriceMapperInnerMapper = BigOrderFinder.zGetConstantJoin(1);
+		Mapper itemsByPriceMapper = new FilteredMapper(itemsByPriceMapperInnerMapper, BigOrderItemFinder.price().eq(price), null);
+		itemsByPriceMapper.setName("itemsByPrice_Reverse");
+		return itemsByPriceMapper;
+	}
+
+	public static Mapper zGetBigOrderItemsByDoublePriceReverseMapper(double price)
+	{
+		return zConstructBigOrderItemsByDoublePriceReverseMapper(price);
+	}
+
+	public static Mapper zGetBigOrderItemsByDoublePriceMapper(double price)
+	{
+		return zConstructBigOrderItemsByDoublePriceMapper(price);
+	}
+
+	private static Mapper itemsByDoublePricePureReverseMapper = null;
+	public static Mapper zGetBigOrderItemsByDoublePricePureReverseMapper()
+	{
+		if (itemsByDoublePricePureReverseMapper == null)
+		{
+			itemsByDoublePricePureReverseMapper = zConstructBigOrderItemsByDoublePricePureReverseMapper();
+		}
+
+		return itemsByDoublePricePureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsByDoublePricePureReverseMapper()
+	{
+		Mapper itemsByDoublePriceMapper = BigOrderFinder.zGetConstantJoin(0);
+		itemsByDoublePriceMapper.setName("itemsByDoublePrice");
+		return itemsByDoublePriceMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsByDoublePriceReverseMapper(double price)
+	{
+		Mapper itemsByDoublePriceMapperInnerMapper = BigOrderFinder.zGetConstantJoin(0);
+		Mapper itemsByDoublePriceMapper = new FilteredMapper(itemsByDoublePriceMapperInnerMapper, null, BigOrderItemFinder.price().eq(price));
+		itemsByDoublePriceMapper.setName("itemsByDoublePrice");
+		return itemsByDoublePriceMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsByDoublePriceMapper(double price)
+	{
+		Mapper itemsByDoublePriceMapperInnerMapper = BigOrderFinder.zGetConstantJoin(1);
+		Mapper itemsByDoublePriceMapper = new FilteredMapper(itemsByDoublePriceMapperInnerMapper, BigOrderItemFinder.price().eq(price), null);
+		itemsByDoublePriceMapper.setName("itemsByDoublePrice_Reverse");
+		return itemsByDoublePriceMapper;
+	}
+
+	public static Mapper zGetBigOrderItemsForProductPriceSetReverseMapper(Set prices)
+	{
+		return zConstructBigOrderItemsForProductPriceSetReverseMapper(prices);
+	}
+
+	public static Mapper zGetBigOrderItemsForProductPriceSetMapper(Set prices)
+	{
+		return zConstructBigOrderItemsForProductPriceSetMapper(prices);
+	}
+
+	private static Mapper itemsForProductPriceSetPureReverseMapper = null;
+	public static Mapper zGetBigOrderItemsForProductPriceSetPureReverseMapper()
+	{
+		if (itemsForProductPriceSetPureReverseMapper == null)
+		{
+			itemsForProductPriceSetPureReverseMapper = zConstructBigOrderItemsForProductPriceSetPureReverseMapper();
+		}
+
+		return itemsForProductPriceSetPureReverseMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsForProductPriceSetPureReverseMapper()
+	{
+		Mapper itemsForProductPriceSetMapper = BigOrderFinder.zGetConstantJoin(0);
+		itemsForProductPriceSetMapper.setName("itemsForProductPriceSet");
+		return itemsForProductPriceSetMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsForProductPriceSetReverseMapper(Set prices)
+	{
+		Mapper itemsForProductPriceSetMapperInnerMapper = BigOrderFinder.zGetConstantJoin(0);
+		Mapper itemsForProductPriceSetMapper = new FilteredMapper(itemsForProductPriceSetMapperInnerMapper, null, BigOrderItemFinder.bigPrice().in(prices));
+		itemsForProductPriceSetMapper.setName("itemsForProductPriceSet");
+		return itemsForProductPriceSetMapper;
+	}
+
+	private static Mapper zConstructBigOrderItemsForProductPriceSetMapper(Set prices)
+	{
+		Mapper itemsForProductPriceSetMapperInnerMapper = BigOrderFinder.zGetConstantJoin(1);
+		Mapper itemsForProductPriceSetMapper = new FilteredMapper(itemsForProductPriceSetMapperInnerMapper, BigOrderItemFinder.bigPrice().in(prices), null);
+		itemsForProductPriceSetMapper.setName("itemsForProductPriceSet_Reverse");
+		return itemsForProductPriceSetMapper;
+	}
+
+	/** maps to BIG_ORDERS.ORDER_ID **/
+	public static IntegerAttribute<BigOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BIG_ORDERS.ORDER_DATE **/
+	public static TimestampAttribute<BigOrder> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to BIG_ORDERS.USER_ID **/
+	public static IntegerAttribute<BigOrder> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to BIG_ORDERS.DESCRIPTION **/
+	public static StringAttribute<BigOrder> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BIG_ORDERS.DISC_PCTG **/
+	public static BigDecimalAttribute<BigOrder> discountPercentage()
+	{
+		return finder.discountPercentage();
+	}
+
+	public static BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<BigOrder, BigOrderItemList, BigOrder> items()
+	{
+		return finder.items();
+	}
+
+	public static class BigOrderItemsFinderSubclass<ParentOwnerType> extends BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder>
+	{
+		public BigOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BigOrder) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected BigOrderItemList plainValueOf(BigOrder _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected BigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderList)_obj).getItems();
+		}
+	}
+
+	public static BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<BigOrder, BigOrderItemList, BigOrder> nineNineNineItems()
+	{
+		return finder.nineNineNineItems();
+	}
+
+	public static class BigOrderNineNineNineItemsFinderSubclass<ParentOwnerType> extends BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder>
+	{
+		public BigOrderNineNineNineItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "nineNineNineItems";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BigOrderItemFinder.orderId(),
+				BigOrderItemFinder.price()).withExtractors(
+				BigOrderFinder.orderId(),
+				((OperationWithParameterExtractor)BigOrderItemFinder.zGetConstantOperation(0)).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderNineNineNineItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BigOrderItemList plainValueOf(BigOrder _obj)
+		{
+			return _obj.getNineNineNineItems();
+		}
+
+		protected BigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderList)_obj).getNineNineNineItems();
+		}
+	}
+
+	public static BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<BigOrder, BigOrderItemList, BigOrder> cheapItems()
+	{
+		return finder.cheapItems();
+	}
+
+	public static class BigOrderCheapItemsFinderSubclass<ParentOwnerType> extends BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder>
+	{
+		public BigOrderCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BigOrderItemList plainValueOf(BigOrder _obj)
+		{
+			return _obj.getCheapItems();
+		}
+
+		protected BigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderList)_obj).getCheapItems();
+		}
+	}
+
+	public static BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<BigOrder, BigOrderItemList, BigOrder> itemsByPrice(BigDecimal price)
+	{
+		return finder.itemsByPrice(price);
+	}
+
+	public static class BigOrderItemsByPriceFinderSubclass<ParentOwnerType> extends BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder>
+	{
+		private BigDecimal price;
+		public BigOrderItemsByPriceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , BigDecimal price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsByPrice";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderItemsByPriceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected BigOrderItemList plainValueOf(BigOrder _obj)
+		{
+			return _obj.getItemsByPrice(price);
+		}
+
+		protected BigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderList)_obj).getItemsByPrice(price);
+		}
+	}
+
+	public static BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<BigOrder, BigOrderItemList, BigOrder> itemsByDoublePrice(double price)
+	{
+		return finder.itemsByDoublePrice(price);
+	}
+
+	public static class BigOrderItemsByDoublePriceFinderSubclass<ParentOwnerType> extends BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder>
+	{
+		private double price;
+		public BigOrderItemsByDoublePriceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsByDoublePrice";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderItemsByDoublePriceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected BigOrderItemList plainValueOf(BigOrder _obj)
+		{
+			return _obj.getItemsByDoublePrice(price);
+		}
+
+		protected BigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderList)_obj).getItemsByDoublePrice(price);
+		}
+	}
+
+	public static BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<BigOrder, BigOrderItemList, BigOrder> itemsForProductPriceSet(Set prices)
+	{
+		return finder.itemsForProductPriceSet(prices);
+	}
+
+	public static class BigOrderItemsForProductPriceSetFinderSubclass<ParentOwnerType> extends BigOrderItemFinder.BigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BigOrderItemList, BigOrder>
+	{
+		private Set prices;
+		public BigOrderItemsForProductPriceSetFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Set prices)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.prices = prices;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsForProductPriceSet";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BigOrderItemsForProductPriceSetFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.prices
+			);
+		}
+
+		protected BigOrderItemList plainValueOf(BigOrder _obj)
+		{
+			return _obj.getItemsForProductPriceSet(prices);
+		}
+
+		protected BigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BigOrderList)_obj).getItemsForProductPriceSet(prices);
+		}
+	}
+
+	public static Operation eq(BigOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BigOrderSingleFinder<BigOrder, Object, BigOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[1];
+		result[0] = discountPercentage();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BigOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
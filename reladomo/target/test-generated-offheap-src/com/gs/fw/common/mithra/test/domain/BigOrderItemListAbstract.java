@@ -0,0 +1,200 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BigOrderItemListAbstract extends DelegatingList<BigOrderItem> implements MithraTransactionalList<BigOrderItem>
+{
+	public BigOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BigOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BigOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BigOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BigOrderItem[] elements()
+	{
+		BigOrderItem[] result = new BigOrderItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BigOrderItemList intersection(BigOrderItemList another)
+	{
+		return (BigOrderItemList)super.intersection(another);
+	}
+
+	public BigOrderItem getBigOrderItemAt(int index)
+	{
+		return (BigOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.getDelegated().resolveRelationship(this, BigOrderItemFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BigOrder.orderId</pre>
+	* @see BigOrder#getItems() reverse relationship BigOrder.getItems()
+	* @return The order
+	*/
+	public BigOrderList getOrders()
+	{
+		return (BigOrderList) this.getDelegated().resolveRelationship(this, BigOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(BigOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BigOrderItem item = this.getBigOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public BigOrderItemList getNonPersistentCopy()
+	{
+		BigOrderItemList result = new BigOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BigOrderItemList asAdhoc()
+	{
+		return (BigOrderItemList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BigOrderItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BigOrderItemList merge(MithraTransactionalList<BigOrderItem> incoming, TopLevelMergeOptions<BigOrderItem> mergeOptions)
+	{
+		return (BigOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public BigOrderItemList getDetachedCopy()
+	{
+		BigOrderItemList result = new BigOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBigPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.bigPrice(), newValue);
+	}
+
+	public void setId(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BigOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.price(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BigOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(BigDecimal newValue)
+	{
+		zSetBigDecimal(BigOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BigOrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(BigOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(BigOrderItemFinder.productId());
+	}
+}
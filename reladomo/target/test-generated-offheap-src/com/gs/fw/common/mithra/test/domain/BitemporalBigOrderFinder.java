@@ -0,0 +1,1421 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalBigOrderFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalBigOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalBigOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalBigOrder");
+	private static final BitemporalBigOrderSingleFinder<BitemporalBigOrder, Object, BitemporalBigOrder> finder = new BitemporalBigOrderSingleFinder<BitemporalBigOrder, Object, BitemporalBigOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalBigOrderFinder.BitemporalBigOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("discountPercentage");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("nineNineNineItems");
+		finderMethodMap.addRelationshipName("cheapItems");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = BitemporalBigOrderFinder.orderId().constructEqualityMapper(BitemporalBigOrderItemFinder.orderId());
+			result[1] = BitemporalBigOrderItemFinder.orderId().constructEqualityMapper(BitemporalBigOrderFinder.orderId());
+			result[2] = BitemporalBigOrderFinder.businessDate().constructEqualityMapper(BitemporalBigOrderItemFinder.businessDate());
+			result[3] = BitemporalBigOrderItemFinder.businessDate().constructEqualityMapper(BitemporalBigOrderFinder.businessDate());
+			result[4] = BitemporalBigOrderFinder.processingDate().constructEqualityMapper(BitemporalBigOrderItemFinder.processingDate());
+			result[5] = BitemporalBigOrderItemFinder.processingDate().constructEqualityMapper(BitemporalBigOrderFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalBigOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalBigOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalBigOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalBigOrderList) finder.findMany(operation);
+	}
+
+	public static BitemporalBigOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalBigOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalBigOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalBigOrder) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalBigOrder findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalBigOrderData _castedTargetData = (BitemporalBigOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return BitemporalBigOrderFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalBigOrderFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalBigOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalBigOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalBigOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalBigOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private BigDecimalAttribute<ParentOwnerType> discountPercentage;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalBigOrderItemsFinderSubclass<ParentOwnerType> items;
+		private BitemporalBigOrderNineNineNineItemsFinderSubclass<ParentOwnerType> nineNineNineItems;
+		private BitemporalBigOrderCheapItemsFinderSubclass<ParentOwnerType> cheapItems;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalBigOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalBigOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalBigOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalBigOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalBigOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalBigOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.discountPercentage();
+			attributes[5] = this.businessDateFrom();
+			attributes[6] = this.businessDateTo();
+			attributes[7] = this.processingDateFrom();
+			attributes[8] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.nineNineNineItems());
+				relatedFinders.add(this.cheapItems());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.items());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalBigOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalBigOrderFinder.findOne(operation, false);
+		}
+
+		public BitemporalBigOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalBigOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalBigOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalBigOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalBigOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalBigOrderList result = (BitemporalBigOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalBigOrder> constructEmptyList()
+		{
+			return new BitemporalBigOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -512273965;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalBigOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalBigOrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(BitemporalBigOrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> discountPercentage()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.discountPercentage;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("DISC_PCTG","","discountPercentage",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,-1,-1,-1,3,3, false) :
+					new MappedBigDecimalAttribute(BitemporalBigOrderFinder.discountPercentage(), this.mapper, this.zGetValueSelector());
+				this.discountPercentage = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalBigOrderFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalBigOrderFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalBigOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalBigOrderFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalBigOrderFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalBigOrderFinder.businessDateInfinity,false,false,BitemporalBigOrderFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalBigOrderFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalBigOrderFinder.processingDateInfinity,false,false,BitemporalBigOrderFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalBigOrderFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder> items()
+		{
+			BitemporalBigOrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderFinder.zGetBitemporalBigOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalBigOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder> nineNineNineItems()
+		{
+			BitemporalBigOrderNineNineNineItemsFinderSubclass<ParentOwnerType> result = this.nineNineNineItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderFinder.zGetBitemporalBigOrderNineNineNineItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalBigOrderNineNineNineItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nineNineNineItems = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder> cheapItems()
+		{
+			BitemporalBigOrderCheapItemsFinderSubclass<ParentOwnerType> result = this.cheapItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderFinder.zGetBitemporalBigOrderCheapItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalBigOrderCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.cheapItems = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder> itemsByPrice(BigDecimal price)
+		{
+			BitemporalBigOrderItemsByPriceFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderFinder.zGetBitemporalBigOrderItemsByPriceReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BitemporalBigOrderItemsByPriceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder> itemsByDoublePrice(double price)
+		{
+			BitemporalBigOrderItemsByDoublePriceFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalBigOrderFinder.zGetBitemporalBigOrderItemsByDoublePriceReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new BitemporalBigOrderItemsByDoublePriceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalBigOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalBigOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalBigOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalBigOrderRelatedFinder<ParentOwnerType, ReturnType, BitemporalBigOrderList, OwnerType>
+	{
+		public BitemporalBigOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalBigOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalBigOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalBigOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalBigOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalBigOrderRelatedFinder<ParentOwnerType, ReturnType, BitemporalBigOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalBigOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalBigOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalBigOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalBigOrder findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalBigOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalBigOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalBigOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalBigOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalBigOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructBitemporalBigOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructBitemporalBigOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructBitemporalBigOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(3));
+		itemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(5));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper nineNineNineItemsReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderNineNineNineItemsReverseMapper()
+	{
+		if (nineNineNineItemsReverseMapper == null)
+		{
+			nineNineNineItemsReverseMapper = zConstructBitemporalBigOrderNineNineNineItemsReverseMapper();
+		}
+
+		return nineNineNineItemsReverseMapper;
+	}
+
+	private static Mapper nineNineNineItemsMapper = null;
+	public static Mapper zGetBitemporalBigOrderNineNineNineItemsMapper()
+	{
+		if (nineNineNineItemsMapper == null)
+		{
+			nineNineNineItemsMapper = zConstructBitemporalBigOrderNineNineNineItemsMapper();
+		}
+
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper nineNineNineItemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderNineNineNineItemsPureReverseMapper()
+	{
+		if (nineNineNineItemsPureReverseMapper == null)
+		{
+			nineNineNineItemsPureReverseMapper = zConstructBitemporalBigOrderNineNineNineItemsPureReverseMapper();
+		}
+
+		return nineNineNineItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderNineNineNineItemsPureReverseMapper()
+	{
+		InternalList nineNineNineItemsMapperMapperList = new InternalList(3);
+		nineNineNineItemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		nineNineNineItemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		nineNineNineItemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper nineNineNineItemsMapper = new MultiEqualityMapper(nineNineNineItemsMapperMapperList);
+		nineNineNineItemsMapper.setName("nineNineNineItems");
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderNineNineNineItemsReverseMapper()
+	{
+		InternalList nineNineNineItemsMapperInnerMapperMapperList = new InternalList(3);
+		nineNineNineItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		nineNineNineItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		nineNineNineItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper nineNineNineItemsMapperInnerMapper = new MultiEqualityMapper(nineNineNineItemsMapperInnerMapperMapperList);
+		Mapper nineNineNineItemsMapper = new FilteredMapper(nineNineNineItemsMapperInnerMapper, null, BitemporalBigOrderItemFinder.zGetConstantOperation(0));
+		nineNineNineItemsMapper.setName("nineNineNineItems");
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderNineNineNineItemsMapper()
+	{
+		InternalList nineNineNineItemsMapperInnerMapperMapperList = new InternalList(3);
+		nineNineNineItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(1));
+		nineNineNineItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(3));
+		nineNineNineItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(5));
+		Mapper nineNineNineItemsMapperInnerMapper = new MultiEqualityMapper(nineNineNineItemsMapperInnerMapperMapperList);
+		Mapper nineNineNineItemsMapper = new FilteredMapper(nineNineNineItemsMapperInnerMapper, BitemporalBigOrderItemFinder.zGetConstantOperation(0), null);
+		nineNineNineItemsMapper.setName("nineNineNineItems_Reverse");
+		return nineNineNineItemsMapper;
+	}
+
+	private static Mapper cheapItemsReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderCheapItemsReverseMapper()
+	{
+		if (cheapItemsReverseMapper == null)
+		{
+			cheapItemsReverseMapper = zConstructBitemporalBigOrderCheapItemsReverseMapper();
+		}
+
+		return cheapItemsReverseMapper;
+	}
+
+	private static Mapper cheapItemsMapper = null;
+	public static Mapper zGetBitemporalBigOrderCheapItemsMapper()
+	{
+		if (cheapItemsMapper == null)
+		{
+			cheapItemsMapper = zConstructBitemporalBigOrderCheapItemsMapper();
+		}
+
+		return cheapItemsMapper;
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructBitemporalBigOrderCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderCheapItemsPureReverseMapper()
+	{
+		InternalList cheapItemsMapperMapperList = new InternalList(3);
+		cheapItemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		cheapItemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		cheapItemsMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper cheapItemsMapper = new MultiEqualityMapper(cheapItemsMapperMapperList);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderCheapItemsReverseMapper()
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(3);
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, BitemporalBigOrderItemFinder.zGetConstantOperation(1));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderCheapItemsMapper()
+	{
+		InternalList cheapItemsMapperInnerMapperMapperList = new InternalList(3);
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(1));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(3));
+		cheapItemsMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(5));
+		Mapper cheapItemsMapperInnerMapper = new MultiEqualityMapper(cheapItemsMapperInnerMapperMapperList);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, BitemporalBigOrderItemFinder.zGetConstantOperation(1), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	public static Mapper zGetBitemporalBigOrderItemsByPriceReverseMapper(BigDecimal price)
+	{
+		return zConstructBitemporalBigOrderItemsByPriceReverseMapper(price);
+	}
+
+	public static Mapper zGetBitemporalBigOrderItemsByPriceMapper(BigDecimal price)
+	{
+		return zConstructBitemporalBigOrderItemsByPriceMapper(price);
+	}
+
+	private static Mapper itemsByPricePureReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemsByPricePureReverseMapper()
+	{
+		if (itemsByPricePureReverseMapper == null)
+		{
+			itemsByPricePureReverseMapper = zConstructBitemporalBigOrderItemsByPricePureReverseMapper();
+		}
+
+		return itemsByPricePureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsByPricePureReverseMapper()
+	{
+		InternalList itemsByPriceMapperMapperList = new InternalList(3);
+		itemsByPriceMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		itemsByPriceMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		itemsByPriceMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper itemsByPriceMapper = new MultiEqualityMapper(itemsByPriceMapperMapperList);
+		itemsByPriceMapper.setName("itemsByPrice");
+		return itemsByPriceMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsByPriceReverseMapper(BigDecimal price)
+	{
+		InternalList itemsByPriceMapperInnerMapperMapperList = new InternalList(3);
+		itemsByPriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		itemsByPriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		itemsByPriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper itemsByPriceMapperInnerMapper = new MultiEqualityMapper(itemsByPriceMapperInnerMapperMapperList);
+		Mapper itemsByPriceMapper = new FilteredMapper(itemsByPriceMapperInnerMapper, null, BitemporalBigOrderItemFinder.price().eq(price));
+		itemsByPriceMapper.setName("itemsByPrice");
+		return itemsByPriceMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsByPriceMapper(BigDecimal price)
+	{
+		InternalList itemsByPriceMapperInnerMapperMapperList = new InternalList(3);
+		itemsByPriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(1));
+		itemsByPriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(3));
+		itemsByPriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(5));
+		Mapper itemsByPriceMapperInnerMapper = new MultiEqualityMapper(itemsByPriceMapperInnerMapperMapperList);
+		Mapper itemsByPriceMapper = new FilteredMapper(itemsByPriceMapperInnerMapper, BitemporalBigOrderItemFinder.price().eq(price), null);
+		itemsByPriceMapper.setName("itemsByPrice_Reverse");
+		return itemsByPriceMapper;
+	}
+
+	public static Mapper zGetBitemporalBigOrderItemsByDoublePriceReverseMapper(double price)
+	{
+		return zConstructBitemporalBigOrderItemsByDoublePriceReverseMapper(price);
+	}
+
+	public static Mapper zGetBitemporalBigOrderItemsByDoublePriceMapper(double price)
+	{
+		return zConstructBitemporalBigOrderItemsByDoublePriceMapper(price);
+	}
+
+	private static Mapper itemsByDoublePricePureReverseMapper = null;
+	public static Mapper zGetBitemporalBigOrderItemsByDoublePricePureReverseMapper()
+	{
+		if (itemsByDoublePricePureReverseMapper == null)
+		{
+			itemsByDoublePricePureReverseMapper = zConstructBitemporalBigOrderItemsByDoublePricePureReverseMapper();
+		}
+
+		return itemsByDoublePricePureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsByDoublePricePureReverseMapper()
+	{
+		InternalList itemsByDoublePriceMapperMapperList = new InternalList(3);
+		itemsByDoublePriceMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		itemsByDoublePriceMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		itemsByDoublePriceMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper itemsByDoublePriceMapper = new MultiEqualityMapper(itemsByDoublePriceMapperMapperList);
+		itemsByDoublePriceMapper.setName("itemsByDoublePrice");
+		return itemsByDoublePriceMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsByDoublePriceReverseMapper(double price)
+	{
+		InternalList itemsByDoublePriceMapperInnerMapperMapperList = new InternalList(3);
+		itemsByDoublePriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(0));
+		itemsByDoublePriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(2));
+		itemsByDoublePriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(4));
+		Mapper itemsByDoublePriceMapperInnerMapper = new MultiEqualityMapper(itemsByDoublePriceMapperInnerMapperMapperList);
+		Mapper itemsByDoublePriceMapper = new FilteredMapper(itemsByDoublePriceMapperInnerMapper, null, BitemporalBigOrderItemFinder.price().eq(price));
+		itemsByDoublePriceMapper.setName("itemsByDoublePrice");
+		return itemsByDoublePriceMapper;
+	}
+
+	private static Mapper zConstructBitemporalBigOrderItemsByDoublePriceMapper(double price)
+	{
+		InternalList itemsByDoublePriceMapperInnerMapperMapperList = new InternalList(3);
+		itemsByDoublePriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(1));
+		itemsByDoublePriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(3));
+		itemsByDoublePriceMapperInnerMapperMapperList.add(BitemporalBigOrderFinder.zGetConstantJoin(5));
+		Mapper itemsByDoublePriceMapperInnerMapper = new MultiEqualityMapper(itemsByDoublePriceMapperInnerMapperMapperList);
+		Mapper itemsByDoublePriceMapper = new FilteredMapper(itemsByDoublePriceMapperInnerMapper, BitemporalBigOrderItemFinder.price().eq(price), null);
+		itemsByDoublePriceMapper.setName("itemsByDoublePrice_Reverse");
+		return itemsByDoublePriceMapper;
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.ORDER_ID **/
+	public static IntegerAttribute<BitemporalBigOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.ORDER_DATE **/
+	public static TimestampAttribute<BitemporalBigOrder> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.USER_ID **/
+	public static IntegerAttribute<BitemporalBigOrder> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.DESCRIPTION **/
+	public static StringAttribute<BitemporalBigOrder> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.DISC_PCTG **/
+	public static BigDecimalAttribute<BitemporalBigOrder> discountPercentage()
+	{
+		return finder.discountPercentage();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.FROM_Z **/
+	public static TimestampAttribute<BitemporalBigOrder> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.THRU_Z **/
+	public static TimestampAttribute<BitemporalBigOrder> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.IN_Z **/
+	public static TimestampAttribute<BitemporalBigOrder> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_BIG_ORDER.OUT_Z **/
+	public static TimestampAttribute<BitemporalBigOrder> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalBigOrder> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalBigOrder> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<BitemporalBigOrder, BitemporalBigOrderItemList, BitemporalBigOrder> items()
+	{
+		return finder.items();
+	}
+
+	public static class BitemporalBigOrderItemsFinderSubclass<ParentOwnerType> extends BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder>
+	{
+		public BitemporalBigOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalBigOrderItemFinder.orderId(),
+				BitemporalBigOrderItemFinder.businessDate(),
+				BitemporalBigOrderItemFinder.processingDate()).withExtractors(
+				BitemporalBigOrderFinder.orderId(),
+				BitemporalBigOrderFinder.businessDate(),
+				BitemporalBigOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalBigOrder) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected BitemporalBigOrderItemList plainValueOf(BitemporalBigOrder _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected BitemporalBigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderList)_obj).getItems();
+		}
+	}
+
+	public static BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<BitemporalBigOrder, BitemporalBigOrderItemList, BitemporalBigOrder> nineNineNineItems()
+	{
+		return finder.nineNineNineItems();
+	}
+
+	public static class BitemporalBigOrderNineNineNineItemsFinderSubclass<ParentOwnerType> extends BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder>
+	{
+		public BitemporalBigOrderNineNineNineItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "nineNineNineItems";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalBigOrderItemFinder.orderId(),
+				BitemporalBigOrderItemFinder.price(),
+				BitemporalBigOrderItemFinder.businessDate(),
+				BitemporalBigOrderItemFinder.processingDate()).withExtractors(
+				BitemporalBigOrderFinder.orderId(),
+				((OperationWithParameterExtractor)BitemporalBigOrderItemFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				BitemporalBigOrderFinder.businessDate(),
+				BitemporalBigOrderFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderNineNineNineItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalBigOrderItemList plainValueOf(BitemporalBigOrder _obj)
+		{
+			return _obj.getNineNineNineItems();
+		}
+
+		protected BitemporalBigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderList)_obj).getNineNineNineItems();
+		}
+	}
+
+	public static BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<BitemporalBigOrder, BitemporalBigOrderItemList, BitemporalBigOrder> cheapItems()
+	{
+		return finder.cheapItems();
+	}
+
+	public static class BitemporalBigOrderCheapItemsFinderSubclass<ParentOwnerType> extends BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder>
+	{
+		public BitemporalBigOrderCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalBigOrderItemList plainValueOf(BitemporalBigOrder _obj)
+		{
+			return _obj.getCheapItems();
+		}
+
+		protected BitemporalBigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderList)_obj).getCheapItems();
+		}
+	}
+
+	public static BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<BitemporalBigOrder, BitemporalBigOrderItemList, BitemporalBigOrder> itemsByPrice(BigDecimal price)
+	{
+		return finder.itemsByPrice(price);
+	}
+
+	public static class BitemporalBigOrderItemsByPriceFinderSubclass<ParentOwnerType> extends BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder>
+	{
+		private BigDecimal price;
+		public BitemporalBigOrderItemsByPriceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , BigDecimal price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsByPrice";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderItemsByPriceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected BitemporalBigOrderItemList plainValueOf(BitemporalBigOrder _obj)
+		{
+			return _obj.getItemsByPrice(price);
+		}
+
+		protected BitemporalBigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderList)_obj).getItemsByPrice(price);
+		}
+	}
+
+	public static BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<BitemporalBigOrder, BitemporalBigOrderItemList, BitemporalBigOrder> itemsByDoublePrice(double price)
+	{
+		return finder.itemsByDoublePrice(price);
+	}
+
+	public static class BitemporalBigOrderItemsByDoublePriceFinderSubclass<ParentOwnerType> extends BitemporalBigOrderItemFinder.BitemporalBigOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalBigOrderItemList, BitemporalBigOrder>
+	{
+		private double price;
+		public BitemporalBigOrderItemsByDoublePriceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsByDoublePrice";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalBigOrderItemsByDoublePriceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected BitemporalBigOrderItemList plainValueOf(BitemporalBigOrder _obj)
+		{
+			return _obj.getItemsByDoublePrice(price);
+		}
+
+		protected BitemporalBigOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalBigOrderList)_obj).getItemsByDoublePrice(price);
+		}
+	}
+
+	public static Operation eq(BitemporalBigOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BitemporalBigOrderSingleFinder<BitemporalBigOrder, Object, BitemporalBigOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[1];
+		result[0] = discountPercentage();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalBigOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
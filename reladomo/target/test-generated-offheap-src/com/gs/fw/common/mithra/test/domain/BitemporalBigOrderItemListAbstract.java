@@ -0,0 +1,230 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalBigOrderItemListAbstract extends DelegatingList<BitemporalBigOrderItem> implements MithraDatedTransactionalList<BitemporalBigOrderItem>
+{
+	public BitemporalBigOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalBigOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalBigOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalBigOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalBigOrderItem[] elements()
+	{
+		BitemporalBigOrderItem[] result = new BitemporalBigOrderItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalBigOrderItemList intersection(BitemporalBigOrderItemList another)
+	{
+		return (BitemporalBigOrderItemList)super.intersection(another);
+	}
+
+	public BitemporalBigOrderItem getBitemporalBigOrderItemAt(int index)
+	{
+		return (BitemporalBigOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.getDelegated().resolveRelationship(this, BitemporalBigOrderItemFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalBigOrder.orderId</pre>
+	* @see BitemporalBigOrder#getItems() reverse relationship BitemporalBigOrder.getItems()
+	* @return The order
+	*/
+	public BitemporalBigOrderList getOrders()
+	{
+		return (BitemporalBigOrderList) this.getDelegated().resolveRelationship(this, BitemporalBigOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(BitemporalBigOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalBigOrderItem item = this.getBitemporalBigOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalBigOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalBigOrderItemList getNonPersistentCopy()
+	{
+		BitemporalBigOrderItemList result = new BitemporalBigOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalBigOrderItemList asAdhoc()
+	{
+		return (BitemporalBigOrderItemList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BitemporalBigOrderItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BitemporalBigOrderItemList merge(MithraTransactionalList<BitemporalBigOrderItem> incoming, TopLevelMergeOptions<BitemporalBigOrderItem> mergeOptions)
+	{
+		return (BitemporalBigOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalBigOrderItemList getDetachedCopy()
+	{
+		BitemporalBigOrderItemList result = new BitemporalBigOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBigPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.bigPrice(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.businessDateTo(), newValue);
+	}
+
+	public void setId(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setPrice(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.price(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalBigOrderItemFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalBigOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(BigDecimal newValue)
+	{
+		zSetBigDecimal(BitemporalBigOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalBigOrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(BitemporalBigOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(BitemporalBigOrderItemFinder.productId());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,2227 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BitemporalOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+, DatedOrderable
+, DatedOrderItemRelationInterface
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BitemporalOrderFinder.businessDate()
+	,
+		BitemporalOrderFinder.processingDate()
+	, BitemporalOrderFinder.zGetDoubleAttributes(),BitemporalOrderFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BitemporalOrder.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy forunconfiguredOrderStatus = new UnconfiguredOrderStatusRhs();
+	private static final RelationshipHashStrategy fororderStatusWithFixedOrderId = new OrderStatusWithFixedOrderIdRhs();
+	private static final RelationshipHashStrategy forsale = new SaleRhs();
+	private static final RelationshipHashStrategy forsaleWithUserId = new SaleWithUserIdRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderStatusFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrder _castedSrcObject = (BitemporalOrder) _srcObject;
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			BitemporalOrderStatusData _castedTargetData = (BitemporalOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class UnconfiguredOrderStatusRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = UnconfiguredBitemporalOrderStatusFinder.businessDate();
+		private AsOfAttribute processingDate = UnconfiguredBitemporalOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrder _castedSrcObject = (BitemporalOrder) _srcObject;
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			UnconfiguredBitemporalOrderStatusData _castedTargetData = (UnconfiguredBitemporalOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatusWithFixedOrderIdRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalOrderStatusFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalOrderStatusFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrder _castedSrcObject = (BitemporalOrder) _srcObject;
+			BitemporalOrderStatusData _castedTargetData = (BitemporalOrderStatusData) _targetData;
+			if (((_castedTargetData.getOrderId() == 140)))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return HashUtil.hash(140);
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class SaleRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			SaleData _castedTargetData = (SaleData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getSaleId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class SaleWithUserIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			SaleData _castedTargetData = (SaleData) _targetData;
+			if (!_castedSrcData.isUserIdNull() && _castedSrcData.getUserId() == _castedTargetData.getSaleId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BitemporalOrderData _castedSrcData = (BitemporalOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getUserId(), _castedSrcData.isUserIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		BitemporalOrderItemList items =
+		(BitemporalOrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatus _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		BitemporalOrderStatus orderStatus =
+		(BitemporalOrderStatus) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public BitemporalOrderAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BitemporalOrderFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BitemporalOrderFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BitemporalOrderAbstract(Timestamp businessDate)
+	{
+		this(businessDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public BitemporalOrderData zSynchronizedGetData()
+	{
+		return (BitemporalOrderData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BitemporalOrderFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BitemporalOrderFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemList items =
+		(BitemporalOrderItemList ) _data.getItems();
+		BitemporalOrderStatus orderStatus =
+		(BitemporalOrderStatus ) _data.getOrderStatus();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BitemporalOrderFinder.BitemporalOrderRelatedFinder parentFinder = (BitemporalOrderFinder.BitemporalOrderRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _newData = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			BitemporalOrderItemList items =
+			(BitemporalOrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			BitemporalOrderStatus orderStatus =
+			(BitemporalOrderStatus) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public BitemporalOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		BitemporalOrderItemList items =
+		(BitemporalOrderItemList ) _data.getItems();
+		BitemporalOrderStatus orderStatus =
+		(BitemporalOrderStatus ) _data.getOrderStatus();
+		BitemporalOrder original = (BitemporalOrder) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeInsertAllUntil(exclusiveUntil);
+		{
+			BitemporalOrderStatus related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeInsertUntil(exclusiveUntil);
+		}
+
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrder copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BitemporalOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BitemporalOrder copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrder) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BitemporalOrderFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BitemporalOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderAbstract result = (BitemporalOrderAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BitemporalOrder ) result;
+	}
+
+	public BitemporalOrder zFindOriginal()
+	{
+		BitemporalOrderData data = (BitemporalOrderData) this.currentData;
+		Operation op;
+		op = BitemporalOrderFinder.orderId().eq(data.getOrderId());
+		op = op.and(BitemporalOrderFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BitemporalOrderFinder.processingDate().eq(this.getProcessingDate()));
+		return BitemporalOrderFinder.findOne(op);
+	}
+
+	public BitemporalOrder getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BitemporalOrderAbstract result = (BitemporalOrderAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BitemporalOrder ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BitemporalOrder copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BitemporalOrder) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BitemporalOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BitemporalOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BitemporalOrderData data = (BitemporalOrderData) this.currentData;
+			Operation op = BitemporalOrderFinder.businessDate().eq(this.businessDate);
+			op = op.and(BitemporalOrderFinder.processingDate().eq(this.processingDate));
+			op = op.and(BitemporalOrderFinder.orderId().eq(data.getOrderId()));
+			return BitemporalOrderFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BitemporalOrderData data = (BitemporalOrderData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BitemporalOrderFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderData data = (BitemporalOrderData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.zSynchronizedGetData().isOrderDateNull();
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return this.zSynchronizedGetData().isOrderIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isStateNull()
+	{
+		return this.zSynchronizedGetData().isStateNull();
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.zSynchronizedGetData().isTrackingIdNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalOrderFinder.description(), newValue, false );
+	}
+
+	public void setDescriptionUsingInPlaceUpdate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		BitemporalOrderData data;
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		data = (BitemporalOrderData) behavior.getCurrentDataForRead(this);
+		String current = data.getDescription();
+		if (current == null)
+		{
+			if (newValue == null) return;
+		}
+		else
+		{
+			if (current.equals(newValue)) return;
+		}
+
+		AttributeUpdateWrapper updateWrapper =
+		new StringUpdateWrapper(
+			BitemporalOrderFinder.description(),
+			behavior.getCurrentDataForWrite(this),
+			newValue);
+		behavior.inPlaceUpdate(this, updateWrapper, false);
+	}
+
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(BitemporalOrderFinder.description(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.zSynchronizedGetData().getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.orderDate(), newValue, false );
+	}
+
+	public void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BitemporalOrderFinder.orderDate(), newValue, false , exclusiveUntil);
+	}
+
+	public int getOrderId()
+	{
+		return this.zSynchronizedGetData().getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderFinder.orderId(), newValue, true ,false);
+		if (d == null) return;
+		BitemporalOrderData data = (BitemporalOrderData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			BitemporalOrderItemList items =
+			(BitemporalOrderItemList) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			BitemporalOrderStatus orderStatus =
+			(BitemporalOrderStatus) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+		}
+	}
+
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetInteger(BitemporalOrderFinder.orderId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		BitemporalOrderData data = (BitemporalOrderData) d;
+		BitemporalOrderItemList items =
+		(BitemporalOrderItemList) data.getItems();
+		if (items != null)
+		{
+			items.setOrderId(newValue);
+		}
+
+		BitemporalOrderStatus orderStatus =
+		(BitemporalOrderStatus) data.getOrderStatus();
+		if (orderStatus != null)
+		{
+			orderStatus.setOrderId(newValue);
+		}
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getState()
+	{
+		return this.zSynchronizedGetData().getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderFinder.state(), newValue, false );
+	}
+
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BitemporalOrderFinder.state(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTrackingId()
+	{
+		return this.zSynchronizedGetData().getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(BitemporalOrderFinder.trackingId(), newValue, false );
+	}
+
+	public void setTrackingIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		{
+			throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		}
+
+		zSetString(BitemporalOrderFinder.trackingId(), newValue, false , exclusiveUntil);
+	}
+
+	public int getUserId()
+	{
+		BitemporalOrderData data = this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(BitemporalOrderFinder.userId(), newValue, false ,true);
+	}
+
+	public void setUserIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BitemporalOrderFinder.userId(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BitemporalOrderFinder.userId(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BitemporalOrderData data2 = (BitemporalOrderData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BitemporalOrderFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(BitemporalOrderFinder.userId(), false);
+	}
+
+	public void setUserIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BitemporalOrderFinder.userId(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		behavior.cascadeUpdateInPlaceBeforeTerminate(this);
+	}
+
+	public void zCascadeUpdateInPlaceBeforeTerminate(MithraDataObject _data)
+	{
+		BitemporalOrderData _newData = (BitemporalOrderData) _data;
+		this.setDescriptionUsingInPlaceUpdate(_newData.getDescription());
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BitemporalOrderData _newData = (BitemporalOrderData) _data;
+		{
+			BitemporalOrderItemList items =
+			(BitemporalOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatus orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderStatus orderStatus =
+			(BitemporalOrderStatus) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				BitemporalOrderStatus _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BitemporalOrderData _newData = (BitemporalOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderStatus)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BitemporalOrderData _newData = (BitemporalOrderData) behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((BitemporalOrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((BitemporalOrderStatus)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalOrderItem#getOrder() reverse relationship BitemporalOrderItem.getOrder()
+	* @return items
+	*/
+	public BitemporalOrderItemList getItems()
+	{
+		BitemporalOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (BitemporalOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.items().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new BitemporalOrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setItems(BitemporalOrderItemList items)
+	{
+		BitemporalOrderItemList _items = (BitemporalOrderItemList) items;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(new RelationshipMultiEqualityOperation(BitemporalOrderFinder.items().zGetRelationshipMultiExtractor(), this),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			BitemporalOrderItemList itemsToDelete = new BitemporalOrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				BitemporalOrderItem item = _items.getBitemporalOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatus#getOrder() reverse relationship BitemporalOrderStatus.getOrder()
+	* @return The order status
+	*/
+	public BitemporalOrderStatus getOrderStatus()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (BitemporalOrderStatus) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.orderStatus().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(BitemporalOrderStatus orderStatus)
+	{
+		BitemporalOrderStatus _orderStatus = (BitemporalOrderStatus) orderStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			BitemporalOrderStatus _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UnconfiguredBitemporalOrderStatus.orderId = this.orderId</pre>
+	* @return The unconfigured order status
+	*/
+	public UnconfiguredBitemporalOrderStatus getUnconfiguredOrderStatus()
+	{
+		UnconfiguredBitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = UnconfiguredBitemporalOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forunconfiguredOrderStatus,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (UnconfiguredBitemporalOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.unconfiguredOrderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.unconfiguredOrderStatus().zGetRelationshipMultiExtractor(), this);
+					_result = UnconfiguredBitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (UnconfiguredBitemporalOrderStatus) _data.getUnconfiguredOrderStatus();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.unconfiguredOrderStatus().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = UnconfiguredBitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setUnconfiguredOrderStatus(UnconfiguredBitemporalOrderStatus unconfiguredOrderStatus)
+	{
+		UnconfiguredBitemporalOrderStatus _unconfiguredOrderStatus = (UnconfiguredBitemporalOrderStatus) unconfiguredOrderStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setUnconfiguredOrderStatus(_unconfiguredOrderStatus);
+			if (_unconfiguredOrderStatus == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_unconfiguredOrderStatus.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_unconfiguredOrderStatus == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_unconfiguredOrderStatus.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and AuditedOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public BitemporalOrderItem getItemForProduct(int productId)
+	{
+		BitemporalOrderItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemFinder.processingDate().eq(this.getProcessingDate()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and AuditedOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public BitemporalOrderItem getItemForProductSet(IntHashSet productIds)
+	{
+		BitemporalOrderItem _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemFinder.processingDate().eq(this.getProcessingDate()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UnconfiguredBitemporalOrderToOrderStatus.statusId = BitemporalOrderStatus.orderId and
+	UnconfiguredBitemporalOrderToOrderStatus.orderId = this.orderId</pre>
+	* @return The order status via unconfigured join
+	*/
+	public BitemporalOrderStatus getOrderStatusViaUnconfiguredJoin()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaUnconfiguredJoinMapperFragment(), UnconfiguredBitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaUnconfiguredJoinMapperFragment(), UnconfiguredBitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusViaUnconfiguredJoin();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaUnconfiguredJoinMapperFragment(), UnconfiguredBitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(UnconfiguredBitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(UnconfiguredBitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusViaUnconfiguredJoin(BitemporalOrderStatus orderStatusViaUnconfiguredJoin)
+	{
+		BitemporalOrderStatus _orderStatusViaUnconfiguredJoin = (BitemporalOrderStatus) orderStatusViaUnconfiguredJoin;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusViaUnconfiguredJoin(_orderStatusViaUnconfiguredJoin);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId and
+	UnconfiguredBitemporalOrderStatusFilter.lastUser = BitemporalOrderStatus.lastUser and
+	UnconfiguredBitemporalOrderStatusFilter.isAwesome = true</pre>
+	* @return The order status with unconfigured filter
+	*/
+	public BitemporalOrderStatus getOrderStatusWithUnconfiguredFilter()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = BitemporalOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate())).and(new MappedOperation(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithUnconfiguredFilterDangleMapper(), UnconfiguredBitemporalOrderStatusFilterFinder.all()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = BitemporalOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate())).and(new MappedOperation(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithUnconfiguredFilterDangleMapper(), UnconfiguredBitemporalOrderStatusFilterFinder.all()));
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusWithUnconfiguredFilter();
+			if (_result == null)
+			{
+				{
+					_op = BitemporalOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate())).and(new MappedOperation(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithUnconfiguredFilterDangleMapper(), UnconfiguredBitemporalOrderStatusFilterFinder.all()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusWithUnconfiguredFilter(BitemporalOrderStatus orderStatusWithUnconfiguredFilter)
+	{
+		BitemporalOrderStatus _orderStatusWithUnconfiguredFilter = (BitemporalOrderStatus) orderStatusWithUnconfiguredFilter;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusWithUnconfiguredFilter(_orderStatusWithUnconfiguredFilter);
+			if (_orderStatusWithUnconfiguredFilter == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_orderStatusWithUnconfiguredFilter.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_orderStatusWithUnconfiguredFilter == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_orderStatusWithUnconfiguredFilter.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderToOrderStatus.statusId = BitemporalOrderStatus.orderId and
+	BitemporalOrderToOrderStatus.orderId = this.orderId</pre>
+	* @return The order status via join
+	*/
+	public BitemporalOrderStatus getOrderStatusViaJoin()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaJoinMapperFragment(), BitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaJoinMapperFragment(), BitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusViaJoin();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaJoinMapperFragment(), BitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusViaJoin(BitemporalOrderStatus orderStatusViaJoin)
+	{
+		BitemporalOrderStatus _orderStatusViaJoin = (BitemporalOrderStatus) orderStatusViaJoin;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusViaJoin(_orderStatusViaJoin);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderToOrderStatus.statusId = BitemporalOrderStatus.orderId and
+	BitemporalOrderToOrderStatus.orderId = this.orderId and
+	BitemporalOrderStatus.orderId = 130</pre>
+	* @return The order status via join with filter
+	*/
+	public BitemporalOrderStatus getOrderStatusViaJoinWithFilter()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaJoinWithFilterMapperFragment(), BitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaJoinWithFilterMapperFragment(), BitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusViaJoinWithFilter();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BitemporalOrderFinder.zGetOrderStatusViaJoinWithFilterMapperFragment(), BitemporalOrderToOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderToOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderToOrderStatusFinder.processingDate().eq(this.getProcessingDate())));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusViaJoinWithFilter(BitemporalOrderStatus orderStatusViaJoinWithFilter)
+	{
+		BitemporalOrderStatus _orderStatusViaJoinWithFilter = (BitemporalOrderStatus) orderStatusViaJoinWithFilter;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusViaJoinWithFilter(_orderStatusViaJoinWithFilter);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId and
+	BitemporalOrderStatusFilter.lastUser = BitemporalOrderStatus.lastUser and
+	BitemporalOrderStatusFilter.isAwesome = true</pre>
+	* @return The order status with filter
+	*/
+	public BitemporalOrderStatus getOrderStatusWithFilter()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = BitemporalOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate())).and(new MappedOperation(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithFilterDangleMapper(), BitemporalOrderStatusFilterFinder.all()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = BitemporalOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate())).and(new MappedOperation(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithFilterDangleMapper(), BitemporalOrderStatusFilterFinder.all()));
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusWithFilter();
+			if (_result == null)
+			{
+				{
+					_op = BitemporalOrderStatusFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderStatusFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderStatusFinder.processingDate().eq(this.getProcessingDate())).and(new MappedOperation(BitemporalOrderFinder.zGetBitemporalOrderOrderStatusWithFilterDangleMapper(), BitemporalOrderStatusFilterFinder.all()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusWithFilter(BitemporalOrderStatus orderStatusWithFilter)
+	{
+		BitemporalOrderStatus _orderStatusWithFilter = (BitemporalOrderStatus) orderStatusWithFilter;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusWithFilter(_orderStatusWithFilter);
+			if (_orderStatusWithFilter == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_orderStatusWithFilter.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_orderStatusWithFilter == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_orderStatusWithFilter.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.businessDate = this.businessDate and
+	BitemporalOrderStatus.processingDate = this.processingDate and
+	BitemporalOrderStatus.orderId = 140</pre>
+	* @return The order status with fixed order id
+	*/
+	public BitemporalOrderStatus getOrderStatusWithFixedOrderId()
+	{
+		BitemporalOrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = BitemporalOrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatusWithFixedOrderId,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.orderStatusWithFixedOrderId().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.orderStatusWithFixedOrderId().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalOrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalOrderStatus) _data.getOrderStatusWithFixedOrderId();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(BitemporalOrderFinder.orderStatusWithFixedOrderId().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatusWithFixedOrderId(BitemporalOrderStatus orderStatusWithFixedOrderId)
+	{
+		BitemporalOrderStatus _orderStatusWithFixedOrderId = (BitemporalOrderStatus) orderStatusWithFixedOrderId;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrderStatusWithFixedOrderId(_orderStatusWithFixedOrderId);
+			if (_orderStatusWithFixedOrderId == null)
+			{
+			}
+			else
+			{
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_orderStatusWithFixedOrderId == null)
+			{
+			}
+			else
+			{
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and BitemporalOrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public BitemporalOrderItemList getExpensiveItems(double price)
+	{
+		BitemporalOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalOrderItemFinder.originalPrice().greaterThanEquals(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId and BitemporalOrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public List getCheapItems(double price)
+	{
+		BitemporalOrderItemList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = BitemporalOrderItemFinder.orderId().eq(_data.getOrderId()).and(BitemporalOrderItemFinder.businessDate().eq(this.getBusinessDate())).and(BitemporalOrderItemFinder.processingDate().eq(this.getProcessingDate())).and(BitemporalOrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Sale.saleId = this.orderId</pre>
+	* @return The sale
+	*/
+	public Sale getSale()
+	{
+		Sale _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = SaleFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsale, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Sale) _related;
+				if (_related == null)
+				{
+					_op = SaleFinder.saleId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = SaleFinder.saleId().eq(_data.getOrderId());
+					_result = SaleFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Sale) _data.getSale();
+			if (_result == null)
+			{
+				{
+					_op = SaleFinder.saleId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = SaleFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSale(Sale sale)
+	{
+		Sale _sale = (Sale) sale;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSale(_sale);
+			if (_sale == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_sale.getSaleId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_sale == null)
+			{
+				this.setOrderId(0);
+			}
+			else
+			{
+				this.setOrderId(
+					_sale.getSaleId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Sale.saleId = this.userId</pre>
+	* @return The sale with user id
+	*/
+	public Sale getSaleWithUserId()
+	{
+		Sale _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isUserIdNull())
+			{
+				_portal = SaleFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsaleWithUserId, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Sale) _related;
+				if (_related == null)
+				{
+					_op = SaleFinder.saleId().eq(_data.getUserId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isUserIdNull())
+				{
+					Operation detachedOp = SaleFinder.saleId().eq(_data.getUserId());
+					_result = SaleFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Sale) _data.getSaleWithUserId();
+			if (_result == null)
+			{
+				if (!_data.isUserIdNull())
+				{
+					_op = SaleFinder.saleId().eq(_data.getUserId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = SaleFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSaleWithUserId(Sale saleWithUserId)
+	{
+		Sale _saleWithUserId = (Sale) saleWithUserId;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BitemporalOrderData _data = (BitemporalOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSaleWithUserId(_saleWithUserId);
+			if (_saleWithUserId == null)
+			{
+				this.setUserIdNull();
+			}
+			else
+			{
+				this.setUserId(
+					_saleWithUserId.getSaleId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_saleWithUserId == null)
+			{
+				this.setUserIdNull();
+			}
+			else
+			{
+				this.setUserId(
+					_saleWithUserId.getSaleId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return BitemporalOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BitemporalOrderData.BitemporalOrderDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BitemporalOrderData data = (BitemporalOrderData) BitemporalOrderFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BitemporalOrder has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBitemporalOrderData( BitemporalOrderData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBitemporalOrderData( BitemporalOrderData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BitemporalOrderFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BitemporalOrderFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BitemporalOrderAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderAbstract from = (BitemporalOrderAbstract) f;
+		BitemporalOrderData newData = from.zSynchronizedGetData();
+		this.setDescription(newData.getDescription());
+		this.setOrderDate(newData.getOrderDate());
+		this.setState(newData.getState());
+		this.setTrackingId(newData.getTrackingId());
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNull();
+		}
+		else
+		{
+			this.setUserId(newData.getUserId());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderData _newData = (BitemporalOrderData) _data;
+		BitemporalOrderItemList items =
+		(BitemporalOrderItemList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			BitemporalOrderStatus orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeTerminate();
+			}
+		}
+		else
+		{
+			BitemporalOrderStatus orderStatus =
+			(BitemporalOrderStatus) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				BitemporalOrderStatus _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+				}
+				else
+				{
+					_existing.copyNonPrimaryKeyAttributesUntilFrom( orderStatus, exclusiveUntil );
+				}
+			}
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BitemporalOrderData _newData = (BitemporalOrderData) _data;
+		BitemporalOrderItemList items =
+		(BitemporalOrderItemList) _newData.getItems();
+		if (items != null)
+		{
+			items.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+
+		BitemporalOrderStatus orderStatus =
+		(BitemporalOrderStatus) _newData.getOrderStatus();
+		if (orderStatus != null)
+		{
+			orderStatus.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BitemporalOrderAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BitemporalOrderAbstract from = (BitemporalOrderAbstract)f;
+		BitemporalOrderData newData = from.zSynchronizedGetData();
+		this.setDescriptionUntil(newData.getDescription(), exclusiveUntil);
+		this.setOrderDateUntil(newData.getOrderDate(), exclusiveUntil);
+		this.setStateUntil(newData.getState(), exclusiveUntil);
+		this.setTrackingIdUntil(newData.getTrackingId(), exclusiveUntil);
+		if (from.isUserIdNull())
+		{
+			this.setUserIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setUserIdUntil(newData.getUserId(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BitemporalOrderData newData = (BitemporalOrderData) d;
+		BitemporalOrderData data = (BitemporalOrderData) nd;
+		if (BitemporalOrderFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderFinder.orderDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderFinder.orderId(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderFinder.description(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BitemporalOrderFinder.orderDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderFinder.orderId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderFinder.state(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BitemporalOrderFinder.trackingId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BitemporalOrderFinder.userId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getItems().cascadeTerminateAll();
+		{
+			BitemporalOrderStatus related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getItems().cascadeTerminateAllUntil(exclusiveUntil);
+		{
+			BitemporalOrderStatus related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeTerminateUntil(exclusiveUntil);
+		}
+
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderData data = ((BitemporalOrderData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderData data = ((BitemporalOrderData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BitemporalOrderData data = ((BitemporalOrderData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, InfinityTimestamp.getParaInfinity()), BitemporalOrderFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BitemporalOrderData localData = (BitemporalOrderData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItem item = (BitemporalOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalOrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderItem item = (BitemporalOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderStatus item = (BitemporalOrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(BitemporalOrderAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			BitemporalOrderStatus item = (BitemporalOrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderClassificationWiAbstract
+{
+	public Timestamp getBusinessDateFrom();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public boolean isBusinessDateFromNull();
+	public Timestamp getBusinessDateTo();
+	public void setBusinessDateTo(Timestamp newValue);
+	public boolean isBusinessDateToNull();
+	public int getClassificationId();
+	public void setClassificationId(int newValue);
+	public boolean isClassificationIdNull();
+	public void setClassificationIdUntil(int newValue, Timestamp exclusiveUntil);
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil);
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	public Timestamp getProcessingDateFrom();
+	public void setProcessingDateFrom(Timestamp newValue);
+	public boolean isProcessingDateFromNull();
+	public Timestamp getProcessingDateTo();
+	public void setProcessingDateTo(Timestamp newValue);
+	public boolean isProcessingDateToNull();
+	public BitemporalOrderWi getOrder();
+	public void setOrder(BitemporalOrderWi order);
+	public Timestamp getBusinessDate();
+	public Timestamp getProcessingDate();
+}
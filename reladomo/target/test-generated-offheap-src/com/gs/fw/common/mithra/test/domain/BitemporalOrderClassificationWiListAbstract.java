@@ -0,0 +1,16 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderClassificationWiListAbstract extends List<BitemporalOrderClassificationWi>
+{
+	public BitemporalOrderWiList getOrders();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public void setBusinessDateTo(Timestamp newValue);
+	public void setClassificationId(int newValue);
+	public void setDescription(String newValue);
+	public void setOrderId(int newValue);
+	public void setProcessingDateFrom(Timestamp newValue);
+	public void setProcessingDateTo(Timestamp newValue);
+}
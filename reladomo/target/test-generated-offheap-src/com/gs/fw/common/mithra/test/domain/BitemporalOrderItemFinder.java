@@ -0,0 +1,1548 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderItemFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderItem");
+	private static final BitemporalOrderItemSingleFinder<BitemporalOrderItem, Object, BitemporalOrderItem> finder = new BitemporalOrderItemSingleFinder<BitemporalOrderItem, Object, BitemporalOrderItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderItemFinder.BitemporalOrderItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("productSpecs");
+		finderMethodMap.addRelationshipName("orderItemStatus");
+		finderMethodMap.addRelationshipName("orderWithSameIdAsProduct");
+		finderMethodMap.addRelationshipName("order");
+		finderMethodMap.addRelationshipName("bitemporalOrderWithInterface");
+		finderMethodMap.addRelationshipName("readOnlyDatedOrderWithInterface");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[16];
+			result[0] = BitemporalOrderItemFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[1] = ProductFinder.productId().constructEqualityMapper(BitemporalOrderItemFinder.productId());
+			result[2] = BitemporalOrderItemFinder.productId().constructEqualityMapper(ProductSpecificationFinder.productId());
+			result[3] = ProductSpecificationFinder.productId().constructEqualityMapper(BitemporalOrderItemFinder.productId());
+			result[4] = BitemporalOrderItemFinder.id().constructEqualityMapper(BitemporalOrderItemStatusFinder.itemId());
+			result[5] = BitemporalOrderItemStatusFinder.itemId().constructEqualityMapper(BitemporalOrderItemFinder.id());
+			result[6] = BitemporalOrderItemFinder.businessDate().constructEqualityMapper(BitemporalOrderItemStatusFinder.businessDate());
+			result[7] = BitemporalOrderItemStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderItemFinder.businessDate());
+			result[8] = BitemporalOrderItemFinder.processingDate().constructEqualityMapper(BitemporalOrderItemStatusFinder.processingDate());
+			result[9] = BitemporalOrderItemStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderItemFinder.processingDate());
+			result[10] = BitemporalOrderItemFinder.productId().constructEqualityMapper(BitemporalOrderFinder.orderId());
+			result[11] = BitemporalOrderFinder.orderId().constructEqualityMapper(BitemporalOrderItemFinder.productId());
+			result[12] = BitemporalOrderItemFinder.businessDate().constructEqualityMapper(BitemporalOrderFinder.businessDate());
+			result[13] = BitemporalOrderFinder.businessDate().constructEqualityMapper(BitemporalOrderItemFinder.businessDate());
+			result[14] = BitemporalOrderItemFinder.processingDate().constructEqualityMapper(BitemporalOrderFinder.processingDate());
+			result[15] = BitemporalOrderFinder.processingDate().constructEqualityMapper(BitemporalOrderItemFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderItemList) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderItem findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderItemData _castedTargetData = (BitemporalOrderItemData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return BitemporalOrderItemFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderItemFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrderItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderItemInterfaceFinder<BitemporalOrderItem>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private BitemporalOrderItemProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private BitemporalOrderItemProductSpecsFinderSubclass<ParentOwnerType> productSpecs;
+		private BitemporalOrderItemOrderItemStatusFinderSubclass<ParentOwnerType> orderItemStatus;
+		private BitemporalOrderItemOrderWithSameIdAsProductFinderSubclass<ParentOwnerType> orderWithSameIdAsProduct;
+		private BitemporalOrderItemOrderFinderSubclass<ParentOwnerType> order;
+		private BitemporalOrderItemBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType> bitemporalOrderWithInterface;
+		private BitemporalOrderItemReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType> readOnlyDatedOrderWithInterface;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderItemRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			attributes[7] = this.processingDateFrom();
+			attributes[8] = this.processingDateTo();
+			attributes[9] = this.businessDateFrom();
+			attributes[10] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(7);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.productSpecs());
+				relatedFinders.add(this.orderItemStatus());
+				relatedFinders.add(this.orderWithSameIdAsProduct());
+				relatedFinders.add(this.order());
+				relatedFinders.add(this.bitemporalOrderWithInterface());
+				relatedFinders.add(this.readOnlyDatedOrderWithInterface());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.orderItemStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderItemFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderItemList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderItemList result = (BitemporalOrderItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderItem> constructEmptyList()
+		{
+			return new BitemporalOrderItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 142489648;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,36,4,1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "BitemporalOrder", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,3,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,68,4,4, false) :
+					new MappedDoubleAttribute(BitemporalOrderItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,40,4,2, false) :
+					new MappedDoubleAttribute(BitemporalOrderItemFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,4,0, false) :
+					new MappedDoubleAttribute(BitemporalOrderItemFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STATE","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,76,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderItemFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,56,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderItemFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderItemFinder.businessDateInfinity,false,false,BitemporalOrderItemFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalOrderItemFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderItemFinder.processingDateInfinity,false,false,BitemporalOrderItemFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalOrderItemFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, BitemporalOrderItem> productInfo()
+		{
+			BitemporalOrderItemProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderItemFinder.zGetBitemporalOrderItemProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<ParentOwnerType, ProductSpecification, BitemporalOrderItem> productSpecs()
+		{
+			BitemporalOrderItemProductSpecsFinderSubclass<ParentOwnerType> result = this.productSpecs;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderItemFinder.zGetBitemporalOrderItemProductSpecsReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemProductSpecsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productSpecs = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemStatusFinder.BitemporalOrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemStatus, BitemporalOrderItem> orderItemStatus()
+		{
+			BitemporalOrderItemOrderItemStatusFinderSubclass<ParentOwnerType> result = this.orderItemStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderItemFinder.zGetBitemporalOrderItemOrderItemStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemOrderItemStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderItemStatus = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, BitemporalOrderItem> orderWithSameIdAsProduct()
+		{
+			BitemporalOrderItemOrderWithSameIdAsProductFinderSubclass<ParentOwnerType> result = this.orderWithSameIdAsProduct;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderItemFinder.zGetBitemporalOrderItemOrderWithSameIdAsProductReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemOrderWithSameIdAsProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderWithSameIdAsProduct = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, BitemporalOrderItem> order()
+		{
+			BitemporalOrderItemOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderFinder.zGetBitemporalOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderWi, BitemporalOrderItem> bitemporalOrderWithInterface()
+		{
+			BitemporalOrderItemBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType> result = this.bitemporalOrderWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiItemsWithoutInterfacesMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.bitemporalOrderWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderWi, BitemporalOrderItem> readOnlyDatedOrderWithInterface()
+		{
+			BitemporalOrderItemReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType> result = this.readOnlyDatedOrderWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyBitemporalOrderWiFinder.zGetReadOnlyBitemporalOrderWiItemsWithoutInterfaceMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderItemReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.readOnlyDatedOrderWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderItemRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderItemList, OwnerType>
+	{
+		public BitemporalOrderItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderItemRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderItem other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderItem findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderItem) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructBitemporalOrderItemProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetBitemporalOrderItemProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructBitemporalOrderItemProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructBitemporalOrderItemProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = BitemporalOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = BitemporalOrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemProductInfoMapper()
+	{
+		Mapper productInfoMapper = BitemporalOrderItemFinder.zGetConstantJoin(1);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	private static Mapper productSpecsReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemProductSpecsReverseMapper()
+	{
+		if (productSpecsReverseMapper == null)
+		{
+			productSpecsReverseMapper = zConstructBitemporalOrderItemProductSpecsReverseMapper();
+		}
+
+		return productSpecsReverseMapper;
+	}
+
+	private static Mapper productSpecsMapper = null;
+	public static Mapper zGetBitemporalOrderItemProductSpecsMapper()
+	{
+		if (productSpecsMapper == null)
+		{
+			productSpecsMapper = zConstructBitemporalOrderItemProductSpecsMapper();
+		}
+
+		return productSpecsMapper;
+	}
+
+	private static Mapper productSpecsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemProductSpecsPureReverseMapper()
+	{
+		if (productSpecsPureReverseMapper == null)
+		{
+			productSpecsPureReverseMapper = zConstructBitemporalOrderItemProductSpecsPureReverseMapper();
+		}
+
+		return productSpecsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemProductSpecsPureReverseMapper()
+	{
+		Mapper productSpecsMapper = BitemporalOrderItemFinder.zGetConstantJoin(2);
+		productSpecsMapper.setName("productSpecs");
+		return productSpecsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemProductSpecsReverseMapper()
+	{
+		Mapper productSpecsMapper = BitemporalOrderItemFinder.zGetConstantJoin(2);
+		productSpecsMapper.setName("productSpecs");
+		return productSpecsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemProductSpecsMapper()
+	{
+		Mapper productSpecsMapper = BitemporalOrderItemFinder.zGetConstantJoin(3);
+		productSpecsMapper.setName("productSpecs_Reverse");
+		return productSpecsMapper;
+	}
+
+	private static Mapper orderItemStatusReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemOrderItemStatusReverseMapper()
+	{
+		if (orderItemStatusReverseMapper == null)
+		{
+			orderItemStatusReverseMapper = zConstructBitemporalOrderItemOrderItemStatusReverseMapper();
+		}
+
+		return orderItemStatusReverseMapper;
+	}
+
+	private static Mapper orderItemStatusMapper = null;
+	public static Mapper zGetBitemporalOrderItemOrderItemStatusMapper()
+	{
+		if (orderItemStatusMapper == null)
+		{
+			orderItemStatusMapper = zConstructBitemporalOrderItemOrderItemStatusMapper();
+		}
+
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper orderItemStatusPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemOrderItemStatusPureReverseMapper()
+	{
+		if (orderItemStatusPureReverseMapper == null)
+		{
+			orderItemStatusPureReverseMapper = zConstructBitemporalOrderItemOrderItemStatusPureReverseMapper();
+		}
+
+		return orderItemStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemOrderItemStatusPureReverseMapper()
+	{
+		InternalList orderItemStatusMapperMapperList = new InternalList(3);
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(4));
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(6));
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(8));
+		Mapper orderItemStatusMapper = new MultiEqualityMapper(orderItemStatusMapperMapperList);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemOrderItemStatusReverseMapper()
+	{
+		InternalList orderItemStatusMapperMapperList = new InternalList(3);
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(4));
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(6));
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(8));
+		Mapper orderItemStatusMapper = new MultiEqualityMapper(orderItemStatusMapperMapperList);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemOrderItemStatusMapper()
+	{
+		InternalList orderItemStatusMapperMapperList = new InternalList(3);
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(5));
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(7));
+		orderItemStatusMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(9));
+		Mapper orderItemStatusMapper = new MultiEqualityMapper(orderItemStatusMapperMapperList);
+		orderItemStatusMapper.setName("orderItem");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper orderWithSameIdAsProductReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemOrderWithSameIdAsProductReverseMapper()
+	{
+		if (orderWithSameIdAsProductReverseMapper == null)
+		{
+			orderWithSameIdAsProductReverseMapper = zConstructBitemporalOrderItemOrderWithSameIdAsProductReverseMapper();
+		}
+
+		return orderWithSameIdAsProductReverseMapper;
+	}
+
+	private static Mapper orderWithSameIdAsProductMapper = null;
+	public static Mapper zGetBitemporalOrderItemOrderWithSameIdAsProductMapper()
+	{
+		if (orderWithSameIdAsProductMapper == null)
+		{
+			orderWithSameIdAsProductMapper = zConstructBitemporalOrderItemOrderWithSameIdAsProductMapper();
+		}
+
+		return orderWithSameIdAsProductMapper;
+	}
+
+	private static Mapper orderWithSameIdAsProductPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderItemOrderWithSameIdAsProductPureReverseMapper()
+	{
+		if (orderWithSameIdAsProductPureReverseMapper == null)
+		{
+			orderWithSameIdAsProductPureReverseMapper = zConstructBitemporalOrderItemOrderWithSameIdAsProductPureReverseMapper();
+		}
+
+		return orderWithSameIdAsProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemOrderWithSameIdAsProductPureReverseMapper()
+	{
+		InternalList orderWithSameIdAsProductMapperMapperList = new InternalList(3);
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(10));
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper orderWithSameIdAsProductMapper = new MultiEqualityMapper(orderWithSameIdAsProductMapperMapperList);
+		orderWithSameIdAsProductMapper.setName("orderWithSameIdAsProduct");
+		return orderWithSameIdAsProductMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemOrderWithSameIdAsProductReverseMapper()
+	{
+		InternalList orderWithSameIdAsProductMapperMapperList = new InternalList(3);
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(10));
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(12));
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(14));
+		Mapper orderWithSameIdAsProductMapper = new MultiEqualityMapper(orderWithSameIdAsProductMapperMapperList);
+		orderWithSameIdAsProductMapper.setName("orderWithSameIdAsProduct");
+		return orderWithSameIdAsProductMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderItemOrderWithSameIdAsProductMapper()
+	{
+		InternalList orderWithSameIdAsProductMapperMapperList = new InternalList(3);
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderItemFinder.zGetConstantJoin(11));
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(2));
+		orderWithSameIdAsProductMapperMapperList.add(BitemporalOrderFinder.zGetConstantJoin(4));
+		Mapper orderWithSameIdAsProductMapper = new MultiEqualityMapper(orderWithSameIdAsProductMapperMapperList);
+		orderWithSameIdAsProductMapper.setName("orderWithSameIdAsProduct_Reverse");
+		return orderWithSameIdAsProductMapper;
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.ID **/
+	public static IntegerAttribute<BitemporalOrderItem> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrderItem> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<BitemporalOrderItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.QUANTITY **/
+	public static DoubleAttribute<BitemporalOrderItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.ORIGINAL_PRICE **/
+	public static DoubleAttribute<BitemporalOrderItem> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.DISCOUNT_PRICE **/
+	public static DoubleAttribute<BitemporalOrderItem> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.STATE **/
+	public static StringAttribute<BitemporalOrderItem> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderItem> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderItem> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderItem> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_ITEM.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderItem> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderItem> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderItem> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<BitemporalOrderItem, Product, BitemporalOrderItem> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class BitemporalOrderItemProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getProductInfos();
+		}
+	}
+
+	public static ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<BitemporalOrderItem, ProductSpecification, BitemporalOrderItem> productSpecs()
+	{
+		return finder.productSpecs();
+	}
+
+	public static class BitemporalOrderItemProductSpecsFinderSubclass<ParentOwnerType> extends ProductSpecificationFinder.ProductSpecificationSingleFinderForRelatedClasses<ParentOwnerType, ProductSpecification, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemProductSpecsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productSpecs";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemProductSpecsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductSpecification plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getProductSpecs();
+		}
+
+		protected ProductSpecificationList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getProductSpecs();
+		}
+	}
+
+	public static BitemporalOrderItemStatusFinder.BitemporalOrderItemStatusSingleFinderForRelatedClasses<BitemporalOrderItem, BitemporalOrderItemStatus, BitemporalOrderItem> orderItemStatus()
+	{
+		return finder.orderItemStatus();
+	}
+
+	public static class BitemporalOrderItemOrderItemStatusFinderSubclass<ParentOwnerType> extends BitemporalOrderItemStatusFinder.BitemporalOrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemStatus, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemOrderItemStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderItemStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemStatusFinder.itemId(),
+				BitemporalOrderItemStatusFinder.businessDate(),
+				BitemporalOrderItemStatusFinder.processingDate()).withExtractors(
+				BitemporalOrderItemFinder.id(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemOrderItemStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrderItem) _obj).isOrderItemStatusModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderItemStatus plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getOrderItemStatus();
+		}
+
+		protected BitemporalOrderItemStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getOrderItemStatus();
+		}
+	}
+
+	public static BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<BitemporalOrderItem, BitemporalOrder, BitemporalOrderItem> orderWithSameIdAsProduct()
+	{
+		return finder.orderWithSameIdAsProduct();
+	}
+
+	public static class BitemporalOrderItemOrderWithSameIdAsProductFinderSubclass<ParentOwnerType> extends BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemOrderWithSameIdAsProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderWithSameIdAsProduct";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderFinder.orderId(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()).withExtractors(
+				BitemporalOrderItemFinder.productId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemOrderWithSameIdAsProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrder plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getOrderWithSameIdAsProduct();
+		}
+
+		protected BitemporalOrderList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getOrderWithSameIdAsProducts();
+		}
+	}
+
+	public static BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<BitemporalOrderItem, BitemporalOrder, BitemporalOrderItem> order()
+	{
+		return finder.order();
+	}
+
+	public static class BitemporalOrderItemOrderFinderSubclass<ParentOwnerType> extends BitemporalOrderFinder.BitemporalOrderSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrder, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderFinder.orderId(),
+				BitemporalOrderFinder.businessDate(),
+				BitemporalOrderFinder.processingDate()).withExtractors(
+				BitemporalOrderItemFinder.orderId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrder plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected BitemporalOrderList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getOrders();
+		}
+	}
+
+	public static BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<BitemporalOrderItem, BitemporalOrderWi, BitemporalOrderItem> bitemporalOrderWithInterface()
+	{
+		return finder.bitemporalOrderWithInterface();
+	}
+
+	public static class BitemporalOrderItemBitemporalOrderWithInterfaceFinderSubclass<ParentOwnerType> extends BitemporalOrderWiFinder.BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderWi, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemBitemporalOrderWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "bitemporalOrderWithInterface";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()).withExtractors(
+				BitemporalOrderItemFinder.orderId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemBitemporalOrderWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderWi plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getBitemporalOrderWithInterface();
+		}
+
+		protected BitemporalOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getBitemporalOrderWithInterfaces();
+		}
+	}
+
+	public static ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<BitemporalOrderItem, ReadOnlyBitemporalOrderWi, BitemporalOrderItem> readOnlyDatedOrderWithInterface()
+	{
+		return finder.readOnlyDatedOrderWithInterface();
+	}
+
+	public static class BitemporalOrderItemReadOnlyDatedOrderWithInterfaceFinderSubclass<ParentOwnerType> extends ReadOnlyBitemporalOrderWiFinder.ReadOnlyBitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyBitemporalOrderWi, BitemporalOrderItem>
+	{
+		public BitemporalOrderItemReadOnlyDatedOrderWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "readOnlyDatedOrderWithInterface";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ReadOnlyBitemporalOrderWiFinder.orderId(),
+				ReadOnlyBitemporalOrderWiFinder.businessDate(),
+				ReadOnlyBitemporalOrderWiFinder.processingDate()).withExtractors(
+				BitemporalOrderItemFinder.orderId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderItemReadOnlyDatedOrderWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyBitemporalOrderWi plainValueOf(BitemporalOrderItem _obj)
+		{
+			return _obj.getReadOnlyDatedOrderWithInterface();
+		}
+
+		protected ReadOnlyBitemporalOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderItemList)_obj).getReadOnlyDatedOrderWithInterfaces();
+		}
+	}
+
+	public static Operation eq(BitemporalOrderItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static BitemporalOrderItemSingleFinder<BitemporalOrderItem, Object, BitemporalOrderItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
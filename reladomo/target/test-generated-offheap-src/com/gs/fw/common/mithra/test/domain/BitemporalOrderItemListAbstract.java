@@ -0,0 +1,302 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BitemporalOrderItemListAbstract extends DelegatingList<BitemporalOrderItem> implements MithraDatedTransactionalList<BitemporalOrderItem>
+{
+	public BitemporalOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BitemporalOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BitemporalOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BitemporalOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BitemporalOrderItem[] elements()
+	{
+		BitemporalOrderItem[] result = new BitemporalOrderItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BitemporalOrderItemList intersection(BitemporalOrderItemList another)
+	{
+		return (BitemporalOrderItemList)super.intersection(another);
+	}
+
+	public BitemporalOrderItem getBitemporalOrderItemAt(int index)
+	{
+		return (BitemporalOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSpecification.productId</pre>
+	* @return The product specs
+	*/
+	public ProductSpecificationList getProductSpecs()
+	{
+		return (ProductSpecificationList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.productSpecs());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = BitemporalOrderItemStatus.itemId</pre>
+	* @see BitemporalOrderItemStatus#getOrderItem() reverse relationship BitemporalOrderItemStatus.getOrderItem()
+	* @return The order item status
+	*/
+	public BitemporalOrderItemStatusList getOrderItemStatus()
+	{
+		return (BitemporalOrderItemStatusList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.orderItemStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrder.orderId = this.productId</pre>
+	* @return The order with same id as product
+	*/
+	public BitemporalOrderList getOrderWithSameIdAsProducts()
+	{
+		return (BitemporalOrderList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.orderWithSameIdAsProduct());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrder.orderId</pre>
+	* @see BitemporalOrder#getItems() reverse relationship BitemporalOrder.getItems()
+	* @return The order
+	*/
+	public BitemporalOrderList getOrders()
+	{
+		return (BitemporalOrderList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(BitemporalOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			BitemporalOrderItem item = this.getBitemporalOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = BitemporalOrderWi.orderId</pre>
+	* @see BitemporalOrderWi#getItemsWithoutInterfaces() reverse relationship BitemporalOrderWi.getItemsWithoutInterfaces()
+	* @return The bitemporal order with interface
+	*/
+	public BitemporalOrderWiList getBitemporalOrderWithInterfaces()
+	{
+		return (BitemporalOrderWiList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.bitemporalOrderWithInterface());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getItemsWithoutInterface() reverse relationship ReadOnlyBitemporalOrderWi.getItemsWithoutInterface()
+	* @return The read only dated order with interface
+	*/
+	public ReadOnlyBitemporalOrderWiList getReadOnlyDatedOrderWithInterfaces()
+	{
+		return (ReadOnlyBitemporalOrderWiList) this.getDelegated().resolveRelationship(this, BitemporalOrderItemFinder.readOnlyDatedOrderWithInterface());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BitemporalOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public BitemporalOrderItemList getNonPersistentCopy()
+	{
+		BitemporalOrderItemList result = new BitemporalOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BitemporalOrderItemList asAdhoc()
+	{
+		return (BitemporalOrderItemList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BitemporalOrderItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BitemporalOrderItemList merge(MithraTransactionalList<BitemporalOrderItem> incoming, TopLevelMergeOptions<BitemporalOrderItem> mergeOptions)
+	{
+		return (BitemporalOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public BitemporalOrderItemList getDetachedCopy()
+	{
+		BitemporalOrderItemList result = new BitemporalOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.businessDateTo(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemFinder.discountPrice(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemFinder.originalPrice(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BitemporalOrderItemFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BitemporalOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BitemporalOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(BitemporalOrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(BitemporalOrderItemFinder.discountPrice());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,66 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderItemWiAbstract
+{
+	public Timestamp getBusinessDateFrom();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public boolean isBusinessDateFromNull();
+	public Timestamp getBusinessDateTo();
+	public void setBusinessDateTo(Timestamp newValue);
+	public boolean isBusinessDateToNull();
+	public double getDiscountPrice();
+	public void setDiscountPrice(double newValue);
+	public boolean isDiscountPriceNull();
+	public void setDiscountPriceUntil(double newValue, Timestamp exclusiveUntil);
+	public void incrementDiscountPrice(double increment);
+	public void incrementDiscountPriceUntil(double increment, Timestamp exclusiveUntil);
+	public int getId();
+	public void setId(int newValue);
+	public boolean isIdNull();
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil);
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	public double getOriginalPrice();
+	public void setOriginalPrice(double newValue);
+	public boolean isOriginalPriceNull();
+	public void setOriginalPriceUntil(double newValue, Timestamp exclusiveUntil);
+	public void incrementOriginalPrice(double increment);
+	public void incrementOriginalPriceUntil(double increment, Timestamp exclusiveUntil);
+	public Timestamp getProcessingDateFrom();
+	public void setProcessingDateFrom(Timestamp newValue);
+	public boolean isProcessingDateFromNull();
+	public Timestamp getProcessingDateTo();
+	public void setProcessingDateTo(Timestamp newValue);
+	public boolean isProcessingDateToNull();
+	public int getProductId();
+	public void setProductId(int newValue);
+	public boolean isProductIdNull();
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil);
+	public double getQuantity();
+	public void setQuantity(double newValue);
+	public boolean isQuantityNull();
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil);
+	public void incrementQuantity(double increment);
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil);
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil);
+	public void setOrderIdNull();
+	public void setProductIdNull();
+	public void setQuantityNull();
+	public void setOriginalPriceNull();
+	public void setDiscountPriceNull();
+	public BitemporalOrderWi getOrder();
+	public void setOrder(BitemporalOrderWi order);
+	public Timestamp getBusinessDate();
+	public Timestamp getProcessingDate();
+}
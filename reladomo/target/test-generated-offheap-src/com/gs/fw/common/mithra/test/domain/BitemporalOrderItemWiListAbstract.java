@@ -0,0 +1,19 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderItemWiListAbstract extends List<BitemporalOrderItemWi>
+{
+	public BitemporalOrderWiList getOrders();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public void setBusinessDateTo(Timestamp newValue);
+	public void setDiscountPrice(double newValue);
+	public void setId(int newValue);
+	public void setOrderId(int newValue);
+	public void setOriginalPrice(double newValue);
+	public void setProcessingDateFrom(Timestamp newValue);
+	public void setProcessingDateTo(Timestamp newValue);
+	public void setProductId(int newValue);
+	public void setQuantity(double newValue);
+	public void setState(String newValue);
+}
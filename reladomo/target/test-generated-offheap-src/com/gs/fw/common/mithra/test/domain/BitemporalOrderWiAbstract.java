@@ -0,0 +1,61 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface BitemporalOrderWiAbstract
+{
+	public Timestamp getBusinessDateFrom();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public boolean isBusinessDateFromNull();
+	public Timestamp getBusinessDateTo();
+	public void setBusinessDateTo(Timestamp newValue);
+	public boolean isBusinessDateToNull();
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public void setDescriptionUntil(String newValue, Timestamp exclusiveUntil);
+	public Timestamp getOrderDate();
+	public void setOrderDate(Timestamp newValue);
+	public boolean isOrderDateNull();
+	public void setOrderDateUntil(Timestamp newValue, Timestamp exclusiveUntil);
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	public Timestamp getProcessingDateFrom();
+	public void setProcessingDateFrom(Timestamp newValue);
+	public boolean isProcessingDateFromNull();
+	public Timestamp getProcessingDateTo();
+	public void setProcessingDateTo(Timestamp newValue);
+	public boolean isProcessingDateToNull();
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public void setStateUntil(String newValue, Timestamp exclusiveUntil);
+	public String getTrackingId();
+	public void setTrackingId(String newValue);
+	public boolean isTrackingIdNull();
+	public void setTrackingIdUntil(String newValue, Timestamp exclusiveUntil);
+	public int getUserId();
+	public void setUserId(int newValue);
+	public boolean isUserIdNull();
+	public void setUserIdUntil(int newValue, Timestamp exclusiveUntil);
+	public void setUserIdNull();
+	public BitemporalOrderItemWiList getItems();
+	public void setItems(BitemporalOrderItemWiList items);
+	public BitemporalOrderItemList getItemsWithoutInterfaces();
+	public void setItemsWithoutInterfaces(BitemporalOrderItemList itemsWithoutInterfaces);
+	public BitemporalOrderStatusWi getOrderStatus();
+	public void setOrderStatus(BitemporalOrderStatusWi orderStatus);
+	public BitemporalOrderStatus getOrderStatusWithoutInterfaces();
+	public void setOrderStatusWithoutInterfaces(BitemporalOrderStatus orderStatusWithoutInterfaces);
+	public BitemporalOrderClassificationWiList getClassifications();
+	public void setClassifications(BitemporalOrderClassificationWiList classifications);
+	public BitemporalOrderClassificationWi getClassificationById(int classificationId);
+	public Timestamp getBusinessDate();
+	public Timestamp getProcessingDate();
+}
@@ -0,0 +1,1617 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalOrderWiFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalOrderWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalOrderWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderWi");
+	private static final BitemporalOrderWiSingleFinder<BitemporalOrderWi, Object, BitemporalOrderWi> finder = new BitemporalOrderWiSingleFinder<BitemporalOrderWi, Object, BitemporalOrderWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalOrderWiFinder.BitemporalOrderWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("itemsWithoutInterfaces");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("orderStatusWithoutInterfaces");
+		finderMethodMap.addRelationshipName("classifications");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[30];
+			result[0] = BitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderItemWiFinder.orderId());
+			result[1] = BitemporalOrderItemWiFinder.orderId().constructEqualityMapper(BitemporalOrderWiFinder.orderId());
+			result[2] = BitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderItemWiFinder.businessDate());
+			result[3] = BitemporalOrderItemWiFinder.businessDate().constructEqualityMapper(BitemporalOrderWiFinder.businessDate());
+			result[4] = BitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderItemWiFinder.processingDate());
+			result[5] = BitemporalOrderItemWiFinder.processingDate().constructEqualityMapper(BitemporalOrderWiFinder.processingDate());
+			result[6] = BitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderItemFinder.orderId());
+			result[7] = BitemporalOrderItemFinder.orderId().constructEqualityMapper(BitemporalOrderWiFinder.orderId());
+			result[8] = BitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderItemFinder.businessDate());
+			result[9] = BitemporalOrderItemFinder.businessDate().constructEqualityMapper(BitemporalOrderWiFinder.businessDate());
+			result[10] = BitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderItemFinder.processingDate());
+			result[11] = BitemporalOrderItemFinder.processingDate().constructEqualityMapper(BitemporalOrderWiFinder.processingDate());
+			result[12] = BitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderStatusWiFinder.orderId());
+			result[13] = BitemporalOrderStatusWiFinder.orderId().constructEqualityMapper(BitemporalOrderWiFinder.orderId());
+			result[14] = BitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusWiFinder.businessDate());
+			result[15] = BitemporalOrderStatusWiFinder.businessDate().constructEqualityMapper(BitemporalOrderWiFinder.businessDate());
+			result[16] = BitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusWiFinder.processingDate());
+			result[17] = BitemporalOrderStatusWiFinder.processingDate().constructEqualityMapper(BitemporalOrderWiFinder.processingDate());
+			result[18] = BitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderStatusFinder.orderId());
+			result[19] = BitemporalOrderStatusFinder.orderId().constructEqualityMapper(BitemporalOrderWiFinder.orderId());
+			result[20] = BitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderStatusFinder.businessDate());
+			result[21] = BitemporalOrderStatusFinder.businessDate().constructEqualityMapper(BitemporalOrderWiFinder.businessDate());
+			result[22] = BitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderStatusFinder.processingDate());
+			result[23] = BitemporalOrderStatusFinder.processingDate().constructEqualityMapper(BitemporalOrderWiFinder.processingDate());
+			result[24] = BitemporalOrderWiFinder.orderId().constructEqualityMapper(BitemporalOrderClassificationWiFinder.orderId());
+			result[25] = BitemporalOrderClassificationWiFinder.orderId().constructEqualityMapper(BitemporalOrderWiFinder.orderId());
+			result[26] = BitemporalOrderWiFinder.businessDate().constructEqualityMapper(BitemporalOrderClassificationWiFinder.businessDate());
+			result[27] = BitemporalOrderClassificationWiFinder.businessDate().constructEqualityMapper(BitemporalOrderWiFinder.businessDate());
+			result[28] = BitemporalOrderWiFinder.processingDate().constructEqualityMapper(BitemporalOrderClassificationWiFinder.processingDate());
+			result[29] = BitemporalOrderClassificationWiFinder.processingDate().constructEqualityMapper(BitemporalOrderWiFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalOrderWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalOrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalOrderWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderWiListImpl) finder.findMany(operation);
+	}
+
+	public static BitemporalOrderWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalOrderWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalOrderWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalOrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalOrderWi findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(orderId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalOrderWiData _castedTargetData = (BitemporalOrderWiData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return BitemporalOrderWiFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalOrderWiFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static BitemporalOrderWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalOrderWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalOrderWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalOrderWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalOrderWiItemsFinderSubclass<ParentOwnerType> items;
+		private BitemporalOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> itemsWithoutInterfaces;
+		private BitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private BitemporalOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> orderStatusWithoutInterfaces;
+		private BitemporalOrderWiClassificationsFinderSubclass<ParentOwnerType> classifications;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalOrderWiRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalOrderWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalOrderWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalOrderWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalOrderWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalOrderWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			attributes[6] = this.businessDateFrom();
+			attributes[7] = this.businessDateTo();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(5);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.itemsWithoutInterfaces());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.orderStatusWithoutInterfaces());
+				relatedFinders.add(this.classifications());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalOrderWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderWiFinder.findOne(operation, false);
+		}
+
+		public BitemporalOrderWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalOrderWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalOrderWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalOrderWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalOrderWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalOrderWiListImpl result = (BitemporalOrderWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalOrderWi> constructEmptyList()
+		{
+			return new BitemporalOrderWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1841511879;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderWiFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderWiFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,0,false, false) :
+					new MappedIntegerAttribute(BitemporalOrderWiFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,50,true, false) :
+					new MappedStringAttribute(BitemporalOrderWiFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STATE","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,56,-1,-1,20,true, false) :
+					new MappedStringAttribute(BitemporalOrderWiFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,60,-1,-1,15,true, false) :
+					new MappedStringAttribute(BitemporalOrderWiFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderWiFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderWiFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderWiFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalOrderWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderWiFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalOrderWiFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalOrderWiFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalOrderWiFinder.businessDateInfinity,false,false,BitemporalOrderWiFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalOrderWiFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalOrderWiFinder.processingDateInfinity,false,false,BitemporalOrderWiFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalOrderWiFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemWiFinder.BitemporalOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemWiList, BitemporalOrderWi> items()
+		{
+			BitemporalOrderWiItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalOrderWiItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, BitemporalOrderWi> itemsWithoutInterfaces()
+		{
+			BitemporalOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.itemsWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiItemsWithoutInterfacesReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusWiFinder.BitemporalOrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatusWi, BitemporalOrderWi> orderStatus()
+		{
+			BitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrderWi> orderStatusWithoutInterfaces()
+		{
+			BitemporalOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.orderStatusWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiOrderStatusWithoutInterfacesReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatusWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderClassificationWiList, BitemporalOrderWi> classifications()
+		{
+			BitemporalOrderWiClassificationsFinderSubclass<ParentOwnerType> result = this.classifications;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiClassificationsReverseMapper());
+				newMapper.setToMany(true);
+				result = new BitemporalOrderWiClassificationsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.classifications = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderClassificationWi, BitemporalOrderWi> classificationById(int classificationId)
+		{
+			BitemporalOrderWiClassificationByIdFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(BitemporalOrderWiFinder.zGetBitemporalOrderWiClassificationByIdReverseMapper(classificationId));
+			newMapper.setToMany(false);
+			result = new BitemporalOrderWiClassificationByIdFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,classificationId);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalOrderWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalOrderWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalOrderWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalOrderWiRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderWiList, OwnerType>
+	{
+		public BitemporalOrderWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalOrderWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalOrderWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalOrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderWiRelatedFinder<ParentOwnerType, ReturnType, BitemporalOrderWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalOrderWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalOrderWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalOrderWi other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalOrderWi findByPrimaryKey(int orderId, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalOrderWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalOrderWi) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalOrderWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalOrderWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructBitemporalOrderWiItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetBitemporalOrderWiItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructBitemporalOrderWiItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructBitemporalOrderWiItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiItemsPureReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiItemsReverseMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(0));
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(2));
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(4));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiItemsMapper()
+	{
+		InternalList itemsMapperMapperList = new InternalList(3);
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(1));
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(3));
+		itemsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(5));
+		Mapper itemsMapper = new MultiEqualityMapper(itemsMapperMapperList);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiItemsWithoutInterfacesReverseMapper()
+	{
+		if (itemsWithoutInterfacesReverseMapper == null)
+		{
+			itemsWithoutInterfacesReverseMapper = zConstructBitemporalOrderWiItemsWithoutInterfacesReverseMapper();
+		}
+
+		return itemsWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesMapper = null;
+	public static Mapper zGetBitemporalOrderWiItemsWithoutInterfacesMapper()
+	{
+		if (itemsWithoutInterfacesMapper == null)
+		{
+			itemsWithoutInterfacesMapper = zConstructBitemporalOrderWiItemsWithoutInterfacesMapper();
+		}
+
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper itemsWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiItemsWithoutInterfacesPureReverseMapper()
+	{
+		if (itemsWithoutInterfacesPureReverseMapper == null)
+		{
+			itemsWithoutInterfacesPureReverseMapper = zConstructBitemporalOrderWiItemsWithoutInterfacesPureReverseMapper();
+		}
+
+		return itemsWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiItemsWithoutInterfacesPureReverseMapper()
+	{
+		InternalList itemsWithoutInterfacesMapperMapperList = new InternalList(3);
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(6));
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(8));
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(10));
+		Mapper itemsWithoutInterfacesMapper = new MultiEqualityMapper(itemsWithoutInterfacesMapperMapperList);
+		itemsWithoutInterfacesMapper.setName("itemsWithoutInterfaces");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiItemsWithoutInterfacesReverseMapper()
+	{
+		InternalList itemsWithoutInterfacesMapperMapperList = new InternalList(3);
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(6));
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(8));
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(10));
+		Mapper itemsWithoutInterfacesMapper = new MultiEqualityMapper(itemsWithoutInterfacesMapperMapperList);
+		itemsWithoutInterfacesMapper.setName("itemsWithoutInterfaces");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiItemsWithoutInterfacesMapper()
+	{
+		InternalList itemsWithoutInterfacesMapperMapperList = new InternalList(3);
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(7));
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(9));
+		itemsWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(11));
+		Mapper itemsWithoutInterfacesMapper = new MultiEqualityMapper(itemsWithoutInterfacesMapperMapperList);
+		itemsWithoutInterfacesMapper.setName("bitemporalOrderWithInterface");
+		return itemsWithoutInterfacesMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructBitemporalOrderWiOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetBitemporalOrderWiOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructBitemporalOrderWiOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructBitemporalOrderWiOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiOrderStatusPureReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(12));
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(14));
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(16));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiOrderStatusReverseMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(12));
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(14));
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(16));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiOrderStatusMapper()
+	{
+		InternalList orderStatusMapperMapperList = new InternalList(3);
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(13));
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(15));
+		orderStatusMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(17));
+		Mapper orderStatusMapper = new MultiEqualityMapper(orderStatusMapperMapperList);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiOrderStatusWithoutInterfacesReverseMapper()
+	{
+		if (orderStatusWithoutInterfacesReverseMapper == null)
+		{
+			orderStatusWithoutInterfacesReverseMapper = zConstructBitemporalOrderWiOrderStatusWithoutInterfacesReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesMapper = null;
+	public static Mapper zGetBitemporalOrderWiOrderStatusWithoutInterfacesMapper()
+	{
+		if (orderStatusWithoutInterfacesMapper == null)
+		{
+			orderStatusWithoutInterfacesMapper = zConstructBitemporalOrderWiOrderStatusWithoutInterfacesMapper();
+		}
+
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper orderStatusWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiOrderStatusWithoutInterfacesPureReverseMapper()
+	{
+		if (orderStatusWithoutInterfacesPureReverseMapper == null)
+		{
+			orderStatusWithoutInterfacesPureReverseMapper = zConstructBitemporalOrderWiOrderStatusWithoutInterfacesPureReverseMapper();
+		}
+
+		return orderStatusWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiOrderStatusWithoutInterfacesPureReverseMapper()
+	{
+		InternalList orderStatusWithoutInterfacesMapperMapperList = new InternalList(3);
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(18));
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(20));
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(22));
+		Mapper orderStatusWithoutInterfacesMapper = new MultiEqualityMapper(orderStatusWithoutInterfacesMapperMapperList);
+		orderStatusWithoutInterfacesMapper.setName("orderStatusWithoutInterfaces");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiOrderStatusWithoutInterfacesReverseMapper()
+	{
+		InternalList orderStatusWithoutInterfacesMapperMapperList = new InternalList(3);
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(18));
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(20));
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(22));
+		Mapper orderStatusWithoutInterfacesMapper = new MultiEqualityMapper(orderStatusWithoutInterfacesMapperMapperList);
+		orderStatusWithoutInterfacesMapper.setName("orderStatusWithoutInterfaces");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiOrderStatusWithoutInterfacesMapper()
+	{
+		InternalList orderStatusWithoutInterfacesMapperMapperList = new InternalList(3);
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(19));
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(21));
+		orderStatusWithoutInterfacesMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(23));
+		Mapper orderStatusWithoutInterfacesMapper = new MultiEqualityMapper(orderStatusWithoutInterfacesMapperMapperList);
+		orderStatusWithoutInterfacesMapper.setName("bitemporalOrderWithInterface");
+		return orderStatusWithoutInterfacesMapper;
+	}
+
+	private static Mapper classificationsReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiClassificationsReverseMapper()
+	{
+		if (classificationsReverseMapper == null)
+		{
+			classificationsReverseMapper = zConstructBitemporalOrderWiClassificationsReverseMapper();
+		}
+
+		return classificationsReverseMapper;
+	}
+
+	private static Mapper classificationsMapper = null;
+	public static Mapper zGetBitemporalOrderWiClassificationsMapper()
+	{
+		if (classificationsMapper == null)
+		{
+			classificationsMapper = zConstructBitemporalOrderWiClassificationsMapper();
+		}
+
+		return classificationsMapper;
+	}
+
+	private static Mapper classificationsPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiClassificationsPureReverseMapper()
+	{
+		if (classificationsPureReverseMapper == null)
+		{
+			classificationsPureReverseMapper = zConstructBitemporalOrderWiClassificationsPureReverseMapper();
+		}
+
+		return classificationsPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiClassificationsPureReverseMapper()
+	{
+		InternalList classificationsMapperMapperList = new InternalList(3);
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(24));
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(26));
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(28));
+		Mapper classificationsMapper = new MultiEqualityMapper(classificationsMapperMapperList);
+		classificationsMapper.setName("classifications");
+		return classificationsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiClassificationsReverseMapper()
+	{
+		InternalList classificationsMapperMapperList = new InternalList(3);
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(24));
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(26));
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(28));
+		Mapper classificationsMapper = new MultiEqualityMapper(classificationsMapperMapperList);
+		classificationsMapper.setName("classifications");
+		return classificationsMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiClassificationsMapper()
+	{
+		InternalList classificationsMapperMapperList = new InternalList(3);
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(25));
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(27));
+		classificationsMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(29));
+		Mapper classificationsMapper = new MultiEqualityMapper(classificationsMapperMapperList);
+		classificationsMapper.setName("order");
+		return classificationsMapper;
+	}
+
+	public static Mapper zGetBitemporalOrderWiClassificationByIdReverseMapper(int classificationId)
+	{
+		return zConstructBitemporalOrderWiClassificationByIdReverseMapper(classificationId);
+	}
+
+	public static Mapper zGetBitemporalOrderWiClassificationByIdMapper(int classificationId)
+	{
+		return zConstructBitemporalOrderWiClassificationByIdMapper(classificationId);
+	}
+
+	private static Mapper classificationByIdPureReverseMapper = null;
+	public static Mapper zGetBitemporalOrderWiClassificationByIdPureReverseMapper()
+	{
+		if (classificationByIdPureReverseMapper == null)
+		{
+			classificationByIdPureReverseMapper = zConstructBitemporalOrderWiClassificationByIdPureReverseMapper();
+		}
+
+		return classificationByIdPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiClassificationByIdPureReverseMapper()
+	{
+		InternalList classificationByIdMapperMapperList = new InternalList(3);
+		classificationByIdMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(24));
+		classificationByIdMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(26));
+		classificationByIdMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(28));
+		Mapper classificationByIdMapper = new MultiEqualityMapper(classificationByIdMapperMapperList);
+		classificationByIdMapper.setName("classificationById");
+		return classificationByIdMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiClassificationByIdReverseMapper(int classificationId)
+	{
+		InternalList classificationByIdMapperInnerMapperMapperList = new InternalList(3);
+		classificationByIdMapperInnerMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(24));
+		classificationByIdMapperInnerMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(26));
+		classificationByIdMapperInnerMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(28));
+		Mapper classificationByIdMapperInnerMapper = new MultiEqualityMapper(classificationByIdMapperInnerMapperMapperList);
+		Mapper classificationByIdMapper = new FilteredMapper(classificationByIdMapperInnerMapper, null, BitemporalOrderClassificationWiFinder.classificationId().eq(classificationId));
+		classificationByIdMapper.setName("classificationById");
+		return classificationByIdMapper;
+	}
+
+	private static Mapper zConstructBitemporalOrderWiClassificationByIdMapper(int classificationId)
+	{
+		InternalList classificationByIdMapperInnerMapperMapperList = new InternalList(3);
+		classificationByIdMapperInnerMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(25));
+		classificationByIdMapperInnerMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(27));
+		classificationByIdMapperInnerMapperMapperList.add(BitemporalOrderWiFinder.zGetConstantJoin(29));
+		Mapper classificationByIdMapperInnerMapper = new MultiEqualityMapper(classificationByIdMapperInnerMapperMapperList);
+		Mapper classificationByIdMapper = new FilteredMapper(classificationByIdMapperInnerMapper, BitemporalOrderClassificationWiFinder.classificationId().eq(classificationId), null);
+		classificationByIdMapper.setName("classificationById_Reverse");
+		return classificationByIdMapper;
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.ORDER_ID **/
+	public static IntegerAttribute<BitemporalOrderWi> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.ORDER_DATE **/
+	public static TimestampAttribute<BitemporalOrderWi> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.USER_ID **/
+	public static IntegerAttribute<BitemporalOrderWi> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.DESCRIPTION **/
+	public static StringAttribute<BitemporalOrderWi> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.STATE **/
+	public static StringAttribute<BitemporalOrderWi> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.TRACKING_ID **/
+	public static StringAttribute<BitemporalOrderWi> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.FROM_Z **/
+	public static TimestampAttribute<BitemporalOrderWi> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.THRU_Z **/
+	public static TimestampAttribute<BitemporalOrderWi> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.IN_Z **/
+	public static TimestampAttribute<BitemporalOrderWi> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_ORDER_WI.OUT_Z **/
+	public static TimestampAttribute<BitemporalOrderWi> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalOrderWi> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalOrderWi> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static BitemporalOrderItemWiFinder.BitemporalOrderItemWiCollectionFinderForRelatedClasses<BitemporalOrderWi, BitemporalOrderItemWiList, BitemporalOrderWi> items()
+	{
+		return finder.items();
+	}
+
+	public static class BitemporalOrderWiItemsFinderSubclass<ParentOwnerType> extends BitemporalOrderItemWiFinder.BitemporalOrderItemWiCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemWiList, BitemporalOrderWi>
+	{
+		public BitemporalOrderWiItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemWiFinder.orderId(),
+				BitemporalOrderItemWiFinder.businessDate(),
+				BitemporalOrderItemWiFinder.processingDate()).withExtractors(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderWiItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrderWiImpl) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderItemWiList plainValueOf(BitemporalOrderWi _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected BitemporalOrderItemWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderWiList)_obj).getItems();
+		}
+	}
+
+	public static BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<BitemporalOrderWi, BitemporalOrderItemList, BitemporalOrderWi> itemsWithoutInterfaces()
+	{
+		return finder.itemsWithoutInterfaces();
+	}
+
+	public static class BitemporalOrderWiItemsWithoutInterfacesFinderSubclass<ParentOwnerType> extends BitemporalOrderItemFinder.BitemporalOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderItemList, BitemporalOrderWi>
+	{
+		public BitemporalOrderWiItemsWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsWithoutInterfaces";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderItemFinder.orderId(),
+				BitemporalOrderItemFinder.businessDate(),
+				BitemporalOrderItemFinder.processingDate()).withExtractors(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderWiItemsWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderItemList plainValueOf(BitemporalOrderWi _obj)
+		{
+			return _obj.getItemsWithoutInterfaces();
+		}
+
+		protected BitemporalOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderWiList)_obj).getItemsWithoutInterfaces();
+		}
+	}
+
+	public static BitemporalOrderStatusWiFinder.BitemporalOrderStatusWiSingleFinderForRelatedClasses<BitemporalOrderWi, BitemporalOrderStatusWi, BitemporalOrderWi> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class BitemporalOrderWiOrderStatusFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusWiFinder.BitemporalOrderStatusWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatusWi, BitemporalOrderWi>
+	{
+		public BitemporalOrderWiOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderStatusWiFinder.orderId(),
+				BitemporalOrderStatusWiFinder.businessDate(),
+				BitemporalOrderStatusWiFinder.processingDate()).withExtractors(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderWiOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((BitemporalOrderWiImpl) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected BitemporalOrderStatusWi plainValueOf(BitemporalOrderWi _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected BitemporalOrderStatusWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderWiList)_obj).getOrderStatus();
+		}
+	}
+
+	public static BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<BitemporalOrderWi, BitemporalOrderStatus, BitemporalOrderWi> orderStatusWithoutInterfaces()
+	{
+		return finder.orderStatusWithoutInterfaces();
+	}
+
+	public static class BitemporalOrderWiOrderStatusWithoutInterfacesFinderSubclass<ParentOwnerType> extends BitemporalOrderStatusFinder.BitemporalOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderStatus, BitemporalOrderWi>
+	{
+		public BitemporalOrderWiOrderStatusWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatusWithoutInterfaces";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderStatusFinder.orderId(),
+				BitemporalOrderStatusFinder.businessDate(),
+				BitemporalOrderStatusFinder.processingDate()).withExtractors(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderWiOrderStatusWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderStatus plainValueOf(BitemporalOrderWi _obj)
+		{
+			return _obj.getOrderStatusWithoutInterfaces();
+		}
+
+		protected BitemporalOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderWiList)_obj).getOrderStatusWithoutInterfaces();
+		}
+	}
+
+	public static BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiCollectionFinderForRelatedClasses<BitemporalOrderWi, BitemporalOrderClassificationWiList, BitemporalOrderWi> classifications()
+	{
+		return finder.classifications();
+	}
+
+	public static class BitemporalOrderWiClassificationsFinderSubclass<ParentOwnerType> extends BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiCollectionFinderForRelatedClasses<ParentOwnerType, BitemporalOrderClassificationWiList, BitemporalOrderWi>
+	{
+		public BitemporalOrderWiClassificationsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "classifications";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalOrderClassificationWiFinder.orderId(),
+				BitemporalOrderClassificationWiFinder.businessDate(),
+				BitemporalOrderClassificationWiFinder.processingDate()).withExtractors(
+				BitemporalOrderWiFinder.orderId(),
+				BitemporalOrderWiFinder.businessDate(),
+				BitemporalOrderWiFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderWiClassificationsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalOrderClassificationWiList plainValueOf(BitemporalOrderWi _obj)
+		{
+			return _obj.getClassifications();
+		}
+
+		protected BitemporalOrderClassificationWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderWiList)_obj).getClassifications();
+		}
+	}
+
+	public static BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiSingleFinderForRelatedClasses<BitemporalOrderWi, BitemporalOrderClassificationWi, BitemporalOrderWi> classificationById(int classificationId)
+	{
+		return finder.classificationById(classificationId);
+	}
+
+	public static class BitemporalOrderWiClassificationByIdFinderSubclass<ParentOwnerType> extends BitemporalOrderClassificationWiFinder.BitemporalOrderClassificationWiSingleFinderForRelatedClasses<ParentOwnerType, BitemporalOrderClassificationWi, BitemporalOrderWi>
+	{
+		private int classificationId;
+		public BitemporalOrderWiClassificationByIdFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int classificationId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.classificationId = classificationId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "classificationById";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalOrderWiClassificationByIdFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.classificationId
+			);
+		}
+
+		protected BitemporalOrderClassificationWi plainValueOf(BitemporalOrderWi _obj)
+		{
+			return _obj.getClassificationById(classificationId);
+		}
+
+		protected BitemporalOrderClassificationWiList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalOrderWiList)_obj).getClassificationByIds(classificationId);
+		}
+	}
+
+	public static Operation eq(BitemporalOrderWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static BitemporalOrderWiSingleFinder<BitemporalOrderWi, Object, BitemporalOrderWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalOrderWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1132 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class BitemporalWithDateJoinFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/BitemporalWithDateJoin";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.BitemporalWithDateJoin";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalWithDateJoin");
+	private static final BitemporalWithDateJoinSingleFinder<BitemporalWithDateJoin, Object, BitemporalWithDateJoin> finder = new BitemporalWithDateJoinSingleFinder<BitemporalWithDateJoin, Object, BitemporalWithDateJoin>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(BitemporalWithDateJoinFinder.BitemporalWithDateJoinRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("investmentId");
+		finderMethodMap.addNormalAttributeName("gsEntity");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("nontemporalWithDateJoin");
+		finderMethodMap.addRelationshipName("abcdBitemporalWithDateJoin");
+		finderMethodMap.addRelationshipName("processingTemporalWithDateJoin");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[7];
+			result[0] = BitemporalWithDateJoinFinder.gsEntity().constructEqualityMapper(NontemporalWithDateJoinFinder.entity());
+			result[1] = NontemporalWithDateJoinFinder.entity().constructEqualityMapper(BitemporalWithDateJoinFinder.gsEntity());
+			result[2] = BitemporalWithDateJoinFinder.businessDate().constructEqualityMapper(NontemporalWithDateJoinFinder.businessDate());
+			result[3] = NontemporalWithDateJoinFinder.businessDate().constructEqualityMapper(BitemporalWithDateJoinFinder.businessDate());
+			result[4] = BitemporalWithDateJoinFinder.investmentId().constructEqualityMapper(BitemporalWithDateJoinFinder.investmentId());
+			result[5] = BitemporalWithDateJoinFinder.businessDate().constructEqualityMapper(BitemporalWithDateJoinFinder.businessDate());
+			result[6] = BitemporalWithDateJoinFinder.processingDate().constructEqualityMapper(BitemporalWithDateJoinFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = BitemporalWithDateJoinFinder.gsEntity().eq("ABCD");
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static BitemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static BitemporalWithDateJoin findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static BitemporalWithDateJoinList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalWithDateJoinList) finder.findMany(operation);
+	}
+
+	public static BitemporalWithDateJoinList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (BitemporalWithDateJoinList) finder.findManyBypassCache(operation);
+	}
+
+	private static BitemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (BitemporalWithDateJoin) FinderUtils.findOne(found);
+	}
+
+	public static BitemporalWithDateJoin findByPrimaryKey(int investmentId, String gsEntity, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(investmentId, gsEntity, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			BitemporalWithDateJoinData _castedTargetData = (BitemporalWithDateJoinData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getInvestmentId() && _bean.getO1AsString().equals(_castedTargetData.getGsEntity()))
+			{
+				return BitemporalWithDateJoinFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && BitemporalWithDateJoinFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static BitemporalWithDateJoin zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (BitemporalWithDateJoin) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class BitemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<BitemporalWithDateJoin, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> investmentId;
+		private StringAttribute<ParentOwnerType> gsEntity;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private BitemporalWithDateJoinNontemporalWithDateJoinFinderSubclass<ParentOwnerType> nontemporalWithDateJoin;
+		private BitemporalWithDateJoinAbcdBitemporalWithDateJoinFinderSubclass<ParentOwnerType> abcdBitemporalWithDateJoin;
+		private BitemporalWithDateJoinProcessingTemporalWithDateJoinFinderSubclass<ParentOwnerType> processingTemporalWithDateJoin;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public BitemporalWithDateJoinRelatedFinder()
+		{
+			super();
+		}
+
+		public BitemporalWithDateJoinRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.BitemporalWithDateJoinFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return BitemporalWithDateJoinFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return BitemporalWithDateJoinFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return BitemporalWithDateJoinFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.investmentId();
+			attributes[1] = this.gsEntity();
+			attributes[2] = this.businessDateFrom();
+			attributes[3] = this.businessDateTo();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.nontemporalWithDateJoin());
+				relatedFinders.add(this.abcdBitemporalWithDateJoin());
+				relatedFinders.add(this.processingTemporalWithDateJoin());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public BitemporalWithDateJoin findOne(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalWithDateJoinFinder.findOne(operation, false);
+		}
+
+		public BitemporalWithDateJoin findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return BitemporalWithDateJoinFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends BitemporalWithDateJoin> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new BitemporalWithDateJoinList((Operation) operation);
+		}
+
+		public MithraList<? extends BitemporalWithDateJoin> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			BitemporalWithDateJoinList result = (BitemporalWithDateJoinList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends BitemporalWithDateJoin> constructEmptyList()
+		{
+			return new BitemporalWithDateJoinList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1790750594;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> investmentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.investmentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INVESTMENT_ID","","investmentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(BitemporalWithDateJoinFinder.investmentId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("abcdBitemporalWithDateJoin");
+				this.investmentId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> gsEntity()
+		{
+			StringAttribute<ParentOwnerType> result = this.gsEntity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("GS_ENTITY","","gsEntity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,4,-1,-1,5,true, false) :
+					new MappedStringAttribute(BitemporalWithDateJoinFinder.gsEntity(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("nontemporalWithDateJoin");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "NontemporalWithDateJoin", "bitemporalWithDateJoin");
+				this.gsEntity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,BitemporalWithDateJoinFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalWithDateJoinFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,BitemporalWithDateJoinFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalWithDateJoinFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_UTC","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,28,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,BitemporalWithDateJoinFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalWithDateJoinFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_UTC","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,36,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,BitemporalWithDateJoinFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(BitemporalWithDateJoinFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),BitemporalWithDateJoinFinder.businessDateInfinity,false,false,BitemporalWithDateJoinFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(BitemporalWithDateJoinFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),BitemporalWithDateJoinFinder.processingDateInfinity,false,false,BitemporalWithDateJoinFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(BitemporalWithDateJoinFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public NontemporalWithDateJoinFinder.NontemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, NontemporalWithDateJoin, BitemporalWithDateJoin> nontemporalWithDateJoin()
+		{
+			BitemporalWithDateJoinNontemporalWithDateJoinFinderSubclass<ParentOwnerType> result = this.nontemporalWithDateJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalWithDateJoinFinder.zGetBitemporalWithDateJoinNontemporalWithDateJoinReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalWithDateJoinNontemporalWithDateJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nontemporalWithDateJoin = result;
+			}
+
+			return result;
+		}
+
+		public BitemporalWithDateJoinFinder.BitemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, BitemporalWithDateJoin, BitemporalWithDateJoin> abcdBitemporalWithDateJoin()
+		{
+			BitemporalWithDateJoinAbcdBitemporalWithDateJoinFinderSubclass<ParentOwnerType> result = this.abcdBitemporalWithDateJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(BitemporalWithDateJoinFinder.zGetBitemporalWithDateJoinAbcdBitemporalWithDateJoinReverseMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalWithDateJoinAbcdBitemporalWithDateJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.abcdBitemporalWithDateJoin = result;
+			}
+
+			return result;
+		}
+
+		public ProcessingTemporalWithDateJoinFinder.ProcessingTemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, ProcessingTemporalWithDateJoin, BitemporalWithDateJoin> processingTemporalWithDateJoin()
+		{
+			BitemporalWithDateJoinProcessingTemporalWithDateJoinFinderSubclass<ParentOwnerType> result = this.processingTemporalWithDateJoin;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProcessingTemporalWithDateJoinFinder.zGetProcessingTemporalWithDateJoinBitemporalWithDateJoinMapper());
+				newMapper.setToMany(false);
+				result = new BitemporalWithDateJoinProcessingTemporalWithDateJoinFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.processingTemporalWithDateJoin = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return BitemporalWithDateJoinFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return BitemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class BitemporalWithDateJoinCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends BitemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, BitemporalWithDateJoinList, OwnerType>
+	{
+		public BitemporalWithDateJoinCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class BitemporalWithDateJoinCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends BitemporalWithDateJoinCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalWithDateJoinCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class BitemporalWithDateJoinSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends BitemporalWithDateJoinRelatedFinder<ParentOwnerType, ReturnType, BitemporalWithDateJoinList, OwnerType>
+	implements ToOneFinder
+	{
+		public BitemporalWithDateJoinSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public BitemporalWithDateJoinSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(BitemporalWithDateJoin other)
+		{
+			return this.investmentId().eq(other.getInvestmentId())
+			.and(this.gsEntity().eq(other.getGsEntity()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public BitemporalWithDateJoin findByPrimaryKey(int investmentId, String gsEntity, Timestamp businessDate, Timestamp processingDate)
+		{
+			BitemporalWithDateJoin _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (gsEntity != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(investmentId);
+				_bean.setO1(gsEntity);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (BitemporalWithDateJoin) _related;
+			if (_related == null)
+			{
+				_op = this.investmentId().eq(investmentId).and(this.gsEntity().eq(gsEntity)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class BitemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends BitemporalWithDateJoinSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public BitemporalWithDateJoinSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper nontemporalWithDateJoinReverseMapper = null;
+	public static Mapper zGetBitemporalWithDateJoinNontemporalWithDateJoinReverseMapper()
+	{
+		if (nontemporalWithDateJoinReverseMapper == null)
+		{
+			nontemporalWithDateJoinReverseMapper = zConstructBitemporalWithDateJoinNontemporalWithDateJoinReverseMapper();
+		}
+
+		return nontemporalWithDateJoinReverseMapper;
+	}
+
+	private static Mapper nontemporalWithDateJoinMapper = null;
+	public static Mapper zGetBitemporalWithDateJoinNontemporalWithDateJoinMapper()
+	{
+		if (nontemporalWithDateJoinMapper == null)
+		{
+			nontemporalWithDateJoinMapper = zConstructBitemporalWithDateJoinNontemporalWithDateJoinMapper();
+		}
+
+		return nontemporalWithDateJoinMapper;
+	}
+
+	private static Mapper nontemporalWithDateJoinPureReverseMapper = null;
+	public static Mapper zGetBitemporalWithDateJoinNontemporalWithDateJoinPureReverseMapper()
+	{
+		if (nontemporalWithDateJoinPureReverseMapper == null)
+		{
+			nontemporalWithDateJoinPureReverseMapper = zConstructBitemporalWithDateJoinNontemporalWithDateJoinPureReverseMapper();
+		}
+
+		return nontemporalWithDateJoinPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalWithDateJoinNontemporalWithDateJoinPureReverseMapper()
+	{
+		InternalList nontemporalWithDateJoinMapperMapperList = new InternalList(2);
+		nontemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(0));
+		nontemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(2));
+		Mapper nontemporalWithDateJoinMapper = new MultiEqualityMapper(nontemporalWithDateJoinMapperMapperList);
+		nontemporalWithDateJoinMapper.setName("nontemporalWithDateJoin");
+		return nontemporalWithDateJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalWithDateJoinNontemporalWithDateJoinReverseMapper()
+	{
+		InternalList nontemporalWithDateJoinMapperMapperList = new InternalList(2);
+		nontemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(0));
+		nontemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(2));
+		Mapper nontemporalWithDateJoinMapper = new MultiEqualityMapper(nontemporalWithDateJoinMapperMapperList);
+		nontemporalWithDateJoinMapper.setName("nontemporalWithDateJoin");
+		return nontemporalWithDateJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalWithDateJoinNontemporalWithDateJoinMapper()
+	{
+		InternalList nontemporalWithDateJoinMapperMapperList = new InternalList(2);
+		nontemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(1));
+		nontemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(3));
+		Mapper nontemporalWithDateJoinMapper = new MultiEqualityMapper(nontemporalWithDateJoinMapperMapperList);
+		nontemporalWithDateJoinMapper.setName("bitemporalWithDateJoin");
+		return nontemporalWithDateJoinMapper;
+	}
+
+	private static Mapper abcdBitemporalWithDateJoinReverseMapper = null;
+	public static Mapper zGetBitemporalWithDateJoinAbcdBitemporalWithDateJoinReverseMapper()
+	{
+		if (abcdBitemporalWithDateJoinReverseMapper == null)
+		{
+			abcdBitemporalWithDateJoinReverseMapper = zConstructBitemporalWithDateJoinAbcdBitemporalWithDateJoinReverseMapper();
+		}
+
+		return abcdBitemporalWithDateJoinReverseMapper;
+	}
+
+	private static Mapper abcdBitemporalWithDateJoinMapper = null;
+	public static Mapper zGetBitemporalWithDateJoinAbcdBitemporalWithDateJoinMapper()
+	{
+		if (abcdBitemporalWithDateJoinMapper == null)
+		{
+			abcdBitemporalWithDateJoinMapper = zConstructBitemporalWithDateJoinAbcdBitemporalWithDateJoinMapper();
+		}
+
+		return abcdBitemporalWithDateJoinMapper;
+	}
+
+	private static Mapper abcdBitemporalWithDateJoinPureReverseMapper = null;
+	public static Mapper zGetBitemporalWithDateJoinAbcdBitemporalWithDateJoinPureReverseMapper()
+	{
+		if (abcdBitemporalWithDateJoinPureReverseMapper == null)
+		{
+			abcdBitemporalWithDateJoinPureReverseMapper = zConstructBitemporalWithDateJoinAbcdBitemporalWithDateJoinPureReverseMapper();
+		}
+
+		return abcdBitemporalWithDateJoinPureReverseMapper;
+	}
+
+	private static Mapper zConstructBitemporalWithDateJoinAbcdBitemporalWithDateJoinPureReverseMapper()
+	{
+		InternalList abcdBitemporalWithDateJoinMapperMapperList = new InternalList(3);
+		abcdBitemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(4));
+		abcdBitemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(5));
+		abcdBitemporalWithDateJoinMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(6));
+		Mapper abcdBitemporalWithDateJoinMapper = new MultiEqualityMapper(abcdBitemporalWithDateJoinMapperMapperList);
+		abcdBitemporalWithDateJoinMapper.setName("abcdBitemporalWithDateJoin");
+		return abcdBitemporalWithDateJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalWithDateJoinAbcdBitemporalWithDateJoinReverseMapper()
+	{
+		InternalList abcdBitemporalWithDateJoinMapperInnerMapperMapperList = new InternalList(3);
+		abcdBitemporalWithDateJoinMapperInnerMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(4));
+		abcdBitemporalWithDateJoinMapperInnerMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(5));
+		abcdBitemporalWithDateJoinMapperInnerMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(6));
+		Mapper abcdBitemporalWithDateJoinMapperInnerMapper = new MultiEqualityMapper(abcdBitemporalWithDateJoinMapperInnerMapperMapperList);
+		Mapper abcdBitemporalWithDateJoinMapper = new FilteredMapper(abcdBitemporalWithDateJoinMapperInnerMapper, null, BitemporalWithDateJoinFinder.zGetConstantOperation(0));
+		abcdBitemporalWithDateJoinMapper.setName("abcdBitemporalWithDateJoin");
+		return abcdBitemporalWithDateJoinMapper;
+	}
+
+	private static Mapper zConstructBitemporalWithDateJoinAbcdBitemporalWithDateJoinMapper()
+	{
+		InternalList abcdBitemporalWithDateJoinMapperInnerMapperMapperList = new InternalList(3);
+		abcdBitemporalWithDateJoinMapperInnerMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(4));
+		abcdBitemporalWithDateJoinMapperInnerMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(5));
+		abcdBitemporalWithDateJoinMapperInnerMapperMapperList.add(BitemporalWithDateJoinFinder.zGetConstantJoin(6));
+		Mapper abcdBitemporalWithDateJoinMapperInnerMapper = new MultiEqualityMapper(abcdBitemporalWithDateJoinMapperInnerMapperMapperList);
+		Mapper abcdBitemporalWithDateJoinMapper = new FilteredMapper(abcdBitemporalWithDateJoinMapperInnerMapper, BitemporalWithDateJoinFinder.zGetConstantOperation(0), null);
+		abcdBitemporalWithDateJoinMapper.setName("abcdBitemporalWithDateJoin_Reverse");
+		return abcdBitemporalWithDateJoinMapper;
+	}
+
+	/** maps to BITEMPORAL_WITH_DATE_JOIN.INVESTMENT_ID **/
+	public static IntegerAttribute<BitemporalWithDateJoin> investmentId()
+	{
+		return finder.investmentId();
+	}
+
+	/** maps to BITEMPORAL_WITH_DATE_JOIN.GS_ENTITY **/
+	public static StringAttribute<BitemporalWithDateJoin> gsEntity()
+	{
+		return finder.gsEntity();
+	}
+
+	/** maps to BITEMPORAL_WITH_DATE_JOIN.FROM_Z **/
+	public static TimestampAttribute<BitemporalWithDateJoin> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to BITEMPORAL_WITH_DATE_JOIN.THRU_Z **/
+	public static TimestampAttribute<BitemporalWithDateJoin> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to BITEMPORAL_WITH_DATE_JOIN.IN_UTC **/
+	public static TimestampAttribute<BitemporalWithDateJoin> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to BITEMPORAL_WITH_DATE_JOIN.OUT_UTC **/
+	public static TimestampAttribute<BitemporalWithDateJoin> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<BitemporalWithDateJoin> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<BitemporalWithDateJoin> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static NontemporalWithDateJoinFinder.NontemporalWithDateJoinSingleFinderForRelatedClasses<BitemporalWithDateJoin, NontemporalWithDateJoin, BitemporalWithDateJoin> nontemporalWithDateJoin()
+	{
+		return finder.nontemporalWithDateJoin();
+	}
+
+	public static class BitemporalWithDateJoinNontemporalWithDateJoinFinderSubclass<ParentOwnerType> extends NontemporalWithDateJoinFinder.NontemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, NontemporalWithDateJoin, BitemporalWithDateJoin>
+	{
+		public BitemporalWithDateJoinNontemporalWithDateJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "nontemporalWithDateJoin";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				NontemporalWithDateJoinFinder.businessDate(),
+				NontemporalWithDateJoinFinder.entity()).withExtractors(
+				BitemporalWithDateJoinFinder.businessDate(),
+				BitemporalWithDateJoinFinder.gsEntity()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalWithDateJoinNontemporalWithDateJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected NontemporalWithDateJoin plainValueOf(BitemporalWithDateJoin _obj)
+		{
+			return _obj.getNontemporalWithDateJoin();
+		}
+
+		protected NontemporalWithDateJoinList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalWithDateJoinList)_obj).getNontemporalWithDateJoins();
+		}
+	}
+
+	public static BitemporalWithDateJoinFinder.BitemporalWithDateJoinSingleFinderForRelatedClasses<BitemporalWithDateJoin, BitemporalWithDateJoin, BitemporalWithDateJoin> abcdBitemporalWithDateJoin()
+	{
+		return finder.abcdBitemporalWithDateJoin();
+	}
+
+	public static class BitemporalWithDateJoinAbcdBitemporalWithDateJoinFinderSubclass<ParentOwnerType> extends BitemporalWithDateJoinFinder.BitemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, BitemporalWithDateJoin, BitemporalWithDateJoin>
+	{
+		public BitemporalWithDateJoinAbcdBitemporalWithDateJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "abcdBitemporalWithDateJoin";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				BitemporalWithDateJoinFinder.investmentId(),
+				BitemporalWithDateJoinFinder.gsEntity(),
+				BitemporalWithDateJoinFinder.businessDate(),
+				BitemporalWithDateJoinFinder.processingDate()).withExtractors(
+				BitemporalWithDateJoinFinder.investmentId(),
+				((OperationWithParameterExtractor)BitemporalWithDateJoinFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				BitemporalWithDateJoinFinder.businessDate(),
+				BitemporalWithDateJoinFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalWithDateJoinAbcdBitemporalWithDateJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected BitemporalWithDateJoin plainValueOf(BitemporalWithDateJoin _obj)
+		{
+			return _obj.getAbcdBitemporalWithDateJoin();
+		}
+
+		protected BitemporalWithDateJoinList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalWithDateJoinList)_obj).getAbcdBitemporalWithDateJoins();
+		}
+	}
+
+	public static ProcessingTemporalWithDateJoinFinder.ProcessingTemporalWithDateJoinSingleFinderForRelatedClasses<BitemporalWithDateJoin, ProcessingTemporalWithDateJoin, BitemporalWithDateJoin> processingTemporalWithDateJoin()
+	{
+		return finder.processingTemporalWithDateJoin();
+	}
+
+	public static class BitemporalWithDateJoinProcessingTemporalWithDateJoinFinderSubclass<ParentOwnerType> extends ProcessingTemporalWithDateJoinFinder.ProcessingTemporalWithDateJoinSingleFinderForRelatedClasses<ParentOwnerType, ProcessingTemporalWithDateJoin, BitemporalWithDateJoin>
+	{
+		public BitemporalWithDateJoinProcessingTemporalWithDateJoinFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "processingTemporalWithDateJoin";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProcessingTemporalWithDateJoinFinder.active(),
+				ProcessingTemporalWithDateJoinFinder.businessDate(),
+				ProcessingTemporalWithDateJoinFinder.entity(),
+				ProcessingTemporalWithDateJoinFinder.investmentId(),
+				ProcessingTemporalWithDateJoinFinder.processingDate()).withExtractors(
+				((OperationWithParameterExtractor)ProcessingTemporalWithDateJoinFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				BitemporalWithDateJoinFinder.businessDate(),
+				BitemporalWithDateJoinFinder.gsEntity(),
+				BitemporalWithDateJoinFinder.investmentId(),
+				BitemporalWithDateJoinFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new BitemporalWithDateJoinProcessingTemporalWithDateJoinFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProcessingTemporalWithDateJoin plainValueOf(BitemporalWithDateJoin _obj)
+		{
+			return _obj.getProcessingTemporalWithDateJoin();
+		}
+
+		protected ProcessingTemporalWithDateJoinList plainListValueOf(Object _obj)
+		{
+			return ((BitemporalWithDateJoinList)_obj).getProcessingTemporalWithDateJoins();
+		}
+	}
+
+	public static Operation eq(BitemporalWithDateJoin other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(investmentId());
+	}
+
+	public static BitemporalWithDateJoinSingleFinder<BitemporalWithDateJoin, Object, BitemporalWithDateJoin> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			investmentId()
+			, gsEntity()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			investmentId()
+			, investmentId()
+			, gsEntity()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			gsEntity()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			investmentId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			NontemporalWithDateJoinFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			NontemporalWithDateJoinFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.BitemporalWithDateJoin");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
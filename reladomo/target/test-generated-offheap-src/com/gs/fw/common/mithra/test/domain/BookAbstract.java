@@ -0,0 +1,818 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BookAbstract extends com.gs.fw.common.mithra.test.domain.InventoryItem implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Book.class.getName());
+	private static final RelationshipHashStrategy formanufacturer = new ManufacturerRhs();
+	private static final class ManufacturerRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			BookData _castedSrcData = (BookData) _srcData;
+			Manufacturer _castedTargetData = (Manufacturer) _targetData;
+			if (!_castedSrcData.isManufacturerIdNull() && _castedSrcData.getManufacturerId() == _castedTargetData.getManufacturerId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			BookData _castedSrcData = (BookData) _srcData;
+			return HashUtil.hash(_castedSrcData.getManufacturerId(), _castedSrcData.isManufacturerIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public BookAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Book getDetachedCopy() throws MithraBusinessException
+	{
+		return (Book) super.getDetachedCopy();
+	}
+
+	public Book getNonPersistentCopy() throws MithraBusinessException
+	{
+		Book result = (Book) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Book copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Book) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Book zFindOriginal()
+	{
+		BookData data = (BookData) this.currentData;
+		Operation op;
+		op = BookFinder.inventoryId().eq(data.getInventoryId());
+		return BookFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BookData();
+	}
+
+	protected void zSetFromBookData( BookData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBookData( BookData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAuthorNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isAuthorNull();
+	}
+
+	public String getAuthor()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		return data.getAuthor();
+	}
+
+	public void setAuthor(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'author' cannot exceed maximum length of 20: " + newValue);
+		zSetString(BookFinder.author(), newValue, false, false );
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 20: " + newValue);
+		zSetString(BookFinder.description(), newValue, false, false );
+	}
+
+	public boolean isInventoryIdNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isInventoryIdNull();
+	}
+
+	public int getInventoryId()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		return data.getInventoryId();
+	}
+
+	public void setInventoryId(int newValue)
+	{
+		zSetInteger(BookFinder.inventoryId(), newValue, true, false ,false);
+	}
+
+	public boolean isInventoryLevelNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isInventoryLevelNull();
+	}
+
+	public int getInventoryLevel()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		if (data.isInventoryLevelNull()) MithraNullPrimitiveException.throwNew("inventoryLevel", data);
+		return data.getInventoryLevel();
+	}
+
+	public void setInventoryLevel(int newValue)
+	{
+		zSetInteger(BookFinder.inventoryLevel(), newValue, false, false ,true);
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isManufacturerIdNull();
+	}
+
+	public int getManufacturerId()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		if (data.isManufacturerIdNull()) MithraNullPrimitiveException.throwNew("manufacturerId", data);
+		return data.getManufacturerId();
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(BookFinder.manufacturerId(), newValue, false, false ,true);
+	}
+
+	public boolean isNumberOfPagesNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isNumberOfPagesNull();
+	}
+
+	public int getNumberOfPages()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		if (data.isNumberOfPagesNull()) MithraNullPrimitiveException.throwNew("numberOfPages", data);
+		return data.getNumberOfPages();
+	}
+
+	public void setNumberOfPages(int newValue)
+	{
+		zSetInteger(BookFinder.numberOfPages(), newValue, false, false ,true);
+	}
+
+	public boolean isUnitPriceNull()
+	{
+		return ((BookData) this.zSynchronizedGetData()).isUnitPriceNull();
+	}
+
+	public double getUnitPrice()
+	{
+		BookData data = (BookData) this.zSynchronizedGetData();
+		if (data.isUnitPriceNull()) MithraNullPrimitiveException.throwNew("unitPrice", data);
+		return data.getUnitPrice();
+	}
+
+	public void setUnitPrice(double newValue)
+	{
+		zSetDouble(BookFinder.unitPrice(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, BookFinder.manufacturerId(), false);
+		zNullify(behavior, data, BookFinder.inventoryLevel(), false);
+		zNullify(behavior, data, BookFinder.numberOfPages(), false);
+		zNullify(behavior, data, BookFinder.unitPrice(), false);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zNullify(BookFinder.manufacturerId(), false);
+	}
+
+	public void setInventoryLevelNull()
+	{
+		zNullify(BookFinder.inventoryLevel(), false);
+	}
+
+	public void setNumberOfPagesNull()
+	{
+		zNullify(BookFinder.numberOfPages(), false);
+	}
+
+	public void setUnitPriceNull()
+	{
+		zNullify(BookFinder.unitPrice(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BookData _newData = (BookData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BookData _newData = (BookData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _newData = (BookData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Manufacturer.manufacturerId = this.manufacturerId</pre>
+	* @return The manufacturer
+	*/
+	public Manufacturer getManufacturer()
+	{
+		Manufacturer _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isManufacturerIdNull())
+			{
+				_portal = ManufacturerFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, formanufacturer, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Manufacturer) _related;
+				if (_related == null)
+				{
+					_op = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					Operation detachedOp = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+					_result = ManufacturerFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Manufacturer) _data.getManufacturer();
+			if (_result == null)
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					_op = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ManufacturerFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setManufacturer(Manufacturer manufacturer)
+	{
+		Manufacturer _manufacturer = (Manufacturer) manufacturer;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setManufacturer(_manufacturer);
+			if (_manufacturer == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(_manufacturer.getManufacturerId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_manufacturer == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(
+					_manufacturer.getManufacturerId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId = Supplier.supplierId)
+	and Supplier.location in ("New York", "London")</pre>
+	* @return suppliers with specific location
+	*/
+	public SupplierList getSuppliersWithSpecificLocation()
+	{
+		SupplierList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersWithSpecificLocationMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BookFinder.zGetSuppliersWithSpecificLocationMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+					_result = new SupplierList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SupplierList) _data.getSuppliersWithSpecificLocation();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersWithSpecificLocationMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SupplierList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSuppliersWithSpecificLocation(SupplierList suppliersWithSpecificLocation)
+	{
+		SupplierList _suppliersWithSpecificLocation = (SupplierList) suppliersWithSpecificLocation;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSuppliersWithSpecificLocation(_suppliersWithSpecificLocation);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId = Supplier.supplierId
+	and Supplier.supplierId in (1, 2)))</pre>
+	* @return suppliers with specific id
+	*/
+	public SupplierList getSuppliersWithSpecificId()
+	{
+		SupplierList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersWithSpecificIdMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BookFinder.zGetSuppliersWithSpecificIdMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+					_result = new SupplierList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SupplierList) _data.getSuppliersWithSpecificId();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersWithSpecificIdMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SupplierList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSuppliersWithSpecificId(SupplierList suppliersWithSpecificId)
+	{
+		SupplierList _suppliersWithSpecificId = (SupplierList) suppliersWithSpecificId;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSuppliersWithSpecificId(_suppliersWithSpecificId);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId in (1,2))</pre>
+	* @return supplier inventory item with specific id
+	*/
+	public SupplierInventoryItemList getSupplierInventoryItemWithSpecificId()
+	{
+		SupplierInventoryItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()).and(SupplierInventoryItemFinder.zGetConstantOperation(0));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()).and(SupplierInventoryItemFinder.zGetConstantOperation(0));
+					_result = new SupplierInventoryItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SupplierInventoryItemList) _data.getSupplierInventoryItemWithSpecificId();
+			if (_result == null)
+			{
+				{
+					_op = SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()).and(SupplierInventoryItemFinder.zGetConstantOperation(0));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SupplierInventoryItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSupplierInventoryItemWithSpecificId(SupplierInventoryItemList supplierInventoryItemWithSpecificId)
+	{
+		SupplierInventoryItemList _supplierInventoryItemWithSpecificId = (SupplierInventoryItemList) supplierInventoryItemWithSpecificId;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSupplierInventoryItemWithSpecificId(_supplierInventoryItemWithSpecificId);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId
+	and (SupplierInventoryItem.supplierId = Supplier.supplierId)
+	and Supplier.location in ("New York", "London")
+	and (Supplier.supplierId in (1, 2))</pre>
+	* @return suppliers specific id and location
+	*/
+	public SupplierList getSuppliersSpecificIdAndLocation()
+	{
+		SupplierList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersSpecificIdAndLocationMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BookFinder.zGetSuppliersSpecificIdAndLocationMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+					_result = new SupplierList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SupplierList) _data.getSuppliersSpecificIdAndLocation();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersSpecificIdAndLocationMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SupplierList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSuppliersSpecificIdAndLocation(SupplierList suppliersSpecificIdAndLocation)
+	{
+		SupplierList _suppliersSpecificIdAndLocation = (SupplierList) suppliersSpecificIdAndLocation;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSuppliersSpecificIdAndLocation(_suppliersSpecificIdAndLocation);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId and SupplierInventoryItem.supplierId = Supplier.supplierId</pre>
+	* @return suppliers
+	*/
+	public SupplierList getSuppliers()
+	{
+		SupplierList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(BookFinder.zGetSuppliersMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+					_result = new SupplierList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SupplierList) _data.getSuppliers();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(BookFinder.zGetSuppliersMapperFragment(), SupplierInventoryItemFinder.inventoryId().eq(_data.getInventoryId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SupplierList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSuppliers(SupplierList suppliers)
+	{
+		SupplierList _suppliers = (SupplierList) suppliers;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BookData _data = (BookData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSuppliers(_suppliers);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Book zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Book original = (Book) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BookFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BookFinder.getMithraObjectPortal();
+	}
+
+	public Book getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, BookFinder.author(), false);
+		changed |= zUpdateString(behavior, data, newData, BookFinder.description(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BookFinder.inventoryLevel(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BookFinder.manufacturerId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BookFinder.numberOfPages(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BookFinder.unitPrice(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BookFinder.inventoryId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BookAbstract result = (BookAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
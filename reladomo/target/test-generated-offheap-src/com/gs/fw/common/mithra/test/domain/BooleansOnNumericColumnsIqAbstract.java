@@ -0,0 +1,435 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BooleansOnNumericColumnsIqAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(BooleansOnNumericColumnsIq.class.getName());
+	public BooleansOnNumericColumnsIqAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BooleansOnNumericColumnsIq getDetachedCopy() throws MithraBusinessException
+	{
+		return (BooleansOnNumericColumnsIq) super.getDetachedCopy();
+	}
+
+	public BooleansOnNumericColumnsIq getNonPersistentCopy() throws MithraBusinessException
+	{
+		BooleansOnNumericColumnsIq result = (BooleansOnNumericColumnsIq) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public BooleansOnNumericColumnsIq copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BooleansOnNumericColumnsIq) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public BooleansOnNumericColumnsIq zFindOriginal()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.currentData;
+		Operation op;
+		op = BooleansOnNumericColumnsIqFinder.id().eq(data.getId());
+		return BooleansOnNumericColumnsIqFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BooleansOnNumericColumnsIqData();
+	}
+
+	protected void zSetFromBooleansOnNumericColumnsIqData( BooleansOnNumericColumnsIqData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBooleansOnNumericColumnsIqData( BooleansOnNumericColumnsIqData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanOnByteValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isBooleanOnByteValueNull();
+	}
+
+	public boolean isBooleanOnByteValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		return data.isBooleanOnByteValue();
+	}
+
+	public void setBooleanOnByteValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnByteValue(), newValue, false, false ,false);
+	}
+
+	public boolean isBooleanOnIntValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isBooleanOnIntValueNull();
+	}
+
+	public boolean isBooleanOnIntValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		return data.isBooleanOnIntValue();
+	}
+
+	public void setBooleanOnIntValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnIntValue(), newValue, false, false ,false);
+	}
+
+	public boolean isBooleanOnLongValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isBooleanOnLongValueNull();
+	}
+
+	public boolean isBooleanOnLongValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		return data.isBooleanOnLongValue();
+	}
+
+	public void setBooleanOnLongValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnLongValue(), newValue, false, false ,false);
+	}
+
+	public boolean isBooleanOnShortValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isBooleanOnShortValueNull();
+	}
+
+	public boolean isBooleanOnShortValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		return data.isBooleanOnShortValue();
+	}
+
+	public void setBooleanOnShortValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnShortValue(), newValue, false, false ,false);
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isBooleanValueNull();
+	}
+
+	public boolean isBooleanValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		return data.isBooleanValue();
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanValue(), newValue, false, false ,false);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BooleansOnNumericColumnsIqFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isNullableBooleanOnByteValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isNullableBooleanOnByteValueNull();
+	}
+
+	public boolean isNullableBooleanOnByteValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		if (data.isNullableBooleanOnByteValueNull()) MithraNullPrimitiveException.throwNew("nullableBooleanOnByteValue", data);
+		return data.isNullableBooleanOnByteValue();
+	}
+
+	public void setNullableBooleanOnByteValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableBooleanOnIntValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isNullableBooleanOnIntValueNull();
+	}
+
+	public boolean isNullableBooleanOnIntValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		if (data.isNullableBooleanOnIntValueNull()) MithraNullPrimitiveException.throwNew("nullableBooleanOnIntValue", data);
+		return data.isNullableBooleanOnIntValue();
+	}
+
+	public void setNullableBooleanOnIntValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableBooleanOnLongValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isNullableBooleanOnLongValueNull();
+	}
+
+	public boolean isNullableBooleanOnLongValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		if (data.isNullableBooleanOnLongValueNull()) MithraNullPrimitiveException.throwNew("nullableBooleanOnLongValue", data);
+		return data.isNullableBooleanOnLongValue();
+	}
+
+	public void setNullableBooleanOnLongValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableBooleanOnShortValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isNullableBooleanOnShortValueNull();
+	}
+
+	public boolean isNullableBooleanOnShortValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		if (data.isNullableBooleanOnShortValueNull()) MithraNullPrimitiveException.throwNew("nullableBooleanOnShortValue", data);
+		return data.isNullableBooleanOnShortValue();
+	}
+
+	public void setNullableBooleanOnShortValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableBooleanValueNull()
+	{
+		return ((BooleansOnNumericColumnsIqData) this.zSynchronizedGetData()).isNullableBooleanValueNull();
+	}
+
+	public boolean isNullableBooleanValue()
+	{
+		BooleansOnNumericColumnsIqData data = (BooleansOnNumericColumnsIqData) this.zSynchronizedGetData();
+		if (data.isNullableBooleanValueNull()) MithraNullPrimitiveException.throwNew("nullableBooleanValue", data);
+		return data.isNullableBooleanValue();
+	}
+
+	public void setNullableBooleanValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanValue(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, BooleansOnNumericColumnsIqFinder.nullableBooleanValue(), false);
+		zNullify(behavior, data, BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue(), false);
+		zNullify(behavior, data, BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue(), false);
+		zNullify(behavior, data, BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue(), false);
+		zNullify(behavior, data, BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue(), false);
+	}
+
+	public void setNullableBooleanValueNull()
+	{
+		zNullify(BooleansOnNumericColumnsIqFinder.nullableBooleanValue(), false);
+	}
+
+	public void setNullableBooleanOnByteValueNull()
+	{
+		zNullify(BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue(), false);
+	}
+
+	public void setNullableBooleanOnShortValueNull()
+	{
+		zNullify(BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue(), false);
+	}
+
+	public void setNullableBooleanOnIntValueNull()
+	{
+		zNullify(BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue(), false);
+	}
+
+	public void setNullableBooleanOnLongValueNull()
+	{
+		zNullify(BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BooleansOnNumericColumnsIqData _newData = (BooleansOnNumericColumnsIqData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BooleansOnNumericColumnsIqData _newData = (BooleansOnNumericColumnsIqData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BooleansOnNumericColumnsIqData _newData = (BooleansOnNumericColumnsIqData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public BooleansOnNumericColumnsIq zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BooleansOnNumericColumnsIq original = (BooleansOnNumericColumnsIq) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal();
+	}
+
+	public BooleansOnNumericColumnsIq getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.booleanOnByteValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.booleanOnIntValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.booleanOnLongValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.booleanOnShortValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.booleanValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, BooleansOnNumericColumnsIqFinder.nullableBooleanValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BooleansOnNumericColumnsIqFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BooleansOnNumericColumnsIqAbstract result = (BooleansOnNumericColumnsIqAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,205 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BooleansOnNumericColumnsIqListAbstract extends DelegatingList<BooleansOnNumericColumnsIq> implements MithraTransactionalList<BooleansOnNumericColumnsIq>
+{
+	public BooleansOnNumericColumnsIqListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BooleansOnNumericColumnsIqListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BooleansOnNumericColumnsIqListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BooleansOnNumericColumnsIqListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BooleansOnNumericColumnsIq[] elements()
+	{
+		BooleansOnNumericColumnsIq[] result = new BooleansOnNumericColumnsIq[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BooleansOnNumericColumnsIqList intersection(BooleansOnNumericColumnsIqList another)
+	{
+		return (BooleansOnNumericColumnsIqList)super.intersection(another);
+	}
+
+	public BooleansOnNumericColumnsIq getBooleansOnNumericColumnsIqAt(int index)
+	{
+		return (BooleansOnNumericColumnsIq)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BooleansOnNumericColumnsIqFinder.getMithraObjectPortal();
+	}
+
+	public BooleansOnNumericColumnsIqList getNonPersistentCopy()
+	{
+		BooleansOnNumericColumnsIqList result = new BooleansOnNumericColumnsIqList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BooleansOnNumericColumnsIqList asAdhoc()
+	{
+		return (BooleansOnNumericColumnsIqList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BooleansOnNumericColumnsIq> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BooleansOnNumericColumnsIqList merge(MithraTransactionalList<BooleansOnNumericColumnsIq> incoming, TopLevelMergeOptions<BooleansOnNumericColumnsIq> mergeOptions)
+	{
+		return (BooleansOnNumericColumnsIqList) super.merge(incoming, mergeOptions);
+	}
+
+	public BooleansOnNumericColumnsIqList getDetachedCopy()
+	{
+		BooleansOnNumericColumnsIqList result = new BooleansOnNumericColumnsIqList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanOnByteValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnByteValue(), newValue);
+	}
+
+	public void setBooleanOnIntValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnIntValue(), newValue);
+	}
+
+	public void setBooleanOnLongValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnLongValue(), newValue);
+	}
+
+	public void setBooleanOnShortValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanOnShortValue(), newValue);
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.booleanValue(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BooleansOnNumericColumnsIqFinder.id(), newValue);
+	}
+
+	public void setNullableBooleanOnByteValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue(), newValue);
+	}
+
+	public void setNullableBooleanOnIntValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue(), newValue);
+	}
+
+	public void setNullableBooleanOnLongValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue(), newValue);
+	}
+
+	public void setNullableBooleanOnShortValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue(), newValue);
+	}
+
+	public void setNullableBooleanValue(boolean newValue)
+	{
+		zSetBoolean(BooleansOnNumericColumnsIqFinder.nullableBooleanValue(), newValue);
+	}
+
+	public void setNullableBooleanValueNull()
+	{
+		zSetAttributeNull(BooleansOnNumericColumnsIqFinder.nullableBooleanValue());
+	}
+
+	public void setNullableBooleanOnByteValueNull()
+	{
+		zSetAttributeNull(BooleansOnNumericColumnsIqFinder.nullableBooleanOnByteValue());
+	}
+
+	public void setNullableBooleanOnShortValueNull()
+	{
+		zSetAttributeNull(BooleansOnNumericColumnsIqFinder.nullableBooleanOnShortValue());
+	}
+
+	public void setNullableBooleanOnIntValueNull()
+	{
+		zSetAttributeNull(BooleansOnNumericColumnsIqFinder.nullableBooleanOnIntValue());
+	}
+
+	public void setNullableBooleanOnLongValueNull()
+	{
+		zSetAttributeNull(BooleansOnNumericColumnsIqFinder.nullableBooleanOnLongValue());
+	}
+}
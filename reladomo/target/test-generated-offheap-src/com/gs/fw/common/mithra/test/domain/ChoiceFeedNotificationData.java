@@ -0,0 +1,445 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ChoiceFeedNotificationData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private int dataSourceId;
+	private Timestamp eventDate;
+	private int feedModeCodeId;
+	private int notificationTypeId;
+	private int physicalPartitionId;
+	private Timestamp sourceUpdateDate;
+	private int uniqueId;
+	public boolean isEventDateNull()
+	{
+		return this.getEventDate() == null;
+	}
+
+	public boolean isSourceUpdateDateNull()
+	{
+		return this.getSourceUpdateDate() == null;
+	}
+
+	public boolean isUniqueIdNull()
+	{
+		return false;
+	}
+
+	public boolean isDataSourceIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isPhysicalPartitionIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNotificationTypeIdNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isFeedModeCodeIdNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.dataSourceId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.eventDate);
+		out.writeInt(this.feedModeCodeId);
+		out.writeInt(this.notificationTypeId);
+		out.writeInt(this.physicalPartitionId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.sourceUpdateDate);
+		out.writeInt(this.uniqueId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public int getDataSourceId()
+	{
+		return this.dataSourceId;
+	}
+
+	public void setDataSourceId(int value)
+	{
+		this.dataSourceId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Timestamp getEventDate()
+	{
+		return this.eventDate;
+	}
+
+	public long zGetEventDateAsLong()
+	{
+		if (eventDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return eventDate.getTime();
+	}
+
+	public void setEventDate(Timestamp value)
+	{
+		this.eventDate = TimestampPool.getInstance().getOrAddToCache(value, ChoiceFeedNotificationFinder.isFullCache(), ChoiceFeedNotificationFinder.isOffHeap());
+	}
+
+	public void setEventDateNull()
+	{
+		this.setEventDate(null);
+	}
+
+	public int getFeedModeCodeId()
+	{
+		return this.feedModeCodeId;
+	}
+
+	public void setFeedModeCodeId(int value)
+	{
+		this.feedModeCodeId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getNotificationTypeId()
+	{
+		return this.notificationTypeId;
+	}
+
+	public void setNotificationTypeId(int value)
+	{
+		this.notificationTypeId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getPhysicalPartitionId()
+	{
+		return this.physicalPartitionId;
+	}
+
+	public void setPhysicalPartitionId(int value)
+	{
+		this.physicalPartitionId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public Timestamp getSourceUpdateDate()
+	{
+		return this.sourceUpdateDate;
+	}
+
+	public long zGetSourceUpdateDateAsLong()
+	{
+		if (sourceUpdateDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return sourceUpdateDate.getTime();
+	}
+
+	public void setSourceUpdateDate(Timestamp value)
+	{
+		this.sourceUpdateDate = TimestampPool.getInstance().getOrAddToCache(value, ChoiceFeedNotificationFinder.isFullCache(), ChoiceFeedNotificationFinder.isOffHeap());
+	}
+
+	public void setSourceUpdateDateNull()
+	{
+		this.setSourceUpdateDate(null);
+	}
+
+	public int getUniqueId()
+	{
+		return this.uniqueId;
+	}
+
+	public void setUniqueId(int value)
+	{
+		this.uniqueId = value;
+	}
+
+	public void setUniqueIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setDataSourceIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setPhysicalPartitionIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNotificationTypeIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setFeedModeCodeIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ChoiceFeedNotificationData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.dataSourceId = this.dataSourceId;
+		copy.eventDate = this.eventDate;
+		copy.feedModeCodeId = this.feedModeCodeId;
+		copy.notificationTypeId = this.notificationTypeId;
+		copy.physicalPartitionId = this.physicalPartitionId;
+		copy.sourceUpdateDate = this.sourceUpdateDate;
+		copy.uniqueId = this.uniqueId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.dataSourceId = in.readInt();
+		this.eventDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ChoiceFeedNotificationFinder.isFullCache(), ChoiceFeedNotificationFinder.isOffHeap());
+		this.feedModeCodeId = in.readInt();
+		this.notificationTypeId = in.readInt();
+		this.physicalPartitionId = in.readInt();
+		this.sourceUpdateDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ChoiceFeedNotificationFinder.isFullCache(), ChoiceFeedNotificationFinder.isOffHeap());
+		this.uniqueId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ChoiceFeedNotificationData otherData = (ChoiceFeedNotificationData) other;
+		if (getUniqueId() != otherData.getUniqueId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.uniqueId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.uniqueId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ChoiceFeedNotificationData choiceFeedNotificationData = (ChoiceFeedNotificationData) newData;
+		this.setDataSourceId(choiceFeedNotificationData.getDataSourceId());
+		if (choiceFeedNotificationData.isDataSourceIdNull()) this.setDataSourceIdNull();
+		this.setEventDate(choiceFeedNotificationData.getEventDate());
+		this.setFeedModeCodeId(choiceFeedNotificationData.getFeedModeCodeId());
+		if (choiceFeedNotificationData.isFeedModeCodeIdNull()) this.setFeedModeCodeIdNull();
+		this.setNotificationTypeId(choiceFeedNotificationData.getNotificationTypeId());
+		if (choiceFeedNotificationData.isNotificationTypeIdNull()) this.setNotificationTypeIdNull();
+		this.setPhysicalPartitionId(choiceFeedNotificationData.getPhysicalPartitionId());
+		if (choiceFeedNotificationData.isPhysicalPartitionIdNull()) this.setPhysicalPartitionIdNull();
+		this.setSourceUpdateDate(choiceFeedNotificationData.getSourceUpdateDate());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ChoiceFeedNotificationData other = (ChoiceFeedNotificationData) newData;
+		if ( isDataSourceIdNull() != other.isDataSourceIdNull() || getDataSourceId() != other.getDataSourceId())
+		{
+			return true;
+		}
+
+		if (!isEventDateNull() ? !getEventDate().equals(other.getEventDate()) : !other.isEventDateNull())
+		{
+			return true;
+		}
+
+		if ( isFeedModeCodeIdNull() != other.isFeedModeCodeIdNull() || getFeedModeCodeId() != other.getFeedModeCodeId())
+		{
+			return true;
+		}
+
+		if ( isNotificationTypeIdNull() != other.isNotificationTypeIdNull() || getNotificationTypeId() != other.getNotificationTypeId())
+		{
+			return true;
+		}
+
+		if ( isPhysicalPartitionIdNull() != other.isPhysicalPartitionIdNull() || getPhysicalPartitionId() != other.getPhysicalPartitionId())
+		{
+			return true;
+		}
+
+		if (!isSourceUpdateDateNull() ? !getSourceUpdateDate().equals(other.getSourceUpdateDate()) : !other.isSourceUpdateDateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ChoiceFeedNotificationData copy = new ChoiceFeedNotificationData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ChoiceFeedNotificationData copy = new ChoiceFeedNotificationData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "uniqueId: "+(""+getUniqueId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ChoiceFeedNotificationData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ChoiceFeedNotificationFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ChoiceFeedNotificationFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ChoiceFeedNotificationData";
+	}
+}
@@ -0,0 +1,494 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ChoiceFeedNotificationDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "data_source_id_i,physical_partition_id_i,notification_typ_i,event_date_d,source_upd_d,feed_mode_cd_i";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.data_source_id_i,t0.physical_partition_id_i,t0.notification_typ_i,t0.event_date_d,t0.source_upd_d,t0.feed_mode_cd_i";
+	private static final String PK_WITH_ALIAS = "t0.notification_id_i = ?";
+	private static final String PK_INDEX_COLS = "notification_id_i";
+	protected ChoiceFeedNotificationDatabaseObjectAbstract()
+	{
+		super("ChoiceFeedNotification", "com.gs.fw.common.mithra.test.domain.ChoiceFeedNotificationFinder",
+			7, 7,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ChoiceFeedNotificationFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ChoiceFeedNotificationFinder.getFinderInstance();
+	}
+
+	public static ChoiceFeedNotificationData allocateOnHeapData()
+	{
+		return new ChoiceFeedNotificationData();
+	}
+
+	public static ChoiceFeedNotificationData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ChoiceFeedNotificationData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ChoiceFeedNotificationData data = new ChoiceFeedNotificationData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ChoiceFeedNotificationFinder.getPrimaryKeyAttributes(), this, ChoiceFeedNotificationFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ChoiceFeedNotificationFinder.getPrimaryKeyAttributes(), this, ChoiceFeedNotificationFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ChoiceFeedNotificationFinder.getPrimaryKeyAttributes(), this, ChoiceFeedNotificationFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ChoiceFeedNotificationFinder.getPrimaryKeyAttributes(), this, ChoiceFeedNotificationFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ChoiceFeedNotificationFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ChoiceFeedNotificationFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ChoiceFeedNotification.zConfigFullTx();
+		}
+		else
+		{
+			ChoiceFeedNotification.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateChoiceFeedNotificationData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkChoiceFeedNotificationData(1, (ChoiceFeedNotificationData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateChoiceFeedNotificationPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getChoiceFeedNotificationTableName();
+	}
+
+	public String getChoiceFeedNotificationTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getUniqueId());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "notification_id_i = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.notification_id_i,t0.data_source_id_i,t0.physical_partition_id_i,t0.notification_typ_i,t0.event_date_d,t0.source_upd_d,t0.feed_mode_cd_i";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias).append(".").append("notification_id_i");
+		result.append(",").append(databaseAlias).append(".").append("data_source_id_i");
+		result.append(",").append(databaseAlias).append(".").append("physical_partition_id_i");
+		result.append(",").append(databaseAlias).append(".").append("notification_typ_i");
+		result.append(",").append(databaseAlias).append(".").append("event_date_d");
+		result.append(",").append(databaseAlias).append(".").append("source_upd_d");
+		result.append(",").append(databaseAlias).append(".").append("feed_mode_cd_i");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ChoiceFeedNotificationData inflateChoiceFeedNotificationData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		ChoiceFeedNotificationData data = inflateChoiceFeedNotificationPkData(rs, dt);
+		inflateNonPkChoiceFeedNotificationData(2, data, rs, dt);
+		return data;
+	}
+
+	public ChoiceFeedNotificationData inflateChoiceFeedNotificationPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		ChoiceFeedNotificationData _data = new ChoiceFeedNotificationData();
+		int _pos = 1;
+		_data.setUniqueId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "uniqueId");
+		return _data;
+	}
+
+	public void inflateNonPkChoiceFeedNotificationData(int _pos, ChoiceFeedNotificationData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			ChoiceFeedNotificationData _data = _datax;
+			_data.setDataSourceId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setDataSourceIdNull();
+			}
+
+			_data.setPhysicalPartitionId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPhysicalPartitionIdNull();
+			}
+
+			_data.setNotificationTypeId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNotificationTypeIdNull();
+			}
+
+			Timestamp eventDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setEventDate(eventDatetimestampValue);
+			Timestamp sourceUpdateDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setSourceUpdateDate(sourceUpdateDatetimestampValue);
+			_data.setFeedModeCodeId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFeedModeCodeIdNull();
+			}
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "feed_notification";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ChoiceFeedNotificationData data = (ChoiceFeedNotificationData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getUniqueId());
+		if (data.isDataSourceIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getDataSourceId());
+		}
+
+		if (data.isPhysicalPartitionIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getPhysicalPartitionId());
+		}
+
+		if (data.isNotificationTypeIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getNotificationTypeId());
+		}
+
+		if (data.isEventDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getEventDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isSourceUpdateDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getSourceUpdateDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isFeedModeCodeIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getFeedModeCodeId());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "notification_id_i,data_source_id_i,physical_partition_id_i,notification_typ_i,event_date_d,source_upd_d,feed_mode_cd_i";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ChoiceFeedNotification newObject = new ChoiceFeedNotification();
+		newObject.zSetFromChoiceFeedNotificationData((ChoiceFeedNotificationData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.notification_id_i";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*7);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("notification_id_i");
+		return result.toString();
+	}
+}
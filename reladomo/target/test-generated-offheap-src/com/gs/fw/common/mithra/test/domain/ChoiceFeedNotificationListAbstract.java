@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ChoiceFeedNotificationListAbstract extends DelegatingList<ChoiceFeedNotification> implements MithraTransactionalList<ChoiceFeedNotification>
+{
+	public ChoiceFeedNotificationListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ChoiceFeedNotificationListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ChoiceFeedNotificationListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ChoiceFeedNotificationListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ChoiceFeedNotification[] elements()
+	{
+		ChoiceFeedNotification[] result = new ChoiceFeedNotification[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ChoiceFeedNotificationList intersection(ChoiceFeedNotificationList another)
+	{
+		return (ChoiceFeedNotificationList)super.intersection(another);
+	}
+
+	public ChoiceFeedNotification getChoiceFeedNotificationAt(int index)
+	{
+		return (ChoiceFeedNotification)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ChoiceFeedNotificationFinder.getMithraObjectPortal();
+	}
+
+	public ChoiceFeedNotificationList getNonPersistentCopy()
+	{
+		ChoiceFeedNotificationList result = new ChoiceFeedNotificationList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ChoiceFeedNotificationList asAdhoc()
+	{
+		return (ChoiceFeedNotificationList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ChoiceFeedNotification> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ChoiceFeedNotificationList merge(MithraTransactionalList<ChoiceFeedNotification> incoming, TopLevelMergeOptions<ChoiceFeedNotification> mergeOptions)
+	{
+		return (ChoiceFeedNotificationList) super.merge(incoming, mergeOptions);
+	}
+
+	public ChoiceFeedNotificationList getDetachedCopy()
+	{
+		ChoiceFeedNotificationList result = new ChoiceFeedNotificationList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDataSourceId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.dataSourceId(), newValue);
+	}
+
+	public void setEventDate(Timestamp newValue)
+	{
+		zSetTimestamp(ChoiceFeedNotificationFinder.eventDate(), newValue);
+	}
+
+	public void setFeedModeCodeId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.feedModeCodeId(), newValue);
+	}
+
+	public void setNotificationTypeId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.notificationTypeId(), newValue);
+	}
+
+	public void setPhysicalPartitionId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.physicalPartitionId(), newValue);
+	}
+
+	public void setSourceUpdateDate(Timestamp newValue)
+	{
+		zSetTimestamp(ChoiceFeedNotificationFinder.sourceUpdateDate(), newValue);
+	}
+
+	public void setUniqueId(int newValue)
+	{
+		zSetInteger(ChoiceFeedNotificationFinder.uniqueId(), newValue);
+	}
+
+	public void setDataSourceIdNull()
+	{
+		zSetAttributeNull(ChoiceFeedNotificationFinder.dataSourceId());
+	}
+
+	public void setPhysicalPartitionIdNull()
+	{
+		zSetAttributeNull(ChoiceFeedNotificationFinder.physicalPartitionId());
+	}
+
+	public void setNotificationTypeIdNull()
+	{
+		zSetAttributeNull(ChoiceFeedNotificationFinder.notificationTypeId());
+	}
+
+	public void setFeedModeCodeIdNull()
+	{
+		zSetAttributeNull(ChoiceFeedNotificationFinder.feedModeCodeId());
+	}
+}
@@ -0,0 +1,24 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ComplexKeyWiAbstract
+{
+	public Timestamp getCurrentDate();
+	public void setCurrentDate(Timestamp newValue);
+	public boolean isCurrentDateNull();
+	public int getFirstId();
+	public void setFirstId(int newValue);
+	public boolean isFirstIdNull();
+	public int getSecondId();
+	public void setSecondId(int newValue);
+	public boolean isSecondIdNull();
+	public int getSomeValue();
+	public void setSomeValue(int newValue);
+	public boolean isSomeValueNull();
+	public void setSomeValueNull();
+}
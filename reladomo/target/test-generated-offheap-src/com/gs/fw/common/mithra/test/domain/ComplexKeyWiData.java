@@ -0,0 +1,347 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ComplexKeyWiData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private Timestamp currentDate;
+	private int firstId;
+	private int secondId;
+	private int someValue;
+	public boolean isCurrentDateNull()
+	{
+		return this.getCurrentDate() == null;
+	}
+
+	public boolean isFirstIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSecondIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSomeValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.currentDate);
+		out.writeInt(this.firstId);
+		out.writeInt(this.secondId);
+		out.writeInt(this.someValue);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public Timestamp getCurrentDate()
+	{
+		return this.currentDate;
+	}
+
+	public long zGetCurrentDateAsLong()
+	{
+		if (currentDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return currentDate.getTime();
+	}
+
+	public void setCurrentDate(Timestamp value)
+	{
+		this.currentDate = TimestampPool.getInstance().getOrAddToCache(value, ComplexKeyWiFinder.isFullCache(), ComplexKeyWiFinder.isOffHeap());
+	}
+
+	public void setCurrentDateNull()
+	{
+		this.setCurrentDate(null);
+	}
+
+	public int getFirstId()
+	{
+		return this.firstId;
+	}
+
+	public void setFirstId(int value)
+	{
+		this.firstId = value;
+	}
+
+	public void setFirstIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSecondId()
+	{
+		return this.secondId;
+	}
+
+	public void setSecondId(int value)
+	{
+		this.secondId = value;
+	}
+
+	public void setSecondIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getSomeValue()
+	{
+		return this.someValue;
+	}
+
+	public void setSomeValue(int value)
+	{
+		this.someValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setSomeValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ComplexKeyWiData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.currentDate = this.currentDate;
+		copy.firstId = this.firstId;
+		copy.secondId = this.secondId;
+		copy.someValue = this.someValue;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.currentDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ComplexKeyWiFinder.isFullCache(), ComplexKeyWiFinder.isOffHeap());
+		this.firstId = in.readInt();
+		this.secondId = in.readInt();
+		this.someValue = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ComplexKeyWiData otherData = (ComplexKeyWiData) other;
+		if (!isCurrentDateNull() ? !getCurrentDate().equals(otherData.getCurrentDate()) : !otherData.isCurrentDateNull())
+		{
+			return false;
+		}
+
+		if (getFirstId() != otherData.getFirstId())
+		{
+			return false;
+		}
+
+		if (getSecondId() != otherData.getSecondId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.currentDate);
+		out.writeInt(this.firstId);
+		out.writeInt(this.secondId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.currentDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ComplexKeyWiFinder.isFullCache(), ComplexKeyWiFinder.isOffHeap());
+		this.firstId = in.readInt();
+		this.secondId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ComplexKeyWiData complexKeyWiData = (ComplexKeyWiData) newData;
+		this.setSomeValue(complexKeyWiData.getSomeValue());
+		if (complexKeyWiData.isSomeValueNull()) this.setSomeValueNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ComplexKeyWiData other = (ComplexKeyWiData) newData;
+		if ( isSomeValueNull() != other.isSomeValueNull() || getSomeValue() != other.getSomeValue())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ComplexKeyWiData copy = new ComplexKeyWiData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ComplexKeyWiData copy = new ComplexKeyWiData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "currentDate: "+(isCurrentDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getCurrentDate().getTime()))+ " / ";
+		result += "firstId: "+(""+getFirstId())+ " / ";
+		result += "secondId: "+(""+getSecondId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ComplexKeyWiData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ComplexKeyWiFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ComplexKeyWiFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ComplexKeyWiData";
+	}
+}
@@ -0,0 +1,290 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ComplexKeyWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ComplexKeyWiImpl.class.getName());
+	public ComplexKeyWiImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ComplexKeyWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (ComplexKeyWiImpl) super.getDetachedCopy();
+	}
+
+	public ComplexKeyWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		ComplexKeyWiImpl result = (ComplexKeyWiImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ComplexKeyWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ComplexKeyWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ComplexKeyWiImpl zFindOriginal()
+	{
+		ComplexKeyWiData data = (ComplexKeyWiData) this.currentData;
+		Operation op;
+		op = ComplexKeyWiFinder.firstId().eq(data.getFirstId());
+		op = op.and(ComplexKeyWiFinder.secondId().eq(data.getSecondId()));
+		op = op.and(ComplexKeyWiFinder.currentDate().eq(data.getCurrentDate()));
+		return (ComplexKeyWiImpl) ComplexKeyWiFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ComplexKeyWiData();
+	}
+
+	protected void zSetFromComplexKeyWiData( ComplexKeyWiData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromComplexKeyWiData( ComplexKeyWiData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCurrentDateNull()
+	{
+		return ((ComplexKeyWiData) this.zSynchronizedGetData()).isCurrentDateNull();
+	}
+
+	public Timestamp getCurrentDate()
+	{
+		ComplexKeyWiData data = (ComplexKeyWiData) this.zSynchronizedGetData();
+		return data.getCurrentDate();
+	}
+
+	public void setCurrentDate(Timestamp newValue)
+	{
+		zSetTimestamp(ComplexKeyWiFinder.currentDate(), newValue, true, false );
+	}
+
+	public boolean isFirstIdNull()
+	{
+		return ((ComplexKeyWiData) this.zSynchronizedGetData()).isFirstIdNull();
+	}
+
+	public int getFirstId()
+	{
+		ComplexKeyWiData data = (ComplexKeyWiData) this.zSynchronizedGetData();
+		return data.getFirstId();
+	}
+
+	public void setFirstId(int newValue)
+	{
+		zSetInteger(ComplexKeyWiFinder.firstId(), newValue, true, false ,false);
+	}
+
+	public boolean isSecondIdNull()
+	{
+		return ((ComplexKeyWiData) this.zSynchronizedGetData()).isSecondIdNull();
+	}
+
+	public int getSecondId()
+	{
+		ComplexKeyWiData data = (ComplexKeyWiData) this.zSynchronizedGetData();
+		return data.getSecondId();
+	}
+
+	public void setSecondId(int newValue)
+	{
+		zSetInteger(ComplexKeyWiFinder.secondId(), newValue, true, false ,false);
+	}
+
+	public boolean isSomeValueNull()
+	{
+		return ((ComplexKeyWiData) this.zSynchronizedGetData()).isSomeValueNull();
+	}
+
+	public int getSomeValue()
+	{
+		ComplexKeyWiData data = (ComplexKeyWiData) this.zSynchronizedGetData();
+		if (data.isSomeValueNull()) MithraNullPrimitiveException.throwNew("someValue", data);
+		return data.getSomeValue();
+	}
+
+	public void setSomeValue(int newValue)
+	{
+		zSetInteger(ComplexKeyWiFinder.someValue(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ComplexKeyWiFinder.someValue(), false);
+	}
+
+	public void setSomeValueNull()
+	{
+		zNullify(ComplexKeyWiFinder.someValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ComplexKeyWiData _newData = (ComplexKeyWiData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ComplexKeyWiData _newData = (ComplexKeyWiData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ComplexKeyWiData _newData = (ComplexKeyWiData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ComplexKeyWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ComplexKeyWiImpl original = (ComplexKeyWiImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ComplexKeyWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ComplexKeyWiFinder.getMithraObjectPortal();
+	}
+
+	public ComplexKeyWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ComplexKeyWiFinder.someValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, ComplexKeyWiFinder.currentDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ComplexKeyWiFinder.firstId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ComplexKeyWiFinder.secondId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ComplexKeyWiImplAbstract result = (ComplexKeyWiImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,11 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ComplexKeyWiListAbstract extends List<ComplexKeyWi>
+{
+	public void setCurrentDate(Timestamp newValue);
+	public void setFirstId(int newValue);
+	public void setSecondId(int newValue);
+	public void setSomeValue(int newValue);
+}
@@ -0,0 +1,343 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ComplexMutablePkAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ComplexMutablePk.class.getName());
+	public ComplexMutablePkAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ComplexMutablePk getDetachedCopy() throws MithraBusinessException
+	{
+		return (ComplexMutablePk) super.getDetachedCopy();
+	}
+
+	public ComplexMutablePk getNonPersistentCopy() throws MithraBusinessException
+	{
+		ComplexMutablePk result = (ComplexMutablePk) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ComplexMutablePk copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ComplexMutablePk original = (ComplexMutablePk) behavior.updateOriginalOrInsert(this);
+		behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!behavior.isDeleted()) ((ComplexMutablePkData)this.transactionalState.getTxData()).zSetUpdated();
+		return original;
+	}
+
+	public ComplexMutablePk copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ComplexMutablePk) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public void zSetInserted()
+	{
+		MithraDataObject data;
+		boolean validTransactionalState = this.transactionalState != null;
+		if(validTransactionalState)
+		{
+			data = this.transactionalState.getTxData();
+			if (data == null)
+			{
+				data = this.currentData.copy();
+				this.transactionalState.setTxData(data);
+			}
+		}
+		else
+		{
+			data = this.currentData;
+		}
+
+		((ComplexMutablePkData)data).zSetUpdated();
+	}
+
+	public void zSetUpdated(List<AttributeUpdateWrapper> updates)
+	{
+		((ComplexMutablePkData)this.transactionalState.getTxData()).zSetUpdated();
+	}
+
+	public ComplexMutablePk zFindOriginal()
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData) this.zSynchronizedGetDataForPrimaryKey();
+		Operation op;
+		op = ComplexMutablePkFinder.id().eq(data.getId());
+		op = op.and(ComplexMutablePkFinder.primitiveMutablePk1().eq(data._oldgetPrimitiveMutablePk1()));
+		op = op.and(ComplexMutablePkFinder.primitiveMutablePk2().eq(data._oldgetPrimitiveMutablePk2()));
+		op = op.and(ComplexMutablePkFinder.objMutablePk1().eq(data._oldgetObjMutablePk1()));
+		op = op.and(ComplexMutablePkFinder.objMutablePk2().eq(data._oldgetObjMutablePk2()));
+		return ComplexMutablePkFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ComplexMutablePkData();
+	}
+
+	protected void zSetFromComplexMutablePkData( ComplexMutablePkData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromComplexMutablePkData( ComplexMutablePkData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isIdNull()
+	{
+		return ((ComplexMutablePkData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(ComplexMutablePkFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isObjMutablePk1Null()
+	{
+		return ((ComplexMutablePkData) this.zSynchronizedGetData()).isObjMutablePk1Null();
+	}
+
+	public String getObjMutablePk1()
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData) this.zSynchronizedGetData();
+		return data.getObjMutablePk1();
+	}
+
+	public void setObjMutablePk1(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'objMutablePk1' cannot exceed maximum length of 20: " + newValue);
+		zSetString(ComplexMutablePkFinder.objMutablePk1(), newValue, false, false );
+	}
+
+	public boolean isObjMutablePk2Null()
+	{
+		return ((ComplexMutablePkData) this.zSynchronizedGetData()).isObjMutablePk2Null();
+	}
+
+	public String getObjMutablePk2()
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData) this.zSynchronizedGetData();
+		return data.getObjMutablePk2();
+	}
+
+	public void setObjMutablePk2(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'objMutablePk2' cannot exceed maximum length of 20: " + newValue);
+		zSetString(ComplexMutablePkFinder.objMutablePk2(), newValue, false, false );
+	}
+
+	public boolean isPrimitiveMutablePk1Null()
+	{
+		return ((ComplexMutablePkData) this.zSynchronizedGetData()).isPrimitiveMutablePk1Null();
+	}
+
+	public int getPrimitiveMutablePk1()
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData) this.zSynchronizedGetData();
+		return data.getPrimitiveMutablePk1();
+	}
+
+	public void setPrimitiveMutablePk1(int newValue)
+	{
+		zSetInteger(ComplexMutablePkFinder.primitiveMutablePk1(), newValue, false, false ,false);
+	}
+
+	public boolean isPrimitiveMutablePk2Null()
+	{
+		return ((ComplexMutablePkData) this.zSynchronizedGetData()).isPrimitiveMutablePk2Null();
+	}
+
+	public int getPrimitiveMutablePk2()
+	{
+		ComplexMutablePkData data = (ComplexMutablePkData) this.zSynchronizedGetData();
+		return data.getPrimitiveMutablePk2();
+	}
+
+	public void setPrimitiveMutablePk2(int newValue)
+	{
+		zSetInteger(ComplexMutablePkFinder.primitiveMutablePk2(), newValue, false, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ComplexMutablePkData _newData = (ComplexMutablePkData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ComplexMutablePkData _newData = (ComplexMutablePkData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ComplexMutablePkData _newData = (ComplexMutablePkData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ComplexMutablePk zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ComplexMutablePk original = (ComplexMutablePk) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ComplexMutablePkFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ComplexMutablePkFinder.getMithraObjectPortal();
+	}
+
+	public ComplexMutablePk getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ComplexMutablePkFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, ComplexMutablePkFinder.objMutablePk1(), false);
+		changed |= zUpdateString(behavior, data, newData, ComplexMutablePkFinder.objMutablePk2(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ComplexMutablePkFinder.primitiveMutablePk1(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ComplexMutablePkFinder.primitiveMutablePk2(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ComplexMutablePkAbstract result = (ComplexMutablePkAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
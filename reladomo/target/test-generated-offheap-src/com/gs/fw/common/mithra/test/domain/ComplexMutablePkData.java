@@ -0,0 +1,521 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ComplexMutablePkData
+implements MithraDataObject
+{
+	private int id;
+	private String objMutablePk1;
+	private String objMutablePk2;
+	private int primitiveMutablePk1;
+	private int primitiveMutablePk2;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isObjMutablePk1Null()
+	{
+		return this.getObjMutablePk1() == null;
+	}
+
+	public boolean isObjMutablePk2Null()
+	{
+		return this.getObjMutablePk2() == null;
+	}
+
+	public boolean isPrimitiveMutablePk1Null()
+	{
+		return false;
+	}
+
+	public boolean isPrimitiveMutablePk2Null()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.id);
+		out.writeObject(this.objMutablePk1);
+		out.writeObject(this.objMutablePk2);
+		out.writeInt(this.primitiveMutablePk1);
+		out.writeInt(this.primitiveMutablePk2);
+		out.writeInt(this._oldprimitiveMutablePk1);
+		out.writeInt(this._oldprimitiveMutablePk2);
+		out.writeObject(this._oldobjMutablePk1);
+		out.writeObject(this._oldobjMutablePk2);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	private int _oldprimitiveMutablePk1;
+	private int _oldprimitiveMutablePk2;
+	private String _oldobjMutablePk1;
+	private String _oldobjMutablePk2;
+	public boolean _oldisPrimitiveMutablePk1Null()
+	{
+		return false;
+	}
+
+	public boolean _oldisPrimitiveMutablePk2Null()
+	{
+		return false;
+	}
+
+	public boolean _oldisObjMutablePk1Null()
+	{
+		return this._oldgetObjMutablePk1() == null;
+	}
+
+	public boolean _oldisObjMutablePk2Null()
+	{
+		return this._oldgetObjMutablePk2() == null;
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getObjMutablePk1()
+	{
+		return this.objMutablePk1;
+	}
+
+	public int zGetObjMutablePk1AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(objMutablePk1);
+	}
+
+	public void setObjMutablePk1(String value)
+	{
+		this.objMutablePk1 = StringPool.getInstance().getOrAddToCache(value, ComplexMutablePkFinder.isFullCache());
+	}
+
+	public void setObjMutablePk1Null()
+	{
+		this.setObjMutablePk1(null);
+	}
+
+	public String getObjMutablePk2()
+	{
+		return this.objMutablePk2;
+	}
+
+	public int zGetObjMutablePk2AsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(objMutablePk2);
+	}
+
+	public void setObjMutablePk2(String value)
+	{
+		this.objMutablePk2 = StringPool.getInstance().getOrAddToCache(value, ComplexMutablePkFinder.isFullCache());
+	}
+
+	public void setObjMutablePk2Null()
+	{
+		this.setObjMutablePk2(null);
+	}
+
+	public int getPrimitiveMutablePk1()
+	{
+		return this.primitiveMutablePk1;
+	}
+
+	public void setPrimitiveMutablePk1(int value)
+	{
+		this.primitiveMutablePk1 = value;
+	}
+
+	public void setPrimitiveMutablePk1Null()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getPrimitiveMutablePk2()
+	{
+		return this.primitiveMutablePk2;
+	}
+
+	public void setPrimitiveMutablePk2(int value)
+	{
+		this.primitiveMutablePk2 = value;
+	}
+
+	public void setPrimitiveMutablePk2Null()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int _oldgetPrimitiveMutablePk1()
+	{
+		return _oldprimitiveMutablePk1;
+	}
+
+	public void _oldsetPrimitiveMutablePk1(int value)
+	{
+		this._oldprimitiveMutablePk1 = value;
+	}
+
+	public void _oldsetPrimitiveMutablePk1Null()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int _oldgetPrimitiveMutablePk2()
+	{
+		return _oldprimitiveMutablePk2;
+	}
+
+	public void _oldsetPrimitiveMutablePk2(int value)
+	{
+		this._oldprimitiveMutablePk2 = value;
+	}
+
+	public void _oldsetPrimitiveMutablePk2Null()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String _oldgetObjMutablePk1()
+	{
+		return _oldobjMutablePk1;
+	}
+
+	public void _oldsetObjMutablePk1(String value)
+	{
+		this._oldobjMutablePk1 = value;
+	}
+
+	public void _oldsetObjMutablePk1Null()
+	{
+		this._oldsetObjMutablePk1(null);
+	}
+
+	public String _oldgetObjMutablePk2()
+	{
+		return _oldobjMutablePk2;
+	}
+
+	public void _oldsetObjMutablePk2(String value)
+	{
+		this._oldobjMutablePk2 = value;
+	}
+
+	public void _oldsetObjMutablePk2Null()
+	{
+		this._oldsetObjMutablePk2(null);
+	}
+
+	protected void copyInto(ComplexMutablePkData copy, boolean withRelationships)
+	{
+		copy.id = this.id;
+		copy.objMutablePk1 = this.objMutablePk1;
+		copy.objMutablePk2 = this.objMutablePk2;
+		copy.primitiveMutablePk1 = this.primitiveMutablePk1;
+		copy.primitiveMutablePk2 = this.primitiveMutablePk2;
+		copy._oldprimitiveMutablePk1 = this._oldprimitiveMutablePk1;
+		copy._oldprimitiveMutablePk2 = this._oldprimitiveMutablePk2;
+		copy._oldobjMutablePk1 = this._oldobjMutablePk1;
+		copy._oldobjMutablePk2 = this._oldobjMutablePk2;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.objMutablePk1 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this.objMutablePk2 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this.primitiveMutablePk1 = in.readInt();
+		this.primitiveMutablePk2 = in.readInt();
+		this._oldprimitiveMutablePk1 = in.readInt();
+		this._oldprimitiveMutablePk2 = in.readInt();
+		this._oldobjMutablePk1 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this._oldobjMutablePk2 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ComplexMutablePkData otherData = (ComplexMutablePkData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (!isObjMutablePk1Null() ? !getObjMutablePk1().equals(otherData.getObjMutablePk1()) : !otherData.isObjMutablePk1Null())
+		{
+			return false;
+		}
+
+		if (!isObjMutablePk2Null() ? !getObjMutablePk2().equals(otherData.getObjMutablePk2()) : !otherData.isObjMutablePk2Null())
+		{
+			return false;
+		}
+
+		if (getPrimitiveMutablePk1() != otherData.getPrimitiveMutablePk1())
+		{
+			return false;
+		}
+
+		if (getPrimitiveMutablePk2() != otherData.getPrimitiveMutablePk2())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+		out.writeObject(this.objMutablePk1);
+		out.writeObject(this.objMutablePk2);
+		out.writeInt(this.primitiveMutablePk1);
+		out.writeInt(this.primitiveMutablePk2);
+		out.writeInt(this._oldprimitiveMutablePk1);
+		out.writeInt(this._oldprimitiveMutablePk2);
+		out.writeObject(this._oldobjMutablePk1);
+		out.writeObject(this._oldobjMutablePk2);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.objMutablePk1 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this.objMutablePk2 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this.primitiveMutablePk1 = in.readInt();
+		this.primitiveMutablePk2 = in.readInt();
+		this._oldprimitiveMutablePk1 = in.readInt();
+		this._oldprimitiveMutablePk2 = in.readInt();
+		this._oldobjMutablePk1 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this._oldobjMutablePk1 = StringPool.getInstance().getOrAddToCache(this._oldobjMutablePk1, ComplexMutablePkFinder.isFullCache());
+		this._oldobjMutablePk2 = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ComplexMutablePkFinder.isFullCache());
+		this._oldobjMutablePk2 = StringPool.getInstance().getOrAddToCache(this._oldobjMutablePk2, ComplexMutablePkFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSetUpdated()
+	{
+		this._oldprimitiveMutablePk1 = this.primitiveMutablePk1;
+		this._oldprimitiveMutablePk2 = this.primitiveMutablePk2;
+		this._oldobjMutablePk1 = this.objMutablePk1;
+		this._oldobjMutablePk2 = this.objMutablePk2;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ComplexMutablePkData complexMutablePkData = (ComplexMutablePkData) newData;
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zAnyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zAnyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		boolean result = zMutablePrimaryKeyAttributesChanged(newData);
+		if(result) return true;
+		return zNonPrimaryKeyAttributesChanged(newData, toleranceForFloatingPointFields);
+	}
+
+	public boolean zMutablePrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		final ComplexMutablePkData complexMutablePkData = (ComplexMutablePkData) newData;
+		if (getPrimitiveMutablePk1() != complexMutablePkData.getPrimitiveMutablePk1())
+		{
+			return true;
+		}
+
+		if (getPrimitiveMutablePk2() != complexMutablePkData.getPrimitiveMutablePk2())
+		{
+			return true;
+		}
+
+		if (!isObjMutablePk1Null() ? !getObjMutablePk1().equals(complexMutablePkData.getObjMutablePk1()) : !complexMutablePkData.isObjMutablePk1Null())
+		{
+			return true;
+		}
+
+		if (!isObjMutablePk2Null() ? !getObjMutablePk2().equals(complexMutablePkData.getObjMutablePk2()) : !complexMutablePkData.isObjMutablePk2Null())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ComplexMutablePkData other = (ComplexMutablePkData) newData;
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ComplexMutablePkData copy = new ComplexMutablePkData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ComplexMutablePkData copy = new ComplexMutablePkData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "objMutablePk1: "+"'"+getObjMutablePk1()+"'"+ " / ";
+		result += "objMutablePk2: "+"'"+getObjMutablePk2()+"'"+ " / ";
+		result += "primitiveMutablePk1: "+(""+getPrimitiveMutablePk1())+ " / ";
+		result += "primitiveMutablePk2: "+(""+getPrimitiveMutablePk2())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ComplexMutablePkData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zAnyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ComplexMutablePkFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ComplexMutablePkFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ComplexMutablePkData";
+	}
+}
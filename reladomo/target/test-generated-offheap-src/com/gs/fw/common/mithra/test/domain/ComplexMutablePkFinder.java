@@ -0,0 +1,743 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ComplexMutablePkFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ComplexMutablePk";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ComplexMutablePk";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ComplexMutablePk");
+	private static final ComplexMutablePkSingleFinder<ComplexMutablePk, Object, ComplexMutablePk> finder = new ComplexMutablePkSingleFinder<ComplexMutablePk, Object, ComplexMutablePk>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_PK_ALL_ITEMS = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ComplexMutablePkFinder.ComplexMutablePkRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("primitiveMutablePk1");
+		finderMethodMap.addNormalAttributeName("primitiveMutablePk2");
+		finderMethodMap.addNormalAttributeName("objMutablePk1");
+		finderMethodMap.addNormalAttributeName("objMutablePk2");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ComplexMutablePk findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ComplexMutablePk findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ComplexMutablePkList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ComplexMutablePkList) finder.findMany(operation);
+	}
+
+	public static ComplexMutablePkList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ComplexMutablePkList) finder.findManyBypassCache(operation);
+	}
+
+	private static ComplexMutablePk findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ComplexMutablePk) FinderUtils.findOne(found);
+	}
+
+	public static ComplexMutablePk findByPrimaryKey(int id, int primitiveMutablePk1, int primitiveMutablePk2, String objMutablePk1, String objMutablePk2)
+	{
+		return finder.findByPrimaryKey(id, primitiveMutablePk1, primitiveMutablePk2, objMutablePk1, objMutablePk2);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ComplexMutablePkData _castedTargetData = (ComplexMutablePkData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getI2AsInteger() == _castedTargetData.getPrimitiveMutablePk1() && _bean.getI3AsInteger() == _castedTargetData.getPrimitiveMutablePk2() && _bean.getO1AsString().equals(_castedTargetData.getObjMutablePk1()) && _bean.getO2AsString().equals(_castedTargetData.getObjMutablePk2()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger())),HashUtil.hash(_bean.getO1AsString())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger())),HashUtil.offHeapHash(_bean.getO1AsString())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static ComplexMutablePk findByPkallitems(int primitiveMutablePk1, int primitiveMutablePk2, int id, String objMutablePk1, String objMutablePk2)
+	{
+		return finder.findByPkallitems(primitiveMutablePk1, primitiveMutablePk2, id, objMutablePk1, objMutablePk2);
+	}
+
+	private static final RelationshipHashStrategy forPkallitems = new PkallitemsRhs();
+	private static final class PkallitemsRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ComplexMutablePkData _castedTargetData = (ComplexMutablePkData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getPrimitiveMutablePk1() && _bean.getI2AsInteger() == _castedTargetData.getPrimitiveMutablePk2() && _bean.getI3AsInteger() == _castedTargetData.getId() && _bean.getO1AsString().equals(_castedTargetData.getObjMutablePk1()) && _bean.getO2AsString().equals(_castedTargetData.getObjMutablePk2()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger())),HashUtil.hash(_bean.getO1AsString())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getI3AsInteger())),HashUtil.offHeapHash(_bean.getO1AsString())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static ComplexMutablePk zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ComplexMutablePk) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ComplexMutablePkRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ComplexMutablePk, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> primitiveMutablePk1;
+		private IntegerAttribute<ParentOwnerType> primitiveMutablePk2;
+		private StringAttribute<ParentOwnerType> objMutablePk1;
+		private StringAttribute<ParentOwnerType> objMutablePk2;
+		public ComplexMutablePkRelatedFinder()
+		{
+			super();
+		}
+
+		public ComplexMutablePkRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ComplexMutablePkFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ComplexMutablePkFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ComplexMutablePkFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ComplexMutablePkFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.primitiveMutablePk1();
+			attributes[2] = this.primitiveMutablePk2();
+			attributes[3] = this.objMutablePk1();
+			attributes[4] = this.objMutablePk2();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ComplexMutablePk findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ComplexMutablePkFinder.findOne(operation, false);
+		}
+
+		public ComplexMutablePk findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ComplexMutablePkFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ComplexMutablePk> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ComplexMutablePkList((Operation) operation);
+		}
+
+		public MithraList<? extends ComplexMutablePk> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ComplexMutablePkList result = (ComplexMutablePkList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ComplexMutablePk> constructEmptyList()
+		{
+			return new ComplexMutablePkList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1026123741;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ComplexMutablePkFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> primitiveMutablePk1()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.primitiveMutablePk1;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRIM_MUT_PK1","","primitiveMutablePk1",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, true) :
+					new MappedIntegerAttribute(ComplexMutablePkFinder.primitiveMutablePk1(), this.mapper, this.zGetValueSelector());
+				this.primitiveMutablePk1 = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> primitiveMutablePk2()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.primitiveMutablePk2;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRIM_MUT_PK2","","primitiveMutablePk2",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, true) :
+					new MappedIntegerAttribute(ComplexMutablePkFinder.primitiveMutablePk2(), this.mapper, this.zGetValueSelector());
+				this.primitiveMutablePk2 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> objMutablePk1()
+		{
+			StringAttribute<ParentOwnerType> result = this.objMutablePk1;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("OBJ_MUT_PK1","","objMutablePk1",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,20,true, true) :
+					new MappedStringAttribute(ComplexMutablePkFinder.objMutablePk1(), this.mapper, this.zGetValueSelector());
+				this.objMutablePk1 = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> objMutablePk2()
+		{
+			StringAttribute<ParentOwnerType> result = this.objMutablePk2;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("OBJ_MUT_PK2","","objMutablePk2",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,20,true, true) :
+					new MappedStringAttribute(ComplexMutablePkFinder.objMutablePk2(), this.mapper, this.zGetValueSelector());
+				this.objMutablePk2 = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ComplexMutablePkFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ComplexMutablePkFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ComplexMutablePkCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ComplexMutablePkRelatedFinder<ParentOwnerType, ReturnType, ComplexMutablePkList, OwnerType>
+	{
+		public ComplexMutablePkCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ComplexMutablePkCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ComplexMutablePkCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ComplexMutablePkCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ComplexMutablePkSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ComplexMutablePkRelatedFinder<ParentOwnerType, ReturnType, ComplexMutablePkList, OwnerType>
+	implements ToOneFinder
+	{
+		public ComplexMutablePkSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ComplexMutablePkSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ComplexMutablePk other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.primitiveMutablePk1().eq(other.getPrimitiveMutablePk1()))
+			.and(this.primitiveMutablePk2().eq(other.getPrimitiveMutablePk2()))
+			.and(this.objMutablePk1().eq(other.getObjMutablePk1()))
+			.and(this.objMutablePk2().eq(other.getObjMutablePk2()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ComplexMutablePk findByPrimaryKey(int id, int primitiveMutablePk1, int primitiveMutablePk2, String objMutablePk1, String objMutablePk2)
+		{
+			ComplexMutablePk _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (objMutablePk1 != null && objMutablePk2 != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setI2AsInteger(primitiveMutablePk1);
+				_bean.setI3AsInteger(primitiveMutablePk2);
+				_bean.setO1(objMutablePk1);
+				_bean.setO2(objMutablePk2);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ComplexMutablePk) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.primitiveMutablePk1().eq(primitiveMutablePk1)).and(this.primitiveMutablePk2().eq(primitiveMutablePk2)).and(this.objMutablePk1().eq(objMutablePk1)).and(this.objMutablePk2().eq(objMutablePk2));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ComplexMutablePk findByPkallitems(int primitiveMutablePk1, int primitiveMutablePk2, int id, String objMutablePk1, String objMutablePk2)
+		{
+			return this.findByPrimaryKey(id, primitiveMutablePk1, primitiveMutablePk2, objMutablePk1, objMutablePk2);
+		}
+	}
+
+	public static abstract class ComplexMutablePkSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ComplexMutablePkSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ComplexMutablePkSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to COMPLEX_MUTABLE_PK.ID **/
+	public static IntegerAttribute<ComplexMutablePk> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to COMPLEX_MUTABLE_PK.PRIM_MUT_PK1 **/
+	public static IntegerAttribute<ComplexMutablePk> primitiveMutablePk1()
+	{
+		return finder.primitiveMutablePk1();
+	}
+
+	/** maps to COMPLEX_MUTABLE_PK.PRIM_MUT_PK2 **/
+	public static IntegerAttribute<ComplexMutablePk> primitiveMutablePk2()
+	{
+		return finder.primitiveMutablePk2();
+	}
+
+	/** maps to COMPLEX_MUTABLE_PK.OBJ_MUT_PK1 **/
+	public static StringAttribute<ComplexMutablePk> objMutablePk1()
+	{
+		return finder.objMutablePk1();
+	}
+
+	/** maps to COMPLEX_MUTABLE_PK.OBJ_MUT_PK2 **/
+	public static StringAttribute<ComplexMutablePk> objMutablePk2()
+	{
+		return finder.objMutablePk2();
+	}
+
+	public static Operation eq(ComplexMutablePk other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ComplexMutablePkSingleFinder<ComplexMutablePk, Object, ComplexMutablePk> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, primitiveMutablePk1()
+			, primitiveMutablePk2()
+			, objMutablePk1()
+			, objMutablePk2()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_PK_ALL_ITEMS = cache.addUniqueIndex("PK_ALL_ITEMS", new Attribute[] 
+		{
+			primitiveMutablePk1()
+			, primitiveMutablePk2()
+			, id()
+			, objMutablePk1()
+			, objMutablePk2()
+		}
+
+		);
+	}
+
+	public static int zGetIndexPK_ALL_ITEMSRef() 
+	{
+		return INDEX_PK_ALL_ITEMS; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		portal.setUseMultiUpdate(false);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		portal.setUseMultiUpdate(false);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ComplexMutablePk");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,483 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ContractAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private String accountId;
+	private char buySellInd;
+	private int contractId;
+	private String contractType;
+	private String counterParty;
+	private int productId;
+	private double quantity;
+	private double unitCost;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isContractIdNull()
+	{
+		return false;
+	}
+
+	public boolean isContractTypeNull()
+	{
+		return this.getContractType() == null;
+	}
+
+	public boolean isCounterPartyNull()
+	{
+		return this.getCounterParty() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isBuySellIndNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isUnitCostNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isQuantityNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeChar(this.buySellInd);
+		out.writeInt(this.contractId);
+		out.writeObject(this.contractType);
+		out.writeObject(this.counterParty);
+		out.writeInt(this.productId);
+		out.writeDouble(this.quantity);
+		out.writeDouble(this.unitCost);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ContractData data = new ContractData();
+		data.setAccountId(accountId);
+		data.setBuySellInd(buySellInd);
+		data.setContractId(contractId);
+		data.setContractType(contractType);
+		data.setCounterParty(counterParty);
+		data.setProductId(productId);
+		data.setQuantity(quantity);
+		data.setUnitCost(unitCost);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public Contract getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ContractAbstract copy = (ContractAbstract) ContractFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Contract)copy;
+	}
+
+	protected void zSetFromContractData(ContractData data)
+	{
+		this.setFromContractData(data);
+	}
+
+	public void setFromContractData(ContractData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		accountId = data.getAccountId();
+		buySellInd = data.getBuySellInd();
+		contractId = data.getContractId();
+		contractType = data.getContractType();
+		counterParty = data.getCounterParty();
+		productId = data.getProductId();
+		quantity = data.getQuantity();
+		unitCost = data.getUnitCost();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ContractFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromContractData((ContractData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public void setAccountId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, ContractFinder.isFullCache());
+	}
+
+	public char getBuySellInd()
+	{
+		if (isBuySellIndNull()) throwNullPrimitiveException("buySellInd");
+		return this.buySellInd;
+	}
+
+	public void setBuySellInd(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.buySellInd = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public int getContractId()
+	{
+		return this.contractId;
+	}
+
+	public void setContractId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.contractId = value;
+	}
+
+	public String getContractType()
+	{
+		return this.contractType;
+	}
+
+	public void setContractType(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.contractType = StringPool.getInstance().getOrAddToCache(value, ContractFinder.isFullCache());
+	}
+
+	public String getCounterParty()
+	{
+		return this.counterParty;
+	}
+
+	public void setCounterParty(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.counterParty = StringPool.getInstance().getOrAddToCache(value, ContractFinder.isFullCache());
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.productId = value;
+	}
+
+	public double getQuantity()
+	{
+		if (isQuantityNull()) throwNullPrimitiveException("quantity");
+		return this.quantity;
+	}
+
+	public void setQuantity(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.quantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public double getUnitCost()
+	{
+		if (isUnitCostNull()) throwNullPrimitiveException("unitCost");
+		return this.unitCost;
+	}
+
+	public void setUnitCost(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.unitCost = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setBuySellIndNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setUnitCostNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setQuantityNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.contractType = Underlier.contractType and
+	this.contractId = Underlier.contractId and this.productId = Underlier.productId and this.accountId = Underlier.accountId</pre>
+	* @see Underlier#getContract() reverse relationship Underlier.getContract()
+	* @return underliers
+	*/
+	public UnderlierList getUnderliers()
+	{
+		UnderlierList _result = null;
+		if (_relationships != null)
+		{
+			_result = (UnderlierList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new UnderlierList(zGetUnderliersOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setUnderliers(UnderlierList underliers)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = underliers;
+	}
+
+	public Operation zGetUnderliersOperation()
+	{
+		ContractAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(ContractFinder.underliers().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ContractData contractData = (ContractData) newData;
+		if (isNullBits0 != contractData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (buySellInd != contractData.getBuySellInd())
+		{
+			return true;
+		}
+
+		if (!isCounterPartyNull() ? !getCounterParty().equals(contractData.getCounterParty()) : !contractData.isCounterPartyNull())
+		{
+			return true;
+		}
+
+		if (quantity != contractData.getQuantity())
+		{
+			return true;
+		}
+
+		if (unitCost != contractData.getUnitCost())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+		result += "contractId: "+(""+getContractId())+ " / ";
+		result += "contractType: "+"'"+getContractType()+"'"+ " / ";
+		result += "productId: "+(""+getProductId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.accountId);
+			out.writeInt(this.contractId);
+			out.writeObject(this.contractType);
+			out.writeInt(this.productId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+			this.buySellInd = in.readChar();
+			this.contractId = in.readInt();
+			this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+			this.counterParty = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+			this.productId = in.readInt();
+			this.quantity = in.readDouble();
+			this.unitCost = in.readDouble();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+			this.contractId = in.readInt();
+			this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ContractFinder.isFullCache());
+			this.productId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ContractFinder.contractType().eq(this.getContractType());
+			op = op.and(ContractFinder.contractId().eq(this.getContractId()));
+			op = op.and(ContractFinder.accountId().eq(this.getAccountId()));
+			op = op.and(ContractFinder.productId().eq(this.getProductId()));
+			return ContractFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,120 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ContractListAbstract extends DelegatingList<Contract> implements MithraList<Contract>
+{
+	public ContractListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ContractListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ContractListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ContractListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Contract[] elements()
+	{
+		Contract[] result = new Contract[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ContractList intersection(ContractList another)
+	{
+		return (ContractList)super.intersection(another);
+	}
+
+	public Contract getContractAt(int index)
+	{
+		return (Contract)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.contractType = Underlier.contractType and
+	this.contractId = Underlier.contractId and this.productId = Underlier.productId and this.accountId = Underlier.accountId</pre>
+	* @see Underlier#getContract() reverse relationship Underlier.getContract()
+	* @return underliers
+	*/
+	public UnderlierList getUnderliers()
+	{
+		return (UnderlierList) this.getDelegated().resolveRelationship(this, ContractFinder.underliers());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ContractFinder.getMithraObjectPortal();
+	}
+
+	public ContractList getNonPersistentCopy()
+	{
+		ContractList result = new ContractList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ContractList asAdhoc()
+	{
+		return (ContractList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Contract> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,1133 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ControlDefinitionData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isControlCodeNull();
+	int getControlCode();
+	void setControlCode(int value);
+	void setControlCodeNull();
+	boolean isControlDescNull();
+	String getControlDesc();
+	void setControlDesc(String value);
+	void setControlDescNull();
+	int zGetControlDescAsInt();
+	boolean isControlShortDescNull();
+	String getControlShortDesc();
+	void setControlShortDesc(String value);
+	void setControlShortDescNull();
+	int zGetControlShortDescAsInt();
+	boolean isControlTypeNull();
+	String getControlType();
+	void setControlType(String value);
+	void setControlTypeNull();
+	int zGetControlTypeAsInt();
+	boolean isParentControlCodeNull();
+	int getParentControlCode();
+	void setParentControlCode(int value);
+	void setParentControlCodeNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isUpdateByNull();
+	String getUpdateBy();
+	void setUpdateBy(String value);
+	void setUpdateByNull();
+	int zGetUpdateByAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getListDefinitionMappings();
+	void setListDefinitionMappings(Object related);
+	public class ControlDefinitionDataOnHeap implements ControlDefinitionData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private int controlCode;
+		private String controlDesc;
+		private String controlShortDesc;
+		private String controlType;
+		private int parentControlCode;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private String updateBy;
+		public boolean isControlCodeNull()
+		{
+			return false;
+		}
+
+		public boolean isControlDescNull()
+		{
+			return this.getControlDesc() == null;
+		}
+
+		public boolean isControlShortDescNull()
+		{
+			return this.getControlShortDesc() == null;
+		}
+
+		public boolean isControlTypeNull()
+		{
+			return this.getControlType() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return this.getUpdateBy() == null;
+		}
+
+		public boolean isParentControlCodeNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.controlCode);
+			out.writeObject(this.controlDesc);
+			out.writeObject(this.controlShortDesc);
+			out.writeObject(this.controlType);
+			out.writeInt(this.parentControlCode);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ControlDefinitionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.updateBy);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getControlCode()
+		{
+			return this.controlCode;
+		}
+
+		public void setControlCode(int value)
+		{
+			this.controlCode = value;
+		}
+
+		public void setControlCodeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getControlDesc()
+		{
+			return this.controlDesc;
+		}
+
+		public int zGetControlDescAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(controlDesc);
+		}
+
+		public void setControlDesc(String value)
+		{
+			this.controlDesc = StringPool.getInstance().getOrAddToCache(value, ControlDefinitionFinder.isFullCache());
+		}
+
+		public void setControlDescNull()
+		{
+			this.setControlDesc(null);
+		}
+
+		public String getControlShortDesc()
+		{
+			return this.controlShortDesc;
+		}
+
+		public int zGetControlShortDescAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(controlShortDesc);
+		}
+
+		public void setControlShortDesc(String value)
+		{
+			this.controlShortDesc = StringPool.getInstance().getOrAddToCache(value, ControlDefinitionFinder.isFullCache());
+		}
+
+		public void setControlShortDescNull()
+		{
+			this.setControlShortDesc(null);
+		}
+
+		public String getControlType()
+		{
+			return this.controlType;
+		}
+
+		public int zGetControlTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(controlType);
+		}
+
+		public void setControlType(String value)
+		{
+			this.controlType = StringPool.getInstance().getOrAddToCache(value, ControlDefinitionFinder.isFullCache());
+		}
+
+		public void setControlTypeNull()
+		{
+			this.setControlType(null);
+		}
+
+		public int getParentControlCode()
+		{
+			return this.parentControlCode;
+		}
+
+		public void setParentControlCode(int value)
+		{
+			this.parentControlCode = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ControlDefinitionFinder.isFullCache(), ControlDefinitionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ControlDefinitionFinder.isFullCache(), ControlDefinitionFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUpdateBy()
+		{
+			return this.updateBy;
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(updateBy);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			this.updateBy = StringPool.getInstance().getOrAddToCache(value, ControlDefinitionFinder.isFullCache());
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setParentControlCodeNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ControlDefinitionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.controlCode = this.controlCode;
+			copy.controlDesc = this.controlDesc;
+			copy.controlShortDesc = this.controlShortDesc;
+			copy.controlType = this.controlType;
+			copy.parentControlCode = this.parentControlCode;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.updateBy = this.updateBy;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.controlCode = in.readInt();
+			this.controlDesc = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlDefinitionFinder.isFullCache());
+			this.controlShortDesc = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlDefinitionFinder.isFullCache());
+			this.controlType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlDefinitionFinder.isFullCache());
+			this.parentControlCode = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ControlDefinitionFinder.isFullCache(), ControlDefinitionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ControlDefinitionFinder.processingDate().getInfinityDate()), ControlDefinitionFinder.isFullCache(), ControlDefinitionFinder.isOffHeap());
+			this.updateBy = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ControlDefinitionFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ControlDefinitionData otherData = (ControlDefinitionData) other;
+			if (getControlCode() != otherData.getControlCode())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.controlCode);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, ControlDefinitionFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.controlCode = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ControlDefinitionFinder.isFullCache(), ControlDefinitionFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, ControlDefinitionFinder.processingDate().getInfinityDate()), ControlDefinitionFinder.isFullCache(), ControlDefinitionFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getListDefinitionMappings()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setListDefinitionMappings(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ControlDefinitionDataOffHeap data = new ControlDefinitionDataOffHeap();
+			data.setControlCode(this.getControlCode());
+			data.setControlDesc(this.getControlDesc());
+			data.setControlShortDesc(this.getControlShortDesc());
+			data.setControlType(this.getControlType());
+			data.setParentControlCode(this.getParentControlCode());
+			if (this.isParentControlCodeNull()) data.setParentControlCodeNull();
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setUpdateBy(this.getUpdateBy());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ControlDefinitionData controlDefinitionData = (ControlDefinitionData) newData;
+			this.setControlDesc(controlDefinitionData.getControlDesc());
+			this.setControlShortDesc(controlDefinitionData.getControlShortDesc());
+			this.setControlType(controlDefinitionData.getControlType());
+			this.setParentControlCode(controlDefinitionData.getParentControlCode());
+			if (controlDefinitionData.isParentControlCodeNull()) this.setParentControlCodeNull();
+			this.setProcessingDateFrom(controlDefinitionData.getProcessingDateFrom());
+			this.setProcessingDateTo(controlDefinitionData.getProcessingDateTo());
+			this.setUpdateBy(controlDefinitionData.getUpdateBy());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ControlDefinitionData other = (ControlDefinitionData) newData;
+			if (!isControlDescNull() ? !getControlDesc().equals(other.getControlDesc()) : !other.isControlDescNull())
+			{
+				return true;
+			}
+
+			if (!isControlShortDescNull() ? !getControlShortDesc().equals(other.getControlShortDesc()) : !other.isControlShortDescNull())
+			{
+				return true;
+			}
+
+			if (!isControlTypeNull() ? !getControlType().equals(other.getControlType()) : !other.isControlTypeNull())
+			{
+				return true;
+			}
+
+			if ( isParentControlCodeNull() != other.isParentControlCodeNull() || getParentControlCode() != other.getParentControlCode())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ControlDefinitionDataOnHeap copy = new ControlDefinitionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ControlDefinitionDataOnHeap copy = new ControlDefinitionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "controlCode: "+(""+getControlCode())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ControlDefinitionData otherData = (ControlDefinitionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ControlDefinitionData otherData = (ControlDefinitionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlDefinitionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ControlDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ControlDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlDefinitionData";
+		}
+	}
+
+	public class ControlDefinitionDataOffHeap extends MithraOffHeapDataObject implements ControlDefinitionData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ControlDefinitionDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 28);
+			this.zSetTimestamp(_storage, value, 36);
+		}
+
+		public ControlDefinitionDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isControlCodeNull()
+		{
+			return false;
+		}
+
+		public boolean isControlDescNull()
+		{
+			return zIsStringNull(_storage, 12);
+		}
+
+		public boolean isControlShortDescNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isControlTypeNull()
+		{
+			return zIsStringNull(_storage, 20);
+		}
+
+		public boolean isParentControlCodeNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 28);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 36);
+		}
+
+		public boolean isUpdateByNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getControlCode());
+			out.writeObject(this.getControlDesc());
+			out.writeObject(this.getControlShortDesc());
+			out.writeObject(this.getControlType());
+			out.writeInt(this.getParentControlCode());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ControlDefinitionFinder.processingDate().getInfinityDate());
+			out.writeObject(this.getUpdateBy());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isParentControlCodeNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getControlCode()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setControlCode(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setControlCodeNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getControlDesc()
+		{
+			return zGetString(_storage, 12);
+		}
+
+		public int zGetControlDescAsInt()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setControlDesc(String value)
+		{
+			zSetString(_storage, value, 12);
+		}
+
+		public void setControlDescNull()
+		{
+			this.setControlDesc(null);
+		}
+
+		public String getControlShortDesc()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetControlShortDescAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setControlShortDesc(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setControlShortDescNull()
+		{
+			this.setControlShortDesc(null);
+		}
+
+		public String getControlType()
+		{
+			return zGetString(_storage, 20);
+		}
+
+		public int zGetControlTypeAsInt()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setControlType(String value)
+		{
+			zSetString(_storage, value, 20);
+		}
+
+		public void setControlTypeNull()
+		{
+			this.setControlType(null);
+		}
+
+		public int getParentControlCode()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setParentControlCode(int value)
+		{
+			zSetInteger(_storage, value, 24, 4, 0);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 28);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 28);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 28);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 36);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 36);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 36);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getUpdateBy()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetUpdateByAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setUpdateBy(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setUpdateByNull()
+		{
+			this.setUpdateBy(null);
+		}
+
+		public void setParentControlCodeNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ControlDefinitionDataOnHeap copy, boolean withRelationships)
+		{
+			copy.controlCode = this.getControlCode();
+			copy.controlDesc = this.getControlDesc();
+			copy.controlShortDesc = this.getControlShortDesc();
+			copy.controlType = this.getControlType();
+			copy.parentControlCode = this.getParentControlCode();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.updateBy = this.getUpdateBy();
+			if (isParentControlCodeNull())
+			{
+				copy.setParentControlCodeNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 12);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetString(_storage, (String)in.readObject(), 20);
+			zSetInteger(_storage, in.readInt(), 24, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+			zSetString(_storage, (String)in.readObject(), 44);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ControlDefinitionDataOffHeap)
+			{
+				final ControlDefinitionDataOffHeap otherData = (ControlDefinitionDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ControlDefinitionData otherData = (ControlDefinitionData) other;
+			if (getControlCode() != otherData.getControlCode())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			out.writeInt(this.getControlCode());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ControlDefinitionFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 36);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getListDefinitionMappings()
+		{
+			return null;
+		}
+
+		public void setListDefinitionMappings(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ControlDefinitionData controlDefinitionData = (ControlDefinitionData) newData;
+			this.setControlDesc(controlDefinitionData.getControlDesc());
+			this.setControlShortDesc(controlDefinitionData.getControlShortDesc());
+			this.setControlType(controlDefinitionData.getControlType());
+			this.setParentControlCode(controlDefinitionData.getParentControlCode());
+			if (controlDefinitionData.isParentControlCodeNull()) this.setParentControlCodeNull();
+			this.setProcessingDateFrom(controlDefinitionData.getProcessingDateFrom());
+			this.setProcessingDateTo(controlDefinitionData.getProcessingDateTo());
+			this.setUpdateBy(controlDefinitionData.getUpdateBy());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ControlDefinitionData other = (ControlDefinitionData) newData;
+			if (!isControlDescNull() ? !getControlDesc().equals(other.getControlDesc()) : !other.isControlDescNull())
+			{
+				return true;
+			}
+
+			if (!isControlShortDescNull() ? !getControlShortDesc().equals(other.getControlShortDesc()) : !other.isControlShortDescNull())
+			{
+				return true;
+			}
+
+			if (!isControlTypeNull() ? !getControlType().equals(other.getControlType()) : !other.isControlTypeNull())
+			{
+				return true;
+			}
+
+			if ( isParentControlCodeNull() != other.isParentControlCodeNull() || getParentControlCode() != other.getParentControlCode())
+			{
+				return true;
+			}
+
+			if (!isUpdateByNull() ? !getUpdateBy().equals(other.getUpdateBy()) : !other.isUpdateByNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ControlDefinitionDataOnHeap copy = new ControlDefinitionDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ControlDefinitionDataOnHeap copy = new ControlDefinitionDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "controlCode: "+(""+getControlCode())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ControlDefinitionData otherData = (ControlDefinitionData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ControlDefinitionData otherData = (ControlDefinitionData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlDefinitionData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ControlDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ControlDefinitionFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ControlDefinitionData";
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ControlDefinitionListAbstract extends DelegatingList<ControlDefinition> implements MithraDatedTransactionalList<ControlDefinition>
+{
+	public ControlDefinitionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ControlDefinitionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ControlDefinitionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ControlDefinitionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ControlDefinition[] elements()
+	{
+		ControlDefinition[] result = new ControlDefinition[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ControlDefinitionList intersection(ControlDefinitionList another)
+	{
+		return (ControlDefinitionList)super.intersection(another);
+	}
+
+	public ControlDefinition getControlDefinitionAt(int index)
+	{
+		return (ControlDefinition)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ControlListDefinitionMapping.controlCode = this.controlCode</pre>
+	* @see ControlListDefinitionMapping#getControlDefinition() reverse relationship ControlListDefinitionMapping.getControlDefinition()
+	* @return list definition mappings
+	*/
+	public ControlListDefinitionMappingList getListDefinitionMappings()
+	{
+		return (ControlListDefinitionMappingList) this.getDelegated().resolveRelationship(this, ControlDefinitionFinder.listDefinitionMappings());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ControlDefinitionFinder.getMithraObjectPortal();
+	}
+
+	public ControlDefinitionList getNonPersistentCopy()
+	{
+		ControlDefinitionList result = new ControlDefinitionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ControlDefinitionList asAdhoc()
+	{
+		return (ControlDefinitionList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ControlDefinition> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ControlDefinitionList merge(MithraTransactionalList<ControlDefinition> incoming, TopLevelMergeOptions<ControlDefinition> mergeOptions)
+	{
+		return (ControlDefinitionList) super.merge(incoming, mergeOptions);
+	}
+
+	public ControlDefinitionList getDetachedCopy()
+	{
+		ControlDefinitionList result = new ControlDefinitionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setControlCode(int newValue)
+	{
+		zSetInteger(ControlDefinitionFinder.controlCode(), newValue);
+	}
+
+	public void setControlDesc(String newValue)
+	{
+		zSetString(ControlDefinitionFinder.controlDesc(), newValue);
+	}
+
+	public void setControlShortDesc(String newValue)
+	{
+		zSetString(ControlDefinitionFinder.controlShortDesc(), newValue);
+	}
+
+	public void setControlType(String newValue)
+	{
+		zSetString(ControlDefinitionFinder.controlType(), newValue);
+	}
+
+	public void setParentControlCode(int newValue)
+	{
+		zSetInteger(ControlDefinitionFinder.parentControlCode(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ControlDefinitionFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ControlDefinitionFinder.processingDateTo(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(ControlDefinitionFinder.updateBy(), newValue);
+	}
+
+	public void setParentControlCodeNull()
+	{
+		zSetAttributeNull(ControlDefinitionFinder.parentControlCode());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
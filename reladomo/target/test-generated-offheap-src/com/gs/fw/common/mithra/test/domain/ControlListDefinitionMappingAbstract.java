@@ -0,0 +1,808 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ControlListDefinitionMappingAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ControlListDefinitionMappingFinder.processingDate()
+	, ControlListDefinitionMappingFinder.zGetDoubleAttributes(),ControlListDefinitionMappingFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ControlListDefinitionMapping.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forcontrolDefinition = new ControlDefinitionRhs();
+	private static final RelationshipHashStrategy forlistDefinition = new ListDefinitionRhs();
+	private static final class ControlDefinitionRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ControlDefinitionFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ControlListDefinitionMapping _castedSrcObject = (ControlListDefinitionMapping) _srcObject;
+			ControlListDefinitionMappingData _castedSrcData = (ControlListDefinitionMappingData) _srcData;
+			ControlDefinitionData _castedTargetData = (ControlDefinitionData) _targetData;
+			if (_castedSrcData.getControlCode() == _castedTargetData.getControlCode())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ControlListDefinitionMappingData _castedSrcData = (ControlListDefinitionMappingData) _srcData;
+			return HashUtil.hash(_castedSrcData.getControlCode());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ListDefinitionRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ListDefinitionFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ControlListDefinitionMapping _castedSrcObject = (ControlListDefinitionMapping) _srcObject;
+			ControlListDefinitionMappingData _castedSrcData = (ControlListDefinitionMappingData) _srcData;
+			ListDefinitionData _castedTargetData = (ListDefinitionData) _targetData;
+			if (_castedSrcData.getListId()!= null && _castedSrcData.getListId().equals(_castedTargetData.getListId()))
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ControlListDefinitionMappingData _castedSrcData = (ControlListDefinitionMappingData) _srcData;
+			return HashUtil.hash(_castedSrcData.getListId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ControlListDefinitionMappingData _castedSrcData = (ControlListDefinitionMappingData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetListIdAsInt());
+		}
+	}
+
+	public ControlListDefinitionMappingAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ControlListDefinitionMappingFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ControlListDefinitionMappingData zSynchronizedGetData()
+	{
+		return (ControlListDefinitionMappingData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ControlListDefinitionMappingFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		if (behavior.isPersisted()) return;
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		if (_behavior.isPersisted()) return;
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ControlListDefinitionMapping zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		if (_behavior.isPersisted()) return (ControlListDefinitionMapping) this;
+		ControlListDefinitionMapping original = (ControlListDefinitionMapping) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ControlListDefinitionMappingFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ControlListDefinitionMapping getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ControlListDefinitionMappingAbstract result = (ControlListDefinitionMappingAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ControlListDefinitionMapping ) result;
+	}
+
+	public ControlListDefinitionMapping zFindOriginal()
+	{
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData) this.currentData;
+		Operation op;
+		op = ControlListDefinitionMappingFinder.listId().eq(data.getListId());
+		op = op.and(ControlListDefinitionMappingFinder.controlCode().eq(data.getControlCode()));
+		op = op.and(ControlListDefinitionMappingFinder.processingDate().eq(this.getProcessingDate()));
+		return ControlListDefinitionMappingFinder.findOne(op);
+	}
+
+	public ControlListDefinitionMapping getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ControlListDefinitionMappingAbstract result = (ControlListDefinitionMappingAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ControlListDefinitionMapping ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ControlListDefinitionMapping copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		if (behavior.isPersisted()) return (ControlListDefinitionMapping) this;
+		return (ControlListDefinitionMapping) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ControlListDefinitionMapping copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ControlListDefinitionMapping) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ControlListDefinitionMappingData data = (ControlListDefinitionMappingData) this.currentData;
+			Operation op = ControlListDefinitionMappingFinder.processingDate().eq(this.processingDate);
+			op = op.and(ControlListDefinitionMappingFinder.controlCode().eq(data.getControlCode()));
+			op = op.and(ControlListDefinitionMappingFinder.listId().eq(data.getListId()));
+			return ControlListDefinitionMappingFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isControlCodeNull()
+	{
+		return this.zSynchronizedGetData().isControlCodeNull();
+	}
+
+	public boolean isDefaultRestrictionLetterNull()
+	{
+		return this.zSynchronizedGetData().isDefaultRestrictionLetterNull();
+	}
+
+	public boolean isDefaultSeverityNull()
+	{
+		return this.zSynchronizedGetData().isDefaultSeverityNull();
+	}
+
+	public boolean isListIdNull()
+	{
+		return this.zSynchronizedGetData().isListIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public int getControlCode()
+	{
+		return this.zSynchronizedGetData().getControlCode();
+	}
+
+	public void setControlCode(int newValue)
+	{
+		zSetInteger(ControlListDefinitionMappingFinder.controlCode(), newValue, true ,false);
+	}
+
+	public String getDefaultRestrictionLetter()
+	{
+		return this.zSynchronizedGetData().getDefaultRestrictionLetter();
+	}
+
+	public void setDefaultRestrictionLetter(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'defaultRestrictionLetter' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(ControlListDefinitionMappingFinder.defaultRestrictionLetter(), newValue, false );
+	}
+
+	public int getDefaultSeverity()
+	{
+		ControlListDefinitionMappingData data = this.zSynchronizedGetData();
+		if (data.isDefaultSeverityNull()) MithraNullPrimitiveException.throwNew("defaultSeverity", data);
+		return data.getDefaultSeverity();
+	}
+
+	public void setDefaultSeverity(int newValue)
+	{
+		zSetInteger(ControlListDefinitionMappingFinder.defaultSeverity(), newValue, false ,true);
+	}
+
+	public String getListId()
+	{
+		return this.zSynchronizedGetData().getListId();
+	}
+
+	public void setListId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'listId' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(ControlListDefinitionMappingFinder.listId(), newValue, true );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ControlListDefinitionMappingFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ControlListDefinitionMappingFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(ControlListDefinitionMappingFinder.updateBy(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, ControlListDefinitionMappingFinder.defaultSeverity(), false, mustCheckCurrent);
+	}
+
+	public void setDefaultSeverityNull()
+	{
+		zNullify(ControlListDefinitionMappingFinder.defaultSeverity(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ControlListDefinitionMappingData _newData = (ControlListDefinitionMappingData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ControlListDefinitionMappingData _newData = (ControlListDefinitionMappingData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ControlListDefinitionMappingData _newData = (ControlListDefinitionMappingData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.controlCode = ControlDefinition.controlCode</pre>
+	* @see ControlDefinition#getListDefinitionMappings() reverse relationship ControlDefinition.getListDefinitionMappings()
+	* @return The control definition
+	*/
+	public ControlDefinition getControlDefinition()
+	{
+		ControlDefinition _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ControlListDefinitionMappingData _data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ControlDefinitionFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forcontrolDefinition,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (ControlDefinition) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ControlListDefinitionMappingFinder.controlDefinition().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getControlDefinition() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ControlDefinition) _data.getControlDefinition();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ControlListDefinitionMappingFinder.controlDefinition().zGetRelationshipMultiExtractor(), this);
+					_result = ControlDefinitionFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForWrite(this);
+				_data.setControlDefinition(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ControlDefinition) _data.getControlDefinition();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ControlListDefinitionMappingFinder.controlDefinition().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ControlDefinitionFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setControlDefinition(ControlDefinition controlDefinition)
+	{
+		ControlDefinition _controlDefinition = (ControlDefinition) controlDefinition;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlListDefinitionMappingData _data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getControlDefinition();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ControlDefinition)_prev).getListDefinitionMappings()).zMarkMoved( (ControlListDefinitionMapping) this);
+			}
+
+			_data.setControlDefinition(_controlDefinition);
+			_controlDefinition.getListDefinitionMappings().add((ControlListDefinitionMapping) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_controlDefinition == null)
+			{
+				this.setControlCode(0);
+			}
+			else
+			{
+				this.setControlCode(
+					_controlDefinition.getControlCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainercontrolDefinition(ControlDefinitionAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlListDefinitionMappingData _data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setControlDefinition(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ListDefinition.listId = this.listId</pre>
+	* @see ListDefinition#getControlDefinitionMappings() reverse relationship ListDefinition.getControlDefinitionMappings()
+	* @return The list definition
+	*/
+	public ListDefinition getListDefinition()
+	{
+		ListDefinition _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ControlListDefinitionMappingData _data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ListDefinitionFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forlistDefinition,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (ListDefinition) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ControlListDefinitionMappingFinder.listDefinition().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getListDefinition() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ListDefinition) _data.getListDefinition();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ControlListDefinitionMappingFinder.listDefinition().zGetRelationshipMultiExtractor(), this);
+					_result = ListDefinitionFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForWrite(this);
+				_data.setListDefinition(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ListDefinition) _data.getListDefinition();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ControlListDefinitionMappingFinder.listDefinition().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ListDefinitionFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setListDefinition(ListDefinition listDefinition)
+	{
+		ListDefinition _listDefinition = (ListDefinition) listDefinition;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlListDefinitionMappingData _data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getListDefinition();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ListDefinition)_prev).getControlDefinitionMappings()).zMarkMoved( (ControlListDefinitionMapping) this);
+			}
+
+			_data.setListDefinition(_listDefinition);
+			_listDefinition.getControlDefinitionMappings().add((ControlListDefinitionMapping) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_listDefinition == null)
+			{
+				this.setListId(null);
+			}
+			else
+			{
+				this.setListId(
+					_listDefinition.getListId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerlistDefinition(ListDefinitionAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ControlListDefinitionMappingData _data = (ControlListDefinitionMappingData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setListDefinition(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return ControlListDefinitionMappingFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ControlListDefinitionMappingData.ControlListDefinitionMappingDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData) ControlListDefinitionMappingFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ControlListDefinitionMapping has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromControlListDefinitionMappingData( ControlListDefinitionMappingData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromControlListDefinitionMappingData( ControlListDefinitionMappingData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ControlListDefinitionMappingFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ControlListDefinitionMappingFinder.getMithraObjectPortal();
+	}
+
+	public ControlListDefinitionMapping getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ControlListDefinitionMappingAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ControlListDefinitionMappingAbstract from = (ControlListDefinitionMappingAbstract) f;
+		ControlListDefinitionMappingData newData = from.zSynchronizedGetData();
+		this.setDefaultRestrictionLetter(newData.getDefaultRestrictionLetter());
+		if (from.isDefaultSeverityNull())
+		{
+			this.setDefaultSeverityNull();
+		}
+		else
+		{
+			this.setDefaultSeverity(newData.getDefaultSeverity());
+		}
+
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ControlListDefinitionMappingData newData = (ControlListDefinitionMappingData) d;
+		ControlListDefinitionMappingData data = (ControlListDefinitionMappingData) nd;
+		if (ControlListDefinitionMappingFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ControlListDefinitionMappingFinder.controlCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlListDefinitionMappingFinder.defaultRestrictionLetter(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ControlListDefinitionMappingFinder.defaultSeverity(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlListDefinitionMappingFinder.listId(), false);
+		changed |= zUpdateString(behavior, data, newData, ControlListDefinitionMappingFinder.updateBy(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ControlListDefinitionMappingData data = ((ControlListDefinitionMappingData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ControlListDefinitionMappingData data = ((ControlListDefinitionMappingData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ControlListDefinitionMappingData data = ((ControlListDefinitionMappingData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), ControlListDefinitionMappingFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ControlListDefinitionMappingData localData = (ControlListDefinitionMappingData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,750 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class DatedAccountAbstract
+implements MithraDatedObject, Serializable
+{
+	protected DatedAccountData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp businessDate;
+	protected Timestamp processingDate;
+	private static final RelationshipHashStrategy fordatedTrial = new DatedTrialRhs();
+	private static final RelationshipHashStrategy fordatedPnlGroup = new DatedPnlGroupRhs();
+	private static final class DatedTrialRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedTrialFinder.businessDate();
+		private AsOfAttribute processingDate = DatedTrialFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DatedAccount _castedSrcObject = (DatedAccount) _srcObject;
+			DatedAccountData _castedSrcData = (DatedAccountData) _srcData;
+			DatedTrialData _castedTargetData = (DatedTrialData) _targetData;
+			if (!_castedSrcData.isTrialIdNull() && _castedSrcData.getTrialId() == _castedTargetData.getId() && _castedSrcData.getDeskId()!= null && _castedSrcData.getDeskId().equals(_castedTargetData.getDeskId()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedAccountData _castedSrcData = (DatedAccountData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getTrialId(), _castedSrcData.isTrialIdNull()),HashUtil.hash(_castedSrcData.getDeskId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedAccountData _castedSrcData = (DatedAccountData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getTrialId(), _castedSrcData.isTrialIdNull()),HashUtil.offHeapHash(_castedSrcData.zGetDeskIdAsInt()));
+		}
+	}
+
+	private static final class DatedPnlGroupRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedPnlGroupFinder.businessDate();
+		private AsOfAttribute processingDate = DatedPnlGroupFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DatedAccount _castedSrcObject = (DatedAccount) _srcObject;
+			DatedAccountData _castedSrcData = (DatedAccountData) _srcData;
+			DatedPnlGroupData _castedTargetData = (DatedPnlGroupData) _targetData;
+			if (!_castedSrcData.isPnlGroupIdNull() && _castedSrcData.getPnlGroupId() == _castedTargetData.getId() && _castedSrcData.getDeskId()!= null && _castedSrcData.getDeskId().equals(_castedTargetData.getDeskId()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedAccountData _castedSrcData = (DatedAccountData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getPnlGroupId(), _castedSrcData.isPnlGroupIdNull()),HashUtil.hash(_castedSrcData.getDeskId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedAccountData _castedSrcData = (DatedAccountData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getPnlGroupId(), _castedSrcData.isPnlGroupIdNull()),HashUtil.offHeapHash(_castedSrcData.zGetDeskIdAsInt()));
+		}
+	}
+
+	public DatedAccountAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, DatedAccountFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedAccountFinder.isFullCache());
+	}
+
+	public DatedAccountAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromDatedAccountData( DatedAccountData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromDatedAccountData( DatedAccountData data )
+	{
+		this.setFromDatedAccountData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromDatedAccountData( (DatedAccountData) data );
+	}
+
+	public DatedAccount getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedAccountAbstract copy = (DatedAccountAbstract)
+		DatedAccountFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (DatedAccount)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedAccountData data = (DatedAccountData) DatedAccountFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedAccount has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedAccountFinder.getMithraObjectPortal().getCache();
+	}
+
+	public DatedAccountData zGetCurrentDataWithCheck()
+	{
+		DatedAccountData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private DatedAccountData zRefreshData(DatedAccountData current)
+	{
+		DatedAccountData newData = (DatedAccountData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("DatedAccount has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(DatedAccountData current)
+	{
+		boolean refresh = !DatedAccountFinder.businessDate().dataMatches(current, businessDate);
+		if (!refresh)
+		{
+			refresh = !DatedAccountFinder.processingDate().dataMatches(current, processingDate);
+		}
+
+		return refresh;
+	}
+
+	private DatedAccountData zGetOrInitializeInMemoryData()
+	{
+		DatedAccountData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new DatedAccountData.DatedAccountDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		DatedAccountData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			DatedAccountData newData = (DatedAccountData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateFromNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateFrom(newValue);
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateToNull();
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDateTo(newValue);
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDeskId(newValue);
+	}
+
+	public boolean isIdNull()
+	{
+		return this.currentData.isIdNull();
+	}
+
+	public int getId()
+	{
+		DatedAccountData data = this.currentData;
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setId(newValue);
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNameNull();
+	}
+
+	public String getName()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setName(newValue);
+	}
+
+	public boolean isPnlGroupIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isPnlGroupIdNull();
+	}
+
+	public int getPnlGroupId()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		if (data.isPnlGroupIdNull())
+		MithraNullPrimitiveException.throwNew("pnlGroupId", data);
+		return data.getPnlGroupId();
+	}
+
+	public void setPnlGroupId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPnlGroupId(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isTrialIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTrialIdNull();
+	}
+
+	public int getTrialId()
+	{
+		DatedAccountData data = this.zGetCurrentDataWithCheck();
+		if (data.isTrialIdNull())
+		MithraNullPrimitiveException.throwNew("trialId", data);
+		return data.getTrialId();
+	}
+
+	public void setTrialId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTrialId(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setTrialIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTrialIdNull();
+	}
+
+	public void setPnlGroupIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPnlGroupIdNull();
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedTrial.id = this.trialId</pre>
+	* @return The dated trial
+	*/
+	public DatedTrial getDatedTrial()
+	{
+		DatedAccountData _data = ((DatedAccountData)this.zGetCurrentDataWithCheck());
+		DatedTrial _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (DatedTrial) _data.getDatedTrial();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isTrialIdNull())
+			{
+				_portal = DatedTrialFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatedTrial,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (DatedTrial) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedAccountFinder.datedTrial().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = DatedTrialFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedPnlGroup.id = this.pnlGroupId</pre>
+	* @return The dated pnl group
+	*/
+	public DatedPnlGroup getDatedPnlGroup()
+	{
+		DatedAccountData _data = ((DatedAccountData)this.zGetCurrentDataWithCheck());
+		DatedPnlGroup _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (DatedPnlGroup) _data.getDatedPnlGroup();
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			Operation _op = null;
+			if (!_data.isPnlGroupIdNull())
+			{
+				_portal = DatedPnlGroupFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatedPnlGroup,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (DatedPnlGroup) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedAccountFinder.datedPnlGroup().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+
+			if (_op != null)
+			{
+				_result = DatedPnlGroupFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ExchangeRate.acmapCode = this.deskId and
+	ExchangeRate.currency="EUR" and ExchangeRate.date = this.businessDate</pre>
+	* @return The euro exchange rate
+	*/
+	public ExchangeRate getEuroExchangeRate()
+	{
+		DatedAccountData _data = ((DatedAccountData)this.zGetCurrentDataWithCheck());
+		ExchangeRate _result = null;
+		if (this.persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			_result = (ExchangeRate) _data.getEuroExchangeRate();
+		}
+
+		if (_result == null)
+		{
+			Operation _op = null;
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedAccountFinder.euroExchangeRate().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+
+			if (_op != null)
+			{
+				_result = ExchangeRateFinder.zFindOneForRelationship(_op);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setDatedTrial(DatedTrial datedTrial)
+	{
+		this.ensureSetAttributeAllowed();
+		DatedAccountData _data = this.zGetCurrentDataWithCheck();
+		_data.setDatedTrial(datedTrial);
+		if (datedTrial == null)
+		{
+			this.setTrialIdNull();
+			this.setDeskId(null);
+		}
+		else
+		{
+			this.setTrialId(
+				datedTrial.getId());
+			this.setDeskId(
+				datedTrial.getDeskId());
+		}
+	}
+
+	public void setDatedPnlGroup(DatedPnlGroup datedPnlGroup)
+	{
+		this.ensureSetAttributeAllowed();
+		DatedAccountData _data = this.zGetCurrentDataWithCheck();
+		_data.setDatedPnlGroup(datedPnlGroup);
+		if (datedPnlGroup == null)
+		{
+			this.setPnlGroupIdNull();
+			this.setDeskId(null);
+		}
+		else
+		{
+			this.setPnlGroupId(
+				datedPnlGroup.getId());
+			this.setDeskId(
+				datedPnlGroup.getDeskId());
+		}
+	}
+
+	public void setEuroExchangeRate(ExchangeRate euroExchangeRate)
+	{
+		this.ensureSetAttributeAllowed();
+		DatedAccountData _data = this.zGetCurrentDataWithCheck();
+		_data.setEuroExchangeRate(euroExchangeRate);
+		if (euroExchangeRate == null)
+		{
+			this.setDeskId(null);
+		}
+		else
+		{
+			this.setDeskId(
+				euroExchangeRate.getAcmapCode());
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedAccountData data = ((DatedAccountData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedAccountData data = ((DatedAccountData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new DatedAccountData.DatedAccountDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedAccountFinder.isFullCache());
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), DatedAccountFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = DatedAccountFinder.businessDate().eq(businessDate);
+			op = op.and(DatedAccountFinder.processingDate().eq(processingDate));
+			op = op.and(DatedAccountFinder.id().eq(currentData.getId()));
+			op = op.and(DatedAccountFinder.deskId().eq(currentData.getDeskId()));
+			return DatedAccountFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedAccountData localData = (DatedAccountData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedAccountFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,1284 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DatedAccountFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("deskId",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DatedAccount";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DatedAccount";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedAccount");
+	private static final DatedAccountSingleFinder<DatedAccount, Object, DatedAccount> finder = new DatedAccountSingleFinder<DatedAccount, Object, DatedAccount>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DatedAccountFinder.DatedAccountRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("trialId");
+		finderMethodMap.addNormalAttributeName("pnlGroupId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("deskId");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("datedTrial");
+		finderMethodMap.addRelationshipName("datedPnlGroup");
+		finderMethodMap.addRelationshipName("euroExchangeRate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[20];
+			result[0] = DatedAccountFinder.trialId().constructEqualityMapper(DatedTrialFinder.id());
+			result[1] = DatedTrialFinder.id().constructEqualityMapper(DatedAccountFinder.trialId());
+			result[2] = DatedAccountFinder.deskId().constructEqualityMapper(DatedTrialFinder.deskId());
+			result[3] = DatedTrialFinder.deskId().constructEqualityMapper(DatedAccountFinder.deskId());
+			result[4] = DatedAccountFinder.businessDate().constructEqualityMapper(DatedTrialFinder.businessDate());
+			result[5] = DatedTrialFinder.businessDate().constructEqualityMapper(DatedAccountFinder.businessDate());
+			result[6] = DatedAccountFinder.processingDate().constructEqualityMapper(DatedTrialFinder.processingDate());
+			result[7] = DatedTrialFinder.processingDate().constructEqualityMapper(DatedAccountFinder.processingDate());
+			result[8] = DatedAccountFinder.pnlGroupId().constructEqualityMapper(DatedPnlGroupFinder.id());
+			result[9] = DatedPnlGroupFinder.id().constructEqualityMapper(DatedAccountFinder.pnlGroupId());
+			result[10] = DatedAccountFinder.deskId().constructEqualityMapper(DatedPnlGroupFinder.deskId());
+			result[11] = DatedPnlGroupFinder.deskId().constructEqualityMapper(DatedAccountFinder.deskId());
+			result[12] = DatedAccountFinder.businessDate().constructEqualityMapper(DatedPnlGroupFinder.businessDate());
+			result[13] = DatedPnlGroupFinder.businessDate().constructEqualityMapper(DatedAccountFinder.businessDate());
+			result[14] = DatedAccountFinder.processingDate().constructEqualityMapper(DatedPnlGroupFinder.processingDate());
+			result[15] = DatedPnlGroupFinder.processingDate().constructEqualityMapper(DatedAccountFinder.processingDate());
+			result[16] = DatedAccountFinder.deskId().constructEqualityMapper(ExchangeRateFinder.acmapCode());
+			result[17] = ExchangeRateFinder.acmapCode().constructEqualityMapper(DatedAccountFinder.deskId());
+			result[18] = DatedAccountFinder.businessDate().constructEqualityMapper(ExchangeRateFinder.date());
+			result[19] = ExchangeRateFinder.date().constructEqualityMapper(DatedAccountFinder.businessDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return DatedAccountFinder.zSourceAttributeType;
+	}
+
+	public static DatedAccount findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DatedAccount findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DatedAccountList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedAccountList) finder.findMany(operation);
+	}
+
+	public static DatedAccountList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedAccountList) finder.findManyBypassCache(operation);
+	}
+
+	private static DatedAccount findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DatedAccount) FinderUtils.findOne(found);
+	}
+
+	public static DatedAccount findByPrimaryKey(int id, String deskId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, deskId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DatedAccountData _castedTargetData = (DatedAccountData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getO1AsString().equals(_castedTargetData.getDeskId()))
+			{
+				return DatedAccountFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && DatedAccountFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static DatedAccount zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DatedAccount) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DatedAccountRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DatedAccount, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return DatedAccountFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> trialId;
+		private IntegerAttribute<ParentOwnerType> pnlGroupId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private DatedAccountDatedTrialFinderSubclass<ParentOwnerType> datedTrial;
+		private DatedAccountDatedPnlGroupFinderSubclass<ParentOwnerType> datedPnlGroup;
+		private DatedAccountEuroExchangeRateFinderSubclass<ParentOwnerType> euroExchangeRate;
+		private StringAttribute<ParentOwnerType> deskId;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public DatedAccountRelatedFinder()
+		{
+			super();
+		}
+
+		public DatedAccountRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedAccountFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DatedAccountFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DatedAccountFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DatedAccountFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.trialId();
+			attributes[3] = this.pnlGroupId();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.datedTrial());
+				relatedFinders.add(this.datedPnlGroup());
+				relatedFinders.add(this.euroExchangeRate());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DatedAccount findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DatedAccountFinder.findOne(operation, false);
+		}
+
+		public DatedAccount findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DatedAccountFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DatedAccount> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DatedAccountList((Operation) operation);
+		}
+
+		public MithraList<? extends DatedAccount> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DatedAccountList result = (DatedAccountList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DatedAccount> constructEmptyList()
+		{
+			return new DatedAccountList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 2053971111;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return DatedAccountFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedAccountFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,32,-1,-1,15,true, false) :
+					new MappedStringAttribute(DatedAccountFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> trialId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.trialId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TRIAL_ID","","trialId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,56,4,1,false, false) :
+					new MappedIntegerAttribute(DatedAccountFinder.trialId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("datedTrial");
+				this.trialId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> pnlGroupId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.pnlGroupId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PNLGROUP_ID","","pnlGroupId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,false,36,4,0,false, false) :
+					new MappedIntegerAttribute(DatedAccountFinder.pnlGroupId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("datedPnlGroup");
+				this.pnlGroupId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedAccountFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAccountFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedAccountFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAccountFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedAccountFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAccountFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedAccountFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedAccountFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> deskId()
+		{
+			StringAttribute<ParentOwnerType> result = this.deskId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","deskId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(DatedAccountFinder.deskId(), this.mapper, this.zGetValueSelector());
+				this.deskId = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),DatedAccountFinder.businessDateInfinity,false,true,DatedAccountFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(DatedAccountFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),DatedAccountFinder.processingDateInfinity,false,true,DatedAccountFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(DatedAccountFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public DatedTrialFinder.DatedTrialSingleFinderForRelatedClasses<ParentOwnerType, DatedTrial, DatedAccount> datedTrial()
+		{
+			DatedAccountDatedTrialFinderSubclass<ParentOwnerType> result = this.datedTrial;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedAccountFinder.zGetDatedAccountDatedTrialReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedAccountDatedTrialFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedTrial = result;
+			}
+
+			return result;
+		}
+
+		public DatedPnlGroupFinder.DatedPnlGroupSingleFinderForRelatedClasses<ParentOwnerType, DatedPnlGroup, DatedAccount> datedPnlGroup()
+		{
+			DatedAccountDatedPnlGroupFinderSubclass<ParentOwnerType> result = this.datedPnlGroup;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedAccountFinder.zGetDatedAccountDatedPnlGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedAccountDatedPnlGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedPnlGroup = result;
+			}
+
+			return result;
+		}
+
+		public ExchangeRateFinder.ExchangeRateSingleFinderForRelatedClasses<ParentOwnerType, ExchangeRate, DatedAccount> euroExchangeRate()
+		{
+			DatedAccountEuroExchangeRateFinderSubclass<ParentOwnerType> result = this.euroExchangeRate;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedAccountFinder.zGetDatedAccountEuroExchangeRateReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedAccountEuroExchangeRateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.euroExchangeRate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return DatedAccountFinder.deskId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DatedAccountFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DatedAccountFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DatedAccountCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DatedAccountRelatedFinder<ParentOwnerType, ReturnType, DatedAccountList, OwnerType>
+	{
+		public DatedAccountCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DatedAccountCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DatedAccountCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedAccountCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DatedAccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DatedAccountRelatedFinder<ParentOwnerType, ReturnType, DatedAccountList, OwnerType>
+	implements ToOneFinder
+	{
+		public DatedAccountSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DatedAccountSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DatedAccount other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.deskId().eq(other.getDeskId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DatedAccount findByPrimaryKey(int id, String deskId, Timestamp businessDate, Timestamp processingDate)
+		{
+			DatedAccount _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (deskId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setO1(deskId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DatedAccount) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.deskId().eq(deskId)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DatedAccountSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DatedAccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedAccountSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper datedTrialReverseMapper = null;
+	public static Mapper zGetDatedAccountDatedTrialReverseMapper()
+	{
+		if (datedTrialReverseMapper == null)
+		{
+			datedTrialReverseMapper = zConstructDatedAccountDatedTrialReverseMapper();
+		}
+
+		return datedTrialReverseMapper;
+	}
+
+	private static Mapper datedTrialMapper = null;
+	public static Mapper zGetDatedAccountDatedTrialMapper()
+	{
+		if (datedTrialMapper == null)
+		{
+			datedTrialMapper = zConstructDatedAccountDatedTrialMapper();
+		}
+
+		return datedTrialMapper;
+	}
+
+	private static Mapper datedTrialPureReverseMapper = null;
+	public static Mapper zGetDatedAccountDatedTrialPureReverseMapper()
+	{
+		if (datedTrialPureReverseMapper == null)
+		{
+			datedTrialPureReverseMapper = zConstructDatedAccountDatedTrialPureReverseMapper();
+		}
+
+		return datedTrialPureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedAccountDatedTrialPureReverseMapper()
+	{
+		InternalList datedTrialMapperMapperList = new InternalList(4);
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(0));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(2));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(4));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(6));
+		Mapper datedTrialMapper = new MultiEqualityMapper(datedTrialMapperMapperList);
+		datedTrialMapper.setName("datedTrial");
+		return datedTrialMapper;
+	}
+
+	private static Mapper zConstructDatedAccountDatedTrialReverseMapper()
+	{
+		InternalList datedTrialMapperMapperList = new InternalList(4);
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(0));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(2));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(4));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(6));
+		Mapper datedTrialMapper = new MultiEqualityMapper(datedTrialMapperMapperList);
+		datedTrialMapper.setName("datedTrial");
+		return datedTrialMapper;
+	}
+
+	private static Mapper zConstructDatedAccountDatedTrialMapper()
+	{
+		InternalList datedTrialMapperMapperList = new InternalList(4);
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(1));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(3));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(5));
+		datedTrialMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(7));
+		Mapper datedTrialMapper = new MultiEqualityMapper(datedTrialMapperMapperList);
+		datedTrialMapper.setName("datedTrial_Reverse");
+		return datedTrialMapper;
+	}
+
+	private static Mapper datedPnlGroupReverseMapper = null;
+	public static Mapper zGetDatedAccountDatedPnlGroupReverseMapper()
+	{
+		if (datedPnlGroupReverseMapper == null)
+		{
+			datedPnlGroupReverseMapper = zConstructDatedAccountDatedPnlGroupReverseMapper();
+		}
+
+		return datedPnlGroupReverseMapper;
+	}
+
+	private static Mapper datedPnlGroupMapper = null;
+	public static Mapper zGetDatedAccountDatedPnlGroupMapper()
+	{
+		if (datedPnlGroupMapper == null)
+		{
+			datedPnlGroupMapper = zConstructDatedAccountDatedPnlGroupMapper();
+		}
+
+		return datedPnlGroupMapper;
+	}
+
+	private static Mapper datedPnlGroupPureReverseMapper = null;
+	public static Mapper zGetDatedAccountDatedPnlGroupPureReverseMapper()
+	{
+		if (datedPnlGroupPureReverseMapper == null)
+		{
+			datedPnlGroupPureReverseMapper = zConstructDatedAccountDatedPnlGroupPureReverseMapper();
+		}
+
+		return datedPnlGroupPureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedAccountDatedPnlGroupPureReverseMapper()
+	{
+		InternalList datedPnlGroupMapperMapperList = new InternalList(4);
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(8));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(10));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(12));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(14));
+		Mapper datedPnlGroupMapper = new MultiEqualityMapper(datedPnlGroupMapperMapperList);
+		datedPnlGroupMapper.setName("datedPnlGroup");
+		return datedPnlGroupMapper;
+	}
+
+	private static Mapper zConstructDatedAccountDatedPnlGroupReverseMapper()
+	{
+		InternalList datedPnlGroupMapperMapperList = new InternalList(4);
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(8));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(10));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(12));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(14));
+		Mapper datedPnlGroupMapper = new MultiEqualityMapper(datedPnlGroupMapperMapperList);
+		datedPnlGroupMapper.setName("datedPnlGroup");
+		return datedPnlGroupMapper;
+	}
+
+	private static Mapper zConstructDatedAccountDatedPnlGroupMapper()
+	{
+		InternalList datedPnlGroupMapperMapperList = new InternalList(4);
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(9));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(11));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(13));
+		datedPnlGroupMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(15));
+		Mapper datedPnlGroupMapper = new MultiEqualityMapper(datedPnlGroupMapperMapperList);
+		datedPnlGroupMapper.setName("datedPnlGroup_Reverse");
+		return datedPnlGroupMapper;
+	}
+
+	private static Mapper euroExchangeRateReverseMapper = null;
+	public static Mapper zGetDatedAccountEuroExchangeRateReverseMapper()
+	{
+		if (euroExchangeRateReverseMapper == null)
+		{
+			euroExchangeRateReverseMapper = zConstructDatedAccountEuroExchangeRateReverseMapper();
+		}
+
+		return euroExchangeRateReverseMapper;
+	}
+
+	private static Mapper euroExchangeRateMapper = null;
+	public static Mapper zGetDatedAccountEuroExchangeRateMapper()
+	{
+		if (euroExchangeRateMapper == null)
+		{
+			euroExchangeRateMapper = zConstructDatedAccountEuroExchangeRateMapper();
+		}
+
+		return euroExchangeRateMapper;
+	}
+
+	private static Mapper euroExchangeRatePureReverseMapper = null;
+	public static Mapper zGetDatedAccountEuroExchangeRatePureReverseMapper()
+	{
+		if (euroExchangeRatePureReverseMapper == null)
+		{
+			euroExchangeRatePureReverseMapper = zConstructDatedAccountEuroExchangeRatePureReverseMapper();
+		}
+
+		return euroExchangeRatePureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedAccountEuroExchangeRatePureReverseMapper()
+	{
+		InternalList euroExchangeRateMapperMapperList = new InternalList(2);
+		euroExchangeRateMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(16));
+		euroExchangeRateMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(18));
+		Mapper euroExchangeRateMapper = new MultiEqualityMapper(euroExchangeRateMapperMapperList);
+		euroExchangeRateMapper.setName("euroExchangeRate");
+		return euroExchangeRateMapper;
+	}
+
+	private static Mapper zConstructDatedAccountEuroExchangeRateReverseMapper()
+	{
+		InternalList euroExchangeRateMapperInnerMapperMapperList = new InternalList(2);
+		euroExchangeRateMapperInnerMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(16));
+		euroExchangeRateMapperInnerMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(18));
+		Mapper euroExchangeRateMapperInnerMapper = new MultiEqualityMapper(euroExchangeRateMapperInnerMapperMapperList);
+		Mapper euroExchangeRateMapper = new FilteredMapper(euroExchangeRateMapperInnerMapper, null, ExchangeRateFinder.zGetConstantOperation(0));
+		euroExchangeRateMapper.setName("euroExchangeRate");
+		return euroExchangeRateMapper;
+	}
+
+	private static Mapper zConstructDatedAccountEuroExchangeRateMapper()
+	{
+		InternalList euroExchangeRateMapperInnerMapperMapperList = new InternalList(2);
+		euroExchangeRateMapperInnerMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(17));
+		euroExchangeRateMapperInnerMapperMapperList.add(DatedAccountFinder.zGetConstantJoin(19));
+		Mapper euroExchangeRateMapperInnerMapper = new MultiEqualityMapper(euroExchangeRateMapperInnerMapperMapperList);
+		Mapper euroExchangeRateMapper = new FilteredMapper(euroExchangeRateMapperInnerMapper, ExchangeRateFinder.zGetConstantOperation(0), null);
+		euroExchangeRateMapper.setName("euroExchangeRate_Reverse");
+		return euroExchangeRateMapper;
+	}
+
+	/** maps to DATED_ACCOUNT.ID **/
+	public static IntegerAttribute<DatedAccount> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DATED_ACCOUNT.NAME **/
+	public static StringAttribute<DatedAccount> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to DATED_ACCOUNT.TRIAL_ID **/
+	public static IntegerAttribute<DatedAccount> trialId()
+	{
+		return finder.trialId();
+	}
+
+	/** maps to DATED_ACCOUNT.PNLGROUP_ID **/
+	public static IntegerAttribute<DatedAccount> pnlGroupId()
+	{
+		return finder.pnlGroupId();
+	}
+
+	/** maps to DATED_ACCOUNT.FROM_Z **/
+	public static TimestampAttribute<DatedAccount> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to DATED_ACCOUNT.THRU_Z **/
+	public static TimestampAttribute<DatedAccount> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to DATED_ACCOUNT.IN_Z **/
+	public static TimestampAttribute<DatedAccount> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to DATED_ACCOUNT.OUT_Z **/
+	public static TimestampAttribute<DatedAccount> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<DatedAccount> deskId()
+	{
+		return finder.deskId();
+	}
+
+	public static AsOfAttribute<DatedAccount> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<DatedAccount> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static DatedTrialFinder.DatedTrialSingleFinderForRelatedClasses<DatedAccount, DatedTrial, DatedAccount> datedTrial()
+	{
+		return finder.datedTrial();
+	}
+
+	public static class DatedAccountDatedTrialFinderSubclass<ParentOwnerType> extends DatedTrialFinder.DatedTrialSingleFinderForRelatedClasses<ParentOwnerType, DatedTrial, DatedAccount>
+	{
+		public DatedAccountDatedTrialFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedTrial";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				DatedTrialFinder.id(),
+				DatedTrialFinder.deskId(),
+				DatedTrialFinder.businessDate(),
+				DatedTrialFinder.processingDate()).withExtractors(
+				DatedAccountFinder.trialId(),
+				DatedAccountFinder.deskId(),
+				DatedAccountFinder.businessDate(),
+				DatedAccountFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedAccountDatedTrialFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedTrial plainValueOf(DatedAccount _obj)
+		{
+			return _obj.getDatedTrial();
+		}
+
+		protected DatedTrialList plainListValueOf(Object _obj)
+		{
+			return ((DatedAccountList)_obj).getDatedTrials();
+		}
+	}
+
+	public static DatedPnlGroupFinder.DatedPnlGroupSingleFinderForRelatedClasses<DatedAccount, DatedPnlGroup, DatedAccount> datedPnlGroup()
+	{
+		return finder.datedPnlGroup();
+	}
+
+	public static class DatedAccountDatedPnlGroupFinderSubclass<ParentOwnerType> extends DatedPnlGroupFinder.DatedPnlGroupSingleFinderForRelatedClasses<ParentOwnerType, DatedPnlGroup, DatedAccount>
+	{
+		public DatedAccountDatedPnlGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedPnlGroup";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				DatedPnlGroupFinder.id(),
+				DatedPnlGroupFinder.deskId(),
+				DatedPnlGroupFinder.businessDate(),
+				DatedPnlGroupFinder.processingDate()).withExtractors(
+				DatedAccountFinder.pnlGroupId(),
+				DatedAccountFinder.deskId(),
+				DatedAccountFinder.businessDate(),
+				DatedAccountFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedAccountDatedPnlGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedPnlGroup plainValueOf(DatedAccount _obj)
+		{
+			return _obj.getDatedPnlGroup();
+		}
+
+		protected DatedPnlGroupList plainListValueOf(Object _obj)
+		{
+			return ((DatedAccountList)_obj).getDatedPnlGroups();
+		}
+	}
+
+	public static ExchangeRateFinder.ExchangeRateSingleFinderForRelatedClasses<DatedAccount, ExchangeRate, DatedAccount> euroExchangeRate()
+	{
+		return finder.euroExchangeRate();
+	}
+
+	public static class DatedAccountEuroExchangeRateFinderSubclass<ParentOwnerType> extends ExchangeRateFinder.ExchangeRateSingleFinderForRelatedClasses<ParentOwnerType, ExchangeRate, DatedAccount>
+	{
+		public DatedAccountEuroExchangeRateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "euroExchangeRate";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ExchangeRateFinder.acmapCode(),
+				ExchangeRateFinder.currency(),
+				ExchangeRateFinder.date()).withExtractors(
+				DatedAccountFinder.deskId(),
+				((OperationWithParameterExtractor)ExchangeRateFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				DatedAccountFinder.businessDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedAccountEuroExchangeRateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ExchangeRate plainValueOf(DatedAccount _obj)
+		{
+			return _obj.getEuroExchangeRate();
+		}
+
+		protected ExchangeRateList plainListValueOf(Object _obj)
+		{
+			return ((DatedAccountList)_obj).getEuroExchangeRates();
+		}
+	}
+
+	public static Operation eq(DatedAccount other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static DatedAccountSingleFinder<DatedAccount, Object, DatedAccount> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, deskId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			deskId()
+			, trialId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			deskId()
+			, pnlGroupId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			deskId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ExchangeRateFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ExchangeRateFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedAccount");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String deskId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(deskId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> deskIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(deskIdSet, listener);
+	}
+}
@@ -0,0 +1,1381 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class DatedAllTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		DatedAllTypesFinder.businessDate()
+	,
+		DatedAllTypesFinder.processingDate()
+	, DatedAllTypesFinder.zGetDoubleAttributes(),DatedAllTypesFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(DatedAllTypes.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public DatedAllTypesAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, DatedAllTypesFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedAllTypesFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DatedAllTypesAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public DatedAllTypesData zSynchronizedGetData()
+	{
+		return (DatedAllTypesData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !DatedAllTypesFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !DatedAllTypesFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public DatedAllTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		DatedAllTypes original = (DatedAllTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public DatedAllTypes copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (DatedAllTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public DatedAllTypes copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (DatedAllTypes) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			DatedAllTypesFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public DatedAllTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedAllTypesAbstract result = (DatedAllTypesAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (DatedAllTypes ) result;
+	}
+
+	public DatedAllTypes zFindOriginal()
+	{
+		DatedAllTypesData data = (DatedAllTypesData) this.currentData;
+		Operation op;
+		op = DatedAllTypesFinder.id().eq(data.getId());
+		op = op.and(DatedAllTypesFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(DatedAllTypesFinder.processingDate().eq(this.getProcessingDate()));
+		return DatedAllTypesFinder.findOne(op);
+	}
+
+	public DatedAllTypes getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedAllTypesAbstract result = (DatedAllTypesAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (DatedAllTypes ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public DatedAllTypes copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (DatedAllTypes) behavior.updateOriginalOrInsert(this);
+	}
+
+	public DatedAllTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DatedAllTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			DatedAllTypesData data = (DatedAllTypesData) this.currentData;
+			Operation op = DatedAllTypesFinder.businessDate().eq(this.businessDate);
+			op = op.and(DatedAllTypesFinder.processingDate().eq(this.processingDate));
+			op = op.and(DatedAllTypesFinder.id().eq(data.getId()));
+			return DatedAllTypesFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		DatedAllTypesData data = (DatedAllTypesData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && DatedAllTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		DatedAllTypesData data = (DatedAllTypesData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return this.zSynchronizedGetData().isBooleanValueNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isByteArrayValueNull()
+	{
+		return this.zSynchronizedGetData().isByteArrayValueNull();
+	}
+
+	public boolean isByteValueNull()
+	{
+		return this.zSynchronizedGetData().isByteValueNull();
+	}
+
+	public boolean isCharValueNull()
+	{
+		return this.zSynchronizedGetData().isCharValueNull();
+	}
+
+	public boolean isDateValueNull()
+	{
+		return this.zSynchronizedGetData().isDateValueNull();
+	}
+
+	public boolean isDoubleValueNull()
+	{
+		return this.zSynchronizedGetData().isDoubleValueNull();
+	}
+
+	public boolean isFloatValueNull()
+	{
+		return this.zSynchronizedGetData().isFloatValueNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isIntValueNull()
+	{
+		return this.zSynchronizedGetData().isIntValueNull();
+	}
+
+	public boolean isLongValueNull()
+	{
+		return this.zSynchronizedGetData().isLongValueNull();
+	}
+
+	public boolean isNullableByteArrayValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableByteArrayValueNull();
+	}
+
+	public boolean isNullableByteValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableByteValueNull();
+	}
+
+	public boolean isNullableCharValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableCharValueNull();
+	}
+
+	public boolean isNullableDateValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableDateValueNull();
+	}
+
+	public boolean isNullableDoubleValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableDoubleValueNull();
+	}
+
+	public boolean isNullableFloatValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableFloatValueNull();
+	}
+
+	public boolean isNullableIntValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableIntValueNull();
+	}
+
+	public boolean isNullableLongValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableLongValueNull();
+	}
+
+	public boolean isNullableShortValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableShortValueNull();
+	}
+
+	public boolean isNullableStringValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableStringValueNull();
+	}
+
+	public boolean isNullableTimeValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableTimeValueNull();
+	}
+
+	public boolean isNullableTimestampValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableTimestampValueNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isShortValueNull()
+	{
+		return this.zSynchronizedGetData().isShortValueNull();
+	}
+
+	public boolean isStringValueNull()
+	{
+		return this.zSynchronizedGetData().isStringValueNull();
+	}
+
+	public boolean isTimeValueNull()
+	{
+		return this.zSynchronizedGetData().isTimeValueNull();
+	}
+
+	public boolean isTimestampValueNull()
+	{
+		return this.zSynchronizedGetData().isTimestampValueNull();
+	}
+
+	public boolean isBooleanValue()
+	{
+		return this.zSynchronizedGetData().isBooleanValue();
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(DatedAllTypesFinder.booleanValue(), newValue, false ,false);
+	}
+
+	public void setBooleanValueUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(DatedAllTypesFinder.booleanValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.businessDateTo(), newValue, false );
+	}
+
+	public byte[] getByteArrayValue()
+	{
+		return this.zSynchronizedGetData().getByteArrayValue();
+	}
+
+	public void setByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesFinder.byteArrayValue(), newValue, false );
+	}
+
+	public void setByteArrayValueUntil(byte[] newValue, Timestamp exclusiveUntil)
+	{
+		zSetByteArray(DatedAllTypesFinder.byteArrayValue(), newValue, false , exclusiveUntil);
+	}
+
+	public byte getByteValue()
+	{
+		return this.zSynchronizedGetData().getByteValue();
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesFinder.byteValue(), newValue, false ,false);
+	}
+
+	public void setByteValueUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(DatedAllTypesFinder.byteValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public char getCharValue()
+	{
+		return this.zSynchronizedGetData().getCharValue();
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesFinder.charValue(), newValue, false ,false);
+	}
+
+	public void setCharValueUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(DatedAllTypesFinder.charValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public Date getDateValue()
+	{
+		return this.zSynchronizedGetData().getDateValue();
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesFinder.dateValue(), newValue, false );
+	}
+
+	public void setDateValueUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(DatedAllTypesFinder.dateValue(), newValue, false , exclusiveUntil);
+	}
+
+	public double getDoubleValue()
+	{
+		return this.zSynchronizedGetData().getDoubleValue();
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesFinder.doubleValue(), newValue, false ,false);
+	}
+
+	public void setDoubleValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedAllTypesFinder.doubleValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public void incrementDoubleValue(double increment)
+	{
+		zIncrement(increment, DatedAllTypesFinder.doubleValue(), false);
+	}
+
+	public void incrementDoubleValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedAllTypesFinder.doubleValue(), false);
+	}
+
+	public float getFloatValue()
+	{
+		return this.zSynchronizedGetData().getFloatValue();
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesFinder.floatValue(), newValue, false ,false);
+	}
+
+	public void setFloatValueUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(DatedAllTypesFinder.floatValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DatedAllTypesFinder.id(), newValue, true ,false);
+	}
+
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedAllTypesFinder.id(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getIntValue()
+	{
+		return this.zSynchronizedGetData().getIntValue();
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesFinder.intValue(), newValue, false ,false);
+	}
+
+	public void setIntValueUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedAllTypesFinder.intValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public long getLongValue()
+	{
+		return this.zSynchronizedGetData().getLongValue();
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesFinder.longValue(), newValue, false ,false);
+	}
+
+	public void setLongValueUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(DatedAllTypesFinder.longValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public byte[] getNullableByteArrayValue()
+	{
+		return this.zSynchronizedGetData().getNullableByteArrayValue();
+	}
+
+	public void setNullableByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesFinder.nullableByteArrayValue(), newValue, false );
+	}
+
+	public void setNullableByteArrayValueUntil(byte[] newValue, Timestamp exclusiveUntil)
+	{
+		zSetByteArray(DatedAllTypesFinder.nullableByteArrayValue(), newValue, false , exclusiveUntil);
+	}
+
+	public byte getNullableByteValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableByteValueNull()) MithraNullPrimitiveException.throwNew("nullableByteValue", data);
+		return data.getNullableByteValue();
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesFinder.nullableByteValue(), newValue, false ,true);
+	}
+
+	public void setNullableByteValueUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(DatedAllTypesFinder.nullableByteValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public char getNullableCharValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableCharValueNull()) MithraNullPrimitiveException.throwNew("nullableCharValue", data);
+		return data.getNullableCharValue();
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesFinder.nullableCharValue(), newValue, false ,true);
+	}
+
+	public void setNullableCharValueUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(DatedAllTypesFinder.nullableCharValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Date getNullableDateValue()
+	{
+		return this.zSynchronizedGetData().getNullableDateValue();
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesFinder.nullableDateValue(), newValue, false );
+	}
+
+	public void setNullableDateValueUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(DatedAllTypesFinder.nullableDateValue(), newValue, false , exclusiveUntil);
+	}
+
+	public double getNullableDoubleValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableDoubleValueNull()) MithraNullPrimitiveException.throwNew("nullableDoubleValue", data);
+		return data.getNullableDoubleValue();
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesFinder.nullableDoubleValue(), newValue, false ,true);
+	}
+
+	public void setNullableDoubleValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedAllTypesFinder.nullableDoubleValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementNullableDoubleValue(double increment)
+	{
+		zIncrement(increment, DatedAllTypesFinder.nullableDoubleValue(), false);
+	}
+
+	public void incrementNullableDoubleValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedAllTypesFinder.nullableDoubleValue(), false);
+	}
+
+	public float getNullableFloatValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableFloatValueNull()) MithraNullPrimitiveException.throwNew("nullableFloatValue", data);
+		return data.getNullableFloatValue();
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesFinder.nullableFloatValue(), newValue, false ,true);
+	}
+
+	public void setNullableFloatValueUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(DatedAllTypesFinder.nullableFloatValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getNullableIntValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableIntValueNull()) MithraNullPrimitiveException.throwNew("nullableIntValue", data);
+		return data.getNullableIntValue();
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesFinder.nullableIntValue(), newValue, false ,true);
+	}
+
+	public void setNullableIntValueUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedAllTypesFinder.nullableIntValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public long getNullableLongValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableLongValueNull()) MithraNullPrimitiveException.throwNew("nullableLongValue", data);
+		return data.getNullableLongValue();
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesFinder.nullableLongValue(), newValue, false ,true);
+	}
+
+	public void setNullableLongValueUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(DatedAllTypesFinder.nullableLongValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public short getNullableShortValue()
+	{
+		DatedAllTypesData data = this.zSynchronizedGetData();
+		if (data.isNullableShortValueNull()) MithraNullPrimitiveException.throwNew("nullableShortValue", data);
+		return data.getNullableShortValue();
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesFinder.nullableShortValue(), newValue, false ,true);
+	}
+
+	public void setNullableShortValueUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(DatedAllTypesFinder.nullableShortValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getNullableStringValue()
+	{
+		return this.zSynchronizedGetData().getNullableStringValue();
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesFinder.nullableStringValue(), newValue, false );
+	}
+
+	public void setNullableStringValueUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesFinder.nullableStringValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Time getNullableTimeValue()
+	{
+		return this.zSynchronizedGetData().getNullableTimeValue();
+	}
+
+	public void setNullableTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesFinder.nullableTimeValue(), newValue, false );
+	}
+
+	public void setNullableTimeValueUntil(Time newValue, Timestamp exclusiveUntil)
+	{
+		zSetTime(DatedAllTypesFinder.nullableTimeValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getNullableTimestampValue()
+	{
+		return this.zSynchronizedGetData().getNullableTimestampValue();
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.nullableTimestampValue(), newValue, false );
+	}
+
+	public void setNullableTimestampValueUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(DatedAllTypesFinder.nullableTimestampValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.processingDateTo(), newValue, false );
+	}
+
+	public short getShortValue()
+	{
+		return this.zSynchronizedGetData().getShortValue();
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesFinder.shortValue(), newValue, false ,false);
+	}
+
+	public void setShortValueUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(DatedAllTypesFinder.shortValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public String getStringValue()
+	{
+		return this.zSynchronizedGetData().getStringValue();
+	}
+
+	public void setStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesFinder.stringValue(), newValue, false );
+	}
+
+	public void setStringValueUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesFinder.stringValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Time getTimeValue()
+	{
+		return this.zSynchronizedGetData().getTimeValue();
+	}
+
+	public void setTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesFinder.timeValue(), newValue, false );
+	}
+
+	public void setTimeValueUntil(Time newValue, Timestamp exclusiveUntil)
+	{
+		zSetTime(DatedAllTypesFinder.timeValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getTimestampValue()
+	{
+		return this.zSynchronizedGetData().getTimestampValue();
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesFinder.timestampValue(), newValue, false );
+	}
+
+	public void setTimestampValueUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(DatedAllTypesFinder.timestampValue(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, DatedAllTypesFinder.nullableByteValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesFinder.nullableShortValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesFinder.nullableCharValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesFinder.nullableIntValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesFinder.nullableLongValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesFinder.nullableFloatValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesFinder.nullableDoubleValue(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		DatedAllTypesData data2 = (DatedAllTypesData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && DatedAllTypesFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableByteValue(), false);
+	}
+
+	public void setNullableByteValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableByteValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableShortValue(), false);
+	}
+
+	public void setNullableShortValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableShortValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableCharValue(), false);
+	}
+
+	public void setNullableCharValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableCharValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableIntValue(), false);
+	}
+
+	public void setNullableIntValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableIntValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableLongValue(), false);
+	}
+
+	public void setNullableLongValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableLongValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableFloatValue(), false);
+	}
+
+	public void setNullableFloatValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableFloatValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zNullify(DatedAllTypesFinder.nullableDoubleValue(), false);
+	}
+
+	public void setNullableDoubleValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesFinder.nullableDoubleValue(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DatedAllTypesData _newData = (DatedAllTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		DatedAllTypesData _newData = (DatedAllTypesData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		DatedAllTypesData _newData = (DatedAllTypesData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedAllTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DatedAllTypesData();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedAllTypesData data = (DatedAllTypesData) DatedAllTypesFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedAllTypes has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromDatedAllTypesData( DatedAllTypesData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromDatedAllTypesData( DatedAllTypesData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) DatedAllTypesFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedAllTypesFinder.getMithraObjectPortal();
+	}
+
+	public DatedAllTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(DatedAllTypesAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedAllTypesAbstract from = (DatedAllTypesAbstract) f;
+		DatedAllTypesData newData = from.zSynchronizedGetData();
+		this.setBooleanValue(newData.isBooleanValue());
+		this.setByteArrayValue(newData.getByteArrayValue());
+		this.setByteValue(newData.getByteValue());
+		this.setCharValue(newData.getCharValue());
+		this.setDateValue(newData.getDateValue());
+		this.setDoubleValue(newData.getDoubleValue());
+		this.setFloatValue(newData.getFloatValue());
+		this.setIntValue(newData.getIntValue());
+		this.setLongValue(newData.getLongValue());
+		this.setNullableByteArrayValue(newData.getNullableByteArrayValue());
+		if (from.isNullableByteValueNull())
+		{
+			this.setNullableByteValueNull();
+		}
+		else
+		{
+			this.setNullableByteValue(newData.getNullableByteValue());
+		}
+
+		if (from.isNullableCharValueNull())
+		{
+			this.setNullableCharValueNull();
+		}
+		else
+		{
+			this.setNullableCharValue(newData.getNullableCharValue());
+		}
+
+		this.setNullableDateValue(newData.getNullableDateValue());
+		if (from.isNullableDoubleValueNull())
+		{
+			this.setNullableDoubleValueNull();
+		}
+		else
+		{
+			this.setNullableDoubleValue(newData.getNullableDoubleValue());
+		}
+
+		if (from.isNullableFloatValueNull())
+		{
+			this.setNullableFloatValueNull();
+		}
+		else
+		{
+			this.setNullableFloatValue(newData.getNullableFloatValue());
+		}
+
+		if (from.isNullableIntValueNull())
+		{
+			this.setNullableIntValueNull();
+		}
+		else
+		{
+			this.setNullableIntValue(newData.getNullableIntValue());
+		}
+
+		if (from.isNullableLongValueNull())
+		{
+			this.setNullableLongValueNull();
+		}
+		else
+		{
+			this.setNullableLongValue(newData.getNullableLongValue());
+		}
+
+		if (from.isNullableShortValueNull())
+		{
+			this.setNullableShortValueNull();
+		}
+		else
+		{
+			this.setNullableShortValue(newData.getNullableShortValue());
+		}
+
+		this.setNullableStringValue(newData.getNullableStringValue());
+		this.setNullableTimeValue(newData.getNullableTimeValue());
+		this.setNullableTimestampValue(newData.getNullableTimestampValue());
+		this.setShortValue(newData.getShortValue());
+		this.setStringValue(newData.getStringValue());
+		this.setTimeValue(newData.getTimeValue());
+		this.setTimestampValue(newData.getTimestampValue());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedAllTypesData _newData = (DatedAllTypesData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedAllTypesData _newData = (DatedAllTypesData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(DatedAllTypesAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedAllTypesAbstract from = (DatedAllTypesAbstract)f;
+		DatedAllTypesData newData = from.zSynchronizedGetData();
+		this.setBooleanValueUntil(newData.isBooleanValue(), exclusiveUntil);
+		this.setByteArrayValueUntil(newData.getByteArrayValue(), exclusiveUntil);
+		this.setByteValueUntil(newData.getByteValue(), exclusiveUntil);
+		this.setCharValueUntil(newData.getCharValue(), exclusiveUntil);
+		this.setDateValueUntil(newData.getDateValue(), exclusiveUntil);
+		this.setDoubleValueUntil(newData.getDoubleValue(), exclusiveUntil);
+		this.setFloatValueUntil(newData.getFloatValue(), exclusiveUntil);
+		this.setIntValueUntil(newData.getIntValue(), exclusiveUntil);
+		this.setLongValueUntil(newData.getLongValue(), exclusiveUntil);
+		this.setNullableByteArrayValueUntil(newData.getNullableByteArrayValue(), exclusiveUntil);
+		if (from.isNullableByteValueNull())
+		{
+			this.setNullableByteValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableByteValueUntil(newData.getNullableByteValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableCharValueNull())
+		{
+			this.setNullableCharValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableCharValueUntil(newData.getNullableCharValue(), exclusiveUntil);
+		}
+
+		this.setNullableDateValueUntil(newData.getNullableDateValue(), exclusiveUntil);
+		if (from.isNullableDoubleValueNull())
+		{
+			this.setNullableDoubleValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableDoubleValueUntil(newData.getNullableDoubleValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableFloatValueNull())
+		{
+			this.setNullableFloatValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableFloatValueUntil(newData.getNullableFloatValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableIntValueNull())
+		{
+			this.setNullableIntValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableIntValueUntil(newData.getNullableIntValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableLongValueNull())
+		{
+			this.setNullableLongValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableLongValueUntil(newData.getNullableLongValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableShortValueNull())
+		{
+			this.setNullableShortValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableShortValueUntil(newData.getNullableShortValue(), exclusiveUntil);
+		}
+
+		this.setNullableStringValueUntil(newData.getNullableStringValue(), exclusiveUntil);
+		this.setNullableTimeValueUntil(newData.getNullableTimeValue(), exclusiveUntil);
+		this.setNullableTimestampValueUntil(newData.getNullableTimestampValue(), exclusiveUntil);
+		this.setShortValueUntil(newData.getShortValue(), exclusiveUntil);
+		this.setStringValueUntil(newData.getStringValue(), exclusiveUntil);
+		this.setTimeValueUntil(newData.getTimeValue(), exclusiveUntil);
+		this.setTimestampValueUntil(newData.getTimestampValue(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		DatedAllTypesData newData = (DatedAllTypesData) d;
+		DatedAllTypesData data = (DatedAllTypesData) nd;
+		if (DatedAllTypesFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, DatedAllTypesFinder.booleanValue(), false);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesFinder.byteArrayValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesFinder.byteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesFinder.charValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesFinder.dateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesFinder.doubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesFinder.floatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesFinder.intValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesFinder.longValue(), false);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesFinder.nullableByteArrayValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesFinder.nullableByteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesFinder.nullableCharValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesFinder.nullableDateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesFinder.nullableDoubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesFinder.nullableFloatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesFinder.nullableIntValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesFinder.nullableLongValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesFinder.nullableShortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesFinder.nullableStringValue(), false);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesFinder.nullableTimeValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesFinder.nullableTimestampValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesFinder.shortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesFinder.stringValue(), false);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesFinder.timeValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesFinder.timestampValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, DatedAllTypesFinder.booleanValue(), false, until);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesFinder.byteArrayValue(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesFinder.byteValue(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesFinder.charValue(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesFinder.dateValue(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesFinder.doubleValue(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesFinder.floatValue(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesFinder.id(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesFinder.intValue(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesFinder.longValue(), false, until);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesFinder.nullableByteArrayValue(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesFinder.nullableByteValue(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesFinder.nullableCharValue(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesFinder.nullableDateValue(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesFinder.nullableDoubleValue(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesFinder.nullableFloatValue(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesFinder.nullableIntValue(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesFinder.nullableLongValue(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesFinder.nullableShortValue(), false, until);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesFinder.nullableStringValue(), false, until);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesFinder.nullableTimeValue(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesFinder.nullableTimestampValue(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesFinder.shortValue(), false, until);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesFinder.stringValue(), false, until);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesFinder.timeValue(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesFinder.timestampValue(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedAllTypesData data = ((DatedAllTypesData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedAllTypesData data = ((DatedAllTypesData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		DatedAllTypesData data = ((DatedAllTypesData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), DatedAllTypesFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), DatedAllTypesFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedAllTypesData localData = (DatedAllTypesData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1496 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class DatedAllTypesNullAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		DatedAllTypesNullFinder.businessDate()
+	,
+		DatedAllTypesNullFinder.processingDate()
+	, DatedAllTypesNullFinder.zGetDoubleAttributes(),DatedAllTypesNullFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(DatedAllTypesNull.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrelated = new RelatedRhs();
+	private static final class RelatedRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = DatedAllTypesNullFinder.businessDate();
+		private AsOfAttribute processingDate = DatedAllTypesNullFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DatedAllTypesNull _castedSrcObject = (DatedAllTypesNull) _srcObject;
+			DatedAllTypesNullData _castedSrcData = (DatedAllTypesNullData) _srcData;
+			DatedAllTypesNullData _castedTargetData = (DatedAllTypesNullData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DatedAllTypesNullData _castedSrcData = (DatedAllTypesNullData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public DatedAllTypesNullAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, DatedAllTypesNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, DatedAllTypesNullFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DatedAllTypesNullAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public DatedAllTypesNullData zSynchronizedGetData()
+	{
+		return (DatedAllTypesNullData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !DatedAllTypesNullFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !DatedAllTypesNullFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public DatedAllTypesNull zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		DatedAllTypesNull original = (DatedAllTypesNull) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public DatedAllTypesNull copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (DatedAllTypesNull) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public DatedAllTypesNull copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (DatedAllTypesNull) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			this.processingDate == null || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public DatedAllTypesNull getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedAllTypesNullAbstract result = (DatedAllTypesNullAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (DatedAllTypesNull ) result;
+	}
+
+	public DatedAllTypesNull zFindOriginal()
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData) this.currentData;
+		Operation op;
+		op = DatedAllTypesNullFinder.id().eq(data.getId());
+		op = op.and(DatedAllTypesNullFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(DatedAllTypesNullFinder.processingDate().eq(this.getProcessingDate()));
+		return DatedAllTypesNullFinder.findOne(op);
+	}
+
+	public DatedAllTypesNull getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		DatedAllTypesNullAbstract result = (DatedAllTypesNullAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (DatedAllTypesNull ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public DatedAllTypesNull copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (DatedAllTypesNull) behavior.updateOriginalOrInsert(this);
+	}
+
+	public DatedAllTypesNull copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DatedAllTypesNull) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			DatedAllTypesNullData data = (DatedAllTypesNullData) this.currentData;
+			Operation op = DatedAllTypesNullFinder.businessDate().eq(this.businessDate);
+			op = op.and(DatedAllTypesNullFinder.processingDate().eq(this.processingDate));
+			op = op.and(DatedAllTypesNullFinder.id().eq(data.getId()));
+			return DatedAllTypesNullFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && DatedAllTypesNullFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBooleanValueNull()
+	{
+		return this.zSynchronizedGetData().isBooleanValueNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isByteArrayValueNull()
+	{
+		return this.zSynchronizedGetData().isByteArrayValueNull();
+	}
+
+	public boolean isByteValueNull()
+	{
+		return this.zSynchronizedGetData().isByteValueNull();
+	}
+
+	public boolean isCharValueNull()
+	{
+		return this.zSynchronizedGetData().isCharValueNull();
+	}
+
+	public boolean isDateValueNull()
+	{
+		return this.zSynchronizedGetData().isDateValueNull();
+	}
+
+	public boolean isDoubleValueNull()
+	{
+		return this.zSynchronizedGetData().isDoubleValueNull();
+	}
+
+	public boolean isFloatValueNull()
+	{
+		return this.zSynchronizedGetData().isFloatValueNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isIntValueNull()
+	{
+		return this.zSynchronizedGetData().isIntValueNull();
+	}
+
+	public boolean isLongValueNull()
+	{
+		return this.zSynchronizedGetData().isLongValueNull();
+	}
+
+	public boolean isNullableByteArrayValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableByteArrayValueNull();
+	}
+
+	public boolean isNullableByteValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableByteValueNull();
+	}
+
+	public boolean isNullableCharValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableCharValueNull();
+	}
+
+	public boolean isNullableDateValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableDateValueNull();
+	}
+
+	public boolean isNullableDoubleValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableDoubleValueNull();
+	}
+
+	public boolean isNullableFloatValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableFloatValueNull();
+	}
+
+	public boolean isNullableIntValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableIntValueNull();
+	}
+
+	public boolean isNullableLongValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableLongValueNull();
+	}
+
+	public boolean isNullableShortValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableShortValueNull();
+	}
+
+	public boolean isNullableStringValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableStringValueNull();
+	}
+
+	public boolean isNullableTimeValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableTimeValueNull();
+	}
+
+	public boolean isNullableTimestampValueNull()
+	{
+		return this.zSynchronizedGetData().isNullableTimestampValueNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isShortValueNull()
+	{
+		return this.zSynchronizedGetData().isShortValueNull();
+	}
+
+	public boolean isStringValueNull()
+	{
+		return this.zSynchronizedGetData().isStringValueNull();
+	}
+
+	public boolean isTimeValueNull()
+	{
+		return this.zSynchronizedGetData().isTimeValueNull();
+	}
+
+	public boolean isTimestampValueNull()
+	{
+		return this.zSynchronizedGetData().isTimestampValueNull();
+	}
+
+	public boolean isBooleanValue()
+	{
+		return this.zSynchronizedGetData().isBooleanValue();
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(DatedAllTypesNullFinder.booleanValue(), newValue, false ,false);
+	}
+
+	public void setBooleanValueUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(DatedAllTypesNullFinder.booleanValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.businessDateTo(), newValue, false );
+	}
+
+	public byte[] getByteArrayValue()
+	{
+		return this.zSynchronizedGetData().getByteArrayValue();
+	}
+
+	public void setByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesNullFinder.byteArrayValue(), newValue, false );
+	}
+
+	public void setByteArrayValueUntil(byte[] newValue, Timestamp exclusiveUntil)
+	{
+		zSetByteArray(DatedAllTypesNullFinder.byteArrayValue(), newValue, false , exclusiveUntil);
+	}
+
+	public byte getByteValue()
+	{
+		return this.zSynchronizedGetData().getByteValue();
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesNullFinder.byteValue(), newValue, false ,false);
+	}
+
+	public void setByteValueUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(DatedAllTypesNullFinder.byteValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public char getCharValue()
+	{
+		return this.zSynchronizedGetData().getCharValue();
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesNullFinder.charValue(), newValue, false ,false);
+	}
+
+	public void setCharValueUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(DatedAllTypesNullFinder.charValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public Date getDateValue()
+	{
+		return this.zSynchronizedGetData().getDateValue();
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesNullFinder.dateValue(), newValue, false );
+	}
+
+	public void setDateValueUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(DatedAllTypesNullFinder.dateValue(), newValue, false , exclusiveUntil);
+	}
+
+	public double getDoubleValue()
+	{
+		return this.zSynchronizedGetData().getDoubleValue();
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesNullFinder.doubleValue(), newValue, false ,false);
+	}
+
+	public void setDoubleValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedAllTypesNullFinder.doubleValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public void incrementDoubleValue(double increment)
+	{
+		zIncrement(increment, DatedAllTypesNullFinder.doubleValue(), false);
+	}
+
+	public void incrementDoubleValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedAllTypesNullFinder.doubleValue(), false);
+	}
+
+	public float getFloatValue()
+	{
+		return this.zSynchronizedGetData().getFloatValue();
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesNullFinder.floatValue(), newValue, false ,false);
+	}
+
+	public void setFloatValueUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(DatedAllTypesNullFinder.floatValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DatedAllTypesNullFinder.id(), newValue, true ,false);
+	}
+
+	public void setIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedAllTypesNullFinder.id(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getIntValue()
+	{
+		return this.zSynchronizedGetData().getIntValue();
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesNullFinder.intValue(), newValue, false ,false);
+	}
+
+	public void setIntValueUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedAllTypesNullFinder.intValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public long getLongValue()
+	{
+		return this.zSynchronizedGetData().getLongValue();
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesNullFinder.longValue(), newValue, false ,false);
+	}
+
+	public void setLongValueUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(DatedAllTypesNullFinder.longValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public byte[] getNullableByteArrayValue()
+	{
+		return this.zSynchronizedGetData().getNullableByteArrayValue();
+	}
+
+	public void setNullableByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesNullFinder.nullableByteArrayValue(), newValue, false );
+	}
+
+	public void setNullableByteArrayValueUntil(byte[] newValue, Timestamp exclusiveUntil)
+	{
+		zSetByteArray(DatedAllTypesNullFinder.nullableByteArrayValue(), newValue, false , exclusiveUntil);
+	}
+
+	public byte getNullableByteValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableByteValueNull()) MithraNullPrimitiveException.throwNew("nullableByteValue", data);
+		return data.getNullableByteValue();
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesNullFinder.nullableByteValue(), newValue, false ,true);
+	}
+
+	public void setNullableByteValueUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(DatedAllTypesNullFinder.nullableByteValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public char getNullableCharValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableCharValueNull()) MithraNullPrimitiveException.throwNew("nullableCharValue", data);
+		return data.getNullableCharValue();
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesNullFinder.nullableCharValue(), newValue, false ,true);
+	}
+
+	public void setNullableCharValueUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(DatedAllTypesNullFinder.nullableCharValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Date getNullableDateValue()
+	{
+		return this.zSynchronizedGetData().getNullableDateValue();
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesNullFinder.nullableDateValue(), newValue, false );
+	}
+
+	public void setNullableDateValueUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(DatedAllTypesNullFinder.nullableDateValue(), newValue, false , exclusiveUntil);
+	}
+
+	public double getNullableDoubleValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableDoubleValueNull()) MithraNullPrimitiveException.throwNew("nullableDoubleValue", data);
+		return data.getNullableDoubleValue();
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesNullFinder.nullableDoubleValue(), newValue, false ,true);
+	}
+
+	public void setNullableDoubleValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(DatedAllTypesNullFinder.nullableDoubleValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementNullableDoubleValue(double increment)
+	{
+		zIncrement(increment, DatedAllTypesNullFinder.nullableDoubleValue(), false);
+	}
+
+	public void incrementNullableDoubleValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, DatedAllTypesNullFinder.nullableDoubleValue(), false);
+	}
+
+	public float getNullableFloatValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableFloatValueNull()) MithraNullPrimitiveException.throwNew("nullableFloatValue", data);
+		return data.getNullableFloatValue();
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesNullFinder.nullableFloatValue(), newValue, false ,true);
+	}
+
+	public void setNullableFloatValueUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(DatedAllTypesNullFinder.nullableFloatValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getNullableIntValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableIntValueNull()) MithraNullPrimitiveException.throwNew("nullableIntValue", data);
+		return data.getNullableIntValue();
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesNullFinder.nullableIntValue(), newValue, false ,true);
+	}
+
+	public void setNullableIntValueUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(DatedAllTypesNullFinder.nullableIntValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public long getNullableLongValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableLongValueNull()) MithraNullPrimitiveException.throwNew("nullableLongValue", data);
+		return data.getNullableLongValue();
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesNullFinder.nullableLongValue(), newValue, false ,true);
+	}
+
+	public void setNullableLongValueUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(DatedAllTypesNullFinder.nullableLongValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public short getNullableShortValue()
+	{
+		DatedAllTypesNullData data = this.zSynchronizedGetData();
+		if (data.isNullableShortValueNull()) MithraNullPrimitiveException.throwNew("nullableShortValue", data);
+		return data.getNullableShortValue();
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesNullFinder.nullableShortValue(), newValue, false ,true);
+	}
+
+	public void setNullableShortValueUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(DatedAllTypesNullFinder.nullableShortValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getNullableStringValue()
+	{
+		return this.zSynchronizedGetData().getNullableStringValue();
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesNullFinder.nullableStringValue(), newValue, false );
+	}
+
+	public void setNullableStringValueUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesNullFinder.nullableStringValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Time getNullableTimeValue()
+	{
+		return this.zSynchronizedGetData().getNullableTimeValue();
+	}
+
+	public void setNullableTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesNullFinder.nullableTimeValue(), newValue, false );
+	}
+
+	public void setNullableTimeValueUntil(Time newValue, Timestamp exclusiveUntil)
+	{
+		zSetTime(DatedAllTypesNullFinder.nullableTimeValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getNullableTimestampValue()
+	{
+		return this.zSynchronizedGetData().getNullableTimestampValue();
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.nullableTimestampValue(), newValue, false );
+	}
+
+	public void setNullableTimestampValueUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.nullableTimestampValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.processingDateTo(), newValue, false );
+	}
+
+	public short getShortValue()
+	{
+		return this.zSynchronizedGetData().getShortValue();
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesNullFinder.shortValue(), newValue, false ,false);
+	}
+
+	public void setShortValueUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(DatedAllTypesNullFinder.shortValue(), newValue, false , exclusiveUntil,false);
+	}
+
+	public String getStringValue()
+	{
+		return this.zSynchronizedGetData().getStringValue();
+	}
+
+	public void setStringValue(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesNullFinder.stringValue(), newValue, false );
+	}
+
+	public void setStringValueUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		{
+			newValue = newValue.substring(0, 50 ).trim();
+		}
+
+		zSetString(DatedAllTypesNullFinder.stringValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Time getTimeValue()
+	{
+		return this.zSynchronizedGetData().getTimeValue();
+	}
+
+	public void setTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesNullFinder.timeValue(), newValue, false );
+	}
+
+	public void setTimeValueUntil(Time newValue, Timestamp exclusiveUntil)
+	{
+		zSetTime(DatedAllTypesNullFinder.timeValue(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getTimestampValue()
+	{
+		return this.zSynchronizedGetData().getTimestampValue();
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.timestampValue(), newValue, false );
+	}
+
+	public void setTimestampValueUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.timestampValue(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableByteValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableShortValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableCharValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableIntValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableLongValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableFloatValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, DatedAllTypesNullFinder.nullableDoubleValue(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		DatedAllTypesNullData data2 = (DatedAllTypesNullData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && DatedAllTypesNullFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableByteValue(), false);
+	}
+
+	public void setNullableByteValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableByteValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableShortValue(), false);
+	}
+
+	public void setNullableShortValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableShortValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableCharValue(), false);
+	}
+
+	public void setNullableCharValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableCharValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableIntValue(), false);
+	}
+
+	public void setNullableIntValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableIntValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableLongValue(), false);
+	}
+
+	public void setNullableLongValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableLongValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableFloatValue(), false);
+	}
+
+	public void setNullableFloatValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableFloatValue(), false, exclusiveUntil);
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zNullify(DatedAllTypesNullFinder.nullableDoubleValue(), false);
+	}
+
+	public void setNullableDoubleValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(DatedAllTypesNullFinder.nullableDoubleValue(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DatedAllTypesNullData _newData = (DatedAllTypesNullData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		DatedAllTypesNullData _newData = (DatedAllTypesNullData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		DatedAllTypesNullData _newData = (DatedAllTypesNullData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedAllTypesNull.id</pre>
+	* @return The related
+	*/
+	public DatedAllTypesNull getRelated()
+	{
+		DatedAllTypesNull _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		DatedAllTypesNullData _data = (DatedAllTypesNullData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = DatedAllTypesNullFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrelated,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (DatedAllTypesNull) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedAllTypesNullFinder.related().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(DatedAllTypesNullFinder.related().zGetRelationshipMultiExtractor(), this);
+					_result = DatedAllTypesNullFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DatedAllTypesNull) _data.getRelated();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(DatedAllTypesNullFinder.related().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DatedAllTypesNullFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRelated(DatedAllTypesNull related)
+	{
+		DatedAllTypesNull _related = (DatedAllTypesNull) related;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		DatedAllTypesNullData _data = (DatedAllTypesNullData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRelated(_related);
+			if (_related == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_related.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_related == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_related.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return DatedAllTypesNullFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DatedAllTypesNullData();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		DatedAllTypesNullData data = (DatedAllTypesNullData) DatedAllTypesNullFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("DatedAllTypesNull has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromDatedAllTypesNullData( DatedAllTypesNullData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromDatedAllTypesNullData( DatedAllTypesNullData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) DatedAllTypesNullFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DatedAllTypesNullFinder.getMithraObjectPortal();
+	}
+
+	public DatedAllTypesNull getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(DatedAllTypesNullAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedAllTypesNullAbstract from = (DatedAllTypesNullAbstract) f;
+		DatedAllTypesNullData newData = from.zSynchronizedGetData();
+		this.setBooleanValue(newData.isBooleanValue());
+		this.setByteArrayValue(newData.getByteArrayValue());
+		this.setByteValue(newData.getByteValue());
+		this.setCharValue(newData.getCharValue());
+		this.setDateValue(newData.getDateValue());
+		this.setDoubleValue(newData.getDoubleValue());
+		this.setFloatValue(newData.getFloatValue());
+		this.setIntValue(newData.getIntValue());
+		this.setLongValue(newData.getLongValue());
+		this.setNullableByteArrayValue(newData.getNullableByteArrayValue());
+		if (from.isNullableByteValueNull())
+		{
+			this.setNullableByteValueNull();
+		}
+		else
+		{
+			this.setNullableByteValue(newData.getNullableByteValue());
+		}
+
+		if (from.isNullableCharValueNull())
+		{
+			this.setNullableCharValueNull();
+		}
+		else
+		{
+			this.setNullableCharValue(newData.getNullableCharValue());
+		}
+
+		this.setNullableDateValue(newData.getNullableDateValue());
+		if (from.isNullableDoubleValueNull())
+		{
+			this.setNullableDoubleValueNull();
+		}
+		else
+		{
+			this.setNullableDoubleValue(newData.getNullableDoubleValue());
+		}
+
+		if (from.isNullableFloatValueNull())
+		{
+			this.setNullableFloatValueNull();
+		}
+		else
+		{
+			this.setNullableFloatValue(newData.getNullableFloatValue());
+		}
+
+		if (from.isNullableIntValueNull())
+		{
+			this.setNullableIntValueNull();
+		}
+		else
+		{
+			this.setNullableIntValue(newData.getNullableIntValue());
+		}
+
+		if (from.isNullableLongValueNull())
+		{
+			this.setNullableLongValueNull();
+		}
+		else
+		{
+			this.setNullableLongValue(newData.getNullableLongValue());
+		}
+
+		if (from.isNullableShortValueNull())
+		{
+			this.setNullableShortValueNull();
+		}
+		else
+		{
+			this.setNullableShortValue(newData.getNullableShortValue());
+		}
+
+		this.setNullableStringValue(newData.getNullableStringValue());
+		this.setNullableTimeValue(newData.getNullableTimeValue());
+		this.setNullableTimestampValue(newData.getNullableTimestampValue());
+		this.setShortValue(newData.getShortValue());
+		this.setStringValue(newData.getStringValue());
+		this.setTimeValue(newData.getTimeValue());
+		this.setTimestampValue(newData.getTimestampValue());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedAllTypesNullData _newData = (DatedAllTypesNullData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		DatedAllTypesNullData _newData = (DatedAllTypesNullData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(DatedAllTypesNullAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		DatedAllTypesNullAbstract from = (DatedAllTypesNullAbstract)f;
+		DatedAllTypesNullData newData = from.zSynchronizedGetData();
+		this.setBooleanValueUntil(newData.isBooleanValue(), exclusiveUntil);
+		this.setByteArrayValueUntil(newData.getByteArrayValue(), exclusiveUntil);
+		this.setByteValueUntil(newData.getByteValue(), exclusiveUntil);
+		this.setCharValueUntil(newData.getCharValue(), exclusiveUntil);
+		this.setDateValueUntil(newData.getDateValue(), exclusiveUntil);
+		this.setDoubleValueUntil(newData.getDoubleValue(), exclusiveUntil);
+		this.setFloatValueUntil(newData.getFloatValue(), exclusiveUntil);
+		this.setIntValueUntil(newData.getIntValue(), exclusiveUntil);
+		this.setLongValueUntil(newData.getLongValue(), exclusiveUntil);
+		this.setNullableByteArrayValueUntil(newData.getNullableByteArrayValue(), exclusiveUntil);
+		if (from.isNullableByteValueNull())
+		{
+			this.setNullableByteValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableByteValueUntil(newData.getNullableByteValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableCharValueNull())
+		{
+			this.setNullableCharValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableCharValueUntil(newData.getNullableCharValue(), exclusiveUntil);
+		}
+
+		this.setNullableDateValueUntil(newData.getNullableDateValue(), exclusiveUntil);
+		if (from.isNullableDoubleValueNull())
+		{
+			this.setNullableDoubleValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableDoubleValueUntil(newData.getNullableDoubleValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableFloatValueNull())
+		{
+			this.setNullableFloatValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableFloatValueUntil(newData.getNullableFloatValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableIntValueNull())
+		{
+			this.setNullableIntValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableIntValueUntil(newData.getNullableIntValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableLongValueNull())
+		{
+			this.setNullableLongValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableLongValueUntil(newData.getNullableLongValue(), exclusiveUntil);
+		}
+
+		if (from.isNullableShortValueNull())
+		{
+			this.setNullableShortValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setNullableShortValueUntil(newData.getNullableShortValue(), exclusiveUntil);
+		}
+
+		this.setNullableStringValueUntil(newData.getNullableStringValue(), exclusiveUntil);
+		this.setNullableTimeValueUntil(newData.getNullableTimeValue(), exclusiveUntil);
+		this.setNullableTimestampValueUntil(newData.getNullableTimestampValue(), exclusiveUntil);
+		this.setShortValueUntil(newData.getShortValue(), exclusiveUntil);
+		this.setStringValueUntil(newData.getStringValue(), exclusiveUntil);
+		this.setTimeValueUntil(newData.getTimeValue(), exclusiveUntil);
+		this.setTimestampValueUntil(newData.getTimestampValue(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		DatedAllTypesNullData newData = (DatedAllTypesNullData) d;
+		DatedAllTypesNullData data = (DatedAllTypesNullData) nd;
+		if (DatedAllTypesNullFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, DatedAllTypesNullFinder.booleanValue(), false);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesNullFinder.byteArrayValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesNullFinder.byteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesNullFinder.charValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesNullFinder.dateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesNullFinder.doubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesNullFinder.floatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesNullFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesNullFinder.intValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesNullFinder.longValue(), false);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesNullFinder.nullableByteArrayValue(), false);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesNullFinder.nullableByteValue(), false);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesNullFinder.nullableCharValue(), false);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesNullFinder.nullableDateValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesNullFinder.nullableDoubleValue(), false);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesNullFinder.nullableFloatValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesNullFinder.nullableIntValue(), false);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesNullFinder.nullableLongValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesNullFinder.nullableShortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesNullFinder.nullableStringValue(), false);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesNullFinder.nullableTimeValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesNullFinder.nullableTimestampValue(), false);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesNullFinder.shortValue(), false);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesNullFinder.stringValue(), false);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesNullFinder.timeValue(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesNullFinder.timestampValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, DatedAllTypesNullFinder.booleanValue(), false, until);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesNullFinder.byteArrayValue(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesNullFinder.byteValue(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesNullFinder.charValue(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesNullFinder.dateValue(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesNullFinder.doubleValue(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesNullFinder.floatValue(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesNullFinder.id(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesNullFinder.intValue(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesNullFinder.longValue(), false, until);
+		changed |= zUpdateByteArray(behavior, data, newData, DatedAllTypesNullFinder.nullableByteArrayValue(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, DatedAllTypesNullFinder.nullableByteValue(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, DatedAllTypesNullFinder.nullableCharValue(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, DatedAllTypesNullFinder.nullableDateValue(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, DatedAllTypesNullFinder.nullableDoubleValue(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, DatedAllTypesNullFinder.nullableFloatValue(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, DatedAllTypesNullFinder.nullableIntValue(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, DatedAllTypesNullFinder.nullableLongValue(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesNullFinder.nullableShortValue(), false, until);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesNullFinder.nullableStringValue(), false, until);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesNullFinder.nullableTimeValue(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesNullFinder.nullableTimestampValue(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, DatedAllTypesNullFinder.shortValue(), false, until);
+		changed |= zUpdateString(behavior, data, newData, DatedAllTypesNullFinder.stringValue(), false, until);
+		changed |= zUpdateTime(behavior, data, newData, DatedAllTypesNullFinder.timeValue(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, DatedAllTypesNullFinder.timestampValue(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		DatedAllTypesNullData data = ((DatedAllTypesNullData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		DatedAllTypesNullData data = ((DatedAllTypesNullData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		DatedAllTypesNullData data = ((DatedAllTypesNullData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), DatedAllTypesNullFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), DatedAllTypesNullFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		DatedAllTypesNullData localData = (DatedAllTypesNullData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
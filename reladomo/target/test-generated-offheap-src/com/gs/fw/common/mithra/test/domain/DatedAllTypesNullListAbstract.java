@@ -0,0 +1,330 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedAllTypesNullListAbstract extends DelegatingList<DatedAllTypesNull> implements MithraDatedTransactionalList<DatedAllTypesNull>
+{
+	public DatedAllTypesNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedAllTypesNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedAllTypesNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedAllTypesNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DatedAllTypesNull[] elements()
+	{
+		DatedAllTypesNull[] result = new DatedAllTypesNull[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedAllTypesNullList intersection(DatedAllTypesNullList another)
+	{
+		return (DatedAllTypesNullList)super.intersection(another);
+	}
+
+	public DatedAllTypesNull getDatedAllTypesNullAt(int index)
+	{
+		return (DatedAllTypesNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedAllTypesNull.id</pre>
+	* @return The related
+	*/
+	public DatedAllTypesNullList getRelateds()
+	{
+		return (DatedAllTypesNullList) this.getDelegated().resolveRelationship(this, DatedAllTypesNullFinder.related());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedAllTypesNullFinder.getMithraObjectPortal();
+	}
+
+	public DatedAllTypesNullList getNonPersistentCopy()
+	{
+		DatedAllTypesNullList result = new DatedAllTypesNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedAllTypesNullList asAdhoc()
+	{
+		return (DatedAllTypesNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DatedAllTypesNull> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public DatedAllTypesNullList merge(MithraTransactionalList<DatedAllTypesNull> incoming, TopLevelMergeOptions<DatedAllTypesNull> mergeOptions)
+	{
+		return (DatedAllTypesNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public DatedAllTypesNullList getDetachedCopy()
+	{
+		DatedAllTypesNullList result = new DatedAllTypesNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanValue(boolean newValue)
+	{
+		zSetBoolean(DatedAllTypesNullFinder.booleanValue(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesNullFinder.byteArrayValue(), newValue);
+	}
+
+	public void setByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesNullFinder.byteValue(), newValue);
+	}
+
+	public void setCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesNullFinder.charValue(), newValue);
+	}
+
+	public void setDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesNullFinder.dateValue(), newValue);
+	}
+
+	public void setDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesNullFinder.doubleValue(), newValue);
+	}
+
+	public void setFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesNullFinder.floatValue(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DatedAllTypesNullFinder.id(), newValue);
+	}
+
+	public void setIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesNullFinder.intValue(), newValue);
+	}
+
+	public void setLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesNullFinder.longValue(), newValue);
+	}
+
+	public void setNullableByteArrayValue(byte[] newValue)
+	{
+		zSetByteArray(DatedAllTypesNullFinder.nullableByteArrayValue(), newValue);
+	}
+
+	public void setNullableByteValue(byte newValue)
+	{
+		zSetByte(DatedAllTypesNullFinder.nullableByteValue(), newValue);
+	}
+
+	public void setNullableCharValue(char newValue)
+	{
+		zSetChar(DatedAllTypesNullFinder.nullableCharValue(), newValue);
+	}
+
+	public void setNullableDateValue(Date newValue)
+	{
+		zSetDate(DatedAllTypesNullFinder.nullableDateValue(), newValue);
+	}
+
+	public void setNullableDoubleValue(double newValue)
+	{
+		zSetDouble(DatedAllTypesNullFinder.nullableDoubleValue(), newValue);
+	}
+
+	public void setNullableFloatValue(float newValue)
+	{
+		zSetFloat(DatedAllTypesNullFinder.nullableFloatValue(), newValue);
+	}
+
+	public void setNullableIntValue(int newValue)
+	{
+		zSetInteger(DatedAllTypesNullFinder.nullableIntValue(), newValue);
+	}
+
+	public void setNullableLongValue(long newValue)
+	{
+		zSetLong(DatedAllTypesNullFinder.nullableLongValue(), newValue);
+	}
+
+	public void setNullableShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesNullFinder.nullableShortValue(), newValue);
+	}
+
+	public void setNullableStringValue(String newValue)
+	{
+		zSetString(DatedAllTypesNullFinder.nullableStringValue(), newValue);
+	}
+
+	public void setNullableTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesNullFinder.nullableTimeValue(), newValue);
+	}
+
+	public void setNullableTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.nullableTimestampValue(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.processingDateTo(), newValue);
+	}
+
+	public void setShortValue(short newValue)
+	{
+		zSetShort(DatedAllTypesNullFinder.shortValue(), newValue);
+	}
+
+	public void setStringValue(String newValue)
+	{
+		zSetString(DatedAllTypesNullFinder.stringValue(), newValue);
+	}
+
+	public void setTimeValue(Time newValue)
+	{
+		zSetTime(DatedAllTypesNullFinder.timeValue(), newValue);
+	}
+
+	public void setTimestampValue(Timestamp newValue)
+	{
+		zSetTimestamp(DatedAllTypesNullFinder.timestampValue(), newValue);
+	}
+
+	public void setNullableByteValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableByteValue());
+	}
+
+	public void setNullableShortValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableShortValue());
+	}
+
+	public void setNullableCharValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableCharValue());
+	}
+
+	public void setNullableIntValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableIntValue());
+	}
+
+	public void setNullableLongValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableLongValue());
+	}
+
+	public void setNullableFloatValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableFloatValue());
+	}
+
+	public void setNullableDoubleValueNull()
+	{
+		zSetAttributeNull(DatedAllTypesNullFinder.nullableDoubleValue());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
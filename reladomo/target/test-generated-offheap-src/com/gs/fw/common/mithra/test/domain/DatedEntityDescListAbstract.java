@@ -0,0 +1,118 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedEntityDescListAbstract extends DelegatingList<DatedEntityDesc> implements MithraList<DatedEntityDesc>
+{
+	public DatedEntityDescListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedEntityDescListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedEntityDescListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedEntityDescListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public DatedEntityDesc[] elements()
+	{
+		DatedEntityDesc[] result = new DatedEntityDesc[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedEntityDescList intersection(DatedEntityDescList another)
+	{
+		return (DatedEntityDescList)super.intersection(another);
+	}
+
+	public DatedEntityDesc getDatedEntityDescAt(int index)
+	{
+		return (DatedEntityDesc)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.type = DatedEntityDescType.type</pre>
+	* @return The dated entity desc type
+	*/
+	public DatedEntityDescTypeList getDatedEntityDescTypes()
+	{
+		return (DatedEntityDescTypeList) this.getDelegated().resolveRelationship(this, DatedEntityDescFinder.datedEntityDescType());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedEntityDescFinder.getMithraObjectPortal();
+	}
+
+	public DatedEntityDescList getNonPersistentCopy()
+	{
+		DatedEntityDescList result = new DatedEntityDescList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedEntityDescList asAdhoc()
+	{
+		return (DatedEntityDescList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DatedEntityDesc> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
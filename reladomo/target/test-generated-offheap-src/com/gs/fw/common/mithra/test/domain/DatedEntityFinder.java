@@ -0,0 +1,983 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DatedEntityFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DatedEntity";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DatedEntity";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedEntity");
+	private static final DatedEntitySingleFinder<DatedEntity, Object, DatedEntity> finder = new DatedEntitySingleFinder<DatedEntity, Object, DatedEntity>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DatedEntityFinder.DatedEntityRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("fromZ");
+		finderMethodMap.addNormalAttributeName("thruZ");
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("rate");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("datedEntityDesc");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = DatedEntityFinder.id().constructEqualityMapper(DatedEntityFinder.id());
+			result[1] = DatedEntityFinder.processingDate().constructEqualityMapper(DatedEntityFinder.processingDate());
+			result[2] = DatedEntityFinder.id().constructEqualityMapper(DatedEntityDescFinder.id());
+			result[3] = DatedEntityDescFinder.id().constructEqualityMapper(DatedEntityFinder.id());
+			result[4] = DatedEntityFinder.fromZ().constructEqualityMapper(DatedEntityDescFinder.businessDate());
+			result[5] = DatedEntityDescFinder.businessDate().constructEqualityMapper(DatedEntityFinder.fromZ());
+			result[6] = DatedEntityFinder.processingDate().constructEqualityMapper(DatedEntityDescFinder.processingDate());
+			result[7] = DatedEntityDescFinder.processingDate().constructEqualityMapper(DatedEntityFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DatedEntity findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DatedEntity findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DatedEntityList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedEntityList) finder.findMany(operation);
+	}
+
+	public static DatedEntityList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedEntityList) finder.findManyBypassCache(operation);
+	}
+
+	private static DatedEntity findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DatedEntity) FinderUtils.findOne(found);
+	}
+
+	public static DatedEntity findByPrimaryKey(Timestamp fromZ, int id, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(fromZ, id, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DatedEntityData _castedTargetData = (DatedEntityData) _targetData;
+			if (_bean.getO1AsTimestamp().equals(_castedTargetData.getFromZ()) && _bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return DatedEntityFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsTimestamp()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsTimestamp()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static DatedEntity zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DatedEntity) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DatedEntityRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DatedEntity, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private TimestampAttribute<ParentOwnerType> fromZ;
+		private TimestampAttribute<ParentOwnerType> thruZ;
+		private IntegerAttribute<ParentOwnerType> id;
+		private DoubleAttribute<ParentOwnerType> rate;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private DatedEntityDatedEntityDescFinderSubclass<ParentOwnerType> datedEntityDesc;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public DatedEntityRelatedFinder()
+		{
+			super();
+		}
+
+		public DatedEntityRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DatedEntityFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DatedEntityFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DatedEntityFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DatedEntityFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.fromZ();
+			attributes[1] = this.thruZ();
+			attributes[2] = this.id();
+			attributes[3] = this.rate();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.datedEntityDesc());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DatedEntity findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DatedEntityFinder.findOne(operation, false);
+		}
+
+		public DatedEntity findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DatedEntityFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DatedEntity> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DatedEntityList((Operation) operation);
+		}
+
+		public MithraList<? extends DatedEntity> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DatedEntityList result = (DatedEntityList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DatedEntity> constructEmptyList()
+		{
+			return new DatedEntityList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 2029604614;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public TimestampAttribute<ParentOwnerType> fromZ()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.fromZ;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("from_z","","fromZ",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityFinder.fromZ(), this.mapper, this.zGetValueSelector());
+				this.fromZ = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> thruZ()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.thruZ;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("thru_z","","thruZ",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,44,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityFinder.thruZ(), this.mapper, this.zGetValueSelector());
+				this.thruZ = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("id","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,16,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedEntityFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> rate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.rate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("rate","","rate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,36,4,0, false) :
+					new MappedDoubleAttribute(DatedEntityFinder.rate(), this.mapper, this.zGetValueSelector());
+				this.rate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("in_z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,20,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedEntityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("out_z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,28,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedEntityFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedEntityFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),DatedEntityFinder.processingDateInfinity,false,true,DatedEntityFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(DatedEntityFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public DatedEntityFinder.DatedEntityCollectionFinderForRelatedClasses<ParentOwnerType, DatedEntityList, DatedEntity> expensiveEntities(double rate)
+		{
+			DatedEntityExpensiveEntitiesFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(DatedEntityFinder.zGetDatedEntityExpensiveEntitiesReverseMapper(rate));
+			newMapper.setToMany(true);
+			result = new DatedEntityExpensiveEntitiesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,rate);
+			return result;
+		}
+
+		public DatedEntityDescFinder.DatedEntityDescSingleFinderForRelatedClasses<ParentOwnerType, DatedEntityDesc, DatedEntity> datedEntityDesc()
+		{
+			DatedEntityDatedEntityDescFinderSubclass<ParentOwnerType> result = this.datedEntityDesc;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedEntityFinder.zGetDatedEntityDatedEntityDescReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedEntityDatedEntityDescFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedEntityDesc = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DatedEntityFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DatedEntityFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DatedEntityCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DatedEntityRelatedFinder<ParentOwnerType, ReturnType, DatedEntityList, OwnerType>
+	{
+		public DatedEntityCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DatedEntityCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DatedEntityCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedEntityCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DatedEntitySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DatedEntityRelatedFinder<ParentOwnerType, ReturnType, DatedEntityList, OwnerType>
+	implements ToOneFinder
+	{
+		public DatedEntitySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DatedEntitySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DatedEntity other)
+		{
+			return this.fromZ().eq(other.getFromZ())
+			.and(this.id().eq(other.getId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DatedEntity findByPrimaryKey(Timestamp fromZ, int id, Timestamp processingDate)
+		{
+			DatedEntity _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (fromZ != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(fromZ);
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DatedEntity) _related;
+			if (_related == null)
+			{
+				_op = this.fromZ().eq(fromZ).and(this.id().eq(id)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DatedEntitySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DatedEntitySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedEntitySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static Mapper zGetDatedEntityExpensiveEntitiesReverseMapper(double rate)
+	{
+		return zConstructDatedEntityExpensiveEntitiesReverseMapper(rate);
+	}
+
+	public static Mapper zGetDatedEntityExpensiveEntitiesMapper(double rate)
+	{
+		return zConstructDatedEntityExpensiveEntitiesMapper(rate);
+	}
+
+	private static Mapper expensiveEntitiesPureReverseMapper = null;
+	public static Mapper zGetDatedEntityExpensiveEntitiesPureReverseMapper()
+	{
+		if (expensiveEntitiesPureReverseMapper == null)
+		{
+			expensiveEntitiesPureReverseMapper = zConstructDatedEntityExpensiveEntitiesPureReverseMapper();
+		}
+
+		return expensiveEntitiesPureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedEntityExpensiveEntitiesPureReverseMapper()
+	{
+		InternalList expensiveEntitiesMapperMapperList = new InternalList(2);
+		expensiveEntitiesMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(0));
+		expensiveEntitiesMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(1));
+		Mapper expensiveEntitiesMapper = new MultiEqualityMapper(expensiveEntitiesMapperMapperList);
+		expensiveEntitiesMapper.setName("expensiveEntities");
+		return expensiveEntitiesMapper;
+	}
+
+	private static Mapper zConstructDatedEntityExpensiveEntitiesReverseMapper(double rate)
+	{
+		InternalList expensiveEntitiesMapperInnerMapperMapperList = new InternalList(2);
+		expensiveEntitiesMapperInnerMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(0));
+		expensiveEntitiesMapperInnerMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(1));
+		Mapper expensiveEntitiesMapperInnerMapper = new MultiEqualityMapper(expensiveEntitiesMapperInnerMapperMapperList);
+		Mapper expensiveEntitiesMapper = new FilteredMapper(expensiveEntitiesMapperInnerMapper, DatedEntityFinder.rate().greaterThanEquals(rate), null);
+		expensiveEntitiesMapper.setName("expensiveEntities");
+		return expensiveEntitiesMapper;
+	}
+
+	private static Mapper zConstructDatedEntityExpensiveEntitiesMapper(double rate)
+	{
+		InternalList expensiveEntitiesMapperInnerMapperMapperList = new InternalList(2);
+		expensiveEntitiesMapperInnerMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(0));
+		expensiveEntitiesMapperInnerMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(1));
+		Mapper expensiveEntitiesMapperInnerMapper = new MultiEqualityMapper(expensiveEntitiesMapperInnerMapperMapperList);
+		Mapper expensiveEntitiesMapper = new FilteredMapper(expensiveEntitiesMapperInnerMapper, null, DatedEntityFinder.rate().greaterThanEquals(rate));
+		expensiveEntitiesMapper.setName("expensiveEntities_Reverse");
+		return expensiveEntitiesMapper;
+	}
+
+	private static Mapper datedEntityDescReverseMapper = null;
+	public static Mapper zGetDatedEntityDatedEntityDescReverseMapper()
+	{
+		if (datedEntityDescReverseMapper == null)
+		{
+			datedEntityDescReverseMapper = zConstructDatedEntityDatedEntityDescReverseMapper();
+		}
+
+		return datedEntityDescReverseMapper;
+	}
+
+	private static Mapper datedEntityDescMapper = null;
+	public static Mapper zGetDatedEntityDatedEntityDescMapper()
+	{
+		if (datedEntityDescMapper == null)
+		{
+			datedEntityDescMapper = zConstructDatedEntityDatedEntityDescMapper();
+		}
+
+		return datedEntityDescMapper;
+	}
+
+	private static Mapper datedEntityDescPureReverseMapper = null;
+	public static Mapper zGetDatedEntityDatedEntityDescPureReverseMapper()
+	{
+		if (datedEntityDescPureReverseMapper == null)
+		{
+			datedEntityDescPureReverseMapper = zConstructDatedEntityDatedEntityDescPureReverseMapper();
+		}
+
+		return datedEntityDescPureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedEntityDatedEntityDescPureReverseMapper()
+	{
+		InternalList datedEntityDescMapperMapperList = new InternalList(3);
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(2));
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(4));
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(6));
+		Mapper datedEntityDescMapper = new MultiEqualityMapper(datedEntityDescMapperMapperList);
+		datedEntityDescMapper.setName("datedEntityDesc");
+		return datedEntityDescMapper;
+	}
+
+	private static Mapper zConstructDatedEntityDatedEntityDescReverseMapper()
+	{
+		InternalList datedEntityDescMapperMapperList = new InternalList(3);
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(2));
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(4));
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(6));
+		Mapper datedEntityDescMapper = new MultiEqualityMapper(datedEntityDescMapperMapperList);
+		datedEntityDescMapper.setName("datedEntityDesc");
+		return datedEntityDescMapper;
+	}
+
+	private static Mapper zConstructDatedEntityDatedEntityDescMapper()
+	{
+		InternalList datedEntityDescMapperMapperList = new InternalList(3);
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(3));
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(5));
+		datedEntityDescMapperMapperList.add(DatedEntityFinder.zGetConstantJoin(7));
+		Mapper datedEntityDescMapper = new MultiEqualityMapper(datedEntityDescMapperMapperList);
+		datedEntityDescMapper.setName("datedEntityDesc_Reverse");
+		return datedEntityDescMapper;
+	}
+
+	/** maps to DATED_ENTITY.from_z **/
+	public static TimestampAttribute<DatedEntity> fromZ()
+	{
+		return finder.fromZ();
+	}
+
+	/** maps to DATED_ENTITY.thru_z **/
+	public static TimestampAttribute<DatedEntity> thruZ()
+	{
+		return finder.thruZ();
+	}
+
+	/** maps to DATED_ENTITY.id **/
+	public static IntegerAttribute<DatedEntity> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DATED_ENTITY.rate **/
+	public static DoubleAttribute<DatedEntity> rate()
+	{
+		return finder.rate();
+	}
+
+	/** maps to DATED_ENTITY.in_z **/
+	public static TimestampAttribute<DatedEntity> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to DATED_ENTITY.out_z **/
+	public static TimestampAttribute<DatedEntity> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<DatedEntity> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static DatedEntityFinder.DatedEntityCollectionFinderForRelatedClasses<DatedEntity, DatedEntityList, DatedEntity> expensiveEntities(double rate)
+	{
+		return finder.expensiveEntities(rate);
+	}
+
+	public static class DatedEntityExpensiveEntitiesFinderSubclass<ParentOwnerType> extends DatedEntityFinder.DatedEntityCollectionFinderForRelatedClasses<ParentOwnerType, DatedEntityList, DatedEntity>
+	{
+		private double rate;
+		public DatedEntityExpensiveEntitiesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double rate)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.rate = rate;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "expensiveEntities";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedEntityExpensiveEntitiesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.rate
+			);
+		}
+
+		protected DatedEntityList plainValueOf(DatedEntity _obj)
+		{
+			return _obj.getExpensiveEntities(rate);
+		}
+
+		protected DatedEntityList plainListValueOf(Object _obj)
+		{
+			return ((DatedEntityList)_obj).getExpensiveEntities(rate);
+		}
+	}
+
+	public static DatedEntityDescFinder.DatedEntityDescSingleFinderForRelatedClasses<DatedEntity, DatedEntityDesc, DatedEntity> datedEntityDesc()
+	{
+		return finder.datedEntityDesc();
+	}
+
+	public static class DatedEntityDatedEntityDescFinderSubclass<ParentOwnerType> extends DatedEntityDescFinder.DatedEntityDescSingleFinderForRelatedClasses<ParentOwnerType, DatedEntityDesc, DatedEntity>
+	{
+		public DatedEntityDatedEntityDescFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "datedEntityDesc";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				DatedEntityDescFinder.id(),
+				DatedEntityDescFinder.businessDate(),
+				DatedEntityDescFinder.processingDate()).withExtractors(
+				DatedEntityFinder.id(),
+				DatedEntityFinder.fromZ(),
+				DatedEntityFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedEntityDatedEntityDescFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedEntityDesc plainValueOf(DatedEntity _obj)
+		{
+			return _obj.getDatedEntityDesc();
+		}
+
+		protected DatedEntityDescList plainListValueOf(Object _obj)
+		{
+			return ((DatedEntityList)_obj).getDatedEntityDescs();
+		}
+	}
+
+	public static Operation eq(DatedEntity other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(fromZ());
+	}
+
+	public static DatedEntitySingleFinder<DatedEntity, Object, DatedEntity> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			fromZ()
+			, id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			fromZ()
+			, fromZ()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			id()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = rate();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DatedEntity");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,128 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedEntityListAbstract extends DelegatingList<DatedEntity> implements MithraList<DatedEntity>
+{
+	public DatedEntityListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedEntityListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedEntityListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedEntityListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public DatedEntity[] elements()
+	{
+		DatedEntity[] result = new DatedEntity[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedEntityList intersection(DatedEntityList another)
+	{
+		return (DatedEntityList)super.intersection(another);
+	}
+
+	public DatedEntity getDatedEntityAt(int index)
+	{
+		return (DatedEntity)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DatedEntity.id = this.id and this.rate >= {rate}</pre>
+	* @return expensive entities
+	*/
+	public DatedEntityList getExpensiveEntities(double rate)
+	{
+		return (DatedEntityList) this.getDelegated().resolveRelationship(this, DatedEntityFinder.expensiveEntities(rate));
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedEntityDesc.id and this.fromZ = DatedEntityDesc.businessDate</pre>
+	* @return The dated entity desc
+	*/
+	public DatedEntityDescList getDatedEntityDescs()
+	{
+		return (DatedEntityDescList) this.getDelegated().resolveRelationship(this, DatedEntityFinder.datedEntityDesc());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedEntityFinder.getMithraObjectPortal();
+	}
+
+	public DatedEntityList getNonPersistentCopy()
+	{
+		DatedEntityList result = new DatedEntityList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedEntityList asAdhoc()
+	{
+		return (DatedEntityList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DatedEntity> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
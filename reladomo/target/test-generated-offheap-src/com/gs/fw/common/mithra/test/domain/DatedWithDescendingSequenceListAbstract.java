@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DatedWithDescendingSequenceListAbstract extends DelegatingList<DatedWithDescendingSequence> implements MithraDatedTransactionalList<DatedWithDescendingSequence>
+{
+	public DatedWithDescendingSequenceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DatedWithDescendingSequenceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DatedWithDescendingSequenceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DatedWithDescendingSequenceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DatedWithDescendingSequence[] elements()
+	{
+		DatedWithDescendingSequence[] result = new DatedWithDescendingSequence[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DatedWithDescendingSequenceList intersection(DatedWithDescendingSequenceList another)
+	{
+		return (DatedWithDescendingSequenceList)super.intersection(another);
+	}
+
+	public DatedWithDescendingSequence getDatedWithDescendingSequenceAt(int index)
+	{
+		return (DatedWithDescendingSequence)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DatedWithDescendingSequenceFinder.getMithraObjectPortal();
+	}
+
+	public DatedWithDescendingSequenceList getNonPersistentCopy()
+	{
+		DatedWithDescendingSequenceList result = new DatedWithDescendingSequenceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DatedWithDescendingSequenceList asAdhoc()
+	{
+		return (DatedWithDescendingSequenceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DatedWithDescendingSequence> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public DatedWithDescendingSequenceList merge(MithraTransactionalList<DatedWithDescendingSequence> incoming, TopLevelMergeOptions<DatedWithDescendingSequence> mergeOptions)
+	{
+		return (DatedWithDescendingSequenceList) super.merge(incoming, mergeOptions);
+	}
+
+	public DatedWithDescendingSequenceList getDetachedCopy()
+	{
+		DatedWithDescendingSequenceList result = new DatedWithDescendingSequenceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)DatedWithDescendingSequenceFinder.balanceId(), true, "BalanceDecrementingSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(DatedWithDescendingSequenceFinder.acmapCode(), newValue);
+	}
+
+	public void setBalanceId(long newValue)
+	{
+		zSetLong(DatedWithDescendingSequenceFinder.balanceId(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DatedWithDescendingSequenceFinder.processingDateTo(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DatedWithDescendingSequenceFinder.quantity(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(DatedWithDescendingSequenceFinder.quantity());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,159 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DbsTestEntityListAbstract extends DelegatingList<DbsTestEntity> implements MithraTransactionalList<DbsTestEntity>
+{
+	public DbsTestEntityListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DbsTestEntityListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DbsTestEntityListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DbsTestEntityListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DbsTestEntity[] elements()
+	{
+		DbsTestEntity[] result = new DbsTestEntity[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DbsTestEntityList intersection(DbsTestEntityList another)
+	{
+		return (DbsTestEntityList)super.intersection(another);
+	}
+
+	public DbsTestEntity getDbsTestEntityAt(int index)
+	{
+		return (DbsTestEntity)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DbsTestEntityFinder.getMithraObjectPortal();
+	}
+
+	public DbsTestEntityList getNonPersistentCopy()
+	{
+		DbsTestEntityList result = new DbsTestEntityList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DbsTestEntityList asAdhoc()
+	{
+		return (DbsTestEntityList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DbsTestEntity> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public DbsTestEntityList merge(MithraTransactionalList<DbsTestEntity> incoming, TopLevelMergeOptions<DbsTestEntity> mergeOptions)
+	{
+		return (DbsTestEntityList) super.merge(incoming, mergeOptions);
+	}
+
+	public DbsTestEntityList getDetachedCopy()
+	{
+		DbsTestEntityList result = new DbsTestEntityList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(DbsTestEntityFinder.accountId(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(DbsTestEntityFinder.description(), newValue);
+	}
+
+	public void setGroupId(long newValue)
+	{
+		zSetLong(DbsTestEntityFinder.groupId(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DbsTestEntityFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(DbsTestEntityFinder.name(), newValue);
+	}
+
+	public void setGroupIdNull()
+	{
+		zSetAttributeNull(DbsTestEntityFinder.groupId());
+	}
+}
@@ -0,0 +1,1512 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class DifferentDataTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(DifferentDataTypes.class.getName());
+	private static final RelationshipHashStrategy forvariousById = new VariousByIdRhs();
+	private static final RelationshipHashStrategy forvariousByByteColumn = new VariousByByteColumnRhs();
+	private static final RelationshipHashStrategy forvariousByFloatColumn = new VariousByFloatColumnRhs();
+	private static final RelationshipHashStrategy forvariousByShortColumn = new VariousByShortColumnRhs();
+	private static final RelationshipHashStrategy forvariousByLongColumn = new VariousByLongColumnRhs();
+	private static final RelationshipHashStrategy forvariousByDoubleColumn = new VariousByDoubleColumnRhs();
+	private static final RelationshipHashStrategy forvariousByCharColumn = new VariousByCharColumnRhs();
+	private static final class VariousByIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class VariousByByteColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.isByteColumnNull() == _castedTargetData.isByteColumnNull() && (_castedSrcData.isByteColumnNull() || _castedSrcData.getByteColumn() == _castedTargetData.getByteColumn()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getByteColumn(), _castedSrcData.isByteColumnNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class VariousByFloatColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.isFloatColumnNull() == _castedTargetData.isFloatColumnNull() && (_castedSrcData.isFloatColumnNull() || _castedSrcData.getFloatColumn() == _castedTargetData.getFloatColumn()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getFloatColumn(), _castedSrcData.isFloatColumnNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class VariousByShortColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.isShortColumnNull() == _castedTargetData.isShortColumnNull() && (_castedSrcData.isShortColumnNull() || _castedSrcData.getShortColumn() == _castedTargetData.getShortColumn()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getShortColumn(), _castedSrcData.isShortColumnNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class VariousByLongColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.isLongColumnNull() == _castedTargetData.isLongColumnNull() && (_castedSrcData.isLongColumnNull() || _castedSrcData.getLongColumn() == _castedTargetData.getLongColumn()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getLongColumn(), _castedSrcData.isLongColumnNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class VariousByDoubleColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.isDoubleColumnNull() == _castedTargetData.isDoubleColumnNull() && (_castedSrcData.isDoubleColumnNull() || _castedSrcData.getDoubleColumn() == _castedTargetData.getDoubleColumn()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getDoubleColumn(), _castedSrcData.isDoubleColumnNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class VariousByCharColumnRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			VariousTypesData _castedTargetData = (VariousTypesData) _targetData;
+			if (_castedSrcData.isCharColumnNull() == _castedTargetData.isCharColumnNull() && (_castedSrcData.isCharColumnNull() || _castedSrcData.getCharColumn() == _castedTargetData.getCharColumn()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DifferentDataTypesData _castedSrcData = (DifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCharColumn(), _castedSrcData.isCharColumnNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public DifferentDataTypesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DifferentDataTypes getDetachedCopy() throws MithraBusinessException
+	{
+		return (DifferentDataTypes) super.getDetachedCopy();
+	}
+
+	public DifferentDataTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		DifferentDataTypes result = (DifferentDataTypes) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public DifferentDataTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DifferentDataTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public DifferentDataTypes zFindOriginal()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.currentData;
+		Operation op;
+		op = DifferentDataTypesFinder.id().eq(data.getId());
+		return DifferentDataTypesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DifferentDataTypesData();
+	}
+
+	protected void zSetFromDifferentDataTypesData( DifferentDataTypesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromDifferentDataTypesData( DifferentDataTypesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isBooleanColumnNull();
+	}
+
+	public boolean isBooleanColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isBooleanColumnNull()) MithraNullPrimitiveException.throwNew("booleanColumn", data);
+		return data.isBooleanColumn();
+	}
+
+	public void setBooleanColumn(boolean newValue)
+	{
+		zSetBoolean(DifferentDataTypesFinder.booleanColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isByteColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isByteColumnNull();
+	}
+
+	public byte getByteColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isByteColumnNull()) MithraNullPrimitiveException.throwNew("byteColumn", data);
+		return data.getByteColumn();
+	}
+
+	public void setByteColumn(byte newValue)
+	{
+		zSetByte(DifferentDataTypesFinder.byteColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isCharColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isCharColumnNull();
+	}
+
+	public char getCharColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isCharColumnNull()) MithraNullPrimitiveException.throwNew("charColumn", data);
+		return data.getCharColumn();
+	}
+
+	public void setCharColumn(char newValue)
+	{
+		zSetChar(DifferentDataTypesFinder.charColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isDoubleColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isDoubleColumnNull();
+	}
+
+	public double getDoubleColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isDoubleColumnNull()) MithraNullPrimitiveException.throwNew("doubleColumn", data);
+		return data.getDoubleColumn();
+	}
+
+	public void setDoubleColumn(double newValue)
+	{
+		zSetDouble(DifferentDataTypesFinder.doubleColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isFloatColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isFloatColumnNull();
+	}
+
+	public float getFloatColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isFloatColumnNull()) MithraNullPrimitiveException.throwNew("floatColumn", data);
+		return data.getFloatColumn();
+	}
+
+	public void setFloatColumn(float newValue)
+	{
+		zSetFloat(DifferentDataTypesFinder.floatColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DifferentDataTypesFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isIntColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isIntColumnNull();
+	}
+
+	public int getIntColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isIntColumnNull()) MithraNullPrimitiveException.throwNew("intColumn", data);
+		return data.getIntColumn();
+	}
+
+	public void setIntColumn(int newValue)
+	{
+		zSetInteger(DifferentDataTypesFinder.intColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isLongColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isLongColumnNull();
+	}
+
+	public long getLongColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isLongColumnNull()) MithraNullPrimitiveException.throwNew("longColumn", data);
+		return data.getLongColumn();
+	}
+
+	public void setLongColumn(long newValue)
+	{
+		zSetLong(DifferentDataTypesFinder.longColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isShortColumnNull()
+	{
+		return ((DifferentDataTypesData) this.zSynchronizedGetData()).isShortColumnNull();
+	}
+
+	public short getShortColumn()
+	{
+		DifferentDataTypesData data = (DifferentDataTypesData) this.zSynchronizedGetData();
+		if (data.isShortColumnNull()) MithraNullPrimitiveException.throwNew("shortColumn", data);
+		return data.getShortColumn();
+	}
+
+	public void setShortColumn(short newValue)
+	{
+		zSetShort(DifferentDataTypesFinder.shortColumn(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, DifferentDataTypesFinder.booleanColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.byteColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.floatColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.shortColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.longColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.doubleColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.charColumn(), false);
+		zNullify(behavior, data, DifferentDataTypesFinder.intColumn(), false);
+	}
+
+	public void setBooleanColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.booleanColumn(), false);
+	}
+
+	public void setByteColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.byteColumn(), false);
+	}
+
+	public void setFloatColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.floatColumn(), false);
+	}
+
+	public void setShortColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.shortColumn(), false);
+	}
+
+	public void setLongColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.longColumn(), false);
+	}
+
+	public void setDoubleColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.doubleColumn(), false);
+	}
+
+	public void setCharColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.charColumn(), false);
+	}
+
+	public void setIntColumnNull()
+	{
+		zNullify(DifferentDataTypesFinder.intColumn(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DifferentDataTypesData _newData = (DifferentDataTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		DifferentDataTypesData _newData = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _newData = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	MappedDifferentDataTypes.id = this.id</pre>
+	* @see MappedDifferentDataTypes#getDatatypes() reverse relationship MappedDifferentDataTypes.getDatatypes()
+	* @return The mapped name
+	*/
+	public MappedDifferentDataTypes getMappedName()
+	{
+		MappedDifferentDataTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = MappedDifferentDataTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = MappedDifferentDataTypesFinder.id().eq(_data.getId());
+					_result = MappedDifferentDataTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (MappedDifferentDataTypes) _data.getMappedName();
+			if (_result == null)
+			{
+				{
+					_op = MappedDifferentDataTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = MappedDifferentDataTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setMappedName(MappedDifferentDataTypes mappedName)
+	{
+		MappedDifferentDataTypes _mappedName = (MappedDifferentDataTypes) mappedName;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setMappedName(_mappedName);
+			if (_mappedName == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(_mappedName.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_mappedName == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_mappedName.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.intColumn = this.intColumn</pre>
+	* @see VariousTypes#getDatatypesByIntColumn() reverse relationship VariousTypes.getDatatypesByIntColumn()
+	* @return The various by int column
+	*/
+	public VariousTypes getVariousByIntColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isIntColumnNull())
+			{
+				{
+					_op = VariousTypesFinder.intColumn().eq(_data.getIntColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isIntColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.intColumn().eq(_data.getIntColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByIntColumn();
+			if (_result == null)
+			{
+				if (!_data.isIntColumnNull())
+				{
+					_op = VariousTypesFinder.intColumn().eq(_data.getIntColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByIntColumn(VariousTypes variousByIntColumn)
+	{
+		VariousTypes _variousByIntColumn = (VariousTypes) variousByIntColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByIntColumn(_variousByIntColumn);
+			if (_variousByIntColumn == null)
+			{
+				this.setIntColumnNull();
+			}
+			else
+			{
+				this.setIntColumn(_variousByIntColumn.getIntColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByIntColumn == null)
+			{
+				this.setIntColumnNull();
+			}
+			else
+			{
+				this.setIntColumn(
+					_variousByIntColumn.getIntColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.id = this.id</pre>
+	* @see VariousTypes#getDatatypesById() reverse relationship VariousTypes.getDatatypesById()
+	* @return The various by id
+	*/
+	public VariousTypes getVariousById()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forvariousById, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = VariousTypesFinder.id().eq(_data.getId());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousById();
+			if (_result == null)
+			{
+				{
+					_op = VariousTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousById(VariousTypes variousById)
+	{
+		VariousTypes _variousById = (VariousTypes) variousById;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousById(_variousById);
+			if (_variousById == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(_variousById.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousById == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_variousById.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.booleanColumn = this.booleanColumn</pre>
+	* @see VariousTypes#getDatatypesByBooleanColumn() reverse relationship VariousTypes.getDatatypesByBooleanColumn()
+	* @return The various by boolean column
+	*/
+	public VariousTypes getVariousByBooleanColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isBooleanColumnNull())
+			{
+				{
+					_op = VariousTypesFinder.booleanColumn().eq(_data.isBooleanColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isBooleanColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.booleanColumn().eq(_data.isBooleanColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByBooleanColumn();
+			if (_result == null)
+			{
+				if (!_data.isBooleanColumnNull())
+				{
+					_op = VariousTypesFinder.booleanColumn().eq(_data.isBooleanColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByBooleanColumn(VariousTypes variousByBooleanColumn)
+	{
+		VariousTypes _variousByBooleanColumn = (VariousTypes) variousByBooleanColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByBooleanColumn(_variousByBooleanColumn);
+			if (_variousByBooleanColumn == null)
+			{
+				this.setBooleanColumnNull();
+			}
+			else
+			{
+				this.setBooleanColumn(_variousByBooleanColumn.isBooleanColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByBooleanColumn == null)
+			{
+				this.setBooleanColumnNull();
+			}
+			else
+			{
+				this.setBooleanColumn(
+					_variousByBooleanColumn.isBooleanColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.byteColumn = this.byteColumn</pre>
+	* @see VariousTypes#getDatatypesByByteColumn() reverse relationship VariousTypes.getDatatypesByByteColumn()
+	* @return The various by byte column
+	*/
+	public VariousTypes getVariousByByteColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isByteColumnNull())
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, forvariousByByteColumn, null, null, VariousTypesFinder.zGetIndexbyByteColumnRef());
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.byteColumn().eq(_data.getByteColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isByteColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.byteColumn().eq(_data.getByteColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByByteColumn();
+			if (_result == null)
+			{
+				if (!_data.isByteColumnNull())
+				{
+					_op = VariousTypesFinder.byteColumn().eq(_data.getByteColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByByteColumn(VariousTypes variousByByteColumn)
+	{
+		VariousTypes _variousByByteColumn = (VariousTypes) variousByByteColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByByteColumn(_variousByByteColumn);
+			if (_variousByByteColumn == null)
+			{
+				this.setByteColumnNull();
+			}
+			else
+			{
+				this.setByteColumn(_variousByByteColumn.getByteColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByByteColumn == null)
+			{
+				this.setByteColumnNull();
+			}
+			else
+			{
+				this.setByteColumn(
+					_variousByByteColumn.getByteColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.floatColumn = this.floatColumn</pre>
+	* @see VariousTypes#getDatatypesByFloatColumn() reverse relationship VariousTypes.getDatatypesByFloatColumn()
+	* @return The various by float column
+	*/
+	public VariousTypes getVariousByFloatColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isFloatColumnNull())
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, forvariousByFloatColumn, null, null, VariousTypesFinder.zGetIndexbyFloatColumnRef());
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.floatColumn().eq(_data.getFloatColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isFloatColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.floatColumn().eq(_data.getFloatColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByFloatColumn();
+			if (_result == null)
+			{
+				if (!_data.isFloatColumnNull())
+				{
+					_op = VariousTypesFinder.floatColumn().eq(_data.getFloatColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByFloatColumn(VariousTypes variousByFloatColumn)
+	{
+		VariousTypes _variousByFloatColumn = (VariousTypes) variousByFloatColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByFloatColumn(_variousByFloatColumn);
+			if (_variousByFloatColumn == null)
+			{
+				this.setFloatColumnNull();
+			}
+			else
+			{
+				this.setFloatColumn(_variousByFloatColumn.getFloatColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByFloatColumn == null)
+			{
+				this.setFloatColumnNull();
+			}
+			else
+			{
+				this.setFloatColumn(
+					_variousByFloatColumn.getFloatColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.shortColumn = this.shortColumn</pre>
+	* @see VariousTypes#getDatatypesByShortColumn() reverse relationship VariousTypes.getDatatypesByShortColumn()
+	* @return The various by short column
+	*/
+	public VariousTypes getVariousByShortColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isShortColumnNull())
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, forvariousByShortColumn, null, null, VariousTypesFinder.zGetIndexbyShortColumnRef());
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.shortColumn().eq(_data.getShortColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isShortColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.shortColumn().eq(_data.getShortColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByShortColumn();
+			if (_result == null)
+			{
+				if (!_data.isShortColumnNull())
+				{
+					_op = VariousTypesFinder.shortColumn().eq(_data.getShortColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByShortColumn(VariousTypes variousByShortColumn)
+	{
+		VariousTypes _variousByShortColumn = (VariousTypes) variousByShortColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByShortColumn(_variousByShortColumn);
+			if (_variousByShortColumn == null)
+			{
+				this.setShortColumnNull();
+			}
+			else
+			{
+				this.setShortColumn(_variousByShortColumn.getShortColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByShortColumn == null)
+			{
+				this.setShortColumnNull();
+			}
+			else
+			{
+				this.setShortColumn(
+					_variousByShortColumn.getShortColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.longColumn = this.longColumn</pre>
+	* @see VariousTypes#getDatatypesByLongColumn() reverse relationship VariousTypes.getDatatypesByLongColumn()
+	* @return The various by long column
+	*/
+	public VariousTypes getVariousByLongColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isLongColumnNull())
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, forvariousByLongColumn, null, null, VariousTypesFinder.zGetIndexbyLongColumnRef());
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.longColumn().eq(_data.getLongColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isLongColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.longColumn().eq(_data.getLongColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByLongColumn();
+			if (_result == null)
+			{
+				if (!_data.isLongColumnNull())
+				{
+					_op = VariousTypesFinder.longColumn().eq(_data.getLongColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByLongColumn(VariousTypes variousByLongColumn)
+	{
+		VariousTypes _variousByLongColumn = (VariousTypes) variousByLongColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByLongColumn(_variousByLongColumn);
+			if (_variousByLongColumn == null)
+			{
+				this.setLongColumnNull();
+			}
+			else
+			{
+				this.setLongColumn(_variousByLongColumn.getLongColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByLongColumn == null)
+			{
+				this.setLongColumnNull();
+			}
+			else
+			{
+				this.setLongColumn(
+					_variousByLongColumn.getLongColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.doubleColumn = this.doubleColumn</pre>
+	* @see VariousTypes#getDatatypesByDoubleColumn() reverse relationship VariousTypes.getDatatypesByDoubleColumn()
+	* @return The various by double column
+	*/
+	public VariousTypes getVariousByDoubleColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isDoubleColumnNull())
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, forvariousByDoubleColumn, null, null, VariousTypesFinder.zGetIndexbyDoubleColumnRef());
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.doubleColumn().eq(_data.getDoubleColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isDoubleColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.doubleColumn().eq(_data.getDoubleColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByDoubleColumn();
+			if (_result == null)
+			{
+				if (!_data.isDoubleColumnNull())
+				{
+					_op = VariousTypesFinder.doubleColumn().eq(_data.getDoubleColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByDoubleColumn(VariousTypes variousByDoubleColumn)
+	{
+		VariousTypes _variousByDoubleColumn = (VariousTypes) variousByDoubleColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByDoubleColumn(_variousByDoubleColumn);
+			if (_variousByDoubleColumn == null)
+			{
+				this.setDoubleColumnNull();
+			}
+			else
+			{
+				this.setDoubleColumn(_variousByDoubleColumn.getDoubleColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByDoubleColumn == null)
+			{
+				this.setDoubleColumnNull();
+			}
+			else
+			{
+				this.setDoubleColumn(
+					_variousByDoubleColumn.getDoubleColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	VariousTypes.charColumn = this.charColumn</pre>
+	* @see VariousTypes#getDatatypesByCharColumn() reverse relationship VariousTypes.getDatatypesByCharColumn()
+	* @return The various by char column
+	*/
+	public VariousTypes getVariousByCharColumn()
+	{
+		VariousTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isCharColumnNull())
+			{
+				_portal = VariousTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneByIndexFromCache(this, _data, forvariousByCharColumn, null, null, VariousTypesFinder.zGetIndexbyCharColumnRef());
+				if (!(_related instanceof NulledRelation)) _result = (VariousTypes) _related;
+				if (_related == null)
+				{
+					_op = VariousTypesFinder.charColumn().eq(_data.getCharColumn());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isCharColumnNull())
+				{
+					Operation detachedOp = VariousTypesFinder.charColumn().eq(_data.getCharColumn());
+					_result = VariousTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (VariousTypes) _data.getVariousByCharColumn();
+			if (_result == null)
+			{
+				if (!_data.isCharColumnNull())
+				{
+					_op = VariousTypesFinder.charColumn().eq(_data.getCharColumn());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = VariousTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setVariousByCharColumn(VariousTypes variousByCharColumn)
+	{
+		VariousTypes _variousByCharColumn = (VariousTypes) variousByCharColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypesData _data = (DifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setVariousByCharColumn(_variousByCharColumn);
+			if (_variousByCharColumn == null)
+			{
+				this.setCharColumnNull();
+			}
+			else
+			{
+				this.setCharColumn(_variousByCharColumn.getCharColumn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_variousByCharColumn == null)
+			{
+				this.setCharColumnNull();
+			}
+			else
+			{
+				this.setCharColumn(
+					_variousByCharColumn.getCharColumn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public DifferentDataTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DifferentDataTypes original = (DifferentDataTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return DifferentDataTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DifferentDataTypesFinder.getMithraObjectPortal();
+	}
+
+	public DifferentDataTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, DifferentDataTypesFinder.booleanColumn(), false);
+		changed |= zUpdateByte(behavior, data, newData, DifferentDataTypesFinder.byteColumn(), false);
+		changed |= zUpdateChar(behavior, data, newData, DifferentDataTypesFinder.charColumn(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DifferentDataTypesFinder.doubleColumn(), false);
+		changed |= zUpdateFloat(behavior, data, newData, DifferentDataTypesFinder.floatColumn(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DifferentDataTypesFinder.intColumn(), false);
+		changed |= zUpdateLong(behavior, data, newData, DifferentDataTypesFinder.longColumn(), false);
+		changed |= zUpdateShort(behavior, data, newData, DifferentDataTypesFinder.shortColumn(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DifferentDataTypesFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		DifferentDataTypesAbstract result = (DifferentDataTypesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
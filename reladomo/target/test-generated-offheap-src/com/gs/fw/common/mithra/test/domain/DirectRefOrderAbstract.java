@@ -0,0 +1,1176 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class DirectRefOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(DirectRefOrder.class.getName());
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DirectRefOrderData _castedSrcData = (DirectRefOrderData) _srcData;
+			DirectRefOrderStatusData _castedTargetData = (DirectRefOrderStatusData) _targetData;
+			if (_castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DirectRefOrderData _castedSrcData = (DirectRefOrderData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public DirectRefOrderAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DirectRefOrder getDetachedCopy() throws MithraBusinessException
+	{
+		return (DirectRefOrder) super.getDetachedCopy();
+	}
+
+	public DirectRefOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		DirectRefOrder result = (DirectRefOrder) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public DirectRefOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DirectRefOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public DirectRefOrder zFindOriginal()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.currentData;
+		Operation op;
+		op = DirectRefOrderFinder.orderId().eq(data.getOrderId());
+		return DirectRefOrderFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isItemsModifiedSinceDetachment()) return true;
+		if(isOrderStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DirectRefOrderData();
+	}
+
+	protected void zSetFromDirectRefOrderData( DirectRefOrderData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromDirectRefOrderData( DirectRefOrderData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((DirectRefOrderData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(DirectRefOrderFinder.description(), newValue, false, false );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((DirectRefOrderData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(DirectRefOrderFinder.orderDate(), newValue, false, false );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((DirectRefOrderData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(DirectRefOrderFinder.orderId(), newValue, true, false ,false);
+		if (d == null) return;
+		DirectRefOrderData data = (DirectRefOrderData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			DirectRefOrderItemList items =
+			(DirectRefOrderItemList ) data.getItems();
+			if (items != null)
+			{
+				items.setOrderId(newValue);
+			}
+
+			DirectRefOrderStatus orderStatus =
+			(DirectRefOrderStatus ) data.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.setOrderId(newValue);
+			}
+		}
+	}
+
+	public boolean isStateNull()
+	{
+		return ((DirectRefOrderData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(DirectRefOrderFinder.state(), newValue, false, false );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((DirectRefOrderData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(DirectRefOrderFinder.trackingId(), newValue, false, false );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((DirectRefOrderData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		DirectRefOrderData data = (DirectRefOrderData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(DirectRefOrderFinder.userId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, DirectRefOrderFinder.userId(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(DirectRefOrderFinder.userId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DirectRefOrderData _newData = (DirectRefOrderData) _data;
+		{
+			DirectRefOrderItemList items =
+			(DirectRefOrderItemList) _newData.getItems();
+			if (items != null)
+			{
+				items.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			DirectRefOrderStatus orderStatus =
+			this.getOrderStatus();
+			if (orderStatus != null)
+			{
+				orderStatus.cascadeDelete();
+			}
+		}
+		else
+		{
+			DirectRefOrderStatus orderStatus =
+			(DirectRefOrderStatus) _newData.getOrderStatus();
+			if (orderStatus != null)
+			{
+				DirectRefOrderStatus _existing =
+				this.getOrderStatus();
+				if (_existing == null)
+				{
+					orderStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		DirectRefOrderData _newData = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((DirectRefOrderItemList)_newData.getItems()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((DirectRefOrderStatus)_newData.getOrderStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _newData = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getItems() != null && !(_newData.getItems() instanceof NulledRelation))
+		{
+			((DirectRefOrderItemList)_newData.getItems()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getOrderStatus() != null && !(_newData.getOrderStatus() instanceof NulledRelation))
+		{
+			((DirectRefOrderStatus)_newData.getOrderStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId</pre>
+	* @see DirectRefOrderItem#getOrder() reverse relationship DirectRefOrderItem.getOrder()
+	* @return items
+	*/
+	public DirectRefOrderItemList getItems()
+	{
+		DirectRefOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = DirectRefOrderItemFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getItems();
+						_result = (DirectRefOrderItemList) _portal.unwrapToManyRelatedObject(o);
+						if (_result != null)
+						{
+							return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (DirectRefOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new DirectRefOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DirectRefOrderItemList) _data.getItems();
+			if (_result == null)
+			{
+				_result = new DirectRefOrderItemList();
+				_result.zSetAddHandler(new ItemsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setItems(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DirectRefOrderItemList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ItemsAddHandlerPersisted());
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setItems(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setItems(DirectRefOrderItemList items)
+	{
+		DirectRefOrderItemList _items = (DirectRefOrderItemList) items;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _items != null)
+			{
+				_items.zMakeDetached(DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()),
+					_data.getItems());
+			}
+
+			_data.setItems(_items);
+			if (_items != null)
+			{
+				_items.setOrderId(_data.getOrderId());
+				_items.zSetParentContainerorder(this);
+				_items.zSetAddHandler(new ItemsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_items.zSetAddHandler(new ItemsAddHandlerPersisted());
+			DirectRefOrderItemList itemsToDelete = new DirectRefOrderItemList();
+			itemsToDelete.addAll(this.getItems());
+			for(int i=0;i < _items.size(); i++)
+			{
+				DirectRefOrderItem item = _items.getDirectRefOrderItemAt(i);
+				if (!itemsToDelete.remove(item))
+				{
+					item.setOrderId(_data.getOrderId());
+					item.cascadeInsert();
+				}
+			}
+
+			itemsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isItemsModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		DirectRefOrderItemList items =
+		(DirectRefOrderItemList) _data.getItems();
+		if( items != null)
+		{
+			return items.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderStatus.orderId = this.orderId</pre>
+	* @see DirectRefOrderStatus#getOrder() reverse relationship DirectRefOrderStatus.getOrder()
+	* @return The order status
+	*/
+	public DirectRefOrderStatus getOrderStatus()
+	{
+		DirectRefOrderStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = DirectRefOrderStatusFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getOrderStatus();
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (DirectRefOrderStatus) _portal.unwrapRelatedObject(_data, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (DirectRefOrderStatus) _related;
+				if (_related == null)
+				{
+					_op = DirectRefOrderStatusFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (DirectRefOrderStatus) _data.getOrderStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = DirectRefOrderStatusFinder.orderId().eq(_data.getOrderId());
+					_result = DirectRefOrderStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderStatus(_result);
+				if (_result != null) _result.zSetParentContainerorder(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DirectRefOrderStatus) _data.getOrderStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = DirectRefOrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setOrderStatus(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(DirectRefOrderStatus orderStatus)
+	{
+		DirectRefOrderStatus _orderStatus = (DirectRefOrderStatus) orderStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderStatus();
+			_data.setOrderStatus(_orderStatus);
+			if (_orderStatus != null)
+			{
+				_orderStatus.setOrderId(_data.getOrderId());
+				_orderStatus.zSetParentContainerorder(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			DirectRefOrderStatus _existing = this.getOrderStatus();
+			if (_orderStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderStatus != null)
+				{
+					_orderStatus.setOrderId(_data.getOrderId());
+					_orderStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderStatus() instanceof NulledRelation)
+		{
+			DirectRefOrderStatus _existing = this.getOriginalPersistentObject().getOrderStatus();
+			return _existing != null;
+		}
+
+		DirectRefOrderStatus orderStatus =
+		(DirectRefOrderStatus) _data.getOrderStatus();
+		if( orderStatus != null)
+		{
+			return orderStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.productId = {productId}</pre>
+	* @return The item for product
+	*/
+	public DirectRefOrderItem getItemForProduct(int productId)
+	{
+		DirectRefOrderItem _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.productId().eq(productId));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DirectRefOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.productId in {productIds}</pre>
+	* @return The item for product set
+	*/
+	public DirectRefOrderItem getItemForProductSet(IntHashSet productIds)
+	{
+		DirectRefOrderItem _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.productId().in(productIds));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DirectRefOrderItemFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.originalPrice >= {price}</pre>
+	* @return expensive items
+	*/
+	public DirectRefOrderItemList getExpensiveItems(double price)
+	{
+		DirectRefOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.originalPrice().greaterThanEquals(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DirectRefOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.originalPrice < {price}</pre>
+	* @return cheap items
+	*/
+	public List getCheapItems(double price)
+	{
+		DirectRefOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DirectRefOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and DirectRefOrderItem.originalPrice < {price} and this.userId = 1</pre>
+	* @return cheap items with check
+	*/
+	public List getCheapItemsWithCheck(double price)
+	{
+		DirectRefOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isUserIdNull() && _data.getUserId()==1)
+			{
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.originalPrice().lessThan(price));
+				}
+			}
+			else 
+			{
+				_result = new DirectRefOrderItemList( new None (
+					DirectRefOrderItemFinder.id()));
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DirectRefOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	DirectRefOrderItem.orderId = this.orderId and this.userId = 5</pre>
+	* @return items for user five
+	*/
+	public List getItemsForUserFive()
+	{
+		DirectRefOrderItemList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isUserIdNull() && _data.getUserId()==5)
+			{
+				_portal = DirectRefOrderItemFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getItemsForUserFive();
+						_result = (DirectRefOrderItemList) _portal.unwrapToManyRelatedObject(o);
+						if (_result != null)
+						{
+							return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				_result = new DirectRefOrderItemList( new None (
+					DirectRefOrderItemFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isUserIdNull() && _data.getUserId()==5)
+				{
+					Operation detachedOp = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId());
+					_result = new DirectRefOrderItemList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DirectRefOrderItemList( new None (
+						DirectRefOrderItemFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DirectRefOrderItemList) _data.getItemsForUserFive();
+			if (_result == null)
+			{
+				if (!_data.isUserIdNull() && _data.getUserId()==5)
+				{
+					_op = DirectRefOrderItemFinder.orderId().eq(_data.getOrderId());
+				}
+				else 
+				{
+					_result = new DirectRefOrderItemList( new None (
+						DirectRefOrderItemFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DirectRefOrderItemList(_op);
+			_result.zSetForRelationship();
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setItemsForUserFive(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setItemsForUserFive(List itemsForUserFive)
+	{
+		DirectRefOrderItemList _itemsForUserFive = (DirectRefOrderItemList) itemsForUserFive;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setItemsForUserFive(_itemsForUserFive);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = DirectRefOrderItem.orderId and
+	DirectRefOrderItem.quantity = 10.5 and
+	DirectRefOrderItem.state != "In-Progress" and
+	DirectRefOrderItem.productId = Product.productId</pre>
+	* @return products without in progress
+	*/
+	public ProductList getProductsWithoutInProgress()
+	{
+		ProductList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(DirectRefOrderFinder.zGetProductsWithoutInProgressMapperFragment(), DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.zGetConstantOperation(0).and(DirectRefOrderItemFinder.zGetConstantOperation(1))));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(DirectRefOrderFinder.zGetProductsWithoutInProgressMapperFragment(), DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.zGetConstantOperation(0).and(DirectRefOrderItemFinder.zGetConstantOperation(1))));
+					_result = new ProductList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductList) _data.getProductsWithoutInProgress();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(DirectRefOrderFinder.zGetProductsWithoutInProgressMapperFragment(), DirectRefOrderItemFinder.orderId().eq(_data.getOrderId()).and(DirectRefOrderItemFinder.zGetConstantOperation(0).and(DirectRefOrderItemFinder.zGetConstantOperation(1))));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProductList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setProductsWithoutInProgress(ProductList productsWithoutInProgress)
+	{
+		ProductList _productsWithoutInProgress = (ProductList) productsWithoutInProgress;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductsWithoutInProgress(_productsWithoutInProgress);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		DirectRefOrderItemList items =
+		(DirectRefOrderItemList) _data.getItems();
+		DirectRefOrderStatus orderStatus =
+		(DirectRefOrderStatus) _data.getOrderStatus();
+		_behavior.insert(this);
+		if (items != null)
+		{
+			items.cascadeInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DirectRefOrderFinder.DirectRefOrderRelatedFinder parentFinder = (DirectRefOrderFinder.DirectRefOrderRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _newData = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		{
+			DirectRefOrderItemList items =
+			(DirectRefOrderItemList) _newData.getItems();
+			RelatedFinder dependentFinder = parentFinder.items();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, items != null, navigationStats);
+			if (items != null)
+			{
+				items.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getOrderStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			DirectRefOrderStatus orderStatus =
+			(DirectRefOrderStatus) _newData.getOrderStatus();
+			RelatedFinder dependentFinder = parentFinder.orderStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderStatus != null, navigationStats);
+			if (orderStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public DirectRefOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderData _data = (DirectRefOrderData) _behavior.getCurrentDataForWrite(this);
+		DirectRefOrderItemList items =
+		(DirectRefOrderItemList) _data.getItems();
+		DirectRefOrderStatus orderStatus =
+		(DirectRefOrderStatus) _data.getOrderStatus();
+		DirectRefOrder original = (DirectRefOrder) _behavior.copyThenInsert(this);
+		if (items != null)
+		{
+			items.zCascadeCopyThenInsertAll();
+		}
+
+		if (orderStatus != null)
+		{
+			orderStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getItems().cascadeDeleteAll();
+		{
+			DirectRefOrderStatus related = this.getOrderStatus();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return DirectRefOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DirectRefOrderFinder.getMithraObjectPortal();
+	}
+
+	public DirectRefOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, DirectRefOrderFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, DirectRefOrderFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, DirectRefOrderFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, DirectRefOrderFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderFinder.userId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		DirectRefOrderAbstract result = (DirectRefOrderAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ItemsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			DirectRefOrderItem item = (DirectRefOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(DirectRefOrderAbstract.this);
+		}
+	}
+
+	protected class ItemsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			DirectRefOrderItem item = (DirectRefOrderItem) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class OrderStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			DirectRefOrderStatus item = (DirectRefOrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.zSetParentContainerorder(DirectRefOrderAbstract.this);
+		}
+	}
+
+	protected class OrderStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			DirectRefOrderStatus item = (DirectRefOrderStatus) relatedObject;
+			item.setOrderId(getOrderId());
+			item.cascadeInsert();
+		}
+	}
+}
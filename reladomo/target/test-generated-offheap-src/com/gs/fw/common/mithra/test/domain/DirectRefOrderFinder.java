@@ -0,0 +1,1641 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.collections.impl.set.mutable.primitive.IntHashSet;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DirectRefOrderFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/DirectRefOrder";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.DirectRefOrder";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DirectRefOrder");
+	private static final DirectRefOrderSingleFinder<DirectRefOrder, Object, DirectRefOrder> finder = new DirectRefOrderSingleFinder<DirectRefOrder, Object, DirectRefOrder>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DirectRefOrderFinder.DirectRefOrderRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("orderDate");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addNormalAttributeName("trackingId");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("orderStatus");
+		finderMethodMap.addRelationshipName("itemsForUserFive");
+		finderMethodMap.addRelationshipName("productsWithoutInProgress");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = DirectRefOrderFinder.orderId().constructEqualityMapper(DirectRefOrderItemFinder.orderId());
+			result[1] = DirectRefOrderItemFinder.orderId().constructEqualityMapper(DirectRefOrderFinder.orderId());
+			result[2] = DirectRefOrderFinder.orderId().constructEqualityMapper(DirectRefOrderStatusFinder.orderId());
+			result[3] = DirectRefOrderStatusFinder.orderId().constructEqualityMapper(DirectRefOrderFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = DirectRefOrderFinder.userId().eq(1);
+			result[1] = DirectRefOrderFinder.userId().eq(5);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DirectRefOrder findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DirectRefOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DirectRefOrderList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DirectRefOrderList) finder.findMany(operation);
+	}
+
+	public static DirectRefOrderList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DirectRefOrderList) finder.findManyBypassCache(operation);
+	}
+
+	private static DirectRefOrder findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DirectRefOrder) FinderUtils.findOne(found);
+	}
+
+	public static DirectRefOrder findByPrimaryKey(int orderId)
+	{
+		return finder.findByPrimaryKey(orderId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DirectRefOrderData _castedTargetData = (DirectRefOrderData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DirectRefOrder zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DirectRefOrder) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DirectRefOrderRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DirectRefOrder, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private TimestampAttribute<ParentOwnerType> orderDate;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> description;
+		private StringAttribute<ParentOwnerType> state;
+		private StringAttribute<ParentOwnerType> trackingId;
+		private DirectRefOrderItemsFinderSubclass<ParentOwnerType> items;
+		private DirectRefOrderOrderStatusFinderSubclass<ParentOwnerType> orderStatus;
+		private DirectRefOrderItemsForUserFiveFinderSubclass<ParentOwnerType> itemsForUserFive;
+		private DirectRefOrderProductsWithoutInProgressFinderSubclass<ParentOwnerType> productsWithoutInProgress;
+		public DirectRefOrderRelatedFinder()
+		{
+			super();
+		}
+
+		public DirectRefOrderRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.DirectRefOrderFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DirectRefOrderFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DirectRefOrderFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DirectRefOrderFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.orderId();
+			attributes[1] = this.orderDate();
+			attributes[2] = this.userId();
+			attributes[3] = this.description();
+			attributes[4] = this.state();
+			attributes[5] = this.trackingId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.orderStatus());
+				relatedFinders.add(this.itemsForUserFive());
+				relatedFinders.add(this.productsWithoutInProgress());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.orderStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DirectRefOrder findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DirectRefOrderFinder.findOne(operation, false);
+		}
+
+		public DirectRefOrder findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DirectRefOrderFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DirectRefOrder> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DirectRefOrderList((Operation) operation);
+		}
+
+		public MithraList<? extends DirectRefOrder> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DirectRefOrderList result = (DirectRefOrderList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DirectRefOrder> constructEmptyList()
+		{
+			return new DirectRefOrderList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -744407479;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DirectRefOrderFinder.orderId(), this.mapper, this.zGetValueSelector());
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> orderDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.orderDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("ORDER_DATE","","orderDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(DirectRefOrderFinder.orderDate(), this.mapper, this.zGetValueSelector());
+				this.orderDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(DirectRefOrderFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(DirectRefOrderFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STATE","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(DirectRefOrderFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trackingId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trackingId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRACKING_ID","","trackingId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(DirectRefOrderFinder.trackingId(), this.mapper, this.zGetValueSelector());
+				this.trackingId = result;
+			}
+
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItemList, DirectRefOrder> items()
+		{
+			DirectRefOrderItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new DirectRefOrderItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public DirectRefOrderStatusFinder.DirectRefOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrderStatus, DirectRefOrder> orderStatus()
+		{
+			DirectRefOrderOrderStatusFinderSubclass<ParentOwnerType> result = this.orderStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderOrderStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new DirectRefOrderOrderStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderStatus = result;
+			}
+
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItem, DirectRefOrder> itemForProduct(int productId)
+		{
+			DirectRefOrderItemForProductFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderItemForProductReverseMapper(productId));
+			newMapper.setToMany(false);
+			result = new DirectRefOrderItemForProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productId);
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItem, DirectRefOrder> itemForProductSet(IntHashSet productIds)
+		{
+			DirectRefOrderItemForProductSetFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderItemForProductSetReverseMapper(productIds));
+			newMapper.setToMany(false);
+			result = new DirectRefOrderItemForProductSetFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,productIds);
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItemList, DirectRefOrder> expensiveItems(double price)
+		{
+			DirectRefOrderExpensiveItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderExpensiveItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new DirectRefOrderExpensiveItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, DirectRefOrder> cheapItems(double price)
+		{
+			DirectRefOrderCheapItemsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderCheapItemsReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new DirectRefOrderCheapItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, DirectRefOrder> cheapItemsWithCheck(double price)
+		{
+			DirectRefOrderCheapItemsWithCheckFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderCheapItemsWithCheckReverseMapper(price));
+			newMapper.setToMany(true);
+			result = new DirectRefOrderCheapItemsWithCheckFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,price);
+			return result;
+		}
+
+		public DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, DirectRefOrder> itemsForUserFive()
+		{
+			DirectRefOrderItemsForUserFiveFinderSubclass<ParentOwnerType> result = this.itemsForUserFive;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderItemsForUserFiveReverseMapper());
+				newMapper.setToMany(true);
+				result = new DirectRefOrderItemsForUserFiveFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.itemsForUserFive = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductCollectionFinderForRelatedClasses<ParentOwnerType, ProductList, DirectRefOrder> productsWithoutInProgress()
+		{
+			DirectRefOrderProductsWithoutInProgressFinderSubclass<ParentOwnerType> result = this.productsWithoutInProgress;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DirectRefOrderFinder.zGetDirectRefOrderProductsWithoutInProgressReverseMapper());
+				newMapper.setToMany(true);
+				result = new DirectRefOrderProductsWithoutInProgressFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productsWithoutInProgress = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DirectRefOrderFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DirectRefOrderFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DirectRefOrderCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DirectRefOrderRelatedFinder<ParentOwnerType, ReturnType, DirectRefOrderList, OwnerType>
+	{
+		public DirectRefOrderCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DirectRefOrderCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DirectRefOrderCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DirectRefOrderCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DirectRefOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DirectRefOrderRelatedFinder<ParentOwnerType, ReturnType, DirectRefOrderList, OwnerType>
+	implements ToOneFinder
+	{
+		public DirectRefOrderSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DirectRefOrderSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DirectRefOrder other)
+		{
+			return this.orderId().eq(other.getOrderId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DirectRefOrder findByPrimaryKey(int orderId)
+		{
+			DirectRefOrder _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(orderId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DirectRefOrder) _related;
+			if (_related == null)
+			{
+				_op = this.orderId().eq(orderId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DirectRefOrderSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DirectRefOrderSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DirectRefOrderSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructDirectRefOrderItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetDirectRefOrderItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructDirectRefOrderItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructDirectRefOrderItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemsPureReverseMapper()
+	{
+		Mapper itemsMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemsReverseMapper()
+	{
+		Mapper itemsMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemsMapper()
+	{
+		Mapper itemsMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		itemsMapper.setName("order");
+		return itemsMapper;
+	}
+
+	private static Mapper orderStatusReverseMapper = null;
+	public static Mapper zGetDirectRefOrderOrderStatusReverseMapper()
+	{
+		if (orderStatusReverseMapper == null)
+		{
+			orderStatusReverseMapper = zConstructDirectRefOrderOrderStatusReverseMapper();
+		}
+
+		return orderStatusReverseMapper;
+	}
+
+	private static Mapper orderStatusMapper = null;
+	public static Mapper zGetDirectRefOrderOrderStatusMapper()
+	{
+		if (orderStatusMapper == null)
+		{
+			orderStatusMapper = zConstructDirectRefOrderOrderStatusMapper();
+		}
+
+		return orderStatusMapper;
+	}
+
+	private static Mapper orderStatusPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderOrderStatusPureReverseMapper()
+	{
+		if (orderStatusPureReverseMapper == null)
+		{
+			orderStatusPureReverseMapper = zConstructDirectRefOrderOrderStatusPureReverseMapper();
+		}
+
+		return orderStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderOrderStatusPureReverseMapper()
+	{
+		Mapper orderStatusMapper = DirectRefOrderFinder.zGetConstantJoin(2);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderOrderStatusReverseMapper()
+	{
+		Mapper orderStatusMapper = DirectRefOrderFinder.zGetConstantJoin(2);
+		orderStatusMapper.setName("orderStatus");
+		return orderStatusMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderOrderStatusMapper()
+	{
+		Mapper orderStatusMapper = DirectRefOrderFinder.zGetConstantJoin(3);
+		orderStatusMapper.setName("order");
+		return orderStatusMapper;
+	}
+
+	public static Mapper zGetDirectRefOrderItemForProductReverseMapper(int productId)
+	{
+		return zConstructDirectRefOrderItemForProductReverseMapper(productId);
+	}
+
+	public static Mapper zGetDirectRefOrderItemForProductMapper(int productId)
+	{
+		return zConstructDirectRefOrderItemForProductMapper(productId);
+	}
+
+	private static Mapper itemForProductPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemForProductPureReverseMapper()
+	{
+		if (itemForProductPureReverseMapper == null)
+		{
+			itemForProductPureReverseMapper = zConstructDirectRefOrderItemForProductPureReverseMapper();
+		}
+
+		return itemForProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemForProductPureReverseMapper()
+	{
+		Mapper itemForProductMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemForProductReverseMapper(int productId)
+	{
+		Mapper itemForProductMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper itemForProductMapper = new FilteredMapper(itemForProductMapperInnerMapper, null, DirectRefOrderItemFinder.productId().eq(productId));
+		itemForProductMapper.setName("itemForProduct");
+		return itemForProductMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemForProductMapper(int productId)
+	{
+		Mapper itemForProductMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper itemForProductMapper = new FilteredMapper(itemForProductMapperInnerMapper, DirectRefOrderItemFinder.productId().eq(productId), null);
+		itemForProductMapper.setName("itemForProduct_Reverse");
+		return itemForProductMapper;
+	}
+
+	public static Mapper zGetDirectRefOrderItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		return zConstructDirectRefOrderItemForProductSetReverseMapper(productIds);
+	}
+
+	public static Mapper zGetDirectRefOrderItemForProductSetMapper(IntHashSet productIds)
+	{
+		return zConstructDirectRefOrderItemForProductSetMapper(productIds);
+	}
+
+	private static Mapper itemForProductSetPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemForProductSetPureReverseMapper()
+	{
+		if (itemForProductSetPureReverseMapper == null)
+		{
+			itemForProductSetPureReverseMapper = zConstructDirectRefOrderItemForProductSetPureReverseMapper();
+		}
+
+		return itemForProductSetPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemForProductSetPureReverseMapper()
+	{
+		Mapper itemForProductSetMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemForProductSetReverseMapper(IntHashSet productIds)
+	{
+		Mapper itemForProductSetMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper itemForProductSetMapper = new FilteredMapper(itemForProductSetMapperInnerMapper, null, DirectRefOrderItemFinder.productId().in(productIds));
+		itemForProductSetMapper.setName("itemForProductSet");
+		return itemForProductSetMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemForProductSetMapper(IntHashSet productIds)
+	{
+		Mapper itemForProductSetMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper itemForProductSetMapper = new FilteredMapper(itemForProductSetMapperInnerMapper, DirectRefOrderItemFinder.productId().in(productIds), null);
+		itemForProductSetMapper.setName("itemForProductSet_Reverse");
+		return itemForProductSetMapper;
+	}
+
+	public static Mapper zGetDirectRefOrderExpensiveItemsReverseMapper(double price)
+	{
+		return zConstructDirectRefOrderExpensiveItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetDirectRefOrderExpensiveItemsMapper(double price)
+	{
+		return zConstructDirectRefOrderExpensiveItemsMapper(price);
+	}
+
+	private static Mapper expensiveItemsPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderExpensiveItemsPureReverseMapper()
+	{
+		if (expensiveItemsPureReverseMapper == null)
+		{
+			expensiveItemsPureReverseMapper = zConstructDirectRefOrderExpensiveItemsPureReverseMapper();
+		}
+
+		return expensiveItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderExpensiveItemsPureReverseMapper()
+	{
+		Mapper expensiveItemsMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderExpensiveItemsReverseMapper(double price)
+	{
+		Mapper expensiveItemsMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, null, DirectRefOrderItemFinder.originalPrice().greaterThanEquals(price));
+		expensiveItemsMapper.setName("expensiveItems");
+		return expensiveItemsMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderExpensiveItemsMapper(double price)
+	{
+		Mapper expensiveItemsMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper expensiveItemsMapper = new FilteredMapper(expensiveItemsMapperInnerMapper, DirectRefOrderItemFinder.originalPrice().greaterThanEquals(price), null);
+		expensiveItemsMapper.setName("expensiveItems_Reverse");
+		return expensiveItemsMapper;
+	}
+
+	public static Mapper zGetDirectRefOrderCheapItemsReverseMapper(double price)
+	{
+		return zConstructDirectRefOrderCheapItemsReverseMapper(price);
+	}
+
+	public static Mapper zGetDirectRefOrderCheapItemsMapper(double price)
+	{
+		return zConstructDirectRefOrderCheapItemsMapper(price);
+	}
+
+	private static Mapper cheapItemsPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderCheapItemsPureReverseMapper()
+	{
+		if (cheapItemsPureReverseMapper == null)
+		{
+			cheapItemsPureReverseMapper = zConstructDirectRefOrderCheapItemsPureReverseMapper();
+		}
+
+		return cheapItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderCheapItemsPureReverseMapper()
+	{
+		Mapper cheapItemsMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderCheapItemsReverseMapper(double price)
+	{
+		Mapper cheapItemsMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, null, DirectRefOrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsMapper.setName("cheapItems");
+		return cheapItemsMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderCheapItemsMapper(double price)
+	{
+		Mapper cheapItemsMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper cheapItemsMapper = new FilteredMapper(cheapItemsMapperInnerMapper, DirectRefOrderItemFinder.originalPrice().lessThan(price), null);
+		cheapItemsMapper.setName("cheapItems_Reverse");
+		return cheapItemsMapper;
+	}
+
+	public static Mapper zGetDirectRefOrderCheapItemsWithCheckReverseMapper(double price)
+	{
+		return zConstructDirectRefOrderCheapItemsWithCheckReverseMapper(price);
+	}
+
+	public static Mapper zGetDirectRefOrderCheapItemsWithCheckMapper(double price)
+	{
+		return zConstructDirectRefOrderCheapItemsWithCheckMapper(price);
+	}
+
+	private static Mapper cheapItemsWithCheckPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderCheapItemsWithCheckPureReverseMapper()
+	{
+		if (cheapItemsWithCheckPureReverseMapper == null)
+		{
+			cheapItemsWithCheckPureReverseMapper = zConstructDirectRefOrderCheapItemsWithCheckPureReverseMapper();
+		}
+
+		return cheapItemsWithCheckPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderCheapItemsWithCheckPureReverseMapper()
+	{
+		Mapper cheapItemsWithCheckMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		cheapItemsWithCheckMapper.setName("cheapItemsWithCheck");
+		return cheapItemsWithCheckMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderCheapItemsWithCheckReverseMapper(double price)
+	{
+		Mapper cheapItemsWithCheckMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper cheapItemsWithCheckMapper = new FilteredMapper(cheapItemsWithCheckMapperInnerMapper, DirectRefOrderFinder.zGetConstantOperation(0), DirectRefOrderItemFinder.originalPrice().lessThan(price));
+		cheapItemsWithCheckMapper.setName("cheapItemsWithCheck");
+		return cheapItemsWithCheckMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderCheapItemsWithCheckMapper(double price)
+	{
+		Mapper cheapItemsWithCheckMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper cheapItemsWithCheckMapper = new FilteredMapper(cheapItemsWithCheckMapperInnerMapper, DirectRefOrderItemFinder.originalPrice().lessThan(price), DirectRefOrderFinder.zGetConstantOperation(0));
+		cheapItemsWithCheckMapper.setName("cheapItemsWithCheck_Reverse");
+		return cheapItemsWithCheckMapper;
+	}
+
+	private static Mapper itemsForUserFiveReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemsForUserFiveReverseMapper()
+	{
+		if (itemsForUserFiveReverseMapper == null)
+		{
+			itemsForUserFiveReverseMapper = zConstructDirectRefOrderItemsForUserFiveReverseMapper();
+		}
+
+		return itemsForUserFiveReverseMapper;
+	}
+
+	private static Mapper itemsForUserFiveMapper = null;
+	public static Mapper zGetDirectRefOrderItemsForUserFiveMapper()
+	{
+		if (itemsForUserFiveMapper == null)
+		{
+			itemsForUserFiveMapper = zConstructDirectRefOrderItemsForUserFiveMapper();
+		}
+
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper itemsForUserFivePureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderItemsForUserFivePureReverseMapper()
+	{
+		if (itemsForUserFivePureReverseMapper == null)
+		{
+			itemsForUserFivePureReverseMapper = zConstructDirectRefOrderItemsForUserFivePureReverseMapper();
+		}
+
+		return itemsForUserFivePureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemsForUserFivePureReverseMapper()
+	{
+		Mapper itemsForUserFiveMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		itemsForUserFiveMapper.setName("itemsForUserFive");
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemsForUserFiveReverseMapper()
+	{
+		Mapper itemsForUserFiveMapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper itemsForUserFiveMapper = new FilteredMapper(itemsForUserFiveMapperInnerMapper, DirectRefOrderFinder.zGetConstantOperation(1), null);
+		itemsForUserFiveMapper.setName("itemsForUserFive");
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderItemsForUserFiveMapper()
+	{
+		Mapper itemsForUserFiveMapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper itemsForUserFiveMapper = new FilteredMapper(itemsForUserFiveMapperInnerMapper, null, DirectRefOrderFinder.zGetConstantOperation(1));
+		itemsForUserFiveMapper.setName("itemsForUserFive_Reverse");
+		return itemsForUserFiveMapper;
+	}
+
+	private static Mapper productsWithoutInProgressReverseMapper = null;
+	public static Mapper zGetDirectRefOrderProductsWithoutInProgressReverseMapper()
+	{
+		if (productsWithoutInProgressReverseMapper == null)
+		{
+			productsWithoutInProgressReverseMapper = zConstructDirectRefOrderProductsWithoutInProgressReverseMapper();
+		}
+
+		return productsWithoutInProgressReverseMapper;
+	}
+
+	private static Mapper productsWithoutInProgressMapper = null;
+	public static Mapper zGetDirectRefOrderProductsWithoutInProgressMapper()
+	{
+		if (productsWithoutInProgressMapper == null)
+		{
+			productsWithoutInProgressMapper = zConstructDirectRefOrderProductsWithoutInProgressMapper();
+		}
+
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper productsWithoutInProgressPureReverseMapper = null;
+	public static Mapper zGetDirectRefOrderProductsWithoutInProgressPureReverseMapper()
+	{
+		if (productsWithoutInProgressPureReverseMapper == null)
+		{
+			productsWithoutInProgressPureReverseMapper = zConstructDirectRefOrderProductsWithoutInProgressPureReverseMapper();
+		}
+
+		return productsWithoutInProgressPureReverseMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderProductsWithoutInProgressPureReverseMapper()
+	{
+		Mapper productsWithoutInProgressc0Mapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressc1Mapper = DirectRefOrderItemFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressMapper = new ChainedMapper(productsWithoutInProgressc0Mapper,productsWithoutInProgressc1Mapper);
+		productsWithoutInProgressMapper.setName("productsWithoutInProgress");
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderProductsWithoutInProgressReverseMapper()
+	{
+		Mapper productsWithoutInProgressc0MapperInnerMapper = DirectRefOrderFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressc0Mapper = new FilteredMapper(productsWithoutInProgressc0MapperInnerMapper, null, DirectRefOrderItemFinder.zGetConstantOperation(0).and(DirectRefOrderItemFinder.zGetConstantOperation(1)));
+		Mapper productsWithoutInProgressc1Mapper = DirectRefOrderItemFinder.zGetConstantJoin(0);
+		Mapper productsWithoutInProgressMapper = new ChainedMapper(productsWithoutInProgressc0Mapper,productsWithoutInProgressc1Mapper);
+		productsWithoutInProgressMapper.setName("productsWithoutInProgress");
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper zConstructDirectRefOrderProductsWithoutInProgressMapper()
+	{
+		Mapper productsWithoutInProgressc0Mapper = DirectRefOrderItemFinder.zGetConstantJoin(1);
+		Mapper productsWithoutInProgressc1MapperInnerMapper = DirectRefOrderItemFinder.zGetConstantJoin(4);
+		Mapper productsWithoutInProgressc1Mapper = new FilteredMapper(productsWithoutInProgressc1MapperInnerMapper, DirectRefOrderItemFinder.zGetConstantOperation(0).and(DirectRefOrderItemFinder.zGetConstantOperation(1)), null);
+		Mapper productsWithoutInProgressMapper = new ChainedMapper(productsWithoutInProgressc0Mapper,productsWithoutInProgressc1Mapper);
+		productsWithoutInProgressMapper.setName("productsWithoutInProgress_Reverse");
+		return productsWithoutInProgressMapper;
+	}
+
+	private static Mapper productsWithoutInProgressMapperFragment = null;
+	public static Mapper zGetProductsWithoutInProgressMapperFragment()
+	{
+		if (productsWithoutInProgressMapperFragment == null)
+		{
+			productsWithoutInProgressMapperFragment = zConstructProductsWithoutInProgressMapperFragment();
+		}
+
+		return productsWithoutInProgressMapperFragment;
+	}
+
+	private static Mapper zConstructProductsWithoutInProgressMapperFragment()
+	{
+		return DirectRefOrderItemFinder.zGetConstantJoin(1);
+	}
+
+	/** maps to DIR_REF_ORDER.ORDER_ID **/
+	public static IntegerAttribute<DirectRefOrder> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to DIR_REF_ORDER.ORDER_DATE **/
+	public static TimestampAttribute<DirectRefOrder> orderDate()
+	{
+		return finder.orderDate();
+	}
+
+	/** maps to DIR_REF_ORDER.USER_ID **/
+	public static IntegerAttribute<DirectRefOrder> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to DIR_REF_ORDER.DESCRIPTION **/
+	public static StringAttribute<DirectRefOrder> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to DIR_REF_ORDER.STATE **/
+	public static StringAttribute<DirectRefOrder> state()
+	{
+		return finder.state();
+	}
+
+	/** maps to DIR_REF_ORDER.TRACKING_ID **/
+	public static StringAttribute<DirectRefOrder> trackingId()
+	{
+		return finder.trackingId();
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<DirectRefOrder, DirectRefOrderItemList, DirectRefOrder> items()
+	{
+		return finder.items();
+	}
+
+	public static class DirectRefOrderItemsFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItemList, DirectRefOrder>
+	{
+		public DirectRefOrderItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((DirectRefOrder) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected DirectRefOrderItemList plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getItems();
+		}
+	}
+
+	public static DirectRefOrderStatusFinder.DirectRefOrderStatusSingleFinderForRelatedClasses<DirectRefOrder, DirectRefOrderStatus, DirectRefOrder> orderStatus()
+	{
+		return finder.orderStatus();
+	}
+
+	public static class DirectRefOrderOrderStatusFinderSubclass<ParentOwnerType> extends DirectRefOrderStatusFinder.DirectRefOrderStatusSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrderStatus, DirectRefOrder>
+	{
+		public DirectRefOrderOrderStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderOrderStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((DirectRefOrder) _obj).isOrderStatusModifiedSinceDetachment();
+		}
+
+		protected DirectRefOrderStatus plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getOrderStatus();
+		}
+
+		protected DirectRefOrderStatusList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getOrderStatus();
+		}
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemSingleFinderForRelatedClasses<DirectRefOrder, DirectRefOrderItem, DirectRefOrder> itemForProduct(int productId)
+	{
+		return finder.itemForProduct(productId);
+	}
+
+	public static class DirectRefOrderItemForProductFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItem, DirectRefOrder>
+	{
+		private int productId;
+		public DirectRefOrderItemForProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , int productId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productId = productId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "itemForProduct";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemForProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productId
+			);
+		}
+
+		protected DirectRefOrderItem plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getItemForProduct(productId);
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getItemForProducts(productId);
+		}
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemSingleFinderForRelatedClasses<DirectRefOrder, DirectRefOrderItem, DirectRefOrder> itemForProductSet(IntHashSet productIds)
+	{
+		return finder.itemForProductSet(productIds);
+	}
+
+	public static class DirectRefOrderItemForProductSetFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemSingleFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItem, DirectRefOrder>
+	{
+		private IntHashSet productIds;
+		public DirectRefOrderItemForProductSetFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , IntHashSet productIds)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.productIds = productIds;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "itemForProductSet";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemForProductSetFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.productIds
+			);
+		}
+
+		protected DirectRefOrderItem plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getItemForProductSet(productIds);
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getItemForProductSets(productIds);
+		}
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<DirectRefOrder, DirectRefOrderItemList, DirectRefOrder> expensiveItems(double price)
+	{
+		return finder.expensiveItems(price);
+	}
+
+	public static class DirectRefOrderExpensiveItemsFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, DirectRefOrderItemList, DirectRefOrder>
+	{
+		private double price;
+		public DirectRefOrderExpensiveItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "expensiveItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderExpensiveItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected DirectRefOrderItemList plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getExpensiveItems(price);
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getExpensiveItems(price);
+		}
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<DirectRefOrder, List, DirectRefOrder> cheapItems(double price)
+	{
+		return finder.cheapItems(price);
+	}
+
+	public static class DirectRefOrderCheapItemsFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, DirectRefOrder>
+	{
+		private double price;
+		public DirectRefOrderCheapItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderCheapItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getCheapItems(price);
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getCheapItems(price);
+		}
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<DirectRefOrder, List, DirectRefOrder> cheapItemsWithCheck(double price)
+	{
+		return finder.cheapItemsWithCheck(price);
+	}
+
+	public static class DirectRefOrderCheapItemsWithCheckFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, DirectRefOrder>
+	{
+		private double price;
+		public DirectRefOrderCheapItemsWithCheckFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double price)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.price = price;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "cheapItemsWithCheck";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderCheapItemsWithCheckFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.price
+			);
+		}
+
+		protected List plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getCheapItemsWithCheck(price);
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getCheapItemsWithCheck(price);
+		}
+	}
+
+	public static DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<DirectRefOrder, List, DirectRefOrder> itemsForUserFive()
+	{
+		return finder.itemsForUserFive();
+	}
+
+	public static class DirectRefOrderItemsForUserFiveFinderSubclass<ParentOwnerType> extends DirectRefOrderItemFinder.DirectRefOrderItemCollectionFinderForRelatedClasses<ParentOwnerType, List, DirectRefOrder>
+	{
+		public DirectRefOrderItemsForUserFiveFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "itemsForUserFive";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderItemsForUserFiveFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected List plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getItemsForUserFive();
+		}
+
+		protected DirectRefOrderItemList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getItemsForUserFive();
+		}
+	}
+
+	public static ProductFinder.ProductCollectionFinderForRelatedClasses<DirectRefOrder, ProductList, DirectRefOrder> productsWithoutInProgress()
+	{
+		return finder.productsWithoutInProgress();
+	}
+
+	public static class DirectRefOrderProductsWithoutInProgressFinderSubclass<ParentOwnerType> extends ProductFinder.ProductCollectionFinderForRelatedClasses<ParentOwnerType, ProductList, DirectRefOrder>
+	{
+		public DirectRefOrderProductsWithoutInProgressFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "productsWithoutInProgress";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DirectRefOrderProductsWithoutInProgressFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductList plainValueOf(DirectRefOrder _obj)
+		{
+			return _obj.getProductsWithoutInProgress();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((DirectRefOrderList)_obj).getProductsWithoutInProgress();
+		}
+	}
+
+	public static Operation eq(DirectRefOrder other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(orderId());
+	}
+
+	public static DirectRefOrderSingleFinder<DirectRefOrder, Object, DirectRefOrder> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			orderId()
+			, orderId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+			, userId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.DirectRefOrder");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
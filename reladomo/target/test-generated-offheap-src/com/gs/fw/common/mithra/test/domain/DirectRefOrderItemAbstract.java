@@ -0,0 +1,1129 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class DirectRefOrderItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(DirectRefOrderItem.class.getName());
+	private static final RelationshipHashStrategy forproductInfo = new ProductInfoRhs();
+	private static final RelationshipHashStrategy fororderItemStatus = new OrderItemStatusRhs();
+	private static final RelationshipHashStrategy fornullTestOrder = new NullTestOrderRhs();
+	private static final RelationshipHashStrategy fororder = new OrderRhs();
+	private static final class ProductInfoRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			ProductData _castedTargetData = (ProductData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderItemStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			OrderItemStatusData _castedTargetData = (OrderItemStatusData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getItemId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class NullTestOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			DirectRefOrderData _castedTargetData = (DirectRefOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			DirectRefOrderData _castedTargetData = (DirectRefOrderData) _targetData;
+			if (!_castedSrcData.isOrderIdNull() && _castedSrcData.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			DirectRefOrderItemData _castedSrcData = (DirectRefOrderItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getOrderId(), _castedSrcData.isOrderIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public DirectRefOrderItemAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public DirectRefOrderItem getDetachedCopy() throws MithraBusinessException
+	{
+		return (DirectRefOrderItem) super.getDetachedCopy();
+	}
+
+	public DirectRefOrderItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DirectRefOrderItem result = (DirectRefOrderItem) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public DirectRefOrderItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (DirectRefOrderItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public DirectRefOrderItem zFindOriginal()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.currentData;
+		Operation op;
+		op = DirectRefOrderItemFinder.id().eq(data.getId());
+		return DirectRefOrderItemFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isOrderItemStatusModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new DirectRefOrderItemData();
+	}
+
+	protected void zSetFromDirectRefOrderItemData( DirectRefOrderItemData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromDirectRefOrderItemData( DirectRefOrderItemData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isDiscountPriceNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(DirectRefOrderItemFinder.discountPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(DirectRefOrderItemFinder.id(), newValue, true, false ,false);
+		if (d == null) return;
+		DirectRefOrderItemData data = (DirectRefOrderItemData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			OrderItemStatus orderItemStatus =
+			(OrderItemStatus ) data.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.setItemId(newValue);
+			}
+		}
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		if (data.isOrderIdNull()) MithraNullPrimitiveException.throwNew("orderId", data);
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(DirectRefOrderItemFinder.orderId(), newValue, false, false ,true);
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isOriginalPriceNull();
+	}
+
+	public double getOriginalPrice()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(DirectRefOrderItemFinder.originalPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(DirectRefOrderItemFinder.productId(), newValue, true, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DirectRefOrderItemFinder.quantity(), newValue, false, false ,true);
+	}
+
+	public boolean isStateNull()
+	{
+		return ((DirectRefOrderItemData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		DirectRefOrderItemData data = (DirectRefOrderItemData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(DirectRefOrderItemFinder.state(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, DirectRefOrderItemFinder.orderId(), false);
+		zNullify(behavior, data, DirectRefOrderItemFinder.productId(), true);
+		zNullify(behavior, data, DirectRefOrderItemFinder.quantity(), false);
+		zNullify(behavior, data, DirectRefOrderItemFinder.originalPrice(), false);
+		zNullify(behavior, data, DirectRefOrderItemFinder.discountPrice(), false);
+	}
+
+	public void setOrderIdNull()
+	{
+		zNullify(DirectRefOrderItemFinder.orderId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(DirectRefOrderItemFinder.productId(), true);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(DirectRefOrderItemFinder.quantity(), false);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(DirectRefOrderItemFinder.originalPrice(), false);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(DirectRefOrderItemFinder.discountPrice(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		DirectRefOrderItemData _newData = (DirectRefOrderItemData) _data;
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			OrderItemStatus orderItemStatus =
+			this.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				orderItemStatus.cascadeDelete();
+			}
+		}
+		else
+		{
+			OrderItemStatus orderItemStatus =
+			(OrderItemStatus) _newData.getOrderItemStatus();
+			if (orderItemStatus != null)
+			{
+				OrderItemStatus _existing =
+				this.getOrderItemStatus();
+				if (_existing == null)
+				{
+					orderItemStatus.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(orderItemStatus.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(orderItemStatus.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		DirectRefOrderItemData _newData = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderItemStatus() != null && !(_newData.getOrderItemStatus() instanceof NulledRelation))
+		{
+			((OrderItemStatus)_newData.getOrderItemStatus()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _newData = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getOrderItemStatus() != null && !(_newData.getOrderItemStatus() instanceof NulledRelation))
+		{
+			((OrderItemStatus)_newData.getOrderItemStatus()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public Product getProductInfo()
+	{
+		Product _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getProductInfo();
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (Product) _portal.unwrapRelatedObject(_data, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductInfo, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Product) _related;
+				if (_related == null)
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductFinder.productId().eq(_data.getProductId());
+					_result = ProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Product) _data.getProductInfo();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setProductInfo(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setProductInfo(Product productInfo)
+	{
+		Product _productInfo = (Product) productInfo;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductInfo(_productInfo);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(_productInfo.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_productInfo == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productInfo.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = OrderItemStatus.itemId</pre>
+	* @return The order item status
+	*/
+	public OrderItemStatus getOrderItemStatus()
+	{
+		OrderItemStatus _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = OrderItemStatusFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getOrderItemStatus();
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (OrderItemStatus) _portal.unwrapRelatedObject(_data, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, fororderItemStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderItemStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderItemStatusFinder.itemId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrderItemStatus() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (OrderItemStatus) _data.getOrderItemStatus();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = OrderItemStatusFinder.itemId().eq(_data.getId());
+					_result = OrderItemStatusFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrderItemStatus(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderItemStatus) _data.getOrderItemStatus();
+		}
+
+		if (_op != null)
+		{
+			_result = OrderItemStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setOrderItemStatus(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setOrderItemStatus(OrderItemStatus orderItemStatus)
+	{
+		OrderItemStatus _orderItemStatus = (OrderItemStatus) orderItemStatus;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrderItemStatus();
+			_data.setOrderItemStatus(_orderItemStatus);
+			if (_orderItemStatus != null)
+			{
+				_orderItemStatus.setItemId(_data.getId());
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setOrderItemStatus(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			OrderItemStatus _existing = this.getOrderItemStatus();
+			if (_orderItemStatus != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_orderItemStatus != null)
+				{
+					_orderItemStatus.setItemId(_data.getId());
+					_orderItemStatus.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isOrderItemStatusModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		if (_data.getOrderItemStatus() instanceof NulledRelation)
+		{
+			OrderItemStatus _existing = this.getOriginalPersistentObject().getOrderItemStatus();
+			return _existing != null;
+		}
+
+		OrderItemStatus orderItemStatus =
+		(OrderItemStatus) _data.getOrderItemStatus();
+		if( orderItemStatus != null)
+		{
+			return orderItemStatus.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId is not null and this.orderId = DirectRefOrder.orderId</pre>
+	* @return The null test order
+	*/
+	public DirectRefOrder getNullTestOrder()
+	{
+		DirectRefOrder _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isOrderIdNull()) && (!_data.isOrderIdNull()))
+			{
+				_portal = DirectRefOrderFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getNullTestOrder();
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (DirectRefOrder) _portal.unwrapRelatedObject(_data, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, fornullTestOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (DirectRefOrder) _related;
+				if (_related == null)
+				{
+					_op = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isOrderIdNull()) && (!_data.isOrderIdNull()))
+				{
+					Operation detachedOp = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+					_result = DirectRefOrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DirectRefOrder) _data.getNullTestOrder();
+			if (_result == null)
+			{
+				if ((!_data.isOrderIdNull()) && (!_data.isOrderIdNull()))
+				{
+					_op = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DirectRefOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setNullTestOrder(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setNullTestOrder(DirectRefOrder nullTestOrder)
+	{
+		DirectRefOrder _nullTestOrder = (DirectRefOrder) nullTestOrder;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setNullTestOrder(_nullTestOrder);
+			if (_nullTestOrder == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(_nullTestOrder.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_nullTestOrder == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_nullTestOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = DirectRefOrder.orderId</pre>
+	* @see DirectRefOrder#getItems() reverse relationship DirectRefOrder.getItems()
+	* @return The order
+	*/
+	public DirectRefOrder getOrder()
+	{
+		DirectRefOrder _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isOrderIdNull())
+			{
+				_portal = DirectRefOrderFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = _data.getOrder();
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (DirectRefOrder) _portal.unwrapRelatedObject(_data, o, null, null);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				Object _related = _portal.getAsOneFromCache(this, _data, fororder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (DirectRefOrder) _related;
+				if (_related == null)
+				{
+					_op = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getOrder() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (DirectRefOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					Operation detachedOp = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+					_result = DirectRefOrderFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setOrder(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DirectRefOrder) _data.getOrder();
+			if (_result == null)
+			{
+				if (!_data.isOrderIdNull())
+				{
+					_op = DirectRefOrderFinder.orderId().eq(_data.getOrderId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DirectRefOrderFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			_data.setOrder(_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setOrder(DirectRefOrder order)
+	{
+		DirectRefOrder _order = (DirectRefOrder) order;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getOrder();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((DirectRefOrder)_prev).getItems()).zMarkMoved( (DirectRefOrderItem) this);
+			}
+
+			_data.setOrder(_order);
+			_order.getItems().add( (DirectRefOrderItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_order == null)
+			{
+				this.setOrderIdNull();
+			}
+			else
+			{
+				this.setOrderId(
+					_order.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerorder(DirectRefOrderAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setOrder(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		OrderItemStatus orderItemStatus =
+		(OrderItemStatus) _data.getOrderItemStatus();
+		_behavior.insert(this);
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DirectRefOrderItemFinder.DirectRefOrderItemRelatedFinder parentFinder = (DirectRefOrderItemFinder.DirectRefOrderItemRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _newData = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getOrderItemStatus() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.orderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			OrderItemStatus orderItemStatus =
+			(OrderItemStatus) _newData.getOrderItemStatus();
+			RelatedFinder dependentFinder = parentFinder.orderItemStatus();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, orderItemStatus != null, navigationStats);
+			if (orderItemStatus != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(orderItemStatus, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public DirectRefOrderItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		DirectRefOrderItemData _data = (DirectRefOrderItemData) _behavior.getCurrentDataForWrite(this);
+		OrderItemStatus orderItemStatus =
+		(OrderItemStatus) _data.getOrderItemStatus();
+		DirectRefOrderItem original = (DirectRefOrderItem) _behavior.copyThenInsert(this);
+		if (orderItemStatus != null)
+		{
+			orderItemStatus.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			OrderItemStatus related = this.getOrderItemStatus();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return DirectRefOrderItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return DirectRefOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public DirectRefOrderItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, DirectRefOrderItemFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderItemFinder.orderId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, DirectRefOrderItemFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderItemFinder.productId(), true);
+		changed |= zUpdateDouble(behavior, data, newData, DirectRefOrderItemFinder.quantity(), false);
+		changed |= zUpdateString(behavior, data, newData, DirectRefOrderItemFinder.state(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, DirectRefOrderItemFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		DirectRefOrderItemAbstract result = (DirectRefOrderItemAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class OrderItemStatusAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemStatus item = (OrderItemStatus) relatedObject;
+			item.setItemId(getId());
+		}
+	}
+
+	protected class OrderItemStatusAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			OrderItemStatus item = (OrderItemStatus) relatedObject;
+			item.setItemId(getId());
+			item.cascadeInsert();
+		}
+	}
+}
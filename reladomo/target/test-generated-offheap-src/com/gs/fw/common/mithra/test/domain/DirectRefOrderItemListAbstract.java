@@ -0,0 +1,240 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DirectRefOrderItemListAbstract extends DelegatingList<DirectRefOrderItem> implements MithraTransactionalList<DirectRefOrderItem>
+{
+	public DirectRefOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DirectRefOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DirectRefOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DirectRefOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DirectRefOrderItem[] elements()
+	{
+		DirectRefOrderItem[] result = new DirectRefOrderItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DirectRefOrderItemList intersection(DirectRefOrderItemList another)
+	{
+		return (DirectRefOrderItemList)super.intersection(another);
+	}
+
+	public DirectRefOrderItem getDirectRefOrderItemAt(int index)
+	{
+		return (DirectRefOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.getDelegated().resolveRelationship(this, DirectRefOrderItemFinder.productInfo());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = OrderItemStatus.itemId</pre>
+	* @return The order item status
+	*/
+	public OrderItemStatusList getOrderItemStatus()
+	{
+		return (OrderItemStatusList) this.getDelegated().resolveRelationship(this, DirectRefOrderItemFinder.orderItemStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId is not null and this.orderId = DirectRefOrder.orderId</pre>
+	* @return The null test order
+	*/
+	public DirectRefOrderList getNullTestOrders()
+	{
+		return (DirectRefOrderList) this.getDelegated().resolveRelationship(this, DirectRefOrderItemFinder.nullTestOrder());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = DirectRefOrder.orderId</pre>
+	* @see DirectRefOrder#getItems() reverse relationship DirectRefOrder.getItems()
+	* @return The order
+	*/
+	public DirectRefOrderList getOrders()
+	{
+		return (DirectRefOrderList) this.getDelegated().resolveRelationship(this, DirectRefOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(DirectRefOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			DirectRefOrderItem item = this.getDirectRefOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DirectRefOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public DirectRefOrderItemList getNonPersistentCopy()
+	{
+		DirectRefOrderItemList result = new DirectRefOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DirectRefOrderItemList asAdhoc()
+	{
+		return (DirectRefOrderItemList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DirectRefOrderItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public DirectRefOrderItemList merge(MithraTransactionalList<DirectRefOrderItem> incoming, TopLevelMergeOptions<DirectRefOrderItem> mergeOptions)
+	{
+		return (DirectRefOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public DirectRefOrderItemList getDetachedCopy()
+	{
+		DirectRefOrderItemList result = new DirectRefOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(DirectRefOrderItemFinder.discountPrice(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(DirectRefOrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(DirectRefOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(DirectRefOrderItemFinder.originalPrice(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(DirectRefOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(DirectRefOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(DirectRefOrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(DirectRefOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(DirectRefOrderItemFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(DirectRefOrderItemFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(DirectRefOrderItemFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(DirectRefOrderItemFinder.discountPrice());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getOrderItemStatus()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DirectRefOrderStatusListAbstract extends DelegatingList<DirectRefOrderStatus> implements MithraTransactionalList<DirectRefOrderStatus>
+{
+	public DirectRefOrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DirectRefOrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DirectRefOrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DirectRefOrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DirectRefOrderStatus[] elements()
+	{
+		DirectRefOrderStatus[] result = new DirectRefOrderStatus[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DirectRefOrderStatusList intersection(DirectRefOrderStatusList another)
+	{
+		return (DirectRefOrderStatusList)super.intersection(another);
+	}
+
+	public DirectRefOrderStatus getDirectRefOrderStatusAt(int index)
+	{
+		return (DirectRefOrderStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = DirectRefOrder.orderId</pre>
+	* @see DirectRefOrder#getOrderStatus() reverse relationship DirectRefOrder.getOrderStatus()
+	* @return The order
+	*/
+	public DirectRefOrderList getOrders()
+	{
+		return (DirectRefOrderList) this.getDelegated().resolveRelationship(this, DirectRefOrderStatusFinder.order());
+	}
+
+	public void zSetParentContainerorder(DirectRefOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			DirectRefOrderStatus item = this.getDirectRefOrderStatusAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DirectRefOrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public DirectRefOrderStatusList getNonPersistentCopy()
+	{
+		DirectRefOrderStatusList result = new DirectRefOrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DirectRefOrderStatusList asAdhoc()
+	{
+		return (DirectRefOrderStatusList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DirectRefOrderStatus> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public DirectRefOrderStatusList merge(MithraTransactionalList<DirectRefOrderStatus> incoming, TopLevelMergeOptions<DirectRefOrderStatus> mergeOptions)
+	{
+		return (DirectRefOrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public DirectRefOrderStatusList getDetachedCopy()
+	{
+		DirectRefOrderStatusList result = new DirectRefOrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(DirectRefOrderStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(DirectRefOrderStatusFinder.lastUser(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(DirectRefOrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(DirectRefOrderStatusFinder.status(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(DirectRefOrderStatusFinder.status());
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class DisplayTextListAbstract extends DelegatingList<DisplayText> implements MithraDatedTransactionalList<DisplayText>
+{
+	public DisplayTextListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public DisplayTextListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public DisplayTextListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public DisplayTextListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public DisplayText[] elements()
+	{
+		DisplayText[] result = new DisplayText[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public DisplayTextList intersection(DisplayTextList another)
+	{
+		return (DisplayTextList)super.intersection(another);
+	}
+
+	public DisplayText getDisplayTextAt(int index)
+	{
+		return (DisplayText)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return DisplayTextFinder.getMithraObjectPortal();
+	}
+
+	public DisplayTextList getNonPersistentCopy()
+	{
+		DisplayTextList result = new DisplayTextList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public DisplayTextList asAdhoc()
+	{
+		return (DisplayTextList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<DisplayText> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public DisplayTextList merge(MithraTransactionalList<DisplayText> incoming, TopLevelMergeOptions<DisplayText> mergeOptions)
+	{
+		return (DisplayTextList) super.merge(incoming, mergeOptions);
+	}
+
+	public DisplayTextList getDetachedCopy()
+	{
+		DisplayTextList result = new DisplayTextList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DisplayTextFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DisplayTextFinder.businessDateTo(), newValue);
+	}
+
+	public void setDisplayTextI(int newValue)
+	{
+		zSetInteger(DisplayTextFinder.displayTextI(), newValue);
+	}
+
+	public void setDisplayTextT(byte[] newValue)
+	{
+		zSetByteArray(DisplayTextFinder.displayTextT(), newValue);
+	}
+
+	public void setLanguageN(String newValue)
+	{
+		zSetString(DisplayTextFinder.languageN(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(DisplayTextFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(DisplayTextFinder.processingDateTo(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
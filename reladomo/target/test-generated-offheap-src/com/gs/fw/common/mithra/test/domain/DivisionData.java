@@ -0,0 +1,426 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DivisionData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private String city;
+	private int divisionId;
+	private String divisionName;
+	private String sourceId;
+	private String state;
+	public boolean isCityNull()
+	{
+		return this.getCity() == null;
+	}
+
+	public boolean isDivisionIdNull()
+	{
+		return false;
+	}
+
+	public boolean isDivisionNameNull()
+	{
+		return this.getDivisionName() == null;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.getSourceId() == null;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.city);
+		out.writeInt(this.divisionId);
+		out.writeObject(this.divisionName);
+		out.writeObject(this.sourceId);
+		out.writeObject(this.state);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getCity()
+	{
+		return this.city;
+	}
+
+	public int zGetCityAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(city);
+	}
+
+	public void setCity(String value)
+	{
+		this.city = StringPool.getInstance().getOrAddToCache(value, DivisionFinder.isFullCache());
+	}
+
+	public void setCityNull()
+	{
+		this.setCity(null);
+	}
+
+	public int getDivisionId()
+	{
+		return this.divisionId;
+	}
+
+	public void setDivisionId(int value)
+	{
+		this.divisionId = value;
+	}
+
+	public void setDivisionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getDivisionName()
+	{
+		return this.divisionName;
+	}
+
+	public int zGetDivisionNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(divisionName);
+	}
+
+	public void setDivisionName(String value)
+	{
+		this.divisionName = StringPool.getInstance().getOrAddToCache(value, DivisionFinder.isFullCache());
+	}
+
+	public void setDivisionNameNull()
+	{
+		this.setDivisionName(null);
+	}
+
+	public String getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public int zGetSourceIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(sourceId);
+	}
+
+	public void setSourceId(String value)
+	{
+		this.sourceId = StringPool.getInstance().getOrAddToCache(value, DivisionFinder.isFullCache());
+	}
+
+	public void setSourceIdNull()
+	{
+		this.setSourceId(null);
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public int zGetStateAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(state);
+	}
+
+	public void setState(String value)
+	{
+		this.state = StringPool.getInstance().getOrAddToCache(value, DivisionFinder.isFullCache());
+	}
+
+	public void setStateNull()
+	{
+		this.setState(null);
+	}
+
+	protected void copyInto(DivisionData copy, boolean withRelationships)
+	{
+		copy.city = this.city;
+		copy.divisionId = this.divisionId;
+		copy.divisionName = this.divisionName;
+		copy.sourceId = this.sourceId;
+		copy.state = this.state;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.city = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DivisionFinder.isFullCache());
+		this.divisionId = in.readInt();
+		this.divisionName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DivisionFinder.isFullCache());
+		this.sourceId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DivisionFinder.isFullCache());
+		this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DivisionFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final DivisionData otherData = (DivisionData) other;
+		if (getDivisionId() != otherData.getDivisionId())
+		{
+			return false;
+		}
+
+		if (!isSourceIdNull() ? !getSourceId().equals(otherData.getSourceId()) : !otherData.isSourceIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.divisionId);
+		out.writeObject(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.divisionId = in.readInt();
+		this.sourceId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), DivisionFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getTeams()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setTeams(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final DivisionData divisionData = (DivisionData) newData;
+		this.setCity(divisionData.getCity());
+		this.setDivisionName(divisionData.getDivisionName());
+		this.setSourceId(divisionData.getSourceId());
+		this.setState(divisionData.getState());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final DivisionData other = (DivisionData) newData;
+		if (!isCityNull() ? !getCity().equals(other.getCity()) : !other.isCityNull())
+		{
+			return true;
+		}
+
+		if (!isDivisionNameNull() ? !getDivisionName().equals(other.getDivisionName()) : !other.isDivisionNameNull())
+		{
+			return true;
+		}
+
+		if (!isSourceIdNull() ? !getSourceId().equals(other.getSourceId()) : !other.isSourceIdNull())
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(other.getState()) : !other.isStateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		DivisionData copy = new DivisionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		DivisionData copy = new DivisionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "divisionId: "+(""+getDivisionId())+ " / ";
+		result += "sourceId: "+"'"+getSourceId()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.DivisionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return DivisionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return DivisionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.DivisionData";
+	}
+}
@@ -0,0 +1,328 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class EmployeeAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Employee.class.getName());
+	public EmployeeAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Employee getDetachedCopy() throws MithraBusinessException
+	{
+		return (Employee) super.getDetachedCopy();
+	}
+
+	public Employee getNonPersistentCopy() throws MithraBusinessException
+	{
+		Employee result = (Employee) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Employee copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Employee) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Employee zFindOriginal()
+	{
+		EmployeeData data = (EmployeeData) this.currentData;
+		Operation op;
+		op = EmployeeFinder.id().eq(data.getId());
+		op = op.and(EmployeeFinder.sourceId().eq(data.getSourceId()));
+		return EmployeeFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new EmployeeData();
+	}
+
+	protected void zSetFromEmployeeData( EmployeeData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromEmployeeData( EmployeeData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDesignationNull()
+	{
+		return ((EmployeeData) this.zSynchronizedGetData()).isDesignationNull();
+	}
+
+	public String getDesignation()
+	{
+		EmployeeData data = (EmployeeData) this.zSynchronizedGetData();
+		return data.getDesignation();
+	}
+
+	public void setDesignation(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'designation' cannot exceed maximum length of 20: " + newValue);
+		zSetString(EmployeeFinder.designation(), newValue, false, false );
+	}
+
+	public boolean isEmailNull()
+	{
+		return ((EmployeeData) this.zSynchronizedGetData()).isEmailNull();
+	}
+
+	public String getEmail()
+	{
+		EmployeeData data = (EmployeeData) this.zSynchronizedGetData();
+		return data.getEmail();
+	}
+
+	public void setEmail(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'email' cannot exceed maximum length of 20: " + newValue);
+		zSetString(EmployeeFinder.email(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((EmployeeData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		EmployeeData data = (EmployeeData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(EmployeeFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((EmployeeData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		EmployeeData data = (EmployeeData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 20: " + newValue);
+		zSetString(EmployeeFinder.name(), newValue, false, false );
+	}
+
+	public boolean isPhoneNull()
+	{
+		return ((EmployeeData) this.zSynchronizedGetData()).isPhoneNull();
+	}
+
+	public String getPhone()
+	{
+		EmployeeData data = (EmployeeData) this.zSynchronizedGetData();
+		return data.getPhone();
+	}
+
+	public void setPhone(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'phone' cannot exceed maximum length of 15: " + newValue);
+		zSetString(EmployeeFinder.phone(), newValue, false, false );
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return ((EmployeeData) this.zSynchronizedGetData()).isSourceIdNull();
+	}
+
+	public int getSourceId()
+	{
+		EmployeeData data = (EmployeeData) this.zSynchronizedGetData();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(EmployeeFinder.sourceId(), newValue, false, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		EmployeeData _newData = (EmployeeData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		EmployeeData _newData = (EmployeeData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		EmployeeData _newData = (EmployeeData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Employee zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Employee original = (Employee) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return EmployeeFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EmployeeFinder.getMithraObjectPortal();
+	}
+
+	public Employee getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, EmployeeFinder.designation(), false);
+		changed |= zUpdateString(behavior, data, newData, EmployeeFinder.email(), false);
+		changed |= zUpdateString(behavior, data, newData, EmployeeFinder.name(), false);
+		changed |= zUpdateString(behavior, data, newData, EmployeeFinder.phone(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, EmployeeFinder.id(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EmployeeFinder.sourceId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		EmployeeAbstract result = (EmployeeAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
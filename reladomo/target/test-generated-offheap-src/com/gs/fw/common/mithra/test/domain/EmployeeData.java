@@ -0,0 +1,409 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class EmployeeData
+implements MithraDataObject
+{
+	private String designation;
+	private String email;
+	private int id;
+	private String name;
+	private String phone;
+	private int sourceId;
+	public boolean isDesignationNull()
+	{
+		return this.getDesignation() == null;
+	}
+
+	public boolean isEmailNull()
+	{
+		return this.getEmail() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isPhoneNull()
+	{
+		return this.getPhone() == null;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.designation);
+		out.writeObject(this.email);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+		out.writeObject(this.phone);
+		out.writeInt(this.sourceId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDesignation()
+	{
+		return this.designation;
+	}
+
+	public int zGetDesignationAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(designation);
+	}
+
+	public void setDesignation(String value)
+	{
+		this.designation = StringPool.getInstance().getOrAddToCache(value, EmployeeFinder.isFullCache());
+	}
+
+	public void setDesignationNull()
+	{
+		this.setDesignation(null);
+	}
+
+	public String getEmail()
+	{
+		return this.email;
+	}
+
+	public int zGetEmailAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(email);
+	}
+
+	public void setEmail(String value)
+	{
+		this.email = StringPool.getInstance().getOrAddToCache(value, EmployeeFinder.isFullCache());
+	}
+
+	public void setEmailNull()
+	{
+		this.setEmail(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, EmployeeFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public String getPhone()
+	{
+		return this.phone;
+	}
+
+	public int zGetPhoneAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(phone);
+	}
+
+	public void setPhone(String value)
+	{
+		this.phone = StringPool.getInstance().getOrAddToCache(value, EmployeeFinder.isFullCache());
+	}
+
+	public void setPhoneNull()
+	{
+		this.setPhone(null);
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.sourceId = value;
+	}
+
+	public void setSourceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	protected void copyInto(EmployeeData copy, boolean withRelationships)
+	{
+		copy.designation = this.designation;
+		copy.email = this.email;
+		copy.id = this.id;
+		copy.name = this.name;
+		copy.phone = this.phone;
+		copy.sourceId = this.sourceId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.designation = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EmployeeFinder.isFullCache());
+		this.email = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EmployeeFinder.isFullCache());
+		this.id = in.readInt();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EmployeeFinder.isFullCache());
+		this.phone = StringPool.getInstance().getOrAddToCache((String)in.readObject(), EmployeeFinder.isFullCache());
+		this.sourceId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final EmployeeData otherData = (EmployeeData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (getSourceId() != otherData.getSourceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+		out.writeInt(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.sourceId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final EmployeeData employeeData = (EmployeeData) newData;
+		this.setDesignation(employeeData.getDesignation());
+		this.setEmail(employeeData.getEmail());
+		this.setName(employeeData.getName());
+		this.setPhone(employeeData.getPhone());
+		this.setSourceId(employeeData.getSourceId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final EmployeeData other = (EmployeeData) newData;
+		if (!isDesignationNull() ? !getDesignation().equals(other.getDesignation()) : !other.isDesignationNull())
+		{
+			return true;
+		}
+
+		if (!isEmailNull() ? !getEmail().equals(other.getEmail()) : !other.isEmailNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if (!isPhoneNull() ? !getPhone().equals(other.getPhone()) : !other.isPhoneNull())
+		{
+			return true;
+		}
+
+		if ( getSourceId() != other.getSourceId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		EmployeeData copy = new EmployeeData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		EmployeeData copy = new EmployeeData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.EmployeeData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return EmployeeFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return EmployeeFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.EmployeeData";
+	}
+}
@@ -0,0 +1,1229 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class EntityRestrictedItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		EntityRestrictedItemFinder.businessDate()
+	,
+		EntityRestrictedItemFinder.processingDate()
+	, EntityRestrictedItemFinder.zGetDoubleAttributes(),EntityRestrictedItemFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(EntityRestrictedItem.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrestrictedEntity = new RestrictedEntityRhs();
+	private static final class RestrictedEntityRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = RestrictedEntityFinder.businessDate();
+		private AsOfAttribute processingDate = RestrictedEntityFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EntityRestrictedItem _castedSrcObject = (EntityRestrictedItem) _srcObject;
+			EntityRestrictedItemData _castedSrcData = (EntityRestrictedItemData) _srcData;
+			RestrictedEntityData _castedTargetData = (RestrictedEntityData) _targetData;
+			if (_castedSrcData.getRestrictedItemId() == _castedTargetData.getRestrictedItemId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EntityRestrictedItemData _castedSrcData = (EntityRestrictedItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRestrictedItemId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isRestrictedEntityModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		if (_data.getRestrictedEntity() instanceof NulledRelation)
+		{
+			RestrictedEntity _existing = this.getOriginalPersistentObject().getRestrictedEntity();
+			return _existing != null;
+		}
+
+		RestrictedEntity restrictedEntity =
+		(RestrictedEntity) _data.getRestrictedEntity();
+		if( restrictedEntity != null)
+		{
+			return restrictedEntity.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public boolean isCommentsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		RestrictedItemCommentList comments =
+		(RestrictedItemCommentList) _data.getComments();
+		if( comments != null)
+		{
+			return comments.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public EntityRestrictedItemAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, EntityRestrictedItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, EntityRestrictedItemFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public EntityRestrictedItemAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public EntityRestrictedItemData zSynchronizedGetData()
+	{
+		return (EntityRestrictedItemData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !EntityRestrictedItemFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !EntityRestrictedItemFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertUntil(this, exclusiveUntil);
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		RestrictedEntity restrictedEntity =
+		(RestrictedEntity ) _data.getRestrictedEntity();
+		RestrictedItemCommentList comments =
+		(RestrictedItemCommentList ) _data.getComments();
+		_behavior.insert(this);
+		if (restrictedEntity != null)
+		{
+			restrictedEntity.cascadeInsert();
+		}
+
+		if (comments != null)
+		{
+			comments.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		EntityRestrictedItemFinder.EntityRestrictedItemRelatedFinder parentFinder = (EntityRestrictedItemFinder.EntityRestrictedItemRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		EntityRestrictedItemData _newData = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getRestrictedEntity() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.restrictedEntity();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			RestrictedEntity restrictedEntity =
+			(RestrictedEntity) _newData.getRestrictedEntity();
+			RelatedFinder dependentFinder = parentFinder.restrictedEntity();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, restrictedEntity != null, navigationStats);
+			if (restrictedEntity != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(restrictedEntity, dependentFinder, navigationStats);
+			}
+		}
+
+		{
+			RestrictedItemCommentList comments =
+			(RestrictedItemCommentList) _newData.getComments();
+			RelatedFinder dependentFinder = parentFinder.comments();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, comments != null, navigationStats);
+			if (comments != null)
+			{
+				comments.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public EntityRestrictedItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		RestrictedEntity restrictedEntity =
+		(RestrictedEntity ) _data.getRestrictedEntity();
+		RestrictedItemCommentList comments =
+		(RestrictedItemCommentList ) _data.getComments();
+		EntityRestrictedItem original = (EntityRestrictedItem) _behavior.copyThenInsert(this);
+		if (restrictedEntity != null)
+		{
+			restrictedEntity.zCascadeCopyThenInsert();
+		}
+
+		if (comments != null)
+		{
+			comments.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		{
+			RestrictedEntity related = this.getRestrictedEntity();
+			if (related != null)
+			related.cascadeInsertUntil(exclusiveUntil);
+		}
+
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public EntityRestrictedItem copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (EntityRestrictedItem) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public EntityRestrictedItem copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (EntityRestrictedItem) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			EntityRestrictedItemFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public EntityRestrictedItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		EntityRestrictedItemAbstract result = (EntityRestrictedItemAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (EntityRestrictedItem ) result;
+	}
+
+	public EntityRestrictedItem zFindOriginal()
+	{
+		EntityRestrictedItemData data = (EntityRestrictedItemData) this.currentData;
+		Operation op;
+		op = EntityRestrictedItemFinder.restrictedItemId().eq(data.getRestrictedItemId());
+		op = op.and(EntityRestrictedItemFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(EntityRestrictedItemFinder.processingDate().eq(this.getProcessingDate()));
+		return EntityRestrictedItemFinder.findOne(op);
+	}
+
+	public EntityRestrictedItem getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		EntityRestrictedItemAbstract result = (EntityRestrictedItemAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (EntityRestrictedItem ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isRestrictedEntityModifiedSinceDetachment()) return true;
+		if(isCommentsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public EntityRestrictedItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (EntityRestrictedItem) behavior.updateOriginalOrInsert(this);
+	}
+
+	public EntityRestrictedItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (EntityRestrictedItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			EntityRestrictedItemData data = (EntityRestrictedItemData) this.currentData;
+			Operation op = EntityRestrictedItemFinder.businessDate().eq(this.businessDate);
+			op = op.and(EntityRestrictedItemFinder.processingDate().eq(this.processingDate));
+			op = op.and(EntityRestrictedItemFinder.restrictedItemId().eq(data.getRestrictedItemId()));
+			return EntityRestrictedItemFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		EntityRestrictedItemData data = (EntityRestrictedItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && EntityRestrictedItemFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		EntityRestrictedItemData data = (EntityRestrictedItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return this.zSynchronizedGetData().isRestrictedItemIdNull();
+	}
+
+	public boolean isRufusListIdNull()
+	{
+		return this.zSynchronizedGetData().isRufusListIdNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.businessDateTo(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getRestrictedItemId()
+	{
+		return this.zSynchronizedGetData().getRestrictedItemId();
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		MithraDataObject d = zSetLong(EntityRestrictedItemFinder.restrictedItemId(), newValue, true ,false);
+		if (d == null) return;
+		EntityRestrictedItemData data = (EntityRestrictedItemData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			RestrictedEntity restrictedEntity =
+			(RestrictedEntity) data.getRestrictedEntity();
+			if (restrictedEntity != null)
+			{
+				restrictedEntity.setRestrictedItemId(newValue);
+			}
+
+			RestrictedItemCommentList comments =
+			(RestrictedItemCommentList) data.getComments();
+			if (comments != null)
+			{
+				comments.setRestrictedItemId(newValue);
+			}
+		}
+	}
+
+	public void setRestrictedItemIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetLong(EntityRestrictedItemFinder.restrictedItemId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		EntityRestrictedItemData data = (EntityRestrictedItemData) d;
+		RestrictedEntity restrictedEntity =
+		(RestrictedEntity) data.getRestrictedEntity();
+		if (restrictedEntity != null)
+		{
+			restrictedEntity.setRestrictedItemId(newValue);
+		}
+
+		RestrictedItemCommentList comments =
+		(RestrictedItemCommentList) data.getComments();
+		if (comments != null)
+		{
+			comments.setRestrictedItemId(newValue);
+		}
+	}
+
+	public String getRufusListId()
+	{
+		return this.zSynchronizedGetData().getRufusListId();
+	}
+
+	public void setRufusListId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 12)
+		{
+			throw new MithraBusinessException("Attribute 'rufusListId' cannot exceed maximum length of 12: " + newValue);
+		}
+
+		zSetString(EntityRestrictedItemFinder.rufusListId(), newValue, false );
+	}
+
+	public void setRufusListIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 12)
+		{
+			throw new MithraBusinessException("Attribute 'rufusListId' cannot exceed maximum length of 12: " + newValue);
+		}
+
+		zSetString(EntityRestrictedItemFinder.rufusListId(), newValue, false , exclusiveUntil);
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(EntityRestrictedItemFinder.updateBy(), newValue, false );
+	}
+
+	public void setUpdateByUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(EntityRestrictedItemFinder.updateBy(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		EntityRestrictedItemData data2 = (EntityRestrictedItemData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && EntityRestrictedItemFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		EntityRestrictedItemData _newData = (EntityRestrictedItemData) _data;
+		if (_newData.getRestrictedEntity() instanceof NulledRelation)
+		{
+			RestrictedEntity restrictedEntity =
+			this.getRestrictedEntity();
+			if (restrictedEntity != null)
+			{
+				restrictedEntity.cascadeTerminate();
+			}
+		}
+		else
+		{
+			RestrictedEntity restrictedEntity =
+			(RestrictedEntity) _newData.getRestrictedEntity();
+			if (restrictedEntity != null)
+			{
+				RestrictedEntity _existing =
+				this.getRestrictedEntity();
+				if (_existing == null)
+				{
+					restrictedEntity.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(restrictedEntity.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(restrictedEntity.zGetTxDataForRead());
+				}
+			}
+		}
+
+		{
+			RestrictedItemCommentList comments =
+			(RestrictedItemCommentList) _newData.getComments();
+			if (comments != null)
+			{
+				comments.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		EntityRestrictedItemData _newData = (EntityRestrictedItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getRestrictedEntity() != null && !(_newData.getRestrictedEntity() instanceof NulledRelation))
+		{
+			((RestrictedEntity)_newData.getRestrictedEntity()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getComments() != null && !(_newData.getComments() instanceof NulledRelation))
+		{
+			((RestrictedItemCommentList)_newData.getComments()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		EntityRestrictedItemData _newData = (EntityRestrictedItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getRestrictedEntity() != null && !(_newData.getRestrictedEntity() instanceof NulledRelation))
+		{
+			((RestrictedEntity)_newData.getRestrictedEntity()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getComments() != null && !(_newData.getComments() instanceof NulledRelation))
+		{
+			((RestrictedItemCommentList)_newData.getComments()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	RestrictedEntity.restrictedItemId = this.restrictedItemId</pre>
+	* @see RestrictedEntity#getRestrictedItem() reverse relationship RestrictedEntity.getRestrictedItem()
+	* @return The restricted entity
+	*/
+	public RestrictedEntity getRestrictedEntity()
+	{
+		RestrictedEntity _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = RestrictedEntityFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrestrictedEntity,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (RestrictedEntity) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(EntityRestrictedItemFinder.restrictedEntity().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getRestrictedEntity() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (RestrictedEntity) _data.getRestrictedEntity();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(EntityRestrictedItemFinder.restrictedEntity().zGetRelationshipMultiExtractor(), this);
+					_result = RestrictedEntityFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setRestrictedEntity(_result);
+				if (_result != null) _result.zSetParentContainerrestrictedItem(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (RestrictedEntity) _data.getRestrictedEntity();
+		}
+
+		if (_op != null)
+		{
+			_result = RestrictedEntityFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRestrictedEntity(RestrictedEntity restrictedEntity)
+	{
+		RestrictedEntity _restrictedEntity = (RestrictedEntity) restrictedEntity;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getRestrictedEntity();
+			_data.setRestrictedEntity(_restrictedEntity);
+			if (_restrictedEntity != null)
+			{
+				_restrictedEntity.setRestrictedItemId(_data.getRestrictedItemId());
+				_restrictedEntity.zSetParentContainerrestrictedItem(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setRestrictedEntity(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraDatedTransactionalObject)_prev).terminate();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			RestrictedEntity _existing = this.getRestrictedEntity();
+			if (_restrictedEntity != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeTerminate();
+				}
+
+				if (_restrictedEntity != null)
+				{
+					_restrictedEntity.setRestrictedItemId(_data.getRestrictedItemId());
+					_restrictedEntity.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	RestrictedItemComment.restrictedItemId=this.restrictedItemId</pre>
+	* @return comments
+	*/
+	public RestrictedItemCommentList getComments()
+	{
+		RestrictedItemCommentList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = RestrictedItemCommentFinder.restrictedItemId().eq(_data.getRestrictedItemId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (RestrictedItemCommentList) _data.getComments();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = RestrictedItemCommentFinder.restrictedItemId().eq(_data.getRestrictedItemId());
+					_result = new RestrictedItemCommentList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new CommentsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setComments(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (RestrictedItemCommentList) _data.getComments();
+			if (_result == null)
+			{
+				_result = new RestrictedItemCommentList();
+				_result.zSetAddHandler(new CommentsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setComments(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new RestrictedItemCommentList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new CommentsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setComments(RestrictedItemCommentList comments)
+	{
+		RestrictedItemCommentList _comments = (RestrictedItemCommentList) comments;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		EntityRestrictedItemData _data = (EntityRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _comments != null)
+			{
+				_comments.zMakeDetached(RestrictedItemCommentFinder.restrictedItemId().eq(_data.getRestrictedItemId()),
+					_data.getComments());
+			}
+
+			_data.setComments(_comments);
+			if (_comments != null)
+			{
+				_comments.setRestrictedItemId(_data.getRestrictedItemId());
+				_comments.zSetAddHandler(new CommentsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_comments.zSetAddHandler(new CommentsAddHandlerPersisted());
+			RestrictedItemCommentList commentsToDelete = new RestrictedItemCommentList();
+			commentsToDelete.addAll(this.getComments());
+			for(int i=0;i < _comments.size(); i++)
+			{
+				RestrictedItemComment item = _comments.getRestrictedItemCommentAt(i);
+				if (!commentsToDelete.remove(item))
+				{
+					item.setRestrictedItemId(_data.getRestrictedItemId());
+					item.cascadeInsert();
+				}
+			}
+
+			commentsToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return EntityRestrictedItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new EntityRestrictedItemData.EntityRestrictedItemDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		EntityRestrictedItemData data = (EntityRestrictedItemData) EntityRestrictedItemFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("EntityRestrictedItem has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromEntityRestrictedItemData( EntityRestrictedItemData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromEntityRestrictedItemData( EntityRestrictedItemData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) EntityRestrictedItemFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EntityRestrictedItemFinder.getMithraObjectPortal();
+	}
+
+	public EntityRestrictedItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(EntityRestrictedItemAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		EntityRestrictedItemAbstract from = (EntityRestrictedItemAbstract) f;
+		EntityRestrictedItemData newData = from.zSynchronizedGetData();
+		this.setRufusListId(newData.getRufusListId());
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		EntityRestrictedItemData _newData = (EntityRestrictedItemData) _data;
+		if (_newData.getRestrictedEntity() instanceof NulledRelation)
+		{
+			RestrictedEntity restrictedEntity =
+			this.getRestrictedEntity();
+			if (restrictedEntity != null)
+			{
+				restrictedEntity.cascadeTerminate();
+			}
+		}
+		else
+		{
+			RestrictedEntity restrictedEntity =
+			(RestrictedEntity) _newData.getRestrictedEntity();
+			if (restrictedEntity != null)
+			{
+				RestrictedEntity _existing =
+				this.getRestrictedEntity();
+				if (_existing == null)
+				{
+					restrictedEntity.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+				}
+				else
+				{
+					_existing.copyNonPrimaryKeyAttributesUntilFrom( restrictedEntity, exclusiveUntil );
+				}
+			}
+		}
+
+		RestrictedItemCommentList comments =
+		(RestrictedItemCommentList) _newData.getComments();
+		if (comments != null)
+		{
+			comments.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		EntityRestrictedItemData _newData = (EntityRestrictedItemData) _data;
+		RestrictedEntity restrictedEntity =
+		(RestrictedEntity) _newData.getRestrictedEntity();
+		if (restrictedEntity != null)
+		{
+			restrictedEntity.copyDetachedValuesToOriginalOrInsertIfNewUntil( exclusiveUntil );
+		}
+
+		RestrictedItemCommentList comments =
+		(RestrictedItemCommentList) _newData.getComments();
+		if (comments != null)
+		{
+			comments.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(EntityRestrictedItemAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		EntityRestrictedItemAbstract from = (EntityRestrictedItemAbstract)f;
+		EntityRestrictedItemData newData = from.zSynchronizedGetData();
+		this.setRufusListIdUntil(newData.getRufusListId(), exclusiveUntil);
+		this.setUpdateByUntil(newData.getUpdateBy(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		EntityRestrictedItemData newData = (EntityRestrictedItemData) d;
+		EntityRestrictedItemData data = (EntityRestrictedItemData) nd;
+		if (EntityRestrictedItemFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, EntityRestrictedItemFinder.restrictedItemId(), false);
+		changed |= zUpdateString(behavior, data, newData, EntityRestrictedItemFinder.rufusListId(), false);
+		changed |= zUpdateString(behavior, data, newData, EntityRestrictedItemFinder.updateBy(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, EntityRestrictedItemFinder.restrictedItemId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EntityRestrictedItemFinder.rufusListId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EntityRestrictedItemFinder.updateBy(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		{
+			RestrictedEntity related = this.getRestrictedEntity();
+			if (related != null)
+			related.cascadeTerminate();
+		}
+
+		this.getComments().cascadeDeleteAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		{
+			RestrictedEntity related = this.getRestrictedEntity();
+			if (related != null)
+			related.cascadeTerminateUntil(exclusiveUntil);
+		}
+
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		EntityRestrictedItemData data = ((EntityRestrictedItemData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		EntityRestrictedItemData data = ((EntityRestrictedItemData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		EntityRestrictedItemData data = ((EntityRestrictedItemData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public long generateAndSetRestrictedItemId()
+	{
+		long nextValue =(long) this.generateRestrictedItemId();
+		this.setRestrictedItemId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsRestrictedItemIdSet()
+	{
+		EntityRestrictedItemData data = this.zSynchronizedGetData();
+		return data.zGetIsRestrictedItemIdSet();
+	}
+
+	protected long generateRestrictedItemId()
+	{
+		Object sourceAttribute = null;
+		EntityRestrictedItemFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("RestrictedItem_Sequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		EntityRestrictedItemData data = (EntityRestrictedItemData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsRestrictedItemIdSet())
+		{
+			long newValue = this.generateRestrictedItemId();
+			data.setRestrictedItemId(newValue);
+			RestrictedEntity restrictedEntity =
+			(RestrictedEntity ) data.getRestrictedEntity();
+			if (restrictedEntity != null)
+			{
+				restrictedEntity.setRestrictedItemId(newValue);
+			}
+
+			RestrictedItemCommentList comments =
+			(RestrictedItemCommentList ) data.getComments();
+			if (comments != null)
+			{
+				comments.setRestrictedItemId(newValue);
+			}
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), EntityRestrictedItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), EntityRestrictedItemFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		EntityRestrictedItemData localData = (EntityRestrictedItemData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class RestrictedEntityAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			RestrictedEntity item = (RestrictedEntity) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+			item.zSetParentContainerrestrictedItem(EntityRestrictedItemAbstract.this);
+		}
+	}
+
+	protected class RestrictedEntityAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			RestrictedEntity item = (RestrictedEntity) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class CommentsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			RestrictedItemComment item = (RestrictedItemComment) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+		}
+	}
+
+	protected class CommentsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			RestrictedItemComment item = (RestrictedItemComment) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+			item.cascadeInsert();
+		}
+	}
+}
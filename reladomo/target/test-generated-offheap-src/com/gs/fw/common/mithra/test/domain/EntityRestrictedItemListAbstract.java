@@ -0,0 +1,201 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class EntityRestrictedItemListAbstract extends DelegatingList<EntityRestrictedItem> implements MithraDatedTransactionalList<EntityRestrictedItem>
+{
+	public EntityRestrictedItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public EntityRestrictedItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public EntityRestrictedItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public EntityRestrictedItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public EntityRestrictedItem[] elements()
+	{
+		EntityRestrictedItem[] result = new EntityRestrictedItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public EntityRestrictedItemList intersection(EntityRestrictedItemList another)
+	{
+		return (EntityRestrictedItemList)super.intersection(another);
+	}
+
+	public EntityRestrictedItem getEntityRestrictedItemAt(int index)
+	{
+		return (EntityRestrictedItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	RestrictedEntity.restrictedItemId = this.restrictedItemId</pre>
+	* @see RestrictedEntity#getRestrictedItem() reverse relationship RestrictedEntity.getRestrictedItem()
+	* @return The restricted entity
+	*/
+	public RestrictedEntityList getRestrictedEntities()
+	{
+		return (RestrictedEntityList) this.getDelegated().resolveRelationship(this, EntityRestrictedItemFinder.restrictedEntity());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	RestrictedItemComment.restrictedItemId=this.restrictedItemId</pre>
+	* @return comments
+	*/
+	public RestrictedItemCommentList getComments()
+	{
+		return (RestrictedItemCommentList) this.getDelegated().resolveRelationship(this, EntityRestrictedItemFinder.comments());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return EntityRestrictedItemFinder.getMithraObjectPortal();
+	}
+
+	public EntityRestrictedItemList getNonPersistentCopy()
+	{
+		EntityRestrictedItemList result = new EntityRestrictedItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public EntityRestrictedItemList asAdhoc()
+	{
+		return (EntityRestrictedItemList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<EntityRestrictedItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public EntityRestrictedItemList merge(MithraTransactionalList<EntityRestrictedItem> incoming, TopLevelMergeOptions<EntityRestrictedItem> mergeOptions)
+	{
+		return (EntityRestrictedItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public EntityRestrictedItemList getDetachedCopy()
+	{
+		EntityRestrictedItemList result = new EntityRestrictedItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)EntityRestrictedItemFinder.restrictedItemId(), false, "RestrictedItem_Sequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.businessDateTo(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EntityRestrictedItemFinder.processingDateTo(), newValue);
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(EntityRestrictedItemFinder.restrictedItemId(), newValue);
+	}
+
+	public void setRufusListId(String newValue)
+	{
+		zSetString(EntityRestrictedItemFinder.rufusListId(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(EntityRestrictedItemFinder.updateBy(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getComments()).cascadeDeleteAll();
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
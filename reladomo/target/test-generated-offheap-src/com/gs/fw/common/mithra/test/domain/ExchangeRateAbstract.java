@@ -0,0 +1,664 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ExchangeRateAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ExchangeRate.class.getName());
+	public ExchangeRateAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ExchangeRate getDetachedCopy() throws MithraBusinessException
+	{
+		return (ExchangeRate) super.getDetachedCopy();
+	}
+
+	public ExchangeRate getNonPersistentCopy() throws MithraBusinessException
+	{
+		ExchangeRate result = (ExchangeRate) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ExchangeRate copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		behavior.persistChildDelete(this);
+		ExchangeRate original = (ExchangeRate) behavior.updateOriginalOrInsert(this);
+		behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!behavior.isDeleted()) ((ExchangeRateData)this.transactionalState.getTxData()).zSetUpdated();
+		return original;
+	}
+
+	public ExchangeRate copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ExchangeRate) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public void zSetInserted()
+	{
+		MithraDataObject data;
+		boolean validTransactionalState = this.transactionalState != null;
+		if(validTransactionalState)
+		{
+			data = this.transactionalState.getTxData();
+			if (data == null)
+			{
+				data = this.currentData.copy();
+				this.transactionalState.setTxData(data);
+			}
+		}
+		else
+		{
+			data = this.currentData;
+		}
+
+		((ExchangeRateData)data).zSetUpdated();
+	}
+
+	public void zSetUpdated(List<AttributeUpdateWrapper> updates)
+	{
+		((ExchangeRateData)this.transactionalState.getTxData()).zSetUpdated();
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		ExchangeRateData otherData = (ExchangeRateData)other.zGetTxDataForRead();
+		return ((ExchangeRateData) this.zGetTxDataForRead()).zHasSameNullPrimaryKeyAttributes(otherData);
+	}
+
+	public ExchangeRate zFindOriginal()
+	{
+		ExchangeRateData data = (ExchangeRateData) this.zSynchronizedGetDataForPrimaryKey();
+		Operation op;
+		op = ExchangeRateFinder.currency().eq(data.getCurrency());
+		if(data._oldisSourceNull())
+		{
+			op = op.and(ExchangeRateFinder.source().isNull());
+		}
+		else
+		{
+			op = op.and(ExchangeRateFinder.source().eq(data._oldgetSource()));
+		}
+
+		op = op.and(ExchangeRateFinder.date().eq(data._oldgetDate()));
+		op = op.and(ExchangeRateFinder.acmapCode().eq(data.getAcmapCode()));
+		return ExchangeRateFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isChildrenModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ExchangeRateData();
+	}
+
+	protected void zSetFromExchangeRateData( ExchangeRateData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromExchangeRateData( ExchangeRateData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((ExchangeRateData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		ExchangeRateData data = (ExchangeRateData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		MithraDataObject d = zSetString(ExchangeRateFinder.acmapCode(), newValue, false, false );
+		if (d == null) return;
+		ExchangeRateData data = (ExchangeRateData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			ExchangeRateChildList children =
+			(ExchangeRateChildList ) data.getChildren();
+			if (children != null)
+			{
+				children.setAcmapCode(newValue);
+			}
+		}
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return ((ExchangeRateData) this.zSynchronizedGetData()).isCurrencyNull();
+	}
+
+	public String getCurrency()
+	{
+		ExchangeRateData data = (ExchangeRateData) this.zSynchronizedGetData();
+		return data.getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		throw new MithraBusinessException("Attribute 'currency' cannot exceed maximum length of 3: " + newValue);
+		MithraDataObject d = zSetString(ExchangeRateFinder.currency(), newValue, true, false );
+		if (d == null) return;
+		ExchangeRateData data = (ExchangeRateData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			ExchangeRateChildList children =
+			(ExchangeRateChildList ) data.getChildren();
+			if (children != null)
+			{
+				children.setCurrency(newValue);
+			}
+		}
+	}
+
+	public boolean isDateNull()
+	{
+		return ((ExchangeRateData) this.zSynchronizedGetData()).isDateNull();
+	}
+
+	public Timestamp getDate()
+	{
+		ExchangeRateData data = (ExchangeRateData) this.zSynchronizedGetData();
+		return data.getDate();
+	}
+
+	public void setDate(Timestamp newValue)
+	{
+		ExchangeRateChildList children =
+		(ExchangeRateChildList ) this.getChildren();
+		if (children != null)
+		{
+			children.setDt(newValue);
+		}
+
+		zSetTimestamp(ExchangeRateFinder.date(), newValue, false, false );
+	}
+
+	public boolean isExchangeRateNull()
+	{
+		return ((ExchangeRateData) this.zSynchronizedGetData()).isExchangeRateNull();
+	}
+
+	public double getExchangeRate()
+	{
+		ExchangeRateData data = (ExchangeRateData) this.zSynchronizedGetData();
+		if (data.isExchangeRateNull()) MithraNullPrimitiveException.throwNew("exchangeRate", data);
+		return data.getExchangeRate();
+	}
+
+	public void setExchangeRate(double newValue)
+	{
+		zSetDouble(ExchangeRateFinder.exchangeRate(), newValue, false, false ,true);
+	}
+
+	public boolean isSourceNull()
+	{
+		return ((ExchangeRateData) this.zSynchronizedGetData()).isSourceNull();
+	}
+
+	public int getSource()
+	{
+		ExchangeRateData data = (ExchangeRateData) this.zSynchronizedGetData();
+		if (data.isSourceNull()) MithraNullPrimitiveException.throwNew("source", data);
+		return data.getSource();
+	}
+
+	public void setSource(int newValue)
+	{
+		ExchangeRateChildList children =
+		(ExchangeRateChildList ) this.getChildren();
+		if (children != null)
+		{
+			children.setSource(newValue);
+		}
+
+		zSetInteger(ExchangeRateFinder.source(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ExchangeRateFinder.source(), false);
+		zNullify(behavior, data, ExchangeRateFinder.exchangeRate(), false);
+	}
+
+	public void setSourceNull()
+	{
+		zNullify(ExchangeRateFinder.source(), false);
+	}
+
+	public void setExchangeRateNull()
+	{
+		zNullify(ExchangeRateFinder.exchangeRate(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ExchangeRateData _newData = (ExchangeRateData) _data;
+		{
+			ExchangeRateChildList children =
+			(ExchangeRateChildList) _newData.getChildren();
+			if (children != null)
+			{
+				children.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ExchangeRateData _newData = (ExchangeRateData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getChildren() != null && !(_newData.getChildren() instanceof NulledRelation))
+		{
+			((ExchangeRateChildList)_newData.getChildren()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateData _newData = (ExchangeRateData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getChildren() != null && !(_newData.getChildren() instanceof NulledRelation))
+		{
+			((ExchangeRateChildList)_newData.getChildren()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zPersistDetachedChildDelete(MithraDataObject _data)
+	{
+		ExchangeRateData _newData = (ExchangeRateData) _data;
+		ExchangeRateChildList children =
+		(ExchangeRateChildList) _newData.getChildren();
+		if (children != null)
+		{
+			children.zCopyDetachedValuesDeleteIfRemovedOnly();
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.currency = ExchangeRateChild.currency and this.source = ExchangeRateChild.source and
+	this.date = ExchangeRateChild.dt</pre>
+	* @see ExchangeRateChild#getParent() reverse relationship ExchangeRateChild.getParent()
+	* @return children
+	*/
+	public ExchangeRateChildList getChildren()
+	{
+		ExchangeRateChildList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ExchangeRateData _data = (ExchangeRateData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isSourceNull())
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ExchangeRateFinder.children().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new ExchangeRateChildList( new None (
+					ExchangeRateChildFinder.childNum()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ExchangeRateChildList) _data.getChildren();
+			if (_result == null)
+			{
+				if (!_data.isSourceNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ExchangeRateFinder.children().zGetRelationshipMultiExtractor(), this);
+					_result = new ExchangeRateChildList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ChildrenAddHandlerInMemory());
+				}
+				else 
+				{
+					_result = new ExchangeRateChildList( new None (
+						ExchangeRateChildFinder.childNum()));
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (ExchangeRateData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildren(_result);
+				if (_result != null) _result.zSetParentContainerparent(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ExchangeRateChildList) _data.getChildren();
+			if (_result == null)
+			{
+				_result = new ExchangeRateChildList();
+				_result.zSetAddHandler(new ChildrenAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (ExchangeRateData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildren(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ExchangeRateChildList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ChildrenAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setChildren(ExchangeRateChildList children)
+	{
+		ExchangeRateChildList _children = (ExchangeRateChildList) children;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateData _data = (ExchangeRateData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _children != null)
+			{
+				_children.zMakeDetached(new RelationshipMultiEqualityOperation(ExchangeRateFinder.children().zGetRelationshipMultiExtractor(), this),
+					_data.getChildren());
+			}
+
+			_data.setChildren(_children);
+			if (_children != null)
+			{
+				_children.setCurrency(_data.getCurrency());
+				_children.setSource(_data.getSource());
+				_children.setDt(_data.getDate());
+				_children.setAcmapCode(_data.getAcmapCode());
+				_children.zSetParentContainerparent(this);
+				_children.zSetAddHandler(new ChildrenAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_children.zSetAddHandler(new ChildrenAddHandlerPersisted());
+			ExchangeRateChildList childrenToDelete = new ExchangeRateChildList();
+			childrenToDelete.addAll(this.getChildren());
+			for(int i=0;i < _children.size(); i++)
+			{
+				ExchangeRateChild item = _children.getExchangeRateChildAt(i);
+				if (!childrenToDelete.remove(item))
+				{
+					item.setCurrency(_data.getCurrency());
+					item.setSource(_data.getSource());
+					item.setDt(_data.getDate());
+					item.setAcmapCode(_data.getAcmapCode());
+					item.cascadeInsert();
+				}
+			}
+
+			childrenToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isChildrenModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ExchangeRateData _data = (ExchangeRateData) _behavior.getCurrentDataForRead(this);
+		ExchangeRateChildList children =
+		(ExchangeRateChildList) _data.getChildren();
+		if( children != null)
+		{
+			return children.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.currency = ExchangeRateChild.currency and ExchangeRateChild.childNum = 0 and
+	this.date = ExchangeRateChild.dt and ExchangeRateChild.source = {source}</pre>
+	* @return The specific child
+	*/
+	public ExchangeRateChild getSpecificChild(int source)
+	{
+		ExchangeRateChild _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ExchangeRateData _data = (ExchangeRateData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				_result = (ExchangeRateChild) ExchangeRateChildFinder.findByPrimaryKey(0,
+					_data.getCurrency(),
+					source,
+					_data.getDate(),
+					_data.getAcmapCode());
+			}
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateData _data = (ExchangeRateData) _behavior.getCurrentDataForWrite(this);
+		ExchangeRateChildList children =
+		(ExchangeRateChildList) _data.getChildren();
+		_behavior.insert(this);
+		if (children != null)
+		{
+			children.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		ExchangeRateFinder.ExchangeRateRelatedFinder parentFinder = (ExchangeRateFinder.ExchangeRateRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateData _newData = (ExchangeRateData) _behavior.getCurrentDataForWrite(this);
+		{
+			ExchangeRateChildList children =
+			(ExchangeRateChildList) _newData.getChildren();
+			RelatedFinder dependentFinder = parentFinder.children();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, children != null, navigationStats);
+			if (children != null)
+			{
+				children.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public ExchangeRate zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateData _data = (ExchangeRateData) _behavior.getCurrentDataForWrite(this);
+		ExchangeRateChildList children =
+		(ExchangeRateChildList) _data.getChildren();
+		ExchangeRate original = (ExchangeRate) _behavior.copyThenInsert(this);
+		if (children != null)
+		{
+			children.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getChildren().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ExchangeRateFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ExchangeRateFinder.getMithraObjectPortal();
+	}
+
+	public ExchangeRate getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, ExchangeRateFinder.exchangeRate(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ExchangeRateFinder.acmapCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ExchangeRateFinder.currency(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ExchangeRateFinder.date(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ExchangeRateFinder.source(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ExchangeRateAbstract result = (ExchangeRateAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ChildrenAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ExchangeRateChild item = (ExchangeRateChild) relatedObject;
+			item.setCurrency(getCurrency());
+			item.setSource(getSource());
+			item.setDt(getDate());
+			item.setAcmapCode(getAcmapCode());
+			item.zSetParentContainerparent(ExchangeRateAbstract.this);
+		}
+	}
+
+	protected class ChildrenAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ExchangeRateChild item = (ExchangeRateChild) relatedObject;
+			item.setCurrency(getCurrency());
+			item.setSource(getSource());
+			item.setDt(getDate());
+			item.setAcmapCode(getAcmapCode());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,535 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ExchangeRateChildAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ExchangeRateChild.class.getName());
+	private static final RelationshipHashStrategy forparent = new ParentRhs();
+	private static final class ParentRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ExchangeRateChildData _castedSrcData = (ExchangeRateChildData) _srcData;
+			ExchangeRateData _castedTargetData = (ExchangeRateData) _targetData;
+			if (_castedSrcData.getCurrency()!= null && _castedSrcData.getCurrency().equals(_castedTargetData.getCurrency()) && _castedSrcData.isSourceNull() == _castedTargetData.isSourceNull() && (_castedSrcData.isSourceNull() || _castedSrcData.getSource() == _castedTargetData.getSource()) && _castedSrcData.getDt()!= null && _castedSrcData.getDt().equals(_castedTargetData.getDate()) && _castedSrcData.getAcmapCode()!= null && _castedSrcData.getAcmapCode().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ExchangeRateChildData _castedSrcData = (ExchangeRateChildData) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getCurrency()),HashUtil.hash(_castedSrcData.getSource(), _castedSrcData.isSourceNull())),HashUtil.hash(_castedSrcData.getDt())),HashUtil.hash(_castedSrcData.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ExchangeRateChildData _castedSrcData = (ExchangeRateChildData) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_castedSrcData.getCurrency()),HashUtil.hash(_castedSrcData.getSource(), _castedSrcData.isSourceNull())),HashUtil.hash(_castedSrcData.getDt())),HashUtil.offHeapHash(_castedSrcData.getAcmapCode()));
+		}
+	}
+
+	public ExchangeRateChildAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ExchangeRateChild getDetachedCopy() throws MithraBusinessException
+	{
+		return (ExchangeRateChild) super.getDetachedCopy();
+	}
+
+	public ExchangeRateChild getNonPersistentCopy() throws MithraBusinessException
+	{
+		ExchangeRateChild result = (ExchangeRateChild) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ExchangeRateChild copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ExchangeRateChild original = (ExchangeRateChild) behavior.updateOriginalOrInsert(this);
+		behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!behavior.isDeleted()) ((ExchangeRateChildData)this.transactionalState.getTxData()).zSetUpdated();
+		return original;
+	}
+
+	public ExchangeRateChild copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ExchangeRateChild) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public void zSetInserted()
+	{
+		MithraDataObject data;
+		boolean validTransactionalState = this.transactionalState != null;
+		if(validTransactionalState)
+		{
+			data = this.transactionalState.getTxData();
+			if (data == null)
+			{
+				data = this.currentData.copy();
+				this.transactionalState.setTxData(data);
+			}
+		}
+		else
+		{
+			data = this.currentData;
+		}
+
+		((ExchangeRateChildData)data).zSetUpdated();
+	}
+
+	public void zSetUpdated(List<AttributeUpdateWrapper> updates)
+	{
+		((ExchangeRateChildData)this.transactionalState.getTxData()).zSetUpdated();
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		ExchangeRateChildData otherData = (ExchangeRateChildData)other.zGetTxDataForRead();
+		return ((ExchangeRateChildData) this.zGetTxDataForRead()).zHasSameNullPrimaryKeyAttributes(otherData);
+	}
+
+	public ExchangeRateChild zFindOriginal()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetDataForPrimaryKey();
+		Operation op;
+		op = ExchangeRateChildFinder.childNum().eq(data.getChildNum());
+		op = op.and(ExchangeRateChildFinder.currency().eq(data.getCurrency()));
+		if(data._oldisSourceNull())
+		{
+			op = op.and(ExchangeRateChildFinder.source().isNull());
+		}
+		else
+		{
+			op = op.and(ExchangeRateChildFinder.source().eq(data._oldgetSource()));
+		}
+
+		op = op.and(ExchangeRateChildFinder.dt().eq(data._oldgetDt()));
+		op = op.and(ExchangeRateChildFinder.acmapCode().eq(data.getAcmapCode()));
+		return ExchangeRateChildFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ExchangeRateChildData();
+	}
+
+	protected void zSetFromExchangeRateChildData( ExchangeRateChildData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromExchangeRateChildData( ExchangeRateChildData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((ExchangeRateChildData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ExchangeRateChildFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isChildNumNull()
+	{
+		return ((ExchangeRateChildData) this.zSynchronizedGetData()).isChildNumNull();
+	}
+
+	public int getChildNum()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetData();
+		return data.getChildNum();
+	}
+
+	public void setChildNum(int newValue)
+	{
+		zSetInteger(ExchangeRateChildFinder.childNum(), newValue, true, false ,false);
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return ((ExchangeRateChildData) this.zSynchronizedGetData()).isCurrencyNull();
+	}
+
+	public String getCurrency()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetData();
+		return data.getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		throw new MithraBusinessException("Attribute 'currency' cannot exceed maximum length of 3: " + newValue);
+		zSetString(ExchangeRateChildFinder.currency(), newValue, true, false );
+	}
+
+	public boolean isDtNull()
+	{
+		return ((ExchangeRateChildData) this.zSynchronizedGetData()).isDtNull();
+	}
+
+	public Timestamp getDt()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetData();
+		return data.getDt();
+	}
+
+	public void setDt(Timestamp newValue)
+	{
+		zSetTimestamp(ExchangeRateChildFinder.dt(), newValue, false, false );
+	}
+
+	public boolean isNameNull()
+	{
+		return ((ExchangeRateChildData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 20: " + newValue);
+		zSetString(ExchangeRateChildFinder.name(), newValue, false, false );
+	}
+
+	public boolean isSourceNull()
+	{
+		return ((ExchangeRateChildData) this.zSynchronizedGetData()).isSourceNull();
+	}
+
+	public int getSource()
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) this.zSynchronizedGetData();
+		if (data.isSourceNull()) MithraNullPrimitiveException.throwNew("source", data);
+		return data.getSource();
+	}
+
+	public void setSource(int newValue)
+	{
+		zSetInteger(ExchangeRateChildFinder.source(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ExchangeRateChildFinder.source(), false);
+	}
+
+	public void setSourceNull()
+	{
+		zNullify(ExchangeRateChildFinder.source(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ExchangeRateChildData _newData = (ExchangeRateChildData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ExchangeRateChildData _newData = (ExchangeRateChildData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateChildData _newData = (ExchangeRateChildData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(ExchangeRate.currency = this.currency and ExchangeRate.source = this.source and ExchangeRate.date = this.dt )</pre>
+	* @see ExchangeRate#getChildren() reverse relationship ExchangeRate.getChildren()
+	* @return The parent
+	*/
+	public ExchangeRate getParent()
+	{
+		ExchangeRate _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ExchangeRateChildData _data = (ExchangeRateChildData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isSourceNull())
+			{
+				_portal = ExchangeRateFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forparent, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ExchangeRate) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ExchangeRateChildFinder.parent().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getParent() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (ExchangeRate) _data.getParent();
+			if (_result == null)
+			{
+				if (!_data.isSourceNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ExchangeRateChildFinder.parent().zGetRelationshipMultiExtractor(), this);
+					_result = ExchangeRateFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (ExchangeRateChildData) _behavior.getCurrentDataForWrite(this);
+				_data.setParent(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ExchangeRate) _data.getParent();
+			if (_result == null)
+			{
+				if (!_data.isSourceNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(ExchangeRateChildFinder.parent().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ExchangeRateFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParent(ExchangeRate parent)
+	{
+		ExchangeRate _parent = (ExchangeRate) parent;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateChildData _data = (ExchangeRateChildData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getParent();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((ExchangeRate)_prev).getChildren()).zMarkMoved( (ExchangeRateChild) this);
+			}
+
+			_data.setParent(_parent);
+			_parent.getChildren().add( (ExchangeRateChild) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parent == null)
+			{
+				this.setCurrency(null);
+				this.setSourceNull();
+				this.setDt(null);
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setCurrency(
+					_parent.getCurrency());
+				this.setSource(
+					_parent.getSource());
+				this.setDt(
+					_parent.getDate());
+				this.setAcmapCode(
+					_parent.getAcmapCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerparent(ExchangeRateAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateChildData _data = (ExchangeRateChildData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParent(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ExchangeRateChild zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ExchangeRateChild original = (ExchangeRateChild) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ExchangeRateChildFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ExchangeRateChildFinder.getMithraObjectPortal();
+	}
+
+	public ExchangeRateChild getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ExchangeRateChildFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ExchangeRateChildFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ExchangeRateChildFinder.childNum(), false);
+		changed |= zUpdateString(behavior, data, newData, ExchangeRateChildFinder.currency(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ExchangeRateChildFinder.dt(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ExchangeRateChildFinder.source(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ExchangeRateChildAbstract result = (ExchangeRateChildAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
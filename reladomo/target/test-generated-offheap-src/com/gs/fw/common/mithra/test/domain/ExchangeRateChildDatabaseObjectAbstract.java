@@ -0,0 +1,516 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class ExchangeRateChildDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private ObjectSourceConnectionManager connectionManager;
+	private ObjectSourceSchemaManager schemaManager;
+	private ObjectSourceTablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "NAME";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.NAME";
+	private static final String PK_WITH_ALIAS = "t0.CHILD_NUM = ? AND t0.PROD_CURRENCY_C = ? AND t0.SOURCE_I = ? AND t0.THRU_Z = ?";
+	private static final String PK_INDEX_COLS = "CHILD_NUM,PROD_CURRENCY_C,SOURCE_I,THRU_Z";
+	protected ExchangeRateChildDatabaseObjectAbstract()
+	{
+		super("ExchangeRateChild", "com.gs.fw.common.mithra.test.domain.ExchangeRateChildFinder",
+			5, 5,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, true, true,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ExchangeRateChildFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return ExchangeRateChildFinder.getFinderInstance();
+	}
+
+	public static ExchangeRateChildData allocateOnHeapData()
+	{
+		return new ExchangeRateChildData();
+	}
+
+	public static ExchangeRateChildData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new ExchangeRateChildData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		ExchangeRateChildData data = new ExchangeRateChildData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(ExchangeRateChildFinder.getPrimaryKeyAttributes(), this, ExchangeRateChildFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(ExchangeRateChildFinder.getPrimaryKeyAttributes(), this, ExchangeRateChildFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(ExchangeRateChildFinder.getPrimaryKeyAttributes(), this, ExchangeRateChildFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(ExchangeRateChildFinder.getPrimaryKeyAttributes(), this, ExchangeRateChildFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			ExchangeRateChildFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			ExchangeRateChildFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			ExchangeRateChild.zConfigFullTx();
+		}
+		else
+		{
+			ExchangeRateChild.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return query.getSourceAttributeValueForSelectedObject(queryNumber);
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData)object;
+		return data.getAcmapCode();
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return query.getSourceAttributeValue(mapperStack,queryNumber);
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier(((String)source));
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType(((String)source));
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone(((String)source));
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection(((String)source));
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader(((String)source));
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateExchangeRateChildData(rs, dt ,((String)source));
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkExchangeRateChildData(1, (ExchangeRateChildData) data, rs, dt ,((String)source));
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateExchangeRateChildPkData(rs, dt, ((String)source));
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema(),((String)source));
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getExchangeRateChildTableName(((String)source));
+	}
+
+	public String getExchangeRateChildTableName(String sourceAttribute) throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName(), sourceAttribute);
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getChildNum());
+		stm.setString(pos++, data.getCurrency());
+		if( ! data._oldisSourceNull())
+		{
+			stm.setInt(pos++, data._oldgetSource());
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data._oldgetDt(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "CHILD_NUM = ? AND PROD_CURRENCY_C = ? AND SOURCE_I = ? AND THRU_Z = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) dataObj;
+		StringBuffer result = new StringBuffer();
+		result.append(" CHILD_NUM = ? ");
+		result.append(" AND ");
+		result.append(" PROD_CURRENCY_C = ? ");
+		if( data._oldisSourceNull())
+		{
+			result.append(" AND ");
+			result.append(" SOURCE_I IS NULL ");
+		}
+		else
+		{
+			result.append(" AND ");
+			result.append(" SOURCE_I = ? ");
+		}
+
+		result.append(" AND ");
+		result.append(" THRU_Z = ? ");
+		return result.toString();
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData) dataObj;
+		StringBuilder result = new StringBuilder();
+		result.append(" t0.");
+		result.append("CHILD_NUM = ? ");
+		result.append(" AND");
+		result.append(" t0.");
+		result.append("PROD_CURRENCY_C = ? ");
+		if( data._oldisSourceNull())
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("SOURCE_I IS NULL ");
+		}
+		else
+		{
+			result.append(" AND");
+			result.append(" t0.");
+			result.append("SOURCE_I = ? ");
+		}
+
+		result.append(" AND");
+		result.append(" t0.");
+		result.append("THRU_Z = ? ");
+		return result.toString();
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.CHILD_NUM,t0.PROD_CURRENCY_C,t0.SOURCE_I,t0.THRU_Z,t0.NAME";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias).append(".").append("CHILD_NUM");
+		result.append(",").append(databaseAlias).append(".").append("PROD_CURRENCY_C");
+		result.append(",").append(databaseAlias).append(".").append("SOURCE_I");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("NAME");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (ObjectSourceConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public ExchangeRateChildData inflateExchangeRateChildData(ResultSet rs, DatabaseType dt, String sourceAttribute)
+	throws SQLException
+	{
+		ExchangeRateChildData data = inflateExchangeRateChildPkData(rs, dt, sourceAttribute);
+		inflateNonPkExchangeRateChildData(5, data, rs, dt, sourceAttribute);
+		return data;
+	}
+
+	public ExchangeRateChildData inflateExchangeRateChildPkData(ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		ExchangeRateChildData _data = new ExchangeRateChildData();
+		int _pos = 1;
+		_data.setAcmapCode(sourceAttribute);
+		_data.setChildNum(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "childNum");
+		_data.setCurrency(trimString(_rs.getString(_pos++)));
+		_data.setSource(_rs.getInt(_pos++));
+		_data._oldsetSource(_data.getSource());
+		if (_rs.wasNull())
+		{
+			_data.setSourceNull();
+			_data._oldsetSourceNull();
+		}
+
+		Timestamp dttimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		_data.setDt(dttimestampValue);
+		_data._oldsetDt(dttimestampValue);
+		return _data;
+	}
+
+	public void inflateNonPkExchangeRateChildData(int _pos, ExchangeRateChildData _datax, ResultSet _rs, DatabaseType _dt, String sourceAttribute)
+	throws SQLException
+	{
+		{
+			ExchangeRateChildData _data = _datax;
+			_data.setName(trimString(_rs.getString(_pos++)));
+		}
+	}
+
+	public DatabaseType getDatabaseType(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseType(sourceAttribute);
+	}
+
+	public TimeZone getDatabaseTimeZone(String sourceAttribute)
+	{
+		return connectionManager.getDatabaseTimeZone(sourceAttribute);
+	}
+
+	protected String getSchema(String sourceAttribute)
+	{
+		return this.getSchemaGenericSource(sourceAttribute);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof ObjectSourceSchemaManager )
+		{
+			this.schemaManager = (ObjectSourceSchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement ObjectSourceSchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof ObjectSourceTablePartitionManager )
+		{
+			this.tablePartitionManager = (ObjectSourceTablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement ObjectSourceTablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		throw new RuntimeException("not implemented");
+	}
+
+	public String getDefaultTableName()
+	{
+		return "FXRATE_CHILD";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		ExchangeRateChildData data = (ExchangeRateChildData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getChildNum());
+		if(data.isCurrencyNull())
+		{
+			throwNullAttribute("currency");
+		}
+
+		stm.setString(pos++, data.getCurrency());
+		if (data.isSourceNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getSource());
+		}
+
+		if(data.isDtNull())
+		{
+			throwNullAttribute("dt");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getDt(), false, conversionTimeZone);
+		pos++;
+		if (data.isNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getName());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "CHILD_NUM,PROD_CURRENCY_C,SOURCE_I,THRU_Z,NAME";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		ExchangeRateChild newObject = new ExchangeRateChild();
+		newObject.zSetFromExchangeRateChildData((ExchangeRateChildData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.CHILD_NUM,t0.PROD_CURRENCY_C,t0.SOURCE_I,t0.THRU_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*5);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("CHILD_NUM");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("PROD_CURRENCY_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("SOURCE_I");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("THRU_Z");
+		return result.toString();
+	}
+}
@@ -0,0 +1,832 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ExchangeRateChildFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ExchangeRateChild";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ExchangeRateChild";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ExchangeRateChild");
+	private static final ExchangeRateChildSingleFinder<ExchangeRateChild, Object, ExchangeRateChild> finder = new ExchangeRateChildSingleFinder<ExchangeRateChild, Object, ExchangeRateChild>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ExchangeRateChildFinder.ExchangeRateChildRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("childNum");
+		finderMethodMap.addNormalAttributeName("currency");
+		finderMethodMap.addNormalAttributeName("source");
+		finderMethodMap.addNormalAttributeName("dt");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addRelationshipName("parent");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = ExchangeRateChildFinder.childNum().eq(0);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return ExchangeRateChildFinder.zSourceAttributeType;
+	}
+
+	public static ExchangeRateChild findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ExchangeRateChild findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ExchangeRateChildList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ExchangeRateChildList) finder.findMany(operation);
+	}
+
+	public static ExchangeRateChildList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ExchangeRateChildList) finder.findManyBypassCache(operation);
+	}
+
+	private static ExchangeRateChild findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ExchangeRateChild) FinderUtils.findOne(found);
+	}
+
+	public static ExchangeRateChild findByPrimaryKey(int childNum, String currency, int source, Timestamp dt, String acmapCode)
+	{
+		return finder.findByPrimaryKey(childNum, currency, source, dt, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ExchangeRateChildData _castedTargetData = (ExchangeRateChildData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getChildNum() && _bean.getO1AsString().equals(_castedTargetData.getCurrency()) && _bean.getI2AsInteger() == _castedTargetData.getSource() && _bean.getO2AsTimestamp().equals(_castedTargetData.getDt()) && _bean.getO3AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString())),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static ExchangeRateChild zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ExchangeRateChild) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ExchangeRateChildRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ExchangeRateChild, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return ExchangeRateChildFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> childNum;
+		private StringAttribute<ParentOwnerType> currency;
+		private IntegerAttribute<ParentOwnerType> source;
+		private TimestampAttribute<ParentOwnerType> dt;
+		private StringAttribute<ParentOwnerType> name;
+		private ExchangeRateChildParentFinderSubclass<ParentOwnerType> parent;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public ExchangeRateChildRelatedFinder()
+		{
+			super();
+		}
+
+		public ExchangeRateChildRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ExchangeRateChildFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ExchangeRateChildFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ExchangeRateChildFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ExchangeRateChildFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.childNum();
+			attributes[1] = this.currency();
+			attributes[2] = this.source();
+			attributes[3] = this.dt();
+			attributes[4] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.parent());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ExchangeRateChild findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ExchangeRateChildFinder.findOne(operation, false);
+		}
+
+		public ExchangeRateChild findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ExchangeRateChildFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ExchangeRateChild> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ExchangeRateChildList((Operation) operation);
+		}
+
+		public MithraList<? extends ExchangeRateChild> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ExchangeRateChildList result = (ExchangeRateChildList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ExchangeRateChild> constructEmptyList()
+		{
+			return new ExchangeRateChildList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1940819871;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return ExchangeRateChildFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> childNum()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.childNum;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHILD_NUM","","childNum",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ExchangeRateChildFinder.childNum(), this.mapper, this.zGetValueSelector());
+				this.childNum = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> currency()
+		{
+			StringAttribute<ParentOwnerType> result = this.currency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_CURRENCY_C","","currency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,3,true, false) :
+					new MappedStringAttribute(ExchangeRateChildFinder.currency(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parent");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ExchangeRate", "children");
+				this.currency = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> source()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.source;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SOURCE_I","","source",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, true) :
+					new MappedIntegerAttribute(ExchangeRateChildFinder.source(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parent");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ExchangeRate", "children");
+				this.source = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> dt()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.dt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","dt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, true) :
+					new MappedTimestampAttribute(ExchangeRateChildFinder.dt(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parent");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ExchangeRate", "children");
+				this.dt = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(ExchangeRateChildFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ExchangeRateChildFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public ExchangeRateFinder.ExchangeRateSingleFinderForRelatedClasses<ParentOwnerType, ExchangeRate, ExchangeRateChild> parent()
+		{
+			ExchangeRateChildParentFinderSubclass<ParentOwnerType> result = this.parent;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ExchangeRateFinder.zGetExchangeRateChildrenMapper());
+				newMapper.setToMany(false);
+				result = new ExchangeRateChildParentFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parent = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return ExchangeRateChildFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ExchangeRateChildFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ExchangeRateChildFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ExchangeRateChildCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ExchangeRateChildRelatedFinder<ParentOwnerType, ReturnType, ExchangeRateChildList, OwnerType>
+	{
+		public ExchangeRateChildCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ExchangeRateChildCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ExchangeRateChildCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ExchangeRateChildCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ExchangeRateChildSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ExchangeRateChildRelatedFinder<ParentOwnerType, ReturnType, ExchangeRateChildList, OwnerType>
+	implements ToOneFinder
+	{
+		public ExchangeRateChildSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ExchangeRateChildSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ExchangeRateChild other)
+		{
+			return this.childNum().eq(other.getChildNum())
+			.and(this.currency().eq(other.getCurrency()))
+			.and(this.source().eq(other.getSource()))
+			.and(this.dt().eq(other.getDt()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ExchangeRateChild findByPrimaryKey(int childNum, String currency, int source, Timestamp dt, String acmapCode)
+		{
+			ExchangeRateChild _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (currency != null && dt != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(childNum);
+				_bean.setO1(currency);
+				_bean.setI2AsInteger(source);
+				_bean.setO2(dt);
+				_bean.setO3(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ExchangeRateChild) _related;
+			if (_related == null)
+			{
+				_op = this.childNum().eq(childNum).and(this.currency().eq(currency)).and(this.source().eq(source)).and(this.dt().eq(dt)).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ExchangeRateChildSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ExchangeRateChildSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ExchangeRateChildSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to FXRATE_CHILD.CHILD_NUM **/
+	public static IntegerAttribute<ExchangeRateChild> childNum()
+	{
+		return finder.childNum();
+	}
+
+	/** maps to FXRATE_CHILD.PROD_CURRENCY_C **/
+	public static StringAttribute<ExchangeRateChild> currency()
+	{
+		return finder.currency();
+	}
+
+	/** maps to FXRATE_CHILD.SOURCE_I **/
+	public static IntegerAttribute<ExchangeRateChild> source()
+	{
+		return finder.source();
+	}
+
+	/** maps to FXRATE_CHILD.THRU_Z **/
+	public static TimestampAttribute<ExchangeRateChild> dt()
+	{
+		return finder.dt();
+	}
+
+	/** maps to FXRATE_CHILD.NAME **/
+	public static StringAttribute<ExchangeRateChild> name()
+	{
+		return finder.name();
+	}
+
+	public static StringAttribute<ExchangeRateChild> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static ExchangeRateFinder.ExchangeRateSingleFinderForRelatedClasses<ExchangeRateChild, ExchangeRate, ExchangeRateChild> parent()
+	{
+		return finder.parent();
+	}
+
+	public static class ExchangeRateChildParentFinderSubclass<ParentOwnerType> extends ExchangeRateFinder.ExchangeRateSingleFinderForRelatedClasses<ParentOwnerType, ExchangeRate, ExchangeRateChild>
+	{
+		public ExchangeRateChildParentFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parent";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ExchangeRateFinder.currency(),
+				ExchangeRateFinder.source(),
+				ExchangeRateFinder.date(),
+				ExchangeRateFinder.acmapCode()).withExtractors(
+				ExchangeRateChildFinder.currency(),
+				ExchangeRateChildFinder.source(),
+				ExchangeRateChildFinder.dt(),
+				ExchangeRateChildFinder.acmapCode()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ExchangeRateChildParentFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ExchangeRate plainValueOf(ExchangeRateChild _obj)
+		{
+			return _obj.getParent();
+		}
+
+		protected ExchangeRateList plainListValueOf(Object _obj)
+		{
+			return ((ExchangeRateChildList)_obj).getParents();
+		}
+	}
+
+	public static Operation eq(ExchangeRateChild other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(childNum());
+	}
+
+	public static ExchangeRateChildSingleFinder<ExchangeRateChild, Object, ExchangeRateChild> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			childNum()
+			, currency()
+			, source()
+			, dt()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			childNum()
+			, childNum()
+			, currency()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, currency()
+			, dt()
+			, source()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setUseMultiUpdate(false);
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ExchangeRateFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setUseMultiUpdate(false);
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ExchangeRateFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ExchangeRateChild");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,1155 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class FileDirectoryAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(FileDirectory.class.getName());
+	private static final RelationshipHashStrategy forparentDirectory = new ParentDirectoryRhs();
+	private static final class ParentDirectoryRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			FileDirectoryData _castedSrcData = (FileDirectoryData) _srcData;
+			FileDirectoryData _castedTargetData = (FileDirectoryData) _targetData;
+			if (_castedSrcData.getDrive()!= null && _castedSrcData.getDrive().equals(_castedTargetData.getDrive()) && !_castedSrcData.isParentDirectoryIdNull() && _castedSrcData.getParentDirectoryId() == _castedTargetData.getFileDirectoryId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			FileDirectoryData _castedSrcData = (FileDirectoryData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getParentDirectoryId(), _castedSrcData.isParentDirectoryIdNull()),HashUtil.hash(_castedSrcData.getDrive()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			FileDirectoryData _castedSrcData = (FileDirectoryData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getParentDirectoryId(), _castedSrcData.isParentDirectoryIdNull()),HashUtil.offHeapHash(_castedSrcData.getDrive()));
+		}
+	}
+
+	public FileDirectoryAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public FileDirectory getDetachedCopy() throws MithraBusinessException
+	{
+		return (FileDirectory) super.getDetachedCopy();
+	}
+
+	public FileDirectory getNonPersistentCopy() throws MithraBusinessException
+	{
+		FileDirectory result = (FileDirectory) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public FileDirectory copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (FileDirectory) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public FileDirectory zFindOriginal()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.currentData;
+		Operation op;
+		op = FileDirectoryFinder.fileDirectoryId().eq(data.getFileDirectoryId());
+		op = op.and(FileDirectoryFinder.drive().eq(data.getDrive()));
+		return FileDirectoryFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isChildDirectoriesModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new FileDirectoryData();
+	}
+
+	protected void zSetFromFileDirectoryData( FileDirectoryData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromFileDirectoryData( FileDirectoryData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCreationDateNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isCreationDateNull();
+	}
+
+	public Timestamp getCreationDate()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getCreationDate();
+	}
+
+	public void setCreationDate(Timestamp newValue)
+	{
+		zSetTimestamp(FileDirectoryFinder.creationDate(), newValue, false, false );
+	}
+
+	public boolean isDriveNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isDriveNull();
+	}
+
+	public String getDrive()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getDrive();
+	}
+
+	public void setDrive(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'drive' cannot exceed maximum length of 10: " + newValue);
+		MithraDataObject d = zSetString(FileDirectoryFinder.drive(), newValue, true, false );
+		if (d == null) return;
+		FileDirectoryData data = (FileDirectoryData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			FileDirectoryList childDirectories =
+			(FileDirectoryList ) data.getChildDirectories();
+			if (childDirectories != null)
+			{
+				childDirectories.setDrive(newValue);
+			}
+		}
+	}
+
+	public boolean isFileDirectoryIdNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isFileDirectoryIdNull();
+	}
+
+	public int getFileDirectoryId()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getFileDirectoryId();
+	}
+
+	public void setFileDirectoryId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(FileDirectoryFinder.fileDirectoryId(), newValue, true, false ,false);
+		if (d == null) return;
+		FileDirectoryData data = (FileDirectoryData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			FileDirectoryList childDirectories =
+			(FileDirectoryList ) data.getChildDirectories();
+			if (childDirectories != null)
+			{
+				childDirectories.setParentDirectoryId(newValue);
+			}
+		}
+	}
+
+	public boolean isIsDirectoryNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isIsDirectoryNull();
+	}
+
+	public int getIsDirectory()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		if (data.isIsDirectoryNull()) MithraNullPrimitiveException.throwNew("isDirectory", data);
+		return data.getIsDirectory();
+	}
+
+	public void setIsDirectory(int newValue)
+	{
+		zSetInteger(FileDirectoryFinder.isDirectory(), newValue, false, false ,true);
+	}
+
+	public boolean isModificationDateNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isModificationDateNull();
+	}
+
+	public Date getModificationDate()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getModificationDate();
+	}
+
+	public void setModificationDate(Date newValue)
+	{
+		zSetDate(FileDirectoryFinder.modificationDate(), newValue, false, false );
+	}
+
+	public boolean isNameNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 256: " + newValue);
+		zSetString(FileDirectoryFinder.name(), newValue, false, false );
+	}
+
+	public boolean isNoteNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isNoteNull();
+	}
+
+	public String getNote()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getNote();
+	}
+
+	public void setNote(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'note' cannot exceed maximum length of 20: " + newValue);
+		zSetString(FileDirectoryFinder.note(), newValue, false, false );
+	}
+
+	public boolean isParentDirectoryIdNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isParentDirectoryIdNull();
+	}
+
+	public int getParentDirectoryId()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		if (data.isParentDirectoryIdNull()) MithraNullPrimitiveException.throwNew("parentDirectoryId", data);
+		return data.getParentDirectoryId();
+	}
+
+	public void setParentDirectoryId(int newValue)
+	{
+		zSetInteger(FileDirectoryFinder.parentDirectoryId(), newValue, false, false ,true);
+	}
+
+	public boolean isSomeOtherDateNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isSomeOtherDateNull();
+	}
+
+	public Date getSomeOtherDate()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getSomeOtherDate();
+	}
+
+	public void setSomeOtherDate(Date newValue)
+	{
+		zSetDate(FileDirectoryFinder.someOtherDate(), newValue, false, false );
+	}
+
+	public boolean isSomeOtherTimestampNull()
+	{
+		return ((FileDirectoryData) this.zSynchronizedGetData()).isSomeOtherTimestampNull();
+	}
+
+	public Timestamp getSomeOtherTimestamp()
+	{
+		FileDirectoryData data = (FileDirectoryData) this.zSynchronizedGetData();
+		return data.getSomeOtherTimestamp();
+	}
+
+	public void setSomeOtherTimestamp(Timestamp newValue)
+	{
+		zSetTimestamp(FileDirectoryFinder.someOtherTimestamp(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, FileDirectoryFinder.parentDirectoryId(), false);
+		zNullify(behavior, data, FileDirectoryFinder.isDirectory(), false);
+	}
+
+	public void setParentDirectoryIdNull()
+	{
+		zNullify(FileDirectoryFinder.parentDirectoryId(), false);
+	}
+
+	public void setIsDirectoryNull()
+	{
+		zNullify(FileDirectoryFinder.isDirectory(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		FileDirectoryData _newData = (FileDirectoryData) _data;
+		{
+			FileDirectoryList childDirectories =
+			(FileDirectoryList) _newData.getChildDirectories();
+			if (childDirectories != null)
+			{
+				childDirectories.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		FileDirectoryData _newData = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getChildDirectories() != null && !(_newData.getChildDirectories() instanceof NulledRelation))
+		{
+			((FileDirectoryList)_newData.getChildDirectories()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _newData = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getChildDirectories() != null && !(_newData.getChildDirectories() instanceof NulledRelation))
+		{
+			((FileDirectoryList)_newData.getChildDirectories()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.fileDirectoryId = FileDirectory.parentDirectoryId</pre>
+	* @see FileDirectory#getParentDirectory() reverse relationship FileDirectory.getParentDirectory()
+	* @return child directories
+	*/
+	public FileDirectoryList getChildDirectories()
+	{
+		FileDirectoryList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.childDirectories().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (FileDirectoryList) _data.getChildDirectories();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(FileDirectoryFinder.childDirectories().zGetRelationshipMultiExtractor(), this);
+					_result = new FileDirectoryList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ChildDirectoriesAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildDirectories(_result);
+				if (_result != null) _result.zSetParentContainerparentDirectory(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (FileDirectoryList) _data.getChildDirectories();
+			if (_result == null)
+			{
+				_result = new FileDirectoryList();
+				_result.zSetAddHandler(new ChildDirectoriesAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+				_data.setChildDirectories(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new FileDirectoryList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ChildDirectoriesAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setChildDirectories(FileDirectoryList childDirectories)
+	{
+		FileDirectoryList _childDirectories = (FileDirectoryList) childDirectories;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _childDirectories != null)
+			{
+				_childDirectories.zMakeDetached(new RelationshipMultiEqualityOperation(FileDirectoryFinder.childDirectories().zGetRelationshipMultiExtractor(), this),
+					_data.getChildDirectories());
+			}
+
+			_data.setChildDirectories(_childDirectories);
+			if (_childDirectories != null)
+			{
+				_childDirectories.setDrive(_data.getDrive());
+				_childDirectories.setParentDirectoryId(_data.getFileDirectoryId());
+				_childDirectories.zSetParentContainerparentDirectory(this);
+				_childDirectories.zSetAddHandler(new ChildDirectoriesAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_childDirectories.zSetAddHandler(new ChildDirectoriesAddHandlerPersisted());
+			FileDirectoryList childDirectoriesToDelete = new FileDirectoryList();
+			childDirectoriesToDelete.addAll(this.getChildDirectories());
+			for(int i=0;i < _childDirectories.size(); i++)
+			{
+				FileDirectory item = _childDirectories.getFileDirectoryAt(i);
+				if (!childDirectoriesToDelete.remove(item))
+				{
+					item.setDrive(_data.getDrive());
+					item.setParentDirectoryId(_data.getFileDirectoryId());
+					item.cascadeInsert();
+				}
+			}
+
+			childDirectoriesToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isChildDirectoriesModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		FileDirectoryList childDirectories =
+		(FileDirectoryList) _data.getChildDirectories();
+		if( childDirectories != null)
+		{
+			return childDirectories.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.parentDirectoryId = FileDirectory.fileDirectoryId and this.note = FileDirectory.note</pre>
+	* @return The parent directory with same note
+	*/
+	public FileDirectory getParentDirectoryWithSameNote()
+	{
+		FileDirectory _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isParentDirectoryIdNull()) && (!_data.isNoteNull()))
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameNote().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isParentDirectoryIdNull()) && (!_data.isNoteNull()))
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameNote().zGetRelationshipMultiExtractor(), this);
+					_result = FileDirectoryFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (FileDirectory) _data.getParentDirectoryWithSameNote();
+			if (_result == null)
+			{
+				if ((!_data.isParentDirectoryIdNull()) && (!_data.isNoteNull()))
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameNote().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = FileDirectoryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentDirectoryWithSameNote(FileDirectory parentDirectoryWithSameNote)
+	{
+		FileDirectory _parentDirectoryWithSameNote = (FileDirectory) parentDirectoryWithSameNote;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParentDirectoryWithSameNote(_parentDirectoryWithSameNote);
+			if (_parentDirectoryWithSameNote == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+				this.setNote(null);
+			}
+			else
+			{
+				this.setDrive(_parentDirectoryWithSameNote.getDrive());
+				this.setParentDirectoryId(_parentDirectoryWithSameNote.getFileDirectoryId());
+				this.setNote(_parentDirectoryWithSameNote.getNote());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parentDirectoryWithSameNote == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+				this.setNote(null);
+			}
+			else
+			{
+				this.setDrive(
+					_parentDirectoryWithSameNote.getDrive());
+				this.setParentDirectoryId(
+					_parentDirectoryWithSameNote.getFileDirectoryId());
+				this.setNote(
+					_parentDirectoryWithSameNote.getNote());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.parentDirectoryId = FileDirectory.fileDirectoryId and this.someOtherTimestamp = FileDirectory.someOtherTimestamp</pre>
+	* @return The parent directory with same other timestamp
+	*/
+	public FileDirectory getParentDirectoryWithSameOtherTimestamp()
+	{
+		FileDirectory _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isParentDirectoryIdNull()) && (!_data.isSomeOtherTimestampNull()))
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameOtherTimestamp().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isParentDirectoryIdNull()) && (!_data.isSomeOtherTimestampNull()))
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameOtherTimestamp().zGetRelationshipMultiExtractor(), this);
+					_result = FileDirectoryFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (FileDirectory) _data.getParentDirectoryWithSameOtherTimestamp();
+			if (_result == null)
+			{
+				if ((!_data.isParentDirectoryIdNull()) && (!_data.isSomeOtherTimestampNull()))
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameOtherTimestamp().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = FileDirectoryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentDirectoryWithSameOtherTimestamp(FileDirectory parentDirectoryWithSameOtherTimestamp)
+	{
+		FileDirectory _parentDirectoryWithSameOtherTimestamp = (FileDirectory) parentDirectoryWithSameOtherTimestamp;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParentDirectoryWithSameOtherTimestamp(_parentDirectoryWithSameOtherTimestamp);
+			if (_parentDirectoryWithSameOtherTimestamp == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+				this.setSomeOtherTimestamp(null);
+			}
+			else
+			{
+				this.setDrive(_parentDirectoryWithSameOtherTimestamp.getDrive());
+				this.setParentDirectoryId(_parentDirectoryWithSameOtherTimestamp.getFileDirectoryId());
+				this.setSomeOtherTimestamp(_parentDirectoryWithSameOtherTimestamp.getSomeOtherTimestamp());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parentDirectoryWithSameOtherTimestamp == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+				this.setSomeOtherTimestamp(null);
+			}
+			else
+			{
+				this.setDrive(
+					_parentDirectoryWithSameOtherTimestamp.getDrive());
+				this.setParentDirectoryId(
+					_parentDirectoryWithSameOtherTimestamp.getFileDirectoryId());
+				this.setSomeOtherTimestamp(
+					_parentDirectoryWithSameOtherTimestamp.getSomeOtherTimestamp());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.parentDirectoryId = FileDirectory.fileDirectoryId and this.someOtherDate = FileDirectory.someOtherDate</pre>
+	* @return The parent directory with same other date
+	*/
+	public FileDirectory getParentDirectoryWithSameOtherDate()
+	{
+		FileDirectory _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if ((!_data.isParentDirectoryIdNull()) && (!_data.isSomeOtherDateNull()))
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameOtherDate().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if ((!_data.isParentDirectoryIdNull()) && (!_data.isSomeOtherDateNull()))
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameOtherDate().zGetRelationshipMultiExtractor(), this);
+					_result = FileDirectoryFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (FileDirectory) _data.getParentDirectoryWithSameOtherDate();
+			if (_result == null)
+			{
+				if ((!_data.isParentDirectoryIdNull()) && (!_data.isSomeOtherDateNull()))
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectoryWithSameOtherDate().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = FileDirectoryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentDirectoryWithSameOtherDate(FileDirectory parentDirectoryWithSameOtherDate)
+	{
+		FileDirectory _parentDirectoryWithSameOtherDate = (FileDirectory) parentDirectoryWithSameOtherDate;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParentDirectoryWithSameOtherDate(_parentDirectoryWithSameOtherDate);
+			if (_parentDirectoryWithSameOtherDate == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+				this.setSomeOtherDate(null);
+			}
+			else
+			{
+				this.setDrive(_parentDirectoryWithSameOtherDate.getDrive());
+				this.setParentDirectoryId(_parentDirectoryWithSameOtherDate.getFileDirectoryId());
+				this.setSomeOtherDate(_parentDirectoryWithSameOtherDate.getSomeOtherDate());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parentDirectoryWithSameOtherDate == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+				this.setSomeOtherDate(null);
+			}
+			else
+			{
+				this.setDrive(
+					_parentDirectoryWithSameOtherDate.getDrive());
+				this.setParentDirectoryId(
+					_parentDirectoryWithSameOtherDate.getFileDirectoryId());
+				this.setSomeOtherDate(
+					_parentDirectoryWithSameOtherDate.getSomeOtherDate());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.drive = FileDirectory.drive and this.fileDirectoryId = FileDirectory.parentDirectoryId and this.isDirectory = 1
+	and FileDirectory.isDirectory = 1</pre>
+	* @return just child directories
+	*/
+	public FileDirectoryList getJustChildDirectories()
+	{
+		FileDirectoryList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isIsDirectoryNull() && _data.getIsDirectory()==1)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.justChildDirectories().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				_result = new FileDirectoryList( new None (
+					FileDirectoryFinder.fileDirectoryId()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isIsDirectoryNull() && _data.getIsDirectory()==1)
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(FileDirectoryFinder.justChildDirectories().zGetRelationshipMultiExtractor(), this);
+					_result = new FileDirectoryList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new FileDirectoryList( new None (
+						FileDirectoryFinder.fileDirectoryId()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (FileDirectoryList) _data.getJustChildDirectories();
+			if (_result == null)
+			{
+				if (!_data.isIsDirectoryNull() && _data.getIsDirectory()==1)
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.justChildDirectories().zGetRelationshipMultiExtractor(), this);
+				}
+				else 
+				{
+					_result = new FileDirectoryList( new None (
+						FileDirectoryFinder.fileDirectoryId()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new FileDirectoryList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setJustChildDirectories(FileDirectoryList justChildDirectories)
+	{
+		FileDirectoryList _justChildDirectories = (FileDirectoryList) justChildDirectories;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setJustChildDirectories(_justChildDirectories);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(FileDirectory.drive = this.drive and FileDirectory.fileDirectoryId = this.parentDirectoryId )</pre>
+	* @see FileDirectory#getChildDirectories() reverse relationship FileDirectory.getChildDirectories()
+	* @return The parent directory
+	*/
+	public FileDirectory getParentDirectory()
+	{
+		FileDirectory _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isParentDirectoryIdNull())
+			{
+				_portal = FileDirectoryFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forparentDirectory, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (FileDirectory) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectory().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getParentDirectory() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (FileDirectory) _data.getParentDirectory();
+			if (_result == null)
+			{
+				if (!_data.isParentDirectoryIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectory().zGetRelationshipMultiExtractor(), this);
+					_result = FileDirectoryFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+				_data.setParentDirectory(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (FileDirectory) _data.getParentDirectory();
+			if (_result == null)
+			{
+				if (!_data.isParentDirectoryIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(FileDirectoryFinder.parentDirectory().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = FileDirectoryFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentDirectory(FileDirectory parentDirectory)
+	{
+		FileDirectory _parentDirectory = (FileDirectory) parentDirectory;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getParentDirectory();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((FileDirectory)_prev).getChildDirectories()).zMarkMoved( (FileDirectory) this);
+			}
+
+			_data.setParentDirectory(_parentDirectory);
+			_parentDirectory.getChildDirectories().add( (FileDirectory) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_parentDirectory == null)
+			{
+				this.setDrive(null);
+				this.setParentDirectoryIdNull();
+			}
+			else
+			{
+				this.setDrive(
+					_parentDirectory.getDrive());
+				this.setParentDirectoryId(
+					_parentDirectory.getFileDirectoryId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerparentDirectory(FileDirectoryAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParentDirectory(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		FileDirectoryList childDirectories =
+		(FileDirectoryList) _data.getChildDirectories();
+		_behavior.insert(this);
+		if (childDirectories != null)
+		{
+			childDirectories.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		FileDirectoryFinder.FileDirectoryRelatedFinder parentFinder = (FileDirectoryFinder.FileDirectoryRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _newData = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		{
+			FileDirectoryList childDirectories =
+			(FileDirectoryList) _newData.getChildDirectories();
+			RelatedFinder dependentFinder = parentFinder.childDirectories();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, childDirectories != null, navigationStats);
+			if (childDirectories != null)
+			{
+				childDirectories.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public FileDirectory zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FileDirectoryData _data = (FileDirectoryData) _behavior.getCurrentDataForWrite(this);
+		FileDirectoryList childDirectories =
+		(FileDirectoryList) _data.getChildDirectories();
+		FileDirectory original = (FileDirectory) _behavior.copyThenInsert(this);
+		if (childDirectories != null)
+		{
+			childDirectories.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getChildDirectories().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return FileDirectoryFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return FileDirectoryFinder.getMithraObjectPortal();
+	}
+
+	public FileDirectory getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, FileDirectoryFinder.creationDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, FileDirectoryFinder.isDirectory(), false);
+		changed |= zUpdateDate(behavior, data, newData, FileDirectoryFinder.modificationDate(), false);
+		changed |= zUpdateString(behavior, data, newData, FileDirectoryFinder.name(), false);
+		changed |= zUpdateString(behavior, data, newData, FileDirectoryFinder.note(), false);
+		changed |= zUpdateInteger(behavior, data, newData, FileDirectoryFinder.parentDirectoryId(), false);
+		changed |= zUpdateDate(behavior, data, newData, FileDirectoryFinder.someOtherDate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, FileDirectoryFinder.someOtherTimestamp(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, FileDirectoryFinder.drive(), false);
+		changed |= zUpdateInteger(behavior, data, newData, FileDirectoryFinder.fileDirectoryId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		FileDirectoryAbstract result = (FileDirectoryAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class ChildDirectoriesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			FileDirectory item = (FileDirectory) relatedObject;
+			item.setDrive(getDrive());
+			item.setParentDirectoryId(getFileDirectoryId());
+			item.zSetParentContainerparentDirectory(FileDirectoryAbstract.this);
+		}
+	}
+
+	protected class ChildDirectoriesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			FileDirectory item = (FileDirectory) relatedObject;
+			item.setDrive(getDrive());
+			item.setParentDirectoryId(getFileDirectoryId());
+			item.cascadeInsert();
+		}
+	}
+}
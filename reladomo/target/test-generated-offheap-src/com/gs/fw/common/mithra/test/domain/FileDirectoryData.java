@@ -0,0 +1,709 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class FileDirectoryData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private Timestamp creationDate;
+	private String drive;
+	private int fileDirectoryId;
+	private int isDirectory;
+	private Date modificationDate;
+	private String name;
+	private String note;
+	private int parentDirectoryId;
+	private Date someOtherDate;
+	private Timestamp someOtherTimestamp;
+	public boolean isCreationDateNull()
+	{
+		return this.getCreationDate() == null;
+	}
+
+	public boolean isDriveNull()
+	{
+		return this.getDrive() == null;
+	}
+
+	public boolean isFileDirectoryIdNull()
+	{
+		return false;
+	}
+
+	public boolean isModificationDateNull()
+	{
+		return this.getModificationDate() == null;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isNoteNull()
+	{
+		return this.getNote() == null;
+	}
+
+	public boolean isSomeOtherDateNull()
+	{
+		return this.getSomeOtherDate() == null;
+	}
+
+	public boolean isSomeOtherTimestampNull()
+	{
+		return this.getSomeOtherTimestamp() == null;
+	}
+
+	public boolean isParentDirectoryIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isIsDirectoryNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.creationDate);
+		out.writeObject(this.drive);
+		out.writeInt(this.fileDirectoryId);
+		out.writeInt(this.isDirectory);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.modificationDate);
+		out.writeObject(this.name);
+		out.writeObject(this.note);
+		out.writeInt(this.parentDirectoryId);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.someOtherDate);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.someOtherTimestamp);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public Timestamp getCreationDate()
+	{
+		return this.creationDate;
+	}
+
+	public long zGetCreationDateAsLong()
+	{
+		if (creationDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return creationDate.getTime();
+	}
+
+	public void setCreationDate(Timestamp value)
+	{
+		this.creationDate = TimestampPool.getInstance().getOrAddToCache(value, FileDirectoryFinder.isFullCache(), FileDirectoryFinder.isOffHeap());
+	}
+
+	public void setCreationDateNull()
+	{
+		this.setCreationDate(null);
+	}
+
+	public String getDrive()
+	{
+		return this.drive;
+	}
+
+	public int zGetDriveAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(drive);
+	}
+
+	public void setDrive(String value)
+	{
+		this.drive = StringPool.getInstance().getOrAddToCache(value, FileDirectoryFinder.isFullCache());
+	}
+
+	public void setDriveNull()
+	{
+		this.setDrive(null);
+	}
+
+	public int getFileDirectoryId()
+	{
+		return this.fileDirectoryId;
+	}
+
+	public void setFileDirectoryId(int value)
+	{
+		this.fileDirectoryId = value;
+	}
+
+	public void setFileDirectoryIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getIsDirectory()
+	{
+		return this.isDirectory;
+	}
+
+	public void setIsDirectory(int value)
+	{
+		this.isDirectory = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public Date getModificationDate()
+	{
+		return this.modificationDate;
+	}
+
+	public void setModificationDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.modificationDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.modificationDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setModificationDateNull()
+	{
+		this.setModificationDate(null);
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, FileDirectoryFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public String getNote()
+	{
+		return this.note;
+	}
+
+	public int zGetNoteAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(note);
+	}
+
+	public void setNote(String value)
+	{
+		this.note = StringPool.getInstance().getOrAddToCache(value, FileDirectoryFinder.isFullCache());
+	}
+
+	public void setNoteNull()
+	{
+		this.setNote(null);
+	}
+
+	public int getParentDirectoryId()
+	{
+		return this.parentDirectoryId;
+	}
+
+	public void setParentDirectoryId(int value)
+	{
+		this.parentDirectoryId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Date getSomeOtherDate()
+	{
+		return this.someOtherDate;
+	}
+
+	public void setSomeOtherDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.someOtherDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.someOtherDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setSomeOtherDateNull()
+	{
+		this.setSomeOtherDate(null);
+	}
+
+	public Timestamp getSomeOtherTimestamp()
+	{
+		return this.someOtherTimestamp;
+	}
+
+	public long zGetSomeOtherTimestampAsLong()
+	{
+		if (someOtherTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return someOtherTimestamp.getTime();
+	}
+
+	public void setSomeOtherTimestamp(Timestamp value)
+	{
+		this.someOtherTimestamp = TimestampPool.getInstance().getOrAddToCache(value, FileDirectoryFinder.isFullCache(), FileDirectoryFinder.isOffHeap());
+	}
+
+	public void setSomeOtherTimestampNull()
+	{
+		this.setSomeOtherTimestamp(null);
+	}
+
+	public void setParentDirectoryIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setIsDirectoryNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(FileDirectoryData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.creationDate = this.creationDate;
+		copy.drive = this.drive;
+		copy.fileDirectoryId = this.fileDirectoryId;
+		copy.isDirectory = this.isDirectory;
+		copy.modificationDate = this.modificationDate;
+		copy.name = this.name;
+		copy.note = this.note;
+		copy.parentDirectoryId = this.parentDirectoryId;
+		copy.someOtherDate = this.someOtherDate;
+		copy.someOtherTimestamp = this.someOtherTimestamp;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[6];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.creationDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), FileDirectoryFinder.isFullCache(), FileDirectoryFinder.isOffHeap());
+		this.drive = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FileDirectoryFinder.isFullCache());
+		this.fileDirectoryId = in.readInt();
+		this.isDirectory = in.readInt();
+		this.modificationDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FileDirectoryFinder.isFullCache());
+		this.note = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FileDirectoryFinder.isFullCache());
+		this.parentDirectoryId = in.readInt();
+		this.someOtherDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.someOtherTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), FileDirectoryFinder.isFullCache(), FileDirectoryFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final FileDirectoryData otherData = (FileDirectoryData) other;
+		if (!isDriveNull() ? !getDrive().equals(otherData.getDrive()) : !otherData.isDriveNull())
+		{
+			return false;
+		}
+
+		if (getFileDirectoryId() != otherData.getFileDirectoryId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.drive);
+		out.writeInt(this.fileDirectoryId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.drive = StringPool.getInstance().getOrAddToCache((String)in.readObject(), FileDirectoryFinder.isFullCache());
+		this.fileDirectoryId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getChildDirectories()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setChildDirectories(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public Object getParentDirectoryWithSameNote()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[3];
+		}
+
+		return null;
+	}
+
+	public void setParentDirectoryWithSameNote(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[3] = related;
+	}
+
+	public Object getParentDirectoryWithSameOtherTimestamp()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[5];
+		}
+
+		return null;
+	}
+
+	public void setParentDirectoryWithSameOtherTimestamp(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[5] = related;
+	}
+
+	public Object getParentDirectoryWithSameOtherDate()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[4];
+		}
+
+		return null;
+	}
+
+	public void setParentDirectoryWithSameOtherDate(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[4] = related;
+	}
+
+	public Object getJustChildDirectories()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setJustChildDirectories(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getParentDirectory()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setParentDirectory(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[6];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final FileDirectoryData fileDirectoryData = (FileDirectoryData) newData;
+		this.setCreationDate(fileDirectoryData.getCreationDate());
+		this.setIsDirectory(fileDirectoryData.getIsDirectory());
+		if (fileDirectoryData.isIsDirectoryNull()) this.setIsDirectoryNull();
+		this.setModificationDate(fileDirectoryData.getModificationDate());
+		this.setName(fileDirectoryData.getName());
+		this.setNote(fileDirectoryData.getNote());
+		this.setParentDirectoryId(fileDirectoryData.getParentDirectoryId());
+		if (fileDirectoryData.isParentDirectoryIdNull()) this.setParentDirectoryIdNull();
+		this.setSomeOtherDate(fileDirectoryData.getSomeOtherDate());
+		this.setSomeOtherTimestamp(fileDirectoryData.getSomeOtherTimestamp());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final FileDirectoryData other = (FileDirectoryData) newData;
+		if (!isCreationDateNull() ? !getCreationDate().equals(other.getCreationDate()) : !other.isCreationDateNull())
+		{
+			return true;
+		}
+
+		if ( isIsDirectoryNull() != other.isIsDirectoryNull() || getIsDirectory() != other.getIsDirectory())
+		{
+			return true;
+		}
+
+		if (!isModificationDateNull() ? !getModificationDate().equals(other.getModificationDate()) : !other.isModificationDateNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if (!isNoteNull() ? !getNote().equals(other.getNote()) : !other.isNoteNull())
+		{
+			return true;
+		}
+
+		if ( isParentDirectoryIdNull() != other.isParentDirectoryIdNull() || getParentDirectoryId() != other.getParentDirectoryId())
+		{
+			return true;
+		}
+
+		if (!isSomeOtherDateNull() ? !getSomeOtherDate().equals(other.getSomeOtherDate()) : !other.isSomeOtherDateNull())
+		{
+			return true;
+		}
+
+		if (!isSomeOtherTimestampNull() ? !getSomeOtherTimestamp().equals(other.getSomeOtherTimestamp()) : !other.isSomeOtherTimestampNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		FileDirectoryData copy = new FileDirectoryData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		FileDirectoryData copy = new FileDirectoryData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "drive: "+"'"+getDrive()+"'"+ " / ";
+		result += "fileDirectoryId: "+(""+getFileDirectoryId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.FileDirectoryData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return FileDirectoryFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return FileDirectoryFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.FileDirectoryData";
+	}
+}
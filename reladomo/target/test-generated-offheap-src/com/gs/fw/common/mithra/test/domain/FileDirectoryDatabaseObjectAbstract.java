@@ -0,0 +1,520 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class FileDirectoryDatabaseObjectAbstract extends MithraAbstractTransactionalDatabaseObject implements MithraTransactionalDatabaseObject, MithraObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "CREATION_DATE,NAME,MODIFICATION_DATE,PARENT_DIRECTORY_ID,NOTE,SOME_OTHER_TIMESTAMP,IS_DIR,SOME_OTHER_DATE";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.CREATION_DATE,t0.NAME,t0.MODIFICATION_DATE,t0.PARENT_DIRECTORY_ID,t0.NOTE,t0.SOME_OTHER_TIMESTAMP,t0.IS_DIR,t0.SOME_OTHER_DATE";
+	private static final String PK_WITH_ALIAS = "t0.FILE_DIRECTORY_ID = ? AND t0.DRIVE = ?";
+	private static final String PK_INDEX_COLS = "FILE_DIRECTORY_ID,DRIVE";
+	protected FileDirectoryDatabaseObjectAbstract()
+	{
+		super("FileDirectory", "com.gs.fw.common.mithra.test.domain.FileDirectoryFinder",
+			10, 10,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return FileDirectoryFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return FileDirectoryFinder.getFinderInstance();
+	}
+
+	public static FileDirectoryData allocateOnHeapData()
+	{
+		return new FileDirectoryData();
+	}
+
+	public static FileDirectoryData allocateOffHeapData()
+	{
+		throw new RuntimeException("no off heap implementation");
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new FileDirectoryData();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		FileDirectoryData data = new FileDirectoryData();
+		data.zDeserializePrimaryKey(in);
+		return this.createObject(data);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new FullNonDatedTransactionalCache(FileDirectoryFinder.getPrimaryKeyAttributes(), this, FileDirectoryFinder.getImmutableAttributes());
+		}
+		else
+		{
+			result = new FullNonDatedCache(FileDirectoryFinder.getPrimaryKeyAttributes(), this, FileDirectoryFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialNonDatedTransactionalCache(FileDirectoryFinder.getPrimaryKeyAttributes(), this, FileDirectoryFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialNonDatedCache(FileDirectoryFinder.getPrimaryKeyAttributes(), this, FileDirectoryFinder.getImmutableAttributes(), new NonTransactionalUnderlyingObjectGetter(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			FileDirectoryFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			FileDirectoryFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			FileDirectory.zConfigFullTx();
+		}
+		else
+		{
+			FileDirectory.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateFileDirectoryData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkFileDirectoryData(1, (FileDirectoryData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateFileDirectoryPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getFileDirectoryTableName();
+	}
+
+	public String getFileDirectoryTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		FileDirectoryData data = (FileDirectoryData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getFileDirectoryId());
+		stm.setString(pos++, data.getDrive());
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "FILE_DIRECTORY_ID = ? AND DRIVE = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.FILE_DIRECTORY_ID,t0.DRIVE,t0.CREATION_DATE,t0.NAME,t0.MODIFICATION_DATE,t0.PARENT_DIRECTORY_ID,t0.NOTE,t0.SOME_OTHER_TIMESTAMP,t0.IS_DIR,t0.SOME_OTHER_DATE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*10);
+		result.append(databaseAlias).append(".").append("FILE_DIRECTORY_ID");
+		result.append(",").append(databaseAlias).append(".").append("DRIVE");
+		result.append(",").append(databaseAlias).append(".").append("CREATION_DATE");
+		result.append(",").append(databaseAlias).append(".").append("NAME");
+		result.append(",").append(databaseAlias).append(".").append("MODIFICATION_DATE");
+		result.append(",").append(databaseAlias).append(".").append("PARENT_DIRECTORY_ID");
+		result.append(",").append(databaseAlias).append(".").append("NOTE");
+		result.append(",").append(databaseAlias).append(".").append("SOME_OTHER_TIMESTAMP");
+		result.append(",").append(databaseAlias).append(".").append("IS_DIR");
+		result.append(",").append(databaseAlias).append(".").append("SOME_OTHER_DATE");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public FileDirectoryData inflateFileDirectoryData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		FileDirectoryData data = inflateFileDirectoryPkData(rs, dt);
+		inflateNonPkFileDirectoryData(3, data, rs, dt);
+		return data;
+	}
+
+	public FileDirectoryData inflateFileDirectoryPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		FileDirectoryData _data = new FileDirectoryData();
+		int _pos = 1;
+		_data.setFileDirectoryId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "fileDirectoryId");
+		_data.setDrive(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkFileDirectoryData(int _pos, FileDirectoryData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			FileDirectoryData _data = _datax;
+			Timestamp creationDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setCreationDate(creationDatetimestampValue);
+			_data.setName(trimString(_rs.getString(_pos++)));
+			_data.setModificationDate(_rs.getDate(_pos++));
+			_data.setParentDirectoryId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setParentDirectoryIdNull();
+			}
+
+			_data.setNote(trimString(_rs.getString(_pos++)));
+			Timestamp someOtherTimestamptimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setSomeOtherTimestamp(someOtherTimestamptimestampValue);
+			_data.setIsDirectory(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setIsDirectoryNull();
+			}
+
+			_data.setSomeOtherDate(_rs.getDate(_pos++));
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "FILE_DIRECTORY";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		FileDirectoryData data = (FileDirectoryData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getFileDirectoryId());
+		if (data.isCreationDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getCreationDate(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isNameNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getName());
+		}
+
+		if(data.isDriveNull())
+		{
+			throwNullAttribute("drive");
+		}
+
+		stm.setString(pos++, data.getDrive());
+		if (data.isModificationDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getModificationDate());
+		}
+
+		if (data.isParentDirectoryIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getParentDirectoryId());
+		}
+
+		if (data.isNoteNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getNote());
+		}
+
+		if (data.isSomeOtherTimestampNull())
+		{
+			stm.setNull(pos++, java.sql.Types.TIMESTAMP);
+		}
+		else
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+			dt.setTimestamp(stm, pos, data.getSomeOtherTimestamp(), false, conversionTimeZone);
+			pos++;
+		}
+
+		if (data.isIsDirectoryNull())
+		{
+			stm.setNull(pos++, java.sql.Types.INTEGER);
+		}
+		else
+		{
+			stm.setInt(pos++, data.getIsDirectory());
+		}
+
+		if (data.isSomeOtherDateNull())
+		{
+			stm.setNull(pos++, java.sql.Types.DATE);
+		}
+		else
+		{
+			stm.setDate(pos++, data.getSomeOtherDate());
+		}
+	}
+
+	public String getInsertFields()
+	{
+		return "FILE_DIRECTORY_ID,CREATION_DATE,NAME,DRIVE,MODIFICATION_DATE,PARENT_DIRECTORY_ID,NOTE,SOME_OTHER_TIMESTAMP,IS_DIR,SOME_OTHER_DATE";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public MithraObject createObject(MithraDataObject newData)
+	{
+		FileDirectory newObject = new FileDirectory();
+		newObject.zSetFromFileDirectoryData((FileDirectoryData) newData);
+		return newObject;
+	}
+
+	public String getPkColumnList(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.FILE_DIRECTORY_ID,t0.DRIVE";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*10);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("FILE_DIRECTORY_ID");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("DRIVE");
+		return result.toString();
+	}
+}
@@ -0,0 +1,1600 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class FileDirectoryFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/FileDirectory";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.FileDirectory";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.FileDirectory");
+	private static final FileDirectorySingleFinder<FileDirectory, Object, FileDirectory> finder = new FileDirectorySingleFinder<FileDirectory, Object, FileDirectory>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(FileDirectoryFinder.FileDirectoryRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("fileDirectoryId");
+		finderMethodMap.addNormalAttributeName("creationDate");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("drive");
+		finderMethodMap.addNormalAttributeName("modificationDate");
+		finderMethodMap.addNormalAttributeName("parentDirectoryId");
+		finderMethodMap.addNormalAttributeName("note");
+		finderMethodMap.addNormalAttributeName("someOtherTimestamp");
+		finderMethodMap.addNormalAttributeName("isDirectory");
+		finderMethodMap.addNormalAttributeName("someOtherDate");
+		finderMethodMap.addRelationshipName("childDirectories");
+		finderMethodMap.addRelationshipName("parentDirectoryWithSameNote");
+		finderMethodMap.addRelationshipName("parentDirectoryWithSameOtherTimestamp");
+		finderMethodMap.addRelationshipName("parentDirectoryWithSameOtherDate");
+		finderMethodMap.addRelationshipName("justChildDirectories");
+		finderMethodMap.addRelationshipName("parentDirectory");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = FileDirectoryFinder.drive().constructEqualityMapper(FileDirectoryFinder.drive());
+			result[1] = FileDirectoryFinder.fileDirectoryId().constructEqualityMapper(FileDirectoryFinder.parentDirectoryId());
+			result[2] = FileDirectoryFinder.parentDirectoryId().constructEqualityMapper(FileDirectoryFinder.fileDirectoryId());
+			result[3] = FileDirectoryFinder.note().constructEqualityMapper(FileDirectoryFinder.note());
+			result[4] = FileDirectoryFinder.someOtherTimestamp().constructEqualityMapper(FileDirectoryFinder.someOtherTimestamp());
+			result[5] = FileDirectoryFinder.someOtherDate().constructEqualityMapper(FileDirectoryFinder.someOtherDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = FileDirectoryFinder.isDirectory().eq(1);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static FileDirectory findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static FileDirectory findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static FileDirectoryList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (FileDirectoryList) finder.findMany(operation);
+	}
+
+	public static FileDirectoryList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (FileDirectoryList) finder.findManyBypassCache(operation);
+	}
+
+	private static FileDirectory findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (FileDirectory) FinderUtils.findOne(found);
+	}
+
+	public static FileDirectory findByPrimaryKey(int fileDirectoryId, String drive)
+	{
+		return finder.findByPrimaryKey(fileDirectoryId, drive);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			FileDirectoryData _castedTargetData = (FileDirectoryData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getFileDirectoryId() && _bean.getO1AsString().equals(_castedTargetData.getDrive()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static FileDirectory zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (FileDirectory) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class FileDirectoryRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<FileDirectory, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> fileDirectoryId;
+		private TimestampAttribute<ParentOwnerType> creationDate;
+		private StringAttribute<ParentOwnerType> name;
+		private StringAttribute<ParentOwnerType> drive;
+		private DateAttribute<ParentOwnerType> modificationDate;
+		private IntegerAttribute<ParentOwnerType> parentDirectoryId;
+		private StringAttribute<ParentOwnerType> note;
+		private TimestampAttribute<ParentOwnerType> someOtherTimestamp;
+		private IntegerAttribute<ParentOwnerType> isDirectory;
+		private DateAttribute<ParentOwnerType> someOtherDate;
+		private FileDirectoryChildDirectoriesFinderSubclass<ParentOwnerType> childDirectories;
+		private FileDirectoryParentDirectoryWithSameNoteFinderSubclass<ParentOwnerType> parentDirectoryWithSameNote;
+		private FileDirectoryParentDirectoryWithSameOtherTimestampFinderSubclass<ParentOwnerType> parentDirectoryWithSameOtherTimestamp;
+		private FileDirectoryParentDirectoryWithSameOtherDateFinderSubclass<ParentOwnerType> parentDirectoryWithSameOtherDate;
+		private FileDirectoryJustChildDirectoriesFinderSubclass<ParentOwnerType> justChildDirectories;
+		private FileDirectoryParentDirectoryFinderSubclass<ParentOwnerType> parentDirectory;
+		public FileDirectoryRelatedFinder()
+		{
+			super();
+		}
+
+		public FileDirectoryRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.FileDirectoryFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return FileDirectoryFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return FileDirectoryFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return FileDirectoryFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.fileDirectoryId();
+			attributes[1] = this.creationDate();
+			attributes[2] = this.name();
+			attributes[3] = this.drive();
+			attributes[4] = this.modificationDate();
+			attributes[5] = this.parentDirectoryId();
+			attributes[6] = this.note();
+			attributes[7] = this.someOtherTimestamp();
+			attributes[8] = this.isDirectory();
+			attributes[9] = this.someOtherDate();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(6);
+				relatedFinders.add(this.childDirectories());
+				relatedFinders.add(this.parentDirectoryWithSameNote());
+				relatedFinders.add(this.parentDirectoryWithSameOtherTimestamp());
+				relatedFinders.add(this.parentDirectoryWithSameOtherDate());
+				relatedFinders.add(this.justChildDirectories());
+				relatedFinders.add(this.parentDirectory());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.childDirectories());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public FileDirectory findOne(com.gs.fw.finder.Operation operation)
+		{
+			return FileDirectoryFinder.findOne(operation, false);
+		}
+
+		public FileDirectory findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return FileDirectoryFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends FileDirectory> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new FileDirectoryList((Operation) operation);
+		}
+
+		public MithraList<? extends FileDirectory> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			FileDirectoryList result = (FileDirectoryList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends FileDirectory> constructEmptyList()
+		{
+			return new FileDirectoryList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1204495117;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> fileDirectoryId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.fileDirectoryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("FILE_DIRECTORY_ID","","fileDirectoryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FileDirectoryFinder.fileDirectoryId(), this.mapper, this.zGetValueSelector());
+				this.fileDirectoryId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> creationDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.creationDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("CREATION_DATE","","creationDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(FileDirectoryFinder.creationDate(), this.mapper, this.zGetValueSelector());
+				this.creationDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(FileDirectoryFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> drive()
+		{
+			StringAttribute<ParentOwnerType> result = this.drive;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DRIVE","","drive",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,10,true, false) :
+					new MappedStringAttribute(FileDirectoryFinder.drive(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parentDirectory");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "FileDirectory", "childDirectories");
+				this.drive = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> modificationDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.modificationDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("MODIFICATION_DATE","","modificationDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(FileDirectoryFinder.modificationDate(), this.mapper, this.zGetValueSelector());
+				this.modificationDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> parentDirectoryId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.parentDirectoryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PARENT_DIRECTORY_ID","","parentDirectoryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FileDirectoryFinder.parentDirectoryId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parentDirectory");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "FileDirectory", "childDirectories");
+				this.parentDirectoryId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> note()
+		{
+			StringAttribute<ParentOwnerType> result = this.note;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NOTE","","note",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(FileDirectoryFinder.note(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parentDirectoryWithSameNote");
+				this.note = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> someOtherTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.someOtherTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("SOME_OTHER_TIMESTAMP","","someOtherTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(FileDirectoryFinder.someOtherTimestamp(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("parentDirectoryWithSameOtherTimestamp");
+				this.someOtherTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> isDirectory()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.isDirectory;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("IS_DIR","","isDirectory",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FileDirectoryFinder.isDirectory(), this.mapper, this.zGetValueSelector());
+				this.isDirectory = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> someOtherDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.someOtherDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("SOME_OTHER_DATE","","someOtherDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(FileDirectoryFinder.someOtherDate(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "FileDirectory", "parentDirectoryWithSameOtherDate");
+				this.someOtherDate = result;
+			}
+
+			return result;
+		}
+
+		public FileDirectoryFinder.FileDirectoryCollectionFinderForRelatedClasses<ParentOwnerType, FileDirectoryList, FileDirectory> childDirectories()
+		{
+			FileDirectoryChildDirectoriesFinderSubclass<ParentOwnerType> result = this.childDirectories;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FileDirectoryFinder.zGetFileDirectoryChildDirectoriesReverseMapper());
+				newMapper.setToMany(true);
+				result = new FileDirectoryChildDirectoriesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.childDirectories = result;
+			}
+
+			return result;
+		}
+
+		public FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory> parentDirectoryWithSameNote()
+		{
+			FileDirectoryParentDirectoryWithSameNoteFinderSubclass<ParentOwnerType> result = this.parentDirectoryWithSameNote;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FileDirectoryFinder.zGetFileDirectoryParentDirectoryWithSameNoteReverseMapper());
+				newMapper.setToMany(false);
+				result = new FileDirectoryParentDirectoryWithSameNoteFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentDirectoryWithSameNote = result;
+			}
+
+			return result;
+		}
+
+		public FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory> parentDirectoryWithSameOtherTimestamp()
+		{
+			FileDirectoryParentDirectoryWithSameOtherTimestampFinderSubclass<ParentOwnerType> result = this.parentDirectoryWithSameOtherTimestamp;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FileDirectoryFinder.zGetFileDirectoryParentDirectoryWithSameOtherTimestampReverseMapper());
+				newMapper.setToMany(false);
+				result = new FileDirectoryParentDirectoryWithSameOtherTimestampFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentDirectoryWithSameOtherTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory> parentDirectoryWithSameOtherDate()
+		{
+			FileDirectoryParentDirectoryWithSameOtherDateFinderSubclass<ParentOwnerType> result = this.parentDirectoryWithSameOtherDate;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FileDirectoryFinder.zGetFileDirectoryParentDirectoryWithSameOtherDateReverseMapper());
+				newMapper.setToMany(false);
+				result = new FileDirectoryParentDirectoryWithSameOtherDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentDirectoryWithSameOtherDate = result;
+			}
+
+			return result;
+		}
+
+		public FileDirectoryFinder.FileDirectoryCollectionFinderForRelatedClasses<ParentOwnerType, FileDirectoryList, FileDirectory> justChildDirectories()
+		{
+			FileDirectoryJustChildDirectoriesFinderSubclass<ParentOwnerType> result = this.justChildDirectories;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FileDirectoryFinder.zGetFileDirectoryJustChildDirectoriesReverseMapper());
+				newMapper.setToMany(true);
+				result = new FileDirectoryJustChildDirectoriesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.justChildDirectories = result;
+			}
+
+			return result;
+		}
+
+		public FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory> parentDirectory()
+		{
+			FileDirectoryParentDirectoryFinderSubclass<ParentOwnerType> result = this.parentDirectory;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FileDirectoryFinder.zGetFileDirectoryChildDirectoriesMapper());
+				result = new FileDirectoryParentDirectoryFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() )
+				{
+					public StringAttribute drive()
+					{
+						return FileDirectoryRelatedFinder.this.drive();
+					}
+
+					public IntegerAttribute parentDirectoryId()
+					{
+						return FileDirectoryRelatedFinder.this.fileDirectoryId();
+					}
+				}
+
+				;
+				this.parentDirectory = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return FileDirectoryFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return FileDirectoryFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class FileDirectoryCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends FileDirectoryRelatedFinder<ParentOwnerType, ReturnType, FileDirectoryList, OwnerType>
+	{
+		public FileDirectoryCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class FileDirectoryCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends FileDirectoryCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public FileDirectoryCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class FileDirectorySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends FileDirectoryRelatedFinder<ParentOwnerType, ReturnType, FileDirectoryList, OwnerType>
+	implements ToOneFinder
+	{
+		public FileDirectorySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public FileDirectorySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(FileDirectory other)
+		{
+			return this.fileDirectoryId().eq(other.getFileDirectoryId())
+			.and(this.drive().eq(other.getDrive()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public FileDirectory findByPrimaryKey(int fileDirectoryId, String drive)
+		{
+			FileDirectory _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (drive != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(fileDirectoryId);
+				_bean.setO1(drive);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (FileDirectory) _related;
+			if (_related == null)
+			{
+				_op = this.fileDirectoryId().eq(fileDirectoryId).and(this.drive().eq(drive));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends FileDirectorySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public FileDirectorySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper childDirectoriesReverseMapper = null;
+	public static Mapper zGetFileDirectoryChildDirectoriesReverseMapper()
+	{
+		if (childDirectoriesReverseMapper == null)
+		{
+			childDirectoriesReverseMapper = zConstructFileDirectoryChildDirectoriesReverseMapper();
+		}
+
+		return childDirectoriesReverseMapper;
+	}
+
+	private static Mapper childDirectoriesMapper = null;
+	public static Mapper zGetFileDirectoryChildDirectoriesMapper()
+	{
+		if (childDirectoriesMapper == null)
+		{
+			childDirectoriesMapper = zConstructFileDirectoryChildDirectoriesMapper();
+		}
+
+		return childDirectoriesMapper;
+	}
+
+	private static Mapper childDirectoriesPureReverseMapper = null;
+	public static Mapper zGetFileDirectoryChildDirectoriesPureReverseMapper()
+	{
+		if (childDirectoriesPureReverseMapper == null)
+		{
+			childDirectoriesPureReverseMapper = zConstructFileDirectoryChildDirectoriesPureReverseMapper();
+		}
+
+		return childDirectoriesPureReverseMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryChildDirectoriesPureReverseMapper()
+	{
+		InternalList childDirectoriesMapperMapperList = new InternalList(2);
+		childDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		childDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		Mapper childDirectoriesMapper = new MultiEqualityMapper(childDirectoriesMapperMapperList);
+		childDirectoriesMapper.setName("childDirectories");
+		return childDirectoriesMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryChildDirectoriesReverseMapper()
+	{
+		InternalList childDirectoriesMapperMapperList = new InternalList(2);
+		childDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		childDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		Mapper childDirectoriesMapper = new MultiEqualityMapper(childDirectoriesMapperMapperList);
+		childDirectoriesMapper.setName("childDirectories");
+		return childDirectoriesMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryChildDirectoriesMapper()
+	{
+		InternalList childDirectoriesMapperMapperList = new InternalList(2);
+		childDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		childDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		Mapper childDirectoriesMapper = new MultiEqualityMapper(childDirectoriesMapperMapperList);
+		childDirectoriesMapper.setName("parentDirectory");
+		return childDirectoriesMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameNoteReverseMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameNoteReverseMapper()
+	{
+		if (parentDirectoryWithSameNoteReverseMapper == null)
+		{
+			parentDirectoryWithSameNoteReverseMapper = zConstructFileDirectoryParentDirectoryWithSameNoteReverseMapper();
+		}
+
+		return parentDirectoryWithSameNoteReverseMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameNoteMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameNoteMapper()
+	{
+		if (parentDirectoryWithSameNoteMapper == null)
+		{
+			parentDirectoryWithSameNoteMapper = zConstructFileDirectoryParentDirectoryWithSameNoteMapper();
+		}
+
+		return parentDirectoryWithSameNoteMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameNotePureReverseMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameNotePureReverseMapper()
+	{
+		if (parentDirectoryWithSameNotePureReverseMapper == null)
+		{
+			parentDirectoryWithSameNotePureReverseMapper = zConstructFileDirectoryParentDirectoryWithSameNotePureReverseMapper();
+		}
+
+		return parentDirectoryWithSameNotePureReverseMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameNotePureReverseMapper()
+	{
+		InternalList parentDirectoryWithSameNoteMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(3));
+		Mapper parentDirectoryWithSameNoteMapper = new MultiEqualityMapper(parentDirectoryWithSameNoteMapperMapperList);
+		parentDirectoryWithSameNoteMapper.setName("parentDirectoryWithSameNote");
+		return parentDirectoryWithSameNoteMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameNoteReverseMapper()
+	{
+		InternalList parentDirectoryWithSameNoteMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(3));
+		Mapper parentDirectoryWithSameNoteMapper = new MultiEqualityMapper(parentDirectoryWithSameNoteMapperMapperList);
+		parentDirectoryWithSameNoteMapper.setName("parentDirectoryWithSameNote");
+		return parentDirectoryWithSameNoteMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameNoteMapper()
+	{
+		InternalList parentDirectoryWithSameNoteMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		parentDirectoryWithSameNoteMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(3));
+		Mapper parentDirectoryWithSameNoteMapper = new MultiEqualityMapper(parentDirectoryWithSameNoteMapperMapperList);
+		parentDirectoryWithSameNoteMapper.setName("parentDirectoryWithSameNote_Reverse");
+		return parentDirectoryWithSameNoteMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameOtherTimestampReverseMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameOtherTimestampReverseMapper()
+	{
+		if (parentDirectoryWithSameOtherTimestampReverseMapper == null)
+		{
+			parentDirectoryWithSameOtherTimestampReverseMapper = zConstructFileDirectoryParentDirectoryWithSameOtherTimestampReverseMapper();
+		}
+
+		return parentDirectoryWithSameOtherTimestampReverseMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameOtherTimestampMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameOtherTimestampMapper()
+	{
+		if (parentDirectoryWithSameOtherTimestampMapper == null)
+		{
+			parentDirectoryWithSameOtherTimestampMapper = zConstructFileDirectoryParentDirectoryWithSameOtherTimestampMapper();
+		}
+
+		return parentDirectoryWithSameOtherTimestampMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameOtherTimestampPureReverseMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameOtherTimestampPureReverseMapper()
+	{
+		if (parentDirectoryWithSameOtherTimestampPureReverseMapper == null)
+		{
+			parentDirectoryWithSameOtherTimestampPureReverseMapper = zConstructFileDirectoryParentDirectoryWithSameOtherTimestampPureReverseMapper();
+		}
+
+		return parentDirectoryWithSameOtherTimestampPureReverseMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameOtherTimestampPureReverseMapper()
+	{
+		InternalList parentDirectoryWithSameOtherTimestampMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(4));
+		Mapper parentDirectoryWithSameOtherTimestampMapper = new MultiEqualityMapper(parentDirectoryWithSameOtherTimestampMapperMapperList);
+		parentDirectoryWithSameOtherTimestampMapper.setName("parentDirectoryWithSameOtherTimestamp");
+		return parentDirectoryWithSameOtherTimestampMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameOtherTimestampReverseMapper()
+	{
+		InternalList parentDirectoryWithSameOtherTimestampMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(4));
+		Mapper parentDirectoryWithSameOtherTimestampMapper = new MultiEqualityMapper(parentDirectoryWithSameOtherTimestampMapperMapperList);
+		parentDirectoryWithSameOtherTimestampMapper.setName("parentDirectoryWithSameOtherTimestamp");
+		return parentDirectoryWithSameOtherTimestampMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameOtherTimestampMapper()
+	{
+		InternalList parentDirectoryWithSameOtherTimestampMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		parentDirectoryWithSameOtherTimestampMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(4));
+		Mapper parentDirectoryWithSameOtherTimestampMapper = new MultiEqualityMapper(parentDirectoryWithSameOtherTimestampMapperMapperList);
+		parentDirectoryWithSameOtherTimestampMapper.setName("parentDirectoryWithSameOtherTimestamp_Reverse");
+		return parentDirectoryWithSameOtherTimestampMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameOtherDateReverseMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameOtherDateReverseMapper()
+	{
+		if (parentDirectoryWithSameOtherDateReverseMapper == null)
+		{
+			parentDirectoryWithSameOtherDateReverseMapper = zConstructFileDirectoryParentDirectoryWithSameOtherDateReverseMapper();
+		}
+
+		return parentDirectoryWithSameOtherDateReverseMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameOtherDateMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameOtherDateMapper()
+	{
+		if (parentDirectoryWithSameOtherDateMapper == null)
+		{
+			parentDirectoryWithSameOtherDateMapper = zConstructFileDirectoryParentDirectoryWithSameOtherDateMapper();
+		}
+
+		return parentDirectoryWithSameOtherDateMapper;
+	}
+
+	private static Mapper parentDirectoryWithSameOtherDatePureReverseMapper = null;
+	public static Mapper zGetFileDirectoryParentDirectoryWithSameOtherDatePureReverseMapper()
+	{
+		if (parentDirectoryWithSameOtherDatePureReverseMapper == null)
+		{
+			parentDirectoryWithSameOtherDatePureReverseMapper = zConstructFileDirectoryParentDirectoryWithSameOtherDatePureReverseMapper();
+		}
+
+		return parentDirectoryWithSameOtherDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameOtherDatePureReverseMapper()
+	{
+		InternalList parentDirectoryWithSameOtherDateMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(5));
+		Mapper parentDirectoryWithSameOtherDateMapper = new MultiEqualityMapper(parentDirectoryWithSameOtherDateMapperMapperList);
+		parentDirectoryWithSameOtherDateMapper.setName("parentDirectoryWithSameOtherDate");
+		return parentDirectoryWithSameOtherDateMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameOtherDateReverseMapper()
+	{
+		InternalList parentDirectoryWithSameOtherDateMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(5));
+		Mapper parentDirectoryWithSameOtherDateMapper = new MultiEqualityMapper(parentDirectoryWithSameOtherDateMapperMapperList);
+		parentDirectoryWithSameOtherDateMapper.setName("parentDirectoryWithSameOtherDate");
+		return parentDirectoryWithSameOtherDateMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryParentDirectoryWithSameOtherDateMapper()
+	{
+		InternalList parentDirectoryWithSameOtherDateMapperMapperList = new InternalList(3);
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		parentDirectoryWithSameOtherDateMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(5));
+		Mapper parentDirectoryWithSameOtherDateMapper = new MultiEqualityMapper(parentDirectoryWithSameOtherDateMapperMapperList);
+		parentDirectoryWithSameOtherDateMapper.setName("parentDirectoryWithSameOtherDate_Reverse");
+		return parentDirectoryWithSameOtherDateMapper;
+	}
+
+	private static Mapper justChildDirectoriesReverseMapper = null;
+	public static Mapper zGetFileDirectoryJustChildDirectoriesReverseMapper()
+	{
+		if (justChildDirectoriesReverseMapper == null)
+		{
+			justChildDirectoriesReverseMapper = zConstructFileDirectoryJustChildDirectoriesReverseMapper();
+		}
+
+		return justChildDirectoriesReverseMapper;
+	}
+
+	private static Mapper justChildDirectoriesMapper = null;
+	public static Mapper zGetFileDirectoryJustChildDirectoriesMapper()
+	{
+		if (justChildDirectoriesMapper == null)
+		{
+			justChildDirectoriesMapper = zConstructFileDirectoryJustChildDirectoriesMapper();
+		}
+
+		return justChildDirectoriesMapper;
+	}
+
+	private static Mapper justChildDirectoriesPureReverseMapper = null;
+	public static Mapper zGetFileDirectoryJustChildDirectoriesPureReverseMapper()
+	{
+		if (justChildDirectoriesPureReverseMapper == null)
+		{
+			justChildDirectoriesPureReverseMapper = zConstructFileDirectoryJustChildDirectoriesPureReverseMapper();
+		}
+
+		return justChildDirectoriesPureReverseMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryJustChildDirectoriesPureReverseMapper()
+	{
+		InternalList justChildDirectoriesMapperMapperList = new InternalList(2);
+		justChildDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		justChildDirectoriesMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		Mapper justChildDirectoriesMapper = new MultiEqualityMapper(justChildDirectoriesMapperMapperList);
+		justChildDirectoriesMapper.setName("justChildDirectories");
+		return justChildDirectoriesMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryJustChildDirectoriesReverseMapper()
+	{
+		InternalList justChildDirectoriesMapperInnerMapperMapperList = new InternalList(2);
+		justChildDirectoriesMapperInnerMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		justChildDirectoriesMapperInnerMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(1));
+		Mapper justChildDirectoriesMapperInnerMapper = new MultiEqualityMapper(justChildDirectoriesMapperInnerMapperMapperList);
+		Mapper justChildDirectoriesMapper = new FilteredMapper(justChildDirectoriesMapperInnerMapper, FileDirectoryFinder.zGetConstantOperation(0), FileDirectoryFinder.zGetConstantOperation(0));
+		justChildDirectoriesMapper.setName("justChildDirectories");
+		return justChildDirectoriesMapper;
+	}
+
+	private static Mapper zConstructFileDirectoryJustChildDirectoriesMapper()
+	{
+		InternalList justChildDirectoriesMapperInnerMapperMapperList = new InternalList(2);
+		justChildDirectoriesMapperInnerMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(0));
+		justChildDirectoriesMapperInnerMapperMapperList.add(FileDirectoryFinder.zGetConstantJoin(2));
+		Mapper justChildDirectoriesMapperInnerMapper = new MultiEqualityMapper(justChildDirectoriesMapperInnerMapperMapperList);
+		Mapper justChildDirectoriesMapper = new FilteredMapper(justChildDirectoriesMapperInnerMapper, FileDirectoryFinder.zGetConstantOperation(0), FileDirectoryFinder.zGetConstantOperation(0));
+		justChildDirectoriesMapper.setName("justChildDirectories_Reverse");
+		return justChildDirectoriesMapper;
+	}
+
+	/** maps to FILE_DIRECTORY.FILE_DIRECTORY_ID **/
+	public static IntegerAttribute<FileDirectory> fileDirectoryId()
+	{
+		return finder.fileDirectoryId();
+	}
+
+	/** maps to FILE_DIRECTORY.CREATION_DATE **/
+	public static TimestampAttribute<FileDirectory> creationDate()
+	{
+		return finder.creationDate();
+	}
+
+	/** maps to FILE_DIRECTORY.NAME **/
+	public static StringAttribute<FileDirectory> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to FILE_DIRECTORY.DRIVE **/
+	public static StringAttribute<FileDirectory> drive()
+	{
+		return finder.drive();
+	}
+
+	/** maps to FILE_DIRECTORY.MODIFICATION_DATE **/
+	public static DateAttribute<FileDirectory> modificationDate()
+	{
+		return finder.modificationDate();
+	}
+
+	/** maps to FILE_DIRECTORY.PARENT_DIRECTORY_ID **/
+	public static IntegerAttribute<FileDirectory> parentDirectoryId()
+	{
+		return finder.parentDirectoryId();
+	}
+
+	/** maps to FILE_DIRECTORY.NOTE **/
+	public static StringAttribute<FileDirectory> note()
+	{
+		return finder.note();
+	}
+
+	/** maps to FILE_DIRECTORY.SOME_OTHER_TIMESTAMP **/
+	public static TimestampAttribute<FileDirectory> someOtherTimestamp()
+	{
+		return finder.someOtherTimestamp();
+	}
+
+	/** maps to FILE_DIRECTORY.IS_DIR **/
+	public static IntegerAttribute<FileDirectory> isDirectory()
+	{
+		return finder.isDirectory();
+	}
+
+	/** maps to FILE_DIRECTORY.SOME_OTHER_DATE **/
+	public static DateAttribute<FileDirectory> someOtherDate()
+	{
+		return finder.someOtherDate();
+	}
+
+	public static FileDirectoryFinder.FileDirectoryCollectionFinderForRelatedClasses<FileDirectory, FileDirectoryList, FileDirectory> childDirectories()
+	{
+		return finder.childDirectories();
+	}
+
+	public static class FileDirectoryChildDirectoriesFinderSubclass<ParentOwnerType> extends FileDirectoryFinder.FileDirectoryCollectionFinderForRelatedClasses<ParentOwnerType, FileDirectoryList, FileDirectory>
+	{
+		public FileDirectoryChildDirectoriesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "childDirectories";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.parentDirectoryId()).withExtractors(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.fileDirectoryId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FileDirectoryChildDirectoriesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((FileDirectory) _obj).isChildDirectoriesModifiedSinceDetachment();
+		}
+
+		protected FileDirectoryList plainValueOf(FileDirectory _obj)
+		{
+			return _obj.getChildDirectories();
+		}
+
+		protected FileDirectoryList plainListValueOf(Object _obj)
+		{
+			return ((FileDirectoryList)_obj).getChildDirectories();
+		}
+	}
+
+	public static FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<FileDirectory, FileDirectory, FileDirectory> parentDirectoryWithSameNote()
+	{
+		return finder.parentDirectoryWithSameNote();
+	}
+
+	public static class FileDirectoryParentDirectoryWithSameNoteFinderSubclass<ParentOwnerType> extends FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory>
+	{
+		public FileDirectoryParentDirectoryWithSameNoteFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentDirectoryWithSameNote";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.fileDirectoryId(),
+				FileDirectoryFinder.note()).withExtractors(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.parentDirectoryId(),
+				FileDirectoryFinder.note()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FileDirectoryParentDirectoryWithSameNoteFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected FileDirectory plainValueOf(FileDirectory _obj)
+		{
+			return _obj.getParentDirectoryWithSameNote();
+		}
+
+		protected FileDirectoryList plainListValueOf(Object _obj)
+		{
+			return ((FileDirectoryList)_obj).getParentDirectoryWithSameNotes();
+		}
+	}
+
+	public static FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<FileDirectory, FileDirectory, FileDirectory> parentDirectoryWithSameOtherTimestamp()
+	{
+		return finder.parentDirectoryWithSameOtherTimestamp();
+	}
+
+	public static class FileDirectoryParentDirectoryWithSameOtherTimestampFinderSubclass<ParentOwnerType> extends FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory>
+	{
+		public FileDirectoryParentDirectoryWithSameOtherTimestampFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentDirectoryWithSameOtherTimestamp";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.fileDirectoryId(),
+				FileDirectoryFinder.someOtherTimestamp()).withExtractors(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.parentDirectoryId(),
+				FileDirectoryFinder.someOtherTimestamp()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FileDirectoryParentDirectoryWithSameOtherTimestampFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected FileDirectory plainValueOf(FileDirectory _obj)
+		{
+			return _obj.getParentDirectoryWithSameOtherTimestamp();
+		}
+
+		protected FileDirectoryList plainListValueOf(Object _obj)
+		{
+			return ((FileDirectoryList)_obj).getParentDirectoryWithSameOtherTimestamps();
+		}
+	}
+
+	public static FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<FileDirectory, FileDirectory, FileDirectory> parentDirectoryWithSameOtherDate()
+	{
+		return finder.parentDirectoryWithSameOtherDate();
+	}
+
+	public static class FileDirectoryParentDirectoryWithSameOtherDateFinderSubclass<ParentOwnerType> extends FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory>
+	{
+		public FileDirectoryParentDirectoryWithSameOtherDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentDirectoryWithSameOtherDate";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.fileDirectoryId(),
+				FileDirectoryFinder.someOtherDate()).withExtractors(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.parentDirectoryId(),
+				FileDirectoryFinder.someOtherDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FileDirectoryParentDirectoryWithSameOtherDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected FileDirectory plainValueOf(FileDirectory _obj)
+		{
+			return _obj.getParentDirectoryWithSameOtherDate();
+		}
+
+		protected FileDirectoryList plainListValueOf(Object _obj)
+		{
+			return ((FileDirectoryList)_obj).getParentDirectoryWithSameOtherDates();
+		}
+	}
+
+	public static FileDirectoryFinder.FileDirectoryCollectionFinderForRelatedClasses<FileDirectory, FileDirectoryList, FileDirectory> justChildDirectories()
+	{
+		return finder.justChildDirectories();
+	}
+
+	public static class FileDirectoryJustChildDirectoriesFinderSubclass<ParentOwnerType> extends FileDirectoryFinder.FileDirectoryCollectionFinderForRelatedClasses<ParentOwnerType, FileDirectoryList, FileDirectory>
+	{
+		public FileDirectoryJustChildDirectoriesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "justChildDirectories";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				FileDirectoryFinder.drive(),
+				FileDirectoryFinder.isDirectory(),
+				FileDirectoryFinder.parentDirectoryId()).withExtractors(
+				FileDirectoryFinder.drive(),
+				((OperationWithParameterExtractor)FileDirectoryFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				FileDirectoryFinder.fileDirectoryId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FileDirectoryJustChildDirectoriesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected FileDirectoryList plainValueOf(FileDirectory _obj)
+		{
+			return _obj.getJustChildDirectories();
+		}
+
+		protected FileDirectoryList plainListValueOf(Object _obj)
+		{
+			return ((FileDirectoryList)_obj).getJustChildDirectories();
+		}
+	}
+
+	public static FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<FileDirectory, FileDirectory, FileDirectory> parentDirectory()
+	{
+		return finder.parentDirectory();
+	}
+
+	public static class FileDirectoryParentDirectoryFinderSubclass<ParentOwnerType> extends FileDirectoryFinder.FileDirectorySingleFinderForRelatedClasses<ParentOwnerType, FileDirectory, FileDirectory>
+	{
+		public FileDirectoryParentDirectoryFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "parentDirectory";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				FileDirectoryFinder.fileDirectoryId(),
+				FileDirectoryFinder.drive()).withExtractors(
+				FileDirectoryFinder.parentDirectoryId(),
+				FileDirectoryFinder.drive()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FileDirectoryParentDirectoryFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected FileDirectory plainValueOf(FileDirectory _obj)
+		{
+			return _obj.getParentDirectory();
+		}
+
+		protected FileDirectoryList plainListValueOf(Object _obj)
+		{
+			return ((FileDirectoryList)_obj).getParentDirectories();
+		}
+	}
+
+	public static Operation eq(FileDirectory other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(fileDirectoryId());
+	}
+
+	public static FileDirectorySingleFinder<FileDirectory, Object, FileDirectory> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			fileDirectoryId()
+			, drive()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			fileDirectoryId()
+			, fileDirectoryId()
+			, drive()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			drive()
+			, parentDirectoryId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			drive()
+			, note()
+			, parentDirectoryId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			drive()
+			, fileDirectoryId()
+			, note()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			drive()
+			, parentDirectoryId()
+			, someOtherTimestamp()
+		}
+
+		);
+		cache.addIndex("4 Index", new Attribute[] 
+		{
+			drive()
+			, fileDirectoryId()
+			, someOtherTimestamp()
+		}
+
+		);
+		cache.addIndex("5 Index", new Attribute[] 
+		{
+			drive()
+			, parentDirectoryId()
+			, someOtherDate()
+		}
+
+		);
+		cache.addIndex("6 Index", new Attribute[] 
+		{
+			drive()
+			, fileDirectoryId()
+			, someOtherDate()
+		}
+
+		);
+		cache.addIndex("7 Index", new Attribute[] 
+		{
+			drive()
+			, fileDirectoryId()
+			, isDirectory()
+		}
+
+		);
+		cache.addIndex("8 Index", new Attribute[] 
+		{
+			drive()
+			, isDirectory()
+			, parentDirectoryId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			FileDirectoryFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			FileDirectoryFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.FileDirectory");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
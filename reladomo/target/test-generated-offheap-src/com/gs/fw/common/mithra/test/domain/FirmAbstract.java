@@ -0,0 +1,426 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class FirmAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Firm.class.getName());
+	public FirmAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Firm getDetachedCopy() throws MithraBusinessException
+	{
+		return (Firm) super.getDetachedCopy();
+	}
+
+	public Firm getNonPersistentCopy() throws MithraBusinessException
+	{
+		Firm result = (Firm) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Firm copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Firm) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Firm zFindOriginal()
+	{
+		FirmData data = (FirmData) this.currentData;
+		Operation op;
+		op = FirmFinder.id().eq(data.getId());
+		return FirmFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new FirmData();
+	}
+
+	protected void zSetFromFirmData( FirmData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromFirmData( FirmData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCeoIdNull()
+	{
+		return ((FirmData) this.zSynchronizedGetData()).isCeoIdNull();
+	}
+
+	public int getCeoId()
+	{
+		FirmData data = (FirmData) this.zSynchronizedGetData();
+		if (data.isCeoIdNull()) MithraNullPrimitiveException.throwNew("ceoId", data);
+		return data.getCeoId();
+	}
+
+	public void setCeoId(int newValue)
+	{
+		zSetInteger(FirmFinder.ceoId(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((FirmData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		FirmData data = (FirmData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(FirmFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isLegalNameNull()
+	{
+		return ((FirmData) this.zSynchronizedGetData()).isLegalNameNull();
+	}
+
+	public String getLegalName()
+	{
+		FirmData data = (FirmData) this.zSynchronizedGetData();
+		return data.getLegalName();
+	}
+
+	public void setLegalName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'legalName' cannot exceed maximum length of 64: " + newValue);
+		zSetString(FirmFinder.legalName(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, FirmFinder.ceoId(), false);
+	}
+
+	public void setCeoIdNull()
+	{
+		zNullify(FirmFinder.ceoId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		FirmData _newData = (FirmData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		FirmData _newData = (FirmData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FirmData _newData = (FirmData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Person.firmId = this.id</pre>
+	* @return employees
+	*/
+	public PersonList getEmployees()
+	{
+		PersonList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FirmData _data = (FirmData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = PersonFinder.firmId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = PersonFinder.firmId().eq(_data.getId());
+					_result = new PersonList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (PersonList) _data.getEmployees();
+			if (_result == null)
+			{
+				{
+					_op = PersonFinder.firmId().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new PersonList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setEmployees(PersonList employees)
+	{
+		PersonList _employees = (PersonList) employees;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FirmData _data = (FirmData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setEmployees(_employees);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Person.firmId = this.ceoId</pre>
+	* @return The ceo
+	*/
+	public Person getCeo()
+	{
+		Person _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		FirmData _data = (FirmData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isCeoIdNull())
+			{
+				{
+					_op = PersonFinder.firmId().eq(_data.getCeoId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isCeoIdNull())
+				{
+					Operation detachedOp = PersonFinder.firmId().eq(_data.getCeoId());
+					_result = PersonFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Person) _data.getCeo();
+			if (_result == null)
+			{
+				if (!_data.isCeoIdNull())
+				{
+					_op = PersonFinder.firmId().eq(_data.getCeoId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = PersonFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setCeo(Person ceo)
+	{
+		Person _ceo = (Person) ceo;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		FirmData _data = (FirmData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCeo(_ceo);
+			if (_ceo == null)
+			{
+				this.setCeoIdNull();
+			}
+			else
+			{
+				this.setCeoId(_ceo.getFirmId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_ceo == null)
+			{
+				this.setCeoIdNull();
+			}
+			else
+			{
+				this.setCeoId(
+					_ceo.getFirmId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Firm zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Firm original = (Firm) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return FirmFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return FirmFinder.getMithraObjectPortal();
+	}
+
+	public Firm getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, FirmFinder.ceoId(), false);
+		changed |= zUpdateString(behavior, data, newData, FirmFinder.legalName(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, FirmFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		FirmAbstract result = (FirmAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,853 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class FirmROFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/FirmRO";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.FirmRO";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.FirmRO");
+	private static final FirmROSingleFinder<FirmRO, Object, FirmRO> finder = new FirmROSingleFinder<FirmRO, Object, FirmRO>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(FirmROFinder.FirmRORelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("legalName");
+		finderMethodMap.addNormalAttributeName("ceoId");
+		finderMethodMap.addRelationshipName("employees");
+		finderMethodMap.addRelationshipName("ceo");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = FirmROFinder.id().constructEqualityMapper(PersonROFinder.firmId());
+			result[1] = PersonROFinder.firmId().constructEqualityMapper(FirmROFinder.id());
+			result[2] = FirmROFinder.ceoId().constructEqualityMapper(PersonROFinder.firmId());
+			result[3] = PersonROFinder.firmId().constructEqualityMapper(FirmROFinder.ceoId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static FirmRO findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static FirmRO findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static FirmROList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (FirmROList) finder.findMany(operation);
+	}
+
+	public static FirmROList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (FirmROList) finder.findManyBypassCache(operation);
+	}
+
+	private static FirmRO findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (FirmRO) FinderUtils.findOne(found);
+	}
+
+	public static FirmRO findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			FirmRO _castedTargetData = (FirmRO) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static FirmRO zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (FirmRO) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class FirmRORelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<FirmRO, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> legalName;
+		private IntegerAttribute<ParentOwnerType> ceoId;
+		private FirmROEmployeesFinderSubclass<ParentOwnerType> employees;
+		private FirmROCeoFinderSubclass<ParentOwnerType> ceo;
+		public FirmRORelatedFinder()
+		{
+			super();
+		}
+
+		public FirmRORelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.FirmROFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return FirmROFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return FirmROFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return FirmROFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.id();
+			attributes[1] = this.legalName();
+			attributes[2] = this.ceoId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.employees());
+				relatedFinders.add(this.ceo());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public FirmRO findOne(com.gs.fw.finder.Operation operation)
+		{
+			return FirmROFinder.findOne(operation, false);
+		}
+
+		public FirmRO findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return FirmROFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends FirmRO> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new FirmROList((Operation) operation);
+		}
+
+		public MithraList<? extends FirmRO> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			FirmROList result = (FirmROList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends FirmRO> constructEmptyList()
+		{
+			return new FirmROList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 965204251;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FirmROFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> legalName()
+		{
+			StringAttribute<ParentOwnerType> result = this.legalName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LEGAL_NAME","","legalName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(FirmROFinder.legalName(), this.mapper, this.zGetValueSelector());
+				this.legalName = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> ceoId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.ceoId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CEO_ID","","ceoId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(FirmROFinder.ceoId(), this.mapper, this.zGetValueSelector());
+				this.ceoId = result;
+			}
+
+			return result;
+		}
+
+		public PersonROFinder.PersonROCollectionFinderForRelatedClasses<ParentOwnerType, PersonROList, FirmRO> employees()
+		{
+			FirmROEmployeesFinderSubclass<ParentOwnerType> result = this.employees;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FirmROFinder.zGetFirmROEmployeesReverseMapper());
+				newMapper.setToMany(true);
+				result = new FirmROEmployeesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.employees = result;
+			}
+
+			return result;
+		}
+
+		public PersonROFinder.PersonROSingleFinderForRelatedClasses<ParentOwnerType, PersonRO, FirmRO> ceo()
+		{
+			FirmROCeoFinderSubclass<ParentOwnerType> result = this.ceo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(FirmROFinder.zGetFirmROCeoReverseMapper());
+				newMapper.setToMany(false);
+				result = new FirmROCeoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.ceo = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return FirmROFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return FirmROFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class FirmROCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends FirmRORelatedFinder<ParentOwnerType, ReturnType, FirmROList, OwnerType>
+	{
+		public FirmROCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class FirmROCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends FirmROCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public FirmROCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class FirmROSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends FirmRORelatedFinder<ParentOwnerType, ReturnType, FirmROList, OwnerType>
+	implements ToOneFinder
+	{
+		public FirmROSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public FirmROSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(FirmRO other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public FirmRO findByPrimaryKey(int id)
+		{
+			FirmRO _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (FirmRO) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class FirmROSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends FirmROSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public FirmROSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper employeesReverseMapper = null;
+	public static Mapper zGetFirmROEmployeesReverseMapper()
+	{
+		if (employeesReverseMapper == null)
+		{
+			employeesReverseMapper = zConstructFirmROEmployeesReverseMapper();
+		}
+
+		return employeesReverseMapper;
+	}
+
+	private static Mapper employeesMapper = null;
+	public static Mapper zGetFirmROEmployeesMapper()
+	{
+		if (employeesMapper == null)
+		{
+			employeesMapper = zConstructFirmROEmployeesMapper();
+		}
+
+		return employeesMapper;
+	}
+
+	private static Mapper employeesPureReverseMapper = null;
+	public static Mapper zGetFirmROEmployeesPureReverseMapper()
+	{
+		if (employeesPureReverseMapper == null)
+		{
+			employeesPureReverseMapper = zConstructFirmROEmployeesPureReverseMapper();
+		}
+
+		return employeesPureReverseMapper;
+	}
+
+	private static Mapper zConstructFirmROEmployeesPureReverseMapper()
+	{
+		Mapper employeesMapper = FirmROFinder.zGetConstantJoin(0);
+		employeesMapper.setName("employees");
+		return employeesMapper;
+	}
+
+	private static Mapper zConstructFirmROEmployeesReverseMapper()
+	{
+		Mapper employeesMapper = FirmROFinder.zGetConstantJoin(0);
+		employeesMapper.setName("employees");
+		return employeesMapper;
+	}
+
+	private static Mapper zConstructFirmROEmployeesMapper()
+	{
+		Mapper employeesMapper = PersonROFinder.zGetConstantJoin(0);
+		employeesMapper.setName("employees_Reverse");
+		return employeesMapper;
+	}
+
+	private static Mapper ceoReverseMapper = null;
+	public static Mapper zGetFirmROCeoReverseMapper()
+	{
+		if (ceoReverseMapper == null)
+		{
+			ceoReverseMapper = zConstructFirmROCeoReverseMapper();
+		}
+
+		return ceoReverseMapper;
+	}
+
+	private static Mapper ceoMapper = null;
+	public static Mapper zGetFirmROCeoMapper()
+	{
+		if (ceoMapper == null)
+		{
+			ceoMapper = zConstructFirmROCeoMapper();
+		}
+
+		return ceoMapper;
+	}
+
+	private static Mapper ceoPureReverseMapper = null;
+	public static Mapper zGetFirmROCeoPureReverseMapper()
+	{
+		if (ceoPureReverseMapper == null)
+		{
+			ceoPureReverseMapper = zConstructFirmROCeoPureReverseMapper();
+		}
+
+		return ceoPureReverseMapper;
+	}
+
+	private static Mapper zConstructFirmROCeoPureReverseMapper()
+	{
+		Mapper ceoMapper = FirmROFinder.zGetConstantJoin(2);
+		ceoMapper.setName("ceo");
+		return ceoMapper;
+	}
+
+	private static Mapper zConstructFirmROCeoReverseMapper()
+	{
+		Mapper ceoMapper = FirmROFinder.zGetConstantJoin(2);
+		ceoMapper.setName("ceo");
+		return ceoMapper;
+	}
+
+	private static Mapper zConstructFirmROCeoMapper()
+	{
+		Mapper ceoMapper = FirmROFinder.zGetConstantJoin(3);
+		ceoMapper.setName("ceo_Reverse");
+		return ceoMapper;
+	}
+
+	/** maps to FIRM_TBL.OBJECTID **/
+	public static IntegerAttribute<FirmRO> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to FIRM_TBL.LEGAL_NAME **/
+	public static StringAttribute<FirmRO> legalName()
+	{
+		return finder.legalName();
+	}
+
+	/** maps to FIRM_TBL.CEO_ID **/
+	public static IntegerAttribute<FirmRO> ceoId()
+	{
+		return finder.ceoId();
+	}
+
+	public static PersonROFinder.PersonROCollectionFinderForRelatedClasses<FirmRO, PersonROList, FirmRO> employees()
+	{
+		return finder.employees();
+	}
+
+	public static class FirmROEmployeesFinderSubclass<ParentOwnerType> extends PersonROFinder.PersonROCollectionFinderForRelatedClasses<ParentOwnerType, PersonROList, FirmRO>
+	{
+		public FirmROEmployeesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "employees";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FirmROEmployeesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PersonROList plainValueOf(FirmRO _obj)
+		{
+			return _obj.getEmployees();
+		}
+
+		protected PersonROList plainListValueOf(Object _obj)
+		{
+			return ((FirmROList)_obj).getEmployees();
+		}
+	}
+
+	public static PersonROFinder.PersonROSingleFinderForRelatedClasses<FirmRO, PersonRO, FirmRO> ceo()
+	{
+		return finder.ceo();
+	}
+
+	public static class FirmROCeoFinderSubclass<ParentOwnerType> extends PersonROFinder.PersonROSingleFinderForRelatedClasses<ParentOwnerType, PersonRO, FirmRO>
+	{
+		public FirmROCeoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "ceo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new FirmROCeoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PersonRO plainValueOf(FirmRO _obj)
+		{
+			return _obj.getCeo();
+		}
+
+		protected PersonROList plainListValueOf(Object _obj)
+		{
+			return ((FirmROList)_obj).getCeos();
+		}
+	}
+
+	public static Operation eq(FirmRO other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static FirmROSingleFinder<FirmRO, Object, FirmRO> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			ceoId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.FirmRO");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,1471 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class GhostMessagePendingTransactionAbstract extends com.gs.fw.common.mithra.test.domain.AbstractGhostMessageTransaction implements MithraTransactionalObject, Serializable
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(GhostMessagePendingTransaction.class.getName());
+	public GhostMessagePendingTransactionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public GhostMessagePendingTransaction getDetachedCopy() throws MithraBusinessException
+	{
+		return (GhostMessagePendingTransaction) super.getDetachedCopy();
+	}
+
+	public GhostMessagePendingTransaction getNonPersistentCopy() throws MithraBusinessException
+	{
+		GhostMessagePendingTransaction result = (GhostMessagePendingTransaction) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public GhostMessagePendingTransaction copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (GhostMessagePendingTransaction) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public GhostMessagePendingTransaction zFindOriginal()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.currentData;
+		Operation op;
+		op = GhostMessagePendingTransactionFinder.transactionId().eq(data.getTransactionId());
+		op = op.and(GhostMessagePendingTransactionFinder.acmapCode().eq(data.getAcmapCode()));
+		return GhostMessagePendingTransactionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new GhostMessagePendingTransactionData();
+	}
+
+	protected void zSetFromGhostMessagePendingTransactionData( GhostMessagePendingTransactionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromGhostMessagePendingTransactionData( GhostMessagePendingTransactionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isAccountIdNull();
+	}
+
+	public String getAccountId()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.accountId(), newValue, false, false );
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(GhostMessagePendingTransactionFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isBrokerAccountNumberNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isBrokerAccountNumberNull();
+	}
+
+	public String getBrokerAccountNumber()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getBrokerAccountNumber();
+	}
+
+	public void setBrokerAccountNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.brokerAccountNumber(), newValue, false, false );
+	}
+
+	public boolean isBrokerNameNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isBrokerNameNull();
+	}
+
+	public String getBrokerName()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getBrokerName();
+	}
+
+	public void setBrokerName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.brokerName(), newValue, false, false );
+	}
+
+	public boolean isClearingAgentNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isClearingAgentNull();
+	}
+
+	public String getClearingAgent()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getClearingAgent();
+	}
+
+	public void setClearingAgent(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.clearingAgent(), newValue, false, false );
+	}
+
+	public boolean isCounterPartyTypeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isCounterPartyTypeNull();
+	}
+
+	public String getCounterPartyType()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getCounterPartyType();
+	}
+
+	public void setCounterPartyType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.counterPartyType(), newValue, false, false );
+	}
+
+	public boolean isCrossAccountIdNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isCrossAccountIdNull();
+	}
+
+	public String getCrossAccountId()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getCrossAccountId();
+	}
+
+	public void setCrossAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.crossAccountId(), newValue, false, false );
+	}
+
+	public boolean isCusipNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isCusipNull();
+	}
+
+	public String getCusip()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getCusip();
+	}
+
+	public void setCusip(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.cusip(), newValue, false, false );
+	}
+
+	public boolean isExdivStatusNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isExdivStatusNull();
+	}
+
+	public String getExdivStatus()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getExdivStatus();
+	}
+
+	public void setExdivStatus(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.exdivStatus(), newValue, false, false );
+	}
+
+	public boolean isFxRateNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isFxRateNull();
+	}
+
+	public double getFxRate()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isFxRateNull()) MithraNullPrimitiveException.throwNew("fxRate", data);
+		return data.getFxRate();
+	}
+
+	public void setFxRate(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.fxRate(), newValue, false, false ,true);
+	}
+
+	public boolean isGsnNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isGsnNull();
+	}
+
+	public String getGsn()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getGsn();
+	}
+
+	public void setGsn(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.gsn(), newValue, false, false );
+	}
+
+	public boolean isMarketCodeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isMarketCodeNull();
+	}
+
+	public String getMarketCode()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getMarketCode();
+	}
+
+	public void setMarketCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.marketCode(), newValue, false, false );
+	}
+
+	public boolean isMatchTransactionRefNumberNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isMatchTransactionRefNumberNull();
+	}
+
+	public String getMatchTransactionRefNumber()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getMatchTransactionRefNumber();
+	}
+
+	public void setMatchTransactionRefNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.matchTransactionRefNumber(), newValue, false, false );
+	}
+
+	public boolean isProcessedDateNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isProcessedDateNull();
+	}
+
+	public Timestamp getProcessedDate()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getProcessedDate();
+	}
+
+	public void setProcessedDate(Timestamp newValue)
+	{
+		zSetTimestamp(GhostMessagePendingTransactionFinder.processedDate(), newValue, false, false );
+	}
+
+	public boolean isProdIdNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isProdIdNull();
+	}
+
+	public int getProdId()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isProdIdNull()) MithraNullPrimitiveException.throwNew("prodId", data);
+		return data.getProdId();
+	}
+
+	public void setProdId(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.prodId(), newValue, false, false ,true);
+	}
+
+	public boolean isProductCedelNumberNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isProductCedelNumberNull();
+	}
+
+	public String getProductCedelNumber()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getProductCedelNumber();
+	}
+
+	public void setProductCedelNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.productCedelNumber(), newValue, false, false );
+	}
+
+	public boolean isProductHubReferenceNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isProductHubReferenceNull();
+	}
+
+	public int getProductHubReference()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isProductHubReferenceNull()) MithraNullPrimitiveException.throwNew("productHubReference", data);
+		return data.getProductHubReference();
+	}
+
+	public void setProductHubReference(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.productHubReference(), newValue, false, false ,true);
+	}
+
+	public boolean isProductIsinNumberNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isProductIsinNumberNull();
+	}
+
+	public String getProductIsinNumber()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getProductIsinNumber();
+	}
+
+	public void setProductIsinNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.productIsinNumber(), newValue, false, false );
+	}
+
+	public boolean isProfitCenterNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isProfitCenterNull();
+	}
+
+	public String getProfitCenter()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getProfitCenter();
+	}
+
+	public void setProfitCenter(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.profitCenter(), newValue, false, false );
+	}
+
+	public boolean isSettleDateNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isSettleDateNull();
+	}
+
+	public String getSettleDate()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getSettleDate();
+	}
+
+	public void setSettleDate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.settleDate(), newValue, false, false );
+	}
+
+	public boolean isTradeDateNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTradeDateNull();
+	}
+
+	public String getTradeDate()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTradeDate();
+	}
+
+	public void setTradeDate(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.tradeDate(), newValue, false, false );
+	}
+
+	public boolean isTraderNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTraderNull();
+	}
+
+	public String getTrader()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrader();
+	}
+
+	public void setTrader(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trader(), newValue, false, false );
+	}
+
+	public boolean isTrail1Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail1Null();
+	}
+
+	public String getTrail1()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail1();
+	}
+
+	public void setTrail1(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail1(), newValue, false, false );
+	}
+
+	public boolean isTrail2Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail2Null();
+	}
+
+	public String getTrail2()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail2();
+	}
+
+	public void setTrail2(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail2(), newValue, false, false );
+	}
+
+	public boolean isTrail3Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail3Null();
+	}
+
+	public String getTrail3()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail3();
+	}
+
+	public void setTrail3(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail3(), newValue, false, false );
+	}
+
+	public boolean isTrail4Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail4Null();
+	}
+
+	public String getTrail4()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail4();
+	}
+
+	public void setTrail4(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail4(), newValue, false, false );
+	}
+
+	public boolean isTrail5Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail5Null();
+	}
+
+	public String getTrail5()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail5();
+	}
+
+	public void setTrail5(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail5(), newValue, false, false );
+	}
+
+	public boolean isTrail6Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail6Null();
+	}
+
+	public String getTrail6()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail6();
+	}
+
+	public void setTrail6(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail6(), newValue, false, false );
+	}
+
+	public boolean isTrail7Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail7Null();
+	}
+
+	public String getTrail7()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail7();
+	}
+
+	public void setTrail7(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail7(), newValue, false, false );
+	}
+
+	public boolean isTrail8Null()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTrail8Null();
+	}
+
+	public String getTrail8()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTrail8();
+	}
+
+	public void setTrail8(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.trail8(), newValue, false, false );
+	}
+
+	public boolean isTransactionActionCodeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionActionCodeNull();
+	}
+
+	public String getTransactionActionCode()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionActionCode();
+	}
+
+	public void setTransactionActionCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionActionCode(), newValue, false, false );
+	}
+
+	public boolean isTransactionBuySellNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionBuySellNull();
+	}
+
+	public String getTransactionBuySell()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionBuySell();
+	}
+
+	public void setTransactionBuySell(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionBuySell(), newValue, false, false );
+	}
+
+	public boolean isTransactionCloseNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCloseNull();
+	}
+
+	public String getTransactionClose()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionClose();
+	}
+
+	public void setTransactionClose(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionClose(), newValue, false, false );
+	}
+
+	public boolean isTransactionCodeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCodeNull();
+	}
+
+	public String getTransactionCode()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionCode();
+	}
+
+	public void setTransactionCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionCode(), newValue, false, false );
+	}
+
+	public boolean isTransactionCostNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCostNull();
+	}
+
+	public double getTransactionCost()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionCostNull()) MithraNullPrimitiveException.throwNew("transactionCost", data);
+		return data.getTransactionCost();
+	}
+
+	public void setTransactionCost(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionCost(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionCostBaseNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCostBaseNull();
+	}
+
+	public double getTransactionCostBase()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionCostBaseNull()) MithraNullPrimitiveException.throwNew("transactionCostBase", data);
+		return data.getTransactionCostBase();
+	}
+
+	public void setTransactionCostBase(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionCostBase(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionCostCurrencyNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCostCurrencyNull();
+	}
+
+	public String getTransactionCostCurrency()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionCostCurrency();
+	}
+
+	public void setTransactionCostCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionCostCurrency(), newValue, false, false );
+	}
+
+	public boolean isTransactionCurrencyNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCurrencyNull();
+	}
+
+	public String getTransactionCurrency()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionCurrency();
+	}
+
+	public void setTransactionCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionCurrency(), newValue, false, false );
+	}
+
+	public boolean isTransactionCustomerNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionCustomerNull();
+	}
+
+	public String getTransactionCustomer()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionCustomer();
+	}
+
+	public void setTransactionCustomer(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionCustomer(), newValue, false, false );
+	}
+
+	public boolean isTransactionDeductAmountNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionDeductAmountNull();
+	}
+
+	public double getTransactionDeductAmount()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionDeductAmountNull()) MithraNullPrimitiveException.throwNew("transactionDeductAmount", data);
+		return data.getTransactionDeductAmount();
+	}
+
+	public void setTransactionDeductAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionDeductAmount(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionDeductBaseAmountNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionDeductBaseAmountNull();
+	}
+
+	public double getTransactionDeductBaseAmount()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionDeductBaseAmountNull()) MithraNullPrimitiveException.throwNew("transactionDeductBaseAmount", data);
+		return data.getTransactionDeductBaseAmount();
+	}
+
+	public void setTransactionDeductBaseAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionDeductBaseAmount(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionExecTimeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionExecTimeNull();
+	}
+
+	public String getTransactionExecTime()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionExecTime();
+	}
+
+	public void setTransactionExecTime(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionExecTime(), newValue, false, false );
+	}
+
+	public boolean isTransactionExtPriceNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionExtPriceNull();
+	}
+
+	public double getTransactionExtPrice()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionExtPriceNull()) MithraNullPrimitiveException.throwNew("transactionExtPrice", data);
+		return data.getTransactionExtPrice();
+	}
+
+	public void setTransactionExtPrice(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionExtPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionFactorNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionFactorNull();
+	}
+
+	public String getTransactionFactor()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionFactor();
+	}
+
+	public void setTransactionFactor(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionFactor(), newValue, false, false );
+	}
+
+	public boolean isTransactionFactoryNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionFactoryNull();
+	}
+
+	public String getTransactionFactory()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionFactory();
+	}
+
+	public void setTransactionFactory(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionFactory(), newValue, false, false );
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionIdNull();
+	}
+
+	public int getTransactionId()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionId();
+	}
+
+	public void setTransactionId(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.transactionId(), newValue, true, false ,false);
+	}
+
+	public boolean isTransactionIgnoreNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionIgnoreNull();
+	}
+
+	public String getTransactionIgnore()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionIgnore();
+	}
+
+	public void setTransactionIgnore(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionIgnore(), newValue, false, false );
+	}
+
+	public boolean isTransactionMemoNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionMemoNull();
+	}
+
+	public String getTransactionMemo()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionMemo();
+	}
+
+	public void setTransactionMemo(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionMemo(), newValue, false, false );
+	}
+
+	public boolean isTransactionOfficeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionOfficeNull();
+	}
+
+	public String getTransactionOffice()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionOffice();
+	}
+
+	public void setTransactionOffice(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionOffice(), newValue, false, false );
+	}
+
+	public boolean isTransactionOrigFaceValueNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionOrigFaceValueNull();
+	}
+
+	public double getTransactionOrigFaceValue()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionOrigFaceValueNull()) MithraNullPrimitiveException.throwNew("transactionOrigFaceValue", data);
+		return data.getTransactionOrigFaceValue();
+	}
+
+	public void setTransactionOrigFaceValue(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionOrigFaceValue(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionPriceNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionPriceNull();
+	}
+
+	public double getTransactionPrice()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionPriceNull()) MithraNullPrimitiveException.throwNew("transactionPrice", data);
+		return data.getTransactionPrice();
+	}
+
+	public void setTransactionPrice(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionPurIntNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionPurIntNull();
+	}
+
+	public double getTransactionPurInt()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionPurIntNull()) MithraNullPrimitiveException.throwNew("transactionPurInt", data);
+		return data.getTransactionPurInt();
+	}
+
+	public void setTransactionPurInt(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionPurInt(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionPurIntBaseNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionPurIntBaseNull();
+	}
+
+	public double getTransactionPurIntBase()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionPurIntBaseNull()) MithraNullPrimitiveException.throwNew("transactionPurIntBase", data);
+		return data.getTransactionPurIntBase();
+	}
+
+	public void setTransactionPurIntBase(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionPurIntBase(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionQuantityNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionQuantityNull();
+	}
+
+	public double getTransactionQuantity()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionQuantityNull()) MithraNullPrimitiveException.throwNew("transactionQuantity", data);
+		return data.getTransactionQuantity();
+	}
+
+	public void setTransactionQuantity(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionQuantity(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionRefNumberNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionRefNumberNull();
+	}
+
+	public String getTransactionRefNumber()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionRefNumber();
+	}
+
+	public void setTransactionRefNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionRefNumber(), newValue, false, false );
+	}
+
+	public boolean isTransactionSettleAmountNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionSettleAmountNull();
+	}
+
+	public double getTransactionSettleAmount()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionSettleAmountNull()) MithraNullPrimitiveException.throwNew("transactionSettleAmount", data);
+		return data.getTransactionSettleAmount();
+	}
+
+	public void setTransactionSettleAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionSettleAmount(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionSettleBaseAmountNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionSettleBaseAmountNull();
+	}
+
+	public double getTransactionSettleBaseAmount()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionSettleBaseAmountNull()) MithraNullPrimitiveException.throwNew("transactionSettleBaseAmount", data);
+		return data.getTransactionSettleBaseAmount();
+	}
+
+	public void setTransactionSettleBaseAmount(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionSettleBaseAmount(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionSettleCurrencyNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionSettleCurrencyNull();
+	}
+
+	public String getTransactionSettleCurrency()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionSettleCurrency();
+	}
+
+	public void setTransactionSettleCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionSettleCurrency(), newValue, false, false );
+	}
+
+	public boolean isTransactionSourceNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionSourceNull();
+	}
+
+	public String getTransactionSource()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionSource();
+	}
+
+	public void setTransactionSource(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionSource(), newValue, false, false );
+	}
+
+	public boolean isTransactionStatusNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionStatusNull();
+	}
+
+	public String getTransactionStatus()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionStatus();
+	}
+
+	public void setTransactionStatus(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionStatus(), newValue, false, false );
+	}
+
+	public boolean isTransactionTypeNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionTypeNull();
+	}
+
+	public String getTransactionType()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		return data.getTransactionType();
+	}
+
+	public void setTransactionType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(GhostMessagePendingTransactionFinder.transactionType(), newValue, false, false );
+	}
+
+	public boolean isTransactionVersionNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionVersionNull();
+	}
+
+	public int getTransactionVersion()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionVersionNull()) MithraNullPrimitiveException.throwNew("transactionVersion", data);
+		return data.getTransactionVersion();
+	}
+
+	public void setTransactionVersion(int newValue)
+	{
+		zSetInteger(GhostMessagePendingTransactionFinder.transactionVersion(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionXferTaxANull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionXferTaxANull();
+	}
+
+	public double getTransactionXferTaxA()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionXferTaxANull()) MithraNullPrimitiveException.throwNew("transactionXferTaxA", data);
+		return data.getTransactionXferTaxA();
+	}
+
+	public void setTransactionXferTaxA(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionXferTaxA(), newValue, false, false ,true);
+	}
+
+	public boolean isTransactionXferTaxBNull()
+	{
+		return ((GhostMessagePendingTransactionData) this.zSynchronizedGetData()).isTransactionXferTaxBNull();
+	}
+
+	public double getTransactionXferTaxB()
+	{
+		GhostMessagePendingTransactionData data = (GhostMessagePendingTransactionData) this.zSynchronizedGetData();
+		if (data.isTransactionXferTaxBNull()) MithraNullPrimitiveException.throwNew("transactionXferTaxB", data);
+		return data.getTransactionXferTaxB();
+	}
+
+	public void setTransactionXferTaxB(double newValue)
+	{
+		zSetDouble(GhostMessagePendingTransactionFinder.transactionXferTaxB(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.prodId(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.productHubReference(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionQuantity(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionPrice(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionCost(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionCostBase(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionPurInt(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionPurIntBase(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionSettleAmount(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionSettleBaseAmount(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionDeductAmount(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionDeductBaseAmount(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionOrigFaceValue(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionXferTaxA(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionXferTaxB(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.fxRate(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionExtPrice(), false);
+		zNullify(behavior, data, GhostMessagePendingTransactionFinder.transactionVersion(), false);
+	}
+
+	public void setProdIdNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.prodId(), false);
+	}
+
+	public void setProductHubReferenceNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.productHubReference(), false);
+	}
+
+	public void setTransactionQuantityNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionQuantity(), false);
+	}
+
+	public void setTransactionPriceNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionPrice(), false);
+	}
+
+	public void setTransactionCostNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionCost(), false);
+	}
+
+	public void setTransactionCostBaseNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionCostBase(), false);
+	}
+
+	public void setTransactionPurIntNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionPurInt(), false);
+	}
+
+	public void setTransactionPurIntBaseNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionPurIntBase(), false);
+	}
+
+	public void setTransactionSettleAmountNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionSettleAmount(), false);
+	}
+
+	public void setTransactionSettleBaseAmountNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionSettleBaseAmount(), false);
+	}
+
+	public void setTransactionDeductAmountNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionDeductAmount(), false);
+	}
+
+	public void setTransactionDeductBaseAmountNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionDeductBaseAmount(), false);
+	}
+
+	public void setTransactionOrigFaceValueNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionOrigFaceValue(), false);
+	}
+
+	public void setTransactionXferTaxANull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionXferTaxA(), false);
+	}
+
+	public void setTransactionXferTaxBNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionXferTaxB(), false);
+	}
+
+	public void setFxRateNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.fxRate(), false);
+	}
+
+	public void setTransactionExtPriceNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionExtPrice(), false);
+	}
+
+	public void setTransactionVersionNull()
+	{
+		zNullify(GhostMessagePendingTransactionFinder.transactionVersion(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		GhostMessagePendingTransactionData _newData = (GhostMessagePendingTransactionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		GhostMessagePendingTransactionData _newData = (GhostMessagePendingTransactionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		GhostMessagePendingTransactionData _newData = (GhostMessagePendingTransactionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public GhostMessagePendingTransaction zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		GhostMessagePendingTransaction original = (GhostMessagePendingTransaction) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return GhostMessagePendingTransactionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return GhostMessagePendingTransactionFinder.getMithraObjectPortal();
+	}
+
+	public GhostMessagePendingTransaction getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.brokerAccountNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.brokerName(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.clearingAgent(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.counterPartyType(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.crossAccountId(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.cusip(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.exdivStatus(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.fxRate(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.gsn(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.marketCode(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.matchTransactionRefNumber(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, GhostMessagePendingTransactionFinder.processedDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, GhostMessagePendingTransactionFinder.prodId(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.productCedelNumber(), false);
+		changed |= zUpdateInteger(behavior, data, newData, GhostMessagePendingTransactionFinder.productHubReference(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.productIsinNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.profitCenter(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.settleDate(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.tradeDate(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trader(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail1(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail2(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail3(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail4(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail5(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail6(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail7(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.trail8(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionActionCode(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionBuySell(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionClose(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionCode(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionCost(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionCostBase(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionCostCurrency(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionCurrency(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionCustomer(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionDeductAmount(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionDeductBaseAmount(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionExecTime(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionExtPrice(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionFactor(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionFactory(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionIgnore(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionMemo(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionOffice(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionOrigFaceValue(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionPrice(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionPurInt(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionPurIntBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionQuantity(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionRefNumber(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionSettleAmount(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionSettleBaseAmount(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionSettleCurrency(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionSource(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionStatus(), false);
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionVersion(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionXferTaxA(), false);
+		changed |= zUpdateDouble(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionXferTaxB(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, GhostMessagePendingTransactionFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, GhostMessagePendingTransactionFinder.transactionId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		GhostMessagePendingTransactionAbstract result = (GhostMessagePendingTransactionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
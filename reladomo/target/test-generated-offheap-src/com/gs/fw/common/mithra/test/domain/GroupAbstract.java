@@ -0,0 +1,801 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class GroupAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy formanager = new ManagerRhs();
+	private static final RelationshipHashStrategy forprofile = new ProfileRhs();
+	private static final class ManagerRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Group _castedSrcObject = (Group) _srcObject;
+			User _castedTargetData = (User) _targetData;
+			if (!_castedSrcObject.isManagerIdNull() && _castedSrcObject.getManagerId() == _castedTargetData.getId() && _castedSrcObject.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Group _castedSrcObject = (Group) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getManagerId(), _castedSrcObject.isManagerIdNull()),HashUtil.hash(_castedSrcObject.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ProfileRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Group _castedSrcObject = (Group) _srcObject;
+			Profile _castedTargetData = (Profile) _targetData;
+			if (!_castedSrcObject.isProfileIdNull() && _castedSrcObject.getProfileId() == _castedTargetData.getId() && _castedSrcObject.getSourceId() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Group _castedSrcObject = (Group) _srcObject;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getProfileId(), _castedSrcObject.isProfileIdNull()),HashUtil.hash(_castedSrcObject.getSourceId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private int id;
+	private int managerId;
+	private String name;
+	private int profileId;
+	private int sourceId;
+	private int type;
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isTypeNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isManagerIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isProfileIdNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.id);
+		out.writeInt(this.managerId);
+		out.writeObject(this.name);
+		out.writeInt(this.profileId);
+		out.writeInt(this.sourceId);
+		out.writeInt(this.type);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		GroupData data = new GroupData();
+		data.setId(id);
+		data.setManagerId(managerId);
+		data.setName(name);
+		data.setProfileId(profileId);
+		data.setSourceId(sourceId);
+		data.setType(type);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public Group getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		GroupAbstract copy = (GroupAbstract) GroupFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Group)copy;
+	}
+
+	protected void zSetFromGroupData(GroupData data)
+	{
+		this.setFromGroupData(data);
+	}
+
+	public void setFromGroupData(GroupData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		id = data.getId();
+		managerId = data.getManagerId();
+		name = data.getName();
+		profileId = data.getProfileId();
+		sourceId = data.getSourceId();
+		type = data.getType();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return GroupFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromGroupData((GroupData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.id = value;
+	}
+
+	public int getManagerId()
+	{
+		if (isManagerIdNull()) throwNullPrimitiveException("managerId");
+		return this.managerId;
+	}
+
+	public void setManagerId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.managerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, GroupFinder.isFullCache());
+	}
+
+	public int getProfileId()
+	{
+		if (isProfileIdNull()) throwNullPrimitiveException("profileId");
+		return this.profileId;
+	}
+
+	public void setProfileId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.profileId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.sourceId = value;
+	}
+
+	public int getType()
+	{
+		if (isTypeNull()) throwNullPrimitiveException("type");
+		return this.type;
+	}
+
+	public void setType(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.type = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setTypeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setManagerIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setProfileIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.managerId = User.id</pre>
+	* @return The manager
+	*/
+	public User getManager()
+	{
+		User _result = null;
+		if (_relationships != null)
+		{
+			_result = (User)(_relationships[3]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isManagerIdNull())
+			{
+				_portal = UserFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, formanager, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (User) _related;
+				if (_related == null)
+				{
+					_result = UserFinder.zFindOneForRelationship(zGetManagerOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.profileId = Profile.id</pre>
+	* @return The profile
+	*/
+	public Profile getProfile()
+	{
+		Profile _result = null;
+		if (_relationships != null)
+		{
+			_result = (Profile)(_relationships[4]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			if (!this.isProfileIdNull())
+			{
+				_portal = ProfileFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forprofile, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Profile) _related;
+				if (_related == null)
+				{
+					_result = ProfileFinder.zFindOneForRelationship(zGetProfileOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = Location.groupId</pre>
+	* @return locations
+	*/
+	public LocationList getLocations()
+	{
+		LocationList _result = null;
+		if (_relationships != null)
+		{
+			_result = (LocationList)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new LocationList(zGetLocationsOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(UserGroup.ownerId = User.id and this.id = UserGroup.dependentId )</pre>
+	* @see User#getGroups() reverse relationship User.getGroups()
+	* @return users
+	*/
+	public UserList getUsers()
+	{
+		UserList _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserList)(_relationships[6]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new UserList(zGetUsersOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(UserGroup.ownerId = User.id and UserGroup.sourceId =  1 and this.id = UserGroup.dependentId and this.sourceId =  2 )</pre>
+	* @see User#getSourceGroups() reverse relationship User.getSourceGroups()
+	* @return source users
+	*/
+	public UserList getSourceUsers()
+	{
+		UserList _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserList)(_relationships[5]);
+		}
+
+		if (_result == null)
+		{
+			if (this.getSourceId()==2)
+			{
+				{
+					_result = new UserList(zGetSourceUsersOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new UserList( new None (
+					UserFinder.id())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = User.defaultGroupId</pre>
+	* @see User#getDefaultGroup() reverse relationship User.getDefaultGroup()
+	* @return default users
+	*/
+	public UserList getDefaultUsers()
+	{
+		UserList _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new UserList(zGetDefaultUsersOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(User.defaultGroupId = this.id and this.type =  7 )</pre>
+	* @see User#getGroup7() reverse relationship User.getGroup7()
+	* @return group7active users
+	*/
+	public UserList getGroup7activeUsers()
+	{
+		UserList _result = null;
+		if (_relationships != null)
+		{
+			_result = (UserList)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isTypeNull() && this.getType()==7)
+			{
+				{
+					_result = new UserList(zGetGroup7activeUsersOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new UserList( new None (
+					UserFinder.id())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setManager(User manager)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[3] = manager;
+		if (manager == null)
+		{
+			this.setManagerIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setManagerId(manager.getId());
+			this.setSourceId(manager.getSourceId());
+		}
+	}
+
+	public void setProfile(Profile profile)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[4] = profile;
+		if (profile == null)
+		{
+			this.setProfileIdNull();
+			this.setSourceId(0);
+		}
+		else
+		{
+			this.setProfileId(profile.getId());
+			this.setSourceId(profile.getSourceId());
+		}
+	}
+
+	public void setLocations(LocationList locations)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[2] = locations;
+	}
+
+	public void setUsers(UserList users)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[6] = users;
+	}
+
+	public void setSourceUsers(UserList sourceUsers)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[5] = sourceUsers;
+	}
+
+	public void setDefaultUsers(UserList defaultUsers)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[0] = defaultUsers;
+	}
+
+	public void setGroup7activeUsers(UserList group7activeUsers)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[7];
+		}
+
+		_relationships[1] = group7activeUsers;
+	}
+
+	public Operation zGetManagerOperation()
+	{
+		GroupAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(GroupFinder.manager().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetProfileOperation()
+	{
+		GroupAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(GroupFinder.profile().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetLocationsOperation()
+	{
+		GroupAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(GroupFinder.locations().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetUsersOperation()
+	{
+		GroupAbstract _data = this;
+		return new MappedOperation(GroupFinder.zGetUsersMapperFragment(), UserGroupFinder.dependentId().eq(_data.getId()).and(UserGroupFinder.sourceId().eq(_data.getSourceId())));
+	}
+
+	public Operation zGetSourceUsersOperation()
+	{
+		GroupAbstract _data = this;
+		return new MappedOperation(GroupFinder.zGetSourceUsersMapperFragment(), UserGroupFinder.dependentId().eq(_data.getId()).and(UserGroupFinder.zGetConstantOperation(1)));
+	}
+
+	public Operation zGetDefaultUsersOperation()
+	{
+		GroupAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(GroupFinder.defaultUsers().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetGroup7activeUsersOperation()
+	{
+		GroupAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(GroupFinder.group7activeUsers().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final GroupData groupData = (GroupData) newData;
+		if (isNullBits0 != groupData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (managerId != groupData.getManagerId())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(groupData.getName()) : !groupData.isNameNull())
+		{
+			return true;
+		}
+
+		if (profileId != groupData.getProfileId())
+		{
+			return true;
+		}
+
+		if (sourceId != groupData.getSourceId())
+		{
+			return true;
+		}
+
+		if (type != groupData.getType())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.id);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.id = in.readInt();
+			this.managerId = in.readInt();
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), GroupFinder.isFullCache());
+			this.profileId = in.readInt();
+			this.sourceId = in.readInt();
+			this.type = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.id = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = GroupFinder.id().eq(this.getId());
+			return GroupFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
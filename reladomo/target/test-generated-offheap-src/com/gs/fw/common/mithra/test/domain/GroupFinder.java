@@ -0,0 +1,1399 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class GroupFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Group";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Group";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Group");
+	private static final GroupSingleFinder<Group, Object, Group> finder = new GroupSingleFinder<Group, Object, Group>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(GroupFinder.GroupRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("type");
+		finderMethodMap.addNormalAttributeName("managerId");
+		finderMethodMap.addNormalAttributeName("profileId");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addRelationshipName("manager");
+		finderMethodMap.addRelationshipName("profile");
+		finderMethodMap.addRelationshipName("locations");
+		finderMethodMap.addRelationshipName("users");
+		finderMethodMap.addRelationshipName("sourceUsers");
+		finderMethodMap.addRelationshipName("defaultUsers");
+		finderMethodMap.addRelationshipName("group7activeUsers");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = GroupFinder.managerId().constructEqualityMapper(UserFinder.id());
+			result[1] = UserFinder.id().constructEqualityMapper(GroupFinder.managerId());
+			result[2] = GroupFinder.sourceId().constructEqualityMapper(UserFinder.sourceId());
+			result[3] = UserFinder.sourceId().constructEqualityMapper(GroupFinder.sourceId());
+			result[4] = GroupFinder.profileId().constructEqualityMapper(ProfileFinder.id());
+			result[5] = ProfileFinder.id().constructEqualityMapper(GroupFinder.profileId());
+			result[6] = GroupFinder.sourceId().constructEqualityMapper(ProfileFinder.sourceId());
+			result[7] = ProfileFinder.sourceId().constructEqualityMapper(GroupFinder.sourceId());
+			result[8] = GroupFinder.id().constructEqualityMapper(LocationFinder.groupId());
+			result[9] = LocationFinder.groupId().constructEqualityMapper(GroupFinder.id());
+			result[10] = GroupFinder.sourceId().constructEqualityMapper(LocationFinder.sourceId());
+			result[11] = LocationFinder.sourceId().constructEqualityMapper(GroupFinder.sourceId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[2];
+			result[0] = GroupFinder.sourceId().eq(2);
+			result[1] = GroupFinder.type().eq(7);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return GroupFinder.zSourceAttributeType;
+	}
+
+	public static Group findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Group findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static GroupList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (GroupList) finder.findMany(operation);
+	}
+
+	public static GroupList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (GroupList) finder.findManyBypassCache(operation);
+	}
+
+	private static Group findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Group) FinderUtils.findOne(found);
+	}
+
+	public static Group findByPrimaryKey(int id, int sourceId)
+	{
+		return finder.findByPrimaryKey(id, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Group _castedTargetData = (Group) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getI2AsInteger() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static Group zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Group) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class GroupRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Group, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return GroupFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private IntegerAttribute<ParentOwnerType> type;
+		private IntegerAttribute<ParentOwnerType> managerId;
+		private IntegerAttribute<ParentOwnerType> profileId;
+		private GroupManagerFinderSubclass<ParentOwnerType> manager;
+		private GroupProfileFinderSubclass<ParentOwnerType> profile;
+		private GroupLocationsFinderSubclass<ParentOwnerType> locations;
+		private GroupUsersFinderSubclass<ParentOwnerType> users;
+		private GroupSourceUsersFinderSubclass<ParentOwnerType> sourceUsers;
+		private GroupDefaultUsersFinderSubclass<ParentOwnerType> defaultUsers;
+		private GroupGroup7activeUsersFinderSubclass<ParentOwnerType> group7activeUsers;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		public GroupRelatedFinder()
+		{
+			super();
+		}
+
+		public GroupRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.GroupFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return GroupFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return GroupFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return GroupFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.type();
+			attributes[3] = this.managerId();
+			attributes[4] = this.profileId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(7);
+				relatedFinders.add(this.manager());
+				relatedFinders.add(this.profile());
+				relatedFinders.add(this.locations());
+				relatedFinders.add(this.users());
+				relatedFinders.add(this.sourceUsers());
+				relatedFinders.add(this.defaultUsers());
+				relatedFinders.add(this.group7activeUsers());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Group findOne(com.gs.fw.finder.Operation operation)
+		{
+			return GroupFinder.findOne(operation, false);
+		}
+
+		public Group findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return GroupFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Group> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new GroupList((Operation) operation);
+		}
+
+		public MithraList<? extends Group> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			GroupList result = (GroupList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Group> constructEmptyList()
+		{
+			return new GroupList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -251415561;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return GroupFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GroupFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,128,true, false) :
+					new MappedStringAttribute(GroupFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> type()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.type;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TYPE","","type",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GroupFinder.type(), this.mapper, this.zGetValueSelector());
+				this.type = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> managerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.managerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANAGER_OID","","managerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GroupFinder.managerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manager");
+				this.managerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> profileId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.profileId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROFILE_OID","","profileId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GroupFinder.profileId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("profile");
+				this.profileId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(GroupFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public UserFinder.UserSingleFinderForRelatedClasses<ParentOwnerType, User, Group> manager()
+		{
+			GroupManagerFinderSubclass<ParentOwnerType> result = this.manager;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(GroupFinder.zGetGroupManagerReverseMapper());
+				newMapper.setToMany(false);
+				result = new GroupManagerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manager = result;
+			}
+
+			return result;
+		}
+
+		public ProfileFinder.ProfileSingleFinderForRelatedClasses<ParentOwnerType, Profile, Group> profile()
+		{
+			GroupProfileFinderSubclass<ParentOwnerType> result = this.profile;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(GroupFinder.zGetGroupProfileReverseMapper());
+				newMapper.setToMany(false);
+				result = new GroupProfileFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.profile = result;
+			}
+
+			return result;
+		}
+
+		public LocationFinder.LocationCollectionFinderForRelatedClasses<ParentOwnerType, LocationList, Group> locations()
+		{
+			GroupLocationsFinderSubclass<ParentOwnerType> result = this.locations;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(GroupFinder.zGetGroupLocationsReverseMapper());
+				newMapper.setToMany(true);
+				result = new GroupLocationsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.locations = result;
+			}
+
+			return result;
+		}
+
+		public UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group> users()
+		{
+			GroupUsersFinderSubclass<ParentOwnerType> result = this.users;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserGroupsMapper());
+				newMapper.setToMany(true);
+				result = new GroupUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.users = result;
+			}
+
+			return result;
+		}
+
+		public UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group> sourceUsers()
+		{
+			GroupSourceUsersFinderSubclass<ParentOwnerType> result = this.sourceUsers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserSourceGroupsMapper());
+				newMapper.setToMany(true);
+				result = new GroupSourceUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sourceUsers = result;
+			}
+
+			return result;
+		}
+
+		public UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group> defaultUsers()
+		{
+			GroupDefaultUsersFinderSubclass<ParentOwnerType> result = this.defaultUsers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserDefaultGroupMapper());
+				newMapper.setToMany(true);
+				result = new GroupDefaultUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.defaultUsers = result;
+			}
+
+			return result;
+		}
+
+		public UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group> group7activeUsers()
+		{
+			GroupGroup7activeUsersFinderSubclass<ParentOwnerType> result = this.group7activeUsers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserGroup7Mapper());
+				newMapper.setToMany(true);
+				result = new GroupGroup7activeUsersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group7activeUsers = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return GroupFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return GroupFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return GroupFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class GroupCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends GroupRelatedFinder<ParentOwnerType, ReturnType, GroupList, OwnerType>
+	{
+		public GroupCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class GroupCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends GroupCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public GroupCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class GroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends GroupRelatedFinder<ParentOwnerType, ReturnType, GroupList, OwnerType>
+	implements ToOneFinder
+	{
+		public GroupSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public GroupSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Group other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Group findByPrimaryKey(int id, int sourceId)
+		{
+			Group _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setI2AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Group) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class GroupSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends GroupSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public GroupSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper managerReverseMapper = null;
+	public static Mapper zGetGroupManagerReverseMapper()
+	{
+		if (managerReverseMapper == null)
+		{
+			managerReverseMapper = zConstructGroupManagerReverseMapper();
+		}
+
+		return managerReverseMapper;
+	}
+
+	private static Mapper managerMapper = null;
+	public static Mapper zGetGroupManagerMapper()
+	{
+		if (managerMapper == null)
+		{
+			managerMapper = zConstructGroupManagerMapper();
+		}
+
+		return managerMapper;
+	}
+
+	private static Mapper managerPureReverseMapper = null;
+	public static Mapper zGetGroupManagerPureReverseMapper()
+	{
+		if (managerPureReverseMapper == null)
+		{
+			managerPureReverseMapper = zConstructGroupManagerPureReverseMapper();
+		}
+
+		return managerPureReverseMapper;
+	}
+
+	private static Mapper zConstructGroupManagerPureReverseMapper()
+	{
+		InternalList managerMapperMapperList = new InternalList(2);
+		managerMapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		managerMapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper managerMapper = new MultiEqualityMapper(managerMapperMapperList);
+		managerMapper.setName("manager");
+		return managerMapper;
+	}
+
+	private static Mapper zConstructGroupManagerReverseMapper()
+	{
+		InternalList managerMapperMapperList = new InternalList(2);
+		managerMapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		managerMapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper managerMapper = new MultiEqualityMapper(managerMapperMapperList);
+		managerMapper.setName("manager");
+		return managerMapper;
+	}
+
+	private static Mapper zConstructGroupManagerMapper()
+	{
+		InternalList managerMapperMapperList = new InternalList(2);
+		managerMapperMapperList.add(UserFinder.zGetConstantJoin(12));
+		managerMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper managerMapper = new MultiEqualityMapper(managerMapperMapperList);
+		managerMapper.setName("manager_Reverse");
+		return managerMapper;
+	}
+
+	private static Mapper profileReverseMapper = null;
+	public static Mapper zGetGroupProfileReverseMapper()
+	{
+		if (profileReverseMapper == null)
+		{
+			profileReverseMapper = zConstructGroupProfileReverseMapper();
+		}
+
+		return profileReverseMapper;
+	}
+
+	private static Mapper profileMapper = null;
+	public static Mapper zGetGroupProfileMapper()
+	{
+		if (profileMapper == null)
+		{
+			profileMapper = zConstructGroupProfileMapper();
+		}
+
+		return profileMapper;
+	}
+
+	private static Mapper profilePureReverseMapper = null;
+	public static Mapper zGetGroupProfilePureReverseMapper()
+	{
+		if (profilePureReverseMapper == null)
+		{
+			profilePureReverseMapper = zConstructGroupProfilePureReverseMapper();
+		}
+
+		return profilePureReverseMapper;
+	}
+
+	private static Mapper zConstructGroupProfilePureReverseMapper()
+	{
+		InternalList profileMapperMapperList = new InternalList(2);
+		profileMapperMapperList.add(GroupFinder.zGetConstantJoin(4));
+		profileMapperMapperList.add(GroupFinder.zGetConstantJoin(6));
+		Mapper profileMapper = new MultiEqualityMapper(profileMapperMapperList);
+		profileMapper.setName("profile");
+		return profileMapper;
+	}
+
+	private static Mapper zConstructGroupProfileReverseMapper()
+	{
+		InternalList profileMapperMapperList = new InternalList(2);
+		profileMapperMapperList.add(GroupFinder.zGetConstantJoin(4));
+		profileMapperMapperList.add(GroupFinder.zGetConstantJoin(6));
+		Mapper profileMapper = new MultiEqualityMapper(profileMapperMapperList);
+		profileMapper.setName("profile");
+		return profileMapper;
+	}
+
+	private static Mapper zConstructGroupProfileMapper()
+	{
+		InternalList profileMapperMapperList = new InternalList(2);
+		profileMapperMapperList.add(GroupFinder.zGetConstantJoin(5));
+		profileMapperMapperList.add(GroupFinder.zGetConstantJoin(7));
+		Mapper profileMapper = new MultiEqualityMapper(profileMapperMapperList);
+		profileMapper.setName("profile_Reverse");
+		return profileMapper;
+	}
+
+	private static Mapper locationsReverseMapper = null;
+	public static Mapper zGetGroupLocationsReverseMapper()
+	{
+		if (locationsReverseMapper == null)
+		{
+			locationsReverseMapper = zConstructGroupLocationsReverseMapper();
+		}
+
+		return locationsReverseMapper;
+	}
+
+	private static Mapper locationsMapper = null;
+	public static Mapper zGetGroupLocationsMapper()
+	{
+		if (locationsMapper == null)
+		{
+			locationsMapper = zConstructGroupLocationsMapper();
+		}
+
+		return locationsMapper;
+	}
+
+	private static Mapper locationsPureReverseMapper = null;
+	public static Mapper zGetGroupLocationsPureReverseMapper()
+	{
+		if (locationsPureReverseMapper == null)
+		{
+			locationsPureReverseMapper = zConstructGroupLocationsPureReverseMapper();
+		}
+
+		return locationsPureReverseMapper;
+	}
+
+	private static Mapper zConstructGroupLocationsPureReverseMapper()
+	{
+		InternalList locationsMapperMapperList = new InternalList(2);
+		locationsMapperMapperList.add(GroupFinder.zGetConstantJoin(8));
+		locationsMapperMapperList.add(GroupFinder.zGetConstantJoin(10));
+		Mapper locationsMapper = new MultiEqualityMapper(locationsMapperMapperList);
+		locationsMapper.setName("locations");
+		return locationsMapper;
+	}
+
+	private static Mapper zConstructGroupLocationsReverseMapper()
+	{
+		InternalList locationsMapperMapperList = new InternalList(2);
+		locationsMapperMapperList.add(GroupFinder.zGetConstantJoin(8));
+		locationsMapperMapperList.add(GroupFinder.zGetConstantJoin(10));
+		Mapper locationsMapper = new MultiEqualityMapper(locationsMapperMapperList);
+		locationsMapper.setName("locations");
+		return locationsMapper;
+	}
+
+	private static Mapper zConstructGroupLocationsMapper()
+	{
+		InternalList locationsMapperMapperList = new InternalList(2);
+		locationsMapperMapperList.add(GroupFinder.zGetConstantJoin(9));
+		locationsMapperMapperList.add(GroupFinder.zGetConstantJoin(11));
+		Mapper locationsMapper = new MultiEqualityMapper(locationsMapperMapperList);
+		locationsMapper.setName("locations_Reverse");
+		return locationsMapper;
+	}
+
+	private static Mapper usersMapperFragment = null;
+	public static Mapper zGetUsersMapperFragment()
+	{
+		if (usersMapperFragment == null)
+		{
+			usersMapperFragment = zConstructUsersMapperFragment();
+		}
+
+		return usersMapperFragment;
+	}
+
+	private static Mapper zConstructUsersMapperFragment()
+	{
+		InternalList usersMapperMapperList = new InternalList(2);
+		usersMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		usersMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		return new MultiEqualityMapper(usersMapperMapperList);
+	}
+
+	private static Mapper sourceUsersMapperFragment = null;
+	public static Mapper zGetSourceUsersMapperFragment()
+	{
+		if (sourceUsersMapperFragment == null)
+		{
+			sourceUsersMapperFragment = zConstructSourceUsersMapperFragment();
+		}
+
+		return sourceUsersMapperFragment;
+	}
+
+	private static Mapper zConstructSourceUsersMapperFragment()
+	{
+		InternalList sourceUsersMapperMapperList = new InternalList(2);
+		sourceUsersMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		sourceUsersMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		return new MultiEqualityMapper(sourceUsersMapperMapperList);
+	}
+
+	/** maps to GROUP_TBL.OBJECTID **/
+	public static IntegerAttribute<Group> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to GROUP_TBL.NAME **/
+	public static StringAttribute<Group> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to GROUP_TBL.TYPE **/
+	public static IntegerAttribute<Group> type()
+	{
+		return finder.type();
+	}
+
+	/** maps to GROUP_TBL.MANAGER_OID **/
+	public static IntegerAttribute<Group> managerId()
+	{
+		return finder.managerId();
+	}
+
+	/** maps to GROUP_TBL.PROFILE_OID **/
+	public static IntegerAttribute<Group> profileId()
+	{
+		return finder.profileId();
+	}
+
+	public static IntegerAttribute<Group> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static UserFinder.UserSingleFinderForRelatedClasses<Group, User, Group> manager()
+	{
+		return finder.manager();
+	}
+
+	public static class GroupManagerFinderSubclass<ParentOwnerType> extends UserFinder.UserSingleFinderForRelatedClasses<ParentOwnerType, User, Group>
+	{
+		public GroupManagerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manager";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UserFinder.id(),
+				UserFinder.sourceId()).withExtractors(
+				GroupFinder.managerId(),
+				GroupFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupManagerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected User plainValueOf(Group _obj)
+		{
+			return _obj.getManager();
+		}
+
+		protected UserList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getManagers();
+		}
+	}
+
+	public static ProfileFinder.ProfileSingleFinderForRelatedClasses<Group, Profile, Group> profile()
+	{
+		return finder.profile();
+	}
+
+	public static class GroupProfileFinderSubclass<ParentOwnerType> extends ProfileFinder.ProfileSingleFinderForRelatedClasses<ParentOwnerType, Profile, Group>
+	{
+		public GroupProfileFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "profile";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProfileFinder.id(),
+				ProfileFinder.sourceId()).withExtractors(
+				GroupFinder.profileId(),
+				GroupFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupProfileFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Profile plainValueOf(Group _obj)
+		{
+			return _obj.getProfile();
+		}
+
+		protected ProfileList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getProfiles();
+		}
+	}
+
+	public static LocationFinder.LocationCollectionFinderForRelatedClasses<Group, LocationList, Group> locations()
+	{
+		return finder.locations();
+	}
+
+	public static class GroupLocationsFinderSubclass<ParentOwnerType> extends LocationFinder.LocationCollectionFinderForRelatedClasses<ParentOwnerType, LocationList, Group>
+	{
+		public GroupLocationsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "locations";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				LocationFinder.groupId(),
+				LocationFinder.sourceId()).withExtractors(
+				GroupFinder.id(),
+				GroupFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupLocationsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected LocationList plainValueOf(Group _obj)
+		{
+			return _obj.getLocations();
+		}
+
+		protected LocationList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getLocations();
+		}
+	}
+
+	public static UserFinder.UserCollectionFinderForRelatedClasses<Group, UserList, Group> users()
+	{
+		return finder.users();
+	}
+
+	public static class GroupUsersFinderSubclass<ParentOwnerType> extends UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group>
+	{
+		public GroupUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "users";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserList plainValueOf(Group _obj)
+		{
+			return _obj.getUsers();
+		}
+
+		protected UserList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getUsers();
+		}
+	}
+
+	public static UserFinder.UserCollectionFinderForRelatedClasses<Group, UserList, Group> sourceUsers()
+	{
+		return finder.sourceUsers();
+	}
+
+	public static class GroupSourceUsersFinderSubclass<ParentOwnerType> extends UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group>
+	{
+		public GroupSourceUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "sourceUsers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupSourceUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserList plainValueOf(Group _obj)
+		{
+			return _obj.getSourceUsers();
+		}
+
+		protected UserList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getSourceUsers();
+		}
+	}
+
+	public static UserFinder.UserCollectionFinderForRelatedClasses<Group, UserList, Group> defaultUsers()
+	{
+		return finder.defaultUsers();
+	}
+
+	public static class GroupDefaultUsersFinderSubclass<ParentOwnerType> extends UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group>
+	{
+		public GroupDefaultUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "defaultUsers";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UserFinder.defaultGroupId(),
+				UserFinder.sourceId()).withExtractors(
+				GroupFinder.id(),
+				GroupFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupDefaultUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserList plainValueOf(Group _obj)
+		{
+			return _obj.getDefaultUsers();
+		}
+
+		protected UserList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getDefaultUsers();
+		}
+	}
+
+	public static UserFinder.UserCollectionFinderForRelatedClasses<Group, UserList, Group> group7activeUsers()
+	{
+		return finder.group7activeUsers();
+	}
+
+	public static class GroupGroup7activeUsersFinderSubclass<ParentOwnerType> extends UserFinder.UserCollectionFinderForRelatedClasses<ParentOwnerType, UserList, Group>
+	{
+		public GroupGroup7activeUsersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "group7activeUsers";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UserFinder.defaultGroupId(),
+				UserFinder.sourceId()).withExtractors(
+				GroupFinder.id(),
+				GroupFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new GroupGroup7activeUsersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserList plainValueOf(Group _obj)
+		{
+			return _obj.getGroup7activeUsers();
+		}
+
+		protected UserList plainListValueOf(Object _obj)
+		{
+			return ((GroupList)_obj).getGroup7activeUsers();
+		}
+	}
+
+	public static Operation eq(Group other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static GroupSingleFinder<Group, Object, Group> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			managerId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			profileId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			id()
+			, sourceId()
+			, type()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			id()
+			, managerId()
+			, sourceId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ProfileFinder.getFinderInstance(),UserFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ProfileFinder.getFinderInstance(),UserFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Group");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
@@ -0,0 +1,182 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class GroupListAbstract extends DelegatingList<Group> implements MithraList<Group>
+{
+	public GroupListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public GroupListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public GroupListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public GroupListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Group[] elements()
+	{
+		Group[] result = new Group[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public GroupList intersection(GroupList another)
+	{
+		return (GroupList)super.intersection(another);
+	}
+
+	public Group getGroupAt(int index)
+	{
+		return (Group)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.managerId = User.id</pre>
+	* @return The manager
+	*/
+	public UserList getManagers()
+	{
+		return (UserList) this.getDelegated().resolveRelationship(this, GroupFinder.manager());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.profileId = Profile.id</pre>
+	* @return The profile
+	*/
+	public ProfileList getProfiles()
+	{
+		return (ProfileList) this.getDelegated().resolveRelationship(this, GroupFinder.profile());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = Location.groupId</pre>
+	* @return locations
+	*/
+	public LocationList getLocations()
+	{
+		return (LocationList) this.getDelegated().resolveRelationship(this, GroupFinder.locations());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(UserGroup.ownerId = User.id and this.id = UserGroup.dependentId )</pre>
+	* @see User#getGroups() reverse relationship User.getGroups()
+	* @return users
+	*/
+	public UserList getUsers()
+	{
+		return (UserList) this.getDelegated().resolveRelationship(this, GroupFinder.users());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(UserGroup.ownerId = User.id and UserGroup.sourceId =  1 and this.id = UserGroup.dependentId and this.sourceId =  2 )</pre>
+	* @see User#getSourceGroups() reverse relationship User.getSourceGroups()
+	* @return source users
+	*/
+	public UserList getSourceUsers()
+	{
+		return (UserList) this.getDelegated().resolveRelationship(this, GroupFinder.sourceUsers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = User.defaultGroupId</pre>
+	* @see User#getDefaultGroup() reverse relationship User.getDefaultGroup()
+	* @return default users
+	*/
+	public UserList getDefaultUsers()
+	{
+		return (UserList) this.getDelegated().resolveRelationship(this, GroupFinder.defaultUsers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(User.defaultGroupId = this.id and this.type =  7 )</pre>
+	* @see User#getGroup7() reverse relationship User.getGroup7()
+	* @return group7active users
+	*/
+	public UserList getGroup7activeUsers()
+	{
+		return (UserList) this.getDelegated().resolveRelationship(this, GroupFinder.group7activeUsers());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return GroupFinder.getMithraObjectPortal();
+	}
+
+	public GroupList getNonPersistentCopy()
+	{
+		GroupList result = new GroupList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public GroupList asAdhoc()
+	{
+		return (GroupList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Group> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
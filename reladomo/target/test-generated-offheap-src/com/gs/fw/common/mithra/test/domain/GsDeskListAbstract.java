@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class GsDeskListAbstract extends DelegatingList<GsDesk> implements MithraList<GsDesk>
+{
+	public GsDeskListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public GsDeskListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public GsDeskListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public GsDeskListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public GsDesk[] elements()
+	{
+		GsDesk[] result = new GsDesk[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public GsDeskList intersection(GsDeskList another)
+	{
+		return (GsDeskList)super.intersection(another);
+	}
+
+	public GsDesk getGsDeskAt(int index)
+	{
+		return (GsDesk)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestCheckGsDesk.gsDeskId = this.id</pre>
+	* @see TestCheckGsDesk#getGsDesk() reverse relationship TestCheckGsDesk.getGsDesk()
+	* @return check gs desk
+	*/
+	public TestCheckGsDeskList getCheckGsDesk()
+	{
+		return (TestCheckGsDeskList) this.getDelegated().resolveRelationship(this, GsDeskFinder.checkGsDesk());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return GsDeskFinder.getMithraObjectPortal();
+	}
+
+	public GsDeskList getNonPersistentCopy()
+	{
+		GsDeskList result = new GsDeskList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public GsDeskList asAdhoc()
+	{
+		return (GsDeskList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<GsDesk> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
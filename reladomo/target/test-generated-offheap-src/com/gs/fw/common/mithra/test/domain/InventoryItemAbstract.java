@@ -0,0 +1,63 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.Extractor;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/superclass/Abstract.jsp
+public abstract class InventoryItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	//add getters for all attributes
+	public abstract boolean isInventoryIdNull();
+	public abstract int getInventoryId();
+	public abstract void setInventoryId(int inventoryId);
+	public abstract boolean isDescriptionNull();
+	public abstract String getDescription();
+	public abstract void setDescription(String description);
+	public abstract boolean isManufacturerIdNull();
+	public abstract int getManufacturerId();
+	public abstract void setManufacturerId(int manufacturerId);
+	public abstract void setManufacturerIdNull();
+	public abstract boolean isInventoryLevelNull();
+	public abstract int getInventoryLevel();
+	public abstract void setInventoryLevel(int inventoryLevel);
+	public abstract void setInventoryLevelNull();
+	public abstract boolean isUnitPriceNull();
+	public abstract double getUnitPrice();
+	public abstract void setUnitPrice(double unitPrice);
+	public abstract void setUnitPriceNull();
+	public abstract SupplierList getSuppliers();
+	public abstract Manufacturer getManufacturer();
+	public InventoryItem getDetachedCopy() throws MithraBusinessException
+	{
+		return (InventoryItem) super.getDetachedCopy();
+	}
+
+	public InventoryItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		return (InventoryItem) super.getNonPersistentCopy();
+	}
+}
@@ -0,0 +1,32 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.attribute.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface InventoryItemFinder<Result extends InventoryItem> extends RelatedFinder<Result>
+{
+	public RelatedFinder getRelationshipFinderByName(String relationshipName);
+	public Attribute getAttributeByName(String attributeName);
+	public IntegerAttribute inventoryId();
+	public StringAttribute description();
+	public IntegerAttribute manufacturerId();
+	public IntegerAttribute inventoryLevel();
+	public DoubleAttribute unitPrice();
+	public SupplierFinder.SupplierCollectionFinderForRelatedClasses suppliers();
+	public ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses manufacturer();
+}
@@ -0,0 +1,1439 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.glew.LewContract;
+import com.gs.fw.common.mithra.test.glew.LewContractAbstract;
+import com.gs.fw.common.mithra.test.glew.LewContractData;
+import com.gs.fw.common.mithra.test.glew.LewContractFinder;
+import com.gs.fw.common.mithra.test.glew.LewContractList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class LewAccountFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/LewAccount";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.LewAccount";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.LewAccount");
+	private static final LewAccountSingleFinder<LewAccount, Object, LewAccount> finder = new LewAccountSingleFinder<LewAccount, Object, LewAccount>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byNumber = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(LewAccountFinder.LewAccountRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("accountNumber");
+		finderMethodMap.addNormalAttributeName("accountSubNumber");
+		finderMethodMap.addNormalAttributeName("legalEntity");
+		finderMethodMap.addNormalAttributeName("procCompanyId");
+		finderMethodMap.addNormalAttributeName("trialCode");
+		finderMethodMap.addNormalAttributeName("accountType");
+		finderMethodMap.addNormalAttributeName("acctMnem");
+		finderMethodMap.addNormalAttributeName("acctExtLookup");
+		finderMethodMap.addNormalAttributeName("acctDesc");
+		finderMethodMap.addNormalAttributeName("createCode");
+		finderMethodMap.addNormalAttributeName("changeCode");
+		finderMethodMap.addNormalAttributeName("changeNumber");
+		finderMethodMap.addNormalAttributeName("acctMstrSrc");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("contracts");
+		finderMethodMap.addRelationshipName("contractsToLoad");
+		finderMethodMap.addRelationshipName("paraPosition");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = LewAccountFinder.accountId().constructEqualityMapper(LewContractFinder.acctId());
+			result[1] = LewContractFinder.acctId().constructEqualityMapper(LewAccountFinder.accountId());
+			result[2] = LewAccountFinder.businessDate().constructEqualityMapper(LewContractFinder.businessDate());
+			result[3] = LewContractFinder.businessDate().constructEqualityMapper(LewAccountFinder.businessDate());
+			result[4] = LewAccountFinder.processingDate().constructEqualityMapper(LewContractFinder.processingDate());
+			result[5] = LewContractFinder.processingDate().constructEqualityMapper(LewAccountFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static LewAccount findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static LewAccount findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static LewAccountList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (LewAccountList) finder.findMany(operation);
+	}
+
+	public static LewAccountList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (LewAccountList) finder.findManyBypassCache(operation);
+	}
+
+	private static LewAccount findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (LewAccount) FinderUtils.findOne(found);
+	}
+
+	public static LewAccount findByPrimaryKey(int accountId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			LewAccountData _castedTargetData = (LewAccountData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getAccountId())
+			{
+				return LewAccountFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && LewAccountFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static LewAccount findByNumber(String accountNumber, String accountSubNumber, int acctMstrSrc, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByNumber(accountNumber, accountSubNumber, acctMstrSrc, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forNumber = new NumberRhs();
+	private static final class NumberRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			LewAccountData _castedTargetData = (LewAccountData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountNumber()) && _bean.getO2AsString().equals(_castedTargetData.getAccountSubNumber()) && _bean.getI1AsInteger() == _castedTargetData.getAcctMstrSrc())
+			{
+				return LewAccountFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && LewAccountFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static LewAccount zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (LewAccount) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class LewAccountRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<LewAccount, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> accountNumber;
+		private StringAttribute<ParentOwnerType> accountSubNumber;
+		private IntegerAttribute<ParentOwnerType> legalEntity;
+		private IntegerAttribute<ParentOwnerType> procCompanyId;
+		private StringAttribute<ParentOwnerType> trialCode;
+		private StringAttribute<ParentOwnerType> accountType;
+		private StringAttribute<ParentOwnerType> acctMnem;
+		private StringAttribute<ParentOwnerType> acctExtLookup;
+		private StringAttribute<ParentOwnerType> acctDesc;
+		private IntegerAttribute<ParentOwnerType> createCode;
+		private IntegerAttribute<ParentOwnerType> changeCode;
+		private StringAttribute<ParentOwnerType> changeNumber;
+		private IntegerAttribute<ParentOwnerType> acctMstrSrc;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private LewAccountContractsFinderSubclass<ParentOwnerType> contracts;
+		private LewAccountContractsToLoadFinderSubclass<ParentOwnerType> contractsToLoad;
+		private LewAccountParaPositionFinderSubclass<ParentOwnerType> paraPosition;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public LewAccountRelatedFinder()
+		{
+			super();
+		}
+
+		public LewAccountRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.LewAccountFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return LewAccountFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return LewAccountFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return LewAccountFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[18];
+			attributes[0] = this.accountId();
+			attributes[1] = this.accountNumber();
+			attributes[2] = this.accountSubNumber();
+			attributes[3] = this.legalEntity();
+			attributes[4] = this.procCompanyId();
+			attributes[5] = this.trialCode();
+			attributes[6] = this.accountType();
+			attributes[7] = this.acctMnem();
+			attributes[8] = this.acctExtLookup();
+			attributes[9] = this.acctDesc();
+			attributes[10] = this.createCode();
+			attributes[11] = this.changeCode();
+			attributes[12] = this.changeNumber();
+			attributes[13] = this.acctMstrSrc();
+			attributes[14] = this.businessDateFrom();
+			attributes[15] = this.businessDateTo();
+			attributes[16] = this.processingDateFrom();
+			attributes[17] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.contracts());
+				relatedFinders.add(this.contractsToLoad());
+				relatedFinders.add(this.paraPosition());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public LewAccount findOne(com.gs.fw.finder.Operation operation)
+		{
+			return LewAccountFinder.findOne(operation, false);
+		}
+
+		public LewAccount findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return LewAccountFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends LewAccount> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new LewAccountList((Operation) operation);
+		}
+
+		public MithraList<? extends LewAccount> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			LewAccountList result = (LewAccountList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends LewAccount> constructEmptyList()
+		{
+			return new LewAccountList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 251576376;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> accountId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCT_I","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(LewAccountFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_N","","accountNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,12,-1,-1,15,true, false) :
+					new MappedStringAttribute(LewAccountFinder.accountNumber(), this.mapper, this.zGetValueSelector());
+				this.accountNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountSubNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountSubNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_SUB_N","","accountSubNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,16,-1,-1,3,true, false) :
+					new MappedStringAttribute(LewAccountFinder.accountSubNumber(), this.mapper, this.zGetValueSelector());
+				this.accountSubNumber = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> legalEntity()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.legalEntity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("LEGAL_ENTITY_I","","legalEntity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,68,4,3,false, false) :
+					new MappedIntegerAttribute(LewAccountFinder.legalEntity(), this.mapper, this.zGetValueSelector());
+				this.legalEntity = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> procCompanyId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.procCompanyId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROC_COMPANY_I","","procCompanyId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,72,4,4,false, false) :
+					new MappedIntegerAttribute(LewAccountFinder.procCompanyId(), this.mapper, this.zGetValueSelector());
+				this.procCompanyId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trialCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.trialCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRIAL_C","","trialCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,92,-1,-1,4,true, false) :
+					new MappedStringAttribute(LewAccountFinder.trialCode(), this.mapper, this.zGetValueSelector());
+				this.trialCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountType()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_TYP_C","","accountType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,20,-1,-1,3,true, false) :
+					new MappedStringAttribute(LewAccountFinder.accountType(), this.mapper, this.zGetValueSelector());
+				this.accountType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acctMnem()
+		{
+			StringAttribute<ParentOwnerType> result = this.acctMnem;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_MNEM_N","","acctMnem",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,-1,-1,8,true, false) :
+					new MappedStringAttribute(LewAccountFinder.acctMnem(), this.mapper, this.zGetValueSelector());
+				this.acctMnem = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acctExtLookup()
+		{
+			StringAttribute<ParentOwnerType> result = this.acctExtLookup;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_EXT_LOOKUP_N","","acctExtLookup",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,15,true, false) :
+					new MappedStringAttribute(LewAccountFinder.acctExtLookup(), this.mapper, this.zGetValueSelector());
+				this.acctExtLookup = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acctDesc()
+		{
+			StringAttribute<ParentOwnerType> result = this.acctDesc;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_DESC_T","","acctDesc",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,24,-1,-1,80,true, false) :
+					new MappedStringAttribute(LewAccountFinder.acctDesc(), this.mapper, this.zGetValueSelector());
+				this.acctDesc = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> createCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.createCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCT_CREATE_C","","createCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,64,4,2,false, false) :
+					new MappedIntegerAttribute(LewAccountFinder.createCode(), this.mapper, this.zGetValueSelector());
+				this.createCode = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> changeCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.changeCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCT_CHANGE_C","","changeCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,56,4,1,false, false) :
+					new MappedIntegerAttribute(LewAccountFinder.changeCode(), this.mapper, this.zGetValueSelector());
+				this.changeCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> changeNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.changeNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_CHANGE_N","","changeNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,60,-1,-1,8,true, false) :
+					new MappedStringAttribute(LewAccountFinder.changeNumber(), this.mapper, this.zGetValueSelector());
+				this.changeNumber = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> acctMstrSrc()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.acctMstrSrc;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCT_MSTR_SRC_I","","acctMstrSrc",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,36,4,0,false, false) :
+					new MappedIntegerAttribute(LewAccountFinder.acctMstrSrc(), this.mapper, this.zGetValueSelector());
+				this.acctMstrSrc = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,LewAccountFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(LewAccountFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,48,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,LewAccountFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(LewAccountFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,76,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,LewAccountFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(LewAccountFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,84,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,LewAccountFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(LewAccountFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),LewAccountFinder.businessDateInfinity,false,false,LewAccountFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(LewAccountFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),LewAccountFinder.processingDateInfinity,false,false,LewAccountFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(LewAccountFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public LewContractFinder.LewContractCollectionFinderForRelatedClasses<ParentOwnerType, LewContractList, LewAccount> contracts()
+		{
+			LewAccountContractsFinderSubclass<ParentOwnerType> result = this.contracts;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(LewAccountFinder.zGetLewAccountContractsReverseMapper());
+				newMapper.setToMany(true);
+				result = new LewAccountContractsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.contracts = result;
+			}
+
+			return result;
+		}
+
+		public LewContractFinder.LewContractCollectionFinderForRelatedClasses<ParentOwnerType, LewContractList, LewAccount> contractsToLoad()
+		{
+			LewAccountContractsToLoadFinderSubclass<ParentOwnerType> result = this.contractsToLoad;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(LewAccountFinder.zGetLewAccountContractsToLoadReverseMapper());
+				newMapper.setToMany(true);
+				result = new LewAccountContractsToLoadFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.contractsToLoad = result;
+			}
+
+			return result;
+		}
+
+		public ParaPositionFinder.ParaPositionCollectionFinderForRelatedClasses<ParentOwnerType, ParaPositionList, LewAccount> paraPosition()
+		{
+			LewAccountParaPositionFinderSubclass<ParentOwnerType> result = this.paraPosition;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParaPositionFinder.zGetParaPositionAccountMapper());
+				newMapper.setToMany(true);
+				result = new LewAccountParaPositionFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.paraPosition = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return LewAccountFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return LewAccountFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class LewAccountCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends LewAccountRelatedFinder<ParentOwnerType, ReturnType, LewAccountList, OwnerType>
+	{
+		public LewAccountCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class LewAccountCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends LewAccountCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public LewAccountCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class LewAccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends LewAccountRelatedFinder<ParentOwnerType, ReturnType, LewAccountList, OwnerType>
+	implements ToOneFinder
+	{
+		public LewAccountSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public LewAccountSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(LewAccount other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public LewAccount findByPrimaryKey(int accountId, Timestamp businessDate, Timestamp processingDate)
+		{
+			LewAccount _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(accountId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (LewAccount) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public LewAccount findByNumber(String accountNumber, String accountSubNumber, int acctMstrSrc, Timestamp businessDate, Timestamp processingDate)
+		{
+			LewAccount _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountNumber != null && accountSubNumber != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountNumber);
+				_bean.setO2(accountSubNumber);
+				_bean.setI1AsInteger(acctMstrSrc);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forNumber, businessDate, processingDate, LewAccountFinder.zGetIndexbyNumberRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (LewAccount) _related;
+			if (_related == null)
+			{
+				_op = this.accountNumber().eq(accountNumber).and(this.accountSubNumber().eq(accountSubNumber)).and(this.acctMstrSrc().eq(acctMstrSrc)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class LewAccountSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends LewAccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public LewAccountSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper contractsReverseMapper = null;
+	public static Mapper zGetLewAccountContractsReverseMapper()
+	{
+		if (contractsReverseMapper == null)
+		{
+			contractsReverseMapper = zConstructLewAccountContractsReverseMapper();
+		}
+
+		return contractsReverseMapper;
+	}
+
+	private static Mapper contractsMapper = null;
+	public static Mapper zGetLewAccountContractsMapper()
+	{
+		if (contractsMapper == null)
+		{
+			contractsMapper = zConstructLewAccountContractsMapper();
+		}
+
+		return contractsMapper;
+	}
+
+	private static Mapper contractsPureReverseMapper = null;
+	public static Mapper zGetLewAccountContractsPureReverseMapper()
+	{
+		if (contractsPureReverseMapper == null)
+		{
+			contractsPureReverseMapper = zConstructLewAccountContractsPureReverseMapper();
+		}
+
+		return contractsPureReverseMapper;
+	}
+
+	private static Mapper zConstructLewAccountContractsPureReverseMapper()
+	{
+		InternalList contractsMapperMapperList = new InternalList(3);
+		contractsMapperMapperList.add(LewAccountFinder.zGetConstantJoin(0));
+		contractsMapperMapperList.add(LewAccountFinder.zGetConstantJoin(2));
+		contractsMapperMapperList.add(LewAccountFinder.zGetConstantJoin(4));
+		Mapper contractsMapper = new MultiEqualityMapper(contractsMapperMapperList);
+		contractsMapper.setName("contracts");
+		return contractsMapper;
+	}
+
+	private static Mapper zConstructLewAccountContractsReverseMapper()
+	{
+		InternalList contractsMapperInnerMapperMapperList = new InternalList(3);
+		contractsMapperInnerMapperMapperList.add(LewAccountFinder.zGetConstantJoin(0));
+		contractsMapperInnerMapperMapperList.add(LewAccountFinder.zGetConstantJoin(2));
+		contractsMapperInnerMapperMapperList.add(LewAccountFinder.zGetConstantJoin(4));
+		Mapper contractsMapperInnerMapper = new MultiEqualityMapper(contractsMapperInnerMapperMapperList);
+		Mapper contractsMapper = new FilteredMapper(contractsMapperInnerMapper, null, LewContractFinder.zGetConstantOperation(0));
+		contractsMapper.setName("contracts");
+		return contractsMapper;
+	}
+
+	private static Mapper zConstructLewAccountContractsMapper()
+	{
+		InternalList contractsMapperInnerMapperMapperList = new InternalList(3);
+		contractsMapperInnerMapperMapperList.add(LewAccountFinder.zGetConstantJoin(1));
+		contractsMapperInnerMapperMapperList.add(LewAccountFinder.zGetConstantJoin(3));
+		contractsMapperInnerMapperMapperList.add(LewAccountFinder.zGetConstantJoin(5));
+		Mapper contractsMapperInnerMapper = new MultiEqualityMapper(contractsMapperInnerMapperMapperList);
+		Mapper contractsMapper = new FilteredMapper(contractsMapperInnerMapper, LewContractFinder.zGetConstantOperation(0), null);
+		contractsMapper.setName("contracts_Reverse");
+		return contractsMapper;
+	}
+
+	private static Mapper contractsToLoadReverseMapper = null;
+	public static Mapper zGetLewAccountContractsToLoadReverseMapper()
+	{
+		if (contractsToLoadReverseMapper == null)
+		{
+			contractsToLoadReverseMapper = zConstructLewAccountContractsToLoadReverseMapper();
+		}
+
+		return contractsToLoadReverseMapper;
+	}
+
+	private static Mapper contractsToLoadMapper = null;
+	public static Mapper zGetLewAccountContractsToLoadMapper()
+	{
+		if (contractsToLoadMapper == null)
+		{
+			contractsToLoadMapper = zConstructLewAccountContractsToLoadMapper();
+		}
+
+		return contractsToLoadMapper;
+	}
+
+	private static Mapper contractsToLoadPureReverseMapper = null;
+	public static Mapper zGetLewAccountContractsToLoadPureReverseMapper()
+	{
+		if (contractsToLoadPureReverseMapper == null)
+		{
+			contractsToLoadPureReverseMapper = zConstructLewAccountContractsToLoadPureReverseMapper();
+		}
+
+		return contractsToLoadPureReverseMapper;
+	}
+
+	private static Mapper zConstructLewAccountContractsToLoadPureReverseMapper()
+	{
+		InternalList contractsToLoadMapperMapperList = new InternalList(3);
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(0));
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(2));
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(4));
+		Mapper contractsToLoadMapper = new MultiEqualityMapper(contractsToLoadMapperMapperList);
+		contractsToLoadMapper.setName("contractsToLoad");
+		return contractsToLoadMapper;
+	}
+
+	private static Mapper zConstructLewAccountContractsToLoadReverseMapper()
+	{
+		InternalList contractsToLoadMapperMapperList = new InternalList(3);
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(0));
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(2));
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(4));
+		Mapper contractsToLoadMapper = new MultiEqualityMapper(contractsToLoadMapperMapperList);
+		contractsToLoadMapper.setName("contractsToLoad");
+		return contractsToLoadMapper;
+	}
+
+	private static Mapper zConstructLewAccountContractsToLoadMapper()
+	{
+		InternalList contractsToLoadMapperMapperList = new InternalList(3);
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(1));
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(3));
+		contractsToLoadMapperMapperList.add(LewAccountFinder.zGetConstantJoin(5));
+		Mapper contractsToLoadMapper = new MultiEqualityMapper(contractsToLoadMapperMapperList);
+		contractsToLoadMapper.setName("contractsToLoad_Reverse");
+		return contractsToLoadMapper;
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_I **/
+	public static IntegerAttribute<LewAccount> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_N **/
+	public static StringAttribute<LewAccount> accountNumber()
+	{
+		return finder.accountNumber();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_SUB_N **/
+	public static StringAttribute<LewAccount> accountSubNumber()
+	{
+		return finder.accountSubNumber();
+	}
+
+	/** maps to LEW_ACCOUNT.LEGAL_ENTITY_I **/
+	public static IntegerAttribute<LewAccount> legalEntity()
+	{
+		return finder.legalEntity();
+	}
+
+	/** maps to LEW_ACCOUNT.PROC_COMPANY_I **/
+	public static IntegerAttribute<LewAccount> procCompanyId()
+	{
+		return finder.procCompanyId();
+	}
+
+	/** maps to LEW_ACCOUNT.TRIAL_C **/
+	public static StringAttribute<LewAccount> trialCode()
+	{
+		return finder.trialCode();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_TYP_C **/
+	public static StringAttribute<LewAccount> accountType()
+	{
+		return finder.accountType();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_MNEM_N **/
+	public static StringAttribute<LewAccount> acctMnem()
+	{
+		return finder.acctMnem();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_EXT_LOOKUP_N **/
+	public static StringAttribute<LewAccount> acctExtLookup()
+	{
+		return finder.acctExtLookup();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_DESC_T **/
+	public static StringAttribute<LewAccount> acctDesc()
+	{
+		return finder.acctDesc();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_CREATE_C **/
+	public static IntegerAttribute<LewAccount> createCode()
+	{
+		return finder.createCode();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_CHANGE_C **/
+	public static IntegerAttribute<LewAccount> changeCode()
+	{
+		return finder.changeCode();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_CHANGE_N **/
+	public static StringAttribute<LewAccount> changeNumber()
+	{
+		return finder.changeNumber();
+	}
+
+	/** maps to LEW_ACCOUNT.ACCT_MSTR_SRC_I **/
+	public static IntegerAttribute<LewAccount> acctMstrSrc()
+	{
+		return finder.acctMstrSrc();
+	}
+
+	/** maps to LEW_ACCOUNT.FROM_Z **/
+	public static TimestampAttribute<LewAccount> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to LEW_ACCOUNT.THRU_Z **/
+	public static TimestampAttribute<LewAccount> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to LEW_ACCOUNT.IN_Z **/
+	public static TimestampAttribute<LewAccount> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to LEW_ACCOUNT.OUT_Z **/
+	public static TimestampAttribute<LewAccount> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<LewAccount> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<LewAccount> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static LewContractFinder.LewContractCollectionFinderForRelatedClasses<LewAccount, LewContractList, LewAccount> contracts()
+	{
+		return finder.contracts();
+	}
+
+	public static class LewAccountContractsFinderSubclass<ParentOwnerType> extends LewContractFinder.LewContractCollectionFinderForRelatedClasses<ParentOwnerType, LewContractList, LewAccount>
+	{
+		public LewAccountContractsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "contracts";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				LewContractFinder.acctId(),
+				LewContractFinder.region(),
+				LewContractFinder.businessDate(),
+				LewContractFinder.processingDate()).withExtractors(
+				LewAccountFinder.accountId(),
+				((OperationWithParameterExtractor)LewContractFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				LewAccountFinder.businessDate(),
+				LewAccountFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new LewAccountContractsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected LewContractList plainValueOf(LewAccount _obj)
+		{
+			return _obj.getContracts();
+		}
+
+		protected LewContractList plainListValueOf(Object _obj)
+		{
+			return ((LewAccountList)_obj).getContracts();
+		}
+	}
+
+	public static LewContractFinder.LewContractCollectionFinderForRelatedClasses<LewAccount, LewContractList, LewAccount> contractsToLoad()
+	{
+		return finder.contractsToLoad();
+	}
+
+	public static class LewAccountContractsToLoadFinderSubclass<ParentOwnerType> extends LewContractFinder.LewContractCollectionFinderForRelatedClasses<ParentOwnerType, LewContractList, LewAccount>
+	{
+		public LewAccountContractsToLoadFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "contractsToLoad";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				LewContractFinder.acctId(),
+				LewContractFinder.businessDate(),
+				LewContractFinder.processingDate()).withExtractors(
+				LewAccountFinder.accountId(),
+				LewAccountFinder.businessDate(),
+				LewAccountFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new LewAccountContractsToLoadFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected LewContractList plainValueOf(LewAccount _obj)
+		{
+			return _obj.getContractsToLoad();
+		}
+
+		protected LewContractList plainListValueOf(Object _obj)
+		{
+			return ((LewAccountList)_obj).getContractsToLoad();
+		}
+	}
+
+	public static ParaPositionFinder.ParaPositionCollectionFinderForRelatedClasses<LewAccount, ParaPositionList, LewAccount> paraPosition()
+	{
+		return finder.paraPosition();
+	}
+
+	public static class LewAccountParaPositionFinderSubclass<ParentOwnerType> extends ParaPositionFinder.ParaPositionCollectionFinderForRelatedClasses<ParentOwnerType, ParaPositionList, LewAccount>
+	{
+		public LewAccountParaPositionFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "paraPosition";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ParaPositionFinder.accountNumber(),
+				ParaPositionFinder.accountSubtype(),
+				ParaPositionFinder.businessDate(),
+				ParaPositionFinder.processingDate()).withExtractors(
+				LewAccountFinder.accountNumber(),
+				LewAccountFinder.accountSubNumber(),
+				LewAccountFinder.businessDate(),
+				LewAccountFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new LewAccountParaPositionFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParaPositionList plainValueOf(LewAccount _obj)
+		{
+			return _obj.getParaPosition();
+		}
+
+		protected ParaPositionList plainListValueOf(Object _obj)
+		{
+			return ((LewAccountList)_obj).getParaPosition();
+		}
+	}
+
+	public static Operation eq(LewAccount other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static LewAccountSingleFinder<LewAccount, Object, LewAccount> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byNumber = cache.addUniqueIndex("byNumber", new Attribute[] 
+		{
+			accountNumber()
+			, accountSubNumber()
+			, acctMstrSrc()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			accountNumber()
+			, accountSubNumber()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyNumberRef() 
+	{
+		return INDEX_byNumber; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.LewAccount");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,701 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ListDefinitionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ListDefinitionFinder.processingDate()
+	, ListDefinitionFinder.zGetDoubleAttributes(),ListDefinitionFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ListDefinition.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isControlDefinitionMappingsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ListDefinitionData _data = (ListDefinitionData) _behavior.getCurrentDataForRead(this);
+		ControlListDefinitionMappingList controlDefinitionMappings =
+		(ControlListDefinitionMappingList) _data.getControlDefinitionMappings();
+		if( controlDefinitionMappings != null)
+		{
+			return controlDefinitionMappings.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public ListDefinitionAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ListDefinitionFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ListDefinitionData zSynchronizedGetData()
+	{
+		return (ListDefinitionData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ListDefinitionFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ListDefinitionData _data = (ListDefinitionData) _behavior.getCurrentDataForWrite(this);
+		ControlListDefinitionMappingList controlDefinitionMappings =
+		(ControlListDefinitionMappingList ) _data.getControlDefinitionMappings();
+		_behavior.insert(this);
+		if (controlDefinitionMappings != null)
+		{
+			controlDefinitionMappings.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		ListDefinitionFinder.ListDefinitionRelatedFinder parentFinder = (ListDefinitionFinder.ListDefinitionRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ListDefinitionData _newData = (ListDefinitionData) _behavior.getCurrentDataForWrite(this);
+		{
+			ControlListDefinitionMappingList controlDefinitionMappings =
+			(ControlListDefinitionMappingList) _newData.getControlDefinitionMappings();
+			RelatedFinder dependentFinder = parentFinder.controlDefinitionMappings();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, controlDefinitionMappings != null, navigationStats);
+			if (controlDefinitionMappings != null)
+			{
+				controlDefinitionMappings.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public ListDefinition zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ListDefinitionData _data = (ListDefinitionData) _behavior.getCurrentDataForWrite(this);
+		ControlListDefinitionMappingList controlDefinitionMappings =
+		(ControlListDefinitionMappingList ) _data.getControlDefinitionMappings();
+		ListDefinition original = (ListDefinition) _behavior.copyThenInsert(this);
+		if (controlDefinitionMappings != null)
+		{
+			controlDefinitionMappings.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ListDefinitionFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ListDefinition getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ListDefinitionAbstract result = (ListDefinitionAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ListDefinition ) result;
+	}
+
+	public ListDefinition zFindOriginal()
+	{
+		ListDefinitionData data = (ListDefinitionData) this.currentData;
+		Operation op;
+		op = ListDefinitionFinder.listId().eq(data.getListId());
+		op = op.and(ListDefinitionFinder.processingDate().eq(this.getProcessingDate()));
+		return ListDefinitionFinder.findOne(op);
+	}
+
+	public ListDefinition getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ListDefinitionAbstract result = (ListDefinitionAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ListDefinition ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isControlDefinitionMappingsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ListDefinition copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ListDefinition) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ListDefinition copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ListDefinition) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ListDefinitionData data = (ListDefinitionData) this.currentData;
+			Operation op = ListDefinitionFinder.processingDate().eq(this.processingDate);
+			op = op.and(ListDefinitionFinder.listId().eq(data.getListId()));
+			return ListDefinitionFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isListDescNull()
+	{
+		return this.zSynchronizedGetData().isListDescNull();
+	}
+
+	public boolean isListIdNull()
+	{
+		return this.zSynchronizedGetData().isListIdNull();
+	}
+
+	public boolean isListNameNull()
+	{
+		return this.zSynchronizedGetData().isListNameNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public String getListDesc()
+	{
+		return this.zSynchronizedGetData().getListDesc();
+	}
+
+	public void setListDesc(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 100)
+		{
+			throw new MithraBusinessException("Attribute 'listDesc' cannot exceed maximum length of 100: " + newValue);
+		}
+
+		zSetString(ListDefinitionFinder.listDesc(), newValue, false );
+	}
+
+	public String getListId()
+	{
+		return this.zSynchronizedGetData().getListId();
+	}
+
+	public void setListId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'listId' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		MithraDataObject d = zSetString(ListDefinitionFinder.listId(), newValue, true );
+		if (d == null) return;
+		ListDefinitionData data = (ListDefinitionData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			ControlListDefinitionMappingList controlDefinitionMappings =
+			(ControlListDefinitionMappingList) data.getControlDefinitionMappings();
+			if (controlDefinitionMappings != null)
+			{
+				controlDefinitionMappings.setListId(newValue);
+			}
+		}
+	}
+
+	public String getListName()
+	{
+		return this.zSynchronizedGetData().getListName();
+	}
+
+	public void setListName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'listName' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(ListDefinitionFinder.listName(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ListDefinitionFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ListDefinitionFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(ListDefinitionFinder.updateBy(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ListDefinitionData _newData = (ListDefinitionData) _data;
+		{
+			ControlListDefinitionMappingList controlDefinitionMappings =
+			(ControlListDefinitionMappingList) _newData.getControlDefinitionMappings();
+			if (controlDefinitionMappings != null)
+			{
+				controlDefinitionMappings.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ListDefinitionData _newData = (ListDefinitionData) behavior.getCurrentDataForRead(this);
+		if (_newData.getControlDefinitionMappings() != null && !(_newData.getControlDefinitionMappings() instanceof NulledRelation))
+		{
+			((ControlListDefinitionMappingList)_newData.getControlDefinitionMappings()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ListDefinitionData _newData = (ListDefinitionData) behavior.getCurrentDataForRead(this);
+		if (_newData.getControlDefinitionMappings() != null && !(_newData.getControlDefinitionMappings() instanceof NulledRelation))
+		{
+			((ControlListDefinitionMappingList)_newData.getControlDefinitionMappings()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.listId = ControlListDefinitionMapping.listId</pre>
+	* @see ControlListDefinitionMapping#getListDefinition() reverse relationship ControlListDefinitionMapping.getListDefinition()
+	* @return control definition mappings
+	*/
+	public ControlListDefinitionMappingList getControlDefinitionMappings()
+	{
+		ControlListDefinitionMappingList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ListDefinitionData _data = (ListDefinitionData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ListDefinitionFinder.controlDefinitionMappings().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (ControlListDefinitionMappingList) _data.getControlDefinitionMappings();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ListDefinitionFinder.controlDefinitionMappings().zGetRelationshipMultiExtractor(), this);
+					_result = new ControlListDefinitionMappingList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new ControlDefinitionMappingsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ListDefinitionData) _behavior.getCurrentDataForWrite(this);
+				_data.setControlDefinitionMappings(_result);
+				if (_result != null) _result.zSetParentContainerlistDefinition(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ControlListDefinitionMappingList) _data.getControlDefinitionMappings();
+			if (_result == null)
+			{
+				_result = new ControlListDefinitionMappingList();
+				_result.zSetAddHandler(new ControlDefinitionMappingsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ListDefinitionData) _behavior.getCurrentDataForWrite(this);
+				_data.setControlDefinitionMappings(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ControlListDefinitionMappingList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new ControlDefinitionMappingsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setControlDefinitionMappings(ControlListDefinitionMappingList controlDefinitionMappings)
+	{
+		ControlListDefinitionMappingList _controlDefinitionMappings = (ControlListDefinitionMappingList) controlDefinitionMappings;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ListDefinitionData _data = (ListDefinitionData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _controlDefinitionMappings != null)
+			{
+				_controlDefinitionMappings.zMakeDetached(new RelationshipMultiEqualityOperation(ListDefinitionFinder.controlDefinitionMappings().zGetRelationshipMultiExtractor(), this),
+					_data.getControlDefinitionMappings());
+			}
+
+			_data.setControlDefinitionMappings(_controlDefinitionMappings);
+			if (_controlDefinitionMappings != null)
+			{
+				_controlDefinitionMappings.setListId(_data.getListId());
+				_controlDefinitionMappings.zSetParentContainerlistDefinition(this);
+				_controlDefinitionMappings.zSetAddHandler(new ControlDefinitionMappingsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_controlDefinitionMappings.zSetAddHandler(new ControlDefinitionMappingsAddHandlerPersisted());
+			ControlListDefinitionMappingList controlDefinitionMappingsToDelete = new ControlListDefinitionMappingList();
+			controlDefinitionMappingsToDelete.addAll(this.getControlDefinitionMappings());
+			for(int i=0;i < _controlDefinitionMappings.size(); i++)
+			{
+				ControlListDefinitionMapping item = _controlDefinitionMappings.getControlListDefinitionMappingAt(i);
+				if (!controlDefinitionMappingsToDelete.remove(item))
+				{
+					item.setListId(_data.getListId());
+					item.cascadeInsert();
+				}
+			}
+
+			controlDefinitionMappingsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ListDefinitionFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ListDefinitionData.ListDefinitionDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ListDefinitionData data = (ListDefinitionData) ListDefinitionFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ListDefinition has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromListDefinitionData( ListDefinitionData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromListDefinitionData( ListDefinitionData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ListDefinitionFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ListDefinitionFinder.getMithraObjectPortal();
+	}
+
+	public ListDefinition getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ListDefinitionAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ListDefinitionAbstract from = (ListDefinitionAbstract) f;
+		ListDefinitionData newData = from.zSynchronizedGetData();
+		this.setListDesc(newData.getListDesc());
+		this.setListName(newData.getListName());
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ListDefinitionData newData = (ListDefinitionData) d;
+		ListDefinitionData data = (ListDefinitionData) nd;
+		if (ListDefinitionFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ListDefinitionFinder.listDesc(), false);
+		changed |= zUpdateString(behavior, data, newData, ListDefinitionFinder.listId(), false);
+		changed |= zUpdateString(behavior, data, newData, ListDefinitionFinder.listName(), false);
+		changed |= zUpdateString(behavior, data, newData, ListDefinitionFinder.updateBy(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getControlDefinitionMappings().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ListDefinitionData data = ((ListDefinitionData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ListDefinitionData data = ((ListDefinitionData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ListDefinitionData data = ((ListDefinitionData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), ListDefinitionFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ListDefinitionData localData = (ListDefinitionData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class ControlDefinitionMappingsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ControlListDefinitionMapping item = (ControlListDefinitionMapping) relatedObject;
+			item.setListId(getListId());
+			item.zSetParentContainerlistDefinition(ListDefinitionAbstract.this);
+		}
+	}
+
+	protected class ControlDefinitionMappingsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			ControlListDefinitionMapping item = (ControlListDefinitionMapping) relatedObject;
+			item.setListId(getListId());
+			item.cascadeInsert();
+		}
+	}
+}
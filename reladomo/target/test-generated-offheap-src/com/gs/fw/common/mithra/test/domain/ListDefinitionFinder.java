@@ -0,0 +1,876 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ListDefinitionFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ListDefinition";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ListDefinition";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ListDefinition");
+	private static final ListDefinitionSingleFinder<ListDefinition, Object, ListDefinition> finder = new ListDefinitionSingleFinder<ListDefinition, Object, ListDefinition>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ListDefinitionFinder.ListDefinitionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("listId");
+		finderMethodMap.addNormalAttributeName("listName");
+		finderMethodMap.addNormalAttributeName("listDesc");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("controlDefinitionMappings");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = ListDefinitionFinder.listId().constructEqualityMapper(ControlListDefinitionMappingFinder.listId());
+			result[1] = ControlListDefinitionMappingFinder.listId().constructEqualityMapper(ListDefinitionFinder.listId());
+			result[2] = ListDefinitionFinder.processingDate().constructEqualityMapper(ControlListDefinitionMappingFinder.processingDate());
+			result[3] = ControlListDefinitionMappingFinder.processingDate().constructEqualityMapper(ListDefinitionFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ListDefinition findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ListDefinition findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ListDefinitionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ListDefinitionList) finder.findMany(operation);
+	}
+
+	public static ListDefinitionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ListDefinitionList) finder.findManyBypassCache(operation);
+	}
+
+	private static ListDefinition findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ListDefinition) FinderUtils.findOne(found);
+	}
+
+	public static ListDefinition findByPrimaryKey(String listId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(listId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ListDefinitionData _castedTargetData = (ListDefinitionData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getListId()))
+			{
+				return ListDefinitionFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static ListDefinition zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ListDefinition) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ListDefinitionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ListDefinition, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> listId;
+		private StringAttribute<ParentOwnerType> listName;
+		private StringAttribute<ParentOwnerType> listDesc;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ListDefinitionControlDefinitionMappingsFinderSubclass<ParentOwnerType> controlDefinitionMappings;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ListDefinitionRelatedFinder()
+		{
+			super();
+		}
+
+		public ListDefinitionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ListDefinitionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ListDefinitionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ListDefinitionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ListDefinitionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.listId();
+			attributes[1] = this.listName();
+			attributes[2] = this.listDesc();
+			attributes[3] = this.updateBy();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.controlDefinitionMappings());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.controlDefinitionMappings());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ListDefinition findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ListDefinitionFinder.findOne(operation, false);
+		}
+
+		public ListDefinition findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ListDefinitionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ListDefinition> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ListDefinitionList((Operation) operation);
+		}
+
+		public MithraList<? extends ListDefinition> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ListDefinitionList result = (ListDefinitionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ListDefinition> constructEmptyList()
+		{
+			return new ListDefinitionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -100609675;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> listId()
+		{
+			StringAttribute<ParentOwnerType> result = this.listId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LIST_ID","","listId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,4,-1,-1,10,true, false) :
+					new MappedStringAttribute(ListDefinitionFinder.listId(), this.mapper, this.zGetValueSelector());
+				this.listId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> listName()
+		{
+			StringAttribute<ParentOwnerType> result = this.listName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LIST_NAME","","listName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,10,true, false) :
+					new MappedStringAttribute(ListDefinitionFinder.listName(), this.mapper, this.zGetValueSelector());
+				this.listName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> listDesc()
+		{
+			StringAttribute<ParentOwnerType> result = this.listDesc;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LIST_DESC","","listDesc",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,8,-1,-1,100,true, false) :
+					new MappedStringAttribute(ListDefinitionFinder.listDesc(), this.mapper, this.zGetValueSelector());
+				this.listDesc = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,32,-1,-1,30,true, false) :
+					new MappedStringAttribute(ListDefinitionFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ListDefinitionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ListDefinitionFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ListDefinitionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ListDefinitionFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ListDefinitionFinder.processingDateInfinity,false,false,ListDefinitionFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ListDefinitionFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ControlListDefinitionMappingFinder.ControlListDefinitionMappingCollectionFinderForRelatedClasses<ParentOwnerType, ControlListDefinitionMappingList, ListDefinition> controlDefinitionMappings()
+		{
+			ListDefinitionControlDefinitionMappingsFinderSubclass<ParentOwnerType> result = this.controlDefinitionMappings;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ListDefinitionFinder.zGetListDefinitionControlDefinitionMappingsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ListDefinitionControlDefinitionMappingsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.controlDefinitionMappings = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ListDefinitionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ListDefinitionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ListDefinitionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ListDefinitionRelatedFinder<ParentOwnerType, ReturnType, ListDefinitionList, OwnerType>
+	{
+		public ListDefinitionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ListDefinitionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ListDefinitionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ListDefinitionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ListDefinitionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ListDefinitionRelatedFinder<ParentOwnerType, ReturnType, ListDefinitionList, OwnerType>
+	implements ToOneFinder
+	{
+		public ListDefinitionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ListDefinitionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ListDefinition other)
+		{
+			return this.listId().eq(other.getListId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ListDefinition findByPrimaryKey(String listId, Timestamp processingDate)
+		{
+			ListDefinition _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (listId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(listId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ListDefinition) _related;
+			if (_related == null)
+			{
+				_op = this.listId().eq(listId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ListDefinitionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ListDefinitionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ListDefinitionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper controlDefinitionMappingsReverseMapper = null;
+	public static Mapper zGetListDefinitionControlDefinitionMappingsReverseMapper()
+	{
+		if (controlDefinitionMappingsReverseMapper == null)
+		{
+			controlDefinitionMappingsReverseMapper = zConstructListDefinitionControlDefinitionMappingsReverseMapper();
+		}
+
+		return controlDefinitionMappingsReverseMapper;
+	}
+
+	private static Mapper controlDefinitionMappingsMapper = null;
+	public static Mapper zGetListDefinitionControlDefinitionMappingsMapper()
+	{
+		if (controlDefinitionMappingsMapper == null)
+		{
+			controlDefinitionMappingsMapper = zConstructListDefinitionControlDefinitionMappingsMapper();
+		}
+
+		return controlDefinitionMappingsMapper;
+	}
+
+	private static Mapper controlDefinitionMappingsPureReverseMapper = null;
+	public static Mapper zGetListDefinitionControlDefinitionMappingsPureReverseMapper()
+	{
+		if (controlDefinitionMappingsPureReverseMapper == null)
+		{
+			controlDefinitionMappingsPureReverseMapper = zConstructListDefinitionControlDefinitionMappingsPureReverseMapper();
+		}
+
+		return controlDefinitionMappingsPureReverseMapper;
+	}
+
+	private static Mapper zConstructListDefinitionControlDefinitionMappingsPureReverseMapper()
+	{
+		InternalList controlDefinitionMappingsMapperMapperList = new InternalList(2);
+		controlDefinitionMappingsMapperMapperList.add(ListDefinitionFinder.zGetConstantJoin(0));
+		controlDefinitionMappingsMapperMapperList.add(ListDefinitionFinder.zGetConstantJoin(2));
+		Mapper controlDefinitionMappingsMapper = new MultiEqualityMapper(controlDefinitionMappingsMapperMapperList);
+		controlDefinitionMappingsMapper.setName("controlDefinitionMappings");
+		return controlDefinitionMappingsMapper;
+	}
+
+	private static Mapper zConstructListDefinitionControlDefinitionMappingsReverseMapper()
+	{
+		InternalList controlDefinitionMappingsMapperMapperList = new InternalList(2);
+		controlDefinitionMappingsMapperMapperList.add(ListDefinitionFinder.zGetConstantJoin(0));
+		controlDefinitionMappingsMapperMapperList.add(ListDefinitionFinder.zGetConstantJoin(2));
+		Mapper controlDefinitionMappingsMapper = new MultiEqualityMapper(controlDefinitionMappingsMapperMapperList);
+		controlDefinitionMappingsMapper.setName("controlDefinitionMappings");
+		return controlDefinitionMappingsMapper;
+	}
+
+	private static Mapper zConstructListDefinitionControlDefinitionMappingsMapper()
+	{
+		InternalList controlDefinitionMappingsMapperMapperList = new InternalList(2);
+		controlDefinitionMappingsMapperMapperList.add(ListDefinitionFinder.zGetConstantJoin(1));
+		controlDefinitionMappingsMapperMapperList.add(ListDefinitionFinder.zGetConstantJoin(3));
+		Mapper controlDefinitionMappingsMapper = new MultiEqualityMapper(controlDefinitionMappingsMapperMapperList);
+		controlDefinitionMappingsMapper.setName("listDefinition");
+		return controlDefinitionMappingsMapper;
+	}
+
+	/** maps to LIST_DEF.LIST_ID **/
+	public static StringAttribute<ListDefinition> listId()
+	{
+		return finder.listId();
+	}
+
+	/** maps to LIST_DEF.LIST_NAME **/
+	public static StringAttribute<ListDefinition> listName()
+	{
+		return finder.listName();
+	}
+
+	/** maps to LIST_DEF.LIST_DESC **/
+	public static StringAttribute<ListDefinition> listDesc()
+	{
+		return finder.listDesc();
+	}
+
+	/** maps to LIST_DEF.UPDATE_BY **/
+	public static StringAttribute<ListDefinition> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to LIST_DEF.IN_DT **/
+	public static TimestampAttribute<ListDefinition> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to LIST_DEF.OUT_DT **/
+	public static TimestampAttribute<ListDefinition> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ListDefinition> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ControlListDefinitionMappingFinder.ControlListDefinitionMappingCollectionFinderForRelatedClasses<ListDefinition, ControlListDefinitionMappingList, ListDefinition> controlDefinitionMappings()
+	{
+		return finder.controlDefinitionMappings();
+	}
+
+	public static class ListDefinitionControlDefinitionMappingsFinderSubclass<ParentOwnerType> extends ControlListDefinitionMappingFinder.ControlListDefinitionMappingCollectionFinderForRelatedClasses<ParentOwnerType, ControlListDefinitionMappingList, ListDefinition>
+	{
+		public ListDefinitionControlDefinitionMappingsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "controlDefinitionMappings";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ControlListDefinitionMappingFinder.listId(),
+				ControlListDefinitionMappingFinder.processingDate()).withExtractors(
+				ListDefinitionFinder.listId(),
+				ListDefinitionFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ListDefinitionControlDefinitionMappingsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((ListDefinition) _obj).isControlDefinitionMappingsModifiedSinceDetachment();
+		}
+
+		protected ControlListDefinitionMappingList plainValueOf(ListDefinition _obj)
+		{
+			return _obj.getControlDefinitionMappings();
+		}
+
+		protected ControlListDefinitionMappingList plainListValueOf(Object _obj)
+		{
+			return ((ListDefinitionList)_obj).getControlDefinitionMappings();
+		}
+	}
+
+	public static Operation eq(ListDefinition other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(listId());
+	}
+
+	public static ListDefinitionSingleFinder<ListDefinition, Object, ListDefinition> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			listId()
+			, listId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ListDefinition");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
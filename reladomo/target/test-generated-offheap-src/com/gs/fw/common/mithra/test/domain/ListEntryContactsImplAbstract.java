@@ -0,0 +1,409 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ListEntryContactsImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ListEntryContactsImpl.class.getName());
+	private static final RelationshipHashStrategy forWallCrossImpl = new WallCrossImplRhs();
+	private static final class WallCrossImplRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ListEntryContactsImplData _castedSrcData = (ListEntryContactsImplData) _srcData;
+			WallCrossImplData _castedTargetData = (WallCrossImplData) _targetData;
+			if (Arrays.equals(_castedSrcData.getListId(), _castedTargetData.getListId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ListEntryContactsImplData _castedSrcData = (ListEntryContactsImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getListId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public ListEntryContactsImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ListEntryContactsImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (ListEntryContactsImpl) super.getDetachedCopy();
+	}
+
+	public ListEntryContactsImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		ListEntryContactsImpl result = (ListEntryContactsImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ListEntryContactsImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ListEntryContactsImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ListEntryContactsImpl zFindOriginal()
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData) this.currentData;
+		Operation op;
+		op = ListEntryContactsImplFinder.listId().eq(data.getListId());
+		op = op.and(ListEntryContactsImplFinder.emplId().eq(data.getEmplId()));
+		op = op.and(ListEntryContactsImplFinder.listEntryRole().eq(data.getListEntryRole()));
+		return ListEntryContactsImplFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ListEntryContactsImplData();
+	}
+
+	protected void zSetFromListEntryContactsImplData( ListEntryContactsImplData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromListEntryContactsImplData( ListEntryContactsImplData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isEmplIdNull()
+	{
+		return ((ListEntryContactsImplData) this.zSynchronizedGetData()).isEmplIdNull();
+	}
+
+	public String getEmplId()
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData) this.zSynchronizedGetData();
+		return data.getEmplId();
+	}
+
+	public void setEmplId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 11)
+		throw new MithraBusinessException("Attribute 'emplId' cannot exceed maximum length of 11: " + newValue);
+		zSetString(ListEntryContactsImplFinder.emplId(), newValue, true, false );
+	}
+
+	public boolean isListEntryRoleNull()
+	{
+		return ((ListEntryContactsImplData) this.zSynchronizedGetData()).isListEntryRoleNull();
+	}
+
+	public String getListEntryRole()
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData) this.zSynchronizedGetData();
+		return data.getListEntryRole();
+	}
+
+	public void setListEntryRole(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 8)
+		throw new MithraBusinessException("Attribute 'listEntryRole' cannot exceed maximum length of 8: " + newValue);
+		zSetString(ListEntryContactsImplFinder.listEntryRole(), newValue, true, false );
+	}
+
+	public boolean isListIdNull()
+	{
+		return ((ListEntryContactsImplData) this.zSynchronizedGetData()).isListIdNull();
+	}
+
+	public byte[] getListId()
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData) this.zSynchronizedGetData();
+		return data.getListId();
+	}
+
+	public void setListId(byte[] newValue)
+	{
+		zSetByteArray(ListEntryContactsImplFinder.listId(), newValue, true, false );
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((ListEntryContactsImplData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public int getQuantity()
+	{
+		ListEntryContactsImplData data = (ListEntryContactsImplData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(int newValue)
+	{
+		zSetInteger(ListEntryContactsImplFinder.quantity(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ListEntryContactsImplFinder.quantity(), false);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(ListEntryContactsImplFinder.quantity(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ListEntryContactsImplData _newData = (ListEntryContactsImplData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ListEntryContactsImplData _newData = (ListEntryContactsImplData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ListEntryContactsImplData _newData = (ListEntryContactsImplData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.listId = WallCrossImpl.listId</pre>
+	* @see WallCrossImpl#getListEntryContacts() reverse relationship WallCrossImpl.getListEntryContacts()
+	* @return The  wall cross impl
+	*/
+	public WallCrossImpl getWallCrossImpl()
+	{
+		WallCrossImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ListEntryContactsImplData _data = (ListEntryContactsImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = WallCrossImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forWallCrossImpl, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (WallCrossImpl) _related;
+				if (_related == null)
+				{
+					_op = WallCrossImplFinder.listId().eq(_data.getListId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = WallCrossImplFinder.listId().eq(_data.getListId());
+					_result = WallCrossImplFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (WallCrossImpl) _data.getWallCrossImpl();
+			if (_result == null)
+			{
+				{
+					_op = WallCrossImplFinder.listId().eq(_data.getListId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = WallCrossImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setWallCrossImpl(WallCrossImpl WallCrossImpl)
+	{
+		WallCrossImpl _WallCrossImpl = (WallCrossImpl) WallCrossImpl;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ListEntryContactsImplData _data = (ListEntryContactsImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setWallCrossImpl(_WallCrossImpl);
+			if (_WallCrossImpl == null)
+			{
+				this.setListId(null);
+			}
+			else
+			{
+				this.setListId(_WallCrossImpl.getListId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_WallCrossImpl == null)
+			{
+				this.setListId(null);
+			}
+			else
+			{
+				this.setListId(
+					_WallCrossImpl.getListId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ListEntryContactsImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ListEntryContactsImpl original = (ListEntryContactsImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ListEntryContactsImplFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ListEntryContactsImplFinder.getMithraObjectPortal();
+	}
+
+	public ListEntryContactsImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ListEntryContactsImplFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ListEntryContactsImplFinder.emplId(), false);
+		changed |= zUpdateString(behavior, data, newData, ListEntryContactsImplFinder.listEntryRole(), false);
+		changed |= zUpdateByteArray(behavior, data, newData, ListEntryContactsImplFinder.listId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ListEntryContactsImplAbstract result = (ListEntryContactsImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
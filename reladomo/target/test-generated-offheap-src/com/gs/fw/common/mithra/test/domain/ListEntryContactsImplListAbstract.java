@@ -0,0 +1,161 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ListEntryContactsImplListAbstract extends DelegatingList<ListEntryContactsImpl> implements MithraTransactionalList<ListEntryContactsImpl>
+{
+	public ListEntryContactsImplListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ListEntryContactsImplListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ListEntryContactsImplListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ListEntryContactsImplListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ListEntryContactsImpl[] elements()
+	{
+		ListEntryContactsImpl[] result = new ListEntryContactsImpl[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ListEntryContactsImplList intersection(ListEntryContactsImplList another)
+	{
+		return (ListEntryContactsImplList)super.intersection(another);
+	}
+
+	public ListEntryContactsImpl getListEntryContactsImplAt(int index)
+	{
+		return (ListEntryContactsImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.listId = WallCrossImpl.listId</pre>
+	* @see WallCrossImpl#getListEntryContacts() reverse relationship WallCrossImpl.getListEntryContacts()
+	* @return The  wall cross impl
+	*/
+	public WallCrossImplList getWallCrossImpls()
+	{
+		return (WallCrossImplList) this.getDelegated().resolveRelationship(this, ListEntryContactsImplFinder.WallCrossImpl());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ListEntryContactsImplFinder.getMithraObjectPortal();
+	}
+
+	public ListEntryContactsImplList getNonPersistentCopy()
+	{
+		ListEntryContactsImplList result = new ListEntryContactsImplList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ListEntryContactsImplList asAdhoc()
+	{
+		return (ListEntryContactsImplList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ListEntryContactsImpl> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ListEntryContactsImplList merge(MithraTransactionalList<ListEntryContactsImpl> incoming, TopLevelMergeOptions<ListEntryContactsImpl> mergeOptions)
+	{
+		return (ListEntryContactsImplList) super.merge(incoming, mergeOptions);
+	}
+
+	public ListEntryContactsImplList getDetachedCopy()
+	{
+		ListEntryContactsImplList result = new ListEntryContactsImplList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setEmplId(String newValue)
+	{
+		zSetString(ListEntryContactsImplFinder.emplId(), newValue);
+	}
+
+	public void setListEntryRole(String newValue)
+	{
+		zSetString(ListEntryContactsImplFinder.listEntryRole(), newValue);
+	}
+
+	public void setListId(byte[] newValue)
+	{
+		zSetByteArray(ListEntryContactsImplFinder.listId(), newValue);
+	}
+
+	public void setQuantity(int newValue)
+	{
+		zSetInteger(ListEntryContactsImplFinder.quantity(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(ListEntryContactsImplFinder.quantity());
+	}
+}
@@ -0,0 +1,767 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ManufacturerFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Manufacturer";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Manufacturer";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Manufacturer");
+	private static final ManufacturerSingleFinder<Manufacturer, Object, Manufacturer> finder = new ManufacturerSingleFinder<Manufacturer, Object, Manufacturer>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ManufacturerFinder.ManufacturerRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("locationId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addRelationshipName("location");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = ManufacturerFinder.locationId().constructEqualityMapper(LocationFinder.id());
+			result[1] = LocationFinder.id().constructEqualityMapper(ManufacturerFinder.locationId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Manufacturer findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Manufacturer findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ManufacturerList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ManufacturerList) finder.findMany(operation);
+	}
+
+	public static ManufacturerList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ManufacturerList) finder.findManyBypassCache(operation);
+	}
+
+	private static Manufacturer findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Manufacturer) FinderUtils.findOne(found);
+	}
+
+	public static Manufacturer findByPrimaryKey(int manufacturerId)
+	{
+		return finder.findByPrimaryKey(manufacturerId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Manufacturer _castedTargetData = (Manufacturer) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getManufacturerId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Manufacturer zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Manufacturer) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ManufacturerRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Manufacturer, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private IntegerAttribute<ParentOwnerType> locationId;
+		private StringAttribute<ParentOwnerType> name;
+		private ManufacturerLocationFinderSubclass<ParentOwnerType> location;
+		public ManufacturerRelatedFinder()
+		{
+			super();
+		}
+
+		public ManufacturerRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ManufacturerFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ManufacturerFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ManufacturerFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ManufacturerFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.manufacturerId();
+			attributes[1] = this.locationId();
+			attributes[2] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.location());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Manufacturer findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ManufacturerFinder.findOne(operation, false);
+		}
+
+		public Manufacturer findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ManufacturerFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Manufacturer> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ManufacturerList((Operation) operation);
+		}
+
+		public MithraList<? extends Manufacturer> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ManufacturerList result = (ManufacturerList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Manufacturer> constructEmptyList()
+		{
+			return new ManufacturerList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 276848949;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ManufacturerFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> locationId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.locationId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("LOCATION_ID","","locationId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ManufacturerFinder.locationId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("location");
+				this.locationId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(ManufacturerFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public LocationFinder.LocationSingleFinderForRelatedClasses<ParentOwnerType, Location, Manufacturer> location()
+		{
+			ManufacturerLocationFinderSubclass<ParentOwnerType> result = this.location;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ManufacturerFinder.zGetManufacturerLocationReverseMapper());
+				newMapper.setToMany(false);
+				result = new ManufacturerLocationFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.location = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ManufacturerFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ManufacturerFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ManufacturerCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ManufacturerRelatedFinder<ParentOwnerType, ReturnType, ManufacturerList, OwnerType>
+	{
+		public ManufacturerCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ManufacturerCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ManufacturerCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ManufacturerCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ManufacturerSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ManufacturerRelatedFinder<ParentOwnerType, ReturnType, ManufacturerList, OwnerType>
+	implements ToOneFinder
+	{
+		public ManufacturerSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ManufacturerSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Manufacturer other)
+		{
+			return this.manufacturerId().eq(other.getManufacturerId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Manufacturer findByPrimaryKey(int manufacturerId)
+		{
+			Manufacturer _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(manufacturerId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Manufacturer) _related;
+			if (_related == null)
+			{
+				_op = this.manufacturerId().eq(manufacturerId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ManufacturerSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ManufacturerSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper locationReverseMapper = null;
+	public static Mapper zGetManufacturerLocationReverseMapper()
+	{
+		if (locationReverseMapper == null)
+		{
+			locationReverseMapper = zConstructManufacturerLocationReverseMapper();
+		}
+
+		return locationReverseMapper;
+	}
+
+	private static Mapper locationMapper = null;
+	public static Mapper zGetManufacturerLocationMapper()
+	{
+		if (locationMapper == null)
+		{
+			locationMapper = zConstructManufacturerLocationMapper();
+		}
+
+		return locationMapper;
+	}
+
+	private static Mapper locationPureReverseMapper = null;
+	public static Mapper zGetManufacturerLocationPureReverseMapper()
+	{
+		if (locationPureReverseMapper == null)
+		{
+			locationPureReverseMapper = zConstructManufacturerLocationPureReverseMapper();
+		}
+
+		return locationPureReverseMapper;
+	}
+
+	private static Mapper zConstructManufacturerLocationPureReverseMapper()
+	{
+		Mapper locationMapper = ManufacturerFinder.zGetConstantJoin(0);
+		locationMapper.setName("location");
+		return locationMapper;
+	}
+
+	private static Mapper zConstructManufacturerLocationReverseMapper()
+	{
+		Mapper locationMapperInnerMapper = ManufacturerFinder.zGetConstantJoin(0);
+		Mapper locationMapper = new FilteredMapper(locationMapperInnerMapper, null, LocationFinder.zGetConstantOperation(0));
+		locationMapper.setName("location");
+		return locationMapper;
+	}
+
+	private static Mapper zConstructManufacturerLocationMapper()
+	{
+		Mapper locationMapperInnerMapper = ManufacturerFinder.zGetConstantJoin(1);
+		Mapper locationMapper = new FilteredMapper(locationMapperInnerMapper, LocationFinder.zGetConstantOperation(0), null);
+		locationMapper.setName("location_Reverse");
+		return locationMapper;
+	}
+
+	/** maps to MANUFACTURER.MANUFACTURER_ID **/
+	public static IntegerAttribute<Manufacturer> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to MANUFACTURER.LOCATION_ID **/
+	public static IntegerAttribute<Manufacturer> locationId()
+	{
+		return finder.locationId();
+	}
+
+	/** maps to MANUFACTURER.NAME **/
+	public static StringAttribute<Manufacturer> name()
+	{
+		return finder.name();
+	}
+
+	public static LocationFinder.LocationSingleFinderForRelatedClasses<Manufacturer, Location, Manufacturer> location()
+	{
+		return finder.location();
+	}
+
+	public static class ManufacturerLocationFinderSubclass<ParentOwnerType> extends LocationFinder.LocationSingleFinderForRelatedClasses<ParentOwnerType, Location, Manufacturer>
+	{
+		public ManufacturerLocationFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "location";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				LocationFinder.id(),
+				LocationFinder.sourceId()).withExtractors(
+				ManufacturerFinder.locationId(),
+				((OperationWithParameterExtractor)LocationFinder.zGetConstantOperation(0)).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ManufacturerLocationFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Location plainValueOf(Manufacturer _obj)
+		{
+			return _obj.getLocation();
+		}
+
+		protected LocationList plainListValueOf(Object _obj)
+		{
+			return ((ManufacturerList)_obj).getLocations();
+		}
+	}
+
+	public static Operation eq(Manufacturer other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(manufacturerId());
+	}
+
+	public static ManufacturerSingleFinder<Manufacturer, Object, Manufacturer> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			manufacturerId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			manufacturerId()
+			, manufacturerId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			locationId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			LocationFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			LocationFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Manufacturer");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
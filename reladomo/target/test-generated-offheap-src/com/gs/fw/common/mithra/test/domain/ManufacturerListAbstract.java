@@ -0,0 +1,118 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ManufacturerListAbstract extends DelegatingList<Manufacturer> implements MithraList<Manufacturer>
+{
+	public ManufacturerListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ManufacturerListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ManufacturerListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ManufacturerListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Manufacturer[] elements()
+	{
+		Manufacturer[] result = new Manufacturer[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ManufacturerList intersection(ManufacturerList another)
+	{
+		return (ManufacturerList)super.intersection(another);
+	}
+
+	public Manufacturer getManufacturerAt(int index)
+	{
+		return (Manufacturer)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Location.id = this.locationId and Location.sourceId = 0</pre>
+	* @return The location
+	*/
+	public LocationList getLocations()
+	{
+		return (LocationList) this.getDelegated().resolveRelationship(this, ManufacturerFinder.location());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ManufacturerFinder.getMithraObjectPortal();
+	}
+
+	public ManufacturerList getNonPersistentCopy()
+	{
+		ManufacturerList result = new ManufacturerList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ManufacturerList asAdhoc()
+	{
+		return (ManufacturerList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Manufacturer> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,474 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class MappedDifferentDataTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(MappedDifferentDataTypes.class.getName());
+	private static final RelationshipHashStrategy fordatatypes = new DatatypesRhs();
+	private static final RelationshipHashStrategy forbyteArrayObj = new ByteArrayObjRhs();
+	private static final class DatatypesRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			MappedDifferentDataTypesData _castedSrcData = (MappedDifferentDataTypesData) _srcData;
+			DifferentDataTypesData _castedTargetData = (DifferentDataTypesData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			MappedDifferentDataTypesData _castedSrcData = (MappedDifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ByteArrayObjRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			MappedDifferentDataTypesData _castedSrcData = (MappedDifferentDataTypesData) _srcData;
+			TestBinaryArrayData _castedTargetData = (TestBinaryArrayData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getTestBinaryArrayId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			MappedDifferentDataTypesData _castedSrcData = (MappedDifferentDataTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public MappedDifferentDataTypesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public MappedDifferentDataTypes getDetachedCopy() throws MithraBusinessException
+	{
+		return (MappedDifferentDataTypes) super.getDetachedCopy();
+	}
+
+	public MappedDifferentDataTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		MappedDifferentDataTypes result = (MappedDifferentDataTypes) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public MappedDifferentDataTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (MappedDifferentDataTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public MappedDifferentDataTypes zFindOriginal()
+	{
+		MappedDifferentDataTypesData data = (MappedDifferentDataTypesData) this.currentData;
+		Operation op;
+		op = MappedDifferentDataTypesFinder.id().eq(data.getId());
+		op = op.and(MappedDifferentDataTypesFinder.name().eq(data.getName()));
+		return MappedDifferentDataTypesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new MappedDifferentDataTypesData();
+	}
+
+	protected void zSetFromMappedDifferentDataTypesData( MappedDifferentDataTypesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromMappedDifferentDataTypesData( MappedDifferentDataTypesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isIdNull()
+	{
+		return ((MappedDifferentDataTypesData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		MappedDifferentDataTypesData data = (MappedDifferentDataTypesData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(MappedDifferentDataTypesFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((MappedDifferentDataTypesData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		MappedDifferentDataTypesData data = (MappedDifferentDataTypesData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(MappedDifferentDataTypesFinder.name(), newValue, true, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		MappedDifferentDataTypesData _newData = (MappedDifferentDataTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		MappedDifferentDataTypesData _newData = (MappedDifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MappedDifferentDataTypesData _newData = (MappedDifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DifferentDataTypes.id</pre>
+	* @see DifferentDataTypes#getMappedName() reverse relationship DifferentDataTypes.getMappedName()
+	* @return The datatypes
+	*/
+	public DifferentDataTypes getDatatypes()
+	{
+		DifferentDataTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		MappedDifferentDataTypesData _data = (MappedDifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = DifferentDataTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatatypes, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (DifferentDataTypes) _related;
+				if (_related == null)
+				{
+					_op = DifferentDataTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = DifferentDataTypesFinder.id().eq(_data.getId());
+					_result = DifferentDataTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypes) _data.getDatatypes();
+			if (_result == null)
+			{
+				{
+					_op = DifferentDataTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DifferentDataTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setDatatypes(DifferentDataTypes datatypes)
+	{
+		DifferentDataTypes _datatypes = (DifferentDataTypes) datatypes;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MappedDifferentDataTypesData _data = (MappedDifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypes(_datatypes);
+			if (_datatypes == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(_datatypes.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_datatypes == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_datatypes.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = TestBinaryArray.testBinaryArrayId</pre>
+	* @return The byte array obj
+	*/
+	public TestBinaryArray getByteArrayObj()
+	{
+		TestBinaryArray _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		MappedDifferentDataTypesData _data = (MappedDifferentDataTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestBinaryArrayFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbyteArrayObj, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestBinaryArray) _related;
+				if (_related == null)
+				{
+					_op = TestBinaryArrayFinder.testBinaryArrayId().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = TestBinaryArrayFinder.testBinaryArrayId().eq(_data.getId());
+					_result = TestBinaryArrayFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestBinaryArray) _data.getByteArrayObj();
+			if (_result == null)
+			{
+				{
+					_op = TestBinaryArrayFinder.testBinaryArrayId().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestBinaryArrayFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setByteArrayObj(TestBinaryArray byteArrayObj)
+	{
+		TestBinaryArray _byteArrayObj = (TestBinaryArray) byteArrayObj;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MappedDifferentDataTypesData _data = (MappedDifferentDataTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setByteArrayObj(_byteArrayObj);
+			if (_byteArrayObj == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(_byteArrayObj.getTestBinaryArrayId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_byteArrayObj == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_byteArrayObj.getTestBinaryArrayId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public MappedDifferentDataTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MappedDifferentDataTypes original = (MappedDifferentDataTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return MappedDifferentDataTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return MappedDifferentDataTypesFinder.getMithraObjectPortal();
+	}
+
+	public MappedDifferentDataTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, MappedDifferentDataTypesFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, MappedDifferentDataTypesFinder.name(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		MappedDifferentDataTypesAbstract result = (MappedDifferentDataTypesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
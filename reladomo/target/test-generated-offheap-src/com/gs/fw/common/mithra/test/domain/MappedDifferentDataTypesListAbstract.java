@@ -0,0 +1,156 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class MappedDifferentDataTypesListAbstract extends DelegatingList<MappedDifferentDataTypes> implements MithraTransactionalList<MappedDifferentDataTypes>
+{
+	public MappedDifferentDataTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public MappedDifferentDataTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public MappedDifferentDataTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public MappedDifferentDataTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public MappedDifferentDataTypes[] elements()
+	{
+		MappedDifferentDataTypes[] result = new MappedDifferentDataTypes[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public MappedDifferentDataTypesList intersection(MappedDifferentDataTypesList another)
+	{
+		return (MappedDifferentDataTypesList)super.intersection(another);
+	}
+
+	public MappedDifferentDataTypes getMappedDifferentDataTypesAt(int index)
+	{
+		return (MappedDifferentDataTypes)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DifferentDataTypes.id</pre>
+	* @see DifferentDataTypes#getMappedName() reverse relationship DifferentDataTypes.getMappedName()
+	* @return The datatypes
+	*/
+	public DifferentDataTypesList getDatatypes()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, MappedDifferentDataTypesFinder.datatypes());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = TestBinaryArray.testBinaryArrayId</pre>
+	* @return The byte array obj
+	*/
+	public TestBinaryArrayList getByteArrayObjs()
+	{
+		return (TestBinaryArrayList) this.getDelegated().resolveRelationship(this, MappedDifferentDataTypesFinder.byteArrayObj());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MappedDifferentDataTypesFinder.getMithraObjectPortal();
+	}
+
+	public MappedDifferentDataTypesList getNonPersistentCopy()
+	{
+		MappedDifferentDataTypesList result = new MappedDifferentDataTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public MappedDifferentDataTypesList asAdhoc()
+	{
+		return (MappedDifferentDataTypesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<MappedDifferentDataTypes> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public MappedDifferentDataTypesList merge(MithraTransactionalList<MappedDifferentDataTypes> incoming, TopLevelMergeOptions<MappedDifferentDataTypes> mergeOptions)
+	{
+		return (MappedDifferentDataTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public MappedDifferentDataTypesList getDetachedCopy()
+	{
+		MappedDifferentDataTypesList result = new MappedDifferentDataTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(MappedDifferentDataTypesFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(MappedDifferentDataTypesFinder.name(), newValue);
+	}
+}
@@ -0,0 +1,339 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class MarketDataFeedStatusAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(MarketDataFeedStatus.class.getName());
+	public MarketDataFeedStatusAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public MarketDataFeedStatus getDetachedCopy() throws MithraBusinessException
+	{
+		return (MarketDataFeedStatus) super.getDetachedCopy();
+	}
+
+	public MarketDataFeedStatus getNonPersistentCopy() throws MithraBusinessException
+	{
+		MarketDataFeedStatus result = (MarketDataFeedStatus) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public MarketDataFeedStatus copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (MarketDataFeedStatus) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public MarketDataFeedStatus zFindOriginal()
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData) this.currentData;
+		Operation op;
+		op = MarketDataFeedStatusFinder.dataSourceId().eq(data.getDataSourceId());
+		op = op.and(MarketDataFeedStatusFinder.physicalPartitionId().eq(data.getPhysicalPartitionId()));
+		return MarketDataFeedStatusFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new MarketDataFeedStatusData();
+	}
+
+	protected void zSetFromMarketDataFeedStatusData( MarketDataFeedStatusData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromMarketDataFeedStatusData( MarketDataFeedStatusData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDataSourceIdNull()
+	{
+		return ((MarketDataFeedStatusData) this.zSynchronizedGetData()).isDataSourceIdNull();
+	}
+
+	public int getDataSourceId()
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData) this.zSynchronizedGetData();
+		return data.getDataSourceId();
+	}
+
+	public void setDataSourceId(int newValue)
+	{
+		zSetInteger(MarketDataFeedStatusFinder.dataSourceId(), newValue, true, false ,false);
+	}
+
+	public boolean isLastProcessTimeNull()
+	{
+		return ((MarketDataFeedStatusData) this.zSynchronizedGetData()).isLastProcessTimeNull();
+	}
+
+	public Timestamp getLastProcessTime()
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData) this.zSynchronizedGetData();
+		return data.getLastProcessTime();
+	}
+
+	public void setLastProcessTime(Timestamp newValue)
+	{
+		zSetTimestamp(MarketDataFeedStatusFinder.lastProcessTime(), newValue, false, false );
+	}
+
+	public boolean isPhysicalPartitionIdNull()
+	{
+		return ((MarketDataFeedStatusData) this.zSynchronizedGetData()).isPhysicalPartitionIdNull();
+	}
+
+	public int getPhysicalPartitionId()
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData) this.zSynchronizedGetData();
+		return data.getPhysicalPartitionId();
+	}
+
+	public void setPhysicalPartitionId(int newValue)
+	{
+		zSetInteger(MarketDataFeedStatusFinder.physicalPartitionId(), newValue, true, false ,false);
+	}
+
+	public boolean isPriorityNull()
+	{
+		return ((MarketDataFeedStatusData) this.zSynchronizedGetData()).isPriorityNull();
+	}
+
+	public int getPriority()
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData) this.zSynchronizedGetData();
+		if (data.isPriorityNull()) MithraNullPrimitiveException.throwNew("priority", data);
+		return data.getPriority();
+	}
+
+	public void setPriority(int newValue)
+	{
+		zSetInteger(MarketDataFeedStatusFinder.priority(), newValue, false, false ,true);
+	}
+
+	public boolean isProcessNameNull()
+	{
+		return ((MarketDataFeedStatusData) this.zSynchronizedGetData()).isProcessNameNull();
+	}
+
+	public String getProcessName()
+	{
+		MarketDataFeedStatusData data = (MarketDataFeedStatusData) this.zSynchronizedGetData();
+		return data.getProcessName();
+	}
+
+	public void setProcessName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'processName' cannot exceed maximum length of 15: " + newValue);
+		zSetString(MarketDataFeedStatusFinder.processName(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, MarketDataFeedStatusFinder.priority(), false);
+	}
+
+	public void setPriorityNull()
+	{
+		zNullify(MarketDataFeedStatusFinder.priority(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		MarketDataFeedStatusData _newData = (MarketDataFeedStatusData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		MarketDataFeedStatusData _newData = (MarketDataFeedStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MarketDataFeedStatusData _newData = (MarketDataFeedStatusData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.physicalPartitionId = ChoiceFeedNotification.physicalPartitionId
+	and ChoiceFeedNotification.sourceUpdateDate > {lastProcessTime}
+	and ChoiceFeedNotification.feedModeCodeId in (0,2)</pre>
+	* @return choice market data feed notification more recent than
+	*/
+	public ChoiceFeedNotificationList getChoiceMarketDataFeedNotificationMoreRecentThan(Timestamp lastProcessTime)
+	{
+		ChoiceFeedNotificationList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		MarketDataFeedStatusData _data = (MarketDataFeedStatusData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = ChoiceFeedNotificationFinder.physicalPartitionId().eq(_data.getPhysicalPartitionId()).and(ChoiceFeedNotificationFinder.sourceUpdateDate().greaterThan(lastProcessTime).and(ChoiceFeedNotificationFinder.feedModeCodeId().in(MarketDataFeedStatusFinder.zGetConstantIntSet(0))));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ChoiceFeedNotificationList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public MarketDataFeedStatus zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		MarketDataFeedStatus original = (MarketDataFeedStatus) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return MarketDataFeedStatusFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return MarketDataFeedStatusFinder.getMithraObjectPortal();
+	}
+
+	public MarketDataFeedStatus getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, MarketDataFeedStatusFinder.lastProcessTime(), false);
+		changed |= zUpdateInteger(behavior, data, newData, MarketDataFeedStatusFinder.priority(), false);
+		changed |= zUpdateString(behavior, data, newData, MarketDataFeedStatusFinder.processName(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, MarketDataFeedStatusFinder.dataSourceId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, MarketDataFeedStatusFinder.physicalPartitionId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		MarketDataFeedStatusAbstract result = (MarketDataFeedStatusAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class MithraTestSequenceForIntSourceListAbstract extends DelegatingList<MithraTestSequenceForIntSource> implements MithraTransactionalList<MithraTestSequenceForIntSource>
+{
+	public MithraTestSequenceForIntSourceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public MithraTestSequenceForIntSourceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public MithraTestSequenceForIntSourceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public MithraTestSequenceForIntSourceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public MithraTestSequenceForIntSource[] elements()
+	{
+		MithraTestSequenceForIntSource[] result = new MithraTestSequenceForIntSource[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public MithraTestSequenceForIntSourceList intersection(MithraTestSequenceForIntSourceList another)
+	{
+		return (MithraTestSequenceForIntSourceList)super.intersection(another);
+	}
+
+	public MithraTestSequenceForIntSource getMithraTestSequenceForIntSourceAt(int index)
+	{
+		return (MithraTestSequenceForIntSource)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return MithraTestSequenceForIntSourceFinder.getMithraObjectPortal();
+	}
+
+	public MithraTestSequenceForIntSourceList getNonPersistentCopy()
+	{
+		MithraTestSequenceForIntSourceList result = new MithraTestSequenceForIntSourceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public MithraTestSequenceForIntSourceList asAdhoc()
+	{
+		return (MithraTestSequenceForIntSourceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<MithraTestSequenceForIntSource> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public MithraTestSequenceForIntSourceList merge(MithraTransactionalList<MithraTestSequenceForIntSource> incoming, TopLevelMergeOptions<MithraTestSequenceForIntSource> mergeOptions)
+	{
+		return (MithraTestSequenceForIntSourceList) super.merge(incoming, mergeOptions);
+	}
+
+	public MithraTestSequenceForIntSourceList getDetachedCopy()
+	{
+		MithraTestSequenceForIntSourceList result = new MithraTestSequenceForIntSourceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDeskId(int newValue)
+	{
+		zSetInteger(MithraTestSequenceForIntSourceFinder.deskId(), newValue);
+	}
+
+	public void setNextValue(long newValue)
+	{
+		zSetLong(MithraTestSequenceForIntSourceFinder.nextValue(), newValue);
+	}
+
+	public void setSequenceName(String newValue)
+	{
+		zSetString(MithraTestSequenceForIntSourceFinder.sequenceName(), newValue);
+	}
+
+	public void setNextValueNull()
+	{
+		zSetAttributeNull(MithraTestSequenceForIntSourceFinder.nextValue());
+	}
+}
@@ -0,0 +1,195 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NoExportTestObjectListAbstract extends DelegatingList<NoExportTestObject> implements MithraTransactionalList<NoExportTestObject>
+{
+	public NoExportTestObjectListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NoExportTestObjectListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NoExportTestObjectListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NoExportTestObjectListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NoExportTestObject[] elements()
+	{
+		NoExportTestObject[] result = new NoExportTestObject[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NoExportTestObjectList intersection(NoExportTestObjectList another)
+	{
+		return (NoExportTestObjectList)super.intersection(another);
+	}
+
+	public NoExportTestObject getNoExportTestObjectAt(int index)
+	{
+		return (NoExportTestObject)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = Product.productId</pre>
+	* @return The product info
+	*/
+	public ProductList getProductInfos()
+	{
+		return (ProductList) this.getDelegated().resolveRelationship(this, NoExportTestObjectFinder.productInfo());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NoExportTestObjectFinder.getMithraObjectPortal();
+	}
+
+	public NoExportTestObjectList getNonPersistentCopy()
+	{
+		NoExportTestObjectList result = new NoExportTestObjectList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NoExportTestObjectList asAdhoc()
+	{
+		return (NoExportTestObjectList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<NoExportTestObject> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public NoExportTestObjectList merge(MithraTransactionalList<NoExportTestObject> incoming, TopLevelMergeOptions<NoExportTestObject> mergeOptions)
+	{
+		return (NoExportTestObjectList) super.merge(incoming, mergeOptions);
+	}
+
+	public NoExportTestObjectList getDetachedCopy()
+	{
+		NoExportTestObjectList result = new NoExportTestObjectList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(NoExportTestObjectFinder.discountPrice(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(NoExportTestObjectFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(NoExportTestObjectFinder.orderId(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(NoExportTestObjectFinder.originalPrice(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(NoExportTestObjectFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NoExportTestObjectFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(NoExportTestObjectFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(NoExportTestObjectFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(NoExportTestObjectFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(NoExportTestObjectFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(NoExportTestObjectFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(NoExportTestObjectFinder.discountPrice());
+	}
+}
@@ -0,0 +1,185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NonAuditedBalanceNullListAbstract extends DelegatingList<NonAuditedBalanceNull> implements MithraDatedTransactionalList<NonAuditedBalanceNull>
+{
+	public NonAuditedBalanceNullListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NonAuditedBalanceNullListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NonAuditedBalanceNullListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NonAuditedBalanceNullListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NonAuditedBalanceNull[] elements()
+	{
+		NonAuditedBalanceNull[] result = new NonAuditedBalanceNull[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NonAuditedBalanceNullList intersection(NonAuditedBalanceNullList another)
+	{
+		return (NonAuditedBalanceNullList)super.intersection(another);
+	}
+
+	public NonAuditedBalanceNull getNonAuditedBalanceNullAt(int index)
+	{
+		return (NonAuditedBalanceNull)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.quantity = AuditOnlyBalance.interest</pre>
+	* @return audited balance by interest
+	*/
+	public AuditOnlyBalanceList getAuditedBalanceByInterest()
+	{
+		return (AuditOnlyBalanceList) this.getDelegated().resolveRelationship(this, NonAuditedBalanceNullFinder.auditedBalanceByInterest());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NonAuditedBalanceNullFinder.getMithraObjectPortal();
+	}
+
+	public NonAuditedBalanceNullList getNonPersistentCopy()
+	{
+		NonAuditedBalanceNullList result = new NonAuditedBalanceNullList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NonAuditedBalanceNullList asAdhoc()
+	{
+		return (NonAuditedBalanceNullList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<NonAuditedBalanceNull> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public NonAuditedBalanceNullList merge(MithraTransactionalList<NonAuditedBalanceNull> incoming, TopLevelMergeOptions<NonAuditedBalanceNull> mergeOptions)
+	{
+		return (NonAuditedBalanceNullList) super.merge(incoming, mergeOptions);
+	}
+
+	public NonAuditedBalanceNullList getDetachedCopy()
+	{
+		NonAuditedBalanceNullList result = new NonAuditedBalanceNullList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(NonAuditedBalanceNullFinder.acmapCode(), newValue);
+	}
+
+	public void setBalanceId(int newValue)
+	{
+		zSetInteger(NonAuditedBalanceNullFinder.balanceId(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceNullFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(NonAuditedBalanceNullFinder.businessDateTo(), newValue);
+	}
+
+	public void setInterest(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceNullFinder.interest(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NonAuditedBalanceNullFinder.quantity(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(NonAuditedBalanceNullFinder.quantity());
+	}
+
+	public void setInterestNull()
+	{
+		zSetAttributeNull(NonAuditedBalanceNullFinder.interest());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
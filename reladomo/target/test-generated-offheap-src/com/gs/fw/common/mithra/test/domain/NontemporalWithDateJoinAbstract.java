@@ -0,0 +1,372 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NontemporalWithDateJoinAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NontemporalWithDateJoin.class.getName());
+	public NontemporalWithDateJoinAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NontemporalWithDateJoin getDetachedCopy() throws MithraBusinessException
+	{
+		return (NontemporalWithDateJoin) super.getDetachedCopy();
+	}
+
+	public NontemporalWithDateJoin getNonPersistentCopy() throws MithraBusinessException
+	{
+		NontemporalWithDateJoin result = (NontemporalWithDateJoin) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public NontemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NontemporalWithDateJoin) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public NontemporalWithDateJoin zFindOriginal()
+	{
+		NontemporalWithDateJoinData data = (NontemporalWithDateJoinData) this.currentData;
+		Operation op;
+		op = NontemporalWithDateJoinFinder.factId().eq(data.getFactId());
+		return NontemporalWithDateJoinFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NontemporalWithDateJoinData();
+	}
+
+	protected void zSetFromNontemporalWithDateJoinData( NontemporalWithDateJoinData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNontemporalWithDateJoinData( NontemporalWithDateJoinData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return ((NontemporalWithDateJoinData) this.zSynchronizedGetData()).isBusinessDateNull();
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		NontemporalWithDateJoinData data = (NontemporalWithDateJoinData) this.zSynchronizedGetData();
+		return data.getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(NontemporalWithDateJoinFinder.businessDate(), newValue, false, false );
+	}
+
+	public boolean isEntityNull()
+	{
+		return ((NontemporalWithDateJoinData) this.zSynchronizedGetData()).isEntityNull();
+	}
+
+	public String getEntity()
+	{
+		NontemporalWithDateJoinData data = (NontemporalWithDateJoinData) this.zSynchronizedGetData();
+		return data.getEntity();
+	}
+
+	public void setEntity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(NontemporalWithDateJoinFinder.entity(), newValue, false, false );
+	}
+
+	public boolean isFactIdNull()
+	{
+		return ((NontemporalWithDateJoinData) this.zSynchronizedGetData()).isFactIdNull();
+	}
+
+	public int getFactId()
+	{
+		NontemporalWithDateJoinData data = (NontemporalWithDateJoinData) this.zSynchronizedGetData();
+		return data.getFactId();
+	}
+
+	public void setFactId(int newValue)
+	{
+		zSetInteger(NontemporalWithDateJoinFinder.factId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NontemporalWithDateJoinData _newData = (NontemporalWithDateJoinData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NontemporalWithDateJoinData _newData = (NontemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NontemporalWithDateJoinData _newData = (NontemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.entity = BitemporalWithDateJoin.gsEntity and this.businessDate = BitemporalWithDateJoin.businessDate )</pre>
+	* @see BitemporalWithDateJoin#getNontemporalWithDateJoin() reverse relationship BitemporalWithDateJoin.getNontemporalWithDateJoin()
+	* @return bitemporal with date join
+	*/
+	public BitemporalWithDateJoinList getBitemporalWithDateJoin()
+	{
+		BitemporalWithDateJoinList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		NontemporalWithDateJoinData _data = (NontemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(NontemporalWithDateJoinFinder.bitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(NontemporalWithDateJoinFinder.bitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+					_result = new BitemporalWithDateJoinList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalWithDateJoinList) _data.getBitemporalWithDateJoin();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(NontemporalWithDateJoinFinder.bitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new BitemporalWithDateJoinList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setBitemporalWithDateJoin(BitemporalWithDateJoinList bitemporalWithDateJoin)
+	{
+		BitemporalWithDateJoinList _bitemporalWithDateJoin = (BitemporalWithDateJoinList) bitemporalWithDateJoin;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NontemporalWithDateJoinData _data = (NontemporalWithDateJoinData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setBitemporalWithDateJoin(_bitemporalWithDateJoin);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NontemporalWithDateJoin zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		NontemporalWithDateJoin original = (NontemporalWithDateJoin) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NontemporalWithDateJoinFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NontemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public NontemporalWithDateJoin getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, NontemporalWithDateJoinFinder.businessDate(), false);
+		changed |= zUpdateString(behavior, data, newData, NontemporalWithDateJoinFinder.entity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, NontemporalWithDateJoinFinder.factId(), false);
+		return changed;
+	}
+
+	public int generateAndSetFactId()
+	{
+		int nextValue =(int) this.generateFactId();
+		this.setFactId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsFactIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		NontemporalWithDateJoinData data = (NontemporalWithDateJoinData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsFactIdSet();
+	}
+
+	protected int generateFactId()
+	throws MithraBusinessException
+	{
+		MaxFromTablePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getMaxFromTablePrimaryKeyGenerator(NontemporalWithDateJoinFinder.factId(),null);
+		return (int)primaryKeyGenerator.getNextId();
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NontemporalWithDateJoinData data = (NontemporalWithDateJoinData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsFactIdSet())
+		{
+			data.setFactId(generateFactId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NontemporalWithDateJoinAbstract result = (NontemporalWithDateJoinAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NontemporalWithDateJoinListAbstract extends DelegatingList<NontemporalWithDateJoin> implements MithraTransactionalList<NontemporalWithDateJoin>
+{
+	public NontemporalWithDateJoinListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NontemporalWithDateJoinListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NontemporalWithDateJoinListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NontemporalWithDateJoinListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NontemporalWithDateJoin[] elements()
+	{
+		NontemporalWithDateJoin[] result = new NontemporalWithDateJoin[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NontemporalWithDateJoinList intersection(NontemporalWithDateJoinList another)
+	{
+		return (NontemporalWithDateJoinList)super.intersection(another);
+	}
+
+	public NontemporalWithDateJoin getNontemporalWithDateJoinAt(int index)
+	{
+		return (NontemporalWithDateJoin)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.entity = BitemporalWithDateJoin.gsEntity and this.businessDate = BitemporalWithDateJoin.businessDate )</pre>
+	* @see BitemporalWithDateJoin#getNontemporalWithDateJoin() reverse relationship BitemporalWithDateJoin.getNontemporalWithDateJoin()
+	* @return bitemporal with date join
+	*/
+	public BitemporalWithDateJoinList getBitemporalWithDateJoin()
+	{
+		return (BitemporalWithDateJoinList) this.getDelegated().resolveRelationship(this, NontemporalWithDateJoinFinder.bitemporalWithDateJoin());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NontemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public NontemporalWithDateJoinList getNonPersistentCopy()
+	{
+		NontemporalWithDateJoinList result = new NontemporalWithDateJoinList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NontemporalWithDateJoinList asAdhoc()
+	{
+		return (NontemporalWithDateJoinList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<NontemporalWithDateJoin> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public NontemporalWithDateJoinList merge(MithraTransactionalList<NontemporalWithDateJoin> incoming, TopLevelMergeOptions<NontemporalWithDateJoin> mergeOptions)
+	{
+		return (NontemporalWithDateJoinList) super.merge(incoming, mergeOptions);
+	}
+
+	public NontemporalWithDateJoinList getDetachedCopy()
+	{
+		NontemporalWithDateJoinList result = new NontemporalWithDateJoinList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(NontemporalWithDateJoinFinder.businessDate(), newValue);
+	}
+
+	public void setEntity(String newValue)
+	{
+		zSetString(NontemporalWithDateJoinFinder.entity(), newValue);
+	}
+
+	public void setFactId(int newValue)
+	{
+		zSetInteger(NontemporalWithDateJoinFinder.factId(), newValue);
+	}
+}
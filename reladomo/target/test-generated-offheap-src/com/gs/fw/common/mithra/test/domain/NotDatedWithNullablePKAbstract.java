@@ -0,0 +1,317 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class NotDatedWithNullablePKAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(NotDatedWithNullablePK.class.getName());
+	public NotDatedWithNullablePKAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public NotDatedWithNullablePK getDetachedCopy() throws MithraBusinessException
+	{
+		return (NotDatedWithNullablePK) super.getDetachedCopy();
+	}
+
+	public NotDatedWithNullablePK getNonPersistentCopy() throws MithraBusinessException
+	{
+		NotDatedWithNullablePK result = (NotDatedWithNullablePK) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public NotDatedWithNullablePK copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (NotDatedWithNullablePK) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		NotDatedWithNullablePKData otherData = (NotDatedWithNullablePKData)other.zGetTxDataForRead();
+		return ((NotDatedWithNullablePKData) this.zGetTxDataForRead()).zHasSameNullPrimaryKeyAttributes(otherData);
+	}
+
+	public NotDatedWithNullablePK zFindOriginal()
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) this.currentData;
+		Operation op;
+		op = NotDatedWithNullablePKFinder.objectId().eq(data.getObjectId());
+		if(data.isNullablePKComponentNull())
+		{
+			op = op.and(NotDatedWithNullablePKFinder.nullablePKComponent().isNull());
+		}
+		else
+		{
+			op = op.and(NotDatedWithNullablePKFinder.nullablePKComponent().eq(data.getNullablePKComponent()));
+		}
+
+		return NotDatedWithNullablePKFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new NotDatedWithNullablePKData();
+	}
+
+	protected void zSetFromNotDatedWithNullablePKData( NotDatedWithNullablePKData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromNotDatedWithNullablePKData( NotDatedWithNullablePKData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNullablePKComponentNull()
+	{
+		return ((NotDatedWithNullablePKData) this.zSynchronizedGetData()).isNullablePKComponentNull();
+	}
+
+	public int getNullablePKComponent()
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) this.zSynchronizedGetData();
+		if (data.isNullablePKComponentNull()) MithraNullPrimitiveException.throwNew("nullablePKComponent", data);
+		return data.getNullablePKComponent();
+	}
+
+	public void setNullablePKComponent(int newValue)
+	{
+		zSetInteger(NotDatedWithNullablePKFinder.nullablePKComponent(), newValue, true, false ,true);
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return ((NotDatedWithNullablePKData) this.zSynchronizedGetData()).isObjectIdNull();
+	}
+
+	public int getObjectId()
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) this.zSynchronizedGetData();
+		return data.getObjectId();
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(NotDatedWithNullablePKFinder.objectId(), newValue, true, false ,false);
+	}
+
+	public boolean isPriceNull()
+	{
+		return ((NotDatedWithNullablePKData) this.zSynchronizedGetData()).isPriceNull();
+	}
+
+	public double getPrice()
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) this.zSynchronizedGetData();
+		if (data.isPriceNull()) MithraNullPrimitiveException.throwNew("price", data);
+		return data.getPrice();
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(NotDatedWithNullablePKFinder.price(), newValue, false, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((NotDatedWithNullablePKData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public double getQuantity()
+	{
+		NotDatedWithNullablePKData data = (NotDatedWithNullablePKData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NotDatedWithNullablePKFinder.quantity(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, NotDatedWithNullablePKFinder.nullablePKComponent(), false);
+		zNullify(behavior, data, NotDatedWithNullablePKFinder.quantity(), false);
+		zNullify(behavior, data, NotDatedWithNullablePKFinder.price(), false);
+	}
+
+	public void setNullablePKComponentNull()
+	{
+		zNullify(NotDatedWithNullablePKFinder.nullablePKComponent(), true);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(NotDatedWithNullablePKFinder.quantity(), false);
+	}
+
+	public void setPriceNull()
+	{
+		zNullify(NotDatedWithNullablePKFinder.price(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		NotDatedWithNullablePKData _newData = (NotDatedWithNullablePKData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		NotDatedWithNullablePKData _newData = (NotDatedWithNullablePKData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithNullablePKData _newData = (NotDatedWithNullablePKData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public NotDatedWithNullablePK zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		NotDatedWithNullablePK original = (NotDatedWithNullablePK) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return NotDatedWithNullablePKFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return NotDatedWithNullablePKFinder.getMithraObjectPortal();
+	}
+
+	public NotDatedWithNullablePK getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, NotDatedWithNullablePKFinder.price(), false);
+		changed |= zUpdateDouble(behavior, data, newData, NotDatedWithNullablePKFinder.quantity(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, NotDatedWithNullablePKFinder.nullablePKComponent(), false);
+		changed |= zUpdateInteger(behavior, data, newData, NotDatedWithNullablePKFinder.objectId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		NotDatedWithNullablePKAbstract result = (NotDatedWithNullablePKAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1299 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class NullTestData
+implements MithraDataObject
+{
+	private short isNullBits0 = 0;
+	private boolean noDefaultNullBoolean;
+	private byte noDefaultNullByte;
+	private char noDefaultNullChar;
+	private Date noDefaultNullDate;
+	private double noDefaultNullDouble;
+	private float noDefaultNullFloat;
+	private int noDefaultNullInt;
+	private long noDefaultNullLong;
+	private short noDefaultNullShort;
+	private String noDefaultNullString;
+	private Timestamp noDefaultNullTimestamp;
+	private boolean notNullBoolean;
+	private byte notNullByte;
+	private char notNullChar;
+	private Date notNullDate;
+	private double notNullDouble;
+	private float notNullFloat;
+	private int notNullInt;
+	private long notNullLong;
+	private short notNullShort;
+	private String notNullString;
+	private Timestamp notNullTimestamp;
+	private boolean nullableBoolean;
+	private byte nullableByte;
+	private char nullableChar;
+	private Date nullableDate;
+	private double nullableDouble;
+	private float nullableFloat;
+	private int nullableInt;
+	private long nullableLong;
+	private short nullableShort;
+	private String nullableString;
+	private Timestamp nullableTimestamp;
+	public boolean isNoDefaultNullDateNull()
+	{
+		return this.getNoDefaultNullDate() == null;
+	}
+
+	public boolean isNoDefaultNullStringNull()
+	{
+		return this.getNoDefaultNullString() == null;
+	}
+
+	public boolean isNoDefaultNullTimestampNull()
+	{
+		return this.getNoDefaultNullTimestamp() == null;
+	}
+
+	public boolean isNotNullBooleanNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullByteNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullCharNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullDateNull()
+	{
+		return this.getNotNullDate() == null;
+	}
+
+	public boolean isNotNullDoubleNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullFloatNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullIntNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullLongNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullShortNull()
+	{
+		return false;
+	}
+
+	public boolean isNotNullStringNull()
+	{
+		return this.getNotNullString() == null;
+	}
+
+	public boolean isNotNullTimestampNull()
+	{
+		return this.getNotNullTimestamp() == null;
+	}
+
+	public boolean isNullableDateNull()
+	{
+		return this.getNullableDate() == null;
+	}
+
+	public boolean isNullableStringNull()
+	{
+		return this.getNullableString() == null;
+	}
+
+	public boolean isNullableTimestampNull()
+	{
+		return this.getNullableTimestamp() == null;
+	}
+
+	public boolean isNoDefaultNullBooleanNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isNoDefaultNullDoubleNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNoDefaultNullLongNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNoDefaultNullIntNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNoDefaultNullCharNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNoDefaultNullByteNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isNoDefaultNullFloatNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isNoDefaultNullShortNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public boolean isNullableBooleanNull()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	public boolean isNullableDoubleNull()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	public boolean isNullableLongNull()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	public boolean isNullableIntNull()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	public boolean isNullableCharNull()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	public boolean isNullableByteNull()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	public boolean isNullableFloatNull()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	public boolean isNullableShortNull()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.noDefaultNullBoolean);
+		out.writeByte(this.noDefaultNullByte);
+		out.writeChar(this.noDefaultNullChar);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.noDefaultNullDate);
+		out.writeDouble(this.noDefaultNullDouble);
+		out.writeFloat(this.noDefaultNullFloat);
+		out.writeInt(this.noDefaultNullInt);
+		out.writeLong(this.noDefaultNullLong);
+		out.writeShort(this.noDefaultNullShort);
+		out.writeObject(this.noDefaultNullString);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.noDefaultNullTimestamp);
+		out.writeBoolean(this.notNullBoolean);
+		out.writeByte(this.notNullByte);
+		out.writeChar(this.notNullChar);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.notNullDate);
+		out.writeDouble(this.notNullDouble);
+		out.writeFloat(this.notNullFloat);
+		out.writeInt(this.notNullInt);
+		out.writeLong(this.notNullLong);
+		out.writeShort(this.notNullShort);
+		out.writeObject(this.notNullString);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.notNullTimestamp);
+		out.writeBoolean(this.nullableBoolean);
+		out.writeByte(this.nullableByte);
+		out.writeChar(this.nullableChar);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.nullableDate);
+		out.writeDouble(this.nullableDouble);
+		out.writeFloat(this.nullableFloat);
+		out.writeInt(this.nullableInt);
+		out.writeLong(this.nullableLong);
+		out.writeShort(this.nullableShort);
+		out.writeObject(this.nullableString);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.nullableTimestamp);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeShort(this.isNullBits0);
+	}
+
+	public boolean isNoDefaultNullBoolean()
+	{
+		return this.noDefaultNullBoolean;
+	}
+
+	public void setNoDefaultNullBoolean(boolean value)
+	{
+		this.noDefaultNullBoolean = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1));
+	}
+
+	public byte getNoDefaultNullByte()
+	{
+		return this.noDefaultNullByte;
+	}
+
+	public void setNoDefaultNullByte(byte value)
+	{
+		this.noDefaultNullByte = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public char getNoDefaultNullChar()
+	{
+		return this.noDefaultNullChar;
+	}
+
+	public void setNoDefaultNullChar(char value)
+	{
+		this.noDefaultNullChar = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public Date getNoDefaultNullDate()
+	{
+		return this.noDefaultNullDate;
+	}
+
+	public void setNoDefaultNullDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.noDefaultNullDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.noDefaultNullDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setNoDefaultNullDateNull()
+	{
+		this.setNoDefaultNullDate(null);
+	}
+
+	public double getNoDefaultNullDouble()
+	{
+		return this.noDefaultNullDouble;
+	}
+
+	public void setNoDefaultNullDouble(double value)
+	{
+		this.noDefaultNullDouble = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public float getNoDefaultNullFloat()
+	{
+		return this.noDefaultNullFloat;
+	}
+
+	public void setNoDefaultNullFloat(float value)
+	{
+		this.noDefaultNullFloat = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public int getNoDefaultNullInt()
+	{
+		return this.noDefaultNullInt;
+	}
+
+	public void setNoDefaultNullInt(int value)
+	{
+		this.noDefaultNullInt = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public long getNoDefaultNullLong()
+	{
+		return this.noDefaultNullLong;
+	}
+
+	public void setNoDefaultNullLong(long value)
+	{
+		this.noDefaultNullLong = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public short getNoDefaultNullShort()
+	{
+		return this.noDefaultNullShort;
+	}
+
+	public void setNoDefaultNullShort(short value)
+	{
+		this.noDefaultNullShort = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public String getNoDefaultNullString()
+	{
+		return this.noDefaultNullString;
+	}
+
+	public int zGetNoDefaultNullStringAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(noDefaultNullString);
+	}
+
+	public void setNoDefaultNullString(String value)
+	{
+		this.noDefaultNullString = StringPool.getInstance().getOrAddToCache(value, NullTestFinder.isFullCache());
+	}
+
+	public void setNoDefaultNullStringNull()
+	{
+		this.setNoDefaultNullString(null);
+	}
+
+	public Timestamp getNoDefaultNullTimestamp()
+	{
+		return this.noDefaultNullTimestamp;
+	}
+
+	public long zGetNoDefaultNullTimestampAsLong()
+	{
+		if (noDefaultNullTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return noDefaultNullTimestamp.getTime();
+	}
+
+	public void setNoDefaultNullTimestamp(Timestamp value)
+	{
+		this.noDefaultNullTimestamp = TimestampPool.getInstance().getOrAddToCache(value, NullTestFinder.isFullCache(), NullTestFinder.isOffHeap());
+	}
+
+	public void setNoDefaultNullTimestampNull()
+	{
+		this.setNoDefaultNullTimestamp(null);
+	}
+
+	public boolean isNotNullBoolean()
+	{
+		return this.notNullBoolean;
+	}
+
+	public void setNotNullBoolean(boolean value)
+	{
+		this.notNullBoolean = value;
+	}
+
+	public void setNotNullBooleanNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public byte getNotNullByte()
+	{
+		return this.notNullByte;
+	}
+
+	public void setNotNullByte(byte value)
+	{
+		this.notNullByte = value;
+	}
+
+	public void setNotNullByteNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public char getNotNullChar()
+	{
+		return this.notNullChar;
+	}
+
+	public void setNotNullChar(char value)
+	{
+		this.notNullChar = value;
+	}
+
+	public void setNotNullCharNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Date getNotNullDate()
+	{
+		return this.notNullDate;
+	}
+
+	public void setNotNullDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.notNullDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.notNullDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setNotNullDateNull()
+	{
+		this.setNotNullDate(null);
+	}
+
+	public double getNotNullDouble()
+	{
+		return this.notNullDouble;
+	}
+
+	public void setNotNullDouble(double value)
+	{
+		this.notNullDouble = value;
+	}
+
+	public void setNotNullDoubleNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public float getNotNullFloat()
+	{
+		return this.notNullFloat;
+	}
+
+	public void setNotNullFloat(float value)
+	{
+		this.notNullFloat = value;
+	}
+
+	public void setNotNullFloatNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getNotNullInt()
+	{
+		return this.notNullInt;
+	}
+
+	public void setNotNullInt(int value)
+	{
+		this.notNullInt = value;
+	}
+
+	public void setNotNullIntNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public long getNotNullLong()
+	{
+		return this.notNullLong;
+	}
+
+	public void setNotNullLong(long value)
+	{
+		this.notNullLong = value;
+	}
+
+	public void setNotNullLongNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public short getNotNullShort()
+	{
+		return this.notNullShort;
+	}
+
+	public void setNotNullShort(short value)
+	{
+		this.notNullShort = value;
+	}
+
+	public void setNotNullShortNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getNotNullString()
+	{
+		return this.notNullString;
+	}
+
+	public int zGetNotNullStringAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(notNullString);
+	}
+
+	public void setNotNullString(String value)
+	{
+		this.notNullString = StringPool.getInstance().getOrAddToCache(value, NullTestFinder.isFullCache());
+	}
+
+	public void setNotNullStringNull()
+	{
+		this.setNotNullString(null);
+	}
+
+	public Timestamp getNotNullTimestamp()
+	{
+		return this.notNullTimestamp;
+	}
+
+	public long zGetNotNullTimestampAsLong()
+	{
+		if (notNullTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return notNullTimestamp.getTime();
+	}
+
+	public void setNotNullTimestamp(Timestamp value)
+	{
+		this.notNullTimestamp = TimestampPool.getInstance().getOrAddToCache(value, NullTestFinder.isFullCache(), NullTestFinder.isOffHeap());
+	}
+
+	public void setNotNullTimestampNull()
+	{
+		this.setNotNullTimestamp(null);
+	}
+
+	public boolean isNullableBoolean()
+	{
+		return this.nullableBoolean;
+	}
+
+	public void setNullableBoolean(boolean value)
+	{
+		this.nullableBoolean = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 8));
+	}
+
+	public byte getNullableByte()
+	{
+		return this.nullableByte;
+	}
+
+	public void setNullableByte(byte value)
+	{
+		this.nullableByte = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 13));
+	}
+
+	public char getNullableChar()
+	{
+		return this.nullableChar;
+	}
+
+	public void setNullableChar(char value)
+	{
+		this.nullableChar = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 12));
+	}
+
+	public Date getNullableDate()
+	{
+		return this.nullableDate;
+	}
+
+	public void setNullableDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.nullableDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.nullableDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setNullableDateNull()
+	{
+		this.setNullableDate(null);
+	}
+
+	public double getNullableDouble()
+	{
+		return this.nullableDouble;
+	}
+
+	public void setNullableDouble(double value)
+	{
+		this.nullableDouble = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 9));
+	}
+
+	public float getNullableFloat()
+	{
+		return this.nullableFloat;
+	}
+
+	public void setNullableFloat(float value)
+	{
+		this.nullableFloat = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 14));
+	}
+
+	public int getNullableInt()
+	{
+		return this.nullableInt;
+	}
+
+	public void setNullableInt(int value)
+	{
+		this.nullableInt = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 11));
+	}
+
+	public long getNullableLong()
+	{
+		return this.nullableLong;
+	}
+
+	public void setNullableLong(long value)
+	{
+		this.nullableLong = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 10));
+	}
+
+	public short getNullableShort()
+	{
+		return this.nullableShort;
+	}
+
+	public void setNullableShort(short value)
+	{
+		this.nullableShort = value;
+		isNullBits0 = (short)((int)isNullBits0 & ~( 1 << 15));
+	}
+
+	public String getNullableString()
+	{
+		return this.nullableString;
+	}
+
+	public int zGetNullableStringAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(nullableString);
+	}
+
+	public void setNullableString(String value)
+	{
+		this.nullableString = StringPool.getInstance().getOrAddToCache(value, NullTestFinder.isFullCache());
+	}
+
+	public void setNullableStringNull()
+	{
+		this.setNullableString(null);
+	}
+
+	public Timestamp getNullableTimestamp()
+	{
+		return this.nullableTimestamp;
+	}
+
+	public long zGetNullableTimestampAsLong()
+	{
+		if (nullableTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return nullableTimestamp.getTime();
+	}
+
+	public void setNullableTimestamp(Timestamp value)
+	{
+		this.nullableTimestamp = TimestampPool.getInstance().getOrAddToCache(value, NullTestFinder.isFullCache(), NullTestFinder.isOffHeap());
+	}
+
+	public void setNullableTimestampNull()
+	{
+		this.setNullableTimestamp(null);
+	}
+
+	public void setNoDefaultNullBooleanNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1);
+	}
+
+	public void setNoDefaultNullDoubleNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setNoDefaultNullLongNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setNoDefaultNullIntNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setNoDefaultNullCharNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setNoDefaultNullByteNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setNoDefaultNullFloatNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setNoDefaultNullShortNull()
+	{
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 7);
+	}
+
+	public void setNullableBooleanNull()
+	{
+		setNullableBoolean((boolean)false);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 8);
+	}
+
+	public void setNullableDoubleNull()
+	{
+		setNullableDouble((double)12.0);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 9);
+	}
+
+	public void setNullableLongNull()
+	{
+		setNullableLong((long)12);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 10);
+	}
+
+	public void setNullableIntNull()
+	{
+		setNullableInt((int)12);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 11);
+	}
+
+	public void setNullableCharNull()
+	{
+		setNullableChar((char)' ');
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 12);
+	}
+
+	public void setNullableByteNull()
+	{
+		setNullableByte((byte)12);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 13);
+	}
+
+	public void setNullableFloatNull()
+	{
+		setNullableFloat((float)12.0);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 14);
+	}
+
+	public void setNullableShortNull()
+	{
+		setNullableShort((short)12);
+		isNullBits0 = (short)((int)isNullBits0 | 1 << 15);
+	}
+
+	public short zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(short newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(NullTestData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.noDefaultNullBoolean = this.noDefaultNullBoolean;
+		copy.noDefaultNullByte = this.noDefaultNullByte;
+		copy.noDefaultNullChar = this.noDefaultNullChar;
+		copy.noDefaultNullDate = this.noDefaultNullDate;
+		copy.noDefaultNullDouble = this.noDefaultNullDouble;
+		copy.noDefaultNullFloat = this.noDefaultNullFloat;
+		copy.noDefaultNullInt = this.noDefaultNullInt;
+		copy.noDefaultNullLong = this.noDefaultNullLong;
+		copy.noDefaultNullShort = this.noDefaultNullShort;
+		copy.noDefaultNullString = this.noDefaultNullString;
+		copy.noDefaultNullTimestamp = this.noDefaultNullTimestamp;
+		copy.notNullBoolean = this.notNullBoolean;
+		copy.notNullByte = this.notNullByte;
+		copy.notNullChar = this.notNullChar;
+		copy.notNullDate = this.notNullDate;
+		copy.notNullDouble = this.notNullDouble;
+		copy.notNullFloat = this.notNullFloat;
+		copy.notNullInt = this.notNullInt;
+		copy.notNullLong = this.notNullLong;
+		copy.notNullShort = this.notNullShort;
+		copy.notNullString = this.notNullString;
+		copy.notNullTimestamp = this.notNullTimestamp;
+		copy.nullableBoolean = this.nullableBoolean;
+		copy.nullableByte = this.nullableByte;
+		copy.nullableChar = this.nullableChar;
+		copy.nullableDate = this.nullableDate;
+		copy.nullableDouble = this.nullableDouble;
+		copy.nullableFloat = this.nullableFloat;
+		copy.nullableInt = this.nullableInt;
+		copy.nullableLong = this.nullableLong;
+		copy.nullableShort = this.nullableShort;
+		copy.nullableString = this.nullableString;
+		copy.nullableTimestamp = this.nullableTimestamp;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readShort();
+		this.noDefaultNullBoolean = in.readBoolean();
+		this.noDefaultNullByte = in.readByte();
+		this.noDefaultNullChar = in.readChar();
+		this.noDefaultNullDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.noDefaultNullDouble = in.readDouble();
+		this.noDefaultNullFloat = in.readFloat();
+		this.noDefaultNullInt = in.readInt();
+		this.noDefaultNullLong = in.readLong();
+		this.noDefaultNullShort = in.readShort();
+		this.noDefaultNullString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NullTestFinder.isFullCache());
+		this.noDefaultNullTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), NullTestFinder.isFullCache(), NullTestFinder.isOffHeap());
+		this.notNullBoolean = in.readBoolean();
+		this.notNullByte = in.readByte();
+		this.notNullChar = in.readChar();
+		this.notNullDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.notNullDouble = in.readDouble();
+		this.notNullFloat = in.readFloat();
+		this.notNullInt = in.readInt();
+		this.notNullLong = in.readLong();
+		this.notNullShort = in.readShort();
+		this.notNullString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NullTestFinder.isFullCache());
+		this.notNullTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), NullTestFinder.isFullCache(), NullTestFinder.isOffHeap());
+		this.nullableBoolean = in.readBoolean();
+		this.nullableByte = in.readByte();
+		this.nullableChar = in.readChar();
+		this.nullableDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.nullableDouble = in.readDouble();
+		this.nullableFloat = in.readFloat();
+		this.nullableInt = in.readInt();
+		this.nullableLong = in.readLong();
+		this.nullableShort = in.readShort();
+		this.nullableString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NullTestFinder.isFullCache());
+		this.nullableTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), NullTestFinder.isFullCache(), NullTestFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final NullTestData otherData = (NullTestData) other;
+		if (!isNotNullStringNull() ? !getNotNullString().equals(otherData.getNotNullString()) : !otherData.isNotNullStringNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.notNullString);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.notNullString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), NullTestFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final NullTestData nullTestData = (NullTestData) newData;
+		this.setNoDefaultNullBoolean(nullTestData.isNoDefaultNullBoolean());
+		if (nullTestData.isNoDefaultNullBooleanNull()) this.setNoDefaultNullBooleanNull();
+		this.setNoDefaultNullByte(nullTestData.getNoDefaultNullByte());
+		if (nullTestData.isNoDefaultNullByteNull()) this.setNoDefaultNullByteNull();
+		this.setNoDefaultNullChar(nullTestData.getNoDefaultNullChar());
+		if (nullTestData.isNoDefaultNullCharNull()) this.setNoDefaultNullCharNull();
+		this.setNoDefaultNullDate(nullTestData.getNoDefaultNullDate());
+		this.setNoDefaultNullDouble(nullTestData.getNoDefaultNullDouble());
+		if (nullTestData.isNoDefaultNullDoubleNull()) this.setNoDefaultNullDoubleNull();
+		this.setNoDefaultNullFloat(nullTestData.getNoDefaultNullFloat());
+		if (nullTestData.isNoDefaultNullFloatNull()) this.setNoDefaultNullFloatNull();
+		this.setNoDefaultNullInt(nullTestData.getNoDefaultNullInt());
+		if (nullTestData.isNoDefaultNullIntNull()) this.setNoDefaultNullIntNull();
+		this.setNoDefaultNullLong(nullTestData.getNoDefaultNullLong());
+		if (nullTestData.isNoDefaultNullLongNull()) this.setNoDefaultNullLongNull();
+		this.setNoDefaultNullShort(nullTestData.getNoDefaultNullShort());
+		if (nullTestData.isNoDefaultNullShortNull()) this.setNoDefaultNullShortNull();
+		this.setNoDefaultNullString(nullTestData.getNoDefaultNullString());
+		this.setNoDefaultNullTimestamp(nullTestData.getNoDefaultNullTimestamp());
+		this.setNotNullBoolean(nullTestData.isNotNullBoolean());
+		this.setNotNullByte(nullTestData.getNotNullByte());
+		this.setNotNullChar(nullTestData.getNotNullChar());
+		this.setNotNullDate(nullTestData.getNotNullDate());
+		this.setNotNullDouble(nullTestData.getNotNullDouble());
+		this.setNotNullFloat(nullTestData.getNotNullFloat());
+		this.setNotNullInt(nullTestData.getNotNullInt());
+		this.setNotNullLong(nullTestData.getNotNullLong());
+		this.setNotNullShort(nullTestData.getNotNullShort());
+		this.setNotNullTimestamp(nullTestData.getNotNullTimestamp());
+		this.setNullableBoolean(nullTestData.isNullableBoolean());
+		if (nullTestData.isNullableBooleanNull()) this.setNullableBooleanNull();
+		this.setNullableByte(nullTestData.getNullableByte());
+		if (nullTestData.isNullableByteNull()) this.setNullableByteNull();
+		this.setNullableChar(nullTestData.getNullableChar());
+		if (nullTestData.isNullableCharNull()) this.setNullableCharNull();
+		this.setNullableDate(nullTestData.getNullableDate());
+		this.setNullableDouble(nullTestData.getNullableDouble());
+		if (nullTestData.isNullableDoubleNull()) this.setNullableDoubleNull();
+		this.setNullableFloat(nullTestData.getNullableFloat());
+		if (nullTestData.isNullableFloatNull()) this.setNullableFloatNull();
+		this.setNullableInt(nullTestData.getNullableInt());
+		if (nullTestData.isNullableIntNull()) this.setNullableIntNull();
+		this.setNullableLong(nullTestData.getNullableLong());
+		if (nullTestData.isNullableLongNull()) this.setNullableLongNull();
+		this.setNullableShort(nullTestData.getNullableShort());
+		if (nullTestData.isNullableShortNull()) this.setNullableShortNull();
+		this.setNullableString(nullTestData.getNullableString());
+		this.setNullableTimestamp(nullTestData.getNullableTimestamp());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final NullTestData other = (NullTestData) newData;
+		if ( isNoDefaultNullBooleanNull() != other.isNoDefaultNullBooleanNull() || isNoDefaultNullBoolean() != other.isNoDefaultNullBoolean())
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullByteNull() != other.isNoDefaultNullByteNull() || getNoDefaultNullByte() != other.getNoDefaultNullByte())
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullCharNull() != other.isNoDefaultNullCharNull() || getNoDefaultNullChar() != other.getNoDefaultNullChar())
+		{
+			return true;
+		}
+
+		if (!isNoDefaultNullDateNull() ? !getNoDefaultNullDate().equals(other.getNoDefaultNullDate()) : !other.isNoDefaultNullDateNull())
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullDoubleNull() != other.isNoDefaultNullDoubleNull() || Math.abs(getNoDefaultNullDouble() - other.getNoDefaultNullDouble()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullFloatNull() != other.isNoDefaultNullFloatNull() || Math.abs(getNoDefaultNullFloat() - other.getNoDefaultNullFloat()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullIntNull() != other.isNoDefaultNullIntNull() || getNoDefaultNullInt() != other.getNoDefaultNullInt())
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullLongNull() != other.isNoDefaultNullLongNull() || getNoDefaultNullLong() != other.getNoDefaultNullLong())
+		{
+			return true;
+		}
+
+		if ( isNoDefaultNullShortNull() != other.isNoDefaultNullShortNull() || getNoDefaultNullShort() != other.getNoDefaultNullShort())
+		{
+			return true;
+		}
+
+		if (!isNoDefaultNullStringNull() ? !getNoDefaultNullString().equals(other.getNoDefaultNullString()) : !other.isNoDefaultNullStringNull())
+		{
+			return true;
+		}
+
+		if (!isNoDefaultNullTimestampNull() ? !getNoDefaultNullTimestamp().equals(other.getNoDefaultNullTimestamp()) : !other.isNoDefaultNullTimestampNull())
+		{
+			return true;
+		}
+
+		if ( isNotNullBoolean() != other.isNotNullBoolean())
+		{
+			return true;
+		}
+
+		if ( getNotNullByte() != other.getNotNullByte())
+		{
+			return true;
+		}
+
+		if ( getNotNullChar() != other.getNotNullChar())
+		{
+			return true;
+		}
+
+		if (!isNotNullDateNull() ? !getNotNullDate().equals(other.getNotNullDate()) : !other.isNotNullDateNull())
+		{
+			return true;
+		}
+
+		if ( Math.abs(getNotNullDouble() - other.getNotNullDouble()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( Math.abs(getNotNullFloat() - other.getNotNullFloat()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( getNotNullInt() != other.getNotNullInt())
+		{
+			return true;
+		}
+
+		if ( getNotNullLong() != other.getNotNullLong())
+		{
+			return true;
+		}
+
+		if ( getNotNullShort() != other.getNotNullShort())
+		{
+			return true;
+		}
+
+		if (!isNotNullTimestampNull() ? !getNotNullTimestamp().equals(other.getNotNullTimestamp()) : !other.isNotNullTimestampNull())
+		{
+			return true;
+		}
+
+		if ( isNullableBooleanNull() != other.isNullableBooleanNull() || isNullableBoolean() != other.isNullableBoolean())
+		{
+			return true;
+		}
+
+		if ( isNullableByteNull() != other.isNullableByteNull() || getNullableByte() != other.getNullableByte())
+		{
+			return true;
+		}
+
+		if ( isNullableCharNull() != other.isNullableCharNull() || getNullableChar() != other.getNullableChar())
+		{
+			return true;
+		}
+
+		if (!isNullableDateNull() ? !getNullableDate().equals(other.getNullableDate()) : !other.isNullableDateNull())
+		{
+			return true;
+		}
+
+		if ( isNullableDoubleNull() != other.isNullableDoubleNull() || Math.abs(getNullableDouble() - other.getNullableDouble()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNullableFloatNull() != other.isNullableFloatNull() || Math.abs(getNullableFloat() - other.getNullableFloat()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isNullableIntNull() != other.isNullableIntNull() || getNullableInt() != other.getNullableInt())
+		{
+			return true;
+		}
+
+		if ( isNullableLongNull() != other.isNullableLongNull() || getNullableLong() != other.getNullableLong())
+		{
+			return true;
+		}
+
+		if ( isNullableShortNull() != other.isNullableShortNull() || getNullableShort() != other.getNullableShort())
+		{
+			return true;
+		}
+
+		if (!isNullableStringNull() ? !getNullableString().equals(other.getNullableString()) : !other.isNullableStringNull())
+		{
+			return true;
+		}
+
+		if (!isNullableTimestampNull() ? !getNullableTimestamp().equals(other.getNullableTimestamp()) : !other.isNullableTimestampNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		NullTestData copy = new NullTestData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		NullTestData copy = new NullTestData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "notNullString: "+"'"+getNotNullString()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.NullTestData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return NullTestFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return NullTestFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.NullTestData";
+	}
+}
@@ -0,0 +1,313 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ObjectWithSequenceWiImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ObjectWithSequenceWiImpl.class.getName());
+	public ObjectWithSequenceWiImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ObjectWithSequenceWiImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (ObjectWithSequenceWiImpl) super.getDetachedCopy();
+	}
+
+	public ObjectWithSequenceWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		ObjectWithSequenceWiImpl result = (ObjectWithSequenceWiImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public ObjectWithSequenceWiImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ObjectWithSequenceWiImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ObjectWithSequenceWiImpl zFindOriginal()
+	{
+		ObjectWithSequenceWiData data = (ObjectWithSequenceWiData) this.currentData;
+		Operation op;
+		op = ObjectWithSequenceWiFinder.firstId().eq(data.getFirstId());
+		return (ObjectWithSequenceWiImpl) ObjectWithSequenceWiFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ObjectWithSequenceWiData();
+	}
+
+	protected void zSetFromObjectWithSequenceWiData( ObjectWithSequenceWiData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromObjectWithSequenceWiData( ObjectWithSequenceWiData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCurrentDateNull()
+	{
+		return ((ObjectWithSequenceWiData) this.zSynchronizedGetData()).isCurrentDateNull();
+	}
+
+	public Timestamp getCurrentDate()
+	{
+		ObjectWithSequenceWiData data = (ObjectWithSequenceWiData) this.zSynchronizedGetData();
+		return data.getCurrentDate();
+	}
+
+	public void setCurrentDate(Timestamp newValue)
+	{
+		zSetTimestamp(ObjectWithSequenceWiFinder.currentDate(), newValue, false, false );
+	}
+
+	public boolean isFirstIdNull()
+	{
+		return ((ObjectWithSequenceWiData) this.zSynchronizedGetData()).isFirstIdNull();
+	}
+
+	public int getFirstId()
+	{
+		ObjectWithSequenceWiData data = (ObjectWithSequenceWiData) this.zSynchronizedGetData();
+		return data.getFirstId();
+	}
+
+	public void setFirstId(int newValue)
+	{
+		zSetInteger(ObjectWithSequenceWiFinder.firstId(), newValue, true, false ,false);
+	}
+
+	public boolean isSomeValueNull()
+	{
+		return ((ObjectWithSequenceWiData) this.zSynchronizedGetData()).isSomeValueNull();
+	}
+
+	public int getSomeValue()
+	{
+		ObjectWithSequenceWiData data = (ObjectWithSequenceWiData) this.zSynchronizedGetData();
+		if (data.isSomeValueNull()) MithraNullPrimitiveException.throwNew("someValue", data);
+		return data.getSomeValue();
+	}
+
+	public void setSomeValue(int newValue)
+	{
+		zSetInteger(ObjectWithSequenceWiFinder.someValue(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ObjectWithSequenceWiFinder.someValue(), false);
+	}
+
+	public void setSomeValueNull()
+	{
+		zNullify(ObjectWithSequenceWiFinder.someValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ObjectWithSequenceWiData _newData = (ObjectWithSequenceWiData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ObjectWithSequenceWiData _newData = (ObjectWithSequenceWiData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ObjectWithSequenceWiData _newData = (ObjectWithSequenceWiData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ObjectWithSequenceWiImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		ObjectWithSequenceWiImpl original = (ObjectWithSequenceWiImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ObjectWithSequenceWiFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ObjectWithSequenceWiFinder.getMithraObjectPortal();
+	}
+
+	public ObjectWithSequenceWiImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, ObjectWithSequenceWiFinder.currentDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ObjectWithSequenceWiFinder.someValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ObjectWithSequenceWiFinder.firstId(), false);
+		return changed;
+	}
+
+	public int generateAndSetFirstId()
+	{
+		int nextValue =(int) this.generateFirstId();
+		this.setFirstId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsFirstIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ObjectWithSequenceWiData data = (ObjectWithSequenceWiData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsFirstIdSet();
+	}
+
+	protected int generateFirstId()
+	{
+		Object sourceAttribute = null;
+		ObjectWithSequenceWiFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("ObjWithIntSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (int)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ObjectWithSequenceWiData data = (ObjectWithSequenceWiData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsFirstIdSet())
+		{
+			data.setFirstId(generateFirstId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ObjectWithSequenceWiImplAbstract result = (ObjectWithSequenceWiImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
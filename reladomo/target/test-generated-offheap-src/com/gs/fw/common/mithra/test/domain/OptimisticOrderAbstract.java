@@ -0,0 +1,425 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class OptimisticOrderAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(OptimisticOrder.class.getName());
+	public OptimisticOrderAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public OptimisticOrder getDetachedCopy() throws MithraBusinessException
+	{
+		return (OptimisticOrder) super.getDetachedCopy();
+	}
+
+	public OptimisticOrder getNonPersistentCopy() throws MithraBusinessException
+	{
+		OptimisticOrder result = (OptimisticOrder) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	protected MithraDataObject zCheckOptimisticDirty(MithraDataObject d, TransactionalBehavior behavior)
+	{
+		OptimisticOrderData data = (OptimisticOrderData) d;
+		if (data.zIsDirty())
+		{
+			this.zRefreshWithLockForRead(behavior);
+			data = (OptimisticOrderData) behavior.getCurrentDataForRead(this);
+		}
+
+		return data;
+	}
+
+	public OptimisticOrder copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (OptimisticOrder) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public void zSetInserted()
+	{
+		MithraDataObject data;
+		boolean validTransactionalState = this.transactionalState != null;
+		if(validTransactionalState)
+		{
+			data = this.transactionalState.getTxData();
+			if (data == null)
+			{
+				data = this.currentData.copy();
+				this.transactionalState.setTxData(data);
+			}
+		}
+		else
+		{
+			data = this.currentData;
+		}
+
+		((OptimisticOrderData)data).zSetUpdated();
+	}
+
+	public void zSetUpdated(List<AttributeUpdateWrapper> updates)
+	{
+		((OptimisticOrderData)this.transactionalState.getTxData()).zSetUpdated();
+	}
+
+	protected void zIncrementOptimiticAttribute(TransactionalBehavior behavior, MithraDataObject d)
+	{
+		OptimisticOrderData data = (OptimisticOrderData) d;
+		if (data.mustIncrementVersion())
+		{
+			AttributeUpdateWrapper versionUpdateWrapper =
+			new IntegerUpdateWrapper(
+				OptimisticOrderFinder.version(),
+				data, data.getVersion() + 1);
+			behavior.update(this, versionUpdateWrapper, false, true);
+		}
+	}
+
+	public void zApplyUpdateWrappers(List updateWrappers)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		((OptimisticOrderData)behavior.getCurrentDataForWrite(this)).mustIncrementVersion();
+		behavior.remoteUpdate(this, updateWrappers);
+	}
+
+	public void zApplyUpdateWrappersForBatch(List updateWrappers)
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		behavior.remoteUpdateForBatch(this, updateWrappers);
+		((OptimisticOrderData)this.transactionalState.getTxData()).mustIncrementVersion();
+	}
+
+	public void zMarkDirty()
+	{
+		if (this.currentData != null) ((OptimisticOrderData)this.currentData).zMarkDirty();
+	}
+
+	public OptimisticOrder zFindOriginal()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.currentData;
+		Operation op;
+		op = OptimisticOrderFinder.orderId().eq(data.getOrderId());
+		return OptimisticOrderFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new OptimisticOrderData();
+	}
+
+	protected void zSetFromOptimisticOrderData( OptimisticOrderData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromOptimisticOrderData( OptimisticOrderData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 50)
+		newValue = newValue.substring(0, 50 ).trim();
+		zSetString(OptimisticOrderFinder.description(), newValue, false, true );
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isOrderDateNull();
+	}
+
+	public Timestamp getOrderDate()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		return data.getOrderDate();
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OptimisticOrderFinder.orderDate(), newValue, false, true );
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isOrderIdNull();
+	}
+
+	public int getOrderId()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		return data.getOrderId();
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OptimisticOrderFinder.orderId(), newValue, true, true ,false);
+	}
+
+	public boolean isStateNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isStateNull();
+	}
+
+	public String getState()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		return data.getState();
+	}
+
+	public void setState(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'state' cannot exceed maximum length of 20: " + newValue);
+		zSetString(OptimisticOrderFinder.state(), newValue, false, true );
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isTrackingIdNull();
+	}
+
+	public String getTrackingId()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		return data.getTrackingId();
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 15)
+		throw new MithraBusinessException("Attribute 'trackingId' cannot exceed maximum length of 15: " + newValue);
+		zSetString(OptimisticOrderFinder.trackingId(), newValue, false, true );
+	}
+
+	public boolean isUserIdNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isUserIdNull();
+	}
+
+	public int getUserId()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		if (data.isUserIdNull()) MithraNullPrimitiveException.throwNew("userId", data);
+		return data.getUserId();
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OptimisticOrderFinder.userId(), newValue, false, true ,true);
+	}
+
+	public boolean isVersionNull()
+	{
+		return ((OptimisticOrderData) this.zSynchronizedGetData()).isVersionNull();
+	}
+
+	public int getVersion()
+	{
+		OptimisticOrderData data = (OptimisticOrderData) this.zSynchronizedGetData();
+		if (data.isVersionNull()) MithraNullPrimitiveException.throwNew("version", data);
+		return data.getVersion();
+	}
+
+	public void setVersion(int newValue)
+	{
+		zSetInteger(OptimisticOrderFinder.version(), newValue, true, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, OptimisticOrderFinder.userId(), false);
+		zNullify(behavior, data, OptimisticOrderFinder.version(), false);
+	}
+
+	public void setUserIdNull()
+	{
+		zNullify(OptimisticOrderFinder.userId(), false);
+	}
+
+	public void setVersionNull()
+	{
+		zNullify(OptimisticOrderFinder.version(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		OptimisticOrderData _newData = (OptimisticOrderData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		OptimisticOrderData _newData = (OptimisticOrderData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OptimisticOrderData _newData = (OptimisticOrderData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public OptimisticOrder zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		OptimisticOrder original = (OptimisticOrder) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return OptimisticOrderFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return OptimisticOrderFinder.getMithraObjectPortal();
+	}
+
+	public OptimisticOrder getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, OptimisticOrderFinder.description(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, OptimisticOrderFinder.orderDate(), false);
+		changed |= zUpdateString(behavior, data, newData, OptimisticOrderFinder.state(), false);
+		changed |= zUpdateString(behavior, data, newData, OptimisticOrderFinder.trackingId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, OptimisticOrderFinder.userId(), false);
+		if (changed) zIncrementOptimiticAttribute(behavior, data);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, OptimisticOrderFinder.orderId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		OptimisticOrderAbstract result = (OptimisticOrderAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OptimisticOrderWithTimestampListAbstract extends DelegatingList<OptimisticOrderWithTimestamp> implements MithraTransactionalList<OptimisticOrderWithTimestamp>
+{
+	public OptimisticOrderWithTimestampListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OptimisticOrderWithTimestampListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OptimisticOrderWithTimestampListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OptimisticOrderWithTimestampListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OptimisticOrderWithTimestamp[] elements()
+	{
+		OptimisticOrderWithTimestamp[] result = new OptimisticOrderWithTimestamp[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OptimisticOrderWithTimestampList intersection(OptimisticOrderWithTimestampList another)
+	{
+		return (OptimisticOrderWithTimestampList)super.intersection(another);
+	}
+
+	public OptimisticOrderWithTimestamp getOptimisticOrderWithTimestampAt(int index)
+	{
+		return (OptimisticOrderWithTimestamp)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OptimisticOrderWithTimestampFinder.getMithraObjectPortal();
+	}
+
+	public OptimisticOrderWithTimestampList getNonPersistentCopy()
+	{
+		OptimisticOrderWithTimestampList result = new OptimisticOrderWithTimestampList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OptimisticOrderWithTimestampList asAdhoc()
+	{
+		return (OptimisticOrderWithTimestampList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OptimisticOrderWithTimestamp> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OptimisticOrderWithTimestampList merge(MithraTransactionalList<OptimisticOrderWithTimestamp> incoming, TopLevelMergeOptions<OptimisticOrderWithTimestamp> mergeOptions)
+	{
+		return (OptimisticOrderWithTimestampList) super.merge(incoming, mergeOptions);
+	}
+
+	public OptimisticOrderWithTimestampList getDetachedCopy()
+	{
+		OptimisticOrderWithTimestampList result = new OptimisticOrderWithTimestampList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OptimisticOrderWithTimestampFinder.description(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OptimisticOrderWithTimestampFinder.orderDate(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OptimisticOrderWithTimestampFinder.orderId(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OptimisticOrderWithTimestampFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OptimisticOrderWithTimestampFinder.trackingId(), newValue);
+	}
+
+	public void setUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OptimisticOrderWithTimestampFinder.updateTime(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OptimisticOrderWithTimestampFinder.userId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OptimisticOrderWithTimestampFinder.userId());
+	}
+}
@@ -0,0 +1,23 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.InfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderClassificationWiAbstract
+{
+	public int getClassificationId();
+	public void setClassificationId(int newValue);
+	public boolean isClassificationIdNull();
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public OrderWi getOrder();
+	public void setOrder(OrderWi order);
+}
@@ -0,0 +1,200 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderDenormalizedListAbstract extends DelegatingList<OrderDenormalized> implements MithraTransactionalList<OrderDenormalized>
+{
+	public OrderDenormalizedListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderDenormalizedListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderDenormalizedListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderDenormalizedListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderDenormalized[] elements()
+	{
+		OrderDenormalized[] result = new OrderDenormalized[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderDenormalizedList intersection(OrderDenormalizedList another)
+	{
+		return (OrderDenormalizedList)super.intersection(another);
+	}
+
+	public OrderDenormalized getOrderDenormalizedAt(int index)
+	{
+		return (OrderDenormalized)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderDenormalizedFinder.getMithraObjectPortal();
+	}
+
+	public OrderDenormalizedList getNonPersistentCopy()
+	{
+		OrderDenormalizedList result = new OrderDenormalizedList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderDenormalizedList asAdhoc()
+	{
+		return (OrderDenormalizedList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderDenormalized> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderDenormalizedList merge(MithraTransactionalList<OrderDenormalized> incoming, TopLevelMergeOptions<OrderDenormalized> mergeOptions)
+	{
+		return (OrderDenormalizedList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderDenormalizedList getDetachedCopy()
+	{
+		OrderDenormalizedList result = new OrderDenormalizedList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderDenormalizedFinder.description(), newValue);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(OrderDenormalizedFinder.discountPrice(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderDenormalizedFinder.orderDate(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderDenormalizedFinder.orderId(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(OrderDenormalizedFinder.originalPrice(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(OrderDenormalizedFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(OrderDenormalizedFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderDenormalizedFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OrderDenormalizedFinder.trackingId(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderDenormalizedFinder.userId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderDenormalizedFinder.userId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(OrderDenormalizedFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(OrderDenormalizedFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(OrderDenormalizedFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(OrderDenormalizedFinder.discountPrice());
+	}
+}
@@ -0,0 +1,1963 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class OrderItemFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/OrderItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.OrderItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.OrderItem");
+	private static final OrderItemSingleFinder<OrderItem, Object, OrderItem> finder = new OrderItemSingleFinder<OrderItem, Object, OrderItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(OrderItemFinder.OrderItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("orderId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("originalPrice");
+		finderMethodMap.addNormalAttributeName("discountPrice");
+		finderMethodMap.addNormalAttributeName("state");
+		finderMethodMap.addRelationshipName("productInfo");
+		finderMethodMap.addRelationshipName("orderItemStatus");
+		finderMethodMap.addRelationshipName("nullTestOrder");
+		finderMethodMap.addRelationshipName("otherInProgressItems");
+		finderMethodMap.addRelationshipName("otherExpensiveItems");
+		finderMethodMap.addRelationshipName("orderWithIsNull");
+		finderMethodMap.addRelationshipName("order");
+		finderMethodMap.addRelationshipName("orderWithInterface");
+		finderMethodMap.addRelationshipName("readOnlyOrderWithInterface");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[7];
+			result[0] = OrderItemFinder.productId().constructEqualityMapper(ProductFinder.productId());
+			result[1] = ProductFinder.productId().constructEqualityMapper(OrderItemFinder.productId());
+			result[2] = OrderItemFinder.id().constructEqualityMapper(OrderItemStatusFinder.itemId());
+			result[3] = OrderItemStatusFinder.itemId().constructEqualityMapper(OrderItemFinder.id());
+			result[4] = OrderItemFinder.orderId().constructEqualityMapper(OrderFinder.orderId());
+			result[5] = OrderFinder.orderId().constructEqualityMapper(OrderItemFinder.orderId());
+			result[6] = OrderItemFinder.orderId().constructEqualityMapper(OrderItemFinder.orderId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[5];
+			result[0] = OrderItemFinder.quantity().eq(10.5);
+			result[1] = OrderItemFinder.state().notEq("In-Progress");
+			result[2] = OrderItemFinder.orderId().isNotNull();
+			result[3] = OrderItemFinder.state().eq("In-Progress");
+			result[4] = OrderItemFinder.originalPrice().greaterThan(5);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static OrderItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static OrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static OrderItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderItemList) finder.findMany(operation);
+	}
+
+	public static OrderItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (OrderItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static OrderItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (OrderItem) FinderUtils.findOne(found);
+	}
+
+	public static OrderItem findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			OrderItemData _castedTargetData = (OrderItemData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static OrderItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (OrderItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class OrderItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<OrderItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	implements OrderItemInterfaceFinder<OrderItem>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> orderId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private DoubleAttribute<ParentOwnerType> originalPrice;
+		private DoubleAttribute<ParentOwnerType> discountPrice;
+		private StringAttribute<ParentOwnerType> state;
+		private OrderItemProductInfoFinderSubclass<ParentOwnerType> productInfo;
+		private OrderItemOrderItemStatusFinderSubclass<ParentOwnerType> orderItemStatus;
+		private OrderItemNullTestOrderFinderSubclass<ParentOwnerType> nullTestOrder;
+		private OrderItemOtherInProgressItemsFinderSubclass<ParentOwnerType> otherInProgressItems;
+		private OrderItemOtherExpensiveItemsFinderSubclass<ParentOwnerType> otherExpensiveItems;
+		private OrderItemOrderWithIsNullFinderSubclass<ParentOwnerType> orderWithIsNull;
+		private OrderItemOrderFinderSubclass<ParentOwnerType> order;
+		private OrderItemOrderWithInterfaceFinderSubclass<ParentOwnerType> orderWithInterface;
+		private OrderItemReadOnlyOrderWithInterfaceFinderSubclass<ParentOwnerType> readOnlyOrderWithInterface;
+		public OrderItemRelatedFinder()
+		{
+			super();
+		}
+
+		public OrderItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.OrderItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return OrderItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return OrderItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return OrderItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.orderId();
+			attributes[2] = this.productId();
+			attributes[3] = this.quantity();
+			attributes[4] = this.originalPrice();
+			attributes[5] = this.discountPrice();
+			attributes[6] = this.state();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(9);
+				relatedFinders.add(this.productInfo());
+				relatedFinders.add(this.orderItemStatus());
+				relatedFinders.add(this.nullTestOrder());
+				relatedFinders.add(this.otherInProgressItems());
+				relatedFinders.add(this.otherExpensiveItems());
+				relatedFinders.add(this.orderWithIsNull());
+				relatedFinders.add(this.order());
+				relatedFinders.add(this.orderWithInterface());
+				relatedFinders.add(this.readOnlyOrderWithInterface());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.orderItemStatus());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public OrderItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return OrderItemFinder.findOne(operation, false);
+		}
+
+		public OrderItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return OrderItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends OrderItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new OrderItemList((Operation) operation);
+		}
+
+		public MithraList<? extends OrderItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			OrderItemList result = (OrderItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends OrderItem> constructEmptyList()
+		{
+			return new OrderItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1546807644;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderItemFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> orderId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.orderId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ORDER_ID","","orderId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderItemFinder.orderId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("order");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Order", "items");
+				this.orderId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PRODUCT_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(OrderItemFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("productInfo");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QUANTITY","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(OrderItemFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ORIGINAL_PRICE","","originalPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(OrderItemFinder.originalPrice(), this.mapper, this.zGetValueSelector());
+				this.originalPrice = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISCOUNT_PRICE","","discountPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(OrderItemFinder.discountPrice(), this.mapper, this.zGetValueSelector());
+				this.discountPrice = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> state()
+		{
+			StringAttribute<ParentOwnerType> result = this.state;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("STATE","","state",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(OrderItemFinder.state(), this.mapper, this.zGetValueSelector());
+				this.state = result;
+			}
+
+			return result;
+		}
+
+		public ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, OrderItem> productInfo()
+		{
+			OrderItemProductInfoFinderSubclass<ParentOwnerType> result = this.productInfo;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemProductInfoReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemProductInfoFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productInfo = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderItemStatus, OrderItem> orderItemStatus()
+		{
+			OrderItemOrderItemStatusFinderSubclass<ParentOwnerType> result = this.orderItemStatus;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOrderItemStatusReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemOrderItemStatusFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderItemStatus = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> nullTestOrder()
+		{
+			OrderItemNullTestOrderFinderSubclass<ParentOwnerType> result = this.nullTestOrder;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemNullTestOrderReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemNullTestOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nullTestOrder = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, OrderItem> otherInProgressItems()
+		{
+			OrderItemOtherInProgressItemsFinderSubclass<ParentOwnerType> result = this.otherInProgressItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOtherInProgressItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemOtherInProgressItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.otherInProgressItems = result;
+			}
+
+			return result;
+		}
+
+		public OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, OrderItem> otherExpensiveItems()
+		{
+			OrderItemOtherExpensiveItemsFinderSubclass<ParentOwnerType> result = this.otherExpensiveItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOtherExpensiveItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new OrderItemOtherExpensiveItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.otherExpensiveItems = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> orderWithOr(String minDesc, int userId)
+		{
+			OrderItemOrderWithOrFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOrderWithOrReverseMapper(minDesc, userId));
+			newMapper.setToMany(false);
+			result = new OrderItemOrderWithOrFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,minDesc, userId);
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> orderWithIsNull()
+		{
+			OrderItemOrderWithIsNullFinderSubclass<ParentOwnerType> result = this.orderWithIsNull;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOrderWithIsNullReverseMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemOrderWithIsNullFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderWithIsNull = result;
+			}
+
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> orderWithOrIsNull(String minDesc)
+		{
+			OrderItemOrderWithOrIsNullFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOrderWithOrIsNullReverseMapper(minDesc));
+			newMapper.setToMany(false);
+			result = new OrderItemOrderWithOrIsNullFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,minDesc);
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> orderWithAndOr(String minDesc, int userId)
+		{
+			OrderItemOrderWithAndOrFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOrderWithAndOrReverseMapper(minDesc, userId));
+			newMapper.setToMany(false);
+			result = new OrderItemOrderWithAndOrFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,minDesc, userId);
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> overSpecifiedOrder(Set descriptions)
+		{
+			OrderItemOverSpecifiedOrderFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(OrderItemFinder.zGetOrderItemOverSpecifiedOrderReverseMapper(descriptions));
+			newMapper.setToMany(false);
+			result = new OrderItemOverSpecifiedOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,descriptions);
+			return result;
+		}
+
+		public OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem> order()
+		{
+			OrderItemOrderFinderSubclass<ParentOwnerType> result = this.order;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderFinder.zGetOrderItemsMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemOrderFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.order = result;
+			}
+
+			return result;
+		}
+
+		public OrderWiFinder.OrderWiSingleFinderForRelatedClasses<ParentOwnerType, OrderWi, OrderItem> orderWithInterface()
+		{
+			OrderItemOrderWithInterfaceFinderSubclass<ParentOwnerType> result = this.orderWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(OrderWiFinder.zGetOrderWiItemsWithoutInterfacesMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemOrderWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.orderWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public ReadOnlyOrderWiFinder.ReadOnlyOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderWi, OrderItem> readOnlyOrderWithInterface()
+		{
+			OrderItemReadOnlyOrderWithInterfaceFinderSubclass<ParentOwnerType> result = this.readOnlyOrderWithInterface;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ReadOnlyOrderWiFinder.zGetReadOnlyOrderWiItemsWithoutInterfacesMapper());
+				newMapper.setToMany(false);
+				result = new OrderItemReadOnlyOrderWithInterfaceFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.readOnlyOrderWithInterface = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return OrderItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return OrderItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class OrderItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends OrderItemRelatedFinder<ParentOwnerType, ReturnType, OrderItemList, OwnerType>
+	{
+		public OrderItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends OrderItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class OrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends OrderItemRelatedFinder<ParentOwnerType, ReturnType, OrderItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public OrderItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public OrderItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(OrderItem other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public OrderItem findByPrimaryKey(int id)
+		{
+			OrderItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (OrderItem) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class OrderItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends OrderItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public OrderItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productInfoReverseMapper = null;
+	public static Mapper zGetOrderItemProductInfoReverseMapper()
+	{
+		if (productInfoReverseMapper == null)
+		{
+			productInfoReverseMapper = zConstructOrderItemProductInfoReverseMapper();
+		}
+
+		return productInfoReverseMapper;
+	}
+
+	private static Mapper productInfoMapper = null;
+	public static Mapper zGetOrderItemProductInfoMapper()
+	{
+		if (productInfoMapper == null)
+		{
+			productInfoMapper = zConstructOrderItemProductInfoMapper();
+		}
+
+		return productInfoMapper;
+	}
+
+	private static Mapper productInfoPureReverseMapper = null;
+	public static Mapper zGetOrderItemProductInfoPureReverseMapper()
+	{
+		if (productInfoPureReverseMapper == null)
+		{
+			productInfoPureReverseMapper = zConstructOrderItemProductInfoPureReverseMapper();
+		}
+
+		return productInfoPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemProductInfoPureReverseMapper()
+	{
+		Mapper productInfoMapper = OrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructOrderItemProductInfoReverseMapper()
+	{
+		Mapper productInfoMapper = OrderItemFinder.zGetConstantJoin(0);
+		productInfoMapper.setName("productInfo");
+		return productInfoMapper;
+	}
+
+	private static Mapper zConstructOrderItemProductInfoMapper()
+	{
+		Mapper productInfoMapper = OrderItemFinder.zGetConstantJoin(1);
+		productInfoMapper.setName("productInfo_Reverse");
+		return productInfoMapper;
+	}
+
+	private static Mapper orderItemStatusReverseMapper = null;
+	public static Mapper zGetOrderItemOrderItemStatusReverseMapper()
+	{
+		if (orderItemStatusReverseMapper == null)
+		{
+			orderItemStatusReverseMapper = zConstructOrderItemOrderItemStatusReverseMapper();
+		}
+
+		return orderItemStatusReverseMapper;
+	}
+
+	private static Mapper orderItemStatusMapper = null;
+	public static Mapper zGetOrderItemOrderItemStatusMapper()
+	{
+		if (orderItemStatusMapper == null)
+		{
+			orderItemStatusMapper = zConstructOrderItemOrderItemStatusMapper();
+		}
+
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper orderItemStatusPureReverseMapper = null;
+	public static Mapper zGetOrderItemOrderItemStatusPureReverseMapper()
+	{
+		if (orderItemStatusPureReverseMapper == null)
+		{
+			orderItemStatusPureReverseMapper = zConstructOrderItemOrderItemStatusPureReverseMapper();
+		}
+
+		return orderItemStatusPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderItemStatusPureReverseMapper()
+	{
+		Mapper orderItemStatusMapper = OrderItemFinder.zGetConstantJoin(2);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderItemStatusReverseMapper()
+	{
+		Mapper orderItemStatusMapper = OrderItemFinder.zGetConstantJoin(2);
+		orderItemStatusMapper.setName("orderItemStatus");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderItemStatusMapper()
+	{
+		Mapper orderItemStatusMapper = OrderItemFinder.zGetConstantJoin(3);
+		orderItemStatusMapper.setName("orderItem");
+		return orderItemStatusMapper;
+	}
+
+	private static Mapper nullTestOrderReverseMapper = null;
+	public static Mapper zGetOrderItemNullTestOrderReverseMapper()
+	{
+		if (nullTestOrderReverseMapper == null)
+		{
+			nullTestOrderReverseMapper = zConstructOrderItemNullTestOrderReverseMapper();
+		}
+
+		return nullTestOrderReverseMapper;
+	}
+
+	private static Mapper nullTestOrderMapper = null;
+	public static Mapper zGetOrderItemNullTestOrderMapper()
+	{
+		if (nullTestOrderMapper == null)
+		{
+			nullTestOrderMapper = zConstructOrderItemNullTestOrderMapper();
+		}
+
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper nullTestOrderPureReverseMapper = null;
+	public static Mapper zGetOrderItemNullTestOrderPureReverseMapper()
+	{
+		if (nullTestOrderPureReverseMapper == null)
+		{
+			nullTestOrderPureReverseMapper = zConstructOrderItemNullTestOrderPureReverseMapper();
+		}
+
+		return nullTestOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemNullTestOrderPureReverseMapper()
+	{
+		Mapper nullTestOrderMapper = OrderItemFinder.zGetConstantJoin(4);
+		nullTestOrderMapper.setName("nullTestOrder");
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper zConstructOrderItemNullTestOrderReverseMapper()
+	{
+		Mapper nullTestOrderMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper nullTestOrderMapper = new FilteredMapper(nullTestOrderMapperInnerMapper, OrderItemFinder.zGetConstantOperation(2), null);
+		nullTestOrderMapper.setName("nullTestOrder");
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper zConstructOrderItemNullTestOrderMapper()
+	{
+		Mapper nullTestOrderMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper nullTestOrderMapper = new FilteredMapper(nullTestOrderMapperInnerMapper, null, OrderItemFinder.zGetConstantOperation(2));
+		nullTestOrderMapper.setName("nullTestOrder_Reverse");
+		return nullTestOrderMapper;
+	}
+
+	private static Mapper otherInProgressItemsReverseMapper = null;
+	public static Mapper zGetOrderItemOtherInProgressItemsReverseMapper()
+	{
+		if (otherInProgressItemsReverseMapper == null)
+		{
+			otherInProgressItemsReverseMapper = zConstructOrderItemOtherInProgressItemsReverseMapper();
+		}
+
+		return otherInProgressItemsReverseMapper;
+	}
+
+	private static Mapper otherInProgressItemsMapper = null;
+	public static Mapper zGetOrderItemOtherInProgressItemsMapper()
+	{
+		if (otherInProgressItemsMapper == null)
+		{
+			otherInProgressItemsMapper = zConstructOrderItemOtherInProgressItemsMapper();
+		}
+
+		return otherInProgressItemsMapper;
+	}
+
+	private static Mapper otherInProgressItemsPureReverseMapper = null;
+	public static Mapper zGetOrderItemOtherInProgressItemsPureReverseMapper()
+	{
+		if (otherInProgressItemsPureReverseMapper == null)
+		{
+			otherInProgressItemsPureReverseMapper = zConstructOrderItemOtherInProgressItemsPureReverseMapper();
+		}
+
+		return otherInProgressItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOtherInProgressItemsPureReverseMapper()
+	{
+		Mapper otherInProgressItemsMapper = OrderItemFinder.zGetConstantJoin(6);
+		otherInProgressItemsMapper.setName("otherInProgressItems");
+		return otherInProgressItemsMapper;
+	}
+
+	private static Mapper zConstructOrderItemOtherInProgressItemsReverseMapper()
+	{
+		Mapper otherInProgressItemsMapperInnerMapper = OrderItemFinder.zGetConstantJoin(6);
+		Mapper otherInProgressItemsMapper = new FilteredMapper(otherInProgressItemsMapperInnerMapper, null, OrderItemFinder.zGetConstantOperation(3));
+		otherInProgressItemsMapper.setName("otherInProgressItems");
+		return otherInProgressItemsMapper;
+	}
+
+	private static Mapper zConstructOrderItemOtherInProgressItemsMapper()
+	{
+		Mapper otherInProgressItemsMapperInnerMapper = OrderItemFinder.zGetConstantJoin(6);
+		Mapper otherInProgressItemsMapper = new FilteredMapper(otherInProgressItemsMapperInnerMapper, OrderItemFinder.zGetConstantOperation(3), null);
+		otherInProgressItemsMapper.setName("otherInProgressItems_Reverse");
+		return otherInProgressItemsMapper;
+	}
+
+	private static Mapper otherExpensiveItemsReverseMapper = null;
+	public static Mapper zGetOrderItemOtherExpensiveItemsReverseMapper()
+	{
+		if (otherExpensiveItemsReverseMapper == null)
+		{
+			otherExpensiveItemsReverseMapper = zConstructOrderItemOtherExpensiveItemsReverseMapper();
+		}
+
+		return otherExpensiveItemsReverseMapper;
+	}
+
+	private static Mapper otherExpensiveItemsMapper = null;
+	public static Mapper zGetOrderItemOtherExpensiveItemsMapper()
+	{
+		if (otherExpensiveItemsMapper == null)
+		{
+			otherExpensiveItemsMapper = zConstructOrderItemOtherExpensiveItemsMapper();
+		}
+
+		return otherExpensiveItemsMapper;
+	}
+
+	private static Mapper otherExpensiveItemsPureReverseMapper = null;
+	public static Mapper zGetOrderItemOtherExpensiveItemsPureReverseMapper()
+	{
+		if (otherExpensiveItemsPureReverseMapper == null)
+		{
+			otherExpensiveItemsPureReverseMapper = zConstructOrderItemOtherExpensiveItemsPureReverseMapper();
+		}
+
+		return otherExpensiveItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOtherExpensiveItemsPureReverseMapper()
+	{
+		Mapper otherExpensiveItemsMapper = OrderItemFinder.zGetConstantJoin(6);
+		otherExpensiveItemsMapper.setName("otherExpensiveItems");
+		return otherExpensiveItemsMapper;
+	}
+
+	private static Mapper zConstructOrderItemOtherExpensiveItemsReverseMapper()
+	{
+		Mapper otherExpensiveItemsMapperInnerMapper = OrderItemFinder.zGetConstantJoin(6);
+		Mapper otherExpensiveItemsMapper = new FilteredMapper(otherExpensiveItemsMapperInnerMapper, null, OrderItemFinder.zGetConstantOperation(4));
+		otherExpensiveItemsMapper.setName("otherExpensiveItems");
+		return otherExpensiveItemsMapper;
+	}
+
+	private static Mapper zConstructOrderItemOtherExpensiveItemsMapper()
+	{
+		Mapper otherExpensiveItemsMapperInnerMapper = OrderItemFinder.zGetConstantJoin(6);
+		Mapper otherExpensiveItemsMapper = new FilteredMapper(otherExpensiveItemsMapperInnerMapper, OrderItemFinder.zGetConstantOperation(4), null);
+		otherExpensiveItemsMapper.setName("otherExpensiveItems_Reverse");
+		return otherExpensiveItemsMapper;
+	}
+
+	public static Mapper zGetOrderItemOrderWithOrReverseMapper(String minDesc, int userId)
+	{
+		return zConstructOrderItemOrderWithOrReverseMapper(minDesc, userId);
+	}
+
+	public static Mapper zGetOrderItemOrderWithOrMapper(String minDesc, int userId)
+	{
+		return zConstructOrderItemOrderWithOrMapper(minDesc, userId);
+	}
+
+	private static Mapper orderWithOrPureReverseMapper = null;
+	public static Mapper zGetOrderItemOrderWithOrPureReverseMapper()
+	{
+		if (orderWithOrPureReverseMapper == null)
+		{
+			orderWithOrPureReverseMapper = zConstructOrderItemOrderWithOrPureReverseMapper();
+		}
+
+		return orderWithOrPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithOrPureReverseMapper()
+	{
+		Mapper orderWithOrMapper = OrderItemFinder.zGetConstantJoin(4);
+		orderWithOrMapper.setName("orderWithOr");
+		return orderWithOrMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithOrReverseMapper(String minDesc, int userId)
+	{
+		Mapper orderWithOrMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper orderWithOrMapper = new FilteredMapper(orderWithOrMapperInnerMapper, null, OrderFinder.description().greaterThan(minDesc).or(OrderFinder.userId().eq(userId)));
+		orderWithOrMapper.setName("orderWithOr");
+		return orderWithOrMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithOrMapper(String minDesc, int userId)
+	{
+		Mapper orderWithOrMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper orderWithOrMapper = new FilteredMapper(orderWithOrMapperInnerMapper, OrderFinder.description().greaterThan(minDesc).or(OrderFinder.userId().eq(userId)), null);
+		orderWithOrMapper.setName("orderWithOr_Reverse");
+		return orderWithOrMapper;
+	}
+
+	private static Mapper orderWithIsNullReverseMapper = null;
+	public static Mapper zGetOrderItemOrderWithIsNullReverseMapper()
+	{
+		if (orderWithIsNullReverseMapper == null)
+		{
+			orderWithIsNullReverseMapper = zConstructOrderItemOrderWithIsNullReverseMapper();
+		}
+
+		return orderWithIsNullReverseMapper;
+	}
+
+	private static Mapper orderWithIsNullMapper = null;
+	public static Mapper zGetOrderItemOrderWithIsNullMapper()
+	{
+		if (orderWithIsNullMapper == null)
+		{
+			orderWithIsNullMapper = zConstructOrderItemOrderWithIsNullMapper();
+		}
+
+		return orderWithIsNullMapper;
+	}
+
+	private static Mapper orderWithIsNullPureReverseMapper = null;
+	public static Mapper zGetOrderItemOrderWithIsNullPureReverseMapper()
+	{
+		if (orderWithIsNullPureReverseMapper == null)
+		{
+			orderWithIsNullPureReverseMapper = zConstructOrderItemOrderWithIsNullPureReverseMapper();
+		}
+
+		return orderWithIsNullPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithIsNullPureReverseMapper()
+	{
+		Mapper orderWithIsNullMapper = OrderItemFinder.zGetConstantJoin(4);
+		orderWithIsNullMapper.setName("orderWithIsNull");
+		return orderWithIsNullMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithIsNullReverseMapper()
+	{
+		Mapper orderWithIsNullMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper orderWithIsNullMapper = new FilteredMapper(orderWithIsNullMapperInnerMapper, null, OrderFinder.zGetConstantOperation(5));
+		orderWithIsNullMapper.setName("orderWithIsNull");
+		return orderWithIsNullMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithIsNullMapper()
+	{
+		Mapper orderWithIsNullMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper orderWithIsNullMapper = new FilteredMapper(orderWithIsNullMapperInnerMapper, OrderFinder.zGetConstantOperation(5), null);
+		orderWithIsNullMapper.setName("orderWithIsNull_Reverse");
+		return orderWithIsNullMapper;
+	}
+
+	public static Mapper zGetOrderItemOrderWithOrIsNullReverseMapper(String minDesc)
+	{
+		return zConstructOrderItemOrderWithOrIsNullReverseMapper(minDesc);
+	}
+
+	public static Mapper zGetOrderItemOrderWithOrIsNullMapper(String minDesc)
+	{
+		return zConstructOrderItemOrderWithOrIsNullMapper(minDesc);
+	}
+
+	private static Mapper orderWithOrIsNullPureReverseMapper = null;
+	public static Mapper zGetOrderItemOrderWithOrIsNullPureReverseMapper()
+	{
+		if (orderWithOrIsNullPureReverseMapper == null)
+		{
+			orderWithOrIsNullPureReverseMapper = zConstructOrderItemOrderWithOrIsNullPureReverseMapper();
+		}
+
+		return orderWithOrIsNullPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithOrIsNullPureReverseMapper()
+	{
+		Mapper orderWithOrIsNullMapper = OrderItemFinder.zGetConstantJoin(4);
+		orderWithOrIsNullMapper.setName("orderWithOrIsNull");
+		return orderWithOrIsNullMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithOrIsNullReverseMapper(String minDesc)
+	{
+		Mapper orderWithOrIsNullMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper orderWithOrIsNullMapper = new FilteredMapper(orderWithOrIsNullMapperInnerMapper, null, OrderFinder.description().greaterThan(minDesc).or(OrderFinder.zGetConstantOperation(5)));
+		orderWithOrIsNullMapper.setName("orderWithOrIsNull");
+		return orderWithOrIsNullMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithOrIsNullMapper(String minDesc)
+	{
+		Mapper orderWithOrIsNullMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper orderWithOrIsNullMapper = new FilteredMapper(orderWithOrIsNullMapperInnerMapper, OrderFinder.description().greaterThan(minDesc).or(OrderFinder.zGetConstantOperation(5)), null);
+		orderWithOrIsNullMapper.setName("orderWithOrIsNull_Reverse");
+		return orderWithOrIsNullMapper;
+	}
+
+	public static Mapper zGetOrderItemOrderWithAndOrReverseMapper(String minDesc, int userId)
+	{
+		return zConstructOrderItemOrderWithAndOrReverseMapper(minDesc, userId);
+	}
+
+	public static Mapper zGetOrderItemOrderWithAndOrMapper(String minDesc, int userId)
+	{
+		return zConstructOrderItemOrderWithAndOrMapper(minDesc, userId);
+	}
+
+	private static Mapper orderWithAndOrPureReverseMapper = null;
+	public static Mapper zGetOrderItemOrderWithAndOrPureReverseMapper()
+	{
+		if (orderWithAndOrPureReverseMapper == null)
+		{
+			orderWithAndOrPureReverseMapper = zConstructOrderItemOrderWithAndOrPureReverseMapper();
+		}
+
+		return orderWithAndOrPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithAndOrPureReverseMapper()
+	{
+		Mapper orderWithAndOrMapper = OrderItemFinder.zGetConstantJoin(4);
+		orderWithAndOrMapper.setName("orderWithAndOr");
+		return orderWithAndOrMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithAndOrReverseMapper(String minDesc, int userId)
+	{
+		Mapper orderWithAndOrMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper orderWithAndOrMapper = new FilteredMapper(orderWithAndOrMapperInnerMapper, null, OrderFinder.state().greaterThan(minDesc).and(OrderFinder.description().greaterThan(minDesc).or(OrderFinder.userId().eq(userId))));
+		orderWithAndOrMapper.setName("orderWithAndOr");
+		return orderWithAndOrMapper;
+	}
+
+	private static Mapper zConstructOrderItemOrderWithAndOrMapper(String minDesc, int userId)
+	{
+		Mapper orderWithAndOrMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper orderWithAndOrMapper = new FilteredMapper(orderWithAndOrMapperInnerMapper, OrderFinder.state().greaterThan(minDesc).and(OrderFinder.description().greaterThan(minDesc).or(OrderFinder.userId().eq(userId))), null);
+		orderWithAndOrMapper.setName("orderWithAndOr_Reverse");
+		return orderWithAndOrMapper;
+	}
+
+	public static Mapper zGetOrderItemOverSpecifiedOrderReverseMapper(Set descriptions)
+	{
+		return zConstructOrderItemOverSpecifiedOrderReverseMapper(descriptions);
+	}
+
+	public static Mapper zGetOrderItemOverSpecifiedOrderMapper(Set descriptions)
+	{
+		return zConstructOrderItemOverSpecifiedOrderMapper(descriptions);
+	}
+
+	private static Mapper overSpecifiedOrderPureReverseMapper = null;
+	public static Mapper zGetOrderItemOverSpecifiedOrderPureReverseMapper()
+	{
+		if (overSpecifiedOrderPureReverseMapper == null)
+		{
+			overSpecifiedOrderPureReverseMapper = zConstructOrderItemOverSpecifiedOrderPureReverseMapper();
+		}
+
+		return overSpecifiedOrderPureReverseMapper;
+	}
+
+	private static Mapper zConstructOrderItemOverSpecifiedOrderPureReverseMapper()
+	{
+		Mapper overSpecifiedOrderMapper = OrderItemFinder.zGetConstantJoin(4);
+		overSpecifiedOrderMapper.setName("overSpecifiedOrder");
+		return overSpecifiedOrderMapper;
+	}
+
+	private static Mapper zConstructOrderItemOverSpecifiedOrderReverseMapper(Set descriptions)
+	{
+		Mapper overSpecifiedOrderMapperInnerMapper = OrderItemFinder.zGetConstantJoin(4);
+		Mapper overSpecifiedOrderMapper = new FilteredMapper(overSpecifiedOrderMapperInnerMapper, null, OrderFinder.description().in(descriptions));
+		overSpecifiedOrderMapper.setName("overSpecifiedOrder");
+		return overSpecifiedOrderMapper;
+	}
+
+	private static Mapper zConstructOrderItemOverSpecifiedOrderMapper(Set descriptions)
+	{
+		Mapper overSpecifiedOrderMapperInnerMapper = OrderFinder.zGetConstantJoin(0);
+		Mapper overSpecifiedOrderMapper = new FilteredMapper(overSpecifiedOrderMapperInnerMapper, OrderFinder.description().in(descriptions), null);
+		overSpecifiedOrderMapper.setName("overSpecifiedOrder_Reverse");
+		return overSpecifiedOrderMapper;
+	}
+
+	/** maps to ORDER_ITEM.ID **/
+	public static IntegerAttribute<OrderItem> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to ORDER_ITEM.ORDER_ID **/
+	public static IntegerAttribute<OrderItem> orderId()
+	{
+		return finder.orderId();
+	}
+
+	/** maps to ORDER_ITEM.PRODUCT_ID **/
+	public static IntegerAttribute<OrderItem> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to ORDER_ITEM.QUANTITY **/
+	public static DoubleAttribute<OrderItem> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to ORDER_ITEM.ORIGINAL_PRICE **/
+	public static DoubleAttribute<OrderItem> originalPrice()
+	{
+		return finder.originalPrice();
+	}
+
+	/** maps to ORDER_ITEM.DISCOUNT_PRICE **/
+	public static DoubleAttribute<OrderItem> discountPrice()
+	{
+		return finder.discountPrice();
+	}
+
+	/** maps to ORDER_ITEM.STATE **/
+	public static StringAttribute<OrderItem> state()
+	{
+		return finder.state();
+	}
+
+	public static ProductFinder.ProductSingleFinderForRelatedClasses<OrderItem, Product, OrderItem> productInfo()
+	{
+		return finder.productInfo();
+	}
+
+	public static class OrderItemProductInfoFinderSubclass<ParentOwnerType> extends ProductFinder.ProductSingleFinderForRelatedClasses<ParentOwnerType, Product, OrderItem>
+	{
+		public OrderItemProductInfoFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "productInfo";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemProductInfoFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Product plainValueOf(OrderItem _obj)
+		{
+			return _obj.getProductInfo();
+		}
+
+		protected ProductList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getProductInfos();
+		}
+	}
+
+	public static OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<OrderItem, OrderItemStatus, OrderItem> orderItemStatus()
+	{
+		return finder.orderItemStatus();
+	}
+
+	public static class OrderItemOrderItemStatusFinderSubclass<ParentOwnerType> extends OrderItemStatusFinder.OrderItemStatusSingleFinderForRelatedClasses<ParentOwnerType, OrderItemStatus, OrderItem>
+	{
+		public OrderItemOrderItemStatusFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderItemStatus";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderItemStatusFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((OrderItem) _obj).isOrderItemStatusModifiedSinceDetachment();
+		}
+
+		protected OrderItemStatus plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrderItemStatus();
+		}
+
+		protected OrderItemStatusList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrderItemStatus();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> nullTestOrder()
+	{
+		return finder.nullTestOrder();
+	}
+
+	public static class OrderItemNullTestOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		public OrderItemNullTestOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "nullTestOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemNullTestOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getNullTestOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getNullTestOrders();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<OrderItem, OrderItemList, OrderItem> otherInProgressItems()
+	{
+		return finder.otherInProgressItems();
+	}
+
+	public static class OrderItemOtherInProgressItemsFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, OrderItem>
+	{
+		public OrderItemOtherInProgressItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "otherInProgressItems";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				OrderItemFinder.orderId(),
+				OrderItemFinder.state()).withExtractors(
+				OrderItemFinder.orderId(),
+				((OperationWithParameterExtractor)OrderItemFinder.zGetConstantOperation(3)).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOtherInProgressItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOtherInProgressItems();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOtherInProgressItems();
+		}
+	}
+
+	public static OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<OrderItem, OrderItemList, OrderItem> otherExpensiveItems()
+	{
+		return finder.otherExpensiveItems();
+	}
+
+	public static class OrderItemOtherExpensiveItemsFinderSubclass<ParentOwnerType> extends OrderItemFinder.OrderItemCollectionFinderForRelatedClasses<ParentOwnerType, OrderItemList, OrderItem>
+	{
+		public OrderItemOtherExpensiveItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "otherExpensiveItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOtherExpensiveItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderItemList plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOtherExpensiveItems();
+		}
+
+		protected OrderItemList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOtherExpensiveItems();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> orderWithOr(String minDesc, int userId)
+	{
+		return finder.orderWithOr(minDesc, userId);
+	}
+
+	public static class OrderItemOrderWithOrFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		private String minDesc;
+		private int userId;
+		public OrderItemOrderWithOrFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String minDesc, int userId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.minDesc = minDesc;
+			this.userId = userId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderWithOr";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderWithOrFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.minDesc
+			, this.userId
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrderWithOr(minDesc, userId);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrderWithOrs(minDesc, userId);
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> orderWithIsNull()
+	{
+		return finder.orderWithIsNull();
+	}
+
+	public static class OrderItemOrderWithIsNullFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		public OrderItemOrderWithIsNullFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderWithIsNull";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderWithIsNullFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrderWithIsNull();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrderWithIsNulls();
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> orderWithOrIsNull(String minDesc)
+	{
+		return finder.orderWithOrIsNull(minDesc);
+	}
+
+	public static class OrderItemOrderWithOrIsNullFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		private String minDesc;
+		public OrderItemOrderWithOrIsNullFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String minDesc)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.minDesc = minDesc;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderWithOrIsNull";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderWithOrIsNullFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.minDesc
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrderWithOrIsNull(minDesc);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrderWithOrIsNulls(minDesc);
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> orderWithAndOr(String minDesc, int userId)
+	{
+		return finder.orderWithAndOr(minDesc, userId);
+	}
+
+	public static class OrderItemOrderWithAndOrFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		private String minDesc;
+		private int userId;
+		public OrderItemOrderWithAndOrFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String minDesc, int userId)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.minDesc = minDesc;
+			this.userId = userId;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderWithAndOr";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderWithAndOrFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.minDesc
+			, this.userId
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrderWithAndOr(minDesc, userId);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrderWithAndOrs(minDesc, userId);
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> overSpecifiedOrder(Set descriptions)
+	{
+		return finder.overSpecifiedOrder(descriptions);
+	}
+
+	public static class OrderItemOverSpecifiedOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		private Set descriptions;
+		public OrderItemOverSpecifiedOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Set descriptions)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.descriptions = descriptions;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "overSpecifiedOrder";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOverSpecifiedOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.descriptions
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOverSpecifiedOrder(descriptions);
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOverSpecifiedOrders(descriptions);
+		}
+	}
+
+	public static OrderFinder.OrderSingleFinderForRelatedClasses<OrderItem, Order, OrderItem> order()
+	{
+		return finder.order();
+	}
+
+	public static class OrderItemOrderFinderSubclass<ParentOwnerType> extends OrderFinder.OrderSingleFinderForRelatedClasses<ParentOwnerType, Order, OrderItem>
+	{
+		public OrderItemOrderFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "order";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Order plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrder();
+		}
+
+		protected OrderList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrders();
+		}
+	}
+
+	public static OrderWiFinder.OrderWiSingleFinderForRelatedClasses<OrderItem, OrderWi, OrderItem> orderWithInterface()
+	{
+		return finder.orderWithInterface();
+	}
+
+	public static class OrderItemOrderWithInterfaceFinderSubclass<ParentOwnerType> extends OrderWiFinder.OrderWiSingleFinderForRelatedClasses<ParentOwnerType, OrderWi, OrderItem>
+	{
+		public OrderItemOrderWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "orderWithInterface";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemOrderWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected OrderWi plainValueOf(OrderItem _obj)
+		{
+			return _obj.getOrderWithInterface();
+		}
+
+		protected OrderWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getOrderWithInterfaces();
+		}
+	}
+
+	public static ReadOnlyOrderWiFinder.ReadOnlyOrderWiSingleFinderForRelatedClasses<OrderItem, ReadOnlyOrderWi, OrderItem> readOnlyOrderWithInterface()
+	{
+		return finder.readOnlyOrderWithInterface();
+	}
+
+	public static class OrderItemReadOnlyOrderWithInterfaceFinderSubclass<ParentOwnerType> extends ReadOnlyOrderWiFinder.ReadOnlyOrderWiSingleFinderForRelatedClasses<ParentOwnerType, ReadOnlyOrderWi, OrderItem>
+	{
+		public OrderItemReadOnlyOrderWithInterfaceFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "readOnlyOrderWithInterface";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new OrderItemReadOnlyOrderWithInterfaceFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ReadOnlyOrderWi plainValueOf(OrderItem _obj)
+		{
+			return _obj.getReadOnlyOrderWithInterface();
+		}
+
+		protected ReadOnlyOrderWiList plainListValueOf(Object _obj)
+		{
+			return ((OrderItemList)_obj).getReadOnlyOrderWithInterfaces();
+		}
+	}
+
+	public static Operation eq(OrderItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static OrderItemSingleFinder<OrderItem, Object, OrderItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, productId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			orderId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			orderId()
+			, productId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			orderId()
+			, state()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderWiFinder.getFinderInstance(),ProductFinder.getFinderInstance(),ReadOnlyOrderWiFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			OrderFinder.getFinderInstance(),OrderWiFinder.getFinderInstance(),ProductFinder.getFinderInstance(),ReadOnlyOrderWiFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[3];
+		result[0] = quantity();
+		result[1] = originalPrice();
+		result[2] = discountPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.OrderItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderItemStatusListAbstract extends DelegatingList<OrderItemStatus> implements MithraTransactionalList<OrderItemStatus>
+{
+	public OrderItemStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderItemStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderItemStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderItemStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderItemStatus[] elements()
+	{
+		OrderItemStatus[] result = new OrderItemStatus[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderItemStatusList intersection(OrderItemStatusList another)
+	{
+		return (OrderItemStatusList)super.intersection(another);
+	}
+
+	public OrderItemStatus getOrderItemStatusAt(int index)
+	{
+		return (OrderItemStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.id = this.itemId</pre>
+	* @see OrderItem#getOrderItemStatus() reverse relationship OrderItem.getOrderItemStatus()
+	* @return The order item
+	*/
+	public OrderItemList getOrderItems()
+	{
+		return (OrderItemList) this.getDelegated().resolveRelationship(this, OrderItemStatusFinder.orderItem());
+	}
+
+	public void zSetParentContainerorderItem(OrderItemAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderItemStatus item = this.getOrderItemStatusAt(i);
+			item.zSetParentContainerorderItem(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderItemStatusFinder.getMithraObjectPortal();
+	}
+
+	public OrderItemStatusList getNonPersistentCopy()
+	{
+		OrderItemStatusList result = new OrderItemStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderItemStatusList asAdhoc()
+	{
+		return (OrderItemStatusList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderItemStatus> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderItemStatusList merge(MithraTransactionalList<OrderItemStatus> incoming, TopLevelMergeOptions<OrderItemStatus> mergeOptions)
+	{
+		return (OrderItemStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderItemStatusList getDetachedCopy()
+	{
+		OrderItemStatusList result = new OrderItemStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(OrderItemStatusFinder.itemId(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderItemStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(OrderItemStatusFinder.lastUser(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderItemStatusFinder.status(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(OrderItemStatusFinder.status());
+	}
+}
@@ -0,0 +1,43 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderItemWiAbstract
+{
+	public double getDiscountPrice();
+	public void setDiscountPrice(double newValue);
+	public boolean isDiscountPriceNull();
+	public int getId();
+	public void setId(int newValue);
+	public boolean isIdNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public double getOriginalPrice();
+	public void setOriginalPrice(double newValue);
+	public boolean isOriginalPriceNull();
+	public int getProductId();
+	public void setProductId(int newValue);
+	public boolean isProductIdNull();
+	public double getQuantity();
+	public void setQuantity(double newValue);
+	public boolean isQuantityNull();
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public void setOrderIdNull();
+	public void setProductIdNull();
+	public void setQuantityNull();
+	public void setOriginalPriceNull();
+	public void setDiscountPriceNull();
+	public Product getProductInfo();
+	public void setProductInfo(Product productInfo);
+	public Order getOrderWithoutInterface();
+	public void setOrderWithoutInterface(Order orderWithoutInterface);
+	public OrderWi getOrder();
+	public void setOrder(OrderWi order);
+}
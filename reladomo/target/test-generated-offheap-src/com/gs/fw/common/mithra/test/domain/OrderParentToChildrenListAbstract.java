@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderParentToChildrenListAbstract extends DelegatingList<OrderParentToChildren> implements MithraTransactionalList<OrderParentToChildren>
+{
+	public OrderParentToChildrenListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderParentToChildrenListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderParentToChildrenListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderParentToChildrenListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderParentToChildren[] elements()
+	{
+		OrderParentToChildren[] result = new OrderParentToChildren[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderParentToChildrenList intersection(OrderParentToChildrenList another)
+	{
+		return (OrderParentToChildrenList)super.intersection(another);
+	}
+
+	public OrderParentToChildren getOrderParentToChildrenAt(int index)
+	{
+		return (OrderParentToChildren)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.parentOrderId = Order.orderId</pre>
+	* @see Order#getParentToChildAsParent() reverse relationship Order.getParentToChildAsParent()
+	* @return The parent order
+	*/
+	public OrderList getParentOrders()
+	{
+		return (OrderList) this.getDelegated().resolveRelationship(this, OrderParentToChildrenFinder.parentOrder());
+	}
+
+	public void zSetParentContainerparentOrder(OrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderParentToChildren item = this.getOrderParentToChildrenAt(i);
+			item.zSetParentContainerparentOrder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.childOrderId = Order.orderId</pre>
+	* @see Order#getParentToChildAsChild() reverse relationship Order.getParentToChildAsChild()
+	* @return The child order
+	*/
+	public OrderList getChildOrders()
+	{
+		return (OrderList) this.getDelegated().resolveRelationship(this, OrderParentToChildrenFinder.childOrder());
+	}
+
+	public void zSetParentContainerchildOrder(OrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderParentToChildren item = this.getOrderParentToChildrenAt(i);
+			item.zSetParentContainerchildOrder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderParentToChildrenFinder.getMithraObjectPortal();
+	}
+
+	public OrderParentToChildrenList getNonPersistentCopy()
+	{
+		OrderParentToChildrenList result = new OrderParentToChildrenList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderParentToChildrenList asAdhoc()
+	{
+		return (OrderParentToChildrenList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderParentToChildren> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderParentToChildrenList merge(MithraTransactionalList<OrderParentToChildren> incoming, TopLevelMergeOptions<OrderParentToChildren> mergeOptions)
+	{
+		return (OrderParentToChildrenList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderParentToChildrenList getDetachedCopy()
+	{
+		OrderParentToChildrenList result = new OrderParentToChildrenList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setChildOrderId(int newValue)
+	{
+		zSetInteger(OrderParentToChildrenFinder.childOrderId(), newValue);
+	}
+
+	public void setParentOrderId(int newValue)
+	{
+		zSetInteger(OrderParentToChildrenFinder.parentOrderId(), newValue);
+	}
+
+	public void setParentOrderIdNull()
+	{
+		zSetAttributeNull(OrderParentToChildrenFinder.parentOrderId());
+	}
+}
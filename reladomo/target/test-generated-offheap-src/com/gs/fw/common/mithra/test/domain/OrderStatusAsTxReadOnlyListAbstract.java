@@ -0,0 +1,175 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderStatusAsTxReadOnlyListAbstract extends DelegatingList<OrderStatusAsTxReadOnly> implements MithraTransactionalList<OrderStatusAsTxReadOnly>
+{
+	public OrderStatusAsTxReadOnlyListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderStatusAsTxReadOnlyListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderStatusAsTxReadOnlyListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderStatusAsTxReadOnlyListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderStatusAsTxReadOnly[] elements()
+	{
+		OrderStatusAsTxReadOnly[] result = new OrderStatusAsTxReadOnly[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderStatusAsTxReadOnlyList intersection(OrderStatusAsTxReadOnlyList another)
+	{
+		return (OrderStatusAsTxReadOnlyList)super.intersection(another);
+	}
+
+	public OrderStatusAsTxReadOnly getOrderStatusAsTxReadOnlyAt(int index)
+	{
+		return (OrderStatusAsTxReadOnly)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderAsTxReadOnly.orderId</pre>
+	* @see OrderAsTxReadOnly#getOrderStatus() reverse relationship OrderAsTxReadOnly.getOrderStatus()
+	* @return The order
+	*/
+	public OrderAsTxReadOnlyList getOrders()
+	{
+		return (OrderAsTxReadOnlyList) this.getDelegated().resolveRelationship(this, OrderStatusAsTxReadOnlyFinder.order());
+	}
+
+	public void zSetParentContainerorder(OrderAsTxReadOnlyAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderStatusAsTxReadOnly item = this.getOrderStatusAsTxReadOnlyAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderStatusAsTxReadOnlyFinder.getMithraObjectPortal();
+	}
+
+	public OrderStatusAsTxReadOnlyList getNonPersistentCopy()
+	{
+		OrderStatusAsTxReadOnlyList result = new OrderStatusAsTxReadOnlyList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderStatusAsTxReadOnlyList asAdhoc()
+	{
+		return (OrderStatusAsTxReadOnlyList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderStatusAsTxReadOnly> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderStatusAsTxReadOnlyList merge(MithraTransactionalList<OrderStatusAsTxReadOnly> incoming, TopLevelMergeOptions<OrderStatusAsTxReadOnly> mergeOptions)
+	{
+		return (OrderStatusAsTxReadOnlyList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderStatusAsTxReadOnlyList getDetachedCopy()
+	{
+		OrderStatusAsTxReadOnlyList result = new OrderStatusAsTxReadOnlyList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setExpectedDate(Date newValue)
+	{
+		zSetDate(OrderStatusAsTxReadOnlyFinder.expectedDate(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderStatusAsTxReadOnlyFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(OrderStatusAsTxReadOnlyFinder.lastUser(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderStatusAsTxReadOnlyFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderStatusAsTxReadOnlyFinder.status(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(OrderStatusAsTxReadOnlyFinder.status());
+	}
+}
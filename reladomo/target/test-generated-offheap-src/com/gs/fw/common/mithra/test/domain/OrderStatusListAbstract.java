@@ -0,0 +1,215 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderStatusListAbstract extends DelegatingList<OrderStatus> implements MithraTransactionalList<OrderStatus>
+{
+	public OrderStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderStatus[] elements()
+	{
+		OrderStatus[] result = new OrderStatus[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderStatusList intersection(OrderStatusList another)
+	{
+		return (OrderStatusList)super.intersection(another);
+	}
+
+	public OrderStatus getOrderStatusAt(int index)
+	{
+		return (OrderStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = Order.orderId</pre>
+	* @see Order#getOrderStatus() reverse relationship Order.getOrderStatus()
+	* @return The order
+	*/
+	public OrderList getOrders()
+	{
+		return (OrderList) this.getDelegated().resolveRelationship(this, OrderStatusFinder.order());
+	}
+
+	public void zSetParentContainerorder(OrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderStatus item = this.getOrderStatusAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = OrderWi.orderId</pre>
+	* @see OrderWi#getOrderStatusWithoutInterfaces() reverse relationship OrderWi.getOrderStatusWithoutInterfaces()
+	* @return The order with interface
+	*/
+	public OrderWiList getOrderWithInterfaces()
+	{
+		return (OrderWiList) this.getDelegated().resolveRelationship(this, OrderStatusFinder.orderWithInterface());
+	}
+
+	public void zSetParentContainerorderWithInterface(OrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderStatus item = this.getOrderStatusAt(i);
+			item.zSetParentContainerorderWithInterface(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyOrderWi.orderId</pre>
+	* @see ReadOnlyOrderWi#getOrderStatusWithoutInterfaces() reverse relationship ReadOnlyOrderWi.getOrderStatusWithoutInterfaces()
+	* @return The read only order with interface
+	*/
+	public ReadOnlyOrderWiList getReadOnlyOrderWithInterfaces()
+	{
+		return (ReadOnlyOrderWiList) this.getDelegated().resolveRelationship(this, OrderStatusFinder.readOnlyOrderWithInterface());
+	}
+
+	public void zSetParentContainerreadOnlyOrderWithInterface(ReadOnlyOrderWiImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			OrderStatus item = this.getOrderStatusAt(i);
+			item.zSetParentContainerreadOnlyOrderWithInterface(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderStatusFinder.getMithraObjectPortal();
+	}
+
+	public OrderStatusList getNonPersistentCopy()
+	{
+		OrderStatusList result = new OrderStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderStatusList asAdhoc()
+	{
+		return (OrderStatusList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderStatus> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderStatusList merge(MithraTransactionalList<OrderStatus> incoming, TopLevelMergeOptions<OrderStatus> mergeOptions)
+	{
+		return (OrderStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderStatusList getDetachedCopy()
+	{
+		OrderStatusList result = new OrderStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setExpectedDate(Date newValue)
+	{
+		zSetDate(OrderStatusFinder.expectedDate(), newValue);
+	}
+
+	public void setLastUpdateTime(Timestamp newValue)
+	{
+		zSetTimestamp(OrderStatusFinder.lastUpdateTime(), newValue);
+	}
+
+	public void setLastUser(String newValue)
+	{
+		zSetString(OrderStatusFinder.lastUser(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderStatusFinder.orderId(), newValue);
+	}
+
+	public void setStatus(int newValue)
+	{
+		zSetInteger(OrderStatusFinder.status(), newValue);
+	}
+
+	public void setStatusNull()
+	{
+		zSetAttributeNull(OrderStatusFinder.status());
+	}
+}
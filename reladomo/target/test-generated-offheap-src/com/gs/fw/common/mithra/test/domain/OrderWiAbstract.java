@@ -0,0 +1,43 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface OrderWiAbstract
+{
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public Timestamp getOrderDate();
+	public void setOrderDate(Timestamp newValue);
+	public boolean isOrderDateNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public String getTrackingId();
+	public void setTrackingId(String newValue);
+	public boolean isTrackingIdNull();
+	public int getUserId();
+	public void setUserId(int newValue);
+	public boolean isUserIdNull();
+	public void setUserIdNull();
+	public OrderItemWiList getItems();
+	public void setItems(OrderItemWiList items);
+	public OrderItemList getItemsWithoutInterfaces();
+	public void setItemsWithoutInterfaces(OrderItemList itemsWithoutInterfaces);
+	public OrderStatusWi getOrderStatus();
+	public void setOrderStatus(OrderStatusWi orderStatus);
+	public OrderStatus getOrderStatusWithoutInterfaces();
+	public void setOrderStatusWithoutInterfaces(OrderStatus orderStatusWithoutInterfaces);
+	public List getCheapItems(double price);
+	public List getCheapItemsWithoutInterfaces(double price);
+	public OrderClassificationWiList getClassifications();
+	public void setClassifications(OrderClassificationWiList classifications);
+	public OrderClassificationWi getClassificationById(int classificationId);
+}
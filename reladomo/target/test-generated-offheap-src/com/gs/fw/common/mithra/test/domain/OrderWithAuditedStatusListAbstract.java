@@ -0,0 +1,175 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderWithAuditedStatusListAbstract extends DelegatingList<OrderWithAuditedStatus> implements MithraTransactionalList<OrderWithAuditedStatus>
+{
+	public OrderWithAuditedStatusListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderWithAuditedStatusListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderWithAuditedStatusListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderWithAuditedStatusListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderWithAuditedStatus[] elements()
+	{
+		OrderWithAuditedStatus[] result = new OrderWithAuditedStatus[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderWithAuditedStatusList intersection(OrderWithAuditedStatusList another)
+	{
+		return (OrderWithAuditedStatusList)super.intersection(another);
+	}
+
+	public OrderWithAuditedStatus getOrderWithAuditedStatusAt(int index)
+	{
+		return (OrderWithAuditedStatus)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	AuditedOrderStatusWithNonDatedOrder.orderId = this.orderId</pre>
+	* @see AuditedOrderStatusWithNonDatedOrder#getOrder() reverse relationship AuditedOrderStatusWithNonDatedOrder.getOrder()
+	* @return The order status
+	*/
+	public AuditedOrderStatusWithNonDatedOrderList getOrderStatus()
+	{
+		return (AuditedOrderStatusWithNonDatedOrderList) this.getDelegated().resolveRelationship(this, OrderWithAuditedStatusFinder.orderStatus());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderWithAuditedStatusFinder.getMithraObjectPortal();
+	}
+
+	public OrderWithAuditedStatusList getNonPersistentCopy()
+	{
+		OrderWithAuditedStatusList result = new OrderWithAuditedStatusList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderWithAuditedStatusList asAdhoc()
+	{
+		return (OrderWithAuditedStatusList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderWithAuditedStatus> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderWithAuditedStatusList merge(MithraTransactionalList<OrderWithAuditedStatus> incoming, TopLevelMergeOptions<OrderWithAuditedStatus> mergeOptions)
+	{
+		return (OrderWithAuditedStatusList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderWithAuditedStatusList getDetachedCopy()
+	{
+		OrderWithAuditedStatusList result = new OrderWithAuditedStatusList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderWithAuditedStatusFinder.description(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderWithAuditedStatusFinder.orderDate(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderWithAuditedStatusFinder.orderId(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderWithAuditedStatusFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OrderWithAuditedStatusFinder.trackingId(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderWithAuditedStatusFinder.userId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderWithAuditedStatusFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class OrderWithExtraColumnListAbstract extends DelegatingList<OrderWithExtraColumn> implements MithraTransactionalList<OrderWithExtraColumn>
+{
+	public OrderWithExtraColumnListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public OrderWithExtraColumnListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public OrderWithExtraColumnListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public OrderWithExtraColumnListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public OrderWithExtraColumn[] elements()
+	{
+		OrderWithExtraColumn[] result = new OrderWithExtraColumn[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public OrderWithExtraColumnList intersection(OrderWithExtraColumnList another)
+	{
+		return (OrderWithExtraColumnList)super.intersection(another);
+	}
+
+	public OrderWithExtraColumn getOrderWithExtraColumnAt(int index)
+	{
+		return (OrderWithExtraColumn)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return OrderWithExtraColumnFinder.getMithraObjectPortal();
+	}
+
+	public OrderWithExtraColumnList getNonPersistentCopy()
+	{
+		OrderWithExtraColumnList result = new OrderWithExtraColumnList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public OrderWithExtraColumnList asAdhoc()
+	{
+		return (OrderWithExtraColumnList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<OrderWithExtraColumn> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public OrderWithExtraColumnList merge(MithraTransactionalList<OrderWithExtraColumn> incoming, TopLevelMergeOptions<OrderWithExtraColumn> mergeOptions)
+	{
+		return (OrderWithExtraColumnList) super.merge(incoming, mergeOptions);
+	}
+
+	public OrderWithExtraColumnList getDetachedCopy()
+	{
+		OrderWithExtraColumnList result = new OrderWithExtraColumnList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(OrderWithExtraColumnFinder.description(), newValue);
+	}
+
+	public void setExtraColumn(String newValue)
+	{
+		zSetString(OrderWithExtraColumnFinder.extraColumn(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(OrderWithExtraColumnFinder.orderDate(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(OrderWithExtraColumnFinder.orderId(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(OrderWithExtraColumnFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(OrderWithExtraColumnFinder.trackingId(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(OrderWithExtraColumnFinder.userId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(OrderWithExtraColumnFinder.userId());
+	}
+}
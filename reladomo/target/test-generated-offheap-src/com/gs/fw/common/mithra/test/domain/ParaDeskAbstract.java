@@ -0,0 +1,570 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ParaDeskAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private byte isNullBits0 = 0;
+	private boolean activeBoolean;
+	private BigDecimal bigDouble;
+	private Date closedDate;
+	private long connectionLong;
+	private Timestamp createTimestamp;
+	private String deskIdString;
+	private byte locationByte;
+	private float maxFloat;
+	private short minShort;
+	private double sizeDouble;
+	private char statusChar;
+	private int tagInt;
+	public boolean isBigDoubleNull()
+	{
+		return this.getBigDouble() == null;
+	}
+
+	public boolean isClosedDateNull()
+	{
+		return this.getClosedDate() == null;
+	}
+
+	public boolean isCreateTimestampNull()
+	{
+		return this.getCreateTimestamp() == null;
+	}
+
+	public boolean isDeskIdStringNull()
+	{
+		return this.getDeskIdString() == null;
+	}
+
+	public boolean isActiveBooleanNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isSizeDoubleNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isConnectionLongNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isTagIntNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isStatusCharNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isLocationByteNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isMaxFloatNull()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isMinShortNull()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeBoolean(this.activeBoolean);
+		out.writeObject(this.bigDouble);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.closedDate);
+		out.writeLong(this.connectionLong);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.createTimestamp);
+		out.writeObject(this.deskIdString);
+		out.writeByte(this.locationByte);
+		out.writeFloat(this.maxFloat);
+		out.writeShort(this.minShort);
+		out.writeDouble(this.sizeDouble);
+		out.writeChar(this.statusChar);
+		out.writeInt(this.tagInt);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ParaDeskData data = new ParaDeskData();
+		data.setActiveBoolean(activeBoolean);
+		data.setBigDouble(bigDouble);
+		data.setClosedDate(closedDate);
+		data.setConnectionLong(connectionLong);
+		data.setCreateTimestamp(createTimestamp);
+		data.setDeskIdString(deskIdString);
+		data.setLocationByte(locationByte);
+		data.setMaxFloat(maxFloat);
+		data.setMinShort(minShort);
+		data.setSizeDouble(sizeDouble);
+		data.setStatusChar(statusChar);
+		data.setTagInt(tagInt);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ParaDesk getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ParaDeskAbstract copy = (ParaDeskAbstract) ParaDeskFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ParaDesk)copy;
+	}
+
+	protected void zSetFromParaDeskData(ParaDeskData data)
+	{
+		this.setFromParaDeskData(data);
+	}
+
+	public void setFromParaDeskData(ParaDeskData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		activeBoolean = data.isActiveBoolean();
+		bigDouble = data.getBigDouble();
+		closedDate = data.getClosedDate();
+		connectionLong = data.getConnectionLong();
+		createTimestamp = data.getCreateTimestamp();
+		deskIdString = data.getDeskIdString();
+		locationByte = data.getLocationByte();
+		maxFloat = data.getMaxFloat();
+		minShort = data.getMinShort();
+		sizeDouble = data.getSizeDouble();
+		statusChar = data.getStatusChar();
+		tagInt = data.getTagInt();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParaDeskFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromParaDeskData((ParaDeskData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public boolean isActiveBoolean()
+	{
+		if (isActiveBooleanNull()) throwNullPrimitiveException("activeBoolean");
+		return this.activeBoolean;
+	}
+
+	public void setActiveBoolean(boolean value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.activeBoolean = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public BigDecimal getBigDouble()
+	{
+		return this.bigDouble;
+	}
+
+	public void setBigDouble(BigDecimal value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.bigDouble = value;
+	}
+
+	public Date getClosedDate()
+	{
+		return this.closedDate;
+	}
+
+	public void setClosedDate(java.util.Date value)
+	{
+		this.ensureSetAttributeAllowed();
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.closedDate = value;
+		}
+		else
+		{
+			this.closedDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public long getConnectionLong()
+	{
+		if (isConnectionLongNull()) throwNullPrimitiveException("connectionLong");
+		return this.connectionLong;
+	}
+
+	public void setConnectionLong(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.connectionLong = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public Timestamp getCreateTimestamp()
+	{
+		return this.createTimestamp;
+	}
+
+	public void setCreateTimestamp(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.createTimestamp = TimestampPool.getInstance().getOrAddToCache(value, ParaDeskFinder.isFullCache());
+	}
+
+	public String getDeskIdString()
+	{
+		return this.deskIdString;
+	}
+
+	public void setDeskIdString(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.deskIdString = StringPool.getInstance().getOrAddToCache(value, ParaDeskFinder.isFullCache());
+	}
+
+	public byte getLocationByte()
+	{
+		if (isLocationByteNull()) throwNullPrimitiveException("locationByte");
+		return this.locationByte;
+	}
+
+	public void setLocationByte(byte value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.locationByte = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public float getMaxFloat()
+	{
+		if (isMaxFloatNull()) throwNullPrimitiveException("maxFloat");
+		return this.maxFloat;
+	}
+
+	public void setMaxFloat(float value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.maxFloat = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 6));
+	}
+
+	public short getMinShort()
+	{
+		if (isMinShortNull()) throwNullPrimitiveException("minShort");
+		return this.minShort;
+	}
+
+	public void setMinShort(short value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.minShort = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 7));
+	}
+
+	public double getSizeDouble()
+	{
+		if (isSizeDoubleNull()) throwNullPrimitiveException("sizeDouble");
+		return this.sizeDouble;
+	}
+
+	public void setSizeDouble(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.sizeDouble = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public char getStatusChar()
+	{
+		if (isStatusCharNull()) throwNullPrimitiveException("statusChar");
+		return this.statusChar;
+	}
+
+	public void setStatusChar(char value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.statusChar = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public int getTagInt()
+	{
+		if (isTagIntNull()) throwNullPrimitiveException("tagInt");
+		return this.tagInt;
+	}
+
+	public void setTagInt(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.tagInt = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setActiveBooleanNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setSizeDoubleNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setConnectionLongNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setTagIntNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setStatusCharNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setLocationByteNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public void setMaxFloatNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 6);
+	}
+
+	public void setMinShortNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 7);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ParaDeskData paraDeskData = (ParaDeskData) newData;
+		if (isNullBits0 != paraDeskData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (activeBoolean != paraDeskData.isActiveBoolean())
+		{
+			return true;
+		}
+
+		if (!isBigDoubleNull() ? !getBigDouble().equals(paraDeskData.getBigDouble()) : !paraDeskData.isBigDoubleNull())
+		{
+			return true;
+		}
+
+		if (!isClosedDateNull() ? !getClosedDate().equals(paraDeskData.getClosedDate()) : !paraDeskData.isClosedDateNull())
+		{
+			return true;
+		}
+
+		if (connectionLong != paraDeskData.getConnectionLong())
+		{
+			return true;
+		}
+
+		if (!isCreateTimestampNull() ? !getCreateTimestamp().equals(paraDeskData.getCreateTimestamp()) : !paraDeskData.isCreateTimestampNull())
+		{
+			return true;
+		}
+
+		if (locationByte != paraDeskData.getLocationByte())
+		{
+			return true;
+		}
+
+		if (maxFloat != paraDeskData.getMaxFloat())
+		{
+			return true;
+		}
+
+		if (minShort != paraDeskData.getMinShort())
+		{
+			return true;
+		}
+
+		if (sizeDouble != paraDeskData.getSizeDouble())
+		{
+			return true;
+		}
+
+		if (statusChar != paraDeskData.getStatusChar())
+		{
+			return true;
+		}
+
+		if (tagInt != paraDeskData.getTagInt())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskIdString: "+"'"+getDeskIdString()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeObject(this.deskIdString);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.activeBoolean = in.readBoolean();
+			this.bigDouble = (BigDecimal)in.readObject();
+			this.closedDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+			this.connectionLong = in.readLong();
+			this.createTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ParaDeskFinder.isFullCache(), ParaDeskFinder.isOffHeap());
+			this.deskIdString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaDeskFinder.isFullCache());
+			this.locationByte = in.readByte();
+			this.maxFloat = in.readFloat();
+			this.minShort = in.readShort();
+			this.sizeDouble = in.readDouble();
+			this.statusChar = in.readChar();
+			this.tagInt = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.deskIdString = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ParaDeskFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ParaDeskFinder.deskIdString().eq(this.getDeskIdString());
+			return ParaDeskFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
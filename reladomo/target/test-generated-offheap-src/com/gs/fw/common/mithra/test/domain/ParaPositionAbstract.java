@@ -0,0 +1,1096 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ParaPositionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ParaPositionFinder.processingDate()
+	, ParaPositionFinder.zGetDoubleAttributes(),ParaPositionFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ParaPosition.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final Extractor[] _fromproduct = new Extractor[] 
+	{
+		ParaPositionFinder.productIdentifier()
+	}
+
+	;
+	private static final Extractor[] _toproduct = new Extractor[] 
+	{
+		ParaProductFinder.gsn()
+	}
+
+	;
+	private static final Extractor[] _fromaccount = new Extractor[] 
+	{
+		ParaPositionFinder.accountNumber(), ParaPositionFinder.accountSubtype()
+	}
+
+	;
+	private static final Extractor[] _toaccount = new Extractor[] 
+	{
+		LewAccountFinder.accountNumber(), LewAccountFinder.accountSubNumber()
+	}
+
+	;
+	private Object __product;
+	private Object __account;
+	public ParaPositionAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ParaPositionFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ParaPositionData zSynchronizedGetData()
+	{
+		return (ParaPositionData) super.zSynchronizedGetData();
+	}
+
+	protected void zClearAllDirectRefs()
+	{
+		__product = null;
+		__account = null;
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ParaPositionFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ParaPosition zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ParaPosition original = (ParaPosition) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ParaPositionFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ParaPosition getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ParaPositionAbstract result = (ParaPositionAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ParaPosition ) result;
+	}
+
+	public ParaPosition zFindOriginal()
+	{
+		ParaPositionData data = (ParaPositionData) this.currentData;
+		Operation op;
+		op = ParaPositionFinder.productIdentifier().eq(data.getProductIdentifier());
+		op = op.and(ParaPositionFinder.accountNumber().eq(data.getAccountNumber()));
+		if(data.isAccountSubtypeNull())
+		{
+			op = op.and(ParaPositionFinder.accountSubtype().isNull());
+		}
+		else
+		{
+			op = op.and(ParaPositionFinder.accountSubtype().eq(data.getAccountSubtype()));
+		}
+
+		op = op.and(ParaPositionFinder.businessDate().eq(data.getBusinessDate()));
+		op = op.and(ParaPositionFinder.processingDate().eq(this.getProcessingDate()));
+		return ParaPositionFinder.findOne(op);
+	}
+
+	public ParaPosition getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ParaPositionAbstract result = (ParaPositionAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ParaPosition ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ParaPosition copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ParaPosition) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ParaPosition copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ParaPosition) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ParaPositionData data = (ParaPositionData) this.currentData;
+			Operation op = ParaPositionFinder.processingDate().eq(this.processingDate);
+			op = op.and(ParaPositionFinder.accountNumber().eq(data.getAccountNumber()));
+			if( data.isAccountSubtypeNull() )
+			{
+				op = op.and(ParaPositionFinder.accountSubtype().isNull());
+			}
+			else
+			{
+				op = op.and(ParaPositionFinder.accountSubtype().eq(data.getAccountSubtype()));
+			}
+
+			op = op.and(ParaPositionFinder.businessDate().eq(data.getBusinessDate()));
+			op = op.and(ParaPositionFinder.productIdentifier().eq(data.getProductIdentifier()));
+			return ParaPositionFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		ParaPositionData otherData = (ParaPositionData)other.zGetTxDataForRead();
+		return ((ParaPositionData) this.zGetTxDataForRead()).zHasSameNullPrimaryKeyAttributes(otherData);
+	}
+
+	public boolean isAccountNumberNull()
+	{
+		return this.zSynchronizedGetData().isAccountNumberNull();
+	}
+
+	public boolean isAccountSubtypeNull()
+	{
+		return this.zSynchronizedGetData().isAccountSubtypeNull();
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateNull();
+	}
+
+	public boolean isFasbObservableNull()
+	{
+		return this.zSynchronizedGetData().isFasbObservableNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdentifierNull()
+	{
+		return this.zSynchronizedGetData().isProductIdentifierNull();
+	}
+
+	public boolean isQtdOpenCostNull()
+	{
+		return this.zSynchronizedGetData().isQtdOpenCostNull();
+	}
+
+	public boolean isQtdRealizedNull()
+	{
+		return this.zSynchronizedGetData().isQtdRealizedNull();
+	}
+
+	public boolean isQtdTradingNull()
+	{
+		return this.zSynchronizedGetData().isQtdTradingNull();
+	}
+
+	public boolean isQtdUnrealizedNull()
+	{
+		return this.zSynchronizedGetData().isQtdUnrealizedNull();
+	}
+
+	public boolean isUpdatedNull()
+	{
+		return this.zSynchronizedGetData().isUpdatedNull();
+	}
+
+	public boolean isYtdOpenCostNull()
+	{
+		return this.zSynchronizedGetData().isYtdOpenCostNull();
+	}
+
+	public boolean isYtdRealizedNull()
+	{
+		return this.zSynchronizedGetData().isYtdRealizedNull();
+	}
+
+	public boolean isYtdTradingNull()
+	{
+		return this.zSynchronizedGetData().isYtdTradingNull();
+	}
+
+	public boolean isYtdUnrealizedNull()
+	{
+		return this.zSynchronizedGetData().isYtdUnrealizedNull();
+	}
+
+	public String getAccountNumber()
+	{
+		return this.zSynchronizedGetData().getAccountNumber();
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 8)
+		{
+			throw new MithraBusinessException("Attribute 'accountNumber' cannot exceed maximum length of 8: " + newValue);
+		}
+
+		zSetString(ParaPositionFinder.accountNumber(), newValue, true );
+	}
+
+	public String getAccountSubtype()
+	{
+		return this.zSynchronizedGetData().getAccountSubtype();
+	}
+
+	public void setAccountSubtype(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 2)
+		{
+			throw new MithraBusinessException("Attribute 'accountSubtype' cannot exceed maximum length of 2: " + newValue);
+		}
+
+		zSetString(ParaPositionFinder.accountSubtype(), newValue, true );
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.zSynchronizedGetData().getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.businessDate(), newValue, true );
+	}
+
+	public int getFasbObservable()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isFasbObservableNull()) MithraNullPrimitiveException.throwNew("fasbObservable", data);
+		return data.getFasbObservable();
+	}
+
+	public void setFasbObservable(int newValue)
+	{
+		zSetInteger(ParaPositionFinder.fasbObservable(), newValue, false ,true);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getProductIdentifier()
+	{
+		return this.zSynchronizedGetData().getProductIdentifier();
+	}
+
+	public void setProductIdentifier(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 40)
+		{
+			throw new MithraBusinessException("Attribute 'productIdentifier' cannot exceed maximum length of 40: " + newValue);
+		}
+
+		zSetString(ParaPositionFinder.productIdentifier(), newValue, true );
+	}
+
+	public double getQtdOpenCost()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isQtdOpenCostNull()) MithraNullPrimitiveException.throwNew("qtdOpenCost", data);
+		return data.getQtdOpenCost();
+	}
+
+	public void setQtdOpenCost(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdOpenCost(), newValue, false ,true);
+	}
+
+	public double getQtdRealized()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isQtdRealizedNull()) MithraNullPrimitiveException.throwNew("qtdRealized", data);
+		return data.getQtdRealized();
+	}
+
+	public void setQtdRealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdRealized(), newValue, false ,true);
+	}
+
+	public double getQtdTrading()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isQtdTradingNull()) MithraNullPrimitiveException.throwNew("qtdTrading", data);
+		return data.getQtdTrading();
+	}
+
+	public void setQtdTrading(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdTrading(), newValue, false ,true);
+	}
+
+	public double getQtdUnrealized()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isQtdUnrealizedNull()) MithraNullPrimitiveException.throwNew("qtdUnrealized", data);
+		return data.getQtdUnrealized();
+	}
+
+	public void setQtdUnrealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdUnrealized(), newValue, false ,true);
+	}
+
+	public Timestamp getUpdated()
+	{
+		return this.zSynchronizedGetData().getUpdated();
+	}
+
+	public void setUpdated(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.updated(), newValue, false );
+	}
+
+	public double getYtdOpenCost()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isYtdOpenCostNull()) MithraNullPrimitiveException.throwNew("ytdOpenCost", data);
+		return data.getYtdOpenCost();
+	}
+
+	public void setYtdOpenCost(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdOpenCost(), newValue, false ,true);
+	}
+
+	public double getYtdRealized()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isYtdRealizedNull()) MithraNullPrimitiveException.throwNew("ytdRealized", data);
+		return data.getYtdRealized();
+	}
+
+	public void setYtdRealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdRealized(), newValue, false ,true);
+	}
+
+	public double getYtdTrading()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isYtdTradingNull()) MithraNullPrimitiveException.throwNew("ytdTrading", data);
+		return data.getYtdTrading();
+	}
+
+	public void setYtdTrading(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdTrading(), newValue, false ,true);
+	}
+
+	public double getYtdUnrealized()
+	{
+		ParaPositionData data = this.zSynchronizedGetData();
+		if (data.isYtdUnrealizedNull()) MithraNullPrimitiveException.throwNew("ytdUnrealized", data);
+		return data.getYtdUnrealized();
+	}
+
+	public void setYtdUnrealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdUnrealized(), newValue, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, ParaPositionFinder.qtdOpenCost(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.ytdOpenCost(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.qtdUnrealized(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.ytdUnrealized(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.qtdRealized(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.ytdRealized(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.qtdTrading(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.ytdTrading(), false, mustCheckCurrent);
+		zNullify(behavior, data, ParaPositionFinder.fasbObservable(), false, mustCheckCurrent);
+	}
+
+	public void setQtdOpenCostNull()
+	{
+		zNullify(ParaPositionFinder.qtdOpenCost(), false);
+	}
+
+	public void setYtdOpenCostNull()
+	{
+		zNullify(ParaPositionFinder.ytdOpenCost(), false);
+	}
+
+	public void setQtdUnrealizedNull()
+	{
+		zNullify(ParaPositionFinder.qtdUnrealized(), false);
+	}
+
+	public void setYtdUnrealizedNull()
+	{
+		zNullify(ParaPositionFinder.ytdUnrealized(), false);
+	}
+
+	public void setQtdRealizedNull()
+	{
+		zNullify(ParaPositionFinder.qtdRealized(), false);
+	}
+
+	public void setYtdRealizedNull()
+	{
+		zNullify(ParaPositionFinder.ytdRealized(), false);
+	}
+
+	public void setQtdTradingNull()
+	{
+		zNullify(ParaPositionFinder.qtdTrading(), false);
+	}
+
+	public void setYtdTradingNull()
+	{
+		zNullify(ParaPositionFinder.ytdTrading(), false);
+	}
+
+	public void setFasbObservableNull()
+	{
+		zNullify(ParaPositionFinder.fasbObservable(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ParaPositionData _newData = (ParaPositionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ParaPositionData _newData = (ParaPositionData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ParaPositionData _newData = (ParaPositionData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParaProduct.gsn = this.productIdentifier</pre>
+	* @return The product
+	*/
+	public ParaProduct getProduct()
+	{
+		ParaProduct _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ParaPositionData _data = (ParaPositionData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ParaProductFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = this.__product;
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (ParaProduct) _portal.unwrapRelatedObject(this, o, _fromproduct, _toproduct);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.zClearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				{
+					_op = ParaProductFinder.gsn().eq(_data.getProductIdentifier());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = ParaProductFinder.gsn().eq(_data.getProductIdentifier());
+					_result = ParaProductFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ParaProduct) _data.getProduct();
+			if (_result == null)
+			{
+				{
+					_op = ParaProductFinder.gsn().eq(_data.getProductIdentifier());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ParaProductFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			this.__product = (_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setProduct(ParaProduct product)
+	{
+		ParaProduct _product = (ParaProduct) product;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ParaPositionData _data = (ParaPositionData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProduct(_product);
+			if (_product == null)
+			{
+				this.setProductIdentifier(null);
+			}
+			else
+			{
+				this.setProductIdentifier(
+					_product.getGsn());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_product == null)
+			{
+				this.setProductIdentifier(null);
+			}
+			else
+			{
+				this.setProductIdentifier(
+					_product.getGsn());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	LewAccount.accountNumber = this.accountNumber and
+	LewAccount.accountSubNumber = this.accountSubtype and
+	LewAccount.businessDate = this.businessDate</pre>
+	* @see LewAccount#getParaPosition() reverse relationship LewAccount.getParaPosition()
+	* @return The account
+	*/
+	public final LewAccount getAccount()
+	{
+		LewAccount _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ParaPositionData _data = (ParaPositionData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isAccountSubtypeNull())
+			{
+				_portal = LewAccountFinder.getMithraObjectPortal();
+				if (_behavior.isDirectReferenceAllowed())
+				{
+					int currentCount = this.zGetPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this.classUpdateCount == currentCount)
+					{
+						Object o = this.__account;
+						if (o instanceof NullPersistedRelation)
+						{
+							if (((NullPersistedRelation)o).isValid()) return null;
+						}
+						else
+						{
+							_result = (LewAccount) _portal.unwrapRelatedObject(this, o, _fromaccount, _toaccount);
+							if (_result != null) return _result;
+						}
+					}
+					else
+					{
+						_data.clearAllDirectRefs();
+						this.zClearAllDirectRefs();
+						this.classUpdateCount = currentCount;
+					}
+				}
+
+				{
+					_op = new RelationshipMultiEqualityOperation(ParaPositionFinder.account().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isAccountSubtypeNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ParaPositionFinder.account().zGetRelationshipMultiExtractor(), this);
+					_result = LewAccountFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (LewAccount) _data.getAccount();
+			if (_result == null)
+			{
+				if (!_data.isAccountSubtypeNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(ParaPositionFinder.account().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = LewAccountFinder.zFindOneForRelationship(_op);
+		}
+
+		if (_behavior.isDirectReferenceAllowed())
+		{
+			this.__account = (_portal.wrapRelatedObject(_result));
+		}
+
+		return _result;
+	}
+
+	public void setAccount(LewAccount account)
+	{
+		LewAccount _account = (LewAccount) account;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ParaPositionData _data = (ParaPositionData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAccount(_account);
+			if (_account == null)
+			{
+				this.setAccountNumber(null);
+				this.setAccountSubtype(null);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setAccountNumber(
+					_account.getAccountNumber());
+				this.setAccountSubtype(
+					_account.getAccountSubNumber());
+				this.setBusinessDate(
+					_account.getBusinessDate());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_account == null)
+			{
+				this.setAccountNumber(null);
+				this.setAccountSubtype(null);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setAccountNumber(
+					_account.getAccountNumber());
+				this.setAccountSubtype(
+					_account.getAccountSubNumber());
+				this.setBusinessDate(
+					_account.getBusinessDate());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ParaPositionFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ParaPositionData.ParaPositionDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ParaPositionData data = (ParaPositionData) ParaPositionFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ParaPosition has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromParaPositionData( ParaPositionData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromParaPositionData( ParaPositionData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ParaPositionFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ParaPositionFinder.getMithraObjectPortal();
+	}
+
+	public ParaPosition getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ParaPositionAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ParaPositionAbstract from = (ParaPositionAbstract) f;
+		ParaPositionData newData = from.zSynchronizedGetData();
+		if (from.isFasbObservableNull())
+		{
+			this.setFasbObservableNull();
+		}
+		else
+		{
+			this.setFasbObservable(newData.getFasbObservable());
+		}
+
+		if (from.isQtdOpenCostNull())
+		{
+			this.setQtdOpenCostNull();
+		}
+		else
+		{
+			this.setQtdOpenCost(newData.getQtdOpenCost());
+		}
+
+		if (from.isQtdRealizedNull())
+		{
+			this.setQtdRealizedNull();
+		}
+		else
+		{
+			this.setQtdRealized(newData.getQtdRealized());
+		}
+
+		if (from.isQtdTradingNull())
+		{
+			this.setQtdTradingNull();
+		}
+		else
+		{
+			this.setQtdTrading(newData.getQtdTrading());
+		}
+
+		if (from.isQtdUnrealizedNull())
+		{
+			this.setQtdUnrealizedNull();
+		}
+		else
+		{
+			this.setQtdUnrealized(newData.getQtdUnrealized());
+		}
+
+		this.setUpdated(newData.getUpdated());
+		if (from.isYtdOpenCostNull())
+		{
+			this.setYtdOpenCostNull();
+		}
+		else
+		{
+			this.setYtdOpenCost(newData.getYtdOpenCost());
+		}
+
+		if (from.isYtdRealizedNull())
+		{
+			this.setYtdRealizedNull();
+		}
+		else
+		{
+			this.setYtdRealized(newData.getYtdRealized());
+		}
+
+		if (from.isYtdTradingNull())
+		{
+			this.setYtdTradingNull();
+		}
+		else
+		{
+			this.setYtdTrading(newData.getYtdTrading());
+		}
+
+		if (from.isYtdUnrealizedNull())
+		{
+			this.setYtdUnrealizedNull();
+		}
+		else
+		{
+			this.setYtdUnrealized(newData.getYtdUnrealized());
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ParaPositionData newData = (ParaPositionData) d;
+		ParaPositionData data = (ParaPositionData) nd;
+		if (ParaPositionFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ParaPositionFinder.accountNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, ParaPositionFinder.accountSubtype(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ParaPositionFinder.businessDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ParaPositionFinder.fasbObservable(), false);
+		changed |= zUpdateString(behavior, data, newData, ParaPositionFinder.productIdentifier(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.qtdOpenCost(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.qtdRealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.qtdTrading(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.qtdUnrealized(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ParaPositionFinder.updated(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.ytdOpenCost(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.ytdRealized(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.ytdTrading(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ParaPositionFinder.ytdUnrealized(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ParaPositionData data = ((ParaPositionData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ParaPositionData data = ((ParaPositionData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ParaPositionData data = ((ParaPositionData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ParaPositionFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ParaPositionData localData = (ParaPositionData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1221 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParaPositionFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ParaPosition";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ParaPosition";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParaPosition");
+	private static final ParaPositionSingleFinder<ParaPosition, Object, ParaPosition> finder = new ParaPositionSingleFinder<ParaPosition, Object, ParaPosition>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ParaPositionFinder.ParaPositionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("productIdentifier");
+		finderMethodMap.addNormalAttributeName("accountNumber");
+		finderMethodMap.addNormalAttributeName("accountSubtype");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("qtdOpenCost");
+		finderMethodMap.addNormalAttributeName("ytdOpenCost");
+		finderMethodMap.addNormalAttributeName("qtdUnrealized");
+		finderMethodMap.addNormalAttributeName("ytdUnrealized");
+		finderMethodMap.addNormalAttributeName("qtdRealized");
+		finderMethodMap.addNormalAttributeName("ytdRealized");
+		finderMethodMap.addNormalAttributeName("qtdTrading");
+		finderMethodMap.addNormalAttributeName("ytdTrading");
+		finderMethodMap.addNormalAttributeName("fasbObservable");
+		finderMethodMap.addNormalAttributeName("updated");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("product");
+		finderMethodMap.addRelationshipName("account");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[10];
+			result[0] = ParaPositionFinder.productIdentifier().constructEqualityMapper(ParaProductFinder.gsn());
+			result[1] = ParaProductFinder.gsn().constructEqualityMapper(ParaPositionFinder.productIdentifier());
+			result[2] = ParaPositionFinder.accountNumber().constructEqualityMapper(LewAccountFinder.accountNumber());
+			result[3] = LewAccountFinder.accountNumber().constructEqualityMapper(ParaPositionFinder.accountNumber());
+			result[4] = ParaPositionFinder.accountSubtype().constructEqualityMapper(LewAccountFinder.accountSubNumber());
+			result[5] = LewAccountFinder.accountSubNumber().constructEqualityMapper(ParaPositionFinder.accountSubtype());
+			result[6] = ParaPositionFinder.businessDate().constructEqualityMapper(LewAccountFinder.businessDate());
+			result[7] = LewAccountFinder.businessDate().constructEqualityMapper(ParaPositionFinder.businessDate());
+			result[8] = ParaPositionFinder.processingDate().constructEqualityMapper(LewAccountFinder.processingDate());
+			result[9] = LewAccountFinder.processingDate().constructEqualityMapper(ParaPositionFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ParaPosition findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ParaPosition findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ParaPositionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ParaPositionList) finder.findMany(operation);
+	}
+
+	public static ParaPositionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ParaPositionList) finder.findManyBypassCache(operation);
+	}
+
+	private static ParaPosition findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ParaPosition) FinderUtils.findOne(found);
+	}
+
+	public static ParaPosition findByPrimaryKey(String productIdentifier, String accountNumber, String accountSubtype, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(productIdentifier, accountNumber, accountSubtype, businessDate, processingDate);
+	}
+
+	public static ParaPosition zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ParaPosition) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ParaPositionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ParaPosition, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> productIdentifier;
+		private StringAttribute<ParentOwnerType> accountNumber;
+		private StringAttribute<ParentOwnerType> accountSubtype;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private DoubleAttribute<ParentOwnerType> qtdOpenCost;
+		private DoubleAttribute<ParentOwnerType> ytdOpenCost;
+		private DoubleAttribute<ParentOwnerType> qtdUnrealized;
+		private DoubleAttribute<ParentOwnerType> ytdUnrealized;
+		private DoubleAttribute<ParentOwnerType> qtdRealized;
+		private DoubleAttribute<ParentOwnerType> ytdRealized;
+		private DoubleAttribute<ParentOwnerType> qtdTrading;
+		private DoubleAttribute<ParentOwnerType> ytdTrading;
+		private IntegerAttribute<ParentOwnerType> fasbObservable;
+		private TimestampAttribute<ParentOwnerType> updated;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ParaPositionProductFinderSubclass<ParentOwnerType> product;
+		private ParaPositionAccountFinderSubclass<ParentOwnerType> account;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ParaPositionRelatedFinder()
+		{
+			super();
+		}
+
+		public ParaPositionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParaPositionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ParaPositionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ParaPositionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ParaPositionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[16];
+			attributes[0] = this.productIdentifier();
+			attributes[1] = this.accountNumber();
+			attributes[2] = this.accountSubtype();
+			attributes[3] = this.businessDate();
+			attributes[4] = this.qtdOpenCost();
+			attributes[5] = this.ytdOpenCost();
+			attributes[6] = this.qtdUnrealized();
+			attributes[7] = this.ytdUnrealized();
+			attributes[8] = this.qtdRealized();
+			attributes[9] = this.ytdRealized();
+			attributes[10] = this.qtdTrading();
+			attributes[11] = this.ytdTrading();
+			attributes[12] = this.fasbObservable();
+			attributes[13] = this.updated();
+			attributes[14] = this.processingDateFrom();
+			attributes[15] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.product());
+				relatedFinders.add(this.account());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ParaPosition findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ParaPositionFinder.findOne(operation, false);
+		}
+
+		public ParaPosition findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ParaPositionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ParaPosition> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ParaPositionList((Operation) operation);
+		}
+
+		public MithraList<? extends ParaPosition> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ParaPositionList result = (ParaPositionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ParaPosition> constructEmptyList()
+		{
+			return new ParaPositionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1631601666;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> productIdentifier()
+		{
+			StringAttribute<ParentOwnerType> result = this.productIdentifier;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PRODUCT_IDENT_C","","productIdentifier",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,40,true, false) :
+					new MappedStringAttribute(ParaPositionFinder.productIdentifier(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("product");
+				this.productIdentifier = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_8DIGIT_C","","accountNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,8,-1,-1,8,true, false) :
+					new MappedStringAttribute(ParaPositionFinder.accountNumber(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("account");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "LewAccount", "paraPosition");
+				this.accountNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountSubtype()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountSubtype;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_SUBTYPE_C","","accountSubtype",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,12,-1,-1,2,true, false) :
+					new MappedStringAttribute(ParaPositionFinder.accountSubtype(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("account");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "LewAccount", "paraPosition");
+				this.accountSubtype = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUS_DATE_Z","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ParaPositionFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("account");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "LewAccount", "paraPosition");
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> qtdOpenCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.qtdOpenCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QTD_OPEN_COST_F","","qtdOpenCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,48,4,1, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.qtdOpenCost(), this.mapper, this.zGetValueSelector());
+				this.qtdOpenCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> ytdOpenCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.ytdOpenCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("YTD_OPEN_COST_F","","ytdOpenCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,88,4,5, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.ytdOpenCost(), this.mapper, this.zGetValueSelector());
+				this.ytdOpenCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> qtdUnrealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.qtdUnrealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QTD_UNREALIZED_F","","qtdUnrealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,72,4,4, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.qtdUnrealized(), this.mapper, this.zGetValueSelector());
+				this.qtdUnrealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> ytdUnrealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.ytdUnrealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("YTD_UNREALIZED_F","","ytdUnrealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,112,4,8, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.ytdUnrealized(), this.mapper, this.zGetValueSelector());
+				this.ytdUnrealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> qtdRealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.qtdRealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QTD_REALIZED_F","","qtdRealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,56,4,2, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.qtdRealized(), this.mapper, this.zGetValueSelector());
+				this.qtdRealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> ytdRealized()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.ytdRealized;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("YTD_REALIZED_F","","ytdRealized",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,96,4,6, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.ytdRealized(), this.mapper, this.zGetValueSelector());
+				this.ytdRealized = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> qtdTrading()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.qtdTrading;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("QTD_TRADING_F","","qtdTrading",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,64,4,3, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.qtdTrading(), this.mapper, this.zGetValueSelector());
+				this.qtdTrading = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> ytdTrading()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.ytdTrading;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("YTD_TRADING_F","","ytdTrading",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,104,4,7, false) :
+					new MappedDoubleAttribute(ParaPositionFinder.ytdTrading(), this.mapper, this.zGetValueSelector());
+				this.ytdTrading = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> fasbObservable()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.fasbObservable;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBSERVABLE_LEVEL_I","","fasbObservable",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,28,4,0,false, false) :
+					new MappedIntegerAttribute(ParaPositionFinder.fasbObservable(), this.mapper, this.zGetValueSelector());
+				this.fasbObservable = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> updated()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.updated;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OBS_LVL_UPDATED_Z","","updated",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,80,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(ParaPositionFinder.updated(), this.mapper, this.zGetValueSelector());
+				this.updated = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,ParaPositionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ParaPositionFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,ParaPositionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ParaPositionFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ParaPositionFinder.processingDateInfinity,false,true,ParaPositionFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ParaPositionFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ParaProductFinder.ParaProductSingleFinderForRelatedClasses<ParentOwnerType, ParaProduct, ParaPosition> product()
+		{
+			ParaPositionProductFinderSubclass<ParentOwnerType> result = this.product;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParaPositionFinder.zGetParaPositionProductReverseMapper());
+				newMapper.setToMany(false);
+				result = new ParaPositionProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.product = result;
+			}
+
+			return result;
+		}
+
+		public LewAccountFinder.LewAccountSingleFinderForRelatedClasses<ParentOwnerType, LewAccount, ParaPosition> account()
+		{
+			ParaPositionAccountFinderSubclass<ParentOwnerType> result = this.account;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParaPositionFinder.zGetParaPositionAccountReverseMapper());
+				newMapper.setToMany(false);
+				result = new ParaPositionAccountFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.account = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ParaPositionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ParaPositionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ParaPositionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ParaPositionRelatedFinder<ParentOwnerType, ReturnType, ParaPositionList, OwnerType>
+	{
+		public ParaPositionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ParaPositionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ParaPositionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParaPositionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ParaPositionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ParaPositionRelatedFinder<ParentOwnerType, ReturnType, ParaPositionList, OwnerType>
+	implements ToOneFinder
+	{
+		public ParaPositionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ParaPositionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ParaPosition other)
+		{
+			return this.productIdentifier().eq(other.getProductIdentifier())
+			.and(this.accountNumber().eq(other.getAccountNumber()))
+			.and(this.accountSubtype().eq(other.getAccountSubtype()))
+			.and(this.businessDate().eq(other.getBusinessDate()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ParaPosition findByPrimaryKey(String productIdentifier, String accountNumber, String accountSubtype, Timestamp businessDate, Timestamp processingDate)
+		{
+			ParaPosition _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (!(_related instanceof NulledRelation)) _result = (ParaPosition) _related;
+			if (_related == null)
+			{
+				_op = this.productIdentifier().eq(productIdentifier).and(this.accountNumber().eq(accountNumber)).and(this.accountSubtype().eq(accountSubtype)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ParaPositionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ParaPositionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParaPositionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productReverseMapper = null;
+	public static Mapper zGetParaPositionProductReverseMapper()
+	{
+		if (productReverseMapper == null)
+		{
+			productReverseMapper = zConstructParaPositionProductReverseMapper();
+		}
+
+		return productReverseMapper;
+	}
+
+	private static Mapper productMapper = null;
+	public static Mapper zGetParaPositionProductMapper()
+	{
+		if (productMapper == null)
+		{
+			productMapper = zConstructParaPositionProductMapper();
+		}
+
+		return productMapper;
+	}
+
+	private static Mapper productPureReverseMapper = null;
+	public static Mapper zGetParaPositionProductPureReverseMapper()
+	{
+		if (productPureReverseMapper == null)
+		{
+			productPureReverseMapper = zConstructParaPositionProductPureReverseMapper();
+		}
+
+		return productPureReverseMapper;
+	}
+
+	private static Mapper zConstructParaPositionProductPureReverseMapper()
+	{
+		Mapper productMapper = ParaPositionFinder.zGetConstantJoin(0);
+		productMapper.setName("product");
+		return productMapper;
+	}
+
+	private static Mapper zConstructParaPositionProductReverseMapper()
+	{
+		Mapper productMapper = ParaPositionFinder.zGetConstantJoin(0);
+		productMapper.setName("product");
+		return productMapper;
+	}
+
+	private static Mapper zConstructParaPositionProductMapper()
+	{
+		Mapper productMapper = ParaPositionFinder.zGetConstantJoin(1);
+		productMapper.setName("product_Reverse");
+		return productMapper;
+	}
+
+	private static Mapper accountReverseMapper = null;
+	public static Mapper zGetParaPositionAccountReverseMapper()
+	{
+		if (accountReverseMapper == null)
+		{
+			accountReverseMapper = zConstructParaPositionAccountReverseMapper();
+		}
+
+		return accountReverseMapper;
+	}
+
+	private static Mapper accountMapper = null;
+	public static Mapper zGetParaPositionAccountMapper()
+	{
+		if (accountMapper == null)
+		{
+			accountMapper = zConstructParaPositionAccountMapper();
+		}
+
+		return accountMapper;
+	}
+
+	private static Mapper accountPureReverseMapper = null;
+	public static Mapper zGetParaPositionAccountPureReverseMapper()
+	{
+		if (accountPureReverseMapper == null)
+		{
+			accountPureReverseMapper = zConstructParaPositionAccountPureReverseMapper();
+		}
+
+		return accountPureReverseMapper;
+	}
+
+	private static Mapper zConstructParaPositionAccountPureReverseMapper()
+	{
+		InternalList accountMapperMapperList = new InternalList(4);
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(2));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(4));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(6));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(8));
+		Mapper accountMapper = new MultiEqualityMapper(accountMapperMapperList);
+		accountMapper.setName("account");
+		return accountMapper;
+	}
+
+	private static Mapper zConstructParaPositionAccountReverseMapper()
+	{
+		InternalList accountMapperMapperList = new InternalList(4);
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(2));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(4));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(6));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(8));
+		Mapper accountMapper = new MultiEqualityMapper(accountMapperMapperList);
+		accountMapper.setName("account");
+		return accountMapper;
+	}
+
+	private static Mapper zConstructParaPositionAccountMapper()
+	{
+		InternalList accountMapperMapperList = new InternalList(4);
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(3));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(5));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(7));
+		accountMapperMapperList.add(ParaPositionFinder.zGetConstantJoin(9));
+		Mapper accountMapper = new MultiEqualityMapper(accountMapperMapperList);
+		accountMapper.setName("paraPosition");
+		return accountMapper;
+	}
+
+	/** maps to PARA_POSITION.PRODUCT_IDENT_C **/
+	public static StringAttribute<ParaPosition> productIdentifier()
+	{
+		return finder.productIdentifier();
+	}
+
+	/** maps to PARA_POSITION.ACCT_NBR_8DIGIT_C **/
+	public static StringAttribute<ParaPosition> accountNumber()
+	{
+		return finder.accountNumber();
+	}
+
+	/** maps to PARA_POSITION.ACCT_SUBTYPE_C **/
+	public static StringAttribute<ParaPosition> accountSubtype()
+	{
+		return finder.accountSubtype();
+	}
+
+	/** maps to PARA_POSITION.BUS_DATE_Z **/
+	public static TimestampAttribute<ParaPosition> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to PARA_POSITION.QTD_OPEN_COST_F **/
+	public static DoubleAttribute<ParaPosition> qtdOpenCost()
+	{
+		return finder.qtdOpenCost();
+	}
+
+	/** maps to PARA_POSITION.YTD_OPEN_COST_F **/
+	public static DoubleAttribute<ParaPosition> ytdOpenCost()
+	{
+		return finder.ytdOpenCost();
+	}
+
+	/** maps to PARA_POSITION.QTD_UNREALIZED_F **/
+	public static DoubleAttribute<ParaPosition> qtdUnrealized()
+	{
+		return finder.qtdUnrealized();
+	}
+
+	/** maps to PARA_POSITION.YTD_UNREALIZED_F **/
+	public static DoubleAttribute<ParaPosition> ytdUnrealized()
+	{
+		return finder.ytdUnrealized();
+	}
+
+	/** maps to PARA_POSITION.QTD_REALIZED_F **/
+	public static DoubleAttribute<ParaPosition> qtdRealized()
+	{
+		return finder.qtdRealized();
+	}
+
+	/** maps to PARA_POSITION.YTD_REALIZED_F **/
+	public static DoubleAttribute<ParaPosition> ytdRealized()
+	{
+		return finder.ytdRealized();
+	}
+
+	/** maps to PARA_POSITION.QTD_TRADING_F **/
+	public static DoubleAttribute<ParaPosition> qtdTrading()
+	{
+		return finder.qtdTrading();
+	}
+
+	/** maps to PARA_POSITION.YTD_TRADING_F **/
+	public static DoubleAttribute<ParaPosition> ytdTrading()
+	{
+		return finder.ytdTrading();
+	}
+
+	/** maps to PARA_POSITION.OBSERVABLE_LEVEL_I **/
+	public static IntegerAttribute<ParaPosition> fasbObservable()
+	{
+		return finder.fasbObservable();
+	}
+
+	/** maps to PARA_POSITION.OBS_LVL_UPDATED_Z **/
+	public static TimestampAttribute<ParaPosition> updated()
+	{
+		return finder.updated();
+	}
+
+	/** maps to PARA_POSITION.IN_Z **/
+	public static TimestampAttribute<ParaPosition> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PARA_POSITION.OUT_Z **/
+	public static TimestampAttribute<ParaPosition> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ParaPosition> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ParaProductFinder.ParaProductSingleFinderForRelatedClasses<ParaPosition, ParaProduct, ParaPosition> product()
+	{
+		return finder.product();
+	}
+
+	public static class ParaPositionProductFinderSubclass<ParentOwnerType> extends ParaProductFinder.ParaProductSingleFinderForRelatedClasses<ParentOwnerType, ParaProduct, ParaPosition>
+	{
+		public ParaPositionProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "product";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParaPositionProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParaProduct plainValueOf(ParaPosition _obj)
+		{
+			return _obj.getProduct();
+		}
+
+		protected ParaProductList plainListValueOf(Object _obj)
+		{
+			return ((ParaPositionList)_obj).getProducts();
+		}
+	}
+
+	public static LewAccountFinder.LewAccountSingleFinderForRelatedClasses<ParaPosition, LewAccount, ParaPosition> account()
+	{
+		return finder.account();
+	}
+
+	public static class ParaPositionAccountFinderSubclass<ParentOwnerType> extends LewAccountFinder.LewAccountSingleFinderForRelatedClasses<ParentOwnerType, LewAccount, ParaPosition>
+	{
+		public ParaPositionAccountFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "account";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				LewAccountFinder.accountNumber(),
+				LewAccountFinder.accountSubNumber(),
+				LewAccountFinder.businessDate(),
+				LewAccountFinder.processingDate()).withExtractors(
+				ParaPositionFinder.accountNumber(),
+				ParaPositionFinder.accountSubtype(),
+				ParaPositionFinder.businessDate(),
+				ParaPositionFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParaPositionAccountFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected LewAccount plainValueOf(ParaPosition _obj)
+		{
+			return _obj.getAccount();
+		}
+
+		protected LewAccountList plainListValueOf(Object _obj)
+		{
+			return ((ParaPositionList)_obj).getAccounts();
+		}
+	}
+
+	public static Operation eq(ParaPosition other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(productIdentifier());
+	}
+
+	public static ParaPositionSingleFinder<ParaPosition, Object, ParaPosition> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			productIdentifier()
+			, accountNumber()
+			, accountSubtype()
+			, businessDate()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			productIdentifier()
+			, productIdentifier()
+			, accountNumber()
+			, accountSubtype()
+			, businessDate()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			productIdentifier()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			accountNumber()
+			, accountSubtype()
+			, businessDate()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ParaProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ParaProductFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[8];
+		result[0] = qtdOpenCost();
+		result[1] = ytdOpenCost();
+		result[2] = qtdUnrealized();
+		result[3] = ytdUnrealized();
+		result[4] = qtdRealized();
+		result[5] = ytdRealized();
+		result[6] = qtdTrading();
+		result[7] = ytdTrading();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParaPosition");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,283 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParaPositionListAbstract extends DelegatingList<ParaPosition> implements MithraDatedTransactionalList<ParaPosition>
+{
+	public ParaPositionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParaPositionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParaPositionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParaPositionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ParaPosition[] elements()
+	{
+		ParaPosition[] result = new ParaPosition[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParaPositionList intersection(ParaPositionList another)
+	{
+		return (ParaPositionList)super.intersection(another);
+	}
+
+	public ParaPosition getParaPositionAt(int index)
+	{
+		return (ParaPosition)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ParaProduct.gsn = this.productIdentifier</pre>
+	* @return The product
+	*/
+	public ParaProductList getProducts()
+	{
+		return (ParaProductList) this.getDelegated().resolveRelationship(this, ParaPositionFinder.product());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	LewAccount.accountNumber = this.accountNumber and
+	LewAccount.accountSubNumber = this.accountSubtype and
+	LewAccount.businessDate = this.businessDate</pre>
+	* @see LewAccount#getParaPosition() reverse relationship LewAccount.getParaPosition()
+	* @return The account
+	*/
+	public LewAccountList getAccounts()
+	{
+		return (LewAccountList) this.getDelegated().resolveRelationship(this, ParaPositionFinder.account());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParaPositionFinder.getMithraObjectPortal();
+	}
+
+	public ParaPositionList getNonPersistentCopy()
+	{
+		ParaPositionList result = new ParaPositionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParaPositionList asAdhoc()
+	{
+		return (ParaPositionList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ParaPosition> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ParaPositionList merge(MithraTransactionalList<ParaPosition> incoming, TopLevelMergeOptions<ParaPosition> mergeOptions)
+	{
+		return (ParaPositionList) super.merge(incoming, mergeOptions);
+	}
+
+	public ParaPositionList getDetachedCopy()
+	{
+		ParaPositionList result = new ParaPositionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		zSetString(ParaPositionFinder.accountNumber(), newValue);
+	}
+
+	public void setAccountSubtype(String newValue)
+	{
+		zSetString(ParaPositionFinder.accountSubtype(), newValue);
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.businessDate(), newValue);
+	}
+
+	public void setFasbObservable(int newValue)
+	{
+		zSetInteger(ParaPositionFinder.fasbObservable(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductIdentifier(String newValue)
+	{
+		zSetString(ParaPositionFinder.productIdentifier(), newValue);
+	}
+
+	public void setQtdOpenCost(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdOpenCost(), newValue);
+	}
+
+	public void setQtdRealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdRealized(), newValue);
+	}
+
+	public void setQtdTrading(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdTrading(), newValue);
+	}
+
+	public void setQtdUnrealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.qtdUnrealized(), newValue);
+	}
+
+	public void setUpdated(Timestamp newValue)
+	{
+		zSetTimestamp(ParaPositionFinder.updated(), newValue);
+	}
+
+	public void setYtdOpenCost(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdOpenCost(), newValue);
+	}
+
+	public void setYtdRealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdRealized(), newValue);
+	}
+
+	public void setYtdTrading(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdTrading(), newValue);
+	}
+
+	public void setYtdUnrealized(double newValue)
+	{
+		zSetDouble(ParaPositionFinder.ytdUnrealized(), newValue);
+	}
+
+	public void setQtdOpenCostNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.qtdOpenCost());
+	}
+
+	public void setYtdOpenCostNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.ytdOpenCost());
+	}
+
+	public void setQtdUnrealizedNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.qtdUnrealized());
+	}
+
+	public void setYtdUnrealizedNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.ytdUnrealized());
+	}
+
+	public void setQtdRealizedNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.qtdRealized());
+	}
+
+	public void setYtdRealizedNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.ytdRealized());
+	}
+
+	public void setQtdTradingNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.qtdTrading());
+	}
+
+	public void setYtdTradingNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.ytdTrading());
+	}
+
+	public void setFasbObservableNull()
+	{
+		zSetAttributeNull(ParaPositionFinder.fasbObservable());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParaProductListAbstract extends DelegatingList<ParaProduct> implements MithraTransactionalList<ParaProduct>
+{
+	public ParaProductListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParaProductListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParaProductListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParaProductListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ParaProduct[] elements()
+	{
+		ParaProduct[] result = new ParaProduct[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParaProductList intersection(ParaProductList another)
+	{
+		return (ParaProductList)super.intersection(another);
+	}
+
+	public ParaProduct getParaProductAt(int index)
+	{
+		return (ParaProduct)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParaProductFinder.getMithraObjectPortal();
+	}
+
+	public ParaProductList getNonPersistentCopy()
+	{
+		ParaProductList result = new ParaProductList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParaProductList asAdhoc()
+	{
+		return (ParaProductList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ParaProduct> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ParaProductList merge(MithraTransactionalList<ParaProduct> incoming, TopLevelMergeOptions<ParaProduct> mergeOptions)
+	{
+		return (ParaProductList) super.merge(incoming, mergeOptions);
+	}
+
+	public ParaProductList getDetachedCopy()
+	{
+		ParaProductList result = new ParaProductList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ParaProductFinder.acmapCode(), newValue);
+	}
+
+	public void setCusip(String newValue)
+	{
+		zSetString(ParaProductFinder.cusip(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(ParaProductFinder.description(), newValue);
+	}
+
+	public void setGsn(String newValue)
+	{
+		zSetString(ParaProductFinder.gsn(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ParaProductFinder.productId(), newValue);
+	}
+}
@@ -0,0 +1,920 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParentNumericAttributeFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ParentNumericAttribute";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ParentNumericAttribute";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParentNumericAttribute");
+	private static final ParentNumericAttributeSingleFinder<ParentNumericAttribute, Object, ParentNumericAttribute> finder = new ParentNumericAttributeSingleFinder<ParentNumericAttribute, Object, ParentNumericAttribute>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ParentNumericAttributeFinder.ParentNumericAttributeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("doubleAttr");
+		finderMethodMap.addNormalAttributeName("floatAttr");
+		finderMethodMap.addNormalAttributeName("longAttr");
+		finderMethodMap.addNormalAttributeName("intAttr");
+		finderMethodMap.addNormalAttributeName("shortAttr");
+		finderMethodMap.addNormalAttributeName("byteAttr");
+		finderMethodMap.addNormalAttributeName("charAttr");
+		finderMethodMap.addNormalAttributeName("bigDecimalAttr");
+		finderMethodMap.addNormalAttributeName("veryBigDecimalAttr");
+		finderMethodMap.addRelationshipName("children");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = ParentNumericAttributeFinder.id().constructEqualityMapper(ChildNumericAttributeFinder.parentId());
+			result[1] = ChildNumericAttributeFinder.parentId().constructEqualityMapper(ParentNumericAttributeFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ParentNumericAttribute findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ParentNumericAttribute findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ParentNumericAttributeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ParentNumericAttributeList) finder.findMany(operation);
+	}
+
+	public static ParentNumericAttributeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ParentNumericAttributeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ParentNumericAttribute findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ParentNumericAttribute) FinderUtils.findOne(found);
+	}
+
+	public static ParentNumericAttribute findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ParentNumericAttribute _castedTargetData = (ParentNumericAttribute) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ParentNumericAttribute zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ParentNumericAttribute) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ParentNumericAttributeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ParentNumericAttribute, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private IntegerAttribute<ParentOwnerType> userId;
+		private DoubleAttribute<ParentOwnerType> doubleAttr;
+		private FloatAttribute<ParentOwnerType> floatAttr;
+		private LongAttribute<ParentOwnerType> longAttr;
+		private IntegerAttribute<ParentOwnerType> intAttr;
+		private ShortAttribute<ParentOwnerType> shortAttr;
+		private ByteAttribute<ParentOwnerType> byteAttr;
+		private CharAttribute<ParentOwnerType> charAttr;
+		private BigDecimalAttribute<ParentOwnerType> bigDecimalAttr;
+		private BigDecimalAttribute<ParentOwnerType> veryBigDecimalAttr;
+		private ParentNumericAttributeChildrenFinderSubclass<ParentOwnerType> children;
+		public ParentNumericAttributeRelatedFinder()
+		{
+			super();
+		}
+
+		public ParentNumericAttributeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ParentNumericAttributeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ParentNumericAttributeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ParentNumericAttributeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ParentNumericAttributeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[11];
+			attributes[0] = this.id();
+			attributes[1] = this.userId();
+			attributes[2] = this.doubleAttr();
+			attributes[3] = this.floatAttr();
+			attributes[4] = this.longAttr();
+			attributes[5] = this.intAttr();
+			attributes[6] = this.shortAttr();
+			attributes[7] = this.byteAttr();
+			attributes[8] = this.charAttr();
+			attributes[9] = this.bigDecimalAttr();
+			attributes[10] = this.veryBigDecimalAttr();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.children());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ParentNumericAttribute findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ParentNumericAttributeFinder.findOne(operation, false);
+		}
+
+		public ParentNumericAttribute findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ParentNumericAttributeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ParentNumericAttribute> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ParentNumericAttributeList((Operation) operation);
+		}
+
+		public MithraList<? extends ParentNumericAttribute> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ParentNumericAttributeList result = (ParentNumericAttributeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ParentNumericAttribute> constructEmptyList()
+		{
+			return new ParentNumericAttributeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1155441714;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ParentNumericAttributeFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> userId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ParentNumericAttributeFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> doubleAttr()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.doubleAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DOUBLE_ATTR","","doubleAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(ParentNumericAttributeFinder.doubleAttr(), this.mapper, this.zGetValueSelector());
+				this.doubleAttr = result;
+			}
+
+			return result;
+		}
+
+		public FloatAttribute<ParentOwnerType> floatAttr()
+		{
+			FloatAttribute<ParentOwnerType> result = this.floatAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnFloatAttribute.generate("FLOAT_ATTR","","floatAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedFloatAttribute(ParentNumericAttributeFinder.floatAttr(), this.mapper, this.zGetValueSelector());
+				this.floatAttr = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> longAttr()
+		{
+			LongAttribute<ParentOwnerType> result = this.longAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("LONG_ATTR","","longAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(ParentNumericAttributeFinder.longAttr(), this.mapper, this.zGetValueSelector());
+				this.longAttr = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> intAttr()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.intAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INT_ATTR","","intAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ParentNumericAttributeFinder.intAttr(), this.mapper, this.zGetValueSelector());
+				this.intAttr = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> shortAttr()
+		{
+			ShortAttribute<ParentOwnerType> result = this.shortAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("SHORT_ATTR","","shortAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedShortAttribute(ParentNumericAttributeFinder.shortAttr(), this.mapper, this.zGetValueSelector());
+				this.shortAttr = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> byteAttr()
+		{
+			ByteAttribute<ParentOwnerType> result = this.byteAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("BYTE_ATTR","","byteAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(ParentNumericAttributeFinder.byteAttr(), this.mapper, this.zGetValueSelector());
+				this.byteAttr = result;
+			}
+
+			return result;
+		}
+
+		public CharAttribute<ParentOwnerType> charAttr()
+		{
+			CharAttribute<ParentOwnerType> result = this.charAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnCharAttribute.generate("CHAR_ATTR","","charAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedCharAttribute(ParentNumericAttributeFinder.charAttr(), this.mapper, this.zGetValueSelector());
+				this.charAttr = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> bigDecimalAttr()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.bigDecimalAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("BIG_DECIMAL_ATTR","","bigDecimalAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,5,2, false) :
+					new MappedBigDecimalAttribute(ParentNumericAttributeFinder.bigDecimalAttr(), this.mapper, this.zGetValueSelector());
+				this.bigDecimalAttr = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> veryBigDecimalAttr()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.veryBigDecimalAttr;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("VERY_BIG_DECIMAL_ATTR","","veryBigDecimalAttr",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,28,0, false) :
+					new MappedBigDecimalAttribute(ParentNumericAttributeFinder.veryBigDecimalAttr(), this.mapper, this.zGetValueSelector());
+				this.veryBigDecimalAttr = result;
+			}
+
+			return result;
+		}
+
+		public ChildNumericAttributeFinder.ChildNumericAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ChildNumericAttributeList, ParentNumericAttribute> children()
+		{
+			ParentNumericAttributeChildrenFinderSubclass<ParentOwnerType> result = this.children;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentNumericAttributeFinder.zGetParentNumericAttributeChildrenReverseMapper());
+				newMapper.setToMany(true);
+				result = new ParentNumericAttributeChildrenFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.children = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ParentNumericAttributeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ParentNumericAttributeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ParentNumericAttributeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ParentNumericAttributeRelatedFinder<ParentOwnerType, ReturnType, ParentNumericAttributeList, OwnerType>
+	{
+		public ParentNumericAttributeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ParentNumericAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ParentNumericAttributeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParentNumericAttributeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ParentNumericAttributeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ParentNumericAttributeRelatedFinder<ParentOwnerType, ReturnType, ParentNumericAttributeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ParentNumericAttributeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ParentNumericAttributeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ParentNumericAttribute other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ParentNumericAttribute findByPrimaryKey(int id)
+		{
+			ParentNumericAttribute _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ParentNumericAttribute) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ParentNumericAttributeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ParentNumericAttributeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParentNumericAttributeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper childrenReverseMapper = null;
+	public static Mapper zGetParentNumericAttributeChildrenReverseMapper()
+	{
+		if (childrenReverseMapper == null)
+		{
+			childrenReverseMapper = zConstructParentNumericAttributeChildrenReverseMapper();
+		}
+
+		return childrenReverseMapper;
+	}
+
+	private static Mapper childrenMapper = null;
+	public static Mapper zGetParentNumericAttributeChildrenMapper()
+	{
+		if (childrenMapper == null)
+		{
+			childrenMapper = zConstructParentNumericAttributeChildrenMapper();
+		}
+
+		return childrenMapper;
+	}
+
+	private static Mapper childrenPureReverseMapper = null;
+	public static Mapper zGetParentNumericAttributeChildrenPureReverseMapper()
+	{
+		if (childrenPureReverseMapper == null)
+		{
+			childrenPureReverseMapper = zConstructParentNumericAttributeChildrenPureReverseMapper();
+		}
+
+		return childrenPureReverseMapper;
+	}
+
+	private static Mapper zConstructParentNumericAttributeChildrenPureReverseMapper()
+	{
+		Mapper childrenMapper = ParentNumericAttributeFinder.zGetConstantJoin(0);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructParentNumericAttributeChildrenReverseMapper()
+	{
+		Mapper childrenMapper = ParentNumericAttributeFinder.zGetConstantJoin(0);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructParentNumericAttributeChildrenMapper()
+	{
+		Mapper childrenMapper = ParentNumericAttributeFinder.zGetConstantJoin(1);
+		childrenMapper.setName("parent");
+		return childrenMapper;
+	}
+
+	/** maps to PARENT_NUM_ATTR.ID **/
+	public static IntegerAttribute<ParentNumericAttribute> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PARENT_NUM_ATTR.USER_ID **/
+	public static IntegerAttribute<ParentNumericAttribute> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to PARENT_NUM_ATTR.DOUBLE_ATTR **/
+	public static DoubleAttribute<ParentNumericAttribute> doubleAttr()
+	{
+		return finder.doubleAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.FLOAT_ATTR **/
+	public static FloatAttribute<ParentNumericAttribute> floatAttr()
+	{
+		return finder.floatAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.LONG_ATTR **/
+	public static LongAttribute<ParentNumericAttribute> longAttr()
+	{
+		return finder.longAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.INT_ATTR **/
+	public static IntegerAttribute<ParentNumericAttribute> intAttr()
+	{
+		return finder.intAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.SHORT_ATTR **/
+	public static ShortAttribute<ParentNumericAttribute> shortAttr()
+	{
+		return finder.shortAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.BYTE_ATTR **/
+	public static ByteAttribute<ParentNumericAttribute> byteAttr()
+	{
+		return finder.byteAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.CHAR_ATTR **/
+	public static CharAttribute<ParentNumericAttribute> charAttr()
+	{
+		return finder.charAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.BIG_DECIMAL_ATTR **/
+	public static BigDecimalAttribute<ParentNumericAttribute> bigDecimalAttr()
+	{
+		return finder.bigDecimalAttr();
+	}
+
+	/** maps to PARENT_NUM_ATTR.VERY_BIG_DECIMAL_ATTR **/
+	public static BigDecimalAttribute<ParentNumericAttribute> veryBigDecimalAttr()
+	{
+		return finder.veryBigDecimalAttr();
+	}
+
+	public static ChildNumericAttributeFinder.ChildNumericAttributeCollectionFinderForRelatedClasses<ParentNumericAttribute, ChildNumericAttributeList, ParentNumericAttribute> children()
+	{
+		return finder.children();
+	}
+
+	public static class ParentNumericAttributeChildrenFinderSubclass<ParentOwnerType> extends ChildNumericAttributeFinder.ChildNumericAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ChildNumericAttributeList, ParentNumericAttribute>
+	{
+		public ParentNumericAttributeChildrenFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "children";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentNumericAttributeChildrenFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ChildNumericAttributeList plainValueOf(ParentNumericAttribute _obj)
+		{
+			return _obj.getChildren();
+		}
+
+		protected ChildNumericAttributeList plainListValueOf(Object _obj)
+		{
+			return ((ParentNumericAttributeList)_obj).getChildren();
+		}
+	}
+
+	public static Operation eq(ParentNumericAttribute other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ParentNumericAttributeSingleFinder<ParentNumericAttribute, Object, ParentNumericAttribute> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = doubleAttr();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[2];
+		result[0] = bigDecimalAttr();
+		result[1] = veryBigDecimalAttr();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ParentNumericAttribute");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
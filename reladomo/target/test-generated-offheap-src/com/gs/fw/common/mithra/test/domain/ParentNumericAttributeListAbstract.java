@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ParentNumericAttributeListAbstract extends DelegatingList<ParentNumericAttribute> implements MithraList<ParentNumericAttribute>
+{
+	public ParentNumericAttributeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ParentNumericAttributeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ParentNumericAttributeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ParentNumericAttributeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ParentNumericAttribute[] elements()
+	{
+		ParentNumericAttribute[] result = new ParentNumericAttribute[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ParentNumericAttributeList intersection(ParentNumericAttributeList another)
+	{
+		return (ParentNumericAttributeList)super.intersection(another);
+	}
+
+	public ParentNumericAttribute getParentNumericAttributeAt(int index)
+	{
+		return (ParentNumericAttribute)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = ChildNumericAttribute.parentId</pre>
+	* @see ChildNumericAttribute#getParent() reverse relationship ChildNumericAttribute.getParent()
+	* @return children
+	*/
+	public ChildNumericAttributeList getChildren()
+	{
+		return (ChildNumericAttributeList) this.getDelegated().resolveRelationship(this, ParentNumericAttributeFinder.children());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ParentNumericAttributeFinder.getMithraObjectPortal();
+	}
+
+	public ParentNumericAttributeList getNonPersistentCopy()
+	{
+		ParentNumericAttributeList result = new ParentNumericAttributeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ParentNumericAttributeList asAdhoc()
+	{
+		return (ParentNumericAttributeList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ParentNumericAttribute> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
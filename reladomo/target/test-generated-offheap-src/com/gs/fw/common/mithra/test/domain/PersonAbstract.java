@@ -0,0 +1,463 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PersonAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Person.class.getName());
+	private static final RelationshipHashStrategy forfirm = new FirmRhs();
+	private static final class FirmRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			PersonData _castedSrcData = (PersonData) _srcData;
+			FirmData _castedTargetData = (FirmData) _targetData;
+			if (!_castedSrcData.isFirmIdNull() && _castedSrcData.getFirmId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			PersonData _castedSrcData = (PersonData) _srcData;
+			return HashUtil.hash(_castedSrcData.getFirmId(), _castedSrcData.isFirmIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public PersonAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Person getDetachedCopy() throws MithraBusinessException
+	{
+		return (Person) super.getDetachedCopy();
+	}
+
+	public Person getNonPersistentCopy() throws MithraBusinessException
+	{
+		Person result = (Person) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Person copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Person) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Person zFindOriginal()
+	{
+		PersonData data = (PersonData) this.currentData;
+		Operation op;
+		op = PersonFinder.id().eq(data.getId());
+		return PersonFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PersonData();
+	}
+
+	protected void zSetFromPersonData( PersonData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPersonData( PersonData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAddressIdNull()
+	{
+		return ((PersonData) this.zSynchronizedGetData()).isAddressIdNull();
+	}
+
+	public int getAddressId()
+	{
+		PersonData data = (PersonData) this.zSynchronizedGetData();
+		if (data.isAddressIdNull()) MithraNullPrimitiveException.throwNew("addressId", data);
+		return data.getAddressId();
+	}
+
+	public void setAddressId(int newValue)
+	{
+		zSetInteger(PersonFinder.addressId(), newValue, false, false ,true);
+	}
+
+	public boolean isFirmIdNull()
+	{
+		return ((PersonData) this.zSynchronizedGetData()).isFirmIdNull();
+	}
+
+	public int getFirmId()
+	{
+		PersonData data = (PersonData) this.zSynchronizedGetData();
+		if (data.isFirmIdNull()) MithraNullPrimitiveException.throwNew("firmId", data);
+		return data.getFirmId();
+	}
+
+	public void setFirmId(int newValue)
+	{
+		zSetInteger(PersonFinder.firmId(), newValue, false, false ,true);
+	}
+
+	public boolean isFirstNameNull()
+	{
+		return ((PersonData) this.zSynchronizedGetData()).isFirstNameNull();
+	}
+
+	public String getFirstName()
+	{
+		PersonData data = (PersonData) this.zSynchronizedGetData();
+		return data.getFirstName();
+	}
+
+	public void setFirstName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'firstName' cannot exceed maximum length of 64: " + newValue);
+		zSetString(PersonFinder.firstName(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((PersonData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		PersonData data = (PersonData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PersonFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isLastNameNull()
+	{
+		return ((PersonData) this.zSynchronizedGetData()).isLastNameNull();
+	}
+
+	public String getLastName()
+	{
+		PersonData data = (PersonData) this.zSynchronizedGetData();
+		return data.getLastName();
+	}
+
+	public void setLastName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'lastName' cannot exceed maximum length of 64: " + newValue);
+		zSetString(PersonFinder.lastName(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, PersonFinder.firmId(), false);
+		zNullify(behavior, data, PersonFinder.addressId(), false);
+	}
+
+	public void setFirmIdNull()
+	{
+		zNullify(PersonFinder.firmId(), false);
+	}
+
+	public void setAddressIdNull()
+	{
+		zNullify(PersonFinder.addressId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PersonData _newData = (PersonData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PersonData _newData = (PersonData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PersonData _newData = (PersonData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.firmId = Firm.id</pre>
+	* @return The firm
+	*/
+	public final Firm getFirm()
+	{
+		Firm _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		PersonData _data = (PersonData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isFirmIdNull())
+			{
+				_portal = FirmFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forfirm, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Firm) _related;
+				if (_related == null)
+				{
+					_op = FirmFinder.id().eq(_data.getFirmId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isFirmIdNull())
+				{
+					Operation detachedOp = FirmFinder.id().eq(_data.getFirmId());
+					_result = FirmFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Firm) _data.getFirm();
+			if (_result == null)
+			{
+				if (!_data.isFirmIdNull())
+				{
+					_op = FirmFinder.id().eq(_data.getFirmId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = FirmFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setFirm(Firm firm)
+	{
+		Firm _firm = (Firm) firm;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PersonData _data = (PersonData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setFirm(_firm);
+			if (_firm == null)
+			{
+				this.setFirmIdNull();
+			}
+			else
+			{
+				this.setFirmId(_firm.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_firm == null)
+			{
+				this.setFirmIdNull();
+			}
+			else
+			{
+				this.setFirmId(
+					_firm.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.addressId = PersonAddress.id and PersonAddress.addressType={addressType}</pre>
+	* @return The address
+	*/
+	public PersonAddress getAddress(String addressType)
+	{
+		PersonAddress _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		PersonData _data = (PersonData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isAddressIdNull())
+			{
+				_result = (PersonAddress) PersonAddressFinder.findByPrimaryKey(_data.getAddressId(),
+					addressType);
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Person zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Person original = (Person) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return PersonFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PersonFinder.getMithraObjectPortal();
+	}
+
+	public Person getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, PersonFinder.addressId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PersonFinder.firmId(), false);
+		changed |= zUpdateString(behavior, data, newData, PersonFinder.firstName(), false);
+		changed |= zUpdateString(behavior, data, newData, PersonFinder.lastName(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, PersonFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PersonAbstract result = (PersonAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
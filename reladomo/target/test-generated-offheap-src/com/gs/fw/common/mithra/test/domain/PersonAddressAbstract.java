@@ -0,0 +1,305 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class PersonAddressAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(PersonAddress.class.getName());
+	public PersonAddressAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public PersonAddress getDetachedCopy() throws MithraBusinessException
+	{
+		return (PersonAddress) super.getDetachedCopy();
+	}
+
+	public PersonAddress getNonPersistentCopy() throws MithraBusinessException
+	{
+		PersonAddress result = (PersonAddress) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public PersonAddress copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (PersonAddress) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		PersonAddressData otherData = (PersonAddressData)other.zGetTxDataForRead();
+		return ((PersonAddressData) this.zGetTxDataForRead()).zHasSameNullPrimaryKeyAttributes(otherData);
+	}
+
+	public PersonAddress zFindOriginal()
+	{
+		PersonAddressData data = (PersonAddressData) this.currentData;
+		Operation op;
+		op = PersonAddressFinder.id().eq(data.getId());
+		if(data.isAddressTypeNull())
+		{
+			op = op.and(PersonAddressFinder.addressType().isNull());
+		}
+		else
+		{
+			op = op.and(PersonAddressFinder.addressType().eq(data.getAddressType()));
+		}
+
+		return PersonAddressFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new PersonAddressData();
+	}
+
+	protected void zSetFromPersonAddressData( PersonAddressData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromPersonAddressData( PersonAddressData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAddressTypeNull()
+	{
+		return ((PersonAddressData) this.zSynchronizedGetData()).isAddressTypeNull();
+	}
+
+	public String getAddressType()
+	{
+		PersonAddressData data = (PersonAddressData) this.zSynchronizedGetData();
+		return data.getAddressType();
+	}
+
+	public void setAddressType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'addressType' cannot exceed maximum length of 64: " + newValue);
+		zSetString(PersonAddressFinder.addressType(), newValue, true, false );
+	}
+
+	public boolean isCityNull()
+	{
+		return ((PersonAddressData) this.zSynchronizedGetData()).isCityNull();
+	}
+
+	public String getCity()
+	{
+		PersonAddressData data = (PersonAddressData) this.zSynchronizedGetData();
+		return data.getCity();
+	}
+
+	public void setCity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'city' cannot exceed maximum length of 64: " + newValue);
+		zSetString(PersonAddressFinder.city(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((PersonAddressData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		PersonAddressData data = (PersonAddressData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PersonAddressFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isStreetNull()
+	{
+		return ((PersonAddressData) this.zSynchronizedGetData()).isStreetNull();
+	}
+
+	public String getStreet()
+	{
+		PersonAddressData data = (PersonAddressData) this.zSynchronizedGetData();
+		return data.getStreet();
+	}
+
+	public void setStreet(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 64)
+		throw new MithraBusinessException("Attribute 'street' cannot exceed maximum length of 64: " + newValue);
+		zSetString(PersonAddressFinder.street(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		PersonAddressData _newData = (PersonAddressData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		PersonAddressData _newData = (PersonAddressData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PersonAddressData _newData = (PersonAddressData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public PersonAddress zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		PersonAddress original = (PersonAddress) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return PersonAddressFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return PersonAddressFinder.getMithraObjectPortal();
+	}
+
+	public PersonAddress getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PersonAddressFinder.city(), false);
+		changed |= zUpdateString(behavior, data, newData, PersonAddressFinder.street(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, PersonAddressFinder.addressType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, PersonAddressFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		PersonAddressAbstract result = (PersonAddressAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
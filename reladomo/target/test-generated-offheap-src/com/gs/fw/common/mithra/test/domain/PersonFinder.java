@@ -0,0 +1,911 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PersonFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Person";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Person";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Person");
+	private static final PersonSingleFinder<Person, Object, Person> finder = new PersonSingleFinder<Person, Object, Person>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PersonFinder.PersonRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("firstName");
+		finderMethodMap.addNormalAttributeName("lastName");
+		finderMethodMap.addNormalAttributeName("firmId");
+		finderMethodMap.addNormalAttributeName("addressId");
+		finderMethodMap.addRelationshipName("firm");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = PersonFinder.firmId().constructEqualityMapper(FirmFinder.id());
+			result[1] = FirmFinder.id().constructEqualityMapper(PersonFinder.firmId());
+			result[2] = PersonFinder.addressId().constructEqualityMapper(PersonAddressFinder.id());
+			result[3] = PersonAddressFinder.id().constructEqualityMapper(PersonFinder.addressId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Person findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Person findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PersonList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PersonList) finder.findMany(operation);
+	}
+
+	public static PersonList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PersonList) finder.findManyBypassCache(operation);
+	}
+
+	private static Person findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Person) FinderUtils.findOne(found);
+	}
+
+	public static Person findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PersonData _castedTargetData = (PersonData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Person zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Person) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PersonRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Person, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> firstName;
+		private StringAttribute<ParentOwnerType> lastName;
+		private IntegerAttribute<ParentOwnerType> firmId;
+		private IntegerAttribute<ParentOwnerType> addressId;
+		private PersonFirmFinderSubclass<ParentOwnerType> firm;
+		public PersonRelatedFinder()
+		{
+			super();
+		}
+
+		public PersonRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.PersonFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PersonFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PersonFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PersonFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.firstName();
+			attributes[2] = this.lastName();
+			attributes[3] = this.firmId();
+			attributes[4] = this.addressId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.firm());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Person findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PersonFinder.findOne(operation, false);
+		}
+
+		public Person findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PersonFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Person> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PersonList((Operation) operation);
+		}
+
+		public MithraList<? extends Person> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PersonList result = (PersonList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Person> constructEmptyList()
+		{
+			return new PersonList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -741298061;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PersonFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> firstName()
+		{
+			StringAttribute<ParentOwnerType> result = this.firstName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("FIRST_NAME","","firstName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,64,true, false) :
+					new MappedStringAttribute(PersonFinder.firstName(), this.mapper, this.zGetValueSelector());
+				this.firstName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> lastName()
+		{
+			StringAttribute<ParentOwnerType> result = this.lastName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LAST_NAME","","lastName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,64,true, false) :
+					new MappedStringAttribute(PersonFinder.lastName(), this.mapper, this.zGetValueSelector());
+				this.lastName = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> firmId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.firmId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("FIRM_ID","","firmId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PersonFinder.firmId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("firm");
+				this.firmId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> addressId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.addressId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ADDRESS_ID","","addressId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PersonFinder.addressId(), this.mapper, this.zGetValueSelector());
+				this.addressId = result;
+			}
+
+			return result;
+		}
+
+		public FirmFinder.FirmSingleFinderForRelatedClasses<ParentOwnerType, Firm, Person> firm()
+		{
+			PersonFirmFinderSubclass<ParentOwnerType> result = this.firm;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PersonFinder.zGetPersonFirmReverseMapper());
+				newMapper.setToMany(false);
+				result = new PersonFirmFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.firm = result;
+			}
+
+			return result;
+		}
+
+		public PersonAddressFinder.PersonAddressSingleFinderForRelatedClasses<ParentOwnerType, PersonAddress, Person> address(String addressType)
+		{
+			PersonAddressFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(PersonFinder.zGetPersonAddressReverseMapper(addressType));
+			newMapper.setToMany(false);
+			result = new PersonAddressFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,addressType);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PersonFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PersonFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PersonCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PersonRelatedFinder<ParentOwnerType, ReturnType, PersonList, OwnerType>
+	{
+		public PersonCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PersonCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PersonCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PersonCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PersonSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PersonRelatedFinder<ParentOwnerType, ReturnType, PersonList, OwnerType>
+	implements ToOneFinder
+	{
+		public PersonSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PersonSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Person other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Person findByPrimaryKey(int id)
+		{
+			Person _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Person) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PersonSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PersonSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PersonSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper firmReverseMapper = null;
+	public static Mapper zGetPersonFirmReverseMapper()
+	{
+		if (firmReverseMapper == null)
+		{
+			firmReverseMapper = zConstructPersonFirmReverseMapper();
+		}
+
+		return firmReverseMapper;
+	}
+
+	private static Mapper firmMapper = null;
+	public static Mapper zGetPersonFirmMapper()
+	{
+		if (firmMapper == null)
+		{
+			firmMapper = zConstructPersonFirmMapper();
+		}
+
+		return firmMapper;
+	}
+
+	private static Mapper firmPureReverseMapper = null;
+	public static Mapper zGetPersonFirmPureReverseMapper()
+	{
+		if (firmPureReverseMapper == null)
+		{
+			firmPureReverseMapper = zConstructPersonFirmPureReverseMapper();
+		}
+
+		return firmPureReverseMapper;
+	}
+
+	private static Mapper zConstructPersonFirmPureReverseMapper()
+	{
+		Mapper firmMapper = PersonFinder.zGetConstantJoin(0);
+		firmMapper.setName("firm");
+		return firmMapper;
+	}
+
+	private static Mapper zConstructPersonFirmReverseMapper()
+	{
+		Mapper firmMapper = PersonFinder.zGetConstantJoin(0);
+		firmMapper.setName("firm");
+		return firmMapper;
+	}
+
+	private static Mapper zConstructPersonFirmMapper()
+	{
+		Mapper firmMapper = FirmFinder.zGetConstantJoin(0);
+		firmMapper.setName("firm_Reverse");
+		return firmMapper;
+	}
+
+	public static Mapper zGetPersonAddressReverseMapper(String addressType)
+	{
+		return zConstructPersonAddressReverseMapper(addressType);
+	}
+
+	public static Mapper zGetPersonAddressMapper(String addressType)
+	{
+		return zConstructPersonAddressMapper(addressType);
+	}
+
+	private static Mapper addressPureReverseMapper = null;
+	public static Mapper zGetPersonAddressPureReverseMapper()
+	{
+		if (addressPureReverseMapper == null)
+		{
+			addressPureReverseMapper = zConstructPersonAddressPureReverseMapper();
+		}
+
+		return addressPureReverseMapper;
+	}
+
+	private static Mapper zConstructPersonAddressPureReverseMapper()
+	{
+		Mapper addressMapper = PersonFinder.zGetConstantJoin(2);
+		addressMapper.setName("address");
+		return addressMapper;
+	}
+
+	private static Mapper zConstructPersonAddressReverseMapper(String addressType)
+	{
+		Mapper addressMapperInnerMapper = PersonFinder.zGetConstantJoin(2);
+		Mapper addressMapper = new FilteredMapper(addressMapperInnerMapper, null, PersonAddressFinder.addressType().eq(addressType));
+		addressMapper.setName("address");
+		return addressMapper;
+	}
+
+	private static Mapper zConstructPersonAddressMapper(String addressType)
+	{
+		Mapper addressMapperInnerMapper = PersonFinder.zGetConstantJoin(3);
+		Mapper addressMapper = new FilteredMapper(addressMapperInnerMapper, PersonAddressFinder.addressType().eq(addressType), null);
+		addressMapper.setName("address_Reverse");
+		return addressMapper;
+	}
+
+	/** maps to PERSON_TBL.OBJECTID **/
+	public static IntegerAttribute<Person> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PERSON_TBL.FIRST_NAME **/
+	public static StringAttribute<Person> firstName()
+	{
+		return finder.firstName();
+	}
+
+	/** maps to PERSON_TBL.LAST_NAME **/
+	public static StringAttribute<Person> lastName()
+	{
+		return finder.lastName();
+	}
+
+	/** maps to PERSON_TBL.FIRM_ID **/
+	public static IntegerAttribute<Person> firmId()
+	{
+		return finder.firmId();
+	}
+
+	/** maps to PERSON_TBL.ADDRESS_ID **/
+	public static IntegerAttribute<Person> addressId()
+	{
+		return finder.addressId();
+	}
+
+	public static FirmFinder.FirmSingleFinderForRelatedClasses<Person, Firm, Person> firm()
+	{
+		return finder.firm();
+	}
+
+	public static class PersonFirmFinderSubclass<ParentOwnerType> extends FirmFinder.FirmSingleFinderForRelatedClasses<ParentOwnerType, Firm, Person>
+	{
+		public PersonFirmFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "firm";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PersonFirmFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Firm plainValueOf(Person _obj)
+		{
+			return _obj.getFirm();
+		}
+
+		protected FirmList plainListValueOf(Object _obj)
+		{
+			return ((PersonList)_obj).getFirms();
+		}
+	}
+
+	public static PersonAddressFinder.PersonAddressSingleFinderForRelatedClasses<Person, PersonAddress, Person> address(String addressType)
+	{
+		return finder.address(addressType);
+	}
+
+	public static class PersonAddressFinderSubclass<ParentOwnerType> extends PersonAddressFinder.PersonAddressSingleFinderForRelatedClasses<ParentOwnerType, PersonAddress, Person>
+	{
+		private String addressType;
+		public PersonAddressFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String addressType)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.addressType = addressType;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "address";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PersonAddressFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.addressType
+			);
+		}
+
+		protected PersonAddress plainValueOf(Person _obj)
+		{
+			return _obj.getAddress(addressType);
+		}
+
+		protected PersonAddressList plainListValueOf(Object _obj)
+		{
+			return ((PersonList)_obj).getAddress(addressType);
+		}
+	}
+
+	public static Operation eq(Person other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static PersonSingleFinder<Person, Object, Person> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			firmId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			addressId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			FirmFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			FirmFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Person");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
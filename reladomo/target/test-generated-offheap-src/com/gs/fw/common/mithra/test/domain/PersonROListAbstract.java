@@ -0,0 +1,128 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PersonROListAbstract extends DelegatingList<PersonRO> implements MithraList<PersonRO>
+{
+	public PersonROListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PersonROListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PersonROListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PersonROListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public PersonRO[] elements()
+	{
+		PersonRO[] result = new PersonRO[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PersonROList intersection(PersonROList another)
+	{
+		return (PersonROList)super.intersection(another);
+	}
+
+	public PersonRO getPersonROAt(int index)
+	{
+		return (PersonRO)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.firmId = FirmRO.id</pre>
+	* @return The firm
+	*/
+	public FirmROList getFirms()
+	{
+		return (FirmROList) this.getDelegated().resolveRelationship(this, PersonROFinder.firm());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.addressId = PersonAddressRO.id and PersonAddressRO.addressType={addressType}</pre>
+	* @return The address
+	*/
+	public PersonAddressROList getAddress(String addressType)
+	{
+		return (PersonAddressROList) this.getDelegated().resolveRelationship(this, PersonROFinder.address(addressType));
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PersonROFinder.getMithraObjectPortal();
+	}
+
+	public PersonROList getNonPersistentCopy()
+	{
+		PersonROList result = new PersonROList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PersonROList asAdhoc()
+	{
+		return (PersonROList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<PersonRO> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
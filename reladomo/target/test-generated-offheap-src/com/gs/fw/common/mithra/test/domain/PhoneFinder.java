@@ -0,0 +1,969 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PhoneFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Phone";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Phone";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Phone");
+	private static final PhoneSingleFinder<Phone, Object, Phone> finder = new PhoneSingleFinder<Phone, Object, Phone>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PhoneFinder.PhoneRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("weight");
+		finderMethodMap.addNormalAttributeName("unitPrice");
+		finderMethodMap.addNormalAttributeName("inventoryId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("manufacturerId");
+		finderMethodMap.addNormalAttributeName("inventoryLevel");
+		finderMethodMap.addRelationshipName("suppliers");
+		finderMethodMap.addRelationshipName("manufacturer");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = PhoneFinder.inventoryId().constructEqualityMapper(SupplierInventoryItemFinder.inventoryId());
+			result[1] = SupplierInventoryItemFinder.inventoryId().constructEqualityMapper(PhoneFinder.inventoryId());
+			result[2] = PhoneFinder.manufacturerId().constructEqualityMapper(ManufacturerFinder.manufacturerId());
+			result[3] = ManufacturerFinder.manufacturerId().constructEqualityMapper(PhoneFinder.manufacturerId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Phone findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Phone findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PhoneList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PhoneList) finder.findMany(operation);
+	}
+
+	public static PhoneList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PhoneList) finder.findManyBypassCache(operation);
+	}
+
+	private static Phone findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Phone) FinderUtils.findOne(found);
+	}
+
+	public static Phone findByPrimaryKey(int inventoryId)
+	{
+		return finder.findByPrimaryKey(inventoryId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PhoneData _castedTargetData = (PhoneData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getInventoryId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Phone zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Phone) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PhoneRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Phone, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements InventoryItemFinder<Phone>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private DoubleAttribute<ParentOwnerType> weight;
+		private DoubleAttribute<ParentOwnerType> unitPrice;
+		private IntegerAttribute<ParentOwnerType> inventoryId;
+		private StringAttribute<ParentOwnerType> description;
+		private IntegerAttribute<ParentOwnerType> manufacturerId;
+		private IntegerAttribute<ParentOwnerType> inventoryLevel;
+		private PhoneSuppliersFinderSubclass<ParentOwnerType> suppliers;
+		private PhoneManufacturerFinderSubclass<ParentOwnerType> manufacturer;
+		public PhoneRelatedFinder()
+		{
+			super();
+		}
+
+		public PhoneRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.PhoneFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PhoneFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PhoneFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PhoneFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.weight();
+			attributes[1] = this.unitPrice();
+			attributes[2] = this.inventoryId();
+			attributes[3] = this.description();
+			attributes[4] = this.manufacturerId();
+			attributes[5] = this.inventoryLevel();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.suppliers());
+				relatedFinders.add(this.manufacturer());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Phone findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PhoneFinder.findOne(operation, false);
+		}
+
+		public Phone findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PhoneFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Phone> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PhoneList((Operation) operation);
+		}
+
+		public MithraList<? extends Phone> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PhoneList result = (PhoneList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Phone> constructEmptyList()
+		{
+			return new PhoneList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1370283675;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public DoubleAttribute<ParentOwnerType> weight()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.weight;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("WEIGHT","","weight",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(PhoneFinder.weight(), this.mapper, this.zGetValueSelector());
+				this.weight = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unitPrice()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unitPrice;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PRICE","","unitPrice",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(PhoneFinder.unitPrice(), this.mapper, this.zGetValueSelector());
+				this.unitPrice = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> inventoryId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.inventoryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","inventoryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PhoneFinder.inventoryId(), this.mapper, this.zGetValueSelector());
+				this.inventoryId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(PhoneFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> manufacturerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.manufacturerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("MANUFACTURER_ID","","manufacturerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PhoneFinder.manufacturerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("manufacturer");
+				this.manufacturerId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> inventoryLevel()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.inventoryLevel;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INVENTORY_LEVEL","","inventoryLevel",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PhoneFinder.inventoryLevel(), this.mapper, this.zGetValueSelector());
+				this.inventoryLevel = result;
+			}
+
+			return result;
+		}
+
+		public SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Phone> suppliers()
+		{
+			PhoneSuppliersFinderSubclass<ParentOwnerType> result = this.suppliers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PhoneFinder.zGetPhoneSuppliersReverseMapper());
+				newMapper.setToMany(true);
+				result = new PhoneSuppliersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.suppliers = result;
+			}
+
+			return result;
+		}
+
+		public ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, Phone> manufacturer()
+		{
+			PhoneManufacturerFinderSubclass<ParentOwnerType> result = this.manufacturer;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PhoneFinder.zGetPhoneManufacturerReverseMapper());
+				newMapper.setToMany(false);
+				result = new PhoneManufacturerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.manufacturer = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PhoneFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PhoneFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PhoneCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PhoneRelatedFinder<ParentOwnerType, ReturnType, PhoneList, OwnerType>
+	{
+		public PhoneCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PhoneCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PhoneCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PhoneCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PhoneSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PhoneRelatedFinder<ParentOwnerType, ReturnType, PhoneList, OwnerType>
+	implements ToOneFinder
+	{
+		public PhoneSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PhoneSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Phone other)
+		{
+			return this.inventoryId().eq(other.getInventoryId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Phone findByPrimaryKey(int inventoryId)
+		{
+			Phone _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(inventoryId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Phone) _related;
+			if (_related == null)
+			{
+				_op = this.inventoryId().eq(inventoryId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PhoneSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PhoneSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PhoneSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper suppliersReverseMapper = null;
+	public static Mapper zGetPhoneSuppliersReverseMapper()
+	{
+		if (suppliersReverseMapper == null)
+		{
+			suppliersReverseMapper = zConstructPhoneSuppliersReverseMapper();
+		}
+
+		return suppliersReverseMapper;
+	}
+
+	private static Mapper suppliersMapper = null;
+	public static Mapper zGetPhoneSuppliersMapper()
+	{
+		if (suppliersMapper == null)
+		{
+			suppliersMapper = zConstructPhoneSuppliersMapper();
+		}
+
+		return suppliersMapper;
+	}
+
+	private static Mapper suppliersPureReverseMapper = null;
+	public static Mapper zGetPhoneSuppliersPureReverseMapper()
+	{
+		if (suppliersPureReverseMapper == null)
+		{
+			suppliersPureReverseMapper = zConstructPhoneSuppliersPureReverseMapper();
+		}
+
+		return suppliersPureReverseMapper;
+	}
+
+	private static Mapper zConstructPhoneSuppliersPureReverseMapper()
+	{
+		Mapper suppliersc0Mapper = PhoneFinder.zGetConstantJoin(0);
+		Mapper suppliersc1Mapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersMapper = new ChainedMapper(suppliersc0Mapper,suppliersc1Mapper);
+		suppliersMapper.setName("suppliers");
+		return suppliersMapper;
+	}
+
+	private static Mapper zConstructPhoneSuppliersReverseMapper()
+	{
+		Mapper suppliersc0Mapper = PhoneFinder.zGetConstantJoin(0);
+		Mapper suppliersc1MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(0);
+		Mapper suppliersc1Mapper = new FilteredMapper(suppliersc1MapperInnerMapper, null, SupplierFinder.zGetConstantOperation(2));
+		Mapper suppliersMapper = new ChainedMapper(suppliersc0Mapper,suppliersc1Mapper);
+		suppliersMapper.setName("suppliers");
+		return suppliersMapper;
+	}
+
+	private static Mapper zConstructPhoneSuppliersMapper()
+	{
+		Mapper suppliersc0MapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		Mapper suppliersc0Mapper = new FilteredMapper(suppliersc0MapperInnerMapper, SupplierFinder.zGetConstantOperation(2), null);
+		Mapper suppliersc1Mapper = PhoneFinder.zGetConstantJoin(1);
+		Mapper suppliersMapper = new ChainedMapper(suppliersc0Mapper,suppliersc1Mapper);
+		suppliersMapper.setName("suppliedPhones");
+		return suppliersMapper;
+	}
+
+	private static Mapper suppliersMapperFragment = null;
+	public static Mapper zGetSuppliersMapperFragment()
+	{
+		if (suppliersMapperFragment == null)
+		{
+			suppliersMapperFragment = zConstructSuppliersMapperFragment();
+		}
+
+		return suppliersMapperFragment;
+	}
+
+	private static Mapper zConstructSuppliersMapperFragment()
+	{
+		Mapper suppliersMapperInnerMapper = SupplierInventoryItemFinder.zGetConstantJoin(1);
+		return new FilteredMapper(suppliersMapperInnerMapper, SupplierFinder.zGetConstantOperation(2), null);
+	}
+
+	private static Mapper manufacturerReverseMapper = null;
+	public static Mapper zGetPhoneManufacturerReverseMapper()
+	{
+		if (manufacturerReverseMapper == null)
+		{
+			manufacturerReverseMapper = zConstructPhoneManufacturerReverseMapper();
+		}
+
+		return manufacturerReverseMapper;
+	}
+
+	private static Mapper manufacturerMapper = null;
+	public static Mapper zGetPhoneManufacturerMapper()
+	{
+		if (manufacturerMapper == null)
+		{
+			manufacturerMapper = zConstructPhoneManufacturerMapper();
+		}
+
+		return manufacturerMapper;
+	}
+
+	private static Mapper manufacturerPureReverseMapper = null;
+	public static Mapper zGetPhoneManufacturerPureReverseMapper()
+	{
+		if (manufacturerPureReverseMapper == null)
+		{
+			manufacturerPureReverseMapper = zConstructPhoneManufacturerPureReverseMapper();
+		}
+
+		return manufacturerPureReverseMapper;
+	}
+
+	private static Mapper zConstructPhoneManufacturerPureReverseMapper()
+	{
+		Mapper manufacturerMapper = PhoneFinder.zGetConstantJoin(2);
+		manufacturerMapper.setName("manufacturer");
+		return manufacturerMapper;
+	}
+
+	private static Mapper zConstructPhoneManufacturerReverseMapper()
+	{
+		Mapper manufacturerMapper = PhoneFinder.zGetConstantJoin(2);
+		manufacturerMapper.setName("manufacturer");
+		return manufacturerMapper;
+	}
+
+	private static Mapper zConstructPhoneManufacturerMapper()
+	{
+		Mapper manufacturerMapper = PhoneFinder.zGetConstantJoin(3);
+		manufacturerMapper.setName("manufacturer_Reverse");
+		return manufacturerMapper;
+	}
+
+	/** maps to PHONE.WEIGHT **/
+	public static DoubleAttribute<Phone> weight()
+	{
+		return finder.weight();
+	}
+
+	/** maps to PHONE.PRICE **/
+	public static DoubleAttribute<Phone> unitPrice()
+	{
+		return finder.unitPrice();
+	}
+
+	/** maps to PHONE.ID **/
+	public static IntegerAttribute<Phone> inventoryId()
+	{
+		return finder.inventoryId();
+	}
+
+	/** maps to PHONE.DESCRIPTION **/
+	public static StringAttribute<Phone> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to PHONE.MANUFACTURER_ID **/
+	public static IntegerAttribute<Phone> manufacturerId()
+	{
+		return finder.manufacturerId();
+	}
+
+	/** maps to PHONE.INVENTORY_LEVEL **/
+	public static IntegerAttribute<Phone> inventoryLevel()
+	{
+		return finder.inventoryLevel();
+	}
+
+	public static SupplierFinder.SupplierCollectionFinderForRelatedClasses<Phone, SupplierList, Phone> suppliers()
+	{
+		return finder.suppliers();
+	}
+
+	public static class PhoneSuppliersFinderSubclass<ParentOwnerType> extends SupplierFinder.SupplierCollectionFinderForRelatedClasses<ParentOwnerType, SupplierList, Phone>
+	{
+		public PhoneSuppliersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "suppliers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PhoneSuppliersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected SupplierList plainValueOf(Phone _obj)
+		{
+			return _obj.getSuppliers();
+		}
+
+		protected SupplierList plainListValueOf(Object _obj)
+		{
+			return ((PhoneList)_obj).getSuppliers();
+		}
+	}
+
+	public static ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<Phone, Manufacturer, Phone> manufacturer()
+	{
+		return finder.manufacturer();
+	}
+
+	public static class PhoneManufacturerFinderSubclass<ParentOwnerType> extends ManufacturerFinder.ManufacturerSingleFinderForRelatedClasses<ParentOwnerType, Manufacturer, Phone>
+	{
+		public PhoneManufacturerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "manufacturer";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PhoneManufacturerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Manufacturer plainValueOf(Phone _obj)
+		{
+			return _obj.getManufacturer();
+		}
+
+		protected ManufacturerList plainListValueOf(Object _obj)
+		{
+			return ((PhoneList)_obj).getManufacturers();
+		}
+	}
+
+	public static Operation eq(Phone other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(inventoryId());
+	}
+
+	public static PhoneSingleFinder<Phone, Object, Phone> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			inventoryId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			weight()
+			, inventoryId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			manufacturerId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ManufacturerFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = weight();
+		result[1] = unitPrice();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Phone");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,196 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PhoneListAbstract extends DelegatingList<Phone> implements MithraTransactionalList<Phone>
+{
+	public PhoneListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PhoneListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PhoneListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PhoneListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Phone[] elements()
+	{
+		Phone[] result = new Phone[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PhoneList intersection(PhoneList another)
+	{
+		return (PhoneList)super.intersection(another);
+	}
+
+	public Phone getPhoneAt(int index)
+	{
+		return (Phone)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	SupplierInventoryItem.inventoryId = this.inventoryId and SupplierInventoryItem.supplierId = Supplier.supplierId and Supplier.location = "New York"</pre>
+	* @see Supplier#getSuppliedPhones() reverse relationship Supplier.getSuppliedPhones()
+	* @return suppliers
+	*/
+	public SupplierList getSuppliers()
+	{
+		return (SupplierList) this.getDelegated().resolveRelationship(this, PhoneFinder.suppliers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Manufacturer.manufacturerId = this.manufacturerId</pre>
+	* @return The manufacturer
+	*/
+	public ManufacturerList getManufacturers()
+	{
+		return (ManufacturerList) this.getDelegated().resolveRelationship(this, PhoneFinder.manufacturer());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PhoneFinder.getMithraObjectPortal();
+	}
+
+	public PhoneList getNonPersistentCopy()
+	{
+		PhoneList result = new PhoneList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PhoneList asAdhoc()
+	{
+		return (PhoneList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Phone> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public PhoneList merge(MithraTransactionalList<Phone> incoming, TopLevelMergeOptions<Phone> mergeOptions)
+	{
+		return (PhoneList) super.merge(incoming, mergeOptions);
+	}
+
+	public PhoneList getDetachedCopy()
+	{
+		PhoneList result = new PhoneList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(PhoneFinder.description(), newValue);
+	}
+
+	public void setInventoryId(int newValue)
+	{
+		zSetInteger(PhoneFinder.inventoryId(), newValue);
+	}
+
+	public void setInventoryLevel(int newValue)
+	{
+		zSetInteger(PhoneFinder.inventoryLevel(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(PhoneFinder.manufacturerId(), newValue);
+	}
+
+	public void setUnitPrice(double newValue)
+	{
+		zSetDouble(PhoneFinder.unitPrice(), newValue);
+	}
+
+	public void setWeight(double newValue)
+	{
+		zSetDouble(PhoneFinder.weight(), newValue);
+	}
+
+	public void setWeightNull()
+	{
+		zSetAttributeNull(PhoneFinder.weight());
+	}
+
+	public void setUnitPriceNull()
+	{
+		zSetAttributeNull(PhoneFinder.unitPrice());
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(PhoneFinder.manufacturerId());
+	}
+
+	public void setInventoryLevelNull()
+	{
+		zSetAttributeNull(PhoneFinder.inventoryLevel());
+	}
+}
@@ -0,0 +1,472 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PlayerData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String designation;
+	private String email;
+	private int id;
+	private String name;
+	private String sourceId;
+	private int teamId;
+	public boolean isDesignationNull()
+	{
+		return this.getDesignation() == null;
+	}
+
+	public boolean isEmailNull()
+	{
+		return this.getEmail() == null;
+	}
+
+	public boolean isIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return this.getSourceId() == null;
+	}
+
+	public boolean isTeamIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.designation);
+		out.writeObject(this.email);
+		out.writeInt(this.id);
+		out.writeObject(this.name);
+		out.writeObject(this.sourceId);
+		out.writeInt(this.teamId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getDesignation()
+	{
+		return this.designation;
+	}
+
+	public int zGetDesignationAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(designation);
+	}
+
+	public void setDesignation(String value)
+	{
+		this.designation = StringPool.getInstance().getOrAddToCache(value, PlayerFinder.isFullCache());
+	}
+
+	public void setDesignationNull()
+	{
+		this.setDesignation(null);
+	}
+
+	public String getEmail()
+	{
+		return this.email;
+	}
+
+	public int zGetEmailAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(email);
+	}
+
+	public void setEmail(String value)
+	{
+		this.email = StringPool.getInstance().getOrAddToCache(value, PlayerFinder.isFullCache());
+	}
+
+	public void setEmailNull()
+	{
+		this.setEmail(null);
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public void setId(int value)
+	{
+		this.id = value;
+	}
+
+	public void setIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public int zGetNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(name);
+	}
+
+	public void setName(String value)
+	{
+		this.name = StringPool.getInstance().getOrAddToCache(value, PlayerFinder.isFullCache());
+	}
+
+	public void setNameNull()
+	{
+		this.setName(null);
+	}
+
+	public String getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public int zGetSourceIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(sourceId);
+	}
+
+	public void setSourceId(String value)
+	{
+		this.sourceId = StringPool.getInstance().getOrAddToCache(value, PlayerFinder.isFullCache());
+	}
+
+	public void setSourceIdNull()
+	{
+		this.setSourceId(null);
+	}
+
+	public int getTeamId()
+	{
+		return this.teamId;
+	}
+
+	public void setTeamId(int value)
+	{
+		this.teamId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public void setTeamIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(PlayerData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.designation = this.designation;
+		copy.email = this.email;
+		copy.id = this.id;
+		copy.name = this.name;
+		copy.sourceId = this.sourceId;
+		copy.teamId = this.teamId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[1];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.designation = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PlayerFinder.isFullCache());
+		this.email = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PlayerFinder.isFullCache());
+		this.id = in.readInt();
+		this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PlayerFinder.isFullCache());
+		this.sourceId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PlayerFinder.isFullCache());
+		this.teamId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final PlayerData otherData = (PlayerData) other;
+		if (getId() != otherData.getId())
+		{
+			return false;
+		}
+
+		if (!isSourceIdNull() ? !getSourceId().equals(otherData.getSourceId()) : !otherData.isSourceIdNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.id);
+		out.writeObject(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.id = in.readInt();
+		this.sourceId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PlayerFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getTeam()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setTeam(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final PlayerData playerData = (PlayerData) newData;
+		this.setDesignation(playerData.getDesignation());
+		this.setEmail(playerData.getEmail());
+		this.setName(playerData.getName());
+		this.setSourceId(playerData.getSourceId());
+		this.setTeamId(playerData.getTeamId());
+		if (playerData.isTeamIdNull()) this.setTeamIdNull();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final PlayerData other = (PlayerData) newData;
+		if (!isDesignationNull() ? !getDesignation().equals(other.getDesignation()) : !other.isDesignationNull())
+		{
+			return true;
+		}
+
+		if (!isEmailNull() ? !getEmail().equals(other.getEmail()) : !other.isEmailNull())
+		{
+			return true;
+		}
+
+		if (!isNameNull() ? !getName().equals(other.getName()) : !other.isNameNull())
+		{
+			return true;
+		}
+
+		if (!isSourceIdNull() ? !getSourceId().equals(other.getSourceId()) : !other.isSourceIdNull())
+		{
+			return true;
+		}
+
+		if ( isTeamIdNull() != other.isTeamIdNull() || getTeamId() != other.getTeamId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		PlayerData copy = new PlayerData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		PlayerData copy = new PlayerData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "id: "+(""+getId())+ " / ";
+		result += "sourceId: "+"'"+getSourceId()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.PlayerData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return PlayerFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return PlayerFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.PlayerData";
+	}
+}
@@ -0,0 +1,171 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PlayerListAbstract extends DelegatingList<Player> implements MithraTransactionalList<Player>
+{
+	public PlayerListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PlayerListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PlayerListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PlayerListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Player[] elements()
+	{
+		Player[] result = new Player[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PlayerList intersection(PlayerList another)
+	{
+		return (PlayerList)super.intersection(another);
+	}
+
+	public Player getPlayerAt(int index)
+	{
+		return (Player)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.teamId = Team.teamId</pre>
+	* @see Team#getPlayers() reverse relationship Team.getPlayers()
+	* @return The team
+	*/
+	public TeamList getTeams()
+	{
+		return (TeamList) this.getDelegated().resolveRelationship(this, PlayerFinder.team());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PlayerFinder.getMithraObjectPortal();
+	}
+
+	public PlayerList getNonPersistentCopy()
+	{
+		PlayerList result = new PlayerList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PlayerList asAdhoc()
+	{
+		return (PlayerList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Player> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public PlayerList merge(MithraTransactionalList<Player> incoming, TopLevelMergeOptions<Player> mergeOptions)
+	{
+		return (PlayerList) super.merge(incoming, mergeOptions);
+	}
+
+	public PlayerList getDetachedCopy()
+	{
+		PlayerList result = new PlayerList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDesignation(String newValue)
+	{
+		zSetString(PlayerFinder.designation(), newValue);
+	}
+
+	public void setEmail(String newValue)
+	{
+		zSetString(PlayerFinder.email(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PlayerFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(PlayerFinder.name(), newValue);
+	}
+
+	public void setSourceId(String newValue)
+	{
+		zSetString(PlayerFinder.sourceId(), newValue);
+	}
+
+	public void setTeamId(int newValue)
+	{
+		zSetInteger(PlayerFinder.teamId(), newValue);
+	}
+
+	public void setTeamIdNull()
+	{
+		zSetAttributeNull(PlayerFinder.teamId());
+	}
+}
@@ -0,0 +1,818 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import com.gs.fw.common.mithra.tempobject.*;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PositionDriverFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/PositionDriver";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.PositionDriver";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PositionDriver");
+	private static final PositionDriverSingleFinder<PositionDriver, Object, PositionDriver> finder = new PositionDriverSingleFinder<PositionDriver, Object, PositionDriver>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static TempContextContainer tempContextContainer = new TempContextContainer("com.gs.fw.common.mithra.test.domain.PositionDriver");
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PositionDriverFinder.PositionDriverRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = PositionDriverFinder.accountId().constructEqualityMapper(PositionQuantityFinder.accountId());
+			result[1] = PositionQuantityFinder.accountId().constructEqualityMapper(PositionDriverFinder.accountId());
+			result[2] = PositionDriverFinder.productId().constructEqualityMapper(PositionQuantityFinder.productId());
+			result[3] = PositionQuantityFinder.productId().constructEqualityMapper(PositionDriverFinder.productId());
+			result[4] = PositionDriverFinder.acmapCode().constructEqualityMapper(PositionQuantityFinder.acmapCode());
+			result[5] = PositionQuantityFinder.acmapCode().constructEqualityMapper(PositionDriverFinder.acmapCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return PositionDriverFinder.zSourceAttributeType;
+	}
+
+	public static PositionDriver findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static PositionDriver findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PositionDriverList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PositionDriverList) finder.findMany(operation);
+	}
+
+	public static PositionDriverList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PositionDriverList) finder.findManyBypassCache(operation);
+	}
+
+	private static PositionDriver findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (PositionDriver) FinderUtils.findOne(found);
+	}
+
+	public static PositionDriver findByPrimaryKey(String accountId, int productId, String acmapCode)
+	{
+		return finder.findByPrimaryKey(accountId, productId, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PositionDriverData _castedTargetData = (PositionDriverData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getO2AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.offHeapHash(_bean.getO2AsString()));
+		}
+	}
+
+	public static PositionDriver zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (PositionDriver) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return tempContextContainer.getMithraObjectPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		FinderUtils.clearTempObjectQueryCache(tempContextContainer);
+	}
+
+	public static void reloadCache()
+	{
+	}
+
+	public static class PositionDriverRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<PositionDriver, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return PositionDriverFinder.zSourceAttributeType;
+		}
+
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public PositionDriverRelatedFinder()
+		{
+			super();
+		}
+
+		public PositionDriverRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.PositionDriverFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PositionDriverFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PositionDriverFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PositionDriverFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.accountId();
+			attributes[1] = this.productId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public PositionDriver findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PositionDriverFinder.findOne(operation, false);
+		}
+
+		public PositionDriver findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PositionDriverFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends PositionDriver> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PositionDriverList((Operation) operation);
+		}
+
+		public MithraList<? extends PositionDriver> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PositionDriverList result = (PositionDriverList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends PositionDriver> constructEmptyList()
+		{
+			return new PositionDriverList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1754176958;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return true;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return PositionDriverFinder.zSourceAttributeType;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("A0","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,20,false, false) :
+					new MappedStringAttribute(PositionDriverFinder.accountId(), this.mapper, this.zGetValueSelector());
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("P0","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PositionDriverFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(PositionDriverFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, PositionQuantityList, PositionDriver> quantities(Timestamp businessDate)
+		{
+			PositionDriverQuantitiesFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(PositionDriverFinder.zGetPositionDriverQuantitiesReverseMapper(businessDate));
+			newMapper.setToMany(true);
+			result = new PositionDriverQuantitiesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,businessDate);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return PositionDriverFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PositionDriverFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PositionDriverFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PositionDriverCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PositionDriverRelatedFinder<ParentOwnerType, ReturnType, PositionDriverList, OwnerType>
+	{
+		public PositionDriverCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PositionDriverCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PositionDriverCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PositionDriverCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PositionDriverSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PositionDriverRelatedFinder<ParentOwnerType, ReturnType, PositionDriverList, OwnerType>
+	implements ToOneFinder
+	{
+		public PositionDriverSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PositionDriverSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(PositionDriver other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.productId().eq(other.getProductId()))
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PositionDriver findByPrimaryKey(String accountId, int productId, String acmapCode)
+		{
+			PositionDriver _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setI1AsInteger(productId);
+				_bean.setO2(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PositionDriver) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.productId().eq(productId)).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PositionDriverSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PositionDriverSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PositionDriverSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static Mapper zGetPositionDriverQuantitiesReverseMapper(Timestamp businessDate)
+	{
+		return zConstructPositionDriverQuantitiesReverseMapper(businessDate);
+	}
+
+	public static Mapper zGetPositionDriverQuantitiesMapper(Timestamp businessDate)
+	{
+		return zConstructPositionDriverQuantitiesMapper(businessDate);
+	}
+
+	private static Mapper quantitiesPureReverseMapper = null;
+	public static Mapper zGetPositionDriverQuantitiesPureReverseMapper()
+	{
+		if (quantitiesPureReverseMapper == null)
+		{
+			quantitiesPureReverseMapper = zConstructPositionDriverQuantitiesPureReverseMapper();
+		}
+
+		return quantitiesPureReverseMapper;
+	}
+
+	private static Mapper zConstructPositionDriverQuantitiesPureReverseMapper()
+	{
+		InternalList quantitiesMapperMapperList = new InternalList(3);
+		quantitiesMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(0));
+		quantitiesMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(2));
+		quantitiesMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(4));
+		Mapper quantitiesMapper = new MultiEqualityMapper(quantitiesMapperMapperList);
+		quantitiesMapper.setName("quantities");
+		return quantitiesMapper;
+	}
+
+	private static Mapper zConstructPositionDriverQuantitiesReverseMapper(Timestamp businessDate)
+	{
+		InternalList quantitiesMapperInnerMapperMapperList = new InternalList(3);
+		quantitiesMapperInnerMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(0));
+		quantitiesMapperInnerMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(2));
+		quantitiesMapperInnerMapperMapperList.add(PositionDriverFinder.zGetConstantJoin(4));
+		Mapper quantitiesMapperInnerMapper = new MultiEqualityMapper(quantitiesMapperInnerMapperMapperList);
+		Mapper quantitiesMapper = new FilteredMapper(quantitiesMapperInnerMapper, null, PositionQuantityFinder.businessDate().eq(businessDate));
+		quantitiesMapper.setName("quantities");
+		return quantitiesMapper;
+	}
+
+	private static Mapper zConstructPositionDriverQuantitiesMapper(Timestamp businessDate)
+	{
+		InternalList quantitiesMapperInnerMapperMapperList = new InternalList(3);
+		quantitiesMapperInnerMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(4));
+		quantitiesMapperInnerMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(6));
+		quantitiesMapperInnerMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(8));
+		Mapper quantitiesMapperInnerMapper = new MultiEqualityMapper(quantitiesMapperInnerMapperMapperList);
+		Mapper quantitiesMapper = new FilteredMapper(quantitiesMapperInnerMapper, PositionQuantityFinder.businessDate().eq(businessDate), null);
+		quantitiesMapper.setName("quantities_Reverse");
+		return quantitiesMapper;
+	}
+
+	/** maps to null.A0 **/
+	public static StringAttribute<PositionDriver> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to null.P0 **/
+	public static IntegerAttribute<PositionDriver> productId()
+	{
+		return finder.productId();
+	}
+
+	public static StringAttribute<PositionDriver> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<PositionDriver, PositionQuantityList, PositionDriver> quantities(Timestamp businessDate)
+	{
+		return finder.quantities(businessDate);
+	}
+
+	public static class PositionDriverQuantitiesFinderSubclass<ParentOwnerType> extends PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, PositionQuantityList, PositionDriver>
+	{
+		private Timestamp businessDate;
+		public PositionDriverQuantitiesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , Timestamp businessDate)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.businessDate = businessDate;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "quantities";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionDriverQuantitiesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.businessDate
+			);
+		}
+
+		protected PositionQuantityList plainValueOf(PositionDriver _obj)
+		{
+			return _obj.getQuantities(businessDate);
+		}
+
+		protected PositionQuantityList plainListValueOf(Object _obj)
+		{
+			return ((PositionDriverList)_obj).getQuantities(businessDate);
+		}
+	}
+
+	public static Operation eq(PositionDriver other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static PositionDriverSingleFinder<PositionDriver, Object, PositionDriver> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, productId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, productId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("byProduct", new Attribute[] 
+		{
+			productId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.PositionDriver");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void setTempConfig(MithraConfigurationManager.TempObjectConfig config)
+	{
+		tempContextContainer.setTempConfig(config);
+	}
+
+	public static TemporaryContext createTemporaryContext(String acmapCode)
+	{
+		return tempContextContainer.createTemporaryContext(acmapCode);
+	}
+
+	public static Operation existsWithJoin(
+		StringAttribute joinedAcmapCode,
+		StringAttribute joinedAccountId
+	, IntegerAttribute joinedProductId
+	)
+	{
+		return MappedOperation.createExists(
+			new Attribute[] 
+		{
+			acmapCode(),
+				accountId()
+			, productId()
+		}
+
+		, joinedAcmapCode
+		, joinedAccountId
+		, joinedProductId
+		);
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
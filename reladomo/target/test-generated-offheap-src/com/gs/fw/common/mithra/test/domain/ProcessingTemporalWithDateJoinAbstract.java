@@ -0,0 +1,650 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ProcessingTemporalWithDateJoinAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ProcessingTemporalWithDateJoinFinder.processingDate()
+	, ProcessingTemporalWithDateJoinFinder.zGetDoubleAttributes(),ProcessingTemporalWithDateJoinFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ProcessingTemporalWithDateJoin.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forbitemporalWithDateJoin = new BitemporalWithDateJoinRhs();
+	private static final class BitemporalWithDateJoinRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = BitemporalWithDateJoinFinder.businessDate();
+		private AsOfAttribute processingDate = BitemporalWithDateJoinFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProcessingTemporalWithDateJoin _castedSrcObject = (ProcessingTemporalWithDateJoin) _srcObject;
+			ProcessingTemporalWithDateJoinData _castedSrcData = (ProcessingTemporalWithDateJoinData) _srcData;
+			BitemporalWithDateJoinData _castedTargetData = (BitemporalWithDateJoinData) _targetData;
+			if (_castedSrcData.getInvestmentId() == _castedTargetData.getInvestmentId() && _castedSrcData.getEntity()!= null && _castedSrcData.getEntity().equals(_castedTargetData.getGsEntity()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProcessingTemporalWithDateJoinData _castedSrcData = (ProcessingTemporalWithDateJoinData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getInvestmentId()),HashUtil.hash(_castedSrcData.getEntity()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProcessingTemporalWithDateJoinData _castedSrcData = (ProcessingTemporalWithDateJoinData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getInvestmentId()),HashUtil.offHeapHash(_castedSrcData.zGetEntityAsInt()));
+		}
+	}
+
+	public ProcessingTemporalWithDateJoinAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ProcessingTemporalWithDateJoinFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProcessingTemporalWithDateJoinData zSynchronizedGetData()
+	{
+		return (ProcessingTemporalWithDateJoinData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ProcessingTemporalWithDateJoinFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ProcessingTemporalWithDateJoin zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProcessingTemporalWithDateJoin original = (ProcessingTemporalWithDateJoin) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ProcessingTemporalWithDateJoin getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProcessingTemporalWithDateJoinAbstract result = (ProcessingTemporalWithDateJoinAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ProcessingTemporalWithDateJoin ) result;
+	}
+
+	public ProcessingTemporalWithDateJoin zFindOriginal()
+	{
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData) this.currentData;
+		Operation op;
+		op = ProcessingTemporalWithDateJoinFinder.businessDate().eq(data.getBusinessDate());
+		op = op.and(ProcessingTemporalWithDateJoinFinder.investmentId().eq(data.getInvestmentId()));
+		op = op.and(ProcessingTemporalWithDateJoinFinder.entity().eq(data.getEntity()));
+		op = op.and(ProcessingTemporalWithDateJoinFinder.processingDate().eq(this.getProcessingDate()));
+		return ProcessingTemporalWithDateJoinFinder.findOne(op);
+	}
+
+	public ProcessingTemporalWithDateJoin getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProcessingTemporalWithDateJoinAbstract result = (ProcessingTemporalWithDateJoinAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ProcessingTemporalWithDateJoin ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ProcessingTemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ProcessingTemporalWithDateJoin) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ProcessingTemporalWithDateJoin copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProcessingTemporalWithDateJoin) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData) this.currentData;
+			Operation op = ProcessingTemporalWithDateJoinFinder.processingDate().eq(this.processingDate);
+			op = op.and(ProcessingTemporalWithDateJoinFinder.businessDate().eq(data.getBusinessDate()));
+			op = op.and(ProcessingTemporalWithDateJoinFinder.entity().eq(data.getEntity()));
+			op = op.and(ProcessingTemporalWithDateJoinFinder.investmentId().eq(data.getInvestmentId()));
+			return ProcessingTemporalWithDateJoinFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isActiveNull()
+	{
+		return this.zSynchronizedGetData().isActiveNull();
+	}
+
+	public boolean isApprovalStatusNull()
+	{
+		return this.zSynchronizedGetData().isApprovalStatusNull();
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateNull();
+	}
+
+	public boolean isEntityNull()
+	{
+		return this.zSynchronizedGetData().isEntityNull();
+	}
+
+	public boolean isInvestmentIdNull()
+	{
+		return this.zSynchronizedGetData().isInvestmentIdNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public int getActive()
+	{
+		ProcessingTemporalWithDateJoinData data = this.zSynchronizedGetData();
+		if (data.isActiveNull()) MithraNullPrimitiveException.throwNew("active", data);
+		return data.getActive();
+	}
+
+	public void setActive(int newValue)
+	{
+		zSetInteger(ProcessingTemporalWithDateJoinFinder.active(), newValue, false ,true);
+	}
+
+	public String getApprovalStatus()
+	{
+		return this.zSynchronizedGetData().getApprovalStatus();
+	}
+
+	public void setApprovalStatus(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProcessingTemporalWithDateJoinFinder.approvalStatus(), newValue, false );
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.zSynchronizedGetData().getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(ProcessingTemporalWithDateJoinFinder.businessDate(), newValue, true );
+	}
+
+	public String getEntity()
+	{
+		return this.zSynchronizedGetData().getEntity();
+	}
+
+	public void setEntity(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 5)
+		{
+			throw new MithraBusinessException("Attribute 'entity' cannot exceed maximum length of 5: " + newValue);
+		}
+
+		zSetString(ProcessingTemporalWithDateJoinFinder.entity(), newValue, true );
+	}
+
+	public int getInvestmentId()
+	{
+		return this.zSynchronizedGetData().getInvestmentId();
+	}
+
+	public void setInvestmentId(int newValue)
+	{
+		zSetInteger(ProcessingTemporalWithDateJoinFinder.investmentId(), newValue, true ,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProcessingTemporalWithDateJoinFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProcessingTemporalWithDateJoinFinder.processingDateTo(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, ProcessingTemporalWithDateJoinFinder.active(), false, mustCheckCurrent);
+	}
+
+	public void setActiveNull()
+	{
+		zNullify(ProcessingTemporalWithDateJoinFinder.active(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProcessingTemporalWithDateJoinData _newData = (ProcessingTemporalWithDateJoinData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ProcessingTemporalWithDateJoinData _newData = (ProcessingTemporalWithDateJoinData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ProcessingTemporalWithDateJoinData _newData = (ProcessingTemporalWithDateJoinData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalWithDateJoin.investmentId = this.investmentId
+	and BitemporalWithDateJoin.gsEntity = this.entity
+	and BitemporalWithDateJoin.businessDate= this.businessDate
+	and this.active = 1</pre>
+	* @see BitemporalWithDateJoin#getProcessingTemporalWithDateJoin() reverse relationship BitemporalWithDateJoin.getProcessingTemporalWithDateJoin()
+	* @return The bitemporal with date join
+	*/
+	public BitemporalWithDateJoin getBitemporalWithDateJoin()
+	{
+		BitemporalWithDateJoin _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProcessingTemporalWithDateJoinData _data = (ProcessingTemporalWithDateJoinData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isActiveNull() && _data.getActive()==1)
+			{
+				_portal = BitemporalWithDateJoinFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbitemporalWithDateJoin,_data.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (BitemporalWithDateJoin) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProcessingTemporalWithDateJoinFinder.bitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isActiveNull() && _data.getActive()==1)
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProcessingTemporalWithDateJoinFinder.bitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+					_result = BitemporalWithDateJoinFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (BitemporalWithDateJoin) _data.getBitemporalWithDateJoin();
+			if (_result == null)
+			{
+				if (!_data.isActiveNull() && _data.getActive()==1)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProcessingTemporalWithDateJoinFinder.bitemporalWithDateJoin().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = BitemporalWithDateJoinFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setBitemporalWithDateJoin(BitemporalWithDateJoin bitemporalWithDateJoin)
+	{
+		BitemporalWithDateJoin _bitemporalWithDateJoin = (BitemporalWithDateJoin) bitemporalWithDateJoin;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProcessingTemporalWithDateJoinData _data = (ProcessingTemporalWithDateJoinData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setBitemporalWithDateJoin(_bitemporalWithDateJoin);
+			if (_bitemporalWithDateJoin == null)
+			{
+				this.setInvestmentId(0);
+				this.setEntity(null);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setInvestmentId(
+					_bitemporalWithDateJoin.getInvestmentId());
+				this.setEntity(
+					_bitemporalWithDateJoin.getGsEntity());
+				this.setBusinessDate(
+					_bitemporalWithDateJoin.getBusinessDate());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_bitemporalWithDateJoin == null)
+			{
+				this.setInvestmentId(0);
+				this.setEntity(null);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setInvestmentId(
+					_bitemporalWithDateJoin.getInvestmentId());
+				this.setEntity(
+					_bitemporalWithDateJoin.getGsEntity());
+				this.setBusinessDate(
+					_bitemporalWithDateJoin.getBusinessDate());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProcessingTemporalWithDateJoinData.ProcessingTemporalWithDateJoinDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData) ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ProcessingTemporalWithDateJoin has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromProcessingTemporalWithDateJoinData( ProcessingTemporalWithDateJoinData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromProcessingTemporalWithDateJoinData( ProcessingTemporalWithDateJoinData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public ProcessingTemporalWithDateJoin getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ProcessingTemporalWithDateJoinAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ProcessingTemporalWithDateJoinAbstract from = (ProcessingTemporalWithDateJoinAbstract) f;
+		ProcessingTemporalWithDateJoinData newData = from.zSynchronizedGetData();
+		if (from.isActiveNull())
+		{
+			this.setActiveNull();
+		}
+		else
+		{
+			this.setActive(newData.getActive());
+		}
+
+		this.setApprovalStatus(newData.getApprovalStatus());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ProcessingTemporalWithDateJoinData newData = (ProcessingTemporalWithDateJoinData) d;
+		ProcessingTemporalWithDateJoinData data = (ProcessingTemporalWithDateJoinData) nd;
+		if (ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ProcessingTemporalWithDateJoinFinder.active(), false);
+		changed |= zUpdateString(behavior, data, newData, ProcessingTemporalWithDateJoinFinder.approvalStatus(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, ProcessingTemporalWithDateJoinFinder.businessDate(), false);
+		changed |= zUpdateString(behavior, data, newData, ProcessingTemporalWithDateJoinFinder.entity(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ProcessingTemporalWithDateJoinFinder.investmentId(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ProcessingTemporalWithDateJoinData data = ((ProcessingTemporalWithDateJoinData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ProcessingTemporalWithDateJoinData data = ((ProcessingTemporalWithDateJoinData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ProcessingTemporalWithDateJoinData data = ((ProcessingTemporalWithDateJoinData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), ProcessingTemporalWithDateJoinFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ProcessingTemporalWithDateJoinData localData = (ProcessingTemporalWithDateJoinData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
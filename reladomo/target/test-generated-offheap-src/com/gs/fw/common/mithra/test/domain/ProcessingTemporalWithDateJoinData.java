@@ -0,0 +1,1078 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface ProcessingTemporalWithDateJoinData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isActiveNull();
+	int getActive();
+	void setActive(int value);
+	void setActiveNull();
+	boolean isApprovalStatusNull();
+	String getApprovalStatus();
+	void setApprovalStatus(String value);
+	void setApprovalStatusNull();
+	int zGetApprovalStatusAsInt();
+	boolean isBusinessDateNull();
+	Timestamp getBusinessDate();
+	void setBusinessDate(Timestamp value);
+	void setBusinessDateNull();
+	long zGetBusinessDateAsLong();
+	boolean isEntityNull();
+	String getEntity();
+	void setEntity(String value);
+	void setEntityNull();
+	int zGetEntityAsInt();
+	boolean isInvestmentIdNull();
+	int getInvestmentId();
+	void setInvestmentId(int value);
+	void setInvestmentIdNull();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getBitemporalWithDateJoin();
+	void setBitemporalWithDateJoin(Object related);
+	public class ProcessingTemporalWithDateJoinDataOnHeap implements ProcessingTemporalWithDateJoinData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private int active;
+		private String approvalStatus;
+		private Timestamp businessDate;
+		private String entity;
+		private int investmentId;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		public boolean isApprovalStatusNull()
+		{
+			return this.getApprovalStatus() == null;
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return this.getBusinessDate() == null;
+		}
+
+		public boolean isEntityNull()
+		{
+			return this.getEntity() == null;
+		}
+
+		public boolean isInvestmentIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isActiveNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.active);
+			out.writeObject(this.approvalStatus);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			out.writeObject(this.entity);
+			out.writeInt(this.investmentId);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public int getActive()
+		{
+			return this.active;
+		}
+
+		public void setActive(int value)
+		{
+			this.active = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public String getApprovalStatus()
+		{
+			return this.approvalStatus;
+		}
+
+		public int zGetApprovalStatusAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(approvalStatus);
+		}
+
+		public void setApprovalStatus(String value)
+		{
+			this.approvalStatus = StringPool.getInstance().getOrAddToCache(value, ProcessingTemporalWithDateJoinFinder.isFullCache());
+		}
+
+		public void setApprovalStatusNull()
+		{
+			this.setApprovalStatus(null);
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return this.businessDate;
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDate.getTime();
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public String getEntity()
+		{
+			return this.entity;
+		}
+
+		public int zGetEntityAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(entity);
+		}
+
+		public void setEntity(String value)
+		{
+			this.entity = StringPool.getInstance().getOrAddToCache(value, ProcessingTemporalWithDateJoinFinder.isFullCache());
+		}
+
+		public void setEntityNull()
+		{
+			this.setEntity(null);
+		}
+
+		public int getInvestmentId()
+		{
+			return this.investmentId;
+		}
+
+		public void setInvestmentId(int value)
+		{
+			this.investmentId = value;
+		}
+
+		public void setInvestmentIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setActiveNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(ProcessingTemporalWithDateJoinDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.active = this.active;
+			copy.approvalStatus = this.approvalStatus;
+			copy.businessDate = this.businessDate;
+			copy.entity = this.entity;
+			copy.investmentId = this.investmentId;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.active = in.readInt();
+			this.approvalStatus = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProcessingTemporalWithDateJoinFinder.isFullCache());
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+			this.entity = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProcessingTemporalWithDateJoinFinder.isFullCache());
+			this.investmentId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate()), ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final ProcessingTemporalWithDateJoinData otherData = (ProcessingTemporalWithDateJoinData) other;
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+			{
+				return false;
+			}
+
+			if (!isEntityNull() ? !getEntity().equals(otherData.getEntity()) : !otherData.isEntityNull())
+			{
+				return false;
+			}
+
+			if (getInvestmentId() != otherData.getInvestmentId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+			out.writeObject(this.entity);
+			out.writeInt(this.investmentId);
+			MithraTimestamp.writeTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimestampWithInfinity(out, this.processingDateTo, ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+			this.entity = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProcessingTemporalWithDateJoinFinder.isFullCache());
+			this.investmentId = in.readInt();
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate()), ProcessingTemporalWithDateJoinFinder.isFullCache(), ProcessingTemporalWithDateJoinFinder.isOffHeap());
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getBitemporalWithDateJoin()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setBitemporalWithDateJoin(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			ProcessingTemporalWithDateJoinDataOffHeap data = new ProcessingTemporalWithDateJoinDataOffHeap();
+			data.setActive(this.getActive());
+			if (this.isActiveNull()) data.setActiveNull();
+			data.setApprovalStatus(this.getApprovalStatus());
+			data.setBusinessDate(this.getBusinessDate());
+			data.setEntity(this.getEntity());
+			data.setInvestmentId(this.getInvestmentId());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProcessingTemporalWithDateJoinData processingTemporalWithDateJoinData = (ProcessingTemporalWithDateJoinData) newData;
+			this.setActive(processingTemporalWithDateJoinData.getActive());
+			if (processingTemporalWithDateJoinData.isActiveNull()) this.setActiveNull();
+			this.setApprovalStatus(processingTemporalWithDateJoinData.getApprovalStatus());
+			this.setProcessingDateFrom(processingTemporalWithDateJoinData.getProcessingDateFrom());
+			this.setProcessingDateTo(processingTemporalWithDateJoinData.getProcessingDateTo());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProcessingTemporalWithDateJoinData other = (ProcessingTemporalWithDateJoinData) newData;
+			if ( isActiveNull() != other.isActiveNull() || getActive() != other.getActive())
+			{
+				return true;
+			}
+
+			if (!isApprovalStatusNull() ? !getApprovalStatus().equals(other.getApprovalStatus()) : !other.isApprovalStatusNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProcessingTemporalWithDateJoinDataOnHeap copy = new ProcessingTemporalWithDateJoinDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProcessingTemporalWithDateJoinDataOnHeap copy = new ProcessingTemporalWithDateJoinDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+			result += "entity: "+"'"+getEntity()+"'"+ " / ";
+			result += "investmentId: "+(""+getInvestmentId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProcessingTemporalWithDateJoinData otherData = (ProcessingTemporalWithDateJoinData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProcessingTemporalWithDateJoinData otherData = (ProcessingTemporalWithDateJoinData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoinData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoinData";
+		}
+	}
+
+	public class ProcessingTemporalWithDateJoinDataOffHeap extends MithraOffHeapDataObject implements ProcessingTemporalWithDateJoinData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public ProcessingTemporalWithDateJoinDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 8);
+			this.zSetTimestamp(_storage, value, 32);
+			this.zSetTimestamp(_storage, value, 40);
+		}
+
+		public ProcessingTemporalWithDateJoinDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isActiveNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isApprovalStatusNull()
+		{
+			return zIsStringNull(_storage, 28);
+		}
+
+		public boolean isBusinessDateNull()
+		{
+			return zIsTimestampNull(_storage, 8);
+		}
+
+		public boolean isEntityNull()
+		{
+			return zIsStringNull(_storage, 16);
+		}
+
+		public boolean isInvestmentIdNull()
+		{
+			return false;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 32);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 40);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			out.writeInt(this.getActive());
+			out.writeObject(this.getApprovalStatus());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			out.writeObject(this.getEntity());
+			out.writeInt(this.getInvestmentId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isActiveNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public int getActive()
+		{
+			return zGetInteger(_storage, 24);
+		}
+
+		public void setActive(int value)
+		{
+			zSetInteger(_storage, value, 24, 4, 0);
+		}
+
+		public String getApprovalStatus()
+		{
+			return zGetString(_storage, 28);
+		}
+
+		public int zGetApprovalStatusAsInt()
+		{
+			return zGetInteger(_storage, 28);
+		}
+
+		public void setApprovalStatus(String value)
+		{
+			zSetString(_storage, value, 28);
+		}
+
+		public void setApprovalStatusNull()
+		{
+			this.setApprovalStatus(null);
+		}
+
+		public Timestamp getBusinessDate()
+		{
+			return zGetTimestamp(_storage, 8);
+		}
+
+		public long zGetBusinessDateAsLong()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setBusinessDate(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 8);
+		}
+
+		public void setBusinessDateNull()
+		{
+			this.setBusinessDate(null);
+		}
+
+		public String getEntity()
+		{
+			return zGetString(_storage, 16);
+		}
+
+		public int zGetEntityAsInt()
+		{
+			return zGetInteger(_storage, 16);
+		}
+
+		public void setEntity(String value)
+		{
+			zSetString(_storage, value, 16);
+		}
+
+		public void setEntityNull()
+		{
+			this.setEntity(null);
+		}
+
+		public int getInvestmentId()
+		{
+			return zGetInteger(_storage, 20);
+		}
+
+		public void setInvestmentId(int value)
+		{
+			zSetInteger(_storage, value, 20, -1, -1);
+		}
+
+		public void setInvestmentIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 32);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 32);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 40);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 40);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 40);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public void setActiveNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(ProcessingTemporalWithDateJoinDataOnHeap copy, boolean withRelationships)
+		{
+			copy.active = this.getActive();
+			copy.approvalStatus = this.getApprovalStatus();
+			copy.businessDate = this.getBusinessDate();
+			copy.entity = this.getEntity();
+			copy.investmentId = this.getInvestmentId();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			if (isActiveNull())
+			{
+				copy.setActiveNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetInteger(_storage, in.readInt(), 24, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 28);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetInteger(_storage, in.readInt(), 20, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof ProcessingTemporalWithDateJoinDataOffHeap)
+			{
+				final ProcessingTemporalWithDateJoinDataOffHeap otherData = (ProcessingTemporalWithDateJoinDataOffHeap) other;
+				if (this.zGetLong(_storage, 8) != otherData.zGetLong(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 16) != otherData.zGetInteger(_storage, 16))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 20) != otherData.zGetInteger(_storage, 20))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final ProcessingTemporalWithDateJoinData otherData = (ProcessingTemporalWithDateJoinData) other;
+			if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+			{
+				return false;
+			}
+
+			if (!isEntityNull() ? !getEntity().equals(otherData.getEntity()) : !otherData.isEntityNull())
+			{
+				return false;
+			}
+
+			if (getInvestmentId() != otherData.getInvestmentId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateAsLong());
+			out.writeObject(this.getEntity());
+			out.writeInt(this.getInvestmentId());
+			MithraTimestamp.writeTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), ProcessingTemporalWithDateJoinFinder.processingDate().getInfinityDate());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 8);
+			zSetString(_storage, (String)in.readObject(), 16);
+			zSetInteger(_storage, in.readInt(), 20, -1, -1, false);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 32);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 40);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getBitemporalWithDateJoin()
+		{
+			return null;
+		}
+
+		public void setBitemporalWithDateJoin(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final ProcessingTemporalWithDateJoinData processingTemporalWithDateJoinData = (ProcessingTemporalWithDateJoinData) newData;
+			this.setActive(processingTemporalWithDateJoinData.getActive());
+			if (processingTemporalWithDateJoinData.isActiveNull()) this.setActiveNull();
+			this.setApprovalStatus(processingTemporalWithDateJoinData.getApprovalStatus());
+			this.setProcessingDateFrom(processingTemporalWithDateJoinData.getProcessingDateFrom());
+			this.setProcessingDateTo(processingTemporalWithDateJoinData.getProcessingDateTo());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final ProcessingTemporalWithDateJoinData other = (ProcessingTemporalWithDateJoinData) newData;
+			if ( isActiveNull() != other.isActiveNull() || getActive() != other.getActive())
+			{
+				return true;
+			}
+
+			if (!isApprovalStatusNull() ? !getApprovalStatus().equals(other.getApprovalStatus()) : !other.isApprovalStatusNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			ProcessingTemporalWithDateJoinDataOnHeap copy = new ProcessingTemporalWithDateJoinDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			ProcessingTemporalWithDateJoinDataOnHeap copy = new ProcessingTemporalWithDateJoinDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+			result += "entity: "+"'"+getEntity()+"'"+ " / ";
+			result += "investmentId: "+(""+getInvestmentId())+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			ProcessingTemporalWithDateJoinData otherData = (ProcessingTemporalWithDateJoinData) other;
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			ProcessingTemporalWithDateJoinData otherData = (ProcessingTemporalWithDateJoinData) other;
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoinData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProcessingTemporalWithDateJoinData";
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProcessingTemporalWithDateJoinListAbstract extends DelegatingList<ProcessingTemporalWithDateJoin> implements MithraDatedTransactionalList<ProcessingTemporalWithDateJoin>
+{
+	public ProcessingTemporalWithDateJoinListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProcessingTemporalWithDateJoinListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProcessingTemporalWithDateJoinListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProcessingTemporalWithDateJoinListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProcessingTemporalWithDateJoin[] elements()
+	{
+		ProcessingTemporalWithDateJoin[] result = new ProcessingTemporalWithDateJoin[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProcessingTemporalWithDateJoinList intersection(ProcessingTemporalWithDateJoinList another)
+	{
+		return (ProcessingTemporalWithDateJoinList)super.intersection(another);
+	}
+
+	public ProcessingTemporalWithDateJoin getProcessingTemporalWithDateJoinAt(int index)
+	{
+		return (ProcessingTemporalWithDateJoin)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalWithDateJoin.investmentId = this.investmentId
+	and BitemporalWithDateJoin.gsEntity = this.entity
+	and BitemporalWithDateJoin.businessDate= this.businessDate
+	and this.active = 1</pre>
+	* @see BitemporalWithDateJoin#getProcessingTemporalWithDateJoin() reverse relationship BitemporalWithDateJoin.getProcessingTemporalWithDateJoin()
+	* @return The bitemporal with date join
+	*/
+	public BitemporalWithDateJoinList getBitemporalWithDateJoins()
+	{
+		return (BitemporalWithDateJoinList) this.getDelegated().resolveRelationship(this, ProcessingTemporalWithDateJoinFinder.bitemporalWithDateJoin());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProcessingTemporalWithDateJoinFinder.getMithraObjectPortal();
+	}
+
+	public ProcessingTemporalWithDateJoinList getNonPersistentCopy()
+	{
+		ProcessingTemporalWithDateJoinList result = new ProcessingTemporalWithDateJoinList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProcessingTemporalWithDateJoinList asAdhoc()
+	{
+		return (ProcessingTemporalWithDateJoinList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ProcessingTemporalWithDateJoin> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ProcessingTemporalWithDateJoinList merge(MithraTransactionalList<ProcessingTemporalWithDateJoin> incoming, TopLevelMergeOptions<ProcessingTemporalWithDateJoin> mergeOptions)
+	{
+		return (ProcessingTemporalWithDateJoinList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProcessingTemporalWithDateJoinList getDetachedCopy()
+	{
+		ProcessingTemporalWithDateJoinList result = new ProcessingTemporalWithDateJoinList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setActive(int newValue)
+	{
+		zSetInteger(ProcessingTemporalWithDateJoinFinder.active(), newValue);
+	}
+
+	public void setApprovalStatus(String newValue)
+	{
+		zSetString(ProcessingTemporalWithDateJoinFinder.approvalStatus(), newValue);
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(ProcessingTemporalWithDateJoinFinder.businessDate(), newValue);
+	}
+
+	public void setEntity(String newValue)
+	{
+		zSetString(ProcessingTemporalWithDateJoinFinder.entity(), newValue);
+	}
+
+	public void setInvestmentId(int newValue)
+	{
+		zSetInteger(ProcessingTemporalWithDateJoinFinder.investmentId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProcessingTemporalWithDateJoinFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProcessingTemporalWithDateJoinFinder.processingDateTo(), newValue);
+	}
+
+	public void setActiveNull()
+	{
+		zSetAttributeNull(ProcessingTemporalWithDateJoinFinder.active());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,654 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ProductAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Product.class.getName());
+	private static final RelationshipHashStrategy forcusipSynonym = new CusipSynonymRhs();
+	private static final class CusipSynonymRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProductData _castedSrcData = (ProductData) _srcData;
+			ProductSynonymData _castedTargetData = (ProductSynonymData) _targetData;
+			if (_castedSrcData.getProductId() == _castedTargetData.getProductId() && ((_castedTargetData.getSynonymType() != null && _castedTargetData.getSynonymType().equals("CUS"))))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProductData _castedSrcData = (ProductData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getProductId()),HashUtil.hash("CUS"));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProductData _castedSrcData = (ProductData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getProductId()),HashUtil.offHeapHash("CUS"));
+		}
+	}
+
+	public ProductAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Product getDetachedCopy() throws MithraBusinessException
+	{
+		return (Product) super.getDetachedCopy();
+	}
+
+	public Product getNonPersistentCopy() throws MithraBusinessException
+	{
+		Product result = (Product) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Product copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Product) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Product zFindOriginal()
+	{
+		ProductData data = (ProductData) this.currentData;
+		Operation op;
+		op = ProductFinder.productId().eq(data.getProductId());
+		return ProductFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProductData();
+	}
+
+	protected void zSetFromProductData( ProductData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromProductData( ProductData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDailyProductionRateNull()
+	{
+		return ((ProductData) this.zSynchronizedGetData()).isDailyProductionRateNull();
+	}
+
+	public float getDailyProductionRate()
+	{
+		ProductData data = (ProductData) this.zSynchronizedGetData();
+		if (data.isDailyProductionRateNull()) MithraNullPrimitiveException.throwNew("dailyProductionRate", data);
+		return data.getDailyProductionRate();
+	}
+
+	public void setDailyProductionRate(float newValue)
+	{
+		zSetFloat(ProductFinder.dailyProductionRate(), newValue, false, false ,true);
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return ((ProductData) this.zSynchronizedGetData()).isManufacturerIdNull();
+	}
+
+	public int getManufacturerId()
+	{
+		ProductData data = (ProductData) this.zSynchronizedGetData();
+		if (data.isManufacturerIdNull()) MithraNullPrimitiveException.throwNew("manufacturerId", data);
+		return data.getManufacturerId();
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(ProductFinder.manufacturerId(), newValue, false, false ,true);
+	}
+
+	public boolean isProductCodeNull()
+	{
+		return ((ProductData) this.zSynchronizedGetData()).isProductCodeNull();
+	}
+
+	public String getProductCode()
+	{
+		ProductData data = (ProductData) this.zSynchronizedGetData();
+		return data.getProductCode();
+	}
+
+	public void setProductCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProductFinder.productCode(), newValue, false, false );
+	}
+
+	public boolean isProductDescriptionNull()
+	{
+		return ((ProductData) this.zSynchronizedGetData()).isProductDescriptionNull();
+	}
+
+	public String getProductDescription()
+	{
+		ProductData data = (ProductData) this.zSynchronizedGetData();
+		return data.getProductDescription();
+	}
+
+	public void setProductDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProductFinder.productDescription(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((ProductData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		ProductData data = (ProductData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductFinder.productId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ProductFinder.manufacturerId(), false);
+		zNullify(behavior, data, ProductFinder.dailyProductionRate(), false);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zNullify(ProductFinder.manufacturerId(), false);
+	}
+
+	public void setDailyProductionRateNull()
+	{
+		zNullify(ProductFinder.dailyProductionRate(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProductData _newData = (ProductData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ProductData _newData = (ProductData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductData _newData = (ProductData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId</pre>
+	* @return synonyms
+	*/
+	public ProductSynonymList getSynonyms()
+	{
+		ProductSynonymList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = ProductSynonymFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = ProductSynonymFinder.productId().eq(_data.getProductId());
+					_result = new ProductSynonymList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductSynonymList) _data.getSynonyms();
+			if (_result == null)
+			{
+				{
+					_op = ProductSynonymFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProductSynonymList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSynonyms(ProductSynonymList synonyms)
+	{
+		ProductSynonymList _synonyms = (ProductSynonymList) synonyms;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSynonyms(_synonyms);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType in ("CUS", "FOO")</pre>
+	* @return The cus or foo synonyms
+	*/
+	public ProductSynonym getCusOrFooSynonyms()
+	{
+		ProductSynonym _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = ProductSynonymFinder.productId().eq(_data.getProductId()).and(ProductSynonymFinder.zGetConstantOperation(0));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = ProductSynonymFinder.productId().eq(_data.getProductId()).and(ProductSynonymFinder.zGetConstantOperation(0));
+					_result = ProductSynonymFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductSynonym) _data.getCusOrFooSynonyms();
+			if (_result == null)
+			{
+				{
+					_op = ProductSynonymFinder.productId().eq(_data.getProductId()).and(ProductSynonymFinder.zGetConstantOperation(0));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductSynonymFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setCusOrFooSynonyms(ProductSynonym cusOrFooSynonyms)
+	{
+		ProductSynonym _cusOrFooSynonyms = (ProductSynonym) cusOrFooSynonyms;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCusOrFooSynonyms(_cusOrFooSynonyms);
+			if (_cusOrFooSynonyms == null)
+			{
+				this.setProductId(0);
+			}
+			else
+			{
+				this.setProductId(_cusOrFooSynonyms.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_cusOrFooSynonyms == null)
+			{
+				this.setProductId(0);
+			}
+			else
+			{
+				this.setProductId(
+					_cusOrFooSynonyms.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType = {synonymType}</pre>
+	* @return The synonym by type
+	*/
+	public ProductSynonym getSynonymByType(String synonymType)
+	{
+		ProductSynonym _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				_result = (ProductSynonym) ProductSynonymFinder.findByPrimaryKey(_data.getProductId(),
+					synonymType);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType in {synonymTypes}</pre>
+	* @return synonym by types
+	*/
+	public ProductSynonymList getSynonymByTypes(Set<String> synonymTypes)
+	{
+		ProductSynonymList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = ProductSynonymFinder.productId().eq(_data.getProductId()).and(ProductSynonymFinder.synonymType().in(synonymTypes));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ProductSynonymList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSynonym.productId and ProductSynonym.synonymType = "CUS"</pre>
+	* @return The cusip synonym
+	*/
+	public ProductSynonym getCusipSynonym()
+	{
+		ProductSynonym _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ProductSynonymFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forcusipSynonym, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ProductSynonym) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProductFinder.cusipSynonym().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProductFinder.cusipSynonym().zGetRelationshipMultiExtractor(), this);
+					_result = ProductSynonymFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductSynonym) _data.getCusipSynonym();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProductFinder.cusipSynonym().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductSynonymFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setCusipSynonym(ProductSynonym cusipSynonym)
+	{
+		ProductSynonym _cusipSynonym = (ProductSynonym) cusipSynonym;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setCusipSynonym(_cusipSynonym);
+			if (_cusipSynonym == null)
+			{
+				this.setProductId(0);
+			}
+			else
+			{
+				this.setProductId(_cusipSynonym.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_cusipSynonym == null)
+			{
+				this.setProductId(0);
+			}
+			else
+			{
+				this.setProductId(
+					_cusipSynonym.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = PositionQuantity.productId and PositionQuantity.acmapCode = {acmap} and PositionQuantity.businessDate = {buzDate}</pre>
+	* @return positions
+	*/
+	public PositionQuantityList getPositions(String acmap, Timestamp buzDate)
+	{
+		PositionQuantityList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductData _data = (ProductData) _behavior.getCurrentDataForRead(this);
+		{
+			{
+				{
+					_op = PositionQuantityFinder.productId().eq(_data.getProductId()).and(PositionQuantityFinder.acmapCode().eq(acmap).and(PositionQuantityFinder.businessDate().eq(buzDate)));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new PositionQuantityList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Product zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Product original = (Product) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ProductFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProductFinder.getMithraObjectPortal();
+	}
+
+	public Product getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateFloat(behavior, data, newData, ProductFinder.dailyProductionRate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ProductFinder.manufacturerId(), false);
+		changed |= zUpdateString(behavior, data, newData, ProductFinder.productCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ProductFinder.productDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ProductFinder.productId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ProductAbstract result = (ProductAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,392 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ProductProfileTypeAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String acmapCode;
+	private String profile;
+	private int profileTypeId;
+	private String type;
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isProfileNull()
+	{
+		return this.getProfile() == null;
+	}
+
+	public boolean isProfileTypeIdNull()
+	{
+		return false;
+	}
+
+	public boolean isTypeNull()
+	{
+		return this.getType() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.acmapCode);
+		out.writeObject(this.profile);
+		out.writeInt(this.profileTypeId);
+		out.writeObject(this.type);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ProductProfileTypeData data = new ProductProfileTypeData();
+		data.setAcmapCode(acmapCode);
+		data.setProfile(profile);
+		data.setProfileTypeId(profileTypeId);
+		data.setType(type);
+		return data;
+	}
+
+	public ProductProfileType getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ProductProfileTypeAbstract copy = (ProductProfileTypeAbstract) ProductProfileTypeFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ProductProfileType)copy;
+	}
+
+	protected void zSetFromProductProfileTypeData(ProductProfileTypeData data)
+	{
+		this.setFromProductProfileTypeData(data);
+	}
+
+	public void setFromProductProfileTypeData(ProductProfileTypeData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		acmapCode = data.getAcmapCode();
+		profile = data.getProfile();
+		profileTypeId = data.getProfileTypeId();
+		type = data.getType();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProductProfileTypeFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromProductProfileTypeData((ProductProfileTypeData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, ProductProfileTypeFinder.isFullCache());
+	}
+
+	public String getProfile()
+	{
+		return this.profile;
+	}
+
+	public void setProfile(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.profile = StringPool.getInstance().getOrAddToCache(value, ProductProfileTypeFinder.isFullCache());
+	}
+
+	public int getProfileTypeId()
+	{
+		return this.profileTypeId;
+	}
+
+	public void setProfileTypeId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.profileTypeId = value;
+	}
+
+	public String getType()
+	{
+		return this.type;
+	}
+
+	public void setType(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.type = StringPool.getInstance().getOrAddToCache(value, ProductProfileTypeFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProductCategoryMap.profileTypeId = this.profileTypeId
+	and ProductCategoryMap.categoryId = ProductCategory.categoryId</pre>
+	* @return product categories
+	*/
+	public ProductCategoryList getProductCategories()
+	{
+		ProductCategoryList _result = null;
+		if (_relationships != null)
+		{
+			_result = (ProductCategoryList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new ProductCategoryList(zGetProductCategoriesOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.profileTypeId = ProductWithSourceAttribute.profileTypeId</pre>
+	* @see ProductWithSourceAttribute#getProfileType() reverse relationship ProductWithSourceAttribute.getProfileType()
+	* @return products
+	*/
+	public ProductWithSourceAttributeList getProducts()
+	{
+		ProductWithSourceAttributeList _result = null;
+		if (_relationships != null)
+		{
+			_result = (ProductWithSourceAttributeList)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new ProductWithSourceAttributeList(zGetProductsOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setProductCategories(ProductCategoryList productCategories)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = productCategories;
+	}
+
+	public void setProducts(ProductWithSourceAttributeList products)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = products;
+	}
+
+	public Operation zGetProductCategoriesOperation()
+	{
+		ProductProfileTypeAbstract _data = this;
+		return new MappedOperation(ProductProfileTypeFinder.zGetProductCategoriesMapperFragment(), ProductCategoryMapFinder.profileTypeId().eq(_data.getProfileTypeId()).and(ProductCategoryMapFinder.acmapCode().eq(_data.getAcmapCode())));
+	}
+
+	public Operation zGetProductsOperation()
+	{
+		ProductProfileTypeAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(ProductProfileTypeFinder.products().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ProductProfileTypeData productProfileTypeData = (ProductProfileTypeData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(productProfileTypeData.getAcmapCode()) : !productProfileTypeData.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if (!isProfileNull() ? !getProfile().equals(productProfileTypeData.getProfile()) : !productProfileTypeData.isProfileNull())
+		{
+			return true;
+		}
+
+		if (!isTypeNull() ? !getType().equals(productProfileTypeData.getType()) : !productProfileTypeData.isTypeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "profileTypeId: "+(""+getProfileTypeId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.profileTypeId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductProfileTypeFinder.isFullCache());
+			this.profile = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductProfileTypeFinder.isFullCache());
+			this.profileTypeId = in.readInt();
+			this.type = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductProfileTypeFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.profileTypeId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ProductProfileTypeFinder.profileTypeId().eq(this.getProfileTypeId());
+			return ProductProfileTypeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
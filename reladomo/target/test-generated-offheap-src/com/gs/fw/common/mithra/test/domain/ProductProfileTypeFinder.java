@@ -0,0 +1,962 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProductProfileTypeFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProductProfileType";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProductProfileType";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProductProfileType");
+	private static final ProductProfileTypeSingleFinder<ProductProfileType, Object, ProductProfileType> finder = new ProductProfileTypeSingleFinder<ProductProfileType, Object, ProductProfileType>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byTypeAndProfile = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProductProfileTypeFinder.ProductProfileTypeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("profileTypeId");
+		finderMethodMap.addNormalAttributeName("type");
+		finderMethodMap.addNormalAttributeName("profile");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addRelationshipName("productCategories");
+		finderMethodMap.addRelationshipName("products");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = ProductProfileTypeFinder.profileTypeId().constructEqualityMapper(ProductCategoryMapFinder.profileTypeId());
+			result[1] = ProductCategoryMapFinder.profileTypeId().constructEqualityMapper(ProductProfileTypeFinder.profileTypeId());
+			result[2] = ProductProfileTypeFinder.acmapCode().constructEqualityMapper(ProductCategoryMapFinder.acmapCode());
+			result[3] = ProductCategoryMapFinder.acmapCode().constructEqualityMapper(ProductProfileTypeFinder.acmapCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return ProductProfileTypeFinder.zSourceAttributeType;
+	}
+
+	public static ProductProfileType findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProductProfileType findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProductProfileTypeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProductProfileTypeList) finder.findMany(operation);
+	}
+
+	public static ProductProfileTypeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProductProfileTypeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProductProfileType findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProductProfileType) FinderUtils.findOne(found);
+	}
+
+	public static ProductProfileType findByPrimaryKey(int profileTypeId, String acmapCode)
+	{
+		return finder.findByPrimaryKey(profileTypeId, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProductProfileType _castedTargetData = (ProductProfileType) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getProfileTypeId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static ProductProfileType findByTypeAndProfile(String type, String profile, String acmapCode)
+	{
+		return finder.findByTypeAndProfile(type, profile, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forTypeAndProfile = new TypeAndProfileRhs();
+	private static final class TypeAndProfileRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProductProfileType _castedTargetData = (ProductProfileType) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getType()) && _bean.getO2AsString().equals(_castedTargetData.getProfile()) && _bean.getO3AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static ProductProfileType zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProductProfileType) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProductProfileTypeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProductProfileType, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return ProductProfileTypeFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> profileTypeId;
+		private StringAttribute<ParentOwnerType> type;
+		private StringAttribute<ParentOwnerType> profile;
+		private ProductProfileTypeProductCategoriesFinderSubclass<ParentOwnerType> productCategories;
+		private ProductProfileTypeProductsFinderSubclass<ParentOwnerType> products;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public ProductProfileTypeRelatedFinder()
+		{
+			super();
+		}
+
+		public ProductProfileTypeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProductProfileTypeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProductProfileTypeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProductProfileTypeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProductProfileTypeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.profileTypeId();
+			attributes[1] = this.type();
+			attributes[2] = this.profile();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.productCategories());
+				relatedFinders.add(this.products());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProductProfileType findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProductProfileTypeFinder.findOne(operation, false);
+		}
+
+		public ProductProfileType findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProductProfileTypeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProductProfileType> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProductProfileTypeList((Operation) operation);
+		}
+
+		public MithraList<? extends ProductProfileType> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProductProfileTypeList result = (ProductProfileTypeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProductProfileType> constructEmptyList()
+		{
+			return new ProductProfileTypeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1832474636;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return ProductProfileTypeFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> profileTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.profileTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_PROF_TYPE_ID_I","","profileTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ProductProfileTypeFinder.profileTypeId(), this.mapper, this.zGetValueSelector());
+				this.profileTypeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> type()
+		{
+			StringAttribute<ParentOwnerType> result = this.type;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_TYPE_C","","type",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,15,true, false) :
+					new MappedStringAttribute(ProductProfileTypeFinder.type(), this.mapper, this.zGetValueSelector());
+				this.type = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> profile()
+		{
+			StringAttribute<ParentOwnerType> result = this.profile;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_PROFILE_C","","profile",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,60,true, false) :
+					new MappedStringAttribute(ProductProfileTypeFinder.profile(), this.mapper, this.zGetValueSelector());
+				this.profile = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ProductProfileTypeFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public ProductCategoryFinder.ProductCategoryCollectionFinderForRelatedClasses<ParentOwnerType, ProductCategoryList, ProductProfileType> productCategories()
+		{
+			ProductProfileTypeProductCategoriesFinderSubclass<ParentOwnerType> result = this.productCategories;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductProfileTypeFinder.zGetProductProfileTypeProductCategoriesReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProductProfileTypeProductCategoriesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.productCategories = result;
+			}
+
+			return result;
+		}
+
+		public ProductWithSourceAttributeFinder.ProductWithSourceAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ProductWithSourceAttributeList, ProductProfileType> products()
+		{
+			ProductProfileTypeProductsFinderSubclass<ParentOwnerType> result = this.products;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductWithSourceAttributeFinder.zGetProductWithSourceAttributeProfileTypeMapper());
+				newMapper.setToMany(true);
+				result = new ProductProfileTypeProductsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.products = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return ProductProfileTypeFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProductProfileTypeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProductProfileTypeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProductProfileTypeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProductProfileTypeRelatedFinder<ParentOwnerType, ReturnType, ProductProfileTypeList, OwnerType>
+	{
+		public ProductProfileTypeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProductProfileTypeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProductProfileTypeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProductProfileTypeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProductProfileTypeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProductProfileTypeRelatedFinder<ParentOwnerType, ReturnType, ProductProfileTypeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProductProfileTypeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProductProfileTypeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProductProfileType other)
+		{
+			return this.profileTypeId().eq(other.getProfileTypeId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProductProfileType findByPrimaryKey(int profileTypeId, String acmapCode)
+		{
+			ProductProfileType _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(profileTypeId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProductProfileType) _related;
+			if (_related == null)
+			{
+				_op = this.profileTypeId().eq(profileTypeId).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProductProfileType findByTypeAndProfile(String type, String profile, String acmapCode)
+		{
+			ProductProfileType _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (type != null && profile != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(type);
+				_bean.setO2(profile);
+				_bean.setO3(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forTypeAndProfile, null, null, ProductProfileTypeFinder.zGetIndexbyTypeAndProfileRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProductProfileType) _related;
+			if (_related == null)
+			{
+				_op = this.type().eq(type).and(this.profile().eq(profile)).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProductProfileTypeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProductProfileTypeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProductProfileTypeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper productCategoriesReverseMapper = null;
+	public static Mapper zGetProductProfileTypeProductCategoriesReverseMapper()
+	{
+		if (productCategoriesReverseMapper == null)
+		{
+			productCategoriesReverseMapper = zConstructProductProfileTypeProductCategoriesReverseMapper();
+		}
+
+		return productCategoriesReverseMapper;
+	}
+
+	private static Mapper productCategoriesMapper = null;
+	public static Mapper zGetProductProfileTypeProductCategoriesMapper()
+	{
+		if (productCategoriesMapper == null)
+		{
+			productCategoriesMapper = zConstructProductProfileTypeProductCategoriesMapper();
+		}
+
+		return productCategoriesMapper;
+	}
+
+	private static Mapper productCategoriesPureReverseMapper = null;
+	public static Mapper zGetProductProfileTypeProductCategoriesPureReverseMapper()
+	{
+		if (productCategoriesPureReverseMapper == null)
+		{
+			productCategoriesPureReverseMapper = zConstructProductProfileTypeProductCategoriesPureReverseMapper();
+		}
+
+		return productCategoriesPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductProfileTypeProductCategoriesPureReverseMapper()
+	{
+		InternalList productCategoriesc0MapperMapperList = new InternalList(2);
+		productCategoriesc0MapperMapperList.add(ProductProfileTypeFinder.zGetConstantJoin(0));
+		productCategoriesc0MapperMapperList.add(ProductProfileTypeFinder.zGetConstantJoin(2));
+		Mapper productCategoriesc0Mapper = new MultiEqualityMapper(productCategoriesc0MapperMapperList);
+		InternalList productCategoriesc1MapperMapperList = new InternalList(2);
+		productCategoriesc1MapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(0));
+		productCategoriesc1MapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(2));
+		Mapper productCategoriesc1Mapper = new MultiEqualityMapper(productCategoriesc1MapperMapperList);
+		Mapper productCategoriesMapper = new ChainedMapper(productCategoriesc0Mapper,productCategoriesc1Mapper);
+		productCategoriesMapper.setName("productCategories");
+		return productCategoriesMapper;
+	}
+
+	private static Mapper zConstructProductProfileTypeProductCategoriesReverseMapper()
+	{
+		InternalList productCategoriesc0MapperMapperList = new InternalList(2);
+		productCategoriesc0MapperMapperList.add(ProductProfileTypeFinder.zGetConstantJoin(0));
+		productCategoriesc0MapperMapperList.add(ProductProfileTypeFinder.zGetConstantJoin(2));
+		Mapper productCategoriesc0Mapper = new MultiEqualityMapper(productCategoriesc0MapperMapperList);
+		InternalList productCategoriesc1MapperMapperList = new InternalList(2);
+		productCategoriesc1MapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(0));
+		productCategoriesc1MapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(2));
+		Mapper productCategoriesc1Mapper = new MultiEqualityMapper(productCategoriesc1MapperMapperList);
+		Mapper productCategoriesMapper = new ChainedMapper(productCategoriesc0Mapper,productCategoriesc1Mapper);
+		productCategoriesMapper.setName("productCategories");
+		return productCategoriesMapper;
+	}
+
+	private static Mapper zConstructProductProfileTypeProductCategoriesMapper()
+	{
+		InternalList productCategoriesc0MapperMapperList = new InternalList(2);
+		productCategoriesc0MapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(1));
+		productCategoriesc0MapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(3));
+		Mapper productCategoriesc0Mapper = new MultiEqualityMapper(productCategoriesc0MapperMapperList);
+		InternalList productCategoriesc1MapperMapperList = new InternalList(2);
+		productCategoriesc1MapperMapperList.add(ProductProfileTypeFinder.zGetConstantJoin(1));
+		productCategoriesc1MapperMapperList.add(ProductProfileTypeFinder.zGetConstantJoin(3));
+		Mapper productCategoriesc1Mapper = new MultiEqualityMapper(productCategoriesc1MapperMapperList);
+		Mapper productCategoriesMapper = new ChainedMapper(productCategoriesc0Mapper,productCategoriesc1Mapper);
+		productCategoriesMapper.setName("productCategories_Reverse");
+		return productCategoriesMapper;
+	}
+
+	private static Mapper productCategoriesMapperFragment = null;
+	public static Mapper zGetProductCategoriesMapperFragment()
+	{
+		if (productCategoriesMapperFragment == null)
+		{
+			productCategoriesMapperFragment = zConstructProductCategoriesMapperFragment();
+		}
+
+		return productCategoriesMapperFragment;
+	}
+
+	private static Mapper zConstructProductCategoriesMapperFragment()
+	{
+		InternalList productCategoriesMapperMapperList = new InternalList(2);
+		productCategoriesMapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(1));
+		productCategoriesMapperMapperList.add(ProductCategoryMapFinder.zGetConstantJoin(3));
+		return new MultiEqualityMapper(productCategoriesMapperMapperList);
+	}
+
+	/** maps to PRODUCT_PROFILE_TYPE.PROD_PROF_TYPE_ID_I **/
+	public static IntegerAttribute<ProductProfileType> profileTypeId()
+	{
+		return finder.profileTypeId();
+	}
+
+	/** maps to PRODUCT_PROFILE_TYPE.PROD_TYPE_C **/
+	public static StringAttribute<ProductProfileType> type()
+	{
+		return finder.type();
+	}
+
+	/** maps to PRODUCT_PROFILE_TYPE.PROD_PROFILE_C **/
+	public static StringAttribute<ProductProfileType> profile()
+	{
+		return finder.profile();
+	}
+
+	public static StringAttribute<ProductProfileType> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static ProductCategoryFinder.ProductCategoryCollectionFinderForRelatedClasses<ProductProfileType, ProductCategoryList, ProductProfileType> productCategories()
+	{
+		return finder.productCategories();
+	}
+
+	public static class ProductProfileTypeProductCategoriesFinderSubclass<ParentOwnerType> extends ProductCategoryFinder.ProductCategoryCollectionFinderForRelatedClasses<ParentOwnerType, ProductCategoryList, ProductProfileType>
+	{
+		public ProductProfileTypeProductCategoriesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "productCategories";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductProfileTypeProductCategoriesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductCategoryList plainValueOf(ProductProfileType _obj)
+		{
+			return _obj.getProductCategories();
+		}
+
+		protected ProductCategoryList plainListValueOf(Object _obj)
+		{
+			return ((ProductProfileTypeList)_obj).getProductCategories();
+		}
+	}
+
+	public static ProductWithSourceAttributeFinder.ProductWithSourceAttributeCollectionFinderForRelatedClasses<ProductProfileType, ProductWithSourceAttributeList, ProductProfileType> products()
+	{
+		return finder.products();
+	}
+
+	public static class ProductProfileTypeProductsFinderSubclass<ParentOwnerType> extends ProductWithSourceAttributeFinder.ProductWithSourceAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ProductWithSourceAttributeList, ProductProfileType>
+	{
+		public ProductProfileTypeProductsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "products";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProductWithSourceAttributeFinder.acmapCode(),
+				ProductWithSourceAttributeFinder.profileTypeId()).withExtractors(
+				ProductProfileTypeFinder.acmapCode(),
+				ProductProfileTypeFinder.profileTypeId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductProfileTypeProductsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductWithSourceAttributeList plainValueOf(ProductProfileType _obj)
+		{
+			return _obj.getProducts();
+		}
+
+		protected ProductWithSourceAttributeList plainListValueOf(Object _obj)
+		{
+			return ((ProductProfileTypeList)_obj).getProducts();
+		}
+	}
+
+	public static Operation eq(ProductProfileType other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(profileTypeId());
+	}
+
+	public static ProductProfileTypeSingleFinder<ProductProfileType, Object, ProductProfileType> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			profileTypeId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			profileTypeId()
+			, profileTypeId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byTypeAndProfile = cache.addUniqueIndex("byTypeAndProfile", new Attribute[] 
+		{
+			type()
+			, profile()
+			, acmapCode()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyTypeAndProfileRef() 
+	{
+		return INDEX_byTypeAndProfile; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProductProfileType");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,428 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ProductSpecificationAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ProductSpecification.class.getName());
+	public ProductSpecificationAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProductSpecification getDetachedCopy() throws MithraBusinessException
+	{
+		return (ProductSpecification) super.getDetachedCopy();
+	}
+
+	public ProductSpecification getNonPersistentCopy() throws MithraBusinessException
+	{
+		ProductSpecification result = (ProductSpecification) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ProductSpecification copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProductSpecification) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ProductSpecification zFindOriginal()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.currentData;
+		Operation op;
+		op = ProductSpecificationFinder.productId().eq(data.getProductId());
+		return ProductSpecificationFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProductSpecificationData();
+	}
+
+	protected void zSetFromProductSpecificationData( ProductSpecificationData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromProductSpecificationData( ProductSpecificationData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeltaPriceNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isDeltaPriceNull();
+	}
+
+	public double getDeltaPrice()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		if (data.isDeltaPriceNull()) MithraNullPrimitiveException.throwNew("deltaPrice", data);
+		return data.getDeltaPrice();
+	}
+
+	public void setDeltaPrice(double newValue)
+	{
+		zSetDouble(ProductSpecificationFinder.deltaPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isDiscountPriceNull();
+	}
+
+	public double getDiscountPrice()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		if (data.isDiscountPriceNull()) MithraNullPrimitiveException.throwNew("discountPrice", data);
+		return data.getDiscountPrice();
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(ProductSpecificationFinder.discountPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isManufacturerIdNull();
+	}
+
+	public int getManufacturerId()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		if (data.isManufacturerIdNull()) MithraNullPrimitiveException.throwNew("manufacturerId", data);
+		return data.getManufacturerId();
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.manufacturerId(), newValue, false, false ,true);
+	}
+
+	public boolean isManufacturerNameNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isManufacturerNameNull();
+	}
+
+	public String getManufacturerName()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		return data.getManufacturerName();
+	}
+
+	public void setManufacturerName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProductSpecificationFinder.manufacturerName(), newValue, false, false );
+	}
+
+	public boolean isMinQuantityNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isMinQuantityNull();
+	}
+
+	public int getMinQuantity()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		if (data.isMinQuantityNull()) MithraNullPrimitiveException.throwNew("minQuantity", data);
+		return data.getMinQuantity();
+	}
+
+	public void setMinQuantity(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.minQuantity(), newValue, false, false ,true);
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isOriginalPriceNull();
+	}
+
+	public double getOriginalPrice()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		if (data.isOriginalPriceNull()) MithraNullPrimitiveException.throwNew("originalPrice", data);
+		return data.getOriginalPrice();
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(ProductSpecificationFinder.originalPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isOtherPriceNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isOtherPriceNull();
+	}
+
+	public int getOtherPrice()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		if (data.isOtherPriceNull()) MithraNullPrimitiveException.throwNew("otherPrice", data);
+		return data.getOtherPrice();
+	}
+
+	public void setOtherPrice(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.otherPrice(), newValue, false, false ,true);
+	}
+
+	public boolean isProductCodeNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isProductCodeNull();
+	}
+
+	public String getProductCode()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		return data.getProductCode();
+	}
+
+	public void setProductCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProductSpecificationFinder.productCode(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductSpecificationFinder.productId(), newValue, true, false ,false);
+	}
+
+	public boolean isProductNameNull()
+	{
+		return ((ProductSpecificationData) this.zSynchronizedGetData()).isProductNameNull();
+	}
+
+	public String getProductName()
+	{
+		ProductSpecificationData data = (ProductSpecificationData) this.zSynchronizedGetData();
+		return data.getProductName();
+	}
+
+	public void setProductName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(ProductSpecificationFinder.productName(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ProductSpecificationFinder.manufacturerId(), false);
+		zNullify(behavior, data, ProductSpecificationFinder.originalPrice(), false);
+		zNullify(behavior, data, ProductSpecificationFinder.discountPrice(), false);
+		zNullify(behavior, data, ProductSpecificationFinder.otherPrice(), false);
+		zNullify(behavior, data, ProductSpecificationFinder.minQuantity(), false);
+		zNullify(behavior, data, ProductSpecificationFinder.deltaPrice(), false);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zNullify(ProductSpecificationFinder.manufacturerId(), false);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zNullify(ProductSpecificationFinder.originalPrice(), false);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zNullify(ProductSpecificationFinder.discountPrice(), false);
+	}
+
+	public void setOtherPriceNull()
+	{
+		zNullify(ProductSpecificationFinder.otherPrice(), false);
+	}
+
+	public void setMinQuantityNull()
+	{
+		zNullify(ProductSpecificationFinder.minQuantity(), false);
+	}
+
+	public void setDeltaPriceNull()
+	{
+		zNullify(ProductSpecificationFinder.deltaPrice(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProductSpecificationData _newData = (ProductSpecificationData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ProductSpecificationData _newData = (ProductSpecificationData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductSpecificationData _newData = (ProductSpecificationData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ProductSpecification zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductSpecification original = (ProductSpecification) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ProductSpecificationFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProductSpecificationFinder.getMithraObjectPortal();
+	}
+
+	public ProductSpecification getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, ProductSpecificationFinder.deltaPrice(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ProductSpecificationFinder.discountPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ProductSpecificationFinder.manufacturerId(), false);
+		changed |= zUpdateString(behavior, data, newData, ProductSpecificationFinder.manufacturerName(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ProductSpecificationFinder.minQuantity(), false);
+		changed |= zUpdateDouble(behavior, data, newData, ProductSpecificationFinder.originalPrice(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ProductSpecificationFinder.otherPrice(), false);
+		changed |= zUpdateString(behavior, data, newData, ProductSpecificationFinder.productCode(), false);
+		changed |= zUpdateString(behavior, data, newData, ProductSpecificationFinder.productName(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ProductSpecificationFinder.productId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ProductSpecificationAbstract result = (ProductSpecificationAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
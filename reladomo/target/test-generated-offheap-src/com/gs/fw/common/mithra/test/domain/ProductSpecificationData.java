@@ -0,0 +1,542 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProductSpecificationData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private double deltaPrice;
+	private double discountPrice;
+	private int manufacturerId;
+	private String manufacturerName;
+	private int minQuantity;
+	private double originalPrice;
+	private int otherPrice;
+	private String productCode;
+	private int productId;
+	private String productName;
+	public boolean isManufacturerNameNull()
+	{
+		return this.getManufacturerName() == null;
+	}
+
+	public boolean isProductCodeNull()
+	{
+		return this.getProductCode() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isProductNameNull()
+	{
+		return this.getProductName() == null;
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isOriginalPriceNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isDiscountPriceNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isOtherPriceNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isMinQuantityNull()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isDeltaPriceNull()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeDouble(this.deltaPrice);
+		out.writeDouble(this.discountPrice);
+		out.writeInt(this.manufacturerId);
+		out.writeObject(this.manufacturerName);
+		out.writeInt(this.minQuantity);
+		out.writeDouble(this.originalPrice);
+		out.writeInt(this.otherPrice);
+		out.writeObject(this.productCode);
+		out.writeInt(this.productId);
+		out.writeObject(this.productName);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public double getDeltaPrice()
+	{
+		return this.deltaPrice;
+	}
+
+	public void setDeltaPrice(double value)
+	{
+		this.deltaPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 5));
+	}
+
+	public double getDiscountPrice()
+	{
+		return this.discountPrice;
+	}
+
+	public void setDiscountPrice(double value)
+	{
+		this.discountPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getManufacturerId()
+	{
+		return this.manufacturerId;
+	}
+
+	public void setManufacturerId(int value)
+	{
+		this.manufacturerId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getManufacturerName()
+	{
+		return this.manufacturerName;
+	}
+
+	public int zGetManufacturerNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(manufacturerName);
+	}
+
+	public void setManufacturerName(String value)
+	{
+		this.manufacturerName = StringPool.getInstance().getOrAddToCache(value, ProductSpecificationFinder.isFullCache());
+	}
+
+	public void setManufacturerNameNull()
+	{
+		this.setManufacturerName(null);
+	}
+
+	public int getMinQuantity()
+	{
+		return this.minQuantity;
+	}
+
+	public void setMinQuantity(int value)
+	{
+		this.minQuantity = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 4));
+	}
+
+	public double getOriginalPrice()
+	{
+		return this.originalPrice;
+	}
+
+	public void setOriginalPrice(double value)
+	{
+		this.originalPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public int getOtherPrice()
+	{
+		return this.otherPrice;
+	}
+
+	public void setOtherPrice(int value)
+	{
+		this.otherPrice = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public String getProductCode()
+	{
+		return this.productCode;
+	}
+
+	public int zGetProductCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productCode);
+	}
+
+	public void setProductCode(String value)
+	{
+		this.productCode = StringPool.getInstance().getOrAddToCache(value, ProductSpecificationFinder.isFullCache());
+	}
+
+	public void setProductCodeNull()
+	{
+		this.setProductCode(null);
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getProductName()
+	{
+		return this.productName;
+	}
+
+	public int zGetProductNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productName);
+	}
+
+	public void setProductName(String value)
+	{
+		this.productName = StringPool.getInstance().getOrAddToCache(value, ProductSpecificationFinder.isFullCache());
+	}
+
+	public void setProductNameNull()
+	{
+		this.setProductName(null);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setOriginalPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setDiscountPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setOtherPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public void setMinQuantityNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 4);
+	}
+
+	public void setDeltaPriceNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 5);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(ProductSpecificationData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.deltaPrice = this.deltaPrice;
+		copy.discountPrice = this.discountPrice;
+		copy.manufacturerId = this.manufacturerId;
+		copy.manufacturerName = this.manufacturerName;
+		copy.minQuantity = this.minQuantity;
+		copy.originalPrice = this.originalPrice;
+		copy.otherPrice = this.otherPrice;
+		copy.productCode = this.productCode;
+		copy.productId = this.productId;
+		copy.productName = this.productName;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.deltaPrice = in.readDouble();
+		this.discountPrice = in.readDouble();
+		this.manufacturerId = in.readInt();
+		this.manufacturerName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductSpecificationFinder.isFullCache());
+		this.minQuantity = in.readInt();
+		this.originalPrice = in.readDouble();
+		this.otherPrice = in.readInt();
+		this.productCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductSpecificationFinder.isFullCache());
+		this.productId = in.readInt();
+		this.productName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ProductSpecificationFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final ProductSpecificationData otherData = (ProductSpecificationData) other;
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.productId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final ProductSpecificationData productSpecificationData = (ProductSpecificationData) newData;
+		this.setDeltaPrice(productSpecificationData.getDeltaPrice());
+		if (productSpecificationData.isDeltaPriceNull()) this.setDeltaPriceNull();
+		this.setDiscountPrice(productSpecificationData.getDiscountPrice());
+		if (productSpecificationData.isDiscountPriceNull()) this.setDiscountPriceNull();
+		this.setManufacturerId(productSpecificationData.getManufacturerId());
+		if (productSpecificationData.isManufacturerIdNull()) this.setManufacturerIdNull();
+		this.setManufacturerName(productSpecificationData.getManufacturerName());
+		this.setMinQuantity(productSpecificationData.getMinQuantity());
+		if (productSpecificationData.isMinQuantityNull()) this.setMinQuantityNull();
+		this.setOriginalPrice(productSpecificationData.getOriginalPrice());
+		if (productSpecificationData.isOriginalPriceNull()) this.setOriginalPriceNull();
+		this.setOtherPrice(productSpecificationData.getOtherPrice());
+		if (productSpecificationData.isOtherPriceNull()) this.setOtherPriceNull();
+		this.setProductCode(productSpecificationData.getProductCode());
+		this.setProductName(productSpecificationData.getProductName());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final ProductSpecificationData other = (ProductSpecificationData) newData;
+		if ( isDeltaPriceNull() != other.isDeltaPriceNull() || Math.abs(getDeltaPrice() - other.getDeltaPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isDiscountPriceNull() != other.isDiscountPriceNull() || Math.abs(getDiscountPrice() - other.getDiscountPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isManufacturerIdNull() != other.isManufacturerIdNull() || getManufacturerId() != other.getManufacturerId())
+		{
+			return true;
+		}
+
+		if (!isManufacturerNameNull() ? !getManufacturerName().equals(other.getManufacturerName()) : !other.isManufacturerNameNull())
+		{
+			return true;
+		}
+
+		if ( isMinQuantityNull() != other.isMinQuantityNull() || getMinQuantity() != other.getMinQuantity())
+		{
+			return true;
+		}
+
+		if ( isOriginalPriceNull() != other.isOriginalPriceNull() || Math.abs(getOriginalPrice() - other.getOriginalPrice()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isOtherPriceNull() != other.isOtherPriceNull() || getOtherPrice() != other.getOtherPrice())
+		{
+			return true;
+		}
+
+		if (!isProductCodeNull() ? !getProductCode().equals(other.getProductCode()) : !other.isProductCodeNull())
+		{
+			return true;
+		}
+
+		if (!isProductNameNull() ? !getProductName().equals(other.getProductName()) : !other.isProductNameNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		ProductSpecificationData copy = new ProductSpecificationData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		ProductSpecificationData copy = new ProductSpecificationData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.ProductSpecificationData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return ProductSpecificationFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return ProductSpecificationFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.ProductSpecificationData";
+	}
+}
@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProductSynonymListAbstract extends DelegatingList<ProductSynonym> implements MithraTransactionalList<ProductSynonym>
+{
+	public ProductSynonymListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProductSynonymListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProductSynonymListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProductSynonymListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProductSynonym[] elements()
+	{
+		ProductSynonym[] result = new ProductSynonym[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProductSynonymList intersection(ProductSynonymList another)
+	{
+		return (ProductSynonymList)super.intersection(another);
+	}
+
+	public ProductSynonym getProductSynonymAt(int index)
+	{
+		return (ProductSynonym)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProductSynonymFinder.getMithraObjectPortal();
+	}
+
+	public ProductSynonymList getNonPersistentCopy()
+	{
+		ProductSynonymList result = new ProductSynonymList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProductSynonymList asAdhoc()
+	{
+		return (ProductSynonymList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ProductSynonym> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ProductSynonymList merge(MithraTransactionalList<ProductSynonym> incoming, TopLevelMergeOptions<ProductSynonym> mergeOptions)
+	{
+		return (ProductSynonymList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProductSynonymList getDetachedCopy()
+	{
+		ProductSynonymList result = new ProductSynonymList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductSynonymFinder.productId(), newValue);
+	}
+
+	public void setSynonymType(String newValue)
+	{
+		zSetString(ProductSynonymFinder.synonymType(), newValue);
+	}
+
+	public void setSynonymValue(String newValue)
+	{
+		zSetString(ProductSynonymFinder.synonymValue(), newValue);
+	}
+}
@@ -0,0 +1,462 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class ProductWithSourceAttributeAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(ProductWithSourceAttribute.class.getName());
+	private static final RelationshipHashStrategy forprofileType = new ProfileTypeRhs();
+	private static final class ProfileTypeRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProductWithSourceAttributeData _castedSrcData = (ProductWithSourceAttributeData) _srcData;
+			ProductProfileType _castedTargetData = (ProductProfileType) _targetData;
+			if (!_castedSrcData.isProfileTypeIdNull() && _castedSrcData.getProfileTypeId() == _castedTargetData.getProfileTypeId() && _castedSrcData.getAcmapCode()!= null && _castedSrcData.getAcmapCode().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProductWithSourceAttributeData _castedSrcData = (ProductWithSourceAttributeData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getProfileTypeId(), _castedSrcData.isProfileTypeIdNull()),HashUtil.hash(_castedSrcData.getAcmapCode()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProductWithSourceAttributeData _castedSrcData = (ProductWithSourceAttributeData) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_castedSrcData.getProfileTypeId(), _castedSrcData.isProfileTypeIdNull()),HashUtil.offHeapHash(_castedSrcData.getAcmapCode()));
+		}
+	}
+
+	public ProductWithSourceAttributeAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProductWithSourceAttribute getDetachedCopy() throws MithraBusinessException
+	{
+		return (ProductWithSourceAttribute) super.getDetachedCopy();
+	}
+
+	public ProductWithSourceAttribute getNonPersistentCopy() throws MithraBusinessException
+	{
+		ProductWithSourceAttribute result = (ProductWithSourceAttribute) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public ProductWithSourceAttribute copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProductWithSourceAttribute) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public ProductWithSourceAttribute zFindOriginal()
+	{
+		ProductWithSourceAttributeData data = (ProductWithSourceAttributeData) this.currentData;
+		Operation op;
+		op = ProductWithSourceAttributeFinder.productId().eq(data.getProductId());
+		op = op.and(ProductWithSourceAttributeFinder.acmapCode().eq(data.getAcmapCode()));
+		return ProductWithSourceAttributeFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProductWithSourceAttributeData();
+	}
+
+	protected void zSetFromProductWithSourceAttributeData( ProductWithSourceAttributeData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromProductWithSourceAttributeData( ProductWithSourceAttributeData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((ProductWithSourceAttributeData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		ProductWithSourceAttributeData data = (ProductWithSourceAttributeData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ProductWithSourceAttributeFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((ProductWithSourceAttributeData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		ProductWithSourceAttributeData data = (ProductWithSourceAttributeData) this.zSynchronizedGetData();
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductWithSourceAttributeFinder.productId(), newValue, true, false ,false);
+	}
+
+	public boolean isProfileTypeIdNull()
+	{
+		return ((ProductWithSourceAttributeData) this.zSynchronizedGetData()).isProfileTypeIdNull();
+	}
+
+	public int getProfileTypeId()
+	{
+		ProductWithSourceAttributeData data = (ProductWithSourceAttributeData) this.zSynchronizedGetData();
+		if (data.isProfileTypeIdNull()) MithraNullPrimitiveException.throwNew("profileTypeId", data);
+		return data.getProfileTypeId();
+	}
+
+	public void setProfileTypeId(int newValue)
+	{
+		zSetInteger(ProductWithSourceAttributeFinder.profileTypeId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, ProductWithSourceAttributeFinder.profileTypeId(), false);
+	}
+
+	public void setProfileTypeIdNull()
+	{
+		zNullify(ProductWithSourceAttributeFinder.profileTypeId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProductWithSourceAttributeData _newData = (ProductWithSourceAttributeData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		ProductWithSourceAttributeData _newData = (ProductWithSourceAttributeData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductWithSourceAttributeData _newData = (ProductWithSourceAttributeData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProductProfileType.profileTypeId = this.profileTypeId</pre>
+	* @see ProductProfileType#getProducts() reverse relationship ProductProfileType.getProducts()
+	* @return The profile type
+	*/
+	public ProductProfileType getProfileType()
+	{
+		ProductProfileType _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductWithSourceAttributeData _data = (ProductWithSourceAttributeData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProfileTypeIdNull())
+			{
+				_portal = ProductProfileTypeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forprofileType, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ProductProfileType) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProductWithSourceAttributeFinder.profileType().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProfileTypeIdNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProductWithSourceAttributeFinder.profileType().zGetRelationshipMultiExtractor(), this);
+					_result = ProductProfileTypeFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductProfileType) _data.getProfileType();
+			if (_result == null)
+			{
+				if (!_data.isProfileTypeIdNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(ProductWithSourceAttributeFinder.profileType().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductProfileTypeFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProfileType(ProductProfileType profileType)
+	{
+		ProductProfileType _profileType = (ProductProfileType) profileType;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductWithSourceAttributeData _data = (ProductWithSourceAttributeData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProfileType(_profileType);
+			if (_profileType == null)
+			{
+				this.setProfileTypeIdNull();
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setProfileTypeId(_profileType.getProfileTypeId());
+				this.setAcmapCode(_profileType.getAcmapCode());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_profileType == null)
+			{
+				this.setProfileTypeIdNull();
+				this.setAcmapCode(null);
+			}
+			else
+			{
+				this.setProfileTypeId(
+					_profileType.getProfileTypeId());
+				this.setAcmapCode(
+					_profileType.getAcmapCode());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProductRelation.productChildId = this.productId
+	and ProductWithSourceAttribute.productId = ProductRelation.productParentId</pre>
+	* @return The parent product
+	*/
+	public ProductWithSourceAttribute getParentProduct()
+	{
+		ProductWithSourceAttribute _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		ProductWithSourceAttributeData _data = (ProductWithSourceAttributeData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new MappedOperation(ProductWithSourceAttributeFinder.zGetParentProductMapperFragment(), ProductRelationFinder.productChildId().eq(_data.getProductId()).and(ProductRelationFinder.acmapCode().eq(_data.getAcmapCode())));
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new MappedOperation(ProductWithSourceAttributeFinder.zGetParentProductMapperFragment(), ProductRelationFinder.productChildId().eq(_data.getProductId()).and(ProductRelationFinder.acmapCode().eq(_data.getAcmapCode())));
+					_result = ProductWithSourceAttributeFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductWithSourceAttribute) _data.getParentProduct();
+			if (_result == null)
+			{
+				{
+					_op = new MappedOperation(ProductWithSourceAttributeFinder.zGetParentProductMapperFragment(), ProductRelationFinder.productChildId().eq(_data.getProductId()).and(ProductRelationFinder.acmapCode().eq(_data.getAcmapCode())));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductWithSourceAttributeFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setParentProduct(ProductWithSourceAttribute parentProduct)
+	{
+		ProductWithSourceAttribute _parentProduct = (ProductWithSourceAttribute) parentProduct;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductWithSourceAttributeData _data = (ProductWithSourceAttributeData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setParentProduct(_parentProduct);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public ProductWithSourceAttribute zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		ProductWithSourceAttribute original = (ProductWithSourceAttribute) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return ProductWithSourceAttributeFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProductWithSourceAttributeFinder.getMithraObjectPortal();
+	}
+
+	public ProductWithSourceAttribute getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, ProductWithSourceAttributeFinder.profileTypeId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ProductWithSourceAttributeFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, ProductWithSourceAttributeFinder.productId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		ProductWithSourceAttributeAbstract result = (ProductWithSourceAttributeAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
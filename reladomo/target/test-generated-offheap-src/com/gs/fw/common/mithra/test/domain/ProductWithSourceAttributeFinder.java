@@ -0,0 +1,961 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProductWithSourceAttributeFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProductWithSourceAttribute";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProductWithSourceAttribute";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProductWithSourceAttribute");
+	private static final ProductWithSourceAttributeSingleFinder<ProductWithSourceAttribute, Object, ProductWithSourceAttribute> finder = new ProductWithSourceAttributeSingleFinder<ProductWithSourceAttribute, Object, ProductWithSourceAttribute>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProductWithSourceAttributeFinder.ProductWithSourceAttributeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("profileTypeId");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addRelationshipName("profileType");
+		finderMethodMap.addRelationshipName("parentProduct");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = ProductWithSourceAttributeFinder.profileTypeId().constructEqualityMapper(ProductProfileTypeFinder.profileTypeId());
+			result[1] = ProductProfileTypeFinder.profileTypeId().constructEqualityMapper(ProductWithSourceAttributeFinder.profileTypeId());
+			result[2] = ProductWithSourceAttributeFinder.acmapCode().constructEqualityMapper(ProductProfileTypeFinder.acmapCode());
+			result[3] = ProductProfileTypeFinder.acmapCode().constructEqualityMapper(ProductWithSourceAttributeFinder.acmapCode());
+			result[4] = ProductWithSourceAttributeFinder.productId().constructEqualityMapper(ProductRelationFinder.productChildId());
+			result[5] = ProductRelationFinder.productChildId().constructEqualityMapper(ProductWithSourceAttributeFinder.productId());
+			result[6] = ProductWithSourceAttributeFinder.acmapCode().constructEqualityMapper(ProductRelationFinder.acmapCode());
+			result[7] = ProductRelationFinder.acmapCode().constructEqualityMapper(ProductWithSourceAttributeFinder.acmapCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return ProductWithSourceAttributeFinder.zSourceAttributeType;
+	}
+
+	public static ProductWithSourceAttribute findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProductWithSourceAttribute findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProductWithSourceAttributeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProductWithSourceAttributeList) finder.findMany(operation);
+	}
+
+	public static ProductWithSourceAttributeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProductWithSourceAttributeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProductWithSourceAttribute findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProductWithSourceAttribute) FinderUtils.findOne(found);
+	}
+
+	public static ProductWithSourceAttribute findByPrimaryKey(int productId, String acmapCode)
+	{
+		return finder.findByPrimaryKey(productId, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProductWithSourceAttributeData _castedTargetData = (ProductWithSourceAttributeData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static ProductWithSourceAttribute zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProductWithSourceAttribute) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProductWithSourceAttributeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProductWithSourceAttribute, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return ProductWithSourceAttributeFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> productId;
+		private IntegerAttribute<ParentOwnerType> profileTypeId;
+		private ProductWithSourceAttributeProfileTypeFinderSubclass<ParentOwnerType> profileType;
+		private ProductWithSourceAttributeParentProductFinderSubclass<ParentOwnerType> parentProduct;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public ProductWithSourceAttributeRelatedFinder()
+		{
+			super();
+		}
+
+		public ProductWithSourceAttributeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProductWithSourceAttributeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProductWithSourceAttributeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProductWithSourceAttributeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProductWithSourceAttributeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.productId();
+			attributes[1] = this.profileTypeId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.profileType());
+				relatedFinders.add(this.parentProduct());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProductWithSourceAttribute findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProductWithSourceAttributeFinder.findOne(operation, false);
+		}
+
+		public ProductWithSourceAttribute findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProductWithSourceAttributeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProductWithSourceAttribute> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProductWithSourceAttributeList((Operation) operation);
+		}
+
+		public MithraList<? extends ProductWithSourceAttribute> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProductWithSourceAttributeList result = (ProductWithSourceAttributeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProductWithSourceAttribute> constructEmptyList()
+		{
+			return new ProductWithSourceAttributeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -2033005217;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return ProductWithSourceAttributeFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_ID","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ProductWithSourceAttributeFinder.productId(), this.mapper, this.zGetValueSelector());
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> profileTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.profileTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_PROF_TYPE_ID_I","","profileTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ProductWithSourceAttributeFinder.profileTypeId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("profileType");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "ProductProfileType", "products");
+				this.profileTypeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(ProductWithSourceAttributeFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public ProductProfileTypeFinder.ProductProfileTypeSingleFinderForRelatedClasses<ParentOwnerType, ProductProfileType, ProductWithSourceAttribute> profileType()
+		{
+			ProductWithSourceAttributeProfileTypeFinderSubclass<ParentOwnerType> result = this.profileType;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductWithSourceAttributeFinder.zGetProductWithSourceAttributeProfileTypeReverseMapper());
+				newMapper.setToMany(false);
+				result = new ProductWithSourceAttributeProfileTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.profileType = result;
+			}
+
+			return result;
+		}
+
+		public ProductWithSourceAttributeFinder.ProductWithSourceAttributeSingleFinderForRelatedClasses<ParentOwnerType, ProductWithSourceAttribute, ProductWithSourceAttribute> parentProduct()
+		{
+			ProductWithSourceAttributeParentProductFinderSubclass<ParentOwnerType> result = this.parentProduct;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProductWithSourceAttributeFinder.zGetProductWithSourceAttributeParentProductReverseMapper());
+				newMapper.setToMany(false);
+				result = new ProductWithSourceAttributeParentProductFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.parentProduct = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return ProductWithSourceAttributeFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProductWithSourceAttributeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProductWithSourceAttributeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProductWithSourceAttributeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProductWithSourceAttributeRelatedFinder<ParentOwnerType, ReturnType, ProductWithSourceAttributeList, OwnerType>
+	{
+		public ProductWithSourceAttributeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProductWithSourceAttributeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProductWithSourceAttributeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProductWithSourceAttributeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProductWithSourceAttributeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProductWithSourceAttributeRelatedFinder<ParentOwnerType, ReturnType, ProductWithSourceAttributeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProductWithSourceAttributeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProductWithSourceAttributeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProductWithSourceAttribute other)
+		{
+			return this.productId().eq(other.getProductId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProductWithSourceAttribute findByPrimaryKey(int productId, String acmapCode)
+		{
+			ProductWithSourceAttribute _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(productId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProductWithSourceAttribute) _related;
+			if (_related == null)
+			{
+				_op = this.productId().eq(productId).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProductWithSourceAttributeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProductWithSourceAttributeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProductWithSourceAttributeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper profileTypeReverseMapper = null;
+	public static Mapper zGetProductWithSourceAttributeProfileTypeReverseMapper()
+	{
+		if (profileTypeReverseMapper == null)
+		{
+			profileTypeReverseMapper = zConstructProductWithSourceAttributeProfileTypeReverseMapper();
+		}
+
+		return profileTypeReverseMapper;
+	}
+
+	private static Mapper profileTypeMapper = null;
+	public static Mapper zGetProductWithSourceAttributeProfileTypeMapper()
+	{
+		if (profileTypeMapper == null)
+		{
+			profileTypeMapper = zConstructProductWithSourceAttributeProfileTypeMapper();
+		}
+
+		return profileTypeMapper;
+	}
+
+	private static Mapper profileTypePureReverseMapper = null;
+	public static Mapper zGetProductWithSourceAttributeProfileTypePureReverseMapper()
+	{
+		if (profileTypePureReverseMapper == null)
+		{
+			profileTypePureReverseMapper = zConstructProductWithSourceAttributeProfileTypePureReverseMapper();
+		}
+
+		return profileTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructProductWithSourceAttributeProfileTypePureReverseMapper()
+	{
+		InternalList profileTypeMapperMapperList = new InternalList(2);
+		profileTypeMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(0));
+		profileTypeMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(2));
+		Mapper profileTypeMapper = new MultiEqualityMapper(profileTypeMapperMapperList);
+		profileTypeMapper.setName("profileType");
+		return profileTypeMapper;
+	}
+
+	private static Mapper zConstructProductWithSourceAttributeProfileTypeReverseMapper()
+	{
+		InternalList profileTypeMapperMapperList = new InternalList(2);
+		profileTypeMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(0));
+		profileTypeMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(2));
+		Mapper profileTypeMapper = new MultiEqualityMapper(profileTypeMapperMapperList);
+		profileTypeMapper.setName("profileType");
+		return profileTypeMapper;
+	}
+
+	private static Mapper zConstructProductWithSourceAttributeProfileTypeMapper()
+	{
+		InternalList profileTypeMapperMapperList = new InternalList(2);
+		profileTypeMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(1));
+		profileTypeMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(3));
+		Mapper profileTypeMapper = new MultiEqualityMapper(profileTypeMapperMapperList);
+		profileTypeMapper.setName("products");
+		return profileTypeMapper;
+	}
+
+	private static Mapper parentProductReverseMapper = null;
+	public static Mapper zGetProductWithSourceAttributeParentProductReverseMapper()
+	{
+		if (parentProductReverseMapper == null)
+		{
+			parentProductReverseMapper = zConstructProductWithSourceAttributeParentProductReverseMapper();
+		}
+
+		return parentProductReverseMapper;
+	}
+
+	private static Mapper parentProductMapper = null;
+	public static Mapper zGetProductWithSourceAttributeParentProductMapper()
+	{
+		if (parentProductMapper == null)
+		{
+			parentProductMapper = zConstructProductWithSourceAttributeParentProductMapper();
+		}
+
+		return parentProductMapper;
+	}
+
+	private static Mapper parentProductPureReverseMapper = null;
+	public static Mapper zGetProductWithSourceAttributeParentProductPureReverseMapper()
+	{
+		if (parentProductPureReverseMapper == null)
+		{
+			parentProductPureReverseMapper = zConstructProductWithSourceAttributeParentProductPureReverseMapper();
+		}
+
+		return parentProductPureReverseMapper;
+	}
+
+	private static Mapper zConstructProductWithSourceAttributeParentProductPureReverseMapper()
+	{
+		InternalList parentProductc0MapperMapperList = new InternalList(2);
+		parentProductc0MapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(4));
+		parentProductc0MapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(6));
+		Mapper parentProductc0Mapper = new MultiEqualityMapper(parentProductc0MapperMapperList);
+		InternalList parentProductc1MapperMapperList = new InternalList(2);
+		parentProductc1MapperMapperList.add(ProductRelationFinder.zGetConstantJoin(0));
+		parentProductc1MapperMapperList.add(ProductRelationFinder.zGetConstantJoin(2));
+		Mapper parentProductc1Mapper = new MultiEqualityMapper(parentProductc1MapperMapperList);
+		Mapper parentProductMapper = new ChainedMapper(parentProductc0Mapper,parentProductc1Mapper);
+		parentProductMapper.setName("parentProduct");
+		return parentProductMapper;
+	}
+
+	private static Mapper zConstructProductWithSourceAttributeParentProductReverseMapper()
+	{
+		InternalList parentProductc0MapperMapperList = new InternalList(2);
+		parentProductc0MapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(4));
+		parentProductc0MapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(6));
+		Mapper parentProductc0Mapper = new MultiEqualityMapper(parentProductc0MapperMapperList);
+		InternalList parentProductc1MapperMapperList = new InternalList(2);
+		parentProductc1MapperMapperList.add(ProductRelationFinder.zGetConstantJoin(0));
+		parentProductc1MapperMapperList.add(ProductRelationFinder.zGetConstantJoin(2));
+		Mapper parentProductc1Mapper = new MultiEqualityMapper(parentProductc1MapperMapperList);
+		Mapper parentProductMapper = new ChainedMapper(parentProductc0Mapper,parentProductc1Mapper);
+		parentProductMapper.setName("parentProduct");
+		return parentProductMapper;
+	}
+
+	private static Mapper zConstructProductWithSourceAttributeParentProductMapper()
+	{
+		InternalList parentProductc0MapperMapperList = new InternalList(2);
+		parentProductc0MapperMapperList.add(ProductRelationFinder.zGetConstantJoin(1));
+		parentProductc0MapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(6));
+		Mapper parentProductc0Mapper = new MultiEqualityMapper(parentProductc0MapperMapperList);
+		InternalList parentProductc1MapperMapperList = new InternalList(2);
+		parentProductc1MapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(5));
+		parentProductc1MapperMapperList.add(ProductRelationFinder.zGetConstantJoin(2));
+		Mapper parentProductc1Mapper = new MultiEqualityMapper(parentProductc1MapperMapperList);
+		Mapper parentProductMapper = new ChainedMapper(parentProductc0Mapper,parentProductc1Mapper);
+		parentProductMapper.setName("parentProduct_Reverse");
+		return parentProductMapper;
+	}
+
+	private static Mapper parentProductMapperFragment = null;
+	public static Mapper zGetParentProductMapperFragment()
+	{
+		if (parentProductMapperFragment == null)
+		{
+			parentProductMapperFragment = zConstructParentProductMapperFragment();
+		}
+
+		return parentProductMapperFragment;
+	}
+
+	private static Mapper zConstructParentProductMapperFragment()
+	{
+		InternalList parentProductMapperMapperList = new InternalList(2);
+		parentProductMapperMapperList.add(ProductRelationFinder.zGetConstantJoin(1));
+		parentProductMapperMapperList.add(ProductWithSourceAttributeFinder.zGetConstantJoin(6));
+		return new MultiEqualityMapper(parentProductMapperMapperList);
+	}
+
+	/** maps to PRODUCT_WITH_SOURCE_ATTR.PROD_ID **/
+	public static IntegerAttribute<ProductWithSourceAttribute> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to PRODUCT_WITH_SOURCE_ATTR.PROD_PROF_TYPE_ID_I **/
+	public static IntegerAttribute<ProductWithSourceAttribute> profileTypeId()
+	{
+		return finder.profileTypeId();
+	}
+
+	public static StringAttribute<ProductWithSourceAttribute> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static ProductProfileTypeFinder.ProductProfileTypeSingleFinderForRelatedClasses<ProductWithSourceAttribute, ProductProfileType, ProductWithSourceAttribute> profileType()
+	{
+		return finder.profileType();
+	}
+
+	public static class ProductWithSourceAttributeProfileTypeFinderSubclass<ParentOwnerType> extends ProductProfileTypeFinder.ProductProfileTypeSingleFinderForRelatedClasses<ParentOwnerType, ProductProfileType, ProductWithSourceAttribute>
+	{
+		public ProductWithSourceAttributeProfileTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "profileType";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProductProfileTypeFinder.profileTypeId(),
+				ProductProfileTypeFinder.acmapCode()).withExtractors(
+				ProductWithSourceAttributeFinder.profileTypeId(),
+				ProductWithSourceAttributeFinder.acmapCode()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductWithSourceAttributeProfileTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductProfileType plainValueOf(ProductWithSourceAttribute _obj)
+		{
+			return _obj.getProfileType();
+		}
+
+		protected ProductProfileTypeList plainListValueOf(Object _obj)
+		{
+			return ((ProductWithSourceAttributeList)_obj).getProfileTypes();
+		}
+	}
+
+	public static ProductWithSourceAttributeFinder.ProductWithSourceAttributeSingleFinderForRelatedClasses<ProductWithSourceAttribute, ProductWithSourceAttribute, ProductWithSourceAttribute> parentProduct()
+	{
+		return finder.parentProduct();
+	}
+
+	public static class ProductWithSourceAttributeParentProductFinderSubclass<ParentOwnerType> extends ProductWithSourceAttributeFinder.ProductWithSourceAttributeSingleFinderForRelatedClasses<ParentOwnerType, ProductWithSourceAttribute, ProductWithSourceAttribute>
+	{
+		public ProductWithSourceAttributeParentProductFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "parentProduct";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProductWithSourceAttributeParentProductFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProductWithSourceAttribute plainValueOf(ProductWithSourceAttribute _obj)
+		{
+			return _obj.getParentProduct();
+		}
+
+		protected ProductWithSourceAttributeList plainListValueOf(Object _obj)
+		{
+			return ((ProductWithSourceAttributeList)_obj).getParentProducts();
+		}
+	}
+
+	public static Operation eq(ProductWithSourceAttribute other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(productId());
+	}
+
+	public static ProductWithSourceAttributeSingleFinder<ProductWithSourceAttribute, Object, ProductWithSourceAttribute> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			productId()
+			, productId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, profileTypeId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ProductProfileTypeFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ProductProfileTypeFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProductWithSourceAttribute");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,167 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProductWithSourceAttributeListAbstract extends DelegatingList<ProductWithSourceAttribute> implements MithraTransactionalList<ProductWithSourceAttribute>
+{
+	public ProductWithSourceAttributeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProductWithSourceAttributeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProductWithSourceAttributeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProductWithSourceAttributeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProductWithSourceAttribute[] elements()
+	{
+		ProductWithSourceAttribute[] result = new ProductWithSourceAttribute[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProductWithSourceAttributeList intersection(ProductWithSourceAttributeList another)
+	{
+		return (ProductWithSourceAttributeList)super.intersection(another);
+	}
+
+	public ProductWithSourceAttribute getProductWithSourceAttributeAt(int index)
+	{
+		return (ProductWithSourceAttribute)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProductProfileType.profileTypeId = this.profileTypeId</pre>
+	* @see ProductProfileType#getProducts() reverse relationship ProductProfileType.getProducts()
+	* @return The profile type
+	*/
+	public ProductProfileTypeList getProfileTypes()
+	{
+		return (ProductProfileTypeList) this.getDelegated().resolveRelationship(this, ProductWithSourceAttributeFinder.profileType());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProductRelation.productChildId = this.productId
+	and ProductWithSourceAttribute.productId = ProductRelation.productParentId</pre>
+	* @return The parent product
+	*/
+	public ProductWithSourceAttributeList getParentProducts()
+	{
+		return (ProductWithSourceAttributeList) this.getDelegated().resolveRelationship(this, ProductWithSourceAttributeFinder.parentProduct());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProductWithSourceAttributeFinder.getMithraObjectPortal();
+	}
+
+	public ProductWithSourceAttributeList getNonPersistentCopy()
+	{
+		ProductWithSourceAttributeList result = new ProductWithSourceAttributeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProductWithSourceAttributeList asAdhoc()
+	{
+		return (ProductWithSourceAttributeList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ProductWithSourceAttribute> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ProductWithSourceAttributeList merge(MithraTransactionalList<ProductWithSourceAttribute> incoming, TopLevelMergeOptions<ProductWithSourceAttribute> mergeOptions)
+	{
+		return (ProductWithSourceAttributeList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProductWithSourceAttributeList getDetachedCopy()
+	{
+		ProductWithSourceAttributeList result = new ProductWithSourceAttributeList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(ProductWithSourceAttributeFinder.acmapCode(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(ProductWithSourceAttributeFinder.productId(), newValue);
+	}
+
+	public void setProfileTypeId(int newValue)
+	{
+		zSetInteger(ProductWithSourceAttributeFinder.profileTypeId(), newValue);
+	}
+
+	public void setProfileTypeIdNull()
+	{
+		zSetAttributeNull(ProductWithSourceAttributeFinder.profileTypeId());
+	}
+}
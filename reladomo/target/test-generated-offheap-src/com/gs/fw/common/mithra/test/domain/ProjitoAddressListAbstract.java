@@ -0,0 +1,200 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ProjitoAddressListAbstract extends DelegatingList<ProjitoAddress> implements MithraDatedTransactionalList<ProjitoAddress>
+{
+	public ProjitoAddressListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ProjitoAddressListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ProjitoAddressListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ProjitoAddressListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public ProjitoAddress[] elements()
+	{
+		ProjitoAddress[] result = new ProjitoAddress[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ProjitoAddressList intersection(ProjitoAddressList another)
+	{
+		return (ProjitoAddressList)super.intersection(another);
+	}
+
+	public ProjitoAddress getProjitoAddressAt(int index)
+	{
+		return (ProjitoAddress)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoEmployee.kerberos = this.kerberos</pre>
+	* @see ProjitoEmployee#getAddresses() reverse relationship ProjitoEmployee.getAddresses()
+	* @return The employee
+	*/
+	public ProjitoEmployeeList getEmployees()
+	{
+		return (ProjitoEmployeeList) this.getDelegated().resolveRelationship(this, ProjitoAddressFinder.employee());
+	}
+
+	public void zSetParentContaineremployee(ProjitoEmployeeAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			ProjitoAddress item = this.getProjitoAddressAt(i);
+			item.zSetParentContaineremployee(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ProjitoAddressFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoAddressList getNonPersistentCopy()
+	{
+		ProjitoAddressList result = new ProjitoAddressList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ProjitoAddressList asAdhoc()
+	{
+		return (ProjitoAddressList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ProjitoAddress> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public ProjitoAddressList merge(MithraTransactionalList<ProjitoAddress> incoming, TopLevelMergeOptions<ProjitoAddress> mergeOptions)
+	{
+		return (ProjitoAddressList) super.merge(incoming, mergeOptions);
+	}
+
+	public ProjitoAddressList getDetachedCopy()
+	{
+		ProjitoAddressList result = new ProjitoAddressList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)ProjitoAddressFinder.id(), false, "projitoAddress", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory", null);
+	}
+
+	public void setCity(String newValue)
+	{
+		zSetString(ProjitoAddressFinder.city(), newValue);
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoAddressFinder.id(), newValue);
+	}
+
+	public void setKerberos(String newValue)
+	{
+		zSetString(ProjitoAddressFinder.kerberos(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoAddressFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoAddressFinder.processingDateTo(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(ProjitoAddressFinder.state(), newValue);
+	}
+
+	public void setStreet(String newValue)
+	{
+		zSetString(ProjitoAddressFinder.street(), newValue);
+	}
+
+	public void setZipCode(String newValue)
+	{
+		zSetString(ProjitoAddressFinder.zipCode(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,1082 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ProjitoEmployeeFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/ProjitoEmployee";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.ProjitoEmployee";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoEmployee");
+	private static final ProjitoEmployeeSingleFinder<ProjitoEmployee, Object, ProjitoEmployee> finder = new ProjitoEmployeeSingleFinder<ProjitoEmployee, Object, ProjitoEmployee>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ProjitoEmployeeFinder.ProjitoEmployeeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("kerberos");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("memberships");
+		finderMethodMap.addRelationshipName("measuresOfSuccess");
+		finderMethodMap.addRelationshipName("addresses");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = ProjitoEmployeeFinder.kerberos().constructEqualityMapper(ProjitoMembershipFinder.kerberos());
+			result[1] = ProjitoMembershipFinder.kerberos().constructEqualityMapper(ProjitoEmployeeFinder.kerberos());
+			result[2] = ProjitoEmployeeFinder.processingDate().constructEqualityMapper(ProjitoMembershipFinder.processingDate());
+			result[3] = ProjitoMembershipFinder.processingDate().constructEqualityMapper(ProjitoEmployeeFinder.processingDate());
+			result[4] = ProjitoEmployeeFinder.kerberos().constructEqualityMapper(ProjitoMeasureOfSuccessFinder.accountableKerberos());
+			result[5] = ProjitoMeasureOfSuccessFinder.accountableKerberos().constructEqualityMapper(ProjitoEmployeeFinder.kerberos());
+			result[6] = ProjitoEmployeeFinder.processingDate().constructEqualityMapper(ProjitoMeasureOfSuccessFinder.processingDate());
+			result[7] = ProjitoMeasureOfSuccessFinder.processingDate().constructEqualityMapper(ProjitoEmployeeFinder.processingDate());
+			result[8] = ProjitoEmployeeFinder.kerberos().constructEqualityMapper(ProjitoAddressFinder.kerberos());
+			result[9] = ProjitoAddressFinder.kerberos().constructEqualityMapper(ProjitoEmployeeFinder.kerberos());
+			result[10] = ProjitoEmployeeFinder.processingDate().constructEqualityMapper(ProjitoAddressFinder.processingDate());
+			result[11] = ProjitoAddressFinder.processingDate().constructEqualityMapper(ProjitoEmployeeFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ProjitoEmployee findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ProjitoEmployee findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ProjitoEmployeeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoEmployeeList) finder.findMany(operation);
+	}
+
+	public static ProjitoEmployeeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ProjitoEmployeeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ProjitoEmployee findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ProjitoEmployee) FinderUtils.findOne(found);
+	}
+
+	public static ProjitoEmployee findByPrimaryKey(String kerberos, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(kerberos, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ProjitoEmployeeData _castedTargetData = (ProjitoEmployeeData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getKerberos()))
+			{
+				return ProjitoEmployeeFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static ProjitoEmployee zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ProjitoEmployee) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ProjitoEmployeeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ProjitoEmployee, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> kerberos;
+		private StringAttribute<ParentOwnerType> name;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private ProjitoEmployeeMembershipsFinderSubclass<ParentOwnerType> memberships;
+		private ProjitoEmployeeMeasuresOfSuccessFinderSubclass<ParentOwnerType> measuresOfSuccess;
+		private ProjitoEmployeeAddressesFinderSubclass<ParentOwnerType> addresses;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public ProjitoEmployeeRelatedFinder()
+		{
+			super();
+		}
+
+		public ProjitoEmployeeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.ProjitoEmployeeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ProjitoEmployeeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ProjitoEmployeeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ProjitoEmployeeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.kerberos();
+			attributes[1] = this.name();
+			attributes[2] = this.processingDateFrom();
+			attributes[3] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.memberships());
+				relatedFinders.add(this.measuresOfSuccess());
+				relatedFinders.add(this.addresses());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.memberships());
+				dependentRelatedFinders.add(this.addresses());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ProjitoEmployee findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoEmployeeFinder.findOne(operation, false);
+		}
+
+		public ProjitoEmployee findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ProjitoEmployeeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ProjitoEmployee> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ProjitoEmployeeList((Operation) operation);
+		}
+
+		public MithraList<? extends ProjitoEmployee> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ProjitoEmployeeList result = (ProjitoEmployeeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ProjitoEmployee> constructEmptyList()
+		{
+			return new ProjitoEmployeeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1483161856;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> kerberos()
+		{
+			StringAttribute<ParentOwnerType> result = this.kerberos;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("KERBEROS","","kerberos",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,4,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(ProjitoEmployeeFinder.kerberos(), this.mapper, this.zGetValueSelector());
+				this.kerberos = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,8,-1,-1,255,true, false) :
+					new MappedStringAttribute(ProjitoEmployeeFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,ProjitoEmployeeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoEmployeeFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,ProjitoEmployeeFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(ProjitoEmployeeFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),ProjitoEmployeeFinder.processingDateInfinity,false,false,ProjitoEmployeeFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(ProjitoEmployeeFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoMembershipFinder.ProjitoMembershipCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMembershipList, ProjitoEmployee> memberships()
+		{
+			ProjitoEmployeeMembershipsFinderSubclass<ParentOwnerType> result = this.memberships;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoEmployeeFinder.zGetProjitoEmployeeMembershipsReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProjitoEmployeeMembershipsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.memberships = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMeasureOfSuccessList, ProjitoEmployee> measuresOfSuccess()
+		{
+			ProjitoEmployeeMeasuresOfSuccessFinderSubclass<ParentOwnerType> result = this.measuresOfSuccess;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoEmployeeFinder.zGetProjitoEmployeeMeasuresOfSuccessReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProjitoEmployeeMeasuresOfSuccessFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.measuresOfSuccess = result;
+			}
+
+			return result;
+		}
+
+		public ProjitoAddressFinder.ProjitoAddressCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoAddressList, ProjitoEmployee> addresses()
+		{
+			ProjitoEmployeeAddressesFinderSubclass<ParentOwnerType> result = this.addresses;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ProjitoEmployeeFinder.zGetProjitoEmployeeAddressesReverseMapper());
+				newMapper.setToMany(true);
+				result = new ProjitoEmployeeAddressesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.addresses = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ProjitoEmployeeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ProjitoEmployeeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ProjitoEmployeeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ProjitoEmployeeRelatedFinder<ParentOwnerType, ReturnType, ProjitoEmployeeList, OwnerType>
+	{
+		public ProjitoEmployeeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ProjitoEmployeeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ProjitoEmployeeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoEmployeeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ProjitoEmployeeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ProjitoEmployeeRelatedFinder<ParentOwnerType, ReturnType, ProjitoEmployeeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ProjitoEmployeeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ProjitoEmployeeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ProjitoEmployee other)
+		{
+			return this.kerberos().eq(other.getKerberos())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ProjitoEmployee findByPrimaryKey(String kerberos, Timestamp processingDate)
+		{
+			ProjitoEmployee _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (kerberos != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(kerberos);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ProjitoEmployee) _related;
+			if (_related == null)
+			{
+				_op = this.kerberos().eq(kerberos).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ProjitoEmployeeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ProjitoEmployeeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ProjitoEmployeeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper membershipsReverseMapper = null;
+	public static Mapper zGetProjitoEmployeeMembershipsReverseMapper()
+	{
+		if (membershipsReverseMapper == null)
+		{
+			membershipsReverseMapper = zConstructProjitoEmployeeMembershipsReverseMapper();
+		}
+
+		return membershipsReverseMapper;
+	}
+
+	private static Mapper membershipsMapper = null;
+	public static Mapper zGetProjitoEmployeeMembershipsMapper()
+	{
+		if (membershipsMapper == null)
+		{
+			membershipsMapper = zConstructProjitoEmployeeMembershipsMapper();
+		}
+
+		return membershipsMapper;
+	}
+
+	private static Mapper membershipsPureReverseMapper = null;
+	public static Mapper zGetProjitoEmployeeMembershipsPureReverseMapper()
+	{
+		if (membershipsPureReverseMapper == null)
+		{
+			membershipsPureReverseMapper = zConstructProjitoEmployeeMembershipsPureReverseMapper();
+		}
+
+		return membershipsPureReverseMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeMembershipsPureReverseMapper()
+	{
+		InternalList membershipsMapperMapperList = new InternalList(2);
+		membershipsMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(0));
+		membershipsMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(2));
+		Mapper membershipsMapper = new MultiEqualityMapper(membershipsMapperMapperList);
+		membershipsMapper.setName("memberships");
+		return membershipsMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeMembershipsReverseMapper()
+	{
+		InternalList membershipsMapperMapperList = new InternalList(2);
+		membershipsMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(0));
+		membershipsMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(2));
+		Mapper membershipsMapper = new MultiEqualityMapper(membershipsMapperMapperList);
+		membershipsMapper.setName("memberships");
+		return membershipsMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeMembershipsMapper()
+	{
+		InternalList membershipsMapperMapperList = new InternalList(2);
+		membershipsMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(1));
+		membershipsMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(3));
+		Mapper membershipsMapper = new MultiEqualityMapper(membershipsMapperMapperList);
+		membershipsMapper.setName("employee");
+		return membershipsMapper;
+	}
+
+	private static Mapper measuresOfSuccessReverseMapper = null;
+	public static Mapper zGetProjitoEmployeeMeasuresOfSuccessReverseMapper()
+	{
+		if (measuresOfSuccessReverseMapper == null)
+		{
+			measuresOfSuccessReverseMapper = zConstructProjitoEmployeeMeasuresOfSuccessReverseMapper();
+		}
+
+		return measuresOfSuccessReverseMapper;
+	}
+
+	private static Mapper measuresOfSuccessMapper = null;
+	public static Mapper zGetProjitoEmployeeMeasuresOfSuccessMapper()
+	{
+		if (measuresOfSuccessMapper == null)
+		{
+			measuresOfSuccessMapper = zConstructProjitoEmployeeMeasuresOfSuccessMapper();
+		}
+
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper measuresOfSuccessPureReverseMapper = null;
+	public static Mapper zGetProjitoEmployeeMeasuresOfSuccessPureReverseMapper()
+	{
+		if (measuresOfSuccessPureReverseMapper == null)
+		{
+			measuresOfSuccessPureReverseMapper = zConstructProjitoEmployeeMeasuresOfSuccessPureReverseMapper();
+		}
+
+		return measuresOfSuccessPureReverseMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeMeasuresOfSuccessPureReverseMapper()
+	{
+		InternalList measuresOfSuccessMapperMapperList = new InternalList(2);
+		measuresOfSuccessMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(4));
+		measuresOfSuccessMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(6));
+		Mapper measuresOfSuccessMapper = new MultiEqualityMapper(measuresOfSuccessMapperMapperList);
+		measuresOfSuccessMapper.setName("measuresOfSuccess");
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeMeasuresOfSuccessReverseMapper()
+	{
+		InternalList measuresOfSuccessMapperMapperList = new InternalList(2);
+		measuresOfSuccessMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(4));
+		measuresOfSuccessMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(6));
+		Mapper measuresOfSuccessMapper = new MultiEqualityMapper(measuresOfSuccessMapperMapperList);
+		measuresOfSuccessMapper.setName("measuresOfSuccess");
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeMeasuresOfSuccessMapper()
+	{
+		InternalList measuresOfSuccessMapperMapperList = new InternalList(2);
+		measuresOfSuccessMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(5));
+		measuresOfSuccessMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(7));
+		Mapper measuresOfSuccessMapper = new MultiEqualityMapper(measuresOfSuccessMapperMapperList);
+		measuresOfSuccessMapper.setName("accountableEmployee");
+		return measuresOfSuccessMapper;
+	}
+
+	private static Mapper addressesReverseMapper = null;
+	public static Mapper zGetProjitoEmployeeAddressesReverseMapper()
+	{
+		if (addressesReverseMapper == null)
+		{
+			addressesReverseMapper = zConstructProjitoEmployeeAddressesReverseMapper();
+		}
+
+		return addressesReverseMapper;
+	}
+
+	private static Mapper addressesMapper = null;
+	public static Mapper zGetProjitoEmployeeAddressesMapper()
+	{
+		if (addressesMapper == null)
+		{
+			addressesMapper = zConstructProjitoEmployeeAddressesMapper();
+		}
+
+		return addressesMapper;
+	}
+
+	private static Mapper addressesPureReverseMapper = null;
+	public static Mapper zGetProjitoEmployeeAddressesPureReverseMapper()
+	{
+		if (addressesPureReverseMapper == null)
+		{
+			addressesPureReverseMapper = zConstructProjitoEmployeeAddressesPureReverseMapper();
+		}
+
+		return addressesPureReverseMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeAddressesPureReverseMapper()
+	{
+		InternalList addressesMapperMapperList = new InternalList(2);
+		addressesMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(8));
+		addressesMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(10));
+		Mapper addressesMapper = new MultiEqualityMapper(addressesMapperMapperList);
+		addressesMapper.setName("addresses");
+		return addressesMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeAddressesReverseMapper()
+	{
+		InternalList addressesMapperMapperList = new InternalList(2);
+		addressesMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(8));
+		addressesMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(10));
+		Mapper addressesMapper = new MultiEqualityMapper(addressesMapperMapperList);
+		addressesMapper.setName("addresses");
+		return addressesMapper;
+	}
+
+	private static Mapper zConstructProjitoEmployeeAddressesMapper()
+	{
+		InternalList addressesMapperMapperList = new InternalList(2);
+		addressesMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(9));
+		addressesMapperMapperList.add(ProjitoEmployeeFinder.zGetConstantJoin(11));
+		Mapper addressesMapper = new MultiEqualityMapper(addressesMapperMapperList);
+		addressesMapper.setName("employee");
+		return addressesMapper;
+	}
+
+	/** maps to PROJITO_EMPLOYEE.KERBEROS **/
+	public static StringAttribute<ProjitoEmployee> kerberos()
+	{
+		return finder.kerberos();
+	}
+
+	/** maps to PROJITO_EMPLOYEE.NAME **/
+	public static StringAttribute<ProjitoEmployee> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to PROJITO_EMPLOYEE.IN_Z **/
+	public static TimestampAttribute<ProjitoEmployee> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to PROJITO_EMPLOYEE.OUT_Z **/
+	public static TimestampAttribute<ProjitoEmployee> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<ProjitoEmployee> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ProjitoMembershipFinder.ProjitoMembershipCollectionFinderForRelatedClasses<ProjitoEmployee, ProjitoMembershipList, ProjitoEmployee> memberships()
+	{
+		return finder.memberships();
+	}
+
+	public static class ProjitoEmployeeMembershipsFinderSubclass<ParentOwnerType> extends ProjitoMembershipFinder.ProjitoMembershipCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMembershipList, ProjitoEmployee>
+	{
+		public ProjitoEmployeeMembershipsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "memberships";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoMembershipFinder.kerberos(),
+				ProjitoMembershipFinder.processingDate()).withExtractors(
+				ProjitoEmployeeFinder.kerberos(),
+				ProjitoEmployeeFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoEmployeeMembershipsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((ProjitoEmployee) _obj).isMembershipsModifiedSinceDetachment();
+		}
+
+		protected ProjitoMembershipList plainValueOf(ProjitoEmployee _obj)
+		{
+			return _obj.getMemberships();
+		}
+
+		protected ProjitoMembershipList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoEmployeeList)_obj).getMemberships();
+		}
+	}
+
+	public static ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<ProjitoEmployee, ProjitoMeasureOfSuccessList, ProjitoEmployee> measuresOfSuccess()
+	{
+		return finder.measuresOfSuccess();
+	}
+
+	public static class ProjitoEmployeeMeasuresOfSuccessFinderSubclass<ParentOwnerType> extends ProjitoMeasureOfSuccessFinder.ProjitoMeasureOfSuccessCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoMeasureOfSuccessList, ProjitoEmployee>
+	{
+		public ProjitoEmployeeMeasuresOfSuccessFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "measuresOfSuccess";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoMeasureOfSuccessFinder.accountableKerberos(),
+				ProjitoMeasureOfSuccessFinder.processingDate()).withExtractors(
+				ProjitoEmployeeFinder.kerberos(),
+				ProjitoEmployeeFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoEmployeeMeasuresOfSuccessFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ProjitoMeasureOfSuccessList plainValueOf(ProjitoEmployee _obj)
+		{
+			return _obj.getMeasuresOfSuccess();
+		}
+
+		protected ProjitoMeasureOfSuccessList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoEmployeeList)_obj).getMeasuresOfSuccess();
+		}
+	}
+
+	public static ProjitoAddressFinder.ProjitoAddressCollectionFinderForRelatedClasses<ProjitoEmployee, ProjitoAddressList, ProjitoEmployee> addresses()
+	{
+		return finder.addresses();
+	}
+
+	public static class ProjitoEmployeeAddressesFinderSubclass<ParentOwnerType> extends ProjitoAddressFinder.ProjitoAddressCollectionFinderForRelatedClasses<ParentOwnerType, ProjitoAddressList, ProjitoEmployee>
+	{
+		public ProjitoEmployeeAddressesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = ProjitoAddressFinder.id().descendingOrderBy();
+			this._type = SIMPLE_TO_MANY;
+			this._name = "addresses";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProjitoAddressFinder.kerberos(),
+				ProjitoAddressFinder.processingDate()).withExtractors(
+				ProjitoEmployeeFinder.kerberos(),
+				ProjitoEmployeeFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ProjitoEmployeeAddressesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((ProjitoEmployee) _obj).isAddressesModifiedSinceDetachment();
+		}
+
+		protected ProjitoAddressList plainValueOf(ProjitoEmployee _obj)
+		{
+			return _obj.getAddresses();
+		}
+
+		protected ProjitoAddressList plainListValueOf(Object _obj)
+		{
+			return ((ProjitoEmployeeList)_obj).getAddresses();
+		}
+	}
+
+	public static Operation eq(ProjitoEmployee other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(kerberos());
+	}
+
+	public static ProjitoEmployeeSingleFinder<ProjitoEmployee, Object, ProjitoEmployee> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			kerberos()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			kerberos()
+			, kerberos()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.ProjitoEmployee");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
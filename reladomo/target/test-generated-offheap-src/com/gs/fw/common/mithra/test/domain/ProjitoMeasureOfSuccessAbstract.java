@@ -0,0 +1,828 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class ProjitoMeasureOfSuccessAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		ProjitoMeasureOfSuccessFinder.processingDate()
+	, ProjitoMeasureOfSuccessFinder.zGetDoubleAttributes(),ProjitoMeasureOfSuccessFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(ProjitoMeasureOfSuccess.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forprojito = new ProjitoRhs();
+	private static final RelationshipHashStrategy foraccountableEmployee = new AccountableEmployeeRhs();
+	private static final class ProjitoRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ProjitoFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProjitoMeasureOfSuccess _castedSrcObject = (ProjitoMeasureOfSuccess) _srcObject;
+			ProjitoMeasureOfSuccessData _castedSrcData = (ProjitoMeasureOfSuccessData) _srcData;
+			ProjitoData _castedTargetData = (ProjitoData) _targetData;
+			if (_castedSrcData.getProjitoId() == _castedTargetData.getId())
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoMeasureOfSuccessData _castedSrcData = (ProjitoMeasureOfSuccessData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProjitoId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class AccountableEmployeeRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute processingDate = ProjitoEmployeeFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ProjitoMeasureOfSuccess _castedSrcObject = (ProjitoMeasureOfSuccess) _srcObject;
+			ProjitoMeasureOfSuccessData _castedSrcData = (ProjitoMeasureOfSuccessData) _srcData;
+			ProjitoEmployeeData _castedTargetData = (ProjitoEmployeeData) _targetData;
+			if (!_castedSrcData.isAccountableKerberosNull() && _castedSrcData.getAccountableKerberos().equals(_castedTargetData.getKerberos()))
+			{
+				return processingDate.dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoMeasureOfSuccessData _castedSrcData = (ProjitoMeasureOfSuccessData) _srcData;
+			return HashUtil.hash(_castedSrcData.getAccountableKerberos());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ProjitoMeasureOfSuccessData _castedSrcData = (ProjitoMeasureOfSuccessData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetAccountableKerberosAsInt());
+		}
+	}
+
+	public ProjitoMeasureOfSuccessAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, ProjitoMeasureOfSuccessFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public ProjitoMeasureOfSuccessData zSynchronizedGetData()
+	{
+		return (ProjitoMeasureOfSuccessData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !ProjitoMeasureOfSuccessFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public ProjitoMeasureOfSuccess zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		ProjitoMeasureOfSuccess original = (ProjitoMeasureOfSuccess) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			ProjitoMeasureOfSuccessFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public ProjitoMeasureOfSuccess getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoMeasureOfSuccessAbstract result = (ProjitoMeasureOfSuccessAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (ProjitoMeasureOfSuccess ) result;
+	}
+
+	public ProjitoMeasureOfSuccess zFindOriginal()
+	{
+		ProjitoMeasureOfSuccessData data = (ProjitoMeasureOfSuccessData) this.currentData;
+		Operation op;
+		op = ProjitoMeasureOfSuccessFinder.id().eq(data.getId());
+		op = op.and(ProjitoMeasureOfSuccessFinder.processingDate().eq(this.getProcessingDate()));
+		return ProjitoMeasureOfSuccessFinder.findOne(op);
+	}
+
+	public ProjitoMeasureOfSuccess getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		ProjitoMeasureOfSuccessAbstract result = (ProjitoMeasureOfSuccessAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (ProjitoMeasureOfSuccess ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public ProjitoMeasureOfSuccess copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (ProjitoMeasureOfSuccess) behavior.updateOriginalOrInsert(this);
+	}
+
+	public ProjitoMeasureOfSuccess copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (ProjitoMeasureOfSuccess) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			ProjitoMeasureOfSuccessData data = (ProjitoMeasureOfSuccessData) this.currentData;
+			Operation op = ProjitoMeasureOfSuccessFinder.processingDate().eq(this.processingDate);
+			op = op.and(ProjitoMeasureOfSuccessFinder.id().eq(data.getId()));
+			return ProjitoMeasureOfSuccessFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isAccountableKerberosNull()
+	{
+		return this.zSynchronizedGetData().isAccountableKerberosNull();
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isDescriptionNull();
+	}
+
+	public boolean isIdNull()
+	{
+		return this.zSynchronizedGetData().isIdNull();
+	}
+
+	public boolean isNameNull()
+	{
+		return this.zSynchronizedGetData().isNameNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProjitoIdNull()
+	{
+		return this.zSynchronizedGetData().isProjitoIdNull();
+	}
+
+	public String getAccountableKerberos()
+	{
+		return this.zSynchronizedGetData().getAccountableKerberos();
+	}
+
+	public void setAccountableKerberos(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'accountableKerberos' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoMeasureOfSuccessFinder.accountableKerberos(), newValue, false );
+	}
+
+	public String getDescription()
+	{
+		return this.zSynchronizedGetData().getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoMeasureOfSuccessFinder.description(), newValue, false );
+	}
+
+	public long getId()
+	{
+		return this.zSynchronizedGetData().getId();
+	}
+
+	public void setId(long newValue)
+	{
+		zSetLong(ProjitoMeasureOfSuccessFinder.id(), newValue, true ,false);
+	}
+
+	public String getName()
+	{
+		return this.zSynchronizedGetData().getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 255)
+		{
+			throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 255: " + newValue);
+		}
+
+		zSetString(ProjitoMeasureOfSuccessFinder.name(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMeasureOfSuccessFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(ProjitoMeasureOfSuccessFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getProjitoId()
+	{
+		return this.zSynchronizedGetData().getProjitoId();
+	}
+
+	public void setProjitoId(long newValue)
+	{
+		zSetLong(ProjitoMeasureOfSuccessFinder.projitoId(), newValue, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		ProjitoMeasureOfSuccessData _newData = (ProjitoMeasureOfSuccessData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		ProjitoMeasureOfSuccessData _newData = (ProjitoMeasureOfSuccessData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		ProjitoMeasureOfSuccessData _newData = (ProjitoMeasureOfSuccessData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Projito.id = this.projitoId</pre>
+	* @see Projito#getMeasuresOfSuccess() reverse relationship Projito.getMeasuresOfSuccess()
+	* @return The projito
+	*/
+	public Projito getProjito()
+	{
+		Projito _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoMeasureOfSuccessData _data = (ProjitoMeasureOfSuccessData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = ProjitoFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forprojito,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (Projito) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMeasureOfSuccessFinder.projito().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getProjito() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Projito) _data.getProjito();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoMeasureOfSuccessFinder.projito().zGetRelationshipMultiExtractor(), this);
+					_result = ProjitoFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (ProjitoMeasureOfSuccessData) _behavior.getCurrentDataForWrite(this);
+				_data.setProjito(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Projito) _data.getProjito();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMeasureOfSuccessFinder.projito().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProjitoFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProjito(Projito projito)
+	{
+		Projito _projito = (Projito) projito;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMeasureOfSuccessData _data = (ProjitoMeasureOfSuccessData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getProjito();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((Projito)_prev).getMeasuresOfSuccess()).zMarkMoved( (ProjitoMeasureOfSuccess) this);
+			}
+
+			_data.setProjito(_projito);
+			_projito.getMeasuresOfSuccess().add((ProjitoMeasureOfSuccess) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_projito == null)
+			{
+				this.setProjitoId(0);
+			}
+			else
+			{
+				this.setProjitoId(
+					_projito.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainerprojito(ProjitoAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMeasureOfSuccessData _data = (ProjitoMeasureOfSuccessData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProjito(parent);
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ProjitoEmployee.kerberos = this.accountableKerberos</pre>
+	* @see ProjitoEmployee#getMeasuresOfSuccess() reverse relationship ProjitoEmployee.getMeasuresOfSuccess()
+	* @return The accountable employee
+	*/
+	public ProjitoEmployee getAccountableEmployee()
+	{
+		ProjitoEmployee _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		ProjitoMeasureOfSuccessData _data = (ProjitoMeasureOfSuccessData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isAccountableKerberosNull())
+			{
+				_portal = ProjitoEmployeeFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foraccountableEmployee,this.getProcessingDate(), null);
+				if (!(_related instanceof NulledRelation)) _result = (ProjitoEmployee) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMeasureOfSuccessFinder.accountableEmployee().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isAccountableKerberosNull())
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(ProjitoMeasureOfSuccessFinder.accountableEmployee().zGetRelationshipMultiExtractor(), this);
+					_result = ProjitoEmployeeFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProjitoEmployee) _data.getAccountableEmployee();
+			if (_result == null)
+			{
+				if (!_data.isAccountableKerberosNull())
+				{
+					_op = new RelationshipMultiEqualityOperation(ProjitoMeasureOfSuccessFinder.accountableEmployee().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProjitoEmployeeFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setAccountableEmployee(ProjitoEmployee accountableEmployee)
+	{
+		ProjitoEmployee _accountableEmployee = (ProjitoEmployee) accountableEmployee;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		ProjitoMeasureOfSuccessData _data = (ProjitoMeasureOfSuccessData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAccountableEmployee(_accountableEmployee);
+			if (_accountableEmployee == null)
+			{
+				this.setAccountableKerberos(null);
+			}
+			else
+			{
+				this.setAccountableKerberos(
+					_accountableEmployee.getKerberos());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_accountableEmployee == null)
+			{
+				this.setAccountableKerberos(null);
+			}
+			else
+			{
+				this.setAccountableKerberos(
+					_accountableEmployee.getKerberos());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new ProjitoMeasureOfSuccessData.ProjitoMeasureOfSuccessDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		ProjitoMeasureOfSuccessData data = (ProjitoMeasureOfSuccessData) ProjitoMeasureOfSuccessFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("ProjitoMeasureOfSuccess has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromProjitoMeasureOfSuccessData( ProjitoMeasureOfSuccessData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromProjitoMeasureOfSuccessData( ProjitoMeasureOfSuccessData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) ProjitoMeasureOfSuccessFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ProjitoMeasureOfSuccessFinder.getMithraObjectPortal();
+	}
+
+	public ProjitoMeasureOfSuccess getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(ProjitoMeasureOfSuccessAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		ProjitoMeasureOfSuccessAbstract from = (ProjitoMeasureOfSuccessAbstract) f;
+		ProjitoMeasureOfSuccessData newData = from.zSynchronizedGetData();
+		this.setAccountableKerberos(newData.getAccountableKerberos());
+		this.setDescription(newData.getDescription());
+		this.setName(newData.getName());
+		this.setProjitoId(newData.getProjitoId());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		ProjitoMeasureOfSuccessData newData = (ProjitoMeasureOfSuccessData) d;
+		ProjitoMeasureOfSuccessData data = (ProjitoMeasureOfSuccessData) nd;
+		if (ProjitoMeasureOfSuccessFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, ProjitoMeasureOfSuccessFinder.accountableKerberos(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoMeasureOfSuccessFinder.description(), false);
+		changed |= zUpdateLong(behavior, data, newData, ProjitoMeasureOfSuccessFinder.id(), false);
+		changed |= zUpdateString(behavior, data, newData, ProjitoMeasureOfSuccessFinder.name(), false);
+		changed |= zUpdateLong(behavior, data, newData, ProjitoMeasureOfSuccessFinder.projitoId(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		ProjitoMeasureOfSuccessData data = ((ProjitoMeasureOfSuccessData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		ProjitoMeasureOfSuccessData data = ((ProjitoMeasureOfSuccessData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		ProjitoMeasureOfSuccessData data = ((ProjitoMeasureOfSuccessData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	public long generateAndSetId()
+	{
+		long nextValue =(long) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		ProjitoMeasureOfSuccessData data = this.zSynchronizedGetData();
+		return data.zGetIsIdSet();
+	}
+
+	protected long generateId()
+	{
+		Object sourceAttribute = null;
+		ProjitoMeasureOfSuccessFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("projitoMeasureOfSuccess", "com.gs.fw.common.mithra.test.domain.ProjitoSimulatedSequenceFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		ProjitoMeasureOfSuccessData data = (ProjitoMeasureOfSuccessData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			long newValue = this.generateId();
+			data.setId(newValue);
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getSybaseIqInfinity()), ProjitoMeasureOfSuccessFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		ProjitoMeasureOfSuccessData localData = (ProjitoMeasureOfSuccessData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,215 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureBitemporalOrderListAbstract extends DelegatingList<PureBitemporalOrder> implements MithraDatedTransactionalList<PureBitemporalOrder>
+{
+	public PureBitemporalOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureBitemporalOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureBitemporalOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureBitemporalOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PureBitemporalOrder[] elements()
+	{
+		PureBitemporalOrder[] result = new PureBitemporalOrder[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureBitemporalOrderList intersection(PureBitemporalOrderList another)
+	{
+		return (PureBitemporalOrderList)super.intersection(another);
+	}
+
+	public PureBitemporalOrder getPureBitemporalOrderAt(int index)
+	{
+		return (PureBitemporalOrder)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PureBitemporalOrderItem.orderId = this.orderId</pre>
+	* @see PureBitemporalOrderItem#getOrder() reverse relationship PureBitemporalOrderItem.getOrder()
+	* @return items
+	*/
+	public PureBitemporalOrderItemList getItems()
+	{
+		return (PureBitemporalOrderItemList) this.getDelegated().resolveRelationship(this, PureBitemporalOrderFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Order.orderId = this.orderId</pre>
+	* @return The real order
+	*/
+	public OrderList getRealOrders()
+	{
+		return (OrderList) this.getDelegated().resolveRelationship(this, PureBitemporalOrderFinder.realOrder());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureBitemporalOrderFinder.getMithraObjectPortal();
+	}
+
+	public PureBitemporalOrderList getNonPersistentCopy()
+	{
+		PureBitemporalOrderList result = new PureBitemporalOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureBitemporalOrderList asAdhoc()
+	{
+		return (PureBitemporalOrderList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<PureBitemporalOrder> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public PureBitemporalOrderList merge(MithraTransactionalList<PureBitemporalOrder> incoming, TopLevelMergeOptions<PureBitemporalOrder> mergeOptions)
+	{
+		return (PureBitemporalOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public PureBitemporalOrderList getDetachedCopy()
+	{
+		PureBitemporalOrderList result = new PureBitemporalOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.businessDateTo(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(PureBitemporalOrderFinder.description(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.orderDate(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderFinder.orderId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(PureBitemporalOrderFinder.processingDateTo(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(PureBitemporalOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(PureBitemporalOrderFinder.trackingId(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(PureBitemporalOrderFinder.userId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(PureBitemporalOrderFinder.userId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureCompactOrderListAbstract extends DelegatingList<PureCompactOrder> implements MithraTransactionalList<PureCompactOrder>
+{
+	public PureCompactOrderListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureCompactOrderListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureCompactOrderListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureCompactOrderListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PureCompactOrder[] elements()
+	{
+		PureCompactOrder[] result = new PureCompactOrder[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureCompactOrderList intersection(PureCompactOrderList another)
+	{
+		return (PureCompactOrderList)super.intersection(another);
+	}
+
+	public PureCompactOrder getPureCompactOrderAt(int index)
+	{
+		return (PureCompactOrder)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureCompactOrderFinder.getMithraObjectPortal();
+	}
+
+	public PureCompactOrderList getNonPersistentCopy()
+	{
+		PureCompactOrderList result = new PureCompactOrderList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureCompactOrderList asAdhoc()
+	{
+		return (PureCompactOrderList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<PureCompactOrder> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public PureCompactOrderList merge(MithraTransactionalList<PureCompactOrder> incoming, TopLevelMergeOptions<PureCompactOrder> mergeOptions)
+	{
+		return (PureCompactOrderList) super.merge(incoming, mergeOptions);
+	}
+
+	public PureCompactOrderList getDetachedCopy()
+	{
+		PureCompactOrderList result = new PureCompactOrderList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(PureCompactOrderFinder.description(), newValue);
+	}
+
+	public void setOrderDate(Timestamp newValue)
+	{
+		zSetTimestamp(PureCompactOrderFinder.orderDate(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(PureCompactOrderFinder.orderId(), newValue);
+	}
+
+	public void setQuantity(long newValue)
+	{
+		zSetLong(PureCompactOrderFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(PureCompactOrderFinder.state(), newValue);
+	}
+
+	public void setTrackingId(String newValue)
+	{
+		zSetString(PureCompactOrderFinder.trackingId(), newValue);
+	}
+
+	public void setUserId(int newValue)
+	{
+		zSetInteger(PureCompactOrderFinder.userId(), newValue);
+	}
+
+	public void setUserIdNull()
+	{
+		zSetAttributeNull(PureCompactOrderFinder.userId());
+	}
+}
@@ -0,0 +1,205 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PureOrderItemListAbstract extends DelegatingList<PureOrderItem> implements MithraTransactionalList<PureOrderItem>
+{
+	public PureOrderItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PureOrderItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PureOrderItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PureOrderItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PureOrderItem[] elements()
+	{
+		PureOrderItem[] result = new PureOrderItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PureOrderItemList intersection(PureOrderItemList another)
+	{
+		return (PureOrderItemList)super.intersection(another);
+	}
+
+	public PureOrderItem getPureOrderItemAt(int index)
+	{
+		return (PureOrderItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = PureOrder.orderId</pre>
+	* @see PureOrder#getItems() reverse relationship PureOrder.getItems()
+	* @return The order
+	*/
+	public PureOrderList getOrders()
+	{
+		return (PureOrderList) this.getDelegated().resolveRelationship(this, PureOrderItemFinder.order());
+	}
+
+	public void zSetParentContainerorder(PureOrderAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			PureOrderItem item = this.getPureOrderItemAt(i);
+			item.zSetParentContainerorder(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PureOrderItemFinder.getMithraObjectPortal();
+	}
+
+	public PureOrderItemList getNonPersistentCopy()
+	{
+		PureOrderItemList result = new PureOrderItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PureOrderItemList asAdhoc()
+	{
+		return (PureOrderItemList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<PureOrderItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public PureOrderItemList merge(MithraTransactionalList<PureOrderItem> incoming, TopLevelMergeOptions<PureOrderItem> mergeOptions)
+	{
+		return (PureOrderItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public PureOrderItemList getDetachedCopy()
+	{
+		PureOrderItemList result = new PureOrderItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDiscountPrice(double newValue)
+	{
+		zSetDouble(PureOrderItemFinder.discountPrice(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(PureOrderItemFinder.id(), newValue);
+	}
+
+	public void setOrderId(int newValue)
+	{
+		zSetInteger(PureOrderItemFinder.orderId(), newValue);
+	}
+
+	public void setOriginalPrice(double newValue)
+	{
+		zSetDouble(PureOrderItemFinder.originalPrice(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(PureOrderItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(PureOrderItemFinder.quantity(), newValue);
+	}
+
+	public void setState(String newValue)
+	{
+		zSetString(PureOrderItemFinder.state(), newValue);
+	}
+
+	public void setOrderIdNull()
+	{
+		zSetAttributeNull(PureOrderItemFinder.orderId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(PureOrderItemFinder.productId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(PureOrderItemFinder.quantity());
+	}
+
+	public void setOriginalPriceNull()
+	{
+		zSetAttributeNull(PureOrderItemFinder.originalPrice());
+	}
+
+	public void setDiscountPriceNull()
+	{
+		zSetAttributeNull(PureOrderItemFinder.discountPrice());
+	}
+}
@@ -0,0 +1,52 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderItemWiAbstract
+{
+	public Timestamp getBusinessDateFrom();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public boolean isBusinessDateFromNull();
+	public Timestamp getBusinessDateTo();
+	public void setBusinessDateTo(Timestamp newValue);
+	public boolean isBusinessDateToNull();
+	public double getDiscountPrice();
+	public void setDiscountPrice(double newValue);
+	public boolean isDiscountPriceNull();
+	public int getId();
+	public void setId(int newValue);
+	public boolean isIdNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public double getOriginalPrice();
+	public void setOriginalPrice(double newValue);
+	public boolean isOriginalPriceNull();
+	public Timestamp getProcessingDateFrom();
+	public void setProcessingDateFrom(Timestamp newValue);
+	public boolean isProcessingDateFromNull();
+	public Timestamp getProcessingDateTo();
+	public void setProcessingDateTo(Timestamp newValue);
+	public boolean isProcessingDateToNull();
+	public int getProductId();
+	public void setProductId(int newValue);
+	public boolean isProductIdNull();
+	public double getQuantity();
+	public void setQuantity(double newValue);
+	public boolean isQuantityNull();
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public void setOrderIdNull();
+	public void setProductIdNull();
+	public void setQuantityNull();
+	public void setOriginalPriceNull();
+	public void setDiscountPriceNull();
+	public ReadOnlyBitemporalOrderWi getOrder();
+	public Timestamp getBusinessDate();
+	public Timestamp getProcessingDate();
+}
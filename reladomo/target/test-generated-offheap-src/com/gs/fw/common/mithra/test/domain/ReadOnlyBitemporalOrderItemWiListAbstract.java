@@ -0,0 +1,8 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderItemWiListAbstract extends List<ReadOnlyBitemporalOrderItemWi>
+{
+	public ReadOnlyBitemporalOrderWiList getOrders();
+}
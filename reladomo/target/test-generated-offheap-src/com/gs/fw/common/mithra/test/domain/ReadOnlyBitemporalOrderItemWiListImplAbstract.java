@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReadOnlyBitemporalOrderItemWiListImplAbstract extends DelegatingList<ReadOnlyBitemporalOrderItemWi> implements MithraList<ReadOnlyBitemporalOrderItemWi>
+{
+	public ReadOnlyBitemporalOrderItemWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReadOnlyBitemporalOrderItemWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReadOnlyBitemporalOrderItemWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReadOnlyBitemporalOrderItemWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ReadOnlyBitemporalOrderItemWi[] elements()
+	{
+		ReadOnlyBitemporalOrderItemWi[] result = new ReadOnlyBitemporalOrderItemWi[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReadOnlyBitemporalOrderItemWiListImpl intersection(ReadOnlyBitemporalOrderItemWiListImpl another)
+	{
+		return (ReadOnlyBitemporalOrderItemWiListImpl)super.intersection(another);
+	}
+
+	public ReadOnlyBitemporalOrderItemWiImpl getReadOnlyBitemporalOrderItemWiAt(int index)
+	{
+		return (ReadOnlyBitemporalOrderItemWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.orderId = ReadOnlyBitemporalOrderWi.orderId</pre>
+	* @see ReadOnlyBitemporalOrderWi#getItems() reverse relationship ReadOnlyBitemporalOrderWi.getItems()
+	* @return The order
+	*/
+	public ReadOnlyBitemporalOrderWiList getOrders()
+	{
+		return (ReadOnlyBitemporalOrderWiList) this.getDelegated().resolveRelationship(this, ReadOnlyBitemporalOrderItemWiFinder.order());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyBitemporalOrderItemWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyBitemporalOrderItemWiListImpl getNonPersistentCopy()
+	{
+		ReadOnlyBitemporalOrderItemWiListImpl result = new ReadOnlyBitemporalOrderItemWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReadOnlyBitemporalOrderItemWiListImpl asAdhoc()
+	{
+		return (ReadOnlyBitemporalOrderItemWiListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ReadOnlyBitemporalOrderItemWi> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,44 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderStatusWiAbstract
+{
+	public Timestamp getBusinessDateFrom();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public boolean isBusinessDateFromNull();
+	public Timestamp getBusinessDateTo();
+	public void setBusinessDateTo(Timestamp newValue);
+	public boolean isBusinessDateToNull();
+	public Timestamp getLastUpdateTime();
+	public void setLastUpdateTime(Timestamp newValue);
+	public boolean isLastUpdateTimeNull();
+	public void setLastUpdateTimeUntil(Timestamp newValue, Timestamp exclusiveUntil);
+	public String getLastUser();
+	public void setLastUser(String newValue);
+	public boolean isLastUserNull();
+	public void setLastUserUntil(String newValue, Timestamp exclusiveUntil);
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public void setOrderIdUntil(int newValue, Timestamp exclusiveUntil);
+	public Timestamp getProcessingDateFrom();
+	public void setProcessingDateFrom(Timestamp newValue);
+	public boolean isProcessingDateFromNull();
+	public Timestamp getProcessingDateTo();
+	public void setProcessingDateTo(Timestamp newValue);
+	public boolean isProcessingDateToNull();
+	public int getStatus();
+	public void setStatus(int newValue);
+	public boolean isStatusNull();
+	public void setStatusUntil(int newValue, Timestamp exclusiveUntil);
+	public void setStatusNull();
+	public ReadOnlyBitemporalOrderWi getOrder();
+	public void setOrder(ReadOnlyBitemporalOrderWi order);
+	public Timestamp getBusinessDate();
+	public Timestamp getProcessingDate();
+}
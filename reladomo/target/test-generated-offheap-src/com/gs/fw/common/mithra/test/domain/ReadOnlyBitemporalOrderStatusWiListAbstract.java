@@ -0,0 +1,16 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderStatusWiListAbstract extends List<ReadOnlyBitemporalOrderStatusWi>
+{
+	public ReadOnlyBitemporalOrderWiList getOrders();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public void setBusinessDateTo(Timestamp newValue);
+	public void setLastUpdateTime(Timestamp newValue);
+	public void setLastUser(String newValue);
+	public void setOrderId(int newValue);
+	public void setProcessingDateFrom(Timestamp newValue);
+	public void setProcessingDateTo(Timestamp newValue);
+	public void setStatus(int newValue);
+}
@@ -0,0 +1,48 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyBitemporalOrderWiAbstract
+{
+	public Timestamp getBusinessDateFrom();
+	public void setBusinessDateFrom(Timestamp newValue);
+	public boolean isBusinessDateFromNull();
+	public Timestamp getBusinessDateTo();
+	public void setBusinessDateTo(Timestamp newValue);
+	public boolean isBusinessDateToNull();
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public Timestamp getOrderDate();
+	public void setOrderDate(Timestamp newValue);
+	public boolean isOrderDateNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public Timestamp getProcessingDateFrom();
+	public void setProcessingDateFrom(Timestamp newValue);
+	public boolean isProcessingDateFromNull();
+	public Timestamp getProcessingDateTo();
+	public void setProcessingDateTo(Timestamp newValue);
+	public boolean isProcessingDateToNull();
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public String getTrackingId();
+	public void setTrackingId(String newValue);
+	public boolean isTrackingIdNull();
+	public int getUserId();
+	public void setUserId(int newValue);
+	public boolean isUserIdNull();
+	public void setUserIdNull();
+	public ReadOnlyBitemporalOrderItemWiList getItems();
+	public ReadOnlyBitemporalOrderStatusWi getOrderStatus();
+	public BitemporalOrderItemList getItemsWithoutInterface();
+	public BitemporalOrderStatus getOrderStatusWithoutInterface();
+	public Timestamp getBusinessDate();
+	public Timestamp getProcessingDate();
+}
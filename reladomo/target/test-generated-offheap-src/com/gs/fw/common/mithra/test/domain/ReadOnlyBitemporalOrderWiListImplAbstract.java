@@ -0,0 +1,152 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReadOnlyBitemporalOrderWiListImplAbstract extends DelegatingList<ReadOnlyBitemporalOrderWi> implements MithraList<ReadOnlyBitemporalOrderWi>
+{
+	public ReadOnlyBitemporalOrderWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReadOnlyBitemporalOrderWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReadOnlyBitemporalOrderWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReadOnlyBitemporalOrderWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ReadOnlyBitemporalOrderWi[] elements()
+	{
+		ReadOnlyBitemporalOrderWi[] result = new ReadOnlyBitemporalOrderWi[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReadOnlyBitemporalOrderWiListImpl intersection(ReadOnlyBitemporalOrderWiListImpl another)
+	{
+		return (ReadOnlyBitemporalOrderWiListImpl)super.intersection(another);
+	}
+
+	public ReadOnlyBitemporalOrderWiImpl getReadOnlyBitemporalOrderWiAt(int index)
+	{
+		return (ReadOnlyBitemporalOrderWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyBitemporalOrderItemWi.orderId = this.orderId</pre>
+	* @see ReadOnlyBitemporalOrderItemWi#getOrder() reverse relationship ReadOnlyBitemporalOrderItemWi.getOrder()
+	* @return items
+	*/
+	public ReadOnlyBitemporalOrderItemWiList getItems()
+	{
+		return (ReadOnlyBitemporalOrderItemWiList) this.getDelegated().resolveRelationship(this, ReadOnlyBitemporalOrderWiFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyBitemporalOrderStatusWi.orderId = this.orderId</pre>
+	* @see ReadOnlyBitemporalOrderStatusWi#getOrder() reverse relationship ReadOnlyBitemporalOrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public ReadOnlyBitemporalOrderStatusWiList getOrderStatus()
+	{
+		return (ReadOnlyBitemporalOrderStatusWiList) this.getDelegated().resolveRelationship(this, ReadOnlyBitemporalOrderWiFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderItem.orderId = this.orderId</pre>
+	* @see BitemporalOrderItem#getReadOnlyDatedOrderWithInterface() reverse relationship BitemporalOrderItem.getReadOnlyDatedOrderWithInterface()
+	* @return items without interface
+	*/
+	public BitemporalOrderItemList getItemsWithoutInterface()
+	{
+		return (BitemporalOrderItemList) this.getDelegated().resolveRelationship(this, ReadOnlyBitemporalOrderWiFinder.itemsWithoutInterface());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	BitemporalOrderStatus.orderId = this.orderId</pre>
+	* @see BitemporalOrderStatus#getReadOnlyDatedOrderWithInterface() reverse relationship BitemporalOrderStatus.getReadOnlyDatedOrderWithInterface()
+	* @return The order status without interface
+	*/
+	public BitemporalOrderStatusList getOrderStatusWithoutInterfaces()
+	{
+		return (BitemporalOrderStatusList) this.getDelegated().resolveRelationship(this, ReadOnlyBitemporalOrderWiFinder.orderStatusWithoutInterface());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyBitemporalOrderWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyBitemporalOrderWiListImpl getNonPersistentCopy()
+	{
+		ReadOnlyBitemporalOrderWiListImpl result = new ReadOnlyBitemporalOrderWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReadOnlyBitemporalOrderWiListImpl asAdhoc()
+	{
+		return (ReadOnlyBitemporalOrderWiListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ReadOnlyBitemporalOrderWi> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
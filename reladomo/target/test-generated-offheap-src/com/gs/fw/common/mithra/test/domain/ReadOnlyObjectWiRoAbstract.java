@@ -0,0 +1,17 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyObjectWiRoAbstract
+{
+	public Timestamp getObjectDate();
+	public boolean isObjectDateNull();
+	public int getObjectId();
+	public boolean isObjectIdNull();
+	public int getObjectValue();
+	public boolean isObjectValueNull();
+}
@@ -0,0 +1,10 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyOrderItemWiListAbstract extends List<ReadOnlyOrderItemWi>
+{
+	public ProductList getProductInfos();
+	public OrderItemStatusList getOrderItemStatus();
+	public ReadOnlyOrderWiList getOrders();
+}
@@ -0,0 +1,25 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyOrderStatusWiAbstract
+{
+	public Timestamp getLastUpdateTime();
+	public void setLastUpdateTime(Timestamp newValue);
+	public boolean isLastUpdateTimeNull();
+	public String getLastUser();
+	public void setLastUser(String newValue);
+	public boolean isLastUserNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public int getStatus();
+	public void setStatus(int newValue);
+	public boolean isStatusNull();
+	public void setStatusNull();
+	public ReadOnlyOrderWi getOrder();
+}
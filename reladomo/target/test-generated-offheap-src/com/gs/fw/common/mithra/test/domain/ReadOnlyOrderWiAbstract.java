@@ -0,0 +1,34 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface ReadOnlyOrderWiAbstract
+{
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public Timestamp getOrderDate();
+	public void setOrderDate(Timestamp newValue);
+	public boolean isOrderDateNull();
+	public int getOrderId();
+	public void setOrderId(int newValue);
+	public boolean isOrderIdNull();
+	public String getState();
+	public void setState(String newValue);
+	public boolean isStateNull();
+	public String getTrackingId();
+	public void setTrackingId(String newValue);
+	public boolean isTrackingIdNull();
+	public int getUserId();
+	public void setUserId(int newValue);
+	public boolean isUserIdNull();
+	public void setUserIdNull();
+	public ReadOnlyOrderItemWiList getItems();
+	public ReadOnlyOrderStatusWi getOrderStatus();
+	public OrderItemList getItemsWithoutInterfaces();
+	public OrderStatus getOrderStatusWithoutInterfaces();
+}
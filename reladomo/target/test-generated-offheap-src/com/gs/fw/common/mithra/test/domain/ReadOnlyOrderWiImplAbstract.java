@@ -0,0 +1,628 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ReadOnlyOrderWiImplAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy fororderStatus = new OrderStatusRhs();
+	private static final RelationshipHashStrategy fororderStatusWithoutInterfaces = new OrderStatusWithoutInterfacesRhs();
+	private static final class OrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyOrderWiImpl _castedSrcObject = (ReadOnlyOrderWiImpl) _srcObject;
+			ReadOnlyOrderStatusWiImpl _castedTargetData = (ReadOnlyOrderStatusWiImpl) _targetData;
+			if (_castedSrcObject.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyOrderWiImpl _castedSrcObject = (ReadOnlyOrderWiImpl) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class OrderStatusWithoutInterfacesRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			ReadOnlyOrderWiImpl _castedSrcObject = (ReadOnlyOrderWiImpl) _srcObject;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (_castedSrcObject.getOrderId() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			ReadOnlyOrderWiImpl _castedSrcObject = (ReadOnlyOrderWiImpl) _srcObject;
+			return HashUtil.hash(_castedSrcObject.getOrderId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private byte isNullBits0 = 0;
+	private String description;
+	private Timestamp orderDate;
+	private int orderId;
+	private String state;
+	private String trackingId;
+	private int userId;
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isOrderDateNull()
+	{
+		return this.getOrderDate() == null;
+	}
+
+	public boolean isOrderIdNull()
+	{
+		return false;
+	}
+
+	public boolean isStateNull()
+	{
+		return this.getState() == null;
+	}
+
+	public boolean isTrackingIdNull()
+	{
+		return this.getTrackingId() == null;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.description);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.orderDate);
+		out.writeInt(this.orderId);
+		out.writeObject(this.state);
+		out.writeObject(this.trackingId);
+		out.writeInt(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	private int _classUpdateCount;
+	private Object __items;
+	public MithraDataObject zGetCurrentData()
+	{
+		ReadOnlyOrderWiData data = new ReadOnlyOrderWiData();
+		data.setDescription(description);
+		data.setOrderDate(orderDate);
+		data.setOrderId(orderId);
+		data.setState(state);
+		data.setTrackingId(trackingId);
+		data.setUserId(userId);
+		data.zSetIsNullBits0(this.isNullBits0);
+		return data;
+	}
+
+	public ReadOnlyOrderWiImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ReadOnlyOrderWiImplAbstract copy = (ReadOnlyOrderWiImplAbstract) ReadOnlyOrderWiFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyOrderWiImpl)copy;
+	}
+
+	protected void zSetFromReadOnlyOrderWiData(ReadOnlyOrderWiData data)
+	{
+		this.setFromReadOnlyOrderWiData(data);
+	}
+
+	public void setFromReadOnlyOrderWiData(ReadOnlyOrderWiData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		description = data.getDescription();
+		orderDate = data.getOrderDate();
+		orderId = data.getOrderId();
+		state = data.getState();
+		trackingId = data.getTrackingId();
+		userId = data.getUserId();
+		this.isNullBits0 = data.zGetIsNullBits0();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyOrderWiFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromReadOnlyOrderWiData((ReadOnlyOrderWiData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public void setDescription(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.description = StringPool.getInstance().getOrAddToCache(value, ReadOnlyOrderWiFinder.isFullCache());
+	}
+
+	public Timestamp getOrderDate()
+	{
+		return this.orderDate;
+	}
+
+	public void setOrderDate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.orderDate = TimestampPool.getInstance().getOrAddToCache(value, ReadOnlyOrderWiFinder.isFullCache());
+	}
+
+	public int getOrderId()
+	{
+		return this.orderId;
+	}
+
+	public void setOrderId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.orderId = value;
+	}
+
+	public String getState()
+	{
+		return this.state;
+	}
+
+	public void setState(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.state = StringPool.getInstance().getOrAddToCache(value, ReadOnlyOrderWiFinder.isFullCache());
+	}
+
+	public String getTrackingId()
+	{
+		return this.trackingId;
+	}
+
+	public void setTrackingId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.trackingId = StringPool.getInstance().getOrAddToCache(value, ReadOnlyOrderWiFinder.isFullCache());
+	}
+
+	public int getUserId()
+	{
+		if (isUserIdNull()) throwNullPrimitiveException("userId");
+		return this.userId;
+	}
+
+	public void setUserId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.userId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setUserIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	protected void zClearAllDirectRefs()
+	{
+		__items = null;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyOrderItemWi.orderId = this.orderId</pre>
+	* @see ReadOnlyOrderItemWi#getOrder() reverse relationship ReadOnlyOrderItemWi.getOrder()
+	* @return items
+	*/
+	public ReadOnlyOrderItemWiList getItems()
+	{
+		ReadOnlyOrderItemWiListImpl _result = null;
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = ReadOnlyOrderItemWiFinder.getMithraObjectPortal();
+				if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+				{
+					int _currentCount = ReadOnlyOrderWiFinder.getMithraObjectPortal().getPerClassUpdateCountHolder().getNonTxUpdateCount();
+					if (this._classUpdateCount == _currentCount)
+					{
+						Object o = this.__items;
+						_result = (ReadOnlyOrderItemWiListImpl) _portal.unwrapToManyRelatedObject(o);
+						if (_result != null)
+						{
+							return _result;
+						}
+					}
+					else
+					{
+						this.zClearAllDirectRefs();
+						this._classUpdateCount = _currentCount;
+					}
+				}
+
+				{
+					_result = new ReadOnlyOrderItemWiListImpl(zGetItemsOperation());
+					_result.zSetForRelationship();
+				}
+			}
+
+			if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+			{
+				this.__items = _portal.wrapRelatedObject(_result);
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyOrderStatusWi.orderId = this.orderId</pre>
+	* @see ReadOnlyOrderStatusWi#getOrder() reverse relationship ReadOnlyOrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public ReadOnlyOrderStatusWi getOrderStatus()
+	{
+		ReadOnlyOrderStatusWiImpl _result = null;
+		if (_relationships != null)
+		{
+			_result = (ReadOnlyOrderStatusWiImpl)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = ReadOnlyOrderStatusWiFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fororderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ReadOnlyOrderStatusWiImpl) _related;
+				if (_related == null)
+				{
+					_result = ReadOnlyOrderStatusWiFinder.zFindOneForRelationship(zGetOrderStatusOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId</pre>
+	* @see OrderItem#getReadOnlyOrderWithInterface() reverse relationship OrderItem.getReadOnlyOrderWithInterface()
+	* @return items without interfaces
+	*/
+	public OrderItemList getItemsWithoutInterfaces()
+	{
+		OrderItemList _result = null;
+		if (_relationships != null)
+		{
+			_result = (OrderItemList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			{
+				{
+					_result = new OrderItemList(zGetItemsWithoutInterfacesOperation());
+					_result.zSetForRelationship();
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatus.orderId = this.orderId</pre>
+	* @see OrderStatus#getReadOnlyOrderWithInterface() reverse relationship OrderStatus.getReadOnlyOrderWithInterface()
+	* @return The order status without interfaces
+	*/
+	public OrderStatus getOrderStatusWithoutInterfaces()
+	{
+		OrderStatus _result = null;
+		if (_relationships != null)
+		{
+			_result = (OrderStatus)(_relationships[2]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, fororderStatusWithoutInterfaces, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_result = OrderStatusFinder.zFindOneForRelationship(zGetOrderStatusWithoutInterfacesOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setOrderStatus(ReadOnlyOrderStatusWi orderStatus)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = orderStatus;
+	}
+
+	public void setItemsWithoutInterfaces(OrderItemList itemsWithoutInterfaces)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = itemsWithoutInterfaces;
+	}
+
+	public void setOrderStatusWithoutInterfaces(OrderStatus orderStatusWithoutInterfaces)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = orderStatusWithoutInterfaces;
+	}
+
+	public Operation zGetItemsOperation()
+	{
+		ReadOnlyOrderWiImplAbstract _data = this;
+		return ReadOnlyOrderItemWiFinder.orderId().eq(_data.getOrderId());
+	}
+
+	public Operation zGetOrderStatusOperation()
+	{
+		ReadOnlyOrderWiImplAbstract _data = this;
+		return ReadOnlyOrderStatusWiFinder.orderId().eq(_data.getOrderId());
+	}
+
+	public Operation zGetItemsWithoutInterfacesOperation()
+	{
+		ReadOnlyOrderWiImplAbstract _data = this;
+		return OrderItemFinder.orderId().eq(_data.getOrderId());
+	}
+
+	public Operation zGetOrderStatusWithoutInterfacesOperation()
+	{
+		ReadOnlyOrderWiImplAbstract _data = this;
+		return OrderStatusFinder.orderId().eq(_data.getOrderId());
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final ReadOnlyOrderWiData readOnlyOrderWiData = (ReadOnlyOrderWiData) newData;
+		if (isNullBits0 != readOnlyOrderWiData.zGetIsNullBits0())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(readOnlyOrderWiData.getDescription()) : !readOnlyOrderWiData.isDescriptionNull())
+		{
+			return true;
+		}
+
+		if (!isOrderDateNull() ? !getOrderDate().equals(readOnlyOrderWiData.getOrderDate()) : !readOnlyOrderWiData.isOrderDateNull())
+		{
+			return true;
+		}
+
+		if (!isStateNull() ? !getState().equals(readOnlyOrderWiData.getState()) : !readOnlyOrderWiData.isStateNull())
+		{
+			return true;
+		}
+
+		if (!isTrackingIdNull() ? !getTrackingId().equals(readOnlyOrderWiData.getTrackingId()) : !readOnlyOrderWiData.isTrackingIdNull())
+		{
+			return true;
+		}
+
+		if (userId != readOnlyOrderWiData.getUserId())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "orderId: "+(""+getOrderId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.orderId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.isNullBits0 = in.readByte();
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReadOnlyOrderWiFinder.isFullCache());
+			this.orderDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ReadOnlyOrderWiFinder.isFullCache(), ReadOnlyOrderWiFinder.isOffHeap());
+			this.orderId = in.readInt();
+			this.state = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReadOnlyOrderWiFinder.isFullCache());
+			this.trackingId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), ReadOnlyOrderWiFinder.isFullCache());
+			this.userId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.orderId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyOrderWiFinder.orderId().eq(this.getOrderId());
+			return ReadOnlyOrderWiFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,152 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class ReadOnlyOrderWiListImplAbstract extends DelegatingList<ReadOnlyOrderWi> implements MithraList<ReadOnlyOrderWi>
+{
+	public ReadOnlyOrderWiListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public ReadOnlyOrderWiListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public ReadOnlyOrderWiListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public ReadOnlyOrderWiListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public ReadOnlyOrderWi[] elements()
+	{
+		ReadOnlyOrderWi[] result = new ReadOnlyOrderWi[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public ReadOnlyOrderWiListImpl intersection(ReadOnlyOrderWiListImpl another)
+	{
+		return (ReadOnlyOrderWiListImpl)super.intersection(another);
+	}
+
+	public ReadOnlyOrderWiImpl getReadOnlyOrderWiAt(int index)
+	{
+		return (ReadOnlyOrderWiImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyOrderItemWi.orderId = this.orderId</pre>
+	* @see ReadOnlyOrderItemWi#getOrder() reverse relationship ReadOnlyOrderItemWi.getOrder()
+	* @return items
+	*/
+	public ReadOnlyOrderItemWiList getItems()
+	{
+		return (ReadOnlyOrderItemWiList) this.getDelegated().resolveRelationship(this, ReadOnlyOrderWiFinder.items());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ReadOnlyOrderStatusWi.orderId = this.orderId</pre>
+	* @see ReadOnlyOrderStatusWi#getOrder() reverse relationship ReadOnlyOrderStatusWi.getOrder()
+	* @return The order status
+	*/
+	public ReadOnlyOrderStatusWiList getOrderStatus()
+	{
+		return (ReadOnlyOrderStatusWiList) this.getDelegated().resolveRelationship(this, ReadOnlyOrderWiFinder.orderStatus());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderItem.orderId = this.orderId</pre>
+	* @see OrderItem#getReadOnlyOrderWithInterface() reverse relationship OrderItem.getReadOnlyOrderWithInterface()
+	* @return items without interfaces
+	*/
+	public OrderItemList getItemsWithoutInterfaces()
+	{
+		return (OrderItemList) this.getDelegated().resolveRelationship(this, ReadOnlyOrderWiFinder.itemsWithoutInterfaces());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	OrderStatus.orderId = this.orderId</pre>
+	* @see OrderStatus#getReadOnlyOrderWithInterface() reverse relationship OrderStatus.getReadOnlyOrderWithInterface()
+	* @return The order status without interfaces
+	*/
+	public OrderStatusList getOrderStatusWithoutInterfaces()
+	{
+		return (OrderStatusList) this.getDelegated().resolveRelationship(this, ReadOnlyOrderWiFinder.orderStatusWithoutInterfaces());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return ReadOnlyOrderWiFinder.getMithraObjectPortal();
+	}
+
+	public ReadOnlyOrderWiListImpl getNonPersistentCopy()
+	{
+		ReadOnlyOrderWiListImpl result = new ReadOnlyOrderWiListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public ReadOnlyOrderWiListImpl asAdhoc()
+	{
+		return (ReadOnlyOrderWiListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<ReadOnlyOrderWi> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
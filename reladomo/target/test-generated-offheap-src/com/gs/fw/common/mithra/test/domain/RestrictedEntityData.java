@@ -0,0 +1,1464 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface RestrictedEntityData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 80;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isControlledEntryIdNull();
+	long getControlledEntryId();
+	void setControlledEntryId(long value);
+	void setControlledEntryIdNull();
+	boolean isEntityIdNull();
+	int getEntityId();
+	void setEntityId(int value);
+	void setEntityIdNull();
+	boolean isEntityNameNull();
+	String getEntityName();
+	void setEntityName(String value);
+	void setEntityNameNull();
+	int zGetEntityNameAsInt();
+	boolean isGsClientFlgNull();
+	String getGsClientFlg();
+	void setGsClientFlg(String value);
+	void setGsClientFlgNull();
+	int zGetGsClientFlgAsInt();
+	boolean isGsRoleNull();
+	String getGsRole();
+	void setGsRole(String value);
+	void setGsRoleNull();
+	int zGetGsRoleAsInt();
+	boolean isProcessingDateFromNull();
+	Timestamp getProcessingDateFrom();
+	void setProcessingDateFrom(Timestamp value);
+	void setProcessingDateFromNull();
+	long zGetProcessingDateFromAsLong();
+	boolean isProcessingDateToNull();
+	Timestamp getProcessingDateTo();
+	void setProcessingDateTo(Timestamp value);
+	void setProcessingDateToNull();
+	long zGetProcessingDateToAsLong();
+	boolean isRestrictedItemIdNull();
+	long getRestrictedItemId();
+	void setRestrictedItemId(long value);
+	void setRestrictedItemIdNull();
+	boolean isSideTypeNull();
+	String getSideType();
+	void setSideType(String value);
+	void setSideTypeNull();
+	int zGetSideTypeAsInt();
+	boolean isStatusNull();
+	String getStatus();
+	void setStatus(String value);
+	void setStatusNull();
+	int zGetStatusAsInt();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	Object getRestrictedItem();
+	void setRestrictedItem(Object related);
+	public class RestrictedEntityDataOnHeap implements RestrictedEntityData
+	{
+		private byte _dataVersion;
+		private Object[] _relationships;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private long controlledEntryId;
+		private int entityId;
+		private String entityName;
+		private String gsClientFlg;
+		private String gsRole;
+		private Timestamp processingDateFrom;
+		private Timestamp processingDateTo;
+		private long restrictedItemId;
+		private String sideType;
+		private String status;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isEntityNameNull()
+		{
+			return this.getEntityName() == null;
+		}
+
+		public boolean isGsClientFlgNull()
+		{
+			return this.getGsClientFlg() == null;
+		}
+
+		public boolean isGsRoleNull()
+		{
+			return this.getGsRole() == null;
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return this.getProcessingDateFrom() == null;
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return this.getProcessingDateTo() == null;
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isSideTypeNull()
+		{
+			return this.getSideType() == null;
+		}
+
+		public boolean isStatusNull()
+		{
+			return this.getStatus() == null;
+		}
+
+		public boolean isControlledEntryIdNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isEntityIdNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, RestrictedEntityFinder.businessDate().getInfinityDate());
+			out.writeLong(this.controlledEntryId);
+			out.writeInt(this.entityId);
+			out.writeObject(this.entityName);
+			out.writeObject(this.gsClientFlg);
+			out.writeObject(this.gsRole);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, RestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedItemId);
+			out.writeObject(this.sideType);
+			out.writeObject(this.status);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (!value.equals(this.businessDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getControlledEntryId()
+		{
+			return this.controlledEntryId;
+		}
+
+		public void setControlledEntryId(long value)
+		{
+			this.controlledEntryId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public int getEntityId()
+		{
+			return this.entityId;
+		}
+
+		public void setEntityId(int value)
+		{
+			this.entityId = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public String getEntityName()
+		{
+			return this.entityName;
+		}
+
+		public int zGetEntityNameAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(entityName);
+		}
+
+		public void setEntityName(String value)
+		{
+			this.entityName = StringPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache());
+		}
+
+		public void setEntityNameNull()
+		{
+			this.setEntityName(null);
+		}
+
+		public String getGsClientFlg()
+		{
+			return this.gsClientFlg;
+		}
+
+		public int zGetGsClientFlgAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(gsClientFlg);
+		}
+
+		public void setGsClientFlg(String value)
+		{
+			this.gsClientFlg = StringPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache());
+		}
+
+		public void setGsClientFlgNull()
+		{
+			this.setGsClientFlg(null);
+		}
+
+		public String getGsRole()
+		{
+			return this.gsRole;
+		}
+
+		public int zGetGsRoleAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(gsRole);
+		}
+
+		public void setGsRole(String value)
+		{
+			this.gsRole = StringPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache());
+		}
+
+		public void setGsRoleNull()
+		{
+			this.setGsRole(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return this.processingDateFrom;
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			if (processingDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateFrom.getTime();
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return this.processingDateTo;
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			if (processingDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return processingDateTo.getTime();
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (!value.equals(this.processingDateTo))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return this.restrictedItemId;
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			this.restrictedItemId = value;
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getSideType()
+		{
+			return this.sideType;
+		}
+
+		public int zGetSideTypeAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(sideType);
+		}
+
+		public void setSideType(String value)
+		{
+			this.sideType = StringPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache());
+		}
+
+		public void setSideTypeNull()
+		{
+			this.setSideType(null);
+		}
+
+		public String getStatus()
+		{
+			return this.status;
+		}
+
+		public int zGetStatusAsInt()
+		{
+			return StringPool.getInstance().getOffHeapAddressWithoutAdding(status);
+		}
+
+		public void setStatus(String value)
+		{
+			this.status = StringPool.getInstance().getOrAddToCache(value, RestrictedEntityFinder.isFullCache());
+		}
+
+		public void setStatusNull()
+		{
+			this.setStatus(null);
+		}
+
+		public void setControlledEntryIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setEntityIdNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(RestrictedEntityDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.controlledEntryId = this.controlledEntryId;
+			copy.entityId = this.entityId;
+			copy.entityName = this.entityName;
+			copy.gsClientFlg = this.gsClientFlg;
+			copy.gsRole = this.gsRole;
+			copy.processingDateFrom = this.processingDateFrom;
+			copy.processingDateTo = this.processingDateTo;
+			copy.restrictedItemId = this.restrictedItemId;
+			copy.sideType = this.sideType;
+			copy.status = this.status;
+			if (withRelationships)
+			{
+				if (_relationships != null)
+				{
+					copy._relationships = new Object[1];
+					System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+				}
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, RestrictedEntityFinder.businessDate().getInfinityDate()), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.controlledEntryId = in.readLong();
+			this.entityId = in.readInt();
+			this.entityName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedEntityFinder.isFullCache());
+			this.gsClientFlg = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedEntityFinder.isFullCache());
+			this.gsRole = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedEntityFinder.isFullCache());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, RestrictedEntityFinder.processingDate().getInfinityDate()), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.restrictedItemId = in.readLong();
+			this.sideType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedEntityFinder.isFullCache());
+			this.status = StringPool.getInstance().getOrAddToCache((String)in.readObject(), RestrictedEntityFinder.isFullCache());
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final RestrictedEntityData otherData = (RestrictedEntityData) other;
+			if (getRestrictedItemId() != otherData.getRestrictedItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, RestrictedEntityFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.processingDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.processingDateTo, RestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.restrictedItemId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, RestrictedEntityFinder.businessDate().getInfinityDate()), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.processingDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.processingDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, RestrictedEntityFinder.processingDate().getInfinityDate()), RestrictedEntityFinder.isFullCache(), RestrictedEntityFinder.isOffHeap());
+			this.restrictedItemId = in.readLong();
+		}
+
+		public void clearRelationships()
+		{
+			_relationships = null;
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedItem()
+		{
+			if (_relationships != null)
+			{
+				return _relationships[0];
+			}
+
+			return null;
+		}
+
+		public void setRestrictedItem(Object related)
+		{
+			if (_relationships == null)
+			{
+				_relationships = new Object[1];
+			}
+
+			_relationships[0] = related;
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+				return;
+			}
+
+			out.writeInt(_relationships.length);
+			for(int i=0;i<_relationships.length;i++)
+			{
+				out.writeObject(_relationships[i]);
+			}
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i<total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			RestrictedEntityDataOffHeap data = new RestrictedEntityDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setControlledEntryId(this.getControlledEntryId());
+			if (this.isControlledEntryIdNull()) data.setControlledEntryIdNull();
+			data.setEntityId(this.getEntityId());
+			if (this.isEntityIdNull()) data.setEntityIdNull();
+			data.setEntityName(this.getEntityName());
+			data.setGsClientFlg(this.getGsClientFlg());
+			data.setGsRole(this.getGsRole());
+			data.setProcessingDateFrom(this.getProcessingDateFrom());
+			data.setProcessingDateTo(this.getProcessingDateTo());
+			data.setRestrictedItemId(this.getRestrictedItemId());
+			data.setSideType(this.getSideType());
+			data.setStatus(this.getStatus());
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final RestrictedEntityData restrictedEntityData = (RestrictedEntityData) newData;
+			this.setBusinessDateFrom(restrictedEntityData.getBusinessDateFrom());
+			this.setBusinessDateTo(restrictedEntityData.getBusinessDateTo());
+			this.setControlledEntryId(restrictedEntityData.getControlledEntryId());
+			if (restrictedEntityData.isControlledEntryIdNull()) this.setControlledEntryIdNull();
+			this.setEntityId(restrictedEntityData.getEntityId());
+			if (restrictedEntityData.isEntityIdNull()) this.setEntityIdNull();
+			this.setEntityName(restrictedEntityData.getEntityName());
+			this.setGsClientFlg(restrictedEntityData.getGsClientFlg());
+			this.setGsRole(restrictedEntityData.getGsRole());
+			this.setProcessingDateFrom(restrictedEntityData.getProcessingDateFrom());
+			this.setProcessingDateTo(restrictedEntityData.getProcessingDateTo());
+			this.setSideType(restrictedEntityData.getSideType());
+			this.setStatus(restrictedEntityData.getStatus());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final RestrictedEntityData other = (RestrictedEntityData) newData;
+			if ( isControlledEntryIdNull() != other.isControlledEntryIdNull() || getControlledEntryId() != other.getControlledEntryId())
+			{
+				return true;
+			}
+
+			if ( isEntityIdNull() != other.isEntityIdNull() || getEntityId() != other.getEntityId())
+			{
+				return true;
+			}
+
+			if (!isEntityNameNull() ? !getEntityName().equals(other.getEntityName()) : !other.isEntityNameNull())
+			{
+				return true;
+			}
+
+			if (!isGsClientFlgNull() ? !getGsClientFlg().equals(other.getGsClientFlg()) : !other.isGsClientFlgNull())
+			{
+				return true;
+			}
+
+			if (!isGsRoleNull() ? !getGsRole().equals(other.getGsRole()) : !other.isGsRoleNull())
+			{
+				return true;
+			}
+
+			if (!isSideTypeNull() ? !getSideType().equals(other.getSideType()) : !other.isSideTypeNull())
+			{
+				return true;
+			}
+
+			if (!isStatusNull() ? !getStatus().equals(other.getStatus()) : !other.isStatusNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			RestrictedEntityDataOnHeap copy = new RestrictedEntityDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			RestrictedEntityDataOnHeap copy = new RestrictedEntityDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedItemId: "+(""+getRestrictedItemId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			RestrictedEntityData otherData = (RestrictedEntityData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			RestrictedEntityData otherData = (RestrictedEntityData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.RestrictedEntityData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return RestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return RestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.RestrictedEntityData";
+		}
+	}
+
+	public class RestrictedEntityDataOffHeap extends MithraOffHeapDataObject implements RestrictedEntityData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public RestrictedEntityDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+			this.zSetTimestamp(_storage, value, 56);
+			this.zSetTimestamp(_storage, value, 64);
+		}
+
+		public RestrictedEntityDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isControlledEntryIdNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isEntityIdNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public boolean isEntityNameNull()
+		{
+			return zIsStringNull(_storage, 44);
+		}
+
+		public boolean isGsClientFlgNull()
+		{
+			return zIsStringNull(_storage, 48);
+		}
+
+		public boolean isGsRoleNull()
+		{
+			return zIsStringNull(_storage, 52);
+		}
+
+		public boolean isProcessingDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 56);
+		}
+
+		public boolean isProcessingDateToNull()
+		{
+			return zIsTimestampNull(_storage, 64);
+		}
+
+		public boolean isRestrictedItemIdNull()
+		{
+			return false;
+		}
+
+		public boolean isSideTypeNull()
+		{
+			return zIsStringNull(_storage, 72);
+		}
+
+		public boolean isStatusNull()
+		{
+			return zIsStringNull(_storage, 76);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), RestrictedEntityFinder.businessDate().getInfinityDate());
+			out.writeLong(this.getControlledEntryId());
+			out.writeInt(this.getEntityId());
+			out.writeObject(this.getEntityName());
+			out.writeObject(this.getGsClientFlg());
+			out.writeObject(this.getGsRole());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), RestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedItemId());
+			out.writeObject(this.getSideType());
+			out.writeObject(this.getStatus());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isControlledEntryIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isEntityIdNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetBusinessDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getControlledEntryId()
+		{
+			return zGetLong(_storage, 32);
+		}
+
+		public void setControlledEntryId(long value)
+		{
+			zSetLong(_storage, value, 32, 4, 0);
+		}
+
+		public int getEntityId()
+		{
+			return zGetInteger(_storage, 40);
+		}
+
+		public void setEntityId(int value)
+		{
+			zSetInteger(_storage, value, 40, 4, 1);
+		}
+
+		public String getEntityName()
+		{
+			return zGetString(_storage, 44);
+		}
+
+		public int zGetEntityNameAsInt()
+		{
+			return zGetInteger(_storage, 44);
+		}
+
+		public void setEntityName(String value)
+		{
+			zSetString(_storage, value, 44);
+		}
+
+		public void setEntityNameNull()
+		{
+			this.setEntityName(null);
+		}
+
+		public String getGsClientFlg()
+		{
+			return zGetString(_storage, 48);
+		}
+
+		public int zGetGsClientFlgAsInt()
+		{
+			return zGetInteger(_storage, 48);
+		}
+
+		public void setGsClientFlg(String value)
+		{
+			zSetString(_storage, value, 48);
+		}
+
+		public void setGsClientFlgNull()
+		{
+			this.setGsClientFlg(null);
+		}
+
+		public String getGsRole()
+		{
+			return zGetString(_storage, 52);
+		}
+
+		public int zGetGsRoleAsInt()
+		{
+			return zGetInteger(_storage, 52);
+		}
+
+		public void setGsRole(String value)
+		{
+			zSetString(_storage, value, 52);
+		}
+
+		public void setGsRoleNull()
+		{
+			this.setGsRole(null);
+		}
+
+		public Timestamp getProcessingDateFrom()
+		{
+			return zGetTimestamp(_storage, 56);
+		}
+
+		public long zGetProcessingDateFromAsLong()
+		{
+			return zGetLong(_storage, 56);
+		}
+
+		public void setProcessingDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 56);
+		}
+
+		public void setProcessingDateFromNull()
+		{
+			this.setProcessingDateFrom(null);
+		}
+
+		public Timestamp getProcessingDateTo()
+		{
+			return zGetTimestamp(_storage, 64);
+		}
+
+		public long zGetProcessingDateToAsLong()
+		{
+			return zGetLong(_storage, 64);
+		}
+
+		public void setProcessingDateTo(Timestamp value)
+		{
+			if (value.getTime() != this.zGetProcessingDateToAsLong())
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 64);
+		}
+
+		public void setProcessingDateToNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public long getRestrictedItemId()
+		{
+			return zGetLong(_storage, 8);
+		}
+
+		public void setRestrictedItemId(long value)
+		{
+			zSetLong(_storage, value, 8, -1, -1);
+		}
+
+		public void setRestrictedItemIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public String getSideType()
+		{
+			return zGetString(_storage, 72);
+		}
+
+		public int zGetSideTypeAsInt()
+		{
+			return zGetInteger(_storage, 72);
+		}
+
+		public void setSideType(String value)
+		{
+			zSetString(_storage, value, 72);
+		}
+
+		public void setSideTypeNull()
+		{
+			this.setSideType(null);
+		}
+
+		public String getStatus()
+		{
+			return zGetString(_storage, 76);
+		}
+
+		public int zGetStatusAsInt()
+		{
+			return zGetInteger(_storage, 76);
+		}
+
+		public void setStatus(String value)
+		{
+			zSetString(_storage, value, 76);
+		}
+
+		public void setStatusNull()
+		{
+			this.setStatus(null);
+		}
+
+		public void setControlledEntryIdNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public void setEntityIdNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(RestrictedEntityDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.controlledEntryId = this.getControlledEntryId();
+			copy.entityId = this.getEntityId();
+			copy.entityName = this.getEntityName();
+			copy.gsClientFlg = this.getGsClientFlg();
+			copy.gsRole = this.getGsRole();
+			copy.processingDateFrom = this.getProcessingDateFrom();
+			copy.processingDateTo = this.getProcessingDateTo();
+			copy.restrictedItemId = this.getRestrictedItemId();
+			copy.sideType = this.getSideType();
+			copy.status = this.getStatus();
+			if (isControlledEntryIdNull())
+			{
+				copy.setControlledEntryIdNull();
+			}
+
+			if (isEntityIdNull())
+			{
+				copy.setEntityIdNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetLong(_storage, in.readLong(), 32, 4, 0, (isNullBits0 & 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 40, 4, 1, (isNullBits0 & 1 << 1) != 0 );
+			zSetString(_storage, (String)in.readObject(), 44);
+			zSetString(_storage, (String)in.readObject(), 48);
+			zSetString(_storage, (String)in.readObject(), 52);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 56);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 64);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+			zSetString(_storage, (String)in.readObject(), 72);
+			zSetString(_storage, (String)in.readObject(), 76);
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof RestrictedEntityDataOffHeap)
+			{
+				final RestrictedEntityDataOffHeap otherData = (RestrictedEntityDataOffHeap) other;
+				if (this.zGetLong(_storage, 8) != otherData.zGetLong(_storage, 8))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final RestrictedEntityData otherData = (RestrictedEntityData) other;
+			if (getRestrictedItemId() != otherData.getRestrictedItemId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), RestrictedEntityFinder.businessDate().getInfinityDate());
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetProcessingDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetProcessingDateToAsLong(), RestrictedEntityFinder.processingDate().getInfinityDate());
+			out.writeLong(this.getRestrictedItemId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 56);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 64);
+			zSetLong(_storage, in.readLong(), 8, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public Object getRestrictedItem()
+		{
+			return null;
+		}
+
+		public void setRestrictedItem(Object related)
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+			out.writeInt(0);
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+			in.readInt();
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final RestrictedEntityData restrictedEntityData = (RestrictedEntityData) newData;
+			this.setBusinessDateFrom(restrictedEntityData.getBusinessDateFrom());
+			this.setBusinessDateTo(restrictedEntityData.getBusinessDateTo());
+			this.setControlledEntryId(restrictedEntityData.getControlledEntryId());
+			if (restrictedEntityData.isControlledEntryIdNull()) this.setControlledEntryIdNull();
+			this.setEntityId(restrictedEntityData.getEntityId());
+			if (restrictedEntityData.isEntityIdNull()) this.setEntityIdNull();
+			this.setEntityName(restrictedEntityData.getEntityName());
+			this.setGsClientFlg(restrictedEntityData.getGsClientFlg());
+			this.setGsRole(restrictedEntityData.getGsRole());
+			this.setProcessingDateFrom(restrictedEntityData.getProcessingDateFrom());
+			this.setProcessingDateTo(restrictedEntityData.getProcessingDateTo());
+			this.setSideType(restrictedEntityData.getSideType());
+			this.setStatus(restrictedEntityData.getStatus());
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final RestrictedEntityData other = (RestrictedEntityData) newData;
+			if ( isControlledEntryIdNull() != other.isControlledEntryIdNull() || getControlledEntryId() != other.getControlledEntryId())
+			{
+				return true;
+			}
+
+			if ( isEntityIdNull() != other.isEntityIdNull() || getEntityId() != other.getEntityId())
+			{
+				return true;
+			}
+
+			if (!isEntityNameNull() ? !getEntityName().equals(other.getEntityName()) : !other.isEntityNameNull())
+			{
+				return true;
+			}
+
+			if (!isGsClientFlgNull() ? !getGsClientFlg().equals(other.getGsClientFlg()) : !other.isGsClientFlgNull())
+			{
+				return true;
+			}
+
+			if (!isGsRoleNull() ? !getGsRole().equals(other.getGsRole()) : !other.isGsRoleNull())
+			{
+				return true;
+			}
+
+			if (!isSideTypeNull() ? !getSideType().equals(other.getSideType()) : !other.isSideTypeNull())
+			{
+				return true;
+			}
+
+			if (!isStatusNull() ? !getStatus().equals(other.getStatus()) : !other.isStatusNull())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			RestrictedEntityDataOnHeap copy = new RestrictedEntityDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			RestrictedEntityDataOnHeap copy = new RestrictedEntityDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "processingDateFrom: "+(isProcessingDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateFromAsLong()))+ " / ";
+			result += "processingDateTo: "+(isProcessingDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetProcessingDateToAsLong()))+ " / ";
+			result += "restrictedItemId: "+(""+getRestrictedItemId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			RestrictedEntityData otherData = (RestrictedEntityData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			result &= zGetProcessingDateFromAsLong() == otherData.zGetProcessingDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			RestrictedEntityData otherData = (RestrictedEntityData) other;
+			if (zGetBusinessDateToAsLong() != otherData.zGetBusinessDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateToAsLong() != otherData.zGetProcessingDateToAsLong())
+			{
+				return true;
+			}
+
+			if (zGetProcessingDateFromAsLong() != otherData.zGetProcessingDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.RestrictedEntityData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return RestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return RestrictedEntityFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.RestrictedEntityData";
+		}
+	}
+}
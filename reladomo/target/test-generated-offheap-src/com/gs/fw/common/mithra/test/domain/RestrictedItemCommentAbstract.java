@@ -0,0 +1,370 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class RestrictedItemCommentAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(RestrictedItemComment.class.getName());
+	public RestrictedItemCommentAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public RestrictedItemComment getDetachedCopy() throws MithraBusinessException
+	{
+		return (RestrictedItemComment) super.getDetachedCopy();
+	}
+
+	public RestrictedItemComment getNonPersistentCopy() throws MithraBusinessException
+	{
+		RestrictedItemComment result = (RestrictedItemComment) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public RestrictedItemComment copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (RestrictedItemComment) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public RestrictedItemComment zFindOriginal()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.currentData;
+		Operation op;
+		op = RestrictedItemCommentFinder.itemCommentId().eq(data.getItemCommentId());
+		return RestrictedItemCommentFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new RestrictedItemCommentData();
+	}
+
+	protected void zSetFromRestrictedItemCommentData( RestrictedItemCommentData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromRestrictedItemCommentData( RestrictedItemCommentData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCommentNull()
+	{
+		return ((RestrictedItemCommentData) this.zSynchronizedGetData()).isCommentNull();
+	}
+
+	public String getComment()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.zSynchronizedGetData();
+		return data.getComment();
+	}
+
+	public void setComment(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4000)
+		throw new MithraBusinessException("Attribute 'comment' cannot exceed maximum length of 4000: " + newValue);
+		zSetString(RestrictedItemCommentFinder.comment(), newValue, false, false );
+	}
+
+	public boolean isFromDtNull()
+	{
+		return ((RestrictedItemCommentData) this.zSynchronizedGetData()).isFromDtNull();
+	}
+
+	public Timestamp getFromDt()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.zSynchronizedGetData();
+		return data.getFromDt();
+	}
+
+	public void setFromDt(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedItemCommentFinder.fromDt(), newValue, false, false );
+	}
+
+	public boolean isItemCommentIdNull()
+	{
+		return ((RestrictedItemCommentData) this.zSynchronizedGetData()).isItemCommentIdNull();
+	}
+
+	public long getItemCommentId()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.zSynchronizedGetData();
+		return data.getItemCommentId();
+	}
+
+	public void setItemCommentId(long newValue)
+	{
+		zSetLong(RestrictedItemCommentFinder.itemCommentId(), newValue, true, false ,false);
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return ((RestrictedItemCommentData) this.zSynchronizedGetData()).isRestrictedItemIdNull();
+	}
+
+	public long getRestrictedItemId()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.zSynchronizedGetData();
+		if (data.isRestrictedItemIdNull()) MithraNullPrimitiveException.throwNew("restrictedItemId", data);
+		return data.getRestrictedItemId();
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(RestrictedItemCommentFinder.restrictedItemId(), newValue, false, false ,true);
+	}
+
+	public boolean isThruDtNull()
+	{
+		return ((RestrictedItemCommentData) this.zSynchronizedGetData()).isThruDtNull();
+	}
+
+	public Timestamp getThruDt()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.zSynchronizedGetData();
+		return data.getThruDt();
+	}
+
+	public void setThruDt(Timestamp newValue)
+	{
+		zSetTimestamp(RestrictedItemCommentFinder.thruDt(), newValue, false, false );
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return ((RestrictedItemCommentData) this.zSynchronizedGetData()).isUpdateByNull();
+	}
+
+	public String getUpdateBy()
+	{
+		RestrictedItemCommentData data = (RestrictedItemCommentData) this.zSynchronizedGetData();
+		return data.getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		zSetString(RestrictedItemCommentFinder.updateBy(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, RestrictedItemCommentFinder.restrictedItemId(), false);
+	}
+
+	public void setRestrictedItemIdNull()
+	{
+		zNullify(RestrictedItemCommentFinder.restrictedItemId(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		RestrictedItemCommentData _newData = (RestrictedItemCommentData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		RestrictedItemCommentData _newData = (RestrictedItemCommentData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RestrictedItemCommentData _newData = (RestrictedItemCommentData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public RestrictedItemComment zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		RestrictedItemComment original = (RestrictedItemComment) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return RestrictedItemCommentFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return RestrictedItemCommentFinder.getMithraObjectPortal();
+	}
+
+	public RestrictedItemComment getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, RestrictedItemCommentFinder.comment(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, RestrictedItemCommentFinder.fromDt(), false);
+		changed |= zUpdateLong(behavior, data, newData, RestrictedItemCommentFinder.restrictedItemId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, RestrictedItemCommentFinder.thruDt(), false);
+		changed |= zUpdateString(behavior, data, newData, RestrictedItemCommentFinder.updateBy(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateLong(behavior, data, newData, RestrictedItemCommentFinder.itemCommentId(), false);
+		return changed;
+	}
+
+	public long generateAndSetItemCommentId()
+	{
+		long nextValue =(long) this.generateItemCommentId();
+		this.setItemCommentId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsItemCommentIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		RestrictedItemCommentData data = (RestrictedItemCommentData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsItemCommentIdSet();
+	}
+
+	protected long generateItemCommentId()
+	{
+		Object sourceAttribute = null;
+		RestrictedItemCommentFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("RestrictedItemComment_Sequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RestrictedItemCommentData data = (RestrictedItemCommentData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsItemCommentIdSet())
+		{
+			data.setItemCommentId(generateItemCommentId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		RestrictedItemCommentAbstract result = (RestrictedItemCommentAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,344 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class RiskValueTestAccountAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(RiskValueTestAccount.class.getName());
+	public RiskValueTestAccountAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public RiskValueTestAccount getDetachedCopy() throws MithraBusinessException
+	{
+		return (RiskValueTestAccount) super.getDetachedCopy();
+	}
+
+	public RiskValueTestAccount getNonPersistentCopy() throws MithraBusinessException
+	{
+		RiskValueTestAccount result = (RiskValueTestAccount) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public RiskValueTestAccount copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (RiskValueTestAccount) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public RiskValueTestAccount zFindOriginal()
+	{
+		RiskValueTestAccountData data = (RiskValueTestAccountData) this.currentData;
+		Operation op;
+		op = RiskValueTestAccountFinder.id().eq(data.getId());
+		return RiskValueTestAccountFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new RiskValueTestAccountData();
+	}
+
+	protected void zSetFromRiskValueTestAccountData( RiskValueTestAccountData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromRiskValueTestAccountData( RiskValueTestAccountData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isIdNull()
+	{
+		return ((RiskValueTestAccountData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		RiskValueTestAccountData data = (RiskValueTestAccountData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(RiskValueTestAccountFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isRiskDateAccountIdNull()
+	{
+		return ((RiskValueTestAccountData) this.zSynchronizedGetData()).isRiskDateAccountIdNull();
+	}
+
+	public int getRiskDateAccountId()
+	{
+		RiskValueTestAccountData data = (RiskValueTestAccountData) this.zSynchronizedGetData();
+		if (data.isRiskDateAccountIdNull()) MithraNullPrimitiveException.throwNew("riskDateAccountId", data);
+		return data.getRiskDateAccountId();
+	}
+
+	public void setRiskDateAccountId(int newValue)
+	{
+		zSetInteger(RiskValueTestAccountFinder.riskDateAccountId(), newValue, false, false ,true);
+	}
+
+	public boolean isRiskPointIdNull()
+	{
+		return ((RiskValueTestAccountData) this.zSynchronizedGetData()).isRiskPointIdNull();
+	}
+
+	public int getRiskPointId()
+	{
+		RiskValueTestAccountData data = (RiskValueTestAccountData) this.zSynchronizedGetData();
+		if (data.isRiskPointIdNull()) MithraNullPrimitiveException.throwNew("riskPointId", data);
+		return data.getRiskPointId();
+	}
+
+	public void setRiskPointId(int newValue)
+	{
+		zSetInteger(RiskValueTestAccountFinder.riskPointId(), newValue, false, false ,true);
+	}
+
+	public boolean isRiskValueNull()
+	{
+		return ((RiskValueTestAccountData) this.zSynchronizedGetData()).isRiskValueNull();
+	}
+
+	public double getRiskValue()
+	{
+		RiskValueTestAccountData data = (RiskValueTestAccountData) this.zSynchronizedGetData();
+		if (data.isRiskValueNull()) MithraNullPrimitiveException.throwNew("riskValue", data);
+		return data.getRiskValue();
+	}
+
+	public void setRiskValue(double newValue)
+	{
+		zSetDouble(RiskValueTestAccountFinder.riskValue(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, RiskValueTestAccountFinder.riskDateAccountId(), false);
+		zNullify(behavior, data, RiskValueTestAccountFinder.riskPointId(), false);
+		zNullify(behavior, data, RiskValueTestAccountFinder.riskValue(), false);
+	}
+
+	public void setRiskDateAccountIdNull()
+	{
+		zNullify(RiskValueTestAccountFinder.riskDateAccountId(), false);
+	}
+
+	public void setRiskPointIdNull()
+	{
+		zNullify(RiskValueTestAccountFinder.riskPointId(), false);
+	}
+
+	public void setRiskValueNull()
+	{
+		zNullify(RiskValueTestAccountFinder.riskValue(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		RiskValueTestAccountData _newData = (RiskValueTestAccountData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		RiskValueTestAccountData _newData = (RiskValueTestAccountData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RiskValueTestAccountData _newData = (RiskValueTestAccountData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public RiskValueTestAccount zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		RiskValueTestAccount original = (RiskValueTestAccount) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return RiskValueTestAccountFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return RiskValueTestAccountFinder.getMithraObjectPortal();
+	}
+
+	public RiskValueTestAccount getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, RiskValueTestAccountFinder.riskDateAccountId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, RiskValueTestAccountFinder.riskPointId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, RiskValueTestAccountFinder.riskValue(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, RiskValueTestAccountFinder.id(), false);
+		return changed;
+	}
+
+	public int generateAndSetId()
+	{
+		int nextValue =(int) this.generateId();
+		this.setId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		RiskValueTestAccountData data = (RiskValueTestAccountData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsIdSet();
+	}
+
+	protected int generateId()
+	{
+		Object sourceAttribute = null;
+		RiskValueTestAccountFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("RiskTestSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (int)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		RiskValueTestAccountData data = (RiskValueTestAccountData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsIdSet())
+		{
+			data.setId(generateId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		RiskValueTestAccountAbstract result = (RiskValueTestAccountAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
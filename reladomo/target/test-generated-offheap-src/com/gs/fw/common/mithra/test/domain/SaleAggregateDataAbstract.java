@@ -0,0 +1,415 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SaleAggregateDataAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(SaleAggregateData.class.getName());
+	public SaleAggregateDataAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public SaleAggregateData getDetachedCopy() throws MithraBusinessException
+	{
+		return (SaleAggregateData) super.getDetachedCopy();
+	}
+
+	public SaleAggregateData getNonPersistentCopy() throws MithraBusinessException
+	{
+		SaleAggregateData result = (SaleAggregateData) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public SaleAggregateData copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (SaleAggregateData) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public SaleAggregateData zFindOriginal()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.currentData;
+		Operation op;
+		op = SaleAggregateDataFinder.saleId().eq(data.getSaleId());
+		return SaleAggregateDataFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SaleAggregateDataData();
+	}
+
+	protected void zSetFromSaleAggregateDataData( SaleAggregateDataData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSaleAggregateDataData( SaleAggregateDataData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isPriceBigDecimalNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceBigDecimalNull();
+	}
+
+	public BigDecimal getPriceBigDecimal()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		return data.getPriceBigDecimal();
+	}
+
+	public void setPriceBigDecimal(BigDecimal newValue)
+	{
+		zSetBigDecimal(SaleAggregateDataFinder.priceBigDecimal(), newValue, false, false );
+	}
+
+	public boolean isPriceByteNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceByteNull();
+	}
+
+	public byte getPriceByte()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isPriceByteNull()) MithraNullPrimitiveException.throwNew("priceByte", data);
+		return data.getPriceByte();
+	}
+
+	public void setPriceByte(byte newValue)
+	{
+		zSetByte(SaleAggregateDataFinder.priceByte(), newValue, false, false ,true);
+	}
+
+	public boolean isPriceDoubleNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceDoubleNull();
+	}
+
+	public double getPriceDouble()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isPriceDoubleNull()) MithraNullPrimitiveException.throwNew("priceDouble", data);
+		return data.getPriceDouble();
+	}
+
+	public void setPriceDouble(double newValue)
+	{
+		zSetDouble(SaleAggregateDataFinder.priceDouble(), newValue, false, false ,true);
+	}
+
+	public boolean isPriceFloatNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceFloatNull();
+	}
+
+	public float getPriceFloat()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isPriceFloatNull()) MithraNullPrimitiveException.throwNew("priceFloat", data);
+		return data.getPriceFloat();
+	}
+
+	public void setPriceFloat(float newValue)
+	{
+		zSetFloat(SaleAggregateDataFinder.priceFloat(), newValue, false, false ,true);
+	}
+
+	public boolean isPriceIntNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceIntNull();
+	}
+
+	public int getPriceInt()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isPriceIntNull()) MithraNullPrimitiveException.throwNew("priceInt", data);
+		return data.getPriceInt();
+	}
+
+	public void setPriceInt(int newValue)
+	{
+		zSetInteger(SaleAggregateDataFinder.priceInt(), newValue, false, false ,true);
+	}
+
+	public boolean isPriceLongNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceLongNull();
+	}
+
+	public long getPriceLong()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isPriceLongNull()) MithraNullPrimitiveException.throwNew("priceLong", data);
+		return data.getPriceLong();
+	}
+
+	public void setPriceLong(long newValue)
+	{
+		zSetLong(SaleAggregateDataFinder.priceLong(), newValue, false, false ,true);
+	}
+
+	public boolean isPriceShortNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isPriceShortNull();
+	}
+
+	public short getPriceShort()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isPriceShortNull()) MithraNullPrimitiveException.throwNew("priceShort", data);
+		return data.getPriceShort();
+	}
+
+	public void setPriceShort(short newValue)
+	{
+		zSetShort(SaleAggregateDataFinder.priceShort(), newValue, false, false ,true);
+	}
+
+	public boolean isSaleIdNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isSaleIdNull();
+	}
+
+	public int getSaleId()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		return data.getSaleId();
+	}
+
+	public void setSaleId(int newValue)
+	{
+		zSetInteger(SaleAggregateDataFinder.saleId(), newValue, true, false ,false);
+	}
+
+	public boolean isSellerIdNull()
+	{
+		return ((SaleAggregateDataData) this.zSynchronizedGetData()).isSellerIdNull();
+	}
+
+	public int getSellerId()
+	{
+		SaleAggregateDataData data = (SaleAggregateDataData) this.zSynchronizedGetData();
+		if (data.isSellerIdNull()) MithraNullPrimitiveException.throwNew("sellerId", data);
+		return data.getSellerId();
+	}
+
+	public void setSellerId(int newValue)
+	{
+		zSetInteger(SaleAggregateDataFinder.sellerId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, SaleAggregateDataFinder.sellerId(), false);
+		zNullify(behavior, data, SaleAggregateDataFinder.priceDouble(), false);
+		zNullify(behavior, data, SaleAggregateDataFinder.priceInt(), false);
+		zNullify(behavior, data, SaleAggregateDataFinder.priceShort(), false);
+		zNullify(behavior, data, SaleAggregateDataFinder.priceLong(), false);
+		zNullify(behavior, data, SaleAggregateDataFinder.priceFloat(), false);
+		zNullify(behavior, data, SaleAggregateDataFinder.priceByte(), false);
+	}
+
+	public void setSellerIdNull()
+	{
+		zNullify(SaleAggregateDataFinder.sellerId(), false);
+	}
+
+	public void setPriceDoubleNull()
+	{
+		zNullify(SaleAggregateDataFinder.priceDouble(), false);
+	}
+
+	public void setPriceIntNull()
+	{
+		zNullify(SaleAggregateDataFinder.priceInt(), false);
+	}
+
+	public void setPriceShortNull()
+	{
+		zNullify(SaleAggregateDataFinder.priceShort(), false);
+	}
+
+	public void setPriceLongNull()
+	{
+		zNullify(SaleAggregateDataFinder.priceLong(), false);
+	}
+
+	public void setPriceFloatNull()
+	{
+		zNullify(SaleAggregateDataFinder.priceFloat(), false);
+	}
+
+	public void setPriceByteNull()
+	{
+		zNullify(SaleAggregateDataFinder.priceByte(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SaleAggregateDataData _newData = (SaleAggregateDataData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SaleAggregateDataData _newData = (SaleAggregateDataData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleAggregateDataData _newData = (SaleAggregateDataData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public SaleAggregateData zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SaleAggregateData original = (SaleAggregateData) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SaleAggregateDataFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SaleAggregateDataFinder.getMithraObjectPortal();
+	}
+
+	public SaleAggregateData getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBigDecimal(behavior, data, newData, SaleAggregateDataFinder.priceBigDecimal(), false);
+		changed |= zUpdateByte(behavior, data, newData, SaleAggregateDataFinder.priceByte(), false);
+		changed |= zUpdateDouble(behavior, data, newData, SaleAggregateDataFinder.priceDouble(), false);
+		changed |= zUpdateFloat(behavior, data, newData, SaleAggregateDataFinder.priceFloat(), false);
+		changed |= zUpdateInteger(behavior, data, newData, SaleAggregateDataFinder.priceInt(), false);
+		changed |= zUpdateLong(behavior, data, newData, SaleAggregateDataFinder.priceLong(), false);
+		changed |= zUpdateShort(behavior, data, newData, SaleAggregateDataFinder.priceShort(), false);
+		changed |= zUpdateInteger(behavior, data, newData, SaleAggregateDataFinder.sellerId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, SaleAggregateDataFinder.saleId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SaleAggregateDataAbstract result = (SaleAggregateDataAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
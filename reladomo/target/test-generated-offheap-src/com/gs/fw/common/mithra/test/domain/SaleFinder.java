@@ -0,0 +1,1263 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SaleFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Sale";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Sale";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Sale");
+	private static final SaleSingleFinder<Sale, Object, Sale> finder = new SaleSingleFinder<Sale, Object, Sale>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SaleFinder.SaleRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("saleId");
+		finderMethodMap.addNormalAttributeName("saleDate");
+		finderMethodMap.addNormalAttributeName("sellerId");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addNormalAttributeName("discountPercentage");
+		finderMethodMap.addNormalAttributeName("settleDate");
+		finderMethodMap.addNormalAttributeName("activeBoolean");
+		finderMethodMap.addNormalAttributeName("nullableDouble");
+		finderMethodMap.addNormalAttributeName("nullableInt");
+		finderMethodMap.addNormalAttributeName("nullableDate");
+		finderMethodMap.addNormalAttributeName("nullableTimestamp");
+		finderMethodMap.addNormalAttributeName("nullableString");
+		finderMethodMap.addNormalAttributeName("nullableBoolean");
+		finderMethodMap.addNormalAttributeName("nullableBigDecimal");
+		finderMethodMap.addNormalAttributeName("nullableVeryBigDecimal");
+		finderMethodMap.addRelationshipName("items");
+		finderMethodMap.addRelationshipName("wishListItems");
+		finderMethodMap.addRelationshipName("seller");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = SaleFinder.saleId().constructEqualityMapper(SalesLineItemFinder.saleId());
+			result[1] = SalesLineItemFinder.saleId().constructEqualityMapper(SaleFinder.saleId());
+			result[2] = SaleFinder.saleId().constructEqualityMapper(WishListItemFinder.saleId());
+			result[3] = WishListItemFinder.saleId().constructEqualityMapper(SaleFinder.saleId());
+			result[4] = SaleFinder.sellerId().constructEqualityMapper(SellerFinder.sellerId());
+			result[5] = SellerFinder.sellerId().constructEqualityMapper(SaleFinder.sellerId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Sale findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Sale findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SaleList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SaleList) finder.findMany(operation);
+	}
+
+	public static SaleList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SaleList) finder.findManyBypassCache(operation);
+	}
+
+	private static Sale findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Sale) FinderUtils.findOne(found);
+	}
+
+	public static Sale findByPrimaryKey(int saleId)
+	{
+		return finder.findByPrimaryKey(saleId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			SaleData _castedTargetData = (SaleData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getSaleId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Sale zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Sale) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SaleRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Sale, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> saleId;
+		private TimestampAttribute<ParentOwnerType> saleDate;
+		private IntegerAttribute<ParentOwnerType> sellerId;
+		private StringAttribute<ParentOwnerType> description;
+		private DoubleAttribute<ParentOwnerType> discountPercentage;
+		private DateAttribute<ParentOwnerType> settleDate;
+		private BooleanAttribute<ParentOwnerType> activeBoolean;
+		private DoubleAttribute<ParentOwnerType> nullableDouble;
+		private IntegerAttribute<ParentOwnerType> nullableInt;
+		private DateAttribute<ParentOwnerType> nullableDate;
+		private TimestampAttribute<ParentOwnerType> nullableTimestamp;
+		private StringAttribute<ParentOwnerType> nullableString;
+		private BooleanAttribute<ParentOwnerType> nullableBoolean;
+		private BigDecimalAttribute<ParentOwnerType> nullableBigDecimal;
+		private BigDecimalAttribute<ParentOwnerType> nullableVeryBigDecimal;
+		private SaleItemsFinderSubclass<ParentOwnerType> items;
+		private SaleWishListItemsFinderSubclass<ParentOwnerType> wishListItems;
+		private SaleSellerFinderSubclass<ParentOwnerType> seller;
+		public SaleRelatedFinder()
+		{
+			super();
+		}
+
+		public SaleRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.SaleFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SaleFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SaleFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SaleFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[15];
+			attributes[0] = this.saleId();
+			attributes[1] = this.saleDate();
+			attributes[2] = this.sellerId();
+			attributes[3] = this.description();
+			attributes[4] = this.discountPercentage();
+			attributes[5] = this.settleDate();
+			attributes[6] = this.activeBoolean();
+			attributes[7] = this.nullableDouble();
+			attributes[8] = this.nullableInt();
+			attributes[9] = this.nullableDate();
+			attributes[10] = this.nullableTimestamp();
+			attributes[11] = this.nullableString();
+			attributes[12] = this.nullableBoolean();
+			attributes[13] = this.nullableBigDecimal();
+			attributes[14] = this.nullableVeryBigDecimal();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.items());
+				relatedFinders.add(this.wishListItems());
+				relatedFinders.add(this.seller());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.items());
+				dependentRelatedFinders.add(this.wishListItems());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Sale findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SaleFinder.findOne(operation, false);
+		}
+
+		public Sale findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SaleFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Sale> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SaleList((Operation) operation);
+		}
+
+		public MithraList<? extends Sale> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SaleList result = (SaleList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Sale> constructEmptyList()
+		{
+			return new SaleList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1753917092;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> saleId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.saleId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SALE_ID","","saleId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SaleFinder.saleId(), this.mapper, this.zGetValueSelector());
+				this.saleId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> saleDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.saleDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("SALE_DATE","","saleDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(SaleFinder.saleDate(), this.mapper, this.zGetValueSelector());
+				this.saleDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sellerId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sellerId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SELLER_ID","","sellerId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SaleFinder.sellerId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("seller");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Seller", "sales");
+				this.sellerId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,50,true, false) :
+					new MappedStringAttribute(SaleFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> discountPercentage()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.discountPercentage;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DISC_PCTG","","discountPercentage",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(SaleFinder.discountPercentage(), this.mapper, this.zGetValueSelector());
+				this.discountPercentage = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> settleDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.settleDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("SETTLE_DATE","","settleDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(SaleFinder.settleDate(), this.mapper, this.zGetValueSelector());
+				this.settleDate = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> activeBoolean()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.activeBoolean;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("ACTIVE_BOOLEAN","","activeBoolean",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(SaleFinder.activeBoolean(), this.mapper, this.zGetValueSelector());
+				this.activeBoolean = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> nullableDouble()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.nullableDouble;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NULLABLE_DOUBLE","","nullableDouble",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(SaleFinder.nullableDouble(), this.mapper, this.zGetValueSelector());
+				this.nullableDouble = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> nullableInt()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.nullableInt;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("NULLABLE_INT","","nullableInt",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SaleFinder.nullableInt(), this.mapper, this.zGetValueSelector());
+				this.nullableInt = result;
+			}
+
+			return result;
+		}
+
+		public DateAttribute<ParentOwnerType> nullableDate()
+		{
+			DateAttribute<ParentOwnerType> result = this.nullableDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDateAttribute.generate("NULLABLE_DATE","","nullableDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,false, false) :
+					new MappedDateAttribute(SaleFinder.nullableDate(), this.mapper, this.zGetValueSelector());
+				this.nullableDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> nullableTimestamp()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.nullableTimestamp;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("NULLABLE_TIMESTAMP","","nullableTimestamp",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(SaleFinder.nullableTimestamp(), this.mapper, this.zGetValueSelector());
+				this.nullableTimestamp = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> nullableString()
+		{
+			StringAttribute<ParentOwnerType> result = this.nullableString;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NULLABLE_STRING","","nullableString",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(SaleFinder.nullableString(), this.mapper, this.zGetValueSelector());
+				this.nullableString = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> nullableBoolean()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.nullableBoolean;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("NULLABLE_BOOLEAN","","nullableBoolean",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(SaleFinder.nullableBoolean(), this.mapper, this.zGetValueSelector());
+				this.nullableBoolean = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> nullableBigDecimal()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.nullableBigDecimal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("NULLABLE_BD","","nullableBigDecimal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,7,3, false) :
+					new MappedBigDecimalAttribute(SaleFinder.nullableBigDecimal(), this.mapper, this.zGetValueSelector());
+				this.nullableBigDecimal = result;
+			}
+
+			return result;
+		}
+
+		public BigDecimalAttribute<ParentOwnerType> nullableVeryBigDecimal()
+		{
+			BigDecimalAttribute<ParentOwnerType> result = this.nullableVeryBigDecimal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBigDecimalAttribute.generate("NULLABLE_VERYBD","","nullableVeryBigDecimal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,10,5, false) :
+					new MappedBigDecimalAttribute(SaleFinder.nullableVeryBigDecimal(), this.mapper, this.zGetValueSelector());
+				this.nullableVeryBigDecimal = result;
+			}
+
+			return result;
+		}
+
+		public SalesLineItemFinder.SalesLineItemCollectionFinderForRelatedClasses<ParentOwnerType, SalesLineItemList, Sale> items()
+		{
+			SaleItemsFinderSubclass<ParentOwnerType> result = this.items;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SaleFinder.zGetSaleItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new SaleItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.items = result;
+			}
+
+			return result;
+		}
+
+		public WishListItemFinder.WishListItemCollectionFinderForRelatedClasses<ParentOwnerType, WishListItemList, Sale> wishListItems()
+		{
+			SaleWishListItemsFinderSubclass<ParentOwnerType> result = this.wishListItems;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SaleFinder.zGetSaleWishListItemsReverseMapper());
+				newMapper.setToMany(true);
+				result = new SaleWishListItemsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.wishListItems = result;
+			}
+
+			return result;
+		}
+
+		public SellerFinder.SellerSingleFinderForRelatedClasses<ParentOwnerType, Seller, Sale> seller()
+		{
+			SaleSellerFinderSubclass<ParentOwnerType> result = this.seller;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(SaleFinder.zGetSaleSellerReverseMapper());
+				newMapper.setToMany(false);
+				result = new SaleSellerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.seller = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SaleFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SaleFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SaleCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SaleRelatedFinder<ParentOwnerType, ReturnType, SaleList, OwnerType>
+	{
+		public SaleCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SaleCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SaleCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SaleCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SaleSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SaleRelatedFinder<ParentOwnerType, ReturnType, SaleList, OwnerType>
+	implements ToOneFinder
+	{
+		public SaleSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SaleSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Sale other)
+		{
+			return this.saleId().eq(other.getSaleId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Sale findByPrimaryKey(int saleId)
+		{
+			Sale _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(saleId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Sale) _related;
+			if (_related == null)
+			{
+				_op = this.saleId().eq(saleId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SaleSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SaleSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SaleSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper itemsReverseMapper = null;
+	public static Mapper zGetSaleItemsReverseMapper()
+	{
+		if (itemsReverseMapper == null)
+		{
+			itemsReverseMapper = zConstructSaleItemsReverseMapper();
+		}
+
+		return itemsReverseMapper;
+	}
+
+	private static Mapper itemsMapper = null;
+	public static Mapper zGetSaleItemsMapper()
+	{
+		if (itemsMapper == null)
+		{
+			itemsMapper = zConstructSaleItemsMapper();
+		}
+
+		return itemsMapper;
+	}
+
+	private static Mapper itemsPureReverseMapper = null;
+	public static Mapper zGetSaleItemsPureReverseMapper()
+	{
+		if (itemsPureReverseMapper == null)
+		{
+			itemsPureReverseMapper = zConstructSaleItemsPureReverseMapper();
+		}
+
+		return itemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructSaleItemsPureReverseMapper()
+	{
+		Mapper itemsMapper = SaleFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructSaleItemsReverseMapper()
+	{
+		Mapper itemsMapper = SaleFinder.zGetConstantJoin(0);
+		itemsMapper.setName("items");
+		return itemsMapper;
+	}
+
+	private static Mapper zConstructSaleItemsMapper()
+	{
+		Mapper itemsMapper = SaleFinder.zGetConstantJoin(1);
+		itemsMapper.setName("sale");
+		return itemsMapper;
+	}
+
+	private static Mapper wishListItemsReverseMapper = null;
+	public static Mapper zGetSaleWishListItemsReverseMapper()
+	{
+		if (wishListItemsReverseMapper == null)
+		{
+			wishListItemsReverseMapper = zConstructSaleWishListItemsReverseMapper();
+		}
+
+		return wishListItemsReverseMapper;
+	}
+
+	private static Mapper wishListItemsMapper = null;
+	public static Mapper zGetSaleWishListItemsMapper()
+	{
+		if (wishListItemsMapper == null)
+		{
+			wishListItemsMapper = zConstructSaleWishListItemsMapper();
+		}
+
+		return wishListItemsMapper;
+	}
+
+	private static Mapper wishListItemsPureReverseMapper = null;
+	public static Mapper zGetSaleWishListItemsPureReverseMapper()
+	{
+		if (wishListItemsPureReverseMapper == null)
+		{
+			wishListItemsPureReverseMapper = zConstructSaleWishListItemsPureReverseMapper();
+		}
+
+		return wishListItemsPureReverseMapper;
+	}
+
+	private static Mapper zConstructSaleWishListItemsPureReverseMapper()
+	{
+		Mapper wishListItemsMapper = SaleFinder.zGetConstantJoin(2);
+		wishListItemsMapper.setName("wishListItems");
+		return wishListItemsMapper;
+	}
+
+	private static Mapper zConstructSaleWishListItemsReverseMapper()
+	{
+		Mapper wishListItemsMapper = SaleFinder.zGetConstantJoin(2);
+		wishListItemsMapper.setName("wishListItems");
+		return wishListItemsMapper;
+	}
+
+	private static Mapper zConstructSaleWishListItemsMapper()
+	{
+		Mapper wishListItemsMapper = SaleFinder.zGetConstantJoin(3);
+		wishListItemsMapper.setName("sale");
+		return wishListItemsMapper;
+	}
+
+	private static Mapper sellerReverseMapper = null;
+	public static Mapper zGetSaleSellerReverseMapper()
+	{
+		if (sellerReverseMapper == null)
+		{
+			sellerReverseMapper = zConstructSaleSellerReverseMapper();
+		}
+
+		return sellerReverseMapper;
+	}
+
+	private static Mapper sellerMapper = null;
+	public static Mapper zGetSaleSellerMapper()
+	{
+		if (sellerMapper == null)
+		{
+			sellerMapper = zConstructSaleSellerMapper();
+		}
+
+		return sellerMapper;
+	}
+
+	private static Mapper sellerPureReverseMapper = null;
+	public static Mapper zGetSaleSellerPureReverseMapper()
+	{
+		if (sellerPureReverseMapper == null)
+		{
+			sellerPureReverseMapper = zConstructSaleSellerPureReverseMapper();
+		}
+
+		return sellerPureReverseMapper;
+	}
+
+	private static Mapper zConstructSaleSellerPureReverseMapper()
+	{
+		Mapper sellerMapper = SaleFinder.zGetConstantJoin(4);
+		sellerMapper.setName("seller");
+		return sellerMapper;
+	}
+
+	private static Mapper zConstructSaleSellerReverseMapper()
+	{
+		Mapper sellerMapper = SaleFinder.zGetConstantJoin(4);
+		sellerMapper.setName("seller");
+		return sellerMapper;
+	}
+
+	private static Mapper zConstructSaleSellerMapper()
+	{
+		Mapper sellerMapper = SaleFinder.zGetConstantJoin(5);
+		sellerMapper.setName("sales");
+		return sellerMapper;
+	}
+
+	/** maps to SALE.SALE_ID **/
+	public static IntegerAttribute<Sale> saleId()
+	{
+		return finder.saleId();
+	}
+
+	/** maps to SALE.SALE_DATE **/
+	public static TimestampAttribute<Sale> saleDate()
+	{
+		return finder.saleDate();
+	}
+
+	/** maps to SALE.SELLER_ID **/
+	public static IntegerAttribute<Sale> sellerId()
+	{
+		return finder.sellerId();
+	}
+
+	/** maps to SALE.DESCRIPTION **/
+	public static StringAttribute<Sale> description()
+	{
+		return finder.description();
+	}
+
+	/** maps to SALE.DISC_PCTG **/
+	public static DoubleAttribute<Sale> discountPercentage()
+	{
+		return finder.discountPercentage();
+	}
+
+	/** maps to SALE.SETTLE_DATE **/
+	public static DateAttribute<Sale> settleDate()
+	{
+		return finder.settleDate();
+	}
+
+	/** maps to SALE.ACTIVE_BOOLEAN **/
+	public static BooleanAttribute<Sale> activeBoolean()
+	{
+		return finder.activeBoolean();
+	}
+
+	/** maps to SALE.NULLABLE_DOUBLE **/
+	public static DoubleAttribute<Sale> nullableDouble()
+	{
+		return finder.nullableDouble();
+	}
+
+	/** maps to SALE.NULLABLE_INT **/
+	public static IntegerAttribute<Sale> nullableInt()
+	{
+		return finder.nullableInt();
+	}
+
+	/** maps to SALE.NULLABLE_DATE **/
+	public static DateAttribute<Sale> nullableDate()
+	{
+		return finder.nullableDate();
+	}
+
+	/** maps to SALE.NULLABLE_TIMESTAMP **/
+	public static TimestampAttribute<Sale> nullableTimestamp()
+	{
+		return finder.nullableTimestamp();
+	}
+
+	/** maps to SALE.NULLABLE_STRING **/
+	public static StringAttribute<Sale> nullableString()
+	{
+		return finder.nullableString();
+	}
+
+	/** maps to SALE.NULLABLE_BOOLEAN **/
+	public static BooleanAttribute<Sale> nullableBoolean()
+	{
+		return finder.nullableBoolean();
+	}
+
+	/** maps to SALE.NULLABLE_BD **/
+	public static BigDecimalAttribute<Sale> nullableBigDecimal()
+	{
+		return finder.nullableBigDecimal();
+	}
+
+	/** maps to SALE.NULLABLE_VERYBD **/
+	public static BigDecimalAttribute<Sale> nullableVeryBigDecimal()
+	{
+		return finder.nullableVeryBigDecimal();
+	}
+
+	public static SalesLineItemFinder.SalesLineItemCollectionFinderForRelatedClasses<Sale, SalesLineItemList, Sale> items()
+	{
+		return finder.items();
+	}
+
+	public static class SaleItemsFinderSubclass<ParentOwnerType> extends SalesLineItemFinder.SalesLineItemCollectionFinderForRelatedClasses<ParentOwnerType, SalesLineItemList, Sale>
+	{
+		public SaleItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "items";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SaleItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Sale) _obj).isItemsModifiedSinceDetachment();
+		}
+
+		protected SalesLineItemList plainValueOf(Sale _obj)
+		{
+			return _obj.getItems();
+		}
+
+		protected SalesLineItemList plainListValueOf(Object _obj)
+		{
+			return ((SaleList)_obj).getItems();
+		}
+	}
+
+	public static WishListItemFinder.WishListItemCollectionFinderForRelatedClasses<Sale, WishListItemList, Sale> wishListItems()
+	{
+		return finder.wishListItems();
+	}
+
+	public static class SaleWishListItemsFinderSubclass<ParentOwnerType> extends WishListItemFinder.WishListItemCollectionFinderForRelatedClasses<ParentOwnerType, WishListItemList, Sale>
+	{
+		public SaleWishListItemsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "wishListItems";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SaleWishListItemsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Sale) _obj).isWishListItemsModifiedSinceDetachment();
+		}
+
+		protected WishListItemList plainValueOf(Sale _obj)
+		{
+			return _obj.getWishListItems();
+		}
+
+		protected WishListItemList plainListValueOf(Object _obj)
+		{
+			return ((SaleList)_obj).getWishListItems();
+		}
+	}
+
+	public static SellerFinder.SellerSingleFinderForRelatedClasses<Sale, Seller, Sale> seller()
+	{
+		return finder.seller();
+	}
+
+	public static class SaleSellerFinderSubclass<ParentOwnerType> extends SellerFinder.SellerSingleFinderForRelatedClasses<ParentOwnerType, Seller, Sale>
+	{
+		public SaleSellerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "seller";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SaleSellerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Seller plainValueOf(Sale _obj)
+		{
+			return _obj.getSeller();
+		}
+
+		protected SellerList plainListValueOf(Object _obj)
+		{
+			return ((SaleList)_obj).getSellers();
+		}
+	}
+
+	public static Operation eq(Sale other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(saleId());
+	}
+
+	public static SaleSingleFinder<Sale, Object, Sale> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			saleId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			saleId()
+			, saleId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			sellerId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			SellerFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			SellerFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = discountPercentage();
+		result[1] = nullableDouble();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[2];
+		result[0] = nullableBigDecimal();
+		result[1] = nullableVeryBigDecimal();
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Sale");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,827 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SalesLineItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(SalesLineItem.class.getName());
+	private static final RelationshipHashStrategy forproductSpecs = new ProductSpecsRhs();
+	private static final RelationshipHashStrategy formanufacturers = new ManufacturersRhs();
+	private static final RelationshipHashStrategy forsaleWithManufacturerId = new SaleWithManufacturerIdRhs();
+	private static final RelationshipHashStrategy forsale = new SaleRhs();
+	private static final class ProductSpecsRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			ProductSpecificationData _castedTargetData = (ProductSpecificationData) _targetData;
+			if (!_castedSrcData.isProductIdNull() && _castedSrcData.getProductId() == _castedTargetData.getProductId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getProductId(), _castedSrcData.isProductIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ManufacturersRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			Manufacturer _castedTargetData = (Manufacturer) _targetData;
+			if (!_castedSrcData.isManufacturerIdNull() && _castedSrcData.getManufacturerId() == _castedTargetData.getManufacturerId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getManufacturerId(), _castedSrcData.isManufacturerIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class SaleWithManufacturerIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			SaleData _castedTargetData = (SaleData) _targetData;
+			if (!_castedSrcData.isManufacturerIdNull() && _castedSrcData.getManufacturerId() == _castedTargetData.getSaleId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getManufacturerId(), _castedSrcData.isManufacturerIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class SaleRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			SaleData _castedTargetData = (SaleData) _targetData;
+			if (!_castedSrcData.isSaleIdNull() && _castedSrcData.getSaleId() == _castedTargetData.getSaleId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			SalesLineItemData _castedSrcData = (SalesLineItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getSaleId(), _castedSrcData.isSaleIdNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public SalesLineItemAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public SalesLineItem getDetachedCopy() throws MithraBusinessException
+	{
+		return (SalesLineItem) super.getDetachedCopy();
+	}
+
+	public SalesLineItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		SalesLineItem result = (SalesLineItem) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public SalesLineItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (SalesLineItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public SalesLineItem zFindOriginal()
+	{
+		SalesLineItemData data = (SalesLineItemData) this.currentData;
+		Operation op;
+		op = SalesLineItemFinder.itemId().eq(data.getItemId());
+		return SalesLineItemFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SalesLineItemData();
+	}
+
+	protected void zSetFromSalesLineItemData( SalesLineItemData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSalesLineItemData( SalesLineItemData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isItemIdNull()
+	{
+		return ((SalesLineItemData) this.zSynchronizedGetData()).isItemIdNull();
+	}
+
+	public int getItemId()
+	{
+		SalesLineItemData data = (SalesLineItemData) this.zSynchronizedGetData();
+		return data.getItemId();
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.itemId(), newValue, true, false ,false);
+	}
+
+	public boolean isManufacturerIdNull()
+	{
+		return ((SalesLineItemData) this.zSynchronizedGetData()).isManufacturerIdNull();
+	}
+
+	public int getManufacturerId()
+	{
+		SalesLineItemData data = (SalesLineItemData) this.zSynchronizedGetData();
+		if (data.isManufacturerIdNull()) MithraNullPrimitiveException.throwNew("manufacturerId", data);
+		return data.getManufacturerId();
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.manufacturerId(), newValue, false, false ,true);
+	}
+
+	public boolean isProductIdNull()
+	{
+		return ((SalesLineItemData) this.zSynchronizedGetData()).isProductIdNull();
+	}
+
+	public int getProductId()
+	{
+		SalesLineItemData data = (SalesLineItemData) this.zSynchronizedGetData();
+		if (data.isProductIdNull()) MithraNullPrimitiveException.throwNew("productId", data);
+		return data.getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.productId(), newValue, true, false ,true);
+	}
+
+	public boolean isQuantityNull()
+	{
+		return ((SalesLineItemData) this.zSynchronizedGetData()).isQuantityNull();
+	}
+
+	public int getQuantity()
+	{
+		SalesLineItemData data = (SalesLineItemData) this.zSynchronizedGetData();
+		if (data.isQuantityNull()) MithraNullPrimitiveException.throwNew("quantity", data);
+		return data.getQuantity();
+	}
+
+	public void setQuantity(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.quantity(), newValue, false, false ,true);
+	}
+
+	public boolean isSaleIdNull()
+	{
+		return ((SalesLineItemData) this.zSynchronizedGetData()).isSaleIdNull();
+	}
+
+	public int getSaleId()
+	{
+		SalesLineItemData data = (SalesLineItemData) this.zSynchronizedGetData();
+		if (data.isSaleIdNull()) MithraNullPrimitiveException.throwNew("saleId", data);
+		return data.getSaleId();
+	}
+
+	public void setSaleId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.saleId(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, SalesLineItemFinder.saleId(), false);
+		zNullify(behavior, data, SalesLineItemFinder.productId(), true);
+		zNullify(behavior, data, SalesLineItemFinder.manufacturerId(), false);
+		zNullify(behavior, data, SalesLineItemFinder.quantity(), false);
+	}
+
+	public void setSaleIdNull()
+	{
+		zNullify(SalesLineItemFinder.saleId(), false);
+	}
+
+	public void setProductIdNull()
+	{
+		zNullify(SalesLineItemFinder.productId(), true);
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zNullify(SalesLineItemFinder.manufacturerId(), false);
+	}
+
+	public void setQuantityNull()
+	{
+		zNullify(SalesLineItemFinder.quantity(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SalesLineItemData _newData = (SalesLineItemData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SalesLineItemData _newData = (SalesLineItemData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItemData _newData = (SalesLineItemData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSpecification.productId</pre>
+	* @return The product specs
+	*/
+	public ProductSpecification getProductSpecs()
+	{
+		ProductSpecification _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isProductIdNull())
+			{
+				_portal = ProductSpecificationFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forproductSpecs, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (ProductSpecification) _related;
+				if (_related == null)
+				{
+					_op = ProductSpecificationFinder.productId().eq(_data.getProductId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isProductIdNull())
+				{
+					Operation detachedOp = ProductSpecificationFinder.productId().eq(_data.getProductId());
+					_result = ProductSpecificationFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ProductSpecification) _data.getProductSpecs();
+			if (_result == null)
+			{
+				if (!_data.isProductIdNull())
+				{
+					_op = ProductSpecificationFinder.productId().eq(_data.getProductId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ProductSpecificationFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setProductSpecs(ProductSpecification productSpecs)
+	{
+		ProductSpecification _productSpecs = (ProductSpecification) productSpecs;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setProductSpecs(_productSpecs);
+			if (_productSpecs == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(_productSpecs.getProductId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_productSpecs == null)
+			{
+				this.setProductIdNull();
+			}
+			else
+			{
+				this.setProductId(
+					_productSpecs.getProductId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.manufacturerId = Manufacturer.manufacturerId</pre>
+	* @return The manufacturers
+	*/
+	public Manufacturer getManufacturers()
+	{
+		Manufacturer _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isManufacturerIdNull())
+			{
+				_portal = ManufacturerFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, formanufacturers, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Manufacturer) _related;
+				if (_related == null)
+				{
+					_op = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					Operation detachedOp = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+					_result = ManufacturerFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Manufacturer) _data.getManufacturers();
+			if (_result == null)
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					_op = ManufacturerFinder.manufacturerId().eq(_data.getManufacturerId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = ManufacturerFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setManufacturers(Manufacturer manufacturers)
+	{
+		Manufacturer _manufacturers = (Manufacturer) manufacturers;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setManufacturers(_manufacturers);
+			if (_manufacturers == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(_manufacturers.getManufacturerId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_manufacturers == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(
+					_manufacturers.getManufacturerId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.manufacturerId = Sale.saleId</pre>
+	* @return The sale with manufacturer id
+	*/
+	public Sale getSaleWithManufacturerId()
+	{
+		Sale _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isManufacturerIdNull())
+			{
+				_portal = SaleFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsaleWithManufacturerId, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Sale) _related;
+				if (_related == null)
+				{
+					_op = SaleFinder.saleId().eq(_data.getManufacturerId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					Operation detachedOp = SaleFinder.saleId().eq(_data.getManufacturerId());
+					_result = SaleFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Sale) _data.getSaleWithManufacturerId();
+			if (_result == null)
+			{
+				if (!_data.isManufacturerIdNull())
+				{
+					_op = SaleFinder.saleId().eq(_data.getManufacturerId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = SaleFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSaleWithManufacturerId(Sale saleWithManufacturerId)
+	{
+		Sale _saleWithManufacturerId = (Sale) saleWithManufacturerId;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSaleWithManufacturerId(_saleWithManufacturerId);
+			if (_saleWithManufacturerId == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(_saleWithManufacturerId.getSaleId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_saleWithManufacturerId == null)
+			{
+				this.setManufacturerIdNull();
+			}
+			else
+			{
+				this.setManufacturerId(
+					_saleWithManufacturerId.getSaleId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.saleId = Sale.saleId</pre>
+	* @see Sale#getItems() reverse relationship Sale.getItems()
+	* @return The sale
+	*/
+	public Sale getSale()
+	{
+		Sale _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isSaleIdNull())
+			{
+				_portal = SaleFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsale, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Sale) _related;
+				if (_related == null)
+				{
+					_op = SaleFinder.saleId().eq(_data.getSaleId());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getSale() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (Sale) _data.getSale();
+			if (_result == null)
+			{
+				if (!_data.isSaleIdNull())
+				{
+					Operation detachedOp = SaleFinder.saleId().eq(_data.getSaleId());
+					_result = SaleFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (SalesLineItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setSale(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Sale) _data.getSale();
+			if (_result == null)
+			{
+				if (!_data.isSaleIdNull())
+				{
+					_op = SaleFinder.saleId().eq(_data.getSaleId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = SaleFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSale(Sale sale)
+	{
+		Sale _sale = (Sale) sale;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getSale();
+			if (_behavior.isDetached() && _prev != null)
+			{
+				((DelegatingList)((Sale)_prev).getItems()).zMarkMoved( (SalesLineItem) this);
+			}
+
+			_data.setSale(_sale);
+			_sale.getItems().add( (SalesLineItem) this);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_sale == null)
+			{
+				this.setSaleIdNull();
+			}
+			else
+			{
+				this.setSaleId(
+					_sale.getSaleId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public void zSetParentContainersale(SaleAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItemData _data = (SalesLineItemData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSale(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public SalesLineItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SalesLineItem original = (SalesLineItem) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SalesLineItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SalesLineItemFinder.getMithraObjectPortal();
+	}
+
+	public SalesLineItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, SalesLineItemFinder.manufacturerId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, SalesLineItemFinder.productId(), true);
+		changed |= zUpdateInteger(behavior, data, newData, SalesLineItemFinder.quantity(), false);
+		changed |= zUpdateInteger(behavior, data, newData, SalesLineItemFinder.saleId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, SalesLineItemFinder.itemId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SalesLineItemAbstract result = (SalesLineItemAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
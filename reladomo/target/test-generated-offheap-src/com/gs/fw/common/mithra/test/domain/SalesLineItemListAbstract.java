@@ -0,0 +1,220 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SalesLineItemListAbstract extends DelegatingList<SalesLineItem> implements MithraTransactionalList<SalesLineItem>
+{
+	public SalesLineItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SalesLineItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SalesLineItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SalesLineItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SalesLineItem[] elements()
+	{
+		SalesLineItem[] result = new SalesLineItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SalesLineItemList intersection(SalesLineItemList another)
+	{
+		return (SalesLineItemList)super.intersection(another);
+	}
+
+	public SalesLineItem getSalesLineItemAt(int index)
+	{
+		return (SalesLineItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSpecification.productId</pre>
+	* @return The product specs
+	*/
+	public ProductSpecificationList getProductSpecs()
+	{
+		return (ProductSpecificationList) this.getDelegated().resolveRelationship(this, SalesLineItemFinder.productSpecs());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.manufacturerId = Manufacturer.manufacturerId</pre>
+	* @return The manufacturers
+	*/
+	public ManufacturerList getManufacturers()
+	{
+		return (ManufacturerList) this.getDelegated().resolveRelationship(this, SalesLineItemFinder.manufacturers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.manufacturerId = Sale.saleId</pre>
+	* @return The sale with manufacturer id
+	*/
+	public SaleList getSaleWithManufacturerIds()
+	{
+		return (SaleList) this.getDelegated().resolveRelationship(this, SalesLineItemFinder.saleWithManufacturerId());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.saleId = Sale.saleId</pre>
+	* @see Sale#getItems() reverse relationship Sale.getItems()
+	* @return The sale
+	*/
+	public SaleList getSales()
+	{
+		return (SaleList) this.getDelegated().resolveRelationship(this, SalesLineItemFinder.sale());
+	}
+
+	public void zSetParentContainersale(SaleAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			SalesLineItem item = this.getSalesLineItemAt(i);
+			item.zSetParentContainersale(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SalesLineItemFinder.getMithraObjectPortal();
+	}
+
+	public SalesLineItemList getNonPersistentCopy()
+	{
+		SalesLineItemList result = new SalesLineItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SalesLineItemList asAdhoc()
+	{
+		return (SalesLineItemList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<SalesLineItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public SalesLineItemList merge(MithraTransactionalList<SalesLineItem> incoming, TopLevelMergeOptions<SalesLineItem> mergeOptions)
+	{
+		return (SalesLineItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public SalesLineItemList getDetachedCopy()
+	{
+		SalesLineItemList result = new SalesLineItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.itemId(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.manufacturerId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.quantity(), newValue);
+	}
+
+	public void setSaleId(int newValue)
+	{
+		zSetInteger(SalesLineItemFinder.saleId(), newValue);
+	}
+
+	public void setSaleIdNull()
+	{
+		zSetAttributeNull(SalesLineItemFinder.saleId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(SalesLineItemFinder.productId());
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(SalesLineItemFinder.manufacturerId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(SalesLineItemFinder.quantity());
+	}
+}
@@ -0,0 +1,389 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class SelfJoinConstantAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String payReceive;
+	private String referenceNumber;
+	private int transactionId;
+	public boolean isPayReceiveNull()
+	{
+		return this.getPayReceive() == null;
+	}
+
+	public boolean isReferenceNumberNull()
+	{
+		return this.getReferenceNumber() == null;
+	}
+
+	public boolean isTransactionIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.payReceive);
+		out.writeObject(this.referenceNumber);
+		out.writeInt(this.transactionId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		SelfJoinConstantData data = new SelfJoinConstantData();
+		data.setPayReceive(payReceive);
+		data.setReferenceNumber(referenceNumber);
+		data.setTransactionId(transactionId);
+		return data;
+	}
+
+	public SelfJoinConstant getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		SelfJoinConstantAbstract copy = (SelfJoinConstantAbstract) SelfJoinConstantFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (SelfJoinConstant)copy;
+	}
+
+	protected void zSetFromSelfJoinConstantData(SelfJoinConstantData data)
+	{
+		this.setFromSelfJoinConstantData(data);
+	}
+
+	public void setFromSelfJoinConstantData(SelfJoinConstantData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		payReceive = data.getPayReceive();
+		referenceNumber = data.getReferenceNumber();
+		transactionId = data.getTransactionId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SelfJoinConstantFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromSelfJoinConstantData((SelfJoinConstantData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getPayReceive()
+	{
+		return this.payReceive;
+	}
+
+	public void setPayReceive(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.payReceive = StringPool.getInstance().getOrAddToCache(value, SelfJoinConstantFinder.isFullCache());
+	}
+
+	public String getReferenceNumber()
+	{
+		return this.referenceNumber;
+	}
+
+	public void setReferenceNumber(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.referenceNumber = StringPool.getInstance().getOrAddToCache(value, SelfJoinConstantFinder.isFullCache());
+	}
+
+	public int getTransactionId()
+	{
+		return this.transactionId;
+	}
+
+	public void setTransactionId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.transactionId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.referenceNumber = SelfJoinConstant.referenceNumber
+	and SelfJoinConstant.payReceive = "P"</pre>
+	* @return The matching pay detail
+	*/
+	public SelfJoinConstant getMatchingPayDetail()
+	{
+		SelfJoinConstant _result = null;
+		if (_relationships != null)
+		{
+			_result = (SelfJoinConstant)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isReferenceNumberNull())
+			{
+				{
+					_result = SelfJoinConstantFinder.zFindOneForRelationship(zGetMatchingPayDetailOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.referenceNumber = SelfJoinConstant.referenceNumber
+	and SelfJoinConstant.payReceive = "R"</pre>
+	* @return The matching receive detail
+	*/
+	public SelfJoinConstant getMatchingReceiveDetail()
+	{
+		SelfJoinConstant _result = null;
+		if (_relationships != null)
+		{
+			_result = (SelfJoinConstant)(_relationships[1]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isReferenceNumberNull())
+			{
+				{
+					_result = SelfJoinConstantFinder.zFindOneForRelationship(zGetMatchingReceiveDetailOperation());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		return _result;
+	}
+
+	public void setMatchingPayDetail(SelfJoinConstant matchingPayDetail)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[0] = matchingPayDetail;
+		if (matchingPayDetail == null)
+		{
+			this.setReferenceNumber(null);
+		}
+		else
+		{
+			this.setReferenceNumber(matchingPayDetail.getReferenceNumber());
+		}
+	}
+
+	public void setMatchingReceiveDetail(SelfJoinConstant matchingReceiveDetail)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[2];
+		}
+
+		_relationships[1] = matchingReceiveDetail;
+		if (matchingReceiveDetail == null)
+		{
+			this.setReferenceNumber(null);
+		}
+		else
+		{
+			this.setReferenceNumber(matchingReceiveDetail.getReferenceNumber());
+		}
+	}
+
+	public Operation zGetMatchingPayDetailOperation()
+	{
+		SelfJoinConstantAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(SelfJoinConstantFinder.matchingPayDetail().zGetRelationshipMultiExtractor(), this);
+	}
+
+	public Operation zGetMatchingReceiveDetailOperation()
+	{
+		SelfJoinConstantAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(SelfJoinConstantFinder.matchingReceiveDetail().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final SelfJoinConstantData selfJoinConstantData = (SelfJoinConstantData) newData;
+		if (!isPayReceiveNull() ? !getPayReceive().equals(selfJoinConstantData.getPayReceive()) : !selfJoinConstantData.isPayReceiveNull())
+		{
+			return true;
+		}
+
+		if (!isReferenceNumberNull() ? !getReferenceNumber().equals(selfJoinConstantData.getReferenceNumber()) : !selfJoinConstantData.isReferenceNumberNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "transactionId: "+(""+getTransactionId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeInt(this.transactionId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.payReceive = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SelfJoinConstantFinder.isFullCache());
+			this.referenceNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SelfJoinConstantFinder.isFullCache());
+			this.transactionId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.transactionId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = SelfJoinConstantFinder.transactionId().eq(this.getTransactionId());
+			return SelfJoinConstantFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
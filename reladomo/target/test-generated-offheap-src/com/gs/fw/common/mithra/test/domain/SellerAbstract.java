@@ -0,0 +1,381 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SellerAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(Seller.class.getName());
+	public SellerAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public Seller getDetachedCopy() throws MithraBusinessException
+	{
+		return (Seller) super.getDetachedCopy();
+	}
+
+	public Seller getNonPersistentCopy() throws MithraBusinessException
+	{
+		Seller result = (Seller) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public Seller copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (Seller) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Seller zFindOriginal()
+	{
+		SellerData data = (SellerData) this.currentData;
+		Operation op;
+		op = SellerFinder.sellerId().eq(data.getSellerId());
+		return SellerFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SellerData();
+	}
+
+	protected void zSetFromSellerData( SellerData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSellerData( SellerData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isActiveNull()
+	{
+		return ((SellerData) this.zSynchronizedGetData()).isActiveNull();
+	}
+
+	public boolean isActive()
+	{
+		SellerData data = (SellerData) this.zSynchronizedGetData();
+		return data.isActive();
+	}
+
+	public void setActive(boolean newValue)
+	{
+		zSetBoolean(SellerFinder.active(), newValue, false, false ,true);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((SellerData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		SellerData data = (SellerData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 128)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 128: " + newValue);
+		zSetString(SellerFinder.name(), newValue, false, false );
+	}
+
+	public boolean isSellerDiscountPercentageNull()
+	{
+		return ((SellerData) this.zSynchronizedGetData()).isSellerDiscountPercentageNull();
+	}
+
+	public double getSellerDiscountPercentage()
+	{
+		SellerData data = (SellerData) this.zSynchronizedGetData();
+		if (data.isSellerDiscountPercentageNull()) MithraNullPrimitiveException.throwNew("sellerDiscountPercentage", data);
+		return data.getSellerDiscountPercentage();
+	}
+
+	public void setSellerDiscountPercentage(double newValue)
+	{
+		zSetDouble(SellerFinder.sellerDiscountPercentage(), newValue, false, false ,true);
+	}
+
+	public boolean isSellerIdNull()
+	{
+		return ((SellerData) this.zSynchronizedGetData()).isSellerIdNull();
+	}
+
+	public int getSellerId()
+	{
+		SellerData data = (SellerData) this.zSynchronizedGetData();
+		return data.getSellerId();
+	}
+
+	public void setSellerId(int newValue)
+	{
+		zSetInteger(SellerFinder.sellerId(), newValue, true, false ,false);
+	}
+
+	public boolean isZipCodeNull()
+	{
+		return ((SellerData) this.zSynchronizedGetData()).isZipCodeNull();
+	}
+
+	public String getZipCode()
+	{
+		SellerData data = (SellerData) this.zSynchronizedGetData();
+		return data.getZipCode();
+	}
+
+	public void setZipCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(SellerFinder.zipCode(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, SellerFinder.active(), false);
+		zNullify(behavior, data, SellerFinder.sellerDiscountPercentage(), false);
+	}
+
+	public void setActiveNull()
+	{
+		zNullify(SellerFinder.active(), false);
+	}
+
+	public void setSellerDiscountPercentageNull()
+	{
+		zNullify(SellerFinder.sellerDiscountPercentage(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SellerData _newData = (SellerData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SellerData _newData = (SellerData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SellerData _newData = (SellerData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.sellerId = Sale.sellerId</pre>
+	* @see Sale#getSeller() reverse relationship Sale.getSeller()
+	* @return sales
+	*/
+	public SaleList getSales()
+	{
+		SaleList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SellerData _data = (SellerData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = SaleFinder.sellerId().eq(_data.getSellerId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = SaleFinder.sellerId().eq(_data.getSellerId());
+					_result = new SaleList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (SaleList) _data.getSales();
+			if (_result == null)
+			{
+				{
+					_op = SaleFinder.sellerId().eq(_data.getSellerId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new SaleList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setSales(SaleList sales)
+	{
+		SaleList _sales = (SaleList) sales;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SellerData _data = (SellerData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSales(_sales);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Seller zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		Seller original = (Seller) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SellerFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SellerFinder.getMithraObjectPortal();
+	}
+
+	public Seller getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, SellerFinder.active(), false);
+		changed |= zUpdateString(behavior, data, newData, SellerFinder.name(), false);
+		changed |= zUpdateDouble(behavior, data, newData, SellerFinder.sellerDiscountPercentage(), false);
+		changed |= zUpdateString(behavior, data, newData, SellerFinder.zipCode(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, SellerFinder.sellerId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SellerAbstract result = (SellerAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,171 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SellerListAbstract extends DelegatingList<Seller> implements MithraTransactionalList<Seller>
+{
+	public SellerListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SellerListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SellerListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SellerListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Seller[] elements()
+	{
+		Seller[] result = new Seller[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SellerList intersection(SellerList another)
+	{
+		return (SellerList)super.intersection(another);
+	}
+
+	public Seller getSellerAt(int index)
+	{
+		return (Seller)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.sellerId = Sale.sellerId</pre>
+	* @see Sale#getSeller() reverse relationship Sale.getSeller()
+	* @return sales
+	*/
+	public SaleList getSales()
+	{
+		return (SaleList) this.getDelegated().resolveRelationship(this, SellerFinder.sales());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SellerFinder.getMithraObjectPortal();
+	}
+
+	public SellerList getNonPersistentCopy()
+	{
+		SellerList result = new SellerList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SellerList asAdhoc()
+	{
+		return (SellerList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Seller> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public SellerList merge(MithraTransactionalList<Seller> incoming, TopLevelMergeOptions<Seller> mergeOptions)
+	{
+		return (SellerList) super.merge(incoming, mergeOptions);
+	}
+
+	public SellerList getDetachedCopy()
+	{
+		SellerList result = new SellerList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setActive(boolean newValue)
+	{
+		zSetBoolean(SellerFinder.active(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(SellerFinder.name(), newValue);
+	}
+
+	public void setSellerDiscountPercentage(double newValue)
+	{
+		zSetDouble(SellerFinder.sellerDiscountPercentage(), newValue);
+	}
+
+	public void setSellerId(int newValue)
+	{
+		zSetInteger(SellerFinder.sellerId(), newValue);
+	}
+
+	public void setZipCode(String newValue)
+	{
+		zSetString(SellerFinder.zipCode(), newValue);
+	}
+
+	public void setActiveNull()
+	{
+		zSetAttributeNull(SellerFinder.active());
+	}
+
+	public void setSellerDiscountPercentageNull()
+	{
+		zSetAttributeNull(SellerFinder.sellerDiscountPercentage());
+	}
+}
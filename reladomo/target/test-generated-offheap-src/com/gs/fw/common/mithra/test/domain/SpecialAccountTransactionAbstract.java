@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class SpecialAccountTransactionAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(SpecialAccountTransaction.class.getName());
+	public SpecialAccountTransactionAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public SpecialAccountTransaction getDetachedCopy() throws MithraBusinessException
+	{
+		return (SpecialAccountTransaction) super.getDetachedCopy();
+	}
+
+	public SpecialAccountTransaction getNonPersistentCopy() throws MithraBusinessException
+	{
+		SpecialAccountTransaction result = (SpecialAccountTransaction) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public SpecialAccountTransaction copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (SpecialAccountTransaction) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public SpecialAccountTransaction zFindOriginal()
+	{
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) this.currentData;
+		Operation op;
+		op = SpecialAccountTransactionFinder.specialTransactionId().eq(data.getSpecialTransactionId());
+		op = op.and(SpecialAccountTransactionFinder.deskId().eq(data.getDeskId()));
+		return SpecialAccountTransactionFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new SpecialAccountTransactionData();
+	}
+
+	protected void zSetFromSpecialAccountTransactionData( SpecialAccountTransactionData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromSpecialAccountTransactionData( SpecialAccountTransactionData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return ((SpecialAccountTransactionData) this.zSynchronizedGetData()).isDeskIdNull();
+	}
+
+	public String getDeskId()
+	{
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) this.zSynchronizedGetData();
+		return data.getDeskId();
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountTransactionFinder.deskId(), newValue, false, false );
+	}
+
+	public boolean isSpecialTransactionDateNull()
+	{
+		return ((SpecialAccountTransactionData) this.zSynchronizedGetData()).isSpecialTransactionDateNull();
+	}
+
+	public Timestamp getSpecialTransactionDate()
+	{
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) this.zSynchronizedGetData();
+		return data.getSpecialTransactionDate();
+	}
+
+	public void setSpecialTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountTransactionFinder.specialTransactionDate(), newValue, false, false );
+	}
+
+	public boolean isSpecialTransactionDescriptionNull()
+	{
+		return ((SpecialAccountTransactionData) this.zSynchronizedGetData()).isSpecialTransactionDescriptionNull();
+	}
+
+	public String getSpecialTransactionDescription()
+	{
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) this.zSynchronizedGetData();
+		return data.getSpecialTransactionDescription();
+	}
+
+	public void setSpecialTransactionDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 256)
+		throw new MithraBusinessException("Attribute 'specialTransactionDescription' cannot exceed maximum length of 256: " + newValue);
+		zSetString(SpecialAccountTransactionFinder.specialTransactionDescription(), newValue, false, false );
+	}
+
+	public boolean isSpecialTransactionIdNull()
+	{
+		return ((SpecialAccountTransactionData) this.zSynchronizedGetData()).isSpecialTransactionIdNull();
+	}
+
+	public long getSpecialTransactionId()
+	{
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) this.zSynchronizedGetData();
+		return data.getSpecialTransactionId();
+	}
+
+	public void setSpecialTransactionId(long newValue)
+	{
+		zSetLong(SpecialAccountTransactionFinder.specialTransactionId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		SpecialAccountTransactionData _newData = (SpecialAccountTransactionData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		SpecialAccountTransactionData _newData = (SpecialAccountTransactionData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountTransactionData _newData = (SpecialAccountTransactionData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public SpecialAccountTransaction zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		this.checkAndGeneratePrimaryKeys();
+		SpecialAccountTransaction original = (SpecialAccountTransaction) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return SpecialAccountTransactionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SpecialAccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountTransaction getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateTimestamp(behavior, data, newData, SpecialAccountTransactionFinder.specialTransactionDate(), false);
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountTransactionFinder.specialTransactionDescription(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, SpecialAccountTransactionFinder.deskId(), false);
+		changed |= zUpdateLong(behavior, data, newData, SpecialAccountTransactionFinder.specialTransactionId(), false);
+		return changed;
+	}
+
+	public long generateAndSetSpecialTransactionId()
+	{
+		long nextValue =(long) this.generateSpecialTransactionId();
+		this.setSpecialTransactionId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsSpecialTransactionIdSet()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) behavior.getCurrentDataForRead(this);
+		return data.zGetIsSpecialTransactionIdSet();
+	}
+
+	protected long generateSpecialTransactionId()
+	{
+		Object sourceAttribute = this.getDeskId();
+		SpecialAccountTransactionFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("AccountTransactionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		TransactionalBehavior behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		SpecialAccountTransactionData data = (SpecialAccountTransactionData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsSpecialTransactionIdSet())
+		{
+			data.setSpecialTransactionId(generateSpecialTransactionId());
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		SpecialAccountTransactionAbstract result = (SpecialAccountTransactionAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
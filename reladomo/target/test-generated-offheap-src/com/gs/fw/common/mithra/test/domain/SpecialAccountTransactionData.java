@@ -0,0 +1,355 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SpecialAccountTransactionData
+implements MithraDataObject
+{
+	private String deskId;
+	private Timestamp specialTransactionDate;
+	private String specialTransactionDescription;
+	private long specialTransactionId;
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isSpecialTransactionDateNull()
+	{
+		return this.getSpecialTransactionDate() == null;
+	}
+
+	public boolean isSpecialTransactionDescriptionNull()
+	{
+		return this.getSpecialTransactionDescription() == null;
+	}
+
+	public boolean isSpecialTransactionIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.deskId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.specialTransactionDate);
+		out.writeObject(this.specialTransactionDescription);
+		out.writeLong(this.specialTransactionId);
+		out.writeBoolean(_isSpecialTransactionIdSet);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, SpecialAccountTransactionFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public Timestamp getSpecialTransactionDate()
+	{
+		return this.specialTransactionDate;
+	}
+
+	public long zGetSpecialTransactionDateAsLong()
+	{
+		if (specialTransactionDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return specialTransactionDate.getTime();
+	}
+
+	public void setSpecialTransactionDate(Timestamp value)
+	{
+		this.specialTransactionDate = TimestampPool.getInstance().getOrAddToCache(value, SpecialAccountTransactionFinder.isFullCache(), SpecialAccountTransactionFinder.isOffHeap());
+	}
+
+	public void setSpecialTransactionDateNull()
+	{
+		this.setSpecialTransactionDate(null);
+	}
+
+	public String getSpecialTransactionDescription()
+	{
+		return this.specialTransactionDescription;
+	}
+
+	public int zGetSpecialTransactionDescriptionAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(specialTransactionDescription);
+	}
+
+	public void setSpecialTransactionDescription(String value)
+	{
+		this.specialTransactionDescription = StringPool.getInstance().getOrAddToCache(value, SpecialAccountTransactionFinder.isFullCache());
+	}
+
+	public void setSpecialTransactionDescriptionNull()
+	{
+		this.setSpecialTransactionDescription(null);
+	}
+
+	public long getSpecialTransactionId()
+	{
+		return this.specialTransactionId;
+	}
+
+	public void setSpecialTransactionId(long value)
+	{
+		this.specialTransactionId = value;
+		_isSpecialTransactionIdSet = true;
+	}
+
+	public void setSpecialTransactionIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public boolean _isSpecialTransactionIdSet;
+	public boolean zGetIsSpecialTransactionIdSet()
+	{
+		return _isSpecialTransactionIdSet;
+	}
+
+	protected void copyInto(SpecialAccountTransactionData copy, boolean withRelationships)
+	{
+		copy.deskId = this.deskId;
+		copy.specialTransactionDate = this.specialTransactionDate;
+		copy.specialTransactionDescription = this.specialTransactionDescription;
+		copy.specialTransactionId = this.specialTransactionId;
+		copy._isSpecialTransactionIdSet = this._isSpecialTransactionIdSet;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountTransactionFinder.isFullCache());
+		this.specialTransactionDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SpecialAccountTransactionFinder.isFullCache(), SpecialAccountTransactionFinder.isOffHeap());
+		this.specialTransactionDescription = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountTransactionFinder.isFullCache());
+		this.specialTransactionId = in.readLong();
+		_isSpecialTransactionIdSet = in.readBoolean();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SpecialAccountTransactionData otherData = (SpecialAccountTransactionData) other;
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getSpecialTransactionId() != otherData.getSpecialTransactionId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskId);
+		out.writeLong(this.specialTransactionId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SpecialAccountTransactionFinder.isFullCache());
+		this.specialTransactionId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SpecialAccountTransactionData specialAccountTransactionData = (SpecialAccountTransactionData) newData;
+		this.setDeskId(specialAccountTransactionData.getDeskId());
+		this.setSpecialTransactionDate(specialAccountTransactionData.getSpecialTransactionDate());
+		this.setSpecialTransactionDescription(specialAccountTransactionData.getSpecialTransactionDescription());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SpecialAccountTransactionData other = (SpecialAccountTransactionData) newData;
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialTransactionDateNull() ? !getSpecialTransactionDate().equals(other.getSpecialTransactionDate()) : !other.isSpecialTransactionDateNull())
+		{
+			return true;
+		}
+
+		if (!isSpecialTransactionDescriptionNull() ? !getSpecialTransactionDescription().equals(other.getSpecialTransactionDescription()) : !other.isSpecialTransactionDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SpecialAccountTransactionData copy = new SpecialAccountTransactionData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SpecialAccountTransactionData copy = new SpecialAccountTransactionData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "specialTransactionId: "+(""+getSpecialTransactionId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SpecialAccountTransactionData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SpecialAccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SpecialAccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SpecialAccountTransactionData";
+	}
+}
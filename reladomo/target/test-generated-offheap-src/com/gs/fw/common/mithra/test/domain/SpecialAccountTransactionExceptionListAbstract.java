@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SpecialAccountTransactionExceptionListAbstract extends DelegatingList<SpecialAccountTransactionException> implements MithraTransactionalList<SpecialAccountTransactionException>
+{
+	public SpecialAccountTransactionExceptionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SpecialAccountTransactionExceptionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SpecialAccountTransactionExceptionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SpecialAccountTransactionExceptionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SpecialAccountTransactionException[] elements()
+	{
+		SpecialAccountTransactionException[] result = new SpecialAccountTransactionException[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SpecialAccountTransactionExceptionList intersection(SpecialAccountTransactionExceptionList another)
+	{
+		return (SpecialAccountTransactionExceptionList)super.intersection(another);
+	}
+
+	public SpecialAccountTransactionException getSpecialAccountTransactionExceptionAt(int index)
+	{
+		return (SpecialAccountTransactionException)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SpecialAccountTransactionExceptionFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountTransactionExceptionList getNonPersistentCopy()
+	{
+		SpecialAccountTransactionExceptionList result = new SpecialAccountTransactionExceptionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SpecialAccountTransactionExceptionList asAdhoc()
+	{
+		return (SpecialAccountTransactionExceptionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<SpecialAccountTransactionException> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public SpecialAccountTransactionExceptionList merge(MithraTransactionalList<SpecialAccountTransactionException> incoming, TopLevelMergeOptions<SpecialAccountTransactionException> mergeOptions)
+	{
+		return (SpecialAccountTransactionExceptionList) super.merge(incoming, mergeOptions);
+	}
+
+	public SpecialAccountTransactionExceptionList getDetachedCopy()
+	{
+		SpecialAccountTransactionExceptionList result = new SpecialAccountTransactionExceptionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)SpecialAccountTransactionExceptionFinder.specialExceptionId(), true, "AccountTransactionExceptionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountTransactionExceptionFinder.deskId(), newValue);
+	}
+
+	public void setSpecialExceptionDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountTransactionExceptionFinder.specialExceptionDate(), newValue);
+	}
+
+	public void setSpecialExceptionDescription(String newValue)
+	{
+		zSetString(SpecialAccountTransactionExceptionFinder.specialExceptionDescription(), newValue);
+	}
+
+	public void setSpecialExceptionId(long newValue)
+	{
+		zSetLong(SpecialAccountTransactionExceptionFinder.specialExceptionId(), newValue);
+	}
+}
@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SpecialAccountTransactionListAbstract extends DelegatingList<SpecialAccountTransaction> implements MithraTransactionalList<SpecialAccountTransaction>
+{
+	public SpecialAccountTransactionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SpecialAccountTransactionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SpecialAccountTransactionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SpecialAccountTransactionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SpecialAccountTransaction[] elements()
+	{
+		SpecialAccountTransaction[] result = new SpecialAccountTransaction[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SpecialAccountTransactionList intersection(SpecialAccountTransactionList another)
+	{
+		return (SpecialAccountTransactionList)super.intersection(another);
+	}
+
+	public SpecialAccountTransaction getSpecialAccountTransactionAt(int index)
+	{
+		return (SpecialAccountTransaction)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SpecialAccountTransactionFinder.getMithraObjectPortal();
+	}
+
+	public SpecialAccountTransactionList getNonPersistentCopy()
+	{
+		SpecialAccountTransactionList result = new SpecialAccountTransactionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SpecialAccountTransactionList asAdhoc()
+	{
+		return (SpecialAccountTransactionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<SpecialAccountTransaction> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public SpecialAccountTransactionList merge(MithraTransactionalList<SpecialAccountTransaction> incoming, TopLevelMergeOptions<SpecialAccountTransaction> mergeOptions)
+	{
+		return (SpecialAccountTransactionList) super.merge(incoming, mergeOptions);
+	}
+
+	public SpecialAccountTransactionList getDetachedCopy()
+	{
+		SpecialAccountTransactionList result = new SpecialAccountTransactionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysWithSourceAttribute((SequenceAttribute)SpecialAccountTransactionFinder.specialTransactionId(), false, "AccountTransactionSequence", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory");
+	}
+
+	public void setDeskId(String newValue)
+	{
+		zSetString(SpecialAccountTransactionFinder.deskId(), newValue);
+	}
+
+	public void setSpecialTransactionDate(Timestamp newValue)
+	{
+		zSetTimestamp(SpecialAccountTransactionFinder.specialTransactionDate(), newValue);
+	}
+
+	public void setSpecialTransactionDescription(String newValue)
+	{
+		zSetString(SpecialAccountTransactionFinder.specialTransactionDescription(), newValue);
+	}
+
+	public void setSpecialTransactionId(long newValue)
+	{
+		zSetLong(SpecialAccountTransactionFinder.specialTransactionId(), newValue);
+	}
+}
@@ -0,0 +1,327 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class SupplierAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private String location;
+	private String name;
+	private int supplierId;
+	public boolean isLocationNull()
+	{
+		return this.getLocation() == null;
+	}
+
+	public boolean isNameNull()
+	{
+		return this.getName() == null;
+	}
+
+	public boolean isSupplierIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.location);
+		out.writeObject(this.name);
+		out.writeInt(this.supplierId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		SupplierData data = new SupplierData();
+		data.setLocation(location);
+		data.setName(name);
+		data.setSupplierId(supplierId);
+		return data;
+	}
+
+	public Supplier getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		SupplierAbstract copy = (SupplierAbstract) SupplierFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Supplier)copy;
+	}
+
+	protected void zSetFromSupplierData(SupplierData data)
+	{
+		this.setFromSupplierData(data);
+	}
+
+	public void setFromSupplierData(SupplierData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		location = data.getLocation();
+		name = data.getName();
+		supplierId = data.getSupplierId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SupplierFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromSupplierData((SupplierData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getLocation()
+	{
+		return this.location;
+	}
+
+	public void setLocation(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.location = StringPool.getInstance().getOrAddToCache(value, SupplierFinder.isFullCache());
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public void setName(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.name = StringPool.getInstance().getOrAddToCache(value, SupplierFinder.isFullCache());
+	}
+
+	public int getSupplierId()
+	{
+		return this.supplierId;
+	}
+
+	public void setSupplierId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.supplierId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(SupplierInventoryItem.inventoryId = Phone.inventoryId and SupplierInventoryItem.supplierId = this.supplierId and this.location =  "New York" )</pre>
+	* @see Phone#getSuppliers() reverse relationship Phone.getSuppliers()
+	* @return supplied phones
+	*/
+	public PhoneList getSuppliedPhones()
+	{
+		PhoneList _result = null;
+		if (_relationships != null)
+		{
+			_result = (PhoneList)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			if (!this.isLocationNull() && this.getLocation().equals("New York"))
+			{
+				{
+					_result = new PhoneList(zGetSuppliedPhonesOperation());
+					_result.zSetForRelationship();
+				}
+			}
+			else 
+			{
+				_result = new PhoneList( new None (
+					PhoneFinder.inventoryId())
+				);
+			}
+		}
+
+		return _result;
+	}
+
+	public void setSuppliedPhones(PhoneList suppliedPhones)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = suppliedPhones;
+	}
+
+	public Operation zGetSuppliedPhonesOperation()
+	{
+		SupplierAbstract _data = this;
+		return new MappedOperation(SupplierFinder.zGetSuppliedPhonesMapperFragment(), SupplierInventoryItemFinder.supplierId().eq(_data.getSupplierId()));
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final SupplierData supplierData = (SupplierData) newData;
+		if (!isLocationNull() ? !getLocation().equals(supplierData.getLocation()) : !supplierData.isLocationNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "name: "+"'"+getName()+"'"+ " / ";
+		result += "supplierId: "+(""+getSupplierId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.name);
+			out.writeInt(this.supplierId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.location = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SupplierFinder.isFullCache());
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SupplierFinder.isFullCache());
+			this.supplierId = in.readInt();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.name = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SupplierFinder.isFullCache());
+			this.supplierId = in.readInt();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = SupplierFinder.supplierId().eq(this.getSupplierId());
+			op = op.and(SupplierFinder.name().eq(this.getName()));
+			return SupplierFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,751 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SupplierFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/Supplier";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.Supplier";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Supplier");
+	private static final SupplierSingleFinder<Supplier, Object, Supplier> finder = new SupplierSingleFinder<Supplier, Object, Supplier>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[1];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[1];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(SupplierFinder.SupplierRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("supplierId");
+		finderMethodMap.addNormalAttributeName("location");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addRelationshipName("suppliedPhones");
+		constantStringSets[0] = new ConstantStringSet(Arrays.asList(new String[]
+		{
+			"New York","London"
+		}
+
+		));
+		constantIntSets[0] = new ConstantIntSet(new int[]
+		{
+			1,2
+		}
+
+		);
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[3];
+			result[0] = SupplierFinder.location().in(SupplierFinder.zGetConstantStringSet(0));
+			result[1] = SupplierFinder.supplierId().in(SupplierFinder.zGetConstantIntSet(0));
+			result[2] = SupplierFinder.location().eq("New York");
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Supplier findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Supplier findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static SupplierList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (SupplierList) finder.findMany(operation);
+	}
+
+	public static SupplierList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (SupplierList) finder.findManyBypassCache(operation);
+	}
+
+	private static Supplier findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Supplier) FinderUtils.findOne(found);
+	}
+
+	public static Supplier findByPrimaryKey(int supplierId, String name)
+	{
+		return finder.findByPrimaryKey(supplierId, name);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			Supplier _castedTargetData = (Supplier) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getSupplierId() && _bean.getO1AsString().equals(_castedTargetData.getName()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static Supplier zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Supplier) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class SupplierRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Supplier, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> supplierId;
+		private StringAttribute<ParentOwnerType> location;
+		private StringAttribute<ParentOwnerType> name;
+		private SupplierSuppliedPhonesFinderSubclass<ParentOwnerType> suppliedPhones;
+		public SupplierRelatedFinder()
+		{
+			super();
+		}
+
+		public SupplierRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.SupplierFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return SupplierFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return SupplierFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return SupplierFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.supplierId();
+			attributes[1] = this.location();
+			attributes[2] = this.name();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.suppliedPhones());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Supplier findOne(com.gs.fw.finder.Operation operation)
+		{
+			return SupplierFinder.findOne(operation, false);
+		}
+
+		public Supplier findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return SupplierFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Supplier> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new SupplierList((Operation) operation);
+		}
+
+		public MithraList<? extends Supplier> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			SupplierList result = (SupplierList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Supplier> constructEmptyList()
+		{
+			return new SupplierList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 531503789;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> supplierId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.supplierId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("SUPPLIER_ID","","supplierId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(SupplierFinder.supplierId(), this.mapper, this.zGetValueSelector());
+				this.supplierId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> location()
+		{
+			StringAttribute<ParentOwnerType> result = this.location;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("LOCATION","","location",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(SupplierFinder.location(), this.mapper, this.zGetValueSelector());
+				this.location = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(SupplierFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public PhoneFinder.PhoneCollectionFinderForRelatedClasses<ParentOwnerType, PhoneList, Supplier> suppliedPhones()
+		{
+			SupplierSuppliedPhonesFinderSubclass<ParentOwnerType> result = this.suppliedPhones;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PhoneFinder.zGetPhoneSuppliersMapper());
+				newMapper.setToMany(true);
+				result = new SupplierSuppliedPhonesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.suppliedPhones = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return SupplierFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return SupplierFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class SupplierCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends SupplierRelatedFinder<ParentOwnerType, ReturnType, SupplierList, OwnerType>
+	{
+		public SupplierCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class SupplierCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends SupplierCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SupplierCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class SupplierSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends SupplierRelatedFinder<ParentOwnerType, ReturnType, SupplierList, OwnerType>
+	implements ToOneFinder
+	{
+		public SupplierSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public SupplierSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Supplier other)
+		{
+			return this.supplierId().eq(other.getSupplierId())
+			.and(this.name().eq(other.getName()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Supplier findByPrimaryKey(int supplierId, String name)
+		{
+			Supplier _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (name != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(supplierId);
+				_bean.setO1(name);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Supplier) _related;
+			if (_related == null)
+			{
+				_op = this.supplierId().eq(supplierId).and(this.name().eq(name));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class SupplierSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends SupplierSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public SupplierSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper suppliedPhonesMapperFragment = null;
+	public static Mapper zGetSuppliedPhonesMapperFragment()
+	{
+		if (suppliedPhonesMapperFragment == null)
+		{
+			suppliedPhonesMapperFragment = zConstructSuppliedPhonesMapperFragment();
+		}
+
+		return suppliedPhonesMapperFragment;
+	}
+
+	private static Mapper zConstructSuppliedPhonesMapperFragment()
+	{
+		return PhoneFinder.zGetConstantJoin(0);
+	}
+
+	/** maps to SUPPLIER.SUPPLIER_ID **/
+	public static IntegerAttribute<Supplier> supplierId()
+	{
+		return finder.supplierId();
+	}
+
+	/** maps to SUPPLIER.LOCATION **/
+	public static StringAttribute<Supplier> location()
+	{
+		return finder.location();
+	}
+
+	/** maps to SUPPLIER.NAME **/
+	public static StringAttribute<Supplier> name()
+	{
+		return finder.name();
+	}
+
+	public static PhoneFinder.PhoneCollectionFinderForRelatedClasses<Supplier, PhoneList, Supplier> suppliedPhones()
+	{
+		return finder.suppliedPhones();
+	}
+
+	public static class SupplierSuppliedPhonesFinderSubclass<ParentOwnerType> extends PhoneFinder.PhoneCollectionFinderForRelatedClasses<ParentOwnerType, PhoneList, Supplier>
+	{
+		public SupplierSuppliedPhonesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "suppliedPhones";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new SupplierSuppliedPhonesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PhoneList plainValueOf(Supplier _obj)
+		{
+			return _obj.getSuppliedPhones();
+		}
+
+		protected PhoneList plainListValueOf(Object _obj)
+		{
+			return ((SupplierList)_obj).getSuppliedPhones();
+		}
+	}
+
+	public static Operation eq(Supplier other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(supplierId());
+	}
+
+	public static SupplierSingleFinder<Supplier, Object, Supplier> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			supplierId()
+			, name()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			supplierId()
+			, supplierId()
+			, name()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			supplierId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			location()
+			, supplierId()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			supplierId()
+			, supplierId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			location()
+			, supplierId()
+			, supplierId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.Supplier");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SupplierListAbstract extends DelegatingList<Supplier> implements MithraList<Supplier>
+{
+	public SupplierListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SupplierListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SupplierListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SupplierListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Supplier[] elements()
+	{
+		Supplier[] result = new Supplier[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SupplierList intersection(SupplierList another)
+	{
+		return (SupplierList)super.intersection(another);
+	}
+
+	public Supplier getSupplierAt(int index)
+	{
+		return (Supplier)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(SupplierInventoryItem.inventoryId = Phone.inventoryId and SupplierInventoryItem.supplierId = this.supplierId and this.location =  "New York" )</pre>
+	* @see Phone#getSuppliers() reverse relationship Phone.getSuppliers()
+	* @return supplied phones
+	*/
+	public PhoneList getSuppliedPhones()
+	{
+		return (PhoneList) this.getDelegated().resolveRelationship(this, SupplierFinder.suppliedPhones());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SupplierFinder.getMithraObjectPortal();
+	}
+
+	public SupplierList getNonPersistentCopy()
+	{
+		SupplierList result = new SupplierList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SupplierList asAdhoc()
+	{
+		return (SupplierList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Supplier> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
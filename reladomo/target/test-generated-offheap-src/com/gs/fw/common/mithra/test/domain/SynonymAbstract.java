@@ -0,0 +1,279 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class SynonymAbstract
+implements MithraObject, Serializable
+{
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private long productId;
+	private String synonym;
+	private Timestamp synonymEndDate;
+	private String synonymTypeCode;
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSynonymNull()
+	{
+		return this.getSynonym() == null;
+	}
+
+	public boolean isSynonymEndDateNull()
+	{
+		return this.getSynonymEndDate() == null;
+	}
+
+	public boolean isSynonymTypeCodeNull()
+	{
+		return this.getSynonymTypeCode() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeLong(this.productId);
+		out.writeObject(this.synonym);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.synonymEndDate);
+		out.writeObject(this.synonymTypeCode);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		SynonymData data = new SynonymData();
+		data.setProductId(productId);
+		data.setSynonym(synonym);
+		data.setSynonymEndDate(synonymEndDate);
+		data.setSynonymTypeCode(synonymTypeCode);
+		return data;
+	}
+
+	public Synonym getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		SynonymAbstract copy = (SynonymAbstract) SynonymFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Synonym)copy;
+	}
+
+	protected void zSetFromSynonymData(SynonymData data)
+	{
+		this.setFromSynonymData(data);
+	}
+
+	public void setFromSynonymData(SynonymData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		productId = data.getProductId();
+		synonym = data.getSynonym();
+		synonymEndDate = data.getSynonymEndDate();
+		synonymTypeCode = data.getSynonymTypeCode();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return SynonymFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromSynonymData((SynonymData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public long getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.productId = value;
+	}
+
+	public String getSynonym()
+	{
+		return this.synonym;
+	}
+
+	public void setSynonym(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.synonym = StringPool.getInstance().getOrAddToCache(value, SynonymFinder.isFullCache());
+	}
+
+	public Timestamp getSynonymEndDate()
+	{
+		return this.synonymEndDate;
+	}
+
+	public void setSynonymEndDate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.synonymEndDate = TimestampPool.getInstance().getOrAddToCache(value, SynonymFinder.isFullCache());
+	}
+
+	public String getSynonymTypeCode()
+	{
+		return this.synonymTypeCode;
+	}
+
+	public void setSynonymTypeCode(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.synonymTypeCode = StringPool.getInstance().getOrAddToCache(value, SynonymFinder.isFullCache());
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final SynonymData synonymData = (SynonymData) newData;
+		if (!isSynonymNull() ? !getSynonym().equals(synonymData.getSynonym()) : !synonymData.isSynonymNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		result += "synonymEndDate: "+(isSynonymEndDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getSynonymEndDate().getTime()))+ " / ";
+		result += "synonymTypeCode: "+"'"+getSynonymTypeCode()+"'"+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+		}
+		else
+		{
+			out.writeLong(this.productId);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.synonymEndDate);
+			out.writeObject(this.synonymTypeCode);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.productId = in.readLong();
+			this.synonym = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SynonymFinder.isFullCache());
+			this.synonymEndDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SynonymFinder.isFullCache(), SynonymFinder.isOffHeap());
+			this.synonymTypeCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SynonymFinder.isFullCache());
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.productId = in.readLong();
+			this.synonymEndDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SynonymFinder.isFullCache(), SynonymFinder.isOffHeap());
+			this.synonymTypeCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SynonymFinder.isFullCache());
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = SynonymFinder.productId().eq(this.getProductId());
+			op = op.and(SynonymFinder.synonymTypeCode().eq(this.getSynonymTypeCode()));
+			op = op.and(SynonymFinder.synonymEndDate().eq(this.getSynonymEndDate()));
+			return SynonymFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,347 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class SynonymData
+implements MithraDataObject
+{
+	private long productId;
+	private String synonym;
+	private Timestamp synonymEndDate;
+	private String synonymTypeCode;
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isSynonymNull()
+	{
+		return this.getSynonym() == null;
+	}
+
+	public boolean isSynonymEndDateNull()
+	{
+		return this.getSynonymEndDate() == null;
+	}
+
+	public boolean isSynonymTypeCodeNull()
+	{
+		return this.getSynonymTypeCode() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeLong(this.productId);
+		out.writeObject(this.synonym);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.synonymEndDate);
+		out.writeObject(this.synonymTypeCode);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public long getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(long value)
+	{
+		this.productId = value;
+	}
+
+	public void setProductIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getSynonym()
+	{
+		return this.synonym;
+	}
+
+	public int zGetSynonymAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(synonym);
+	}
+
+	public void setSynonym(String value)
+	{
+		this.synonym = StringPool.getInstance().getOrAddToCache(value, SynonymFinder.isFullCache());
+	}
+
+	public void setSynonymNull()
+	{
+		this.setSynonym(null);
+	}
+
+	public Timestamp getSynonymEndDate()
+	{
+		return this.synonymEndDate;
+	}
+
+	public long zGetSynonymEndDateAsLong()
+	{
+		if (synonymEndDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return synonymEndDate.getTime();
+	}
+
+	public void setSynonymEndDate(Timestamp value)
+	{
+		this.synonymEndDate = TimestampPool.getInstance().getOrAddToCache(value, SynonymFinder.isFullCache(), SynonymFinder.isOffHeap());
+	}
+
+	public void setSynonymEndDateNull()
+	{
+		this.setSynonymEndDate(null);
+	}
+
+	public String getSynonymTypeCode()
+	{
+		return this.synonymTypeCode;
+	}
+
+	public int zGetSynonymTypeCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(synonymTypeCode);
+	}
+
+	public void setSynonymTypeCode(String value)
+	{
+		this.synonymTypeCode = StringPool.getInstance().getOrAddToCache(value, SynonymFinder.isFullCache());
+	}
+
+	public void setSynonymTypeCodeNull()
+	{
+		this.setSynonymTypeCode(null);
+	}
+
+	protected void copyInto(SynonymData copy, boolean withRelationships)
+	{
+		copy.productId = this.productId;
+		copy.synonym = this.synonym;
+		copy.synonymEndDate = this.synonymEndDate;
+		copy.synonymTypeCode = this.synonymTypeCode;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readLong();
+		this.synonym = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SynonymFinder.isFullCache());
+		this.synonymEndDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SynonymFinder.isFullCache(), SynonymFinder.isOffHeap());
+		this.synonymTypeCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SynonymFinder.isFullCache());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final SynonymData otherData = (SynonymData) other;
+		if (getProductId() != otherData.getProductId())
+		{
+			return false;
+		}
+
+		if (!isSynonymEndDateNull() ? !getSynonymEndDate().equals(otherData.getSynonymEndDate()) : !otherData.isSynonymEndDateNull())
+		{
+			return false;
+		}
+
+		if (!isSynonymTypeCodeNull() ? !getSynonymTypeCode().equals(otherData.getSynonymTypeCode()) : !otherData.isSynonymTypeCodeNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.productId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.synonymEndDate);
+		out.writeObject(this.synonymTypeCode);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.productId = in.readLong();
+		this.synonymEndDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), SynonymFinder.isFullCache(), SynonymFinder.isOffHeap());
+		this.synonymTypeCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), SynonymFinder.isFullCache());
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final SynonymData synonymData = (SynonymData) newData;
+		this.setSynonym(synonymData.getSynonym());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final SynonymData other = (SynonymData) newData;
+		if (!isSynonymNull() ? !getSynonym().equals(other.getSynonym()) : !other.isSynonymNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		SynonymData copy = new SynonymData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		SynonymData copy = new SynonymData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "productId: "+(""+getProductId())+ " / ";
+		result += "synonymEndDate: "+(isSynonymEndDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getSynonymEndDate().getTime()))+ " / ";
+		result += "synonymTypeCode: "+"'"+getSynonymTypeCode()+"'"+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.SynonymData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		final SynonymData synonymData = (SynonymData) newData;
+		if (isSynonymEndDateNull() != synonymData.isSynonymEndDateNull())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return SynonymFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return SynonymFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.SynonymData";
+	}
+}
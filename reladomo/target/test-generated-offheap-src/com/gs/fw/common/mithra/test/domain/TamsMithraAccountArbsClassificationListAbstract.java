@@ -0,0 +1,108 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TamsMithraAccountArbsClassificationListAbstract extends DelegatingList<TamsMithraAccountArbsClassification> implements MithraList<TamsMithraAccountArbsClassification>
+{
+	public TamsMithraAccountArbsClassificationListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TamsMithraAccountArbsClassificationListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TamsMithraAccountArbsClassificationListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TamsMithraAccountArbsClassificationListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public TamsMithraAccountArbsClassification[] elements()
+	{
+		TamsMithraAccountArbsClassification[] result = new TamsMithraAccountArbsClassification[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TamsMithraAccountArbsClassificationList intersection(TamsMithraAccountArbsClassificationList another)
+	{
+		return (TamsMithraAccountArbsClassificationList)super.intersection(another);
+	}
+
+	public TamsMithraAccountArbsClassification getTamsMithraAccountArbsClassificationAt(int index)
+	{
+		return (TamsMithraAccountArbsClassification)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TamsMithraAccountArbsClassificationFinder.getMithraObjectPortal();
+	}
+
+	public TamsMithraAccountArbsClassificationList getNonPersistentCopy()
+	{
+		TamsMithraAccountArbsClassificationList result = new TamsMithraAccountArbsClassificationList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TamsMithraAccountArbsClassificationList asAdhoc()
+	{
+		return (TamsMithraAccountArbsClassificationList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TamsMithraAccountArbsClassification> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
@@ -0,0 +1,1088 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrial;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialAbstract;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialData;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialFinder;
+import com.gs.fw.common.mithra.test.domain.dated.TestTamsMithraTrialList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TamsMithraAccountFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TamsMithraAccount";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TamsMithraAccount";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TamsMithraAccount");
+	private static final TamsMithraAccountSingleFinder<TamsMithraAccount, Object, TamsMithraAccount> finder = new TamsMithraAccountSingleFinder<TamsMithraAccount, Object, TamsMithraAccount>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TamsMithraAccountFinder.TamsMithraAccountRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountNumber");
+		finderMethodMap.addNormalAttributeName("code");
+		finderMethodMap.addNormalAttributeName("trialId");
+		finderMethodMap.addNormalAttributeName("pnlGroupId");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("trial");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[12];
+			result[0] = TamsMithraAccountFinder.trialId().constructEqualityMapper(TestTamsMithraTrialFinder.trialId());
+			result[1] = TestTamsMithraTrialFinder.trialId().constructEqualityMapper(TamsMithraAccountFinder.trialId());
+			result[2] = TamsMithraAccountFinder.businessDate().constructEqualityMapper(TestTamsMithraTrialFinder.businessDate());
+			result[3] = TestTamsMithraTrialFinder.businessDate().constructEqualityMapper(TamsMithraAccountFinder.businessDate());
+			result[4] = TamsMithraAccountFinder.processingDate().constructEqualityMapper(TestTamsMithraTrialFinder.processingDate());
+			result[5] = TestTamsMithraTrialFinder.processingDate().constructEqualityMapper(TamsMithraAccountFinder.processingDate());
+			result[6] = TamsMithraAccountFinder.accountNumber().constructEqualityMapper(TamsMithraAccountArbsClassificationFinder.accountId());
+			result[7] = TamsMithraAccountArbsClassificationFinder.accountId().constructEqualityMapper(TamsMithraAccountFinder.accountNumber());
+			result[8] = TamsMithraAccountFinder.businessDate().constructEqualityMapper(TamsMithraAccountArbsClassificationFinder.businessDate());
+			result[9] = TamsMithraAccountArbsClassificationFinder.businessDate().constructEqualityMapper(TamsMithraAccountFinder.businessDate());
+			result[10] = TamsMithraAccountFinder.processingDate().constructEqualityMapper(TamsMithraAccountArbsClassificationFinder.processingDate());
+			result[11] = TamsMithraAccountArbsClassificationFinder.processingDate().constructEqualityMapper(TamsMithraAccountFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TamsMithraAccount findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TamsMithraAccount findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TamsMithraAccountList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TamsMithraAccountList) finder.findMany(operation);
+	}
+
+	public static TamsMithraAccountList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TamsMithraAccountList) finder.findManyBypassCache(operation);
+	}
+
+	private static TamsMithraAccount findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TamsMithraAccount) FinderUtils.findOne(found);
+	}
+
+	public static TamsMithraAccount findByPrimaryKey(String accountNumber, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountNumber, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TamsMithraAccountData _castedTargetData = (TamsMithraAccountData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountNumber()))
+			{
+				return TamsMithraAccountFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TamsMithraAccountFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static TamsMithraAccount zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TamsMithraAccount) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TamsMithraAccountRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TamsMithraAccount, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> accountNumber;
+		private StringAttribute<ParentOwnerType> code;
+		private StringAttribute<ParentOwnerType> trialId;
+		private StringAttribute<ParentOwnerType> pnlGroupId;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private TamsMithraAccountTrialFinderSubclass<ParentOwnerType> trial;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TamsMithraAccountRelatedFinder()
+		{
+			super();
+		}
+
+		public TamsMithraAccountRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TamsMithraAccountFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TamsMithraAccountFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TamsMithraAccountFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TamsMithraAccountFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[8];
+			attributes[0] = this.accountNumber();
+			attributes[1] = this.code();
+			attributes[2] = this.trialId();
+			attributes[3] = this.pnlGroupId();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.trial());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TamsMithraAccount findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TamsMithraAccountFinder.findOne(operation, false);
+		}
+
+		public TamsMithraAccount findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TamsMithraAccountFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TamsMithraAccount> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TamsMithraAccountList((Operation) operation);
+		}
+
+		public MithraList<? extends TamsMithraAccount> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TamsMithraAccountList result = (TamsMithraAccountList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TamsMithraAccount> constructEmptyList()
+		{
+			return new TamsMithraAccountList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 421429693;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> accountNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCOUNT_NUMBER","","accountNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,4,-1,-1,15,true, false) :
+					new MappedStringAttribute(TamsMithraAccountFinder.accountNumber(), this.mapper, this.zGetValueSelector());
+				this.accountNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> code()
+		{
+			StringAttribute<ParentOwnerType> result = this.code;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_8_DIG_C","","code",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,24,-1,-1,15,true, false) :
+					new MappedStringAttribute(TamsMithraAccountFinder.code(), this.mapper, this.zGetValueSelector());
+				this.code = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trialId()
+		{
+			StringAttribute<ParentOwnerType> result = this.trialId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRIAL_ID","","trialId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,48,-1,-1,15,true, false) :
+					new MappedStringAttribute(TamsMithraAccountFinder.trialId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("trial");
+				this.trialId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> pnlGroupId()
+		{
+			StringAttribute<ParentOwnerType> result = this.pnlGroupId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PNLGROUP_ID","","pnlGroupId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,false,false,28,-1,-1,15,true, false) :
+					new MappedStringAttribute(TamsMithraAccountFinder.pnlGroupId(), this.mapper, this.zGetValueSelector());
+				this.pnlGroupId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TamsMithraAccountFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TamsMithraAccountFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TamsMithraAccountFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TamsMithraAccountFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TamsMithraAccountFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TamsMithraAccountFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TamsMithraAccountFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TamsMithraAccountFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),TamsMithraAccountFinder.businessDateInfinity,false,true,TamsMithraAccountFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TamsMithraAccountFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),TamsMithraAccountFinder.processingDateInfinity,false,true,TamsMithraAccountFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TamsMithraAccountFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TestTamsMithraTrialFinder.TestTamsMithraTrialSingleFinderForRelatedClasses<ParentOwnerType, TestTamsMithraTrial, TamsMithraAccount> trial()
+		{
+			TamsMithraAccountTrialFinderSubclass<ParentOwnerType> result = this.trial;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TamsMithraAccountFinder.zGetTamsMithraAccountTrialReverseMapper());
+				newMapper.setToMany(false);
+				result = new TamsMithraAccountTrialFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.trial = result;
+			}
+
+			return result;
+		}
+
+		public TamsMithraArbsClassificationFinder.TamsMithraArbsClassificationSingleFinderForRelatedClasses<ParentOwnerType, TamsMithraArbsClassification, TamsMithraAccount> arbsClassificationByType(String type)
+		{
+			TamsMithraAccountArbsClassificationByTypeFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(TamsMithraAccountFinder.zGetTamsMithraAccountArbsClassificationByTypeReverseMapper(type));
+			newMapper.setToMany(false);
+			result = new TamsMithraAccountArbsClassificationByTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,type);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TamsMithraAccountFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TamsMithraAccountFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TamsMithraAccountCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TamsMithraAccountRelatedFinder<ParentOwnerType, ReturnType, TamsMithraAccountList, OwnerType>
+	{
+		public TamsMithraAccountCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TamsMithraAccountCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TamsMithraAccountCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TamsMithraAccountCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TamsMithraAccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TamsMithraAccountRelatedFinder<ParentOwnerType, ReturnType, TamsMithraAccountList, OwnerType>
+	implements ToOneFinder
+	{
+		public TamsMithraAccountSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TamsMithraAccountSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TamsMithraAccount other)
+		{
+			return this.accountNumber().eq(other.getAccountNumber())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TamsMithraAccount findByPrimaryKey(String accountNumber, Timestamp businessDate, Timestamp processingDate)
+		{
+			TamsMithraAccount _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountNumber != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountNumber);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TamsMithraAccount) _related;
+			if (_related == null)
+			{
+				_op = this.accountNumber().eq(accountNumber).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TamsMithraAccountSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TamsMithraAccountSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TamsMithraAccountSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper trialReverseMapper = null;
+	public static Mapper zGetTamsMithraAccountTrialReverseMapper()
+	{
+		if (trialReverseMapper == null)
+		{
+			trialReverseMapper = zConstructTamsMithraAccountTrialReverseMapper();
+		}
+
+		return trialReverseMapper;
+	}
+
+	private static Mapper trialMapper = null;
+	public static Mapper zGetTamsMithraAccountTrialMapper()
+	{
+		if (trialMapper == null)
+		{
+			trialMapper = zConstructTamsMithraAccountTrialMapper();
+		}
+
+		return trialMapper;
+	}
+
+	private static Mapper trialPureReverseMapper = null;
+	public static Mapper zGetTamsMithraAccountTrialPureReverseMapper()
+	{
+		if (trialPureReverseMapper == null)
+		{
+			trialPureReverseMapper = zConstructTamsMithraAccountTrialPureReverseMapper();
+		}
+
+		return trialPureReverseMapper;
+	}
+
+	private static Mapper zConstructTamsMithraAccountTrialPureReverseMapper()
+	{
+		InternalList trialMapperMapperList = new InternalList(3);
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(0));
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(2));
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(4));
+		Mapper trialMapper = new MultiEqualityMapper(trialMapperMapperList);
+		trialMapper.setName("trial");
+		return trialMapper;
+	}
+
+	private static Mapper zConstructTamsMithraAccountTrialReverseMapper()
+	{
+		InternalList trialMapperMapperList = new InternalList(3);
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(0));
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(2));
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(4));
+		Mapper trialMapper = new MultiEqualityMapper(trialMapperMapperList);
+		trialMapper.setName("trial");
+		return trialMapper;
+	}
+
+	private static Mapper zConstructTamsMithraAccountTrialMapper()
+	{
+		InternalList trialMapperMapperList = new InternalList(3);
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(1));
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(3));
+		trialMapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(5));
+		Mapper trialMapper = new MultiEqualityMapper(trialMapperMapperList);
+		trialMapper.setName("trial_Reverse");
+		return trialMapper;
+	}
+
+	public static Mapper zGetTamsMithraAccountArbsClassificationByTypeReverseMapper(String type)
+	{
+		return zConstructTamsMithraAccountArbsClassificationByTypeReverseMapper(type);
+	}
+
+	public static Mapper zGetTamsMithraAccountArbsClassificationByTypeMapper(String type)
+	{
+		return zConstructTamsMithraAccountArbsClassificationByTypeMapper(type);
+	}
+
+	private static Mapper arbsClassificationByTypePureReverseMapper = null;
+	public static Mapper zGetTamsMithraAccountArbsClassificationByTypePureReverseMapper()
+	{
+		if (arbsClassificationByTypePureReverseMapper == null)
+		{
+			arbsClassificationByTypePureReverseMapper = zConstructTamsMithraAccountArbsClassificationByTypePureReverseMapper();
+		}
+
+		return arbsClassificationByTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructTamsMithraAccountArbsClassificationByTypePureReverseMapper()
+	{
+		InternalList arbsClassificationByTypec0MapperMapperList = new InternalList(3);
+		arbsClassificationByTypec0MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(6));
+		arbsClassificationByTypec0MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(8));
+		arbsClassificationByTypec0MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(10));
+		Mapper arbsClassificationByTypec0Mapper = new MultiEqualityMapper(arbsClassificationByTypec0MapperMapperList);
+		InternalList arbsClassificationByTypec1MapperMapperList = new InternalList(2);
+		arbsClassificationByTypec1MapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(0));
+		arbsClassificationByTypec1MapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(2));
+		Mapper arbsClassificationByTypec1Mapper = new MultiEqualityMapper(arbsClassificationByTypec1MapperMapperList);
+		Mapper arbsClassificationByTypeMapper = new ChainedMapper(arbsClassificationByTypec0Mapper,arbsClassificationByTypec1Mapper);
+		arbsClassificationByTypeMapper.setName("arbsClassificationByType");
+		return arbsClassificationByTypeMapper;
+	}
+
+	private static Mapper zConstructTamsMithraAccountArbsClassificationByTypeReverseMapper(String type)
+	{
+		InternalList arbsClassificationByTypec0MapperMapperList = new InternalList(3);
+		arbsClassificationByTypec0MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(6));
+		arbsClassificationByTypec0MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(8));
+		arbsClassificationByTypec0MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(10));
+		Mapper arbsClassificationByTypec0Mapper = new MultiEqualityMapper(arbsClassificationByTypec0MapperMapperList);
+		InternalList arbsClassificationByTypec1MapperInnerMapperMapperList = new InternalList(2);
+		arbsClassificationByTypec1MapperInnerMapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(0));
+		arbsClassificationByTypec1MapperInnerMapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(2));
+		Mapper arbsClassificationByTypec1MapperInnerMapper = new MultiEqualityMapper(arbsClassificationByTypec1MapperInnerMapperMapperList);
+		Mapper arbsClassificationByTypec1Mapper = new FilteredMapper(arbsClassificationByTypec1MapperInnerMapper, null, TamsMithraArbsClassificationFinder.typeAsString().eq( type ));
+		Mapper arbsClassificationByTypeMapper = new ChainedMapper(arbsClassificationByTypec0Mapper,arbsClassificationByTypec1Mapper);
+		arbsClassificationByTypeMapper.setName("arbsClassificationByType");
+		return arbsClassificationByTypeMapper;
+	}
+
+	private static Mapper zConstructTamsMithraAccountArbsClassificationByTypeMapper(String type)
+	{
+		InternalList arbsClassificationByTypec0MapperInnerMapperMapperList = new InternalList(2);
+		arbsClassificationByTypec0MapperInnerMapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(1));
+		arbsClassificationByTypec0MapperInnerMapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(3));
+		Mapper arbsClassificationByTypec0MapperInnerMapper = new MultiEqualityMapper(arbsClassificationByTypec0MapperInnerMapperMapperList);
+		Mapper arbsClassificationByTypec0Mapper = new FilteredMapper(arbsClassificationByTypec0MapperInnerMapper, TamsMithraArbsClassificationFinder.typeAsString().eq( type ), null);
+		InternalList arbsClassificationByTypec1MapperMapperList = new InternalList(3);
+		arbsClassificationByTypec1MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(7));
+		arbsClassificationByTypec1MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(9));
+		arbsClassificationByTypec1MapperMapperList.add(TamsMithraAccountFinder.zGetConstantJoin(11));
+		Mapper arbsClassificationByTypec1Mapper = new MultiEqualityMapper(arbsClassificationByTypec1MapperMapperList);
+		Mapper arbsClassificationByTypeMapper = new ChainedMapper(arbsClassificationByTypec0Mapper,arbsClassificationByTypec1Mapper);
+		arbsClassificationByTypeMapper.setName("arbsClassificationByType_Reverse");
+		return arbsClassificationByTypeMapper;
+	}
+
+	public static Mapper zGetArbsClassificationByTypeMapperFragment(String type)
+	{
+		return zConstructArbsClassificationByTypeMapperFragment(type);
+	}
+
+	private static Mapper zConstructArbsClassificationByTypeMapperFragment(String type)
+	{
+		InternalList arbsClassificationByTypeMapperInnerMapperMapperList = new InternalList(2);
+		arbsClassificationByTypeMapperInnerMapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(1));
+		arbsClassificationByTypeMapperInnerMapperMapperList.add(TamsMithraAccountArbsClassificationFinder.zGetConstantJoin(3));
+		Mapper arbsClassificationByTypeMapperInnerMapper = new MultiEqualityMapper(arbsClassificationByTypeMapperInnerMapperMapperList);
+		return new FilteredMapper(arbsClassificationByTypeMapperInnerMapper, TamsMithraArbsClassificationFinder.typeAsString().eq( type ), null);
+	}
+
+	/** maps to TAMS_ACCT.ACCOUNT_NUMBER **/
+	public static StringAttribute<TamsMithraAccount> accountNumber()
+	{
+		return finder.accountNumber();
+	}
+
+	/** maps to TAMS_ACCT.ACCT_8_DIG_C **/
+	public static StringAttribute<TamsMithraAccount> code()
+	{
+		return finder.code();
+	}
+
+	/** maps to TAMS_ACCT.TRIAL_ID **/
+	public static StringAttribute<TamsMithraAccount> trialId()
+	{
+		return finder.trialId();
+	}
+
+	/** maps to TAMS_ACCT.PNLGROUP_ID **/
+	public static StringAttribute<TamsMithraAccount> pnlGroupId()
+	{
+		return finder.pnlGroupId();
+	}
+
+	/** maps to TAMS_ACCT.FROM_Z **/
+	public static TimestampAttribute<TamsMithraAccount> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TAMS_ACCT.THRU_Z **/
+	public static TimestampAttribute<TamsMithraAccount> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TAMS_ACCT.IN_Z **/
+	public static TimestampAttribute<TamsMithraAccount> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TAMS_ACCT.OUT_Z **/
+	public static TimestampAttribute<TamsMithraAccount> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TamsMithraAccount> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TamsMithraAccount> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TestTamsMithraTrialFinder.TestTamsMithraTrialSingleFinderForRelatedClasses<TamsMithraAccount, TestTamsMithraTrial, TamsMithraAccount> trial()
+	{
+		return finder.trial();
+	}
+
+	public static class TamsMithraAccountTrialFinderSubclass<ParentOwnerType> extends TestTamsMithraTrialFinder.TestTamsMithraTrialSingleFinderForRelatedClasses<ParentOwnerType, TestTamsMithraTrial, TamsMithraAccount>
+	{
+		public TamsMithraAccountTrialFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "trial";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestTamsMithraTrialFinder.trialId(),
+				TestTamsMithraTrialFinder.businessDate(),
+				TestTamsMithraTrialFinder.processingDate()).withExtractors(
+				TamsMithraAccountFinder.trialId(),
+				TamsMithraAccountFinder.businessDate(),
+				TamsMithraAccountFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TamsMithraAccountTrialFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestTamsMithraTrial plainValueOf(TamsMithraAccount _obj)
+		{
+			return _obj.getTrial();
+		}
+
+		protected TestTamsMithraTrialList plainListValueOf(Object _obj)
+		{
+			return ((TamsMithraAccountList)_obj).getTrials();
+		}
+	}
+
+	public static TamsMithraArbsClassificationFinder.TamsMithraArbsClassificationSingleFinderForRelatedClasses<TamsMithraAccount, TamsMithraArbsClassification, TamsMithraAccount> arbsClassificationByType(String type)
+	{
+		return finder.arbsClassificationByType(type);
+	}
+
+	public static class TamsMithraAccountArbsClassificationByTypeFinderSubclass<ParentOwnerType> extends TamsMithraArbsClassificationFinder.TamsMithraArbsClassificationSingleFinderForRelatedClasses<ParentOwnerType, TamsMithraArbsClassification, TamsMithraAccount>
+	{
+		private String type;
+		public TamsMithraAccountArbsClassificationByTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String type)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.type = type;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "arbsClassificationByType";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TamsMithraAccountArbsClassificationByTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.type
+			);
+		}
+
+		protected TamsMithraArbsClassification plainValueOf(TamsMithraAccount _obj)
+		{
+			return _obj.getArbsClassificationByType(type);
+		}
+
+		protected TamsMithraArbsClassificationList plainListValueOf(Object _obj)
+		{
+			return ((TamsMithraAccountList)_obj).getArbsClassificationByTypes(type);
+		}
+	}
+
+	public static Operation eq(TamsMithraAccount other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountNumber());
+	}
+
+	public static TamsMithraAccountSingleFinder<TamsMithraAccount, Object, TamsMithraAccount> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountNumber()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountNumber()
+			, accountNumber()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			trialId()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TamsMithraAccount");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
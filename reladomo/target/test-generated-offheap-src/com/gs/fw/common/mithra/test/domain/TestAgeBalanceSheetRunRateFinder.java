@@ -0,0 +1,736 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestAgeBalanceSheetRunRateFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestAgeBalanceSheetRunRate";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRate";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRate");
+	private static final TestAgeBalanceSheetRunRateSingleFinder<TestAgeBalanceSheetRunRate, Object, TestAgeBalanceSheetRunRate> finder = new TestAgeBalanceSheetRunRateSingleFinder<TestAgeBalanceSheetRunRate, Object, TestAgeBalanceSheetRunRate>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestAgeBalanceSheetRunRateFinder.TestAgeBalanceSheetRunRateRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("tradingdeskLevelTypeId");
+		finderMethodMap.addNormalAttributeName("tradingDeskorDeskHeadId");
+		finderMethodMap.addNormalAttributeName("value");
+		finderMethodMap.addNormalAttributeName("price");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestAgeBalanceSheetRunRate findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestAgeBalanceSheetRunRate findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestAgeBalanceSheetRunRateList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAgeBalanceSheetRunRateList) finder.findMany(operation);
+	}
+
+	public static TestAgeBalanceSheetRunRateList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAgeBalanceSheetRunRateList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestAgeBalanceSheetRunRate findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestAgeBalanceSheetRunRate) FinderUtils.findOne(found);
+	}
+
+	public static TestAgeBalanceSheetRunRate findByPrimaryKey(int tradingdeskLevelTypeId, int tradingDeskorDeskHeadId, Timestamp businessDate)
+	{
+		return finder.findByPrimaryKey(tradingdeskLevelTypeId, tradingDeskorDeskHeadId, businessDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestAgeBalanceSheetRunRateData _castedTargetData = (TestAgeBalanceSheetRunRateData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTradingdeskLevelTypeId() && _bean.getI2AsInteger() == _castedTargetData.getTradingDeskorDeskHeadId())
+			{
+				return TestAgeBalanceSheetRunRateFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static TestAgeBalanceSheetRunRate zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestAgeBalanceSheetRunRate) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestAgeBalanceSheetRunRateRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestAgeBalanceSheetRunRate, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> tradingdeskLevelTypeId;
+		private IntegerAttribute<ParentOwnerType> tradingDeskorDeskHeadId;
+		private DoubleAttribute<ParentOwnerType> value;
+		private DoubleAttribute<ParentOwnerType> price;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.businessDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestAgeBalanceSheetRunRateRelatedFinder()
+		{
+			super();
+		}
+
+		public TestAgeBalanceSheetRunRateRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestAgeBalanceSheetRunRateFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestAgeBalanceSheetRunRateFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestAgeBalanceSheetRunRateFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.tradingdeskLevelTypeId();
+			attributes[1] = this.tradingDeskorDeskHeadId();
+			attributes[2] = this.value();
+			attributes[3] = this.price();
+			attributes[4] = this.businessDateFrom();
+			attributes[5] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestAgeBalanceSheetRunRate findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestAgeBalanceSheetRunRateFinder.findOne(operation, false);
+		}
+
+		public TestAgeBalanceSheetRunRate findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestAgeBalanceSheetRunRateFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestAgeBalanceSheetRunRate> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestAgeBalanceSheetRunRateList((Operation) operation);
+		}
+
+		public MithraList<? extends TestAgeBalanceSheetRunRate> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestAgeBalanceSheetRunRateList result = (TestAgeBalanceSheetRunRateList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestAgeBalanceSheetRunRate> constructEmptyList()
+		{
+			return new TestAgeBalanceSheetRunRateList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 269266879;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> tradingdeskLevelTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.tradingdeskLevelTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DESK_LEVEL_TYPE_ID","","tradingdeskLevelTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestAgeBalanceSheetRunRateFinder.tradingdeskLevelTypeId(), this.mapper, this.zGetValueSelector());
+				this.tradingdeskLevelTypeId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> tradingDeskorDeskHeadId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.tradingDeskorDeskHeadId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DESK_ID","","tradingDeskorDeskHeadId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestAgeBalanceSheetRunRateFinder.tradingDeskorDeskHeadId(), this.mapper, this.zGetValueSelector());
+				this.tradingDeskorDeskHeadId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> value()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.value;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("VALUE","","value",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,40,4,1, false) :
+					new MappedDoubleAttribute(TestAgeBalanceSheetRunRateFinder.value(), this.mapper, this.zGetValueSelector());
+				this.value = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> price()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.price;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PRICE","","price",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,32,4,0, false) :
+					new MappedDoubleAttribute(TestAgeBalanceSheetRunRateFinder.price(), this.mapper, this.zGetValueSelector());
+				this.price = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestAgeBalanceSheetRunRateFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAgeBalanceSheetRunRateFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestAgeBalanceSheetRunRateFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAgeBalanceSheetRunRateFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestAgeBalanceSheetRunRateFinder.businessDateInfinity,false,true,TestAgeBalanceSheetRunRateFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestAgeBalanceSheetRunRateFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestAgeBalanceSheetRunRateFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestAgeBalanceSheetRunRateFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestAgeBalanceSheetRunRateCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestAgeBalanceSheetRunRateRelatedFinder<ParentOwnerType, ReturnType, TestAgeBalanceSheetRunRateList, OwnerType>
+	{
+		public TestAgeBalanceSheetRunRateCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestAgeBalanceSheetRunRateCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestAgeBalanceSheetRunRateCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAgeBalanceSheetRunRateCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestAgeBalanceSheetRunRateSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestAgeBalanceSheetRunRateRelatedFinder<ParentOwnerType, ReturnType, TestAgeBalanceSheetRunRateList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestAgeBalanceSheetRunRateSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestAgeBalanceSheetRunRateSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestAgeBalanceSheetRunRate other)
+		{
+			return this.tradingdeskLevelTypeId().eq(other.getTradingdeskLevelTypeId())
+			.and(this.tradingDeskorDeskHeadId().eq(other.getTradingDeskorDeskHeadId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestAgeBalanceSheetRunRate findByPrimaryKey(int tradingdeskLevelTypeId, int tradingDeskorDeskHeadId, Timestamp businessDate)
+		{
+			TestAgeBalanceSheetRunRate _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(tradingdeskLevelTypeId);
+				_bean.setI2AsInteger(tradingDeskorDeskHeadId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestAgeBalanceSheetRunRate) _related;
+			if (_related == null)
+			{
+				_op = this.tradingdeskLevelTypeId().eq(tradingdeskLevelTypeId).and(this.tradingDeskorDeskHeadId().eq(tradingDeskorDeskHeadId)).and(this.businessDate().eq(businessDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestAgeBalanceSheetRunRateSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestAgeBalanceSheetRunRateSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAgeBalanceSheetRunRateSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to AGE_BALANCESHEET_RUNRATE.DESK_LEVEL_TYPE_ID **/
+	public static IntegerAttribute<TestAgeBalanceSheetRunRate> tradingdeskLevelTypeId()
+	{
+		return finder.tradingdeskLevelTypeId();
+	}
+
+	/** maps to AGE_BALANCESHEET_RUNRATE.DESK_ID **/
+	public static IntegerAttribute<TestAgeBalanceSheetRunRate> tradingDeskorDeskHeadId()
+	{
+		return finder.tradingDeskorDeskHeadId();
+	}
+
+	/** maps to AGE_BALANCESHEET_RUNRATE.VALUE **/
+	public static DoubleAttribute<TestAgeBalanceSheetRunRate> value()
+	{
+		return finder.value();
+	}
+
+	/** maps to AGE_BALANCESHEET_RUNRATE.PRICE **/
+	public static DoubleAttribute<TestAgeBalanceSheetRunRate> price()
+	{
+		return finder.price();
+	}
+
+	/** maps to AGE_BALANCESHEET_RUNRATE.FROM_Z **/
+	public static TimestampAttribute<TestAgeBalanceSheetRunRate> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to AGE_BALANCESHEET_RUNRATE.THRU_Z **/
+	public static TimestampAttribute<TestAgeBalanceSheetRunRate> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestAgeBalanceSheetRunRate> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static Operation eq(TestAgeBalanceSheetRunRate other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(tradingdeskLevelTypeId());
+	}
+
+	public static TestAgeBalanceSheetRunRateSingleFinder<TestAgeBalanceSheetRunRate, Object, TestAgeBalanceSheetRunRate> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			tradingdeskLevelTypeId()
+			, tradingDeskorDeskHeadId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			tradingdeskLevelTypeId()
+			, tradingdeskLevelTypeId()
+			, tradingDeskorDeskHeadId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = value();
+		result[1] = price();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRate");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeDangerousNoLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,616 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestAgeBalanceSheetRunRateNullAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericNonAuditedTemporalDirector(
+		TestAgeBalanceSheetRunRateNullFinder.businessDate()
+	, TestAgeBalanceSheetRunRateNullFinder.zGetDoubleAttributes(),TestAgeBalanceSheetRunRateNullFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestAgeBalanceSheetRunRateNull.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestAgeBalanceSheetRunRateNullAbstract(Timestamp businessDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestAgeBalanceSheetRunRateNullFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestAgeBalanceSheetRunRateNullData zSynchronizedGetData()
+	{
+		return (TestAgeBalanceSheetRunRateNullData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestAgeBalanceSheetRunRateNullFinder.businessDate().dataMatches(current, this.businessDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestAgeBalanceSheetRunRateNull zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestAgeBalanceSheetRunRateNull original = (TestAgeBalanceSheetRunRateNull) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public void inactivateForArchiving(Timestamp processingDateTo, Timestamp businessDateTo) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("inactivateForArchiving is only supported for dated objects with a processing date");
+	}
+
+	public TestAgeBalanceSheetRunRateNull copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestAgeBalanceSheetRunRateNull) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestAgeBalanceSheetRunRateNull copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestAgeBalanceSheetRunRateNull) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			true);
+	}
+
+	public TestAgeBalanceSheetRunRateNull getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestAgeBalanceSheetRunRateNullAbstract result = (TestAgeBalanceSheetRunRateNullAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestAgeBalanceSheetRunRateNull ) result;
+	}
+
+	public TestAgeBalanceSheetRunRateNull zFindOriginal()
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData) this.currentData;
+		Operation op;
+		op = TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId().eq(data.getTradingdeskLevelTypeId());
+		op = op.and(TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId().eq(data.getTradingDeskorDeskHeadId()));
+		op = op.and(TestAgeBalanceSheetRunRateNullFinder.businessDate().eq(this.getBusinessDate()));
+		return TestAgeBalanceSheetRunRateNullFinder.findOne(op);
+	}
+
+	public TestAgeBalanceSheetRunRateNull getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.businessDate;
+		TestAgeBalanceSheetRunRateNullAbstract result = (TestAgeBalanceSheetRunRateNullAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestAgeBalanceSheetRunRateNull ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestAgeBalanceSheetRunRateNull copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestAgeBalanceSheetRunRateNull) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestAgeBalanceSheetRunRateNull copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestAgeBalanceSheetRunRateNull) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData) this.currentData;
+			Operation op = TestAgeBalanceSheetRunRateNullFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId().eq(data.getTradingDeskorDeskHeadId()));
+			op = op.and(TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId().eq(data.getTradingdeskLevelTypeId()));
+			return TestAgeBalanceSheetRunRateNullFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isPriceNull()
+	{
+		return this.zSynchronizedGetData().isPriceNull();
+	}
+
+	public boolean isTradingDeskorDeskHeadIdNull()
+	{
+		return this.zSynchronizedGetData().isTradingDeskorDeskHeadIdNull();
+	}
+
+	public boolean isTradingdeskLevelTypeIdNull()
+	{
+		return this.zSynchronizedGetData().isTradingdeskLevelTypeIdNull();
+	}
+
+	public boolean isValueNull()
+	{
+		return this.zSynchronizedGetData().isValueNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateNullFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAgeBalanceSheetRunRateNullFinder.businessDateTo(), newValue, false );
+	}
+
+	public double getPrice()
+	{
+		TestAgeBalanceSheetRunRateNullData data = this.zSynchronizedGetData();
+		if (data.isPriceNull()) MithraNullPrimitiveException.throwNew("price", data);
+		return data.getPrice();
+	}
+
+	public void setPrice(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateNullFinder.price(), newValue, false ,true);
+	}
+
+	public void setPriceUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateNullFinder.price(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementPrice(double increment)
+	{
+		zIncrement(increment, TestAgeBalanceSheetRunRateNullFinder.price(), false);
+	}
+
+	public void incrementPriceUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestAgeBalanceSheetRunRateNullFinder.price(), false);
+	}
+
+	public int getTradingDeskorDeskHeadId()
+	{
+		return this.zSynchronizedGetData().getTradingDeskorDeskHeadId();
+	}
+
+	public void setTradingDeskorDeskHeadId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId(), newValue, true ,false);
+	}
+
+	public void setTradingDeskorDeskHeadIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getTradingdeskLevelTypeId()
+	{
+		return this.zSynchronizedGetData().getTradingdeskLevelTypeId();
+	}
+
+	public void setTradingdeskLevelTypeId(int newValue)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId(), newValue, true ,false);
+	}
+
+	public void setTradingdeskLevelTypeIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public double getValue()
+	{
+		TestAgeBalanceSheetRunRateNullData data = this.zSynchronizedGetData();
+		if (data.isValueNull()) MithraNullPrimitiveException.throwNew("value", data);
+		return data.getValue();
+	}
+
+	public void setValue(double newValue)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateNullFinder.value(), newValue, false ,true);
+	}
+
+	public void setValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestAgeBalanceSheetRunRateNullFinder.value(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementValue(double increment)
+	{
+		zIncrement(increment, TestAgeBalanceSheetRunRateNullFinder.value(), false);
+	}
+
+	public void incrementValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestAgeBalanceSheetRunRateNullFinder.value(), false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestAgeBalanceSheetRunRateNullFinder.value(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestAgeBalanceSheetRunRateNullFinder.price(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestAgeBalanceSheetRunRateNullData data2 = (TestAgeBalanceSheetRunRateNullData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setValueNull()
+	{
+		zNullify(TestAgeBalanceSheetRunRateNullFinder.value(), false);
+	}
+
+	public void setValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestAgeBalanceSheetRunRateNullFinder.value(), false, exclusiveUntil);
+	}
+
+	public void setPriceNull()
+	{
+		zNullify(TestAgeBalanceSheetRunRateNullFinder.price(), false);
+	}
+
+	public void setPriceNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestAgeBalanceSheetRunRateNullFinder.price(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestAgeBalanceSheetRunRateNullData _newData = (TestAgeBalanceSheetRunRateNullData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestAgeBalanceSheetRunRateNullData _newData = (TestAgeBalanceSheetRunRateNullData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestAgeBalanceSheetRunRateNullData _newData = (TestAgeBalanceSheetRunRateNullData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestAgeBalanceSheetRunRateNullData.TestAgeBalanceSheetRunRateNullDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestAgeBalanceSheetRunRateNullData data = (TestAgeBalanceSheetRunRateNullData) TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestAgeBalanceSheetRunRateNull has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestAgeBalanceSheetRunRateNullData( TestAgeBalanceSheetRunRateNullData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestAgeBalanceSheetRunRateNullData( TestAgeBalanceSheetRunRateNullData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+	}
+
+	public TestAgeBalanceSheetRunRateNull getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestAgeBalanceSheetRunRateNullAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAgeBalanceSheetRunRateNullAbstract from = (TestAgeBalanceSheetRunRateNullAbstract) f;
+		TestAgeBalanceSheetRunRateNullData newData = from.zSynchronizedGetData();
+		if (from.isPriceNull())
+		{
+			this.setPriceNull();
+		}
+		else
+		{
+			this.setPrice(newData.getPrice());
+		}
+
+		if (from.isValueNull())
+		{
+			this.setValueNull();
+		}
+		else
+		{
+			this.setValue(newData.getValue());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAgeBalanceSheetRunRateNullData _newData = (TestAgeBalanceSheetRunRateNullData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestAgeBalanceSheetRunRateNullData _newData = (TestAgeBalanceSheetRunRateNullData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestAgeBalanceSheetRunRateNullAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestAgeBalanceSheetRunRateNullAbstract from = (TestAgeBalanceSheetRunRateNullAbstract)f;
+		TestAgeBalanceSheetRunRateNullData newData = from.zSynchronizedGetData();
+		if (from.isPriceNull())
+		{
+			this.setPriceNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setPriceUntil(newData.getPrice(), exclusiveUntil);
+		}
+
+		if (from.isValueNull())
+		{
+			this.setValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setValueUntil(newData.getValue(), exclusiveUntil);
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.price(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.value(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.price(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.tradingDeskorDeskHeadId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.tradingdeskLevelTypeId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TestAgeBalanceSheetRunRateNullFinder.value(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestAgeBalanceSheetRunRateNullData data = ((TestAgeBalanceSheetRunRateNullData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestAgeBalanceSheetRunRateNullData data = ((TestAgeBalanceSheetRunRateNullData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestAgeBalanceSheetRunRateNullData data = ((TestAgeBalanceSheetRunRateNullData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance()), TestAgeBalanceSheetRunRateNullFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestAgeBalanceSheetRunRateNullData localData = (TestAgeBalanceSheetRunRateNullData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
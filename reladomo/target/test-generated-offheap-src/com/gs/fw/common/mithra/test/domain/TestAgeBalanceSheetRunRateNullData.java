@@ -0,0 +1,934 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface TestAgeBalanceSheetRunRateNullData
+extends MithraDataObject
+{
+	public static final int OFF_HEAP_DATA_SIZE = 48;
+	boolean isBusinessDateFromNull();
+	Timestamp getBusinessDateFrom();
+	void setBusinessDateFrom(Timestamp value);
+	void setBusinessDateFromNull();
+	long zGetBusinessDateFromAsLong();
+	boolean isBusinessDateToNull();
+	Timestamp getBusinessDateTo();
+	void setBusinessDateTo(Timestamp value);
+	void setBusinessDateToNull();
+	long zGetBusinessDateToAsLong();
+	boolean isPriceNull();
+	double getPrice();
+	void setPrice(double value);
+	void setPriceNull();
+	boolean isTradingDeskorDeskHeadIdNull();
+	int getTradingDeskorDeskHeadId();
+	void setTradingDeskorDeskHeadId(int value);
+	void setTradingDeskorDeskHeadIdNull();
+	boolean isTradingdeskLevelTypeIdNull();
+	int getTradingdeskLevelTypeId();
+	void setTradingdeskLevelTypeId(int value);
+	void setTradingdeskLevelTypeIdNull();
+	boolean isValueNull();
+	double getValue();
+	void setValue(double value);
+	void setValueNull();
+	byte zGetDataVersion();
+	void zSetDataVersion(byte version);
+	void zIncrementDataVersion();
+	public class TestAgeBalanceSheetRunRateNullDataOnHeap implements TestAgeBalanceSheetRunRateNullData
+	{
+		private byte _dataVersion;
+		private byte isNullBits0 = 0;
+		private Timestamp businessDateFrom;
+		private Timestamp businessDateTo;
+		private double price;
+		private int tradingDeskorDeskHeadId;
+		private int tradingdeskLevelTypeId;
+		private double value;
+		public boolean isBusinessDateFromNull()
+		{
+			return this.getBusinessDateFrom() == null;
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return this.getBusinessDateTo() == null;
+		}
+
+		public boolean isTradingDeskorDeskHeadIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTradingdeskLevelTypeIdNull()
+		{
+			return false;
+		}
+
+		public boolean isValueNull()
+		{
+			return (isNullBits0 & 1) != 0 ;
+		}
+
+		public boolean isPriceNull()
+		{
+			return (isNullBits0 & 1 << 1) != 0 ;
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate());
+			out.writeDouble(this.price);
+			out.writeInt(this.tradingDeskorDeskHeadId);
+			out.writeInt(this.tradingdeskLevelTypeId);
+			out.writeDouble(this.value);
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			out.writeByte(this.isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return this.businessDateFrom;
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			if (businessDateFrom == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateFrom.getTime();
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(value, TestAgeBalanceSheetRunRateNullFinder.isFullCache(), TestAgeBalanceSheetRunRateNullFinder.isOffHeap());
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return this.businessDateTo;
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			if (businessDateTo == null) return TimestampPool.OFF_HEAP_NULL;
+			return businessDateTo.getTime();
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if ((value == null?NullDataTimestamp.getInstance().getTime():value.getTime()) != (this.businessDateTo == null?NullDataTimestamp.getInstance().getTime():this.businessDateTo.getTime()))
+			{
+				zIncrementDataVersion();
+			}
+
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(value, TestAgeBalanceSheetRunRateNullFinder.isFullCache(), TestAgeBalanceSheetRunRateNullFinder.isOffHeap());
+		}
+
+		public void setBusinessDateToNull()
+		{
+			this.setBusinessDateTo(null);
+		}
+
+		public double getPrice()
+		{
+			return this.price;
+		}
+
+		public void setPrice(double value)
+		{
+			this.price = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+		}
+
+		public int getTradingDeskorDeskHeadId()
+		{
+			return this.tradingDeskorDeskHeadId;
+		}
+
+		public void setTradingDeskorDeskHeadId(int value)
+		{
+			this.tradingDeskorDeskHeadId = value;
+		}
+
+		public void setTradingDeskorDeskHeadIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getTradingdeskLevelTypeId()
+		{
+			return this.tradingdeskLevelTypeId;
+		}
+
+		public void setTradingdeskLevelTypeId(int value)
+		{
+			this.tradingdeskLevelTypeId = value;
+		}
+
+		public void setTradingdeskLevelTypeIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getValue()
+		{
+			return this.value;
+		}
+
+		public void setValue(double value)
+		{
+			this.value = value;
+			isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+		}
+
+		public void setValueNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1);
+		}
+
+		public void setPriceNull()
+		{
+			isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+		}
+
+		public byte zGetIsNullBits0()
+		{
+			return this.isNullBits0;
+		}
+
+		public void zSetIsNullBits0(byte newValue)
+		{
+			this.isNullBits0 = newValue;
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return _dataVersion; 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			this._dataVersion = version; 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			_dataVersion++;
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+		}
+
+		protected void copyInto(TestAgeBalanceSheetRunRateNullDataOnHeap copy, boolean withRelationships)
+		{
+			copy.isNullBits0 = this.isNullBits0;
+			copy.businessDateFrom = this.businessDateFrom;
+			copy.businessDateTo = this.businessDateTo;
+			copy.price = this.price;
+			copy.tradingDeskorDeskHeadId = this.tradingDeskorDeskHeadId;
+			copy.tradingdeskLevelTypeId = this.tradingdeskLevelTypeId;
+			copy.value = this.value;
+			if (withRelationships)
+			{
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.isNullBits0 = in.readByte();
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestAgeBalanceSheetRunRateNullFinder.isFullCache(), TestAgeBalanceSheetRunRateNullFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate()), TestAgeBalanceSheetRunRateNullFinder.isFullCache(), TestAgeBalanceSheetRunRateNullFinder.isOffHeap());
+			this.price = in.readDouble();
+			this.tradingDeskorDeskHeadId = in.readInt();
+			this.tradingdeskLevelTypeId = in.readInt();
+			this.value = in.readDouble();
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			final TestAgeBalanceSheetRunRateNullData otherData = (TestAgeBalanceSheetRunRateNullData) other;
+			if (getTradingDeskorDeskHeadId() != otherData.getTradingDeskorDeskHeadId())
+			{
+				return false;
+			}
+
+			if (getTradingdeskLevelTypeId() != otherData.getTradingdeskLevelTypeId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDateFrom);
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.businessDateTo, TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate());
+			out.writeInt(this.tradingDeskorDeskHeadId);
+			out.writeInt(this.tradingdeskLevelTypeId);
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			this.businessDateFrom = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestAgeBalanceSheetRunRateNullFinder.isFullCache(), TestAgeBalanceSheetRunRateNullFinder.isOffHeap());
+			this.businessDateTo = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate()), TestAgeBalanceSheetRunRateNullFinder.isFullCache(), TestAgeBalanceSheetRunRateNullFinder.isOffHeap());
+			this.tradingDeskorDeskHeadId = in.readInt();
+			this.tradingdeskLevelTypeId = in.readInt();
+		}
+
+		public void clearRelationships()
+		{
+			clearAllDirectRefs();
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			TestAgeBalanceSheetRunRateNullDataOffHeap data = new TestAgeBalanceSheetRunRateNullDataOffHeap();
+			data.setBusinessDateFrom(this.getBusinessDateFrom());
+			data.setBusinessDateTo(this.getBusinessDateTo());
+			data.setPrice(this.getPrice());
+			if (this.isPriceNull()) data.setPriceNull();
+			data.setTradingDeskorDeskHeadId(this.getTradingDeskorDeskHeadId());
+			data.setTradingdeskLevelTypeId(this.getTradingdeskLevelTypeId());
+			data.setValue(this.getValue());
+			if (this.isValueNull()) data.setValueNull();
+			return data;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestAgeBalanceSheetRunRateNullData testAgeBalanceSheetRunRateNullData = (TestAgeBalanceSheetRunRateNullData) newData;
+			this.setBusinessDateFrom(testAgeBalanceSheetRunRateNullData.getBusinessDateFrom());
+			this.setBusinessDateTo(testAgeBalanceSheetRunRateNullData.getBusinessDateTo());
+			this.setPrice(testAgeBalanceSheetRunRateNullData.getPrice());
+			if (testAgeBalanceSheetRunRateNullData.isPriceNull()) this.setPriceNull();
+			this.setValue(testAgeBalanceSheetRunRateNullData.getValue());
+			if (testAgeBalanceSheetRunRateNullData.isValueNull()) this.setValueNull();
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestAgeBalanceSheetRunRateNullData other = (TestAgeBalanceSheetRunRateNullData) newData;
+			if ( isPriceNull() != other.isPriceNull() || Math.abs(getPrice() - other.getPrice()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isValueNull() != other.isValueNull() || Math.abs(getValue() - other.getValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestAgeBalanceSheetRunRateNullDataOnHeap copy = new TestAgeBalanceSheetRunRateNullDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestAgeBalanceSheetRunRateNullDataOnHeap copy = new TestAgeBalanceSheetRunRateNullDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "tradingDeskorDeskHeadId: "+(""+getTradingDeskorDeskHeadId())+ " / ";
+			result += "tradingdeskLevelTypeId: "+(""+getTradingdeskLevelTypeId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestAgeBalanceSheetRunRateNullData otherData = (TestAgeBalanceSheetRunRateNullData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestAgeBalanceSheetRunRateNullData otherData = (TestAgeBalanceSheetRunRateNullData) other;
+			if ((isBusinessDateToNull() ? NullDataTimestamp.getInstance().getTime():zGetBusinessDateToAsLong()) != (otherData.isBusinessDateToNull() ? NullDataTimestamp.getInstance().getTime():otherData.zGetBusinessDateToAsLong()))
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNullData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			if (isBusinessDateToNull() != ((TestAgeBalanceSheetRunRateNullData) newData).isBusinessDateToNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNullData";
+		}
+	}
+
+	public class TestAgeBalanceSheetRunRateNullDataOffHeap extends MithraOffHeapDataObject implements TestAgeBalanceSheetRunRateNullData
+	{
+		private static OffHeapDataStorage _storage;
+		public OffHeapDataStorage zGetStorage() 
+		{
+			return _storage; 
+		}
+
+		public static void zSetStorage(OffHeapDataStorage storage)
+		{
+			if (_storage != null) _storage.destroy();
+			_storage = storage;
+		}
+
+		public TestAgeBalanceSheetRunRateNullDataOffHeap()
+		{
+			super();
+			Timestamp value = null;
+			this.zSetTimestamp(_storage, value, 16);
+			this.zSetTimestamp(_storage, value, 24);
+		}
+
+		public TestAgeBalanceSheetRunRateNullDataOffHeap(MutableInteger offset)
+		{
+			super(offset.intValue());
+		}
+
+		public boolean isBusinessDateFromNull()
+		{
+			return zIsTimestampNull(_storage, 16);
+		}
+
+		public boolean isBusinessDateToNull()
+		{
+			return zIsTimestampNull(_storage, 24);
+		}
+
+		public boolean isPriceNull()
+		{
+			return zIsNull(_storage, 4, 0);
+		}
+
+		public boolean isTradingDeskorDeskHeadIdNull()
+		{
+			return false;
+		}
+
+		public boolean isTradingdeskLevelTypeIdNull()
+		{
+			return false;
+		}
+
+		public boolean isValueNull()
+		{
+			return zIsNull(_storage, 4, 1);
+		}
+
+		public void zSerializeFullData(ObjectOutput out) throws IOException
+		{
+			zWriteNullBits(out);
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate());
+			out.writeDouble(this.getPrice());
+			out.writeInt(this.getTradingDeskorDeskHeadId());
+			out.writeInt(this.getTradingdeskLevelTypeId());
+			out.writeDouble(this.getValue());
+		}
+
+		private void zWriteNullBits(ObjectOutput out) throws IOException
+		{
+			byte isNullBits0 = 0;
+			if (isValueNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1);
+			}
+
+			if (isPriceNull())
+			{
+				isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+			}
+
+			out.writeByte(isNullBits0);
+		}
+
+		public Timestamp getBusinessDateFrom()
+		{
+			return zGetTimestamp(_storage, 16);
+		}
+
+		public long zGetBusinessDateFromAsLong()
+		{
+			return zGetLong(_storage, 16);
+		}
+
+		public void setBusinessDateFrom(Timestamp value)
+		{
+			zSetTimestamp(_storage, value, 16);
+		}
+
+		public void setBusinessDateFromNull()
+		{
+			this.setBusinessDateFrom(null);
+		}
+
+		public Timestamp getBusinessDateTo()
+		{
+			return zGetTimestamp(_storage, 24);
+		}
+
+		public long zGetBusinessDateToAsLong()
+		{
+			return zGetLong(_storage, 24);
+		}
+
+		public void setBusinessDateTo(Timestamp value)
+		{
+			if ((value == null?NullDataTimestamp.getInstance().getTime():value.getTime()) != (this.isBusinessDateToNull()?NullDataTimestamp.getInstance().getTime():this.zGetBusinessDateToAsLong()))
+			{
+				zIncrementDataVersion();
+			}
+
+			zSetTimestamp(_storage, value, 24);
+		}
+
+		public void setBusinessDateToNull()
+		{
+			this.setBusinessDateTo(null);
+		}
+
+		public double getPrice()
+		{
+			return zGetDouble(_storage, 32);
+		}
+
+		public void setPrice(double value)
+		{
+			zSetDouble(_storage, value, 32, 4, 0);
+		}
+
+		public int getTradingDeskorDeskHeadId()
+		{
+			return zGetInteger(_storage, 8);
+		}
+
+		public void setTradingDeskorDeskHeadId(int value)
+		{
+			zSetInteger(_storage, value, 8, -1, -1);
+		}
+
+		public void setTradingDeskorDeskHeadIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public int getTradingdeskLevelTypeId()
+		{
+			return zGetInteger(_storage, 12);
+		}
+
+		public void setTradingdeskLevelTypeId(int value)
+		{
+			zSetInteger(_storage, value, 12, -1, -1);
+		}
+
+		public void setTradingdeskLevelTypeIdNull()
+		{
+			throw new RuntimeException("should never be called");
+		}
+
+		public double getValue()
+		{
+			return zGetDouble(_storage, 40);
+		}
+
+		public void setValue(double value)
+		{
+			zSetDouble(_storage, value, 40, 4, 1);
+		}
+
+		public void setValueNull()
+		{
+			zSetNull(_storage, 4, 1);
+		}
+
+		public void setPriceNull()
+		{
+			zSetNull(_storage, 4, 0);
+		}
+
+		public byte zGetDataVersion() 
+		{
+			return zGetByte(_storage, 0); 
+		}
+
+		public void zSetDataVersion(byte version) 
+		{
+			zSetByte(_storage, version, 0, -1 , -1); 
+		}
+
+		public void zIncrementDataVersion()
+		{
+			byte _dataVersion = (byte) (zGetDataVersion() + 1);
+			if (_dataVersion > 120) _dataVersion = (byte) 0;
+			zSetDataVersion(_dataVersion);
+		}
+
+		protected void copyInto(TestAgeBalanceSheetRunRateNullDataOnHeap copy, boolean withRelationships)
+		{
+			copy.businessDateFrom = this.getBusinessDateFrom();
+			copy.businessDateTo = this.getBusinessDateTo();
+			copy.price = this.getPrice();
+			copy.tradingDeskorDeskHeadId = this.getTradingDeskorDeskHeadId();
+			copy.tradingdeskLevelTypeId = this.getTradingdeskLevelTypeId();
+			copy.value = this.getValue();
+			if (isValueNull())
+			{
+				copy.setValueNull();
+			}
+
+			if (isPriceNull())
+			{
+				copy.setPriceNull();
+			}
+		}
+
+		public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			byte isNullBits0 = in.readByte();
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetDouble(_storage, in.readDouble(), 32, 4, 0, (isNullBits0 & 1 << 1) != 0 );
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+			zSetDouble(_storage, in.readDouble(), 40, 4, 1, (isNullBits0 & 1) != 0 );
+		}
+
+		public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			if (this == other) return true;
+			if (other instanceof TestAgeBalanceSheetRunRateNullDataOffHeap)
+			{
+				final TestAgeBalanceSheetRunRateNullDataOffHeap otherData = (TestAgeBalanceSheetRunRateNullDataOffHeap) other;
+				if (this.zGetInteger(_storage, 8) != otherData.zGetInteger(_storage, 8))
+				{
+					return false;
+				}
+
+				if (this.zGetInteger(_storage, 12) != otherData.zGetInteger(_storage, 12))
+				{
+					return false;
+				}
+
+				return true;
+			}
+			else
+			{
+				return slowHasSamePrimaryKeyIgnoringAsOfAttributes(other);
+			}
+		}
+
+		private boolean slowHasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+		{
+			final TestAgeBalanceSheetRunRateNullData otherData = (TestAgeBalanceSheetRunRateNullData) other;
+			if (getTradingDeskorDeskHeadId() != otherData.getTradingDeskorDeskHeadId())
+			{
+				return false;
+			}
+
+			if (getTradingdeskLevelTypeId() != otherData.getTradingdeskLevelTypeId())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+		{
+			MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.zGetBusinessDateFromAsLong());
+			MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, this.zGetBusinessDateToAsLong(), TestAgeBalanceSheetRunRateNullFinder.businessDate().getInfinityDate());
+			out.writeInt(this.getTradingDeskorDeskHeadId());
+			out.writeInt(this.getTradingdeskLevelTypeId());
+		}
+
+		public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 16);
+			zSetTimestamp(_storage, (Timestamp)in.readObject(), 24);
+			zSetInteger(_storage, in.readInt(), 8, -1, -1, false);
+			zSetInteger(_storage, in.readInt(), 12, -1, -1, false);
+		}
+
+		public void clearRelationships()
+		{
+		}
+
+		public void clearAllDirectRefs()
+		{
+		}
+
+		public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+		{
+		}
+
+		public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+		{
+		}
+
+		public MithraOffHeapDataObject zCopyOffHeap()
+		{
+			return this;
+		}
+
+		public void copyNonPkAttributes(MithraDataObject newData)
+		{
+			final TestAgeBalanceSheetRunRateNullData testAgeBalanceSheetRunRateNullData = (TestAgeBalanceSheetRunRateNullData) newData;
+			this.setBusinessDateFrom(testAgeBalanceSheetRunRateNullData.getBusinessDateFrom());
+			this.setBusinessDateTo(testAgeBalanceSheetRunRateNullData.getBusinessDateTo());
+			this.setPrice(testAgeBalanceSheetRunRateNullData.getPrice());
+			if (testAgeBalanceSheetRunRateNullData.isPriceNull()) this.setPriceNull();
+			this.setValue(testAgeBalanceSheetRunRateNullData.getValue());
+			if (testAgeBalanceSheetRunRateNullData.isValueNull()) this.setValueNull();
+			this._storage.markDataDirty(zGetOffset());
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+		{
+			return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+		}
+
+		public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+		{
+			final TestAgeBalanceSheetRunRateNullData other = (TestAgeBalanceSheetRunRateNullData) newData;
+			if ( isPriceNull() != other.isPriceNull() || Math.abs(getPrice() - other.getPrice()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			if ( isValueNull() != other.isValueNull() || Math.abs(getValue() - other.getValue()) > toleranceForFloatingPointFields)
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public MithraDataObject copy()
+		{
+			TestAgeBalanceSheetRunRateNullDataOnHeap copy = new TestAgeBalanceSheetRunRateNullDataOnHeap();
+			this.copyInto(copy, true);
+			return copy;
+		}
+
+		public MithraDataObject copy(boolean withRelationships)
+		{
+			TestAgeBalanceSheetRunRateNullDataOnHeap copy = new TestAgeBalanceSheetRunRateNullDataOnHeap();
+			this.copyInto(copy, withRelationships);
+			return copy;
+		}
+
+		public String zGetPrintablePrimaryKey()
+		{
+			String result = "";
+			result += "businessDateFrom: "+(isBusinessDateFromNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateFromAsLong()))+ " / ";
+			result += "businessDateTo: "+(isBusinessDateToNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(zGetBusinessDateToAsLong()))+ " / ";
+			result += "tradingDeskorDeskHeadId: "+(""+getTradingDeskorDeskHeadId())+ " / ";
+			result += "tradingdeskLevelTypeId: "+(""+getTradingdeskLevelTypeId())+ " / ";
+			return result;
+		}
+
+		public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+		{
+			boolean result = true;
+			TestAgeBalanceSheetRunRateNullData otherData = (TestAgeBalanceSheetRunRateNullData) other;
+			result &= zGetBusinessDateFromAsLong() == otherData.zGetBusinessDateFromAsLong();
+			return result;
+		}
+
+		public boolean zAsOfAttributesChanged(MithraDataObject other)
+		{
+			TestAgeBalanceSheetRunRateNullData otherData = (TestAgeBalanceSheetRunRateNullData) other;
+			if ((isBusinessDateToNull() ? NullDataTimestamp.getInstance().getTime():zGetBusinessDateToAsLong()) != (otherData.isBusinessDateToNull() ? NullDataTimestamp.getInstance().getTime():otherData.zGetBusinessDateToAsLong()))
+			{
+				return true;
+			}
+
+			if (zGetBusinessDateFromAsLong() != otherData.zGetBusinessDateFromAsLong())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public void zWriteDataClassName(ObjectOutput out) throws IOException
+		{
+		}
+
+		public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNullData";
+		}
+
+		public boolean changed(MithraDataObject newData)
+		{
+			if(zNonPrimaryKeyAttributesChanged(newData))
+			{
+				return true;
+			}
+			else
+			{
+				return zAsOfAttributesChanged(newData);
+			}
+		}
+
+		public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+		{
+			if (isBusinessDateToNull() != ((TestAgeBalanceSheetRunRateNullData) newData).isBusinessDateToNull())
+			{
+				return false;
+			}
+
+			return true;
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+		{
+			return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+		}
+
+		public MithraObjectPortal zGetMithraObjectPortal()
+		{
+			return TestAgeBalanceSheetRunRateNullFinder.getMithraObjectPortal();
+		}
+
+		public Number zGetIdentityValue()
+		{
+			return null;
+		}
+
+		public boolean zHasIdentity()
+		{
+			return false;
+		}
+
+		public void zSetIdentity(Number identityValue)
+		{
+		}
+
+		public String zGetSerializationClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAgeBalanceSheetRunRateNullData";
+		}
+	}
+}
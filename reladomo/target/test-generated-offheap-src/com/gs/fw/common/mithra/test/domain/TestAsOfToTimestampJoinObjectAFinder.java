@@ -0,0 +1,822 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestAsOfToTimestampJoinObjectAFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.TestInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestAsOfToTimestampJoinObjectA";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectA";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectA");
+	private static final TestAsOfToTimestampJoinObjectASingleFinder<TestAsOfToTimestampJoinObjectA, Object, TestAsOfToTimestampJoinObjectA> finder = new TestAsOfToTimestampJoinObjectASingleFinder<TestAsOfToTimestampJoinObjectA, Object, TestAsOfToTimestampJoinObjectA>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestAsOfToTimestampJoinObjectAFinder.TestAsOfToTimestampJoinObjectARelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addRelationshipName("b");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = TestAsOfToTimestampJoinObjectAFinder.businessDate().constructEqualityMapper(TestAsOfToTimestampJoinObjectBFinder.businessDate());
+			result[1] = TestAsOfToTimestampJoinObjectBFinder.businessDate().constructEqualityMapper(TestAsOfToTimestampJoinObjectAFinder.businessDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = TestAsOfToTimestampJoinObjectAFinder.id().eq(2);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestAsOfToTimestampJoinObjectA findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestAsOfToTimestampJoinObjectA findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestAsOfToTimestampJoinObjectAList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAsOfToTimestampJoinObjectAList) finder.findMany(operation);
+	}
+
+	public static TestAsOfToTimestampJoinObjectAList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAsOfToTimestampJoinObjectAList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestAsOfToTimestampJoinObjectA findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestAsOfToTimestampJoinObjectA) FinderUtils.findOne(found);
+	}
+
+	public static TestAsOfToTimestampJoinObjectA findByPrimaryKey(int id, Timestamp businessDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestAsOfToTimestampJoinObjectAData _castedTargetData = (TestAsOfToTimestampJoinObjectAData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return TestAsOfToTimestampJoinObjectAFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestAsOfToTimestampJoinObjectA zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestAsOfToTimestampJoinObjectA) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestAsOfToTimestampJoinObjectARelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestAsOfToTimestampJoinObjectA, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private TestAsOfToTimestampJoinObjectABFinderSubclass<ParentOwnerType> b;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.businessDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestAsOfToTimestampJoinObjectARelatedFinder()
+		{
+			super();
+		}
+
+		public TestAsOfToTimestampJoinObjectARelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectAFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[3];
+			attributes[0] = this.id();
+			attributes[1] = this.businessDateFrom();
+			attributes[2] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.b());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestAsOfToTimestampJoinObjectA findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.findOne(operation, false);
+		}
+
+		public TestAsOfToTimestampJoinObjectA findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestAsOfToTimestampJoinObjectA> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestAsOfToTimestampJoinObjectAList((Operation) operation);
+		}
+
+		public MithraList<? extends TestAsOfToTimestampJoinObjectA> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestAsOfToTimestampJoinObjectAList result = (TestAsOfToTimestampJoinObjectAList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestAsOfToTimestampJoinObjectA> constructEmptyList()
+		{
+			return new TestAsOfToTimestampJoinObjectAList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -793223327;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestAsOfToTimestampJoinObjectAFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestAsOfToTimestampJoinObjectAFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAsOfToTimestampJoinObjectAFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestAsOfToTimestampJoinObjectAFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAsOfToTimestampJoinObjectAFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestAsOfToTimestampJoinObjectAFinder.businessDateInfinity,false,false,TestAsOfToTimestampJoinObjectAFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestAsOfToTimestampJoinObjectAFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public TestAsOfToTimestampJoinObjectBFinder.TestAsOfToTimestampJoinObjectBSingleFinderForRelatedClasses<ParentOwnerType, TestAsOfToTimestampJoinObjectB, TestAsOfToTimestampJoinObjectA> b()
+		{
+			TestAsOfToTimestampJoinObjectABFinderSubclass<ParentOwnerType> result = this.b;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestAsOfToTimestampJoinObjectAFinder.zGetTestAsOfToTimestampJoinObjectABReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestAsOfToTimestampJoinObjectABFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.b = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestAsOfToTimestampJoinObjectACollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestAsOfToTimestampJoinObjectARelatedFinder<ParentOwnerType, ReturnType, TestAsOfToTimestampJoinObjectAList, OwnerType>
+	{
+		public TestAsOfToTimestampJoinObjectACollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestAsOfToTimestampJoinObjectACollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestAsOfToTimestampJoinObjectACollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAsOfToTimestampJoinObjectACollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestAsOfToTimestampJoinObjectASingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestAsOfToTimestampJoinObjectARelatedFinder<ParentOwnerType, ReturnType, TestAsOfToTimestampJoinObjectAList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestAsOfToTimestampJoinObjectASingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestAsOfToTimestampJoinObjectASingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestAsOfToTimestampJoinObjectA other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestAsOfToTimestampJoinObjectA findByPrimaryKey(int id, Timestamp businessDate)
+		{
+			TestAsOfToTimestampJoinObjectA _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestAsOfToTimestampJoinObjectA) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestAsOfToTimestampJoinObjectASingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestAsOfToTimestampJoinObjectASingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAsOfToTimestampJoinObjectASingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper bReverseMapper = null;
+	public static Mapper zGetTestAsOfToTimestampJoinObjectABReverseMapper()
+	{
+		if (bReverseMapper == null)
+		{
+			bReverseMapper = zConstructTestAsOfToTimestampJoinObjectABReverseMapper();
+		}
+
+		return bReverseMapper;
+	}
+
+	private static Mapper bMapper = null;
+	public static Mapper zGetTestAsOfToTimestampJoinObjectABMapper()
+	{
+		if (bMapper == null)
+		{
+			bMapper = zConstructTestAsOfToTimestampJoinObjectABMapper();
+		}
+
+		return bMapper;
+	}
+
+	private static Mapper bPureReverseMapper = null;
+	public static Mapper zGetTestAsOfToTimestampJoinObjectABPureReverseMapper()
+	{
+		if (bPureReverseMapper == null)
+		{
+			bPureReverseMapper = zConstructTestAsOfToTimestampJoinObjectABPureReverseMapper();
+		}
+
+		return bPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestAsOfToTimestampJoinObjectABPureReverseMapper()
+	{
+		Mapper bMapper = TestAsOfToTimestampJoinObjectAFinder.zGetConstantJoin(0);
+		bMapper.setName("b");
+		return bMapper;
+	}
+
+	private static Mapper zConstructTestAsOfToTimestampJoinObjectABReverseMapper()
+	{
+		Mapper bMapperInnerMapper = TestAsOfToTimestampJoinObjectAFinder.zGetConstantJoin(0);
+		Mapper bMapper = new FilteredMapper(bMapperInnerMapper, null, TestAsOfToTimestampJoinObjectBFinder.zGetConstantOperation(0));
+		bMapper.setName("b");
+		return bMapper;
+	}
+
+	private static Mapper zConstructTestAsOfToTimestampJoinObjectABMapper()
+	{
+		Mapper bMapperInnerMapper = TestAsOfToTimestampJoinObjectBFinder.zGetConstantJoin(0);
+		Mapper bMapper = new FilteredMapper(bMapperInnerMapper, TestAsOfToTimestampJoinObjectBFinder.zGetConstantOperation(0), null);
+		bMapper.setName("b_Reverse");
+		return bMapper;
+	}
+
+	/** maps to TEST_ASOF_TO_TIMESTAMP_A.ID **/
+	public static IntegerAttribute<TestAsOfToTimestampJoinObjectA> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to TEST_ASOF_TO_TIMESTAMP_A.FROM_Z **/
+	public static TimestampAttribute<TestAsOfToTimestampJoinObjectA> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_ASOF_TO_TIMESTAMP_A.THRU_Z **/
+	public static TimestampAttribute<TestAsOfToTimestampJoinObjectA> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestAsOfToTimestampJoinObjectA> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static TestAsOfToTimestampJoinObjectBFinder.TestAsOfToTimestampJoinObjectBSingleFinderForRelatedClasses<TestAsOfToTimestampJoinObjectA, TestAsOfToTimestampJoinObjectB, TestAsOfToTimestampJoinObjectA> b()
+	{
+		return finder.b();
+	}
+
+	public static class TestAsOfToTimestampJoinObjectABFinderSubclass<ParentOwnerType> extends TestAsOfToTimestampJoinObjectBFinder.TestAsOfToTimestampJoinObjectBSingleFinderForRelatedClasses<ParentOwnerType, TestAsOfToTimestampJoinObjectB, TestAsOfToTimestampJoinObjectA>
+	{
+		public TestAsOfToTimestampJoinObjectABFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "b";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestAsOfToTimestampJoinObjectBFinder.businessDate(),
+				TestAsOfToTimestampJoinObjectBFinder.id()).withExtractors(
+				TestAsOfToTimestampJoinObjectAFinder.businessDate(),
+				((OperationWithParameterExtractor)TestAsOfToTimestampJoinObjectBFinder.zGetConstantOperation(0)).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestAsOfToTimestampJoinObjectABFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestAsOfToTimestampJoinObjectB plainValueOf(TestAsOfToTimestampJoinObjectA _obj)
+		{
+			return _obj.getB();
+		}
+
+		protected TestAsOfToTimestampJoinObjectBList plainListValueOf(Object _obj)
+		{
+			return ((TestAsOfToTimestampJoinObjectAList)_obj).getBs();
+		}
+	}
+
+	public static Operation eq(TestAsOfToTimestampJoinObjectA other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static TestAsOfToTimestampJoinObjectASingleFinder<TestAsOfToTimestampJoinObjectA, Object, TestAsOfToTimestampJoinObjectA> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestAsOfToTimestampJoinObjectBFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestAsOfToTimestampJoinObjectBFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectA");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeDangerousNoLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
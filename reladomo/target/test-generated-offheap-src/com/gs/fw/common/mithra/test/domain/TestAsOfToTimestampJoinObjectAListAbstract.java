@@ -0,0 +1,161 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestAsOfToTimestampJoinObjectAListAbstract extends DelegatingList<TestAsOfToTimestampJoinObjectA> implements MithraDatedTransactionalList<TestAsOfToTimestampJoinObjectA>
+{
+	public TestAsOfToTimestampJoinObjectAListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestAsOfToTimestampJoinObjectAListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestAsOfToTimestampJoinObjectAListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestAsOfToTimestampJoinObjectAListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestAsOfToTimestampJoinObjectA[] elements()
+	{
+		TestAsOfToTimestampJoinObjectA[] result = new TestAsOfToTimestampJoinObjectA[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestAsOfToTimestampJoinObjectAList intersection(TestAsOfToTimestampJoinObjectAList another)
+	{
+		return (TestAsOfToTimestampJoinObjectAList)super.intersection(another);
+	}
+
+	public TestAsOfToTimestampJoinObjectA getTestAsOfToTimestampJoinObjectAAt(int index)
+	{
+		return (TestAsOfToTimestampJoinObjectA)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestAsOfToTimestampJoinObjectB.businessDate = this.businessDate and
+	TestAsOfToTimestampJoinObjectB.id = 1</pre>
+	* @return The b
+	*/
+	public TestAsOfToTimestampJoinObjectBList getBs()
+	{
+		return (TestAsOfToTimestampJoinObjectBList) this.getDelegated().resolveRelationship(this, TestAsOfToTimestampJoinObjectAFinder.b());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestAsOfToTimestampJoinObjectAFinder.getMithraObjectPortal();
+	}
+
+	public TestAsOfToTimestampJoinObjectAList getNonPersistentCopy()
+	{
+		TestAsOfToTimestampJoinObjectAList result = new TestAsOfToTimestampJoinObjectAList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestAsOfToTimestampJoinObjectAList asAdhoc()
+	{
+		return (TestAsOfToTimestampJoinObjectAList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestAsOfToTimestampJoinObjectA> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestAsOfToTimestampJoinObjectAList merge(MithraTransactionalList<TestAsOfToTimestampJoinObjectA> incoming, TopLevelMergeOptions<TestAsOfToTimestampJoinObjectA> mergeOptions)
+	{
+		return (TestAsOfToTimestampJoinObjectAList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestAsOfToTimestampJoinObjectAList getDetachedCopy()
+	{
+		TestAsOfToTimestampJoinObjectAList result = new TestAsOfToTimestampJoinObjectAList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestAsOfToTimestampJoinObjectAFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestAsOfToTimestampJoinObjectAFinder.businessDateTo(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TestAsOfToTimestampJoinObjectAFinder.id(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
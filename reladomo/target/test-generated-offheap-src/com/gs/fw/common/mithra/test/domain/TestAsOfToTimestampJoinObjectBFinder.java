@@ -0,0 +1,768 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestAsOfToTimestampJoinObjectBFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestAsOfToTimestampJoinObjectB";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectB";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectB");
+	private static final TestAsOfToTimestampJoinObjectBSingleFinder<TestAsOfToTimestampJoinObjectB, Object, TestAsOfToTimestampJoinObjectB> finder = new TestAsOfToTimestampJoinObjectBSingleFinder<TestAsOfToTimestampJoinObjectB, Object, TestAsOfToTimestampJoinObjectB>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestAsOfToTimestampJoinObjectBFinder.TestAsOfToTimestampJoinObjectBRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addRelationshipName("a");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = TestAsOfToTimestampJoinObjectBFinder.businessDate().constructEqualityMapper(TestAsOfToTimestampJoinObjectAFinder.businessDate());
+			result[1] = TestAsOfToTimestampJoinObjectAFinder.businessDate().constructEqualityMapper(TestAsOfToTimestampJoinObjectBFinder.businessDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = TestAsOfToTimestampJoinObjectBFinder.id().eq(1);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestAsOfToTimestampJoinObjectB findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestAsOfToTimestampJoinObjectB findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestAsOfToTimestampJoinObjectBList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAsOfToTimestampJoinObjectBList) finder.findMany(operation);
+	}
+
+	public static TestAsOfToTimestampJoinObjectBList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestAsOfToTimestampJoinObjectBList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestAsOfToTimestampJoinObjectB findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestAsOfToTimestampJoinObjectB) FinderUtils.findOne(found);
+	}
+
+	public static TestAsOfToTimestampJoinObjectB findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestAsOfToTimestampJoinObjectBData _castedTargetData = (TestAsOfToTimestampJoinObjectBData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestAsOfToTimestampJoinObjectB zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestAsOfToTimestampJoinObjectB) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestAsOfToTimestampJoinObjectBRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestAsOfToTimestampJoinObjectB, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private IntegerAttribute<ParentOwnerType> id;
+		private TestAsOfToTimestampJoinObjectBAFinderSubclass<ParentOwnerType> a;
+		public TestAsOfToTimestampJoinObjectBRelatedFinder()
+		{
+			super();
+		}
+
+		public TestAsOfToTimestampJoinObjectBRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectBFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.businessDate();
+			attributes[1] = this.id();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.a());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestAsOfToTimestampJoinObjectB findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.findOne(operation, false);
+		}
+
+		public TestAsOfToTimestampJoinObjectB findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestAsOfToTimestampJoinObjectB> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestAsOfToTimestampJoinObjectBList((Operation) operation);
+		}
+
+		public MithraList<? extends TestAsOfToTimestampJoinObjectB> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestAsOfToTimestampJoinObjectBList result = (TestAsOfToTimestampJoinObjectBList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestAsOfToTimestampJoinObjectB> constructEmptyList()
+		{
+			return new TestAsOfToTimestampJoinObjectBList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1617699963;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("DATE","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TestAsOfToTimestampJoinObjectBFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("a");
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestAsOfToTimestampJoinObjectBFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public TestAsOfToTimestampJoinObjectAFinder.TestAsOfToTimestampJoinObjectASingleFinderForRelatedClasses<ParentOwnerType, TestAsOfToTimestampJoinObjectA, TestAsOfToTimestampJoinObjectB> a()
+		{
+			TestAsOfToTimestampJoinObjectBAFinderSubclass<ParentOwnerType> result = this.a;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestAsOfToTimestampJoinObjectBFinder.zGetTestAsOfToTimestampJoinObjectBAReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestAsOfToTimestampJoinObjectBAFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.a = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestAsOfToTimestampJoinObjectBFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestAsOfToTimestampJoinObjectBCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestAsOfToTimestampJoinObjectBRelatedFinder<ParentOwnerType, ReturnType, TestAsOfToTimestampJoinObjectBList, OwnerType>
+	{
+		public TestAsOfToTimestampJoinObjectBCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestAsOfToTimestampJoinObjectBCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestAsOfToTimestampJoinObjectBCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAsOfToTimestampJoinObjectBCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestAsOfToTimestampJoinObjectBSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestAsOfToTimestampJoinObjectBRelatedFinder<ParentOwnerType, ReturnType, TestAsOfToTimestampJoinObjectBList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestAsOfToTimestampJoinObjectBSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestAsOfToTimestampJoinObjectBSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestAsOfToTimestampJoinObjectB other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestAsOfToTimestampJoinObjectB findByPrimaryKey(int id)
+		{
+			TestAsOfToTimestampJoinObjectB _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestAsOfToTimestampJoinObjectB) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestAsOfToTimestampJoinObjectBSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestAsOfToTimestampJoinObjectBSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestAsOfToTimestampJoinObjectBSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper aReverseMapper = null;
+	public static Mapper zGetTestAsOfToTimestampJoinObjectBAReverseMapper()
+	{
+		if (aReverseMapper == null)
+		{
+			aReverseMapper = zConstructTestAsOfToTimestampJoinObjectBAReverseMapper();
+		}
+
+		return aReverseMapper;
+	}
+
+	private static Mapper aMapper = null;
+	public static Mapper zGetTestAsOfToTimestampJoinObjectBAMapper()
+	{
+		if (aMapper == null)
+		{
+			aMapper = zConstructTestAsOfToTimestampJoinObjectBAMapper();
+		}
+
+		return aMapper;
+	}
+
+	private static Mapper aPureReverseMapper = null;
+	public static Mapper zGetTestAsOfToTimestampJoinObjectBAPureReverseMapper()
+	{
+		if (aPureReverseMapper == null)
+		{
+			aPureReverseMapper = zConstructTestAsOfToTimestampJoinObjectBAPureReverseMapper();
+		}
+
+		return aPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestAsOfToTimestampJoinObjectBAPureReverseMapper()
+	{
+		Mapper aMapper = TestAsOfToTimestampJoinObjectBFinder.zGetConstantJoin(0);
+		aMapper.setName("a");
+		return aMapper;
+	}
+
+	private static Mapper zConstructTestAsOfToTimestampJoinObjectBAReverseMapper()
+	{
+		Mapper aMapperInnerMapper = TestAsOfToTimestampJoinObjectBFinder.zGetConstantJoin(0);
+		Mapper aMapper = new FilteredMapper(aMapperInnerMapper, null, TestAsOfToTimestampJoinObjectAFinder.zGetConstantOperation(0));
+		aMapper.setName("a");
+		return aMapper;
+	}
+
+	private static Mapper zConstructTestAsOfToTimestampJoinObjectBAMapper()
+	{
+		Mapper aMapperInnerMapper = TestAsOfToTimestampJoinObjectAFinder.zGetConstantJoin(0);
+		Mapper aMapper = new FilteredMapper(aMapperInnerMapper, TestAsOfToTimestampJoinObjectAFinder.zGetConstantOperation(0), null);
+		aMapper.setName("a_Reverse");
+		return aMapper;
+	}
+
+	/** maps to TEST_ASOF_TO_TIMESTAMP_B.DATE **/
+	public static TimestampAttribute<TestAsOfToTimestampJoinObjectB> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to TEST_ASOF_TO_TIMESTAMP_B.ID **/
+	public static IntegerAttribute<TestAsOfToTimestampJoinObjectB> id()
+	{
+		return finder.id();
+	}
+
+	public static TestAsOfToTimestampJoinObjectAFinder.TestAsOfToTimestampJoinObjectASingleFinderForRelatedClasses<TestAsOfToTimestampJoinObjectB, TestAsOfToTimestampJoinObjectA, TestAsOfToTimestampJoinObjectB> a()
+	{
+		return finder.a();
+	}
+
+	public static class TestAsOfToTimestampJoinObjectBAFinderSubclass<ParentOwnerType> extends TestAsOfToTimestampJoinObjectAFinder.TestAsOfToTimestampJoinObjectASingleFinderForRelatedClasses<ParentOwnerType, TestAsOfToTimestampJoinObjectA, TestAsOfToTimestampJoinObjectB>
+	{
+		public TestAsOfToTimestampJoinObjectBAFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "a";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestAsOfToTimestampJoinObjectAFinder.id(),
+				TestAsOfToTimestampJoinObjectAFinder.businessDate()).withExtractors(
+				((OperationWithParameterExtractor)TestAsOfToTimestampJoinObjectAFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				TestAsOfToTimestampJoinObjectBFinder.businessDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestAsOfToTimestampJoinObjectBAFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestAsOfToTimestampJoinObjectA plainValueOf(TestAsOfToTimestampJoinObjectB _obj)
+		{
+			return _obj.getA();
+		}
+
+		protected TestAsOfToTimestampJoinObjectAList plainListValueOf(Object _obj)
+		{
+			return ((TestAsOfToTimestampJoinObjectBList)_obj).getAs();
+		}
+	}
+
+	public static Operation eq(TestAsOfToTimestampJoinObjectB other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static TestAsOfToTimestampJoinObjectBSingleFinder<TestAsOfToTimestampJoinObjectB, Object, TestAsOfToTimestampJoinObjectB> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			businessDate()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			businessDate()
+			, id()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			businessDate()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestAsOfToTimestampJoinObjectB");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,869 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestBankingDealDetailImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestBankingDealDetailImpl.class.getName());
+	private static final RelationshipHashStrategy fornonAcquisitionDealDetail = new NonAcquisitionDealDetailRhs();
+	private static final RelationshipHashStrategy forsellSideDealDetail = new SellSideDealDetailRhs();
+	private static final RelationshipHashStrategy forconflictCheck = new ConflictCheckRhs();
+	private static final class NonAcquisitionDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestBankingDealDetailImplData _castedSrcData = (TestBankingDealDetailImplData) _srcData;
+			TestNonAcquisitionDealDetailData _castedTargetData = (TestNonAcquisitionDealDetailData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestBankingDealDetailImplData _castedSrcData = (TestBankingDealDetailImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class SellSideDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestBankingDealDetailImplData _castedSrcData = (TestBankingDealDetailImplData) _srcData;
+			TestSellSideDealDetailData _castedTargetData = (TestSellSideDealDetailData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestBankingDealDetailImplData _castedSrcData = (TestBankingDealDetailImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class ConflictCheckRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestBankingDealDetailImplData _castedSrcData = (TestBankingDealDetailImplData) _srcData;
+			TestConflictCheckImplData _castedTargetData = (TestConflictCheckImplData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestBankingDealDetailImplData _castedSrcData = (TestBankingDealDetailImplData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestBankingDealDetailImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestBankingDealDetailImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestBankingDealDetailImpl) super.getDetachedCopy();
+	}
+
+	public TestBankingDealDetailImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestBankingDealDetailImpl result = (TestBankingDealDetailImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestBankingDealDetailImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestBankingDealDetailImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestBankingDealDetailImpl zFindOriginal()
+	{
+		TestBankingDealDetailImplData data = (TestBankingDealDetailImplData) this.currentData;
+		Operation op;
+		op = TestBankingDealDetailImplFinder.checkId().eq(data.getCheckId());
+		return TestBankingDealDetailImplFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isNonAcquisitionDealDetailModifiedSinceDetachment()) return true;
+		if(isSellSideDealDetailModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestBankingDealDetailImplData();
+	}
+
+	protected void zSetFromTestBankingDealDetailImplData( TestBankingDealDetailImplData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestBankingDealDetailImplData( TestBankingDealDetailImplData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((TestBankingDealDetailImplData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		TestBankingDealDetailImplData data = (TestBankingDealDetailImplData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(TestBankingDealDetailImplFinder.checkId(), newValue, true, false ,false);
+		if (d == null) return;
+		TestBankingDealDetailImplData data = (TestBankingDealDetailImplData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+			(TestNonAcquisitionDealDetail ) data.getNonAcquisitionDealDetail();
+			if (nonAcquisitionDealDetail != null)
+			{
+				nonAcquisitionDealDetail.setCheckId(newValue);
+			}
+
+			TestSellSideDealDetail sellSideDealDetail =
+			(TestSellSideDealDetail ) data.getSellSideDealDetail();
+			if (sellSideDealDetail != null)
+			{
+				sellSideDealDetail.setCheckId(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestBankingDealDetailImplData _newData = (TestBankingDealDetailImplData) _data;
+		if (_newData.getNonAcquisitionDealDetail() instanceof NulledRelation)
+		{
+			TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+			this.getNonAcquisitionDealDetail();
+			if (nonAcquisitionDealDetail != null)
+			{
+				nonAcquisitionDealDetail.cascadeDelete();
+			}
+		}
+		else
+		{
+			TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+			(TestNonAcquisitionDealDetail) _newData.getNonAcquisitionDealDetail();
+			if (nonAcquisitionDealDetail != null)
+			{
+				TestNonAcquisitionDealDetail _existing =
+				this.getNonAcquisitionDealDetail();
+				if (_existing == null)
+				{
+					nonAcquisitionDealDetail.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(nonAcquisitionDealDetail.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(nonAcquisitionDealDetail.zGetTxDataForRead());
+				}
+			}
+		}
+
+		if (_newData.getSellSideDealDetail() instanceof NulledRelation)
+		{
+			TestSellSideDealDetail sellSideDealDetail =
+			this.getSellSideDealDetail();
+			if (sellSideDealDetail != null)
+			{
+				sellSideDealDetail.cascadeDelete();
+			}
+		}
+		else
+		{
+			TestSellSideDealDetail sellSideDealDetail =
+			(TestSellSideDealDetail) _newData.getSellSideDealDetail();
+			if (sellSideDealDetail != null)
+			{
+				TestSellSideDealDetail _existing =
+				this.getSellSideDealDetail();
+				if (_existing == null)
+				{
+					sellSideDealDetail.copyDetachedValuesToOriginalOrInsertIfNew();
+				}
+				else
+				{
+					_existing.zCopyAttributesFrom(sellSideDealDetail.zGetTxDataForRead());
+					_existing.zPersistDetachedRelationships(sellSideDealDetail.zGetTxDataForRead());
+				}
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestBankingDealDetailImplData _newData = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getNonAcquisitionDealDetail() != null && !(_newData.getNonAcquisitionDealDetail() instanceof NulledRelation))
+		{
+			((TestNonAcquisitionDealDetail)_newData.getNonAcquisitionDealDetail()).zSetTxDetachedDeleted();
+		}
+
+		if (_newData.getSellSideDealDetail() != null && !(_newData.getSellSideDealDetail() instanceof NulledRelation))
+		{
+			((TestSellSideDealDetail)_newData.getSellSideDealDetail()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _newData = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getNonAcquisitionDealDetail() != null && !(_newData.getNonAcquisitionDealDetail() instanceof NulledRelation))
+		{
+			((TestNonAcquisitionDealDetail)_newData.getNonAcquisitionDealDetail()).zSetNonTxDetachedDeleted();
+		}
+
+		if (_newData.getSellSideDealDetail() != null && !(_newData.getSellSideDealDetail() instanceof NulledRelation))
+		{
+			((TestSellSideDealDetail)_newData.getSellSideDealDetail()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestNonAcquisitionDealDetail.checkId</pre>
+	* @see TestNonAcquisitionDealDetail#getBankingDealDetail() reverse relationship TestNonAcquisitionDealDetail.getBankingDealDetail()
+	* @return The non acquisition deal detail
+	*/
+	public TestNonAcquisitionDealDetail getNonAcquisitionDealDetail()
+	{
+		TestNonAcquisitionDealDetail _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestNonAcquisitionDealDetailFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fornonAcquisitionDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestNonAcquisitionDealDetail) _related;
+				if (_related == null)
+				{
+					_op = TestNonAcquisitionDealDetailFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getNonAcquisitionDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestNonAcquisitionDealDetail) _data.getNonAcquisitionDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestNonAcquisitionDealDetailFinder.checkId().eq(_data.getCheckId());
+					_result = TestNonAcquisitionDealDetailFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setNonAcquisitionDealDetail(_result);
+				if (_result != null) _result.zSetParentContainerbankingDealDetail(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestNonAcquisitionDealDetail) _data.getNonAcquisitionDealDetail();
+		}
+
+		if (_op != null)
+		{
+			_result = TestNonAcquisitionDealDetailFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setNonAcquisitionDealDetail(TestNonAcquisitionDealDetail nonAcquisitionDealDetail)
+	{
+		TestNonAcquisitionDealDetail _nonAcquisitionDealDetail = (TestNonAcquisitionDealDetail) nonAcquisitionDealDetail;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getNonAcquisitionDealDetail();
+			_data.setNonAcquisitionDealDetail(_nonAcquisitionDealDetail);
+			if (_nonAcquisitionDealDetail != null)
+			{
+				_nonAcquisitionDealDetail.setCheckId(_data.getCheckId());
+				_nonAcquisitionDealDetail.zSetParentContainerbankingDealDetail(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setNonAcquisitionDealDetail(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			TestNonAcquisitionDealDetail _existing = this.getNonAcquisitionDealDetail();
+			if (_nonAcquisitionDealDetail != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_nonAcquisitionDealDetail != null)
+				{
+					_nonAcquisitionDealDetail.setCheckId(_data.getCheckId());
+					_nonAcquisitionDealDetail.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isNonAcquisitionDealDetailModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_data.getNonAcquisitionDealDetail() instanceof NulledRelation)
+		{
+			TestNonAcquisitionDealDetail _existing = this.getOriginalPersistentObject().getNonAcquisitionDealDetail();
+			return _existing != null;
+		}
+
+		TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+		(TestNonAcquisitionDealDetail) _data.getNonAcquisitionDealDetail();
+		if( nonAcquisitionDealDetail != null)
+		{
+			return nonAcquisitionDealDetail.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestSellSideDealDetail.checkId</pre>
+	* @see TestSellSideDealDetail#getBankingDealDetail() reverse relationship TestSellSideDealDetail.getBankingDealDetail()
+	* @return The sell side deal detail
+	*/
+	public TestSellSideDealDetail getSellSideDealDetail()
+	{
+		TestSellSideDealDetail _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestSellSideDealDetailFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsellSideDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestSellSideDealDetail) _related;
+				if (_related == null)
+				{
+					_op = TestSellSideDealDetailFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getSellSideDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestSellSideDealDetail) _data.getSellSideDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestSellSideDealDetailFinder.checkId().eq(_data.getCheckId());
+					_result = TestSellSideDealDetailFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setSellSideDealDetail(_result);
+				if (_result != null) _result.zSetParentContainerbankingDealDetail(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestSellSideDealDetail) _data.getSellSideDealDetail();
+		}
+
+		if (_op != null)
+		{
+			_result = TestSellSideDealDetailFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSellSideDealDetail(TestSellSideDealDetail sellSideDealDetail)
+	{
+		TestSellSideDealDetail _sellSideDealDetail = (TestSellSideDealDetail) sellSideDealDetail;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			Object _prev = _data.getSellSideDealDetail();
+			_data.setSellSideDealDetail(_sellSideDealDetail);
+			if (_sellSideDealDetail != null)
+			{
+				_sellSideDealDetail.setCheckId(_data.getCheckId());
+				_sellSideDealDetail.zSetParentContainerbankingDealDetail(this);
+			}
+			else if (_behavior.isDetached())
+			{
+				_data.setSellSideDealDetail(NulledRelation.create(_prev));
+				if (_prev != null && !(_prev instanceof NulledRelation)
+				&& (!((MithraTransactionalObject)_prev).isInMemoryAndNotInserted() || ((MithraTransactionalObject)_prev).zIsDetached()))
+				{
+					((MithraTransactionalObject)_prev).delete();
+				}
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			TestSellSideDealDetail _existing = this.getSellSideDealDetail();
+			if (_sellSideDealDetail != _existing)
+			{
+				if (_existing != null)
+				{
+					_existing.cascadeDelete();
+				}
+
+				if (_sellSideDealDetail != null)
+				{
+					_sellSideDealDetail.setCheckId(_data.getCheckId());
+					_sellSideDealDetail.cascadeInsert();
+				}
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isSellSideDealDetailModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_data.getSellSideDealDetail() instanceof NulledRelation)
+		{
+			TestSellSideDealDetail _existing = this.getOriginalPersistentObject().getSellSideDealDetail();
+			return _existing != null;
+		}
+
+		TestSellSideDealDetail sellSideDealDetail =
+		(TestSellSideDealDetail) _data.getSellSideDealDetail();
+		if( sellSideDealDetail != null)
+		{
+			return sellSideDealDetail.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestConflictCheckImpl.id = this.checkId</pre>
+	* @see TestConflictCheckImpl#getBankingDealDetail() reverse relationship TestConflictCheckImpl.getBankingDealDetail()
+	* @return The conflict check
+	*/
+	public TestConflictCheckImpl getConflictCheck()
+	{
+		TestConflictCheckImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestConflictCheckImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forconflictCheck, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestConflictCheckImpl) _related;
+				if (_related == null)
+				{
+					_op = TestConflictCheckImplFinder.id().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getConflictCheck() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestConflictCheckImpl) _data.getConflictCheck();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestConflictCheckImplFinder.id().eq(_data.getCheckId());
+					_result = TestConflictCheckImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setConflictCheck(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestConflictCheckImpl) _data.getConflictCheck();
+			if (_result == null)
+			{
+				{
+					_op = TestConflictCheckImplFinder.id().eq(_data.getCheckId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestConflictCheckImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setConflictCheck(TestConflictCheckImpl conflictCheck)
+	{
+		((TestConflictCheckImpl)conflictCheck).setBankingDealDetail((TestBankingDealDetailImpl)this);
+	}
+
+	public void zSetParentContainerconflictCheck(TestConflictCheckImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setConflictCheck(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+		(TestNonAcquisitionDealDetail) _data.getNonAcquisitionDealDetail();
+		TestSellSideDealDetail sellSideDealDetail =
+		(TestSellSideDealDetail) _data.getSellSideDealDetail();
+		_behavior.insert(this);
+		if (nonAcquisitionDealDetail != null)
+		{
+			nonAcquisitionDealDetail.cascadeInsert();
+		}
+
+		if (sellSideDealDetail != null)
+		{
+			sellSideDealDetail.cascadeInsert();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TestBankingDealDetailImplFinder.TestBankingDealDetailImplRelatedFinder parentFinder = (TestBankingDealDetailImplFinder.TestBankingDealDetailImplRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _newData = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_newData.getNonAcquisitionDealDetail() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.nonAcquisitionDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+			(TestNonAcquisitionDealDetail) _newData.getNonAcquisitionDealDetail();
+			RelatedFinder dependentFinder = parentFinder.nonAcquisitionDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, nonAcquisitionDealDetail != null, navigationStats);
+			if (nonAcquisitionDealDetail != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(nonAcquisitionDealDetail, dependentFinder, navigationStats);
+			}
+		}
+
+		if (_newData.getSellSideDealDetail() instanceof NulledRelation)
+		{
+			RelatedFinder dependentFinder = parentFinder.sellSideDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, true, navigationStats);
+			DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(dependentFinder, navigationStats);
+		}
+		else
+		{
+			TestSellSideDealDetail sellSideDealDetail =
+			(TestSellSideDealDetail) _newData.getSellSideDealDetail();
+			RelatedFinder dependentFinder = parentFinder.sellSideDealDetail();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, sellSideDealDetail != null, navigationStats);
+			if (sellSideDealDetail != null)
+			{
+				_behavior.addNavigatedRelationshipsStats(sellSideDealDetail, dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public TestBankingDealDetailImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestBankingDealDetailImplData _data = (TestBankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		TestNonAcquisitionDealDetail nonAcquisitionDealDetail =
+		(TestNonAcquisitionDealDetail) _data.getNonAcquisitionDealDetail();
+		TestSellSideDealDetail sellSideDealDetail =
+		(TestSellSideDealDetail) _data.getSellSideDealDetail();
+		TestBankingDealDetailImpl original = (TestBankingDealDetailImpl) _behavior.copyThenInsert(this);
+		if (nonAcquisitionDealDetail != null)
+		{
+			nonAcquisitionDealDetail.zCascadeCopyThenInsert();
+		}
+
+		if (sellSideDealDetail != null)
+		{
+			sellSideDealDetail.zCascadeCopyThenInsert();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		{
+			TestNonAcquisitionDealDetail related = this.getNonAcquisitionDealDetail();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		{
+			TestSellSideDealDetail related = this.getSellSideDealDetail();
+			if (related != null)
+			related.cascadeDelete();
+		}
+
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestBankingDealDetailImplFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestBankingDealDetailImplFinder.getMithraObjectPortal();
+	}
+
+	public TestBankingDealDetailImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestBankingDealDetailImplFinder.checkId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestBankingDealDetailImplAbstract result = (TestBankingDealDetailImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class NonAcquisitionDealDetailAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestNonAcquisitionDealDetail item = (TestNonAcquisitionDealDetail) relatedObject;
+			item.setCheckId(getCheckId());
+			item.zSetParentContainerbankingDealDetail(TestBankingDealDetailImplAbstract.this);
+		}
+	}
+
+	protected class NonAcquisitionDealDetailAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestNonAcquisitionDealDetail item = (TestNonAcquisitionDealDetail) relatedObject;
+			item.setCheckId(getCheckId());
+			item.cascadeInsert();
+		}
+	}
+
+	protected class SellSideDealDetailAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestSellSideDealDetail item = (TestSellSideDealDetail) relatedObject;
+			item.setCheckId(getCheckId());
+			item.zSetParentContainerbankingDealDetail(TestBankingDealDetailImplAbstract.this);
+		}
+	}
+
+	protected class SellSideDealDetailAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestSellSideDealDetail item = (TestSellSideDealDetail) relatedObject;
+			item.setCheckId(getCheckId());
+			item.cascadeInsert();
+		}
+	}
+}
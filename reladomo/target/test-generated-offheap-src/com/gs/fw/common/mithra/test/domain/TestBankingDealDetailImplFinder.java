@@ -0,0 +1,889 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestBankingDealDetailImplFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestBankingDealDetailImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestBankingDealDetailImpl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestBankingDealDetailImpl");
+	private static final TestBankingDealDetailImplSingleFinder<TestBankingDealDetailImpl, Object, TestBankingDealDetailImpl> finder = new TestBankingDealDetailImplSingleFinder<TestBankingDealDetailImpl, Object, TestBankingDealDetailImpl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestBankingDealDetailImplFinder.TestBankingDealDetailImplRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("checkId");
+		finderMethodMap.addRelationshipName("nonAcquisitionDealDetail");
+		finderMethodMap.addRelationshipName("sellSideDealDetail");
+		finderMethodMap.addRelationshipName("conflictCheck");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = TestBankingDealDetailImplFinder.checkId().constructEqualityMapper(TestNonAcquisitionDealDetailFinder.checkId());
+			result[1] = TestNonAcquisitionDealDetailFinder.checkId().constructEqualityMapper(TestBankingDealDetailImplFinder.checkId());
+			result[2] = TestBankingDealDetailImplFinder.checkId().constructEqualityMapper(TestSellSideDealDetailFinder.checkId());
+			result[3] = TestSellSideDealDetailFinder.checkId().constructEqualityMapper(TestBankingDealDetailImplFinder.checkId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestBankingDealDetailImpl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestBankingDealDetailImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestBankingDealDetailImplList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestBankingDealDetailImplList) finder.findMany(operation);
+	}
+
+	public static TestBankingDealDetailImplList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestBankingDealDetailImplList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestBankingDealDetailImpl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestBankingDealDetailImpl) FinderUtils.findOne(found);
+	}
+
+	public static TestBankingDealDetailImpl findByPrimaryKey(int checkId)
+	{
+		return finder.findByPrimaryKey(checkId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestBankingDealDetailImplData _castedTargetData = (TestBankingDealDetailImplData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestBankingDealDetailImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestBankingDealDetailImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestBankingDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestBankingDealDetailImpl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> checkId;
+		private TestBankingDealDetailImplNonAcquisitionDealDetailFinderSubclass<ParentOwnerType> nonAcquisitionDealDetail;
+		private TestBankingDealDetailImplSellSideDealDetailFinderSubclass<ParentOwnerType> sellSideDealDetail;
+		private TestBankingDealDetailImplConflictCheckFinderSubclass<ParentOwnerType> conflictCheck;
+		public TestBankingDealDetailImplRelatedFinder()
+		{
+			super();
+		}
+
+		public TestBankingDealDetailImplRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestBankingDealDetailImplFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestBankingDealDetailImplFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestBankingDealDetailImplFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestBankingDealDetailImplFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.checkId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.nonAcquisitionDealDetail());
+				relatedFinders.add(this.sellSideDealDetail());
+				relatedFinders.add(this.conflictCheck());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.nonAcquisitionDealDetail());
+				dependentRelatedFinders.add(this.sellSideDealDetail());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestBankingDealDetailImpl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestBankingDealDetailImplFinder.findOne(operation, false);
+		}
+
+		public TestBankingDealDetailImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestBankingDealDetailImplFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestBankingDealDetailImpl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestBankingDealDetailImplList((Operation) operation);
+		}
+
+		public MithraList<? extends TestBankingDealDetailImpl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestBankingDealDetailImplList result = (TestBankingDealDetailImplList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestBankingDealDetailImpl> constructEmptyList()
+		{
+			return new TestBankingDealDetailImplList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -154493556;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> checkId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.checkId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHECK_ID","","checkId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestBankingDealDetailImplFinder.checkId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("conflictCheck");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestConflictCheckImpl", "bankingDealDetail");
+				this.checkId = result;
+			}
+
+			return result;
+		}
+
+		public TestNonAcquisitionDealDetailFinder.TestNonAcquisitionDealDetailSingleFinderForRelatedClasses<ParentOwnerType, TestNonAcquisitionDealDetail, TestBankingDealDetailImpl> nonAcquisitionDealDetail()
+		{
+			TestBankingDealDetailImplNonAcquisitionDealDetailFinderSubclass<ParentOwnerType> result = this.nonAcquisitionDealDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestBankingDealDetailImplFinder.zGetTestBankingDealDetailImplNonAcquisitionDealDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestBankingDealDetailImplNonAcquisitionDealDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nonAcquisitionDealDetail = result;
+			}
+
+			return result;
+		}
+
+		public TestSellSideDealDetailFinder.TestSellSideDealDetailSingleFinderForRelatedClasses<ParentOwnerType, TestSellSideDealDetail, TestBankingDealDetailImpl> sellSideDealDetail()
+		{
+			TestBankingDealDetailImplSellSideDealDetailFinderSubclass<ParentOwnerType> result = this.sellSideDealDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestBankingDealDetailImplFinder.zGetTestBankingDealDetailImplSellSideDealDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestBankingDealDetailImplSellSideDealDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sellSideDealDetail = result;
+			}
+
+			return result;
+		}
+
+		public TestConflictCheckImplFinder.TestConflictCheckImplSingleFinderForRelatedClasses<ParentOwnerType, TestConflictCheckImpl, TestBankingDealDetailImpl> conflictCheck()
+		{
+			TestBankingDealDetailImplConflictCheckFinderSubclass<ParentOwnerType> result = this.conflictCheck;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestConflictCheckImplFinder.zGetTestConflictCheckImplBankingDealDetailMapper());
+				newMapper.setToMany(false);
+				result = new TestBankingDealDetailImplConflictCheckFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.conflictCheck = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestBankingDealDetailImplFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestBankingDealDetailImplFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestBankingDealDetailImplCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestBankingDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, TestBankingDealDetailImplList, OwnerType>
+	{
+		public TestBankingDealDetailImplCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestBankingDealDetailImplCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestBankingDealDetailImplCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestBankingDealDetailImplCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestBankingDealDetailImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestBankingDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, TestBankingDealDetailImplList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestBankingDealDetailImplSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestBankingDealDetailImplSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestBankingDealDetailImpl other)
+		{
+			return this.checkId().eq(other.getCheckId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestBankingDealDetailImpl findByPrimaryKey(int checkId)
+		{
+			TestBankingDealDetailImpl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(checkId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestBankingDealDetailImpl) _related;
+			if (_related == null)
+			{
+				_op = this.checkId().eq(checkId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestBankingDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestBankingDealDetailImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestBankingDealDetailImplSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper nonAcquisitionDealDetailReverseMapper = null;
+	public static Mapper zGetTestBankingDealDetailImplNonAcquisitionDealDetailReverseMapper()
+	{
+		if (nonAcquisitionDealDetailReverseMapper == null)
+		{
+			nonAcquisitionDealDetailReverseMapper = zConstructTestBankingDealDetailImplNonAcquisitionDealDetailReverseMapper();
+		}
+
+		return nonAcquisitionDealDetailReverseMapper;
+	}
+
+	private static Mapper nonAcquisitionDealDetailMapper = null;
+	public static Mapper zGetTestBankingDealDetailImplNonAcquisitionDealDetailMapper()
+	{
+		if (nonAcquisitionDealDetailMapper == null)
+		{
+			nonAcquisitionDealDetailMapper = zConstructTestBankingDealDetailImplNonAcquisitionDealDetailMapper();
+		}
+
+		return nonAcquisitionDealDetailMapper;
+	}
+
+	private static Mapper nonAcquisitionDealDetailPureReverseMapper = null;
+	public static Mapper zGetTestBankingDealDetailImplNonAcquisitionDealDetailPureReverseMapper()
+	{
+		if (nonAcquisitionDealDetailPureReverseMapper == null)
+		{
+			nonAcquisitionDealDetailPureReverseMapper = zConstructTestBankingDealDetailImplNonAcquisitionDealDetailPureReverseMapper();
+		}
+
+		return nonAcquisitionDealDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestBankingDealDetailImplNonAcquisitionDealDetailPureReverseMapper()
+	{
+		Mapper nonAcquisitionDealDetailMapper = TestBankingDealDetailImplFinder.zGetConstantJoin(0);
+		nonAcquisitionDealDetailMapper.setName("nonAcquisitionDealDetail");
+		return nonAcquisitionDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestBankingDealDetailImplNonAcquisitionDealDetailReverseMapper()
+	{
+		Mapper nonAcquisitionDealDetailMapper = TestBankingDealDetailImplFinder.zGetConstantJoin(0);
+		nonAcquisitionDealDetailMapper.setName("nonAcquisitionDealDetail");
+		return nonAcquisitionDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestBankingDealDetailImplNonAcquisitionDealDetailMapper()
+	{
+		Mapper nonAcquisitionDealDetailMapper = TestBankingDealDetailImplFinder.zGetConstantJoin(1);
+		nonAcquisitionDealDetailMapper.setName("bankingDealDetail");
+		return nonAcquisitionDealDetailMapper;
+	}
+
+	private static Mapper sellSideDealDetailReverseMapper = null;
+	public static Mapper zGetTestBankingDealDetailImplSellSideDealDetailReverseMapper()
+	{
+		if (sellSideDealDetailReverseMapper == null)
+		{
+			sellSideDealDetailReverseMapper = zConstructTestBankingDealDetailImplSellSideDealDetailReverseMapper();
+		}
+
+		return sellSideDealDetailReverseMapper;
+	}
+
+	private static Mapper sellSideDealDetailMapper = null;
+	public static Mapper zGetTestBankingDealDetailImplSellSideDealDetailMapper()
+	{
+		if (sellSideDealDetailMapper == null)
+		{
+			sellSideDealDetailMapper = zConstructTestBankingDealDetailImplSellSideDealDetailMapper();
+		}
+
+		return sellSideDealDetailMapper;
+	}
+
+	private static Mapper sellSideDealDetailPureReverseMapper = null;
+	public static Mapper zGetTestBankingDealDetailImplSellSideDealDetailPureReverseMapper()
+	{
+		if (sellSideDealDetailPureReverseMapper == null)
+		{
+			sellSideDealDetailPureReverseMapper = zConstructTestBankingDealDetailImplSellSideDealDetailPureReverseMapper();
+		}
+
+		return sellSideDealDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestBankingDealDetailImplSellSideDealDetailPureReverseMapper()
+	{
+		Mapper sellSideDealDetailMapper = TestBankingDealDetailImplFinder.zGetConstantJoin(2);
+		sellSideDealDetailMapper.setName("sellSideDealDetail");
+		return sellSideDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestBankingDealDetailImplSellSideDealDetailReverseMapper()
+	{
+		Mapper sellSideDealDetailMapper = TestBankingDealDetailImplFinder.zGetConstantJoin(2);
+		sellSideDealDetailMapper.setName("sellSideDealDetail");
+		return sellSideDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestBankingDealDetailImplSellSideDealDetailMapper()
+	{
+		Mapper sellSideDealDetailMapper = TestBankingDealDetailImplFinder.zGetConstantJoin(3);
+		sellSideDealDetailMapper.setName("bankingDealDetail");
+		return sellSideDealDetailMapper;
+	}
+
+	/** maps to IBD_CHECK.CHECK_ID **/
+	public static IntegerAttribute<TestBankingDealDetailImpl> checkId()
+	{
+		return finder.checkId();
+	}
+
+	public static TestNonAcquisitionDealDetailFinder.TestNonAcquisitionDealDetailSingleFinderForRelatedClasses<TestBankingDealDetailImpl, TestNonAcquisitionDealDetail, TestBankingDealDetailImpl> nonAcquisitionDealDetail()
+	{
+		return finder.nonAcquisitionDealDetail();
+	}
+
+	public static class TestBankingDealDetailImplNonAcquisitionDealDetailFinderSubclass<ParentOwnerType> extends TestNonAcquisitionDealDetailFinder.TestNonAcquisitionDealDetailSingleFinderForRelatedClasses<ParentOwnerType, TestNonAcquisitionDealDetail, TestBankingDealDetailImpl>
+	{
+		public TestBankingDealDetailImplNonAcquisitionDealDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "nonAcquisitionDealDetail";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestBankingDealDetailImplNonAcquisitionDealDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestBankingDealDetailImpl) _obj).isNonAcquisitionDealDetailModifiedSinceDetachment();
+		}
+
+		protected TestNonAcquisitionDealDetail plainValueOf(TestBankingDealDetailImpl _obj)
+		{
+			return _obj.getNonAcquisitionDealDetail();
+		}
+
+		protected TestNonAcquisitionDealDetailList plainListValueOf(Object _obj)
+		{
+			return ((TestBankingDealDetailImplList)_obj).getNonAcquisitionDealDetails();
+		}
+	}
+
+	public static TestSellSideDealDetailFinder.TestSellSideDealDetailSingleFinderForRelatedClasses<TestBankingDealDetailImpl, TestSellSideDealDetail, TestBankingDealDetailImpl> sellSideDealDetail()
+	{
+		return finder.sellSideDealDetail();
+	}
+
+	public static class TestBankingDealDetailImplSellSideDealDetailFinderSubclass<ParentOwnerType> extends TestSellSideDealDetailFinder.TestSellSideDealDetailSingleFinderForRelatedClasses<ParentOwnerType, TestSellSideDealDetail, TestBankingDealDetailImpl>
+	{
+		public TestBankingDealDetailImplSellSideDealDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "sellSideDealDetail";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestBankingDealDetailImplSellSideDealDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestBankingDealDetailImpl) _obj).isSellSideDealDetailModifiedSinceDetachment();
+		}
+
+		protected TestSellSideDealDetail plainValueOf(TestBankingDealDetailImpl _obj)
+		{
+			return _obj.getSellSideDealDetail();
+		}
+
+		protected TestSellSideDealDetailList plainListValueOf(Object _obj)
+		{
+			return ((TestBankingDealDetailImplList)_obj).getSellSideDealDetails();
+		}
+	}
+
+	public static TestConflictCheckImplFinder.TestConflictCheckImplSingleFinderForRelatedClasses<TestBankingDealDetailImpl, TestConflictCheckImpl, TestBankingDealDetailImpl> conflictCheck()
+	{
+		return finder.conflictCheck();
+	}
+
+	public static class TestBankingDealDetailImplConflictCheckFinderSubclass<ParentOwnerType> extends TestConflictCheckImplFinder.TestConflictCheckImplSingleFinderForRelatedClasses<ParentOwnerType, TestConflictCheckImpl, TestBankingDealDetailImpl>
+	{
+		public TestBankingDealDetailImplConflictCheckFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "conflictCheck";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestBankingDealDetailImplConflictCheckFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestConflictCheckImpl plainValueOf(TestBankingDealDetailImpl _obj)
+		{
+			return _obj.getConflictCheck();
+		}
+
+		protected TestConflictCheckImplList plainListValueOf(Object _obj)
+		{
+			return ((TestBankingDealDetailImplList)_obj).getConflictChecks();
+		}
+	}
+
+	public static Operation eq(TestBankingDealDetailImpl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(checkId());
+	}
+
+	public static TestBankingDealDetailImplSingleFinder<TestBankingDealDetailImpl, Object, TestBankingDealDetailImpl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+			, checkId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestConflictCheckImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestConflictCheckImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestBankingDealDetailImpl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,178 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestBankingDealDetailImplListAbstract extends DelegatingList<TestBankingDealDetailImpl> implements MithraTransactionalList<TestBankingDealDetailImpl>
+{
+	public TestBankingDealDetailImplListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestBankingDealDetailImplListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestBankingDealDetailImplListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestBankingDealDetailImplListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestBankingDealDetailImpl[] elements()
+	{
+		TestBankingDealDetailImpl[] result = new TestBankingDealDetailImpl[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestBankingDealDetailImplList intersection(TestBankingDealDetailImplList another)
+	{
+		return (TestBankingDealDetailImplList)super.intersection(another);
+	}
+
+	public TestBankingDealDetailImpl getTestBankingDealDetailImplAt(int index)
+	{
+		return (TestBankingDealDetailImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestNonAcquisitionDealDetail.checkId</pre>
+	* @see TestNonAcquisitionDealDetail#getBankingDealDetail() reverse relationship TestNonAcquisitionDealDetail.getBankingDealDetail()
+	* @return The non acquisition deal detail
+	*/
+	public TestNonAcquisitionDealDetailList getNonAcquisitionDealDetails()
+	{
+		return (TestNonAcquisitionDealDetailList) this.getDelegated().resolveRelationship(this, TestBankingDealDetailImplFinder.nonAcquisitionDealDetail());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestSellSideDealDetail.checkId</pre>
+	* @see TestSellSideDealDetail#getBankingDealDetail() reverse relationship TestSellSideDealDetail.getBankingDealDetail()
+	* @return The sell side deal detail
+	*/
+	public TestSellSideDealDetailList getSellSideDealDetails()
+	{
+		return (TestSellSideDealDetailList) this.getDelegated().resolveRelationship(this, TestBankingDealDetailImplFinder.sellSideDealDetail());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestConflictCheckImpl.id = this.checkId</pre>
+	* @see TestConflictCheckImpl#getBankingDealDetail() reverse relationship TestConflictCheckImpl.getBankingDealDetail()
+	* @return The conflict check
+	*/
+	public TestConflictCheckImplList getConflictChecks()
+	{
+		return (TestConflictCheckImplList) this.getDelegated().resolveRelationship(this, TestBankingDealDetailImplFinder.conflictCheck());
+	}
+
+	public void zSetParentContainerconflictCheck(TestConflictCheckImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			TestBankingDealDetailImpl item = this.getTestBankingDealDetailImplAt(i);
+			item.zSetParentContainerconflictCheck(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestBankingDealDetailImplFinder.getMithraObjectPortal();
+	}
+
+	public TestBankingDealDetailImplList getNonPersistentCopy()
+	{
+		TestBankingDealDetailImplList result = new TestBankingDealDetailImplList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestBankingDealDetailImplList asAdhoc()
+	{
+		return (TestBankingDealDetailImplList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestBankingDealDetailImpl> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestBankingDealDetailImplList merge(MithraTransactionalList<TestBankingDealDetailImpl> incoming, TopLevelMergeOptions<TestBankingDealDetailImpl> mergeOptions)
+	{
+		return (TestBankingDealDetailImplList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestBankingDealDetailImplList getDetachedCopy()
+	{
+		TestBankingDealDetailImplList result = new TestBankingDealDetailImplList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestBankingDealDetailImplFinder.checkId(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getNonAcquisitionDealDetails()).cascadeDeleteAll();
+		((DelegatingList)this.getSellSideDealDetails()).cascadeDeleteAll();
+	}
+}
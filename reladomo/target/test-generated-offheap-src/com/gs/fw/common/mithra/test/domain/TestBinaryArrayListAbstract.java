@@ -0,0 +1,135 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestBinaryArrayListAbstract extends DelegatingList<TestBinaryArray> implements MithraTransactionalList<TestBinaryArray>
+{
+	public TestBinaryArrayListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestBinaryArrayListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestBinaryArrayListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestBinaryArrayListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestBinaryArray[] elements()
+	{
+		TestBinaryArray[] result = new TestBinaryArray[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestBinaryArrayList intersection(TestBinaryArrayList another)
+	{
+		return (TestBinaryArrayList)super.intersection(another);
+	}
+
+	public TestBinaryArray getTestBinaryArrayAt(int index)
+	{
+		return (TestBinaryArray)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestBinaryArrayFinder.getMithraObjectPortal();
+	}
+
+	public TestBinaryArrayList getNonPersistentCopy()
+	{
+		TestBinaryArrayList result = new TestBinaryArrayList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestBinaryArrayList asAdhoc()
+	{
+		return (TestBinaryArrayList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestBinaryArray> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestBinaryArrayList merge(MithraTransactionalList<TestBinaryArray> incoming, TopLevelMergeOptions<TestBinaryArray> mergeOptions)
+	{
+		return (TestBinaryArrayList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestBinaryArrayList getDetachedCopy()
+	{
+		TestBinaryArrayList result = new TestBinaryArrayList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setPictureData(byte[] newValue)
+	{
+		zSetByteArray(TestBinaryArrayFinder.pictureData(), newValue);
+	}
+
+	public void setTestBinaryArrayId(int newValue)
+	{
+		zSetInteger(TestBinaryArrayFinder.testBinaryArrayId(), newValue);
+	}
+}
@@ -0,0 +1,381 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestCheckGsDeskAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestCheckGsDesk.class.getName());
+	private static final RelationshipHashStrategy forgsDesk = new GsDeskRhs();
+	private static final class GsDeskRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestCheckGsDeskData _castedSrcData = (TestCheckGsDeskData) _srcData;
+			GsDesk _castedTargetData = (GsDesk) _targetData;
+			if (_castedSrcData.getGsDeskId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestCheckGsDeskData _castedSrcData = (TestCheckGsDeskData) _srcData;
+			return HashUtil.hash(_castedSrcData.getGsDeskId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestCheckGsDeskAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestCheckGsDesk getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestCheckGsDesk) super.getDetachedCopy();
+	}
+
+	public TestCheckGsDesk getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestCheckGsDesk result = (TestCheckGsDesk) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestCheckGsDesk copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestCheckGsDesk) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestCheckGsDesk zFindOriginal()
+	{
+		TestCheckGsDeskData data = (TestCheckGsDeskData) this.currentData;
+		Operation op;
+		op = TestCheckGsDeskFinder.checkId().eq(data.getCheckId());
+		op = op.and(TestCheckGsDeskFinder.gsDeskId().eq(data.getGsDeskId()));
+		return TestCheckGsDeskFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestCheckGsDeskData();
+	}
+
+	protected void zSetFromTestCheckGsDeskData( TestCheckGsDeskData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestCheckGsDeskData( TestCheckGsDeskData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((TestCheckGsDeskData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		TestCheckGsDeskData data = (TestCheckGsDeskData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestCheckGsDeskFinder.checkId(), newValue, true, false ,false);
+	}
+
+	public boolean isGsDeskIdNull()
+	{
+		return ((TestCheckGsDeskData) this.zSynchronizedGetData()).isGsDeskIdNull();
+	}
+
+	public int getGsDeskId()
+	{
+		TestCheckGsDeskData data = (TestCheckGsDeskData) this.zSynchronizedGetData();
+		return data.getGsDeskId();
+	}
+
+	public void setGsDeskId(int newValue)
+	{
+		zSetInteger(TestCheckGsDeskFinder.gsDeskId(), newValue, true, false ,false);
+	}
+
+	public boolean isNameNull()
+	{
+		return ((TestCheckGsDeskData) this.zSynchronizedGetData()).isNameNull();
+	}
+
+	public String getName()
+	{
+		TestCheckGsDeskData data = (TestCheckGsDeskData) this.zSynchronizedGetData();
+		return data.getName();
+	}
+
+	public void setName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'name' cannot exceed maximum length of 10: " + newValue);
+		zSetString(TestCheckGsDeskFinder.name(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestCheckGsDeskData _newData = (TestCheckGsDeskData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestCheckGsDeskData _newData = (TestCheckGsDeskData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestCheckGsDeskData _newData = (TestCheckGsDeskData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.gsDeskId = GsDesk.id</pre>
+	* @see GsDesk#getCheckGsDesk() reverse relationship GsDesk.getCheckGsDesk()
+	* @return The gs desk
+	*/
+	public GsDesk getGsDesk()
+	{
+		GsDesk _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestCheckGsDeskData _data = (TestCheckGsDeskData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = GsDeskFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forgsDesk, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (GsDesk) _related;
+				if (_related == null)
+				{
+					_op = GsDeskFinder.id().eq(_data.getGsDeskId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = GsDeskFinder.id().eq(_data.getGsDeskId());
+					_result = GsDeskFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (GsDesk) _data.getGsDesk();
+			if (_result == null)
+			{
+				{
+					_op = GsDeskFinder.id().eq(_data.getGsDeskId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = GsDeskFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setGsDesk(GsDesk gsDesk)
+	{
+		GsDesk _gsDesk = (GsDesk) gsDesk;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestCheckGsDeskData _data = (TestCheckGsDeskData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setGsDesk(_gsDesk);
+			if (_gsDesk == null)
+			{
+				this.setGsDeskId(0);
+			}
+			else
+			{
+				this.setGsDeskId(_gsDesk.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_gsDesk == null)
+			{
+				this.setGsDeskId(0);
+			}
+			else
+			{
+				this.setGsDeskId(
+					_gsDesk.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestCheckGsDesk zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestCheckGsDesk original = (TestCheckGsDesk) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestCheckGsDeskFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestCheckGsDeskFinder.getMithraObjectPortal();
+	}
+
+	public TestCheckGsDesk getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestCheckGsDeskFinder.name(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestCheckGsDeskFinder.checkId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestCheckGsDeskFinder.gsDeskId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestCheckGsDeskAbstract result = (TestCheckGsDeskAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,151 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestCheckGsDeskListAbstract extends DelegatingList<TestCheckGsDesk> implements MithraTransactionalList<TestCheckGsDesk>
+{
+	public TestCheckGsDeskListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestCheckGsDeskListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestCheckGsDeskListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestCheckGsDeskListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestCheckGsDesk[] elements()
+	{
+		TestCheckGsDesk[] result = new TestCheckGsDesk[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestCheckGsDeskList intersection(TestCheckGsDeskList another)
+	{
+		return (TestCheckGsDeskList)super.intersection(another);
+	}
+
+	public TestCheckGsDesk getTestCheckGsDeskAt(int index)
+	{
+		return (TestCheckGsDesk)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.gsDeskId = GsDesk.id</pre>
+	* @see GsDesk#getCheckGsDesk() reverse relationship GsDesk.getCheckGsDesk()
+	* @return The gs desk
+	*/
+	public GsDeskList getGsDesks()
+	{
+		return (GsDeskList) this.getDelegated().resolveRelationship(this, TestCheckGsDeskFinder.gsDesk());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestCheckGsDeskFinder.getMithraObjectPortal();
+	}
+
+	public TestCheckGsDeskList getNonPersistentCopy()
+	{
+		TestCheckGsDeskList result = new TestCheckGsDeskList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestCheckGsDeskList asAdhoc()
+	{
+		return (TestCheckGsDeskList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestCheckGsDesk> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestCheckGsDeskList merge(MithraTransactionalList<TestCheckGsDesk> incoming, TopLevelMergeOptions<TestCheckGsDesk> mergeOptions)
+	{
+		return (TestCheckGsDeskList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestCheckGsDeskList getDetachedCopy()
+	{
+		TestCheckGsDeskList result = new TestCheckGsDeskList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestCheckGsDeskFinder.checkId(), newValue);
+	}
+
+	public void setGsDeskId(int newValue)
+	{
+		zSetInteger(TestCheckGsDeskFinder.gsDeskId(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(TestCheckGsDeskFinder.name(), newValue);
+	}
+}
@@ -0,0 +1,1054 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestControlledEntryAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestControlledEntryFinder.businessDate()
+	,
+		TestControlledEntryFinder.processingDate()
+	, TestControlledEntryFinder.zGetDoubleAttributes(),TestControlledEntryFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestControlledEntry.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public boolean isRestrictedEntitiesModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestControlledEntryData _data = (TestControlledEntryData) _behavior.getCurrentDataForRead(this);
+		TestRestrictedEntityList restrictedEntities =
+		(TestRestrictedEntityList) _data.getRestrictedEntities();
+		if( restrictedEntities != null)
+		{
+			return restrictedEntities.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public TestControlledEntryAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestControlledEntryFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestControlledEntryFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestControlledEntryAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public TestControlledEntryData zSynchronizedGetData()
+	{
+		return (TestControlledEntryData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestControlledEntryFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestControlledEntryFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insert(this);
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertUntil(this, exclusiveUntil);
+	}
+
+	public void insertForRecovery() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		checkAndGeneratePrimaryKeys();
+		behavior.insertForRecovery(this);
+	}
+
+	public void insertWithIncrement() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrement(this);
+	}
+
+	public void insertWithIncrementUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		behavior.insertWithIncrementUntil(this, exclusiveUntil);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		TestControlledEntryData _data = (TestControlledEntryData) _behavior.getCurrentDataForWrite(this);
+		TestRestrictedEntityList restrictedEntities =
+		(TestRestrictedEntityList ) _data.getRestrictedEntities();
+		_behavior.insert(this);
+		if (restrictedEntities != null)
+		{
+			restrictedEntities.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TestControlledEntryFinder.TestControlledEntryRelatedFinder parentFinder = (TestControlledEntryFinder.TestControlledEntryRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestControlledEntryData _newData = (TestControlledEntryData) _behavior.getCurrentDataForWrite(this);
+		{
+			TestRestrictedEntityList restrictedEntities =
+			(TestRestrictedEntityList) _newData.getRestrictedEntities();
+			RelatedFinder dependentFinder = parentFinder.restrictedEntities();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, restrictedEntities != null, navigationStats);
+			if (restrictedEntities != null)
+			{
+				restrictedEntities.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public TestControlledEntry zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		this.checkAndGeneratePrimaryKeys();
+		TestControlledEntryData _data = (TestControlledEntryData) _behavior.getCurrentDataForWrite(this);
+		TestRestrictedEntityList restrictedEntities =
+		(TestRestrictedEntityList ) _data.getRestrictedEntities();
+		TestControlledEntry original = (TestControlledEntry) _behavior.copyThenInsert(this);
+		if (restrictedEntities != null)
+		{
+			restrictedEntities.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getRestrictedEntities().cascadeInsertAllUntil(exclusiveUntil);
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestControlledEntry copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestControlledEntry) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestControlledEntry copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestControlledEntry) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestControlledEntryFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestControlledEntry getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestControlledEntryAbstract result = (TestControlledEntryAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestControlledEntry ) result;
+	}
+
+	public TestControlledEntry zFindOriginal()
+	{
+		TestControlledEntryData data = (TestControlledEntryData) this.currentData;
+		Operation op;
+		op = TestControlledEntryFinder.controlledEntryId().eq(data.getControlledEntryId());
+		op = op.and(TestControlledEntryFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestControlledEntryFinder.processingDate().eq(this.getProcessingDate()));
+		return TestControlledEntryFinder.findOne(op);
+	}
+
+	public TestControlledEntry getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestControlledEntryAbstract result = (TestControlledEntryAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestControlledEntry ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isRestrictedEntitiesModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestControlledEntry copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestControlledEntry) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestControlledEntry copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestControlledEntry) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestControlledEntryData data = (TestControlledEntryData) this.currentData;
+			Operation op = TestControlledEntryFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestControlledEntryFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestControlledEntryFinder.controlledEntryId().eq(data.getControlledEntryId()));
+			return TestControlledEntryFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestControlledEntryData data = (TestControlledEntryData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestControlledEntryFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestControlledEntryData data = (TestControlledEntryData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isApproveOverrideFlagNull()
+	{
+		return this.zSynchronizedGetData().isApproveOverrideFlagNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isControlledEntryIdNull()
+	{
+		return this.zSynchronizedGetData().isControlledEntryIdNull();
+	}
+
+	public boolean isCreateByNull()
+	{
+		return this.zSynchronizedGetData().isCreateByNull();
+	}
+
+	public boolean isMnpiTypeNull()
+	{
+		return this.zSynchronizedGetData().isMnpiTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isQuietPeriodLengthNull()
+	{
+		return this.zSynchronizedGetData().isQuietPeriodLengthNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public boolean isApproveOverrideFlag()
+	{
+		TestControlledEntryData data = this.zSynchronizedGetData();
+		if (data.isApproveOverrideFlagNull()) MithraNullPrimitiveException.throwNew("approveOverrideFlag", data);
+		return data.isApproveOverrideFlag();
+	}
+
+	public void setApproveOverrideFlag(boolean newValue)
+	{
+		zSetBoolean(TestControlledEntryFinder.approveOverrideFlag(), newValue, false ,true);
+	}
+
+	public void setApproveOverrideFlagUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(TestControlledEntryFinder.approveOverrideFlag(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.businessDateTo(), newValue, false );
+	}
+
+	public long getControlledEntryId()
+	{
+		return this.zSynchronizedGetData().getControlledEntryId();
+	}
+
+	public void setControlledEntryId(long newValue)
+	{
+		MithraDataObject d = zSetLong(TestControlledEntryFinder.controlledEntryId(), newValue, true ,false);
+		if (d == null) return;
+		TestControlledEntryData data = (TestControlledEntryData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			TestRestrictedEntityList restrictedEntities =
+			(TestRestrictedEntityList) data.getRestrictedEntities();
+			if (restrictedEntities != null)
+			{
+				restrictedEntities.setControlledEntryId(newValue);
+			}
+		}
+	}
+
+	public void setControlledEntryIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetLong(TestControlledEntryFinder.controlledEntryId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		TestControlledEntryData data = (TestControlledEntryData) d;
+		TestRestrictedEntityList restrictedEntities =
+		(TestRestrictedEntityList) data.getRestrictedEntities();
+		if (restrictedEntities != null)
+		{
+			restrictedEntities.setControlledEntryId(newValue);
+		}
+	}
+
+	public String getCreateBy()
+	{
+		return this.zSynchronizedGetData().getCreateBy();
+	}
+
+	public void setCreateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'createBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestControlledEntryFinder.createBy(), newValue, false );
+	}
+
+	public void setCreateByUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'createBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestControlledEntryFinder.createBy(), newValue, false , exclusiveUntil);
+	}
+
+	public String getMnpiType()
+	{
+		return this.zSynchronizedGetData().getMnpiType();
+	}
+
+	public void setMnpiType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'mnpiType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(TestControlledEntryFinder.mnpiType(), newValue, false );
+	}
+
+	public void setMnpiTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'mnpiType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(TestControlledEntryFinder.mnpiType(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getQuietPeriodLength()
+	{
+		TestControlledEntryData data = this.zSynchronizedGetData();
+		if (data.isQuietPeriodLengthNull()) MithraNullPrimitiveException.throwNew("quietPeriodLength", data);
+		return data.getQuietPeriodLength();
+	}
+
+	public void setQuietPeriodLength(int newValue)
+	{
+		zSetInteger(TestControlledEntryFinder.quietPeriodLength(), newValue, false ,true);
+	}
+
+	public void setQuietPeriodLengthUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestControlledEntryFinder.quietPeriodLength(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestControlledEntryFinder.updateBy(), newValue, false );
+	}
+
+	public void setUpdateByUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestControlledEntryFinder.updateBy(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestControlledEntryFinder.approveOverrideFlag(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestControlledEntryFinder.quietPeriodLength(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestControlledEntryData data2 = (TestControlledEntryData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestControlledEntryFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setApproveOverrideFlagNull()
+	{
+		zNullify(TestControlledEntryFinder.approveOverrideFlag(), false);
+	}
+
+	public void setApproveOverrideFlagNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestControlledEntryFinder.approveOverrideFlag(), false, exclusiveUntil);
+	}
+
+	public void setQuietPeriodLengthNull()
+	{
+		zNullify(TestControlledEntryFinder.quietPeriodLength(), false);
+	}
+
+	public void setQuietPeriodLengthNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestControlledEntryFinder.quietPeriodLength(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestControlledEntryData _newData = (TestControlledEntryData) _data;
+		{
+			TestRestrictedEntityList restrictedEntities =
+			(TestRestrictedEntityList) _newData.getRestrictedEntities();
+			if (restrictedEntities != null)
+			{
+				restrictedEntities.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestControlledEntryData _newData = (TestControlledEntryData) behavior.getCurrentDataForRead(this);
+		if (_newData.getRestrictedEntities() != null && !(_newData.getRestrictedEntities() instanceof NulledRelation))
+		{
+			((TestRestrictedEntityList)_newData.getRestrictedEntities()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestControlledEntryData _newData = (TestControlledEntryData) behavior.getCurrentDataForRead(this);
+		if (_newData.getRestrictedEntities() != null && !(_newData.getRestrictedEntities() instanceof NulledRelation))
+		{
+			((TestRestrictedEntityList)_newData.getRestrictedEntities()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestRestrictedEntity.controlledEntryId=this.controlledEntryId</pre>
+	* @see TestRestrictedEntity#getControlledEntry() reverse relationship TestRestrictedEntity.getControlledEntry()
+	* @return restricted entities
+	*/
+	public TestRestrictedEntityList getRestrictedEntities()
+	{
+		TestRestrictedEntityList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestControlledEntryData _data = (TestControlledEntryData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestControlledEntryFinder.restrictedEntities().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (TestRestrictedEntityList) _data.getRestrictedEntities();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestControlledEntryFinder.restrictedEntities().zGetRelationshipMultiExtractor(), this);
+					_result = new TestRestrictedEntityList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new RestrictedEntitiesAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestControlledEntryData) _behavior.getCurrentDataForWrite(this);
+				_data.setRestrictedEntities(_result);
+				if (_result != null) _result.zSetParentContainercontrolledEntry(this);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestRestrictedEntityList) _data.getRestrictedEntities();
+			if (_result == null)
+			{
+				_result = new TestRestrictedEntityList();
+				_result.zSetAddHandler(new RestrictedEntitiesAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestControlledEntryData) _behavior.getCurrentDataForWrite(this);
+				_data.setRestrictedEntities(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new TestRestrictedEntityList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new RestrictedEntitiesAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setRestrictedEntities(TestRestrictedEntityList restrictedEntities)
+	{
+		TestRestrictedEntityList _restrictedEntities = (TestRestrictedEntityList) restrictedEntities;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestControlledEntryData _data = (TestControlledEntryData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _restrictedEntities != null)
+			{
+				_restrictedEntities.zMakeDetached(new RelationshipMultiEqualityOperation(TestControlledEntryFinder.restrictedEntities().zGetRelationshipMultiExtractor(), this),
+					_data.getRestrictedEntities());
+			}
+
+			_data.setRestrictedEntities(_restrictedEntities);
+			if (_restrictedEntities != null)
+			{
+				_restrictedEntities.setControlledEntryId(_data.getControlledEntryId());
+				_restrictedEntities.zSetParentContainercontrolledEntry(this);
+				_restrictedEntities.zSetAddHandler(new RestrictedEntitiesAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_restrictedEntities.zSetAddHandler(new RestrictedEntitiesAddHandlerPersisted());
+			TestRestrictedEntityList restrictedEntitiesToDelete = new TestRestrictedEntityList();
+			restrictedEntitiesToDelete.addAll(this.getRestrictedEntities());
+			for(int i=0;i < _restrictedEntities.size(); i++)
+			{
+				TestRestrictedEntity item = _restrictedEntities.getTestRestrictedEntityAt(i);
+				if (!restrictedEntitiesToDelete.remove(item))
+				{
+					item.setControlledEntryId(_data.getControlledEntryId());
+					item.cascadeInsert();
+				}
+			}
+
+			restrictedEntitiesToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return TestControlledEntryFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestControlledEntryData.TestControlledEntryDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestControlledEntryData data = (TestControlledEntryData) TestControlledEntryFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestControlledEntry has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestControlledEntryData( TestControlledEntryData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestControlledEntryData( TestControlledEntryData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestControlledEntryFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestControlledEntryFinder.getMithraObjectPortal();
+	}
+
+	public TestControlledEntry getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestControlledEntryAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestControlledEntryAbstract from = (TestControlledEntryAbstract) f;
+		TestControlledEntryData newData = from.zSynchronizedGetData();
+		if (from.isApproveOverrideFlagNull())
+		{
+			this.setApproveOverrideFlagNull();
+		}
+		else
+		{
+			this.setApproveOverrideFlag(newData.isApproveOverrideFlag());
+		}
+
+		this.setCreateBy(newData.getCreateBy());
+		this.setMnpiType(newData.getMnpiType());
+		if (from.isQuietPeriodLengthNull())
+		{
+			this.setQuietPeriodLengthNull();
+		}
+		else
+		{
+			this.setQuietPeriodLength(newData.getQuietPeriodLength());
+		}
+
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestControlledEntryData _newData = (TestControlledEntryData) _data;
+		TestRestrictedEntityList restrictedEntities =
+		(TestRestrictedEntityList) _newData.getRestrictedEntities();
+		if (restrictedEntities != null)
+		{
+			restrictedEntities.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestControlledEntryData _newData = (TestControlledEntryData) _data;
+		TestRestrictedEntityList restrictedEntities =
+		(TestRestrictedEntityList) _newData.getRestrictedEntities();
+		if (restrictedEntities != null)
+		{
+			restrictedEntities.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestControlledEntryAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestControlledEntryAbstract from = (TestControlledEntryAbstract)f;
+		TestControlledEntryData newData = from.zSynchronizedGetData();
+		if (from.isApproveOverrideFlagNull())
+		{
+			this.setApproveOverrideFlagNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setApproveOverrideFlagUntil(newData.isApproveOverrideFlag(), exclusiveUntil);
+		}
+
+		this.setCreateByUntil(newData.getCreateBy(), exclusiveUntil);
+		this.setMnpiTypeUntil(newData.getMnpiType(), exclusiveUntil);
+		if (from.isQuietPeriodLengthNull())
+		{
+			this.setQuietPeriodLengthNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setQuietPeriodLengthUntil(newData.getQuietPeriodLength(), exclusiveUntil);
+		}
+
+		this.setUpdateByUntil(newData.getUpdateBy(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestControlledEntryData newData = (TestControlledEntryData) d;
+		TestControlledEntryData data = (TestControlledEntryData) nd;
+		if (TestControlledEntryFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, TestControlledEntryFinder.approveOverrideFlag(), false);
+		changed |= zUpdateLong(behavior, data, newData, TestControlledEntryFinder.controlledEntryId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestControlledEntryFinder.createBy(), false);
+		changed |= zUpdateString(behavior, data, newData, TestControlledEntryFinder.mnpiType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestControlledEntryFinder.quietPeriodLength(), false);
+		changed |= zUpdateString(behavior, data, newData, TestControlledEntryFinder.updateBy(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, TestControlledEntryFinder.approveOverrideFlag(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, TestControlledEntryFinder.controlledEntryId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestControlledEntryFinder.createBy(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestControlledEntryFinder.mnpiType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestControlledEntryFinder.quietPeriodLength(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestControlledEntryFinder.updateBy(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getRestrictedEntities().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getRestrictedEntities().cascadeTerminateAllUntil(exclusiveUntil);
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestControlledEntryData data = ((TestControlledEntryData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestControlledEntryData data = ((TestControlledEntryData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestControlledEntryData data = ((TestControlledEntryData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public long generateAndSetControlledEntryId()
+	{
+		long nextValue =(long) this.generateControlledEntryId();
+		this.setControlledEntryId(nextValue);
+		return nextValue;
+	}
+
+	public boolean zGetIsControlledEntryIdSet()
+	{
+		TestControlledEntryData data = this.zSynchronizedGetData();
+		return data.zGetIsControlledEntryIdSet();
+	}
+
+	protected long generateControlledEntryId()
+	{
+		Object sourceAttribute = null;
+		TestControlledEntryFinder.getMithraObjectPortal().getCache();
+		SimulatedSequencePrimaryKeyGenerator primaryKeyGenerator =
+		MithraPrimaryKeyGenerator.getInstance().getSimulatedSequencePrimaryKeyGeneratorForNoSourceAttribute("CONTROLLED_ENTRY_SEQ", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory",sourceAttribute);
+		return (long)primaryKeyGenerator.getNextId(sourceAttribute);
+	}
+
+	private void checkAndGeneratePrimaryKeys()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		TestControlledEntryData data = (TestControlledEntryData) behavior.getCurrentDataForWrite(this);
+		if (!data.zGetIsControlledEntryIdSet())
+		{
+			long newValue = this.generateControlledEntryId();
+			data.setControlledEntryId(newValue);
+			TestRestrictedEntityList restrictedEntities =
+			(TestRestrictedEntityList ) data.getRestrictedEntities();
+			if (restrictedEntities != null)
+			{
+				restrictedEntities.setControlledEntryId(newValue);
+			}
+		}
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestControlledEntryFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestControlledEntryFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestControlledEntryData localData = (TestControlledEntryData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class RestrictedEntitiesAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestRestrictedEntity item = (TestRestrictedEntity) relatedObject;
+			item.setControlledEntryId(getControlledEntryId());
+			item.zSetParentContainercontrolledEntry(TestControlledEntryAbstract.this);
+		}
+	}
+
+	protected class RestrictedEntitiesAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestRestrictedEntity item = (TestRestrictedEntity) relatedObject;
+			item.setControlledEntryId(getControlledEntryId());
+			item.cascadeInsert();
+		}
+	}
+}
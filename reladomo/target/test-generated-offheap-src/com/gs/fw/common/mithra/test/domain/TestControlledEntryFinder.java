@@ -0,0 +1,994 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestControlledEntryFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestControlledEntry";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestControlledEntry";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestControlledEntry");
+	private static final TestControlledEntrySingleFinder<TestControlledEntry, Object, TestControlledEntry> finder = new TestControlledEntrySingleFinder<TestControlledEntry, Object, TestControlledEntry>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestControlledEntryFinder.TestControlledEntryRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("controlledEntryId");
+		finderMethodMap.addNormalAttributeName("mnpiType");
+		finderMethodMap.addNormalAttributeName("approveOverrideFlag");
+		finderMethodMap.addNormalAttributeName("quietPeriodLength");
+		finderMethodMap.addNormalAttributeName("createBy");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("restrictedEntities");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = TestControlledEntryFinder.controlledEntryId().constructEqualityMapper(TestRestrictedEntityFinder.controlledEntryId());
+			result[1] = TestRestrictedEntityFinder.controlledEntryId().constructEqualityMapper(TestControlledEntryFinder.controlledEntryId());
+			result[2] = TestControlledEntryFinder.businessDate().constructEqualityMapper(TestRestrictedEntityFinder.businessDate());
+			result[3] = TestRestrictedEntityFinder.businessDate().constructEqualityMapper(TestControlledEntryFinder.businessDate());
+			result[4] = TestControlledEntryFinder.processingDate().constructEqualityMapper(TestRestrictedEntityFinder.processingDate());
+			result[5] = TestRestrictedEntityFinder.processingDate().constructEqualityMapper(TestControlledEntryFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestControlledEntry findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestControlledEntry findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestControlledEntryList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestControlledEntryList) finder.findMany(operation);
+	}
+
+	public static TestControlledEntryList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestControlledEntryList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestControlledEntry findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestControlledEntry) FinderUtils.findOne(found);
+	}
+
+	public static TestControlledEntry findByPrimaryKey(long controlledEntryId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(controlledEntryId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestControlledEntryData _castedTargetData = (TestControlledEntryData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getControlledEntryId())
+			{
+				return TestControlledEntryFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestControlledEntryFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static TestControlledEntry zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestControlledEntry) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestControlledEntryRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestControlledEntry, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> controlledEntryId;
+		private StringAttribute<ParentOwnerType> mnpiType;
+		private BooleanAttribute<ParentOwnerType> approveOverrideFlag;
+		private IntegerAttribute<ParentOwnerType> quietPeriodLength;
+		private StringAttribute<ParentOwnerType> createBy;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private TestControlledEntryRestrictedEntitiesFinderSubclass<ParentOwnerType> restrictedEntities;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestControlledEntryRelatedFinder()
+		{
+			super();
+		}
+
+		public TestControlledEntryRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestControlledEntryFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestControlledEntryFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestControlledEntryFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestControlledEntryFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.controlledEntryId();
+			attributes[1] = this.mnpiType();
+			attributes[2] = this.approveOverrideFlag();
+			attributes[3] = this.quietPeriodLength();
+			attributes[4] = this.createBy();
+			attributes[5] = this.updateBy();
+			attributes[6] = this.processingDateFrom();
+			attributes[7] = this.processingDateTo();
+			attributes[8] = this.businessDateFrom();
+			attributes[9] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.restrictedEntities());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.restrictedEntities());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestControlledEntry findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestControlledEntryFinder.findOne(operation, false);
+		}
+
+		public TestControlledEntry findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestControlledEntryFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestControlledEntry> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestControlledEntryList((Operation) operation);
+		}
+
+		public MithraList<? extends TestControlledEntry> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestControlledEntryList result = (TestControlledEntryList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestControlledEntry> constructEmptyList()
+		{
+			return new TestControlledEntryList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 580546728;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> controlledEntryId()
+		{
+			LongAttribute<ParentOwnerType> result = this.controlledEntryId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("CONTROLLED_ENTRY_ID","","controlledEntryId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,8,-1,-1,true, false) :
+					new MappedLongAttribute(TestControlledEntryFinder.controlledEntryId(), this.mapper, this.zGetValueSelector());
+				this.controlledEntryId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> mnpiType()
+		{
+			StringAttribute<ParentOwnerType> result = this.mnpiType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("MNPI_TYPE","","mnpiType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,37,-1,-1,10,true, false) :
+					new MappedStringAttribute(TestControlledEntryFinder.mnpiType(), this.mapper, this.zGetValueSelector());
+				this.mnpiType = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> approveOverrideFlag()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.approveOverrideFlag;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("APPROVE_OVERRIDE_FLG","","approveOverrideFlag",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,16,-1,-1, false) :
+					new MappedBooleanAttribute(TestControlledEntryFinder.approveOverrideFlag(), this.mapper, this.zGetValueSelector());
+				this.approveOverrideFlag = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> quietPeriodLength()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.quietPeriodLength;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("QUIET_PERIOD_LENGTH","","quietPeriodLength",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,false,57,4,0,false, false) :
+					new MappedIntegerAttribute(TestControlledEntryFinder.quietPeriodLength(), this.mapper, this.zGetValueSelector());
+				this.quietPeriodLength = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> createBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.createBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CREATE_BY","","createBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,33,-1,-1,30,true, false) :
+					new MappedStringAttribute(TestControlledEntryFinder.createBy(), this.mapper, this.zGetValueSelector());
+				this.createBy = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,61,-1,-1,30,true, false) :
+					new MappedStringAttribute(TestControlledEntryFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,41,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestControlledEntryFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestControlledEntryFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,49,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestControlledEntryFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestControlledEntryFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,17,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestControlledEntryFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestControlledEntryFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,25,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestControlledEntryFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestControlledEntryFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestControlledEntryFinder.businessDateInfinity,false,false,TestControlledEntryFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestControlledEntryFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestControlledEntryFinder.processingDateInfinity,false,false,TestControlledEntryFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestControlledEntryFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TestRestrictedEntityFinder.TestRestrictedEntityCollectionFinderForRelatedClasses<ParentOwnerType, TestRestrictedEntityList, TestControlledEntry> restrictedEntities()
+		{
+			TestControlledEntryRestrictedEntitiesFinderSubclass<ParentOwnerType> result = this.restrictedEntities;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestControlledEntryFinder.zGetTestControlledEntryRestrictedEntitiesReverseMapper());
+				newMapper.setToMany(true);
+				result = new TestControlledEntryRestrictedEntitiesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.restrictedEntities = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestControlledEntryFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestControlledEntryFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestControlledEntryCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestControlledEntryRelatedFinder<ParentOwnerType, ReturnType, TestControlledEntryList, OwnerType>
+	{
+		public TestControlledEntryCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestControlledEntryCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestControlledEntryCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestControlledEntryCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestControlledEntrySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestControlledEntryRelatedFinder<ParentOwnerType, ReturnType, TestControlledEntryList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestControlledEntrySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestControlledEntrySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestControlledEntry other)
+		{
+			return this.controlledEntryId().eq(other.getControlledEntryId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestControlledEntry findByPrimaryKey(long controlledEntryId, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestControlledEntry _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(controlledEntryId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestControlledEntry) _related;
+			if (_related == null)
+			{
+				_op = this.controlledEntryId().eq(controlledEntryId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestControlledEntrySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestControlledEntrySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestControlledEntrySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper restrictedEntitiesReverseMapper = null;
+	public static Mapper zGetTestControlledEntryRestrictedEntitiesReverseMapper()
+	{
+		if (restrictedEntitiesReverseMapper == null)
+		{
+			restrictedEntitiesReverseMapper = zConstructTestControlledEntryRestrictedEntitiesReverseMapper();
+		}
+
+		return restrictedEntitiesReverseMapper;
+	}
+
+	private static Mapper restrictedEntitiesMapper = null;
+	public static Mapper zGetTestControlledEntryRestrictedEntitiesMapper()
+	{
+		if (restrictedEntitiesMapper == null)
+		{
+			restrictedEntitiesMapper = zConstructTestControlledEntryRestrictedEntitiesMapper();
+		}
+
+		return restrictedEntitiesMapper;
+	}
+
+	private static Mapper restrictedEntitiesPureReverseMapper = null;
+	public static Mapper zGetTestControlledEntryRestrictedEntitiesPureReverseMapper()
+	{
+		if (restrictedEntitiesPureReverseMapper == null)
+		{
+			restrictedEntitiesPureReverseMapper = zConstructTestControlledEntryRestrictedEntitiesPureReverseMapper();
+		}
+
+		return restrictedEntitiesPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestControlledEntryRestrictedEntitiesPureReverseMapper()
+	{
+		InternalList restrictedEntitiesMapperMapperList = new InternalList(3);
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(0));
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(2));
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(4));
+		Mapper restrictedEntitiesMapper = new MultiEqualityMapper(restrictedEntitiesMapperMapperList);
+		restrictedEntitiesMapper.setName("restrictedEntities");
+		return restrictedEntitiesMapper;
+	}
+
+	private static Mapper zConstructTestControlledEntryRestrictedEntitiesReverseMapper()
+	{
+		InternalList restrictedEntitiesMapperMapperList = new InternalList(3);
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(0));
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(2));
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(4));
+		Mapper restrictedEntitiesMapper = new MultiEqualityMapper(restrictedEntitiesMapperMapperList);
+		restrictedEntitiesMapper.setName("restrictedEntities");
+		return restrictedEntitiesMapper;
+	}
+
+	private static Mapper zConstructTestControlledEntryRestrictedEntitiesMapper()
+	{
+		InternalList restrictedEntitiesMapperMapperList = new InternalList(3);
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(1));
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(3));
+		restrictedEntitiesMapperMapperList.add(TestControlledEntryFinder.zGetConstantJoin(5));
+		Mapper restrictedEntitiesMapper = new MultiEqualityMapper(restrictedEntitiesMapperMapperList);
+		restrictedEntitiesMapper.setName("controlledEntry");
+		return restrictedEntitiesMapper;
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.CONTROLLED_ENTRY_ID **/
+	public static LongAttribute<TestControlledEntry> controlledEntryId()
+	{
+		return finder.controlledEntryId();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.MNPI_TYPE **/
+	public static StringAttribute<TestControlledEntry> mnpiType()
+	{
+		return finder.mnpiType();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.APPROVE_OVERRIDE_FLG **/
+	public static BooleanAttribute<TestControlledEntry> approveOverrideFlag()
+	{
+		return finder.approveOverrideFlag();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.QUIET_PERIOD_LENGTH **/
+	public static IntegerAttribute<TestControlledEntry> quietPeriodLength()
+	{
+		return finder.quietPeriodLength();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.CREATE_BY **/
+	public static StringAttribute<TestControlledEntry> createBy()
+	{
+		return finder.createBy();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.UPDATE_BY **/
+	public static StringAttribute<TestControlledEntry> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.IN_DT **/
+	public static TimestampAttribute<TestControlledEntry> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.OUT_DT **/
+	public static TimestampAttribute<TestControlledEntry> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.FROM_DT **/
+	public static TimestampAttribute<TestControlledEntry> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_CONTROLLED_ENTRY.THRU_DT **/
+	public static TimestampAttribute<TestControlledEntry> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestControlledEntry> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestControlledEntry> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TestRestrictedEntityFinder.TestRestrictedEntityCollectionFinderForRelatedClasses<TestControlledEntry, TestRestrictedEntityList, TestControlledEntry> restrictedEntities()
+	{
+		return finder.restrictedEntities();
+	}
+
+	public static class TestControlledEntryRestrictedEntitiesFinderSubclass<ParentOwnerType> extends TestRestrictedEntityFinder.TestRestrictedEntityCollectionFinderForRelatedClasses<ParentOwnerType, TestRestrictedEntityList, TestControlledEntry>
+	{
+		public TestControlledEntryRestrictedEntitiesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "restrictedEntities";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestRestrictedEntityFinder.controlledEntryId(),
+				TestRestrictedEntityFinder.businessDate(),
+				TestRestrictedEntityFinder.processingDate()).withExtractors(
+				TestControlledEntryFinder.controlledEntryId(),
+				TestControlledEntryFinder.businessDate(),
+				TestControlledEntryFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestControlledEntryRestrictedEntitiesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestControlledEntry) _obj).isRestrictedEntitiesModifiedSinceDetachment();
+		}
+
+		protected TestRestrictedEntityList plainValueOf(TestControlledEntry _obj)
+		{
+			return _obj.getRestrictedEntities();
+		}
+
+		protected TestRestrictedEntityList plainListValueOf(Object _obj)
+		{
+			return ((TestControlledEntryList)_obj).getRestrictedEntities();
+		}
+	}
+
+	public static Operation eq(TestControlledEntry other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(controlledEntryId());
+	}
+
+	public static TestControlledEntrySingleFinder<TestControlledEntry, Object, TestControlledEntry> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			controlledEntryId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			controlledEntryId()
+			, controlledEntryId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestControlledEntry");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,215 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestControlledEntryListAbstract extends DelegatingList<TestControlledEntry> implements MithraDatedTransactionalList<TestControlledEntry>
+{
+	public TestControlledEntryListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestControlledEntryListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestControlledEntryListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestControlledEntryListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestControlledEntry[] elements()
+	{
+		TestControlledEntry[] result = new TestControlledEntry[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestControlledEntryList intersection(TestControlledEntryList another)
+	{
+		return (TestControlledEntryList)super.intersection(another);
+	}
+
+	public TestControlledEntry getTestControlledEntryAt(int index)
+	{
+		return (TestControlledEntry)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestRestrictedEntity.controlledEntryId=this.controlledEntryId</pre>
+	* @see TestRestrictedEntity#getControlledEntry() reverse relationship TestRestrictedEntity.getControlledEntry()
+	* @return restricted entities
+	*/
+	public TestRestrictedEntityList getRestrictedEntities()
+	{
+		return (TestRestrictedEntityList) this.getDelegated().resolveRelationship(this, TestControlledEntryFinder.restrictedEntities());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestControlledEntryFinder.getMithraObjectPortal();
+	}
+
+	public TestControlledEntryList getNonPersistentCopy()
+	{
+		TestControlledEntryList result = new TestControlledEntryList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestControlledEntryList asAdhoc()
+	{
+		return (TestControlledEntryList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestControlledEntry> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestControlledEntryList merge(MithraTransactionalList<TestControlledEntry> incoming, TopLevelMergeOptions<TestControlledEntry> mergeOptions)
+	{
+		return (TestControlledEntryList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestControlledEntryList getDetachedCopy()
+	{
+		TestControlledEntryList result = new TestControlledEntryList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)TestControlledEntryFinder.controlledEntryId(), false, "CONTROLLED_ENTRY_SEQ", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setApproveOverrideFlag(boolean newValue)
+	{
+		zSetBoolean(TestControlledEntryFinder.approveOverrideFlag(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.businessDateTo(), newValue);
+	}
+
+	public void setControlledEntryId(long newValue)
+	{
+		zSetLong(TestControlledEntryFinder.controlledEntryId(), newValue);
+	}
+
+	public void setCreateBy(String newValue)
+	{
+		zSetString(TestControlledEntryFinder.createBy(), newValue);
+	}
+
+	public void setMnpiType(String newValue)
+	{
+		zSetString(TestControlledEntryFinder.mnpiType(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestControlledEntryFinder.processingDateTo(), newValue);
+	}
+
+	public void setQuietPeriodLength(int newValue)
+	{
+		zSetInteger(TestControlledEntryFinder.quietPeriodLength(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(TestControlledEntryFinder.updateBy(), newValue);
+	}
+
+	public void setApproveOverrideFlagNull()
+	{
+		zSetAttributeNull(TestControlledEntryFinder.approveOverrideFlag());
+	}
+
+	public void setQuietPeriodLengthNull()
+	{
+		zSetAttributeNull(TestControlledEntryFinder.quietPeriodLength());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
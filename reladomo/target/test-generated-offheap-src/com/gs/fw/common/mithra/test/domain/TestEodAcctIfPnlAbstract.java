@@ -0,0 +1,750 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegment;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentAbstract;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentData;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentFinder;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestEodAcctIfPnlAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		TestEodAcctIfPnlFinder.processingDate()
+	, TestEodAcctIfPnlFinder.zGetDoubleAttributes(),TestEodAcctIfPnlFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestEodAcctIfPnl.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy foracctEntitySegmentImpl = new AcctEntitySegmentImplRhs();
+	private static final class AcctEntitySegmentImplRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TestAcctEntitySegmentFinder.businessDate();
+		private AsOfAttribute processingDate = TestAcctEntitySegmentFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestEodAcctIfPnl _castedSrcObject = (TestEodAcctIfPnl) _srcObject;
+			TestEodAcctIfPnlData _castedSrcData = (TestEodAcctIfPnlData) _srcData;
+			TestAcctEntitySegmentData _castedTargetData = (TestAcctEntitySegmentData) _targetData;
+			if (_castedSrcData.getAccountId()!= null && _castedSrcData.getAccountId().equals(_castedTargetData.getAccountId()))
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestEodAcctIfPnlData _castedSrcData = (TestEodAcctIfPnlData) _srcData;
+			return HashUtil.hash(_castedSrcData.getAccountId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestEodAcctIfPnlData _castedSrcData = (TestEodAcctIfPnlData) _srcData;
+			return HashUtil.offHeapHash(_castedSrcData.zGetAccountIdAsInt());
+		}
+	}
+
+	public TestEodAcctIfPnlAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestEodAcctIfPnlFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestEodAcctIfPnlData zSynchronizedGetData()
+	{
+		return (TestEodAcctIfPnlData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestEodAcctIfPnlFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestEodAcctIfPnl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestEodAcctIfPnl original = (TestEodAcctIfPnl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			TestEodAcctIfPnlFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestEodAcctIfPnl getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TestEodAcctIfPnlAbstract result = (TestEodAcctIfPnlAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestEodAcctIfPnl ) result;
+	}
+
+	public TestEodAcctIfPnl zFindOriginal()
+	{
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData) this.currentData;
+		Operation op;
+		op = TestEodAcctIfPnlFinder.accountId().eq(data.getAccountId());
+		op = op.and(TestEodAcctIfPnlFinder.ifCode().eq(data.getIfCode()));
+		op = op.and(TestEodAcctIfPnlFinder.businessDate().eq(data.getBusinessDate()));
+		op = op.and(TestEodAcctIfPnlFinder.balanceType().eq(data.getBalanceType()));
+		op = op.and(TestEodAcctIfPnlFinder.processingDate().eq(this.getProcessingDate()));
+		return TestEodAcctIfPnlFinder.findOne(op);
+	}
+
+	public TestEodAcctIfPnl getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TestEodAcctIfPnlAbstract result = (TestEodAcctIfPnlAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestEodAcctIfPnl ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestEodAcctIfPnl copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestEodAcctIfPnl) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestEodAcctIfPnl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestEodAcctIfPnl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestEodAcctIfPnlData data = (TestEodAcctIfPnlData) this.currentData;
+			Operation op = TestEodAcctIfPnlFinder.processingDate().eq(this.processingDate);
+			op = op.and(TestEodAcctIfPnlFinder.accountId().eq(data.getAccountId()));
+			op = op.and(TestEodAcctIfPnlFinder.balanceType().eq(data.getBalanceType()));
+			op = op.and(TestEodAcctIfPnlFinder.businessDate().eq(data.getBusinessDate()));
+			op = op.and(TestEodAcctIfPnlFinder.ifCode().eq(data.getIfCode()));
+			return TestEodAcctIfPnlFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAllocationNull()
+	{
+		return this.zSynchronizedGetData().isAllocationNull();
+	}
+
+	public boolean isBalanceNull()
+	{
+		return this.zSynchronizedGetData().isBalanceNull();
+	}
+
+	public boolean isBalanceTypeNull()
+	{
+		return this.zSynchronizedGetData().isBalanceTypeNull();
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateNull();
+	}
+
+	public boolean isIfCodeNull()
+	{
+		return this.zSynchronizedGetData().isIfCodeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.zSynchronizedGetData().isUserIdNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestEodAcctIfPnlFinder.accountId(), newValue, true );
+	}
+
+	public double getAllocation()
+	{
+		TestEodAcctIfPnlData data = this.zSynchronizedGetData();
+		if (data.isAllocationNull()) MithraNullPrimitiveException.throwNew("allocation", data);
+		return data.getAllocation();
+	}
+
+	public void setAllocation(double newValue)
+	{
+		zSetDouble(TestEodAcctIfPnlFinder.allocation(), newValue, false ,true);
+	}
+
+	public double getBalance()
+	{
+		TestEodAcctIfPnlData data = this.zSynchronizedGetData();
+		if (data.isBalanceNull()) MithraNullPrimitiveException.throwNew("balance", data);
+		return data.getBalance();
+	}
+
+	public void setBalance(double newValue)
+	{
+		zSetDouble(TestEodAcctIfPnlFinder.balance(), newValue, false ,true);
+	}
+
+	public int getBalanceType()
+	{
+		return this.zSynchronizedGetData().getBalanceType();
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestEodAcctIfPnlFinder.balanceType(), newValue, true ,false);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.zSynchronizedGetData().getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(TestEodAcctIfPnlFinder.businessDate(), newValue, true );
+	}
+
+	public String getIfCode()
+	{
+		return this.zSynchronizedGetData().getIfCode();
+	}
+
+	public void setIfCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestEodAcctIfPnlFinder.ifCode(), newValue, true );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestEodAcctIfPnlFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestEodAcctIfPnlFinder.processingDateTo(), newValue, false );
+	}
+
+	public String getUserId()
+	{
+		return this.zSynchronizedGetData().getUserId();
+	}
+
+	public void setUserId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestEodAcctIfPnlFinder.userId(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestEodAcctIfPnlFinder.allocation(), false, mustCheckCurrent);
+		zNullify(behavior, data, TestEodAcctIfPnlFinder.balance(), false, mustCheckCurrent);
+	}
+
+	public void setAllocationNull()
+	{
+		zNullify(TestEodAcctIfPnlFinder.allocation(), false);
+	}
+
+	public void setBalanceNull()
+	{
+		zNullify(TestEodAcctIfPnlFinder.balance(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestEodAcctIfPnlData _newData = (TestEodAcctIfPnlData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestEodAcctIfPnlData _newData = (TestEodAcctIfPnlData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestEodAcctIfPnlData _newData = (TestEodAcctIfPnlData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = TestEodAcctIfPnl.accountId and this.ifCode = TestEodAcctIfPnl.ifCode</pre>
+	* @return updated balances on other date
+	*/
+	public TestEodAcctIfPnlList getUpdatedBalancesOnOtherDate()
+	{
+		TestEodAcctIfPnlList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestEodAcctIfPnlData _data = (TestEodAcctIfPnlData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestEodAcctIfPnlFinder.updatedBalancesOnOtherDate().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestEodAcctIfPnlFinder.updatedBalancesOnOtherDate().zGetRelationshipMultiExtractor(), this);
+					_result = new TestEodAcctIfPnlList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestEodAcctIfPnlList) _data.getUpdatedBalancesOnOtherDate();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestEodAcctIfPnlFinder.updatedBalancesOnOtherDate().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new TestEodAcctIfPnlList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setUpdatedBalancesOnOtherDate(TestEodAcctIfPnlList updatedBalancesOnOtherDate)
+	{
+		TestEodAcctIfPnlList _updatedBalancesOnOtherDate = (TestEodAcctIfPnlList) updatedBalancesOnOtherDate;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestEodAcctIfPnlData _data = (TestEodAcctIfPnlData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setUpdatedBalancesOnOtherDate(_updatedBalancesOnOtherDate);
+		}
+		else if (_behavior.isPersisted())
+		{
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.accountId = TestAcctEntitySegment.accountId and this.businessDate = TestAcctEntitySegment.businessDate )</pre>
+	* @see TestAcctEntitySegment#getAcctEntitySegment2eodAcctIfPnl() reverse relationship TestAcctEntitySegment.getAcctEntitySegment2eodAcctIfPnl()
+	* @return The acct entity segment impl
+	*/
+	public TestAcctEntitySegment getAcctEntitySegmentImpl()
+	{
+		TestAcctEntitySegment _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestEodAcctIfPnlData _data = (TestEodAcctIfPnlData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestAcctEntitySegmentFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, foracctEntitySegmentImpl,_data.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (TestAcctEntitySegment) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TestEodAcctIfPnlFinder.acctEntitySegmentImpl().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestEodAcctIfPnlFinder.acctEntitySegmentImpl().zGetRelationshipMultiExtractor(), this);
+					_result = TestAcctEntitySegmentFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestAcctEntitySegment) _data.getAcctEntitySegmentImpl();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestEodAcctIfPnlFinder.acctEntitySegmentImpl().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestAcctEntitySegmentFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setAcctEntitySegmentImpl(TestAcctEntitySegment acctEntitySegmentImpl)
+	{
+		TestAcctEntitySegment _acctEntitySegmentImpl = (TestAcctEntitySegment) acctEntitySegmentImpl;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestEodAcctIfPnlData _data = (TestEodAcctIfPnlData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setAcctEntitySegmentImpl(_acctEntitySegmentImpl);
+			if (_acctEntitySegmentImpl == null)
+			{
+				this.setAccountId(null);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setAccountId(
+					_acctEntitySegmentImpl.getAccountId());
+				this.setBusinessDate(
+					_acctEntitySegmentImpl.getBusinessDate());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_acctEntitySegmentImpl == null)
+			{
+				this.setAccountId(null);
+				this.setBusinessDate(null);
+			}
+			else
+			{
+				this.setAccountId(
+					_acctEntitySegmentImpl.getAccountId());
+				this.setBusinessDate(
+					_acctEntitySegmentImpl.getBusinessDate());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public Cache zGetCache()
+	{
+		return TestEodAcctIfPnlFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestEodAcctIfPnlData.TestEodAcctIfPnlDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData) TestEodAcctIfPnlFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestEodAcctIfPnl has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestEodAcctIfPnlData( TestEodAcctIfPnlData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestEodAcctIfPnlData( TestEodAcctIfPnlData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestEodAcctIfPnlFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+	}
+
+	public TestEodAcctIfPnl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestEodAcctIfPnlAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestEodAcctIfPnlAbstract from = (TestEodAcctIfPnlAbstract) f;
+		TestEodAcctIfPnlData newData = from.zSynchronizedGetData();
+		if (from.isAllocationNull())
+		{
+			this.setAllocationNull();
+		}
+		else
+		{
+			this.setAllocation(newData.getAllocation());
+		}
+
+		if (from.isBalanceNull())
+		{
+			this.setBalanceNull();
+		}
+		else
+		{
+			this.setBalance(newData.getBalance());
+		}
+
+		this.setUserId(newData.getUserId());
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestEodAcctIfPnlData newData = (TestEodAcctIfPnlData) d;
+		TestEodAcctIfPnlData data = (TestEodAcctIfPnlData) nd;
+		if (TestEodAcctIfPnlFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestEodAcctIfPnlFinder.accountId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestEodAcctIfPnlFinder.allocation(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestEodAcctIfPnlFinder.balance(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestEodAcctIfPnlFinder.balanceType(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TestEodAcctIfPnlFinder.businessDate(), false);
+		changed |= zUpdateString(behavior, data, newData, TestEodAcctIfPnlFinder.ifCode(), false);
+		changed |= zUpdateString(behavior, data, newData, TestEodAcctIfPnlFinder.userId(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestEodAcctIfPnlData data = ((TestEodAcctIfPnlData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestEodAcctIfPnlData data = ((TestEodAcctIfPnlData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestEodAcctIfPnlData data = ((TestEodAcctIfPnlData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestEodAcctIfPnlFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestEodAcctIfPnlData localData = (TestEodAcctIfPnlData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,1032 @@
+package com.gs.fw.common.mithra.test.domain;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegment;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentAbstract;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentData;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentFinder;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestEodAcctIfPnlFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestEodAcctIfPnl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl");
+	private static final TestEodAcctIfPnlSingleFinder<TestEodAcctIfPnl, Object, TestEodAcctIfPnl> finder = new TestEodAcctIfPnlSingleFinder<TestEodAcctIfPnl, Object, TestEodAcctIfPnl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestEodAcctIfPnlFinder.TestEodAcctIfPnlRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("ifCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("balanceType");
+		finderMethodMap.addNormalAttributeName("allocation");
+		finderMethodMap.addNormalAttributeName("balance");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("updatedBalancesOnOtherDate");
+		finderMethodMap.addRelationshipName("acctEntitySegmentImpl");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[3];
+			result[0] = TestEodAcctIfPnlFinder.accountId().constructEqualityMapper(TestEodAcctIfPnlFinder.accountId());
+			result[1] = TestEodAcctIfPnlFinder.ifCode().constructEqualityMapper(TestEodAcctIfPnlFinder.ifCode());
+			result[2] = TestEodAcctIfPnlFinder.processingDate().constructEqualityMapper(TestEodAcctIfPnlFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestEodAcctIfPnl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestEodAcctIfPnl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestEodAcctIfPnlList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestEodAcctIfPnlList) finder.findMany(operation);
+	}
+
+	public static TestEodAcctIfPnlList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestEodAcctIfPnlList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestEodAcctIfPnl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestEodAcctIfPnl) FinderUtils.findOne(found);
+	}
+
+	public static TestEodAcctIfPnl findByPrimaryKey(String accountId, String ifCode, Timestamp businessDate, int balanceType, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(accountId, ifCode, businessDate, balanceType, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestEodAcctIfPnlData _castedTargetData = (TestEodAcctIfPnlData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getO2AsString().equals(_castedTargetData.getIfCode()) && _bean.getO3AsTimestamp().equals(_castedTargetData.getBusinessDate()) && _bean.getI1AsInteger() == _castedTargetData.getBalanceType())
+			{
+				return TestEodAcctIfPnlFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsTimestamp())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsTimestamp())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static TestEodAcctIfPnl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestEodAcctIfPnl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestEodAcctIfPnlRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestEodAcctIfPnl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> accountId;
+		private StringAttribute<ParentOwnerType> ifCode;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private IntegerAttribute<ParentOwnerType> balanceType;
+		private DoubleAttribute<ParentOwnerType> allocation;
+		private DoubleAttribute<ParentOwnerType> balance;
+		private StringAttribute<ParentOwnerType> userId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private TestEodAcctIfPnlUpdatedBalancesOnOtherDateFinderSubclass<ParentOwnerType> updatedBalancesOnOtherDate;
+		private TestEodAcctIfPnlAcctEntitySegmentImplFinderSubclass<ParentOwnerType> acctEntitySegmentImpl;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestEodAcctIfPnlRelatedFinder()
+		{
+			super();
+		}
+
+		public TestEodAcctIfPnlRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnlFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestEodAcctIfPnlFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestEodAcctIfPnlFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestEodAcctIfPnlFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[9];
+			attributes[0] = this.accountId();
+			attributes[1] = this.ifCode();
+			attributes[2] = this.businessDate();
+			attributes[3] = this.balanceType();
+			attributes[4] = this.allocation();
+			attributes[5] = this.balance();
+			attributes[6] = this.userId();
+			attributes[7] = this.processingDateFrom();
+			attributes[8] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.updatedBalancesOnOtherDate());
+				relatedFinders.add(this.acctEntitySegmentImpl());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestEodAcctIfPnl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestEodAcctIfPnlFinder.findOne(operation, false);
+		}
+
+		public TestEodAcctIfPnl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestEodAcctIfPnlFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestEodAcctIfPnl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestEodAcctIfPnlList((Operation) operation);
+		}
+
+		public MithraList<? extends TestEodAcctIfPnl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestEodAcctIfPnlList result = (TestEodAcctIfPnlList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestEodAcctIfPnl> constructEmptyList()
+		{
+			return new TestEodAcctIfPnlList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1875525621;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_NBR_C","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestEodAcctIfPnlFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("acctEntitySegmentImpl");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test", "TestAcctEntitySegment", "acctEntitySegment2eodAcctIfPnl");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> ifCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.ifCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("IF_CODE_C","","ifCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,24,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestEodAcctIfPnlFinder.ifCode(), this.mapper, this.zGetValueSelector());
+				this.ifCode = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUS_DATE","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TestEodAcctIfPnlFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BALANCE_TYPE_ID","","balanceType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestEodAcctIfPnlFinder.balanceType(), this.mapper, this.zGetValueSelector());
+				this.balanceType = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> allocation()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.allocation;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ALLOCATION","","allocation",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,28,4,0, false) :
+					new MappedDoubleAttribute(TestEodAcctIfPnlFinder.allocation(), this.mapper, this.zGetValueSelector());
+				this.allocation = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> balance()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.balance;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("BALANCE","","balance",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,36,4,1, false) :
+					new MappedDoubleAttribute(TestEodAcctIfPnlFinder.balance(), this.mapper, this.zGetValueSelector());
+				this.balance = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> userId()
+		{
+			StringAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("USER_ID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,60,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(TestEodAcctIfPnlFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,44,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestEodAcctIfPnlFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestEodAcctIfPnlFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,52,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestEodAcctIfPnlFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestEodAcctIfPnlFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestEodAcctIfPnlFinder.processingDateInfinity,false,false,TestEodAcctIfPnlFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestEodAcctIfPnlFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TestEodAcctIfPnlFinder.TestEodAcctIfPnlCollectionFinderForRelatedClasses<ParentOwnerType, TestEodAcctIfPnlList, TestEodAcctIfPnl> updatedBalancesOnOtherDate()
+		{
+			TestEodAcctIfPnlUpdatedBalancesOnOtherDateFinderSubclass<ParentOwnerType> result = this.updatedBalancesOnOtherDate;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestEodAcctIfPnlFinder.zGetTestEodAcctIfPnlUpdatedBalancesOnOtherDateReverseMapper());
+				newMapper.setToMany(true);
+				result = new TestEodAcctIfPnlUpdatedBalancesOnOtherDateFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.updatedBalancesOnOtherDate = result;
+			}
+
+			return result;
+		}
+
+		public TestAcctEntitySegmentFinder.TestAcctEntitySegmentSingleFinderForRelatedClasses<ParentOwnerType, TestAcctEntitySegment, TestEodAcctIfPnl> acctEntitySegmentImpl()
+		{
+			TestEodAcctIfPnlAcctEntitySegmentImplFinderSubclass<ParentOwnerType> result = this.acctEntitySegmentImpl;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestAcctEntitySegmentFinder.zGetTestAcctEntitySegmentAcctEntitySegment2eodAcctIfPnlMapper());
+				newMapper.setToMany(false);
+				result = new TestEodAcctIfPnlAcctEntitySegmentImplFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.acctEntitySegmentImpl = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestEodAcctIfPnlFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestEodAcctIfPnlCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestEodAcctIfPnlRelatedFinder<ParentOwnerType, ReturnType, TestEodAcctIfPnlList, OwnerType>
+	{
+		public TestEodAcctIfPnlCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestEodAcctIfPnlCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestEodAcctIfPnlCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestEodAcctIfPnlCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestEodAcctIfPnlSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestEodAcctIfPnlRelatedFinder<ParentOwnerType, ReturnType, TestEodAcctIfPnlList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestEodAcctIfPnlSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestEodAcctIfPnlSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestEodAcctIfPnl other)
+		{
+			return this.accountId().eq(other.getAccountId())
+			.and(this.ifCode().eq(other.getIfCode()))
+			.and(this.businessDate().eq(other.getBusinessDate()))
+			.and(this.balanceType().eq(other.getBalanceType()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestEodAcctIfPnl findByPrimaryKey(String accountId, String ifCode, Timestamp businessDate, int balanceType, Timestamp processingDate)
+		{
+			TestEodAcctIfPnl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null && ifCode != null && businessDate != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setO2(ifCode);
+				_bean.setO3(businessDate);
+				_bean.setI1AsInteger(balanceType);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestEodAcctIfPnl) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.ifCode().eq(ifCode)).and(this.businessDate().eq(businessDate)).and(this.balanceType().eq(balanceType)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestEodAcctIfPnlSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestEodAcctIfPnlSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestEodAcctIfPnlSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper updatedBalancesOnOtherDateReverseMapper = null;
+	public static Mapper zGetTestEodAcctIfPnlUpdatedBalancesOnOtherDateReverseMapper()
+	{
+		if (updatedBalancesOnOtherDateReverseMapper == null)
+		{
+			updatedBalancesOnOtherDateReverseMapper = zConstructTestEodAcctIfPnlUpdatedBalancesOnOtherDateReverseMapper();
+		}
+
+		return updatedBalancesOnOtherDateReverseMapper;
+	}
+
+	private static Mapper updatedBalancesOnOtherDateMapper = null;
+	public static Mapper zGetTestEodAcctIfPnlUpdatedBalancesOnOtherDateMapper()
+	{
+		if (updatedBalancesOnOtherDateMapper == null)
+		{
+			updatedBalancesOnOtherDateMapper = zConstructTestEodAcctIfPnlUpdatedBalancesOnOtherDateMapper();
+		}
+
+		return updatedBalancesOnOtherDateMapper;
+	}
+
+	private static Mapper updatedBalancesOnOtherDatePureReverseMapper = null;
+	public static Mapper zGetTestEodAcctIfPnlUpdatedBalancesOnOtherDatePureReverseMapper()
+	{
+		if (updatedBalancesOnOtherDatePureReverseMapper == null)
+		{
+			updatedBalancesOnOtherDatePureReverseMapper = zConstructTestEodAcctIfPnlUpdatedBalancesOnOtherDatePureReverseMapper();
+		}
+
+		return updatedBalancesOnOtherDatePureReverseMapper;
+	}
+
+	private static Mapper zConstructTestEodAcctIfPnlUpdatedBalancesOnOtherDatePureReverseMapper()
+	{
+		InternalList updatedBalancesOnOtherDateMapperMapperList = new InternalList(3);
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(0));
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(1));
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(2));
+		Mapper updatedBalancesOnOtherDateMapper = new MultiEqualityMapper(updatedBalancesOnOtherDateMapperMapperList);
+		updatedBalancesOnOtherDateMapper.setName("updatedBalancesOnOtherDate");
+		return updatedBalancesOnOtherDateMapper;
+	}
+
+	private static Mapper zConstructTestEodAcctIfPnlUpdatedBalancesOnOtherDateReverseMapper()
+	{
+		InternalList updatedBalancesOnOtherDateMapperMapperList = new InternalList(3);
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(0));
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(1));
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(2));
+		Mapper updatedBalancesOnOtherDateMapper = new MultiEqualityMapper(updatedBalancesOnOtherDateMapperMapperList);
+		updatedBalancesOnOtherDateMapper.setName("updatedBalancesOnOtherDate");
+		return updatedBalancesOnOtherDateMapper;
+	}
+
+	private static Mapper zConstructTestEodAcctIfPnlUpdatedBalancesOnOtherDateMapper()
+	{
+		InternalList updatedBalancesOnOtherDateMapperMapperList = new InternalList(3);
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(0));
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(1));
+		updatedBalancesOnOtherDateMapperMapperList.add(TestEodAcctIfPnlFinder.zGetConstantJoin(2));
+		Mapper updatedBalancesOnOtherDateMapper = new MultiEqualityMapper(updatedBalancesOnOtherDateMapperMapperList);
+		updatedBalancesOnOtherDateMapper.setName("updatedBalancesOnOtherDate_Reverse");
+		return updatedBalancesOnOtherDateMapper;
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.ACCT_NBR_C **/
+	public static StringAttribute<TestEodAcctIfPnl> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.IF_CODE_C **/
+	public static StringAttribute<TestEodAcctIfPnl> ifCode()
+	{
+		return finder.ifCode();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.BUS_DATE **/
+	public static TimestampAttribute<TestEodAcctIfPnl> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.BALANCE_TYPE_ID **/
+	public static IntegerAttribute<TestEodAcctIfPnl> balanceType()
+	{
+		return finder.balanceType();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.ALLOCATION **/
+	public static DoubleAttribute<TestEodAcctIfPnl> allocation()
+	{
+		return finder.allocation();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.BALANCE **/
+	public static DoubleAttribute<TestEodAcctIfPnl> balance()
+	{
+		return finder.balance();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.USER_ID **/
+	public static StringAttribute<TestEodAcctIfPnl> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.IN_Z **/
+	public static TimestampAttribute<TestEodAcctIfPnl> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to EOD_ACCT_IF_PNL.OUT_Z **/
+	public static TimestampAttribute<TestEodAcctIfPnl> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TestEodAcctIfPnl> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TestEodAcctIfPnlFinder.TestEodAcctIfPnlCollectionFinderForRelatedClasses<TestEodAcctIfPnl, TestEodAcctIfPnlList, TestEodAcctIfPnl> updatedBalancesOnOtherDate()
+	{
+		return finder.updatedBalancesOnOtherDate();
+	}
+
+	public static class TestEodAcctIfPnlUpdatedBalancesOnOtherDateFinderSubclass<ParentOwnerType> extends TestEodAcctIfPnlFinder.TestEodAcctIfPnlCollectionFinderForRelatedClasses<ParentOwnerType, TestEodAcctIfPnlList, TestEodAcctIfPnl>
+	{
+		public TestEodAcctIfPnlUpdatedBalancesOnOtherDateFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "updatedBalancesOnOtherDate";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestEodAcctIfPnlFinder.accountId(),
+				TestEodAcctIfPnlFinder.ifCode(),
+				TestEodAcctIfPnlFinder.processingDate()).withExtractors(
+				TestEodAcctIfPnlFinder.accountId(),
+				TestEodAcctIfPnlFinder.ifCode(),
+				TestEodAcctIfPnlFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestEodAcctIfPnlUpdatedBalancesOnOtherDateFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestEodAcctIfPnlList plainValueOf(TestEodAcctIfPnl _obj)
+		{
+			return _obj.getUpdatedBalancesOnOtherDate();
+		}
+
+		protected TestEodAcctIfPnlList plainListValueOf(Object _obj)
+		{
+			return ((TestEodAcctIfPnlList)_obj).getUpdatedBalancesOnOtherDate();
+		}
+	}
+
+	public static TestAcctEntitySegmentFinder.TestAcctEntitySegmentSingleFinderForRelatedClasses<TestEodAcctIfPnl, TestAcctEntitySegment, TestEodAcctIfPnl> acctEntitySegmentImpl()
+	{
+		return finder.acctEntitySegmentImpl();
+	}
+
+	public static class TestEodAcctIfPnlAcctEntitySegmentImplFinderSubclass<ParentOwnerType> extends TestAcctEntitySegmentFinder.TestAcctEntitySegmentSingleFinderForRelatedClasses<ParentOwnerType, TestAcctEntitySegment, TestEodAcctIfPnl>
+	{
+		public TestEodAcctIfPnlAcctEntitySegmentImplFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "acctEntitySegmentImpl";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestAcctEntitySegmentFinder.accountId(),
+				TestAcctEntitySegmentFinder.businessDate(),
+				TestAcctEntitySegmentFinder.processingDate()).withExtractors(
+				TestEodAcctIfPnlFinder.accountId(),
+				TestEodAcctIfPnlFinder.businessDate(),
+				TestEodAcctIfPnlFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestEodAcctIfPnlAcctEntitySegmentImplFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestAcctEntitySegment plainValueOf(TestEodAcctIfPnl _obj)
+		{
+			return _obj.getAcctEntitySegmentImpl();
+		}
+
+		protected TestAcctEntitySegmentList plainListValueOf(Object _obj)
+		{
+			return ((TestEodAcctIfPnlList)_obj).getAcctEntitySegmentImpls();
+		}
+	}
+
+	public static Operation eq(TestEodAcctIfPnl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(accountId());
+	}
+
+	public static TestEodAcctIfPnlSingleFinder<TestEodAcctIfPnl, Object, TestEodAcctIfPnl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, ifCode()
+			, businessDate()
+			, balanceType()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			accountId()
+			, accountId()
+			, ifCode()
+			, businessDate()
+			, balanceType()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			accountId()
+			, businessDate()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			accountId()
+			, ifCode()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = allocation();
+		result[1] = balance();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestEodAcctIfPnl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,216 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegment;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentAbstract;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentData;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentFinder;
+import com.gs.fw.common.mithra.test.TestAcctEntitySegmentList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestEodAcctIfPnlListAbstract extends DelegatingList<TestEodAcctIfPnl> implements MithraDatedTransactionalList<TestEodAcctIfPnl>
+{
+	public TestEodAcctIfPnlListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestEodAcctIfPnlListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestEodAcctIfPnlListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestEodAcctIfPnlListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestEodAcctIfPnl[] elements()
+	{
+		TestEodAcctIfPnl[] result = new TestEodAcctIfPnl[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestEodAcctIfPnlList intersection(TestEodAcctIfPnlList another)
+	{
+		return (TestEodAcctIfPnlList)super.intersection(another);
+	}
+
+	public TestEodAcctIfPnl getTestEodAcctIfPnlAt(int index)
+	{
+		return (TestEodAcctIfPnl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.accountId = TestEodAcctIfPnl.accountId and this.ifCode = TestEodAcctIfPnl.ifCode</pre>
+	* @return updated balances on other date
+	*/
+	public TestEodAcctIfPnlList getUpdatedBalancesOnOtherDate()
+	{
+		return (TestEodAcctIfPnlList) this.getDelegated().resolveRelationship(this, TestEodAcctIfPnlFinder.updatedBalancesOnOtherDate());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.accountId = TestAcctEntitySegment.accountId and this.businessDate = TestAcctEntitySegment.businessDate )</pre>
+	* @see TestAcctEntitySegment#getAcctEntitySegment2eodAcctIfPnl() reverse relationship TestAcctEntitySegment.getAcctEntitySegment2eodAcctIfPnl()
+	* @return The acct entity segment impl
+	*/
+	public TestAcctEntitySegmentList getAcctEntitySegmentImpls()
+	{
+		return (TestAcctEntitySegmentList) this.getDelegated().resolveRelationship(this, TestEodAcctIfPnlFinder.acctEntitySegmentImpl());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestEodAcctIfPnlFinder.getMithraObjectPortal();
+	}
+
+	public TestEodAcctIfPnlList getNonPersistentCopy()
+	{
+		TestEodAcctIfPnlList result = new TestEodAcctIfPnlList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestEodAcctIfPnlList asAdhoc()
+	{
+		return (TestEodAcctIfPnlList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestEodAcctIfPnl> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestEodAcctIfPnlList merge(MithraTransactionalList<TestEodAcctIfPnl> incoming, TopLevelMergeOptions<TestEodAcctIfPnl> mergeOptions)
+	{
+		return (TestEodAcctIfPnlList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestEodAcctIfPnlList getDetachedCopy()
+	{
+		TestEodAcctIfPnlList result = new TestEodAcctIfPnlList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestEodAcctIfPnlFinder.accountId(), newValue);
+	}
+
+	public void setAllocation(double newValue)
+	{
+		zSetDouble(TestEodAcctIfPnlFinder.allocation(), newValue);
+	}
+
+	public void setBalance(double newValue)
+	{
+		zSetDouble(TestEodAcctIfPnlFinder.balance(), newValue);
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestEodAcctIfPnlFinder.balanceType(), newValue);
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(TestEodAcctIfPnlFinder.businessDate(), newValue);
+	}
+
+	public void setIfCode(String newValue)
+	{
+		zSetString(TestEodAcctIfPnlFinder.ifCode(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestEodAcctIfPnlFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestEodAcctIfPnlFinder.processingDateTo(), newValue);
+	}
+
+	public void setUserId(String newValue)
+	{
+		zSetString(TestEodAcctIfPnlFinder.userId(), newValue);
+	}
+
+	public void setAllocationNull()
+	{
+		zSetAttributeNull(TestEodAcctIfPnlFinder.allocation());
+	}
+
+	public void setBalanceNull()
+	{
+		zSetAttributeNull(TestEodAcctIfPnlFinder.balance());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
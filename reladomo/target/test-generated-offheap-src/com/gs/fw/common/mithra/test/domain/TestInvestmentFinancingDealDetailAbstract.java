@@ -0,0 +1,340 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestInvestmentFinancingDealDetailAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestInvestmentFinancingDealDetail.class.getName());
+	private static final RelationshipHashStrategy forsecuritiesDealDetail = new SecuritiesDealDetailRhs();
+	private static final class SecuritiesDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestInvestmentFinancingDealDetailData _castedSrcData = (TestInvestmentFinancingDealDetailData) _srcData;
+			TestSecuritiesDealDetailImplData _castedTargetData = (TestSecuritiesDealDetailImplData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestInvestmentFinancingDealDetailData _castedSrcData = (TestInvestmentFinancingDealDetailData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestInvestmentFinancingDealDetailAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestInvestmentFinancingDealDetail getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestInvestmentFinancingDealDetail) super.getDetachedCopy();
+	}
+
+	public TestInvestmentFinancingDealDetail getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestInvestmentFinancingDealDetail result = (TestInvestmentFinancingDealDetail) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestInvestmentFinancingDealDetail copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestInvestmentFinancingDealDetail) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestInvestmentFinancingDealDetail zFindOriginal()
+	{
+		TestInvestmentFinancingDealDetailData data = (TestInvestmentFinancingDealDetailData) this.currentData;
+		Operation op;
+		op = TestInvestmentFinancingDealDetailFinder.checkId().eq(data.getCheckId());
+		return TestInvestmentFinancingDealDetailFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestInvestmentFinancingDealDetailData();
+	}
+
+	protected void zSetFromTestInvestmentFinancingDealDetailData( TestInvestmentFinancingDealDetailData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestInvestmentFinancingDealDetailData( TestInvestmentFinancingDealDetailData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((TestInvestmentFinancingDealDetailData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		TestInvestmentFinancingDealDetailData data = (TestInvestmentFinancingDealDetailData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestInvestmentFinancingDealDetailFinder.checkId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestInvestmentFinancingDealDetailData _newData = (TestInvestmentFinancingDealDetailData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestInvestmentFinancingDealDetailData _newData = (TestInvestmentFinancingDealDetailData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestInvestmentFinancingDealDetailData _newData = (TestInvestmentFinancingDealDetailData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestSecuritiesDealDetailImpl.checkId = this.checkId</pre>
+	* @see TestSecuritiesDealDetailImpl#getInvestmentFinancingDealDetail() reverse relationship TestSecuritiesDealDetailImpl.getInvestmentFinancingDealDetail()
+	* @return The securities deal detail
+	*/
+	public TestSecuritiesDealDetailImpl getSecuritiesDealDetail()
+	{
+		TestSecuritiesDealDetailImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestInvestmentFinancingDealDetailData _data = (TestInvestmentFinancingDealDetailData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestSecuritiesDealDetailImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forsecuritiesDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestSecuritiesDealDetailImpl) _related;
+				if (_related == null)
+				{
+					_op = TestSecuritiesDealDetailImplFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getSecuritiesDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestSecuritiesDealDetailImplFinder.checkId().eq(_data.getCheckId());
+					_result = TestSecuritiesDealDetailImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (TestInvestmentFinancingDealDetailData) _behavior.getCurrentDataForWrite(this);
+				_data.setSecuritiesDealDetail(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestSecuritiesDealDetailImpl) _data.getSecuritiesDealDetail();
+			if (_result == null)
+			{
+				{
+					_op = TestSecuritiesDealDetailImplFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestSecuritiesDealDetailImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setSecuritiesDealDetail(TestSecuritiesDealDetailImpl securitiesDealDetail)
+	{
+		((TestSecuritiesDealDetailImpl)securitiesDealDetail).setInvestmentFinancingDealDetail((TestInvestmentFinancingDealDetail)this);
+	}
+
+	public void zSetParentContainersecuritiesDealDetail(TestSecuritiesDealDetailImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestInvestmentFinancingDealDetailData _data = (TestInvestmentFinancingDealDetailData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setSecuritiesDealDetail(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestInvestmentFinancingDealDetail zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestInvestmentFinancingDealDetail original = (TestInvestmentFinancingDealDetail) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestInvestmentFinancingDealDetailFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestInvestmentFinancingDealDetailFinder.getMithraObjectPortal();
+	}
+
+	public TestInvestmentFinancingDealDetail getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestInvestmentFinancingDealDetailFinder.checkId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestInvestmentFinancingDealDetailAbstract result = (TestInvestmentFinancingDealDetailAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
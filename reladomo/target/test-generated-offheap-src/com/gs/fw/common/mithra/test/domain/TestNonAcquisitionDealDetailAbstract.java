@@ -0,0 +1,340 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestNonAcquisitionDealDetailAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestNonAcquisitionDealDetail.class.getName());
+	private static final RelationshipHashStrategy forbankingDealDetail = new BankingDealDetailRhs();
+	private static final class BankingDealDetailRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestNonAcquisitionDealDetailData _castedSrcData = (TestNonAcquisitionDealDetailData) _srcData;
+			TestBankingDealDetailImplData _castedTargetData = (TestBankingDealDetailImplData) _targetData;
+			if (_castedSrcData.getCheckId() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestNonAcquisitionDealDetailData _castedSrcData = (TestNonAcquisitionDealDetailData) _srcData;
+			return HashUtil.hash(_castedSrcData.getCheckId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public TestNonAcquisitionDealDetailAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestNonAcquisitionDealDetail getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestNonAcquisitionDealDetail) super.getDetachedCopy();
+	}
+
+	public TestNonAcquisitionDealDetail getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestNonAcquisitionDealDetail result = (TestNonAcquisitionDealDetail) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestNonAcquisitionDealDetail copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestNonAcquisitionDealDetail) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestNonAcquisitionDealDetail zFindOriginal()
+	{
+		TestNonAcquisitionDealDetailData data = (TestNonAcquisitionDealDetailData) this.currentData;
+		Operation op;
+		op = TestNonAcquisitionDealDetailFinder.checkId().eq(data.getCheckId());
+		return TestNonAcquisitionDealDetailFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestNonAcquisitionDealDetailData();
+	}
+
+	protected void zSetFromTestNonAcquisitionDealDetailData( TestNonAcquisitionDealDetailData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestNonAcquisitionDealDetailData( TestNonAcquisitionDealDetailData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((TestNonAcquisitionDealDetailData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		TestNonAcquisitionDealDetailData data = (TestNonAcquisitionDealDetailData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestNonAcquisitionDealDetailFinder.checkId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestNonAcquisitionDealDetailData _newData = (TestNonAcquisitionDealDetailData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestNonAcquisitionDealDetailData _newData = (TestNonAcquisitionDealDetailData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestNonAcquisitionDealDetailData _newData = (TestNonAcquisitionDealDetailData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestBankingDealDetailImpl.checkId = this.checkId</pre>
+	* @see TestBankingDealDetailImpl#getNonAcquisitionDealDetail() reverse relationship TestBankingDealDetailImpl.getNonAcquisitionDealDetail()
+	* @return The banking deal detail
+	*/
+	public TestBankingDealDetailImpl getBankingDealDetail()
+	{
+		TestBankingDealDetailImpl _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		TestNonAcquisitionDealDetailData _data = (TestNonAcquisitionDealDetailData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestBankingDealDetailImplFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forbankingDealDetail, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (TestBankingDealDetailImpl) _related;
+				if (_related == null)
+				{
+					_op = TestBankingDealDetailImplFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getBankingDealDetail() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestBankingDealDetailImpl) _data.getBankingDealDetail();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = TestBankingDealDetailImplFinder.checkId().eq(_data.getCheckId());
+					_result = TestBankingDealDetailImplFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_data = (TestNonAcquisitionDealDetailData) _behavior.getCurrentDataForWrite(this);
+				_data.setBankingDealDetail(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestBankingDealDetailImpl) _data.getBankingDealDetail();
+			if (_result == null)
+			{
+				{
+					_op = TestBankingDealDetailImplFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestBankingDealDetailImplFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setBankingDealDetail(TestBankingDealDetailImpl bankingDealDetail)
+	{
+		((TestBankingDealDetailImpl)bankingDealDetail).setNonAcquisitionDealDetail((TestNonAcquisitionDealDetail)this);
+	}
+
+	public void zSetParentContainerbankingDealDetail(TestBankingDealDetailImplAbstract parent)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestNonAcquisitionDealDetailData _data = (TestNonAcquisitionDealDetailData) _behavior.getCurrentDataForWrite(this);
+		_behavior.clearTempTransaction(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setBankingDealDetail(parent);
+		}
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestNonAcquisitionDealDetail zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestNonAcquisitionDealDetail original = (TestNonAcquisitionDealDetail) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestNonAcquisitionDealDetailFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestNonAcquisitionDealDetailFinder.getMithraObjectPortal();
+	}
+
+	public TestNonAcquisitionDealDetail getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestNonAcquisitionDealDetailFinder.checkId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestNonAcquisitionDealDetailAbstract result = (TestNonAcquisitionDealDetailAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
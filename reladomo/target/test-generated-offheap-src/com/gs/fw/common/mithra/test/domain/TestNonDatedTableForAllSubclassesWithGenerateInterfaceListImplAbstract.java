@@ -0,0 +1,108 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImplAbstract extends DelegatingList<TestNonDatedTableForAllSubclassesWithGenerateInterface> implements MithraList<TestNonDatedTableForAllSubclassesWithGenerateInterface>
+{
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterface[] elements()
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterface[] result = new TestNonDatedTableForAllSubclassesWithGenerateInterface[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl intersection(TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl another)
+	{
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl)super.intersection(another);
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl getTestNonDatedTableForAllSubclassesWithGenerateInterfaceAt(int index)
+	{
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceImpl)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestNonDatedTableForAllSubclassesWithGenerateInterfaceFinder.getMithraObjectPortal();
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl getNonPersistentCopy()
+	{
+		TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl result = new TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl asAdhoc()
+	{
+		return (TestNonDatedTableForAllSubclassesWithGenerateInterfaceListImpl) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestNonDatedTableForAllSubclassesWithGenerateInterface> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
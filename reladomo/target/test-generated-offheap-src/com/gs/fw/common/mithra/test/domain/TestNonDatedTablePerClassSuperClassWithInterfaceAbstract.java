@@ -0,0 +1,17 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface TestNonDatedTablePerClassSuperClassWithInterfaceAbstract
+{
+	public long getObjectId();
+	public void setObjectId(long newValue);
+	public boolean isObjectIdNull();
+	public String getUserId();
+	public void setUserId(String newValue);
+	public boolean isUserIdNull();
+}
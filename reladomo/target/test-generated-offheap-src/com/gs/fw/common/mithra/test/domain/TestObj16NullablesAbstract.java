@@ -0,0 +1,614 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestObj16NullablesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestObj16Nullables.class.getName());
+	public TestObj16NullablesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestObj16Nullables getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestObj16Nullables) super.getDetachedCopy();
+	}
+
+	public TestObj16Nullables getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestObj16Nullables result = (TestObj16Nullables) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestObj16Nullables copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestObj16Nullables) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestObj16Nullables zFindOriginal()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.currentData;
+		Operation op;
+		op = TestObj16NullablesFinder.objectId().eq(data.getObjectId());
+		return TestObj16NullablesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestObj16NullablesData();
+	}
+
+	protected void zSetFromTestObj16NullablesData( TestObj16NullablesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestObj16NullablesData( TestObj16NullablesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isNullableField0Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField0Null();
+	}
+
+	public int getNullableField0()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField0Null()) MithraNullPrimitiveException.throwNew("nullableField0", data);
+		return data.getNullableField0();
+	}
+
+	public void setNullableField0(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField0(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField1Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField1Null();
+	}
+
+	public int getNullableField1()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField1Null()) MithraNullPrimitiveException.throwNew("nullableField1", data);
+		return data.getNullableField1();
+	}
+
+	public void setNullableField1(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField1(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField10Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField10Null();
+	}
+
+	public int getNullableField10()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField10Null()) MithraNullPrimitiveException.throwNew("nullableField10", data);
+		return data.getNullableField10();
+	}
+
+	public void setNullableField10(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField10(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField11Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField11Null();
+	}
+
+	public int getNullableField11()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField11Null()) MithraNullPrimitiveException.throwNew("nullableField11", data);
+		return data.getNullableField11();
+	}
+
+	public void setNullableField11(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField11(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField12Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField12Null();
+	}
+
+	public int getNullableField12()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField12Null()) MithraNullPrimitiveException.throwNew("nullableField12", data);
+		return data.getNullableField12();
+	}
+
+	public void setNullableField12(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField12(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField13Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField13Null();
+	}
+
+	public int getNullableField13()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField13Null()) MithraNullPrimitiveException.throwNew("nullableField13", data);
+		return data.getNullableField13();
+	}
+
+	public void setNullableField13(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField13(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField14Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField14Null();
+	}
+
+	public int getNullableField14()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField14Null()) MithraNullPrimitiveException.throwNew("nullableField14", data);
+		return data.getNullableField14();
+	}
+
+	public void setNullableField14(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField14(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField15Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField15Null();
+	}
+
+	public int getNullableField15()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField15Null()) MithraNullPrimitiveException.throwNew("nullableField15", data);
+		return data.getNullableField15();
+	}
+
+	public void setNullableField15(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField15(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField2Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField2Null();
+	}
+
+	public int getNullableField2()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField2Null()) MithraNullPrimitiveException.throwNew("nullableField2", data);
+		return data.getNullableField2();
+	}
+
+	public void setNullableField2(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField2(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField3Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField3Null();
+	}
+
+	public int getNullableField3()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField3Null()) MithraNullPrimitiveException.throwNew("nullableField3", data);
+		return data.getNullableField3();
+	}
+
+	public void setNullableField3(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField3(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField4Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField4Null();
+	}
+
+	public int getNullableField4()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField4Null()) MithraNullPrimitiveException.throwNew("nullableField4", data);
+		return data.getNullableField4();
+	}
+
+	public void setNullableField4(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField4(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField5Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField5Null();
+	}
+
+	public int getNullableField5()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField5Null()) MithraNullPrimitiveException.throwNew("nullableField5", data);
+		return data.getNullableField5();
+	}
+
+	public void setNullableField5(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField5(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField6Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField6Null();
+	}
+
+	public int getNullableField6()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField6Null()) MithraNullPrimitiveException.throwNew("nullableField6", data);
+		return data.getNullableField6();
+	}
+
+	public void setNullableField6(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField6(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField7Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField7Null();
+	}
+
+	public int getNullableField7()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField7Null()) MithraNullPrimitiveException.throwNew("nullableField7", data);
+		return data.getNullableField7();
+	}
+
+	public void setNullableField7(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField7(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField8Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField8Null();
+	}
+
+	public int getNullableField8()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField8Null()) MithraNullPrimitiveException.throwNew("nullableField8", data);
+		return data.getNullableField8();
+	}
+
+	public void setNullableField8(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField8(), newValue, false, false ,true);
+	}
+
+	public boolean isNullableField9Null()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isNullableField9Null();
+	}
+
+	public int getNullableField9()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		if (data.isNullableField9Null()) MithraNullPrimitiveException.throwNew("nullableField9", data);
+		return data.getNullableField9();
+	}
+
+	public void setNullableField9(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField9(), newValue, false, false ,true);
+	}
+
+	public boolean isObjectIdNull()
+	{
+		return ((TestObj16NullablesData) this.zSynchronizedGetData()).isObjectIdNull();
+	}
+
+	public int getObjectId()
+	{
+		TestObj16NullablesData data = (TestObj16NullablesData) this.zSynchronizedGetData();
+		return data.getObjectId();
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.objectId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField0(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField1(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField2(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField3(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField4(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField5(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField6(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField7(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField8(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField9(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField10(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField11(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField12(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField13(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField14(), false);
+		zNullify(behavior, data, TestObj16NullablesFinder.nullableField15(), false);
+	}
+
+	public void setNullableField0Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField0(), false);
+	}
+
+	public void setNullableField1Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField1(), false);
+	}
+
+	public void setNullableField2Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField2(), false);
+	}
+
+	public void setNullableField3Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField3(), false);
+	}
+
+	public void setNullableField4Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField4(), false);
+	}
+
+	public void setNullableField5Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField5(), false);
+	}
+
+	public void setNullableField6Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField6(), false);
+	}
+
+	public void setNullableField7Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField7(), false);
+	}
+
+	public void setNullableField8Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField8(), false);
+	}
+
+	public void setNullableField9Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField9(), false);
+	}
+
+	public void setNullableField10Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField10(), false);
+	}
+
+	public void setNullableField11Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField11(), false);
+	}
+
+	public void setNullableField12Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField12(), false);
+	}
+
+	public void setNullableField13Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField13(), false);
+	}
+
+	public void setNullableField14Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField14(), false);
+	}
+
+	public void setNullableField15Null()
+	{
+		zNullify(TestObj16NullablesFinder.nullableField15(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestObj16NullablesData _newData = (TestObj16NullablesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestObj16NullablesData _newData = (TestObj16NullablesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestObj16NullablesData _newData = (TestObj16NullablesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestObj16Nullables zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestObj16Nullables original = (TestObj16Nullables) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestObj16NullablesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestObj16NullablesFinder.getMithraObjectPortal();
+	}
+
+	public TestObj16Nullables getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField0(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField1(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField10(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField11(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField12(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField13(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField14(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField15(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField2(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField3(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField4(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField5(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField6(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField7(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField8(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.nullableField9(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TestObj16NullablesFinder.objectId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestObj16NullablesAbstract result = (TestObj16NullablesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
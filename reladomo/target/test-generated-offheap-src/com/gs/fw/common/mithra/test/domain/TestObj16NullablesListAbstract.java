@@ -0,0 +1,290 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestObj16NullablesListAbstract extends DelegatingList<TestObj16Nullables> implements MithraTransactionalList<TestObj16Nullables>
+{
+	public TestObj16NullablesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestObj16NullablesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestObj16NullablesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestObj16NullablesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestObj16Nullables[] elements()
+	{
+		TestObj16Nullables[] result = new TestObj16Nullables[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestObj16NullablesList intersection(TestObj16NullablesList another)
+	{
+		return (TestObj16NullablesList)super.intersection(another);
+	}
+
+	public TestObj16Nullables getTestObj16NullablesAt(int index)
+	{
+		return (TestObj16Nullables)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestObj16NullablesFinder.getMithraObjectPortal();
+	}
+
+	public TestObj16NullablesList getNonPersistentCopy()
+	{
+		TestObj16NullablesList result = new TestObj16NullablesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestObj16NullablesList asAdhoc()
+	{
+		return (TestObj16NullablesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestObj16Nullables> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestObj16NullablesList merge(MithraTransactionalList<TestObj16Nullables> incoming, TopLevelMergeOptions<TestObj16Nullables> mergeOptions)
+	{
+		return (TestObj16NullablesList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestObj16NullablesList getDetachedCopy()
+	{
+		TestObj16NullablesList result = new TestObj16NullablesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setNullableField0(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField0(), newValue);
+	}
+
+	public void setNullableField1(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField1(), newValue);
+	}
+
+	public void setNullableField10(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField10(), newValue);
+	}
+
+	public void setNullableField11(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField11(), newValue);
+	}
+
+	public void setNullableField12(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField12(), newValue);
+	}
+
+	public void setNullableField13(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField13(), newValue);
+	}
+
+	public void setNullableField14(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField14(), newValue);
+	}
+
+	public void setNullableField15(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField15(), newValue);
+	}
+
+	public void setNullableField2(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField2(), newValue);
+	}
+
+	public void setNullableField3(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField3(), newValue);
+	}
+
+	public void setNullableField4(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField4(), newValue);
+	}
+
+	public void setNullableField5(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField5(), newValue);
+	}
+
+	public void setNullableField6(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField6(), newValue);
+	}
+
+	public void setNullableField7(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField7(), newValue);
+	}
+
+	public void setNullableField8(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField8(), newValue);
+	}
+
+	public void setNullableField9(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.nullableField9(), newValue);
+	}
+
+	public void setObjectId(int newValue)
+	{
+		zSetInteger(TestObj16NullablesFinder.objectId(), newValue);
+	}
+
+	public void setNullableField0Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField0());
+	}
+
+	public void setNullableField1Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField1());
+	}
+
+	public void setNullableField2Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField2());
+	}
+
+	public void setNullableField3Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField3());
+	}
+
+	public void setNullableField4Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField4());
+	}
+
+	public void setNullableField5Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField5());
+	}
+
+	public void setNullableField6Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField6());
+	}
+
+	public void setNullableField7Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField7());
+	}
+
+	public void setNullableField8Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField8());
+	}
+
+	public void setNullableField9Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField9());
+	}
+
+	public void setNullableField10Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField10());
+	}
+
+	public void setNullableField11Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField11());
+	}
+
+	public void setNullableField12Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField12());
+	}
+
+	public void setNullableField13Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField13());
+	}
+
+	public void setNullableField14Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField14());
+	}
+
+	public void setNullableField15Null()
+	{
+		zSetAttributeNull(TestObj16NullablesFinder.nullableField15());
+	}
+}
@@ -0,0 +1,1269 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestObj32NullablesData
+implements MithraDataObject
+{
+	private long isNullBits0 = 0;
+	private int nullableField0;
+	private int nullableField1;
+	private int nullableField10;
+	private int nullableField11;
+	private int nullableField12;
+	private int nullableField13;
+	private int nullableField14;
+	private int nullableField15;
+	private int nullableField16;
+	private int nullableField17;
+	private int nullableField18;
+	private int nullableField19;
+	private int nullableField2;
+	private int nullableField20;
+	private int nullableField21;
+	private int nullableField22;
+	private int nullableField23;
+	private int nullableField24;
+	private int nullableField25;
+	private int nullableField26;
+	private int nullableField27;
+	private int nullableField28;
+	private int nullableField29;
+	private int nullableField3;
+	private int nullableField30;
+	private int nullableField31;
+	private int nullableField4;
+	private int nullableField5;
+	private int nullableField6;
+	private int nullableField7;
+	private int nullableField8;
+	private int nullableField9;
+	private int objectId;
+	public boolean isObjectIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNullableField0Null()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isNullableField1Null()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isNullableField2Null()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isNullableField3Null()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public boolean isNullableField4Null()
+	{
+		return (isNullBits0 & 1 << 4) != 0 ;
+	}
+
+	public boolean isNullableField5Null()
+	{
+		return (isNullBits0 & 1 << 5) != 0 ;
+	}
+
+	public boolean isNullableField6Null()
+	{
+		return (isNullBits0 & 1 << 6) != 0 ;
+	}
+
+	public boolean isNullableField7Null()
+	{
+		return (isNullBits0 & 1 << 7) != 0 ;
+	}
+
+	public boolean isNullableField8Null()
+	{
+		return (isNullBits0 & 1 << 8) != 0 ;
+	}
+
+	public boolean isNullableField9Null()
+	{
+		return (isNullBits0 & 1 << 9) != 0 ;
+	}
+
+	public boolean isNullableField10Null()
+	{
+		return (isNullBits0 & 1 << 10) != 0 ;
+	}
+
+	public boolean isNullableField11Null()
+	{
+		return (isNullBits0 & 1 << 11) != 0 ;
+	}
+
+	public boolean isNullableField12Null()
+	{
+		return (isNullBits0 & 1 << 12) != 0 ;
+	}
+
+	public boolean isNullableField13Null()
+	{
+		return (isNullBits0 & 1 << 13) != 0 ;
+	}
+
+	public boolean isNullableField14Null()
+	{
+		return (isNullBits0 & 1 << 14) != 0 ;
+	}
+
+	public boolean isNullableField15Null()
+	{
+		return (isNullBits0 & 1 << 15) != 0 ;
+	}
+
+	public boolean isNullableField16Null()
+	{
+		return (isNullBits0 & 1 << 16) != 0 ;
+	}
+
+	public boolean isNullableField17Null()
+	{
+		return (isNullBits0 & 1 << 17) != 0 ;
+	}
+
+	public boolean isNullableField18Null()
+	{
+		return (isNullBits0 & 1 << 18) != 0 ;
+	}
+
+	public boolean isNullableField19Null()
+	{
+		return (isNullBits0 & 1 << 19) != 0 ;
+	}
+
+	public boolean isNullableField20Null()
+	{
+		return (isNullBits0 & 1 << 20) != 0 ;
+	}
+
+	public boolean isNullableField21Null()
+	{
+		return (isNullBits0 & 1 << 21) != 0 ;
+	}
+
+	public boolean isNullableField22Null()
+	{
+		return (isNullBits0 & 1 << 22) != 0 ;
+	}
+
+	public boolean isNullableField23Null()
+	{
+		return (isNullBits0 & 1 << 23) != 0 ;
+	}
+
+	public boolean isNullableField24Null()
+	{
+		return (isNullBits0 & 1 << 24) != 0 ;
+	}
+
+	public boolean isNullableField25Null()
+	{
+		return (isNullBits0 & 1 << 25) != 0 ;
+	}
+
+	public boolean isNullableField26Null()
+	{
+		return (isNullBits0 & 1 << 26) != 0 ;
+	}
+
+	public boolean isNullableField27Null()
+	{
+		return (isNullBits0 & 1 << 27) != 0 ;
+	}
+
+	public boolean isNullableField28Null()
+	{
+		return (isNullBits0 & 1 << 28) != 0 ;
+	}
+
+	public boolean isNullableField29Null()
+	{
+		return (isNullBits0 & 1 << 29) != 0 ;
+	}
+
+	public boolean isNullableField30Null()
+	{
+		return (isNullBits0 & 1 << 30) != 0 ;
+	}
+
+	public boolean isNullableField31Null()
+	{
+		return (isNullBits0 & 1L << 31) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeInt(this.nullableField0);
+		out.writeInt(this.nullableField1);
+		out.writeInt(this.nullableField10);
+		out.writeInt(this.nullableField11);
+		out.writeInt(this.nullableField12);
+		out.writeInt(this.nullableField13);
+		out.writeInt(this.nullableField14);
+		out.writeInt(this.nullableField15);
+		out.writeInt(this.nullableField16);
+		out.writeInt(this.nullableField17);
+		out.writeInt(this.nullableField18);
+		out.writeInt(this.nullableField19);
+		out.writeInt(this.nullableField2);
+		out.writeInt(this.nullableField20);
+		out.writeInt(this.nullableField21);
+		out.writeInt(this.nullableField22);
+		out.writeInt(this.nullableField23);
+		out.writeInt(this.nullableField24);
+		out.writeInt(this.nullableField25);
+		out.writeInt(this.nullableField26);
+		out.writeInt(this.nullableField27);
+		out.writeInt(this.nullableField28);
+		out.writeInt(this.nullableField29);
+		out.writeInt(this.nullableField3);
+		out.writeInt(this.nullableField30);
+		out.writeInt(this.nullableField31);
+		out.writeInt(this.nullableField4);
+		out.writeInt(this.nullableField5);
+		out.writeInt(this.nullableField6);
+		out.writeInt(this.nullableField7);
+		out.writeInt(this.nullableField8);
+		out.writeInt(this.nullableField9);
+		out.writeInt(this.objectId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeLong(this.isNullBits0);
+	}
+
+	public int getNullableField0()
+	{
+		return this.nullableField0;
+	}
+
+	public void setNullableField0(int value)
+	{
+		this.nullableField0 = value;
+		isNullBits0 = isNullBits0 & ~( 1);
+	}
+
+	public int getNullableField1()
+	{
+		return this.nullableField1;
+	}
+
+	public void setNullableField1(int value)
+	{
+		this.nullableField1 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 1);
+	}
+
+	public int getNullableField10()
+	{
+		return this.nullableField10;
+	}
+
+	public void setNullableField10(int value)
+	{
+		this.nullableField10 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 10);
+	}
+
+	public int getNullableField11()
+	{
+		return this.nullableField11;
+	}
+
+	public void setNullableField11(int value)
+	{
+		this.nullableField11 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 11);
+	}
+
+	public int getNullableField12()
+	{
+		return this.nullableField12;
+	}
+
+	public void setNullableField12(int value)
+	{
+		this.nullableField12 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 12);
+	}
+
+	public int getNullableField13()
+	{
+		return this.nullableField13;
+	}
+
+	public void setNullableField13(int value)
+	{
+		this.nullableField13 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 13);
+	}
+
+	public int getNullableField14()
+	{
+		return this.nullableField14;
+	}
+
+	public void setNullableField14(int value)
+	{
+		this.nullableField14 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 14);
+	}
+
+	public int getNullableField15()
+	{
+		return this.nullableField15;
+	}
+
+	public void setNullableField15(int value)
+	{
+		this.nullableField15 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 15);
+	}
+
+	public int getNullableField16()
+	{
+		return this.nullableField16;
+	}
+
+	public void setNullableField16(int value)
+	{
+		this.nullableField16 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 16);
+	}
+
+	public int getNullableField17()
+	{
+		return this.nullableField17;
+	}
+
+	public void setNullableField17(int value)
+	{
+		this.nullableField17 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 17);
+	}
+
+	public int getNullableField18()
+	{
+		return this.nullableField18;
+	}
+
+	public void setNullableField18(int value)
+	{
+		this.nullableField18 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 18);
+	}
+
+	public int getNullableField19()
+	{
+		return this.nullableField19;
+	}
+
+	public void setNullableField19(int value)
+	{
+		this.nullableField19 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 19);
+	}
+
+	public int getNullableField2()
+	{
+		return this.nullableField2;
+	}
+
+	public void setNullableField2(int value)
+	{
+		this.nullableField2 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 2);
+	}
+
+	public int getNullableField20()
+	{
+		return this.nullableField20;
+	}
+
+	public void setNullableField20(int value)
+	{
+		this.nullableField20 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 20);
+	}
+
+	public int getNullableField21()
+	{
+		return this.nullableField21;
+	}
+
+	public void setNullableField21(int value)
+	{
+		this.nullableField21 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 21);
+	}
+
+	public int getNullableField22()
+	{
+		return this.nullableField22;
+	}
+
+	public void setNullableField22(int value)
+	{
+		this.nullableField22 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 22);
+	}
+
+	public int getNullableField23()
+	{
+		return this.nullableField23;
+	}
+
+	public void setNullableField23(int value)
+	{
+		this.nullableField23 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 23);
+	}
+
+	public int getNullableField24()
+	{
+		return this.nullableField24;
+	}
+
+	public void setNullableField24(int value)
+	{
+		this.nullableField24 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 24);
+	}
+
+	public int getNullableField25()
+	{
+		return this.nullableField25;
+	}
+
+	public void setNullableField25(int value)
+	{
+		this.nullableField25 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 25);
+	}
+
+	public int getNullableField26()
+	{
+		return this.nullableField26;
+	}
+
+	public void setNullableField26(int value)
+	{
+		this.nullableField26 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 26);
+	}
+
+	public int getNullableField27()
+	{
+		return this.nullableField27;
+	}
+
+	public void setNullableField27(int value)
+	{
+		this.nullableField27 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 27);
+	}
+
+	public int getNullableField28()
+	{
+		return this.nullableField28;
+	}
+
+	public void setNullableField28(int value)
+	{
+		this.nullableField28 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 28);
+	}
+
+	public int getNullableField29()
+	{
+		return this.nullableField29;
+	}
+
+	public void setNullableField29(int value)
+	{
+		this.nullableField29 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 29);
+	}
+
+	public int getNullableField3()
+	{
+		return this.nullableField3;
+	}
+
+	public void setNullableField3(int value)
+	{
+		this.nullableField3 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 3);
+	}
+
+	public int getNullableField30()
+	{
+		return this.nullableField30;
+	}
+
+	public void setNullableField30(int value)
+	{
+		this.nullableField30 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 30);
+	}
+
+	public int getNullableField31()
+	{
+		return this.nullableField31;
+	}
+
+	public void setNullableField31(int value)
+	{
+		this.nullableField31 = value;
+		isNullBits0 = isNullBits0 & ~( 1L << 31);
+	}
+
+	public int getNullableField4()
+	{
+		return this.nullableField4;
+	}
+
+	public void setNullableField4(int value)
+	{
+		this.nullableField4 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 4);
+	}
+
+	public int getNullableField5()
+	{
+		return this.nullableField5;
+	}
+
+	public void setNullableField5(int value)
+	{
+		this.nullableField5 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 5);
+	}
+
+	public int getNullableField6()
+	{
+		return this.nullableField6;
+	}
+
+	public void setNullableField6(int value)
+	{
+		this.nullableField6 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 6);
+	}
+
+	public int getNullableField7()
+	{
+		return this.nullableField7;
+	}
+
+	public void setNullableField7(int value)
+	{
+		this.nullableField7 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 7);
+	}
+
+	public int getNullableField8()
+	{
+		return this.nullableField8;
+	}
+
+	public void setNullableField8(int value)
+	{
+		this.nullableField8 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 8);
+	}
+
+	public int getNullableField9()
+	{
+		return this.nullableField9;
+	}
+
+	public void setNullableField9(int value)
+	{
+		this.nullableField9 = value;
+		isNullBits0 = isNullBits0 & ~( 1 << 9);
+	}
+
+	public int getObjectId()
+	{
+		return this.objectId;
+	}
+
+	public void setObjectId(int value)
+	{
+		this.objectId = value;
+	}
+
+	public void setObjectIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setNullableField0Null()
+	{
+		isNullBits0 = (isNullBits0 | 1);
+	}
+
+	public void setNullableField1Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 1);
+	}
+
+	public void setNullableField2Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 2);
+	}
+
+	public void setNullableField3Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 3);
+	}
+
+	public void setNullableField4Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 4);
+	}
+
+	public void setNullableField5Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 5);
+	}
+
+	public void setNullableField6Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 6);
+	}
+
+	public void setNullableField7Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 7);
+	}
+
+	public void setNullableField8Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 8);
+	}
+
+	public void setNullableField9Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 9);
+	}
+
+	public void setNullableField10Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 10);
+	}
+
+	public void setNullableField11Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 11);
+	}
+
+	public void setNullableField12Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 12);
+	}
+
+	public void setNullableField13Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 13);
+	}
+
+	public void setNullableField14Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 14);
+	}
+
+	public void setNullableField15Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 15);
+	}
+
+	public void setNullableField16Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 16);
+	}
+
+	public void setNullableField17Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 17);
+	}
+
+	public void setNullableField18Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 18);
+	}
+
+	public void setNullableField19Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 19);
+	}
+
+	public void setNullableField20Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 20);
+	}
+
+	public void setNullableField21Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 21);
+	}
+
+	public void setNullableField22Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 22);
+	}
+
+	public void setNullableField23Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 23);
+	}
+
+	public void setNullableField24Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 24);
+	}
+
+	public void setNullableField25Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 25);
+	}
+
+	public void setNullableField26Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 26);
+	}
+
+	public void setNullableField27Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 27);
+	}
+
+	public void setNullableField28Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 28);
+	}
+
+	public void setNullableField29Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 29);
+	}
+
+	public void setNullableField30Null()
+	{
+		isNullBits0 = (isNullBits0 | 1 << 30);
+	}
+
+	public void setNullableField31Null()
+	{
+		isNullBits0 = (isNullBits0 | 1L << 31);
+	}
+
+	public long zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(long newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(TestObj32NullablesData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.nullableField0 = this.nullableField0;
+		copy.nullableField1 = this.nullableField1;
+		copy.nullableField10 = this.nullableField10;
+		copy.nullableField11 = this.nullableField11;
+		copy.nullableField12 = this.nullableField12;
+		copy.nullableField13 = this.nullableField13;
+		copy.nullableField14 = this.nullableField14;
+		copy.nullableField15 = this.nullableField15;
+		copy.nullableField16 = this.nullableField16;
+		copy.nullableField17 = this.nullableField17;
+		copy.nullableField18 = this.nullableField18;
+		copy.nullableField19 = this.nullableField19;
+		copy.nullableField2 = this.nullableField2;
+		copy.nullableField20 = this.nullableField20;
+		copy.nullableField21 = this.nullableField21;
+		copy.nullableField22 = this.nullableField22;
+		copy.nullableField23 = this.nullableField23;
+		copy.nullableField24 = this.nullableField24;
+		copy.nullableField25 = this.nullableField25;
+		copy.nullableField26 = this.nullableField26;
+		copy.nullableField27 = this.nullableField27;
+		copy.nullableField28 = this.nullableField28;
+		copy.nullableField29 = this.nullableField29;
+		copy.nullableField3 = this.nullableField3;
+		copy.nullableField30 = this.nullableField30;
+		copy.nullableField31 = this.nullableField31;
+		copy.nullableField4 = this.nullableField4;
+		copy.nullableField5 = this.nullableField5;
+		copy.nullableField6 = this.nullableField6;
+		copy.nullableField7 = this.nullableField7;
+		copy.nullableField8 = this.nullableField8;
+		copy.nullableField9 = this.nullableField9;
+		copy.objectId = this.objectId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readLong();
+		this.nullableField0 = in.readInt();
+		this.nullableField1 = in.readInt();
+		this.nullableField10 = in.readInt();
+		this.nullableField11 = in.readInt();
+		this.nullableField12 = in.readInt();
+		this.nullableField13 = in.readInt();
+		this.nullableField14 = in.readInt();
+		this.nullableField15 = in.readInt();
+		this.nullableField16 = in.readInt();
+		this.nullableField17 = in.readInt();
+		this.nullableField18 = in.readInt();
+		this.nullableField19 = in.readInt();
+		this.nullableField2 = in.readInt();
+		this.nullableField20 = in.readInt();
+		this.nullableField21 = in.readInt();
+		this.nullableField22 = in.readInt();
+		this.nullableField23 = in.readInt();
+		this.nullableField24 = in.readInt();
+		this.nullableField25 = in.readInt();
+		this.nullableField26 = in.readInt();
+		this.nullableField27 = in.readInt();
+		this.nullableField28 = in.readInt();
+		this.nullableField29 = in.readInt();
+		this.nullableField3 = in.readInt();
+		this.nullableField30 = in.readInt();
+		this.nullableField31 = in.readInt();
+		this.nullableField4 = in.readInt();
+		this.nullableField5 = in.readInt();
+		this.nullableField6 = in.readInt();
+		this.nullableField7 = in.readInt();
+		this.nullableField8 = in.readInt();
+		this.nullableField9 = in.readInt();
+		this.objectId = in.readInt();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TestObj32NullablesData otherData = (TestObj32NullablesData) other;
+		if (getObjectId() != otherData.getObjectId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.objectId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.objectId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TestObj32NullablesData testObj32NullablesData = (TestObj32NullablesData) newData;
+		this.setNullableField0(testObj32NullablesData.getNullableField0());
+		if (testObj32NullablesData.isNullableField0Null()) this.setNullableField0Null();
+		this.setNullableField1(testObj32NullablesData.getNullableField1());
+		if (testObj32NullablesData.isNullableField1Null()) this.setNullableField1Null();
+		this.setNullableField10(testObj32NullablesData.getNullableField10());
+		if (testObj32NullablesData.isNullableField10Null()) this.setNullableField10Null();
+		this.setNullableField11(testObj32NullablesData.getNullableField11());
+		if (testObj32NullablesData.isNullableField11Null()) this.setNullableField11Null();
+		this.setNullableField12(testObj32NullablesData.getNullableField12());
+		if (testObj32NullablesData.isNullableField12Null()) this.setNullableField12Null();
+		this.setNullableField13(testObj32NullablesData.getNullableField13());
+		if (testObj32NullablesData.isNullableField13Null()) this.setNullableField13Null();
+		this.setNullableField14(testObj32NullablesData.getNullableField14());
+		if (testObj32NullablesData.isNullableField14Null()) this.setNullableField14Null();
+		this.setNullableField15(testObj32NullablesData.getNullableField15());
+		if (testObj32NullablesData.isNullableField15Null()) this.setNullableField15Null();
+		this.setNullableField16(testObj32NullablesData.getNullableField16());
+		if (testObj32NullablesData.isNullableField16Null()) this.setNullableField16Null();
+		this.setNullableField17(testObj32NullablesData.getNullableField17());
+		if (testObj32NullablesData.isNullableField17Null()) this.setNullableField17Null();
+		this.setNullableField18(testObj32NullablesData.getNullableField18());
+		if (testObj32NullablesData.isNullableField18Null()) this.setNullableField18Null();
+		this.setNullableField19(testObj32NullablesData.getNullableField19());
+		if (testObj32NullablesData.isNullableField19Null()) this.setNullableField19Null();
+		this.setNullableField2(testObj32NullablesData.getNullableField2());
+		if (testObj32NullablesData.isNullableField2Null()) this.setNullableField2Null();
+		this.setNullableField20(testObj32NullablesData.getNullableField20());
+		if (testObj32NullablesData.isNullableField20Null()) this.setNullableField20Null();
+		this.setNullableField21(testObj32NullablesData.getNullableField21());
+		if (testObj32NullablesData.isNullableField21Null()) this.setNullableField21Null();
+		this.setNullableField22(testObj32NullablesData.getNullableField22());
+		if (testObj32NullablesData.isNullableField22Null()) this.setNullableField22Null();
+		this.setNullableField23(testObj32NullablesData.getNullableField23());
+		if (testObj32NullablesData.isNullableField23Null()) this.setNullableField23Null();
+		this.setNullableField24(testObj32NullablesData.getNullableField24());
+		if (testObj32NullablesData.isNullableField24Null()) this.setNullableField24Null();
+		this.setNullableField25(testObj32NullablesData.getNullableField25());
+		if (testObj32NullablesData.isNullableField25Null()) this.setNullableField25Null();
+		this.setNullableField26(testObj32NullablesData.getNullableField26());
+		if (testObj32NullablesData.isNullableField26Null()) this.setNullableField26Null();
+		this.setNullableField27(testObj32NullablesData.getNullableField27());
+		if (testObj32NullablesData.isNullableField27Null()) this.setNullableField27Null();
+		this.setNullableField28(testObj32NullablesData.getNullableField28());
+		if (testObj32NullablesData.isNullableField28Null()) this.setNullableField28Null();
+		this.setNullableField29(testObj32NullablesData.getNullableField29());
+		if (testObj32NullablesData.isNullableField29Null()) this.setNullableField29Null();
+		this.setNullableField3(testObj32NullablesData.getNullableField3());
+		if (testObj32NullablesData.isNullableField3Null()) this.setNullableField3Null();
+		this.setNullableField30(testObj32NullablesData.getNullableField30());
+		if (testObj32NullablesData.isNullableField30Null()) this.setNullableField30Null();
+		this.setNullableField31(testObj32NullablesData.getNullableField31());
+		if (testObj32NullablesData.isNullableField31Null()) this.setNullableField31Null();
+		this.setNullableField4(testObj32NullablesData.getNullableField4());
+		if (testObj32NullablesData.isNullableField4Null()) this.setNullableField4Null();
+		this.setNullableField5(testObj32NullablesData.getNullableField5());
+		if (testObj32NullablesData.isNullableField5Null()) this.setNullableField5Null();
+		this.setNullableField6(testObj32NullablesData.getNullableField6());
+		if (testObj32NullablesData.isNullableField6Null()) this.setNullableField6Null();
+		this.setNullableField7(testObj32NullablesData.getNullableField7());
+		if (testObj32NullablesData.isNullableField7Null()) this.setNullableField7Null();
+		this.setNullableField8(testObj32NullablesData.getNullableField8());
+		if (testObj32NullablesData.isNullableField8Null()) this.setNullableField8Null();
+		this.setNullableField9(testObj32NullablesData.getNullableField9());
+		if (testObj32NullablesData.isNullableField9Null()) this.setNullableField9Null();
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TestObj32NullablesData other = (TestObj32NullablesData) newData;
+		if ( isNullableField0Null() != other.isNullableField0Null() || getNullableField0() != other.getNullableField0())
+		{
+			return true;
+		}
+
+		if ( isNullableField1Null() != other.isNullableField1Null() || getNullableField1() != other.getNullableField1())
+		{
+			return true;
+		}
+
+		if ( isNullableField10Null() != other.isNullableField10Null() || getNullableField10() != other.getNullableField10())
+		{
+			return true;
+		}
+
+		if ( isNullableField11Null() != other.isNullableField11Null() || getNullableField11() != other.getNullableField11())
+		{
+			return true;
+		}
+
+		if ( isNullableField12Null() != other.isNullableField12Null() || getNullableField12() != other.getNullableField12())
+		{
+			return true;
+		}
+
+		if ( isNullableField13Null() != other.isNullableField13Null() || getNullableField13() != other.getNullableField13())
+		{
+			return true;
+		}
+
+		if ( isNullableField14Null() != other.isNullableField14Null() || getNullableField14() != other.getNullableField14())
+		{
+			return true;
+		}
+
+		if ( isNullableField15Null() != other.isNullableField15Null() || getNullableField15() != other.getNullableField15())
+		{
+			return true;
+		}
+
+		if ( isNullableField16Null() != other.isNullableField16Null() || getNullableField16() != other.getNullableField16())
+		{
+			return true;
+		}
+
+		if ( isNullableField17Null() != other.isNullableField17Null() || getNullableField17() != other.getNullableField17())
+		{
+			return true;
+		}
+
+		if ( isNullableField18Null() != other.isNullableField18Null() || getNullableField18() != other.getNullableField18())
+		{
+			return true;
+		}
+
+		if ( isNullableField19Null() != other.isNullableField19Null() || getNullableField19() != other.getNullableField19())
+		{
+			return true;
+		}
+
+		if ( isNullableField2Null() != other.isNullableField2Null() || getNullableField2() != other.getNullableField2())
+		{
+			return true;
+		}
+
+		if ( isNullableField20Null() != other.isNullableField20Null() || getNullableField20() != other.getNullableField20())
+		{
+			return true;
+		}
+
+		if ( isNullableField21Null() != other.isNullableField21Null() || getNullableField21() != other.getNullableField21())
+		{
+			return true;
+		}
+
+		if ( isNullableField22Null() != other.isNullableField22Null() || getNullableField22() != other.getNullableField22())
+		{
+			return true;
+		}
+
+		if ( isNullableField23Null() != other.isNullableField23Null() || getNullableField23() != other.getNullableField23())
+		{
+			return true;
+		}
+
+		if ( isNullableField24Null() != other.isNullableField24Null() || getNullableField24() != other.getNullableField24())
+		{
+			return true;
+		}
+
+		if ( isNullableField25Null() != other.isNullableField25Null() || getNullableField25() != other.getNullableField25())
+		{
+			return true;
+		}
+
+		if ( isNullableField26Null() != other.isNullableField26Null() || getNullableField26() != other.getNullableField26())
+		{
+			return true;
+		}
+
+		if ( isNullableField27Null() != other.isNullableField27Null() || getNullableField27() != other.getNullableField27())
+		{
+			return true;
+		}
+
+		if ( isNullableField28Null() != other.isNullableField28Null() || getNullableField28() != other.getNullableField28())
+		{
+			return true;
+		}
+
+		if ( isNullableField29Null() != other.isNullableField29Null() || getNullableField29() != other.getNullableField29())
+		{
+			return true;
+		}
+
+		if ( isNullableField3Null() != other.isNullableField3Null() || getNullableField3() != other.getNullableField3())
+		{
+			return true;
+		}
+
+		if ( isNullableField30Null() != other.isNullableField30Null() || getNullableField30() != other.getNullableField30())
+		{
+			return true;
+		}
+
+		if ( isNullableField31Null() != other.isNullableField31Null() || getNullableField31() != other.getNullableField31())
+		{
+			return true;
+		}
+
+		if ( isNullableField4Null() != other.isNullableField4Null() || getNullableField4() != other.getNullableField4())
+		{
+			return true;
+		}
+
+		if ( isNullableField5Null() != other.isNullableField5Null() || getNullableField5() != other.getNullableField5())
+		{
+			return true;
+		}
+
+		if ( isNullableField6Null() != other.isNullableField6Null() || getNullableField6() != other.getNullableField6())
+		{
+			return true;
+		}
+
+		if ( isNullableField7Null() != other.isNullableField7Null() || getNullableField7() != other.getNullableField7())
+		{
+			return true;
+		}
+
+		if ( isNullableField8Null() != other.isNullableField8Null() || getNullableField8() != other.getNullableField8())
+		{
+			return true;
+		}
+
+		if ( isNullableField9Null() != other.isNullableField9Null() || getNullableField9() != other.getNullableField9())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TestObj32NullablesData copy = new TestObj32NullablesData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TestObj32NullablesData copy = new TestObj32NullablesData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "objectId: "+(""+getObjectId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestObj32NullablesData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TestObj32NullablesFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TestObj32NullablesFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestObj32NullablesData";
+	}
+}
@@ -0,0 +1,160 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestOverlapProcessingDateMilestonedListAbstract extends DelegatingList<TestOverlapProcessingDateMilestoned> implements MithraDatedTransactionalList<TestOverlapProcessingDateMilestoned>
+{
+	public TestOverlapProcessingDateMilestonedListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestOverlapProcessingDateMilestonedListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestOverlapProcessingDateMilestonedListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestOverlapProcessingDateMilestonedListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestOverlapProcessingDateMilestoned[] elements()
+	{
+		TestOverlapProcessingDateMilestoned[] result = new TestOverlapProcessingDateMilestoned[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestOverlapProcessingDateMilestonedList intersection(TestOverlapProcessingDateMilestonedList another)
+	{
+		return (TestOverlapProcessingDateMilestonedList)super.intersection(another);
+	}
+
+	public TestOverlapProcessingDateMilestoned getTestOverlapProcessingDateMilestonedAt(int index)
+	{
+		return (TestOverlapProcessingDateMilestoned)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestOverlapProcessingDateMilestonedFinder.getMithraObjectPortal();
+	}
+
+	public TestOverlapProcessingDateMilestonedList getNonPersistentCopy()
+	{
+		TestOverlapProcessingDateMilestonedList result = new TestOverlapProcessingDateMilestonedList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestOverlapProcessingDateMilestonedList asAdhoc()
+	{
+		return (TestOverlapProcessingDateMilestonedList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestOverlapProcessingDateMilestoned> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestOverlapProcessingDateMilestonedList merge(MithraTransactionalList<TestOverlapProcessingDateMilestoned> incoming, TopLevelMergeOptions<TestOverlapProcessingDateMilestoned> mergeOptions)
+	{
+		return (TestOverlapProcessingDateMilestonedList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestOverlapProcessingDateMilestonedList getDetachedCopy()
+	{
+		TestOverlapProcessingDateMilestonedList result = new TestOverlapProcessingDateMilestonedList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setOverlapId(long newValue)
+	{
+		zSetLong(TestOverlapProcessingDateMilestonedFinder.overlapId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapProcessingDateMilestonedFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestOverlapProcessingDateMilestonedFinder.processingDateTo(), newValue);
+	}
+
+	public void setType(String newValue)
+	{
+		zSetString(TestOverlapProcessingDateMilestonedFinder.type(), newValue);
+	}
+
+	public void setUser(String newValue)
+	{
+		zSetString(TestOverlapProcessingDateMilestonedFinder.user(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
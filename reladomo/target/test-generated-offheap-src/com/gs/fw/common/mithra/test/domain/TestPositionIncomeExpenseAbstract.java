@@ -0,0 +1,719 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestPositionIncomeExpenseAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestPositionIncomeExpenseFinder.businessDate()
+	,
+		TestPositionIncomeExpenseFinder.processingDate()
+	, TestPositionIncomeExpenseFinder.zGetDoubleAttributes(),TestPositionIncomeExpenseFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestPositionIncomeExpense.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TestPositionIncomeExpenseAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestPositionIncomeExpenseFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestPositionIncomeExpenseFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestPositionIncomeExpenseAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public TestPositionIncomeExpenseData zSynchronizedGetData()
+	{
+		return (TestPositionIncomeExpenseData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestPositionIncomeExpenseFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestPositionIncomeExpenseFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TestPositionIncomeExpense zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestPositionIncomeExpense original = (TestPositionIncomeExpense) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestPositionIncomeExpense copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestPositionIncomeExpense) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestPositionIncomeExpense copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestPositionIncomeExpense) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestPositionIncomeExpenseFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestPositionIncomeExpense getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestPositionIncomeExpenseAbstract result = (TestPositionIncomeExpenseAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestPositionIncomeExpense ) result;
+	}
+
+	public TestPositionIncomeExpense zFindOriginal()
+	{
+		TestPositionIncomeExpenseData data = (TestPositionIncomeExpenseData) this.currentData;
+		Operation op;
+		op = TestPositionIncomeExpenseFinder.accountId().eq(data.getAccountId());
+		op = op.and(TestPositionIncomeExpenseFinder.productId().eq(data.getProductId()));
+		op = op.and(TestPositionIncomeExpenseFinder.positionType().eq(data.getPositionType()));
+		op = op.and(TestPositionIncomeExpenseFinder.balanceType().eq(data.getBalanceType()));
+		op = op.and(TestPositionIncomeExpenseFinder.currency().eq(data.getCurrency()));
+		op = op.and(TestPositionIncomeExpenseFinder.acmapCode().eq(data.getAcmapCode()));
+		op = op.and(TestPositionIncomeExpenseFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestPositionIncomeExpenseFinder.processingDate().eq(this.getProcessingDate()));
+		return TestPositionIncomeExpenseFinder.findOne(op);
+	}
+
+	public TestPositionIncomeExpense getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestPositionIncomeExpenseAbstract result = (TestPositionIncomeExpenseAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestPositionIncomeExpense ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestPositionIncomeExpense copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestPositionIncomeExpense) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestPositionIncomeExpense copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestPositionIncomeExpense) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestPositionIncomeExpenseData data = (TestPositionIncomeExpenseData) this.currentData;
+			Operation op = TestPositionIncomeExpenseFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestPositionIncomeExpenseFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestPositionIncomeExpenseFinder.accountId().eq(data.getAccountId()));
+			op = op.and(TestPositionIncomeExpenseFinder.balanceType().eq(data.getBalanceType()));
+			op = op.and(TestPositionIncomeExpenseFinder.currency().eq(data.getCurrency()));
+			op = op.and(TestPositionIncomeExpenseFinder.positionType().eq(data.getPositionType()));
+			op = op.and(TestPositionIncomeExpenseFinder.productId().eq(data.getProductId()));
+			op = op.and(TestPositionIncomeExpenseFinder.acmapCode().eq(data.getAcmapCode()));
+			return TestPositionIncomeExpenseFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestPositionIncomeExpenseData data = (TestPositionIncomeExpenseData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestPositionIncomeExpenseFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestPositionIncomeExpenseData data = (TestPositionIncomeExpenseData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.zSynchronizedGetData().isAcmapCodeNull();
+	}
+
+	public boolean isBalanceTypeNull()
+	{
+		return this.zSynchronizedGetData().isBalanceTypeNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.zSynchronizedGetData().isCurrencyNull();
+	}
+
+	public boolean isIncomeExpenseNull()
+	{
+		return this.zSynchronizedGetData().isIncomeExpenseNull();
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return this.zSynchronizedGetData().isPositionTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public String getAccountId()
+	{
+		return this.zSynchronizedGetData().getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseFinder.accountId(), newValue, true );
+	}
+
+	public void setAccountIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseFinder.accountId(), newValue, true , exclusiveUntil);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.zSynchronizedGetData().getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseFinder.acmapCode(), newValue, false );
+	}
+
+	public void setAcmapCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		zSetString(TestPositionIncomeExpenseFinder.acmapCode(), newValue, false , exclusiveUntil);
+	}
+
+	public int getBalanceType()
+	{
+		return this.zSynchronizedGetData().getBalanceType();
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.balanceType(), newValue, true ,false);
+	}
+
+	public void setBalanceTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.balanceType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getCurrency()
+	{
+		return this.zSynchronizedGetData().getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseFinder.currency(), newValue, true );
+	}
+
+	public void setCurrencyUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestPositionIncomeExpenseFinder.currency(), newValue, true , exclusiveUntil);
+	}
+
+	public double getIncomeExpense()
+	{
+		TestPositionIncomeExpenseData data = this.zSynchronizedGetData();
+		if (data.isIncomeExpenseNull()) MithraNullPrimitiveException.throwNew("incomeExpense", data);
+		return data.getIncomeExpense();
+	}
+
+	public void setIncomeExpense(double newValue)
+	{
+		zSetDouble(TestPositionIncomeExpenseFinder.incomeExpense(), newValue, false ,true);
+	}
+
+	public void setIncomeExpenseUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(TestPositionIncomeExpenseFinder.incomeExpense(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementIncomeExpense(double increment)
+	{
+		zIncrement(increment, TestPositionIncomeExpenseFinder.incomeExpense(), false);
+	}
+
+	public void incrementIncomeExpenseUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, TestPositionIncomeExpenseFinder.incomeExpense(), false);
+	}
+
+	public int getPositionType()
+	{
+		return this.zSynchronizedGetData().getPositionType();
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.positionType(), newValue, true ,false);
+	}
+
+	public void setPositionTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.positionType(), newValue, true , exclusiveUntil,false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		return this.zSynchronizedGetData().getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.productId(), newValue, true ,false);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.productId(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TestPositionIncomeExpenseFinder.incomeExpense(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestPositionIncomeExpenseData data2 = (TestPositionIncomeExpenseData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestPositionIncomeExpenseFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setIncomeExpenseNull()
+	{
+		zNullify(TestPositionIncomeExpenseFinder.incomeExpense(), false);
+	}
+
+	public void setIncomeExpenseNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(TestPositionIncomeExpenseFinder.incomeExpense(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestPositionIncomeExpenseData _newData = (TestPositionIncomeExpenseData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestPositionIncomeExpenseData _newData = (TestPositionIncomeExpenseData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestPositionIncomeExpenseData _newData = (TestPositionIncomeExpenseData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TestPositionIncomeExpenseFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestPositionIncomeExpenseData.TestPositionIncomeExpenseDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestPositionIncomeExpenseData data = (TestPositionIncomeExpenseData) TestPositionIncomeExpenseFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestPositionIncomeExpense has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestPositionIncomeExpenseData( TestPositionIncomeExpenseData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestPositionIncomeExpenseData( TestPositionIncomeExpenseData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestPositionIncomeExpenseFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestPositionIncomeExpenseFinder.getMithraObjectPortal();
+	}
+
+	public TestPositionIncomeExpense getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestPositionIncomeExpenseAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestPositionIncomeExpenseAbstract from = (TestPositionIncomeExpenseAbstract) f;
+		TestPositionIncomeExpenseData newData = from.zSynchronizedGetData();
+		if (from.isIncomeExpenseNull())
+		{
+			this.setIncomeExpenseNull();
+		}
+		else
+		{
+			this.setIncomeExpense(newData.getIncomeExpense());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestPositionIncomeExpenseData _newData = (TestPositionIncomeExpenseData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestPositionIncomeExpenseData _newData = (TestPositionIncomeExpenseData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestPositionIncomeExpenseAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestPositionIncomeExpenseAbstract from = (TestPositionIncomeExpenseAbstract)f;
+		TestPositionIncomeExpenseData newData = from.zSynchronizedGetData();
+		if (from.isIncomeExpenseNull())
+		{
+			this.setIncomeExpenseNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setIncomeExpenseUntil(newData.getIncomeExpense(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestPositionIncomeExpenseData newData = (TestPositionIncomeExpenseData) d;
+		TestPositionIncomeExpenseData data = (TestPositionIncomeExpenseData) nd;
+		if (TestPositionIncomeExpenseFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseFinder.accountId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseFinder.acmapCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseFinder.balanceType(), false);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseFinder.currency(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestPositionIncomeExpenseFinder.incomeExpense(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseFinder.positionType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseFinder.productId(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseFinder.accountId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseFinder.acmapCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseFinder.balanceType(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestPositionIncomeExpenseFinder.currency(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, TestPositionIncomeExpenseFinder.incomeExpense(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseFinder.positionType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, TestPositionIncomeExpenseFinder.productId(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestPositionIncomeExpenseData data = ((TestPositionIncomeExpenseData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestPositionIncomeExpenseData data = ((TestPositionIncomeExpenseData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestPositionIncomeExpenseData data = ((TestPositionIncomeExpenseData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestPositionIncomeExpenseFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestPositionIncomeExpenseFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestPositionIncomeExpenseData localData = (TestPositionIncomeExpenseData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
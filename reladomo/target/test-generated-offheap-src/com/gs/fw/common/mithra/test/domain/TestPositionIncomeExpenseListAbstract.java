@@ -0,0 +1,195 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestPositionIncomeExpenseListAbstract extends DelegatingList<TestPositionIncomeExpense> implements MithraDatedTransactionalList<TestPositionIncomeExpense>
+{
+	public TestPositionIncomeExpenseListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestPositionIncomeExpenseListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestPositionIncomeExpenseListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestPositionIncomeExpenseListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestPositionIncomeExpense[] elements()
+	{
+		TestPositionIncomeExpense[] result = new TestPositionIncomeExpense[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestPositionIncomeExpenseList intersection(TestPositionIncomeExpenseList another)
+	{
+		return (TestPositionIncomeExpenseList)super.intersection(another);
+	}
+
+	public TestPositionIncomeExpense getTestPositionIncomeExpenseAt(int index)
+	{
+		return (TestPositionIncomeExpense)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestPositionIncomeExpenseFinder.getMithraObjectPortal();
+	}
+
+	public TestPositionIncomeExpenseList getNonPersistentCopy()
+	{
+		TestPositionIncomeExpenseList result = new TestPositionIncomeExpenseList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestPositionIncomeExpenseList asAdhoc()
+	{
+		return (TestPositionIncomeExpenseList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestPositionIncomeExpense> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestPositionIncomeExpenseList merge(MithraTransactionalList<TestPositionIncomeExpense> incoming, TopLevelMergeOptions<TestPositionIncomeExpense> mergeOptions)
+	{
+		return (TestPositionIncomeExpenseList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestPositionIncomeExpenseList getDetachedCopy()
+	{
+		TestPositionIncomeExpenseList result = new TestPositionIncomeExpenseList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseFinder.accountId(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseFinder.acmapCode(), newValue);
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.balanceType(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.businessDateTo(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(TestPositionIncomeExpenseFinder.currency(), newValue);
+	}
+
+	public void setIncomeExpense(double newValue)
+	{
+		zSetDouble(TestPositionIncomeExpenseFinder.incomeExpense(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.positionType(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionIncomeExpenseFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestPositionIncomeExpenseFinder.productId(), newValue);
+	}
+
+	public void setIncomeExpenseNull()
+	{
+		zSetAttributeNull(TestPositionIncomeExpenseFinder.incomeExpense());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,215 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestPositionPriceListAbstract extends DelegatingList<TestPositionPrice> implements MithraDatedTransactionalList<TestPositionPrice>
+{
+	public TestPositionPriceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestPositionPriceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestPositionPriceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestPositionPriceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestPositionPrice[] elements()
+	{
+		TestPositionPrice[] result = new TestPositionPrice[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestPositionPriceList intersection(TestPositionPriceList another)
+	{
+		return (TestPositionPriceList)super.intersection(another);
+	}
+
+	public TestPositionPrice getTestPositionPriceAt(int index)
+	{
+		return (TestPositionPrice)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestPositionPriceFinder.getMithraObjectPortal();
+	}
+
+	public TestPositionPriceList getNonPersistentCopy()
+	{
+		TestPositionPriceList result = new TestPositionPriceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestPositionPriceList asAdhoc()
+	{
+		return (TestPositionPriceList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestPositionPrice> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestPositionPriceList merge(MithraTransactionalList<TestPositionPrice> incoming, TopLevelMergeOptions<TestPositionPrice> mergeOptions)
+	{
+		return (TestPositionPriceList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestPositionPriceList getDetachedCopy()
+	{
+		TestPositionPriceList result = new TestPositionPriceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccountId(String newValue)
+	{
+		zSetString(TestPositionPriceFinder.accountId(), newValue);
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		zSetString(TestPositionPriceFinder.acmapCode(), newValue);
+	}
+
+	public void setBalanceType(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.balanceType(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.businessDateTo(), newValue);
+	}
+
+	public void setCurrency(String newValue)
+	{
+		zSetString(TestPositionPriceFinder.currency(), newValue);
+	}
+
+	public void setMarketValue(double newValue)
+	{
+		zSetDouble(TestPositionPriceFinder.marketValue(), newValue);
+	}
+
+	public void setPositionType(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.positionType(), newValue);
+	}
+
+	public void setPriceType(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.priceType(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestPositionPriceFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.productId(), newValue);
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestPositionPriceFinder.sourceId(), newValue);
+	}
+
+	public void setSourceIdNull()
+	{
+		zSetAttributeNull(TestPositionPriceFinder.sourceId());
+	}
+
+	public void setPriceTypeNull()
+	{
+		zSetAttributeNull(TestPositionPriceFinder.priceType());
+	}
+
+	public void setMarketValueNull()
+	{
+		zSetAttributeNull(TestPositionPriceFinder.marketValue());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,230 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestRestrictedEntityListAbstract extends DelegatingList<TestRestrictedEntity> implements MithraDatedTransactionalList<TestRestrictedEntity>
+{
+	public TestRestrictedEntityListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestRestrictedEntityListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestRestrictedEntityListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestRestrictedEntityListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestRestrictedEntity[] elements()
+	{
+		TestRestrictedEntity[] result = new TestRestrictedEntity[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestRestrictedEntityList intersection(TestRestrictedEntityList another)
+	{
+		return (TestRestrictedEntityList)super.intersection(another);
+	}
+
+	public TestRestrictedEntity getTestRestrictedEntityAt(int index)
+	{
+		return (TestRestrictedEntity)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestRestrictedItem.restrictedItemId = this.restrictedItemId</pre>
+	* @see TestRestrictedItem#getRestrictedEntity() reverse relationship TestRestrictedItem.getRestrictedEntity()
+	* @return The restricted item
+	*/
+	public TestRestrictedItemList getRestrictedItems()
+	{
+		return (TestRestrictedItemList) this.getDelegated().resolveRelationship(this, TestRestrictedEntityFinder.restrictedItem());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.controlledEntryId = TestControlledEntry.controlledEntryId</pre>
+	* @see TestControlledEntry#getRestrictedEntities() reverse relationship TestControlledEntry.getRestrictedEntities()
+	* @return The controlled entry
+	*/
+	public TestControlledEntryList getControlledEntries()
+	{
+		return (TestControlledEntryList) this.getDelegated().resolveRelationship(this, TestRestrictedEntityFinder.controlledEntry());
+	}
+
+	public void zSetParentContainercontrolledEntry(TestControlledEntryAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			TestRestrictedEntity item = this.getTestRestrictedEntityAt(i);
+			item.zSetParentContainercontrolledEntry(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestRestrictedEntityFinder.getMithraObjectPortal();
+	}
+
+	public TestRestrictedEntityList getNonPersistentCopy()
+	{
+		TestRestrictedEntityList result = new TestRestrictedEntityList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestRestrictedEntityList asAdhoc()
+	{
+		return (TestRestrictedEntityList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestRestrictedEntity> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestRestrictedEntityList merge(MithraTransactionalList<TestRestrictedEntity> incoming, TopLevelMergeOptions<TestRestrictedEntity> mergeOptions)
+	{
+		return (TestRestrictedEntityList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestRestrictedEntityList getDetachedCopy()
+	{
+		TestRestrictedEntityList result = new TestRestrictedEntityList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)TestRestrictedEntityFinder.restrictedItemId(), false, "RESTRICTED_ITEM_SEQ", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.businessDateTo(), newValue);
+	}
+
+	public void setControlledEntryId(long newValue)
+	{
+		zSetLong(TestRestrictedEntityFinder.controlledEntryId(), newValue);
+	}
+
+	public void setEntityId(int newValue)
+	{
+		zSetInteger(TestRestrictedEntityFinder.entityId(), newValue);
+	}
+
+	public void setEntityName(String newValue)
+	{
+		zSetString(TestRestrictedEntityFinder.entityName(), newValue);
+	}
+
+	public void setEntityType(String newValue)
+	{
+		zSetString(TestRestrictedEntityFinder.entityType(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedEntityFinder.processingDateTo(), newValue);
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(TestRestrictedEntityFinder.restrictedItemId(), newValue);
+	}
+
+	public void setControlledEntryIdNull()
+	{
+		zSetAttributeNull(TestRestrictedEntityFinder.controlledEntryId());
+	}
+
+	public void setEntityIdNull()
+	{
+		zSetAttributeNull(TestRestrictedEntityFinder.entityId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,945 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TestRestrictedItemAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		TestRestrictedItemFinder.businessDate()
+	,
+		TestRestrictedItemFinder.processingDate()
+	, TestRestrictedItemFinder.zGetDoubleAttributes(),TestRestrictedItemFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TestRestrictedItem.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrestrictedEntity = new RestrictedEntityRhs();
+	private static final class RestrictedEntityRhs implements RelationshipHashStrategy
+	{
+		private AsOfAttribute businessDate = TestRestrictedEntityFinder.businessDate();
+		private AsOfAttribute processingDate = TestRestrictedEntityFinder.processingDate();
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			TestRestrictedItem _castedSrcObject = (TestRestrictedItem) _srcObject;
+			TestRestrictedItemData _castedSrcData = (TestRestrictedItemData) _srcData;
+			TestRestrictedEntityData _castedTargetData = (TestRestrictedEntityData) _targetData;
+			if (_castedSrcData.getRestrictedItemId() == _castedTargetData.getRestrictedItemId())
+			{
+				return businessDate.dataMatches(_castedTargetData, _asOfDate0) && processingDate.dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			TestRestrictedItemData _castedSrcData = (TestRestrictedItemData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRestrictedItemId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public boolean isCommentsModifiedSinceDetachment()
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		TestRestrictedItemCommentList comments =
+		(TestRestrictedItemCommentList) _data.getComments();
+		if( comments != null)
+		{
+			return comments.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	public TestRestrictedItemAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, TestRestrictedItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TestRestrictedItemFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestRestrictedItemAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public TestRestrictedItemData zSynchronizedGetData()
+	{
+		return (TestRestrictedItemData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TestRestrictedItemFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !TestRestrictedItemFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		TestRestrictedItemCommentList comments =
+		(TestRestrictedItemCommentList ) _data.getComments();
+		_behavior.insert(this);
+		if (comments != null)
+		{
+			comments.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TestRestrictedItemFinder.TestRestrictedItemRelatedFinder parentFinder = (TestRestrictedItemFinder.TestRestrictedItemRelatedFinder) parentFinderGeneric;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedItemData _newData = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		{
+			TestRestrictedItemCommentList comments =
+			(TestRestrictedItemCommentList) _newData.getComments();
+			RelatedFinder dependentFinder = parentFinder.comments();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, comments != null, navigationStats);
+			if (comments != null)
+			{
+				comments.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	public TestRestrictedItem zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		TestRestrictedItemCommentList comments =
+		(TestRestrictedItemCommentList ) _data.getComments();
+		TestRestrictedItem original = (TestRestrictedItem) _behavior.copyThenInsert(this);
+		if (comments != null)
+		{
+			comments.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getComments().cascadeInsertAllUntil(exclusiveUntil);
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public TestRestrictedItem copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (TestRestrictedItem) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public TestRestrictedItem copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (TestRestrictedItem) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			TestRestrictedItemFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TestRestrictedItem getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestRestrictedItemAbstract result = (TestRestrictedItemAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TestRestrictedItem ) result;
+	}
+
+	public TestRestrictedItem zFindOriginal()
+	{
+		TestRestrictedItemData data = (TestRestrictedItemData) this.currentData;
+		Operation op;
+		op = TestRestrictedItemFinder.restrictedItemId().eq(data.getRestrictedItemId());
+		op = op.and(TestRestrictedItemFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(TestRestrictedItemFinder.processingDate().eq(this.getProcessingDate()));
+		return TestRestrictedItemFinder.findOne(op);
+	}
+
+	public TestRestrictedItem getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		TestRestrictedItemAbstract result = (TestRestrictedItemAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TestRestrictedItem ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isCommentsModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TestRestrictedItem copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TestRestrictedItem) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TestRestrictedItem copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestRestrictedItem) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TestRestrictedItemData data = (TestRestrictedItemData) this.currentData;
+			Operation op = TestRestrictedItemFinder.businessDate().eq(this.businessDate);
+			op = op.and(TestRestrictedItemFinder.processingDate().eq(this.processingDate));
+			op = op.and(TestRestrictedItemFinder.restrictedItemId().eq(data.getRestrictedItemId()));
+			return TestRestrictedItemFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		TestRestrictedItemData data = (TestRestrictedItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && TestRestrictedItemFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		TestRestrictedItemData data = (TestRestrictedItemData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isItemTypeNull()
+	{
+		return this.zSynchronizedGetData().isItemTypeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isRestrictedItemIdNull()
+	{
+		return this.zSynchronizedGetData().isRestrictedItemIdNull();
+	}
+
+	public boolean isUpdateByNull()
+	{
+		return this.zSynchronizedGetData().isUpdateByNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getItemType()
+	{
+		return this.zSynchronizedGetData().getItemType();
+	}
+
+	public void setItemType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'itemType' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemFinder.itemType(), newValue, false );
+	}
+
+	public void setItemTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'itemType' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemFinder.itemType(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemFinder.processingDateTo(), newValue, false );
+	}
+
+	public long getRestrictedItemId()
+	{
+		return this.zSynchronizedGetData().getRestrictedItemId();
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		MithraDataObject d = zSetLong(TestRestrictedItemFinder.restrictedItemId(), newValue, true ,false);
+		if (d == null) return;
+		TestRestrictedItemData data = (TestRestrictedItemData) d;
+		DatedTransactionalBehavior _behavior = this.zGetTransactionalBehaviorForWrite();
+		if (!_behavior.isPersisted())
+		{
+			TestRestrictedItemCommentList comments =
+			(TestRestrictedItemCommentList) data.getComments();
+			if (comments != null)
+			{
+				comments.setRestrictedItemId(newValue);
+			}
+		}
+	}
+
+	public void setRestrictedItemIdUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		MithraDataObject d = zSetLong(TestRestrictedItemFinder.restrictedItemId(), newValue, true , exclusiveUntil,false);
+		if (d == null) return;
+		TestRestrictedItemData data = (TestRestrictedItemData) d;
+		TestRestrictedItemCommentList comments =
+		(TestRestrictedItemCommentList) data.getComments();
+		if (comments != null)
+		{
+			comments.setRestrictedItemId(newValue);
+		}
+	}
+
+	public String getUpdateBy()
+	{
+		return this.zSynchronizedGetData().getUpdateBy();
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemFinder.updateBy(), newValue, false );
+	}
+
+	public void setUpdateByUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 30)
+		{
+			throw new MithraBusinessException("Attribute 'updateBy' cannot exceed maximum length of 30: " + newValue);
+		}
+
+		zSetString(TestRestrictedItemFinder.updateBy(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		TestRestrictedItemData data2 = (TestRestrictedItemData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && TestRestrictedItemFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestRestrictedItemData _newData = (TestRestrictedItemData) _data;
+		{
+			TestRestrictedItemCommentList comments =
+			(TestRestrictedItemCommentList) _newData.getComments();
+			if (comments != null)
+			{
+				comments.copyDetachedValuesToOriginalOrInsertIfNewOrTerminateIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TestRestrictedItemData _newData = (TestRestrictedItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getComments() != null && !(_newData.getComments() instanceof NulledRelation))
+		{
+			((TestRestrictedItemCommentList)_newData.getComments()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TestRestrictedItemData _newData = (TestRestrictedItemData) behavior.getCurrentDataForRead(this);
+		if (_newData.getComments() != null && !(_newData.getComments() instanceof NulledRelation))
+		{
+			((TestRestrictedItemCommentList)_newData.getComments()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestRestrictedItemComment.restrictedItemId=this.restrictedItemId</pre>
+	* @return comments
+	*/
+	public TestRestrictedItemCommentList getComments()
+	{
+		TestRestrictedItemCommentList _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestRestrictedItemFinder.comments().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (TestRestrictedItemCommentList) _data.getComments();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestRestrictedItemFinder.comments().zGetRelationshipMultiExtractor(), this);
+					_result = new TestRestrictedItemCommentList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new CommentsAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setComments(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestRestrictedItemCommentList) _data.getComments();
+			if (_result == null)
+			{
+				_result = new TestRestrictedItemCommentList();
+				_result.zSetAddHandler(new CommentsAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setComments(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new TestRestrictedItemCommentList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(TerminateOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new CommentsAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setComments(TestRestrictedItemCommentList comments)
+	{
+		TestRestrictedItemCommentList _comments = (TestRestrictedItemCommentList) comments;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _comments != null)
+			{
+				_comments.zMakeDetached(new RelationshipMultiEqualityOperation(TestRestrictedItemFinder.comments().zGetRelationshipMultiExtractor(), this),
+					_data.getComments());
+			}
+
+			_data.setComments(_comments);
+			if (_comments != null)
+			{
+				_comments.setRestrictedItemId(_data.getRestrictedItemId());
+				_comments.zSetAddHandler(new CommentsAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_comments.zSetAddHandler(new CommentsAddHandlerPersisted());
+			TestRestrictedItemCommentList commentsToDelete = new TestRestrictedItemCommentList();
+			commentsToDelete.addAll(this.getComments());
+			for(int i=0;i < _comments.size(); i++)
+			{
+				TestRestrictedItemComment item = _comments.getTestRestrictedItemCommentAt(i);
+				if (!commentsToDelete.remove(item))
+				{
+					item.setRestrictedItemId(_data.getRestrictedItemId());
+					item.cascadeInsert();
+				}
+			}
+
+			commentsToDelete.cascadeTerminateAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.restrictedItemId = TestRestrictedEntity.restrictedItemId</pre>
+	* @see TestRestrictedEntity#getRestrictedItem() reverse relationship TestRestrictedEntity.getRestrictedItem()
+	* @return The restricted entity
+	*/
+	public TestRestrictedEntity getRestrictedEntity()
+	{
+		TestRestrictedEntity _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = TestRestrictedEntityFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrestrictedEntity,this.getBusinessDate(),this.getProcessingDate());
+				if (!(_related instanceof NulledRelation)) _result = (TestRestrictedEntity) _related;
+				if (_related == null)
+				{
+					_op = new RelationshipMultiEqualityOperation(TestRestrictedItemFinder.restrictedEntity().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			if (_data.getRestrictedEntity() instanceof NulledRelation)
+			{
+				return null;
+			}
+
+			_result = (TestRestrictedEntity) _data.getRestrictedEntity();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = new RelationshipMultiEqualityOperation(TestRestrictedItemFinder.restrictedEntity().zGetRelationshipMultiExtractor(), this);
+					_result = TestRestrictedEntityFinder.zFindOneForRelationship(detachedOp);
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+				}
+
+				_behavior = zGetTransactionalBehaviorForWrite();
+				_data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+				_data.setRestrictedEntity(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (TestRestrictedEntity) _data.getRestrictedEntity();
+			if (_result == null)
+			{
+				{
+					_op = new RelationshipMultiEqualityOperation(TestRestrictedItemFinder.restrictedEntity().zGetRelationshipMultiExtractor(), this);
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = TestRestrictedEntityFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRestrictedEntity(TestRestrictedEntity restrictedEntity)
+	{
+		((TestRestrictedEntity)restrictedEntity).setRestrictedItem((TestRestrictedItem)this);
+	}
+
+	public void zSetParentContainerrestrictedEntity(TestRestrictedEntityAbstract parent)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TestRestrictedItemData _data = (TestRestrictedItemData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRestrictedEntity(parent);
+		}
+	}
+
+	public Cache zGetCache()
+	{
+		return TestRestrictedItemFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestRestrictedItemData.TestRestrictedItemDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TestRestrictedItemData data = (TestRestrictedItemData) TestRestrictedItemFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TestRestrictedItem has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTestRestrictedItemData( TestRestrictedItemData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTestRestrictedItemData( TestRestrictedItemData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TestRestrictedItemFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestRestrictedItemFinder.getMithraObjectPortal();
+	}
+
+	public TestRestrictedItem getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TestRestrictedItemAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestRestrictedItemAbstract from = (TestRestrictedItemAbstract) f;
+		TestRestrictedItemData newData = from.zSynchronizedGetData();
+		this.setItemType(newData.getItemType());
+		this.setUpdateBy(newData.getUpdateBy());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestRestrictedItemData _newData = (TestRestrictedItemData) _data;
+		TestRestrictedItemCommentList comments =
+		(TestRestrictedItemCommentList) _newData.getComments();
+		if (comments != null)
+		{
+			comments.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		TestRestrictedItemData _newData = (TestRestrictedItemData) _data;
+		TestRestrictedItemCommentList comments =
+		(TestRestrictedItemCommentList) _newData.getComments();
+		if (comments != null)
+		{
+			comments.copyDetachedValuesToOriginalUntilOrInsertIfNewUntilOrTerminateIfRemoved( exclusiveUntil );
+		}
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(TestRestrictedItemAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		TestRestrictedItemAbstract from = (TestRestrictedItemAbstract)f;
+		TestRestrictedItemData newData = from.zSynchronizedGetData();
+		this.setItemTypeUntil(newData.getItemType(), exclusiveUntil);
+		this.setUpdateByUntil(newData.getUpdateBy(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TestRestrictedItemData newData = (TestRestrictedItemData) d;
+		TestRestrictedItemData data = (TestRestrictedItemData) nd;
+		if (TestRestrictedItemFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemFinder.itemType(), false);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedItemFinder.restrictedItemId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemFinder.updateBy(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemFinder.itemType(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, TestRestrictedItemFinder.restrictedItemId(), false, until);
+		changed |= zUpdateString(behavior, data, newData, TestRestrictedItemFinder.updateBy(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.getComments().cascadeTerminateAll();
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.getComments().cascadeTerminateAllUntil(exclusiveUntil);
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TestRestrictedItemData data = ((TestRestrictedItemData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TestRestrictedItemData data = ((TestRestrictedItemData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TestRestrictedItemData data = ((TestRestrictedItemData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+		MithraTimestamp.writeTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestRestrictedItemFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TestRestrictedItemFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TestRestrictedItemData localData = (TestRestrictedItemData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+
+	protected class CommentsAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestRestrictedItemComment item = (TestRestrictedItemComment) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+		}
+	}
+
+	protected class CommentsAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			TestRestrictedItemComment item = (TestRestrictedItemComment) relatedObject;
+			item.setRestrictedItemId(getRestrictedItemId());
+			item.cascadeInsert();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestRestrictedItemCommentListAbstract extends DelegatingList<TestRestrictedItemComment> implements MithraDatedTransactionalList<TestRestrictedItemComment>
+{
+	public TestRestrictedItemCommentListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestRestrictedItemCommentListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestRestrictedItemCommentListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestRestrictedItemCommentListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestRestrictedItemComment[] elements()
+	{
+		TestRestrictedItemComment[] result = new TestRestrictedItemComment[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestRestrictedItemCommentList intersection(TestRestrictedItemCommentList another)
+	{
+		return (TestRestrictedItemCommentList)super.intersection(another);
+	}
+
+	public TestRestrictedItemComment getTestRestrictedItemCommentAt(int index)
+	{
+		return (TestRestrictedItemComment)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestRestrictedItemCommentFinder.getMithraObjectPortal();
+	}
+
+	public TestRestrictedItemCommentList getNonPersistentCopy()
+	{
+		TestRestrictedItemCommentList result = new TestRestrictedItemCommentList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestRestrictedItemCommentList asAdhoc()
+	{
+		return (TestRestrictedItemCommentList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestRestrictedItemComment> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestRestrictedItemCommentList merge(MithraTransactionalList<TestRestrictedItemComment> incoming, TopLevelMergeOptions<TestRestrictedItemComment> mergeOptions)
+	{
+		return (TestRestrictedItemCommentList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestRestrictedItemCommentList getDetachedCopy()
+	{
+		TestRestrictedItemCommentList result = new TestRestrictedItemCommentList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)TestRestrictedItemCommentFinder.restrictedCommentId(), false, "RESTRICTED_ITEM_COMMENT_SEQ", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.businessDateTo(), newValue);
+	}
+
+	public void setComment(String newValue)
+	{
+		zSetString(TestRestrictedItemCommentFinder.comment(), newValue);
+	}
+
+	public void setCommentType(String newValue)
+	{
+		zSetString(TestRestrictedItemCommentFinder.commentType(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestRestrictedItemCommentFinder.processingDateTo(), newValue);
+	}
+
+	public void setRestrictedCommentId(long newValue)
+	{
+		zSetLong(TestRestrictedItemCommentFinder.restrictedCommentId(), newValue);
+	}
+
+	public void setRestrictedItemId(long newValue)
+	{
+		zSetLong(TestRestrictedItemCommentFinder.restrictedItemId(), newValue);
+	}
+
+	public void setUpdateBy(String newValue)
+	{
+		zSetString(TestRestrictedItemCommentFinder.updateBy(), newValue);
+	}
+
+	public void setRestrictedItemIdNull()
+	{
+		zSetAttributeNull(TestRestrictedItemCommentFinder.restrictedItemId());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
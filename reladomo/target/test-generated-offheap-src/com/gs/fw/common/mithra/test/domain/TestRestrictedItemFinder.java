@@ -0,0 +1,987 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestRestrictedItemFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestRestrictedItem";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestRestrictedItem";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestRestrictedItem");
+	private static final TestRestrictedItemSingleFinder<TestRestrictedItem, Object, TestRestrictedItem> finder = new TestRestrictedItemSingleFinder<TestRestrictedItem, Object, TestRestrictedItem>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestRestrictedItemFinder.TestRestrictedItemRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("restrictedItemId");
+		finderMethodMap.addNormalAttributeName("itemType");
+		finderMethodMap.addNormalAttributeName("updateBy");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("comments");
+		finderMethodMap.addRelationshipName("restrictedEntity");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[6];
+			result[0] = TestRestrictedItemFinder.restrictedItemId().constructEqualityMapper(TestRestrictedItemCommentFinder.restrictedItemId());
+			result[1] = TestRestrictedItemCommentFinder.restrictedItemId().constructEqualityMapper(TestRestrictedItemFinder.restrictedItemId());
+			result[2] = TestRestrictedItemFinder.businessDate().constructEqualityMapper(TestRestrictedItemCommentFinder.businessDate());
+			result[3] = TestRestrictedItemCommentFinder.businessDate().constructEqualityMapper(TestRestrictedItemFinder.businessDate());
+			result[4] = TestRestrictedItemFinder.processingDate().constructEqualityMapper(TestRestrictedItemCommentFinder.processingDate());
+			result[5] = TestRestrictedItemCommentFinder.processingDate().constructEqualityMapper(TestRestrictedItemFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestRestrictedItem findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestRestrictedItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestRestrictedItemList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestRestrictedItemList) finder.findMany(operation);
+	}
+
+	public static TestRestrictedItemList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestRestrictedItemList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestRestrictedItem findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestRestrictedItem) FinderUtils.findOne(found);
+	}
+
+	public static TestRestrictedItem findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(restrictedItemId, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestRestrictedItemData _castedTargetData = (TestRestrictedItemData) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getRestrictedItemId())
+			{
+				return TestRestrictedItemFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TestRestrictedItemFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getL1AsLong());
+		}
+	}
+
+	public static TestRestrictedItem zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestRestrictedItem) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestRestrictedItemRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestRestrictedItem, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private LongAttribute<ParentOwnerType> restrictedItemId;
+		private StringAttribute<ParentOwnerType> itemType;
+		private StringAttribute<ParentOwnerType> updateBy;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private TestRestrictedItemCommentsFinderSubclass<ParentOwnerType> comments;
+		private TestRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType> restrictedEntity;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestRestrictedItemRelatedFinder()
+		{
+			super();
+		}
+
+		public TestRestrictedItemRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestRestrictedItemFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestRestrictedItemFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestRestrictedItemFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestRestrictedItemFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.restrictedItemId();
+			attributes[1] = this.itemType();
+			attributes[2] = this.updateBy();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			attributes[5] = this.businessDateFrom();
+			attributes[6] = this.businessDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.comments());
+				relatedFinders.add(this.restrictedEntity());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.comments());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestRestrictedItem findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestRestrictedItemFinder.findOne(operation, false);
+		}
+
+		public TestRestrictedItem findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestRestrictedItemFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestRestrictedItem> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestRestrictedItemList((Operation) operation);
+		}
+
+		public MithraList<? extends TestRestrictedItem> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestRestrictedItemList result = (TestRestrictedItemList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestRestrictedItem> constructEmptyList()
+		{
+			return new TestRestrictedItemList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 671242248;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public LongAttribute<ParentOwnerType> restrictedItemId()
+		{
+			LongAttribute<ParentOwnerType> result = this.restrictedItemId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("RESTRICTED_ITEM_ID","","restrictedItemId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,4,-1,-1,false, false) :
+					new MappedLongAttribute(TestRestrictedItemFinder.restrictedItemId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("restrictedEntity");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestRestrictedEntity", "restrictedItem");
+				this.restrictedItemId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> itemType()
+		{
+			StringAttribute<ParentOwnerType> result = this.itemType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ITEM_TYPE","","itemType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestRestrictedItemFinder.itemType(), this.mapper, this.zGetValueSelector());
+				this.itemType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> updateBy()
+		{
+			StringAttribute<ParentOwnerType> result = this.updateBy;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("UPDATE_BY","","updateBy",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,-1,-1,30,true, false) :
+					new MappedStringAttribute(TestRestrictedItemFinder.updateBy(), this.mapper, this.zGetValueSelector());
+				this.updateBy = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_DT","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestRestrictedItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_DT","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestRestrictedItemFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_DT","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,false,TestRestrictedItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_DT","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,20,-1,-1,TimestampAttribute.CONVERT_TO_UTC,false,true,TestRestrictedItemFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestRestrictedItemFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TestRestrictedItemFinder.businessDateInfinity,false,false,TestRestrictedItemFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(TestRestrictedItemFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TestRestrictedItemFinder.processingDateInfinity,false,false,TestRestrictedItemFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TestRestrictedItemFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public TestRestrictedItemCommentFinder.TestRestrictedItemCommentCollectionFinderForRelatedClasses<ParentOwnerType, TestRestrictedItemCommentList, TestRestrictedItem> comments()
+		{
+			TestRestrictedItemCommentsFinderSubclass<ParentOwnerType> result = this.comments;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestRestrictedItemFinder.zGetTestRestrictedItemCommentsReverseMapper());
+				newMapper.setToMany(true);
+				result = new TestRestrictedItemCommentsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.comments = result;
+			}
+
+			return result;
+		}
+
+		public TestRestrictedEntityFinder.TestRestrictedEntitySingleFinderForRelatedClasses<ParentOwnerType, TestRestrictedEntity, TestRestrictedItem> restrictedEntity()
+		{
+			TestRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType> result = this.restrictedEntity;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestRestrictedEntityFinder.zGetTestRestrictedEntityRestrictedItemMapper());
+				newMapper.setToMany(false);
+				result = new TestRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.restrictedEntity = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestRestrictedItemFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestRestrictedItemFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestRestrictedItemCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestRestrictedItemRelatedFinder<ParentOwnerType, ReturnType, TestRestrictedItemList, OwnerType>
+	{
+		public TestRestrictedItemCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestRestrictedItemCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestRestrictedItemCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestRestrictedItemCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestRestrictedItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestRestrictedItemRelatedFinder<ParentOwnerType, ReturnType, TestRestrictedItemList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestRestrictedItemSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestRestrictedItemSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestRestrictedItem other)
+		{
+			return this.restrictedItemId().eq(other.getRestrictedItemId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestRestrictedItem findByPrimaryKey(long restrictedItemId, Timestamp businessDate, Timestamp processingDate)
+		{
+			TestRestrictedItem _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(restrictedItemId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestRestrictedItem) _related;
+			if (_related == null)
+			{
+				_op = this.restrictedItemId().eq(restrictedItemId).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestRestrictedItemSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestRestrictedItemSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestRestrictedItemSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper commentsReverseMapper = null;
+	public static Mapper zGetTestRestrictedItemCommentsReverseMapper()
+	{
+		if (commentsReverseMapper == null)
+		{
+			commentsReverseMapper = zConstructTestRestrictedItemCommentsReverseMapper();
+		}
+
+		return commentsReverseMapper;
+	}
+
+	private static Mapper commentsMapper = null;
+	public static Mapper zGetTestRestrictedItemCommentsMapper()
+	{
+		if (commentsMapper == null)
+		{
+			commentsMapper = zConstructTestRestrictedItemCommentsMapper();
+		}
+
+		return commentsMapper;
+	}
+
+	private static Mapper commentsPureReverseMapper = null;
+	public static Mapper zGetTestRestrictedItemCommentsPureReverseMapper()
+	{
+		if (commentsPureReverseMapper == null)
+		{
+			commentsPureReverseMapper = zConstructTestRestrictedItemCommentsPureReverseMapper();
+		}
+
+		return commentsPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestRestrictedItemCommentsPureReverseMapper()
+	{
+		InternalList commentsMapperMapperList = new InternalList(3);
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(0));
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(2));
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(4));
+		Mapper commentsMapper = new MultiEqualityMapper(commentsMapperMapperList);
+		commentsMapper.setName("comments");
+		return commentsMapper;
+	}
+
+	private static Mapper zConstructTestRestrictedItemCommentsReverseMapper()
+	{
+		InternalList commentsMapperMapperList = new InternalList(3);
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(0));
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(2));
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(4));
+		Mapper commentsMapper = new MultiEqualityMapper(commentsMapperMapperList);
+		commentsMapper.setName("comments");
+		return commentsMapper;
+	}
+
+	private static Mapper zConstructTestRestrictedItemCommentsMapper()
+	{
+		InternalList commentsMapperMapperList = new InternalList(3);
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(1));
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(3));
+		commentsMapperMapperList.add(TestRestrictedItemFinder.zGetConstantJoin(5));
+		Mapper commentsMapper = new MultiEqualityMapper(commentsMapperMapperList);
+		commentsMapper.setName("comments_Reverse");
+		return commentsMapper;
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.RESTRICTED_ITEM_ID **/
+	public static LongAttribute<TestRestrictedItem> restrictedItemId()
+	{
+		return finder.restrictedItemId();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.ITEM_TYPE **/
+	public static StringAttribute<TestRestrictedItem> itemType()
+	{
+		return finder.itemType();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.UPDATE_BY **/
+	public static StringAttribute<TestRestrictedItem> updateBy()
+	{
+		return finder.updateBy();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.IN_DT **/
+	public static TimestampAttribute<TestRestrictedItem> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.OUT_DT **/
+	public static TimestampAttribute<TestRestrictedItem> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.FROM_DT **/
+	public static TimestampAttribute<TestRestrictedItem> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TEST_RESTRICTED_ITEM.THRU_DT **/
+	public static TimestampAttribute<TestRestrictedItem> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	public static AsOfAttribute<TestRestrictedItem> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TestRestrictedItem> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static TestRestrictedItemCommentFinder.TestRestrictedItemCommentCollectionFinderForRelatedClasses<TestRestrictedItem, TestRestrictedItemCommentList, TestRestrictedItem> comments()
+	{
+		return finder.comments();
+	}
+
+	public static class TestRestrictedItemCommentsFinderSubclass<ParentOwnerType> extends TestRestrictedItemCommentFinder.TestRestrictedItemCommentCollectionFinderForRelatedClasses<ParentOwnerType, TestRestrictedItemCommentList, TestRestrictedItem>
+	{
+		public TestRestrictedItemCommentsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "comments";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestRestrictedItemCommentFinder.restrictedItemId(),
+				TestRestrictedItemCommentFinder.businessDate(),
+				TestRestrictedItemCommentFinder.processingDate()).withExtractors(
+				TestRestrictedItemFinder.restrictedItemId(),
+				TestRestrictedItemFinder.businessDate(),
+				TestRestrictedItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestRestrictedItemCommentsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestRestrictedItem) _obj).isCommentsModifiedSinceDetachment();
+		}
+
+		protected TestRestrictedItemCommentList plainValueOf(TestRestrictedItem _obj)
+		{
+			return _obj.getComments();
+		}
+
+		protected TestRestrictedItemCommentList plainListValueOf(Object _obj)
+		{
+			return ((TestRestrictedItemList)_obj).getComments();
+		}
+	}
+
+	public static TestRestrictedEntityFinder.TestRestrictedEntitySingleFinderForRelatedClasses<TestRestrictedItem, TestRestrictedEntity, TestRestrictedItem> restrictedEntity()
+	{
+		return finder.restrictedEntity();
+	}
+
+	public static class TestRestrictedItemRestrictedEntityFinderSubclass<ParentOwnerType> extends TestRestrictedEntityFinder.TestRestrictedEntitySingleFinderForRelatedClasses<ParentOwnerType, TestRestrictedEntity, TestRestrictedItem>
+	{
+		public TestRestrictedItemRestrictedEntityFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "restrictedEntity";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				TestRestrictedEntityFinder.restrictedItemId(),
+				TestRestrictedEntityFinder.businessDate(),
+				TestRestrictedEntityFinder.processingDate()).withExtractors(
+				TestRestrictedItemFinder.restrictedItemId(),
+				TestRestrictedItemFinder.businessDate(),
+				TestRestrictedItemFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestRestrictedItemRestrictedEntityFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestRestrictedEntity plainValueOf(TestRestrictedItem _obj)
+		{
+			return _obj.getRestrictedEntity();
+		}
+
+		protected TestRestrictedEntityList plainListValueOf(Object _obj)
+		{
+			return ((TestRestrictedItemList)_obj).getRestrictedEntities();
+		}
+	}
+
+	public static Operation eq(TestRestrictedItem other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(restrictedItemId());
+	}
+
+	public static TestRestrictedItemSingleFinder<TestRestrictedItem, Object, TestRestrictedItem> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			restrictedItemId()
+			, restrictedItemId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestRestrictedItem");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
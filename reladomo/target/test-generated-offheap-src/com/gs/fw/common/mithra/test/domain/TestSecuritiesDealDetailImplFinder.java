@@ -0,0 +1,1015 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestSecuritiesDealDetailImplFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestSecuritiesDealDetailImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestSecuritiesDealDetailImpl";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSecuritiesDealDetailImpl");
+	private static final TestSecuritiesDealDetailImplSingleFinder<TestSecuritiesDealDetailImpl, Object, TestSecuritiesDealDetailImpl> finder = new TestSecuritiesDealDetailImplSingleFinder<TestSecuritiesDealDetailImpl, Object, TestSecuritiesDealDetailImpl>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestSecuritiesDealDetailImplFinder.TestSecuritiesDealDetailImplRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("checkId");
+		finderMethodMap.addRelationshipName("investmentFinancingDealDetail");
+		finderMethodMap.addRelationshipName("checkDesks");
+		finderMethodMap.addRelationshipName("associatedDesks");
+		finderMethodMap.addRelationshipName("conflictCheck");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = TestSecuritiesDealDetailImplFinder.checkId().constructEqualityMapper(TestInvestmentFinancingDealDetailFinder.checkId());
+			result[1] = TestInvestmentFinancingDealDetailFinder.checkId().constructEqualityMapper(TestSecuritiesDealDetailImplFinder.checkId());
+			result[2] = TestSecuritiesDealDetailImplFinder.checkId().constructEqualityMapper(TestCheckGsDeskFinder.checkId());
+			result[3] = TestCheckGsDeskFinder.checkId().constructEqualityMapper(TestSecuritiesDealDetailImplFinder.checkId());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestSecuritiesDealDetailImpl findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestSecuritiesDealDetailImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestSecuritiesDealDetailImplList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSecuritiesDealDetailImplList) finder.findMany(operation);
+	}
+
+	public static TestSecuritiesDealDetailImplList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSecuritiesDealDetailImplList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestSecuritiesDealDetailImpl findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestSecuritiesDealDetailImpl) FinderUtils.findOne(found);
+	}
+
+	public static TestSecuritiesDealDetailImpl findByPrimaryKey(int checkId)
+	{
+		return finder.findByPrimaryKey(checkId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestSecuritiesDealDetailImplData _castedTargetData = (TestSecuritiesDealDetailImplData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getCheckId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TestSecuritiesDealDetailImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestSecuritiesDealDetailImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestSecuritiesDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestSecuritiesDealDetailImpl, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> checkId;
+		private TestSecuritiesDealDetailImplInvestmentFinancingDealDetailFinderSubclass<ParentOwnerType> investmentFinancingDealDetail;
+		private TestSecuritiesDealDetailImplCheckDesksFinderSubclass<ParentOwnerType> checkDesks;
+		private TestSecuritiesDealDetailImplAssociatedDesksFinderSubclass<ParentOwnerType> associatedDesks;
+		private TestSecuritiesDealDetailImplConflictCheckFinderSubclass<ParentOwnerType> conflictCheck;
+		public TestSecuritiesDealDetailImplRelatedFinder()
+		{
+			super();
+		}
+
+		public TestSecuritiesDealDetailImplRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecuritiesDealDetailImplFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestSecuritiesDealDetailImplFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestSecuritiesDealDetailImplFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestSecuritiesDealDetailImplFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[1];
+			attributes[0] = this.checkId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.investmentFinancingDealDetail());
+				relatedFinders.add(this.checkDesks());
+				relatedFinders.add(this.associatedDesks());
+				relatedFinders.add(this.conflictCheck());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(2);
+				dependentRelatedFinders.add(this.investmentFinancingDealDetail());
+				dependentRelatedFinders.add(this.checkDesks());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestSecuritiesDealDetailImpl findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestSecuritiesDealDetailImplFinder.findOne(operation, false);
+		}
+
+		public TestSecuritiesDealDetailImpl findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestSecuritiesDealDetailImplFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestSecuritiesDealDetailImpl> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestSecuritiesDealDetailImplList((Operation) operation);
+		}
+
+		public MithraList<? extends TestSecuritiesDealDetailImpl> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestSecuritiesDealDetailImplList result = (TestSecuritiesDealDetailImplList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestSecuritiesDealDetailImpl> constructEmptyList()
+		{
+			return new TestSecuritiesDealDetailImplList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -154493556;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> checkId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.checkId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CHECK_ID","","checkId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestSecuritiesDealDetailImplFinder.checkId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("conflictCheck");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "TestConflictCheckImpl", "securitiesDealDetail");
+				this.checkId = result;
+			}
+
+			return result;
+		}
+
+		public TestInvestmentFinancingDealDetailFinder.TestInvestmentFinancingDealDetailSingleFinderForRelatedClasses<ParentOwnerType, TestInvestmentFinancingDealDetail, TestSecuritiesDealDetailImpl> investmentFinancingDealDetail()
+		{
+			TestSecuritiesDealDetailImplInvestmentFinancingDealDetailFinderSubclass<ParentOwnerType> result = this.investmentFinancingDealDetail;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestSecuritiesDealDetailImplFinder.zGetTestSecuritiesDealDetailImplInvestmentFinancingDealDetailReverseMapper());
+				newMapper.setToMany(false);
+				result = new TestSecuritiesDealDetailImplInvestmentFinancingDealDetailFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.investmentFinancingDealDetail = result;
+			}
+
+			return result;
+		}
+
+		public TestCheckGsDeskFinder.TestCheckGsDeskCollectionFinderForRelatedClasses<ParentOwnerType, TestCheckGsDeskList, TestSecuritiesDealDetailImpl> checkDesks()
+		{
+			TestSecuritiesDealDetailImplCheckDesksFinderSubclass<ParentOwnerType> result = this.checkDesks;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestSecuritiesDealDetailImplFinder.zGetTestSecuritiesDealDetailImplCheckDesksReverseMapper());
+				newMapper.setToMany(true);
+				result = new TestSecuritiesDealDetailImplCheckDesksFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.checkDesks = result;
+			}
+
+			return result;
+		}
+
+		public GsDeskFinder.GsDeskCollectionFinderForRelatedClasses<ParentOwnerType, GsDeskList, TestSecuritiesDealDetailImpl> associatedDesks()
+		{
+			TestSecuritiesDealDetailImplAssociatedDesksFinderSubclass<ParentOwnerType> result = this.associatedDesks;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestSecuritiesDealDetailImplFinder.zGetTestSecuritiesDealDetailImplAssociatedDesksReverseMapper());
+				newMapper.setToMany(true);
+				result = new TestSecuritiesDealDetailImplAssociatedDesksFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.associatedDesks = result;
+			}
+
+			return result;
+		}
+
+		public TestConflictCheckImplFinder.TestConflictCheckImplSingleFinderForRelatedClasses<ParentOwnerType, TestConflictCheckImpl, TestSecuritiesDealDetailImpl> conflictCheck()
+		{
+			TestSecuritiesDealDetailImplConflictCheckFinderSubclass<ParentOwnerType> result = this.conflictCheck;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TestConflictCheckImplFinder.zGetTestConflictCheckImplSecuritiesDealDetailMapper());
+				newMapper.setToMany(false);
+				result = new TestSecuritiesDealDetailImplConflictCheckFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.conflictCheck = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestSecuritiesDealDetailImplFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestSecuritiesDealDetailImplFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestSecuritiesDealDetailImplCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestSecuritiesDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, TestSecuritiesDealDetailImplList, OwnerType>
+	{
+		public TestSecuritiesDealDetailImplCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestSecuritiesDealDetailImplCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestSecuritiesDealDetailImplCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSecuritiesDealDetailImplCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestSecuritiesDealDetailImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestSecuritiesDealDetailImplRelatedFinder<ParentOwnerType, ReturnType, TestSecuritiesDealDetailImplList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestSecuritiesDealDetailImplSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestSecuritiesDealDetailImplSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestSecuritiesDealDetailImpl other)
+		{
+			return this.checkId().eq(other.getCheckId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestSecuritiesDealDetailImpl findByPrimaryKey(int checkId)
+		{
+			TestSecuritiesDealDetailImpl _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(checkId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestSecuritiesDealDetailImpl) _related;
+			if (_related == null)
+			{
+				_op = this.checkId().eq(checkId);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestSecuritiesDealDetailImplSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestSecuritiesDealDetailImplSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSecuritiesDealDetailImplSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper investmentFinancingDealDetailReverseMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplInvestmentFinancingDealDetailReverseMapper()
+	{
+		if (investmentFinancingDealDetailReverseMapper == null)
+		{
+			investmentFinancingDealDetailReverseMapper = zConstructTestSecuritiesDealDetailImplInvestmentFinancingDealDetailReverseMapper();
+		}
+
+		return investmentFinancingDealDetailReverseMapper;
+	}
+
+	private static Mapper investmentFinancingDealDetailMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplInvestmentFinancingDealDetailMapper()
+	{
+		if (investmentFinancingDealDetailMapper == null)
+		{
+			investmentFinancingDealDetailMapper = zConstructTestSecuritiesDealDetailImplInvestmentFinancingDealDetailMapper();
+		}
+
+		return investmentFinancingDealDetailMapper;
+	}
+
+	private static Mapper investmentFinancingDealDetailPureReverseMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplInvestmentFinancingDealDetailPureReverseMapper()
+	{
+		if (investmentFinancingDealDetailPureReverseMapper == null)
+		{
+			investmentFinancingDealDetailPureReverseMapper = zConstructTestSecuritiesDealDetailImplInvestmentFinancingDealDetailPureReverseMapper();
+		}
+
+		return investmentFinancingDealDetailPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplInvestmentFinancingDealDetailPureReverseMapper()
+	{
+		Mapper investmentFinancingDealDetailMapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(0);
+		investmentFinancingDealDetailMapper.setName("investmentFinancingDealDetail");
+		return investmentFinancingDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplInvestmentFinancingDealDetailReverseMapper()
+	{
+		Mapper investmentFinancingDealDetailMapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(0);
+		investmentFinancingDealDetailMapper.setName("investmentFinancingDealDetail");
+		return investmentFinancingDealDetailMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplInvestmentFinancingDealDetailMapper()
+	{
+		Mapper investmentFinancingDealDetailMapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(1);
+		investmentFinancingDealDetailMapper.setName("securitiesDealDetail");
+		return investmentFinancingDealDetailMapper;
+	}
+
+	private static Mapper checkDesksReverseMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplCheckDesksReverseMapper()
+	{
+		if (checkDesksReverseMapper == null)
+		{
+			checkDesksReverseMapper = zConstructTestSecuritiesDealDetailImplCheckDesksReverseMapper();
+		}
+
+		return checkDesksReverseMapper;
+	}
+
+	private static Mapper checkDesksMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplCheckDesksMapper()
+	{
+		if (checkDesksMapper == null)
+		{
+			checkDesksMapper = zConstructTestSecuritiesDealDetailImplCheckDesksMapper();
+		}
+
+		return checkDesksMapper;
+	}
+
+	private static Mapper checkDesksPureReverseMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplCheckDesksPureReverseMapper()
+	{
+		if (checkDesksPureReverseMapper == null)
+		{
+			checkDesksPureReverseMapper = zConstructTestSecuritiesDealDetailImplCheckDesksPureReverseMapper();
+		}
+
+		return checkDesksPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplCheckDesksPureReverseMapper()
+	{
+		Mapper checkDesksMapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(2);
+		checkDesksMapper.setName("checkDesks");
+		return checkDesksMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplCheckDesksReverseMapper()
+	{
+		Mapper checkDesksMapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(2);
+		checkDesksMapper.setName("checkDesks");
+		return checkDesksMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplCheckDesksMapper()
+	{
+		Mapper checkDesksMapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(3);
+		checkDesksMapper.setName("checkDesks_Reverse");
+		return checkDesksMapper;
+	}
+
+	private static Mapper associatedDesksReverseMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplAssociatedDesksReverseMapper()
+	{
+		if (associatedDesksReverseMapper == null)
+		{
+			associatedDesksReverseMapper = zConstructTestSecuritiesDealDetailImplAssociatedDesksReverseMapper();
+		}
+
+		return associatedDesksReverseMapper;
+	}
+
+	private static Mapper associatedDesksMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplAssociatedDesksMapper()
+	{
+		if (associatedDesksMapper == null)
+		{
+			associatedDesksMapper = zConstructTestSecuritiesDealDetailImplAssociatedDesksMapper();
+		}
+
+		return associatedDesksMapper;
+	}
+
+	private static Mapper associatedDesksPureReverseMapper = null;
+	public static Mapper zGetTestSecuritiesDealDetailImplAssociatedDesksPureReverseMapper()
+	{
+		if (associatedDesksPureReverseMapper == null)
+		{
+			associatedDesksPureReverseMapper = zConstructTestSecuritiesDealDetailImplAssociatedDesksPureReverseMapper();
+		}
+
+		return associatedDesksPureReverseMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplAssociatedDesksPureReverseMapper()
+	{
+		Mapper associatedDesksc0Mapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(2);
+		Mapper associatedDesksc1Mapper = TestCheckGsDeskFinder.zGetConstantJoin(0);
+		Mapper associatedDesksMapper = new ChainedMapper(associatedDesksc0Mapper,associatedDesksc1Mapper);
+		associatedDesksMapper.setName("associatedDesks");
+		return associatedDesksMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplAssociatedDesksReverseMapper()
+	{
+		Mapper associatedDesksc0Mapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(2);
+		Mapper associatedDesksc1Mapper = TestCheckGsDeskFinder.zGetConstantJoin(0);
+		Mapper associatedDesksMapper = new ChainedMapper(associatedDesksc0Mapper,associatedDesksc1Mapper);
+		associatedDesksMapper.setName("associatedDesks");
+		return associatedDesksMapper;
+	}
+
+	private static Mapper zConstructTestSecuritiesDealDetailImplAssociatedDesksMapper()
+	{
+		Mapper associatedDesksc0Mapper = TestCheckGsDeskFinder.zGetConstantJoin(1);
+		Mapper associatedDesksc1Mapper = TestSecuritiesDealDetailImplFinder.zGetConstantJoin(3);
+		Mapper associatedDesksMapper = new ChainedMapper(associatedDesksc0Mapper,associatedDesksc1Mapper);
+		associatedDesksMapper.setName("associatedDesks_Reverse");
+		return associatedDesksMapper;
+	}
+
+	private static Mapper associatedDesksMapperFragment = null;
+	public static Mapper zGetAssociatedDesksMapperFragment()
+	{
+		if (associatedDesksMapperFragment == null)
+		{
+			associatedDesksMapperFragment = zConstructAssociatedDesksMapperFragment();
+		}
+
+		return associatedDesksMapperFragment;
+	}
+
+	private static Mapper zConstructAssociatedDesksMapperFragment()
+	{
+		return TestCheckGsDeskFinder.zGetConstantJoin(1);
+	}
+
+	/** maps to SEC_CHECK.CHECK_ID **/
+	public static IntegerAttribute<TestSecuritiesDealDetailImpl> checkId()
+	{
+		return finder.checkId();
+	}
+
+	public static TestInvestmentFinancingDealDetailFinder.TestInvestmentFinancingDealDetailSingleFinderForRelatedClasses<TestSecuritiesDealDetailImpl, TestInvestmentFinancingDealDetail, TestSecuritiesDealDetailImpl> investmentFinancingDealDetail()
+	{
+		return finder.investmentFinancingDealDetail();
+	}
+
+	public static class TestSecuritiesDealDetailImplInvestmentFinancingDealDetailFinderSubclass<ParentOwnerType> extends TestInvestmentFinancingDealDetailFinder.TestInvestmentFinancingDealDetailSingleFinderForRelatedClasses<ParentOwnerType, TestInvestmentFinancingDealDetail, TestSecuritiesDealDetailImpl>
+	{
+		public TestSecuritiesDealDetailImplInvestmentFinancingDealDetailFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "investmentFinancingDealDetail";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestSecuritiesDealDetailImplInvestmentFinancingDealDetailFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestSecuritiesDealDetailImpl) _obj).isInvestmentFinancingDealDetailModifiedSinceDetachment();
+		}
+
+		protected TestInvestmentFinancingDealDetail plainValueOf(TestSecuritiesDealDetailImpl _obj)
+		{
+			return _obj.getInvestmentFinancingDealDetail();
+		}
+
+		protected TestInvestmentFinancingDealDetailList plainListValueOf(Object _obj)
+		{
+			return ((TestSecuritiesDealDetailImplList)_obj).getInvestmentFinancingDealDetails();
+		}
+	}
+
+	public static TestCheckGsDeskFinder.TestCheckGsDeskCollectionFinderForRelatedClasses<TestSecuritiesDealDetailImpl, TestCheckGsDeskList, TestSecuritiesDealDetailImpl> checkDesks()
+	{
+		return finder.checkDesks();
+	}
+
+	public static class TestSecuritiesDealDetailImplCheckDesksFinderSubclass<ParentOwnerType> extends TestCheckGsDeskFinder.TestCheckGsDeskCollectionFinderForRelatedClasses<ParentOwnerType, TestCheckGsDeskList, TestSecuritiesDealDetailImpl>
+	{
+		public TestSecuritiesDealDetailImplCheckDesksFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "checkDesks";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestSecuritiesDealDetailImplCheckDesksFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((TestSecuritiesDealDetailImpl) _obj).isCheckDesksModifiedSinceDetachment();
+		}
+
+		protected TestCheckGsDeskList plainValueOf(TestSecuritiesDealDetailImpl _obj)
+		{
+			return _obj.getCheckDesks();
+		}
+
+		protected TestCheckGsDeskList plainListValueOf(Object _obj)
+		{
+			return ((TestSecuritiesDealDetailImplList)_obj).getCheckDesks();
+		}
+	}
+
+	public static GsDeskFinder.GsDeskCollectionFinderForRelatedClasses<TestSecuritiesDealDetailImpl, GsDeskList, TestSecuritiesDealDetailImpl> associatedDesks()
+	{
+		return finder.associatedDesks();
+	}
+
+	public static class TestSecuritiesDealDetailImplAssociatedDesksFinderSubclass<ParentOwnerType> extends GsDeskFinder.GsDeskCollectionFinderForRelatedClasses<ParentOwnerType, GsDeskList, TestSecuritiesDealDetailImpl>
+	{
+		public TestSecuritiesDealDetailImplAssociatedDesksFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "associatedDesks";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestSecuritiesDealDetailImplAssociatedDesksFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected GsDeskList plainValueOf(TestSecuritiesDealDetailImpl _obj)
+		{
+			return _obj.getAssociatedDesks();
+		}
+
+		protected GsDeskList plainListValueOf(Object _obj)
+		{
+			return ((TestSecuritiesDealDetailImplList)_obj).getAssociatedDesks();
+		}
+	}
+
+	public static TestConflictCheckImplFinder.TestConflictCheckImplSingleFinderForRelatedClasses<TestSecuritiesDealDetailImpl, TestConflictCheckImpl, TestSecuritiesDealDetailImpl> conflictCheck()
+	{
+		return finder.conflictCheck();
+	}
+
+	public static class TestSecuritiesDealDetailImplConflictCheckFinderSubclass<ParentOwnerType> extends TestConflictCheckImplFinder.TestConflictCheckImplSingleFinderForRelatedClasses<ParentOwnerType, TestConflictCheckImpl, TestSecuritiesDealDetailImpl>
+	{
+		public TestSecuritiesDealDetailImplConflictCheckFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "conflictCheck";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TestSecuritiesDealDetailImplConflictCheckFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected TestConflictCheckImpl plainValueOf(TestSecuritiesDealDetailImpl _obj)
+		{
+			return _obj.getConflictCheck();
+		}
+
+		protected TestConflictCheckImplList plainListValueOf(Object _obj)
+		{
+			return ((TestSecuritiesDealDetailImplList)_obj).getConflictChecks();
+		}
+	}
+
+	public static Operation eq(TestSecuritiesDealDetailImpl other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(checkId());
+	}
+
+	public static TestSecuritiesDealDetailImplSingleFinder<TestSecuritiesDealDetailImpl, Object, TestSecuritiesDealDetailImpl> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			checkId()
+			, checkId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestConflictCheckImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			TestConflictCheckImplFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSecuritiesDealDetailImpl");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,187 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestSecuritiesDealDetailImplListAbstract extends DelegatingList<TestSecuritiesDealDetailImpl> implements MithraTransactionalList<TestSecuritiesDealDetailImpl>
+{
+	public TestSecuritiesDealDetailImplListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestSecuritiesDealDetailImplListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestSecuritiesDealDetailImplListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestSecuritiesDealDetailImplListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestSecuritiesDealDetailImpl[] elements()
+	{
+		TestSecuritiesDealDetailImpl[] result = new TestSecuritiesDealDetailImpl[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestSecuritiesDealDetailImplList intersection(TestSecuritiesDealDetailImplList another)
+	{
+		return (TestSecuritiesDealDetailImplList)super.intersection(another);
+	}
+
+	public TestSecuritiesDealDetailImpl getTestSecuritiesDealDetailImplAt(int index)
+	{
+		return (TestSecuritiesDealDetailImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestInvestmentFinancingDealDetail.checkId</pre>
+	* @see TestInvestmentFinancingDealDetail#getSecuritiesDealDetail() reverse relationship TestInvestmentFinancingDealDetail.getSecuritiesDealDetail()
+	* @return The investment financing deal detail
+	*/
+	public TestInvestmentFinancingDealDetailList getInvestmentFinancingDealDetails()
+	{
+		return (TestInvestmentFinancingDealDetailList) this.getDelegated().resolveRelationship(this, TestSecuritiesDealDetailImplFinder.investmentFinancingDealDetail());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestCheckGsDesk.checkId</pre>
+	* @return check desks
+	*/
+	public TestCheckGsDeskList getCheckDesks()
+	{
+		return (TestCheckGsDeskList) this.getDelegated().resolveRelationship(this, TestSecuritiesDealDetailImplFinder.checkDesks());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = TestCheckGsDesk.checkId and TestCheckGsDesk.gsDeskId = GsDesk.id</pre>
+	* @return associated desks
+	*/
+	public GsDeskList getAssociatedDesks()
+	{
+		return (GsDeskList) this.getDelegated().resolveRelationship(this, TestSecuritiesDealDetailImplFinder.associatedDesks());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	TestConflictCheckImpl.id = this.checkId</pre>
+	* @see TestConflictCheckImpl#getSecuritiesDealDetail() reverse relationship TestConflictCheckImpl.getSecuritiesDealDetail()
+	* @return The conflict check
+	*/
+	public TestConflictCheckImplList getConflictChecks()
+	{
+		return (TestConflictCheckImplList) this.getDelegated().resolveRelationship(this, TestSecuritiesDealDetailImplFinder.conflictCheck());
+	}
+
+	public void zSetParentContainerconflictCheck(TestConflictCheckImplAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			TestSecuritiesDealDetailImpl item = this.getTestSecuritiesDealDetailImplAt(i);
+			item.zSetParentContainerconflictCheck(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSecuritiesDealDetailImplFinder.getMithraObjectPortal();
+	}
+
+	public TestSecuritiesDealDetailImplList getNonPersistentCopy()
+	{
+		TestSecuritiesDealDetailImplList result = new TestSecuritiesDealDetailImplList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestSecuritiesDealDetailImplList asAdhoc()
+	{
+		return (TestSecuritiesDealDetailImplList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestSecuritiesDealDetailImpl> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestSecuritiesDealDetailImplList merge(MithraTransactionalList<TestSecuritiesDealDetailImpl> incoming, TopLevelMergeOptions<TestSecuritiesDealDetailImpl> mergeOptions)
+	{
+		return (TestSecuritiesDealDetailImplList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestSecuritiesDealDetailImplList getDetachedCopy()
+	{
+		TestSecuritiesDealDetailImplList result = new TestSecuritiesDealDetailImplList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCheckId(int newValue)
+	{
+		zSetInteger(TestSecuritiesDealDetailImplFinder.checkId(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getInvestmentFinancingDealDetails()).cascadeDeleteAll();
+		((DelegatingList)this.getCheckDesks()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,575 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.update.AttributeUpdateWrapper;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+import com.gs.fw.common.mithra.transaction.BatchUpdateOperation;
+import com.gs.fw.common.mithra.transaction.UpdateOperation;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestSecurityJournalDatabaseObjectAbstract extends MithraAbstractDatedTransactionalDatabaseObject
+implements MithraDatedTransactionalDatabaseObject, MithraDatedTransactionalObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "ca_ref_id_c,clear_agnt_c,clr_bnk_brk_c,sub_message_type_c,in_z,out_z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.ca_ref_id_c,t0.clear_agnt_c,t0.clr_bnk_brk_c,t0.sub_message_type_c,t0.in_z,t0.out_z";
+	private static final String PK_WITH_ALIAS = "t0.src_system_c = ? AND t0.src_trade_id_c = ? AND t0.src_trx_id_c = ? AND t0.source_id_i = ?";
+	private static final String PK_INDEX_COLS = "src_system_c,src_trade_id_c,src_trx_id_c,source_id_i";
+	protected TestSecurityJournalDatabaseObjectAbstract()
+	{
+		super("TestSecurityJournal", "com.gs.fw.common.mithra.test.domain.TestSecurityJournalFinder",
+			10, 10,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSecurityJournalFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestSecurityJournalFinder.getFinderInstance();
+	}
+
+	public static TestSecurityJournalData allocateOnHeapData()
+	{
+		return new TestSecurityJournalData.TestSecurityJournalDataOnHeap();
+	}
+
+	public static TestSecurityJournalData allocateOffHeapData()
+	{
+		return new TestSecurityJournalData.TestSecurityJournalDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestSecurityJournalData.TestSecurityJournalDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestSecurityJournalFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestSecurityJournalData data = new TestSecurityJournalData.TestSecurityJournalDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestSecurityJournalFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestSecurityJournalData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TestSecurityJournal", TestSecurityJournalFinder.getFinderInstance());
+			TestSecurityJournalData.TestSecurityJournalDataOffHeap.zSetStorage(dataStorage);
+			if (config.isParticipatingInTx())
+			{
+				result = new OffHeapFullDatedTransactionalCache(TestSecurityJournalFinder.getPrimaryKeyAttributes(), TestSecurityJournalFinder.getAsOfAttributes(), this, TestSecurityJournalFinder.getImmutableAttributes(), dataStorage);
+			}
+			else
+			{
+				result = new OffHeapFullDatedCache(TestSecurityJournalFinder.getPrimaryKeyAttributes(), TestSecurityJournalFinder.getAsOfAttributes(), this, TestSecurityJournalFinder.getImmutableAttributes(), dataStorage);
+			}
+		}
+		else
+		{
+			if (config.isParticipatingInTx())
+			{
+				result = new FullDatedTransactionalCache(TestSecurityJournalFinder.getPrimaryKeyAttributes(), TestSecurityJournalFinder.getAsOfAttributes(), this, TestSecurityJournalFinder.getImmutableAttributes());
+			}
+			else
+			{
+				result = new FullDatedCache(TestSecurityJournalFinder.getPrimaryKeyAttributes(), TestSecurityJournalFinder.getAsOfAttributes(), this, TestSecurityJournalFinder.getImmutableAttributes());
+			}
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isParticipatingInTx())
+		{
+			result = new PartialDatedTransactionalCache(TestSecurityJournalFinder.getPrimaryKeyAttributes(), TestSecurityJournalFinder.getAsOfAttributes(), this, TestSecurityJournalFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+		else
+		{
+			result = new PartialDatedCache(TestSecurityJournalFinder.getPrimaryKeyAttributes(), TestSecurityJournalFinder.getAsOfAttributes(), this, TestSecurityJournalFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestSecurityJournalFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestSecurityJournalFinder.initializePortal(this, cache, config);
+		}
+
+		if (config.isParticipatingInTx())
+		{
+			TestSecurityJournal.zConfigFullTx();
+		}
+		else
+		{
+			TestSecurityJournal.zConfigNonTx();
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestSecurityJournalData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestSecurityJournalData(1, (TestSecurityJournalData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestSecurityJournalPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestSecurityJournalTableName();
+	}
+
+	public String getTestSecurityJournalTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getSourceSystem());
+		stm.setString(pos++, data.getSourceTradeId());
+		stm.setString(pos++, data.getSourceTransactionId());
+		stm.setInt(pos++, data.getSourceId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestSecurityJournalFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "src_system_c = ? AND src_trade_id_c = ? AND src_trx_id_c = ? AND source_id_i = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.src_system_c,t0.src_trade_id_c,t0.src_trx_id_c,t0.source_id_i,t0.ca_ref_id_c,t0.clear_agnt_c,t0.clr_bnk_brk_c,t0.sub_message_type_c,t0.in_z,t0.out_z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*10);
+		result.append(databaseAlias).append(".").append("src_system_c");
+		result.append(",").append(databaseAlias).append(".").append("src_trade_id_c");
+		result.append(",").append(databaseAlias).append(".").append("src_trx_id_c");
+		result.append(",").append(databaseAlias).append(".").append("source_id_i");
+		result.append(",").append(databaseAlias).append(".").append("ca_ref_id_c");
+		result.append(",").append(databaseAlias).append(".").append("clear_agnt_c");
+		result.append(",").append(databaseAlias).append(".").append("clr_bnk_brk_c");
+		result.append(",").append(databaseAlias).append(".").append("sub_message_type_c");
+		result.append(",").append(databaseAlias).append(".").append("in_z");
+		result.append(",").append(databaseAlias).append(".").append("out_z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestSecurityJournalData inflateTestSecurityJournalData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestSecurityJournalData data = inflateTestSecurityJournalPkData(rs, dt);
+		inflateNonPkTestSecurityJournalData(5, data, rs, dt);
+		return data;
+	}
+
+	public TestSecurityJournalData inflateTestSecurityJournalPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestSecurityJournalData _data = new TestSecurityJournalData.TestSecurityJournalDataOnHeap();
+		int _pos = 1;
+		_data.setSourceSystem(trimString(_rs.getString(_pos++)));
+		_data.setSourceTradeId(trimString(_rs.getString(_pos++)));
+		_data.setSourceTransactionId(trimString(_rs.getString(_pos++)));
+		_data.setSourceId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "sourceId");
+		return _data;
+	}
+
+	public void inflateNonPkTestSecurityJournalData(int _pos, TestSecurityJournalData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestSecurityJournalData _data = _datax;
+			_data.setClearingAgentReferenceId(trimString(_rs.getString(_pos++)));
+			_data.setClearingAgent(trimString(_rs.getString(_pos++)));
+			_data.setClearanceBrokerBank(trimString(_rs.getString(_pos++)));
+			_data.setSubMessageType(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestSecurityJournalFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestSecurityJournalTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "SECURITY_JOURNAL_TB";
+	}
+
+	public void setInsertAttributes(PreparedStatement stm, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, int pos, DatabaseType dt) throws SQLException
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData)dataObj;
+		TimeZone conversionTimeZone = null;
+		if (data.isClearingAgentReferenceIdNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getClearingAgentReferenceId());
+		}
+
+		if (data.isClearingAgentNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getClearingAgent());
+		}
+
+		if (data.isClearanceBrokerBankNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getClearanceBrokerBank());
+		}
+
+		if (data.isSubMessageTypeNull())
+		{
+			stm.setNull(pos++, java.sql.Types.VARCHAR);
+		}
+		else
+		{
+			stm.setString(pos++, data.getSubMessageType());
+		}
+
+		if(data.isSourceSystemNull())
+		{
+			throwNullAttribute("sourceSystem");
+		}
+
+		stm.setString(pos++, data.getSourceSystem());
+		if(data.isSourceTradeIdNull())
+		{
+			throwNullAttribute("sourceTradeId");
+		}
+
+		stm.setString(pos++, data.getSourceTradeId());
+		if(data.isSourceTransactionIdNull())
+		{
+			throwNullAttribute("sourceTransactionId");
+		}
+
+		stm.setString(pos++, data.getSourceTransactionId());
+		stm.setInt(pos++, data.getSourceId());
+		if(data.isProcessingDateFromNull())
+		{
+			throwNullAttribute("processingDateFrom");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		dt.setTimestamp(stm, pos, data.getProcessingDateFrom(), false, conversionTimeZone);
+		pos++;
+		if(data.isProcessingDateToNull())
+		{
+			throwNullAttribute("processingDateTo");
+		}
+
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestSecurityJournalFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public String getInsertFields()
+	{
+		return "ca_ref_id_c,clear_agnt_c,clr_bnk_brk_c,sub_message_type_c,src_system_c,src_trade_id_c,src_trx_id_c,source_id_i,in_z,out_z";
+	}
+
+	public String getInsertQuestionMarks()
+	{
+		return "?,?,?,?,?,?,?,?,?,?";
+	}
+
+	public String getOptimisticLockingWhereSql()
+	{
+		return "";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestSecurityJournal newObject = new TestSecurityJournal(asOfDates[0]
+		);
+		newObject.zSetFromTestSecurityJournalData((TestSecurityJournalData) data);
+		return newObject;
+	}
+
+	public TemporalContainer createContainer(MithraTransaction tx)
+	{
+		return new NonAuditedTransactionalDataContainer(tx.getPerPortalTemporalContainer(TestSecurityJournalFinder.getMithraObjectPortal(),
+			null)
+		,TestSecurityJournalFinder.processingDate());
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="out_z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestSecurityJournalData data = (TestSecurityJournalData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getSourceSystem());
+		stm.setString(pos++, data.getSourceTradeId());
+		stm.setString(pos++, data.getSourceTransactionId());
+		stm.setInt(pos++, data.getSourceId());
+		return pos;
+	}
+
+	public List getForDateRange(MithraDataObject obj, Timestamp start, Timestamp end) throws MithraDatabaseException
+	{
+		return this.getForDateRange(obj, start, end, TestSecurityJournalFinder.processingDate(),
+			null);
+	}
+}
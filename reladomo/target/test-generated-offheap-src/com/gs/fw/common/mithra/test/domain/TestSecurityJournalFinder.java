@@ -0,0 +1,866 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestSecurityJournalFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TestSecurityJournal";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TestSecurityJournal";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSecurityJournal");
+	private static final TestSecurityJournalSingleFinder<TestSecurityJournal, Object, TestSecurityJournal> finder = new TestSecurityJournalSingleFinder<TestSecurityJournal, Object, TestSecurityJournal>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TestSecurityJournalFinder.TestSecurityJournalRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("clearingAgentReferenceId");
+		finderMethodMap.addNormalAttributeName("clearingAgent");
+		finderMethodMap.addNormalAttributeName("clearanceBrokerBank");
+		finderMethodMap.addNormalAttributeName("subMessageType");
+		finderMethodMap.addNormalAttributeName("sourceSystem");
+		finderMethodMap.addNormalAttributeName("sourceTradeId");
+		finderMethodMap.addNormalAttributeName("sourceTransactionId");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	private static final Map<String, Object> sourceSystemProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		sourceSystemProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		sourceSystemProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> sourceIdProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		sourceIdProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		sourceIdProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> processingDateFromProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		processingDateFromProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		processingDateFromProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> processingDateToProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		processingDateToProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		processingDateToProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	private static final Map<String, Object> processingDateProperties = new UnifiedMap<String, Object>();
+	static
+	{
+		processingDateProperties.put(TestAbstractMessage.KEY, TestAbstractMessage.VALUE);
+		processingDateProperties.put(TestAbstractMessage.BOOLEAN_KEY, Boolean.TRUE);
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TestSecurityJournal findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TestSecurityJournal findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TestSecurityJournalList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSecurityJournalList) finder.findMany(operation);
+	}
+
+	public static TestSecurityJournalList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TestSecurityJournalList) finder.findManyBypassCache(operation);
+	}
+
+	private static TestSecurityJournal findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TestSecurityJournal) FinderUtils.findOne(found);
+	}
+
+	public static TestSecurityJournal findByPrimaryKey(String sourceSystem, String sourceTradeId, String sourceTransactionId, int sourceId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(sourceSystem, sourceTradeId, sourceTransactionId, sourceId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TestSecurityJournalData _castedTargetData = (TestSecurityJournalData) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getSourceSystem()) && _bean.getO2AsString().equals(_castedTargetData.getSourceTradeId()) && _bean.getO3AsString().equals(_castedTargetData.getSourceTransactionId()) && _bean.getI1AsInteger() == _castedTargetData.getSourceId())
+			{
+				return TestSecurityJournalFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getO2AsString())),HashUtil.hash(_bean.getO3AsString())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.offHeapHash(_bean.getO2AsString())),HashUtil.offHeapHash(_bean.getO3AsString())),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static TestSecurityJournal zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TestSecurityJournal) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TestSecurityJournalRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TestSecurityJournal, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements TestAbstractTransactionFinder<TestSecurityJournal>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> clearingAgentReferenceId;
+		private StringAttribute<ParentOwnerType> clearingAgent;
+		private StringAttribute<ParentOwnerType> clearanceBrokerBank;
+		private StringAttribute<ParentOwnerType> subMessageType;
+		private StringAttribute<ParentOwnerType> sourceSystem;
+		private StringAttribute<ParentOwnerType> sourceTradeId;
+		private StringAttribute<ParentOwnerType> sourceTransactionId;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TestSecurityJournalRelatedFinder()
+		{
+			super();
+		}
+
+		public TestSecurityJournalRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TestSecurityJournalFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TestSecurityJournalFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TestSecurityJournalFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TestSecurityJournalFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.clearingAgentReferenceId();
+			attributes[1] = this.clearingAgent();
+			attributes[2] = this.clearanceBrokerBank();
+			attributes[3] = this.subMessageType();
+			attributes[4] = this.sourceSystem();
+			attributes[5] = this.sourceTradeId();
+			attributes[6] = this.sourceTransactionId();
+			attributes[7] = this.sourceId();
+			attributes[8] = this.processingDateFrom();
+			attributes[9] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TestSecurityJournal findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TestSecurityJournalFinder.findOne(operation, false);
+		}
+
+		public TestSecurityJournal findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TestSecurityJournalFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TestSecurityJournal> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TestSecurityJournalList((Operation) operation);
+		}
+
+		public MithraList<? extends TestSecurityJournal> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TestSecurityJournalList result = (TestSecurityJournalList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TestSecurityJournal> constructEmptyList()
+		{
+			return new TestSecurityJournalList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 851446419;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> clearingAgentReferenceId()
+		{
+			StringAttribute<ParentOwnerType> result = this.clearingAgentReferenceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ca_ref_id_c","","clearingAgentReferenceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,28,-1,-1,25,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.clearingAgentReferenceId(), this.mapper, this.zGetValueSelector());
+				this.clearingAgentReferenceId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> clearingAgent()
+		{
+			StringAttribute<ParentOwnerType> result = this.clearingAgent;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("clear_agnt_c","","clearingAgent",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,24,-1,-1,4,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.clearingAgent(), this.mapper, this.zGetValueSelector());
+				this.clearingAgent = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> clearanceBrokerBank()
+		{
+			StringAttribute<ParentOwnerType> result = this.clearanceBrokerBank;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("clr_bnk_brk_c","","clearanceBrokerBank",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,20,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.clearanceBrokerBank(), this.mapper, this.zGetValueSelector());
+				this.clearanceBrokerBank = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> subMessageType()
+		{
+			StringAttribute<ParentOwnerType> result = this.subMessageType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("sub_message_type_c","","subMessageType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,-1,-1,4,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.subMessageType(), this.mapper, this.zGetValueSelector());
+				this.subMessageType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceSystem()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceSystem;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("src_system_c","","sourceSystem",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,sourceSystemProperties,true,false,8,-1,-1,6,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.sourceSystem(), this.mapper, this.zGetValueSelector());
+				this.sourceSystem = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceTradeId()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceTradeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("src_trade_id_c","","sourceTradeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,12,-1,-1,15,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.sourceTradeId(), this.mapper, this.zGetValueSelector());
+				this.sourceTradeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> sourceTransactionId()
+		{
+			StringAttribute<ParentOwnerType> result = this.sourceTransactionId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("src_trx_id_c","","sourceTransactionId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,20,true, false) :
+					new MappedStringAttribute(TestSecurityJournalFinder.sourceTransactionId(), this.mapper, this.zGetValueSelector());
+				this.sourceTransactionId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("source_id_i","","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,sourceIdProperties,true,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(TestSecurityJournalFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("in_z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,processingDateFromProperties,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TestSecurityJournalFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestSecurityJournalFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("out_z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,processingDateToProperties,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TestSecurityJournalFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TestSecurityJournalFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,processingDateProperties,true,false,this.processingDateFrom(),this.processingDateTo(),TestSecurityJournalFinder.processingDateInfinity,false,false,TestSecurityJournalFinder.processingDateDefault,false,false) :
+					new MappedAsOfAttribute(TestSecurityJournalFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TestSecurityJournalFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TestSecurityJournalFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TestSecurityJournalCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TestSecurityJournalRelatedFinder<ParentOwnerType, ReturnType, TestSecurityJournalList, OwnerType>
+	{
+		public TestSecurityJournalCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TestSecurityJournalCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TestSecurityJournalCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSecurityJournalCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TestSecurityJournalSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TestSecurityJournalRelatedFinder<ParentOwnerType, ReturnType, TestSecurityJournalList, OwnerType>
+	implements ToOneFinder
+	{
+		public TestSecurityJournalSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TestSecurityJournalSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TestSecurityJournal other)
+		{
+			return this.sourceSystem().eq(other.getSourceSystem())
+			.and(this.sourceTradeId().eq(other.getSourceTradeId()))
+			.and(this.sourceTransactionId().eq(other.getSourceTransactionId()))
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TestSecurityJournal findByPrimaryKey(String sourceSystem, String sourceTradeId, String sourceTransactionId, int sourceId, Timestamp processingDate)
+		{
+			TestSecurityJournal _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (sourceSystem != null && sourceTradeId != null && sourceTransactionId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(sourceSystem);
+				_bean.setO2(sourceTradeId);
+				_bean.setO3(sourceTransactionId);
+				_bean.setI1AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TestSecurityJournal) _related;
+			if (_related == null)
+			{
+				_op = this.sourceSystem().eq(sourceSystem).and(this.sourceTradeId().eq(sourceTradeId)).and(this.sourceTransactionId().eq(sourceTransactionId)).and(this.sourceId().eq(sourceId)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TestSecurityJournalSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TestSecurityJournalSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TestSecurityJournalSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.ca_ref_id_c **/
+	public static StringAttribute<TestSecurityJournal> clearingAgentReferenceId()
+	{
+		return finder.clearingAgentReferenceId();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.clear_agnt_c **/
+	public static StringAttribute<TestSecurityJournal> clearingAgent()
+	{
+		return finder.clearingAgent();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.clr_bnk_brk_c **/
+	public static StringAttribute<TestSecurityJournal> clearanceBrokerBank()
+	{
+		return finder.clearanceBrokerBank();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.sub_message_type_c **/
+	public static StringAttribute<TestSecurityJournal> subMessageType()
+	{
+		return finder.subMessageType();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.src_system_c **/
+	public static StringAttribute<TestSecurityJournal> sourceSystem()
+	{
+		return finder.sourceSystem();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.src_trade_id_c **/
+	public static StringAttribute<TestSecurityJournal> sourceTradeId()
+	{
+		return finder.sourceTradeId();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.src_trx_id_c **/
+	public static StringAttribute<TestSecurityJournal> sourceTransactionId()
+	{
+		return finder.sourceTransactionId();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.source_id_i **/
+	public static IntegerAttribute<TestSecurityJournal> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.in_z **/
+	public static TimestampAttribute<TestSecurityJournal> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to SECURITY_JOURNAL_TB.out_z **/
+	public static TimestampAttribute<TestSecurityJournal> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TestSecurityJournal> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TestSecurityJournal other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(sourceSystem());
+	}
+
+	public static TestSecurityJournalSingleFinder<TestSecurityJournal, Object, TestSecurityJournal> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			sourceSystem()
+			, sourceTradeId()
+			, sourceTransactionId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			clearingAgentReferenceId()
+			, sourceSystem()
+			, sourceTradeId()
+			, sourceTransactionId()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TestSecurityJournal");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeDangerousNoLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
@@ -0,0 +1,185 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestSecurityJournalListAbstract extends DelegatingList<TestSecurityJournal> implements MithraDatedTransactionalList<TestSecurityJournal>
+{
+	public TestSecurityJournalListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestSecurityJournalListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestSecurityJournalListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestSecurityJournalListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestSecurityJournal[] elements()
+	{
+		TestSecurityJournal[] result = new TestSecurityJournal[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestSecurityJournalList intersection(TestSecurityJournalList another)
+	{
+		return (TestSecurityJournalList)super.intersection(another);
+	}
+
+	public TestSecurityJournal getTestSecurityJournalAt(int index)
+	{
+		return (TestSecurityJournal)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSecurityJournalFinder.getMithraObjectPortal();
+	}
+
+	public TestSecurityJournalList getNonPersistentCopy()
+	{
+		TestSecurityJournalList result = new TestSecurityJournalList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestSecurityJournalList asAdhoc()
+	{
+		return (TestSecurityJournalList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestSecurityJournal> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestSecurityJournalList merge(MithraTransactionalList<TestSecurityJournal> incoming, TopLevelMergeOptions<TestSecurityJournal> mergeOptions)
+	{
+		return (TestSecurityJournalList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestSecurityJournalList getDetachedCopy()
+	{
+		TestSecurityJournalList result = new TestSecurityJournalList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setClearanceBrokerBank(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.clearanceBrokerBank(), newValue);
+	}
+
+	public void setClearingAgent(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.clearingAgent(), newValue);
+	}
+
+	public void setClearingAgentReferenceId(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.clearingAgentReferenceId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityJournalFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestSecurityJournalFinder.processingDateTo(), newValue);
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestSecurityJournalFinder.sourceId(), newValue);
+	}
+
+	public void setSourceSystem(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.sourceSystem(), newValue);
+	}
+
+	public void setSourceTradeId(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.sourceTradeId(), newValue);
+	}
+
+	public void setSourceTransactionId(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.sourceTransactionId(), newValue);
+	}
+
+	public void setSubMessageType(String newValue)
+	{
+		zSetString(TestSecurityJournalFinder.subMessageType(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,165 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TestSubClassListAbstract extends DelegatingList<TestSubClass> implements MithraDatedTransactionalList<TestSubClass>
+{
+	public TestSubClassListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TestSubClassListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TestSubClassListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TestSubClassListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TestSubClass[] elements()
+	{
+		TestSubClass[] result = new TestSubClass[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TestSubClassList intersection(TestSubClassList another)
+	{
+		return (TestSubClassList)super.intersection(another);
+	}
+
+	public TestSubClass getTestSubClassAt(int index)
+	{
+		return (TestSubClass)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestSubClassFinder.getMithraObjectPortal();
+	}
+
+	public TestSubClassList getNonPersistentCopy()
+	{
+		TestSubClassList result = new TestSubClassList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TestSubClassList asAdhoc()
+	{
+		return (TestSubClassList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TestSubClass> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TestSubClassList merge(MithraTransactionalList<TestSubClass> incoming, TopLevelMergeOptions<TestSubClass> mergeOptions)
+	{
+		return (TestSubClassList) super.merge(incoming, mergeOptions);
+	}
+
+	public TestSubClassList getDetachedCopy()
+	{
+		TestSubClassList result = new TestSubClassList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCommonValue(String newValue)
+	{
+		zSetString(TestSubClassFinder.commonValue(), newValue);
+	}
+
+	public void setExchangeCode(String newValue)
+	{
+		zSetString(TestSubClassFinder.exchangeCode(), newValue);
+	}
+
+	public void setOriginatingTradeId(String newValue)
+	{
+		zSetString(TestSubClassFinder.originatingTradeId(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TestSubClassFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TestSubClassFinder.processingDateTo(), newValue);
+	}
+
+	public void setSourceId(int newValue)
+	{
+		zSetInteger(TestSubClassFinder.sourceId(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,535 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TestSwapPriceAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TestSwapPrice.class.getName());
+	public TestSwapPriceAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TestSwapPrice getDetachedCopy() throws MithraBusinessException
+	{
+		return (TestSwapPrice) super.getDetachedCopy();
+	}
+
+	public TestSwapPrice getNonPersistentCopy() throws MithraBusinessException
+	{
+		TestSwapPrice result = (TestSwapPrice) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TestSwapPrice copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TestSwapPrice) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TestSwapPrice zFindOriginal()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.currentData;
+		Operation op;
+		op = TestSwapPriceFinder.sourceId().eq(data.getSourceId());
+		op = op.and(TestSwapPriceFinder.accountId().eq(data.getAccountId()));
+		op = op.and(TestSwapPriceFinder.productGsNumber().eq(data.getProductGsNumber()));
+		op = op.and(TestSwapPriceFinder.referenceNumber().eq(data.getReferenceNumber()));
+		op = op.and(TestSwapPriceFinder.legId().eq(data.getLegId()));
+		op = op.and(TestSwapPriceFinder.businessDate().eq(data.getBusinessDate()));
+		op = op.and(TestSwapPriceFinder.detailNumber().eq(data.getDetailNumber()));
+		return TestSwapPriceFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TestSwapPriceData();
+	}
+
+	protected void zSetFromTestSwapPriceData( TestSwapPriceData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTestSwapPriceData( TestSwapPriceData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isAccountIdNull();
+	}
+
+	public String getAccountId()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getAccountId();
+	}
+
+	public void setAccountId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		throw new MithraBusinessException("Attribute 'accountId' cannot exceed maximum length of 10: " + newValue);
+		zSetString(TestSwapPriceFinder.accountId(), newValue, true, false );
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isAcmapCodeNull();
+	}
+
+	public String getAcmapCode()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getAcmapCode();
+	}
+
+	public void setAcmapCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 5)
+		throw new MithraBusinessException("Attribute 'acmapCode' cannot exceed maximum length of 5: " + newValue);
+		zSetString(TestSwapPriceFinder.acmapCode(), newValue, false, false );
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isBusinessDateNull();
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(TestSwapPriceFinder.businessDate(), newValue, true, false );
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isCurrencyNull();
+	}
+
+	public String getCurrency()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getCurrency();
+	}
+
+	public void setCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		throw new MithraBusinessException("Attribute 'currency' cannot exceed maximum length of 3: " + newValue);
+		zSetString(TestSwapPriceFinder.currency(), newValue, false, false );
+	}
+
+	public boolean isDealIdNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isDealIdNull();
+	}
+
+	public String getDealId()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getDealId();
+	}
+
+	public void setDealId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 35)
+		throw new MithraBusinessException("Attribute 'dealId' cannot exceed maximum length of 35: " + newValue);
+		zSetString(TestSwapPriceFinder.dealId(), newValue, false, false );
+	}
+
+	public boolean isDetailNumberNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isDetailNumberNull();
+	}
+
+	public int getDetailNumber()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getDetailNumber();
+	}
+
+	public void setDetailNumber(int newValue)
+	{
+		zSetInteger(TestSwapPriceFinder.detailNumber(), newValue, true, false ,false);
+	}
+
+	public boolean isFeedNumberNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isFeedNumberNull();
+	}
+
+	public int getFeedNumber()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		if (data.isFeedNumberNull()) MithraNullPrimitiveException.throwNew("feedNumber", data);
+		return data.getFeedNumber();
+	}
+
+	public void setFeedNumber(int newValue)
+	{
+		zSetInteger(TestSwapPriceFinder.feedNumber(), newValue, false, false ,true);
+	}
+
+	public boolean isGridModelNameNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isGridModelNameNull();
+	}
+
+	public String getGridModelName()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getGridModelName();
+	}
+
+	public void setGridModelName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestSwapPriceFinder.gridModelName(), newValue, false, false );
+	}
+
+	public boolean isGridValueNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isGridValueNull();
+	}
+
+	public double getGridValue()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		if (data.isGridValueNull()) MithraNullPrimitiveException.throwNew("gridValue", data);
+		return data.getGridValue();
+	}
+
+	public void setGridValue(double newValue)
+	{
+		zSetDouble(TestSwapPriceFinder.gridValue(), newValue, false, false ,true);
+	}
+
+	public boolean isLegIdNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isLegIdNull();
+	}
+
+	public String getLegId()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getLegId();
+	}
+
+	public void setLegId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 35)
+		throw new MithraBusinessException("Attribute 'legId' cannot exceed maximum length of 35: " + newValue);
+		zSetString(TestSwapPriceFinder.legId(), newValue, true, false );
+	}
+
+	public boolean isNpvModelNameNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isNpvModelNameNull();
+	}
+
+	public String getNpvModelName()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getNpvModelName();
+	}
+
+	public void setNpvModelName(String newValue)
+	{
+		zSetString(TestSwapPriceFinder.npvModelName(), newValue, false, false );
+	}
+
+	public boolean isNpvValueNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isNpvValueNull();
+	}
+
+	public double getNpvValue()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		if (data.isNpvValueNull()) MithraNullPrimitiveException.throwNew("npvValue", data);
+		return data.getNpvValue();
+	}
+
+	public void setNpvValue(double newValue)
+	{
+		zSetDouble(TestSwapPriceFinder.npvValue(), newValue, false, false ,true);
+	}
+
+	public boolean isProductGsNumberNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isProductGsNumberNull();
+	}
+
+	public String getProductGsNumber()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getProductGsNumber();
+	}
+
+	public void setProductGsNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		throw new MithraBusinessException("Attribute 'productGsNumber' cannot exceed maximum length of 20: " + newValue);
+		zSetString(TestSwapPriceFinder.productGsNumber(), newValue, true, false );
+	}
+
+	public boolean isReferenceNumberNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isReferenceNumberNull();
+	}
+
+	public String getReferenceNumber()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getReferenceNumber();
+	}
+
+	public void setReferenceNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 35)
+		throw new MithraBusinessException("Attribute 'referenceNumber' cannot exceed maximum length of 35: " + newValue);
+		zSetString(TestSwapPriceFinder.referenceNumber(), newValue, true, false );
+	}
+
+	public boolean isSecurityTypeNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isSecurityTypeNull();
+	}
+
+	public String getSecurityType()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getSecurityType();
+	}
+
+	public void setSecurityType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		zSetString(TestSwapPriceFinder.securityType(), newValue, false, false );
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return ((TestSwapPriceData) this.zSynchronizedGetData()).isSourceIdNull();
+	}
+
+	public long getSourceId()
+	{
+		TestSwapPriceData data = (TestSwapPriceData) this.zSynchronizedGetData();
+		return data.getSourceId();
+	}
+
+	public void setSourceId(long newValue)
+	{
+		zSetLong(TestSwapPriceFinder.sourceId(), newValue, true, false ,false);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, TestSwapPriceFinder.npvValue(), false);
+		zNullify(behavior, data, TestSwapPriceFinder.gridValue(), false);
+		zNullify(behavior, data, TestSwapPriceFinder.feedNumber(), false);
+	}
+
+	public void setNpvValueNull()
+	{
+		zNullify(TestSwapPriceFinder.npvValue(), false);
+	}
+
+	public void setGridValueNull()
+	{
+		zNullify(TestSwapPriceFinder.gridValue(), false);
+	}
+
+	public void setFeedNumberNull()
+	{
+		zNullify(TestSwapPriceFinder.feedNumber(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TestSwapPriceData _newData = (TestSwapPriceData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TestSwapPriceData _newData = (TestSwapPriceData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSwapPriceData _newData = (TestSwapPriceData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TestSwapPrice zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TestSwapPrice original = (TestSwapPrice) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TestSwapPriceFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TestSwapPriceFinder.getMithraObjectPortal();
+	}
+
+	public TestSwapPrice getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.acmapCode(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.currency(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.dealId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestSwapPriceFinder.feedNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.gridModelName(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestSwapPriceFinder.gridValue(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.npvModelName(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TestSwapPriceFinder.npvValue(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.securityType(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.accountId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TestSwapPriceFinder.businessDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TestSwapPriceFinder.detailNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.legId(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.productGsNumber(), false);
+		changed |= zUpdateString(behavior, data, newData, TestSwapPriceFinder.referenceNumber(), false);
+		changed |= zUpdateLong(behavior, data, newData, TestSwapPriceFinder.sourceId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TestSwapPriceAbstract result = (TestSwapPriceAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,769 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TestSwapPriceData
+implements MithraDataObject
+{
+	private byte isNullBits0 = 0;
+	private String accountId;
+	private String acmapCode;
+	private Timestamp businessDate;
+	private String currency;
+	private String dealId;
+	private int detailNumber;
+	private int feedNumber;
+	private String gridModelName;
+	private double gridValue;
+	private String legId;
+	private String npvModelName;
+	private double npvValue;
+	private String productGsNumber;
+	private String referenceNumber;
+	private String securityType;
+	private long sourceId;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.getBusinessDate() == null;
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.getCurrency() == null;
+	}
+
+	public boolean isDealIdNull()
+	{
+		return this.getDealId() == null;
+	}
+
+	public boolean isDetailNumberNull()
+	{
+		return false;
+	}
+
+	public boolean isGridModelNameNull()
+	{
+		return this.getGridModelName() == null;
+	}
+
+	public boolean isLegIdNull()
+	{
+		return this.getLegId() == null;
+	}
+
+	public boolean isNpvModelNameNull()
+	{
+		return this.getNpvModelName() == null;
+	}
+
+	public boolean isProductGsNumberNull()
+	{
+		return this.getProductGsNumber() == null;
+	}
+
+	public boolean isReferenceNumberNull()
+	{
+		return this.getReferenceNumber() == null;
+	}
+
+	public boolean isSecurityTypeNull()
+	{
+		return this.getSecurityType() == null;
+	}
+
+	public boolean isSourceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isNpvValueNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isGridValueNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isFeedNumberNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeObject(this.acmapCode);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+		out.writeObject(this.currency);
+		out.writeObject(this.dealId);
+		out.writeInt(this.detailNumber);
+		out.writeInt(this.feedNumber);
+		out.writeObject(this.gridModelName);
+		out.writeDouble(this.gridValue);
+		out.writeObject(this.legId);
+		out.writeObject(this.npvModelName);
+		out.writeDouble(this.npvValue);
+		out.writeObject(this.productGsNumber);
+		out.writeObject(this.referenceNumber);
+		out.writeObject(this.securityType);
+		out.writeLong(this.sourceId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public int zGetAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+	}
+
+	public void setAccountId(String value)
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setAccountIdNull()
+	{
+		this.setAccountId(null);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public long zGetBusinessDateAsLong()
+	{
+		if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDate.getTime();
+	}
+
+	public void setBusinessDate(Timestamp value)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache(), TestSwapPriceFinder.isOffHeap());
+	}
+
+	public void setBusinessDateNull()
+	{
+		this.setBusinessDate(null);
+	}
+
+	public String getCurrency()
+	{
+		return this.currency;
+	}
+
+	public int zGetCurrencyAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(currency);
+	}
+
+	public void setCurrency(String value)
+	{
+		this.currency = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setCurrencyNull()
+	{
+		this.setCurrency(null);
+	}
+
+	public String getDealId()
+	{
+		return this.dealId;
+	}
+
+	public int zGetDealIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(dealId);
+	}
+
+	public void setDealId(String value)
+	{
+		this.dealId = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setDealIdNull()
+	{
+		this.setDealId(null);
+	}
+
+	public int getDetailNumber()
+	{
+		return this.detailNumber;
+	}
+
+	public void setDetailNumber(int value)
+	{
+		this.detailNumber = value;
+	}
+
+	public void setDetailNumberNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public int getFeedNumber()
+	{
+		return this.feedNumber;
+	}
+
+	public void setFeedNumber(int value)
+	{
+		this.feedNumber = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public String getGridModelName()
+	{
+		return this.gridModelName;
+	}
+
+	public int zGetGridModelNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(gridModelName);
+	}
+
+	public void setGridModelName(String value)
+	{
+		this.gridModelName = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setGridModelNameNull()
+	{
+		this.setGridModelName(null);
+	}
+
+	public double getGridValue()
+	{
+		return this.gridValue;
+	}
+
+	public void setGridValue(double value)
+	{
+		this.gridValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public String getLegId()
+	{
+		return this.legId;
+	}
+
+	public int zGetLegIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(legId);
+	}
+
+	public void setLegId(String value)
+	{
+		this.legId = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setLegIdNull()
+	{
+		this.setLegId(null);
+	}
+
+	public String getNpvModelName()
+	{
+		return this.npvModelName;
+	}
+
+	public int zGetNpvModelNameAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(npvModelName);
+	}
+
+	public void setNpvModelName(String value)
+	{
+		this.npvModelName = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setNpvModelNameNull()
+	{
+		this.setNpvModelName(null);
+	}
+
+	public double getNpvValue()
+	{
+		return this.npvValue;
+	}
+
+	public void setNpvValue(double value)
+	{
+		this.npvValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public String getProductGsNumber()
+	{
+		return this.productGsNumber;
+	}
+
+	public int zGetProductGsNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(productGsNumber);
+	}
+
+	public void setProductGsNumber(String value)
+	{
+		this.productGsNumber = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setProductGsNumberNull()
+	{
+		this.setProductGsNumber(null);
+	}
+
+	public String getReferenceNumber()
+	{
+		return this.referenceNumber;
+	}
+
+	public int zGetReferenceNumberAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(referenceNumber);
+	}
+
+	public void setReferenceNumber(String value)
+	{
+		this.referenceNumber = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setReferenceNumberNull()
+	{
+		this.setReferenceNumber(null);
+	}
+
+	public String getSecurityType()
+	{
+		return this.securityType;
+	}
+
+	public int zGetSecurityTypeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(securityType);
+	}
+
+	public void setSecurityType(String value)
+	{
+		this.securityType = StringPool.getInstance().getOrAddToCache(value, TestSwapPriceFinder.isFullCache());
+	}
+
+	public void setSecurityTypeNull()
+	{
+		this.setSecurityType(null);
+	}
+
+	public long getSourceId()
+	{
+		return this.sourceId;
+	}
+
+	public void setSourceId(long value)
+	{
+		this.sourceId = value;
+	}
+
+	public void setSourceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void setNpvValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setGridValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setFeedNumberNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(TestSwapPriceData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.accountId = this.accountId;
+		copy.acmapCode = this.acmapCode;
+		copy.businessDate = this.businessDate;
+		copy.currency = this.currency;
+		copy.dealId = this.dealId;
+		copy.detailNumber = this.detailNumber;
+		copy.feedNumber = this.feedNumber;
+		copy.gridModelName = this.gridModelName;
+		copy.gridValue = this.gridValue;
+		copy.legId = this.legId;
+		copy.npvModelName = this.npvModelName;
+		copy.npvValue = this.npvValue;
+		copy.productGsNumber = this.productGsNumber;
+		copy.referenceNumber = this.referenceNumber;
+		copy.securityType = this.securityType;
+		copy.sourceId = this.sourceId;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestSwapPriceFinder.isFullCache(), TestSwapPriceFinder.isOffHeap());
+		this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.dealId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.detailNumber = in.readInt();
+		this.feedNumber = in.readInt();
+		this.gridModelName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.gridValue = in.readDouble();
+		this.legId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.npvModelName = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.npvValue = in.readDouble();
+		this.productGsNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.referenceNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.securityType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.sourceId = in.readLong();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TestSwapPriceData otherData = (TestSwapPriceData) other;
+		if (!isAccountIdNull() ? !getAccountId().equals(otherData.getAccountId()) : !otherData.isAccountIdNull())
+		{
+			return false;
+		}
+
+		if (!isBusinessDateNull() ? !getBusinessDate().equals(otherData.getBusinessDate()) : !otherData.isBusinessDateNull())
+		{
+			return false;
+		}
+
+		if (getDetailNumber() != otherData.getDetailNumber())
+		{
+			return false;
+		}
+
+		if (!isLegIdNull() ? !getLegId().equals(otherData.getLegId()) : !otherData.isLegIdNull())
+		{
+			return false;
+		}
+
+		if (!isProductGsNumberNull() ? !getProductGsNumber().equals(otherData.getProductGsNumber()) : !otherData.isProductGsNumberNull())
+		{
+			return false;
+		}
+
+		if (!isReferenceNumberNull() ? !getReferenceNumber().equals(otherData.getReferenceNumber()) : !otherData.isReferenceNumberNull())
+		{
+			return false;
+		}
+
+		if (getSourceId() != otherData.getSourceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.accountId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+		out.writeInt(this.detailNumber);
+		out.writeObject(this.legId);
+		out.writeObject(this.productGsNumber);
+		out.writeObject(this.referenceNumber);
+		out.writeLong(this.sourceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TestSwapPriceFinder.isFullCache(), TestSwapPriceFinder.isOffHeap());
+		this.detailNumber = in.readInt();
+		this.legId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.productGsNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.referenceNumber = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TestSwapPriceFinder.isFullCache());
+		this.sourceId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TestSwapPriceData testSwapPriceData = (TestSwapPriceData) newData;
+		this.setAcmapCode(testSwapPriceData.getAcmapCode());
+		this.setCurrency(testSwapPriceData.getCurrency());
+		this.setDealId(testSwapPriceData.getDealId());
+		this.setFeedNumber(testSwapPriceData.getFeedNumber());
+		if (testSwapPriceData.isFeedNumberNull()) this.setFeedNumberNull();
+		this.setGridModelName(testSwapPriceData.getGridModelName());
+		this.setGridValue(testSwapPriceData.getGridValue());
+		if (testSwapPriceData.isGridValueNull()) this.setGridValueNull();
+		this.setNpvModelName(testSwapPriceData.getNpvModelName());
+		this.setNpvValue(testSwapPriceData.getNpvValue());
+		if (testSwapPriceData.isNpvValueNull()) this.setNpvValueNull();
+		this.setSecurityType(testSwapPriceData.getSecurityType());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TestSwapPriceData other = (TestSwapPriceData) newData;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if (!isCurrencyNull() ? !getCurrency().equals(other.getCurrency()) : !other.isCurrencyNull())
+		{
+			return true;
+		}
+
+		if (!isDealIdNull() ? !getDealId().equals(other.getDealId()) : !other.isDealIdNull())
+		{
+			return true;
+		}
+
+		if ( isFeedNumberNull() != other.isFeedNumberNull() || getFeedNumber() != other.getFeedNumber())
+		{
+			return true;
+		}
+
+		if (!isGridModelNameNull() ? !getGridModelName().equals(other.getGridModelName()) : !other.isGridModelNameNull())
+		{
+			return true;
+		}
+
+		if ( isGridValueNull() != other.isGridValueNull() || Math.abs(getGridValue() - other.getGridValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isNpvModelNameNull() ? !getNpvModelName().equals(other.getNpvModelName()) : !other.isNpvModelNameNull())
+		{
+			return true;
+		}
+
+		if ( isNpvValueNull() != other.isNpvValueNull() || Math.abs(getNpvValue() - other.getNpvValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if (!isSecurityTypeNull() ? !getSecurityType().equals(other.getSecurityType()) : !other.isSecurityTypeNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TestSwapPriceData copy = new TestSwapPriceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TestSwapPriceData copy = new TestSwapPriceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+		result += "businessDate: "+(isBusinessDateNull() ? "null" : PrintablePreparedStatement.timestampFormat.print(getBusinessDate().getTime()))+ " / ";
+		result += "detailNumber: "+(""+getDetailNumber())+ " / ";
+		result += "legId: "+"'"+getLegId()+"'"+ " / ";
+		result += "productGsNumber: "+"'"+getProductGsNumber()+"'"+ " / ";
+		result += "referenceNumber: "+"'"+getReferenceNumber()+"'"+ " / ";
+		result += "sourceId: "+(""+getSourceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestSwapPriceData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TestSwapPriceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TestSwapPriceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TestSwapPriceData";
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TimestampConversionListAbstract extends DelegatingList<TimestampConversion> implements MithraTransactionalList<TimestampConversion>
+{
+	public TimestampConversionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TimestampConversionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TimestampConversionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TimestampConversionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TimestampConversion[] elements()
+	{
+		TimestampConversion[] result = new TimestampConversion[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TimestampConversionList intersection(TimestampConversionList another)
+	{
+		return (TimestampConversionList)super.intersection(another);
+	}
+
+	public TimestampConversion getTimestampConversionAt(int index)
+	{
+		return (TimestampConversion)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TimestampConversionFinder.getMithraObjectPortal();
+	}
+
+	public TimestampConversionList getNonPersistentCopy()
+	{
+		TimestampConversionList result = new TimestampConversionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TimestampConversionList asAdhoc()
+	{
+		return (TimestampConversionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TimestampConversion> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TimestampConversionList merge(MithraTransactionalList<TimestampConversion> incoming, TopLevelMergeOptions<TimestampConversion> mergeOptions)
+	{
+		return (TimestampConversionList) super.merge(incoming, mergeOptions);
+	}
+
+	public TimestampConversionList getDetachedCopy()
+	{
+		TimestampConversionList result = new TimestampConversionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TimestampConversionFinder.id(), newValue);
+	}
+
+	public void setTimestampValueDB(Timestamp newValue)
+	{
+		zSetTimestamp(TimestampConversionFinder.timestampValueDB(), newValue);
+	}
+
+	public void setTimestampValueNone(Timestamp newValue)
+	{
+		zSetTimestamp(TimestampConversionFinder.timestampValueNone(), newValue);
+	}
+
+	public void setTimestampValueUTC(Timestamp newValue)
+	{
+		zSetTimestamp(TimestampConversionFinder.timestampValueUTC(), newValue);
+	}
+}
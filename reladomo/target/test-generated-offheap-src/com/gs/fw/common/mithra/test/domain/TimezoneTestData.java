@@ -0,0 +1,450 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TimezoneTestData
+implements MithraDataObject
+{
+	private Date databaseDate;
+	private Timestamp databaseTimestamp;
+	private Date insensitiveDate;
+	private Timestamp insensitiveTimestamp;
+	private int timezoneTestId;
+	private Date utcDate;
+	private Timestamp utcTimestamp;
+	public boolean isDatabaseDateNull()
+	{
+		return this.getDatabaseDate() == null;
+	}
+
+	public boolean isDatabaseTimestampNull()
+	{
+		return this.getDatabaseTimestamp() == null;
+	}
+
+	public boolean isInsensitiveDateNull()
+	{
+		return this.getInsensitiveDate() == null;
+	}
+
+	public boolean isInsensitiveTimestampNull()
+	{
+		return this.getInsensitiveTimestamp() == null;
+	}
+
+	public boolean isTimezoneTestIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUtcDateNull()
+	{
+		return this.getUtcDate() == null;
+	}
+
+	public boolean isUtcTimestampNull()
+	{
+		return this.getUtcTimestamp() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.databaseDate);
+		MithraTimestamp.writeTimestamp(out, this.databaseTimestamp);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.insensitiveDate);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.insensitiveTimestamp);
+		out.writeInt(this.timezoneTestId);
+		MithraTimestamp.writeTimezoneInsensitiveDate(out, this.utcDate);
+		MithraTimestamp.writeTimestamp(out, this.utcTimestamp);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public Date getDatabaseDate()
+	{
+		return this.databaseDate;
+	}
+
+	public void setDatabaseDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.databaseDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.databaseDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setDatabaseDateNull()
+	{
+		this.setDatabaseDate(null);
+	}
+
+	public Timestamp getDatabaseTimestamp()
+	{
+		return this.databaseTimestamp;
+	}
+
+	public long zGetDatabaseTimestampAsLong()
+	{
+		if (databaseTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return databaseTimestamp.getTime();
+	}
+
+	public void setDatabaseTimestamp(Timestamp value)
+	{
+		this.databaseTimestamp = TimestampPool.getInstance().getOrAddToCache(value, TimezoneTestFinder.isFullCache(), TimezoneTestFinder.isOffHeap());
+	}
+
+	public void setDatabaseTimestampNull()
+	{
+		this.setDatabaseTimestamp(null);
+	}
+
+	public Date getInsensitiveDate()
+	{
+		return this.insensitiveDate;
+	}
+
+	public void setInsensitiveDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.insensitiveDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.insensitiveDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setInsensitiveDateNull()
+	{
+		this.setInsensitiveDate(null);
+	}
+
+	public Timestamp getInsensitiveTimestamp()
+	{
+		return this.insensitiveTimestamp;
+	}
+
+	public long zGetInsensitiveTimestampAsLong()
+	{
+		if (insensitiveTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return insensitiveTimestamp.getTime();
+	}
+
+	public void setInsensitiveTimestamp(Timestamp value)
+	{
+		this.insensitiveTimestamp = TimestampPool.getInstance().getOrAddToCache(value, TimezoneTestFinder.isFullCache(), TimezoneTestFinder.isOffHeap());
+	}
+
+	public void setInsensitiveTimestampNull()
+	{
+		this.setInsensitiveTimestamp(null);
+	}
+
+	public int getTimezoneTestId()
+	{
+		return this.timezoneTestId;
+	}
+
+	public void setTimezoneTestId(int value)
+	{
+		this.timezoneTestId = value;
+	}
+
+	public void setTimezoneTestIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Date getUtcDate()
+	{
+		return this.utcDate;
+	}
+
+	public void setUtcDate(java.util.Date value)
+	{
+		if (value == null || value instanceof java.sql.Date)
+		{
+			this.utcDate = (java.sql.Date) value;
+		}
+		else
+		{
+			this.utcDate = new java.sql.Date(value.getTime());
+		}
+	}
+
+	public void setUtcDateNull()
+	{
+		this.setUtcDate(null);
+	}
+
+	public Timestamp getUtcTimestamp()
+	{
+		return this.utcTimestamp;
+	}
+
+	public long zGetUtcTimestampAsLong()
+	{
+		if (utcTimestamp == null) return TimestampPool.OFF_HEAP_NULL;
+		return utcTimestamp.getTime();
+	}
+
+	public void setUtcTimestamp(Timestamp value)
+	{
+		this.utcTimestamp = TimestampPool.getInstance().getOrAddToCache(value, TimezoneTestFinder.isFullCache(), TimezoneTestFinder.isOffHeap());
+	}
+
+	public void setUtcTimestampNull()
+	{
+		this.setUtcTimestamp(null);
+	}
+
+	protected void copyInto(TimezoneTestData copy, boolean withRelationships)
+	{
+		copy.databaseDate = this.databaseDate;
+		copy.databaseTimestamp = this.databaseTimestamp;
+		copy.insensitiveDate = this.insensitiveDate;
+		copy.insensitiveTimestamp = this.insensitiveTimestamp;
+		copy.timezoneTestId = this.timezoneTestId;
+		copy.utcDate = this.utcDate;
+		copy.utcTimestamp = this.utcTimestamp;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.databaseDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.databaseTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TimezoneTestFinder.isFullCache(), TimezoneTestFinder.isOffHeap());
+		this.insensitiveDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.insensitiveTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TimezoneTestFinder.isFullCache(), TimezoneTestFinder.isOffHeap());
+		this.timezoneTestId = in.readInt();
+		this.utcDate = (Date)MithraTimestamp.readTimezoneInsensitiveDate(in);
+		this.utcTimestamp = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TimezoneTestFinder.isFullCache(), TimezoneTestFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TimezoneTestData otherData = (TimezoneTestData) other;
+		if (getTimezoneTestId() != otherData.getTimezoneTestId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeInt(this.timezoneTestId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.timezoneTestId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TimezoneTestData timezoneTestData = (TimezoneTestData) newData;
+		this.setDatabaseDate(timezoneTestData.getDatabaseDate());
+		this.setDatabaseTimestamp(timezoneTestData.getDatabaseTimestamp());
+		this.setInsensitiveDate(timezoneTestData.getInsensitiveDate());
+		this.setInsensitiveTimestamp(timezoneTestData.getInsensitiveTimestamp());
+		this.setUtcDate(timezoneTestData.getUtcDate());
+		this.setUtcTimestamp(timezoneTestData.getUtcTimestamp());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TimezoneTestData other = (TimezoneTestData) newData;
+		if (!isDatabaseDateNull() ? !getDatabaseDate().equals(other.getDatabaseDate()) : !other.isDatabaseDateNull())
+		{
+			return true;
+		}
+
+		if (!isDatabaseTimestampNull() ? !getDatabaseTimestamp().equals(other.getDatabaseTimestamp()) : !other.isDatabaseTimestampNull())
+		{
+			return true;
+		}
+
+		if (!isInsensitiveDateNull() ? !getInsensitiveDate().equals(other.getInsensitiveDate()) : !other.isInsensitiveDateNull())
+		{
+			return true;
+		}
+
+		if (!isInsensitiveTimestampNull() ? !getInsensitiveTimestamp().equals(other.getInsensitiveTimestamp()) : !other.isInsensitiveTimestampNull())
+		{
+			return true;
+		}
+
+		if (!isUtcDateNull() ? !getUtcDate().equals(other.getUtcDate()) : !other.isUtcDateNull())
+		{
+			return true;
+		}
+
+		if (!isUtcTimestampNull() ? !getUtcTimestamp().equals(other.getUtcTimestamp()) : !other.isUtcTimestampNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TimezoneTestData copy = new TimezoneTestData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TimezoneTestData copy = new TimezoneTestData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "timezoneTestId: "+(""+getTimezoneTestId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TimezoneTestData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TimezoneTestFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TimezoneTestData";
+	}
+}
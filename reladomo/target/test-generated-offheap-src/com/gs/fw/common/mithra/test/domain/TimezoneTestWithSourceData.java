@@ -0,0 +1,382 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TimezoneTestWithSourceData
+implements MithraDataObject
+{
+	private Timestamp databaseDate;
+	private String deskId;
+	private Timestamp insensitiveDate;
+	private int timezoneTestId;
+	private Timestamp utcDate;
+	public boolean isDatabaseDateNull()
+	{
+		return this.getDatabaseDate() == null;
+	}
+
+	public boolean isDeskIdNull()
+	{
+		return this.getDeskId() == null;
+	}
+
+	public boolean isInsensitiveDateNull()
+	{
+		return this.getInsensitiveDate() == null;
+	}
+
+	public boolean isTimezoneTestIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUtcDateNull()
+	{
+		return this.getUtcDate() == null;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimestamp(out, this.databaseDate);
+		out.writeObject(this.deskId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.insensitiveDate);
+		out.writeInt(this.timezoneTestId);
+		MithraTimestamp.writeTimestamp(out, this.utcDate);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public Timestamp getDatabaseDate()
+	{
+		return this.databaseDate;
+	}
+
+	public long zGetDatabaseDateAsLong()
+	{
+		if (databaseDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return databaseDate.getTime();
+	}
+
+	public void setDatabaseDate(Timestamp value)
+	{
+		this.databaseDate = TimestampPool.getInstance().getOrAddToCache(value, TimezoneTestWithSourceFinder.isFullCache(), TimezoneTestWithSourceFinder.isOffHeap());
+	}
+
+	public void setDatabaseDateNull()
+	{
+		this.setDatabaseDate(null);
+	}
+
+	public String getDeskId()
+	{
+		return this.deskId;
+	}
+
+	public int zGetDeskIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(deskId);
+	}
+
+	public void setDeskId(String value)
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache(value, TimezoneTestWithSourceFinder.isFullCache());
+	}
+
+	public void setDeskIdNull()
+	{
+		this.setDeskId(null);
+	}
+
+	public Timestamp getInsensitiveDate()
+	{
+		return this.insensitiveDate;
+	}
+
+	public long zGetInsensitiveDateAsLong()
+	{
+		if (insensitiveDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return insensitiveDate.getTime();
+	}
+
+	public void setInsensitiveDate(Timestamp value)
+	{
+		this.insensitiveDate = TimestampPool.getInstance().getOrAddToCache(value, TimezoneTestWithSourceFinder.isFullCache(), TimezoneTestWithSourceFinder.isOffHeap());
+	}
+
+	public void setInsensitiveDateNull()
+	{
+		this.setInsensitiveDate(null);
+	}
+
+	public int getTimezoneTestId()
+	{
+		return this.timezoneTestId;
+	}
+
+	public void setTimezoneTestId(int value)
+	{
+		this.timezoneTestId = value;
+	}
+
+	public void setTimezoneTestIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public Timestamp getUtcDate()
+	{
+		return this.utcDate;
+	}
+
+	public long zGetUtcDateAsLong()
+	{
+		if (utcDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return utcDate.getTime();
+	}
+
+	public void setUtcDate(Timestamp value)
+	{
+		this.utcDate = TimestampPool.getInstance().getOrAddToCache(value, TimezoneTestWithSourceFinder.isFullCache(), TimezoneTestWithSourceFinder.isOffHeap());
+	}
+
+	public void setUtcDateNull()
+	{
+		this.setUtcDate(null);
+	}
+
+	protected void copyInto(TimezoneTestWithSourceData copy, boolean withRelationships)
+	{
+		copy.databaseDate = this.databaseDate;
+		copy.deskId = this.deskId;
+		copy.insensitiveDate = this.insensitiveDate;
+		copy.timezoneTestId = this.timezoneTestId;
+		copy.utcDate = this.utcDate;
+		if (withRelationships)
+		{
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.databaseDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TimezoneTestWithSourceFinder.isFullCache(), TimezoneTestWithSourceFinder.isOffHeap());
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TimezoneTestWithSourceFinder.isFullCache());
+		this.insensitiveDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), TimezoneTestWithSourceFinder.isFullCache(), TimezoneTestWithSourceFinder.isOffHeap());
+		this.timezoneTestId = in.readInt();
+		this.utcDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimestamp(in), TimezoneTestWithSourceFinder.isFullCache(), TimezoneTestWithSourceFinder.isOffHeap());
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final TimezoneTestWithSourceData otherData = (TimezoneTestWithSourceData) other;
+		if (!isDeskIdNull() ? !getDeskId().equals(otherData.getDeskId()) : !otherData.isDeskIdNull())
+		{
+			return false;
+		}
+
+		if (getTimezoneTestId() != otherData.getTimezoneTestId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.deskId);
+		out.writeInt(this.timezoneTestId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.deskId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), TimezoneTestWithSourceFinder.isFullCache());
+		this.timezoneTestId = in.readInt();
+	}
+
+	public void clearRelationships()
+	{
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final TimezoneTestWithSourceData timezoneTestWithSourceData = (TimezoneTestWithSourceData) newData;
+		this.setDatabaseDate(timezoneTestWithSourceData.getDatabaseDate());
+		this.setDeskId(timezoneTestWithSourceData.getDeskId());
+		this.setInsensitiveDate(timezoneTestWithSourceData.getInsensitiveDate());
+		this.setUtcDate(timezoneTestWithSourceData.getUtcDate());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final TimezoneTestWithSourceData other = (TimezoneTestWithSourceData) newData;
+		if (!isDatabaseDateNull() ? !getDatabaseDate().equals(other.getDatabaseDate()) : !other.isDatabaseDateNull())
+		{
+			return true;
+		}
+
+		if (!isDeskIdNull() ? !getDeskId().equals(other.getDeskId()) : !other.isDeskIdNull())
+		{
+			return true;
+		}
+
+		if (!isInsensitiveDateNull() ? !getInsensitiveDate().equals(other.getInsensitiveDate()) : !other.isInsensitiveDateNull())
+		{
+			return true;
+		}
+
+		if (!isUtcDateNull() ? !getUtcDate().equals(other.getUtcDate()) : !other.isUtcDateNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		TimezoneTestWithSourceData copy = new TimezoneTestWithSourceData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		TimezoneTestWithSourceData copy = new TimezoneTestWithSourceData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "deskId: "+"'"+getDeskId()+"'"+ " / ";
+		result += "timezoneTestId: "+(""+getTimezoneTestId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.TimezoneTestWithSourceData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return TimezoneTestWithSourceFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return TimezoneTestWithSourceFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.TimezoneTestWithSourceData";
+	}
+}
@@ -0,0 +1,1450 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TinyBalanceNullFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(null, true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.NullDataTimestamp.getInstance(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TinyBalanceNull";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TinyBalanceNull";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TinyBalanceNull");
+	private static final TinyBalanceNullSingleFinder<TinyBalanceNull, Object, TinyBalanceNull> finder = new TinyBalanceNullSingleFinder<TinyBalanceNull, Object, TinyBalanceNull>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TinyBalanceNullFinder.TinyBalanceNullRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("balanceId");
+		finderMethodMap.addNormalAttributeName("quantity");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("testRelationship");
+		finderMethodMap.addRelationshipName("nonAuditedBalanceByInterest");
+		finderMethodMap.addRelationshipName("auditedBalanceByInterest");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[20];
+			result[0] = TinyBalanceNullFinder.balanceId().constructEqualityMapper(ParaBalanceFinder.balanceId());
+			result[1] = ParaBalanceFinder.balanceId().constructEqualityMapper(TinyBalanceNullFinder.balanceId());
+			result[2] = TinyBalanceNullFinder.acmapCode().constructEqualityMapper(ParaBalanceFinder.acmapCode());
+			result[3] = ParaBalanceFinder.acmapCode().constructEqualityMapper(TinyBalanceNullFinder.acmapCode());
+			result[4] = TinyBalanceNullFinder.businessDate().constructEqualityMapper(ParaBalanceFinder.businessDate());
+			result[5] = ParaBalanceFinder.businessDate().constructEqualityMapper(TinyBalanceNullFinder.businessDate());
+			result[6] = TinyBalanceNullFinder.processingDate().constructEqualityMapper(ParaBalanceFinder.processingDate());
+			result[7] = ParaBalanceFinder.processingDate().constructEqualityMapper(TinyBalanceNullFinder.processingDate());
+			result[8] = TinyBalanceNullFinder.quantity().constructEqualityMapper(NonAuditedBalanceFinder.interest());
+			result[9] = NonAuditedBalanceFinder.interest().constructEqualityMapper(TinyBalanceNullFinder.quantity());
+			result[10] = TinyBalanceNullFinder.acmapCode().constructEqualityMapper(NonAuditedBalanceFinder.acmapCode());
+			result[11] = NonAuditedBalanceFinder.acmapCode().constructEqualityMapper(TinyBalanceNullFinder.acmapCode());
+			result[12] = TinyBalanceNullFinder.businessDate().constructEqualityMapper(NonAuditedBalanceFinder.businessDate());
+			result[13] = NonAuditedBalanceFinder.businessDate().constructEqualityMapper(TinyBalanceNullFinder.businessDate());
+			result[14] = TinyBalanceNullFinder.quantity().constructEqualityMapper(AuditOnlyBalanceFinder.interest());
+			result[15] = AuditOnlyBalanceFinder.interest().constructEqualityMapper(TinyBalanceNullFinder.quantity());
+			result[16] = TinyBalanceNullFinder.acmapCode().constructEqualityMapper(AuditOnlyBalanceFinder.acmapCode());
+			result[17] = AuditOnlyBalanceFinder.acmapCode().constructEqualityMapper(TinyBalanceNullFinder.acmapCode());
+			result[18] = TinyBalanceNullFinder.processingDate().constructEqualityMapper(AuditOnlyBalanceFinder.processingDate());
+			result[19] = AuditOnlyBalanceFinder.processingDate().constructEqualityMapper(TinyBalanceNullFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return TinyBalanceNullFinder.zSourceAttributeType;
+	}
+
+	public static TinyBalanceNull findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TinyBalanceNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TinyBalanceNullList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TinyBalanceNullList) finder.findMany(operation);
+	}
+
+	public static TinyBalanceNullList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TinyBalanceNullList) finder.findManyBypassCache(operation);
+	}
+
+	private static TinyBalanceNull findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TinyBalanceNull) FinderUtils.findOne(found);
+	}
+
+	public static TinyBalanceNull findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(balanceId, acmapCode, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TinyBalanceNullData _castedTargetData = (TinyBalanceNullData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getBalanceId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return TinyBalanceNullFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && TinyBalanceNullFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static TinyBalanceNull zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TinyBalanceNull) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TinyBalanceNullRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TinyBalanceNull, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return TinyBalanceNullFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> balanceId;
+		private DoubleAttribute<ParentOwnerType> quantity;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private TinyBalanceNullTestRelationshipFinderSubclass<ParentOwnerType> testRelationship;
+		private TinyBalanceNullNonAuditedBalanceByInterestFinderSubclass<ParentOwnerType> nonAuditedBalanceByInterest;
+		private TinyBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType> auditedBalanceByInterest;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TinyBalanceNullRelatedFinder()
+		{
+			super();
+		}
+
+		public TinyBalanceNullRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TinyBalanceNullFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TinyBalanceNullFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TinyBalanceNullFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TinyBalanceNullFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[6];
+			attributes[0] = this.balanceId();
+			attributes[1] = this.quantity();
+			attributes[2] = this.businessDateFrom();
+			attributes[3] = this.businessDateTo();
+			attributes[4] = this.processingDateFrom();
+			attributes[5] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.testRelationship());
+				relatedFinders.add(this.nonAuditedBalanceByInterest());
+				relatedFinders.add(this.auditedBalanceByInterest());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TinyBalanceNull findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TinyBalanceNullFinder.findOne(operation, false);
+		}
+
+		public TinyBalanceNull findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TinyBalanceNullFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TinyBalanceNull> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TinyBalanceNullList((Operation) operation);
+		}
+
+		public MithraList<? extends TinyBalanceNull> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TinyBalanceNullList result = (TinyBalanceNullList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TinyBalanceNull> constructEmptyList()
+		{
+			return new TinyBalanceNullList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1595298128;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return TinyBalanceNullFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> balanceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.balanceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("BALANCE_ID","","balanceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(TinyBalanceNullFinder.balanceId(), this.mapper, this.zGetValueSelector());
+				this.balanceId = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> quantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.quantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_QUANTITY_M","","quantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,48,4,0, false) :
+					new MappedDoubleAttribute(TinyBalanceNullFinder.quantity(), this.mapper, this.zGetValueSelector());
+				this.quantity = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TinyBalanceNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceNullFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TinyBalanceNullFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceNullFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TinyBalanceNullFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceNullFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,true,this,null,true,false,40,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TinyBalanceNullFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TinyBalanceNullFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,8,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(TinyBalanceNullFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.businessDateFrom(),this.businessDateTo(),TinyBalanceNullFinder.businessDateInfinity,false,false,TinyBalanceNullFinder.businessDateDefault,false,true) :
+					new MappedAsOfAttribute(TinyBalanceNullFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttributeInfiniteNull.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TinyBalanceNullFinder.processingDateInfinity,false,true,TinyBalanceNullFinder.processingDateDefault,true,true) :
+					new MappedAsOfAttribute(TinyBalanceNullFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public ParaBalanceFinder.ParaBalanceSingleFinderForRelatedClasses<ParentOwnerType, ParaBalance, TinyBalanceNull> testRelationship()
+		{
+			TinyBalanceNullTestRelationshipFinderSubclass<ParentOwnerType> result = this.testRelationship;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TinyBalanceNullFinder.zGetTinyBalanceNullTestRelationshipReverseMapper());
+				newMapper.setToMany(false);
+				result = new TinyBalanceNullTestRelationshipFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.testRelationship = result;
+			}
+
+			return result;
+		}
+
+		public NonAuditedBalanceFinder.NonAuditedBalanceCollectionFinderForRelatedClasses<ParentOwnerType, NonAuditedBalanceList, TinyBalanceNull> nonAuditedBalanceByInterest()
+		{
+			TinyBalanceNullNonAuditedBalanceByInterestFinderSubclass<ParentOwnerType> result = this.nonAuditedBalanceByInterest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TinyBalanceNullFinder.zGetTinyBalanceNullNonAuditedBalanceByInterestReverseMapper());
+				newMapper.setToMany(true);
+				result = new TinyBalanceNullNonAuditedBalanceByInterestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.nonAuditedBalanceByInterest = result;
+			}
+
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, TinyBalanceNull> auditedBalanceByInterest()
+		{
+			TinyBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType> result = this.auditedBalanceByInterest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(TinyBalanceNullFinder.zGetTinyBalanceNullAuditedBalanceByInterestReverseMapper());
+				newMapper.setToMany(true);
+				result = new TinyBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.auditedBalanceByInterest = result;
+			}
+
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, TinyBalanceNull> auditedBalanceByInterestForQuantity(double quantity)
+		{
+			TinyBalanceNullAuditedBalanceByInterestForQuantityFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(TinyBalanceNullFinder.zGetTinyBalanceNullAuditedBalanceByInterestForQuantityReverseMapper(quantity));
+			newMapper.setToMany(true);
+			result = new TinyBalanceNullAuditedBalanceByInterestForQuantityFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,quantity);
+			return result;
+		}
+
+		public AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, TinyBalanceNull> chainedFiltered(double quantity)
+		{
+			TinyBalanceNullChainedFilteredFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(TinyBalanceNullFinder.zGetTinyBalanceNullChainedFilteredReverseMapper(quantity));
+			newMapper.setToMany(true);
+			result = new TinyBalanceNullChainedFilteredFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,quantity);
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return TinyBalanceNullFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TinyBalanceNullFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TinyBalanceNullFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TinyBalanceNullCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TinyBalanceNullRelatedFinder<ParentOwnerType, ReturnType, TinyBalanceNullList, OwnerType>
+	{
+		public TinyBalanceNullCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TinyBalanceNullCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TinyBalanceNullCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TinyBalanceNullCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TinyBalanceNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TinyBalanceNullRelatedFinder<ParentOwnerType, ReturnType, TinyBalanceNullList, OwnerType>
+	implements ToOneFinder
+	{
+		public TinyBalanceNullSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TinyBalanceNullSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TinyBalanceNull other)
+		{
+			return this.balanceId().eq(other.getBalanceId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TinyBalanceNull findByPrimaryKey(int balanceId, String acmapCode, Timestamp businessDate, Timestamp processingDate)
+		{
+			TinyBalanceNull _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(balanceId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TinyBalanceNull) _related;
+			if (_related == null)
+			{
+				_op = this.balanceId().eq(balanceId).and(this.acmapCode().eq(acmapCode)).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TinyBalanceNullSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TinyBalanceNullSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TinyBalanceNullSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper testRelationshipReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullTestRelationshipReverseMapper()
+	{
+		if (testRelationshipReverseMapper == null)
+		{
+			testRelationshipReverseMapper = zConstructTinyBalanceNullTestRelationshipReverseMapper();
+		}
+
+		return testRelationshipReverseMapper;
+	}
+
+	private static Mapper testRelationshipMapper = null;
+	public static Mapper zGetTinyBalanceNullTestRelationshipMapper()
+	{
+		if (testRelationshipMapper == null)
+		{
+			testRelationshipMapper = zConstructTinyBalanceNullTestRelationshipMapper();
+		}
+
+		return testRelationshipMapper;
+	}
+
+	private static Mapper testRelationshipPureReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullTestRelationshipPureReverseMapper()
+	{
+		if (testRelationshipPureReverseMapper == null)
+		{
+			testRelationshipPureReverseMapper = zConstructTinyBalanceNullTestRelationshipPureReverseMapper();
+		}
+
+		return testRelationshipPureReverseMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullTestRelationshipPureReverseMapper()
+	{
+		InternalList testRelationshipMapperMapperList = new InternalList(4);
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(0));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(2));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(4));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(6));
+		Mapper testRelationshipMapper = new MultiEqualityMapper(testRelationshipMapperMapperList);
+		testRelationshipMapper.setName("testRelationship");
+		return testRelationshipMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullTestRelationshipReverseMapper()
+	{
+		InternalList testRelationshipMapperMapperList = new InternalList(4);
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(0));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(2));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(4));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(6));
+		Mapper testRelationshipMapper = new MultiEqualityMapper(testRelationshipMapperMapperList);
+		testRelationshipMapper.setName("testRelationship");
+		return testRelationshipMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullTestRelationshipMapper()
+	{
+		InternalList testRelationshipMapperMapperList = new InternalList(4);
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(1));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(3));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(5));
+		testRelationshipMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(7));
+		Mapper testRelationshipMapper = new MultiEqualityMapper(testRelationshipMapperMapperList);
+		testRelationshipMapper.setName("testRelationship_Reverse");
+		return testRelationshipMapper;
+	}
+
+	private static Mapper nonAuditedBalanceByInterestReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullNonAuditedBalanceByInterestReverseMapper()
+	{
+		if (nonAuditedBalanceByInterestReverseMapper == null)
+		{
+			nonAuditedBalanceByInterestReverseMapper = zConstructTinyBalanceNullNonAuditedBalanceByInterestReverseMapper();
+		}
+
+		return nonAuditedBalanceByInterestReverseMapper;
+	}
+
+	private static Mapper nonAuditedBalanceByInterestMapper = null;
+	public static Mapper zGetTinyBalanceNullNonAuditedBalanceByInterestMapper()
+	{
+		if (nonAuditedBalanceByInterestMapper == null)
+		{
+			nonAuditedBalanceByInterestMapper = zConstructTinyBalanceNullNonAuditedBalanceByInterestMapper();
+		}
+
+		return nonAuditedBalanceByInterestMapper;
+	}
+
+	private static Mapper nonAuditedBalanceByInterestPureReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullNonAuditedBalanceByInterestPureReverseMapper()
+	{
+		if (nonAuditedBalanceByInterestPureReverseMapper == null)
+		{
+			nonAuditedBalanceByInterestPureReverseMapper = zConstructTinyBalanceNullNonAuditedBalanceByInterestPureReverseMapper();
+		}
+
+		return nonAuditedBalanceByInterestPureReverseMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullNonAuditedBalanceByInterestPureReverseMapper()
+	{
+		InternalList nonAuditedBalanceByInterestMapperMapperList = new InternalList(3);
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(8));
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(10));
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(12));
+		Mapper nonAuditedBalanceByInterestMapper = new MultiEqualityMapper(nonAuditedBalanceByInterestMapperMapperList);
+		nonAuditedBalanceByInterestMapper.setName("nonAuditedBalanceByInterest");
+		return nonAuditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullNonAuditedBalanceByInterestReverseMapper()
+	{
+		InternalList nonAuditedBalanceByInterestMapperMapperList = new InternalList(3);
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(8));
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(10));
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(12));
+		Mapper nonAuditedBalanceByInterestMapper = new MultiEqualityMapper(nonAuditedBalanceByInterestMapperMapperList);
+		nonAuditedBalanceByInterestMapper.setName("nonAuditedBalanceByInterest");
+		return nonAuditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullNonAuditedBalanceByInterestMapper()
+	{
+		InternalList nonAuditedBalanceByInterestMapperMapperList = new InternalList(3);
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(9));
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(11));
+		nonAuditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(13));
+		Mapper nonAuditedBalanceByInterestMapper = new MultiEqualityMapper(nonAuditedBalanceByInterestMapperMapperList);
+		nonAuditedBalanceByInterestMapper.setName("nonAuditedBalanceByInterest_Reverse");
+		return nonAuditedBalanceByInterestMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullAuditedBalanceByInterestReverseMapper()
+	{
+		if (auditedBalanceByInterestReverseMapper == null)
+		{
+			auditedBalanceByInterestReverseMapper = zConstructTinyBalanceNullAuditedBalanceByInterestReverseMapper();
+		}
+
+		return auditedBalanceByInterestReverseMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestMapper = null;
+	public static Mapper zGetTinyBalanceNullAuditedBalanceByInterestMapper()
+	{
+		if (auditedBalanceByInterestMapper == null)
+		{
+			auditedBalanceByInterestMapper = zConstructTinyBalanceNullAuditedBalanceByInterestMapper();
+		}
+
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper auditedBalanceByInterestPureReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullAuditedBalanceByInterestPureReverseMapper()
+	{
+		if (auditedBalanceByInterestPureReverseMapper == null)
+		{
+			auditedBalanceByInterestPureReverseMapper = zConstructTinyBalanceNullAuditedBalanceByInterestPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestPureReverseMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullAuditedBalanceByInterestPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(14));
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(16));
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(18));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullAuditedBalanceByInterestReverseMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(14));
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(16));
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(18));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest");
+		return auditedBalanceByInterestMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullAuditedBalanceByInterestMapper()
+	{
+		InternalList auditedBalanceByInterestMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(15));
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(17));
+		auditedBalanceByInterestMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(19));
+		Mapper auditedBalanceByInterestMapper = new MultiEqualityMapper(auditedBalanceByInterestMapperMapperList);
+		auditedBalanceByInterestMapper.setName("auditedBalanceByInterest_Reverse");
+		return auditedBalanceByInterestMapper;
+	}
+
+	public static Mapper zGetTinyBalanceNullAuditedBalanceByInterestForQuantityReverseMapper(double quantity)
+	{
+		return zConstructTinyBalanceNullAuditedBalanceByInterestForQuantityReverseMapper(quantity);
+	}
+
+	public static Mapper zGetTinyBalanceNullAuditedBalanceByInterestForQuantityMapper(double quantity)
+	{
+		return zConstructTinyBalanceNullAuditedBalanceByInterestForQuantityMapper(quantity);
+	}
+
+	private static Mapper auditedBalanceByInterestForQuantityPureReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullAuditedBalanceByInterestForQuantityPureReverseMapper()
+	{
+		if (auditedBalanceByInterestForQuantityPureReverseMapper == null)
+		{
+			auditedBalanceByInterestForQuantityPureReverseMapper = zConstructTinyBalanceNullAuditedBalanceByInterestForQuantityPureReverseMapper();
+		}
+
+		return auditedBalanceByInterestForQuantityPureReverseMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullAuditedBalanceByInterestForQuantityPureReverseMapper()
+	{
+		InternalList auditedBalanceByInterestForQuantityMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(14));
+		auditedBalanceByInterestForQuantityMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(16));
+		auditedBalanceByInterestForQuantityMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(18));
+		Mapper auditedBalanceByInterestForQuantityMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityMapperMapperList);
+		auditedBalanceByInterestForQuantityMapper.setName("auditedBalanceByInterestForQuantity");
+		return auditedBalanceByInterestForQuantityMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullAuditedBalanceByInterestForQuantityReverseMapper(double quantity)
+	{
+		InternalList auditedBalanceByInterestForQuantityMapperInnerMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(14));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(16));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(18));
+		Mapper auditedBalanceByInterestForQuantityMapperInnerMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityMapperInnerMapperMapperList);
+		Mapper auditedBalanceByInterestForQuantityMapper = new FilteredMapper(auditedBalanceByInterestForQuantityMapperInnerMapper, null, AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+		auditedBalanceByInterestForQuantityMapper.setName("auditedBalanceByInterestForQuantity");
+		return auditedBalanceByInterestForQuantityMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullAuditedBalanceByInterestForQuantityMapper(double quantity)
+	{
+		InternalList auditedBalanceByInterestForQuantityMapperInnerMapperMapperList = new InternalList(3);
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(15));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(17));
+		auditedBalanceByInterestForQuantityMapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(19));
+		Mapper auditedBalanceByInterestForQuantityMapperInnerMapper = new MultiEqualityMapper(auditedBalanceByInterestForQuantityMapperInnerMapperMapperList);
+		Mapper auditedBalanceByInterestForQuantityMapper = new FilteredMapper(auditedBalanceByInterestForQuantityMapperInnerMapper, AuditOnlyBalanceFinder.quantity().greaterThan(quantity), null);
+		auditedBalanceByInterestForQuantityMapper.setName("auditedBalanceByInterestForQuantity_Reverse");
+		return auditedBalanceByInterestForQuantityMapper;
+	}
+
+	public static Mapper zGetTinyBalanceNullChainedFilteredReverseMapper(double quantity)
+	{
+		return zConstructTinyBalanceNullChainedFilteredReverseMapper(quantity);
+	}
+
+	public static Mapper zGetTinyBalanceNullChainedFilteredMapper(double quantity)
+	{
+		return zConstructTinyBalanceNullChainedFilteredMapper(quantity);
+	}
+
+	private static Mapper chainedFilteredPureReverseMapper = null;
+	public static Mapper zGetTinyBalanceNullChainedFilteredPureReverseMapper()
+	{
+		if (chainedFilteredPureReverseMapper == null)
+		{
+			chainedFilteredPureReverseMapper = zConstructTinyBalanceNullChainedFilteredPureReverseMapper();
+		}
+
+		return chainedFilteredPureReverseMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullChainedFilteredPureReverseMapper()
+	{
+		InternalList chainedFilteredc0MapperMapperList = new InternalList(3);
+		chainedFilteredc0MapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(8));
+		chainedFilteredc0MapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(10));
+		chainedFilteredc0MapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(12));
+		Mapper chainedFilteredc0Mapper = new MultiEqualityMapper(chainedFilteredc0MapperMapperList);
+		InternalList chainedFilteredc1MapperMapperList = new InternalList(2);
+		chainedFilteredc1MapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(4));
+		chainedFilteredc1MapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(2));
+		Mapper chainedFilteredc1Mapper = new MultiEqualityMapper(chainedFilteredc1MapperMapperList);
+		Mapper chainedFilteredMapper = new ChainedMapper(chainedFilteredc0Mapper,chainedFilteredc1Mapper);
+		chainedFilteredMapper.setName("chainedFiltered");
+		return chainedFilteredMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullChainedFilteredReverseMapper(double quantity)
+	{
+		InternalList chainedFilteredc0MapperInnerMapperMapperList = new InternalList(3);
+		chainedFilteredc0MapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(8));
+		chainedFilteredc0MapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(10));
+		chainedFilteredc0MapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(12));
+		Mapper chainedFilteredc0MapperInnerMapper = new MultiEqualityMapper(chainedFilteredc0MapperInnerMapperMapperList);
+		Mapper chainedFilteredc0Mapper = new FilteredMapper(chainedFilteredc0MapperInnerMapper, null, NonAuditedBalanceFinder.quantity().greaterThan(quantity));
+		InternalList chainedFilteredc1MapperInnerMapperMapperList = new InternalList(2);
+		chainedFilteredc1MapperInnerMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(4));
+		chainedFilteredc1MapperInnerMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(2));
+		Mapper chainedFilteredc1MapperInnerMapper = new MultiEqualityMapper(chainedFilteredc1MapperInnerMapperMapperList);
+		Mapper chainedFilteredc1Mapper = new FilteredMapper(chainedFilteredc1MapperInnerMapper, null, AuditOnlyBalanceFinder.quantity().greaterThan(quantity));
+		Mapper chainedFilteredMapper = new ChainedMapper(chainedFilteredc0Mapper,chainedFilteredc1Mapper);
+		chainedFilteredMapper.setName("chainedFiltered");
+		return chainedFilteredMapper;
+	}
+
+	private static Mapper zConstructTinyBalanceNullChainedFilteredMapper(double quantity)
+	{
+		InternalList chainedFilteredc0MapperInnerMapperMapperList = new InternalList(2);
+		chainedFilteredc0MapperInnerMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(5));
+		chainedFilteredc0MapperInnerMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(3));
+		Mapper chainedFilteredc0MapperInnerMapper = new MultiEqualityMapper(chainedFilteredc0MapperInnerMapperMapperList);
+		Mapper chainedFilteredc0Mapper = new FilteredMapper(chainedFilteredc0MapperInnerMapper, AuditOnlyBalanceFinder.quantity().greaterThan(quantity), null);
+		InternalList chainedFilteredc1MapperInnerMapperMapperList = new InternalList(3);
+		chainedFilteredc1MapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(9));
+		chainedFilteredc1MapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(11));
+		chainedFilteredc1MapperInnerMapperMapperList.add(TinyBalanceNullFinder.zGetConstantJoin(13));
+		Mapper chainedFilteredc1MapperInnerMapper = new MultiEqualityMapper(chainedFilteredc1MapperInnerMapperMapperList);
+		Mapper chainedFilteredc1Mapper = new FilteredMapper(chainedFilteredc1MapperInnerMapper, NonAuditedBalanceFinder.quantity().greaterThan(quantity), null);
+		Mapper chainedFilteredMapper = new ChainedMapper(chainedFilteredc0Mapper,chainedFilteredc1Mapper);
+		chainedFilteredMapper.setName("chainedFiltered_Reverse");
+		return chainedFilteredMapper;
+	}
+
+	public static Mapper zGetChainedFilteredMapperFragment(double quantity)
+	{
+		return zConstructChainedFilteredMapperFragment(quantity);
+	}
+
+	private static Mapper zConstructChainedFilteredMapperFragment(double quantity)
+	{
+		InternalList chainedFilteredMapperInnerMapperMapperList = new InternalList(2);
+		chainedFilteredMapperInnerMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(5));
+		chainedFilteredMapperInnerMapperMapperList.add(NonAuditedBalanceFinder.zGetConstantJoin(3));
+		Mapper chainedFilteredMapperInnerMapper = new MultiEqualityMapper(chainedFilteredMapperInnerMapperMapperList);
+		return new FilteredMapper(chainedFilteredMapperInnerMapper, AuditOnlyBalanceFinder.quantity().greaterThan(quantity), null);
+	}
+
+	/** maps to TINY_BALANCE_NULL.BALANCE_ID **/
+	public static IntegerAttribute<TinyBalanceNull> balanceId()
+	{
+		return finder.balanceId();
+	}
+
+	/** maps to TINY_BALANCE_NULL.POS_QUANTITY_M **/
+	public static DoubleAttribute<TinyBalanceNull> quantity()
+	{
+		return finder.quantity();
+	}
+
+	/** maps to TINY_BALANCE_NULL.FROM_Z **/
+	public static TimestampAttribute<TinyBalanceNull> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to TINY_BALANCE_NULL.THRU_Z **/
+	public static TimestampAttribute<TinyBalanceNull> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to TINY_BALANCE_NULL.IN_Z **/
+	public static TimestampAttribute<TinyBalanceNull> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TINY_BALANCE_NULL.OUT_Z **/
+	public static TimestampAttribute<TinyBalanceNull> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static StringAttribute<TinyBalanceNull> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static AsOfAttribute<TinyBalanceNull> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<TinyBalanceNull> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static ParaBalanceFinder.ParaBalanceSingleFinderForRelatedClasses<TinyBalanceNull, ParaBalance, TinyBalanceNull> testRelationship()
+	{
+		return finder.testRelationship();
+	}
+
+	public static class TinyBalanceNullTestRelationshipFinderSubclass<ParentOwnerType> extends ParaBalanceFinder.ParaBalanceSingleFinderForRelatedClasses<ParentOwnerType, ParaBalance, TinyBalanceNull>
+	{
+		public TinyBalanceNullTestRelationshipFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "testRelationship";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ParaBalanceFinder.balanceId(),
+				ParaBalanceFinder.acmapCode(),
+				ParaBalanceFinder.businessDate(),
+				ParaBalanceFinder.processingDate()).withExtractors(
+				TinyBalanceNullFinder.balanceId(),
+				TinyBalanceNullFinder.acmapCode(),
+				TinyBalanceNullFinder.businessDate(),
+				TinyBalanceNullFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TinyBalanceNullTestRelationshipFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParaBalance plainValueOf(TinyBalanceNull _obj)
+		{
+			return _obj.getTestRelationship();
+		}
+
+		protected ParaBalanceList plainListValueOf(Object _obj)
+		{
+			return ((TinyBalanceNullList)_obj).getTestRelationships();
+		}
+	}
+
+	public static NonAuditedBalanceFinder.NonAuditedBalanceCollectionFinderForRelatedClasses<TinyBalanceNull, NonAuditedBalanceList, TinyBalanceNull> nonAuditedBalanceByInterest()
+	{
+		return finder.nonAuditedBalanceByInterest();
+	}
+
+	public static class TinyBalanceNullNonAuditedBalanceByInterestFinderSubclass<ParentOwnerType> extends NonAuditedBalanceFinder.NonAuditedBalanceCollectionFinderForRelatedClasses<ParentOwnerType, NonAuditedBalanceList, TinyBalanceNull>
+	{
+		public TinyBalanceNullNonAuditedBalanceByInterestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "nonAuditedBalanceByInterest";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				NonAuditedBalanceFinder.acmapCode(),
+				NonAuditedBalanceFinder.interest(),
+				NonAuditedBalanceFinder.businessDate()).withExtractors(
+				TinyBalanceNullFinder.acmapCode(),
+				TinyBalanceNullFinder.quantity(),
+				TinyBalanceNullFinder.businessDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TinyBalanceNullNonAuditedBalanceByInterestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected NonAuditedBalanceList plainValueOf(TinyBalanceNull _obj)
+		{
+			return _obj.getNonAuditedBalanceByInterest();
+		}
+
+		protected NonAuditedBalanceList plainListValueOf(Object _obj)
+		{
+			return ((TinyBalanceNullList)_obj).getNonAuditedBalanceByInterest();
+		}
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<TinyBalanceNull, AuditOnlyBalanceList, TinyBalanceNull> auditedBalanceByInterest()
+	{
+		return finder.auditedBalanceByInterest();
+	}
+
+	public static class TinyBalanceNullAuditedBalanceByInterestFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, TinyBalanceNull>
+	{
+		public TinyBalanceNullAuditedBalanceByInterestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterest";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				AuditOnlyBalanceFinder.acmapCode(),
+				AuditOnlyBalanceFinder.interest(),
+				AuditOnlyBalanceFinder.processingDate()).withExtractors(
+				TinyBalanceNullFinder.acmapCode(),
+				TinyBalanceNullFinder.quantity(),
+				TinyBalanceNullFinder.processingDate()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TinyBalanceNullAuditedBalanceByInterestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(TinyBalanceNull _obj)
+		{
+			return _obj.getAuditedBalanceByInterest();
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((TinyBalanceNullList)_obj).getAuditedBalanceByInterest();
+		}
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<TinyBalanceNull, AuditOnlyBalanceList, TinyBalanceNull> auditedBalanceByInterestForQuantity(double quantity)
+	{
+		return finder.auditedBalanceByInterestForQuantity(quantity);
+	}
+
+	public static class TinyBalanceNullAuditedBalanceByInterestForQuantityFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, TinyBalanceNull>
+	{
+		private double quantity;
+		public TinyBalanceNullAuditedBalanceByInterestForQuantityFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double quantity)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.quantity = quantity;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "auditedBalanceByInterestForQuantity";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TinyBalanceNullAuditedBalanceByInterestForQuantityFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.quantity
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(TinyBalanceNull _obj)
+		{
+			return _obj.getAuditedBalanceByInterestForQuantity(quantity);
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((TinyBalanceNullList)_obj).getAuditedBalanceByInterestForQuantity(quantity);
+		}
+	}
+
+	public static AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<TinyBalanceNull, AuditOnlyBalanceList, TinyBalanceNull> chainedFiltered(double quantity)
+	{
+		return finder.chainedFiltered(quantity);
+	}
+
+	public static class TinyBalanceNullChainedFilteredFinderSubclass<ParentOwnerType> extends AuditOnlyBalanceFinder.AuditOnlyBalanceCollectionFinderForRelatedClasses<ParentOwnerType, AuditOnlyBalanceList, TinyBalanceNull>
+	{
+		private double quantity;
+		public TinyBalanceNullChainedFilteredFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , double quantity)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.quantity = quantity;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "chainedFiltered";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new TinyBalanceNullChainedFilteredFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.quantity
+			);
+		}
+
+		protected AuditOnlyBalanceList plainValueOf(TinyBalanceNull _obj)
+		{
+			return _obj.getChainedFiltered(quantity);
+		}
+
+		protected AuditOnlyBalanceList plainListValueOf(Object _obj)
+		{
+			return ((TinyBalanceNullList)_obj).getChainedFiltered(quantity);
+		}
+	}
+
+	public static Operation eq(TinyBalanceNull other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(balanceId());
+	}
+
+	public static TinyBalanceNullSingleFinder<TinyBalanceNull, Object, TinyBalanceNull> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			balanceId()
+			, balanceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			acmapCode()
+			, quantity()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[1];
+		result[0] = quantity();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TinyBalanceNull");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
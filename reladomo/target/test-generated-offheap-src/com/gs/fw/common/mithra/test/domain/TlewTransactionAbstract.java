@@ -0,0 +1,1145 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedreadonly/Abstract.jsp
+public abstract class TlewTransactionAbstract
+implements MithraDatedObject, Serializable
+{
+	protected TlewTransactionData currentData;
+	protected byte dataVersion;
+	protected byte persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	protected Timestamp processingDate;
+	public TlewTransactionAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TlewTransactionFinder.isFullCache());
+	}
+
+	protected Object zGetLock()
+	{
+		return this;
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == DatedPersistenceState.DELETED || this.persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL && zIsDataDeleted();
+	}
+
+	public void setFromTlewTransactionData( TlewTransactionData data )
+	{
+		synchronized(this.zGetLock())
+		{
+			this.currentData = data;
+			this.dataVersion = data.zGetDataVersion();
+			this.persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	protected void zSetFromTlewTransactionData( TlewTransactionData data )
+	{
+		this.setFromTlewTransactionData(data);
+	}
+
+	public void zSetCurrentData(MithraDataObject data)
+	{
+		this.setFromTlewTransactionData( (TlewTransactionData) data );
+	}
+
+	public TlewTransaction getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.currentData.copy();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TlewTransactionAbstract copy = (TlewTransactionAbstract)
+		TlewTransactionFinder.getMithraObjectPortal().getMithraDatedObjectFactory().createObject(newData, asOfAttributes);
+		copy.persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (TlewTransaction)copy;
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		return this.currentData;
+	}
+
+	public MithraDataObject zGetCurrentOrTransactionalData()
+	{
+		MithraDataObject result = this.currentData;
+		if (result == null)
+		{
+			synchronized(this.zGetLock())
+			{
+				result = this.currentData;
+			}
+		}
+
+		return result;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public void zSetData(MithraDataObject data, Object optional)
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TlewTransactionData data = (TlewTransactionData) TlewTransactionFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TlewTransaction has been deleted: " + this.zGetCurrentData().zGetPrintablePrimaryKey());
+		}
+
+		return data;
+	}
+
+	public Cache zGetCache()
+	{
+		return TlewTransactionFinder.getMithraObjectPortal().getCache();
+	}
+
+	public TlewTransactionData zGetCurrentDataWithCheck()
+	{
+		TlewTransactionData current = currentData;
+		if (current == null && persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			return zGetOrInitializeInMemoryData();
+		}
+
+		if (persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			boolean refresh = current.zGetDataVersion() < 0;
+			if (!refresh && dataVersion != current.zGetDataVersion())
+			{
+				refresh = zCheckForRefresh(current);
+			}
+
+			if (refresh)
+			{
+				current = zRefreshData(current);
+			}
+		}
+
+		return current;
+	}
+
+	private TlewTransactionData zRefreshData(TlewTransactionData current)
+	{
+		TlewTransactionData newData = (TlewTransactionData) this.zGetCache().refreshOutsideTransaction(this, current);
+		if (newData == null)
+		{
+			throw new MithraDeletedException("TlewTransaction has been deleted: " + current.zGetPrintablePrimaryKey());
+		}
+
+		synchronized(this.zGetLock())
+		{
+			if (currentData == current)
+			{
+				currentData = newData;
+			}
+		}
+
+		return newData;
+	}
+
+	private boolean zCheckForRefresh(TlewTransactionData current)
+	{
+		boolean refresh = !TlewTransactionFinder.processingDate().dataMatches(current, processingDate);
+		return refresh;
+	}
+
+	private TlewTransactionData zGetOrInitializeInMemoryData()
+	{
+		TlewTransactionData current;
+		synchronized(this.zGetLock())
+		{
+			if (currentData == null)
+			{
+				currentData = new TlewTransactionData.TlewTransactionDataOnHeap();
+			}
+
+			current = this.currentData;
+		}
+
+		return current;
+	}
+
+	private boolean zIsDataDeleted()
+	{
+		TlewTransactionData current = currentData;
+		boolean refresh = current.zGetDataVersion() < 0;
+		if (!refresh && dataVersion != current.zGetDataVersion())
+		{
+			refresh = zCheckForRefresh(current);
+		}
+
+		if (refresh)
+		{
+			TlewTransactionData newData = (TlewTransactionData) this.zGetCache().refreshOutsideTransaction(this, current);
+			if (newData == null) return true;
+		}
+
+		return false;
+	}
+
+	public boolean isAcctIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isAcctIdNull();
+	}
+
+	public int getAcctId()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isAcctIdNull())
+		MithraNullPrimitiveException.throwNew("acctId", data);
+		return data.getAcctId();
+	}
+
+	public void setAcctId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setAcctId(newValue);
+	}
+
+	public boolean isBaseXRateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBaseXRateNull();
+	}
+
+	public double getBaseXRate()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isBaseXRateNull())
+		MithraNullPrimitiveException.throwNew("baseXRate", data);
+		return data.getBaseXRate();
+	}
+
+	public void setBaseXRate(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBaseXRate(newValue);
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBusinessDateNull();
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getBusinessDate();
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBusinessDate(newValue);
+	}
+
+	public boolean isBuySellCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isBuySellCodeNull();
+	}
+
+	public String getBuySellCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getBuySellCode();
+	}
+
+	public void setBuySellCode(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBuySellCode(newValue);
+	}
+
+	public boolean isCalculatorNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCalculatorNameNull();
+	}
+
+	public String getCalculatorName()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getCalculatorName();
+	}
+
+	public void setCalculatorName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCalculatorName(newValue);
+	}
+
+	public boolean isCashSettleCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCashSettleCodeNull();
+	}
+
+	public String getCashSettleCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getCashSettleCode();
+	}
+
+	public void setCashSettleCode(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCashSettleCode(newValue);
+	}
+
+	public boolean isChangeCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isChangeCodeNull();
+	}
+
+	public short getChangeCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isChangeCodeNull())
+		MithraNullPrimitiveException.throwNew("changeCode", data);
+		return data.getChangeCode();
+	}
+
+	public void setChangeCode(short newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setChangeCode(newValue);
+	}
+
+	public boolean isCreateCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCreateCodeNull();
+	}
+
+	public int getCreateCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isCreateCodeNull())
+		MithraNullPrimitiveException.throwNew("createCode", data);
+		return data.getCreateCode();
+	}
+
+	public void setCreateCode(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCreateCode(newValue);
+	}
+
+	public boolean isCrossAcctIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCrossAcctIdNull();
+	}
+
+	public int getCrossAcctId()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isCrossAcctIdNull())
+		MithraNullPrimitiveException.throwNew("crossAcctId", data);
+		return data.getCrossAcctId();
+	}
+
+	public void setCrossAcctId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCrossAcctId(newValue);
+	}
+
+	public boolean isCurrentNotionalValueNull()
+	{
+		return this.zGetCurrentDataWithCheck().isCurrentNotionalValueNull();
+	}
+
+	public double getCurrentNotionalValue()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isCurrentNotionalValueNull())
+		MithraNullPrimitiveException.throwNew("currentNotionalValue", data);
+		return data.getCurrentNotionalValue();
+	}
+
+	public void setCurrentNotionalValue(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCurrentNotionalValue(newValue);
+	}
+
+	public boolean isDebtClassNull()
+	{
+		return this.zGetCurrentDataWithCheck().isDebtClassNull();
+	}
+
+	public String getDebtClass()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getDebtClass();
+	}
+
+	public void setDebtClass(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setDebtClass(newValue);
+	}
+
+	public boolean isExternalTradeIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isExternalTradeIdNull();
+	}
+
+	public String getExternalTradeId()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getExternalTradeId();
+	}
+
+	public void setExternalTradeId(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setExternalTradeId(newValue);
+	}
+
+	public boolean isFactorFeeAdjustmentNull()
+	{
+		return this.zGetCurrentDataWithCheck().isFactorFeeAdjustmentNull();
+	}
+
+	public double getFactorFeeAdjustment()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isFactorFeeAdjustmentNull())
+		MithraNullPrimitiveException.throwNew("factorFeeAdjustment", data);
+		return data.getFactorFeeAdjustment();
+	}
+
+	public void setFactorFeeAdjustment(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFactorFeeAdjustment(newValue);
+	}
+
+	public boolean isFirmRiskAcctNameNull()
+	{
+		return this.zGetCurrentDataWithCheck().isFirmRiskAcctNameNull();
+	}
+
+	public String getFirmRiskAcctName()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getFirmRiskAcctName();
+	}
+
+	public void setFirmRiskAcctName(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFirmRiskAcctName(newValue);
+	}
+
+	public boolean isInitialNotionalNull()
+	{
+		return this.zGetCurrentDataWithCheck().isInitialNotionalNull();
+	}
+
+	public double getInitialNotional()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isInitialNotionalNull())
+		MithraNullPrimitiveException.throwNew("initialNotional", data);
+		return data.getInitialNotional();
+	}
+
+	public void setInitialNotional(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setInitialNotional(newValue);
+	}
+
+	public boolean isInstrumentIdNull()
+	{
+		return this.zGetCurrentDataWithCheck().isInstrumentIdNull();
+	}
+
+	public int getInstrumentId()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isInstrumentIdNull())
+		MithraNullPrimitiveException.throwNew("instrumentId", data);
+		return data.getInstrumentId();
+	}
+
+	public void setInstrumentId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setInstrumentId(newValue);
+	}
+
+	public boolean isInterCompanyTypeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isInterCompanyTypeNull();
+	}
+
+	public int getInterCompanyType()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isInterCompanyTypeNull())
+		MithraNullPrimitiveException.throwNew("interCompanyType", data);
+		return data.getInterCompanyType();
+	}
+
+	public void setInterCompanyType(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setInterCompanyType(newValue);
+	}
+
+	public boolean isIntercompanyRecFlagNull()
+	{
+		return this.zGetCurrentDataWithCheck().isIntercompanyRecFlagNull();
+	}
+
+	public String getIntercompanyRecFlag()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getIntercompanyRecFlag();
+	}
+
+	public void setIntercompanyRecFlag(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setIntercompanyRecFlag(newValue);
+	}
+
+	public boolean isNativeCostNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNativeCostNull();
+	}
+
+	public double getNativeCost()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isNativeCostNull())
+		MithraNullPrimitiveException.throwNew("nativeCost", data);
+		return data.getNativeCost();
+	}
+
+	public void setNativeCost(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNativeCost(newValue);
+	}
+
+	public boolean isNativeCurrencyCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNativeCurrencyCodeNull();
+	}
+
+	public String getNativeCurrencyCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getNativeCurrencyCode();
+	}
+
+	public void setNativeCurrencyCode(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNativeCurrencyCode(newValue);
+	}
+
+	public boolean isNativeMarketValueNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNativeMarketValueNull();
+	}
+
+	public double getNativeMarketValue()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isNativeMarketValueNull())
+		MithraNullPrimitiveException.throwNew("nativeMarketValue", data);
+		return data.getNativeMarketValue();
+	}
+
+	public void setNativeMarketValue(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNativeMarketValue(newValue);
+	}
+
+	public boolean isNotionalValueNull()
+	{
+		return this.zGetCurrentDataWithCheck().isNotionalValueNull();
+	}
+
+	public double getNotionalValue()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isNotionalValueNull())
+		MithraNullPrimitiveException.throwNew("notionalValue", data);
+		return data.getNotionalValue();
+	}
+
+	public void setNotionalValue(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNotionalValue(newValue);
+	}
+
+	public boolean isPayCurrencyCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isPayCurrencyCodeNull();
+	}
+
+	public String getPayCurrencyCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getPayCurrencyCode();
+	}
+
+	public void setPayCurrencyCode(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setPayCurrencyCode(newValue);
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateFromNull();
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateFrom(newValue);
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProcessingDateToNull();
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProcessingDateTo(newValue);
+	}
+
+	public boolean isProductGlobalClassNull()
+	{
+		return this.zGetCurrentDataWithCheck().isProductGlobalClassNull();
+	}
+
+	public long getProductGlobalClass()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isProductGlobalClassNull())
+		MithraNullPrimitiveException.throwNew("productGlobalClass", data);
+		return data.getProductGlobalClass();
+	}
+
+	public void setProductGlobalClass(long newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProductGlobalClass(newValue);
+	}
+
+	public boolean isReceiveCurrencyCodeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isReceiveCurrencyCodeNull();
+	}
+
+	public String getReceiveCurrencyCode()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getReceiveCurrencyCode();
+	}
+
+	public void setReceiveCurrencyCode(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setReceiveCurrencyCode(newValue);
+	}
+
+	public boolean isReplacementCostNull()
+	{
+		return this.zGetCurrentDataWithCheck().isReplacementCostNull();
+	}
+
+	public double getReplacementCost()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isReplacementCostNull())
+		MithraNullPrimitiveException.throwNew("replacementCost", data);
+		return data.getReplacementCost();
+	}
+
+	public void setReplacementCost(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setReplacementCost(newValue);
+	}
+
+	public boolean isSettleDateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isSettleDateNull();
+	}
+
+	public Timestamp getSettleDate()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getSettleDate();
+	}
+
+	public void setSettleDate(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setSettleDate(newValue);
+	}
+
+	public boolean isSettlementTypeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isSettlementTypeNull();
+	}
+
+	public int getSettlementType()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isSettlementTypeNull())
+		MithraNullPrimitiveException.throwNew("settlementType", data);
+		return data.getSettlementType();
+	}
+
+	public void setSettlementType(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setSettlementType(newValue);
+	}
+
+	public boolean isTaxWithholdingAdjustmentNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTaxWithholdingAdjustmentNull();
+	}
+
+	public double getTaxWithholdingAdjustment()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isTaxWithholdingAdjustmentNull())
+		MithraNullPrimitiveException.throwNew("taxWithholdingAdjustment", data);
+		return data.getTaxWithholdingAdjustment();
+	}
+
+	public void setTaxWithholdingAdjustment(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTaxWithholdingAdjustment(newValue);
+	}
+
+	public boolean isTradeDateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTradeDateNull();
+	}
+
+	public Timestamp getTradeDate()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getTradeDate();
+	}
+
+	public void setTradeDate(Timestamp newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTradeDate(newValue);
+	}
+
+	public boolean isTradeQtyNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTradeQtyNull();
+	}
+
+	public double getTradeQty()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isTradeQtyNull())
+		MithraNullPrimitiveException.throwNew("tradeQty", data);
+		return data.getTradeQty();
+	}
+
+	public void setTradeQty(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTradeQty(newValue);
+	}
+
+	public boolean isTradeSubTypeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTradeSubTypeNull();
+	}
+
+	public String getTradeSubType()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getTradeSubType();
+	}
+
+	public void setTradeSubType(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTradeSubType(newValue);
+	}
+
+	public boolean isTradeTypeNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTradeTypeNull();
+	}
+
+	public String getTradeType()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getTradeType();
+	}
+
+	public void setTradeType(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTradeType(newValue);
+	}
+
+	public boolean isTranIdNull()
+	{
+		return this.currentData.isTranIdNull();
+	}
+
+	public int getTranId()
+	{
+		TlewTransactionData data = this.currentData;
+		return data.getTranId();
+	}
+
+	public void setTranId(int newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTranId(newValue);
+	}
+
+	public boolean isTranRefNull()
+	{
+		return this.zGetCurrentDataWithCheck().isTranRefNull();
+	}
+
+	public String getTranRef()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		return data.getTranRef();
+	}
+
+	public void setTranRef(String newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTranRef(newValue);
+	}
+
+	public boolean isUsdXRateNull()
+	{
+		return this.zGetCurrentDataWithCheck().isUsdXRateNull();
+	}
+
+	public double getUsdXRate()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isUsdXRateNull())
+		MithraNullPrimitiveException.throwNew("usdXRate", data);
+		return data.getUsdXRate();
+	}
+
+	public void setUsdXRate(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setUsdXRate(newValue);
+	}
+
+	public boolean isValuationAdjustmentNull()
+	{
+		return this.zGetCurrentDataWithCheck().isValuationAdjustmentNull();
+	}
+
+	public double getValuationAdjustment()
+	{
+		TlewTransactionData data = this.zGetCurrentDataWithCheck();
+		if (data.isValuationAdjustmentNull())
+		MithraNullPrimitiveException.throwNew("valuationAdjustment", data);
+		return data.getValuationAdjustment();
+	}
+
+	public void setValuationAdjustment(double newValue)
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setValuationAdjustment(newValue);
+	}
+
+	protected void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void setCreateCodeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCreateCodeNull();
+	}
+
+	public void setChangeCodeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setChangeCodeNull();
+	}
+
+	public void setAcctIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setAcctIdNull();
+	}
+
+	public void setCrossAcctIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCrossAcctIdNull();
+	}
+
+	public void setInstrumentIdNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setInstrumentIdNull();
+	}
+
+	public void setProductGlobalClassNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setProductGlobalClassNull();
+	}
+
+	public void setSettlementTypeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setSettlementTypeNull();
+	}
+
+	public void setInterCompanyTypeNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setInterCompanyTypeNull();
+	}
+
+	public void setUsdXRateNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setUsdXRateNull();
+	}
+
+	public void setBaseXRateNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setBaseXRateNull();
+	}
+
+	public void setTradeQtyNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTradeQtyNull();
+	}
+
+	public void setNativeCostNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNativeCostNull();
+	}
+
+	public void setReplacementCostNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setReplacementCostNull();
+	}
+
+	public void setNotionalValueNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNotionalValueNull();
+	}
+
+	public void setNativeMarketValueNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setNativeMarketValueNull();
+	}
+
+	public void setInitialNotionalNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setInitialNotionalNull();
+	}
+
+	public void setFactorFeeAdjustmentNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setFactorFeeAdjustmentNull();
+	}
+
+	public void setTaxWithholdingAdjustmentNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setTaxWithholdingAdjustmentNull();
+	}
+
+	public void setValuationAdjustmentNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setValuationAdjustmentNull();
+	}
+
+	public void setCurrentNotionalValueNull()
+	{
+		this.ensureSetAttributeAllowed();
+		this.zGetCurrentDataWithCheck().setCurrentNotionalValueNull();
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TlewTransactionData data = ((TlewTransactionData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TlewTransactionData data = ((TlewTransactionData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out)
+	throws IOException
+	{
+		boolean writeFullData = (persistenceState == DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL);
+		MithraDataObject dataToWrite = this.zGetCurrentDataWithCheck();
+		out.writeBoolean(writeFullData);
+		if (writeFullData)
+		{
+			dataToWrite.zSerializeFullData(out);
+			dataToWrite.zSerializeRelationships(out);
+		}
+		else
+		{
+			dataToWrite.zSerializePrimaryKey(out);
+		}
+
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	private void readObject(java.io.ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		boolean fullData = in.readBoolean();
+		this.currentData = new TlewTransactionData.TlewTransactionDataOnHeap();
+		if (fullData)
+		{
+			currentData.zDeserializeFullData(in);
+			persistenceState = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			this.currentData.zDeserializeRelationships(in);
+		}
+		else
+		{
+			currentData.zDeserializePrimaryKey(in);
+			persistenceState = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+
+		processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TlewTransactionFinder.isFullCache());
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (persistenceState == DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = TlewTransactionFinder.processingDate().eq(processingDate);
+			op = op.and(TlewTransactionFinder.tranId().eq(currentData.getTranId()));
+			return TlewTransactionFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TlewTransactionData localData = (TlewTransactionData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TlewTransactionFinder.getMithraObjectPortal();
+	}
+}
@@ -0,0 +1,581 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TlewTransactionDatabaseObjectAbstract extends MithraAbstractDatedDatabaseObject implements MithraDatabaseObject, MithraDatedObjectFactory
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "CREATE_C,CHANGE_C,BUS_DATE_Z,TRAN_TYP_C,TRAN_SUB_TYP_C,TRAN_REF_N,FIRM_ACCT_I,CP_ACCT_I,INSTRUMENT_I,PROD_GLOBAL_CLASS_I,TRADE_DATE_Z,SETTLE_DATE_Z,STD_SETTLE_TYP_C,INTER_COMPANY_C,NATIVE_CCY_C,BUY_SELL_C,USD_XRATE_M,BASE_XRATE_M,TRAN_QTY_Q,RECEIVE_CCY_C,PAY_CCY_C,NET_COST_NATIVE_M,FAIR_VALUE_NATIVE_M,NOTIONAL_NATIVE_M,MKTVL_NATIVE_M,EXTERNAL_TRAN_I,CASH_SETTLE_C,CALCULATOR_N,INITIAL_NOTIONAL_M,FIRM_RISK_ACCT_N,INTERCO_N,FACTOR_FEE_ADJ_M,TAX_WITHHOLD_ADJ_M,VALUATION_ADJ_M,CURRENT_NOTIONAL_M,DEBT_CLASS_N,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.CREATE_C,t0.CHANGE_C,t0.BUS_DATE_Z,t0.TRAN_TYP_C,t0.TRAN_SUB_TYP_C,t0.TRAN_REF_N,t0.FIRM_ACCT_I,t0.CP_ACCT_I,t0.INSTRUMENT_I,t0.PROD_GLOBAL_CLASS_I,t0.TRADE_DATE_Z,t0.SETTLE_DATE_Z,t0.STD_SETTLE_TYP_C,t0.INTER_COMPANY_C,t0.NATIVE_CCY_C,t0.BUY_SELL_C,t0.USD_XRATE_M,t0.BASE_XRATE_M,t0.TRAN_QTY_Q,t0.RECEIVE_CCY_C,t0.PAY_CCY_C,t0.NET_COST_NATIVE_M,t0.FAIR_VALUE_NATIVE_M,t0.NOTIONAL_NATIVE_M,t0.MKTVL_NATIVE_M,t0.EXTERNAL_TRAN_I,t0.CASH_SETTLE_C,t0.CALCULATOR_N,t0.INITIAL_NOTIONAL_M,t0.FIRM_RISK_ACCT_N,t0.INTERCO_N,t0.FACTOR_FEE_ADJ_M,t0.TAX_WITHHOLD_ADJ_M,t0.VALUATION_ADJ_M,t0.CURRENT_NOTIONAL_M,t0.DEBT_CLASS_N,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.TRAN_I = ?";
+	private static final String PK_INDEX_COLS = "TRAN_I";
+	protected TlewTransactionDatabaseObjectAbstract()
+	{
+		super("TlewTransaction", "com.gs.fw.common.mithra.test.domain.TlewTransactionFinder",
+			39, 39,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TlewTransactionFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TlewTransactionFinder.getFinderInstance();
+	}
+
+	public static TlewTransactionData allocateOnHeapData()
+	{
+		return new TlewTransactionData.TlewTransactionDataOnHeap();
+	}
+
+	public static TlewTransactionData allocateOffHeapData()
+	{
+		return new TlewTransactionData.TlewTransactionDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TlewTransactionData.TlewTransactionDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TlewTransactionFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TlewTransactionData data = new TlewTransactionData.TlewTransactionDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[1];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TlewTransactionFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TlewTransactionData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.TlewTransaction", TlewTransactionFinder.getFinderInstance());
+			TlewTransactionData.TlewTransactionDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(TlewTransactionFinder.getPrimaryKeyAttributes(), TlewTransactionFinder.getAsOfAttributes(), this, TlewTransactionFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(TlewTransactionFinder.getPrimaryKeyAttributes(), TlewTransactionFinder.getAsOfAttributes(), this, TlewTransactionFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialDatedCache(TlewTransactionFinder.getPrimaryKeyAttributes(), TlewTransactionFinder.getAsOfAttributes(), this, TlewTransactionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TlewTransactionFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TlewTransactionFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTlewTransactionData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTlewTransactionData(1, (TlewTransactionData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTlewTransactionPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTlewTransactionTableName();
+	}
+
+	public String getTlewTransactionTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TlewTransactionData data = (TlewTransactionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTranId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TlewTransactionFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "TRAN_I = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.TRAN_I,t0.CREATE_C,t0.CHANGE_C,t0.BUS_DATE_Z,t0.TRAN_TYP_C,t0.TRAN_SUB_TYP_C,t0.TRAN_REF_N,t0.FIRM_ACCT_I,t0.CP_ACCT_I,t0.INSTRUMENT_I,t0.PROD_GLOBAL_CLASS_I,t0.TRADE_DATE_Z,t0.SETTLE_DATE_Z,t0.STD_SETTLE_TYP_C,t0.INTER_COMPANY_C,t0.NATIVE_CCY_C,t0.BUY_SELL_C,t0.USD_XRATE_M,t0.BASE_XRATE_M,t0.TRAN_QTY_Q,t0.RECEIVE_CCY_C,t0.PAY_CCY_C,t0.NET_COST_NATIVE_M,t0.FAIR_VALUE_NATIVE_M,t0.NOTIONAL_NATIVE_M,t0.MKTVL_NATIVE_M,t0.EXTERNAL_TRAN_I,t0.CASH_SETTLE_C,t0.CALCULATOR_N,t0.INITIAL_NOTIONAL_M,t0.FIRM_RISK_ACCT_N,t0.INTERCO_N,t0.FACTOR_FEE_ADJ_M,t0.TAX_WITHHOLD_ADJ_M,t0.VALUATION_ADJ_M,t0.CURRENT_NOTIONAL_M,t0.DEBT_CLASS_N,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*39);
+		result.append(databaseAlias).append(".").append("TRAN_I");
+		result.append(",").append(databaseAlias).append(".").append("CREATE_C");
+		result.append(",").append(databaseAlias).append(".").append("CHANGE_C");
+		result.append(",").append(databaseAlias).append(".").append("BUS_DATE_Z");
+		result.append(",").append(databaseAlias).append(".").append("TRAN_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("TRAN_SUB_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("TRAN_REF_N");
+		result.append(",").append(databaseAlias).append(".").append("FIRM_ACCT_I");
+		result.append(",").append(databaseAlias).append(".").append("CP_ACCT_I");
+		result.append(",").append(databaseAlias).append(".").append("INSTRUMENT_I");
+		result.append(",").append(databaseAlias).append(".").append("PROD_GLOBAL_CLASS_I");
+		result.append(",").append(databaseAlias).append(".").append("TRADE_DATE_Z");
+		result.append(",").append(databaseAlias).append(".").append("SETTLE_DATE_Z");
+		result.append(",").append(databaseAlias).append(".").append("STD_SETTLE_TYP_C");
+		result.append(",").append(databaseAlias).append(".").append("INTER_COMPANY_C");
+		result.append(",").append(databaseAlias).append(".").append("NATIVE_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("BUY_SELL_C");
+		result.append(",").append(databaseAlias).append(".").append("USD_XRATE_M");
+		result.append(",").append(databaseAlias).append(".").append("BASE_XRATE_M");
+		result.append(",").append(databaseAlias).append(".").append("TRAN_QTY_Q");
+		result.append(",").append(databaseAlias).append(".").append("RECEIVE_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("PAY_CCY_C");
+		result.append(",").append(databaseAlias).append(".").append("NET_COST_NATIVE_M");
+		result.append(",").append(databaseAlias).append(".").append("FAIR_VALUE_NATIVE_M");
+		result.append(",").append(databaseAlias).append(".").append("NOTIONAL_NATIVE_M");
+		result.append(",").append(databaseAlias).append(".").append("MKTVL_NATIVE_M");
+		result.append(",").append(databaseAlias).append(".").append("EXTERNAL_TRAN_I");
+		result.append(",").append(databaseAlias).append(".").append("CASH_SETTLE_C");
+		result.append(",").append(databaseAlias).append(".").append("CALCULATOR_N");
+		result.append(",").append(databaseAlias).append(".").append("INITIAL_NOTIONAL_M");
+		result.append(",").append(databaseAlias).append(".").append("FIRM_RISK_ACCT_N");
+		result.append(",").append(databaseAlias).append(".").append("INTERCO_N");
+		result.append(",").append(databaseAlias).append(".").append("FACTOR_FEE_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("TAX_WITHHOLD_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("VALUATION_ADJ_M");
+		result.append(",").append(databaseAlias).append(".").append("CURRENT_NOTIONAL_M");
+		result.append(",").append(databaseAlias).append(".").append("DEBT_CLASS_N");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TlewTransactionData inflateTlewTransactionData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TlewTransactionData data = inflateTlewTransactionPkData(rs, dt);
+		inflateNonPkTlewTransactionData(2, data, rs, dt);
+		return data;
+	}
+
+	public TlewTransactionData inflateTlewTransactionPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TlewTransactionData _data = new TlewTransactionData.TlewTransactionDataOnHeap();
+		int _pos = 1;
+		_data.setTranId(_rs.getInt(_pos++));
+		checkNullPrimitive(_rs, _data, "tranId");
+		return _data;
+	}
+
+	public void inflateNonPkTlewTransactionData(int _pos, TlewTransactionData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TlewTransactionData _data = _datax;
+			_data.setCreateCode(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCreateCodeNull();
+			}
+
+			_data.setChangeCode(_rs.getShort(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setChangeCodeNull();
+			}
+
+			Timestamp businessDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDate(businessDatetimestampValue);
+			_data.setTradeType(trimString(_rs.getString(_pos++)));
+			_data.setTradeSubType(trimString(_rs.getString(_pos++)));
+			_data.setTranRef(trimString(_rs.getString(_pos++)));
+			_data.setAcctId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setAcctIdNull();
+			}
+
+			_data.setCrossAcctId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCrossAcctIdNull();
+			}
+
+			_data.setInstrumentId(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInstrumentIdNull();
+			}
+
+			_data.setProductGlobalClass(_rs.getLong(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setProductGlobalClassNull();
+			}
+
+			Timestamp tradeDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setTradeDate(tradeDatetimestampValue);
+			Timestamp settleDatetimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setSettleDate(settleDatetimestampValue);
+			_data.setSettlementType(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setSettlementTypeNull();
+			}
+
+			_data.setInterCompanyType(_rs.getInt(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInterCompanyTypeNull();
+			}
+
+			_data.setNativeCurrencyCode(trimString(_rs.getString(_pos++)));
+			_data.setBuySellCode(trimString(_rs.getString(_pos++)));
+			_data.setUsdXRate(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setUsdXRateNull();
+			}
+
+			_data.setBaseXRate(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setBaseXRateNull();
+			}
+
+			_data.setTradeQty(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTradeQtyNull();
+			}
+
+			_data.setReceiveCurrencyCode(trimString(_rs.getString(_pos++)));
+			_data.setPayCurrencyCode(trimString(_rs.getString(_pos++)));
+			_data.setNativeCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNativeCostNull();
+			}
+
+			_data.setReplacementCost(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setReplacementCostNull();
+			}
+
+			_data.setNotionalValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNotionalValueNull();
+			}
+
+			_data.setNativeMarketValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setNativeMarketValueNull();
+			}
+
+			_data.setExternalTradeId(trimString(_rs.getString(_pos++)));
+			_data.setCashSettleCode(trimString(_rs.getString(_pos++)));
+			_data.setCalculatorName(trimString(_rs.getString(_pos++)));
+			_data.setInitialNotional(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setInitialNotionalNull();
+			}
+
+			_data.setFirmRiskAcctName(trimString(_rs.getString(_pos++)));
+			_data.setIntercompanyRecFlag(trimString(_rs.getString(_pos++)));
+			_data.setFactorFeeAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setFactorFeeAdjustmentNull();
+			}
+
+			_data.setTaxWithholdingAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setTaxWithholdingAdjustmentNull();
+			}
+
+			_data.setValuationAdjustment(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setValuationAdjustmentNull();
+			}
+
+			_data.setCurrentNotionalValue(_rs.getDouble(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setCurrentNotionalValueNull();
+			}
+
+			_data.setDebtClass(trimString(_rs.getString(_pos++)));
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TlewTransactionFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTlewTransactionTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TLEW_TRAN";
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[1];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TlewTransaction newObject = new TlewTransaction(asOfDates[0]
+		);
+		newObject.zSetFromTlewTransactionData((TlewTransactionData) data);
+		return newObject;
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TlewTransactionData data = (TlewTransactionData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setInt(pos++, data.getTranId());
+		return pos;
+	}
+}
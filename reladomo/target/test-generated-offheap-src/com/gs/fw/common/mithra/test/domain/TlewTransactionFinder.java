@@ -0,0 +1,1463 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TlewTransactionFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/TlewTransaction";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.TlewTransaction";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TlewTransaction");
+	private static final TlewTransactionSingleFinder<TlewTransaction, Object, TlewTransaction> finder = new TlewTransactionSingleFinder<TlewTransaction, Object, TlewTransaction>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TlewTransactionFinder.TlewTransactionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("createCode");
+		finderMethodMap.addNormalAttributeName("changeCode");
+		finderMethodMap.addNormalAttributeName("tranId");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("tradeType");
+		finderMethodMap.addNormalAttributeName("tradeSubType");
+		finderMethodMap.addNormalAttributeName("tranRef");
+		finderMethodMap.addNormalAttributeName("acctId");
+		finderMethodMap.addNormalAttributeName("crossAcctId");
+		finderMethodMap.addNormalAttributeName("instrumentId");
+		finderMethodMap.addNormalAttributeName("productGlobalClass");
+		finderMethodMap.addNormalAttributeName("tradeDate");
+		finderMethodMap.addNormalAttributeName("settleDate");
+		finderMethodMap.addNormalAttributeName("settlementType");
+		finderMethodMap.addNormalAttributeName("interCompanyType");
+		finderMethodMap.addNormalAttributeName("nativeCurrencyCode");
+		finderMethodMap.addNormalAttributeName("buySellCode");
+		finderMethodMap.addNormalAttributeName("usdXRate");
+		finderMethodMap.addNormalAttributeName("baseXRate");
+		finderMethodMap.addNormalAttributeName("tradeQty");
+		finderMethodMap.addNormalAttributeName("receiveCurrencyCode");
+		finderMethodMap.addNormalAttributeName("payCurrencyCode");
+		finderMethodMap.addNormalAttributeName("nativeCost");
+		finderMethodMap.addNormalAttributeName("replacementCost");
+		finderMethodMap.addNormalAttributeName("notionalValue");
+		finderMethodMap.addNormalAttributeName("nativeMarketValue");
+		finderMethodMap.addNormalAttributeName("externalTradeId");
+		finderMethodMap.addNormalAttributeName("cashSettleCode");
+		finderMethodMap.addNormalAttributeName("calculatorName");
+		finderMethodMap.addNormalAttributeName("initialNotional");
+		finderMethodMap.addNormalAttributeName("firmRiskAcctName");
+		finderMethodMap.addNormalAttributeName("intercompanyRecFlag");
+		finderMethodMap.addNormalAttributeName("factorFeeAdjustment");
+		finderMethodMap.addNormalAttributeName("taxWithholdingAdjustment");
+		finderMethodMap.addNormalAttributeName("valuationAdjustment");
+		finderMethodMap.addNormalAttributeName("currentNotionalValue");
+		finderMethodMap.addNormalAttributeName("debtClass");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TlewTransaction findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TlewTransaction findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TlewTransactionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TlewTransactionList) finder.findMany(operation);
+	}
+
+	public static TlewTransactionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TlewTransactionList) finder.findManyBypassCache(operation);
+	}
+
+	private static TlewTransaction findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TlewTransaction) FinderUtils.findOne(found);
+	}
+
+	public static TlewTransaction findByPrimaryKey(int tranId, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(tranId, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TlewTransactionData _castedTargetData = (TlewTransactionData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getTranId())
+			{
+				return TlewTransactionFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static TlewTransaction zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TlewTransaction) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TlewTransactionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TlewTransaction, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> createCode;
+		private ShortAttribute<ParentOwnerType> changeCode;
+		private IntegerAttribute<ParentOwnerType> tranId;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private StringAttribute<ParentOwnerType> tradeType;
+		private StringAttribute<ParentOwnerType> tradeSubType;
+		private StringAttribute<ParentOwnerType> tranRef;
+		private IntegerAttribute<ParentOwnerType> acctId;
+		private IntegerAttribute<ParentOwnerType> crossAcctId;
+		private IntegerAttribute<ParentOwnerType> instrumentId;
+		private LongAttribute<ParentOwnerType> productGlobalClass;
+		private TimestampAttribute<ParentOwnerType> tradeDate;
+		private TimestampAttribute<ParentOwnerType> settleDate;
+		private IntegerAttribute<ParentOwnerType> settlementType;
+		private IntegerAttribute<ParentOwnerType> interCompanyType;
+		private StringAttribute<ParentOwnerType> nativeCurrencyCode;
+		private StringAttribute<ParentOwnerType> buySellCode;
+		private DoubleAttribute<ParentOwnerType> usdXRate;
+		private DoubleAttribute<ParentOwnerType> baseXRate;
+		private DoubleAttribute<ParentOwnerType> tradeQty;
+		private StringAttribute<ParentOwnerType> receiveCurrencyCode;
+		private StringAttribute<ParentOwnerType> payCurrencyCode;
+		private DoubleAttribute<ParentOwnerType> nativeCost;
+		private DoubleAttribute<ParentOwnerType> replacementCost;
+		private DoubleAttribute<ParentOwnerType> notionalValue;
+		private DoubleAttribute<ParentOwnerType> nativeMarketValue;
+		private StringAttribute<ParentOwnerType> externalTradeId;
+		private StringAttribute<ParentOwnerType> cashSettleCode;
+		private StringAttribute<ParentOwnerType> calculatorName;
+		private DoubleAttribute<ParentOwnerType> initialNotional;
+		private StringAttribute<ParentOwnerType> firmRiskAcctName;
+		private StringAttribute<ParentOwnerType> intercompanyRecFlag;
+		private DoubleAttribute<ParentOwnerType> factorFeeAdjustment;
+		private DoubleAttribute<ParentOwnerType> taxWithholdingAdjustment;
+		private DoubleAttribute<ParentOwnerType> valuationAdjustment;
+		private DoubleAttribute<ParentOwnerType> currentNotionalValue;
+		private StringAttribute<ParentOwnerType> debtClass;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TlewTransactionRelatedFinder()
+		{
+			super();
+		}
+
+		public TlewTransactionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.TlewTransactionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TlewTransactionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TlewTransactionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TlewTransactionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[39];
+			attributes[0] = this.createCode();
+			attributes[1] = this.changeCode();
+			attributes[2] = this.tranId();
+			attributes[3] = this.businessDate();
+			attributes[4] = this.tradeType();
+			attributes[5] = this.tradeSubType();
+			attributes[6] = this.tranRef();
+			attributes[7] = this.acctId();
+			attributes[8] = this.crossAcctId();
+			attributes[9] = this.instrumentId();
+			attributes[10] = this.productGlobalClass();
+			attributes[11] = this.tradeDate();
+			attributes[12] = this.settleDate();
+			attributes[13] = this.settlementType();
+			attributes[14] = this.interCompanyType();
+			attributes[15] = this.nativeCurrencyCode();
+			attributes[16] = this.buySellCode();
+			attributes[17] = this.usdXRate();
+			attributes[18] = this.baseXRate();
+			attributes[19] = this.tradeQty();
+			attributes[20] = this.receiveCurrencyCode();
+			attributes[21] = this.payCurrencyCode();
+			attributes[22] = this.nativeCost();
+			attributes[23] = this.replacementCost();
+			attributes[24] = this.notionalValue();
+			attributes[25] = this.nativeMarketValue();
+			attributes[26] = this.externalTradeId();
+			attributes[27] = this.cashSettleCode();
+			attributes[28] = this.calculatorName();
+			attributes[29] = this.initialNotional();
+			attributes[30] = this.firmRiskAcctName();
+			attributes[31] = this.intercompanyRecFlag();
+			attributes[32] = this.factorFeeAdjustment();
+			attributes[33] = this.taxWithholdingAdjustment();
+			attributes[34] = this.valuationAdjustment();
+			attributes[35] = this.currentNotionalValue();
+			attributes[36] = this.debtClass();
+			attributes[37] = this.processingDateFrom();
+			attributes[38] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TlewTransaction findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TlewTransactionFinder.findOne(operation, false);
+		}
+
+		public TlewTransaction findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TlewTransactionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TlewTransaction> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TlewTransactionList((Operation) operation);
+		}
+
+		public MithraList<? extends TlewTransaction> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TlewTransactionList result = (TlewTransactionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TlewTransaction> constructEmptyList()
+		{
+			return new TlewTransactionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1256129064;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> createCode()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.createCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CREATE_C","","createCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,46,4,3,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.createCode(), this.mapper, this.zGetValueSelector());
+				this.createCode = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> changeCode()
+		{
+			ShortAttribute<ParentOwnerType> result = this.changeCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("CHANGE_C","","changeCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,44,4,2, false) :
+					new MappedShortAttribute(TlewTransactionFinder.changeCode(), this.mapper, this.zGetValueSelector());
+				this.changeCode = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> tranId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.tranId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("TRAN_I","","tranId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,8,-1,-1,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.tranId(), this.mapper, this.zGetValueSelector());
+				this.tranId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUS_DATE_Z","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTransactionFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tradeType()
+		{
+			StringAttribute<ParentOwnerType> result = this.tradeType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAN_TYP_C","","tradeType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,210,-1,-1,6,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.tradeType(), this.mapper, this.zGetValueSelector());
+				this.tradeType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tradeSubType()
+		{
+			StringAttribute<ParentOwnerType> result = this.tradeSubType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAN_SUB_TYP_C","","tradeSubType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,206,-1,-1,6,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.tradeSubType(), this.mapper, this.zGetValueSelector());
+				this.tradeSubType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> tranRef()
+		{
+			StringAttribute<ParentOwnerType> result = this.tranRef;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRAN_REF_N","","tranRef",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,214,-1,-1,35,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.tranRef(), this.mapper, this.zGetValueSelector());
+				this.tranRef = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> acctId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.acctId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("FIRM_ACCT_I","","acctId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,12,4,0,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.acctId(), this.mapper, this.zGetValueSelector());
+				this.acctId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> crossAcctId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.crossAcctId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("CP_ACCT_I","","crossAcctId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,50,4,4,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.crossAcctId(), this.mapper, this.zGetValueSelector());
+				this.crossAcctId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> instrumentId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.instrumentId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INSTRUMENT_I","","instrumentId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,90,4,8,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.instrumentId(), this.mapper, this.zGetValueSelector());
+				this.instrumentId = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> productGlobalClass()
+		{
+			LongAttribute<ParentOwnerType> result = this.productGlobalClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("PROD_GLOBAL_CLASS_I","","productGlobalClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,150,4,13,false, false) :
+					new MappedLongAttribute(TlewTransactionFinder.productGlobalClass(), this.mapper, this.zGetValueSelector());
+				this.productGlobalClass = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> tradeDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.tradeDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("TRADE_DATE_Z","","tradeDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,190,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTransactionFinder.tradeDate(), this.mapper, this.zGetValueSelector());
+				this.tradeDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> settleDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.settleDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("SETTLE_DATE_Z","","settleDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,170,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTransactionFinder.settleDate(), this.mapper, this.zGetValueSelector());
+				this.settleDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> settlementType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.settlementType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("STD_SETTLE_TYP_C","","settlementType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,178,4,15,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.settlementType(), this.mapper, this.zGetValueSelector());
+				this.settlementType = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> interCompanyType()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.interCompanyType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INTER_COMPANY_C","","interCompanyType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,94,4,9,false, false) :
+					new MappedIntegerAttribute(TlewTransactionFinder.interCompanyType(), this.mapper, this.zGetValueSelector());
+				this.interCompanyType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> nativeCurrencyCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.nativeCurrencyCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NATIVE_CCY_C","","nativeCurrencyCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,110,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.nativeCurrencyCode(), this.mapper, this.zGetValueSelector());
+				this.nativeCurrencyCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> buySellCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.buySellCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("BUY_SELL_C","","buySellCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,32,-1,-1,2,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.buySellCode(), this.mapper, this.zGetValueSelector());
+				this.buySellCode = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> usdXRate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.usdXRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("USD_XRATE_M","","usdXRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,218,4,18, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.usdXRate(), this.mapper, this.zGetValueSelector());
+				this.usdXRate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> baseXRate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.baseXRate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("BASE_XRATE_M","","baseXRate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,16,4,1, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.baseXRate(), this.mapper, this.zGetValueSelector());
+				this.baseXRate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> tradeQty()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.tradeQty;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TRAN_QTY_Q","","tradeQty",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,198,4,17, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.tradeQty(), this.mapper, this.zGetValueSelector());
+				this.tradeQty = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> receiveCurrencyCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.receiveCurrencyCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("RECEIVE_CCY_C","","receiveCurrencyCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,158,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.receiveCurrencyCode(), this.mapper, this.zGetValueSelector());
+				this.receiveCurrencyCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> payCurrencyCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.payCurrencyCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PAY_CCY_C","","payCurrencyCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,130,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.payCurrencyCode(), this.mapper, this.zGetValueSelector());
+				this.payCurrencyCode = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> nativeCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.nativeCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NET_COST_NATIVE_M","","nativeCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,102,4,10, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.nativeCost(), this.mapper, this.zGetValueSelector());
+				this.nativeCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> replacementCost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.replacementCost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FAIR_VALUE_NATIVE_M","","replacementCost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,162,4,14, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.replacementCost(), this.mapper, this.zGetValueSelector());
+				this.replacementCost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> notionalValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.notionalValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("NOTIONAL_NATIVE_M","","notionalValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,122,4,12, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.notionalValue(), this.mapper, this.zGetValueSelector());
+				this.notionalValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> nativeMarketValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.nativeMarketValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MKTVL_NATIVE_M","","nativeMarketValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,114,4,11, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.nativeMarketValue(), this.mapper, this.zGetValueSelector());
+				this.nativeMarketValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> externalTradeId()
+		{
+			StringAttribute<ParentOwnerType> result = this.externalTradeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("EXTERNAL_TRAN_I","","externalTradeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,66,-1,-1,30,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.externalTradeId(), this.mapper, this.zGetValueSelector());
+				this.externalTradeId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> cashSettleCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.cashSettleCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CASH_SETTLE_C","","cashSettleCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,40,-1,-1,2,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.cashSettleCode(), this.mapper, this.zGetValueSelector());
+				this.cashSettleCode = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> calculatorName()
+		{
+			StringAttribute<ParentOwnerType> result = this.calculatorName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CALCULATOR_N","","calculatorName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,36,-1,-1,32,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.calculatorName(), this.mapper, this.zGetValueSelector());
+				this.calculatorName = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> initialNotional()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.initialNotional;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("INITIAL_NOTIONAL_M","","initialNotional",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,82,4,7, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.initialNotional(), this.mapper, this.zGetValueSelector());
+				this.initialNotional = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> firmRiskAcctName()
+		{
+			StringAttribute<ParentOwnerType> result = this.firmRiskAcctName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("FIRM_RISK_ACCT_N","","firmRiskAcctName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,78,-1,-1,15,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.firmRiskAcctName(), this.mapper, this.zGetValueSelector());
+				this.firmRiskAcctName = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> intercompanyRecFlag()
+		{
+			StringAttribute<ParentOwnerType> result = this.intercompanyRecFlag;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("INTERCO_N","","intercompanyRecFlag",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,98,-1,-1,32,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.intercompanyRecFlag(), this.mapper, this.zGetValueSelector());
+				this.intercompanyRecFlag = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> factorFeeAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.factorFeeAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FACTOR_FEE_ADJ_M","","factorFeeAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,70,4,6, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.factorFeeAdjustment(), this.mapper, this.zGetValueSelector());
+				this.factorFeeAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> taxWithholdingAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.taxWithholdingAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TAX_WITHHOLD_ADJ_M","","taxWithholdingAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,182,4,16, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.taxWithholdingAdjustment(), this.mapper, this.zGetValueSelector());
+				this.taxWithholdingAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> valuationAdjustment()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.valuationAdjustment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("VALUATION_ADJ_M","","valuationAdjustment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,226,4,19, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.valuationAdjustment(), this.mapper, this.zGetValueSelector());
+				this.valuationAdjustment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> currentNotionalValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.currentNotionalValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CURRENT_NOTIONAL_M","","currentNotionalValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,54,4,5, false) :
+					new MappedDoubleAttribute(TlewTransactionFinder.currentNotionalValue(), this.mapper, this.zGetValueSelector());
+				this.currentNotionalValue = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> debtClass()
+		{
+			StringAttribute<ParentOwnerType> result = this.debtClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DEBT_CLASS_N","","debtClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,62,-1,-1,9,true, false) :
+					new MappedStringAttribute(TlewTransactionFinder.debtClass(), this.mapper, this.zGetValueSelector());
+				this.debtClass = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,134,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TlewTransactionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTransactionFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,142,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TlewTransactionFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTransactionFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),TlewTransactionFinder.processingDateInfinity,false,false,TlewTransactionFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TlewTransactionFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TlewTransactionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TlewTransactionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TlewTransactionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TlewTransactionRelatedFinder<ParentOwnerType, ReturnType, TlewTransactionList, OwnerType>
+	{
+		public TlewTransactionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TlewTransactionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TlewTransactionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TlewTransactionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TlewTransactionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TlewTransactionRelatedFinder<ParentOwnerType, ReturnType, TlewTransactionList, OwnerType>
+	implements ToOneFinder
+	{
+		public TlewTransactionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TlewTransactionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TlewTransaction other)
+		{
+			return this.tranId().eq(other.getTranId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TlewTransaction findByPrimaryKey(int tranId, Timestamp processingDate)
+		{
+			TlewTransaction _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(tranId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TlewTransaction) _related;
+			if (_related == null)
+			{
+				_op = this.tranId().eq(tranId).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TlewTransactionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TlewTransactionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TlewTransactionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TLEW_TRAN.CREATE_C **/
+	public static IntegerAttribute<TlewTransaction> createCode()
+	{
+		return finder.createCode();
+	}
+
+	/** maps to TLEW_TRAN.CHANGE_C **/
+	public static ShortAttribute<TlewTransaction> changeCode()
+	{
+		return finder.changeCode();
+	}
+
+	/** maps to TLEW_TRAN.TRAN_I **/
+	public static IntegerAttribute<TlewTransaction> tranId()
+	{
+		return finder.tranId();
+	}
+
+	/** maps to TLEW_TRAN.BUS_DATE_Z **/
+	public static TimestampAttribute<TlewTransaction> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to TLEW_TRAN.TRAN_TYP_C **/
+	public static StringAttribute<TlewTransaction> tradeType()
+	{
+		return finder.tradeType();
+	}
+
+	/** maps to TLEW_TRAN.TRAN_SUB_TYP_C **/
+	public static StringAttribute<TlewTransaction> tradeSubType()
+	{
+		return finder.tradeSubType();
+	}
+
+	/** maps to TLEW_TRAN.TRAN_REF_N **/
+	public static StringAttribute<TlewTransaction> tranRef()
+	{
+		return finder.tranRef();
+	}
+
+	/** maps to TLEW_TRAN.FIRM_ACCT_I **/
+	public static IntegerAttribute<TlewTransaction> acctId()
+	{
+		return finder.acctId();
+	}
+
+	/** maps to TLEW_TRAN.CP_ACCT_I **/
+	public static IntegerAttribute<TlewTransaction> crossAcctId()
+	{
+		return finder.crossAcctId();
+	}
+
+	/** maps to TLEW_TRAN.INSTRUMENT_I **/
+	public static IntegerAttribute<TlewTransaction> instrumentId()
+	{
+		return finder.instrumentId();
+	}
+
+	/** maps to TLEW_TRAN.PROD_GLOBAL_CLASS_I **/
+	public static LongAttribute<TlewTransaction> productGlobalClass()
+	{
+		return finder.productGlobalClass();
+	}
+
+	/** maps to TLEW_TRAN.TRADE_DATE_Z **/
+	public static TimestampAttribute<TlewTransaction> tradeDate()
+	{
+		return finder.tradeDate();
+	}
+
+	/** maps to TLEW_TRAN.SETTLE_DATE_Z **/
+	public static TimestampAttribute<TlewTransaction> settleDate()
+	{
+		return finder.settleDate();
+	}
+
+	/** maps to TLEW_TRAN.STD_SETTLE_TYP_C **/
+	public static IntegerAttribute<TlewTransaction> settlementType()
+	{
+		return finder.settlementType();
+	}
+
+	/** maps to TLEW_TRAN.INTER_COMPANY_C **/
+	public static IntegerAttribute<TlewTransaction> interCompanyType()
+	{
+		return finder.interCompanyType();
+	}
+
+	/** maps to TLEW_TRAN.NATIVE_CCY_C **/
+	public static StringAttribute<TlewTransaction> nativeCurrencyCode()
+	{
+		return finder.nativeCurrencyCode();
+	}
+
+	/** maps to TLEW_TRAN.BUY_SELL_C **/
+	public static StringAttribute<TlewTransaction> buySellCode()
+	{
+		return finder.buySellCode();
+	}
+
+	/** maps to TLEW_TRAN.USD_XRATE_M **/
+	public static DoubleAttribute<TlewTransaction> usdXRate()
+	{
+		return finder.usdXRate();
+	}
+
+	/** maps to TLEW_TRAN.BASE_XRATE_M **/
+	public static DoubleAttribute<TlewTransaction> baseXRate()
+	{
+		return finder.baseXRate();
+	}
+
+	/** maps to TLEW_TRAN.TRAN_QTY_Q **/
+	public static DoubleAttribute<TlewTransaction> tradeQty()
+	{
+		return finder.tradeQty();
+	}
+
+	/** maps to TLEW_TRAN.RECEIVE_CCY_C **/
+	public static StringAttribute<TlewTransaction> receiveCurrencyCode()
+	{
+		return finder.receiveCurrencyCode();
+	}
+
+	/** maps to TLEW_TRAN.PAY_CCY_C **/
+	public static StringAttribute<TlewTransaction> payCurrencyCode()
+	{
+		return finder.payCurrencyCode();
+	}
+
+	/** maps to TLEW_TRAN.NET_COST_NATIVE_M **/
+	public static DoubleAttribute<TlewTransaction> nativeCost()
+	{
+		return finder.nativeCost();
+	}
+
+	/** maps to TLEW_TRAN.FAIR_VALUE_NATIVE_M **/
+	public static DoubleAttribute<TlewTransaction> replacementCost()
+	{
+		return finder.replacementCost();
+	}
+
+	/** maps to TLEW_TRAN.NOTIONAL_NATIVE_M **/
+	public static DoubleAttribute<TlewTransaction> notionalValue()
+	{
+		return finder.notionalValue();
+	}
+
+	/** maps to TLEW_TRAN.MKTVL_NATIVE_M **/
+	public static DoubleAttribute<TlewTransaction> nativeMarketValue()
+	{
+		return finder.nativeMarketValue();
+	}
+
+	/** maps to TLEW_TRAN.EXTERNAL_TRAN_I **/
+	public static StringAttribute<TlewTransaction> externalTradeId()
+	{
+		return finder.externalTradeId();
+	}
+
+	/** maps to TLEW_TRAN.CASH_SETTLE_C **/
+	public static StringAttribute<TlewTransaction> cashSettleCode()
+	{
+		return finder.cashSettleCode();
+	}
+
+	/** maps to TLEW_TRAN.CALCULATOR_N **/
+	public static StringAttribute<TlewTransaction> calculatorName()
+	{
+		return finder.calculatorName();
+	}
+
+	/** maps to TLEW_TRAN.INITIAL_NOTIONAL_M **/
+	public static DoubleAttribute<TlewTransaction> initialNotional()
+	{
+		return finder.initialNotional();
+	}
+
+	/** maps to TLEW_TRAN.FIRM_RISK_ACCT_N **/
+	public static StringAttribute<TlewTransaction> firmRiskAcctName()
+	{
+		return finder.firmRiskAcctName();
+	}
+
+	/** maps to TLEW_TRAN.INTERCO_N **/
+	public static StringAttribute<TlewTransaction> intercompanyRecFlag()
+	{
+		return finder.intercompanyRecFlag();
+	}
+
+	/** maps to TLEW_TRAN.FACTOR_FEE_ADJ_M **/
+	public static DoubleAttribute<TlewTransaction> factorFeeAdjustment()
+	{
+		return finder.factorFeeAdjustment();
+	}
+
+	/** maps to TLEW_TRAN.TAX_WITHHOLD_ADJ_M **/
+	public static DoubleAttribute<TlewTransaction> taxWithholdingAdjustment()
+	{
+		return finder.taxWithholdingAdjustment();
+	}
+
+	/** maps to TLEW_TRAN.VALUATION_ADJ_M **/
+	public static DoubleAttribute<TlewTransaction> valuationAdjustment()
+	{
+		return finder.valuationAdjustment();
+	}
+
+	/** maps to TLEW_TRAN.CURRENT_NOTIONAL_M **/
+	public static DoubleAttribute<TlewTransaction> currentNotionalValue()
+	{
+		return finder.currentNotionalValue();
+	}
+
+	/** maps to TLEW_TRAN.DEBT_CLASS_N **/
+	public static StringAttribute<TlewTransaction> debtClass()
+	{
+		return finder.debtClass();
+	}
+
+	/** maps to TLEW_TRAN.IN_Z **/
+	public static TimestampAttribute<TlewTransaction> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TLEW_TRAN.OUT_Z **/
+	public static TimestampAttribute<TlewTransaction> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TlewTransaction> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TlewTransaction other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(tranId());
+	}
+
+	public static TlewTransactionSingleFinder<TlewTransaction, Object, TlewTransaction> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			tranId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			createCode()
+			, tranId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[12];
+		result[0] = usdXRate();
+		result[1] = baseXRate();
+		result[2] = tradeQty();
+		result[3] = nativeCost();
+		result[4] = replacementCost();
+		result[5] = notionalValue();
+		result[6] = nativeMarketValue();
+		result[7] = initialNotional();
+		result[8] = factorFeeAdjustment();
+		result[9] = taxWithholdingAdjustment();
+		result[10] = valuationAdjustment();
+		result[11] = currentNotionalValue();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.TlewTransaction");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
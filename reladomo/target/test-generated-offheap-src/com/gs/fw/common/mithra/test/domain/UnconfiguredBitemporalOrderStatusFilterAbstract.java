@@ -0,0 +1,597 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class UnconfiguredBitemporalOrderStatusFilterAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		UnconfiguredBitemporalOrderStatusFilterFinder.businessDate()
+	,
+		UnconfiguredBitemporalOrderStatusFilterFinder.processingDate()
+	, UnconfiguredBitemporalOrderStatusFilterFinder.zGetDoubleAttributes(),UnconfiguredBitemporalOrderStatusFilterFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(UnconfiguredBitemporalOrderStatusFilter.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public UnconfiguredBitemporalOrderStatusFilterAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilterData zSynchronizedGetData()
+	{
+		return (UnconfiguredBitemporalOrderStatusFilterData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		UnconfiguredBitemporalOrderStatusFilter original = (UnconfiguredBitemporalOrderStatusFilter) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (UnconfiguredBitemporalOrderStatusFilter) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (UnconfiguredBitemporalOrderStatusFilter) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		UnconfiguredBitemporalOrderStatusFilterAbstract result = (UnconfiguredBitemporalOrderStatusFilterAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (UnconfiguredBitemporalOrderStatusFilter ) result;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter zFindOriginal()
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData) this.currentData;
+		Operation op;
+		op = UnconfiguredBitemporalOrderStatusFilterFinder.lastUser().eq(data.getLastUser());
+		op = op.and(UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().eq(this.getProcessingDate()));
+		return UnconfiguredBitemporalOrderStatusFilterFinder.findOne(op);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		UnconfiguredBitemporalOrderStatusFilterAbstract result = (UnconfiguredBitemporalOrderStatusFilterAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (UnconfiguredBitemporalOrderStatusFilter ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (UnconfiguredBitemporalOrderStatusFilter) behavior.updateOriginalOrInsert(this);
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (UnconfiguredBitemporalOrderStatusFilter) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData) this.currentData;
+			Operation op = UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().eq(this.businessDate);
+			op = op.and(UnconfiguredBitemporalOrderStatusFilterFinder.processingDate().eq(this.processingDate));
+			op = op.and(UnconfiguredBitemporalOrderStatusFilterFinder.lastUser().eq(data.getLastUser()));
+			return UnconfiguredBitemporalOrderStatusFilterFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isIsAwesomeNull()
+	{
+		return this.zSynchronizedGetData().isIsAwesomeNull();
+	}
+
+	public boolean isLastUserNull()
+	{
+		return this.zSynchronizedGetData().isLastUserNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.businessDateTo(), newValue, false );
+	}
+
+	public boolean isIsAwesome()
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = this.zSynchronizedGetData();
+		if (data.isIsAwesomeNull()) MithraNullPrimitiveException.throwNew("isAwesome", data);
+		return data.isIsAwesome();
+	}
+
+	public void setIsAwesome(boolean newValue)
+	{
+		zSetBoolean(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), newValue, false ,true);
+	}
+
+	public void setIsAwesomeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getLastUser()
+	{
+		return this.zSynchronizedGetData().getLastUser();
+	}
+
+	public void setLastUser(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(UnconfiguredBitemporalOrderStatusFilterFinder.lastUser(), newValue, true );
+	}
+
+	public void setLastUserUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'lastUser' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(UnconfiguredBitemporalOrderStatusFilterFinder.lastUser(), newValue, true , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(UnconfiguredBitemporalOrderStatusFilterFinder.processingDateTo(), newValue, false );
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data2 = (UnconfiguredBitemporalOrderStatusFilterData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && UnconfiguredBitemporalOrderStatusFilterFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setIsAwesomeNull()
+	{
+		zNullify(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), false);
+	}
+
+	public void setIsAwesomeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData _newData = (UnconfiguredBitemporalOrderStatusFilterData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		UnconfiguredBitemporalOrderStatusFilterData _newData = (UnconfiguredBitemporalOrderStatusFilterData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		UnconfiguredBitemporalOrderStatusFilterData _newData = (UnconfiguredBitemporalOrderStatusFilterData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new UnconfiguredBitemporalOrderStatusFilterData.UnconfiguredBitemporalOrderStatusFilterDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData) UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("UnconfiguredBitemporalOrderStatusFilter has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromUnconfiguredBitemporalOrderStatusFilterData( UnconfiguredBitemporalOrderStatusFilterData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromUnconfiguredBitemporalOrderStatusFilterData( UnconfiguredBitemporalOrderStatusFilterData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal();
+	}
+
+	public UnconfiguredBitemporalOrderStatusFilter getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(UnconfiguredBitemporalOrderStatusFilterAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		UnconfiguredBitemporalOrderStatusFilterAbstract from = (UnconfiguredBitemporalOrderStatusFilterAbstract) f;
+		UnconfiguredBitemporalOrderStatusFilterData newData = from.zSynchronizedGetData();
+		if (from.isIsAwesomeNull())
+		{
+			this.setIsAwesomeNull();
+		}
+		else
+		{
+			this.setIsAwesome(newData.isIsAwesome());
+		}
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData _newData = (UnconfiguredBitemporalOrderStatusFilterData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData _newData = (UnconfiguredBitemporalOrderStatusFilterData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(UnconfiguredBitemporalOrderStatusFilterAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		UnconfiguredBitemporalOrderStatusFilterAbstract from = (UnconfiguredBitemporalOrderStatusFilterAbstract)f;
+		UnconfiguredBitemporalOrderStatusFilterData newData = from.zSynchronizedGetData();
+		if (from.isIsAwesomeNull())
+		{
+			this.setIsAwesomeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setIsAwesomeUntil(newData.isIsAwesome(), exclusiveUntil);
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData newData = (UnconfiguredBitemporalOrderStatusFilterData) d;
+		UnconfiguredBitemporalOrderStatusFilterData data = (UnconfiguredBitemporalOrderStatusFilterData) nd;
+		if (UnconfiguredBitemporalOrderStatusFilterFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), false);
+		changed |= zUpdateString(behavior, data, newData, UnconfiguredBitemporalOrderStatusFilterFinder.lastUser(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, UnconfiguredBitemporalOrderStatusFilterFinder.isAwesome(), false, until);
+		changed |= zUpdateString(behavior, data, newData, UnconfiguredBitemporalOrderStatusFilterFinder.lastUser(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = ((UnconfiguredBitemporalOrderStatusFilterData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = ((UnconfiguredBitemporalOrderStatusFilterData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		UnconfiguredBitemporalOrderStatusFilterData data = ((UnconfiguredBitemporalOrderStatusFilterData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), UnconfiguredBitemporalOrderStatusFilterFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		UnconfiguredBitemporalOrderStatusFilterData localData = (UnconfiguredBitemporalOrderStatusFilterData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
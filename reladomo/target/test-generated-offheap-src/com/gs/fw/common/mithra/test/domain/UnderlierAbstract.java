@@ -0,0 +1,467 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class UnderlierAbstract
+implements MithraObject, Serializable
+{
+	private Object[] _relationships;
+	private byte persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+	private static final RelationshipHashStrategy forcontract = new ContractRhs();
+	private static final class ContractRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			Underlier _castedSrcObject = (Underlier) _srcObject;
+			Contract _castedTargetData = (Contract) _targetData;
+			if (_castedSrcObject.getContractType()!= null && _castedSrcObject.getContractType().equals(_castedTargetData.getContractType()) && _castedSrcObject.getContractId() == _castedTargetData.getContractId() && _castedSrcObject.getProductId() == _castedTargetData.getProductId() && _castedSrcObject.getAccountId()!= null && _castedSrcObject.getAccountId().equals(_castedTargetData.getAccountId()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Underlier _castedSrcObject = (Underlier) _srcObject;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_castedSrcObject.getContractType()),HashUtil.hash(_castedSrcObject.getContractId())),HashUtil.hash(_castedSrcObject.getAccountId())),HashUtil.hash(_castedSrcObject.getProductId()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			Underlier _castedSrcObject = (Underlier) _srcObject;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_castedSrcObject.getContractType()),HashUtil.hash(_castedSrcObject.getContractId())),HashUtil.offHeapHash(_castedSrcObject.getAccountId())),HashUtil.hash(_castedSrcObject.getProductId()));
+		}
+	}
+
+	private String accountId;
+	private int contractId;
+	private String contractType;
+	private String currency;
+	private String description;
+	private int productId;
+	private long underlierId;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isContractIdNull()
+	{
+		return false;
+	}
+
+	public boolean isContractTypeNull()
+	{
+		return this.getContractType() == null;
+	}
+
+	public boolean isCurrencyNull()
+	{
+		return this.getCurrency() == null;
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return this.getDescription() == null;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUnderlierIdNull()
+	{
+		return false;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeInt(this.contractId);
+		out.writeObject(this.contractType);
+		out.writeObject(this.currency);
+		out.writeObject(this.description);
+		out.writeInt(this.productId);
+		out.writeLong(this.underlierId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		UnderlierData data = new UnderlierData();
+		data.setAccountId(accountId);
+		data.setContractId(contractId);
+		data.setContractType(contractType);
+		data.setCurrency(currency);
+		data.setDescription(description);
+		data.setProductId(productId);
+		data.setUnderlierId(underlierId);
+		return data;
+	}
+
+	public Underlier getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		UnderlierAbstract copy = (UnderlierAbstract) UnderlierFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (Underlier)copy;
+	}
+
+	protected void zSetFromUnderlierData(UnderlierData data)
+	{
+		this.setFromUnderlierData(data);
+	}
+
+	public void setFromUnderlierData(UnderlierData data)
+	{
+		this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		accountId = data.getAccountId();
+		contractId = data.getContractId();
+		contractType = data.getContractType();
+		currency = data.getCurrency();
+		description = data.getDescription();
+		productId = data.getProductId();
+		underlierId = data.getUnderlierId();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return UnderlierFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromUnderlierData((UnderlierData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public void setAccountId(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public int getContractId()
+	{
+		return this.contractId;
+	}
+
+	public void setContractId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.contractId = value;
+	}
+
+	public String getContractType()
+	{
+		return this.contractType;
+	}
+
+	public void setContractType(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.contractType = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public String getCurrency()
+	{
+		return this.currency;
+	}
+
+	public void setCurrency(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.currency = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public void setDescription(String value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.description = StringPool.getInstance().getOrAddToCache(value, UnderlierFinder.isFullCache());
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.productId = value;
+	}
+
+	public long getUnderlierId()
+	{
+		return this.underlierId;
+	}
+
+	public void setUnderlierId(long value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.underlierId = value;
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(Contract.contractType = this.contractType and Contract.contractId = this.contractId and Contract.productId = this.productId and Contract.accountId = this.accountId )</pre>
+	* @see Contract#getUnderliers() reverse relationship Contract.getUnderliers()
+	* @return The contract
+	*/
+	public Contract getContract()
+	{
+		Contract _result = null;
+		if (_relationships != null)
+		{
+			_result = (Contract)(_relationships[0]);
+		}
+
+		if (_result == null)
+		{
+			MithraObjectPortal _portal = null;
+			{
+				_portal = ContractFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, null, forcontract, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Contract) _related;
+				if (_related == null)
+				{
+					_result = ContractFinder.zFindOneForRelationship(zGetContractOperation());
+				}
+			}
+		}
+
+		return _result;
+	}
+
+	public void setContract(Contract contract)
+	{
+		this.ensureSetAttributeAllowed();
+		if (_relationships == null)
+		{
+			_relationships = new Object[1];
+		}
+
+		_relationships[0] = contract;
+		if (contract == null)
+		{
+			this.setContractType(null);
+			this.setContractId(0);
+			this.setProductId(0);
+			this.setAccountId(null);
+		}
+		else
+		{
+			this.setContractType(contract.getContractType());
+			this.setContractId(contract.getContractId());
+			this.setProductId(contract.getProductId());
+			this.setAccountId(contract.getAccountId());
+		}
+	}
+
+	public Operation zGetContractOperation()
+	{
+		UnderlierAbstract _data = this;
+		return new RelationshipMultiEqualityOperation(UnderlierFinder.contract().zGetRelationshipMultiExtractor(), this);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		final UnderlierData underlierData = (UnderlierData) newData;
+		if (!isCurrencyNull() ? !getCurrency().equals(underlierData.getCurrency()) : !underlierData.isCurrencyNull())
+		{
+			return true;
+		}
+
+		if (!isDescriptionNull() ? !getDescription().equals(underlierData.getDescription()) : !underlierData.isDescriptionNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	protected String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "accountId: "+"'"+getAccountId()+"'"+ " / ";
+		result += "contractId: "+(""+getContractId())+ " / ";
+		result += "contractType: "+"'"+getContractType()+"'"+ " / ";
+		result += "productId: "+(""+getProductId())+ " / ";
+		result += "underlierId: "+(""+getUnderlierId())+ " / ";
+		return result;
+	}
+
+	private void writeObject(ObjectOutputStream out)
+	throws IOException
+	{
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		out.writeBoolean(fullData);
+		if (fullData)
+		{
+			this.zSerializeFullData(out);
+			if (_relationships == null)
+			{
+				out.writeInt(0);
+			}
+			else
+			{
+				out.writeInt(_relationships.length);
+				for(int i=0;i < _relationships.length;i++)
+				{
+					out.writeObject(_relationships[i]);
+				}
+			}
+		}
+		else
+		{
+			out.writeObject(this.accountId);
+			out.writeInt(this.contractId);
+			out.writeObject(this.contractType);
+			out.writeInt(this.productId);
+			out.writeLong(this.underlierId);
+		}
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		final boolean fullData = in.readBoolean();
+		if (fullData)
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+			this.contractId = in.readInt();
+			this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+			this.currency = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+			this.description = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+			this.productId = in.readInt();
+			this.underlierId = in.readLong();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+			int total = in.readInt();
+			if(total > 0)
+			{
+				_relationships = new Object[total];
+				for(int i=0;i < total;i++)
+				{
+					_relationships[i] = in.readObject();
+				}
+			}
+		}
+		else
+		{
+			this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+			this.contractId = in.readInt();
+			this.contractType = StringPool.getInstance().getOrAddToCache((String)in.readObject(), UnderlierFinder.isFullCache());
+			this.productId = in.readInt();
+			this.underlierId = in.readLong();
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = UnderlierFinder.contractType().eq(this.getContractType());
+			op = op.and(UnderlierFinder.contractId().eq(this.getContractId()));
+			op = op.and(UnderlierFinder.accountId().eq(this.getAccountId()));
+			op = op.and(UnderlierFinder.productId().eq(this.getProductId()));
+			op = op.and(UnderlierFinder.underlierId().eq(this.getUnderlierId()));
+			return UnderlierFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,119 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class UnderlierListAbstract extends DelegatingList<Underlier> implements MithraList<Underlier>
+{
+	public UnderlierListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public UnderlierListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public UnderlierListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public UnderlierListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public Underlier[] elements()
+	{
+		Underlier[] result = new Underlier[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public UnderlierList intersection(UnderlierList another)
+	{
+		return (UnderlierList)super.intersection(another);
+	}
+
+	public Underlier getUnderlierAt(int index)
+	{
+		return (Underlier)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(Contract.contractType = this.contractType and Contract.contractId = this.contractId and Contract.productId = this.productId and Contract.accountId = this.accountId )</pre>
+	* @see Contract#getUnderliers() reverse relationship Contract.getUnderliers()
+	* @return The contract
+	*/
+	public ContractList getContracts()
+	{
+		return (ContractList) this.getDelegated().resolveRelationship(this, UnderlierFinder.contract());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UnderlierFinder.getMithraObjectPortal();
+	}
+
+	public UnderlierList getNonPersistentCopy()
+	{
+		UnderlierList result = new UnderlierList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public UnderlierList asAdhoc()
+	{
+		return (UnderlierList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Underlier> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
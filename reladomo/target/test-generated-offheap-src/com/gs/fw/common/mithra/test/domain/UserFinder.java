@@ -0,0 +1,2508 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class UserFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("sourceId",
+		IntegerAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/User";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.User";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.User");
+	private static final UserSingleFinder<User, Object, User> finder = new UserSingleFinder<User, Object, User>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byUserId = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(UserFinder.UserRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("active");
+		finderMethodMap.addNormalAttributeName("lastUpdate");
+		finderMethodMap.addNormalAttributeName("profileId");
+		finderMethodMap.addNormalAttributeName("defaultGroupId");
+		finderMethodMap.addNormalAttributeName("sourceId");
+		finderMethodMap.addRelationshipName("groups");
+		finderMethodMap.addRelationshipName("groups2");
+		finderMethodMap.addRelationshipName("sourceGroups");
+		finderMethodMap.addRelationshipName("profile");
+		finderMethodMap.addRelationshipName("defaultGroup");
+		finderMethodMap.addRelationshipName("group7");
+		finderMethodMap.addRelationshipName("managedDefaultGroup");
+		finderMethodMap.addRelationshipName("defaultGroupManager");
+		finderMethodMap.addRelationshipName("groupsWithManagers");
+		finderMethodMap.addRelationshipName("userGroups2");
+		finderMethodMap.addRelationshipName("userGroupsForActive");
+		finderMethodMap.addRelationshipName("userGroups");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[14];
+			result[0] = UserFinder.id().constructEqualityMapper(UserGroupFinder.ownerId());
+			result[1] = UserGroupFinder.ownerId().constructEqualityMapper(UserFinder.id());
+			result[2] = UserFinder.sourceId().constructEqualityMapper(UserGroupFinder.sourceId());
+			result[3] = UserGroupFinder.sourceId().constructEqualityMapper(UserFinder.sourceId());
+			result[4] = UserFinder.profileId().constructEqualityMapper(ProfileFinder.id());
+			result[5] = ProfileFinder.id().constructEqualityMapper(UserFinder.profileId());
+			result[6] = UserFinder.sourceId().constructEqualityMapper(ProfileFinder.sourceId());
+			result[7] = ProfileFinder.sourceId().constructEqualityMapper(UserFinder.sourceId());
+			result[8] = UserFinder.defaultGroupId().constructEqualityMapper(GroupFinder.id());
+			result[9] = GroupFinder.id().constructEqualityMapper(UserFinder.defaultGroupId());
+			result[10] = UserFinder.sourceId().constructEqualityMapper(GroupFinder.sourceId());
+			result[11] = GroupFinder.sourceId().constructEqualityMapper(UserFinder.sourceId());
+			result[12] = UserFinder.id().constructEqualityMapper(GroupFinder.managerId());
+			result[13] = GroupFinder.managerId().constructEqualityMapper(UserFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = UserFinder.active().eq(true);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return UserFinder.zSourceAttributeType;
+	}
+
+	public static User findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static User findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static UserList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (UserList) finder.findMany(operation);
+	}
+
+	public static UserList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (UserList) finder.findManyBypassCache(operation);
+	}
+
+	private static User findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (User) FinderUtils.findOne(found);
+	}
+
+	public static User findByPrimaryKey(int id, int sourceId)
+	{
+		return finder.findByPrimaryKey(id, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			User _castedTargetData = (User) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId() && _bean.getI2AsInteger() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger()));
+		}
+	}
+
+	public static User findByUserId(String userId, int sourceId)
+	{
+		return finder.findByUserId(userId, sourceId);
+	}
+
+	private static final RelationshipHashStrategy forUserId = new UserIdRhs();
+	private static final class UserIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			User _castedTargetData = (User) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getUserId()) && _bean.getI1AsInteger() == _castedTargetData.getSourceId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger()));
+		}
+	}
+
+	public static User zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (User) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class UserRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<User, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return UserFinder.zSourceAttributeType;
+		}
+
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> userId;
+		private StringAttribute<ParentOwnerType> name;
+		private BooleanAttribute<ParentOwnerType> active;
+		private TimestampAttribute<ParentOwnerType> lastUpdate;
+		private IntegerAttribute<ParentOwnerType> profileId;
+		private IntegerAttribute<ParentOwnerType> defaultGroupId;
+		private UserGroupsFinderSubclass<ParentOwnerType> groups;
+		private UserGroups2FinderSubclass<ParentOwnerType> groups2;
+		private UserSourceGroupsFinderSubclass<ParentOwnerType> sourceGroups;
+		private UserProfileFinderSubclass<ParentOwnerType> profile;
+		private UserDefaultGroupFinderSubclass<ParentOwnerType> defaultGroup;
+		private UserGroup7FinderSubclass<ParentOwnerType> group7;
+		private UserManagedDefaultGroupFinderSubclass<ParentOwnerType> managedDefaultGroup;
+		private UserDefaultGroupManagerFinderSubclass<ParentOwnerType> defaultGroupManager;
+		private UserGroupsWithManagersFinderSubclass<ParentOwnerType> groupsWithManagers;
+		private UserUserGroups2FinderSubclass<ParentOwnerType> userGroups2;
+		private UserUserGroupsForActiveFinderSubclass<ParentOwnerType> userGroupsForActive;
+		private UserUserGroupsFinderSubclass<ParentOwnerType> userGroups;
+		private IntegerAttribute<ParentOwnerType> sourceId;
+		public UserRelatedFinder()
+		{
+			super();
+		}
+
+		public UserRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.UserFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return UserFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return UserFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return UserFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.id();
+			attributes[1] = this.userId();
+			attributes[2] = this.name();
+			attributes[3] = this.active();
+			attributes[4] = this.lastUpdate();
+			attributes[5] = this.profileId();
+			attributes[6] = this.defaultGroupId();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(12);
+				relatedFinders.add(this.groups());
+				relatedFinders.add(this.groups2());
+				relatedFinders.add(this.sourceGroups());
+				relatedFinders.add(this.profile());
+				relatedFinders.add(this.defaultGroup());
+				relatedFinders.add(this.group7());
+				relatedFinders.add(this.managedDefaultGroup());
+				relatedFinders.add(this.defaultGroupManager());
+				relatedFinders.add(this.groupsWithManagers());
+				relatedFinders.add(this.userGroups2());
+				relatedFinders.add(this.userGroupsForActive());
+				relatedFinders.add(this.userGroups());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public User findOne(com.gs.fw.finder.Operation operation)
+		{
+			return UserFinder.findOne(operation, false);
+		}
+
+		public User findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return UserFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends User> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new UserList((Operation) operation);
+		}
+
+		public MithraList<? extends User> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			UserList result = (UserList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends User> constructEmptyList()
+		{
+			return new UserList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1682416145;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return UserFinder.zSourceAttributeType;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("OBJECTID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserFinder.id(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("userGroups");
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> userId()
+		{
+			StringAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("USERID","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,40,true, false) :
+					new MappedStringAttribute(UserFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,128,true, false) :
+					new MappedStringAttribute(UserFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> active()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.active;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("ACTIVE","","active",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(UserFinder.active(), this.mapper, this.zGetValueSelector());
+				this.active = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> lastUpdate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.lastUpdate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LAST_UPDATE","","lastUpdate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(UserFinder.lastUpdate(), this.mapper, this.zGetValueSelector());
+				this.lastUpdate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> profileId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.profileId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROFILE_OID","","profileId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserFinder.profileId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("profile");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Profile", "users");
+				this.profileId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> defaultGroupId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.defaultGroupId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("DEFAULT_GROUP_OID","","defaultGroupId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserFinder.defaultGroupId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("group7");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain", "Group", "group7activeUsers");
+				this.defaultGroupId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> sourceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.sourceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate(null,"","sourceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(UserFinder.sourceId(), this.mapper, this.zGetValueSelector());
+				this.sourceId = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User> groups()
+		{
+			UserGroupsFinderSubclass<ParentOwnerType> result = this.groups;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserGroupsReverseMapper());
+				newMapper.setToMany(true);
+				result = new UserGroupsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.groups = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User> groups2()
+		{
+			UserGroups2FinderSubclass<ParentOwnerType> result = this.groups2;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserGroups2ReverseMapper());
+				newMapper.setToMany(true);
+				result = new UserGroups2FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.groups2 = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User> sourceGroups()
+		{
+			UserSourceGroupsFinderSubclass<ParentOwnerType> result = this.sourceGroups;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserSourceGroupsReverseMapper());
+				newMapper.setToMany(true);
+				result = new UserSourceGroupsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.sourceGroups = result;
+			}
+
+			return result;
+		}
+
+		public ProfileFinder.ProfileSingleFinderForRelatedClasses<ParentOwnerType, Profile, User> profile()
+		{
+			UserProfileFinderSubclass<ParentOwnerType> result = this.profile;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserProfileReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserProfileFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.profile = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, User> defaultGroup()
+		{
+			UserDefaultGroupFinderSubclass<ParentOwnerType> result = this.defaultGroup;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserDefaultGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserDefaultGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.defaultGroup = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, User> group7()
+		{
+			UserGroup7FinderSubclass<ParentOwnerType> result = this.group7;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserGroup7ReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserGroup7FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.group7 = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, User> managedDefaultGroup()
+		{
+			UserManagedDefaultGroupFinderSubclass<ParentOwnerType> result = this.managedDefaultGroup;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserManagedDefaultGroupReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserManagedDefaultGroupFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.managedDefaultGroup = result;
+			}
+
+			return result;
+		}
+
+		public UserFinder.UserSingleFinderForRelatedClasses<ParentOwnerType, User, User> defaultGroupManager()
+		{
+			UserDefaultGroupManagerFinderSubclass<ParentOwnerType> result = this.defaultGroupManager;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserDefaultGroupManagerReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserDefaultGroupManagerFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.defaultGroupManager = result;
+			}
+
+			return result;
+		}
+
+		public GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User> groupsWithManagers()
+		{
+			UserGroupsWithManagersFinderSubclass<ParentOwnerType> result = this.groupsWithManagers;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserGroupsWithManagersReverseMapper());
+				newMapper.setToMany(true);
+				result = new UserGroupsWithManagersFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.groupsWithManagers = result;
+			}
+
+			return result;
+		}
+
+		public UserGroupFinder.UserGroupSingleFinderForRelatedClasses<ParentOwnerType, UserGroup, User> userGroups2()
+		{
+			UserUserGroups2FinderSubclass<ParentOwnerType> result = this.userGroups2;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserUserGroups2ReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserUserGroups2FinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.userGroups2 = result;
+			}
+
+			return result;
+		}
+
+		public UserGroupFinder.UserGroupSingleFinderForRelatedClasses<ParentOwnerType, UserGroup, User> userGroupsForActive()
+		{
+			UserUserGroupsForActiveFinderSubclass<ParentOwnerType> result = this.userGroupsForActive;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserUserGroupsForActiveReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserUserGroupsForActiveFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.userGroupsForActive = result;
+			}
+
+			return result;
+		}
+
+		public UserGroupFinder.UserGroupSingleFinderForRelatedClasses<ParentOwnerType, UserGroup, User> userGroups()
+		{
+			UserUserGroupsFinderSubclass<ParentOwnerType> result = this.userGroups;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(UserFinder.zGetUserUserGroupsReverseMapper());
+				newMapper.setToMany(false);
+				result = new UserUserGroupsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.userGroups = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return UserFinder.sourceId();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return UserFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return UserFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class UserCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends UserRelatedFinder<ParentOwnerType, ReturnType, UserList, OwnerType>
+	{
+		public UserCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class UserCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends UserCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UserCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class UserSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends UserRelatedFinder<ParentOwnerType, ReturnType, UserList, OwnerType>
+	implements ToOneFinder
+	{
+		public UserSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public UserSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(User other)
+		{
+			return this.id().eq(other.getId())
+			.and(this.sourceId().eq(other.getSourceId()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public User findByPrimaryKey(int id, int sourceId)
+		{
+			User _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				_bean.setI2AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (User) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public User findByUserId(String userId, int sourceId)
+		{
+			User _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (userId != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(userId);
+				_bean.setI1AsInteger(sourceId);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forUserId, null, null, UserFinder.zGetIndexbyUserIdRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (User) _related;
+			if (_related == null)
+			{
+				_op = this.userId().eq(userId).and(this.sourceId().eq(sourceId));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class UserSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends UserSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public UserSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper groupsReverseMapper = null;
+	public static Mapper zGetUserGroupsReverseMapper()
+	{
+		if (groupsReverseMapper == null)
+		{
+			groupsReverseMapper = zConstructUserGroupsReverseMapper();
+		}
+
+		return groupsReverseMapper;
+	}
+
+	private static Mapper groupsMapper = null;
+	public static Mapper zGetUserGroupsMapper()
+	{
+		if (groupsMapper == null)
+		{
+			groupsMapper = zConstructUserGroupsMapper();
+		}
+
+		return groupsMapper;
+	}
+
+	private static Mapper groupsPureReverseMapper = null;
+	public static Mapper zGetUserGroupsPureReverseMapper()
+	{
+		if (groupsPureReverseMapper == null)
+		{
+			groupsPureReverseMapper = zConstructUserGroupsPureReverseMapper();
+		}
+
+		return groupsPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserGroupsPureReverseMapper()
+	{
+		InternalList groupsc0MapperMapperList = new InternalList(2);
+		groupsc0MapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		groupsc0MapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper groupsc0Mapper = new MultiEqualityMapper(groupsc0MapperMapperList);
+		InternalList groupsc1MapperMapperList = new InternalList(2);
+		groupsc1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groupsc1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groupsc1Mapper = new MultiEqualityMapper(groupsc1MapperMapperList);
+		Mapper groupsMapper = new ChainedMapper(groupsc0Mapper,groupsc1Mapper);
+		groupsMapper.setName("groups");
+		return groupsMapper;
+	}
+
+	private static Mapper zConstructUserGroupsReverseMapper()
+	{
+		InternalList groupsc0MapperMapperList = new InternalList(2);
+		groupsc0MapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		groupsc0MapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper groupsc0Mapper = new MultiEqualityMapper(groupsc0MapperMapperList);
+		InternalList groupsc1MapperMapperList = new InternalList(2);
+		groupsc1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groupsc1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groupsc1Mapper = new MultiEqualityMapper(groupsc1MapperMapperList);
+		Mapper groupsMapper = new ChainedMapper(groupsc0Mapper,groupsc1Mapper);
+		groupsMapper.setName("groups");
+		return groupsMapper;
+	}
+
+	private static Mapper zConstructUserGroupsMapper()
+	{
+		InternalList groupsc0MapperMapperList = new InternalList(2);
+		groupsc0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groupsc0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		Mapper groupsc0Mapper = new MultiEqualityMapper(groupsc0MapperMapperList);
+		InternalList groupsc1MapperMapperList = new InternalList(2);
+		groupsc1MapperMapperList.add(UserFinder.zGetConstantJoin(1));
+		groupsc1MapperMapperList.add(UserFinder.zGetConstantJoin(3));
+		Mapper groupsc1Mapper = new MultiEqualityMapper(groupsc1MapperMapperList);
+		Mapper groupsMapper = new ChainedMapper(groupsc0Mapper,groupsc1Mapper);
+		groupsMapper.setName("users");
+		return groupsMapper;
+	}
+
+	private static Mapper groupsMapperFragment = null;
+	public static Mapper zGetGroupsMapperFragment()
+	{
+		if (groupsMapperFragment == null)
+		{
+			groupsMapperFragment = zConstructGroupsMapperFragment();
+		}
+
+		return groupsMapperFragment;
+	}
+
+	private static Mapper zConstructGroupsMapperFragment()
+	{
+		InternalList groupsMapperMapperList = new InternalList(2);
+		groupsMapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groupsMapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		return new MultiEqualityMapper(groupsMapperMapperList);
+	}
+
+	private static Mapper groups2ReverseMapper = null;
+	public static Mapper zGetUserGroups2ReverseMapper()
+	{
+		if (groups2ReverseMapper == null)
+		{
+			groups2ReverseMapper = zConstructUserGroups2ReverseMapper();
+		}
+
+		return groups2ReverseMapper;
+	}
+
+	private static Mapper groups2Mapper = null;
+	public static Mapper zGetUserGroups2Mapper()
+	{
+		if (groups2Mapper == null)
+		{
+			groups2Mapper = zConstructUserGroups2Mapper();
+		}
+
+		return groups2Mapper;
+	}
+
+	private static Mapper groups2PureReverseMapper = null;
+	public static Mapper zGetUserGroups2PureReverseMapper()
+	{
+		if (groups2PureReverseMapper == null)
+		{
+			groups2PureReverseMapper = zConstructUserGroups2PureReverseMapper();
+		}
+
+		return groups2PureReverseMapper;
+	}
+
+	private static Mapper zConstructUserGroups2PureReverseMapper()
+	{
+		InternalList groups2c0MapperMapperList = new InternalList(2);
+		groups2c0MapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		groups2c0MapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper groups2c0Mapper = new MultiEqualityMapper(groups2c0MapperMapperList);
+		InternalList groups2c1MapperMapperList = new InternalList(2);
+		groups2c1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groups2c1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groups2c1Mapper = new MultiEqualityMapper(groups2c1MapperMapperList);
+		Mapper groups2Mapper = new ChainedMapper(groups2c0Mapper,groups2c1Mapper);
+		groups2Mapper.setName("groups2");
+		return groups2Mapper;
+	}
+
+	private static Mapper zConstructUserGroups2ReverseMapper()
+	{
+		InternalList groups2c0MapperInnerMapperMapperList = new InternalList(2);
+		groups2c0MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		groups2c0MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper groups2c0MapperInnerMapper = new MultiEqualityMapper(groups2c0MapperInnerMapperMapperList);
+		Mapper groups2c0Mapper = new FilteredMapper(groups2c0MapperInnerMapper, null, UserGroupFinder.zGetConstantOperation(0));
+		InternalList groups2c1MapperMapperList = new InternalList(2);
+		groups2c1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groups2c1MapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groups2c1Mapper = new MultiEqualityMapper(groups2c1MapperMapperList);
+		Mapper groups2Mapper = new ChainedMapper(groups2c0Mapper,groups2c1Mapper);
+		groups2Mapper.setName("groups2");
+		return groups2Mapper;
+	}
+
+	private static Mapper zConstructUserGroups2Mapper()
+	{
+		InternalList groups2c0MapperMapperList = new InternalList(2);
+		groups2c0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groups2c0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		Mapper groups2c0Mapper = new MultiEqualityMapper(groups2c0MapperMapperList);
+		InternalList groups2c1MapperInnerMapperMapperList = new InternalList(2);
+		groups2c1MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(1));
+		groups2c1MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(3));
+		Mapper groups2c1MapperInnerMapper = new MultiEqualityMapper(groups2c1MapperInnerMapperMapperList);
+		Mapper groups2c1Mapper = new FilteredMapper(groups2c1MapperInnerMapper, UserGroupFinder.zGetConstantOperation(0), null);
+		Mapper groups2Mapper = new ChainedMapper(groups2c0Mapper,groups2c1Mapper);
+		groups2Mapper.setName("groups2_Reverse");
+		return groups2Mapper;
+	}
+
+	private static Mapper groups2MapperFragment = null;
+	public static Mapper zGetGroups2MapperFragment()
+	{
+		if (groups2MapperFragment == null)
+		{
+			groups2MapperFragment = zConstructGroups2MapperFragment();
+		}
+
+		return groups2MapperFragment;
+	}
+
+	private static Mapper zConstructGroups2MapperFragment()
+	{
+		InternalList groups2MapperMapperList = new InternalList(2);
+		groups2MapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groups2MapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		return new MultiEqualityMapper(groups2MapperMapperList);
+	}
+
+	private static Mapper sourceGroupsReverseMapper = null;
+	public static Mapper zGetUserSourceGroupsReverseMapper()
+	{
+		if (sourceGroupsReverseMapper == null)
+		{
+			sourceGroupsReverseMapper = zConstructUserSourceGroupsReverseMapper();
+		}
+
+		return sourceGroupsReverseMapper;
+	}
+
+	private static Mapper sourceGroupsMapper = null;
+	public static Mapper zGetUserSourceGroupsMapper()
+	{
+		if (sourceGroupsMapper == null)
+		{
+			sourceGroupsMapper = zConstructUserSourceGroupsMapper();
+		}
+
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper sourceGroupsPureReverseMapper = null;
+	public static Mapper zGetUserSourceGroupsPureReverseMapper()
+	{
+		if (sourceGroupsPureReverseMapper == null)
+		{
+			sourceGroupsPureReverseMapper = zConstructUserSourceGroupsPureReverseMapper();
+		}
+
+		return sourceGroupsPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserSourceGroupsPureReverseMapper()
+	{
+		Mapper sourceGroupsc0Mapper = UserFinder.zGetConstantJoin(0);
+		Mapper sourceGroupsc1Mapper = UserGroupFinder.zGetConstantJoin(0);
+		Mapper sourceGroupsMapper = new ChainedMapper(sourceGroupsc0Mapper,sourceGroupsc1Mapper);
+		sourceGroupsMapper.setName("sourceGroups");
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper zConstructUserSourceGroupsReverseMapper()
+	{
+		Mapper sourceGroupsc0MapperInnerMapper = UserFinder.zGetConstantJoin(0);
+		Mapper sourceGroupsc0Mapper = new FilteredMapper(sourceGroupsc0MapperInnerMapper, null, UserGroupFinder.zGetConstantOperation(1));
+		Mapper sourceGroupsc1MapperInnerMapper = UserGroupFinder.zGetConstantJoin(0);
+		Mapper sourceGroupsc1Mapper = new FilteredMapper(sourceGroupsc1MapperInnerMapper, null, GroupFinder.zGetConstantOperation(0));
+		Mapper sourceGroupsMapper = new ChainedMapper(sourceGroupsc0Mapper,sourceGroupsc1Mapper);
+		sourceGroupsMapper.setName("sourceGroups");
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper zConstructUserSourceGroupsMapper()
+	{
+		Mapper sourceGroupsc0MapperInnerMapper = UserGroupFinder.zGetConstantJoin(1);
+		Mapper sourceGroupsc0Mapper = new FilteredMapper(sourceGroupsc0MapperInnerMapper, GroupFinder.zGetConstantOperation(0), null);
+		Mapper sourceGroupsc1MapperInnerMapper = UserFinder.zGetConstantJoin(1);
+		Mapper sourceGroupsc1Mapper = new FilteredMapper(sourceGroupsc1MapperInnerMapper, UserGroupFinder.zGetConstantOperation(1), null);
+		Mapper sourceGroupsMapper = new ChainedMapper(sourceGroupsc0Mapper,sourceGroupsc1Mapper);
+		sourceGroupsMapper.setName("sourceUsers");
+		return sourceGroupsMapper;
+	}
+
+	private static Mapper sourceGroupsMapperFragment = null;
+	public static Mapper zGetSourceGroupsMapperFragment()
+	{
+		if (sourceGroupsMapperFragment == null)
+		{
+			sourceGroupsMapperFragment = zConstructSourceGroupsMapperFragment();
+		}
+
+		return sourceGroupsMapperFragment;
+	}
+
+	private static Mapper zConstructSourceGroupsMapperFragment()
+	{
+		Mapper sourceGroupsMapperInnerMapper = UserGroupFinder.zGetConstantJoin(1);
+		return new FilteredMapper(sourceGroupsMapperInnerMapper, GroupFinder.zGetConstantOperation(0), null);
+	}
+
+	private static Mapper profileReverseMapper = null;
+	public static Mapper zGetUserProfileReverseMapper()
+	{
+		if (profileReverseMapper == null)
+		{
+			profileReverseMapper = zConstructUserProfileReverseMapper();
+		}
+
+		return profileReverseMapper;
+	}
+
+	private static Mapper profileMapper = null;
+	public static Mapper zGetUserProfileMapper()
+	{
+		if (profileMapper == null)
+		{
+			profileMapper = zConstructUserProfileMapper();
+		}
+
+		return profileMapper;
+	}
+
+	private static Mapper profilePureReverseMapper = null;
+	public static Mapper zGetUserProfilePureReverseMapper()
+	{
+		if (profilePureReverseMapper == null)
+		{
+			profilePureReverseMapper = zConstructUserProfilePureReverseMapper();
+		}
+
+		return profilePureReverseMapper;
+	}
+
+	private static Mapper zConstructUserProfilePureReverseMapper()
+	{
+		InternalList profileMapperMapperList = new InternalList(2);
+		profileMapperMapperList.add(UserFinder.zGetConstantJoin(4));
+		profileMapperMapperList.add(UserFinder.zGetConstantJoin(6));
+		Mapper profileMapper = new MultiEqualityMapper(profileMapperMapperList);
+		profileMapper.setName("profile");
+		return profileMapper;
+	}
+
+	private static Mapper zConstructUserProfileReverseMapper()
+	{
+		InternalList profileMapperMapperList = new InternalList(2);
+		profileMapperMapperList.add(UserFinder.zGetConstantJoin(4));
+		profileMapperMapperList.add(UserFinder.zGetConstantJoin(6));
+		Mapper profileMapper = new MultiEqualityMapper(profileMapperMapperList);
+		profileMapper.setName("profile");
+		return profileMapper;
+	}
+
+	private static Mapper zConstructUserProfileMapper()
+	{
+		InternalList profileMapperMapperList = new InternalList(2);
+		profileMapperMapperList.add(UserFinder.zGetConstantJoin(5));
+		profileMapperMapperList.add(UserFinder.zGetConstantJoin(7));
+		Mapper profileMapper = new MultiEqualityMapper(profileMapperMapperList);
+		profileMapper.setName("users");
+		return profileMapper;
+	}
+
+	private static Mapper defaultGroupReverseMapper = null;
+	public static Mapper zGetUserDefaultGroupReverseMapper()
+	{
+		if (defaultGroupReverseMapper == null)
+		{
+			defaultGroupReverseMapper = zConstructUserDefaultGroupReverseMapper();
+		}
+
+		return defaultGroupReverseMapper;
+	}
+
+	private static Mapper defaultGroupMapper = null;
+	public static Mapper zGetUserDefaultGroupMapper()
+	{
+		if (defaultGroupMapper == null)
+		{
+			defaultGroupMapper = zConstructUserDefaultGroupMapper();
+		}
+
+		return defaultGroupMapper;
+	}
+
+	private static Mapper defaultGroupPureReverseMapper = null;
+	public static Mapper zGetUserDefaultGroupPureReverseMapper()
+	{
+		if (defaultGroupPureReverseMapper == null)
+		{
+			defaultGroupPureReverseMapper = zConstructUserDefaultGroupPureReverseMapper();
+		}
+
+		return defaultGroupPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserDefaultGroupPureReverseMapper()
+	{
+		InternalList defaultGroupMapperMapperList = new InternalList(2);
+		defaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		defaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupMapper = new MultiEqualityMapper(defaultGroupMapperMapperList);
+		defaultGroupMapper.setName("defaultGroup");
+		return defaultGroupMapper;
+	}
+
+	private static Mapper zConstructUserDefaultGroupReverseMapper()
+	{
+		InternalList defaultGroupMapperMapperList = new InternalList(2);
+		defaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		defaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupMapper = new MultiEqualityMapper(defaultGroupMapperMapperList);
+		defaultGroupMapper.setName("defaultGroup");
+		return defaultGroupMapper;
+	}
+
+	private static Mapper zConstructUserDefaultGroupMapper()
+	{
+		InternalList defaultGroupMapperMapperList = new InternalList(2);
+		defaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(9));
+		defaultGroupMapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper defaultGroupMapper = new MultiEqualityMapper(defaultGroupMapperMapperList);
+		defaultGroupMapper.setName("defaultUsers");
+		return defaultGroupMapper;
+	}
+
+	private static Mapper group7ReverseMapper = null;
+	public static Mapper zGetUserGroup7ReverseMapper()
+	{
+		if (group7ReverseMapper == null)
+		{
+			group7ReverseMapper = zConstructUserGroup7ReverseMapper();
+		}
+
+		return group7ReverseMapper;
+	}
+
+	private static Mapper group7Mapper = null;
+	public static Mapper zGetUserGroup7Mapper()
+	{
+		if (group7Mapper == null)
+		{
+			group7Mapper = zConstructUserGroup7Mapper();
+		}
+
+		return group7Mapper;
+	}
+
+	private static Mapper group7PureReverseMapper = null;
+	public static Mapper zGetUserGroup7PureReverseMapper()
+	{
+		if (group7PureReverseMapper == null)
+		{
+			group7PureReverseMapper = zConstructUserGroup7PureReverseMapper();
+		}
+
+		return group7PureReverseMapper;
+	}
+
+	private static Mapper zConstructUserGroup7PureReverseMapper()
+	{
+		InternalList group7MapperMapperList = new InternalList(2);
+		group7MapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		group7MapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper group7Mapper = new MultiEqualityMapper(group7MapperMapperList);
+		group7Mapper.setName("group7");
+		return group7Mapper;
+	}
+
+	private static Mapper zConstructUserGroup7ReverseMapper()
+	{
+		InternalList group7MapperInnerMapperMapperList = new InternalList(2);
+		group7MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		group7MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper group7MapperInnerMapper = new MultiEqualityMapper(group7MapperInnerMapperMapperList);
+		Mapper group7Mapper = new FilteredMapper(group7MapperInnerMapper, null, GroupFinder.zGetConstantOperation(1));
+		group7Mapper.setName("group7");
+		return group7Mapper;
+	}
+
+	private static Mapper zConstructUserGroup7Mapper()
+	{
+		InternalList group7MapperInnerMapperMapperList = new InternalList(2);
+		group7MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(9));
+		group7MapperInnerMapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper group7MapperInnerMapper = new MultiEqualityMapper(group7MapperInnerMapperMapperList);
+		Mapper group7Mapper = new FilteredMapper(group7MapperInnerMapper, GroupFinder.zGetConstantOperation(1), null);
+		group7Mapper.setName("group7activeUsers");
+		return group7Mapper;
+	}
+
+	private static Mapper managedDefaultGroupReverseMapper = null;
+	public static Mapper zGetUserManagedDefaultGroupReverseMapper()
+	{
+		if (managedDefaultGroupReverseMapper == null)
+		{
+			managedDefaultGroupReverseMapper = zConstructUserManagedDefaultGroupReverseMapper();
+		}
+
+		return managedDefaultGroupReverseMapper;
+	}
+
+	private static Mapper managedDefaultGroupMapper = null;
+	public static Mapper zGetUserManagedDefaultGroupMapper()
+	{
+		if (managedDefaultGroupMapper == null)
+		{
+			managedDefaultGroupMapper = zConstructUserManagedDefaultGroupMapper();
+		}
+
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper managedDefaultGroupPureReverseMapper = null;
+	public static Mapper zGetUserManagedDefaultGroupPureReverseMapper()
+	{
+		if (managedDefaultGroupPureReverseMapper == null)
+		{
+			managedDefaultGroupPureReverseMapper = zConstructUserManagedDefaultGroupPureReverseMapper();
+		}
+
+		return managedDefaultGroupPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserManagedDefaultGroupPureReverseMapper()
+	{
+		InternalList managedDefaultGroupMapperMapperList = new InternalList(3);
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(12));
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper managedDefaultGroupMapper = new MultiEqualityMapper(managedDefaultGroupMapperMapperList);
+		managedDefaultGroupMapper.setName("managedDefaultGroup");
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper zConstructUserManagedDefaultGroupReverseMapper()
+	{
+		InternalList managedDefaultGroupMapperMapperList = new InternalList(3);
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(12));
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper managedDefaultGroupMapper = new MultiEqualityMapper(managedDefaultGroupMapperMapperList);
+		managedDefaultGroupMapper.setName("managedDefaultGroup");
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper zConstructUserManagedDefaultGroupMapper()
+	{
+		InternalList managedDefaultGroupMapperMapperList = new InternalList(3);
+		managedDefaultGroupMapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		managedDefaultGroupMapperMapperList.add(UserFinder.zGetConstantJoin(9));
+		managedDefaultGroupMapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper managedDefaultGroupMapper = new MultiEqualityMapper(managedDefaultGroupMapperMapperList);
+		managedDefaultGroupMapper.setName("managedDefaultGroup_Reverse");
+		return managedDefaultGroupMapper;
+	}
+
+	private static Mapper defaultGroupManagerReverseMapper = null;
+	public static Mapper zGetUserDefaultGroupManagerReverseMapper()
+	{
+		if (defaultGroupManagerReverseMapper == null)
+		{
+			defaultGroupManagerReverseMapper = zConstructUserDefaultGroupManagerReverseMapper();
+		}
+
+		return defaultGroupManagerReverseMapper;
+	}
+
+	private static Mapper defaultGroupManagerMapper = null;
+	public static Mapper zGetUserDefaultGroupManagerMapper()
+	{
+		if (defaultGroupManagerMapper == null)
+		{
+			defaultGroupManagerMapper = zConstructUserDefaultGroupManagerMapper();
+		}
+
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper defaultGroupManagerPureReverseMapper = null;
+	public static Mapper zGetUserDefaultGroupManagerPureReverseMapper()
+	{
+		if (defaultGroupManagerPureReverseMapper == null)
+		{
+			defaultGroupManagerPureReverseMapper = zConstructUserDefaultGroupManagerPureReverseMapper();
+		}
+
+		return defaultGroupManagerPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserDefaultGroupManagerPureReverseMapper()
+	{
+		InternalList defaultGroupManagerc0MapperMapperList = new InternalList(2);
+		defaultGroupManagerc0MapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		defaultGroupManagerc0MapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupManagerc0Mapper = new MultiEqualityMapper(defaultGroupManagerc0MapperMapperList);
+		InternalList defaultGroupManagerc1MapperMapperList = new InternalList(2);
+		defaultGroupManagerc1MapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		defaultGroupManagerc1MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper defaultGroupManagerc1Mapper = new MultiEqualityMapper(defaultGroupManagerc1MapperMapperList);
+		Mapper defaultGroupManagerMapper = new ChainedMapper(defaultGroupManagerc0Mapper,defaultGroupManagerc1Mapper);
+		defaultGroupManagerMapper.setName("defaultGroupManager");
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper zConstructUserDefaultGroupManagerReverseMapper()
+	{
+		InternalList defaultGroupManagerc0MapperMapperList = new InternalList(2);
+		defaultGroupManagerc0MapperMapperList.add(UserFinder.zGetConstantJoin(8));
+		defaultGroupManagerc0MapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupManagerc0Mapper = new MultiEqualityMapper(defaultGroupManagerc0MapperMapperList);
+		InternalList defaultGroupManagerc1MapperMapperList = new InternalList(2);
+		defaultGroupManagerc1MapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		defaultGroupManagerc1MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper defaultGroupManagerc1Mapper = new MultiEqualityMapper(defaultGroupManagerc1MapperMapperList);
+		Mapper defaultGroupManagerMapper = new ChainedMapper(defaultGroupManagerc0Mapper,defaultGroupManagerc1Mapper);
+		defaultGroupManagerMapper.setName("defaultGroupManager");
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper zConstructUserDefaultGroupManagerMapper()
+	{
+		InternalList defaultGroupManagerc0MapperMapperList = new InternalList(2);
+		defaultGroupManagerc0MapperMapperList.add(UserFinder.zGetConstantJoin(12));
+		defaultGroupManagerc0MapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		Mapper defaultGroupManagerc0Mapper = new MultiEqualityMapper(defaultGroupManagerc0MapperMapperList);
+		InternalList defaultGroupManagerc1MapperMapperList = new InternalList(2);
+		defaultGroupManagerc1MapperMapperList.add(UserFinder.zGetConstantJoin(9));
+		defaultGroupManagerc1MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper defaultGroupManagerc1Mapper = new MultiEqualityMapper(defaultGroupManagerc1MapperMapperList);
+		Mapper defaultGroupManagerMapper = new ChainedMapper(defaultGroupManagerc0Mapper,defaultGroupManagerc1Mapper);
+		defaultGroupManagerMapper.setName("defaultGroupManager_Reverse");
+		return defaultGroupManagerMapper;
+	}
+
+	private static Mapper defaultGroupManagerMapperFragment = null;
+	public static Mapper zGetDefaultGroupManagerMapperFragment()
+	{
+		if (defaultGroupManagerMapperFragment == null)
+		{
+			defaultGroupManagerMapperFragment = zConstructDefaultGroupManagerMapperFragment();
+		}
+
+		return defaultGroupManagerMapperFragment;
+	}
+
+	private static Mapper zConstructDefaultGroupManagerMapperFragment()
+	{
+		InternalList defaultGroupManagerMapperMapperList = new InternalList(2);
+		defaultGroupManagerMapperMapperList.add(UserFinder.zGetConstantJoin(12));
+		defaultGroupManagerMapperMapperList.add(UserFinder.zGetConstantJoin(10));
+		return new MultiEqualityMapper(defaultGroupManagerMapperMapperList);
+	}
+
+	private static Mapper groupsWithManagersReverseMapper = null;
+	public static Mapper zGetUserGroupsWithManagersReverseMapper()
+	{
+		if (groupsWithManagersReverseMapper == null)
+		{
+			groupsWithManagersReverseMapper = zConstructUserGroupsWithManagersReverseMapper();
+		}
+
+		return groupsWithManagersReverseMapper;
+	}
+
+	private static Mapper groupsWithManagersMapper = null;
+	public static Mapper zGetUserGroupsWithManagersMapper()
+	{
+		if (groupsWithManagersMapper == null)
+		{
+			groupsWithManagersMapper = zConstructUserGroupsWithManagersMapper();
+		}
+
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper groupsWithManagersPureReverseMapper = null;
+	public static Mapper zGetUserGroupsWithManagersPureReverseMapper()
+	{
+		if (groupsWithManagersPureReverseMapper == null)
+		{
+			groupsWithManagersPureReverseMapper = zConstructUserGroupsWithManagersPureReverseMapper();
+		}
+
+		return groupsWithManagersPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserGroupsWithManagersPureReverseMapper()
+	{
+		InternalList groupsWithManagersc0MapperMapperList = new InternalList(2);
+		groupsWithManagersc0MapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		groupsWithManagersc0MapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersc0Mapper = new MultiEqualityMapper(groupsWithManagersc0MapperMapperList);
+		InternalList groupsWithManagersc1pMapperMapperList = new InternalList(2);
+		groupsWithManagersc1pMapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1pMapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersc1pMapper = new MultiEqualityMapper(groupsWithManagersc1pMapperMapperList);
+		InternalList groupsWithManagersc1b0MapperMapperList = new InternalList(2);
+		groupsWithManagersc1b0MapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1b0MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersc1b0Mapper = new MultiEqualityMapper(groupsWithManagersc1b0MapperMapperList);
+		Mapper groupsWithManagersc1Mapper = new FilteredMapper(groupsWithManagersc1pMapper, null, new MappedOperation(groupsWithManagersc1b0Mapper, new All(groupsWithManagersc1b0Mapper.getAnyRightAttribute())));
+		Mapper groupsWithManagersMapper = new ChainedMapper(groupsWithManagersc0Mapper,groupsWithManagersc1Mapper);
+		groupsWithManagersMapper.setName("groupsWithManagers");
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper zConstructUserGroupsWithManagersReverseMapper()
+	{
+		InternalList groupsWithManagersc0MapperMapperList = new InternalList(2);
+		groupsWithManagersc0MapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		groupsWithManagersc0MapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersc0Mapper = new MultiEqualityMapper(groupsWithManagersc0MapperMapperList);
+		InternalList groupsWithManagersc1pMapperMapperList = new InternalList(2);
+		groupsWithManagersc1pMapperMapperList.add(UserGroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1pMapperMapperList.add(UserGroupFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersc1pMapper = new MultiEqualityMapper(groupsWithManagersc1pMapperMapperList);
+		InternalList groupsWithManagersc1b0MapperMapperList = new InternalList(2);
+		groupsWithManagersc1b0MapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		groupsWithManagersc1b0MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersc1b0Mapper = new MultiEqualityMapper(groupsWithManagersc1b0MapperMapperList);
+		Mapper groupsWithManagersc1Mapper = new FilteredMapper(groupsWithManagersc1pMapper, null, new MappedOperation(groupsWithManagersc1b0Mapper, new All(groupsWithManagersc1b0Mapper.getAnyRightAttribute())));
+		Mapper groupsWithManagersMapper = new ChainedMapper(groupsWithManagersc0Mapper,groupsWithManagersc1Mapper);
+		groupsWithManagersMapper.setName("groupsWithManagers");
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper zConstructUserGroupsWithManagersMapper()
+	{
+		InternalList groupsWithManagersb0c0MapperMapperList = new InternalList(2);
+		groupsWithManagersb0c0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groupsWithManagersb0c0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		Mapper groupsWithManagersb0c0Mapper = new MultiEqualityMapper(groupsWithManagersb0c0MapperMapperList);
+		InternalList groupsWithManagersb0c1MapperMapperList = new InternalList(2);
+		groupsWithManagersb0c1MapperMapperList.add(UserFinder.zGetConstantJoin(1));
+		groupsWithManagersb0c1MapperMapperList.add(UserFinder.zGetConstantJoin(3));
+		Mapper groupsWithManagersb0c1Mapper = new MultiEqualityMapper(groupsWithManagersb0c1MapperMapperList);
+		Mapper groupsWithManagersb0Mapper = new ChainedMapper(groupsWithManagersb0c0Mapper,groupsWithManagersb0c1Mapper);
+		InternalList groupsWithManagersb1MapperMapperList = new InternalList(2);
+		groupsWithManagersb1MapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		groupsWithManagersb1MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersb1Mapper = new MultiEqualityMapper(groupsWithManagersb1MapperMapperList);
+		Mapper groupsWithManagersMapper = new FilteredMapper(groupsWithManagersb0Mapper, new MappedOperation(groupsWithManagersb1Mapper, new All(groupsWithManagersb1Mapper.getAnyRightAttribute())), null);
+		groupsWithManagersMapper.setName("groupsWithManagers_Reverse");
+		return groupsWithManagersMapper;
+	}
+
+	private static Mapper groupsWithManagersMapperFragment = null;
+	public static Mapper zGetGroupsWithManagersMapperFragment()
+	{
+		if (groupsWithManagersMapperFragment == null)
+		{
+			groupsWithManagersMapperFragment = zConstructGroupsWithManagersMapperFragment();
+		}
+
+		return groupsWithManagersMapperFragment;
+	}
+
+	private static Mapper zConstructGroupsWithManagersMapperFragment()
+	{
+		InternalList groupsWithManagersb0MapperMapperList = new InternalList(2);
+		groupsWithManagersb0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(1));
+		groupsWithManagersb0MapperMapperList.add(UserGroupFinder.zGetConstantJoin(3));
+		Mapper groupsWithManagersb0Mapper = new MultiEqualityMapper(groupsWithManagersb0MapperMapperList);
+		InternalList groupsWithManagersb1MapperMapperList = new InternalList(2);
+		groupsWithManagersb1MapperMapperList.add(GroupFinder.zGetConstantJoin(0));
+		groupsWithManagersb1MapperMapperList.add(GroupFinder.zGetConstantJoin(2));
+		Mapper groupsWithManagersb1Mapper = new MultiEqualityMapper(groupsWithManagersb1MapperMapperList);
+		return new FilteredMapper(groupsWithManagersb0Mapper, new MappedOperation(groupsWithManagersb1Mapper, new All(groupsWithManagersb1Mapper.getAnyRightAttribute())), null);
+	}
+
+	private static Mapper userGroups2ReverseMapper = null;
+	public static Mapper zGetUserUserGroups2ReverseMapper()
+	{
+		if (userGroups2ReverseMapper == null)
+		{
+			userGroups2ReverseMapper = zConstructUserUserGroups2ReverseMapper();
+		}
+
+		return userGroups2ReverseMapper;
+	}
+
+	private static Mapper userGroups2Mapper = null;
+	public static Mapper zGetUserUserGroups2Mapper()
+	{
+		if (userGroups2Mapper == null)
+		{
+			userGroups2Mapper = zConstructUserUserGroups2Mapper();
+		}
+
+		return userGroups2Mapper;
+	}
+
+	private static Mapper userGroups2PureReverseMapper = null;
+	public static Mapper zGetUserUserGroups2PureReverseMapper()
+	{
+		if (userGroups2PureReverseMapper == null)
+		{
+			userGroups2PureReverseMapper = zConstructUserUserGroups2PureReverseMapper();
+		}
+
+		return userGroups2PureReverseMapper;
+	}
+
+	private static Mapper zConstructUserUserGroups2PureReverseMapper()
+	{
+		InternalList userGroups2MapperMapperList = new InternalList(2);
+		userGroups2MapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		userGroups2MapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper userGroups2Mapper = new MultiEqualityMapper(userGroups2MapperMapperList);
+		userGroups2Mapper.setName("userGroups2");
+		return userGroups2Mapper;
+	}
+
+	private static Mapper zConstructUserUserGroups2ReverseMapper()
+	{
+		InternalList userGroups2MapperInnerMapperMapperList = new InternalList(2);
+		userGroups2MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		userGroups2MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper userGroups2MapperInnerMapper = new MultiEqualityMapper(userGroups2MapperInnerMapperMapperList);
+		Mapper userGroups2Mapper = new FilteredMapper(userGroups2MapperInnerMapper, null, UserGroupFinder.zGetConstantOperation(0));
+		userGroups2Mapper.setName("userGroups2");
+		return userGroups2Mapper;
+	}
+
+	private static Mapper zConstructUserUserGroups2Mapper()
+	{
+		InternalList userGroups2MapperInnerMapperMapperList = new InternalList(2);
+		userGroups2MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(1));
+		userGroups2MapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(3));
+		Mapper userGroups2MapperInnerMapper = new MultiEqualityMapper(userGroups2MapperInnerMapperMapperList);
+		Mapper userGroups2Mapper = new FilteredMapper(userGroups2MapperInnerMapper, UserGroupFinder.zGetConstantOperation(0), null);
+		userGroups2Mapper.setName("userGroups2_Reverse");
+		return userGroups2Mapper;
+	}
+
+	private static Mapper userGroupsForActiveReverseMapper = null;
+	public static Mapper zGetUserUserGroupsForActiveReverseMapper()
+	{
+		if (userGroupsForActiveReverseMapper == null)
+		{
+			userGroupsForActiveReverseMapper = zConstructUserUserGroupsForActiveReverseMapper();
+		}
+
+		return userGroupsForActiveReverseMapper;
+	}
+
+	private static Mapper userGroupsForActiveMapper = null;
+	public static Mapper zGetUserUserGroupsForActiveMapper()
+	{
+		if (userGroupsForActiveMapper == null)
+		{
+			userGroupsForActiveMapper = zConstructUserUserGroupsForActiveMapper();
+		}
+
+		return userGroupsForActiveMapper;
+	}
+
+	private static Mapper userGroupsForActivePureReverseMapper = null;
+	public static Mapper zGetUserUserGroupsForActivePureReverseMapper()
+	{
+		if (userGroupsForActivePureReverseMapper == null)
+		{
+			userGroupsForActivePureReverseMapper = zConstructUserUserGroupsForActivePureReverseMapper();
+		}
+
+		return userGroupsForActivePureReverseMapper;
+	}
+
+	private static Mapper zConstructUserUserGroupsForActivePureReverseMapper()
+	{
+		InternalList userGroupsForActiveMapperMapperList = new InternalList(2);
+		userGroupsForActiveMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		userGroupsForActiveMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper userGroupsForActiveMapper = new MultiEqualityMapper(userGroupsForActiveMapperMapperList);
+		userGroupsForActiveMapper.setName("userGroupsForActive");
+		return userGroupsForActiveMapper;
+	}
+
+	private static Mapper zConstructUserUserGroupsForActiveReverseMapper()
+	{
+		InternalList userGroupsForActiveMapperInnerMapperMapperList = new InternalList(2);
+		userGroupsForActiveMapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		userGroupsForActiveMapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper userGroupsForActiveMapperInnerMapper = new MultiEqualityMapper(userGroupsForActiveMapperInnerMapperMapperList);
+		Mapper userGroupsForActiveMapper = new FilteredMapper(userGroupsForActiveMapperInnerMapper, UserFinder.zGetConstantOperation(0), null);
+		userGroupsForActiveMapper.setName("userGroupsForActive");
+		return userGroupsForActiveMapper;
+	}
+
+	private static Mapper zConstructUserUserGroupsForActiveMapper()
+	{
+		InternalList userGroupsForActiveMapperInnerMapperMapperList = new InternalList(2);
+		userGroupsForActiveMapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(1));
+		userGroupsForActiveMapperInnerMapperMapperList.add(UserFinder.zGetConstantJoin(3));
+		Mapper userGroupsForActiveMapperInnerMapper = new MultiEqualityMapper(userGroupsForActiveMapperInnerMapperMapperList);
+		Mapper userGroupsForActiveMapper = new FilteredMapper(userGroupsForActiveMapperInnerMapper, null, UserFinder.zGetConstantOperation(0));
+		userGroupsForActiveMapper.setName("userGroupsForActive_Reverse");
+		return userGroupsForActiveMapper;
+	}
+
+	private static Mapper userGroupsReverseMapper = null;
+	public static Mapper zGetUserUserGroupsReverseMapper()
+	{
+		if (userGroupsReverseMapper == null)
+		{
+			userGroupsReverseMapper = zConstructUserUserGroupsReverseMapper();
+		}
+
+		return userGroupsReverseMapper;
+	}
+
+	private static Mapper userGroupsMapper = null;
+	public static Mapper zGetUserUserGroupsMapper()
+	{
+		if (userGroupsMapper == null)
+		{
+			userGroupsMapper = zConstructUserUserGroupsMapper();
+		}
+
+		return userGroupsMapper;
+	}
+
+	private static Mapper userGroupsPureReverseMapper = null;
+	public static Mapper zGetUserUserGroupsPureReverseMapper()
+	{
+		if (userGroupsPureReverseMapper == null)
+		{
+			userGroupsPureReverseMapper = zConstructUserUserGroupsPureReverseMapper();
+		}
+
+		return userGroupsPureReverseMapper;
+	}
+
+	private static Mapper zConstructUserUserGroupsPureReverseMapper()
+	{
+		InternalList userGroupsMapperMapperList = new InternalList(2);
+		userGroupsMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		userGroupsMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper userGroupsMapper = new MultiEqualityMapper(userGroupsMapperMapperList);
+		userGroupsMapper.setName("userGroups");
+		return userGroupsMapper;
+	}
+
+	private static Mapper zConstructUserUserGroupsReverseMapper()
+	{
+		InternalList userGroupsMapperMapperList = new InternalList(2);
+		userGroupsMapperMapperList.add(UserFinder.zGetConstantJoin(0));
+		userGroupsMapperMapperList.add(UserFinder.zGetConstantJoin(2));
+		Mapper userGroupsMapper = new MultiEqualityMapper(userGroupsMapperMapperList);
+		userGroupsMapper.setName("userGroups");
+		return userGroupsMapper;
+	}
+
+	private static Mapper zConstructUserUserGroupsMapper()
+	{
+		InternalList userGroupsMapperMapperList = new InternalList(2);
+		userGroupsMapperMapperList.add(UserFinder.zGetConstantJoin(1));
+		userGroupsMapperMapperList.add(UserFinder.zGetConstantJoin(3));
+		Mapper userGroupsMapper = new MultiEqualityMapper(userGroupsMapperMapperList);
+		userGroupsMapper.setName("userGroups_Reverse");
+		return userGroupsMapper;
+	}
+
+	/** maps to USER_TBL.OBJECTID **/
+	public static IntegerAttribute<User> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to USER_TBL.USERID **/
+	public static StringAttribute<User> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to USER_TBL.NAME **/
+	public static StringAttribute<User> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to USER_TBL.ACTIVE **/
+	public static BooleanAttribute<User> active()
+	{
+		return finder.active();
+	}
+
+	/** maps to USER_TBL.LAST_UPDATE **/
+	public static TimestampAttribute<User> lastUpdate()
+	{
+		return finder.lastUpdate();
+	}
+
+	/** maps to USER_TBL.PROFILE_OID **/
+	public static IntegerAttribute<User> profileId()
+	{
+		return finder.profileId();
+	}
+
+	/** maps to USER_TBL.DEFAULT_GROUP_OID **/
+	public static IntegerAttribute<User> defaultGroupId()
+	{
+		return finder.defaultGroupId();
+	}
+
+	public static IntegerAttribute<User> sourceId()
+	{
+		return finder.sourceId();
+	}
+
+	public static GroupFinder.GroupCollectionFinderForRelatedClasses<User, GroupList, User> groups()
+	{
+		return finder.groups();
+	}
+
+	public static class UserGroupsFinderSubclass<ParentOwnerType> extends GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User>
+	{
+		public UserGroupsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = GroupFinder.name().descendingOrderBy();
+			this._type = COMPLEX_TO_MANY;
+			this._name = "groups";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserGroupsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected GroupList plainValueOf(User _obj)
+		{
+			return _obj.getGroups();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getGroups();
+		}
+	}
+
+	public static GroupFinder.GroupCollectionFinderForRelatedClasses<User, GroupList, User> groups2()
+	{
+		return finder.groups2();
+	}
+
+	public static class UserGroups2FinderSubclass<ParentOwnerType> extends GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User>
+	{
+		public UserGroups2FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = GroupFinder.name().descendingOrderBy();
+			this._type = COMPLEX_TO_MANY;
+			this._name = "groups2";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserGroups2FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected GroupList plainValueOf(User _obj)
+		{
+			return _obj.getGroups2();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getGroups2();
+		}
+	}
+
+	public static GroupFinder.GroupCollectionFinderForRelatedClasses<User, GroupList, User> sourceGroups()
+	{
+		return finder.sourceGroups();
+	}
+
+	public static class UserSourceGroupsFinderSubclass<ParentOwnerType> extends GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User>
+	{
+		public UserSourceGroupsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "sourceGroups";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserSourceGroupsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected GroupList plainValueOf(User _obj)
+		{
+			return _obj.getSourceGroups();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getSourceGroups();
+		}
+	}
+
+	public static ProfileFinder.ProfileSingleFinderForRelatedClasses<User, Profile, User> profile()
+	{
+		return finder.profile();
+	}
+
+	public static class UserProfileFinderSubclass<ParentOwnerType> extends ProfileFinder.ProfileSingleFinderForRelatedClasses<ParentOwnerType, Profile, User>
+	{
+		public UserProfileFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "profile";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ProfileFinder.id(),
+				ProfileFinder.sourceId()).withExtractors(
+				UserFinder.profileId(),
+				UserFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserProfileFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Profile plainValueOf(User _obj)
+		{
+			return _obj.getProfile();
+		}
+
+		protected ProfileList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getProfiles();
+		}
+	}
+
+	public static GroupFinder.GroupSingleFinderForRelatedClasses<User, Group, User> defaultGroup()
+	{
+		return finder.defaultGroup();
+	}
+
+	public static class UserDefaultGroupFinderSubclass<ParentOwnerType> extends GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, User>
+	{
+		public UserDefaultGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "defaultGroup";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				GroupFinder.id(),
+				GroupFinder.sourceId()).withExtractors(
+				UserFinder.defaultGroupId(),
+				UserFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserDefaultGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Group plainValueOf(User _obj)
+		{
+			return _obj.getDefaultGroup();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getDefaultGroups();
+		}
+	}
+
+	public static GroupFinder.GroupSingleFinderForRelatedClasses<User, Group, User> group7()
+	{
+		return finder.group7();
+	}
+
+	public static class UserGroup7FinderSubclass<ParentOwnerType> extends GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, User>
+	{
+		public UserGroup7FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "group7";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				GroupFinder.id(),
+				GroupFinder.sourceId(),
+				GroupFinder.type()).withExtractors(
+				UserFinder.defaultGroupId(),
+				UserFinder.sourceId(),
+				((OperationWithParameterExtractor)GroupFinder.zGetConstantOperation(1)).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserGroup7FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Group plainValueOf(User _obj)
+		{
+			return _obj.getGroup7();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getGroup7s();
+		}
+	}
+
+	public static GroupFinder.GroupSingleFinderForRelatedClasses<User, Group, User> managedDefaultGroup()
+	{
+		return finder.managedDefaultGroup();
+	}
+
+	public static class UserManagedDefaultGroupFinderSubclass<ParentOwnerType> extends GroupFinder.GroupSingleFinderForRelatedClasses<ParentOwnerType, Group, User>
+	{
+		public UserManagedDefaultGroupFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "managedDefaultGroup";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				GroupFinder.id(),
+				GroupFinder.managerId(),
+				GroupFinder.sourceId()).withExtractors(
+				UserFinder.defaultGroupId(),
+				UserFinder.id(),
+				UserFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserManagedDefaultGroupFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Group plainValueOf(User _obj)
+		{
+			return _obj.getManagedDefaultGroup();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getManagedDefaultGroups();
+		}
+	}
+
+	public static UserFinder.UserSingleFinderForRelatedClasses<User, User, User> defaultGroupManager()
+	{
+		return finder.defaultGroupManager();
+	}
+
+	public static class UserDefaultGroupManagerFinderSubclass<ParentOwnerType> extends UserFinder.UserSingleFinderForRelatedClasses<ParentOwnerType, User, User>
+	{
+		public UserDefaultGroupManagerFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "defaultGroupManager";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserDefaultGroupManagerFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected User plainValueOf(User _obj)
+		{
+			return _obj.getDefaultGroupManager();
+		}
+
+		protected UserList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getDefaultGroupManagers();
+		}
+	}
+
+	public static GroupFinder.GroupCollectionFinderForRelatedClasses<User, GroupList, User> groupsWithManagers()
+	{
+		return finder.groupsWithManagers();
+	}
+
+	public static class UserGroupsWithManagersFinderSubclass<ParentOwnerType> extends GroupFinder.GroupCollectionFinderForRelatedClasses<ParentOwnerType, GroupList, User>
+	{
+		public UserGroupsWithManagersFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_MANY;
+			this._name = "groupsWithManagers";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserGroupsWithManagersFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected GroupList plainValueOf(User _obj)
+		{
+			return _obj.getGroupsWithManagers();
+		}
+
+		protected GroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getGroupsWithManagers();
+		}
+	}
+
+	public static UserGroupFinder.UserGroupSingleFinderForRelatedClasses<User, UserGroup, User> userGroups2()
+	{
+		return finder.userGroups2();
+	}
+
+	public static class UserUserGroups2FinderSubclass<ParentOwnerType> extends UserGroupFinder.UserGroupSingleFinderForRelatedClasses<ParentOwnerType, UserGroup, User>
+	{
+		public UserUserGroups2FinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "userGroups2";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UserGroupFinder.ownerId(),
+				UserGroupFinder.dependentId(),
+				UserGroupFinder.sourceId()).withExtractors(
+				UserFinder.id(),
+				((OperationWithParameterExtractor)UserGroupFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				UserFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserUserGroups2FinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserGroup plainValueOf(User _obj)
+		{
+			return _obj.getUserGroups2();
+		}
+
+		protected UserGroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getUserGroups2s();
+		}
+	}
+
+	public static UserGroupFinder.UserGroupSingleFinderForRelatedClasses<User, UserGroup, User> userGroupsForActive()
+	{
+		return finder.userGroupsForActive();
+	}
+
+	public static class UserUserGroupsForActiveFinderSubclass<ParentOwnerType> extends UserGroupFinder.UserGroupSingleFinderForRelatedClasses<ParentOwnerType, UserGroup, User>
+	{
+		public UserUserGroupsForActiveFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "userGroupsForActive";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UserGroupFinder.ownerId(),
+				UserGroupFinder.sourceId()).withExtractors(
+				UserFinder.id(),
+				UserFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserUserGroupsForActiveFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserGroup plainValueOf(User _obj)
+		{
+			return _obj.getUserGroupsForActive();
+		}
+
+		protected UserGroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getUserGroupsForActives();
+		}
+	}
+
+	public static UserGroupFinder.UserGroupSingleFinderForRelatedClasses<User, UserGroup, User> userGroups()
+	{
+		return finder.userGroups();
+	}
+
+	public static class UserUserGroupsFinderSubclass<ParentOwnerType> extends UserGroupFinder.UserGroupSingleFinderForRelatedClasses<ParentOwnerType, UserGroup, User>
+	{
+		public UserUserGroupsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "userGroups";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				UserGroupFinder.ownerId(),
+				UserGroupFinder.sourceId()).withExtractors(
+				UserFinder.id(),
+				UserFinder.sourceId()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new UserUserGroupsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected UserGroup plainValueOf(User _obj)
+		{
+			return _obj.getUserGroups();
+		}
+
+		protected UserGroupList plainListValueOf(Object _obj)
+		{
+			return ((UserList)_obj).getUserGroups();
+		}
+	}
+
+	public static Operation eq(User other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static UserSingleFinder<User, Object, User> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+			, sourceId()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byUserId = cache.addUniqueIndex("byUserId", new Attribute[] 
+		{
+			userId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			id()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			profileId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("3 Index", new Attribute[] 
+		{
+			defaultGroupId()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("4 Index", new Attribute[] 
+		{
+			defaultGroupId()
+			, id()
+			, sourceId()
+		}
+
+		);
+		cache.addIndex("5 Index", new Attribute[] 
+		{
+			active()
+			, id()
+			, sourceId()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyUserIdRef() 
+	{
+		return INDEX_byUserId; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			GroupFinder.getFinderInstance(),ProfileFinder.getFinderInstance(),UserGroupFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			GroupFinder.getFinderInstance(),ProfileFinder.getFinderInstance(),UserGroupFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.User");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(int sourceId, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(sourceId);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<Integer> sourceIdSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceIdSet, listener);
+	}
+}
@@ -0,0 +1,238 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class UserListAbstract extends DelegatingList<User> implements MithraList<User>
+{
+	public UserListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public UserListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public UserListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public UserListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public User[] elements()
+	{
+		User[] result = new User[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public UserList intersection(UserList another)
+	{
+		return (UserList)super.intersection(another);
+	}
+
+	public User getUserAt(int index)
+	{
+		return (User)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and Group.id = UserGroup.dependentId</pre>
+	* Order By: <code>name DESC</code>.
+	* @see Group#getUsers() reverse relationship Group.getUsers()
+	* @return groups
+	*/
+	public GroupList getGroups()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.groups());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and Group.id = UserGroup.dependentId and UserGroup.dependentId = 2</pre>
+	* Order By: <code>name DESC</code>.
+	* @return groups2
+	*/
+	public GroupList getGroups2()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.groups2());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id
+	and UserGroup.sourceId = 1
+	and Group.id = UserGroup.dependentId
+	and Group.sourceId = 2</pre>
+	* @see Group#getSourceUsers() reverse relationship Group.getSourceUsers()
+	* @return source groups
+	*/
+	public GroupList getSourceGroups()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.sourceGroups());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Profile.id = this.profileId</pre>
+	* @see Profile#getUsers() reverse relationship Profile.getUsers()
+	* @return The profile
+	*/
+	public ProfileList getProfiles()
+	{
+		return (ProfileList) this.getDelegated().resolveRelationship(this, UserFinder.profile());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(Group.id = this.defaultGroupId)</pre>
+	* @see Group#getDefaultUsers() reverse relationship Group.getDefaultUsers()
+	* @return The default group
+	*/
+	public GroupList getDefaultGroups()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.defaultGroup());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = Group.id and (Group.type = 7)</pre>
+	* @see Group#getGroup7activeUsers() reverse relationship Group.getGroup7activeUsers()
+	* @return The group7
+	*/
+	public GroupList getGroup7s()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.group7());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	(this.id = Group.managerId) and (this.defaultGroupId = Group.id)</pre>
+	* @return The managed default group
+	*/
+	public GroupList getManagedDefaultGroups()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.managedDefaultGroup());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.defaultGroupId = Group.id and (User.id = Group.managerId)</pre>
+	* @return The default group manager
+	*/
+	public UserList getDefaultGroupManagers()
+	{
+		return (UserList) this.getDelegated().resolveRelationship(this, UserFinder.defaultGroupManager());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and Group.id = UserGroup.dependentId and User.id = Group.managerId</pre>
+	* @return groups with managers
+	*/
+	public GroupList getGroupsWithManagers()
+	{
+		return (GroupList) this.getDelegated().resolveRelationship(this, UserFinder.groupsWithManagers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and UserGroup.dependentId = 2</pre>
+	* @return The user groups2
+	*/
+	public UserGroupList getUserGroups2s()
+	{
+		return (UserGroupList) this.getDelegated().resolveRelationship(this, UserFinder.userGroups2());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id and this.active = true</pre>
+	* @return The user groups for active
+	*/
+	public UserGroupList getUserGroupsForActives()
+	{
+		return (UserGroupList) this.getDelegated().resolveRelationship(this, UserFinder.userGroupsForActive());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	UserGroup.ownerId = this.id</pre>
+	* @return The user groups
+	*/
+	public UserGroupList getUserGroups()
+	{
+		return (UserGroupList) this.getDelegated().resolveRelationship(this, UserFinder.userGroups());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return UserFinder.getMithraObjectPortal();
+	}
+
+	public UserList getNonPersistentCopy()
+	{
+		UserList result = new UserList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public UserList asAdhoc()
+	{
+		return (UserList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<User> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
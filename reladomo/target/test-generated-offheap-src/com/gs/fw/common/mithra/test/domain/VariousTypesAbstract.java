@@ -0,0 +1,1207 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class VariousTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(VariousTypes.class.getName());
+	private static final RelationshipHashStrategy fordatatypesById = new DatatypesByIdRhs();
+	private static final class DatatypesByIdRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			VariousTypesData _castedSrcData = (VariousTypesData) _srcData;
+			DifferentDataTypesData _castedTargetData = (DifferentDataTypesData) _targetData;
+			if (_castedSrcData.getId() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			VariousTypesData _castedSrcData = (VariousTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getId());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public VariousTypesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public VariousTypes getDetachedCopy() throws MithraBusinessException
+	{
+		return (VariousTypes) super.getDetachedCopy();
+	}
+
+	public VariousTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		VariousTypes result = (VariousTypes) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public VariousTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (VariousTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public VariousTypes zFindOriginal()
+	{
+		VariousTypesData data = (VariousTypesData) this.currentData;
+		Operation op;
+		op = VariousTypesFinder.id().eq(data.getId());
+		return VariousTypesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new VariousTypesData();
+	}
+
+	protected void zSetFromVariousTypesData( VariousTypesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromVariousTypesData( VariousTypesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isBooleanColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isBooleanColumnNull();
+	}
+
+	public boolean isBooleanColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isBooleanColumnNull()) MithraNullPrimitiveException.throwNew("booleanColumn", data);
+		return data.isBooleanColumn();
+	}
+
+	public void setBooleanColumn(boolean newValue)
+	{
+		zSetBoolean(VariousTypesFinder.booleanColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isByteColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isByteColumnNull();
+	}
+
+	public byte getByteColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isByteColumnNull()) MithraNullPrimitiveException.throwNew("byteColumn", data);
+		return data.getByteColumn();
+	}
+
+	public void setByteColumn(byte newValue)
+	{
+		zSetByte(VariousTypesFinder.byteColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isCharColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isCharColumnNull();
+	}
+
+	public char getCharColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isCharColumnNull()) MithraNullPrimitiveException.throwNew("charColumn", data);
+		return data.getCharColumn();
+	}
+
+	public void setCharColumn(char newValue)
+	{
+		zSetChar(VariousTypesFinder.charColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isDoubleColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isDoubleColumnNull();
+	}
+
+	public double getDoubleColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isDoubleColumnNull()) MithraNullPrimitiveException.throwNew("doubleColumn", data);
+		return data.getDoubleColumn();
+	}
+
+	public void setDoubleColumn(double newValue)
+	{
+		zSetDouble(VariousTypesFinder.doubleColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isFloatColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isFloatColumnNull();
+	}
+
+	public float getFloatColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isFloatColumnNull()) MithraNullPrimitiveException.throwNew("floatColumn", data);
+		return data.getFloatColumn();
+	}
+
+	public void setFloatColumn(float newValue)
+	{
+		zSetFloat(VariousTypesFinder.floatColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isIdNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(VariousTypesFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isIntColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isIntColumnNull();
+	}
+
+	public int getIntColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isIntColumnNull()) MithraNullPrimitiveException.throwNew("intColumn", data);
+		return data.getIntColumn();
+	}
+
+	public void setIntColumn(int newValue)
+	{
+		zSetInteger(VariousTypesFinder.intColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isLongColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isLongColumnNull();
+	}
+
+	public long getLongColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isLongColumnNull()) MithraNullPrimitiveException.throwNew("longColumn", data);
+		return data.getLongColumn();
+	}
+
+	public void setLongColumn(long newValue)
+	{
+		zSetLong(VariousTypesFinder.longColumn(), newValue, false, false ,true);
+	}
+
+	public boolean isShortColumnNull()
+	{
+		return ((VariousTypesData) this.zSynchronizedGetData()).isShortColumnNull();
+	}
+
+	public short getShortColumn()
+	{
+		VariousTypesData data = (VariousTypesData) this.zSynchronizedGetData();
+		if (data.isShortColumnNull()) MithraNullPrimitiveException.throwNew("shortColumn", data);
+		return data.getShortColumn();
+	}
+
+	public void setShortColumn(short newValue)
+	{
+		zSetShort(VariousTypesFinder.shortColumn(), newValue, false, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, VariousTypesFinder.booleanColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.byteColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.floatColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.shortColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.longColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.doubleColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.charColumn(), false);
+		zNullify(behavior, data, VariousTypesFinder.intColumn(), false);
+	}
+
+	public void setBooleanColumnNull()
+	{
+		zNullify(VariousTypesFinder.booleanColumn(), false);
+	}
+
+	public void setByteColumnNull()
+	{
+		zNullify(VariousTypesFinder.byteColumn(), false);
+	}
+
+	public void setFloatColumnNull()
+	{
+		zNullify(VariousTypesFinder.floatColumn(), false);
+	}
+
+	public void setShortColumnNull()
+	{
+		zNullify(VariousTypesFinder.shortColumn(), false);
+	}
+
+	public void setLongColumnNull()
+	{
+		zNullify(VariousTypesFinder.longColumn(), false);
+	}
+
+	public void setDoubleColumnNull()
+	{
+		zNullify(VariousTypesFinder.doubleColumn(), false);
+	}
+
+	public void setCharColumnNull()
+	{
+		zNullify(VariousTypesFinder.charColumn(), false);
+	}
+
+	public void setIntColumnNull()
+	{
+		zNullify(VariousTypesFinder.intColumn(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		VariousTypesData _newData = (VariousTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		VariousTypesData _newData = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _newData = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.intColumn = DifferentDataTypes.intColumn</pre>
+	* @see DifferentDataTypes#getVariousByIntColumn() reverse relationship DifferentDataTypes.getVariousByIntColumn()
+	* @return datatypes by int column
+	*/
+	public DifferentDataTypesList getDatatypesByIntColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isIntColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.intColumn().eq(_data.getIntColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isIntColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.intColumn().eq(_data.getIntColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByIntColumn();
+			if (_result == null)
+			{
+				if (!_data.isIntColumnNull())
+				{
+					_op = DifferentDataTypesFinder.intColumn().eq(_data.getIntColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByIntColumn(DifferentDataTypesList datatypesByIntColumn)
+	{
+		DifferentDataTypesList _datatypesByIntColumn = (DifferentDataTypesList) datatypesByIntColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByIntColumn(_datatypesByIntColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DifferentDataTypes.id</pre>
+	* @see DifferentDataTypes#getVariousById() reverse relationship DifferentDataTypes.getVariousById()
+	* @return The datatypes by id
+	*/
+	public DifferentDataTypes getDatatypesById()
+	{
+		DifferentDataTypes _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			{
+				_portal = DifferentDataTypesFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, fordatatypesById, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (DifferentDataTypes) _related;
+				if (_related == null)
+				{
+					_op = DifferentDataTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = DifferentDataTypesFinder.id().eq(_data.getId());
+					_result = DifferentDataTypesFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypes) _data.getDatatypesById();
+			if (_result == null)
+			{
+				{
+					_op = DifferentDataTypesFinder.id().eq(_data.getId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = DifferentDataTypesFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesById(DifferentDataTypes datatypesById)
+	{
+		DifferentDataTypes _datatypesById = (DifferentDataTypes) datatypesById;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesById(_datatypesById);
+			if (_datatypesById == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(_datatypesById.getId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			if (_datatypesById == null)
+			{
+				this.setId(0);
+			}
+			else
+			{
+				this.setId(
+					_datatypesById.getId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.booleanColumn = DifferentDataTypes.booleanColumn</pre>
+	* @see DifferentDataTypes#getVariousByBooleanColumn() reverse relationship DifferentDataTypes.getVariousByBooleanColumn()
+	* @return datatypes by boolean column
+	*/
+	public DifferentDataTypesList getDatatypesByBooleanColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isBooleanColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.booleanColumn().eq(_data.isBooleanColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isBooleanColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.booleanColumn().eq(_data.isBooleanColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByBooleanColumn();
+			if (_result == null)
+			{
+				if (!_data.isBooleanColumnNull())
+				{
+					_op = DifferentDataTypesFinder.booleanColumn().eq(_data.isBooleanColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByBooleanColumn(DifferentDataTypesList datatypesByBooleanColumn)
+	{
+		DifferentDataTypesList _datatypesByBooleanColumn = (DifferentDataTypesList) datatypesByBooleanColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByBooleanColumn(_datatypesByBooleanColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.byteColumn = DifferentDataTypes.byteColumn</pre>
+	* @see DifferentDataTypes#getVariousByByteColumn() reverse relationship DifferentDataTypes.getVariousByByteColumn()
+	* @return datatypes by byte column
+	*/
+	public DifferentDataTypesList getDatatypesByByteColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isByteColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.byteColumn().eq(_data.getByteColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isByteColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.byteColumn().eq(_data.getByteColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByByteColumn();
+			if (_result == null)
+			{
+				if (!_data.isByteColumnNull())
+				{
+					_op = DifferentDataTypesFinder.byteColumn().eq(_data.getByteColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByByteColumn(DifferentDataTypesList datatypesByByteColumn)
+	{
+		DifferentDataTypesList _datatypesByByteColumn = (DifferentDataTypesList) datatypesByByteColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByByteColumn(_datatypesByByteColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.floatColumn = DifferentDataTypes.floatColumn</pre>
+	* @see DifferentDataTypes#getVariousByFloatColumn() reverse relationship DifferentDataTypes.getVariousByFloatColumn()
+	* @return datatypes by float column
+	*/
+	public DifferentDataTypesList getDatatypesByFloatColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isFloatColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.floatColumn().eq(_data.getFloatColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isFloatColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.floatColumn().eq(_data.getFloatColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByFloatColumn();
+			if (_result == null)
+			{
+				if (!_data.isFloatColumnNull())
+				{
+					_op = DifferentDataTypesFinder.floatColumn().eq(_data.getFloatColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByFloatColumn(DifferentDataTypesList datatypesByFloatColumn)
+	{
+		DifferentDataTypesList _datatypesByFloatColumn = (DifferentDataTypesList) datatypesByFloatColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByFloatColumn(_datatypesByFloatColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.shortColumn = DifferentDataTypes.shortColumn</pre>
+	* @see DifferentDataTypes#getVariousByShortColumn() reverse relationship DifferentDataTypes.getVariousByShortColumn()
+	* @return datatypes by short column
+	*/
+	public DifferentDataTypesList getDatatypesByShortColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isShortColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.shortColumn().eq(_data.getShortColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isShortColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.shortColumn().eq(_data.getShortColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByShortColumn();
+			if (_result == null)
+			{
+				if (!_data.isShortColumnNull())
+				{
+					_op = DifferentDataTypesFinder.shortColumn().eq(_data.getShortColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByShortColumn(DifferentDataTypesList datatypesByShortColumn)
+	{
+		DifferentDataTypesList _datatypesByShortColumn = (DifferentDataTypesList) datatypesByShortColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByShortColumn(_datatypesByShortColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.longColumn = DifferentDataTypes.longColumn</pre>
+	* @see DifferentDataTypes#getVariousByLongColumn() reverse relationship DifferentDataTypes.getVariousByLongColumn()
+	* @return datatypes by long column
+	*/
+	public DifferentDataTypesList getDatatypesByLongColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isLongColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.longColumn().eq(_data.getLongColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isLongColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.longColumn().eq(_data.getLongColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByLongColumn();
+			if (_result == null)
+			{
+				if (!_data.isLongColumnNull())
+				{
+					_op = DifferentDataTypesFinder.longColumn().eq(_data.getLongColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByLongColumn(DifferentDataTypesList datatypesByLongColumn)
+	{
+		DifferentDataTypesList _datatypesByLongColumn = (DifferentDataTypesList) datatypesByLongColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByLongColumn(_datatypesByLongColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.doubleColumn = DifferentDataTypes.doubleColumn</pre>
+	* @see DifferentDataTypes#getVariousByDoubleColumn() reverse relationship DifferentDataTypes.getVariousByDoubleColumn()
+	* @return datatypes by double column
+	*/
+	public DifferentDataTypesList getDatatypesByDoubleColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isDoubleColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.doubleColumn().eq(_data.getDoubleColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isDoubleColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.doubleColumn().eq(_data.getDoubleColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByDoubleColumn();
+			if (_result == null)
+			{
+				if (!_data.isDoubleColumnNull())
+				{
+					_op = DifferentDataTypesFinder.doubleColumn().eq(_data.getDoubleColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByDoubleColumn(DifferentDataTypesList datatypesByDoubleColumn)
+	{
+		DifferentDataTypesList _datatypesByDoubleColumn = (DifferentDataTypesList) datatypesByDoubleColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByDoubleColumn(_datatypesByDoubleColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.charColumn = DifferentDataTypes.charColumn</pre>
+	* @see DifferentDataTypes#getVariousByCharColumn() reverse relationship DifferentDataTypes.getVariousByCharColumn()
+	* @return datatypes by char column
+	*/
+	public DifferentDataTypesList getDatatypesByCharColumn()
+	{
+		DifferentDataTypesList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isCharColumnNull())
+			{
+				{
+					_op = DifferentDataTypesFinder.charColumn().eq(_data.getCharColumn());
+				}
+			}
+			else 
+			{
+				_result = new DifferentDataTypesList( new None (
+					DifferentDataTypesFinder.id()));
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isCharColumnNull())
+				{
+					Operation detachedOp = DifferentDataTypesFinder.charColumn().eq(_data.getCharColumn());
+					_result = new DifferentDataTypesList(detachedOp);
+					_result.zSetForRelationship();
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (DifferentDataTypesList) _data.getDatatypesByCharColumn();
+			if (_result == null)
+			{
+				if (!_data.isCharColumnNull())
+				{
+					_op = DifferentDataTypesFinder.charColumn().eq(_data.getCharColumn());
+				}
+				else 
+				{
+					_result = new DifferentDataTypesList( new None (
+						DifferentDataTypesFinder.id()));
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new DifferentDataTypesList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setDatatypesByCharColumn(DifferentDataTypesList datatypesByCharColumn)
+	{
+		DifferentDataTypesList _datatypesByCharColumn = (DifferentDataTypesList) datatypesByCharColumn;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypesData _data = (VariousTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setDatatypesByCharColumn(_datatypesByCharColumn);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public VariousTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		VariousTypes original = (VariousTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return VariousTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return VariousTypesFinder.getMithraObjectPortal();
+	}
+
+	public VariousTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, VariousTypesFinder.booleanColumn(), false);
+		changed |= zUpdateByte(behavior, data, newData, VariousTypesFinder.byteColumn(), false);
+		changed |= zUpdateChar(behavior, data, newData, VariousTypesFinder.charColumn(), false);
+		changed |= zUpdateDouble(behavior, data, newData, VariousTypesFinder.doubleColumn(), false);
+		changed |= zUpdateFloat(behavior, data, newData, VariousTypesFinder.floatColumn(), false);
+		changed |= zUpdateInteger(behavior, data, newData, VariousTypesFinder.intColumn(), false);
+		changed |= zUpdateLong(behavior, data, newData, VariousTypesFinder.longColumn(), false);
+		changed |= zUpdateShort(behavior, data, newData, VariousTypesFinder.shortColumn(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, VariousTypesFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		VariousTypesAbstract result = (VariousTypesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
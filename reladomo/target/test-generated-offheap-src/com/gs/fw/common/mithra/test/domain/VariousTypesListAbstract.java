@@ -0,0 +1,309 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class VariousTypesListAbstract extends DelegatingList<VariousTypes> implements MithraTransactionalList<VariousTypes>
+{
+	public VariousTypesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public VariousTypesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public VariousTypesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public VariousTypesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public VariousTypes[] elements()
+	{
+		VariousTypes[] result = new VariousTypes[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public VariousTypesList intersection(VariousTypesList another)
+	{
+		return (VariousTypesList)super.intersection(another);
+	}
+
+	public VariousTypes getVariousTypesAt(int index)
+	{
+		return (VariousTypes)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.intColumn = DifferentDataTypes.intColumn</pre>
+	* @see DifferentDataTypes#getVariousByIntColumn() reverse relationship DifferentDataTypes.getVariousByIntColumn()
+	* @return datatypes by int column
+	*/
+	public DifferentDataTypesList getDatatypesByIntColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByIntColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DifferentDataTypes.id</pre>
+	* @see DifferentDataTypes#getVariousById() reverse relationship DifferentDataTypes.getVariousById()
+	* @return The datatypes by id
+	*/
+	public DifferentDataTypesList getDatatypesByIds()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesById());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.booleanColumn = DifferentDataTypes.booleanColumn</pre>
+	* @see DifferentDataTypes#getVariousByBooleanColumn() reverse relationship DifferentDataTypes.getVariousByBooleanColumn()
+	* @return datatypes by boolean column
+	*/
+	public DifferentDataTypesList getDatatypesByBooleanColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByBooleanColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.byteColumn = DifferentDataTypes.byteColumn</pre>
+	* @see DifferentDataTypes#getVariousByByteColumn() reverse relationship DifferentDataTypes.getVariousByByteColumn()
+	* @return datatypes by byte column
+	*/
+	public DifferentDataTypesList getDatatypesByByteColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByByteColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.floatColumn = DifferentDataTypes.floatColumn</pre>
+	* @see DifferentDataTypes#getVariousByFloatColumn() reverse relationship DifferentDataTypes.getVariousByFloatColumn()
+	* @return datatypes by float column
+	*/
+	public DifferentDataTypesList getDatatypesByFloatColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByFloatColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.shortColumn = DifferentDataTypes.shortColumn</pre>
+	* @see DifferentDataTypes#getVariousByShortColumn() reverse relationship DifferentDataTypes.getVariousByShortColumn()
+	* @return datatypes by short column
+	*/
+	public DifferentDataTypesList getDatatypesByShortColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByShortColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.longColumn = DifferentDataTypes.longColumn</pre>
+	* @see DifferentDataTypes#getVariousByLongColumn() reverse relationship DifferentDataTypes.getVariousByLongColumn()
+	* @return datatypes by long column
+	*/
+	public DifferentDataTypesList getDatatypesByLongColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByLongColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.doubleColumn = DifferentDataTypes.doubleColumn</pre>
+	* @see DifferentDataTypes#getVariousByDoubleColumn() reverse relationship DifferentDataTypes.getVariousByDoubleColumn()
+	* @return datatypes by double column
+	*/
+	public DifferentDataTypesList getDatatypesByDoubleColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByDoubleColumn());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.charColumn = DifferentDataTypes.charColumn</pre>
+	* @see DifferentDataTypes#getVariousByCharColumn() reverse relationship DifferentDataTypes.getVariousByCharColumn()
+	* @return datatypes by char column
+	*/
+	public DifferentDataTypesList getDatatypesByCharColumn()
+	{
+		return (DifferentDataTypesList) this.getDelegated().resolveRelationship(this, VariousTypesFinder.datatypesByCharColumn());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return VariousTypesFinder.getMithraObjectPortal();
+	}
+
+	public VariousTypesList getNonPersistentCopy()
+	{
+		VariousTypesList result = new VariousTypesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public VariousTypesList asAdhoc()
+	{
+		return (VariousTypesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<VariousTypes> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public VariousTypesList merge(MithraTransactionalList<VariousTypes> incoming, TopLevelMergeOptions<VariousTypes> mergeOptions)
+	{
+		return (VariousTypesList) super.merge(incoming, mergeOptions);
+	}
+
+	public VariousTypesList getDetachedCopy()
+	{
+		VariousTypesList result = new VariousTypesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBooleanColumn(boolean newValue)
+	{
+		zSetBoolean(VariousTypesFinder.booleanColumn(), newValue);
+	}
+
+	public void setByteColumn(byte newValue)
+	{
+		zSetByte(VariousTypesFinder.byteColumn(), newValue);
+	}
+
+	public void setCharColumn(char newValue)
+	{
+		zSetChar(VariousTypesFinder.charColumn(), newValue);
+	}
+
+	public void setDoubleColumn(double newValue)
+	{
+		zSetDouble(VariousTypesFinder.doubleColumn(), newValue);
+	}
+
+	public void setFloatColumn(float newValue)
+	{
+		zSetFloat(VariousTypesFinder.floatColumn(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(VariousTypesFinder.id(), newValue);
+	}
+
+	public void setIntColumn(int newValue)
+	{
+		zSetInteger(VariousTypesFinder.intColumn(), newValue);
+	}
+
+	public void setLongColumn(long newValue)
+	{
+		zSetLong(VariousTypesFinder.longColumn(), newValue);
+	}
+
+	public void setShortColumn(short newValue)
+	{
+		zSetShort(VariousTypesFinder.shortColumn(), newValue);
+	}
+
+	public void setBooleanColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.booleanColumn());
+	}
+
+	public void setByteColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.byteColumn());
+	}
+
+	public void setFloatColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.floatColumn());
+	}
+
+	public void setShortColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.shortColumn());
+	}
+
+	public void setLongColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.longColumn());
+	}
+
+	public void setDoubleColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.doubleColumn());
+	}
+
+	public void setCharColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.charColumn());
+	}
+
+	public void setIntColumnNull()
+	{
+		zSetAttributeNull(VariousTypesFinder.intColumn());
+	}
+}
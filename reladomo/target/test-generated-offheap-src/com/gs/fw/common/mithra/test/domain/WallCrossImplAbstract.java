@@ -0,0 +1,340 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class WallCrossImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(WallCrossImpl.class.getName());
+	public WallCrossImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public WallCrossImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (WallCrossImpl) super.getDetachedCopy();
+	}
+
+	public WallCrossImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		WallCrossImpl result = (WallCrossImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public WallCrossImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (WallCrossImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public WallCrossImpl zFindOriginal()
+	{
+		WallCrossImplData data = (WallCrossImplData) this.currentData;
+		Operation op;
+		op = WallCrossImplFinder.listId().eq(data.getListId());
+		return WallCrossImplFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new WallCrossImplData();
+	}
+
+	protected void zSetFromWallCrossImplData( WallCrossImplData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromWallCrossImplData( WallCrossImplData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isEntityidNull()
+	{
+		return ((WallCrossImplData) this.zSynchronizedGetData()).isEntityidNull();
+	}
+
+	public int getEntityid()
+	{
+		WallCrossImplData data = (WallCrossImplData) this.zSynchronizedGetData();
+		if (data.isEntityidNull()) MithraNullPrimitiveException.throwNew("entityid", data);
+		return data.getEntityid();
+	}
+
+	public void setEntityid(int newValue)
+	{
+		zSetInteger(WallCrossImplFinder.entityid(), newValue, false, false ,true);
+	}
+
+	public boolean isListIdNull()
+	{
+		return ((WallCrossImplData) this.zSynchronizedGetData()).isListIdNull();
+	}
+
+	public byte[] getListId()
+	{
+		WallCrossImplData data = (WallCrossImplData) this.zSynchronizedGetData();
+		return data.getListId();
+	}
+
+	public void setListId(byte[] newValue)
+	{
+		zSetByteArray(WallCrossImplFinder.listId(), newValue, true, false );
+	}
+
+	public boolean isWallCrosserEmplidNull()
+	{
+		return ((WallCrossImplData) this.zSynchronizedGetData()).isWallCrosserEmplidNull();
+	}
+
+	public String getWallCrosserEmplid()
+	{
+		WallCrossImplData data = (WallCrossImplData) this.zSynchronizedGetData();
+		return data.getWallCrosserEmplid();
+	}
+
+	public void setWallCrosserEmplid(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 11)
+		throw new MithraBusinessException("Attribute 'wallCrosserEmplid' cannot exceed maximum length of 11: " + newValue);
+		zSetString(WallCrossImplFinder.wallCrosserEmplid(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+		zNullify(behavior, data, WallCrossImplFinder.entityid(), false);
+	}
+
+	public void setEntityidNull()
+	{
+		zNullify(WallCrossImplFinder.entityid(), false);
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		WallCrossImplData _newData = (WallCrossImplData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		WallCrossImplData _newData = (WallCrossImplData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		WallCrossImplData _newData = (WallCrossImplData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	ListEntryContactsImpl.listId=this.listId</pre>
+	* @see ListEntryContactsImpl#getWallCrossImpl() reverse relationship ListEntryContactsImpl.getWallCrossImpl()
+	* @return list entry contacts
+	*/
+	public ListEntryContactsImplList getListEntryContacts()
+	{
+		ListEntryContactsImplList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		WallCrossImplData _data = (WallCrossImplData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = ListEntryContactsImplFinder.listId().eq(_data.getListId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				{
+					Operation detachedOp = ListEntryContactsImplFinder.listId().eq(_data.getListId());
+					_result = new ListEntryContactsImplList(detachedOp);
+					_result.zSetForRelationship();
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (ListEntryContactsImplList) _data.getListEntryContacts();
+			if (_result == null)
+			{
+				{
+					_op = ListEntryContactsImplFinder.listId().eq(_data.getListId());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new ListEntryContactsImplList(_op);
+			_result.zSetForRelationship();
+		}
+
+		return _result;
+	}
+
+	public void setListEntryContacts(ListEntryContactsImplList listEntryContacts)
+	{
+		ListEntryContactsImplList _listEntryContacts = (ListEntryContactsImplList) listEntryContacts;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		WallCrossImplData _data = (WallCrossImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setListEntryContacts(_listEntryContacts);
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public WallCrossImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		WallCrossImpl original = (WallCrossImpl) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return WallCrossImplFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return WallCrossImplFinder.getMithraObjectPortal();
+	}
+
+	public WallCrossImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, WallCrossImplFinder.entityid(), false);
+		changed |= zUpdateString(behavior, data, newData, WallCrossImplFinder.wallCrosserEmplid(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateByteArray(behavior, data, newData, WallCrossImplFinder.listId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		WallCrossImplAbstract result = (WallCrossImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,210 @@
+package com.gs.fw.common.mithra.test.domain;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class WishListItemListAbstract extends DelegatingList<WishListItem> implements MithraTransactionalList<WishListItem>
+{
+	public WishListItemListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public WishListItemListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public WishListItemListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public WishListItemListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public WishListItem[] elements()
+	{
+		WishListItem[] result = new WishListItem[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public WishListItemList intersection(WishListItemList another)
+	{
+		return (WishListItemList)super.intersection(another);
+	}
+
+	public WishListItem getWishListItemAt(int index)
+	{
+		return (WishListItem)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.productId = ProductSpecification.productId</pre>
+	* @return The product specs
+	*/
+	public ProductSpecificationList getProductSpecs()
+	{
+		return (ProductSpecificationList) this.getDelegated().resolveRelationship(this, WishListItemFinder.productSpecs());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.manufacturerId = Manufacturer.manufacturerId</pre>
+	* @return The manufacturers
+	*/
+	public ManufacturerList getManufacturers()
+	{
+		return (ManufacturerList) this.getDelegated().resolveRelationship(this, WishListItemFinder.manufacturers());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.saleId = Sale.saleId</pre>
+	* @see Sale#getWishListItems() reverse relationship Sale.getWishListItems()
+	* @return The sale
+	*/
+	public SaleList getSales()
+	{
+		return (SaleList) this.getDelegated().resolveRelationship(this, WishListItemFinder.sale());
+	}
+
+	public void zSetParentContainersale(SaleAbstract parent)
+	{
+		for (int i = 0; i < this.size(); i++)
+		{
+			WishListItem item = this.getWishListItemAt(i);
+			item.zSetParentContainersale(parent);
+		}
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return WishListItemFinder.getMithraObjectPortal();
+	}
+
+	public WishListItemList getNonPersistentCopy()
+	{
+		WishListItemList result = new WishListItemList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public WishListItemList asAdhoc()
+	{
+		return (WishListItemList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<WishListItem> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public WishListItemList merge(MithraTransactionalList<WishListItem> incoming, TopLevelMergeOptions<WishListItem> mergeOptions)
+	{
+		return (WishListItemList) super.merge(incoming, mergeOptions);
+	}
+
+	public WishListItemList getDetachedCopy()
+	{
+		WishListItemList result = new WishListItemList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setItemId(int newValue)
+	{
+		zSetInteger(WishListItemFinder.itemId(), newValue);
+	}
+
+	public void setManufacturerId(int newValue)
+	{
+		zSetInteger(WishListItemFinder.manufacturerId(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(WishListItemFinder.productId(), newValue);
+	}
+
+	public void setQuantity(int newValue)
+	{
+		zSetInteger(WishListItemFinder.quantity(), newValue);
+	}
+
+	public void setSaleId(int newValue)
+	{
+		zSetInteger(WishListItemFinder.saleId(), newValue);
+	}
+
+	public void setSaleIdNull()
+	{
+		zSetAttributeNull(WishListItemFinder.saleId());
+	}
+
+	public void setProductIdNull()
+	{
+		zSetAttributeNull(WishListItemFinder.productId());
+	}
+
+	public void setManufacturerIdNull()
+	{
+		zSetAttributeNull(WishListItemFinder.manufacturerId());
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(WishListItemFinder.quantity());
+	}
+}
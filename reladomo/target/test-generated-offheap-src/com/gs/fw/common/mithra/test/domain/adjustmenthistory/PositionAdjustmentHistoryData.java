@@ -0,0 +1,690 @@
+package com.gs.fw.common.mithra.test.domain.adjustmenthistory;
+import java.util.*;
+import java.sql.Timestamp;
+import java.sql.Date;
+import com.gs.fw.common.mithra.test.domain.Account;
+import com.gs.fw.common.mithra.test.domain.AccountAbstract;
+import com.gs.fw.common.mithra.test.domain.AccountData;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.AccountList;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.PrintablePreparedStatement;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.cache.offheap.MithraOffHeapDataObject;
+import com.gs.fw.common.mithra.cache.offheap.OffHeapDataStorage;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PositionAdjustmentHistoryData
+implements MithraDataObject
+{
+	private Object[] _relationships;
+	private byte isNullBits0 = 0;
+	private String accountId;
+	private String acmapCode;
+	private double adjustmentDelta;
+	private int adjustmentTypeId;
+	private Timestamp businessDate;
+	private String comment;
+	private Timestamp entryDate;
+	private double originalValue;
+	private int productId;
+	private long referenceId;
+	private String userId;
+	public boolean isAccountIdNull()
+	{
+		return this.getAccountId() == null;
+	}
+
+	public boolean isAcmapCodeNull()
+	{
+		return this.getAcmapCode() == null;
+	}
+
+	public boolean isBusinessDateNull()
+	{
+		return this.getBusinessDate() == null;
+	}
+
+	public boolean isCommentNull()
+	{
+		return this.getComment() == null;
+	}
+
+	public boolean isEntryDateNull()
+	{
+		return this.getEntryDate() == null;
+	}
+
+	public boolean isReferenceIdNull()
+	{
+		return false;
+	}
+
+	public boolean isUserIdNull()
+	{
+		return this.getUserId() == null;
+	}
+
+	public boolean isAdjustmentTypeIdNull()
+	{
+		return (isNullBits0 & 1) != 0 ;
+	}
+
+	public boolean isProductIdNull()
+	{
+		return (isNullBits0 & 1 << 1) != 0 ;
+	}
+
+	public boolean isOriginalValueNull()
+	{
+		return (isNullBits0 & 1 << 2) != 0 ;
+	}
+
+	public boolean isAdjustmentDeltaNull()
+	{
+		return (isNullBits0 & 1 << 3) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		zWriteNullBits(out);
+		out.writeObject(this.accountId);
+		out.writeObject(this.acmapCode);
+		out.writeDouble(this.adjustmentDelta);
+		out.writeInt(this.adjustmentTypeId);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.businessDate);
+		out.writeObject(this.comment);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.entryDate);
+		out.writeDouble(this.originalValue);
+		out.writeInt(this.productId);
+		out.writeLong(this.referenceId);
+		out.writeObject(this.userId);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0);
+	}
+
+	public String getAccountId()
+	{
+		return this.accountId;
+	}
+
+	public int zGetAccountIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(accountId);
+	}
+
+	public void setAccountId(String value)
+	{
+		this.accountId = StringPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public void setAccountIdNull()
+	{
+		this.setAccountId(null);
+	}
+
+	public String getAcmapCode()
+	{
+		return this.acmapCode;
+	}
+
+	public int zGetAcmapCodeAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(acmapCode);
+	}
+
+	public void setAcmapCode(String value)
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public void setAcmapCodeNull()
+	{
+		this.setAcmapCode(null);
+	}
+
+	public double getAdjustmentDelta()
+	{
+		return this.adjustmentDelta;
+	}
+
+	public void setAdjustmentDelta(double value)
+	{
+		this.adjustmentDelta = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 3));
+	}
+
+	public int getAdjustmentTypeId()
+	{
+		return this.adjustmentTypeId;
+	}
+
+	public void setAdjustmentTypeId(int value)
+	{
+		this.adjustmentTypeId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1));
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public long zGetBusinessDateAsLong()
+	{
+		if (businessDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return businessDate.getTime();
+	}
+
+	public void setBusinessDate(Timestamp value)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache(), PositionAdjustmentHistoryFinder.isOffHeap());
+	}
+
+	public void setBusinessDateNull()
+	{
+		this.setBusinessDate(null);
+	}
+
+	public String getComment()
+	{
+		return this.comment;
+	}
+
+	public int zGetCommentAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(comment);
+	}
+
+	public void setComment(String value)
+	{
+		this.comment = StringPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache());
+	}
+
+	public void setCommentNull()
+	{
+		this.setComment(null);
+	}
+
+	public Timestamp getEntryDate()
+	{
+		return this.entryDate;
+	}
+
+	public long zGetEntryDateAsLong()
+	{
+		if (entryDate == null) return TimestampPool.OFF_HEAP_NULL;
+		return entryDate.getTime();
+	}
+
+	public void setEntryDate(Timestamp value)
+	{
+		this.entryDate = TimestampPool.getInstance().getOrAddToCache(value, PositionAdjustmentHistoryFinder.isFullCache(), PositionAdjustmentHistoryFinder.isOffHeap());
+	}
+
+	public void setEntryDateNull()
+	{
+		this.setEntryDate(null);
+	}
+
+	public double getOriginalValue()
+	{
+		return this.originalValue;
+	}
+
+	public void setOriginalValue(double value)
+	{
+		this.originalValue = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 2));
+	}
+
+	public int getProductId()
+	{
+		return this.productId;
+	}
+
+	public void setProductId(int value)
+	{
+		this.productId = value;
+		isNullBits0 = (byte)((int)isNullBits0 & ~( 1 << 1));
+	}
+
+	public long getReferenceId()
+	{
+		return this.referenceId;
+	}
+
+	public void setReferenceId(long value)
+	{
+		this.referenceId = value;
+	}
+
+	public void setReferenceIdNull()
+	{
+		throw new RuntimeException("should never be called");
+	}
+
+	public String getUserId()
+	{
+		return this.userId;
+	}
+
+	public int zGetUserIdAsInt()
+	{
+		return StringPool.getInstance().getOffHeapAddressWithoutAdding(userId);
+	}
+
+	public void setUserId(String value)
+	{
+		this.userId = value;
+	}
+
+	public void setUserIdNull()
+	{
+		this.setUserId(null);
+	}
+
+	public void setAdjustmentTypeIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1);
+	}
+
+	public void setProductIdNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 1);
+	}
+
+	public void setOriginalValueNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 2);
+	}
+
+	public void setAdjustmentDeltaNull()
+	{
+		isNullBits0 = (byte)((int)isNullBits0 | 1 << 3);
+	}
+
+	public byte zGetIsNullBits0()
+	{
+		return this.isNullBits0;
+	}
+
+	public void zSetIsNullBits0(byte newValue)
+	{
+		this.isNullBits0 = newValue;
+	}
+
+	protected void copyInto(PositionAdjustmentHistoryData copy, boolean withRelationships)
+	{
+		copy.isNullBits0 = this.isNullBits0;
+		copy.accountId = this.accountId;
+		copy.acmapCode = this.acmapCode;
+		copy.adjustmentDelta = this.adjustmentDelta;
+		copy.adjustmentTypeId = this.adjustmentTypeId;
+		copy.businessDate = this.businessDate;
+		copy.comment = this.comment;
+		copy.entryDate = this.entryDate;
+		copy.originalValue = this.originalValue;
+		copy.productId = this.productId;
+		copy.referenceId = this.referenceId;
+		copy.userId = this.userId;
+		if (withRelationships)
+		{
+			if (_relationships != null)
+			{
+				copy._relationships = new Object[3];
+				System.arraycopy(_relationships, 0, copy._relationships, 0, _relationships.length);
+			}
+		}
+	}
+
+	public void zDeserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.isNullBits0 = in.readByte();
+		this.accountId = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+		this.adjustmentDelta = in.readDouble();
+		this.adjustmentTypeId = in.readInt();
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PositionAdjustmentHistoryFinder.isFullCache(), PositionAdjustmentHistoryFinder.isOffHeap());
+		this.comment = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+		this.entryDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), PositionAdjustmentHistoryFinder.isFullCache(), PositionAdjustmentHistoryFinder.isOffHeap());
+		this.originalValue = in.readDouble();
+		this.productId = in.readInt();
+		this.referenceId = in.readLong();
+		this.userId = (String)in.readObject();
+	}
+
+	public boolean hasSamePrimaryKeyIgnoringAsOfAttributes(MithraDataObject other)
+	{
+		if (this == other) return true;
+		final PositionAdjustmentHistoryData otherData = (PositionAdjustmentHistoryData) other;
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(otherData.getAcmapCode()) : !otherData.isAcmapCodeNull())
+		{
+			return false;
+		}
+
+		if (getReferenceId() != otherData.getReferenceId())
+		{
+			return false;
+		}
+
+		return true;
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		out.writeObject(this.acmapCode);
+		out.writeLong(this.referenceId);
+	}
+
+	public void zDeserializePrimaryKey(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		this.acmapCode = StringPool.getInstance().getOrAddToCache((String)in.readObject(), PositionAdjustmentHistoryFinder.isFullCache());
+		this.referenceId = in.readLong();
+	}
+
+	public void clearRelationships()
+	{
+		_relationships = null;
+		clearAllDirectRefs();
+	}
+
+	public void clearAllDirectRefs()
+	{
+	}
+
+	public Object getPositionQuantity()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[2];
+		}
+
+		return null;
+	}
+
+	public void setPositionQuantity(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[2] = related;
+	}
+
+	public Object getPositionQuantitiesWithoutType()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[1];
+		}
+
+		return null;
+	}
+
+	public void setPositionQuantitiesWithoutType(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[1] = related;
+	}
+
+	public Object getAccountFromContract()
+	{
+		if (_relationships != null)
+		{
+			return _relationships[0];
+		}
+
+		return null;
+	}
+
+	public void setAccountFromContract(Object related)
+	{
+		if (_relationships == null)
+		{
+			_relationships = new Object[3];
+		}
+
+		_relationships[0] = related;
+	}
+
+	public void zSerializeRelationships(ObjectOutputStream out) throws IOException
+	{
+		if (_relationships == null)
+		{
+			out.writeInt(0);
+			return;
+		}
+
+		out.writeInt(_relationships.length);
+		for(int i=0;i<_relationships.length;i++)
+		{
+			out.writeObject(_relationships[i]);
+		}
+	}
+
+	public void zDeserializeRelationships(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		int total = in.readInt();
+		if(total > 0)
+		{
+			_relationships = new Object[total];
+			for(int i=0;i<total;i++)
+			{
+				_relationships[i] = in.readObject();
+			}
+		}
+	}
+
+	public MithraOffHeapDataObject zCopyOffHeap()
+	{
+		throw new RuntimeException("off heap no supported");
+	}
+
+	public void copyNonPkAttributes(MithraDataObject newData)
+	{
+		final PositionAdjustmentHistoryData positionAdjustmentHistoryData = (PositionAdjustmentHistoryData) newData;
+		this.setAccountId(positionAdjustmentHistoryData.getAccountId());
+		this.setAcmapCode(positionAdjustmentHistoryData.getAcmapCode());
+		this.setAdjustmentDelta(positionAdjustmentHistoryData.getAdjustmentDelta());
+		if (positionAdjustmentHistoryData.isAdjustmentDeltaNull()) this.setAdjustmentDeltaNull();
+		this.setAdjustmentTypeId(positionAdjustmentHistoryData.getAdjustmentTypeId());
+		if (positionAdjustmentHistoryData.isAdjustmentTypeIdNull()) this.setAdjustmentTypeIdNull();
+		this.setBusinessDate(positionAdjustmentHistoryData.getBusinessDate());
+		this.setComment(positionAdjustmentHistoryData.getComment());
+		this.setEntryDate(positionAdjustmentHistoryData.getEntryDate());
+		this.setOriginalValue(positionAdjustmentHistoryData.getOriginalValue());
+		if (positionAdjustmentHistoryData.isOriginalValueNull()) this.setOriginalValueNull();
+		this.setProductId(positionAdjustmentHistoryData.getProductId());
+		if (positionAdjustmentHistoryData.isProductIdNull()) this.setProductIdNull();
+		this.setUserId(positionAdjustmentHistoryData.getUserId());
+	}
+
+	public byte zGetDataVersion() 
+	{
+		return (byte)0; 
+	}
+
+	public void zSetDataVersion(byte version) 
+	{
+	}
+	// only used by dated objects
+	public void zIncrementDataVersion() 
+	{
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData)
+	{
+		return this.zNonPrimaryKeyAttributesChanged(newData, 0.0);
+	}
+
+	public boolean zNonPrimaryKeyAttributesChanged(MithraDataObject newData, double toleranceForFloatingPointFields)
+	{
+		final PositionAdjustmentHistoryData other = (PositionAdjustmentHistoryData) newData;
+		if (!isAccountIdNull() ? !getAccountId().equals(other.getAccountId()) : !other.isAccountIdNull())
+		{
+			return true;
+		}
+
+		if (!isAcmapCodeNull() ? !getAcmapCode().equals(other.getAcmapCode()) : !other.isAcmapCodeNull())
+		{
+			return true;
+		}
+
+		if ( isAdjustmentDeltaNull() != other.isAdjustmentDeltaNull() || Math.abs(getAdjustmentDelta() - other.getAdjustmentDelta()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isAdjustmentTypeIdNull() != other.isAdjustmentTypeIdNull() || getAdjustmentTypeId() != other.getAdjustmentTypeId())
+		{
+			return true;
+		}
+
+		if (!isBusinessDateNull() ? !getBusinessDate().equals(other.getBusinessDate()) : !other.isBusinessDateNull())
+		{
+			return true;
+		}
+
+		if (!isCommentNull() ? !getComment().equals(other.getComment()) : !other.isCommentNull())
+		{
+			return true;
+		}
+
+		if (!isEntryDateNull() ? !getEntryDate().equals(other.getEntryDate()) : !other.isEntryDateNull())
+		{
+			return true;
+		}
+
+		if ( isOriginalValueNull() != other.isOriginalValueNull() || Math.abs(getOriginalValue() - other.getOriginalValue()) > toleranceForFloatingPointFields)
+		{
+			return true;
+		}
+
+		if ( isProductIdNull() != other.isProductIdNull() || getProductId() != other.getProductId())
+		{
+			return true;
+		}
+
+		if (!isUserIdNull() ? !getUserId().equals(other.getUserId()) : !other.isUserIdNull())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public MithraDataObject copy()
+	{
+		PositionAdjustmentHistoryData copy = new PositionAdjustmentHistoryData();
+		this.copyInto(copy, true);
+		return copy;
+	}
+
+	public MithraDataObject copy(boolean withRelationships)
+	{
+		PositionAdjustmentHistoryData copy = new PositionAdjustmentHistoryData();
+		this.copyInto(copy, withRelationships);
+		return copy;
+	}
+
+	public String zGetPrintablePrimaryKey()
+	{
+		String result = "";
+		result += "acmapCode: "+"'"+getAcmapCode()+"'"+ " / ";
+		result += "referenceId: "+(""+getReferenceId())+ " / ";
+		return result;
+	}
+
+	public boolean zAsOfAttributesFromEquals(MithraDataObject other)
+	{
+		return true;
+	}
+
+	public boolean zAsOfAttributesChanged(MithraDataObject other)
+	{
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public String zReadDataClassName(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		return "com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryData";
+	}
+
+	public boolean changed(MithraDataObject newData)
+	{
+		if(zNonPrimaryKeyAttributesChanged(newData))
+		{
+			return true;
+		}
+		else
+		{
+			return zAsOfAttributesChanged(newData);
+		}
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraDataObject newData)
+	{
+		return true;
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal(int hierarchyDepth)
+	{
+		return PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+	}
+
+	public MithraObjectPortal zGetMithraObjectPortal()
+	{
+		return PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+	}
+
+	public Number zGetIdentityValue()
+	{
+		return null;
+	}
+
+	public boolean zHasIdentity()
+	{
+		return false;
+	}
+
+	public void zSetIdentity(Number identityValue)
+	{
+	}
+
+	public String zGetSerializationClassName()
+	{
+		return "com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryData";
+	}
+}
@@ -0,0 +1,1358 @@
+package com.gs.fw.common.mithra.test.domain.adjustmenthistory;
+import com.gs.fw.common.mithra.test.domain.Account;
+import com.gs.fw.common.mithra.test.domain.AccountAbstract;
+import com.gs.fw.common.mithra.test.domain.AccountData;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.AccountList;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class PositionAdjustmentHistoryFinder
+{
+	private static final SourceAttributeType zSourceAttributeType = SourceAttributeType.create("acmapCode",
+		StringAttribute.class);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/adjustmenthistory/PositionAdjustmentHistory";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistory";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistory");
+	private static final PositionAdjustmentHistorySingleFinder<PositionAdjustmentHistory, Object, PositionAdjustmentHistory> finder = new PositionAdjustmentHistorySingleFinder<PositionAdjustmentHistory, Object, PositionAdjustmentHistory>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	private static int INDEX_byPos = -1;
+	static
+	{
+		finderMethodMap = new FinderMethodMap(PositionAdjustmentHistoryFinder.PositionAdjustmentHistoryRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("referenceId");
+		finderMethodMap.addNormalAttributeName("accountId");
+		finderMethodMap.addNormalAttributeName("adjustmentTypeId");
+		finderMethodMap.addNormalAttributeName("productId");
+		finderMethodMap.addNormalAttributeName("userId");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("entryDate");
+		finderMethodMap.addNormalAttributeName("comment");
+		finderMethodMap.addNormalAttributeName("originalValue");
+		finderMethodMap.addNormalAttributeName("adjustmentDelta");
+		finderMethodMap.addNormalAttributeName("acmapCode");
+		finderMethodMap.addRelationshipName("positionQuantity");
+		finderMethodMap.addRelationshipName("positionQuantitiesWithoutType");
+		finderMethodMap.addRelationshipName("accountFromContract");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = PositionAdjustmentHistoryFinder.accountId().constructEqualityMapper(PositionQuantityFinder.accountId());
+			result[1] = PositionQuantityFinder.accountId().constructEqualityMapper(PositionAdjustmentHistoryFinder.accountId());
+			result[2] = PositionAdjustmentHistoryFinder.productId().constructEqualityMapper(PositionQuantityFinder.productId());
+			result[3] = PositionQuantityFinder.productId().constructEqualityMapper(PositionAdjustmentHistoryFinder.productId());
+			result[4] = PositionAdjustmentHistoryFinder.businessDate().constructEqualityMapper(PositionQuantityFinder.businessDate());
+			result[5] = PositionQuantityFinder.businessDate().constructEqualityMapper(PositionAdjustmentHistoryFinder.businessDate());
+			result[6] = PositionAdjustmentHistoryFinder.acmapCode().constructEqualityMapper(PositionQuantityFinder.acmapCode());
+			result[7] = PositionQuantityFinder.acmapCode().constructEqualityMapper(PositionAdjustmentHistoryFinder.acmapCode());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return PositionAdjustmentHistoryFinder.zSourceAttributeType;
+	}
+
+	public static PositionAdjustmentHistory findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static PositionAdjustmentHistory findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static PositionAdjustmentHistoryList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (PositionAdjustmentHistoryList) finder.findMany(operation);
+	}
+
+	public static PositionAdjustmentHistoryList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (PositionAdjustmentHistoryList) finder.findManyBypassCache(operation);
+	}
+
+	private static PositionAdjustmentHistory findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (PositionAdjustmentHistory) FinderUtils.findOne(found);
+	}
+
+	public static PositionAdjustmentHistory findByPrimaryKey(long referenceId, String acmapCode)
+	{
+		return finder.findByPrimaryKey(referenceId, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PositionAdjustmentHistory _castedTargetData = (PositionAdjustmentHistory) _targetData;
+			if (_bean.getL1AsLong() == _castedTargetData.getReferenceId() && _bean.getO1AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.hash(_bean.getL1AsLong()),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static PositionAdjustmentHistory findByPos(String accountId, int productId, Timestamp businessDate, String acmapCode)
+	{
+		return finder.findByPos(accountId, productId, businessDate, acmapCode);
+	}
+
+	private static final RelationshipHashStrategy forPos = new PosRhs();
+	private static final class PosRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			PositionAdjustmentHistory _castedTargetData = (PositionAdjustmentHistory) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getAccountId()) && _bean.getI1AsInteger() == _castedTargetData.getProductId() && _bean.getO2AsTimestamp().equals(_castedTargetData.getBusinessDate()) && _bean.getO3AsString().equals(_castedTargetData.getAcmapCode()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.hash(_bean.getO3AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.offHeapHash(_bean.getO1AsString()),HashUtil.hash(_bean.getI1AsInteger())),HashUtil.hash(_bean.getO2AsTimestamp())),HashUtil.offHeapHash(_bean.getO3AsString()));
+		}
+	}
+
+	public static PositionAdjustmentHistory zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (PositionAdjustmentHistory) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class PositionAdjustmentHistoryRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<PositionAdjustmentHistory, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		public static SourceAttributeType zGetSourceAttributeType()
+		{
+			return PositionAdjustmentHistoryFinder.zSourceAttributeType;
+		}
+
+		private LongAttribute<ParentOwnerType> referenceId;
+		private StringAttribute<ParentOwnerType> accountId;
+		private IntegerAttribute<ParentOwnerType> adjustmentTypeId;
+		private IntegerAttribute<ParentOwnerType> productId;
+		private StringAttribute<ParentOwnerType> userId;
+		private TimestampAttribute<ParentOwnerType> businessDate;
+		private TimestampAttribute<ParentOwnerType> entryDate;
+		private StringAttribute<ParentOwnerType> comment;
+		private DoubleAttribute<ParentOwnerType> originalValue;
+		private DoubleAttribute<ParentOwnerType> adjustmentDelta;
+		private PositionAdjustmentHistoryPositionQuantityFinderSubclass<ParentOwnerType> positionQuantity;
+		private PositionAdjustmentHistoryPositionQuantitiesWithoutTypeFinderSubclass<ParentOwnerType> positionQuantitiesWithoutType;
+		private PositionAdjustmentHistoryAccountFromContractFinderSubclass<ParentOwnerType> accountFromContract;
+		private StringAttribute<ParentOwnerType> acmapCode;
+		public PositionAdjustmentHistoryRelatedFinder()
+		{
+			super();
+		}
+
+		public PositionAdjustmentHistoryRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistoryFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return PositionAdjustmentHistoryFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return PositionAdjustmentHistoryFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return PositionAdjustmentHistoryFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[10];
+			attributes[0] = this.referenceId();
+			attributes[1] = this.accountId();
+			attributes[2] = this.adjustmentTypeId();
+			attributes[3] = this.productId();
+			attributes[4] = this.userId();
+			attributes[5] = this.businessDate();
+			attributes[6] = this.entryDate();
+			attributes[7] = this.comment();
+			attributes[8] = this.originalValue();
+			attributes[9] = this.adjustmentDelta();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(3);
+				relatedFinders.add(this.positionQuantity());
+				relatedFinders.add(this.positionQuantitiesWithoutType());
+				relatedFinders.add(this.accountFromContract());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public PositionAdjustmentHistory findOne(com.gs.fw.finder.Operation operation)
+		{
+			return PositionAdjustmentHistoryFinder.findOne(operation, false);
+		}
+
+		public PositionAdjustmentHistory findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return PositionAdjustmentHistoryFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends PositionAdjustmentHistory> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new PositionAdjustmentHistoryList((Operation) operation);
+		}
+
+		public MithraList<? extends PositionAdjustmentHistory> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			PositionAdjustmentHistoryList result = (PositionAdjustmentHistoryList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends PositionAdjustmentHistory> constructEmptyList()
+		{
+			return new PositionAdjustmentHistoryList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 946092991;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public SourceAttributeType getSourceAttributeType()
+		{
+			return PositionAdjustmentHistoryFinder.zSourceAttributeType;
+		}
+
+		public LongAttribute<ParentOwnerType> referenceId()
+		{
+			LongAttribute<ParentOwnerType> result = this.referenceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("ADJ_REF_I","","referenceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedLongAttribute(PositionAdjustmentHistoryFinder.referenceId(), this.mapper, this.zGetValueSelector());
+				this.referenceId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountId()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_N","","accountId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(PositionAdjustmentHistoryFinder.accountId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("positionQuantity");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain.desk.balance.position", "PositionQuantity", "adjustmentHistory1800");
+				this.accountId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> adjustmentTypeId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.adjustmentTypeId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ADJ_TYPE","","adjustmentTypeId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PositionAdjustmentHistoryFinder.adjustmentTypeId(), this.mapper, this.zGetValueSelector());
+				this.adjustmentTypeId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_I","","productId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(PositionAdjustmentHistoryFinder.productId(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("positionQuantity");
+				result.zSetOwningReverseRelationship("com.gs.fw.common.mithra.test.domain.desk.balance.position", "PositionQuantity", "adjustmentHistory1800");
+				this.productId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> userId()
+		{
+			StringAttribute<ParentOwnerType> result = this.userId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("USER_I","","userId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(PositionAdjustmentHistoryFinder.userId(), this.mapper, this.zGetValueSelector());
+				this.userId = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUS_DATE","","businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(PositionAdjustmentHistoryFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> entryDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.entryDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("PROC_DATE","","entryDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(PositionAdjustmentHistoryFinder.entryDate(), this.mapper, this.zGetValueSelector());
+				this.entryDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> comment()
+		{
+			StringAttribute<ParentOwnerType> result = this.comment;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("MEMO","","comment",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,20,true, false) :
+					new MappedStringAttribute(PositionAdjustmentHistoryFinder.comment(), this.mapper, this.zGetValueSelector());
+				this.comment = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> originalValue()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.originalValue;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OLD_AMOUNT","","originalValue",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(PositionAdjustmentHistoryFinder.originalValue(), this.mapper, this.zGetValueSelector());
+				this.originalValue = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> adjustmentDelta()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.adjustmentDelta;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("DELTA_AMOUNT","","adjustmentDelta",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedDoubleAttribute(PositionAdjustmentHistoryFinder.adjustmentDelta(), this.mapper, this.zGetValueSelector());
+				this.adjustmentDelta = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> acmapCode()
+		{
+			StringAttribute<ParentOwnerType> result = this.acmapCode;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate(null,"","acmapCode",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,Integer.MAX_VALUE,false, false) :
+					new MappedStringAttribute(PositionAdjustmentHistoryFinder.acmapCode(), this.mapper, this.zGetValueSelector());
+				this.acmapCode = result;
+			}
+
+			return result;
+		}
+
+		public PositionQuantityFinder.PositionQuantitySingleFinderForRelatedClasses<ParentOwnerType, PositionQuantity, PositionAdjustmentHistory> positionQuantity()
+		{
+			PositionAdjustmentHistoryPositionQuantityFinderSubclass<ParentOwnerType> result = this.positionQuantity;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PositionAdjustmentHistoryFinder.zGetPositionAdjustmentHistoryPositionQuantityReverseMapper());
+				newMapper.setToMany(false);
+				result = new PositionAdjustmentHistoryPositionQuantityFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.positionQuantity = result;
+			}
+
+			return result;
+		}
+
+		public PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, PositionQuantityList, PositionAdjustmentHistory> positionQuantitiesWithoutType()
+		{
+			PositionAdjustmentHistoryPositionQuantitiesWithoutTypeFinderSubclass<ParentOwnerType> result = this.positionQuantitiesWithoutType;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PositionAdjustmentHistoryFinder.zGetPositionAdjustmentHistoryPositionQuantitiesWithoutTypeReverseMapper());
+				newMapper.setToMany(true);
+				result = new PositionAdjustmentHistoryPositionQuantitiesWithoutTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.positionQuantitiesWithoutType = result;
+			}
+
+			return result;
+		}
+
+		public AccountFinder.AccountSingleFinderForRelatedClasses<ParentOwnerType, Account, PositionAdjustmentHistory> accountFromContract()
+		{
+			PositionAdjustmentHistoryAccountFromContractFinderSubclass<ParentOwnerType> result = this.accountFromContract;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(PositionAdjustmentHistoryFinder.zGetPositionAdjustmentHistoryAccountFromContractReverseMapper());
+				newMapper.setToMany(false);
+				result = new PositionAdjustmentHistoryAccountFromContractFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.accountFromContract = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return PositionAdjustmentHistoryFinder.acmapCode();
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return PositionAdjustmentHistoryFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class PositionAdjustmentHistoryCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends PositionAdjustmentHistoryRelatedFinder<ParentOwnerType, ReturnType, PositionAdjustmentHistoryList, OwnerType>
+	{
+		public PositionAdjustmentHistoryCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class PositionAdjustmentHistoryCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends PositionAdjustmentHistoryCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PositionAdjustmentHistoryCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class PositionAdjustmentHistorySingleFinder<ParentOwnerType, ReturnType, OwnerType> extends PositionAdjustmentHistoryRelatedFinder<ParentOwnerType, ReturnType, PositionAdjustmentHistoryList, OwnerType>
+	implements ToOneFinder
+	{
+		public PositionAdjustmentHistorySingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public PositionAdjustmentHistorySingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(PositionAdjustmentHistory other)
+		{
+			return this.referenceId().eq(other.getReferenceId())
+			.and(this.acmapCode().eq(other.getAcmapCode()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PositionAdjustmentHistory findByPrimaryKey(long referenceId, String acmapCode)
+		{
+			PositionAdjustmentHistory _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setL1AsLong(referenceId);
+				_bean.setO1(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PositionAdjustmentHistory) _related;
+			if (_related == null)
+			{
+				_op = this.referenceId().eq(referenceId).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public PositionAdjustmentHistory findByPos(String accountId, int productId, Timestamp businessDate, String acmapCode)
+		{
+			PositionAdjustmentHistory _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (accountId != null && businessDate != null && acmapCode != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(accountId);
+				_bean.setI1AsInteger(productId);
+				_bean.setO2(businessDate);
+				_bean.setO3(acmapCode);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneByIndexFromCacheForFind(_bean, _bean, forPos, null, null, PositionAdjustmentHistoryFinder.zGetIndexbyPosRef());
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (PositionAdjustmentHistory) _related;
+			if (_related == null)
+			{
+				_op = this.accountId().eq(accountId).and(this.productId().eq(productId)).and(this.businessDate().eq(businessDate)).and(this.acmapCode().eq(acmapCode));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class PositionAdjustmentHistorySingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends PositionAdjustmentHistorySingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public PositionAdjustmentHistorySingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper positionQuantityReverseMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryPositionQuantityReverseMapper()
+	{
+		if (positionQuantityReverseMapper == null)
+		{
+			positionQuantityReverseMapper = zConstructPositionAdjustmentHistoryPositionQuantityReverseMapper();
+		}
+
+		return positionQuantityReverseMapper;
+	}
+
+	private static Mapper positionQuantityMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryPositionQuantityMapper()
+	{
+		if (positionQuantityMapper == null)
+		{
+			positionQuantityMapper = zConstructPositionAdjustmentHistoryPositionQuantityMapper();
+		}
+
+		return positionQuantityMapper;
+	}
+
+	private static Mapper positionQuantityPureReverseMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryPositionQuantityPureReverseMapper()
+	{
+		if (positionQuantityPureReverseMapper == null)
+		{
+			positionQuantityPureReverseMapper = zConstructPositionAdjustmentHistoryPositionQuantityPureReverseMapper();
+		}
+
+		return positionQuantityPureReverseMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryPositionQuantityPureReverseMapper()
+	{
+		InternalList positionQuantityMapperMapperList = new InternalList(4);
+		positionQuantityMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(0));
+		positionQuantityMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(2));
+		positionQuantityMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(4));
+		positionQuantityMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(6));
+		Mapper positionQuantityMapper = new MultiEqualityMapper(positionQuantityMapperMapperList);
+		positionQuantityMapper.setName("positionQuantity");
+		return positionQuantityMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryPositionQuantityReverseMapper()
+	{
+		InternalList positionQuantityMapperInnerMapperMapperList = new InternalList(4);
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(0));
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(2));
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(4));
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(6));
+		Mapper positionQuantityMapperInnerMapper = new MultiEqualityMapper(positionQuantityMapperInnerMapperMapperList);
+		Mapper positionQuantityMapper = new FilteredMapper(positionQuantityMapperInnerMapper, null, PositionQuantityFinder.zGetConstantOperation(0));
+		positionQuantityMapper.setName("positionQuantity");
+		return positionQuantityMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryPositionQuantityMapper()
+	{
+		InternalList positionQuantityMapperInnerMapperMapperList = new InternalList(4);
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(1));
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(3));
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(5));
+		positionQuantityMapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(7));
+		Mapper positionQuantityMapperInnerMapper = new MultiEqualityMapper(positionQuantityMapperInnerMapperMapperList);
+		Mapper positionQuantityMapper = new FilteredMapper(positionQuantityMapperInnerMapper, PositionQuantityFinder.zGetConstantOperation(0), null);
+		positionQuantityMapper.setName("adjustmentHistory1800");
+		return positionQuantityMapper;
+	}
+
+	private static Mapper positionQuantitiesWithoutTypeReverseMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryPositionQuantitiesWithoutTypeReverseMapper()
+	{
+		if (positionQuantitiesWithoutTypeReverseMapper == null)
+		{
+			positionQuantitiesWithoutTypeReverseMapper = zConstructPositionAdjustmentHistoryPositionQuantitiesWithoutTypeReverseMapper();
+		}
+
+		return positionQuantitiesWithoutTypeReverseMapper;
+	}
+
+	private static Mapper positionQuantitiesWithoutTypeMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryPositionQuantitiesWithoutTypeMapper()
+	{
+		if (positionQuantitiesWithoutTypeMapper == null)
+		{
+			positionQuantitiesWithoutTypeMapper = zConstructPositionAdjustmentHistoryPositionQuantitiesWithoutTypeMapper();
+		}
+
+		return positionQuantitiesWithoutTypeMapper;
+	}
+
+	private static Mapper positionQuantitiesWithoutTypePureReverseMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryPositionQuantitiesWithoutTypePureReverseMapper()
+	{
+		if (positionQuantitiesWithoutTypePureReverseMapper == null)
+		{
+			positionQuantitiesWithoutTypePureReverseMapper = zConstructPositionAdjustmentHistoryPositionQuantitiesWithoutTypePureReverseMapper();
+		}
+
+		return positionQuantitiesWithoutTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryPositionQuantitiesWithoutTypePureReverseMapper()
+	{
+		InternalList positionQuantitiesWithoutTypeMapperMapperList = new InternalList(3);
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(0));
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(4));
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(6));
+		Mapper positionQuantitiesWithoutTypeMapper = new MultiEqualityMapper(positionQuantitiesWithoutTypeMapperMapperList);
+		positionQuantitiesWithoutTypeMapper.setName("positionQuantitiesWithoutType");
+		return positionQuantitiesWithoutTypeMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryPositionQuantitiesWithoutTypeReverseMapper()
+	{
+		InternalList positionQuantitiesWithoutTypeMapperMapperList = new InternalList(3);
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(0));
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(4));
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(6));
+		Mapper positionQuantitiesWithoutTypeMapper = new MultiEqualityMapper(positionQuantitiesWithoutTypeMapperMapperList);
+		positionQuantitiesWithoutTypeMapper.setName("positionQuantitiesWithoutType");
+		return positionQuantitiesWithoutTypeMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryPositionQuantitiesWithoutTypeMapper()
+	{
+		InternalList positionQuantitiesWithoutTypeMapperMapperList = new InternalList(3);
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(1));
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(5));
+		positionQuantitiesWithoutTypeMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(7));
+		Mapper positionQuantitiesWithoutTypeMapper = new MultiEqualityMapper(positionQuantitiesWithoutTypeMapperMapperList);
+		positionQuantitiesWithoutTypeMapper.setName("positionQuantitiesWithoutType_Reverse");
+		return positionQuantitiesWithoutTypeMapper;
+	}
+
+	private static Mapper accountFromContractReverseMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryAccountFromContractReverseMapper()
+	{
+		if (accountFromContractReverseMapper == null)
+		{
+			accountFromContractReverseMapper = zConstructPositionAdjustmentHistoryAccountFromContractReverseMapper();
+		}
+
+		return accountFromContractReverseMapper;
+	}
+
+	private static Mapper accountFromContractMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryAccountFromContractMapper()
+	{
+		if (accountFromContractMapper == null)
+		{
+			accountFromContractMapper = zConstructPositionAdjustmentHistoryAccountFromContractMapper();
+		}
+
+		return accountFromContractMapper;
+	}
+
+	private static Mapper accountFromContractPureReverseMapper = null;
+	public static Mapper zGetPositionAdjustmentHistoryAccountFromContractPureReverseMapper()
+	{
+		if (accountFromContractPureReverseMapper == null)
+		{
+			accountFromContractPureReverseMapper = zConstructPositionAdjustmentHistoryAccountFromContractPureReverseMapper();
+		}
+
+		return accountFromContractPureReverseMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryAccountFromContractPureReverseMapper()
+	{
+		InternalList accountFromContractc0MapperMapperList = new InternalList(4);
+		accountFromContractc0MapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(0));
+		accountFromContractc0MapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(2));
+		accountFromContractc0MapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(4));
+		accountFromContractc0MapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(6));
+		Mapper accountFromContractc0Mapper = new MultiEqualityMapper(accountFromContractc0MapperMapperList);
+		InternalList accountFromContractc1MapperMapperList = new InternalList(2);
+		accountFromContractc1MapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(0));
+		accountFromContractc1MapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(2));
+		Mapper accountFromContractc1Mapper = new MultiEqualityMapper(accountFromContractc1MapperMapperList);
+		Mapper accountFromContractMapper = new ChainedMapper(accountFromContractc0Mapper,accountFromContractc1Mapper);
+		accountFromContractMapper.setName("accountFromContract");
+		return accountFromContractMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryAccountFromContractReverseMapper()
+	{
+		InternalList accountFromContractc0MapperInnerMapperMapperList = new InternalList(4);
+		accountFromContractc0MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(0));
+		accountFromContractc0MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(2));
+		accountFromContractc0MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(4));
+		accountFromContractc0MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(6));
+		Mapper accountFromContractc0MapperInnerMapper = new MultiEqualityMapper(accountFromContractc0MapperInnerMapperMapperList);
+		Mapper accountFromContractc0Mapper = new FilteredMapper(accountFromContractc0MapperInnerMapper, null, PositionQuantityFinder.zGetConstantOperation(0));
+		InternalList accountFromContractc1MapperMapperList = new InternalList(2);
+		accountFromContractc1MapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(0));
+		accountFromContractc1MapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(2));
+		Mapper accountFromContractc1Mapper = new MultiEqualityMapper(accountFromContractc1MapperMapperList);
+		Mapper accountFromContractMapper = new ChainedMapper(accountFromContractc0Mapper,accountFromContractc1Mapper);
+		accountFromContractMapper.setName("accountFromContract");
+		return accountFromContractMapper;
+	}
+
+	private static Mapper zConstructPositionAdjustmentHistoryAccountFromContractMapper()
+	{
+		InternalList accountFromContractc0MapperMapperList = new InternalList(2);
+		accountFromContractc0MapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(1));
+		accountFromContractc0MapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(3));
+		Mapper accountFromContractc0Mapper = new MultiEqualityMapper(accountFromContractc0MapperMapperList);
+		InternalList accountFromContractc1MapperInnerMapperMapperList = new InternalList(4);
+		accountFromContractc1MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(1));
+		accountFromContractc1MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(3));
+		accountFromContractc1MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(5));
+		accountFromContractc1MapperInnerMapperMapperList.add(PositionAdjustmentHistoryFinder.zGetConstantJoin(7));
+		Mapper accountFromContractc1MapperInnerMapper = new MultiEqualityMapper(accountFromContractc1MapperInnerMapperMapperList);
+		Mapper accountFromContractc1Mapper = new FilteredMapper(accountFromContractc1MapperInnerMapper, PositionQuantityFinder.zGetConstantOperation(0), null);
+		Mapper accountFromContractMapper = new ChainedMapper(accountFromContractc0Mapper,accountFromContractc1Mapper);
+		accountFromContractMapper.setName("accountFromContract_Reverse");
+		return accountFromContractMapper;
+	}
+
+	private static Mapper accountFromContractMapperFragment = null;
+	public static Mapper zGetAccountFromContractMapperFragment()
+	{
+		if (accountFromContractMapperFragment == null)
+		{
+			accountFromContractMapperFragment = zConstructAccountFromContractMapperFragment();
+		}
+
+		return accountFromContractMapperFragment;
+	}
+
+	private static Mapper zConstructAccountFromContractMapperFragment()
+	{
+		InternalList accountFromContractMapperMapperList = new InternalList(2);
+		accountFromContractMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(1));
+		accountFromContractMapperMapperList.add(PositionQuantityFinder.zGetConstantJoin(3));
+		return new MultiEqualityMapper(accountFromContractMapperMapperList);
+	}
+
+	/** maps to TPOSADJHIST.ADJ_REF_I **/
+	public static LongAttribute<PositionAdjustmentHistory> referenceId()
+	{
+		return finder.referenceId();
+	}
+
+	/** maps to TPOSADJHIST.ACCT_N **/
+	public static StringAttribute<PositionAdjustmentHistory> accountId()
+	{
+		return finder.accountId();
+	}
+
+	/** maps to TPOSADJHIST.ADJ_TYPE **/
+	public static IntegerAttribute<PositionAdjustmentHistory> adjustmentTypeId()
+	{
+		return finder.adjustmentTypeId();
+	}
+
+	/** maps to TPOSADJHIST.PROD_I **/
+	public static IntegerAttribute<PositionAdjustmentHistory> productId()
+	{
+		return finder.productId();
+	}
+
+	/** maps to TPOSADJHIST.USER_I **/
+	public static StringAttribute<PositionAdjustmentHistory> userId()
+	{
+		return finder.userId();
+	}
+
+	/** maps to TPOSADJHIST.BUS_DATE **/
+	public static TimestampAttribute<PositionAdjustmentHistory> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	/** maps to TPOSADJHIST.PROC_DATE **/
+	public static TimestampAttribute<PositionAdjustmentHistory> entryDate()
+	{
+		return finder.entryDate();
+	}
+
+	/** maps to TPOSADJHIST.MEMO **/
+	public static StringAttribute<PositionAdjustmentHistory> comment()
+	{
+		return finder.comment();
+	}
+
+	/** maps to TPOSADJHIST.OLD_AMOUNT **/
+	public static DoubleAttribute<PositionAdjustmentHistory> originalValue()
+	{
+		return finder.originalValue();
+	}
+
+	/** maps to TPOSADJHIST.DELTA_AMOUNT **/
+	public static DoubleAttribute<PositionAdjustmentHistory> adjustmentDelta()
+	{
+		return finder.adjustmentDelta();
+	}
+
+	public static StringAttribute<PositionAdjustmentHistory> acmapCode()
+	{
+		return finder.acmapCode();
+	}
+
+	public static PositionQuantityFinder.PositionQuantitySingleFinderForRelatedClasses<PositionAdjustmentHistory, PositionQuantity, PositionAdjustmentHistory> positionQuantity()
+	{
+		return finder.positionQuantity();
+	}
+
+	public static class PositionAdjustmentHistoryPositionQuantityFinderSubclass<ParentOwnerType> extends PositionQuantityFinder.PositionQuantitySingleFinderForRelatedClasses<ParentOwnerType, PositionQuantity, PositionAdjustmentHistory>
+	{
+		public PositionAdjustmentHistoryPositionQuantityFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "positionQuantity";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				PositionQuantityFinder.accountId(),
+				PositionQuantityFinder.productId(),
+				PositionQuantityFinder.positionType(),
+				PositionQuantityFinder.acmapCode(),
+				PositionQuantityFinder.businessDate(),
+				PositionQuantityFinder.processingDate()).withExtractors(
+				PositionAdjustmentHistoryFinder.accountId(),
+				PositionAdjustmentHistoryFinder.productId(),
+				((OperationWithParameterExtractor)PositionQuantityFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				PositionAdjustmentHistoryFinder.acmapCode(),
+				PositionAdjustmentHistoryFinder.businessDate(),
+				((OperationWithParameterExtractor)PositionQuantityFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionAdjustmentHistoryPositionQuantityFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PositionQuantity plainValueOf(PositionAdjustmentHistory _obj)
+		{
+			return _obj.getPositionQuantity();
+		}
+
+		protected PositionQuantityList plainListValueOf(Object _obj)
+		{
+			return ((PositionAdjustmentHistoryList)_obj).getPositionQuantities();
+		}
+	}
+
+	public static PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<PositionAdjustmentHistory, PositionQuantityList, PositionAdjustmentHistory> positionQuantitiesWithoutType()
+	{
+		return finder.positionQuantitiesWithoutType();
+	}
+
+	public static class PositionAdjustmentHistoryPositionQuantitiesWithoutTypeFinderSubclass<ParentOwnerType> extends PositionQuantityFinder.PositionQuantityCollectionFinderForRelatedClasses<ParentOwnerType, PositionQuantityList, PositionAdjustmentHistory>
+	{
+		public PositionAdjustmentHistoryPositionQuantitiesWithoutTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "positionQuantitiesWithoutType";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				PositionQuantityFinder.accountId(),
+				PositionQuantityFinder.acmapCode(),
+				PositionQuantityFinder.businessDate(),
+				PositionQuantityFinder.processingDate()).withExtractors(
+				PositionAdjustmentHistoryFinder.accountId(),
+				PositionAdjustmentHistoryFinder.acmapCode(),
+				PositionAdjustmentHistoryFinder.businessDate(),
+				((OperationWithParameterExtractor)PositionQuantityFinder.processingDate().eq(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity())).getParameterExtractor()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionAdjustmentHistoryPositionQuantitiesWithoutTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected PositionQuantityList plainValueOf(PositionAdjustmentHistory _obj)
+		{
+			return _obj.getPositionQuantitiesWithoutType();
+		}
+
+		protected PositionQuantityList plainListValueOf(Object _obj)
+		{
+			return ((PositionAdjustmentHistoryList)_obj).getPositionQuantitiesWithoutType();
+		}
+	}
+
+	public static AccountFinder.AccountSingleFinderForRelatedClasses<PositionAdjustmentHistory, Account, PositionAdjustmentHistory> accountFromContract()
+	{
+		return finder.accountFromContract();
+	}
+
+	public static class PositionAdjustmentHistoryAccountFromContractFinderSubclass<ParentOwnerType> extends AccountFinder.AccountSingleFinderForRelatedClasses<ParentOwnerType, Account, PositionAdjustmentHistory>
+	{
+		public PositionAdjustmentHistoryAccountFromContractFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "accountFromContract";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new PositionAdjustmentHistoryAccountFromContractFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected Account plainValueOf(PositionAdjustmentHistory _obj)
+		{
+			return _obj.getAccountFromContract();
+		}
+
+		protected AccountList plainListValueOf(Object _obj)
+		{
+			return ((PositionAdjustmentHistoryList)_obj).getAccountFromContracts();
+		}
+	}
+
+	public static Operation eq(PositionAdjustmentHistory other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(referenceId());
+	}
+
+	public static PositionAdjustmentHistorySingleFinder<PositionAdjustmentHistory, Object, PositionAdjustmentHistory> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			referenceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			referenceId()
+			, referenceId()
+			, acmapCode()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		INDEX_byPos = cache.addUniqueIndex("byPos", new Attribute[] 
+		{
+			accountId()
+			, productId()
+			, businessDate()
+			, acmapCode()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			accountId()
+			, acmapCode()
+			, businessDate()
+		}
+
+		);
+	}
+
+	public static int zGetIndexbyPosRef() 
+	{
+		return INDEX_byPos; 
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[2];
+		result[0] = originalValue();
+		result[1] = adjustmentDelta();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.adjustmenthistory.PositionAdjustmentHistory");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(String acmapCode, MithraApplicationClassLevelNotificationListener listener)
+	{
+		Set sourceValueSet = new HashSet();
+		sourceValueSet.add(acmapCode);
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(sourceValueSet, listener);
+	}
+
+	public static void registerForNotification(Set<String> acmapCodeSet, MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(acmapCodeSet, listener);
+	}
+}
@@ -0,0 +1,151 @@
+package com.gs.fw.common.mithra.test.domain.adjustmenthistory;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.test.domain.Account;
+import com.gs.fw.common.mithra.test.domain.AccountAbstract;
+import com.gs.fw.common.mithra.test.domain.AccountData;
+import com.gs.fw.common.mithra.test.domain.AccountFinder;
+import com.gs.fw.common.mithra.test.domain.AccountList;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantity;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityAbstract;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityData;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityFinder;
+import com.gs.fw.common.mithra.test.domain.desk.balance.position.PositionQuantityList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PositionAdjustmentHistoryListAbstract extends DelegatingList<PositionAdjustmentHistory> implements MithraList<PositionAdjustmentHistory>
+{
+	public PositionAdjustmentHistoryListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PositionAdjustmentHistoryListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PositionAdjustmentHistoryListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractNonOperationBasedList.DEFAULT);
+		AbstractNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PositionAdjustmentHistoryListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractOperationBasedList.DEFAULT);
+	}
+
+	public PositionAdjustmentHistory[] elements()
+	{
+		PositionAdjustmentHistory[] result = new PositionAdjustmentHistory[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PositionAdjustmentHistoryList intersection(PositionAdjustmentHistoryList another)
+	{
+		return (PositionAdjustmentHistoryList)super.intersection(another);
+	}
+
+	public PositionAdjustmentHistory getPositionAdjustmentHistoryAt(int index)
+	{
+		return (PositionAdjustmentHistory)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PositionQuantity.accountId = this.accountId and PositionQuantity.productId = this.productId and PositionQuantity.positionType = 1800 and PositionQuantity.businessDate = this.businessDate</pre>
+	* @see PositionQuantity#getAdjustmentHistory1800() reverse relationship PositionQuantity.getAdjustmentHistory1800()
+	* @return The position quantity
+	*/
+	public PositionQuantityList getPositionQuantities()
+	{
+		return (PositionQuantityList) this.getDelegated().resolveRelationship(this, PositionAdjustmentHistoryFinder.positionQuantity());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PositionQuantity.accountId = this.accountId and PositionQuantity.businessDate = this.businessDate</pre>
+	* @return position quantities without type
+	*/
+	public PositionQuantityList getPositionQuantitiesWithoutType()
+	{
+		return (PositionQuantityList) this.getDelegated().resolveRelationship(this, PositionAdjustmentHistoryFinder.positionQuantitiesWithoutType());
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	PositionQuantity.accountId = this.accountId
+	and PositionQuantity.productId = this.productId and PositionQuantity.positionType = 1800 and PositionQuantity.businessDate = this.businessDate
+	and PositionQuantity.accountId = Account.accountNumber and PositionQuantity.acmapCode = Account.deskId</pre>
+	* @return The account from contract
+	*/
+	public AccountList getAccountFromContracts()
+	{
+		return (AccountList) this.getDelegated().resolveRelationship(this, PositionAdjustmentHistoryFinder.accountFromContract());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PositionAdjustmentHistoryFinder.getMithraObjectPortal();
+	}
+
+	public PositionAdjustmentHistoryList getNonPersistentCopy()
+	{
+		PositionAdjustmentHistoryList result = new PositionAdjustmentHistoryList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PositionAdjustmentHistoryList asAdhoc()
+	{
+		return (PositionAdjustmentHistoryList) super.asAdhoc();
+	}
+
+	public MithraList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<PositionAdjustmentHistory> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+}
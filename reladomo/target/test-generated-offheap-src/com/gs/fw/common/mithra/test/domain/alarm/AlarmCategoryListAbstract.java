@@ -0,0 +1,150 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmCategoryListAbstract extends DelegatingList<AlarmCategory> implements MithraTransactionalList<AlarmCategory>
+{
+	public AlarmCategoryListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmCategoryListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmCategoryListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmCategoryListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmCategory[] elements()
+	{
+		AlarmCategory[] result = new AlarmCategory[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmCategoryList intersection(AlarmCategoryList another)
+	{
+		return (AlarmCategoryList)super.intersection(another);
+	}
+
+	public AlarmCategory getAlarmCategoryAt(int index)
+	{
+		return (AlarmCategory)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmCategoryFinder.getMithraObjectPortal();
+	}
+
+	public AlarmCategoryList getNonPersistentCopy()
+	{
+		AlarmCategoryList result = new AlarmCategoryList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmCategoryList asAdhoc()
+	{
+		return (AlarmCategoryList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AlarmCategory> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AlarmCategoryList merge(MithraTransactionalList<AlarmCategory> incoming, TopLevelMergeOptions<AlarmCategory> mergeOptions)
+	{
+		return (AlarmCategoryList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmCategoryList getDetachedCopy()
+	{
+		AlarmCategoryList result = new AlarmCategoryList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCategory(int newValue)
+	{
+		zSetInteger(AlarmCategoryFinder.category(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmCategoryFinder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmCategoryFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmCategoryFinder.time(), newValue);
+	}
+
+	public void setCategoryNull()
+	{
+		zSetAttributeNull(AlarmCategoryFinder.category());
+	}
+}
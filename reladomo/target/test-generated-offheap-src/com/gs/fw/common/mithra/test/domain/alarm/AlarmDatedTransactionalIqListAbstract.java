@@ -0,0 +1,161 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import com.gs.fw.common.mithra.util.DefaultInfinityTimestamp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmDatedTransactionalIqListAbstract extends DelegatingList<AlarmDatedTransactionalIq> implements MithraDatedTransactionalList<AlarmDatedTransactionalIq>
+{
+	public AlarmDatedTransactionalIqListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmDatedTransactionalIqListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmDatedTransactionalIqListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmDatedTransactionalIqListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmDatedTransactionalIq[] elements()
+	{
+		AlarmDatedTransactionalIq[] result = new AlarmDatedTransactionalIq[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmDatedTransactionalIqList intersection(AlarmDatedTransactionalIqList another)
+	{
+		return (AlarmDatedTransactionalIqList)super.intersection(another);
+	}
+
+	public AlarmDatedTransactionalIq getAlarmDatedTransactionalIqAt(int index)
+	{
+		return (AlarmDatedTransactionalIq)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmDatedTransactionalIqFinder.getMithraObjectPortal();
+	}
+
+	public AlarmDatedTransactionalIqList getNonPersistentCopy()
+	{
+		AlarmDatedTransactionalIqList result = new AlarmDatedTransactionalIqList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmDatedTransactionalIqList asAdhoc()
+	{
+		return (AlarmDatedTransactionalIqList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AlarmDatedTransactionalIq> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AlarmDatedTransactionalIqList merge(MithraTransactionalList<AlarmDatedTransactionalIq> incoming, TopLevelMergeOptions<AlarmDatedTransactionalIq> mergeOptions)
+	{
+		return (AlarmDatedTransactionalIqList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmDatedTransactionalIqList getDetachedCopy()
+	{
+		AlarmDatedTransactionalIqList result = new AlarmDatedTransactionalIqList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmDatedTransactionalIqFinder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmDatedTransactionalIqFinder.id(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmDatedTransactionalIqFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(AlarmDatedTransactionalIqFinder.processingDateTo(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmDatedTransactionalIqFinder.time(), newValue);
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class AlarmTenMillisListAbstract extends DelegatingList<AlarmTenMillis> implements MithraTransactionalList<AlarmTenMillis>
+{
+	public AlarmTenMillisListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public AlarmTenMillisListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public AlarmTenMillisListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public AlarmTenMillisListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public AlarmTenMillis[] elements()
+	{
+		AlarmTenMillis[] result = new AlarmTenMillis[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public AlarmTenMillisList intersection(AlarmTenMillisList another)
+	{
+		return (AlarmTenMillisList)super.intersection(another);
+	}
+
+	public AlarmTenMillis getAlarmTenMillisAt(int index)
+	{
+		return (AlarmTenMillis)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return AlarmTenMillisFinder.getMithraObjectPortal();
+	}
+
+	public AlarmTenMillisList getNonPersistentCopy()
+	{
+		AlarmTenMillisList result = new AlarmTenMillisList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public AlarmTenMillisList asAdhoc()
+	{
+		return (AlarmTenMillisList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<AlarmTenMillis> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public AlarmTenMillisList merge(MithraTransactionalList<AlarmTenMillis> incoming, TopLevelMergeOptions<AlarmTenMillis> mergeOptions)
+	{
+		return (AlarmTenMillisList) super.merge(incoming, mergeOptions);
+	}
+
+	public AlarmTenMillisList getDetachedCopy()
+	{
+		AlarmTenMillisList result = new AlarmTenMillisList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(AlarmTenMillisFinder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(AlarmTenMillisFinder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(AlarmTenMillisFinder.time(), newValue);
+	}
+}
@@ -0,0 +1,151 @@
+package com.gs.fw.common.mithra.test.domain.alarm;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class Cellphone2ListAbstract extends DelegatingList<Cellphone2> implements MithraTransactionalList<Cellphone2>
+{
+	public Cellphone2ListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public Cellphone2ListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public Cellphone2ListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public Cellphone2ListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Cellphone2[] elements()
+	{
+		Cellphone2[] result = new Cellphone2[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public Cellphone2List intersection(Cellphone2List another)
+	{
+		return (Cellphone2List)super.intersection(another);
+	}
+
+	public Cellphone2 getCellphone2At(int index)
+	{
+		return (Cellphone2)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	Alarm.time = this.time</pre>
+	* @see Alarm#getCellphones2() reverse relationship Alarm.getCellphones2()
+	* @return alarms
+	*/
+	public AlarmList getAlarms()
+	{
+		return (AlarmList) this.getDelegated().resolveRelationship(this, Cellphone2Finder.alarms());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return Cellphone2Finder.getMithraObjectPortal();
+	}
+
+	public Cellphone2List getNonPersistentCopy()
+	{
+		Cellphone2List result = new Cellphone2List();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public Cellphone2List asAdhoc()
+	{
+		return (Cellphone2List) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Cellphone2> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public Cellphone2List merge(MithraTransactionalList<Cellphone2> incoming, TopLevelMergeOptions<Cellphone2> mergeOptions)
+	{
+		return (Cellphone2List) super.merge(incoming, mergeOptions);
+	}
+
+	public Cellphone2List getDetachedCopy()
+	{
+		Cellphone2List result = new Cellphone2List();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(Cellphone2Finder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(Cellphone2Finder.id(), newValue);
+	}
+
+	public void setTime(Time newValue)
+	{
+		zSetTime(Cellphone2Finder.time(), newValue);
+	}
+}
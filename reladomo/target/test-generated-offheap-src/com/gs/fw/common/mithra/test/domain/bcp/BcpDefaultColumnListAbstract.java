@@ -0,0 +1,135 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BcpDefaultColumnListAbstract extends DelegatingList<BcpDefaultColumn> implements MithraTransactionalList<BcpDefaultColumn>
+{
+	public BcpDefaultColumnListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BcpDefaultColumnListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BcpDefaultColumnListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BcpDefaultColumnListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BcpDefaultColumn[] elements()
+	{
+		BcpDefaultColumn[] result = new BcpDefaultColumn[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BcpDefaultColumnList intersection(BcpDefaultColumnList another)
+	{
+		return (BcpDefaultColumnList)super.intersection(another);
+	}
+
+	public BcpDefaultColumn getBcpDefaultColumnAt(int index)
+	{
+		return (BcpDefaultColumn)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpDefaultColumnFinder.getMithraObjectPortal();
+	}
+
+	public BcpDefaultColumnList getNonPersistentCopy()
+	{
+		BcpDefaultColumnList result = new BcpDefaultColumnList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BcpDefaultColumnList asAdhoc()
+	{
+		return (BcpDefaultColumnList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BcpDefaultColumn> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BcpDefaultColumnList merge(MithraTransactionalList<BcpDefaultColumn> incoming, TopLevelMergeOptions<BcpDefaultColumn> mergeOptions)
+	{
+		return (BcpDefaultColumnList) super.merge(incoming, mergeOptions);
+	}
+
+	public BcpDefaultColumnList getDetachedCopy()
+	{
+		BcpDefaultColumnList result = new BcpDefaultColumnList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpDefaultColumnFinder.id(), newValue);
+	}
+
+	public void setStringValue(String newValue)
+	{
+		zSetString(BcpDefaultColumnFinder.stringValue(), newValue);
+	}
+}
@@ -0,0 +1,145 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BcpEndBitsListAbstract extends DelegatingList<BcpEndBits> implements MithraTransactionalList<BcpEndBits>
+{
+	public BcpEndBitsListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BcpEndBitsListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BcpEndBitsListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BcpEndBitsListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BcpEndBits[] elements()
+	{
+		BcpEndBits[] result = new BcpEndBits[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BcpEndBitsList intersection(BcpEndBitsList another)
+	{
+		return (BcpEndBitsList)super.intersection(another);
+	}
+
+	public BcpEndBits getBcpEndBitsAt(int index)
+	{
+		return (BcpEndBits)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpEndBitsFinder.getMithraObjectPortal();
+	}
+
+	public BcpEndBitsList getNonPersistentCopy()
+	{
+		BcpEndBitsList result = new BcpEndBitsList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BcpEndBitsList asAdhoc()
+	{
+		return (BcpEndBitsList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BcpEndBits> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BcpEndBitsList merge(MithraTransactionalList<BcpEndBits> incoming, TopLevelMergeOptions<BcpEndBits> mergeOptions)
+	{
+		return (BcpEndBitsList) super.merge(incoming, mergeOptions);
+	}
+
+	public BcpEndBitsList getDetachedCopy()
+	{
+		BcpEndBitsList result = new BcpEndBitsList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDopey(boolean newValue)
+	{
+		zSetBoolean(BcpEndBitsFinder.dopey(), newValue);
+	}
+
+	public void setHappy(boolean newValue)
+	{
+		zSetBoolean(BcpEndBitsFinder.happy(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpEndBitsFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(BcpEndBitsFinder.name(), newValue);
+	}
+}
@@ -0,0 +1,140 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BcpEndNullableListAbstract extends DelegatingList<BcpEndNullable> implements MithraTransactionalList<BcpEndNullable>
+{
+	public BcpEndNullableListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BcpEndNullableListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BcpEndNullableListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BcpEndNullableListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BcpEndNullable[] elements()
+	{
+		BcpEndNullable[] result = new BcpEndNullable[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BcpEndNullableList intersection(BcpEndNullableList another)
+	{
+		return (BcpEndNullableList)super.intersection(another);
+	}
+
+	public BcpEndNullable getBcpEndNullableAt(int index)
+	{
+		return (BcpEndNullable)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpEndNullableFinder.getMithraObjectPortal();
+	}
+
+	public BcpEndNullableList getNonPersistentCopy()
+	{
+		BcpEndNullableList result = new BcpEndNullableList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BcpEndNullableList asAdhoc()
+	{
+		return (BcpEndNullableList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BcpEndNullable> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BcpEndNullableList merge(MithraTransactionalList<BcpEndNullable> incoming, TopLevelMergeOptions<BcpEndNullable> mergeOptions)
+	{
+		return (BcpEndNullableList) super.merge(incoming, mergeOptions);
+	}
+
+	public BcpEndNullableList getDetachedCopy()
+	{
+		BcpEndNullableList result = new BcpEndNullableList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(BcpEndNullableFinder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(BcpEndNullableFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(BcpEndNullableFinder.name(), newValue);
+	}
+}
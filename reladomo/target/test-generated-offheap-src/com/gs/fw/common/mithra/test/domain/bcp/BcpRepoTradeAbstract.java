@@ -0,0 +1,2106 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class BcpRepoTradeAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		BcpRepoTradeFinder.businessDate()
+	,
+		BcpRepoTradeFinder.processingDate()
+	, BcpRepoTradeFinder.zGetDoubleAttributes(),BcpRepoTradeFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(BcpRepoTrade.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public BcpRepoTradeAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, BcpRepoTradeFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, BcpRepoTradeFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BcpRepoTradeAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+	}
+
+	public BcpRepoTradeData zSynchronizedGetData()
+	{
+		return (BcpRepoTradeData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !BcpRepoTradeFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !BcpRepoTradeFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public BcpRepoTrade zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		BcpRepoTrade original = (BcpRepoTrade) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public BcpRepoTrade copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (BcpRepoTrade) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public BcpRepoTrade copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (BcpRepoTrade) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			BcpRepoTradeFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public BcpRepoTrade getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BcpRepoTradeAbstract result = (BcpRepoTradeAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (BcpRepoTrade ) result;
+	}
+
+	public BcpRepoTrade zFindOriginal()
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData) this.currentData;
+		Operation op;
+		op = BcpRepoTradeFinder.repoId().eq(data.getRepoId());
+		op = op.and(BcpRepoTradeFinder.companyId().eq(data.getCompanyId()));
+		op = op.and(BcpRepoTradeFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(BcpRepoTradeFinder.processingDate().eq(this.getProcessingDate()));
+		return BcpRepoTradeFinder.findOne(op);
+	}
+
+	public BcpRepoTrade getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		BcpRepoTradeAbstract result = (BcpRepoTradeAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (BcpRepoTrade ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public BcpRepoTrade copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (BcpRepoTrade) behavior.updateOriginalOrInsert(this);
+	}
+
+	public BcpRepoTrade copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BcpRepoTrade) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			BcpRepoTradeData data = (BcpRepoTradeData) this.currentData;
+			Operation op = BcpRepoTradeFinder.businessDate().eq(this.businessDate);
+			op = op.and(BcpRepoTradeFinder.processingDate().eq(this.processingDate));
+			op = op.and(BcpRepoTradeFinder.companyId().eq(data.getCompanyId()));
+			op = op.and(BcpRepoTradeFinder.repoId().eq(data.getRepoId()));
+			return BcpRepoTradeFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && BcpRepoTradeFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isAccount2IdNull()
+	{
+		return this.zSynchronizedGetData().isAccount2IdNull();
+	}
+
+	public boolean isAccount2NumNull()
+	{
+		return this.zSynchronizedGetData().isAccount2NumNull();
+	}
+
+	public boolean isAccountIdNull()
+	{
+		return this.zSynchronizedGetData().isAccountIdNull();
+	}
+
+	public boolean isAccrualStartDateNull()
+	{
+		return this.zSynchronizedGetData().isAccrualStartDateNull();
+	}
+
+	public boolean isAcctAggTypeNull()
+	{
+		return this.zSynchronizedGetData().isAcctAggTypeNull();
+	}
+
+	public boolean isAmountNull()
+	{
+		return this.zSynchronizedGetData().isAmountNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isBuySellIndNull()
+	{
+		return this.zSynchronizedGetData().isBuySellIndNull();
+	}
+
+	public boolean isClearingAgentNull()
+	{
+		return this.zSynchronizedGetData().isClearingAgentNull();
+	}
+
+	public boolean isCommitmentTypeCodeNull()
+	{
+		return this.zSynchronizedGetData().isCommitmentTypeCodeNull();
+	}
+
+	public boolean isCompanyIdNull()
+	{
+		return this.zSynchronizedGetData().isCompanyIdNull();
+	}
+
+	public boolean isCouponPaymentMethodNull()
+	{
+		return this.zSynchronizedGetData().isCouponPaymentMethodNull();
+	}
+
+	public boolean isCustomerAcctNameNull()
+	{
+		return this.zSynchronizedGetData().isCustomerAcctNameNull();
+	}
+
+	public boolean isCustomerAcctNumNull()
+	{
+		return this.zSynchronizedGetData().isCustomerAcctNumNull();
+	}
+
+	public boolean isEndAmountNull()
+	{
+		return this.zSynchronizedGetData().isEndAmountNull();
+	}
+
+	public boolean isEndDateNull()
+	{
+		return this.zSynchronizedGetData().isEndDateNull();
+	}
+
+	public boolean isExclusionTypeCodeNull()
+	{
+		return this.zSynchronizedGetData().isExclusionTypeCodeNull();
+	}
+
+	public boolean isForeignAmtNull()
+	{
+		return this.zSynchronizedGetData().isForeignAmtNull();
+	}
+
+	public boolean isHasCollateralNull()
+	{
+		return this.zSynchronizedGetData().isHasCollateralNull();
+	}
+
+	public boolean isHicAcctNumNull()
+	{
+		return this.zSynchronizedGetData().isHicAcctNumNull();
+	}
+
+	public boolean isIsGsccNettedNull()
+	{
+		return this.zSynchronizedGetData().isIsGsccNettedNull();
+	}
+
+	public boolean isIsHicNull()
+	{
+		return this.zSynchronizedGetData().isIsHicNull();
+	}
+
+	public boolean isIsInterestOnlyNull()
+	{
+		return this.zSynchronizedGetData().isIsInterestOnlyNull();
+	}
+
+	public boolean isIsInternalTradeNull()
+	{
+		return this.zSynchronizedGetData().isIsInternalTradeNull();
+	}
+
+	public boolean isIsMatchBookNull()
+	{
+		return this.zSynchronizedGetData().isIsMatchBookNull();
+	}
+
+	public boolean isIsPermanentNull()
+	{
+		return this.zSynchronizedGetData().isIsPermanentNull();
+	}
+
+	public boolean isIsTriPartyNull()
+	{
+		return this.zSynchronizedGetData().isIsTriPartyNull();
+	}
+
+	public boolean isMarketValueNull()
+	{
+		return this.zSynchronizedGetData().isMarketValueNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProductIdNull()
+	{
+		return this.zSynchronizedGetData().isProductIdNull();
+	}
+
+	public boolean isQuantityNull()
+	{
+		return this.zSynchronizedGetData().isQuantityNull();
+	}
+
+	public boolean isRecordTypeNull()
+	{
+		return this.zSynchronizedGetData().isRecordTypeNull();
+	}
+
+	public boolean isRefDateNull()
+	{
+		return this.zSynchronizedGetData().isRefDateNull();
+	}
+
+	public boolean isRefGenNumNull()
+	{
+		return this.zSynchronizedGetData().isRefGenNumNull();
+	}
+
+	public boolean isRefPieceNumNull()
+	{
+		return this.zSynchronizedGetData().isRefPieceNumNull();
+	}
+
+	public boolean isRefSeqNumNull()
+	{
+		return this.zSynchronizedGetData().isRefSeqNumNull();
+	}
+
+	public boolean isRepoClassNull()
+	{
+		return this.zSynchronizedGetData().isRepoClassNull();
+	}
+
+	public boolean isRepoIdNull()
+	{
+		return this.zSynchronizedGetData().isRepoIdNull();
+	}
+
+	public boolean isRepoRateNull()
+	{
+		return this.zSynchronizedGetData().isRepoRateNull();
+	}
+
+	public boolean isSourceNull()
+	{
+		return this.zSynchronizedGetData().isSourceNull();
+	}
+
+	public boolean isSpecialTradeTypeNull()
+	{
+		return this.zSynchronizedGetData().isSpecialTradeTypeNull();
+	}
+
+	public boolean isStartDateNull()
+	{
+		return this.zSynchronizedGetData().isStartDateNull();
+	}
+
+	public boolean isTradeCurrencyCodeNull()
+	{
+		return this.zSynchronizedGetData().isTradeCurrencyCodeNull();
+	}
+
+	public boolean isTradeCurrencyRateNull()
+	{
+		return this.zSynchronizedGetData().isTradeCurrencyRateNull();
+	}
+
+	public boolean isTradeDateNull()
+	{
+		return this.zSynchronizedGetData().isTradeDateNull();
+	}
+
+	public boolean isTradingAcctCodeNull()
+	{
+		return this.zSynchronizedGetData().isTradingAcctCodeNull();
+	}
+
+	public boolean isTransactionCodesNull()
+	{
+		return this.zSynchronizedGetData().isTransactionCodesNull();
+	}
+
+	public int getAccount2Id()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isAccount2IdNull()) MithraNullPrimitiveException.throwNew("account2Id", data);
+		return data.getAccount2Id();
+	}
+
+	public void setAccount2Id(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.account2Id(), newValue, false ,true);
+	}
+
+	public void setAccount2IdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.account2Id(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getAccount2Num()
+	{
+		return this.zSynchronizedGetData().getAccount2Num();
+	}
+
+	public void setAccount2Num(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'account2Num' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.account2Num(), newValue, false );
+	}
+
+	public void setAccount2NumUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'account2Num' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.account2Num(), newValue, false , exclusiveUntil);
+	}
+
+	public int getAccountId()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isAccountIdNull()) MithraNullPrimitiveException.throwNew("accountId", data);
+		return data.getAccountId();
+	}
+
+	public void setAccountId(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.accountId(), newValue, false ,true);
+	}
+
+	public void setAccountIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.accountId(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getAccrualStartDate()
+	{
+		return this.zSynchronizedGetData().getAccrualStartDate();
+	}
+
+	public void setAccrualStartDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.accrualStartDate(), newValue, false );
+	}
+
+	public void setAccrualStartDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.accrualStartDate(), newValue, false , exclusiveUntil);
+	}
+
+	public String getAcctAggType()
+	{
+		return this.zSynchronizedGetData().getAcctAggType();
+	}
+
+	public void setAcctAggType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'acctAggType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.acctAggType(), newValue, false );
+	}
+
+	public void setAcctAggTypeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'acctAggType' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.acctAggType(), newValue, false , exclusiveUntil);
+	}
+
+	public double getAmount()
+	{
+		return this.zSynchronizedGetData().getAmount();
+	}
+
+	public void setAmount(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.amount(), newValue, false ,false);
+	}
+
+	public void setAmountUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.amount(), newValue, false , exclusiveUntil,false);
+	}
+
+	public void incrementAmount(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.amount(), false);
+	}
+
+	public void incrementAmountUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.amount(), false);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.businessDateTo(), newValue, false );
+	}
+
+	public String getBuySellInd()
+	{
+		return this.zSynchronizedGetData().getBuySellInd();
+	}
+
+	public void setBuySellInd(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'buySellInd' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.buySellInd(), newValue, false );
+	}
+
+	public void setBuySellIndUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'buySellInd' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.buySellInd(), newValue, false , exclusiveUntil);
+	}
+
+	public String getClearingAgent()
+	{
+		return this.zSynchronizedGetData().getClearingAgent();
+	}
+
+	public void setClearingAgent(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'clearingAgent' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.clearingAgent(), newValue, false );
+	}
+
+	public void setClearingAgentUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'clearingAgent' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.clearingAgent(), newValue, false , exclusiveUntil);
+	}
+
+	public int getCommitmentTypeCode()
+	{
+		return this.zSynchronizedGetData().getCommitmentTypeCode();
+	}
+
+	public void setCommitmentTypeCode(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.commitmentTypeCode(), newValue, false ,false);
+	}
+
+	public void setCommitmentTypeCodeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.commitmentTypeCode(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getCompanyId()
+	{
+		return this.zSynchronizedGetData().getCompanyId();
+	}
+
+	public void setCompanyId(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.companyId(), newValue, true ,false);
+	}
+
+	public void setCompanyIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.companyId(), newValue, true , exclusiveUntil,false);
+	}
+
+	public int getCouponPaymentMethod()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isCouponPaymentMethodNull()) MithraNullPrimitiveException.throwNew("couponPaymentMethod", data);
+		return data.getCouponPaymentMethod();
+	}
+
+	public void setCouponPaymentMethod(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.couponPaymentMethod(), newValue, false ,true);
+	}
+
+	public void setCouponPaymentMethodUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.couponPaymentMethod(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getCustomerAcctName()
+	{
+		return this.zSynchronizedGetData().getCustomerAcctName();
+	}
+
+	public void setCustomerAcctName(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 40)
+		{
+			throw new MithraBusinessException("Attribute 'customerAcctName' cannot exceed maximum length of 40: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.customerAcctName(), newValue, false );
+	}
+
+	public void setCustomerAcctNameUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 40)
+		{
+			throw new MithraBusinessException("Attribute 'customerAcctName' cannot exceed maximum length of 40: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.customerAcctName(), newValue, false , exclusiveUntil);
+	}
+
+	public String getCustomerAcctNum()
+	{
+		return this.zSynchronizedGetData().getCustomerAcctNum();
+	}
+
+	public void setCustomerAcctNum(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'customerAcctNum' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.customerAcctNum(), newValue, false );
+	}
+
+	public void setCustomerAcctNumUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'customerAcctNum' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.customerAcctNum(), newValue, false , exclusiveUntil);
+	}
+
+	public double getEndAmount()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isEndAmountNull()) MithraNullPrimitiveException.throwNew("endAmount", data);
+		return data.getEndAmount();
+	}
+
+	public void setEndAmount(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.endAmount(), newValue, false ,true);
+	}
+
+	public void setEndAmountUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.endAmount(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementEndAmount(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.endAmount(), false);
+	}
+
+	public void incrementEndAmountUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.endAmount(), false);
+	}
+
+	public Timestamp getEndDate()
+	{
+		return this.zSynchronizedGetData().getEndDate();
+	}
+
+	public void setEndDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.endDate(), newValue, false );
+	}
+
+	public void setEndDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.endDate(), newValue, false , exclusiveUntil);
+	}
+
+	public int getExclusionTypeCode()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isExclusionTypeCodeNull()) MithraNullPrimitiveException.throwNew("exclusionTypeCode", data);
+		return data.getExclusionTypeCode();
+	}
+
+	public void setExclusionTypeCode(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.exclusionTypeCode(), newValue, false ,true);
+	}
+
+	public void setExclusionTypeCodeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.exclusionTypeCode(), newValue, false , exclusiveUntil,true);
+	}
+
+	public double getForeignAmt()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isForeignAmtNull()) MithraNullPrimitiveException.throwNew("foreignAmt", data);
+		return data.getForeignAmt();
+	}
+
+	public void setForeignAmt(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.foreignAmt(), newValue, false ,true);
+	}
+
+	public void setForeignAmtUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.foreignAmt(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementForeignAmt(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.foreignAmt(), false);
+	}
+
+	public void incrementForeignAmtUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.foreignAmt(), false);
+	}
+
+	public int getHasCollateral()
+	{
+		return this.zSynchronizedGetData().getHasCollateral();
+	}
+
+	public void setHasCollateral(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.hasCollateral(), newValue, false ,false);
+	}
+
+	public void setHasCollateralUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.hasCollateral(), newValue, false , exclusiveUntil,false);
+	}
+
+	public String getHicAcctNum()
+	{
+		return this.zSynchronizedGetData().getHicAcctNum();
+	}
+
+	public void setHicAcctNum(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'hicAcctNum' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.hicAcctNum(), newValue, false );
+	}
+
+	public void setHicAcctNumUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'hicAcctNum' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.hicAcctNum(), newValue, false , exclusiveUntil);
+	}
+
+	public int getIsGsccNetted()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isIsGsccNettedNull()) MithraNullPrimitiveException.throwNew("isGsccNetted", data);
+		return data.getIsGsccNetted();
+	}
+
+	public void setIsGsccNetted(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isGsccNetted(), newValue, false ,true);
+	}
+
+	public void setIsGsccNettedUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isGsccNetted(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getIsHic()
+	{
+		return this.zSynchronizedGetData().getIsHic();
+	}
+
+	public void setIsHic(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isHic(), newValue, false ,false);
+	}
+
+	public void setIsHicUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isHic(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getIsInterestOnly()
+	{
+		return this.zSynchronizedGetData().getIsInterestOnly();
+	}
+
+	public void setIsInterestOnly(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isInterestOnly(), newValue, false ,false);
+	}
+
+	public void setIsInterestOnlyUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isInterestOnly(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getIsInternalTrade()
+	{
+		return this.zSynchronizedGetData().getIsInternalTrade();
+	}
+
+	public void setIsInternalTrade(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isInternalTrade(), newValue, false ,false);
+	}
+
+	public void setIsInternalTradeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isInternalTrade(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getIsMatchBook()
+	{
+		return this.zSynchronizedGetData().getIsMatchBook();
+	}
+
+	public void setIsMatchBook(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isMatchBook(), newValue, false ,false);
+	}
+
+	public void setIsMatchBookUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isMatchBook(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getIsPermanent()
+	{
+		return this.zSynchronizedGetData().getIsPermanent();
+	}
+
+	public void setIsPermanent(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isPermanent(), newValue, false ,false);
+	}
+
+	public void setIsPermanentUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isPermanent(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getIsTriParty()
+	{
+		return this.zSynchronizedGetData().getIsTriParty();
+	}
+
+	public void setIsTriParty(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isTriParty(), newValue, false ,false);
+	}
+
+	public void setIsTriPartyUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.isTriParty(), newValue, false , exclusiveUntil,false);
+	}
+
+	public double getMarketValue()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isMarketValueNull()) MithraNullPrimitiveException.throwNew("marketValue", data);
+		return data.getMarketValue();
+	}
+
+	public void setMarketValue(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.marketValue(), newValue, false ,true);
+	}
+
+	public void setMarketValueUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.marketValue(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementMarketValue(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.marketValue(), false);
+	}
+
+	public void incrementMarketValueUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.marketValue(), false);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.processingDateTo(), newValue, false );
+	}
+
+	public int getProductId()
+	{
+		return this.zSynchronizedGetData().getProductId();
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.productId(), newValue, false ,false);
+	}
+
+	public void setProductIdUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.productId(), newValue, false , exclusiveUntil,false);
+	}
+
+	public double getQuantity()
+	{
+		return this.zSynchronizedGetData().getQuantity();
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.quantity(), newValue, false ,false);
+	}
+
+	public void setQuantityUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.quantity(), newValue, false , exclusiveUntil,false);
+	}
+
+	public void incrementQuantity(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.quantity(), false);
+	}
+
+	public void incrementQuantityUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.quantity(), false);
+	}
+
+	public int getRecordType()
+	{
+		return this.zSynchronizedGetData().getRecordType();
+	}
+
+	public void setRecordType(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.recordType(), newValue, false ,false);
+	}
+
+	public void setRecordTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.recordType(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getRefDate()
+	{
+		return this.zSynchronizedGetData().getRefDate();
+	}
+
+	public void setRefDate(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refDate(), newValue, false ,false);
+	}
+
+	public void setRefDateUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.refDate(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getRefGenNum()
+	{
+		return this.zSynchronizedGetData().getRefGenNum();
+	}
+
+	public void setRefGenNum(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refGenNum(), newValue, false ,false);
+	}
+
+	public void setRefGenNumUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.refGenNum(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getRefPieceNum()
+	{
+		return this.zSynchronizedGetData().getRefPieceNum();
+	}
+
+	public void setRefPieceNum(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refPieceNum(), newValue, false ,false);
+	}
+
+	public void setRefPieceNumUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.refPieceNum(), newValue, false , exclusiveUntil,false);
+	}
+
+	public int getRefSeqNum()
+	{
+		return this.zSynchronizedGetData().getRefSeqNum();
+	}
+
+	public void setRefSeqNum(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refSeqNum(), newValue, false ,false);
+	}
+
+	public void setRefSeqNumUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.refSeqNum(), newValue, false , exclusiveUntil,false);
+	}
+
+	public String getRepoClass()
+	{
+		return this.zSynchronizedGetData().getRepoClass();
+	}
+
+	public void setRepoClass(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 2)
+		{
+			throw new MithraBusinessException("Attribute 'repoClass' cannot exceed maximum length of 2: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.repoClass(), newValue, false );
+	}
+
+	public void setRepoClassUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 2)
+		{
+			throw new MithraBusinessException("Attribute 'repoClass' cannot exceed maximum length of 2: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.repoClass(), newValue, false , exclusiveUntil);
+	}
+
+	public String getRepoId()
+	{
+		return this.zSynchronizedGetData().getRepoId();
+	}
+
+	public void setRepoId(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 23)
+		{
+			throw new MithraBusinessException("Attribute 'repoId' cannot exceed maximum length of 23: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.repoId(), newValue, true );
+	}
+
+	public void setRepoIdUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 23)
+		{
+			throw new MithraBusinessException("Attribute 'repoId' cannot exceed maximum length of 23: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.repoId(), newValue, true , exclusiveUntil);
+	}
+
+	public double getRepoRate()
+	{
+		return this.zSynchronizedGetData().getRepoRate();
+	}
+
+	public void setRepoRate(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.repoRate(), newValue, false ,false);
+	}
+
+	public void setRepoRateUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.repoRate(), newValue, false , exclusiveUntil,false);
+	}
+
+	public void incrementRepoRate(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.repoRate(), false);
+	}
+
+	public void incrementRepoRateUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.repoRate(), false);
+	}
+
+	public String getSource()
+	{
+		return this.zSynchronizedGetData().getSource();
+	}
+
+	public void setSource(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'source' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.source(), newValue, false );
+	}
+
+	public void setSourceUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'source' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.source(), newValue, false , exclusiveUntil);
+	}
+
+	public int getSpecialTradeType()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isSpecialTradeTypeNull()) MithraNullPrimitiveException.throwNew("specialTradeType", data);
+		return data.getSpecialTradeType();
+	}
+
+	public void setSpecialTradeType(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.specialTradeType(), newValue, false ,true);
+	}
+
+	public void setSpecialTradeTypeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(BcpRepoTradeFinder.specialTradeType(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getStartDate()
+	{
+		return this.zSynchronizedGetData().getStartDate();
+	}
+
+	public void setStartDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.startDate(), newValue, false );
+	}
+
+	public void setStartDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.startDate(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTradeCurrencyCode()
+	{
+		return this.zSynchronizedGetData().getTradeCurrencyCode();
+	}
+
+	public void setTradeCurrencyCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'tradeCurrencyCode' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.tradeCurrencyCode(), newValue, false );
+	}
+
+	public void setTradeCurrencyCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'tradeCurrencyCode' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.tradeCurrencyCode(), newValue, false , exclusiveUntil);
+	}
+
+	public double getTradeCurrencyRate()
+	{
+		BcpRepoTradeData data = this.zSynchronizedGetData();
+		if (data.isTradeCurrencyRateNull()) MithraNullPrimitiveException.throwNew("tradeCurrencyRate", data);
+		return data.getTradeCurrencyRate();
+	}
+
+	public void setTradeCurrencyRate(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.tradeCurrencyRate(), newValue, false ,true);
+	}
+
+	public void setTradeCurrencyRateUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(BcpRepoTradeFinder.tradeCurrencyRate(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementTradeCurrencyRate(double increment)
+	{
+		zIncrement(increment, BcpRepoTradeFinder.tradeCurrencyRate(), false);
+	}
+
+	public void incrementTradeCurrencyRateUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, BcpRepoTradeFinder.tradeCurrencyRate(), false);
+	}
+
+	public Timestamp getTradeDate()
+	{
+		return this.zSynchronizedGetData().getTradeDate();
+	}
+
+	public void setTradeDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.tradeDate(), newValue, false );
+	}
+
+	public void setTradeDateUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.tradeDate(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTradingAcctCode()
+	{
+		return this.zSynchronizedGetData().getTradingAcctCode();
+	}
+
+	public void setTradingAcctCode(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'tradingAcctCode' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.tradingAcctCode(), newValue, false );
+	}
+
+	public void setTradingAcctCodeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'tradingAcctCode' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.tradingAcctCode(), newValue, false , exclusiveUntil);
+	}
+
+	public String getTransactionCodes()
+	{
+		return this.zSynchronizedGetData().getTransactionCodes();
+	}
+
+	public void setTransactionCodes(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'transactionCodes' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.transactionCodes(), newValue, false );
+	}
+
+	public void setTransactionCodesUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 20)
+		{
+			throw new MithraBusinessException("Attribute 'transactionCodes' cannot exceed maximum length of 20: " + newValue);
+		}
+
+		zSetString(BcpRepoTradeFinder.transactionCodes(), newValue, false , exclusiveUntil);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, BcpRepoTradeFinder.accountId(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.account2Id(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.marketValue(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.tradeCurrencyRate(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.foreignAmt(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.endAmount(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.specialTradeType(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.couponPaymentMethod(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.isGsccNetted(), false, mustCheckCurrent);
+		zNullify(behavior, data, BcpRepoTradeFinder.exclusionTypeCode(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		BcpRepoTradeData data2 = (BcpRepoTradeData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && BcpRepoTradeFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setAccountIdNull()
+	{
+		zNullify(BcpRepoTradeFinder.accountId(), false);
+	}
+
+	public void setAccountIdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.accountId(), false, exclusiveUntil);
+	}
+
+	public void setAccount2IdNull()
+	{
+		zNullify(BcpRepoTradeFinder.account2Id(), false);
+	}
+
+	public void setAccount2IdNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.account2Id(), false, exclusiveUntil);
+	}
+
+	public void setMarketValueNull()
+	{
+		zNullify(BcpRepoTradeFinder.marketValue(), false);
+	}
+
+	public void setMarketValueNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.marketValue(), false, exclusiveUntil);
+	}
+
+	public void setTradeCurrencyRateNull()
+	{
+		zNullify(BcpRepoTradeFinder.tradeCurrencyRate(), false);
+	}
+
+	public void setTradeCurrencyRateNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.tradeCurrencyRate(), false, exclusiveUntil);
+	}
+
+	public void setForeignAmtNull()
+	{
+		zNullify(BcpRepoTradeFinder.foreignAmt(), false);
+	}
+
+	public void setForeignAmtNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.foreignAmt(), false, exclusiveUntil);
+	}
+
+	public void setEndAmountNull()
+	{
+		zNullify(BcpRepoTradeFinder.endAmount(), false);
+	}
+
+	public void setEndAmountNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.endAmount(), false, exclusiveUntil);
+	}
+
+	public void setSpecialTradeTypeNull()
+	{
+		zNullify(BcpRepoTradeFinder.specialTradeType(), false);
+	}
+
+	public void setSpecialTradeTypeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.specialTradeType(), false, exclusiveUntil);
+	}
+
+	public void setCouponPaymentMethodNull()
+	{
+		zNullify(BcpRepoTradeFinder.couponPaymentMethod(), false);
+	}
+
+	public void setCouponPaymentMethodNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.couponPaymentMethod(), false, exclusiveUntil);
+	}
+
+	public void setIsGsccNettedNull()
+	{
+		zNullify(BcpRepoTradeFinder.isGsccNetted(), false);
+	}
+
+	public void setIsGsccNettedNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.isGsccNetted(), false, exclusiveUntil);
+	}
+
+	public void setExclusionTypeCodeNull()
+	{
+		zNullify(BcpRepoTradeFinder.exclusionTypeCode(), false);
+	}
+
+	public void setExclusionTypeCodeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(BcpRepoTradeFinder.exclusionTypeCode(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BcpRepoTradeData _newData = (BcpRepoTradeData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		BcpRepoTradeData _newData = (BcpRepoTradeData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		BcpRepoTradeData _newData = (BcpRepoTradeData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return BcpRepoTradeFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BcpRepoTradeData.BcpRepoTradeDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		BcpRepoTradeData data = (BcpRepoTradeData) BcpRepoTradeFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("BcpRepoTrade has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromBcpRepoTradeData( BcpRepoTradeData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromBcpRepoTradeData( BcpRepoTradeData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) BcpRepoTradeFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BcpRepoTradeFinder.getMithraObjectPortal();
+	}
+
+	public BcpRepoTrade getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(BcpRepoTradeAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		BcpRepoTradeAbstract from = (BcpRepoTradeAbstract) f;
+		BcpRepoTradeData newData = from.zSynchronizedGetData();
+		if (from.isAccount2IdNull())
+		{
+			this.setAccount2IdNull();
+		}
+		else
+		{
+			this.setAccount2Id(newData.getAccount2Id());
+		}
+
+		this.setAccount2Num(newData.getAccount2Num());
+		if (from.isAccountIdNull())
+		{
+			this.setAccountIdNull();
+		}
+		else
+		{
+			this.setAccountId(newData.getAccountId());
+		}
+
+		this.setAccrualStartDate(newData.getAccrualStartDate());
+		this.setAcctAggType(newData.getAcctAggType());
+		this.setAmount(newData.getAmount());
+		this.setBuySellInd(newData.getBuySellInd());
+		this.setClearingAgent(newData.getClearingAgent());
+		this.setCommitmentTypeCode(newData.getCommitmentTypeCode());
+		if (from.isCouponPaymentMethodNull())
+		{
+			this.setCouponPaymentMethodNull();
+		}
+		else
+		{
+			this.setCouponPaymentMethod(newData.getCouponPaymentMethod());
+		}
+
+		this.setCustomerAcctName(newData.getCustomerAcctName());
+		this.setCustomerAcctNum(newData.getCustomerAcctNum());
+		if (from.isEndAmountNull())
+		{
+			this.setEndAmountNull();
+		}
+		else
+		{
+			this.setEndAmount(newData.getEndAmount());
+		}
+
+		this.setEndDate(newData.getEndDate());
+		if (from.isExclusionTypeCodeNull())
+		{
+			this.setExclusionTypeCodeNull();
+		}
+		else
+		{
+			this.setExclusionTypeCode(newData.getExclusionTypeCode());
+		}
+
+		if (from.isForeignAmtNull())
+		{
+			this.setForeignAmtNull();
+		}
+		else
+		{
+			this.setForeignAmt(newData.getForeignAmt());
+		}
+
+		this.setHasCollateral(newData.getHasCollateral());
+		this.setHicAcctNum(newData.getHicAcctNum());
+		if (from.isIsGsccNettedNull())
+		{
+			this.setIsGsccNettedNull();
+		}
+		else
+		{
+			this.setIsGsccNetted(newData.getIsGsccNetted());
+		}
+
+		this.setIsHic(newData.getIsHic());
+		this.setIsInterestOnly(newData.getIsInterestOnly());
+		this.setIsInternalTrade(newData.getIsInternalTrade());
+		this.setIsMatchBook(newData.getIsMatchBook());
+		this.setIsPermanent(newData.getIsPermanent());
+		this.setIsTriParty(newData.getIsTriParty());
+		if (from.isMarketValueNull())
+		{
+			this.setMarketValueNull();
+		}
+		else
+		{
+			this.setMarketValue(newData.getMarketValue());
+		}
+
+		this.setProductId(newData.getProductId());
+		this.setQuantity(newData.getQuantity());
+		this.setRecordType(newData.getRecordType());
+		this.setRefDate(newData.getRefDate());
+		this.setRefGenNum(newData.getRefGenNum());
+		this.setRefPieceNum(newData.getRefPieceNum());
+		this.setRefSeqNum(newData.getRefSeqNum());
+		this.setRepoClass(newData.getRepoClass());
+		this.setRepoRate(newData.getRepoRate());
+		this.setSource(newData.getSource());
+		if (from.isSpecialTradeTypeNull())
+		{
+			this.setSpecialTradeTypeNull();
+		}
+		else
+		{
+			this.setSpecialTradeType(newData.getSpecialTradeType());
+		}
+
+		this.setStartDate(newData.getStartDate());
+		this.setTradeCurrencyCode(newData.getTradeCurrencyCode());
+		if (from.isTradeCurrencyRateNull())
+		{
+			this.setTradeCurrencyRateNull();
+		}
+		else
+		{
+			this.setTradeCurrencyRate(newData.getTradeCurrencyRate());
+		}
+
+		this.setTradeDate(newData.getTradeDate());
+		this.setTradingAcctCode(newData.getTradingAcctCode());
+		this.setTransactionCodes(newData.getTransactionCodes());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BcpRepoTradeData _newData = (BcpRepoTradeData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		BcpRepoTradeData _newData = (BcpRepoTradeData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(BcpRepoTradeAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		BcpRepoTradeAbstract from = (BcpRepoTradeAbstract)f;
+		BcpRepoTradeData newData = from.zSynchronizedGetData();
+		if (from.isAccount2IdNull())
+		{
+			this.setAccount2IdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setAccount2IdUntil(newData.getAccount2Id(), exclusiveUntil);
+		}
+
+		this.setAccount2NumUntil(newData.getAccount2Num(), exclusiveUntil);
+		if (from.isAccountIdNull())
+		{
+			this.setAccountIdNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setAccountIdUntil(newData.getAccountId(), exclusiveUntil);
+		}
+
+		this.setAccrualStartDateUntil(newData.getAccrualStartDate(), exclusiveUntil);
+		this.setAcctAggTypeUntil(newData.getAcctAggType(), exclusiveUntil);
+		this.setAmountUntil(newData.getAmount(), exclusiveUntil);
+		this.setBuySellIndUntil(newData.getBuySellInd(), exclusiveUntil);
+		this.setClearingAgentUntil(newData.getClearingAgent(), exclusiveUntil);
+		this.setCommitmentTypeCodeUntil(newData.getCommitmentTypeCode(), exclusiveUntil);
+		if (from.isCouponPaymentMethodNull())
+		{
+			this.setCouponPaymentMethodNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setCouponPaymentMethodUntil(newData.getCouponPaymentMethod(), exclusiveUntil);
+		}
+
+		this.setCustomerAcctNameUntil(newData.getCustomerAcctName(), exclusiveUntil);
+		this.setCustomerAcctNumUntil(newData.getCustomerAcctNum(), exclusiveUntil);
+		if (from.isEndAmountNull())
+		{
+			this.setEndAmountNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setEndAmountUntil(newData.getEndAmount(), exclusiveUntil);
+		}
+
+		this.setEndDateUntil(newData.getEndDate(), exclusiveUntil);
+		if (from.isExclusionTypeCodeNull())
+		{
+			this.setExclusionTypeCodeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setExclusionTypeCodeUntil(newData.getExclusionTypeCode(), exclusiveUntil);
+		}
+
+		if (from.isForeignAmtNull())
+		{
+			this.setForeignAmtNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setForeignAmtUntil(newData.getForeignAmt(), exclusiveUntil);
+		}
+
+		this.setHasCollateralUntil(newData.getHasCollateral(), exclusiveUntil);
+		this.setHicAcctNumUntil(newData.getHicAcctNum(), exclusiveUntil);
+		if (from.isIsGsccNettedNull())
+		{
+			this.setIsGsccNettedNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setIsGsccNettedUntil(newData.getIsGsccNetted(), exclusiveUntil);
+		}
+
+		this.setIsHicUntil(newData.getIsHic(), exclusiveUntil);
+		this.setIsInterestOnlyUntil(newData.getIsInterestOnly(), exclusiveUntil);
+		this.setIsInternalTradeUntil(newData.getIsInternalTrade(), exclusiveUntil);
+		this.setIsMatchBookUntil(newData.getIsMatchBook(), exclusiveUntil);
+		this.setIsPermanentUntil(newData.getIsPermanent(), exclusiveUntil);
+		this.setIsTriPartyUntil(newData.getIsTriParty(), exclusiveUntil);
+		if (from.isMarketValueNull())
+		{
+			this.setMarketValueNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setMarketValueUntil(newData.getMarketValue(), exclusiveUntil);
+		}
+
+		this.setProductIdUntil(newData.getProductId(), exclusiveUntil);
+		this.setQuantityUntil(newData.getQuantity(), exclusiveUntil);
+		this.setRecordTypeUntil(newData.getRecordType(), exclusiveUntil);
+		this.setRefDateUntil(newData.getRefDate(), exclusiveUntil);
+		this.setRefGenNumUntil(newData.getRefGenNum(), exclusiveUntil);
+		this.setRefPieceNumUntil(newData.getRefPieceNum(), exclusiveUntil);
+		this.setRefSeqNumUntil(newData.getRefSeqNum(), exclusiveUntil);
+		this.setRepoClassUntil(newData.getRepoClass(), exclusiveUntil);
+		this.setRepoRateUntil(newData.getRepoRate(), exclusiveUntil);
+		this.setSourceUntil(newData.getSource(), exclusiveUntil);
+		if (from.isSpecialTradeTypeNull())
+		{
+			this.setSpecialTradeTypeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setSpecialTradeTypeUntil(newData.getSpecialTradeType(), exclusiveUntil);
+		}
+
+		this.setStartDateUntil(newData.getStartDate(), exclusiveUntil);
+		this.setTradeCurrencyCodeUntil(newData.getTradeCurrencyCode(), exclusiveUntil);
+		if (from.isTradeCurrencyRateNull())
+		{
+			this.setTradeCurrencyRateNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setTradeCurrencyRateUntil(newData.getTradeCurrencyRate(), exclusiveUntil);
+		}
+
+		this.setTradeDateUntil(newData.getTradeDate(), exclusiveUntil);
+		this.setTradingAcctCodeUntil(newData.getTradingAcctCode(), exclusiveUntil);
+		this.setTransactionCodesUntil(newData.getTransactionCodes(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		BcpRepoTradeData newData = (BcpRepoTradeData) d;
+		BcpRepoTradeData data = (BcpRepoTradeData) nd;
+		if (BcpRepoTradeFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.account2Id(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.account2Num(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.accountId(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.accrualStartDate(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.acctAggType(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.amount(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.buySellInd(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.clearingAgent(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.commitmentTypeCode(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.companyId(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.couponPaymentMethod(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.customerAcctName(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.customerAcctNum(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.endAmount(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.endDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.exclusionTypeCode(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.foreignAmt(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.hasCollateral(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.hicAcctNum(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isGsccNetted(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isHic(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isInterestOnly(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isInternalTrade(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isMatchBook(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isPermanent(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isTriParty(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.marketValue(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.productId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.quantity(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.recordType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refDate(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refGenNum(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refPieceNum(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refSeqNum(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.repoClass(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.repoId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.repoRate(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.source(), false);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.specialTradeType(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.startDate(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.tradeCurrencyCode(), false);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.tradeCurrencyRate(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.tradeDate(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.tradingAcctCode(), false);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.transactionCodes(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.account2Id(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.account2Num(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.accountId(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.accrualStartDate(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.acctAggType(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.amount(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.buySellInd(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.clearingAgent(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.commitmentTypeCode(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.companyId(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.couponPaymentMethod(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.customerAcctName(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.customerAcctNum(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.endAmount(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.endDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.exclusionTypeCode(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.foreignAmt(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.hasCollateral(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.hicAcctNum(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isGsccNetted(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isHic(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isInterestOnly(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isInternalTrade(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isMatchBook(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isPermanent(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.isTriParty(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.marketValue(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.productId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.quantity(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.recordType(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refDate(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refGenNum(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refPieceNum(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.refSeqNum(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.repoClass(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.repoId(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.repoRate(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.source(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, BcpRepoTradeFinder.specialTradeType(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.startDate(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.tradeCurrencyCode(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, BcpRepoTradeFinder.tradeCurrencyRate(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, BcpRepoTradeFinder.tradeDate(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.tradingAcctCode(), false, until);
+		changed |= zUpdateString(behavior, data, newData, BcpRepoTradeFinder.transactionCodes(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		BcpRepoTradeData data = ((BcpRepoTradeData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		BcpRepoTradeData data = ((BcpRepoTradeData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		BcpRepoTradeData data = ((BcpRepoTradeData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity()), BcpRepoTradeFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getFundingInfinity()), BcpRepoTradeFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		BcpRepoTradeData localData = (BcpRepoTradeData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
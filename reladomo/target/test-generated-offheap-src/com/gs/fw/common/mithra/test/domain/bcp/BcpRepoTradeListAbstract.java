@@ -0,0 +1,430 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class BcpRepoTradeListAbstract extends DelegatingList<BcpRepoTrade> implements MithraDatedTransactionalList<BcpRepoTrade>
+{
+	public BcpRepoTradeListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public BcpRepoTradeListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public BcpRepoTradeListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public BcpRepoTradeListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public BcpRepoTrade[] elements()
+	{
+		BcpRepoTrade[] result = new BcpRepoTrade[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public BcpRepoTradeList intersection(BcpRepoTradeList another)
+	{
+		return (BcpRepoTradeList)super.intersection(another);
+	}
+
+	public BcpRepoTrade getBcpRepoTradeAt(int index)
+	{
+		return (BcpRepoTrade)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return BcpRepoTradeFinder.getMithraObjectPortal();
+	}
+
+	public BcpRepoTradeList getNonPersistentCopy()
+	{
+		BcpRepoTradeList result = new BcpRepoTradeList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public BcpRepoTradeList asAdhoc()
+	{
+		return (BcpRepoTradeList) super.asAdhoc();
+	}
+
+	public MithraDatedTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<BcpRepoTrade> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public BcpRepoTradeList merge(MithraTransactionalList<BcpRepoTrade> incoming, TopLevelMergeOptions<BcpRepoTrade> mergeOptions)
+	{
+		return (BcpRepoTradeList) super.merge(incoming, mergeOptions);
+	}
+
+	public BcpRepoTradeList getDetachedCopy()
+	{
+		BcpRepoTradeList result = new BcpRepoTradeList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setAccount2Id(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.account2Id(), newValue);
+	}
+
+	public void setAccount2Num(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.account2Num(), newValue);
+	}
+
+	public void setAccountId(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.accountId(), newValue);
+	}
+
+	public void setAccrualStartDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.accrualStartDate(), newValue);
+	}
+
+	public void setAcctAggType(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.acctAggType(), newValue);
+	}
+
+	public void setAmount(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.amount(), newValue);
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.businessDateFrom(), newValue);
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.businessDateTo(), newValue);
+	}
+
+	public void setBuySellInd(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.buySellInd(), newValue);
+	}
+
+	public void setClearingAgent(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.clearingAgent(), newValue);
+	}
+
+	public void setCommitmentTypeCode(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.commitmentTypeCode(), newValue);
+	}
+
+	public void setCompanyId(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.companyId(), newValue);
+	}
+
+	public void setCouponPaymentMethod(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.couponPaymentMethod(), newValue);
+	}
+
+	public void setCustomerAcctName(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.customerAcctName(), newValue);
+	}
+
+	public void setCustomerAcctNum(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.customerAcctNum(), newValue);
+	}
+
+	public void setEndAmount(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.endAmount(), newValue);
+	}
+
+	public void setEndDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.endDate(), newValue);
+	}
+
+	public void setExclusionTypeCode(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.exclusionTypeCode(), newValue);
+	}
+
+	public void setForeignAmt(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.foreignAmt(), newValue);
+	}
+
+	public void setHasCollateral(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.hasCollateral(), newValue);
+	}
+
+	public void setHicAcctNum(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.hicAcctNum(), newValue);
+	}
+
+	public void setIsGsccNetted(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isGsccNetted(), newValue);
+	}
+
+	public void setIsHic(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isHic(), newValue);
+	}
+
+	public void setIsInterestOnly(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isInterestOnly(), newValue);
+	}
+
+	public void setIsInternalTrade(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isInternalTrade(), newValue);
+	}
+
+	public void setIsMatchBook(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isMatchBook(), newValue);
+	}
+
+	public void setIsPermanent(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isPermanent(), newValue);
+	}
+
+	public void setIsTriParty(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.isTriParty(), newValue);
+	}
+
+	public void setMarketValue(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.marketValue(), newValue);
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.processingDateFrom(), newValue);
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.processingDateTo(), newValue);
+	}
+
+	public void setProductId(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.productId(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.quantity(), newValue);
+	}
+
+	public void setRecordType(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.recordType(), newValue);
+	}
+
+	public void setRefDate(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refDate(), newValue);
+	}
+
+	public void setRefGenNum(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refGenNum(), newValue);
+	}
+
+	public void setRefPieceNum(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refPieceNum(), newValue);
+	}
+
+	public void setRefSeqNum(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.refSeqNum(), newValue);
+	}
+
+	public void setRepoClass(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.repoClass(), newValue);
+	}
+
+	public void setRepoId(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.repoId(), newValue);
+	}
+
+	public void setRepoRate(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.repoRate(), newValue);
+	}
+
+	public void setSource(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.source(), newValue);
+	}
+
+	public void setSpecialTradeType(int newValue)
+	{
+		zSetInteger(BcpRepoTradeFinder.specialTradeType(), newValue);
+	}
+
+	public void setStartDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.startDate(), newValue);
+	}
+
+	public void setTradeCurrencyCode(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.tradeCurrencyCode(), newValue);
+	}
+
+	public void setTradeCurrencyRate(double newValue)
+	{
+		zSetDouble(BcpRepoTradeFinder.tradeCurrencyRate(), newValue);
+	}
+
+	public void setTradeDate(Timestamp newValue)
+	{
+		zSetTimestamp(BcpRepoTradeFinder.tradeDate(), newValue);
+	}
+
+	public void setTradingAcctCode(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.tradingAcctCode(), newValue);
+	}
+
+	public void setTransactionCodes(String newValue)
+	{
+		zSetString(BcpRepoTradeFinder.transactionCodes(), newValue);
+	}
+
+	public void setAccountIdNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.accountId());
+	}
+
+	public void setAccount2IdNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.account2Id());
+	}
+
+	public void setMarketValueNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.marketValue());
+	}
+
+	public void setTradeCurrencyRateNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.tradeCurrencyRate());
+	}
+
+	public void setForeignAmtNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.foreignAmt());
+	}
+
+	public void setEndAmountNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.endAmount());
+	}
+
+	public void setSpecialTradeTypeNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.specialTradeType());
+	}
+
+	public void setCouponPaymentMethodNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.couponPaymentMethod());
+	}
+
+	public void setIsGsccNettedNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.isGsccNetted());
+	}
+
+	public void setExclusionTypeCodeNull()
+	{
+		zSetAttributeNull(BcpRepoTradeFinder.exclusionTypeCode());
+	}
+
+	public void purgeAll()
+	{
+		super.purgeAll();
+	}
+
+	public void terminateAll()
+	{
+		super.terminateAll();
+	}
+}
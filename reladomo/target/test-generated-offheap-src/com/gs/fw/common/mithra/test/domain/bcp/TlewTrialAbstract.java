@@ -0,0 +1,2816 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class TlewTrialAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new AuditOnlyTemporalDirector(
+		TlewTrialFinder.processingDate()
+	, TlewTrialFinder.zGetDoubleAttributes(),TlewTrialFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(TlewTrial.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	public TlewTrialAbstract(Timestamp processingDate
+	)
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, TlewTrialFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TlewTrialData zSynchronizedGetData()
+	{
+		return (TlewTrialData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !TlewTrialFinder.processingDate().dataMatches(current, this.processingDate);
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	public void insertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("insertUntil is only supported for dated objects with a business date");
+	}
+
+	public void terminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		throw new MithraBusinessException("terminateUntil is only supported for dated objects with a business date");
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public TlewTrial zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		TlewTrial original = (TlewTrial) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, null,
+			TlewTrialFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public TlewTrial getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TlewTrialAbstract result = (TlewTrialAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (TlewTrial ) result;
+	}
+
+	public TlewTrial zFindOriginal()
+	{
+		TlewTrialData data = (TlewTrialData) this.currentData;
+		Operation op;
+		op = TlewTrialFinder.acctId().eq(data.getAcctId());
+		op = op.and(TlewTrialFinder.instrument().eq(data.getInstrument()));
+		op = op.and(TlewTrialFinder.instrumentType().eq(data.getInstrumentType()));
+		op = op.and(TlewTrialFinder.processingDate().eq(this.getProcessingDate()));
+		return TlewTrialFinder.findOne(op);
+	}
+
+	public TlewTrial getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[1];
+		asOfAttributes[0] = this.processingDate;
+		TlewTrialAbstract result = (TlewTrialAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (TlewTrial ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public TlewTrial copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (TlewTrial) behavior.updateOriginalOrInsert(this);
+	}
+
+	public TlewTrial copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TlewTrial) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			TlewTrialData data = (TlewTrialData) this.currentData;
+			Operation op = TlewTrialFinder.processingDate().eq(this.processingDate);
+			op = op.and(TlewTrialFinder.acctId().eq(data.getAcctId()));
+			op = op.and(TlewTrialFinder.instrument().eq(data.getInstrument()));
+			op = op.and(TlewTrialFinder.instrumentType().eq(data.getInstrumentType()));
+			return TlewTrialFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	public boolean isAccountDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isAccountDescriptionNull();
+	}
+
+	public boolean isAccountNumberNull()
+	{
+		return this.zSynchronizedGetData().isAccountNumberNull();
+	}
+
+	public boolean isAccountTypeBNull()
+	{
+		return this.zSynchronizedGetData().isAccountTypeBNull();
+	}
+
+	public boolean isAccountTypeCNull()
+	{
+		return this.zSynchronizedGetData().isAccountTypeCNull();
+	}
+
+	public boolean isAccrDivNull()
+	{
+		return this.zSynchronizedGetData().isAccrDivNull();
+	}
+
+	public boolean isAcctIdNull()
+	{
+		return this.zSynchronizedGetData().isAcctIdNull();
+	}
+
+	public boolean isActiveMtdRecNull()
+	{
+		return this.zSynchronizedGetData().isActiveMtdRecNull();
+	}
+
+	public boolean isAdjSdResrvUnrealPlNull()
+	{
+		return this.zSynchronizedGetData().isAdjSdResrvUnrealPlNull();
+	}
+
+	public boolean isAdjTdUnstldFutPlNull()
+	{
+		return this.zSynchronizedGetData().isAdjTdUnstldFutPlNull();
+	}
+
+	public boolean isBaseCurrencyNull()
+	{
+		return this.zSynchronizedGetData().isBaseCurrencyNull();
+	}
+
+	public boolean isBusDateNull()
+	{
+		return this.zSynchronizedGetData().isBusDateNull();
+	}
+
+	public boolean isCarryChargeNull()
+	{
+		return this.zSynchronizedGetData().isCarryChargeNull();
+	}
+
+	public boolean isCarryRebateNull()
+	{
+		return this.zSynchronizedGetData().isCarryRebateNull();
+	}
+
+	public boolean isCarryTransferFlagNull()
+	{
+		return this.zSynchronizedGetData().isCarryTransferFlagNull();
+	}
+
+	public boolean isContractualNpvNull()
+	{
+		return this.zSynchronizedGetData().isContractualNpvNull();
+	}
+
+	public boolean isFairValAdjNull()
+	{
+		return this.zSynchronizedGetData().isFairValAdjNull();
+	}
+
+	public boolean isFwdCostBaseNull()
+	{
+		return this.zSynchronizedGetData().isFwdCostBaseNull();
+	}
+
+	public boolean isFwdCostGt30BaseNull()
+	{
+		return this.zSynchronizedGetData().isFwdCostGt30BaseNull();
+	}
+
+	public boolean isFwdQtyNull()
+	{
+		return this.zSynchronizedGetData().isFwdQtyNull();
+	}
+
+	public boolean isFwdQtyGt30Null()
+	{
+		return this.zSynchronizedGetData().isFwdQtyGt30Null();
+	}
+
+	public boolean isFxPerStockRecNull()
+	{
+		return this.zSynchronizedGetData().isFxPerStockRecNull();
+	}
+
+	public boolean isFxRevalAdjNull()
+	{
+		return this.zSynchronizedGetData().isFxRevalAdjNull();
+	}
+
+	public boolean isGaapTdMktvlBaseNull()
+	{
+		return this.zSynchronizedGetData().isGaapTdMktvlBaseNull();
+	}
+
+	public boolean isGmiUnrealNull()
+	{
+		return this.zSynchronizedGetData().isGmiUnrealNull();
+	}
+
+	public boolean isInstrumentNull()
+	{
+		return this.zSynchronizedGetData().isInstrumentNull();
+	}
+
+	public boolean isInstrumentSubTypeNull()
+	{
+		return this.zSynchronizedGetData().isInstrumentSubTypeNull();
+	}
+
+	public boolean isInstrumentTypeNull()
+	{
+		return this.zSynchronizedGetData().isInstrumentTypeNull();
+	}
+
+	public boolean isLegalEntityNull()
+	{
+		return this.zSynchronizedGetData().isLegalEntityNull();
+	}
+
+	public boolean isLocalCurrTimeNull()
+	{
+		return this.zSynchronizedGetData().isLocalCurrTimeNull();
+	}
+
+	public boolean isLtdLcmTdUnrealNull()
+	{
+		return this.zSynchronizedGetData().isLtdLcmTdUnrealNull();
+	}
+
+	public boolean isLtdSdUnrealNull()
+	{
+		return this.zSynchronizedGetData().isLtdSdUnrealNull();
+	}
+
+	public boolean isMtdDivIncmNull()
+	{
+		return this.zSynchronizedGetData().isMtdDivIncmNull();
+	}
+
+	public boolean isMtdIntIncmNull()
+	{
+		return this.zSynchronizedGetData().isMtdIntIncmNull();
+	}
+
+	public boolean isMtdIntXpnsNull()
+	{
+		return this.zSynchronizedGetData().isMtdIntXpnsNull();
+	}
+
+	public boolean isMtdLcmTdUnrealNull()
+	{
+		return this.zSynchronizedGetData().isMtdLcmTdUnrealNull();
+	}
+
+	public boolean isMtdRealTradingPlNull()
+	{
+		return this.zSynchronizedGetData().isMtdRealTradingPlNull();
+	}
+
+	public boolean isMtdSdUnrealNull()
+	{
+		return this.zSynchronizedGetData().isMtdSdUnrealNull();
+	}
+
+	public boolean isMtdTdUnrealNull()
+	{
+		return this.zSynchronizedGetData().isMtdTdUnrealNull();
+	}
+
+	public boolean isMtdTransferTaxNull()
+	{
+		return this.zSynchronizedGetData().isMtdTransferTaxNull();
+	}
+
+	public boolean isOffsetPayRecvNull()
+	{
+		return this.zSynchronizedGetData().isOffsetPayRecvNull();
+	}
+
+	public boolean isOpenIntBaseNull()
+	{
+		return this.zSynchronizedGetData().isOpenIntBaseNull();
+	}
+
+	public boolean isOtherAdjCntrlTotNull()
+	{
+		return this.zSynchronizedGetData().isOtherAdjCntrlTotNull();
+	}
+
+	public boolean isOtherTdAdjNull()
+	{
+		return this.zSynchronizedGetData().isOtherTdAdjNull();
+	}
+
+	public boolean isParaProdTypeNull()
+	{
+		return this.zSynchronizedGetData().isParaProdTypeNull();
+	}
+
+	public boolean isPendingCashNull()
+	{
+		return this.zSynchronizedGetData().isPendingCashNull();
+	}
+
+	public boolean isPmeTotUnrealPlNull()
+	{
+		return this.zSynchronizedGetData().isPmeTotUnrealPlNull();
+	}
+
+	public boolean isPosAccrIntBaseNull()
+	{
+		return this.zSynchronizedGetData().isPosAccrIntBaseNull();
+	}
+
+	public boolean isPosCostBaseNull()
+	{
+		return this.zSynchronizedGetData().isPosCostBaseNull();
+	}
+
+	public boolean isPosMktvlBaseNull()
+	{
+		return this.zSynchronizedGetData().isPosMktvlBaseNull();
+	}
+
+	public boolean isPosNotvlBaseNull()
+	{
+		return this.zSynchronizedGetData().isPosNotvlBaseNull();
+	}
+
+	public boolean isPosPurchIntBaseNull()
+	{
+		return this.zSynchronizedGetData().isPosPurchIntBaseNull();
+	}
+
+	public boolean isPosXrateNull()
+	{
+		return this.zSynchronizedGetData().isPosXrateNull();
+	}
+
+	public boolean isPositionQuantityNull()
+	{
+		return this.zSynchronizedGetData().isPositionQuantityNull();
+	}
+
+	public boolean isPositionTypeNull()
+	{
+		return this.zSynchronizedGetData().isPositionTypeNull();
+	}
+
+	public boolean isPrimaryIncomeFunctionNull()
+	{
+		return this.zSynchronizedGetData().isPrimaryIncomeFunctionNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	public boolean isProdFutCntrctSizeNull()
+	{
+		return this.zSynchronizedGetData().isProdFutCntrctSizeNull();
+	}
+
+	public boolean isProdGlobalClassNull()
+	{
+		return this.zSynchronizedGetData().isProdGlobalClassNull();
+	}
+
+	public boolean isProdRelHostNull()
+	{
+		return this.zSynchronizedGetData().isProdRelHostNull();
+	}
+
+	public boolean isProdScrpBsPostClassNull()
+	{
+		return this.zSynchronizedGetData().isProdScrpBsPostClassNull();
+	}
+
+	public boolean isProdScrpPlPostClassNull()
+	{
+		return this.zSynchronizedGetData().isProdScrpPlPostClassNull();
+	}
+
+	public boolean isProdStkPxNull()
+	{
+		return this.zSynchronizedGetData().isProdStkPxNull();
+	}
+
+	public boolean isProdSynNull()
+	{
+		return this.zSynchronizedGetData().isProdSynNull();
+	}
+
+	public boolean isProdTypeNull()
+	{
+		return this.zSynchronizedGetData().isProdTypeNull();
+	}
+
+	public boolean isProdUndrClassNull()
+	{
+		return this.zSynchronizedGetData().isProdUndrClassNull();
+	}
+
+	public boolean isProdUndrlrPxNull()
+	{
+		return this.zSynchronizedGetData().isProdUndrlrPxNull();
+	}
+
+	public boolean isProdXplRltnNull()
+	{
+		return this.zSynchronizedGetData().isProdXplRltnNull();
+	}
+
+	public boolean isProductDescriptionNull()
+	{
+		return this.zSynchronizedGetData().isProductDescriptionNull();
+	}
+
+	public boolean isProductIssueCountryNull()
+	{
+		return this.zSynchronizedGetData().isProductIssueCountryNull();
+	}
+
+	public boolean isProductIssueCurrencyNull()
+	{
+		return this.zSynchronizedGetData().isProductIssueCurrencyNull();
+	}
+
+	public boolean isProductMaturityDateNull()
+	{
+		return this.zSynchronizedGetData().isProductMaturityDateNull();
+	}
+
+	public boolean isProductPrimaryMarketNull()
+	{
+		return this.zSynchronizedGetData().isProductPrimaryMarketNull();
+	}
+
+	public boolean isProductProfileNull()
+	{
+		return this.zSynchronizedGetData().isProductProfileNull();
+	}
+
+	public boolean isProductUnderlierReferenceIdNull()
+	{
+		return this.zSynchronizedGetData().isProductUnderlierReferenceIdNull();
+	}
+
+	public boolean isRegCostBaseNull()
+	{
+		return this.zSynchronizedGetData().isRegCostBaseNull();
+	}
+
+	public boolean isRegQtyNull()
+	{
+		return this.zSynchronizedGetData().isRegQtyNull();
+	}
+
+	public boolean isSdFxUnrealPlNull()
+	{
+		return this.zSynchronizedGetData().isSdFxUnrealPlNull();
+	}
+
+	public boolean isSegregatedCashNull()
+	{
+		return this.zSynchronizedGetData().isSegregatedCashNull();
+	}
+
+	public boolean isSettledCashNull()
+	{
+		return this.zSynchronizedGetData().isSettledCashNull();
+	}
+
+	public boolean isTlewTrialChangeNull()
+	{
+		return this.zSynchronizedGetData().isTlewTrialChangeNull();
+	}
+
+	public boolean isTlewTrialCreateNull()
+	{
+		return this.zSynchronizedGetData().isTlewTrialCreateNull();
+	}
+
+	public boolean isTotUnrealPlNull()
+	{
+		return this.zSynchronizedGetData().isTotUnrealPlNull();
+	}
+
+	public boolean isTrialNull()
+	{
+		return this.zSynchronizedGetData().isTrialNull();
+	}
+
+	public boolean isUnrealFutPerGmiPlNull()
+	{
+		return this.zSynchronizedGetData().isUnrealFutPerGmiPlNull();
+	}
+
+	public boolean isUnstldFwdPlNull()
+	{
+		return this.zSynchronizedGetData().isUnstldFwdPlNull();
+	}
+
+	public boolean isUnstldRwPlNull()
+	{
+		return this.zSynchronizedGetData().isUnstldRwPlNull();
+	}
+
+	public boolean isValuationAdjNull()
+	{
+		return this.zSynchronizedGetData().isValuationAdjNull();
+	}
+
+	public String getAccountDescription()
+	{
+		return this.zSynchronizedGetData().getAccountDescription();
+	}
+
+	public void setAccountDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 80)
+		{
+			throw new MithraBusinessException("Attribute 'accountDescription' cannot exceed maximum length of 80: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.accountDescription(), newValue, false );
+	}
+
+	public String getAccountNumber()
+	{
+		return this.zSynchronizedGetData().getAccountNumber();
+	}
+
+	public void setAccountNumber(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 12)
+		{
+			throw new MithraBusinessException("Attribute 'accountNumber' cannot exceed maximum length of 12: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.accountNumber(), newValue, false );
+	}
+
+	public int getAccountTypeB()
+	{
+		return this.zSynchronizedGetData().getAccountTypeB();
+	}
+
+	public void setAccountTypeB(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.accountTypeB(), newValue, false ,false);
+	}
+
+	public String getAccountTypeC()
+	{
+		return this.zSynchronizedGetData().getAccountTypeC();
+	}
+
+	public void setAccountTypeC(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'accountTypeC' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.accountTypeC(), newValue, false );
+	}
+
+	public double getAccrDiv()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isAccrDivNull()) MithraNullPrimitiveException.throwNew("accrDiv", data);
+		return data.getAccrDiv();
+	}
+
+	public void setAccrDiv(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.accrDiv(), newValue, false ,true);
+	}
+
+	public int getAcctId()
+	{
+		return this.zSynchronizedGetData().getAcctId();
+	}
+
+	public void setAcctId(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.acctId(), newValue, true ,false);
+	}
+
+	public short getActiveMtdRec()
+	{
+		return this.zSynchronizedGetData().getActiveMtdRec();
+	}
+
+	public void setActiveMtdRec(short newValue)
+	{
+		zSetShort(TlewTrialFinder.activeMtdRec(), newValue, false ,false);
+	}
+
+	public double getAdjSdResrvUnrealPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isAdjSdResrvUnrealPlNull()) MithraNullPrimitiveException.throwNew("adjSdResrvUnrealPl", data);
+		return data.getAdjSdResrvUnrealPl();
+	}
+
+	public void setAdjSdResrvUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.adjSdResrvUnrealPl(), newValue, false ,true);
+	}
+
+	public double getAdjTdUnstldFutPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isAdjTdUnstldFutPlNull()) MithraNullPrimitiveException.throwNew("adjTdUnstldFutPl", data);
+		return data.getAdjTdUnstldFutPl();
+	}
+
+	public void setAdjTdUnstldFutPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.adjTdUnstldFutPl(), newValue, false ,true);
+	}
+
+	public String getBaseCurrency()
+	{
+		return this.zSynchronizedGetData().getBaseCurrency();
+	}
+
+	public void setBaseCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'baseCurrency' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.baseCurrency(), newValue, false );
+	}
+
+	public Timestamp getBusDate()
+	{
+		return this.zSynchronizedGetData().getBusDate();
+	}
+
+	public void setBusDate(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.busDate(), newValue, false );
+	}
+
+	public double getCarryCharge()
+	{
+		return this.zSynchronizedGetData().getCarryCharge();
+	}
+
+	public void setCarryCharge(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.carryCharge(), newValue, false ,false);
+	}
+
+	public double getCarryRebate()
+	{
+		return this.zSynchronizedGetData().getCarryRebate();
+	}
+
+	public void setCarryRebate(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.carryRebate(), newValue, false ,false);
+	}
+
+	public short getCarryTransferFlag()
+	{
+		return this.zSynchronizedGetData().getCarryTransferFlag();
+	}
+
+	public void setCarryTransferFlag(short newValue)
+	{
+		zSetShort(TlewTrialFinder.carryTransferFlag(), newValue, false ,false);
+	}
+
+	public double getContractualNpv()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isContractualNpvNull()) MithraNullPrimitiveException.throwNew("contractualNpv", data);
+		return data.getContractualNpv();
+	}
+
+	public void setContractualNpv(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.contractualNpv(), newValue, false ,true);
+	}
+
+	public double getFairValAdj()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFairValAdjNull()) MithraNullPrimitiveException.throwNew("fairValAdj", data);
+		return data.getFairValAdj();
+	}
+
+	public void setFairValAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fairValAdj(), newValue, false ,true);
+	}
+
+	public double getFwdCostBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFwdCostBaseNull()) MithraNullPrimitiveException.throwNew("fwdCostBase", data);
+		return data.getFwdCostBase();
+	}
+
+	public void setFwdCostBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdCostBase(), newValue, false ,true);
+	}
+
+	public double getFwdCostGt30Base()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFwdCostGt30BaseNull()) MithraNullPrimitiveException.throwNew("fwdCostGt30Base", data);
+		return data.getFwdCostGt30Base();
+	}
+
+	public void setFwdCostGt30Base(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdCostGt30Base(), newValue, false ,true);
+	}
+
+	public double getFwdQty()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFwdQtyNull()) MithraNullPrimitiveException.throwNew("fwdQty", data);
+		return data.getFwdQty();
+	}
+
+	public void setFwdQty(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdQty(), newValue, false ,true);
+	}
+
+	public double getFwdQtyGt30()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFwdQtyGt30Null()) MithraNullPrimitiveException.throwNew("fwdQtyGt30", data);
+		return data.getFwdQtyGt30();
+	}
+
+	public void setFwdQtyGt30(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fwdQtyGt30(), newValue, false ,true);
+	}
+
+	public double getFxPerStockRec()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFxPerStockRecNull()) MithraNullPrimitiveException.throwNew("fxPerStockRec", data);
+		return data.getFxPerStockRec();
+	}
+
+	public void setFxPerStockRec(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fxPerStockRec(), newValue, false ,true);
+	}
+
+	public double getFxRevalAdj()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isFxRevalAdjNull()) MithraNullPrimitiveException.throwNew("fxRevalAdj", data);
+		return data.getFxRevalAdj();
+	}
+
+	public void setFxRevalAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.fxRevalAdj(), newValue, false ,true);
+	}
+
+	public double getGaapTdMktvlBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isGaapTdMktvlBaseNull()) MithraNullPrimitiveException.throwNew("gaapTdMktvlBase", data);
+		return data.getGaapTdMktvlBase();
+	}
+
+	public void setGaapTdMktvlBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.gaapTdMktvlBase(), newValue, false ,true);
+	}
+
+	public double getGmiUnreal()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isGmiUnrealNull()) MithraNullPrimitiveException.throwNew("gmiUnreal", data);
+		return data.getGmiUnreal();
+	}
+
+	public void setGmiUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.gmiUnreal(), newValue, false ,true);
+	}
+
+	public int getInstrument()
+	{
+		return this.zSynchronizedGetData().getInstrument();
+	}
+
+	public void setInstrument(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.instrument(), newValue, true ,false);
+	}
+
+	public String getInstrumentSubType()
+	{
+		return this.zSynchronizedGetData().getInstrumentSubType();
+	}
+
+	public void setInstrumentSubType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'instrumentSubType' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.instrumentSubType(), newValue, false );
+	}
+
+	public String getInstrumentType()
+	{
+		return this.zSynchronizedGetData().getInstrumentType();
+	}
+
+	public void setInstrumentType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'instrumentType' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.instrumentType(), newValue, true );
+	}
+
+	public int getLegalEntity()
+	{
+		return this.zSynchronizedGetData().getLegalEntity();
+	}
+
+	public void setLegalEntity(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.legalEntity(), newValue, false ,false);
+	}
+
+	public Timestamp getLocalCurrTime()
+	{
+		return this.zSynchronizedGetData().getLocalCurrTime();
+	}
+
+	public void setLocalCurrTime(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.localCurrTime(), newValue, false );
+	}
+
+	public double getLtdLcmTdUnreal()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isLtdLcmTdUnrealNull()) MithraNullPrimitiveException.throwNew("ltdLcmTdUnreal", data);
+		return data.getLtdLcmTdUnreal();
+	}
+
+	public void setLtdLcmTdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.ltdLcmTdUnreal(), newValue, false ,true);
+	}
+
+	public double getLtdSdUnreal()
+	{
+		return this.zSynchronizedGetData().getLtdSdUnreal();
+	}
+
+	public void setLtdSdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.ltdSdUnreal(), newValue, false ,false);
+	}
+
+	public double getMtdDivIncm()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdDivIncmNull()) MithraNullPrimitiveException.throwNew("mtdDivIncm", data);
+		return data.getMtdDivIncm();
+	}
+
+	public void setMtdDivIncm(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdDivIncm(), newValue, false ,true);
+	}
+
+	public double getMtdIntIncm()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdIntIncmNull()) MithraNullPrimitiveException.throwNew("mtdIntIncm", data);
+		return data.getMtdIntIncm();
+	}
+
+	public void setMtdIntIncm(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdIntIncm(), newValue, false ,true);
+	}
+
+	public double getMtdIntXpns()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdIntXpnsNull()) MithraNullPrimitiveException.throwNew("mtdIntXpns", data);
+		return data.getMtdIntXpns();
+	}
+
+	public void setMtdIntXpns(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdIntXpns(), newValue, false ,true);
+	}
+
+	public double getMtdLcmTdUnreal()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdLcmTdUnrealNull()) MithraNullPrimitiveException.throwNew("mtdLcmTdUnreal", data);
+		return data.getMtdLcmTdUnreal();
+	}
+
+	public void setMtdLcmTdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdLcmTdUnreal(), newValue, false ,true);
+	}
+
+	public double getMtdRealTradingPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdRealTradingPlNull()) MithraNullPrimitiveException.throwNew("mtdRealTradingPl", data);
+		return data.getMtdRealTradingPl();
+	}
+
+	public void setMtdRealTradingPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdRealTradingPl(), newValue, false ,true);
+	}
+
+	public double getMtdSdUnreal()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdSdUnrealNull()) MithraNullPrimitiveException.throwNew("mtdSdUnreal", data);
+		return data.getMtdSdUnreal();
+	}
+
+	public void setMtdSdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdSdUnreal(), newValue, false ,true);
+	}
+
+	public double getMtdTdUnreal()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdTdUnrealNull()) MithraNullPrimitiveException.throwNew("mtdTdUnreal", data);
+		return data.getMtdTdUnreal();
+	}
+
+	public void setMtdTdUnreal(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdTdUnreal(), newValue, false ,true);
+	}
+
+	public double getMtdTransferTax()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isMtdTransferTaxNull()) MithraNullPrimitiveException.throwNew("mtdTransferTax", data);
+		return data.getMtdTransferTax();
+	}
+
+	public void setMtdTransferTax(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.mtdTransferTax(), newValue, false ,true);
+	}
+
+	public double getOffsetPayRecv()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isOffsetPayRecvNull()) MithraNullPrimitiveException.throwNew("offsetPayRecv", data);
+		return data.getOffsetPayRecv();
+	}
+
+	public void setOffsetPayRecv(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.offsetPayRecv(), newValue, false ,true);
+	}
+
+	public double getOpenIntBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isOpenIntBaseNull()) MithraNullPrimitiveException.throwNew("openIntBase", data);
+		return data.getOpenIntBase();
+	}
+
+	public void setOpenIntBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.openIntBase(), newValue, false ,true);
+	}
+
+	public double getOtherAdjCntrlTot()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isOtherAdjCntrlTotNull()) MithraNullPrimitiveException.throwNew("otherAdjCntrlTot", data);
+		return data.getOtherAdjCntrlTot();
+	}
+
+	public void setOtherAdjCntrlTot(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.otherAdjCntrlTot(), newValue, false ,true);
+	}
+
+	public double getOtherTdAdj()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isOtherTdAdjNull()) MithraNullPrimitiveException.throwNew("otherTdAdj", data);
+		return data.getOtherTdAdj();
+	}
+
+	public void setOtherTdAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.otherTdAdj(), newValue, false ,true);
+	}
+
+	public String getParaProdType()
+	{
+		return this.zSynchronizedGetData().getParaProdType();
+	}
+
+	public void setParaProdType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 9)
+		{
+			throw new MithraBusinessException("Attribute 'paraProdType' cannot exceed maximum length of 9: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.paraProdType(), newValue, false );
+	}
+
+	public double getPendingCash()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPendingCashNull()) MithraNullPrimitiveException.throwNew("pendingCash", data);
+		return data.getPendingCash();
+	}
+
+	public void setPendingCash(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.pendingCash(), newValue, false ,true);
+	}
+
+	public double getPmeTotUnrealPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPmeTotUnrealPlNull()) MithraNullPrimitiveException.throwNew("pmeTotUnrealPl", data);
+		return data.getPmeTotUnrealPl();
+	}
+
+	public void setPmeTotUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.pmeTotUnrealPl(), newValue, false ,true);
+	}
+
+	public double getPosAccrIntBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPosAccrIntBaseNull()) MithraNullPrimitiveException.throwNew("posAccrIntBase", data);
+		return data.getPosAccrIntBase();
+	}
+
+	public void setPosAccrIntBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posAccrIntBase(), newValue, false ,true);
+	}
+
+	public double getPosCostBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPosCostBaseNull()) MithraNullPrimitiveException.throwNew("posCostBase", data);
+		return data.getPosCostBase();
+	}
+
+	public void setPosCostBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posCostBase(), newValue, false ,true);
+	}
+
+	public double getPosMktvlBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPosMktvlBaseNull()) MithraNullPrimitiveException.throwNew("posMktvlBase", data);
+		return data.getPosMktvlBase();
+	}
+
+	public void setPosMktvlBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posMktvlBase(), newValue, false ,true);
+	}
+
+	public double getPosNotvlBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPosNotvlBaseNull()) MithraNullPrimitiveException.throwNew("posNotvlBase", data);
+		return data.getPosNotvlBase();
+	}
+
+	public void setPosNotvlBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posNotvlBase(), newValue, false ,true);
+	}
+
+	public double getPosPurchIntBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPosPurchIntBaseNull()) MithraNullPrimitiveException.throwNew("posPurchIntBase", data);
+		return data.getPosPurchIntBase();
+	}
+
+	public void setPosPurchIntBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posPurchIntBase(), newValue, false ,true);
+	}
+
+	public double getPosXrate()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPosXrateNull()) MithraNullPrimitiveException.throwNew("posXrate", data);
+		return data.getPosXrate();
+	}
+
+	public void setPosXrate(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.posXrate(), newValue, false ,true);
+	}
+
+	public double getPositionQuantity()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isPositionQuantityNull()) MithraNullPrimitiveException.throwNew("positionQuantity", data);
+		return data.getPositionQuantity();
+	}
+
+	public void setPositionQuantity(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.positionQuantity(), newValue, false ,true);
+	}
+
+	public String getPositionType()
+	{
+		return this.zSynchronizedGetData().getPositionType();
+	}
+
+	public void setPositionType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 2)
+		{
+			throw new MithraBusinessException("Attribute 'positionType' cannot exceed maximum length of 2: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.positionType(), newValue, false );
+	}
+
+	public String getPrimaryIncomeFunction()
+	{
+		return this.zSynchronizedGetData().getPrimaryIncomeFunction();
+	}
+
+	public void setPrimaryIncomeFunction(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 6)
+		{
+			throw new MithraBusinessException("Attribute 'primaryIncomeFunction' cannot exceed maximum length of 6: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.primaryIncomeFunction(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.processingDateTo(), newValue, false );
+	}
+
+	public double getProdFutCntrctSize()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isProdFutCntrctSizeNull()) MithraNullPrimitiveException.throwNew("prodFutCntrctSize", data);
+		return data.getProdFutCntrctSize();
+	}
+
+	public void setProdFutCntrctSize(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodFutCntrctSize(), newValue, false ,true);
+	}
+
+	public long getProdGlobalClass()
+	{
+		return this.zSynchronizedGetData().getProdGlobalClass();
+	}
+
+	public void setProdGlobalClass(long newValue)
+	{
+		zSetLong(TlewTrialFinder.prodGlobalClass(), newValue, false ,false);
+	}
+
+	public double getProdRelHost()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isProdRelHostNull()) MithraNullPrimitiveException.throwNew("prodRelHost", data);
+		return data.getProdRelHost();
+	}
+
+	public void setProdRelHost(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodRelHost(), newValue, false ,true);
+	}
+
+	public String getProdScrpBsPostClass()
+	{
+		return this.zSynchronizedGetData().getProdScrpBsPostClass();
+	}
+
+	public void setProdScrpBsPostClass(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 5)
+		{
+			throw new MithraBusinessException("Attribute 'prodScrpBsPostClass' cannot exceed maximum length of 5: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.prodScrpBsPostClass(), newValue, false );
+	}
+
+	public String getProdScrpPlPostClass()
+	{
+		return this.zSynchronizedGetData().getProdScrpPlPostClass();
+	}
+
+	public void setProdScrpPlPostClass(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 5)
+		{
+			throw new MithraBusinessException("Attribute 'prodScrpPlPostClass' cannot exceed maximum length of 5: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.prodScrpPlPostClass(), newValue, false );
+	}
+
+	public double getProdStkPx()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isProdStkPxNull()) MithraNullPrimitiveException.throwNew("prodStkPx", data);
+		return data.getProdStkPx();
+	}
+
+	public void setProdStkPx(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodStkPx(), newValue, false ,true);
+	}
+
+	public String getProdSyn()
+	{
+		return this.zSynchronizedGetData().getProdSyn();
+	}
+
+	public void setProdSyn(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 33)
+		{
+			throw new MithraBusinessException("Attribute 'prodSyn' cannot exceed maximum length of 33: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.prodSyn(), newValue, false );
+	}
+
+	public String getProdType()
+	{
+		return this.zSynchronizedGetData().getProdType();
+	}
+
+	public void setProdType(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 1)
+		{
+			throw new MithraBusinessException("Attribute 'prodType' cannot exceed maximum length of 1: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.prodType(), newValue, false );
+	}
+
+	public int getProdUndrClass()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isProdUndrClassNull()) MithraNullPrimitiveException.throwNew("prodUndrClass", data);
+		return data.getProdUndrClass();
+	}
+
+	public void setProdUndrClass(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.prodUndrClass(), newValue, false ,true);
+	}
+
+	public double getProdUndrlrPx()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isProdUndrlrPxNull()) MithraNullPrimitiveException.throwNew("prodUndrlrPx", data);
+		return data.getProdUndrlrPx();
+	}
+
+	public void setProdUndrlrPx(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.prodUndrlrPx(), newValue, false ,true);
+	}
+
+	public String getProdXplRltn()
+	{
+		return this.zSynchronizedGetData().getProdXplRltn();
+	}
+
+	public void setProdXplRltn(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'prodXplRltn' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.prodXplRltn(), newValue, false );
+	}
+
+	public String getProductDescription()
+	{
+		return this.zSynchronizedGetData().getProductDescription();
+	}
+
+	public void setProductDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 80)
+		{
+			throw new MithraBusinessException("Attribute 'productDescription' cannot exceed maximum length of 80: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.productDescription(), newValue, false );
+	}
+
+	public String getProductIssueCountry()
+	{
+		return this.zSynchronizedGetData().getProductIssueCountry();
+	}
+
+	public void setProductIssueCountry(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			throw new MithraBusinessException("Attribute 'productIssueCountry' cannot exceed maximum length of 4: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.productIssueCountry(), newValue, false );
+	}
+
+	public String getProductIssueCurrency()
+	{
+		return this.zSynchronizedGetData().getProductIssueCurrency();
+	}
+
+	public void setProductIssueCurrency(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 3)
+		{
+			throw new MithraBusinessException("Attribute 'productIssueCurrency' cannot exceed maximum length of 3: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.productIssueCurrency(), newValue, false );
+	}
+
+	public Timestamp getProductMaturityDate()
+	{
+		return this.zSynchronizedGetData().getProductMaturityDate();
+	}
+
+	public void setProductMaturityDate(Timestamp newValue)
+	{
+		zSetTimestamp(TlewTrialFinder.productMaturityDate(), newValue, false );
+	}
+
+	public String getProductPrimaryMarket()
+	{
+		return this.zSynchronizedGetData().getProductPrimaryMarket();
+	}
+
+	public void setProductPrimaryMarket(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			throw new MithraBusinessException("Attribute 'productPrimaryMarket' cannot exceed maximum length of 4: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.productPrimaryMarket(), newValue, false );
+	}
+
+	public String getProductProfile()
+	{
+		return this.zSynchronizedGetData().getProductProfile();
+	}
+
+	public void setProductProfile(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 45)
+		{
+			throw new MithraBusinessException("Attribute 'productProfile' cannot exceed maximum length of 45: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.productProfile(), newValue, false );
+	}
+
+	public int getProductUnderlierReferenceId()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isProductUnderlierReferenceIdNull()) MithraNullPrimitiveException.throwNew("productUnderlierReferenceId", data);
+		return data.getProductUnderlierReferenceId();
+	}
+
+	public void setProductUnderlierReferenceId(int newValue)
+	{
+		zSetInteger(TlewTrialFinder.productUnderlierReferenceId(), newValue, false ,true);
+	}
+
+	public double getRegCostBase()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isRegCostBaseNull()) MithraNullPrimitiveException.throwNew("regCostBase", data);
+		return data.getRegCostBase();
+	}
+
+	public void setRegCostBase(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.regCostBase(), newValue, false ,true);
+	}
+
+	public double getRegQty()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isRegQtyNull()) MithraNullPrimitiveException.throwNew("regQty", data);
+		return data.getRegQty();
+	}
+
+	public void setRegQty(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.regQty(), newValue, false ,true);
+	}
+
+	public double getSdFxUnrealPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isSdFxUnrealPlNull()) MithraNullPrimitiveException.throwNew("sdFxUnrealPl", data);
+		return data.getSdFxUnrealPl();
+	}
+
+	public void setSdFxUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.sdFxUnrealPl(), newValue, false ,true);
+	}
+
+	public double getSegregatedCash()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isSegregatedCashNull()) MithraNullPrimitiveException.throwNew("segregatedCash", data);
+		return data.getSegregatedCash();
+	}
+
+	public void setSegregatedCash(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.segregatedCash(), newValue, false ,true);
+	}
+
+	public double getSettledCash()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isSettledCashNull()) MithraNullPrimitiveException.throwNew("settledCash", data);
+		return data.getSettledCash();
+	}
+
+	public void setSettledCash(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.settledCash(), newValue, false ,true);
+	}
+
+	public short getTlewTrialChange()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isTlewTrialChangeNull()) MithraNullPrimitiveException.throwNew("tlewTrialChange", data);
+		return data.getTlewTrialChange();
+	}
+
+	public void setTlewTrialChange(short newValue)
+	{
+		zSetShort(TlewTrialFinder.tlewTrialChange(), newValue, false ,true);
+	}
+
+	public short getTlewTrialCreate()
+	{
+		return this.zSynchronizedGetData().getTlewTrialCreate();
+	}
+
+	public void setTlewTrialCreate(short newValue)
+	{
+		zSetShort(TlewTrialFinder.tlewTrialCreate(), newValue, false ,false);
+	}
+
+	public double getTotUnrealPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isTotUnrealPlNull()) MithraNullPrimitiveException.throwNew("totUnrealPl", data);
+		return data.getTotUnrealPl();
+	}
+
+	public void setTotUnrealPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.totUnrealPl(), newValue, false ,true);
+	}
+
+	public String getTrial()
+	{
+		return this.zSynchronizedGetData().getTrial();
+	}
+
+	public void setTrial(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 4)
+		{
+			throw new MithraBusinessException("Attribute 'trial' cannot exceed maximum length of 4: " + newValue);
+		}
+
+		zSetString(TlewTrialFinder.trial(), newValue, false );
+	}
+
+	public double getUnrealFutPerGmiPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isUnrealFutPerGmiPlNull()) MithraNullPrimitiveException.throwNew("unrealFutPerGmiPl", data);
+		return data.getUnrealFutPerGmiPl();
+	}
+
+	public void setUnrealFutPerGmiPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.unrealFutPerGmiPl(), newValue, false ,true);
+	}
+
+	public double getUnstldFwdPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isUnstldFwdPlNull()) MithraNullPrimitiveException.throwNew("unstldFwdPl", data);
+		return data.getUnstldFwdPl();
+	}
+
+	public void setUnstldFwdPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.unstldFwdPl(), newValue, false ,true);
+	}
+
+	public double getUnstldRwPl()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isUnstldRwPlNull()) MithraNullPrimitiveException.throwNew("unstldRwPl", data);
+		return data.getUnstldRwPl();
+	}
+
+	public void setUnstldRwPl(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.unstldRwPl(), newValue, false ,true);
+	}
+
+	public double getValuationAdj()
+	{
+		TlewTrialData data = this.zSynchronizedGetData();
+		if (data.isValuationAdjNull()) MithraNullPrimitiveException.throwNew("valuationAdj", data);
+		return data.getValuationAdj();
+	}
+
+	public void setValuationAdj(double newValue)
+	{
+		zSetDouble(TlewTrialFinder.valuationAdj(), newValue, false ,true);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, TlewTrialFinder.prodStkPx(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.prodFutCntrctSize(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.productUnderlierReferenceId(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.prodRelHost(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.prodUndrlrPx(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.positionQuantity(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.posMktvlBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.posCostBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.posAccrIntBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.posPurchIntBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.posNotvlBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.contractualNpv(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.unstldRwPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.unstldFwdPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.unrealFutPerGmiPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fairValAdj(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.adjTdUnstldFutPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.valuationAdj(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.accrDiv(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.otherTdAdj(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fxRevalAdj(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.adjSdResrvUnrealPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.sdFxUnrealPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.totUnrealPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.pmeTotUnrealPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdIntIncm(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdIntXpns(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.pendingCash(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdRealTradingPl(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.otherAdjCntrlTot(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.settledCash(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fxPerStockRec(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdDivIncm(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdTransferTax(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.tlewTrialChange(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.offsetPayRecv(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.segregatedCash(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.posXrate(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.regCostBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fwdCostBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.regQty(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fwdQty(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.gaapTdMktvlBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.openIntBase(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdSdUnreal(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fwdQtyGt30(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.fwdCostGt30Base(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.prodUndrClass(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.gmiUnreal(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdTdUnreal(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.ltdLcmTdUnreal(), false, mustCheckCurrent);
+		zNullify(behavior, data, TlewTrialFinder.mtdLcmTdUnreal(), false, mustCheckCurrent);
+	}
+
+	public void setProdStkPxNull()
+	{
+		zNullify(TlewTrialFinder.prodStkPx(), false);
+	}
+
+	public void setProdFutCntrctSizeNull()
+	{
+		zNullify(TlewTrialFinder.prodFutCntrctSize(), false);
+	}
+
+	public void setProductUnderlierReferenceIdNull()
+	{
+		zNullify(TlewTrialFinder.productUnderlierReferenceId(), false);
+	}
+
+	public void setProdRelHostNull()
+	{
+		zNullify(TlewTrialFinder.prodRelHost(), false);
+	}
+
+	public void setProdUndrlrPxNull()
+	{
+		zNullify(TlewTrialFinder.prodUndrlrPx(), false);
+	}
+
+	public void setPositionQuantityNull()
+	{
+		zNullify(TlewTrialFinder.positionQuantity(), false);
+	}
+
+	public void setPosMktvlBaseNull()
+	{
+		zNullify(TlewTrialFinder.posMktvlBase(), false);
+	}
+
+	public void setPosCostBaseNull()
+	{
+		zNullify(TlewTrialFinder.posCostBase(), false);
+	}
+
+	public void setPosAccrIntBaseNull()
+	{
+		zNullify(TlewTrialFinder.posAccrIntBase(), false);
+	}
+
+	public void setPosPurchIntBaseNull()
+	{
+		zNullify(TlewTrialFinder.posPurchIntBase(), false);
+	}
+
+	public void setPosNotvlBaseNull()
+	{
+		zNullify(TlewTrialFinder.posNotvlBase(), false);
+	}
+
+	public void setContractualNpvNull()
+	{
+		zNullify(TlewTrialFinder.contractualNpv(), false);
+	}
+
+	public void setUnstldRwPlNull()
+	{
+		zNullify(TlewTrialFinder.unstldRwPl(), false);
+	}
+
+	public void setUnstldFwdPlNull()
+	{
+		zNullify(TlewTrialFinder.unstldFwdPl(), false);
+	}
+
+	public void setUnrealFutPerGmiPlNull()
+	{
+		zNullify(TlewTrialFinder.unrealFutPerGmiPl(), false);
+	}
+
+	public void setFairValAdjNull()
+	{
+		zNullify(TlewTrialFinder.fairValAdj(), false);
+	}
+
+	public void setAdjTdUnstldFutPlNull()
+	{
+		zNullify(TlewTrialFinder.adjTdUnstldFutPl(), false);
+	}
+
+	public void setValuationAdjNull()
+	{
+		zNullify(TlewTrialFinder.valuationAdj(), false);
+	}
+
+	public void setAccrDivNull()
+	{
+		zNullify(TlewTrialFinder.accrDiv(), false);
+	}
+
+	public void setOtherTdAdjNull()
+	{
+		zNullify(TlewTrialFinder.otherTdAdj(), false);
+	}
+
+	public void setFxRevalAdjNull()
+	{
+		zNullify(TlewTrialFinder.fxRevalAdj(), false);
+	}
+
+	public void setAdjSdResrvUnrealPlNull()
+	{
+		zNullify(TlewTrialFinder.adjSdResrvUnrealPl(), false);
+	}
+
+	public void setSdFxUnrealPlNull()
+	{
+		zNullify(TlewTrialFinder.sdFxUnrealPl(), false);
+	}
+
+	public void setTotUnrealPlNull()
+	{
+		zNullify(TlewTrialFinder.totUnrealPl(), false);
+	}
+
+	public void setPmeTotUnrealPlNull()
+	{
+		zNullify(TlewTrialFinder.pmeTotUnrealPl(), false);
+	}
+
+	public void setMtdIntIncmNull()
+	{
+		zNullify(TlewTrialFinder.mtdIntIncm(), false);
+	}
+
+	public void setMtdIntXpnsNull()
+	{
+		zNullify(TlewTrialFinder.mtdIntXpns(), false);
+	}
+
+	public void setPendingCashNull()
+	{
+		zNullify(TlewTrialFinder.pendingCash(), false);
+	}
+
+	public void setMtdRealTradingPlNull()
+	{
+		zNullify(TlewTrialFinder.mtdRealTradingPl(), false);
+	}
+
+	public void setOtherAdjCntrlTotNull()
+	{
+		zNullify(TlewTrialFinder.otherAdjCntrlTot(), false);
+	}
+
+	public void setSettledCashNull()
+	{
+		zNullify(TlewTrialFinder.settledCash(), false);
+	}
+
+	public void setFxPerStockRecNull()
+	{
+		zNullify(TlewTrialFinder.fxPerStockRec(), false);
+	}
+
+	public void setMtdDivIncmNull()
+	{
+		zNullify(TlewTrialFinder.mtdDivIncm(), false);
+	}
+
+	public void setMtdTransferTaxNull()
+	{
+		zNullify(TlewTrialFinder.mtdTransferTax(), false);
+	}
+
+	public void setTlewTrialChangeNull()
+	{
+		zNullify(TlewTrialFinder.tlewTrialChange(), false);
+	}
+
+	public void setOffsetPayRecvNull()
+	{
+		zNullify(TlewTrialFinder.offsetPayRecv(), false);
+	}
+
+	public void setSegregatedCashNull()
+	{
+		zNullify(TlewTrialFinder.segregatedCash(), false);
+	}
+
+	public void setPosXrateNull()
+	{
+		zNullify(TlewTrialFinder.posXrate(), false);
+	}
+
+	public void setRegCostBaseNull()
+	{
+		zNullify(TlewTrialFinder.regCostBase(), false);
+	}
+
+	public void setFwdCostBaseNull()
+	{
+		zNullify(TlewTrialFinder.fwdCostBase(), false);
+	}
+
+	public void setRegQtyNull()
+	{
+		zNullify(TlewTrialFinder.regQty(), false);
+	}
+
+	public void setFwdQtyNull()
+	{
+		zNullify(TlewTrialFinder.fwdQty(), false);
+	}
+
+	public void setGaapTdMktvlBaseNull()
+	{
+		zNullify(TlewTrialFinder.gaapTdMktvlBase(), false);
+	}
+
+	public void setOpenIntBaseNull()
+	{
+		zNullify(TlewTrialFinder.openIntBase(), false);
+	}
+
+	public void setMtdSdUnrealNull()
+	{
+		zNullify(TlewTrialFinder.mtdSdUnreal(), false);
+	}
+
+	public void setFwdQtyGt30Null()
+	{
+		zNullify(TlewTrialFinder.fwdQtyGt30(), false);
+	}
+
+	public void setFwdCostGt30BaseNull()
+	{
+		zNullify(TlewTrialFinder.fwdCostGt30Base(), false);
+	}
+
+	public void setProdUndrClassNull()
+	{
+		zNullify(TlewTrialFinder.prodUndrClass(), false);
+	}
+
+	public void setGmiUnrealNull()
+	{
+		zNullify(TlewTrialFinder.gmiUnreal(), false);
+	}
+
+	public void setMtdTdUnrealNull()
+	{
+		zNullify(TlewTrialFinder.mtdTdUnreal(), false);
+	}
+
+	public void setLtdLcmTdUnrealNull()
+	{
+		zNullify(TlewTrialFinder.ltdLcmTdUnreal(), false);
+	}
+
+	public void setMtdLcmTdUnrealNull()
+	{
+		zNullify(TlewTrialFinder.mtdLcmTdUnreal(), false);
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TlewTrialData _newData = (TlewTrialData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		TlewTrialData _newData = (TlewTrialData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		TlewTrialData _newData = (TlewTrialData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public Cache zGetCache()
+	{
+		return TlewTrialFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TlewTrialData.TlewTrialDataOnHeap();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		TlewTrialData data = (TlewTrialData) TlewTrialFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("TlewTrial has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromTlewTrialData( TlewTrialData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromTlewTrialData( TlewTrialData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) TlewTrialFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TlewTrialFinder.getMithraObjectPortal();
+	}
+
+	public TlewTrial getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(TlewTrialAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		TlewTrialAbstract from = (TlewTrialAbstract) f;
+		TlewTrialData newData = from.zSynchronizedGetData();
+		this.setAccountDescription(newData.getAccountDescription());
+		this.setAccountNumber(newData.getAccountNumber());
+		this.setAccountTypeB(newData.getAccountTypeB());
+		this.setAccountTypeC(newData.getAccountTypeC());
+		if (from.isAccrDivNull())
+		{
+			this.setAccrDivNull();
+		}
+		else
+		{
+			this.setAccrDiv(newData.getAccrDiv());
+		}
+
+		this.setActiveMtdRec(newData.getActiveMtdRec());
+		if (from.isAdjSdResrvUnrealPlNull())
+		{
+			this.setAdjSdResrvUnrealPlNull();
+		}
+		else
+		{
+			this.setAdjSdResrvUnrealPl(newData.getAdjSdResrvUnrealPl());
+		}
+
+		if (from.isAdjTdUnstldFutPlNull())
+		{
+			this.setAdjTdUnstldFutPlNull();
+		}
+		else
+		{
+			this.setAdjTdUnstldFutPl(newData.getAdjTdUnstldFutPl());
+		}
+
+		this.setBaseCurrency(newData.getBaseCurrency());
+		this.setBusDate(newData.getBusDate());
+		this.setCarryCharge(newData.getCarryCharge());
+		this.setCarryRebate(newData.getCarryRebate());
+		this.setCarryTransferFlag(newData.getCarryTransferFlag());
+		if (from.isContractualNpvNull())
+		{
+			this.setContractualNpvNull();
+		}
+		else
+		{
+			this.setContractualNpv(newData.getContractualNpv());
+		}
+
+		if (from.isFairValAdjNull())
+		{
+			this.setFairValAdjNull();
+		}
+		else
+		{
+			this.setFairValAdj(newData.getFairValAdj());
+		}
+
+		if (from.isFwdCostBaseNull())
+		{
+			this.setFwdCostBaseNull();
+		}
+		else
+		{
+			this.setFwdCostBase(newData.getFwdCostBase());
+		}
+
+		if (from.isFwdCostGt30BaseNull())
+		{
+			this.setFwdCostGt30BaseNull();
+		}
+		else
+		{
+			this.setFwdCostGt30Base(newData.getFwdCostGt30Base());
+		}
+
+		if (from.isFwdQtyNull())
+		{
+			this.setFwdQtyNull();
+		}
+		else
+		{
+			this.setFwdQty(newData.getFwdQty());
+		}
+
+		if (from.isFwdQtyGt30Null())
+		{
+			this.setFwdQtyGt30Null();
+		}
+		else
+		{
+			this.setFwdQtyGt30(newData.getFwdQtyGt30());
+		}
+
+		if (from.isFxPerStockRecNull())
+		{
+			this.setFxPerStockRecNull();
+		}
+		else
+		{
+			this.setFxPerStockRec(newData.getFxPerStockRec());
+		}
+
+		if (from.isFxRevalAdjNull())
+		{
+			this.setFxRevalAdjNull();
+		}
+		else
+		{
+			this.setFxRevalAdj(newData.getFxRevalAdj());
+		}
+
+		if (from.isGaapTdMktvlBaseNull())
+		{
+			this.setGaapTdMktvlBaseNull();
+		}
+		else
+		{
+			this.setGaapTdMktvlBase(newData.getGaapTdMktvlBase());
+		}
+
+		if (from.isGmiUnrealNull())
+		{
+			this.setGmiUnrealNull();
+		}
+		else
+		{
+			this.setGmiUnreal(newData.getGmiUnreal());
+		}
+
+		this.setInstrumentSubType(newData.getInstrumentSubType());
+		this.setLegalEntity(newData.getLegalEntity());
+		this.setLocalCurrTime(newData.getLocalCurrTime());
+		if (from.isLtdLcmTdUnrealNull())
+		{
+			this.setLtdLcmTdUnrealNull();
+		}
+		else
+		{
+			this.setLtdLcmTdUnreal(newData.getLtdLcmTdUnreal());
+		}
+
+		this.setLtdSdUnreal(newData.getLtdSdUnreal());
+		if (from.isMtdDivIncmNull())
+		{
+			this.setMtdDivIncmNull();
+		}
+		else
+		{
+			this.setMtdDivIncm(newData.getMtdDivIncm());
+		}
+
+		if (from.isMtdIntIncmNull())
+		{
+			this.setMtdIntIncmNull();
+		}
+		else
+		{
+			this.setMtdIntIncm(newData.getMtdIntIncm());
+		}
+
+		if (from.isMtdIntXpnsNull())
+		{
+			this.setMtdIntXpnsNull();
+		}
+		else
+		{
+			this.setMtdIntXpns(newData.getMtdIntXpns());
+		}
+
+		if (from.isMtdLcmTdUnrealNull())
+		{
+			this.setMtdLcmTdUnrealNull();
+		}
+		else
+		{
+			this.setMtdLcmTdUnreal(newData.getMtdLcmTdUnreal());
+		}
+
+		if (from.isMtdRealTradingPlNull())
+		{
+			this.setMtdRealTradingPlNull();
+		}
+		else
+		{
+			this.setMtdRealTradingPl(newData.getMtdRealTradingPl());
+		}
+
+		if (from.isMtdSdUnrealNull())
+		{
+			this.setMtdSdUnrealNull();
+		}
+		else
+		{
+			this.setMtdSdUnreal(newData.getMtdSdUnreal());
+		}
+
+		if (from.isMtdTdUnrealNull())
+		{
+			this.setMtdTdUnrealNull();
+		}
+		else
+		{
+			this.setMtdTdUnreal(newData.getMtdTdUnreal());
+		}
+
+		if (from.isMtdTransferTaxNull())
+		{
+			this.setMtdTransferTaxNull();
+		}
+		else
+		{
+			this.setMtdTransferTax(newData.getMtdTransferTax());
+		}
+
+		if (from.isOffsetPayRecvNull())
+		{
+			this.setOffsetPayRecvNull();
+		}
+		else
+		{
+			this.setOffsetPayRecv(newData.getOffsetPayRecv());
+		}
+
+		if (from.isOpenIntBaseNull())
+		{
+			this.setOpenIntBaseNull();
+		}
+		else
+		{
+			this.setOpenIntBase(newData.getOpenIntBase());
+		}
+
+		if (from.isOtherAdjCntrlTotNull())
+		{
+			this.setOtherAdjCntrlTotNull();
+		}
+		else
+		{
+			this.setOtherAdjCntrlTot(newData.getOtherAdjCntrlTot());
+		}
+
+		if (from.isOtherTdAdjNull())
+		{
+			this.setOtherTdAdjNull();
+		}
+		else
+		{
+			this.setOtherTdAdj(newData.getOtherTdAdj());
+		}
+
+		this.setParaProdType(newData.getParaProdType());
+		if (from.isPendingCashNull())
+		{
+			this.setPendingCashNull();
+		}
+		else
+		{
+			this.setPendingCash(newData.getPendingCash());
+		}
+
+		if (from.isPmeTotUnrealPlNull())
+		{
+			this.setPmeTotUnrealPlNull();
+		}
+		else
+		{
+			this.setPmeTotUnrealPl(newData.getPmeTotUnrealPl());
+		}
+
+		if (from.isPosAccrIntBaseNull())
+		{
+			this.setPosAccrIntBaseNull();
+		}
+		else
+		{
+			this.setPosAccrIntBase(newData.getPosAccrIntBase());
+		}
+
+		if (from.isPosCostBaseNull())
+		{
+			this.setPosCostBaseNull();
+		}
+		else
+		{
+			this.setPosCostBase(newData.getPosCostBase());
+		}
+
+		if (from.isPosMktvlBaseNull())
+		{
+			this.setPosMktvlBaseNull();
+		}
+		else
+		{
+			this.setPosMktvlBase(newData.getPosMktvlBase());
+		}
+
+		if (from.isPosNotvlBaseNull())
+		{
+			this.setPosNotvlBaseNull();
+		}
+		else
+		{
+			this.setPosNotvlBase(newData.getPosNotvlBase());
+		}
+
+		if (from.isPosPurchIntBaseNull())
+		{
+			this.setPosPurchIntBaseNull();
+		}
+		else
+		{
+			this.setPosPurchIntBase(newData.getPosPurchIntBase());
+		}
+
+		if (from.isPosXrateNull())
+		{
+			this.setPosXrateNull();
+		}
+		else
+		{
+			this.setPosXrate(newData.getPosXrate());
+		}
+
+		if (from.isPositionQuantityNull())
+		{
+			this.setPositionQuantityNull();
+		}
+		else
+		{
+			this.setPositionQuantity(newData.getPositionQuantity());
+		}
+
+		this.setPositionType(newData.getPositionType());
+		this.setPrimaryIncomeFunction(newData.getPrimaryIncomeFunction());
+		if (from.isProdFutCntrctSizeNull())
+		{
+			this.setProdFutCntrctSizeNull();
+		}
+		else
+		{
+			this.setProdFutCntrctSize(newData.getProdFutCntrctSize());
+		}
+
+		this.setProdGlobalClass(newData.getProdGlobalClass());
+		if (from.isProdRelHostNull())
+		{
+			this.setProdRelHostNull();
+		}
+		else
+		{
+			this.setProdRelHost(newData.getProdRelHost());
+		}
+
+		this.setProdScrpBsPostClass(newData.getProdScrpBsPostClass());
+		this.setProdScrpPlPostClass(newData.getProdScrpPlPostClass());
+		if (from.isProdStkPxNull())
+		{
+			this.setProdStkPxNull();
+		}
+		else
+		{
+			this.setProdStkPx(newData.getProdStkPx());
+		}
+
+		this.setProdSyn(newData.getProdSyn());
+		this.setProdType(newData.getProdType());
+		if (from.isProdUndrClassNull())
+		{
+			this.setProdUndrClassNull();
+		}
+		else
+		{
+			this.setProdUndrClass(newData.getProdUndrClass());
+		}
+
+		if (from.isProdUndrlrPxNull())
+		{
+			this.setProdUndrlrPxNull();
+		}
+		else
+		{
+			this.setProdUndrlrPx(newData.getProdUndrlrPx());
+		}
+
+		this.setProdXplRltn(newData.getProdXplRltn());
+		this.setProductDescription(newData.getProductDescription());
+		this.setProductIssueCountry(newData.getProductIssueCountry());
+		this.setProductIssueCurrency(newData.getProductIssueCurrency());
+		this.setProductMaturityDate(newData.getProductMaturityDate());
+		this.setProductPrimaryMarket(newData.getProductPrimaryMarket());
+		this.setProductProfile(newData.getProductProfile());
+		if (from.isProductUnderlierReferenceIdNull())
+		{
+			this.setProductUnderlierReferenceIdNull();
+		}
+		else
+		{
+			this.setProductUnderlierReferenceId(newData.getProductUnderlierReferenceId());
+		}
+
+		if (from.isRegCostBaseNull())
+		{
+			this.setRegCostBaseNull();
+		}
+		else
+		{
+			this.setRegCostBase(newData.getRegCostBase());
+		}
+
+		if (from.isRegQtyNull())
+		{
+			this.setRegQtyNull();
+		}
+		else
+		{
+			this.setRegQty(newData.getRegQty());
+		}
+
+		if (from.isSdFxUnrealPlNull())
+		{
+			this.setSdFxUnrealPlNull();
+		}
+		else
+		{
+			this.setSdFxUnrealPl(newData.getSdFxUnrealPl());
+		}
+
+		if (from.isSegregatedCashNull())
+		{
+			this.setSegregatedCashNull();
+		}
+		else
+		{
+			this.setSegregatedCash(newData.getSegregatedCash());
+		}
+
+		if (from.isSettledCashNull())
+		{
+			this.setSettledCashNull();
+		}
+		else
+		{
+			this.setSettledCash(newData.getSettledCash());
+		}
+
+		if (from.isTlewTrialChangeNull())
+		{
+			this.setTlewTrialChangeNull();
+		}
+		else
+		{
+			this.setTlewTrialChange(newData.getTlewTrialChange());
+		}
+
+		this.setTlewTrialCreate(newData.getTlewTrialCreate());
+		if (from.isTotUnrealPlNull())
+		{
+			this.setTotUnrealPlNull();
+		}
+		else
+		{
+			this.setTotUnrealPl(newData.getTotUnrealPl());
+		}
+
+		this.setTrial(newData.getTrial());
+		if (from.isUnrealFutPerGmiPlNull())
+		{
+			this.setUnrealFutPerGmiPlNull();
+		}
+		else
+		{
+			this.setUnrealFutPerGmiPl(newData.getUnrealFutPerGmiPl());
+		}
+
+		if (from.isUnstldFwdPlNull())
+		{
+			this.setUnstldFwdPlNull();
+		}
+		else
+		{
+			this.setUnstldFwdPl(newData.getUnstldFwdPl());
+		}
+
+		if (from.isUnstldRwPlNull())
+		{
+			this.setUnstldRwPlNull();
+		}
+		else
+		{
+			this.setUnstldRwPl(newData.getUnstldRwPl());
+		}
+
+		if (from.isValuationAdjNull())
+		{
+			this.setValuationAdjNull();
+		}
+		else
+		{
+			this.setValuationAdj(newData.getValuationAdj());
+		}
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		TlewTrialData newData = (TlewTrialData) d;
+		TlewTrialData data = (TlewTrialData) nd;
+		if (TlewTrialFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.accountDescription(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.accountNumber(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TlewTrialFinder.accountTypeB(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.accountTypeC(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.accrDiv(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TlewTrialFinder.acctId(), false);
+		changed |= zUpdateShort(behavior, data, newData, TlewTrialFinder.activeMtdRec(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.adjSdResrvUnrealPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.adjTdUnstldFutPl(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.baseCurrency(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TlewTrialFinder.busDate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.carryCharge(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.carryRebate(), false);
+		changed |= zUpdateShort(behavior, data, newData, TlewTrialFinder.carryTransferFlag(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.contractualNpv(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fairValAdj(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fwdCostBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fwdCostGt30Base(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fwdQty(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fwdQtyGt30(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fxPerStockRec(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.fxRevalAdj(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.gaapTdMktvlBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.gmiUnreal(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TlewTrialFinder.instrument(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.instrumentSubType(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.instrumentType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TlewTrialFinder.legalEntity(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TlewTrialFinder.localCurrTime(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.ltdLcmTdUnreal(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.ltdSdUnreal(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdDivIncm(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdIntIncm(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdIntXpns(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdLcmTdUnreal(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdRealTradingPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdSdUnreal(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdTdUnreal(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.mtdTransferTax(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.offsetPayRecv(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.openIntBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.otherAdjCntrlTot(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.otherTdAdj(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.paraProdType(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.pendingCash(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.pmeTotUnrealPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.posAccrIntBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.posCostBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.posMktvlBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.posNotvlBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.posPurchIntBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.posXrate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.positionQuantity(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.positionType(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.primaryIncomeFunction(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.prodFutCntrctSize(), false);
+		changed |= zUpdateLong(behavior, data, newData, TlewTrialFinder.prodGlobalClass(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.prodRelHost(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.prodScrpBsPostClass(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.prodScrpPlPostClass(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.prodStkPx(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.prodSyn(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.prodType(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TlewTrialFinder.prodUndrClass(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.prodUndrlrPx(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.prodXplRltn(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.productDescription(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.productIssueCountry(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.productIssueCurrency(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, TlewTrialFinder.productMaturityDate(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.productPrimaryMarket(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.productProfile(), false);
+		changed |= zUpdateInteger(behavior, data, newData, TlewTrialFinder.productUnderlierReferenceId(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.regCostBase(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.regQty(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.sdFxUnrealPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.segregatedCash(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.settledCash(), false);
+		changed |= zUpdateShort(behavior, data, newData, TlewTrialFinder.tlewTrialChange(), false);
+		changed |= zUpdateShort(behavior, data, newData, TlewTrialFinder.tlewTrialCreate(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.totUnrealPl(), false);
+		changed |= zUpdateString(behavior, data, newData, TlewTrialFinder.trial(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.unrealFutPerGmiPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.unstldFwdPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.unstldRwPl(), false);
+		changed |= zUpdateDouble(behavior, data, newData, TlewTrialFinder.valuationAdj(), false);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		TlewTrialData data = ((TlewTrialData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		TlewTrialData data = ((TlewTrialData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		TlewTrialData data = ((TlewTrialData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity()), TlewTrialFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		TlewTrialData localData = (TlewTrialData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.processingDate.equals(asOfDates[0])
+		;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
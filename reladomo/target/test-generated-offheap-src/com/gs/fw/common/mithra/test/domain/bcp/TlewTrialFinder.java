@@ -0,0 +1,2595 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class TlewTrialFinder
+{
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.util.DefaultInfinityTimestamp.getDefaultInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/bcp/TlewTrial";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.bcp.TlewTrial";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.bcp.TlewTrial");
+	private static final TlewTrialSingleFinder<TlewTrial, Object, TlewTrial> finder = new TlewTrialSingleFinder<TlewTrial, Object, TlewTrial>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(TlewTrialFinder.TlewTrialRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("acctId");
+		finderMethodMap.addNormalAttributeName("instrument");
+		finderMethodMap.addNormalAttributeName("positionType");
+		finderMethodMap.addNormalAttributeName("instrumentType");
+		finderMethodMap.addNormalAttributeName("instrumentSubType");
+		finderMethodMap.addNormalAttributeName("accountNumber");
+		finderMethodMap.addNormalAttributeName("trial");
+		finderMethodMap.addNormalAttributeName("legalEntity");
+		finderMethodMap.addNormalAttributeName("baseCurrency");
+		finderMethodMap.addNormalAttributeName("accountTypeB");
+		finderMethodMap.addNormalAttributeName("accountTypeC");
+		finderMethodMap.addNormalAttributeName("primaryIncomeFunction");
+		finderMethodMap.addNormalAttributeName("carryTransferFlag");
+		finderMethodMap.addNormalAttributeName("accountDescription");
+		finderMethodMap.addNormalAttributeName("prodSyn");
+		finderMethodMap.addNormalAttributeName("prodStkPx");
+		finderMethodMap.addNormalAttributeName("productDescription");
+		finderMethodMap.addNormalAttributeName("productIssueCurrency");
+		finderMethodMap.addNormalAttributeName("productProfile");
+		finderMethodMap.addNormalAttributeName("prodFutCntrctSize");
+		finderMethodMap.addNormalAttributeName("productMaturityDate");
+		finderMethodMap.addNormalAttributeName("productIssueCountry");
+		finderMethodMap.addNormalAttributeName("productPrimaryMarket");
+		finderMethodMap.addNormalAttributeName("productUnderlierReferenceId");
+		finderMethodMap.addNormalAttributeName("prodXplRltn");
+		finderMethodMap.addNormalAttributeName("prodRelHost");
+		finderMethodMap.addNormalAttributeName("prodUndrlrPx");
+		finderMethodMap.addNormalAttributeName("positionQuantity");
+		finderMethodMap.addNormalAttributeName("posMktvlBase");
+		finderMethodMap.addNormalAttributeName("posCostBase");
+		finderMethodMap.addNormalAttributeName("posAccrIntBase");
+		finderMethodMap.addNormalAttributeName("posPurchIntBase");
+		finderMethodMap.addNormalAttributeName("posNotvlBase");
+		finderMethodMap.addNormalAttributeName("contractualNpv");
+		finderMethodMap.addNormalAttributeName("unstldRwPl");
+		finderMethodMap.addNormalAttributeName("unstldFwdPl");
+		finderMethodMap.addNormalAttributeName("unrealFutPerGmiPl");
+		finderMethodMap.addNormalAttributeName("fairValAdj");
+		finderMethodMap.addNormalAttributeName("adjTdUnstldFutPl");
+		finderMethodMap.addNormalAttributeName("valuationAdj");
+		finderMethodMap.addNormalAttributeName("accrDiv");
+		finderMethodMap.addNormalAttributeName("otherTdAdj");
+		finderMethodMap.addNormalAttributeName("fxRevalAdj");
+		finderMethodMap.addNormalAttributeName("adjSdResrvUnrealPl");
+		finderMethodMap.addNormalAttributeName("sdFxUnrealPl");
+		finderMethodMap.addNormalAttributeName("totUnrealPl");
+		finderMethodMap.addNormalAttributeName("pmeTotUnrealPl");
+		finderMethodMap.addNormalAttributeName("mtdIntIncm");
+		finderMethodMap.addNormalAttributeName("mtdIntXpns");
+		finderMethodMap.addNormalAttributeName("pendingCash");
+		finderMethodMap.addNormalAttributeName("mtdRealTradingPl");
+		finderMethodMap.addNormalAttributeName("otherAdjCntrlTot");
+		finderMethodMap.addNormalAttributeName("settledCash");
+		finderMethodMap.addNormalAttributeName("fxPerStockRec");
+		finderMethodMap.addNormalAttributeName("mtdDivIncm");
+		finderMethodMap.addNormalAttributeName("mtdTransferTax");
+		finderMethodMap.addNormalAttributeName("carryCharge");
+		finderMethodMap.addNormalAttributeName("carryRebate");
+		finderMethodMap.addNormalAttributeName("ltdSdUnreal");
+		finderMethodMap.addNormalAttributeName("activeMtdRec");
+		finderMethodMap.addNormalAttributeName("prodGlobalClass");
+		finderMethodMap.addNormalAttributeName("prodScrpPlPostClass");
+		finderMethodMap.addNormalAttributeName("prodScrpBsPostClass");
+		finderMethodMap.addNormalAttributeName("tlewTrialCreate");
+		finderMethodMap.addNormalAttributeName("tlewTrialChange");
+		finderMethodMap.addNormalAttributeName("offsetPayRecv");
+		finderMethodMap.addNormalAttributeName("segregatedCash");
+		finderMethodMap.addNormalAttributeName("busDate");
+		finderMethodMap.addNormalAttributeName("posXrate");
+		finderMethodMap.addNormalAttributeName("prodType");
+		finderMethodMap.addNormalAttributeName("regCostBase");
+		finderMethodMap.addNormalAttributeName("fwdCostBase");
+		finderMethodMap.addNormalAttributeName("regQty");
+		finderMethodMap.addNormalAttributeName("fwdQty");
+		finderMethodMap.addNormalAttributeName("gaapTdMktvlBase");
+		finderMethodMap.addNormalAttributeName("openIntBase");
+		finderMethodMap.addNormalAttributeName("localCurrTime");
+		finderMethodMap.addNormalAttributeName("mtdSdUnreal");
+		finderMethodMap.addNormalAttributeName("fwdQtyGt30");
+		finderMethodMap.addNormalAttributeName("fwdCostGt30Base");
+		finderMethodMap.addNormalAttributeName("prodUndrClass");
+		finderMethodMap.addNormalAttributeName("gmiUnreal");
+		finderMethodMap.addNormalAttributeName("mtdTdUnreal");
+		finderMethodMap.addNormalAttributeName("paraProdType");
+		finderMethodMap.addNormalAttributeName("ltdLcmTdUnreal");
+		finderMethodMap.addNormalAttributeName("mtdLcmTdUnreal");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("processingDate");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static TlewTrial findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static TlewTrial findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static TlewTrialList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (TlewTrialList) finder.findMany(operation);
+	}
+
+	public static TlewTrialList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (TlewTrialList) finder.findManyBypassCache(operation);
+	}
+
+	private static TlewTrial findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (TlewTrial) FinderUtils.findOne(found);
+	}
+
+	public static TlewTrial findByPrimaryKey(int acctId, int instrument, String instrumentType, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(acctId, instrument, instrumentType, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			TlewTrialData _castedTargetData = (TlewTrialData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getAcctId() && _bean.getI2AsInteger() == _castedTargetData.getInstrument() && _bean.getO1AsString().equals(_castedTargetData.getInstrumentType()))
+			{
+				return TlewTrialFinder.processingDate().dataMatches(_castedTargetData, _asOfDate0);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.hash(_bean.getO1AsString()));
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.combineHashes(HashUtil.combineHashes(HashUtil.hash(_bean.getI1AsInteger()),HashUtil.hash(_bean.getI2AsInteger())),HashUtil.offHeapHash(_bean.getO1AsString()));
+		}
+	}
+
+	public static TlewTrial zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (TlewTrial) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class TlewTrialRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<TlewTrial, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> acctId;
+		private IntegerAttribute<ParentOwnerType> instrument;
+		private StringAttribute<ParentOwnerType> positionType;
+		private StringAttribute<ParentOwnerType> instrumentType;
+		private StringAttribute<ParentOwnerType> instrumentSubType;
+		private StringAttribute<ParentOwnerType> accountNumber;
+		private StringAttribute<ParentOwnerType> trial;
+		private IntegerAttribute<ParentOwnerType> legalEntity;
+		private StringAttribute<ParentOwnerType> baseCurrency;
+		private IntegerAttribute<ParentOwnerType> accountTypeB;
+		private StringAttribute<ParentOwnerType> accountTypeC;
+		private StringAttribute<ParentOwnerType> primaryIncomeFunction;
+		private ShortAttribute<ParentOwnerType> carryTransferFlag;
+		private StringAttribute<ParentOwnerType> accountDescription;
+		private StringAttribute<ParentOwnerType> prodSyn;
+		private DoubleAttribute<ParentOwnerType> prodStkPx;
+		private StringAttribute<ParentOwnerType> productDescription;
+		private StringAttribute<ParentOwnerType> productIssueCurrency;
+		private StringAttribute<ParentOwnerType> productProfile;
+		private DoubleAttribute<ParentOwnerType> prodFutCntrctSize;
+		private TimestampAttribute<ParentOwnerType> productMaturityDate;
+		private StringAttribute<ParentOwnerType> productIssueCountry;
+		private StringAttribute<ParentOwnerType> productPrimaryMarket;
+		private IntegerAttribute<ParentOwnerType> productUnderlierReferenceId;
+		private StringAttribute<ParentOwnerType> prodXplRltn;
+		private DoubleAttribute<ParentOwnerType> prodRelHost;
+		private DoubleAttribute<ParentOwnerType> prodUndrlrPx;
+		private DoubleAttribute<ParentOwnerType> positionQuantity;
+		private DoubleAttribute<ParentOwnerType> posMktvlBase;
+		private DoubleAttribute<ParentOwnerType> posCostBase;
+		private DoubleAttribute<ParentOwnerType> posAccrIntBase;
+		private DoubleAttribute<ParentOwnerType> posPurchIntBase;
+		private DoubleAttribute<ParentOwnerType> posNotvlBase;
+		private DoubleAttribute<ParentOwnerType> contractualNpv;
+		private DoubleAttribute<ParentOwnerType> unstldRwPl;
+		private DoubleAttribute<ParentOwnerType> unstldFwdPl;
+		private DoubleAttribute<ParentOwnerType> unrealFutPerGmiPl;
+		private DoubleAttribute<ParentOwnerType> fairValAdj;
+		private DoubleAttribute<ParentOwnerType> adjTdUnstldFutPl;
+		private DoubleAttribute<ParentOwnerType> valuationAdj;
+		private DoubleAttribute<ParentOwnerType> accrDiv;
+		private DoubleAttribute<ParentOwnerType> otherTdAdj;
+		private DoubleAttribute<ParentOwnerType> fxRevalAdj;
+		private DoubleAttribute<ParentOwnerType> adjSdResrvUnrealPl;
+		private DoubleAttribute<ParentOwnerType> sdFxUnrealPl;
+		private DoubleAttribute<ParentOwnerType> totUnrealPl;
+		private DoubleAttribute<ParentOwnerType> pmeTotUnrealPl;
+		private DoubleAttribute<ParentOwnerType> mtdIntIncm;
+		private DoubleAttribute<ParentOwnerType> mtdIntXpns;
+		private DoubleAttribute<ParentOwnerType> pendingCash;
+		private DoubleAttribute<ParentOwnerType> mtdRealTradingPl;
+		private DoubleAttribute<ParentOwnerType> otherAdjCntrlTot;
+		private DoubleAttribute<ParentOwnerType> settledCash;
+		private DoubleAttribute<ParentOwnerType> fxPerStockRec;
+		private DoubleAttribute<ParentOwnerType> mtdDivIncm;
+		private DoubleAttribute<ParentOwnerType> mtdTransferTax;
+		private DoubleAttribute<ParentOwnerType> carryCharge;
+		private DoubleAttribute<ParentOwnerType> carryRebate;
+		private DoubleAttribute<ParentOwnerType> ltdSdUnreal;
+		private ShortAttribute<ParentOwnerType> activeMtdRec;
+		private LongAttribute<ParentOwnerType> prodGlobalClass;
+		private StringAttribute<ParentOwnerType> prodScrpPlPostClass;
+		private StringAttribute<ParentOwnerType> prodScrpBsPostClass;
+		private ShortAttribute<ParentOwnerType> tlewTrialCreate;
+		private ShortAttribute<ParentOwnerType> tlewTrialChange;
+		private DoubleAttribute<ParentOwnerType> offsetPayRecv;
+		private DoubleAttribute<ParentOwnerType> segregatedCash;
+		private TimestampAttribute<ParentOwnerType> busDate;
+		private DoubleAttribute<ParentOwnerType> posXrate;
+		private StringAttribute<ParentOwnerType> prodType;
+		private DoubleAttribute<ParentOwnerType> regCostBase;
+		private DoubleAttribute<ParentOwnerType> fwdCostBase;
+		private DoubleAttribute<ParentOwnerType> regQty;
+		private DoubleAttribute<ParentOwnerType> fwdQty;
+		private DoubleAttribute<ParentOwnerType> gaapTdMktvlBase;
+		private DoubleAttribute<ParentOwnerType> openIntBase;
+		private TimestampAttribute<ParentOwnerType> localCurrTime;
+		private DoubleAttribute<ParentOwnerType> mtdSdUnreal;
+		private DoubleAttribute<ParentOwnerType> fwdQtyGt30;
+		private DoubleAttribute<ParentOwnerType> fwdCostGt30Base;
+		private IntegerAttribute<ParentOwnerType> prodUndrClass;
+		private DoubleAttribute<ParentOwnerType> gmiUnreal;
+		private DoubleAttribute<ParentOwnerType> mtdTdUnreal;
+		private StringAttribute<ParentOwnerType> paraProdType;
+		private DoubleAttribute<ParentOwnerType> ltdLcmTdUnreal;
+		private DoubleAttribute<ParentOwnerType> mtdLcmTdUnreal;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[1];
+				asOfAttributes[0] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public TlewTrialRelatedFinder()
+		{
+			super();
+		}
+
+		public TlewTrialRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.bcp.TlewTrialFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return TlewTrialFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return TlewTrialFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return TlewTrialFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[88];
+			attributes[0] = this.acctId();
+			attributes[1] = this.instrument();
+			attributes[2] = this.positionType();
+			attributes[3] = this.instrumentType();
+			attributes[4] = this.instrumentSubType();
+			attributes[5] = this.accountNumber();
+			attributes[6] = this.trial();
+			attributes[7] = this.legalEntity();
+			attributes[8] = this.baseCurrency();
+			attributes[9] = this.accountTypeB();
+			attributes[10] = this.accountTypeC();
+			attributes[11] = this.primaryIncomeFunction();
+			attributes[12] = this.carryTransferFlag();
+			attributes[13] = this.accountDescription();
+			attributes[14] = this.prodSyn();
+			attributes[15] = this.prodStkPx();
+			attributes[16] = this.productDescription();
+			attributes[17] = this.productIssueCurrency();
+			attributes[18] = this.productProfile();
+			attributes[19] = this.prodFutCntrctSize();
+			attributes[20] = this.productMaturityDate();
+			attributes[21] = this.productIssueCountry();
+			attributes[22] = this.productPrimaryMarket();
+			attributes[23] = this.productUnderlierReferenceId();
+			attributes[24] = this.prodXplRltn();
+			attributes[25] = this.prodRelHost();
+			attributes[26] = this.prodUndrlrPx();
+			attributes[27] = this.positionQuantity();
+			attributes[28] = this.posMktvlBase();
+			attributes[29] = this.posCostBase();
+			attributes[30] = this.posAccrIntBase();
+			attributes[31] = this.posPurchIntBase();
+			attributes[32] = this.posNotvlBase();
+			attributes[33] = this.contractualNpv();
+			attributes[34] = this.unstldRwPl();
+			attributes[35] = this.unstldFwdPl();
+			attributes[36] = this.unrealFutPerGmiPl();
+			attributes[37] = this.fairValAdj();
+			attributes[38] = this.adjTdUnstldFutPl();
+			attributes[39] = this.valuationAdj();
+			attributes[40] = this.accrDiv();
+			attributes[41] = this.otherTdAdj();
+			attributes[42] = this.fxRevalAdj();
+			attributes[43] = this.adjSdResrvUnrealPl();
+			attributes[44] = this.sdFxUnrealPl();
+			attributes[45] = this.totUnrealPl();
+			attributes[46] = this.pmeTotUnrealPl();
+			attributes[47] = this.mtdIntIncm();
+			attributes[48] = this.mtdIntXpns();
+			attributes[49] = this.pendingCash();
+			attributes[50] = this.mtdRealTradingPl();
+			attributes[51] = this.otherAdjCntrlTot();
+			attributes[52] = this.settledCash();
+			attributes[53] = this.fxPerStockRec();
+			attributes[54] = this.mtdDivIncm();
+			attributes[55] = this.mtdTransferTax();
+			attributes[56] = this.carryCharge();
+			attributes[57] = this.carryRebate();
+			attributes[58] = this.ltdSdUnreal();
+			attributes[59] = this.activeMtdRec();
+			attributes[60] = this.prodGlobalClass();
+			attributes[61] = this.prodScrpPlPostClass();
+			attributes[62] = this.prodScrpBsPostClass();
+			attributes[63] = this.tlewTrialCreate();
+			attributes[64] = this.tlewTrialChange();
+			attributes[65] = this.offsetPayRecv();
+			attributes[66] = this.segregatedCash();
+			attributes[67] = this.busDate();
+			attributes[68] = this.posXrate();
+			attributes[69] = this.prodType();
+			attributes[70] = this.regCostBase();
+			attributes[71] = this.fwdCostBase();
+			attributes[72] = this.regQty();
+			attributes[73] = this.fwdQty();
+			attributes[74] = this.gaapTdMktvlBase();
+			attributes[75] = this.openIntBase();
+			attributes[76] = this.localCurrTime();
+			attributes[77] = this.mtdSdUnreal();
+			attributes[78] = this.fwdQtyGt30();
+			attributes[79] = this.fwdCostGt30Base();
+			attributes[80] = this.prodUndrClass();
+			attributes[81] = this.gmiUnreal();
+			attributes[82] = this.mtdTdUnreal();
+			attributes[83] = this.paraProdType();
+			attributes[84] = this.ltdLcmTdUnreal();
+			attributes[85] = this.mtdLcmTdUnreal();
+			attributes[86] = this.processingDateFrom();
+			attributes[87] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(0);
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public TlewTrial findOne(com.gs.fw.finder.Operation operation)
+		{
+			return TlewTrialFinder.findOne(operation, false);
+		}
+
+		public TlewTrial findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return TlewTrialFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends TlewTrial> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new TlewTrialList((Operation) operation);
+		}
+
+		public MithraList<? extends TlewTrial> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			TlewTrialList result = (TlewTrialList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends TlewTrial> constructEmptyList()
+		{
+			return new TlewTrialList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -1935470738;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> acctId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.acctId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCT_I","","acctId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,12,-1,-1,false, false) :
+					new MappedIntegerAttribute(TlewTrialFinder.acctId(), this.mapper, this.zGetValueSelector());
+				this.acctId = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> instrument()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.instrument;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("INSTRUMENT_I","","instrument",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,16,-1,-1,false, false) :
+					new MappedIntegerAttribute(TlewTrialFinder.instrument(), this.mapper, this.zGetValueSelector());
+				this.instrument = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> positionType()
+		{
+			StringAttribute<ParentOwnerType> result = this.positionType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("POS_TYP_C","","positionType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,380,-1,-1,2,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.positionType(), this.mapper, this.zGetValueSelector());
+				this.positionType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> instrumentType()
+		{
+			StringAttribute<ParentOwnerType> result = this.instrumentType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("INSTR_TYP_C","","instrumentType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,20,-1,-1,1,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.instrumentType(), this.mapper, this.zGetValueSelector());
+				this.instrumentType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> instrumentSubType()
+		{
+			StringAttribute<ParentOwnerType> result = this.instrumentSubType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("INSTR_SUB_TYP_C","","instrumentSubType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,176,-1,-1,1,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.instrumentSubType(), this.mapper, this.zGetValueSelector());
+				this.instrumentSubType = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountNumber()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountNumber;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_N","","accountNumber",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,28,-1,-1,12,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.accountNumber(), this.mapper, this.zGetValueSelector());
+				this.accountNumber = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> trial()
+		{
+			StringAttribute<ParentOwnerType> result = this.trial;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("TRIAL_C","","trial",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,552,-1,-1,4,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.trial(), this.mapper, this.zGetValueSelector());
+				this.trial = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> legalEntity()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.legalEntity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("LEGAL_ENTITY_I","","legalEntity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,180,-1,-1,false, false) :
+					new MappedIntegerAttribute(TlewTrialFinder.legalEntity(), this.mapper, this.zGetValueSelector());
+				this.legalEntity = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> baseCurrency()
+		{
+			StringAttribute<ParentOwnerType> result = this.baseCurrency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("BASE_CURR_C","","baseCurrency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,66,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.baseCurrency(), this.mapper, this.zGetValueSelector());
+				this.baseCurrency = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> accountTypeB()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.accountTypeB;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ACCT_TYP_B","","accountTypeB",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,32,-1,-1,false, false) :
+					new MappedIntegerAttribute(TlewTrialFinder.accountTypeB(), this.mapper, this.zGetValueSelector());
+				this.accountTypeB = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountTypeC()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountTypeC;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_TYP_C","","accountTypeC",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,36,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.accountTypeC(), this.mapper, this.zGetValueSelector());
+				this.accountTypeC = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> primaryIncomeFunction()
+		{
+			StringAttribute<ParentOwnerType> result = this.primaryIncomeFunction;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PRIM_INCOME_FUNC_C","","primaryIncomeFunction",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,384,-1,-1,6,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.primaryIncomeFunction(), this.mapper, this.zGetValueSelector());
+				this.primaryIncomeFunction = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> carryTransferFlag()
+		{
+			ShortAttribute<ParentOwnerType> result = this.carryTransferFlag;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("CARRY_TRANSF_FLAG_C","","carryTransferFlag",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,94,-1,-1, false) :
+					new MappedShortAttribute(TlewTrialFinder.carryTransferFlag(), this.mapper, this.zGetValueSelector());
+				this.carryTransferFlag = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> accountDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.accountDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ACCT_DESC_T","","accountDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,24,-1,-1,80,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.accountDescription(), this.mapper, this.zGetValueSelector());
+				this.accountDescription = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> prodSyn()
+		{
+			StringAttribute<ParentOwnerType> result = this.prodSyn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_SYN_N","","prodSyn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,444,-1,-1,33,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.prodSyn(), this.mapper, this.zGetValueSelector());
+				this.prodSyn = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> prodStkPx()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.prodStkPx;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PROD_STK_PX_M","","prodStkPx",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,436,8,5, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.prodStkPx(), this.mapper, this.zGetValueSelector());
+				this.prodStkPx = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productDescription()
+		{
+			StringAttribute<ParentOwnerType> result = this.productDescription;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_DESC_T","","productDescription",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,468,-1,-1,80,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.productDescription(), this.mapper, this.zGetValueSelector());
+				this.productDescription = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productIssueCurrency()
+		{
+			StringAttribute<ParentOwnerType> result = this.productIssueCurrency;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_ISS_CCY_C","","productIssueCurrency",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,476,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.productIssueCurrency(), this.mapper, this.zGetValueSelector());
+				this.productIssueCurrency = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productProfile()
+		{
+			StringAttribute<ParentOwnerType> result = this.productProfile;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_PROFILE_C","","productProfile",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,492,-1,-1,45,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.productProfile(), this.mapper, this.zGetValueSelector());
+				this.productProfile = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> prodFutCntrctSize()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.prodFutCntrctSize;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PROD_FUT_CNTRCT_SIZE_Q","","prodFutCntrctSize",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,404,8,3, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.prodFutCntrctSize(), this.mapper, this.zGetValueSelector());
+				this.prodFutCntrctSize = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> productMaturityDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.productMaturityDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("PROD_XPR_MTY_D","","productMaturityDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,480,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTrialFinder.productMaturityDate(), this.mapper, this.zGetValueSelector());
+				this.productMaturityDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productIssueCountry()
+		{
+			StringAttribute<ParentOwnerType> result = this.productIssueCountry;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_ISS_CNTRY_C","","productIssueCountry",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,472,-1,-1,4,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.productIssueCountry(), this.mapper, this.zGetValueSelector());
+				this.productIssueCountry = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> productPrimaryMarket()
+		{
+			StringAttribute<ParentOwnerType> result = this.productPrimaryMarket;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_PRM_MKT_C","","productPrimaryMarket",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,488,-1,-1,4,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.productPrimaryMarket(), this.mapper, this.zGetValueSelector());
+				this.productPrimaryMarket = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> productUnderlierReferenceId()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.productUnderlierReferenceId;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_UNDRLR_REF_I","","productUnderlierReferenceId",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,496,8,8,false, false) :
+					new MappedIntegerAttribute(TlewTrialFinder.productUnderlierReferenceId(), this.mapper, this.zGetValueSelector());
+				this.productUnderlierReferenceId = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> prodXplRltn()
+		{
+			StringAttribute<ParentOwnerType> result = this.prodXplRltn;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_XPL_RLTN_C","","prodXplRltn",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,464,-1,-1,3,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.prodXplRltn(), this.mapper, this.zGetValueSelector());
+				this.prodXplRltn = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> prodRelHost()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.prodRelHost;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PROD_REL_HOST_Q","","prodRelHost",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,420,8,4, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.prodRelHost(), this.mapper, this.zGetValueSelector());
+				this.prodRelHost = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> prodUndrlrPx()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.prodUndrlrPx;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PROD_UNDRLR_PX_M","","prodUndrlrPx",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,456,8,7, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.prodUndrlrPx(), this.mapper, this.zGetValueSelector());
+				this.prodUndrlrPx = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> positionQuantity()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.positionQuantity;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_SHR_Q","","positionQuantity",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,372,8,2, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.positionQuantity(), this.mapper, this.zGetValueSelector());
+				this.positionQuantity = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> posMktvlBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.posMktvlBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_MKTVL_BASE_M","","posMktvlBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,340,4,30, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.posMktvlBase(), this.mapper, this.zGetValueSelector());
+				this.posMktvlBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> posCostBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.posCostBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_COST_BASE_M","","posCostBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,332,4,29, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.posCostBase(), this.mapper, this.zGetValueSelector());
+				this.posCostBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> posAccrIntBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.posAccrIntBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_ACCR_INT_BASE_M","","posAccrIntBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,324,4,28, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.posAccrIntBase(), this.mapper, this.zGetValueSelector());
+				this.posAccrIntBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> posPurchIntBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.posPurchIntBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_PURCH_INT_BASE_M","","posPurchIntBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,356,8,0, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.posPurchIntBase(), this.mapper, this.zGetValueSelector());
+				this.posPurchIntBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> posNotvlBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.posNotvlBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_NOTVL_BASE_M","","posNotvlBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,348,4,31, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.posNotvlBase(), this.mapper, this.zGetValueSelector());
+				this.posNotvlBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> contractualNpv()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.contractualNpv;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CONTRACTUAL_NPV_M","","contractualNpv",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,96,4,3, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.contractualNpv(), this.mapper, this.zGetValueSelector());
+				this.contractualNpv = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unstldRwPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unstldRwPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNSTLD_RW_PL_M","","unstldRwPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,572,8,18, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.unstldRwPl(), this.mapper, this.zGetValueSelector());
+				this.unstldRwPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unstldFwdPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unstldFwdPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNSTLD_FWD_PL_M","","unstldFwdPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,564,8,17, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.unstldFwdPl(), this.mapper, this.zGetValueSelector());
+				this.unstldFwdPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> unrealFutPerGmiPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.unrealFutPerGmiPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("UNREAL_FUT_PER_GMI_PL_M","","unrealFutPerGmiPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,556,8,16, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.unrealFutPerGmiPl(), this.mapper, this.zGetValueSelector());
+				this.unrealFutPerGmiPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fairValAdj()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fairValAdj;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FAIR_VAL_ADJ_M","","fairValAdj",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,104,4,4, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fairValAdj(), this.mapper, this.zGetValueSelector());
+				this.fairValAdj = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> adjTdUnstldFutPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.adjTdUnstldFutPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ADJ_TD_UNSTLD_FUT_PL_M","","adjTdUnstldFutPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,58,4,2, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.adjTdUnstldFutPl(), this.mapper, this.zGetValueSelector());
+				this.adjTdUnstldFutPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> valuationAdj()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.valuationAdj;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("VALUATION_ADJ_M","","valuationAdj",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,580,8,19, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.valuationAdj(), this.mapper, this.zGetValueSelector());
+				this.valuationAdj = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> accrDiv()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.accrDiv;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ACCR_DIV_M","","accrDiv",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,40,4,0, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.accrDiv(), this.mapper, this.zGetValueSelector());
+				this.accrDiv = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherTdAdj()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherTdAdj;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OTHER_TD_ADJ_M","","otherTdAdj",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,296,4,25, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.otherTdAdj(), this.mapper, this.zGetValueSelector());
+				this.otherTdAdj = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fxRevalAdj()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fxRevalAdj;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FX_REVAL_ADJ_M","","fxRevalAdj",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,152,4,10, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fxRevalAdj(), this.mapper, this.zGetValueSelector());
+				this.fxRevalAdj = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> adjSdResrvUnrealPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.adjSdResrvUnrealPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("ADJ_SD_RESRV_UNREAL_PL_M","","adjSdResrvUnrealPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,50,4,1, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.adjSdResrvUnrealPl(), this.mapper, this.zGetValueSelector());
+				this.adjSdResrvUnrealPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> sdFxUnrealPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.sdFxUnrealPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("SD_FX_UNREAL_PL_M","","sdFxUnrealPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,516,8,11, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.sdFxUnrealPl(), this.mapper, this.zGetValueSelector());
+				this.sdFxUnrealPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> totUnrealPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.totUnrealPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("TOT_UNREAL_PL_M","","totUnrealPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,544,8,15, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.totUnrealPl(), this.mapper, this.zGetValueSelector());
+				this.totUnrealPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pmeTotUnrealPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pmeTotUnrealPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PME_TOT_UNREAL_PL_M","","pmeTotUnrealPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,316,4,27, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.pmeTotUnrealPl(), this.mapper, this.zGetValueSelector());
+				this.pmeTotUnrealPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdIntIncm()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdIntIncm;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_INT_INCM_M","","mtdIntIncm",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,216,4,15, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdIntIncm(), this.mapper, this.zGetValueSelector());
+				this.mtdIntIncm = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdIntXpns()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdIntXpns;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_INT_XPNS_M","","mtdIntXpns",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,224,4,16, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdIntXpns(), this.mapper, this.zGetValueSelector());
+				this.mtdIntXpns = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> pendingCash()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.pendingCash;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("PENDING_CASH_M","","pendingCash",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,308,4,26, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.pendingCash(), this.mapper, this.zGetValueSelector());
+				this.pendingCash = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdRealTradingPl()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdRealTradingPl;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_REAL_TRADING_PL_M","","mtdRealTradingPl",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,240,4,18, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdRealTradingPl(), this.mapper, this.zGetValueSelector());
+				this.mtdRealTradingPl = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> otherAdjCntrlTot()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.otherAdjCntrlTot;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OTHER_ADJ_CNTRL_TOT_M","","otherAdjCntrlTot",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,288,4,24, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.otherAdjCntrlTot(), this.mapper, this.zGetValueSelector());
+				this.otherAdjCntrlTot = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> settledCash()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.settledCash;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("SETTLED_CASH_M","","settledCash",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,532,8,13, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.settledCash(), this.mapper, this.zGetValueSelector());
+				this.settledCash = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fxPerStockRec()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fxPerStockRec;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FX_PER_STOCK_REC","","fxPerStockRec",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,144,4,9, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fxPerStockRec(), this.mapper, this.zGetValueSelector());
+				this.fxPerStockRec = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdDivIncm()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdDivIncm;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_DIV_INCM_M","","mtdDivIncm",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,208,4,14, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdDivIncm(), this.mapper, this.zGetValueSelector());
+				this.mtdDivIncm = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdTransferTax()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdTransferTax;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_TRANSFER_TAX_M","","mtdTransferTax",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,264,4,21, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdTransferTax(), this.mapper, this.zGetValueSelector());
+				this.mtdTransferTax = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> carryCharge()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.carryCharge;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CARRY_CHARGE_M","","carryCharge",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,78,-1,-1, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.carryCharge(), this.mapper, this.zGetValueSelector());
+				this.carryCharge = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> carryRebate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.carryRebate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("CARRY_REBATE_M","","carryRebate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,86,-1,-1, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.carryRebate(), this.mapper, this.zGetValueSelector());
+				this.carryRebate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> ltdSdUnreal()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.ltdSdUnreal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("LTD_SD_UNREAL_M","","ltdSdUnreal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,200,-1,-1, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.ltdSdUnreal(), this.mapper, this.zGetValueSelector());
+				this.ltdSdUnreal = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> activeMtdRec()
+		{
+			ShortAttribute<ParentOwnerType> result = this.activeMtdRec;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("ACTIVE_MTD_REC_C","","activeMtdRec",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,48,-1,-1, false) :
+					new MappedShortAttribute(TlewTrialFinder.activeMtdRec(), this.mapper, this.zGetValueSelector());
+				this.activeMtdRec = result;
+			}
+
+			return result;
+		}
+
+		public LongAttribute<ParentOwnerType> prodGlobalClass()
+		{
+			LongAttribute<ParentOwnerType> result = this.prodGlobalClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnLongAttribute.generate("PROD_GLOBAL_CLASS_I","","prodGlobalClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,412,-1,-1,false, false) :
+					new MappedLongAttribute(TlewTrialFinder.prodGlobalClass(), this.mapper, this.zGetValueSelector());
+				this.prodGlobalClass = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> prodScrpPlPostClass()
+		{
+			StringAttribute<ParentOwnerType> result = this.prodScrpPlPostClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_SCRP_PL_POST_CLASS_N","","prodScrpPlPostClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,432,-1,-1,5,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.prodScrpPlPostClass(), this.mapper, this.zGetValueSelector());
+				this.prodScrpPlPostClass = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> prodScrpBsPostClass()
+		{
+			StringAttribute<ParentOwnerType> result = this.prodScrpBsPostClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_SCRP_BS_POST_CLASS_N","","prodScrpBsPostClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,428,-1,-1,5,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.prodScrpBsPostClass(), this.mapper, this.zGetValueSelector());
+				this.prodScrpBsPostClass = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> tlewTrialCreate()
+		{
+			ShortAttribute<ParentOwnerType> result = this.tlewTrialCreate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("TLEW_TRIAL_CREATE_C","","tlewTrialCreate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,542,-1,-1, false) :
+					new MappedShortAttribute(TlewTrialFinder.tlewTrialCreate(), this.mapper, this.zGetValueSelector());
+				this.tlewTrialCreate = result;
+			}
+
+			return result;
+		}
+
+		public ShortAttribute<ParentOwnerType> tlewTrialChange()
+		{
+			ShortAttribute<ParentOwnerType> result = this.tlewTrialChange;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnShortAttribute.generate("TLEW_TRIAL_CHANGE_C","","tlewTrialChange",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,540,8,14, false) :
+					new MappedShortAttribute(TlewTrialFinder.tlewTrialChange(), this.mapper, this.zGetValueSelector());
+				this.tlewTrialChange = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> offsetPayRecv()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.offsetPayRecv;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OFFSET_PAY_RECV_M","","offsetPayRecv",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,272,4,22, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.offsetPayRecv(), this.mapper, this.zGetValueSelector());
+				this.offsetPayRecv = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> segregatedCash()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.segregatedCash;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("SEGREGATED_CASH_M","","segregatedCash",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,524,8,12, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.segregatedCash(), this.mapper, this.zGetValueSelector());
+				this.segregatedCash = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> busDate()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.busDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("BUS_DATE_Z","","busDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,70,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTrialFinder.busDate(), this.mapper, this.zGetValueSelector());
+				this.busDate = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> posXrate()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.posXrate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("POS_XRATE_M","","posXrate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,364,8,1, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.posXrate(), this.mapper, this.zGetValueSelector());
+				this.posXrate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> prodType()
+		{
+			StringAttribute<ParentOwnerType> result = this.prodType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PROD_TYPE_C","","prodType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,448,-1,-1,1,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.prodType(), this.mapper, this.zGetValueSelector());
+				this.prodType = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> regCostBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.regCostBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("REG_COST_BASE_M","","regCostBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,500,8,9, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.regCostBase(), this.mapper, this.zGetValueSelector());
+				this.regCostBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fwdCostBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fwdCostBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FWD_COST_BASE_M","","fwdCostBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,112,4,5, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fwdCostBase(), this.mapper, this.zGetValueSelector());
+				this.fwdCostBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> regQty()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.regQty;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("REG_QTY_Q","","regQty",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,508,8,10, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.regQty(), this.mapper, this.zGetValueSelector());
+				this.regQty = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fwdQty()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fwdQty;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FWD_QTY_Q","","fwdQty",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,128,4,7, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fwdQty(), this.mapper, this.zGetValueSelector());
+				this.fwdQty = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> gaapTdMktvlBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.gaapTdMktvlBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("GAAP_TD_MKTVL_BASE_M","","gaapTdMktvlBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,160,4,11, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.gaapTdMktvlBase(), this.mapper, this.zGetValueSelector());
+				this.gaapTdMktvlBase = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> openIntBase()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.openIntBase;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("OPEN_INT_BASE_M","","openIntBase",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,280,4,23, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.openIntBase(), this.mapper, this.zGetValueSelector());
+				this.openIntBase = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> localCurrTime()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.localCurrTime;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("LOCAL_CURR_TIME_Z","","localCurrTime",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,184,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,null, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTrialFinder.localCurrTime(), this.mapper, this.zGetValueSelector());
+				this.localCurrTime = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdSdUnreal()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdSdUnreal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_SD_UNREAL_M","","mtdSdUnreal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,248,4,19, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdSdUnreal(), this.mapper, this.zGetValueSelector());
+				this.mtdSdUnreal = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fwdQtyGt30()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fwdQtyGt30;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FWD_QTY_GT_30_Q","","fwdQtyGt30",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,136,4,8, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fwdQtyGt30(), this.mapper, this.zGetValueSelector());
+				this.fwdQtyGt30 = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> fwdCostGt30Base()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.fwdCostGt30Base;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("FWD_COST_GT_30_BASE_M","","fwdCostGt30Base",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,120,4,6, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.fwdCostGt30Base(), this.mapper, this.zGetValueSelector());
+				this.fwdCostGt30Base = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> prodUndrClass()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.prodUndrClass;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PROD_UNDR_CLASS_I","","prodUndrClass",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,false,452,8,6,false, false) :
+					new MappedIntegerAttribute(TlewTrialFinder.prodUndrClass(), this.mapper, this.zGetValueSelector());
+				this.prodUndrClass = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> gmiUnreal()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.gmiUnreal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("GMI_UNREAL_M","","gmiUnreal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,168,4,12, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.gmiUnreal(), this.mapper, this.zGetValueSelector());
+				this.gmiUnreal = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdTdUnreal()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdTdUnreal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_TD_UNREAL_M","","mtdTdUnreal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,256,4,20, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdTdUnreal(), this.mapper, this.zGetValueSelector());
+				this.mtdTdUnreal = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> paraProdType()
+		{
+			StringAttribute<ParentOwnerType> result = this.paraProdType;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PARA_PROD_TYPE_N","","paraProdType",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,304,-1,-1,9,true, false) :
+					new MappedStringAttribute(TlewTrialFinder.paraProdType(), this.mapper, this.zGetValueSelector());
+				this.paraProdType = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> ltdLcmTdUnreal()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.ltdLcmTdUnreal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("LTD_LCM_TD_UNREAL_M","","ltdLcmTdUnreal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,192,4,13, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.ltdLcmTdUnreal(), this.mapper, this.zGetValueSelector());
+				this.ltdLcmTdUnreal = result;
+			}
+
+			return result;
+		}
+
+		public DoubleAttribute<ParentOwnerType> mtdLcmTdUnreal()
+		{
+			DoubleAttribute<ParentOwnerType> result = this.mtdLcmTdUnreal;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnDoubleAttribute.generate("MTD_LCM_TD_UNREAL_M","","mtdLcmTdUnreal",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,232,4,17, false) :
+					new MappedDoubleAttribute(TlewTrialFinder.mtdLcmTdUnreal(), this.mapper, this.zGetValueSelector());
+				this.mtdLcmTdUnreal = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,388,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,TlewTrialFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTrialFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,396,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,TlewTrialFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(TlewTrialFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,this.processingDateFrom(),this.processingDateTo(),TlewTrialFinder.processingDateInfinity,false,false,TlewTrialFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(TlewTrialFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return TlewTrialFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return TlewTrialFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class TlewTrialCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends TlewTrialRelatedFinder<ParentOwnerType, ReturnType, TlewTrialList, OwnerType>
+	{
+		public TlewTrialCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class TlewTrialCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends TlewTrialCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TlewTrialCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class TlewTrialSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends TlewTrialRelatedFinder<ParentOwnerType, ReturnType, TlewTrialList, OwnerType>
+	implements ToOneFinder
+	{
+		public TlewTrialSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public TlewTrialSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(TlewTrial other)
+		{
+			return this.acctId().eq(other.getAcctId())
+			.and(this.instrument().eq(other.getInstrument()))
+			.and(this.instrumentType().eq(other.getInstrumentType()))
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public TlewTrial findByPrimaryKey(int acctId, int instrument, String instrumentType, Timestamp processingDate)
+		{
+			TlewTrial _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (instrumentType != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(acctId);
+				_bean.setI2AsInteger(instrument);
+				_bean.setO1(instrumentType);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, processingDate, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (TlewTrial) _related;
+			if (_related == null)
+			{
+				_op = this.acctId().eq(acctId).and(this.instrument().eq(instrument)).and(this.instrumentType().eq(instrumentType)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class TlewTrialSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends TlewTrialSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public TlewTrialSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	/** maps to TLEW_TRIAL.ACCT_I **/
+	public static IntegerAttribute<TlewTrial> acctId()
+	{
+		return finder.acctId();
+	}
+
+	/** maps to TLEW_TRIAL.INSTRUMENT_I **/
+	public static IntegerAttribute<TlewTrial> instrument()
+	{
+		return finder.instrument();
+	}
+
+	/** maps to TLEW_TRIAL.POS_TYP_C **/
+	public static StringAttribute<TlewTrial> positionType()
+	{
+		return finder.positionType();
+	}
+
+	/** maps to TLEW_TRIAL.INSTR_TYP_C **/
+	public static StringAttribute<TlewTrial> instrumentType()
+	{
+		return finder.instrumentType();
+	}
+
+	/** maps to TLEW_TRIAL.INSTR_SUB_TYP_C **/
+	public static StringAttribute<TlewTrial> instrumentSubType()
+	{
+		return finder.instrumentSubType();
+	}
+
+	/** maps to TLEW_TRIAL.ACCT_N **/
+	public static StringAttribute<TlewTrial> accountNumber()
+	{
+		return finder.accountNumber();
+	}
+
+	/** maps to TLEW_TRIAL.TRIAL_C **/
+	public static StringAttribute<TlewTrial> trial()
+	{
+		return finder.trial();
+	}
+
+	/** maps to TLEW_TRIAL.LEGAL_ENTITY_I **/
+	public static IntegerAttribute<TlewTrial> legalEntity()
+	{
+		return finder.legalEntity();
+	}
+
+	/** maps to TLEW_TRIAL.BASE_CURR_C **/
+	public static StringAttribute<TlewTrial> baseCurrency()
+	{
+		return finder.baseCurrency();
+	}
+
+	/** maps to TLEW_TRIAL.ACCT_TYP_B **/
+	public static IntegerAttribute<TlewTrial> accountTypeB()
+	{
+		return finder.accountTypeB();
+	}
+
+	/** maps to TLEW_TRIAL.ACCT_TYP_C **/
+	public static StringAttribute<TlewTrial> accountTypeC()
+	{
+		return finder.accountTypeC();
+	}
+
+	/** maps to TLEW_TRIAL.PRIM_INCOME_FUNC_C **/
+	public static StringAttribute<TlewTrial> primaryIncomeFunction()
+	{
+		return finder.primaryIncomeFunction();
+	}
+
+	/** maps to TLEW_TRIAL.CARRY_TRANSF_FLAG_C **/
+	public static ShortAttribute<TlewTrial> carryTransferFlag()
+	{
+		return finder.carryTransferFlag();
+	}
+
+	/** maps to TLEW_TRIAL.ACCT_DESC_T **/
+	public static StringAttribute<TlewTrial> accountDescription()
+	{
+		return finder.accountDescription();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_SYN_N **/
+	public static StringAttribute<TlewTrial> prodSyn()
+	{
+		return finder.prodSyn();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_STK_PX_M **/
+	public static DoubleAttribute<TlewTrial> prodStkPx()
+	{
+		return finder.prodStkPx();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_DESC_T **/
+	public static StringAttribute<TlewTrial> productDescription()
+	{
+		return finder.productDescription();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_ISS_CCY_C **/
+	public static StringAttribute<TlewTrial> productIssueCurrency()
+	{
+		return finder.productIssueCurrency();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_PROFILE_C **/
+	public static StringAttribute<TlewTrial> productProfile()
+	{
+		return finder.productProfile();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_FUT_CNTRCT_SIZE_Q **/
+	public static DoubleAttribute<TlewTrial> prodFutCntrctSize()
+	{
+		return finder.prodFutCntrctSize();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_XPR_MTY_D **/
+	public static TimestampAttribute<TlewTrial> productMaturityDate()
+	{
+		return finder.productMaturityDate();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_ISS_CNTRY_C **/
+	public static StringAttribute<TlewTrial> productIssueCountry()
+	{
+		return finder.productIssueCountry();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_PRM_MKT_C **/
+	public static StringAttribute<TlewTrial> productPrimaryMarket()
+	{
+		return finder.productPrimaryMarket();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_UNDRLR_REF_I **/
+	public static IntegerAttribute<TlewTrial> productUnderlierReferenceId()
+	{
+		return finder.productUnderlierReferenceId();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_XPL_RLTN_C **/
+	public static StringAttribute<TlewTrial> prodXplRltn()
+	{
+		return finder.prodXplRltn();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_REL_HOST_Q **/
+	public static DoubleAttribute<TlewTrial> prodRelHost()
+	{
+		return finder.prodRelHost();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_UNDRLR_PX_M **/
+	public static DoubleAttribute<TlewTrial> prodUndrlrPx()
+	{
+		return finder.prodUndrlrPx();
+	}
+
+	/** maps to TLEW_TRIAL.POS_SHR_Q **/
+	public static DoubleAttribute<TlewTrial> positionQuantity()
+	{
+		return finder.positionQuantity();
+	}
+
+	/** maps to TLEW_TRIAL.POS_MKTVL_BASE_M **/
+	public static DoubleAttribute<TlewTrial> posMktvlBase()
+	{
+		return finder.posMktvlBase();
+	}
+
+	/** maps to TLEW_TRIAL.POS_COST_BASE_M **/
+	public static DoubleAttribute<TlewTrial> posCostBase()
+	{
+		return finder.posCostBase();
+	}
+
+	/** maps to TLEW_TRIAL.POS_ACCR_INT_BASE_M **/
+	public static DoubleAttribute<TlewTrial> posAccrIntBase()
+	{
+		return finder.posAccrIntBase();
+	}
+
+	/** maps to TLEW_TRIAL.POS_PURCH_INT_BASE_M **/
+	public static DoubleAttribute<TlewTrial> posPurchIntBase()
+	{
+		return finder.posPurchIntBase();
+	}
+
+	/** maps to TLEW_TRIAL.POS_NOTVL_BASE_M **/
+	public static DoubleAttribute<TlewTrial> posNotvlBase()
+	{
+		return finder.posNotvlBase();
+	}
+
+	/** maps to TLEW_TRIAL.CONTRACTUAL_NPV_M **/
+	public static DoubleAttribute<TlewTrial> contractualNpv()
+	{
+		return finder.contractualNpv();
+	}
+
+	/** maps to TLEW_TRIAL.UNSTLD_RW_PL_M **/
+	public static DoubleAttribute<TlewTrial> unstldRwPl()
+	{
+		return finder.unstldRwPl();
+	}
+
+	/** maps to TLEW_TRIAL.UNSTLD_FWD_PL_M **/
+	public static DoubleAttribute<TlewTrial> unstldFwdPl()
+	{
+		return finder.unstldFwdPl();
+	}
+
+	/** maps to TLEW_TRIAL.UNREAL_FUT_PER_GMI_PL_M **/
+	public static DoubleAttribute<TlewTrial> unrealFutPerGmiPl()
+	{
+		return finder.unrealFutPerGmiPl();
+	}
+
+	/** maps to TLEW_TRIAL.FAIR_VAL_ADJ_M **/
+	public static DoubleAttribute<TlewTrial> fairValAdj()
+	{
+		return finder.fairValAdj();
+	}
+
+	/** maps to TLEW_TRIAL.ADJ_TD_UNSTLD_FUT_PL_M **/
+	public static DoubleAttribute<TlewTrial> adjTdUnstldFutPl()
+	{
+		return finder.adjTdUnstldFutPl();
+	}
+
+	/** maps to TLEW_TRIAL.VALUATION_ADJ_M **/
+	public static DoubleAttribute<TlewTrial> valuationAdj()
+	{
+		return finder.valuationAdj();
+	}
+
+	/** maps to TLEW_TRIAL.ACCR_DIV_M **/
+	public static DoubleAttribute<TlewTrial> accrDiv()
+	{
+		return finder.accrDiv();
+	}
+
+	/** maps to TLEW_TRIAL.OTHER_TD_ADJ_M **/
+	public static DoubleAttribute<TlewTrial> otherTdAdj()
+	{
+		return finder.otherTdAdj();
+	}
+
+	/** maps to TLEW_TRIAL.FX_REVAL_ADJ_M **/
+	public static DoubleAttribute<TlewTrial> fxRevalAdj()
+	{
+		return finder.fxRevalAdj();
+	}
+
+	/** maps to TLEW_TRIAL.ADJ_SD_RESRV_UNREAL_PL_M **/
+	public static DoubleAttribute<TlewTrial> adjSdResrvUnrealPl()
+	{
+		return finder.adjSdResrvUnrealPl();
+	}
+
+	/** maps to TLEW_TRIAL.SD_FX_UNREAL_PL_M **/
+	public static DoubleAttribute<TlewTrial> sdFxUnrealPl()
+	{
+		return finder.sdFxUnrealPl();
+	}
+
+	/** maps to TLEW_TRIAL.TOT_UNREAL_PL_M **/
+	public static DoubleAttribute<TlewTrial> totUnrealPl()
+	{
+		return finder.totUnrealPl();
+	}
+
+	/** maps to TLEW_TRIAL.PME_TOT_UNREAL_PL_M **/
+	public static DoubleAttribute<TlewTrial> pmeTotUnrealPl()
+	{
+		return finder.pmeTotUnrealPl();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_INT_INCM_M **/
+	public static DoubleAttribute<TlewTrial> mtdIntIncm()
+	{
+		return finder.mtdIntIncm();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_INT_XPNS_M **/
+	public static DoubleAttribute<TlewTrial> mtdIntXpns()
+	{
+		return finder.mtdIntXpns();
+	}
+
+	/** maps to TLEW_TRIAL.PENDING_CASH_M **/
+	public static DoubleAttribute<TlewTrial> pendingCash()
+	{
+		return finder.pendingCash();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_REAL_TRADING_PL_M **/
+	public static DoubleAttribute<TlewTrial> mtdRealTradingPl()
+	{
+		return finder.mtdRealTradingPl();
+	}
+
+	/** maps to TLEW_TRIAL.OTHER_ADJ_CNTRL_TOT_M **/
+	public static DoubleAttribute<TlewTrial> otherAdjCntrlTot()
+	{
+		return finder.otherAdjCntrlTot();
+	}
+
+	/** maps to TLEW_TRIAL.SETTLED_CASH_M **/
+	public static DoubleAttribute<TlewTrial> settledCash()
+	{
+		return finder.settledCash();
+	}
+
+	/** maps to TLEW_TRIAL.FX_PER_STOCK_REC **/
+	public static DoubleAttribute<TlewTrial> fxPerStockRec()
+	{
+		return finder.fxPerStockRec();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_DIV_INCM_M **/
+	public static DoubleAttribute<TlewTrial> mtdDivIncm()
+	{
+		return finder.mtdDivIncm();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_TRANSFER_TAX_M **/
+	public static DoubleAttribute<TlewTrial> mtdTransferTax()
+	{
+		return finder.mtdTransferTax();
+	}
+
+	/** maps to TLEW_TRIAL.CARRY_CHARGE_M **/
+	public static DoubleAttribute<TlewTrial> carryCharge()
+	{
+		return finder.carryCharge();
+	}
+
+	/** maps to TLEW_TRIAL.CARRY_REBATE_M **/
+	public static DoubleAttribute<TlewTrial> carryRebate()
+	{
+		return finder.carryRebate();
+	}
+
+	/** maps to TLEW_TRIAL.LTD_SD_UNREAL_M **/
+	public static DoubleAttribute<TlewTrial> ltdSdUnreal()
+	{
+		return finder.ltdSdUnreal();
+	}
+
+	/** maps to TLEW_TRIAL.ACTIVE_MTD_REC_C **/
+	public static ShortAttribute<TlewTrial> activeMtdRec()
+	{
+		return finder.activeMtdRec();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_GLOBAL_CLASS_I **/
+	public static LongAttribute<TlewTrial> prodGlobalClass()
+	{
+		return finder.prodGlobalClass();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_SCRP_PL_POST_CLASS_N **/
+	public static StringAttribute<TlewTrial> prodScrpPlPostClass()
+	{
+		return finder.prodScrpPlPostClass();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_SCRP_BS_POST_CLASS_N **/
+	public static StringAttribute<TlewTrial> prodScrpBsPostClass()
+	{
+		return finder.prodScrpBsPostClass();
+	}
+
+	/** maps to TLEW_TRIAL.TLEW_TRIAL_CREATE_C **/
+	public static ShortAttribute<TlewTrial> tlewTrialCreate()
+	{
+		return finder.tlewTrialCreate();
+	}
+
+	/** maps to TLEW_TRIAL.TLEW_TRIAL_CHANGE_C **/
+	public static ShortAttribute<TlewTrial> tlewTrialChange()
+	{
+		return finder.tlewTrialChange();
+	}
+
+	/** maps to TLEW_TRIAL.OFFSET_PAY_RECV_M **/
+	public static DoubleAttribute<TlewTrial> offsetPayRecv()
+	{
+		return finder.offsetPayRecv();
+	}
+
+	/** maps to TLEW_TRIAL.SEGREGATED_CASH_M **/
+	public static DoubleAttribute<TlewTrial> segregatedCash()
+	{
+		return finder.segregatedCash();
+	}
+
+	/** maps to TLEW_TRIAL.BUS_DATE_Z **/
+	public static TimestampAttribute<TlewTrial> busDate()
+	{
+		return finder.busDate();
+	}
+
+	/** maps to TLEW_TRIAL.POS_XRATE_M **/
+	public static DoubleAttribute<TlewTrial> posXrate()
+	{
+		return finder.posXrate();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_TYPE_C **/
+	public static StringAttribute<TlewTrial> prodType()
+	{
+		return finder.prodType();
+	}
+
+	/** maps to TLEW_TRIAL.REG_COST_BASE_M **/
+	public static DoubleAttribute<TlewTrial> regCostBase()
+	{
+		return finder.regCostBase();
+	}
+
+	/** maps to TLEW_TRIAL.FWD_COST_BASE_M **/
+	public static DoubleAttribute<TlewTrial> fwdCostBase()
+	{
+		return finder.fwdCostBase();
+	}
+
+	/** maps to TLEW_TRIAL.REG_QTY_Q **/
+	public static DoubleAttribute<TlewTrial> regQty()
+	{
+		return finder.regQty();
+	}
+
+	/** maps to TLEW_TRIAL.FWD_QTY_Q **/
+	public static DoubleAttribute<TlewTrial> fwdQty()
+	{
+		return finder.fwdQty();
+	}
+
+	/** maps to TLEW_TRIAL.GAAP_TD_MKTVL_BASE_M **/
+	public static DoubleAttribute<TlewTrial> gaapTdMktvlBase()
+	{
+		return finder.gaapTdMktvlBase();
+	}
+
+	/** maps to TLEW_TRIAL.OPEN_INT_BASE_M **/
+	public static DoubleAttribute<TlewTrial> openIntBase()
+	{
+		return finder.openIntBase();
+	}
+
+	/** maps to TLEW_TRIAL.LOCAL_CURR_TIME_Z **/
+	public static TimestampAttribute<TlewTrial> localCurrTime()
+	{
+		return finder.localCurrTime();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_SD_UNREAL_M **/
+	public static DoubleAttribute<TlewTrial> mtdSdUnreal()
+	{
+		return finder.mtdSdUnreal();
+	}
+
+	/** maps to TLEW_TRIAL.FWD_QTY_GT_30_Q **/
+	public static DoubleAttribute<TlewTrial> fwdQtyGt30()
+	{
+		return finder.fwdQtyGt30();
+	}
+
+	/** maps to TLEW_TRIAL.FWD_COST_GT_30_BASE_M **/
+	public static DoubleAttribute<TlewTrial> fwdCostGt30Base()
+	{
+		return finder.fwdCostGt30Base();
+	}
+
+	/** maps to TLEW_TRIAL.PROD_UNDR_CLASS_I **/
+	public static IntegerAttribute<TlewTrial> prodUndrClass()
+	{
+		return finder.prodUndrClass();
+	}
+
+	/** maps to TLEW_TRIAL.GMI_UNREAL_M **/
+	public static DoubleAttribute<TlewTrial> gmiUnreal()
+	{
+		return finder.gmiUnreal();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_TD_UNREAL_M **/
+	public static DoubleAttribute<TlewTrial> mtdTdUnreal()
+	{
+		return finder.mtdTdUnreal();
+	}
+
+	/** maps to TLEW_TRIAL.PARA_PROD_TYPE_N **/
+	public static StringAttribute<TlewTrial> paraProdType()
+	{
+		return finder.paraProdType();
+	}
+
+	/** maps to TLEW_TRIAL.LTD_LCM_TD_UNREAL_M **/
+	public static DoubleAttribute<TlewTrial> ltdLcmTdUnreal()
+	{
+		return finder.ltdLcmTdUnreal();
+	}
+
+	/** maps to TLEW_TRIAL.MTD_LCM_TD_UNREAL_M **/
+	public static DoubleAttribute<TlewTrial> mtdLcmTdUnreal()
+	{
+		return finder.mtdLcmTdUnreal();
+	}
+
+	/** maps to TLEW_TRIAL.IN_Z **/
+	public static TimestampAttribute<TlewTrial> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to TLEW_TRIAL.OUT_Z **/
+	public static TimestampAttribute<TlewTrial> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<TlewTrial> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static Operation eq(TlewTrial other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(acctId());
+	}
+
+	public static TlewTrialSingleFinder<TlewTrial, Object, TlewTrial> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			acctId()
+			, instrument()
+			, instrumentType()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			acctId()
+			, acctId()
+			, instrument()
+			, instrumentType()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setIndependent(true);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[52];
+		result[0] = prodStkPx();
+		result[1] = prodFutCntrctSize();
+		result[2] = prodRelHost();
+		result[3] = prodUndrlrPx();
+		result[4] = positionQuantity();
+		result[5] = posMktvlBase();
+		result[6] = posCostBase();
+		result[7] = posAccrIntBase();
+		result[8] = posPurchIntBase();
+		result[9] = posNotvlBase();
+		result[10] = contractualNpv();
+		result[11] = unstldRwPl();
+		result[12] = unstldFwdPl();
+		result[13] = unrealFutPerGmiPl();
+		result[14] = fairValAdj();
+		result[15] = adjTdUnstldFutPl();
+		result[16] = valuationAdj();
+		result[17] = accrDiv();
+		result[18] = otherTdAdj();
+		result[19] = fxRevalAdj();
+		result[20] = adjSdResrvUnrealPl();
+		result[21] = sdFxUnrealPl();
+		result[22] = totUnrealPl();
+		result[23] = pmeTotUnrealPl();
+		result[24] = mtdIntIncm();
+		result[25] = mtdIntXpns();
+		result[26] = pendingCash();
+		result[27] = mtdRealTradingPl();
+		result[28] = otherAdjCntrlTot();
+		result[29] = settledCash();
+		result[30] = fxPerStockRec();
+		result[31] = mtdDivIncm();
+		result[32] = mtdTransferTax();
+		result[33] = carryCharge();
+		result[34] = carryRebate();
+		result[35] = ltdSdUnreal();
+		result[36] = offsetPayRecv();
+		result[37] = segregatedCash();
+		result[38] = posXrate();
+		result[39] = regCostBase();
+		result[40] = fwdCostBase();
+		result[41] = regQty();
+		result[42] = fwdQty();
+		result[43] = gaapTdMktvlBase();
+		result[44] = openIntBase();
+		result[45] = mtdSdUnreal();
+		result[46] = fwdQtyGt30();
+		result[47] = fwdCostGt30Base();
+		result[48] = gmiUnreal();
+		result[49] = mtdTdUnreal();
+		result[50] = ltdLcmTdUnreal();
+		result[51] = mtdLcmTdUnreal();
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.bcp.TlewTrial");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheWithOptimisticLocking(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheWithOptimisticLockingTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
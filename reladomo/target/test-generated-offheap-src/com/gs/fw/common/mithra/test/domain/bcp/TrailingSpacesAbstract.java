@@ -0,0 +1,326 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class TrailingSpacesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(TrailingSpaces.class.getName());
+	public TrailingSpacesAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public TrailingSpaces getDetachedCopy() throws MithraBusinessException
+	{
+		return (TrailingSpaces) super.getDetachedCopy();
+	}
+
+	public TrailingSpaces getNonPersistentCopy() throws MithraBusinessException
+	{
+		TrailingSpaces result = (TrailingSpaces) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public TrailingSpaces copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (TrailingSpaces) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public TrailingSpaces zFindOriginal()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.currentData;
+		Operation op;
+		op = TrailingSpacesFinder.id().eq(data.getId());
+		return TrailingSpacesFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new TrailingSpacesData();
+	}
+
+	protected void zSetFromTrailingSpacesData( TrailingSpacesData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromTrailingSpacesData( TrailingSpacesData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCharNotNullNull()
+	{
+		return ((TrailingSpacesData) this.zSynchronizedGetData()).isCharNotNullNull();
+	}
+
+	public String getCharNotNull()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.zSynchronizedGetData();
+		return data.getCharNotNull();
+	}
+
+	public void setCharNotNull(String newValue)
+	{
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'charNotNull' cannot exceed maximum length of 30: " + newValue);
+		zSetString(TrailingSpacesFinder.charNotNull(), newValue, false, false );
+	}
+
+	public boolean isCharNullableNull()
+	{
+		return ((TrailingSpacesData) this.zSynchronizedGetData()).isCharNullableNull();
+	}
+
+	public String getCharNullable()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.zSynchronizedGetData();
+		return data.getCharNullable();
+	}
+
+	public void setCharNullable(String newValue)
+	{
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'charNullable' cannot exceed maximum length of 30: " + newValue);
+		zSetString(TrailingSpacesFinder.charNullable(), newValue, false, false );
+	}
+
+	public boolean isDescriptionNull()
+	{
+		return ((TrailingSpacesData) this.zSynchronizedGetData()).isDescriptionNull();
+	}
+
+	public String getDescription()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.zSynchronizedGetData();
+		return data.getDescription();
+	}
+
+	public void setDescription(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 24)
+		throw new MithraBusinessException("Attribute 'description' cannot exceed maximum length of 24: " + newValue);
+		zSetString(TrailingSpacesFinder.description(), newValue, false, false );
+	}
+
+	public boolean isIdNull()
+	{
+		return ((TrailingSpacesData) this.zSynchronizedGetData()).isIdNull();
+	}
+
+	public int getId()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.zSynchronizedGetData();
+		return data.getId();
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TrailingSpacesFinder.id(), newValue, true, false ,false);
+	}
+
+	public boolean isVarCharNotNullNull()
+	{
+		return ((TrailingSpacesData) this.zSynchronizedGetData()).isVarCharNotNullNull();
+	}
+
+	public String getVarCharNotNull()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.zSynchronizedGetData();
+		return data.getVarCharNotNull();
+	}
+
+	public void setVarCharNotNull(String newValue)
+	{
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'varCharNotNull' cannot exceed maximum length of 30: " + newValue);
+		zSetString(TrailingSpacesFinder.varCharNotNull(), newValue, false, false );
+	}
+
+	public boolean isVarCharNullableNull()
+	{
+		return ((TrailingSpacesData) this.zSynchronizedGetData()).isVarCharNullableNull();
+	}
+
+	public String getVarCharNullable()
+	{
+		TrailingSpacesData data = (TrailingSpacesData) this.zSynchronizedGetData();
+		return data.getVarCharNullable();
+	}
+
+	public void setVarCharNullable(String newValue)
+	{
+		if (newValue != null && newValue.length() > 30)
+		throw new MithraBusinessException("Attribute 'varCharNullable' cannot exceed maximum length of 30: " + newValue);
+		zSetString(TrailingSpacesFinder.varCharNullable(), newValue, false, false );
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		TrailingSpacesData _newData = (TrailingSpacesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		TrailingSpacesData _newData = (TrailingSpacesData) _behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TrailingSpacesData _newData = (TrailingSpacesData) _behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public TrailingSpaces zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		TrailingSpaces original = (TrailingSpaces) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return TrailingSpacesFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return TrailingSpacesFinder.getMithraObjectPortal();
+	}
+
+	public TrailingSpaces getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateString(behavior, data, newData, TrailingSpacesFinder.charNotNull(), false);
+		changed |= zUpdateString(behavior, data, newData, TrailingSpacesFinder.charNullable(), false);
+		changed |= zUpdateString(behavior, data, newData, TrailingSpacesFinder.description(), false);
+		changed |= zUpdateString(behavior, data, newData, TrailingSpacesFinder.varCharNotNull(), false);
+		changed |= zUpdateString(behavior, data, newData, TrailingSpacesFinder.varCharNullable(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, TrailingSpacesFinder.id(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		TrailingSpacesAbstract result = (TrailingSpacesAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+}
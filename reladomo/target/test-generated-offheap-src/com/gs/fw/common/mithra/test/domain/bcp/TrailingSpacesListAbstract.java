@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain.bcp;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class TrailingSpacesListAbstract extends DelegatingList<TrailingSpaces> implements MithraTransactionalList<TrailingSpaces>
+{
+	public TrailingSpacesListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public TrailingSpacesListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public TrailingSpacesListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public TrailingSpacesListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public TrailingSpaces[] elements()
+	{
+		TrailingSpaces[] result = new TrailingSpaces[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public TrailingSpacesList intersection(TrailingSpacesList another)
+	{
+		return (TrailingSpacesList)super.intersection(another);
+	}
+
+	public TrailingSpaces getTrailingSpacesAt(int index)
+	{
+		return (TrailingSpaces)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TrailingSpacesFinder.getMithraObjectPortal();
+	}
+
+	public TrailingSpacesList getNonPersistentCopy()
+	{
+		TrailingSpacesList result = new TrailingSpacesList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public TrailingSpacesList asAdhoc()
+	{
+		return (TrailingSpacesList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<TrailingSpaces> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public TrailingSpacesList merge(MithraTransactionalList<TrailingSpaces> incoming, TopLevelMergeOptions<TrailingSpaces> mergeOptions)
+	{
+		return (TrailingSpacesList) super.merge(incoming, mergeOptions);
+	}
+
+	public TrailingSpacesList getDetachedCopy()
+	{
+		TrailingSpacesList result = new TrailingSpacesList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setCharNotNull(String newValue)
+	{
+		zSetString(TrailingSpacesFinder.charNotNull(), newValue);
+	}
+
+	public void setCharNullable(String newValue)
+	{
+		zSetString(TrailingSpacesFinder.charNullable(), newValue);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(TrailingSpacesFinder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(TrailingSpacesFinder.id(), newValue);
+	}
+
+	public void setVarCharNotNull(String newValue)
+	{
+		zSetString(TrailingSpacesFinder.varCharNotNull(), newValue);
+	}
+
+	public void setVarCharNullable(String newValue)
+	{
+		zSetString(TrailingSpacesFinder.varCharNullable(), newValue);
+	}
+}
@@ -0,0 +1,1030 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDesc;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescAbstract;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescData;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescFinder;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescList;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescType;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeData;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeFinder;
+import com.gs.fw.common.mithra.test.domain.DatedEntityDescTypeList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class DatedTableFinder
+{
+	private static final Timestamp businessDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp businessDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateInfinity = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final Timestamp processingDateDefault = TimestampPool.getInstance().getOrAddToCache(com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity(), true);
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/dated/DatedTable";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.dated.DatedTable";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.dated.DatedTable");
+	private static final DatedTableSingleFinder<DatedTable, Object, DatedTable> finder = new DatedTableSingleFinder<DatedTable, Object, DatedTable>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(DatedTableFinder.DatedTableRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("businessDateFrom");
+		finderMethodMap.addNormalAttributeName("businessDateTo");
+		finderMethodMap.addNormalAttributeName("processingDateFrom");
+		finderMethodMap.addNormalAttributeName("processingDateTo");
+		finderMethodMap.addNormalAttributeName("businessDate");
+		finderMethodMap.addNormalAttributeName("processingDate");
+		finderMethodMap.addRelationshipName("notDatedTable");
+		finderMethodMap.addRelationshipName("datedEntityDescType");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[8];
+			result[0] = DatedTableFinder.id().constructEqualityMapper(NotDatedTableFinder.id());
+			result[1] = NotDatedTableFinder.id().constructEqualityMapper(DatedTableFinder.id());
+			result[2] = DatedTableFinder.id().constructEqualityMapper(DatedEntityDescFinder.id());
+			result[3] = DatedEntityDescFinder.id().constructEqualityMapper(DatedTableFinder.id());
+			result[4] = DatedTableFinder.businessDate().constructEqualityMapper(DatedEntityDescFinder.businessDate());
+			result[5] = DatedEntityDescFinder.businessDate().constructEqualityMapper(DatedTableFinder.businessDate());
+			result[6] = DatedTableFinder.processingDate().constructEqualityMapper(DatedEntityDescFinder.processingDate());
+			result[7] = DatedEntityDescFinder.processingDate().constructEqualityMapper(DatedTableFinder.processingDate());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static DatedTable findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static DatedTable findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static DatedTableList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedTableList) finder.findMany(operation);
+	}
+
+	public static DatedTableList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (DatedTableList) finder.findManyBypassCache(operation);
+	}
+
+	private static DatedTable findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (DatedTable) FinderUtils.findOne(found);
+	}
+
+	public static DatedTable findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+	{
+		return finder.findByPrimaryKey(id, businessDate, processingDate);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			DatedTableData _castedTargetData = (DatedTableData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return DatedTableFinder.businessDate().dataMatches(_castedTargetData, _asOfDate0) && DatedTableFinder.processingDate().dataMatches(_castedTargetData, _asOfDate1);
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static DatedTable zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (DatedTable) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class DatedTableRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<DatedTable, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private TimestampAttribute<ParentOwnerType> businessDateFrom;
+		private TimestampAttribute<ParentOwnerType> businessDateTo;
+		private TimestampAttribute<ParentOwnerType> processingDateFrom;
+		private TimestampAttribute<ParentOwnerType> processingDateTo;
+		private AsOfAttribute<ParentOwnerType> businessDate;
+		private AsOfAttribute<ParentOwnerType> processingDate;
+		private DatedTableNotDatedTableFinderSubclass<ParentOwnerType> notDatedTable;
+		private DatedTableDatedEntityDescTypeFinderSubclass<ParentOwnerType> datedEntityDescType;
+		private transient AsOfAttribute[] asOfAttributes;
+		public synchronized AsOfAttribute[] getAsOfAttributes()
+		{
+			if (asOfAttributes == null)
+			{
+				asOfAttributes = new AsOfAttribute[2];
+				asOfAttributes[0] = this.businessDate();
+				asOfAttributes[1] = this.processingDate();
+			}
+
+			return this.asOfAttributes;
+		}
+
+		public DatedTableRelatedFinder()
+		{
+			super();
+		}
+
+		public DatedTableRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.dated.DatedTableFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return DatedTableFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return DatedTableFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return DatedTableFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[5];
+			attributes[0] = this.id();
+			attributes[1] = this.businessDateFrom();
+			attributes[2] = this.businessDateTo();
+			attributes[3] = this.processingDateFrom();
+			attributes[4] = this.processingDateTo();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.notDatedTable());
+				relatedFinders.add(this.datedEntityDescType());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public DatedTable findOne(com.gs.fw.finder.Operation operation)
+		{
+			return DatedTableFinder.findOne(operation, false);
+		}
+
+		public DatedTable findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return DatedTableFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends DatedTable> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new DatedTableList((Operation) operation);
+		}
+
+		public MithraList<? extends DatedTable> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			DatedTableList result = (DatedTableList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends DatedTable> constructEmptyList()
+		{
+			return new DatedTableList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1468981983;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,false,4,-1,-1,false, false) :
+					new MappedIntegerAttribute(DatedTableFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("FROM_Z","","businessDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,8,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedTableFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedTableFinder.businessDateFrom(), this.mapper, this.zGetValueSelector());
+				this.businessDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> businessDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.businessDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("THRU_Z","","businessDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,16,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedTableFinder.businessDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedTableFinder.businessDateTo(), this.mapper, this.zGetValueSelector());
+				this.businessDateTo = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateFrom()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateFrom;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("IN_Z","","processingDateFrom",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,24,-1,-1,TimestampAttribute.CONVERT_NONE,false,false,DatedTableFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedTableFinder.processingDateFrom(), this.mapper, this.zGetValueSelector());
+				this.processingDateFrom = result;
+			}
+
+			return result;
+		}
+
+		public TimestampAttribute<ParentOwnerType> processingDateTo()
+		{
+			TimestampAttribute<ParentOwnerType> result = this.processingDateTo;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnTimestampAttribute.generate("OUT_Z","","processingDateTo",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,32,-1,-1,TimestampAttribute.CONVERT_NONE,false,true,DatedTableFinder.processingDateInfinity, (byte) 0, false) :
+					new MappedTimestampAttribute(DatedTableFinder.processingDateTo(), this.mapper, this.zGetValueSelector());
+				this.processingDateTo = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> businessDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.businessDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("businessDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.businessDateFrom(),this.businessDateTo(),DatedTableFinder.businessDateInfinity,false,true,DatedTableFinder.businessDateDefault,false,false) :
+					new MappedAsOfAttribute(DatedTableFinder.businessDate(), this.mapper, this.zGetValueSelector());
+				this.businessDate = result;
+			}
+
+			return result;
+		}
+
+		public AsOfAttribute<ParentOwnerType> processingDate()
+		{
+			AsOfAttribute<ParentOwnerType> result = this.processingDate;
+			if (result == null)
+			{
+				result = mapper == null ? AsOfAttribute.generate("processingDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,true,this,null,false,false,this.processingDateFrom(),this.processingDateTo(),DatedTableFinder.processingDateInfinity,false,true,DatedTableFinder.processingDateDefault,true,false) :
+					new MappedAsOfAttribute(DatedTableFinder.processingDate(), this.mapper, this.zGetValueSelector());
+				this.processingDate = result;
+			}
+
+			return result;
+		}
+
+		public NotDatedTableFinder.NotDatedTableSingleFinderForRelatedClasses<ParentOwnerType, NotDatedTable, DatedTable> notDatedTable()
+		{
+			DatedTableNotDatedTableFinderSubclass<ParentOwnerType> result = this.notDatedTable;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedTableFinder.zGetDatedTableNotDatedTableReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedTableNotDatedTableFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.notDatedTable = result;
+			}
+
+			return result;
+		}
+
+		public DatedEntityDescTypeFinder.DatedEntityDescTypeSingleFinderForRelatedClasses<ParentOwnerType, DatedEntityDescType, DatedTable> datedEntityDescType()
+		{
+			DatedTableDatedEntityDescTypeFinderSubclass<ParentOwnerType> result = this.datedEntityDescType;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(DatedTableFinder.zGetDatedTableDatedEntityDescTypeReverseMapper());
+				newMapper.setToMany(false);
+				result = new DatedTableDatedEntityDescTypeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.datedEntityDescType = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return DatedTableFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return DatedTableFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class DatedTableCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends DatedTableRelatedFinder<ParentOwnerType, ReturnType, DatedTableList, OwnerType>
+	{
+		public DatedTableCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class DatedTableCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends DatedTableCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedTableCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class DatedTableSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends DatedTableRelatedFinder<ParentOwnerType, ReturnType, DatedTableList, OwnerType>
+	implements ToOneFinder
+	{
+		public DatedTableSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public DatedTableSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(DatedTable other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public DatedTable findByPrimaryKey(int id, Timestamp businessDate, Timestamp processingDate)
+		{
+			DatedTable _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, businessDate, processingDate);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (DatedTable) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id).and(this.businessDate().eq(businessDate)).and(this.processingDate().eq(processingDate));
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class DatedTableSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends DatedTableSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public DatedTableSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper notDatedTableReverseMapper = null;
+	public static Mapper zGetDatedTableNotDatedTableReverseMapper()
+	{
+		if (notDatedTableReverseMapper == null)
+		{
+			notDatedTableReverseMapper = zConstructDatedTableNotDatedTableReverseMapper();
+		}
+
+		return notDatedTableReverseMapper;
+	}
+
+	private static Mapper notDatedTableMapper = null;
+	public static Mapper zGetDatedTableNotDatedTableMapper()
+	{
+		if (notDatedTableMapper == null)
+		{
+			notDatedTableMapper = zConstructDatedTableNotDatedTableMapper();
+		}
+
+		return notDatedTableMapper;
+	}
+
+	private static Mapper notDatedTablePureReverseMapper = null;
+	public static Mapper zGetDatedTableNotDatedTablePureReverseMapper()
+	{
+		if (notDatedTablePureReverseMapper == null)
+		{
+			notDatedTablePureReverseMapper = zConstructDatedTableNotDatedTablePureReverseMapper();
+		}
+
+		return notDatedTablePureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedTableNotDatedTablePureReverseMapper()
+	{
+		Mapper notDatedTableMapper = DatedTableFinder.zGetConstantJoin(0);
+		notDatedTableMapper.setName("notDatedTable");
+		return notDatedTableMapper;
+	}
+
+	private static Mapper zConstructDatedTableNotDatedTableReverseMapper()
+	{
+		Mapper notDatedTableMapper = DatedTableFinder.zGetConstantJoin(0);
+		notDatedTableMapper.setName("notDatedTable");
+		return notDatedTableMapper;
+	}
+
+	private static Mapper zConstructDatedTableNotDatedTableMapper()
+	{
+		Mapper notDatedTableMapper = NotDatedTableFinder.zGetConstantJoin(0);
+		notDatedTableMapper.setName("notDatedTable_Reverse");
+		return notDatedTableMapper;
+	}
+
+	private static Mapper datedEntityDescTypeReverseMapper = null;
+	public static Mapper zGetDatedTableDatedEntityDescTypeReverseMapper()
+	{
+		if (datedEntityDescTypeReverseMapper == null)
+		{
+			datedEntityDescTypeReverseMapper = zConstructDatedTableDatedEntityDescTypeReverseMapper();
+		}
+
+		return datedEntityDescTypeReverseMapper;
+	}
+
+	private static Mapper datedEntityDescTypeMapper = null;
+	public static Mapper zGetDatedTableDatedEntityDescTypeMapper()
+	{
+		if (datedEntityDescTypeMapper == null)
+		{
+			datedEntityDescTypeMapper = zConstructDatedTableDatedEntityDescTypeMapper();
+		}
+
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper datedEntityDescTypePureReverseMapper = null;
+	public static Mapper zGetDatedTableDatedEntityDescTypePureReverseMapper()
+	{
+		if (datedEntityDescTypePureReverseMapper == null)
+		{
+			datedEntityDescTypePureReverseMapper = zConstructDatedTableDatedEntityDescTypePureReverseMapper();
+		}
+
+		return datedEntityDescTypePureReverseMapper;
+	}
+
+	private static Mapper zConstructDatedTableDatedEntityDescTypePureReverseMapper()
+	{
+		InternalList datedEntityDescTypec0MapperMapperList = new InternalList(3);
+		datedEntityDescTypec0MapperMapperList.add(DatedTableFinder.zGetConstantJoin(2));
+		datedEntityDescTypec0MapperMapperList.add(DatedTableFinder.zGetConstantJoin(4));
+		datedEntityDescTypec0MapperMapperList.add(DatedTableFinder.zGetConstantJoin(6));
+		Mapper datedEntityDescTypec0Mapper = new MultiEqualityMapper(datedEntityDescTypec0MapperMapperList);
+		InternalList datedEntityDescTypec1MapperMapperList = new InternalList(3);
+		datedEntityDescTypec1MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(0));
+		datedEntityDescTypec1MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(2));
+		datedEntityDescTypec1MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(4));
+		Mapper datedEntityDescTypec1Mapper = new MultiEqualityMapper(datedEntityDescTypec1MapperMapperList);
+		Mapper datedEntityDescTypeMapper = new ChainedMapper(datedEntityDescTypec0Mapper,datedEntityDescTypec1Mapper);
+		datedEntityDescTypeMapper.setName("datedEntityDescType");
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper zConstructDatedTableDatedEntityDescTypeReverseMapper()
+	{
+		InternalList datedEntityDescTypec0MapperMapperList = new InternalList(3);
+		datedEntityDescTypec0MapperMapperList.add(DatedTableFinder.zGetConstantJoin(2));
+		datedEntityDescTypec0MapperMapperList.add(DatedTableFinder.zGetConstantJoin(4));
+		datedEntityDescTypec0MapperMapperList.add(DatedTableFinder.zGetConstantJoin(6));
+		Mapper datedEntityDescTypec0Mapper = new MultiEqualityMapper(datedEntityDescTypec0MapperMapperList);
+		InternalList datedEntityDescTypec1MapperMapperList = new InternalList(3);
+		datedEntityDescTypec1MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(0));
+		datedEntityDescTypec1MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(2));
+		datedEntityDescTypec1MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(4));
+		Mapper datedEntityDescTypec1Mapper = new MultiEqualityMapper(datedEntityDescTypec1MapperMapperList);
+		Mapper datedEntityDescTypeMapper = new ChainedMapper(datedEntityDescTypec0Mapper,datedEntityDescTypec1Mapper);
+		datedEntityDescTypeMapper.setName("datedEntityDescType");
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper zConstructDatedTableDatedEntityDescTypeMapper()
+	{
+		InternalList datedEntityDescTypec0MapperMapperList = new InternalList(3);
+		datedEntityDescTypec0MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(1));
+		datedEntityDescTypec0MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(3));
+		datedEntityDescTypec0MapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(5));
+		Mapper datedEntityDescTypec0Mapper = new MultiEqualityMapper(datedEntityDescTypec0MapperMapperList);
+		InternalList datedEntityDescTypec1MapperMapperList = new InternalList(3);
+		datedEntityDescTypec1MapperMapperList.add(DatedTableFinder.zGetConstantJoin(3));
+		datedEntityDescTypec1MapperMapperList.add(DatedTableFinder.zGetConstantJoin(5));
+		datedEntityDescTypec1MapperMapperList.add(DatedTableFinder.zGetConstantJoin(7));
+		Mapper datedEntityDescTypec1Mapper = new MultiEqualityMapper(datedEntityDescTypec1MapperMapperList);
+		Mapper datedEntityDescTypeMapper = new ChainedMapper(datedEntityDescTypec0Mapper,datedEntityDescTypec1Mapper);
+		datedEntityDescTypeMapper.setName("datedEntityDescType_Reverse");
+		return datedEntityDescTypeMapper;
+	}
+
+	private static Mapper datedEntityDescTypeMapperFragment = null;
+	public static Mapper zGetDatedEntityDescTypeMapperFragment()
+	{
+		if (datedEntityDescTypeMapperFragment == null)
+		{
+			datedEntityDescTypeMapperFragment = zConstructDatedEntityDescTypeMapperFragment();
+		}
+
+		return datedEntityDescTypeMapperFragment;
+	}
+
+	private static Mapper zConstructDatedEntityDescTypeMapperFragment()
+	{
+		InternalList datedEntityDescTypeMapperMapperList = new InternalList(3);
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(1));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(3));
+		datedEntityDescTypeMapperMapperList.add(DatedEntityDescFinder.zGetConstantJoin(5));
+		return new MultiEqualityMapper(datedEntityDescTypeMapperMapperList);
+	}
+
+	/** maps to DATED_TABLE.ID **/
+	public static IntegerAttribute<DatedTable> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to DATED_TABLE.FROM_Z **/
+	public static TimestampAttribute<DatedTable> businessDateFrom()
+	{
+		return finder.businessDateFrom();
+	}
+
+	/** maps to DATED_TABLE.THRU_Z **/
+	public static TimestampAttribute<DatedTable> businessDateTo()
+	{
+		return finder.businessDateTo();
+	}
+
+	/** maps to DATED_TABLE.IN_Z **/
+	public static TimestampAttribute<DatedTable> processingDateFrom()
+	{
+		return finder.processingDateFrom();
+	}
+
+	/** maps to DATED_TABLE.OUT_Z **/
+	public static TimestampAttribute<DatedTable> processingDateTo()
+	{
+		return finder.processingDateTo();
+	}
+
+	public static AsOfAttribute<DatedTable> businessDate()
+	{
+		return finder.businessDate();
+	}
+
+	public static AsOfAttribute<DatedTable> processingDate()
+	{
+		return finder.processingDate();
+	}
+
+	public static NotDatedTableFinder.NotDatedTableSingleFinderForRelatedClasses<DatedTable, NotDatedTable, DatedTable> notDatedTable()
+	{
+		return finder.notDatedTable();
+	}
+
+	public static class DatedTableNotDatedTableFinderSubclass<ParentOwnerType> extends NotDatedTableFinder.NotDatedTableSingleFinderForRelatedClasses<ParentOwnerType, NotDatedTable, DatedTable>
+	{
+		public DatedTableNotDatedTableFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "notDatedTable";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedTableNotDatedTableFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected NotDatedTable plainValueOf(DatedTable _obj)
+		{
+			return _obj.getNotDatedTable();
+		}
+
+		protected NotDatedTableList plainListValueOf(Object _obj)
+		{
+			return ((DatedTableList)_obj).getNotDatedTables();
+		}
+	}
+
+	public static DatedEntityDescTypeFinder.DatedEntityDescTypeSingleFinderForRelatedClasses<DatedTable, DatedEntityDescType, DatedTable> datedEntityDescType()
+	{
+		return finder.datedEntityDescType();
+	}
+
+	public static class DatedTableDatedEntityDescTypeFinderSubclass<ParentOwnerType> extends DatedEntityDescTypeFinder.DatedEntityDescTypeSingleFinderForRelatedClasses<ParentOwnerType, DatedEntityDescType, DatedTable>
+	{
+		public DatedTableDatedEntityDescTypeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = COMPLEX_TO_ONE;
+			this._name = "datedEntityDescType";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new DatedTableDatedEntityDescTypeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected DatedEntityDescType plainValueOf(DatedTable _obj)
+		{
+			return _obj.getDatedEntityDescType();
+		}
+
+		protected DatedEntityDescTypeList plainListValueOf(Object _obj)
+		{
+			return ((DatedTableList)_obj).getDatedEntityDescTypes();
+		}
+	}
+
+	public static Operation eq(DatedTable other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static DatedTableSingleFinder<DatedTable, Object, DatedTable> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return new AsOfAttribute[] 
+		{
+			businessDate()
+			, processingDate()
+		}
+
+		;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			NotDatedTableFinder.getFinderInstance(),NotDatedWithBusinessDateFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), true));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			NotDatedTableFinder.getFinderInstance(),NotDatedWithBusinessDateFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.dated.DatedTable");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
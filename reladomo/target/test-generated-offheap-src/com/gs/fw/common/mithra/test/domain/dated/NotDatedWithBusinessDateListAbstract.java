@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NotDatedWithBusinessDateListAbstract extends DelegatingList<NotDatedWithBusinessDate> implements MithraTransactionalList<NotDatedWithBusinessDate>
+{
+	public NotDatedWithBusinessDateListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NotDatedWithBusinessDateListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NotDatedWithBusinessDateListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NotDatedWithBusinessDateListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NotDatedWithBusinessDate[] elements()
+	{
+		NotDatedWithBusinessDate[] result = new NotDatedWithBusinessDate[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NotDatedWithBusinessDateList intersection(NotDatedWithBusinessDateList another)
+	{
+		return (NotDatedWithBusinessDateList)super.intersection(another);
+	}
+
+	public NotDatedWithBusinessDate getNotDatedWithBusinessDateAt(int index)
+	{
+		return (NotDatedWithBusinessDate)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = DatedTable.id and this.businessDate = DatedTable.businessDate</pre>
+	* @return The dated table
+	*/
+	public DatedTableList getDatedTables()
+	{
+		return (DatedTableList) this.getDelegated().resolveRelationship(this, NotDatedWithBusinessDateFinder.datedTable());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NotDatedWithBusinessDateFinder.getMithraObjectPortal();
+	}
+
+	public NotDatedWithBusinessDateList getNonPersistentCopy()
+	{
+		NotDatedWithBusinessDateList result = new NotDatedWithBusinessDateList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NotDatedWithBusinessDateList asAdhoc()
+	{
+		return (NotDatedWithBusinessDateList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<NotDatedWithBusinessDate> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public NotDatedWithBusinessDateList merge(MithraTransactionalList<NotDatedWithBusinessDate> incoming, TopLevelMergeOptions<NotDatedWithBusinessDate> mergeOptions)
+	{
+		return (NotDatedWithBusinessDateList) super.merge(incoming, mergeOptions);
+	}
+
+	public NotDatedWithBusinessDateList getDetachedCopy()
+	{
+		NotDatedWithBusinessDateList result = new NotDatedWithBusinessDateList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setBusinessDate(Timestamp newValue)
+	{
+		zSetTimestamp(NotDatedWithBusinessDateFinder.businessDate(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(NotDatedWithBusinessDateFinder.id(), newValue);
+	}
+
+	public void setQuantity(double newValue)
+	{
+		zSetDouble(NotDatedWithBusinessDateFinder.quantity(), newValue);
+	}
+
+	public void setQuantityNull()
+	{
+		zSetAttributeNull(NotDatedWithBusinessDateFinder.quantity());
+	}
+}
@@ -0,0 +1,592 @@
+package com.gs.fw.common.mithra.test.domain.dated;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import java.util.*;
+import java.sql.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.AsOfAttribute;
+import com.gs.fw.common.mithra.cache.*;
+import com.gs.fw.common.mithra.cache.offheap.*;
+import com.gs.fw.common.mithra.connectionmanager.*;
+import com.gs.fw.common.mithra.database.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.integer.IntegerResultSetParser;
+import com.gs.fw.common.mithra.databasetype.*;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.finder.asofop.AsOfOperation;
+import com.gs.fw.common.mithra.remote.RemoteMithraService;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public abstract class TestTamsAccountIncomeFunctionDatabaseObjectAbstract extends MithraAbstractDatedDatabaseObject implements MithraDatabaseObject, MithraDatedObjectFactory
+,MithraReplicatedDatabaseObject
+{
+	private SourcelessConnectionManager connectionManager;
+	private SchemaManager schemaManager;
+	private TablePartitionManager tablePartitionManager;
+	private static final String COL_LIST_WITHOUT_PK = "PERCENTAGE_F,FROM_Z,THRU_Z,IN_Z,OUT_Z";
+	private static final String COL_LIST_WITHOUT_PK_WITH_ALIAS = "t0.PERCENTAGE_F,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+	private static final String PK_WITH_ALIAS = "t0.ACCT_C = ?";
+	private static final String PK_INDEX_COLS = "ACCT_C";
+	protected TestTamsAccountIncomeFunctionDatabaseObjectAbstract()
+	{
+		super("TestTamsAccountIncomeFunction", "com.gs.fw.common.mithra.test.domain.dated.TestTamsAccountIncomeFunctionFinder",
+			6, 6,
+			COL_LIST_WITHOUT_PK, COL_LIST_WITHOUT_PK_WITH_ALIAS,
+			false, false, false,
+			PK_WITH_ALIAS,
+			PK_INDEX_COLS);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return TestTamsAccountIncomeFunctionFinder.getMithraObjectPortal();
+	}
+
+	public RelatedFinder getFinder()
+	{
+		return TestTamsAccountIncomeFunctionFinder.getFinderInstance();
+	}
+
+	public static TestTamsAccountIncomeFunctionData allocateOnHeapData()
+	{
+		return new TestTamsAccountIncomeFunctionData.TestTamsAccountIncomeFunctionDataOnHeap();
+	}
+
+	public static TestTamsAccountIncomeFunctionData allocateOffHeapData()
+	{
+		return new TestTamsAccountIncomeFunctionData.TestTamsAccountIncomeFunctionDataOffHeap();
+	}
+
+	public MithraDataObject deserializeFullData(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		MithraDataObject data = new TestTamsAccountIncomeFunctionData.TestTamsAccountIncomeFunctionDataOnHeap();
+		data.zDeserializeFullData(in);
+		return data;
+	}
+
+	public void deserializeAsOfAttributes(ObjectInput in, Timestamp[] asof) throws IOException, ClassNotFoundException
+	{
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsAccountIncomeFunctionFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsAccountIncomeFunctionFinder.isFullCache());
+	}
+
+	public MithraObject deserializeForRefresh(ObjectInput in) throws IOException, ClassNotFoundException
+	{
+		TestTamsAccountIncomeFunctionData data = new TestTamsAccountIncomeFunctionData.TestTamsAccountIncomeFunctionDataOnHeap();
+		data.zDeserializePrimaryKey(in);
+		Timestamp[] asof = new Timestamp[2];
+		asof[0] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsAccountIncomeFunctionFinder.isFullCache());
+		asof[1] = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), TestTamsAccountIncomeFunctionFinder.isFullCache());
+		return this.createObject(data, asof);
+	}
+
+	public Cache instantiateFullCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		if (config.isOffHeapFullCache())
+		{
+			OffHeapDataStorage dataStorage = new FastUnsafeOffHeapDataStorage(TestTamsAccountIncomeFunctionData.OFF_HEAP_DATA_SIZE, "com.gs.fw.common.mithra.test.domain.dated.TestTamsAccountIncomeFunction", TestTamsAccountIncomeFunctionFinder.getFinderInstance());
+			TestTamsAccountIncomeFunctionData.TestTamsAccountIncomeFunctionDataOffHeap.zSetStorage(dataStorage);
+			result = new OffHeapFullDatedCache(TestTamsAccountIncomeFunctionFinder.getPrimaryKeyAttributes(), TestTamsAccountIncomeFunctionFinder.getAsOfAttributes(), this, TestTamsAccountIncomeFunctionFinder.getImmutableAttributes(), dataStorage);
+		}
+		else
+		{
+			result = new FullDatedCache(TestTamsAccountIncomeFunctionFinder.getPrimaryKeyAttributes(), TestTamsAccountIncomeFunctionFinder.getAsOfAttributes(), this, TestTamsAccountIncomeFunctionFinder.getImmutableAttributes());
+		}
+
+		initPortal(result, config);
+		return result;
+	}
+
+	public Cache instantiatePartialCache(MithraConfigurationManager.Config config)
+	{
+		Cache result;
+		result = new PartialDatedCache(TestTamsAccountIncomeFunctionFinder.getPrimaryKeyAttributes(), TestTamsAccountIncomeFunctionFinder.getAsOfAttributes(), this, TestTamsAccountIncomeFunctionFinder.getImmutableAttributes(), config.getCacheTimeToLive(), config.getRelationshipCacheTimeToLive());
+		initPortal(result, config);
+		return result;
+	}
+
+	private void initPortal(Cache cache, MithraConfigurationManager.Config config)
+	{
+		if (config.isThreeTierClient())
+		{
+			TestTamsAccountIncomeFunctionFinder.initializeClientPortal(this, cache, config);
+		}
+		else
+		{
+			TestTamsAccountIncomeFunctionFinder.initializePortal(this, cache, config);
+		}
+	}
+
+	public List getSimulatedSequenceInitValues()
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueForSelectedObjectGeneric(SqlQuery query, int queryNumber)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueFromObjectGeneric(MithraDataObject object)
+	{
+		return null;
+	}
+
+	public Object getSourceAttributeValueGeneric(SqlQuery query, MapperStackImpl mapperStack, int queryNumber)
+	{
+		return null;
+	}
+
+	public String getDatabaseIdentifierGenericSource (Object source)
+	{
+		return connectionManager.getDatabaseIdentifier();
+	}
+
+	public DatabaseType getDatabaseTypeGenericSource(Object source)
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZoneGenericSource(Object source)
+	{
+		return getDatabaseTimeZone();
+	}
+
+	public Connection getConnectionGenericSource(Object source)
+	{
+		return connectionManagerWrapper.getConnection();
+	}
+
+	public BulkLoader createBulkLoaderGenericSource(Object source) throws BulkLoaderException 
+	{
+		return connectionManager.createBulkLoader();
+	}
+
+	public MithraDataObject inflateDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestTamsAccountIncomeFunctionData(rs, dt);
+	}
+
+	public void inflateNonPkDataGenericSource(MithraDataObject data, ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		inflateNonPkTestTamsAccountIncomeFunctionData(1, (TestTamsAccountIncomeFunctionData) data, rs, dt);
+	}
+
+	public MithraDataObject inflatePkDataGenericSource(ResultSet rs, Object source, DatabaseType dt)
+	throws SQLException 
+	{
+		return inflateTestTamsAccountIncomeFunctionPkData(rs, dt);
+	}
+
+	public String getSchemaGenericSource(Object source)
+	{
+		if (this.schemaManager != null)
+		{
+			return this.schemaManager.getSchema(this.getDefaultSchema());
+		}
+
+		return this.getDefaultSchema();
+	}
+
+	public String getTableNameGenericSource(Object source) throws MithraDatabaseException
+	{
+		return getTestTamsAccountIncomeFunctionTableName();
+	}
+
+	public String getTestTamsAccountIncomeFunctionTableName() throws MithraDatabaseException
+	{
+		if (this.tablePartitionManager != null)
+		{
+			return this.tablePartitionManager.getTableName(this.getDefaultTableName());
+		}
+
+		return this.getDefaultTableName();
+	}
+
+	public void setPrimaryKeyAttributes(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestTamsAccountIncomeFunctionData data = (TestTamsAccountIncomeFunctionData)dataObj;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountId());
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getBusinessDateTo().getTime() == TestTamsAccountIncomeFunctionFinder.businessDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getBusinessDateTo(), false, conversionTimeZone);
+		pos++;
+		conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		if (data.getProcessingDateTo().getTime() == TestTamsAccountIncomeFunctionFinder.processingDate().getInfinityDate().getTime())
+		{
+			conversionTimeZone = MithraTimestamp.DefaultTimeZone;
+		}
+
+		dt.setTimestamp(stm, pos, data.getProcessingDateTo(), false, conversionTimeZone);
+		pos++;
+	}
+
+	public int setPrimaryKeyAttributesWithoutOptimistic(PreparedStatement stm, int pos, MithraDataObject dataObj,
+		TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		this.setPrimaryKeyAttributes(stm, pos, dataObj, databaseTimeZone, dt);
+		return -1;
+	}
+
+	public String getPrimaryKeyWhereSql()
+	{
+		return "ACCT_C = ?";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttribute(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getPrimaryKeyWhereSqlWithNullableAttributeWithDefaultAlias(MithraDataObject dataObj)
+	{
+		return "";
+	}
+
+	public String getColumnListWithPk(String databaseAlias)
+	{
+		if (databaseAlias.equals(SqlQuery.DEFAULT_DATABASE_ALIAS))
+		{
+			return "t0.ACCT_C,t0.PERCENTAGE_F,t0.FROM_Z,t0.THRU_Z,t0.IN_Z,t0.OUT_Z";
+		}
+
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias).append(".").append("ACCT_C");
+		result.append(",").append(databaseAlias).append(".").append("PERCENTAGE_F");
+		result.append(",").append(databaseAlias).append(".").append("FROM_Z");
+		result.append(",").append(databaseAlias).append(".").append("THRU_Z");
+		result.append(",").append(databaseAlias).append(".").append("IN_Z");
+		result.append(",").append(databaseAlias).append(".").append("OUT_Z");
+		return result.toString();
+	}
+
+	public Object getConnectionManager()
+	{
+		return connectionManager;
+	}
+
+	public void setConnectionManager(Object connectionManager, ConnectionManagerWrapper wrapper)
+	{
+		this.connectionManager = (SourcelessConnectionManager)connectionManager;
+		this.connectionManagerWrapper = wrapper;
+	}
+
+	public TestTamsAccountIncomeFunctionData inflateTestTamsAccountIncomeFunctionData(ResultSet rs, DatabaseType dt)
+	throws SQLException
+	{
+		TestTamsAccountIncomeFunctionData data = inflateTestTamsAccountIncomeFunctionPkData(rs, dt);
+		inflateNonPkTestTamsAccountIncomeFunctionData(2, data, rs, dt);
+		return data;
+	}
+
+	public TestTamsAccountIncomeFunctionData inflateTestTamsAccountIncomeFunctionPkData(ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		TestTamsAccountIncomeFunctionData _data = new TestTamsAccountIncomeFunctionData.TestTamsAccountIncomeFunctionDataOnHeap();
+		int _pos = 1;
+		_data.setAccountId(trimString(_rs.getString(_pos++)));
+		return _data;
+	}
+
+	public void inflateNonPkTestTamsAccountIncomeFunctionData(int _pos, TestTamsAccountIncomeFunctionData _datax, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		{
+			TestTamsAccountIncomeFunctionData _data = _datax;
+			_data.setPercentage(_rs.getFloat(_pos++));
+			if (_rs.wasNull())
+			{
+				_data.setPercentageNull();
+			}
+
+			Timestamp businessDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setBusinessDateFrom(businessDateFromtimestampValue);
+			Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (businessDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestTamsAccountIncomeFunctionFinder.businessDate().getInfinityDate());
+			_data.setBusinessDateTo(businessDateTotimestampValue);
+			Timestamp processingDateFromtimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			_data.setProcessingDateFrom(processingDateFromtimestampValue);
+			Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+			if (processingDateTotimestampValue == null)
+			{
+				throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+			}
+
+			processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+				TestTamsAccountIncomeFunctionFinder.processingDate().getInfinityDate());
+			_data.setProcessingDateTo(processingDateTotimestampValue);
+		}
+	}
+
+	public DatabaseType getDatabaseType()
+	{
+		return connectionManager.getDatabaseType();
+	}
+
+	public TimeZone getDatabaseTimeZone()
+	{
+		return connectionManager.getDatabaseTimeZone();
+	}
+
+	protected String getSchema()
+	{
+		return this.getSchemaGenericSource(null);
+	}
+
+	public String getFullyQualifiedTableName()
+	{
+		String schema = this.getSchemaGenericSource(null);
+		String tableName = getTestTamsAccountIncomeFunctionTableName();
+		return this.getDatabaseType().getFullyQualifiedTableName(schema, tableName);
+	}
+
+	public void setSchemaManager(Object schemaManager)
+	{
+		if( schemaManager instanceof SchemaManager )
+		{
+			this.schemaManager = (SchemaManager) schemaManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Schema manager class " + schemaManager.getClass().getName()
+			+ " does not implement SchemaManager.class" );
+		}
+	}
+
+	public void setTablePartitionManager(Object tablePartitionManager)
+	{
+		if( tablePartitionManager instanceof TablePartitionManager )
+		{
+			this.tablePartitionManager = (TablePartitionManager) tablePartitionManager;
+		}
+		else
+		{
+			throw new IllegalArgumentException( "Table partition manager class " + tablePartitionManager.getClass().getName()
+			+ " does not implement TablePartitionManager.class" );
+		}
+	}
+
+	public String getTableName()
+	{
+		return this.getDefaultTableName();
+	}
+
+	public String getDefaultTableName()
+	{
+		return "TEST_TAMS_ACCT_IF";
+	}
+
+	public boolean isReplicated()
+	{
+		return true;
+	}
+
+	private String getFullyQualifiedChildQueueTableName()
+	{
+		return this.getFullyQualifiedChildQueueTableNameGenericSource(null);
+	}
+
+	public String getReplicationTableColumnList(String databaseAlias)
+	{
+		StringBuffer result = new StringBuffer((databaseAlias.length()+15)*6);
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("ACCT_C");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("THRU_Z");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("OUT_Z");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("action");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("event_seq_no");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("last_update_time");
+		result.append(",");
+		result.append(databaseAlias);
+		result.append(".");
+		result.append("last_update_userid");
+		return result.toString();
+	}
+
+	public void inflateReplicatedAsOfAttributeTestTamsAccountIncomeFunctionData(int _pos, TestTamsAccountIncomeFunctionData _data, ResultSet _rs, DatabaseType _dt)
+	throws SQLException
+	{
+		Timestamp businessDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		if (businessDateTotimestampValue == null)
+		{
+			throw new MithraBusinessException("attribute ' businessDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		businessDateTotimestampValue = MithraTimestamp.zFixInfinity(businessDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+			TestTamsAccountIncomeFunctionFinder.businessDate().getInfinityDate());
+		_data.setBusinessDateTo(businessDateTotimestampValue);
+		Timestamp processingDateTotimestampValue = _dt.getTimestampFromResultSet(_rs, _pos++, MithraTimestamp.DefaultTimeZone);
+		if (processingDateTotimestampValue == null)
+		{
+			throw new MithraBusinessException("attribute ' processingDateTo ' is null in database but is not marked as nullable in mithra xml for primary key / "+_data.zGetPrintablePrimaryKey());
+		}
+
+		processingDateTotimestampValue = MithraTimestamp.zFixInfinity(processingDateTotimestampValue, MithraTimestamp.DefaultTimeZone,
+			TestTamsAccountIncomeFunctionFinder.processingDate().getInfinityDate());
+		_data.setProcessingDateTo(processingDateTotimestampValue);
+	}
+
+	public Map findReplicatedData(int minEventId, int maxEventId)
+	{
+		Map replicationRowsByActionMap = new HashMap(3);
+		long startTime = System.currentTimeMillis();
+		DatabaseType dt = this.getDatabaseType();
+		StringBuffer fromClause = new StringBuffer();
+		fromClause.append(this.getFullyQualifiedChildQueueTableName());
+		fromClause.append(" "+SqlQuery.DEFAULT_DATABASE_ALIAS);
+		String whereClause = "event_seq_no >= ? and event_seq_no <= ?";
+		String statement = dt.getSelect(this.getReplicationTableColumnList(SqlQuery.DEFAULT_DATABASE_ALIAS), fromClause.toString(), whereClause, true);
+		Connection con = null;
+		ResultSet rs = null;
+		PreparedStatement stm = null;
+		long count = 0;
+		try
+		{
+			con = this.getConnectionForReadGenericSource(null);
+			if(sqlLogger.isDebugEnabled())
+			{
+				PrintablePreparedStatement pps = new PrintablePreparedStatement(statement);
+				pps.setInt(1, minEventId);
+				pps.setInt(2, maxEventId);
+				sqlLogger.debug("find with: " + pps.getPrintableStatement());
+			}
+
+			stm = con.prepareStatement(statement);
+			stm.setInt(1, minEventId);
+			stm.setInt(2, maxEventId);
+			rs = stm.executeQuery();
+			while (rs.next())
+			{
+				TestTamsAccountIncomeFunctionData data = this.inflateTestTamsAccountIncomeFunctionPkData(rs, dt);
+				inflateReplicatedAsOfAttributeTestTamsAccountIncomeFunctionData(2, data, rs, dt);
+				String action = rs.getString(4);
+				List replicationRowsByActionList = (List) replicationRowsByActionMap.get(action);
+				if(replicationRowsByActionList == null)
+				{
+					replicationRowsByActionList = new ArrayList();
+					replicationRowsByActionMap.put(action, replicationRowsByActionList);
+				}
+
+				replicationRowsByActionList.add(data);
+				count++;
+			}
+
+			rs.close();
+			rs = null;
+			stm.close();
+			stm = null;
+		}
+
+		catch(SQLException e)
+		{
+			analyzeAndWrapSqlException("find failed "+e.getMessage(), e, con);
+		}
+
+		finally
+		{
+			closeDatabaseObjects(con, stm, rs);
+		}
+
+		if(sqlLogger.isDebugEnabled())
+		{
+			long totalTime = System.currentTimeMillis() - startTime;
+			sqlLogger.debug("retrieved " + count+" objects, "+
+			(count > 0 ? totalTime/count +" ms per" : totalTime + " ms"));
+		}
+
+		return replicationRowsByActionMap;
+	}
+
+	public void createChildQueueTestTable()
+	{
+		DatabaseType dt = this.getDatabaseType();
+		StringBuffer statement = new StringBuffer("create table ");
+		statement.append(this.getFullyQualifiedChildQueueTableName());
+		statement.append("( event_seq_no numeric(10,0) not null, ");
+		statement.append(" last_update_time "+dt.getSqlDataTypeForTimestamp());
+		statement.append(" , ");
+		statement.append(" ACCT_C varchar not null,");
+		statement.append(" THRU_Z datetime not null,");
+		statement.append(" OUT_Z datetime not null,");
+		statement.append(" action char(1) not null, ");
+		statement.append(" last_update_userid char(30) not null )");
+		executeSqlStatementGenericSource(statement.toString(), null );
+	}
+
+	public Timestamp[] getAsOfDates() 
+	{
+		return new Timestamp[2];
+	}
+
+	public MithraDatedObject createObject(MithraDataObject data, Timestamp[] asOfDates)
+	{
+		TestTamsAccountIncomeFunction newObject = new TestTamsAccountIncomeFunction(asOfDates[0]
+		, asOfDates[1]
+		);
+		newObject.zSetFromTestTamsAccountIncomeFunctionData((TestTamsAccountIncomeFunctionData) data);
+		return newObject;
+	}
+
+	public String getAsOfAttributeWhereSql(MithraDataObject data) 
+	{
+		String result = "";
+		result += " AND ";
+		result +="THRU_Z = ?";
+		result += " AND ";
+		result +="OUT_Z = ?";
+		return result;
+	}
+
+	public int setPrimaryKeyAttributesWithoutDates(PreparedStatement stm, int pos, MithraDataObject dataObject, TimeZone databaseTimeZone, DatabaseType dt) throws SQLException
+	{
+		TestTamsAccountIncomeFunctionData data = (TestTamsAccountIncomeFunctionData)dataObject;
+		TimeZone conversionTimeZone = null;
+		stm.setString(pos++, data.getAccountId());
+		return pos;
+	}
+}
@@ -0,0 +1,7248 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.behavior.txparticipation.MithraOptimisticLockException;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistenceState;
+import com.gs.fw.common.mithra.behavior.state.DatedPersistedState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.util.StatisticCounter;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/datedtransactional/Abstract.jsp
+public abstract class EvoType1DatedTxnTypesAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraDatedTransactionalObjectImpl implements Serializable
+{
+	private static TemporalDirector temporalDirector = new GenericBiTemporalDirector(
+		EvoType1DatedTxnTypesFinder.businessDate()
+	,
+		EvoType1DatedTxnTypesFinder.processingDate()
+	, EvoType1DatedTxnTypesFinder.zGetDoubleAttributes(),EvoType1DatedTxnTypesFinder.zGetBigDecimalAttributes());
+	protected transient Timestamp businessDate;
+	protected transient Timestamp processingDate;
+	private static final Logger logger = LoggerFactory.getLogger(EvoType1DatedTxnTypes.class.getName());
+	private static byte MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	private static final RelationshipHashStrategy forrootEvoOrder = new RootEvoOrderRhs();
+	private static final RelationshipHashStrategy forrootEvoNestedEvoOrderStatus = new RootEvoNestedEvoOrderStatusRhs();
+	private static final class RootEvoOrderRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType1DatedTxnTypesData _castedSrcData = (EvoType1DatedTxnTypesData) _srcData;
+			OrderData _castedTargetData = (OrderData) _targetData;
+			if (!_castedSrcData.isRootEvoIntAttributeNull() && _castedSrcData.getRootEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType1DatedTxnTypesData _castedSrcData = (EvoType1DatedTxnTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRootEvoIntAttribute(), _castedSrcData.isRootEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	private static final class RootEvoNestedEvoOrderStatusRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			EvoType1DatedTxnTypesData _castedSrcData = (EvoType1DatedTxnTypesData) _srcData;
+			OrderStatusData _castedTargetData = (OrderStatusData) _targetData;
+			if (!_castedSrcData.isRootEvoNestedEvoIntAttributeNull() && _castedSrcData.getRootEvoNestedEvoIntAttribute() == _castedTargetData.getOrderId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			EvoType1DatedTxnTypesData _castedSrcData = (EvoType1DatedTxnTypesData) _srcData;
+			return HashUtil.hash(_castedSrcData.getRootEvoNestedEvoIntAttribute(), _castedSrcData.isRootEvoNestedEvoIntAttributeNull());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			return computeHashCodeFromRelated(_srcObject, _srcData);
+		}
+	}
+
+	public EvoType1DatedTxnTypesAbstract(Timestamp businessDate
+	, Timestamp processingDate
+	)
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(businessDate, EvoType1DatedTxnTypesFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(processingDate, EvoType1DatedTxnTypesFinder.isFullCache());
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public EvoType1DatedTxnTypesAbstract(Timestamp businessDate)
+	{
+		this(businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public EvoType1DatedTxnTypesData zSynchronizedGetData()
+	{
+		return (EvoType1DatedTxnTypesData) super.zSynchronizedGetData();
+	}
+
+	protected boolean checkAsOfAttributesForRefresh(MithraDataObject current)
+	{
+		boolean refresh = !EvoType1DatedTxnTypesFinder.businessDate().dataMatches(current, this.businessDate);
+		if (!refresh)
+		{
+			refresh = !EvoType1DatedTxnTypesFinder.processingDate().dataMatches(current, this.processingDate);
+		}
+
+		return refresh;
+	}
+
+	public TemporalDirector zGetTemporalDirector()
+	{
+		return temporalDirector;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.insert(this);
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		return navigationStats;
+	}
+
+	public EvoType1DatedTxnTypes zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypes original = (EvoType1DatedTxnTypes) _behavior.copyThenInsert(this);
+		return original;
+	}
+
+	public void cascadeInsertUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.insertUntil(exclusiveUntil);
+	}
+
+	public EvoType1DatedTxnTypes copyDetachedValuesToOriginalOrInsertIfNewUntil(Timestamp exclusiveUntil)
+	{
+		return (EvoType1DatedTxnTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNewUntil(exclusiveUntil);
+	}
+
+	public EvoType1DatedTxnTypes copyDetachedValuesToOriginalOrInsertIfNewUntilImpl(Timestamp exclusiveUntil, MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		return (EvoType1DatedTxnTypes) behavior.updateOriginalOrInsertUntil(this, exclusiveUntil);
+	}
+
+	protected DatedTransactionalState zCreateDatedTransactionalState(TemporalContainer container, MithraDataObject data, MithraTransaction threadTx)
+	{
+		return new DatedTransactionalState(threadTx,
+			this.persistenceState, container, data, businessDate,
+			EvoType1DatedTxnTypesFinder.processingDate().getInfinityDate().equals(this.processingDate) || threadTx.isInFuture(this.processingDate.getTime()));
+	}
+
+	public EvoType1DatedTxnTypes getNonPersistentCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		MithraDataObject data = behavior.getCurrentDataForRead(this);
+		MithraDataObject newData = data.copy(!behavior.isPersisted());
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		EvoType1DatedTxnTypesAbstract result = (EvoType1DatedTxnTypesAbstract)
+		((MithraDatedObjectFactory) this.zGetPortal().getMithraDatedObjectFactory()).createObject(newData, asOfAttributes);
+		result.zSetNonTxPersistenceState(MEMORY_STATE);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.IN_MEMORY);
+		}
+
+		return (EvoType1DatedTxnTypes ) result;
+	}
+
+	public EvoType1DatedTxnTypes zFindOriginal()
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) this.currentData;
+		Operation op;
+		op = EvoType1DatedTxnTypesFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute());
+		op = op.and(EvoType1DatedTxnTypesFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute().eq(data.getPkBigDecimalAttribute()));
+		op = op.and(EvoType1DatedTxnTypesFinder.businessDate().eq(this.getBusinessDate()));
+		op = op.and(EvoType1DatedTxnTypesFinder.processingDate().eq(this.getProcessingDate()));
+		return EvoType1DatedTxnTypesFinder.findOne(op);
+	}
+
+	public EvoType1DatedTxnTypes getDetachedCopy() throws MithraBusinessException
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		Timestamp[] asOfAttributes = new Timestamp[2];
+		asOfAttributes[0] = this.businessDate;
+		asOfAttributes[1] = this.processingDate;
+		EvoType1DatedTxnTypesAbstract result = (EvoType1DatedTxnTypesAbstract) behavior.getDetachedCopy(this, asOfAttributes);
+		if (result.transactionalState != null)
+		{
+			result.zSetTxPersistenceState(DatedPersistenceState.DETACHED);
+		}
+
+		return (EvoType1DatedTxnTypes ) result;
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	public EvoType1DatedTxnTypes copyDetachedValuesToOriginalOrInsertIfNewImpl(MithraTransaction tx)
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		return (EvoType1DatedTxnTypes) behavior.updateOriginalOrInsert(this);
+	}
+
+	public EvoType1DatedTxnTypes copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (EvoType1DatedTxnTypes) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == DatedPersistenceState.PERSISTED)
+		{
+			EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) this.currentData;
+			Operation op = EvoType1DatedTxnTypesFinder.businessDate().eq(this.businessDate);
+			op = op.and(EvoType1DatedTxnTypesFinder.processingDate().eq(this.processingDate));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute().eq(data.getPkBigDecimalAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkBooleanAttribute().eq(data.isPkBooleanAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkByteAttribute().eq(data.getPkByteAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkCharAttribute().eq(data.getPkCharAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkDateAttribute().eq(data.getPkDateAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkDoubleAttribute().eq(data.getPkDoubleAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkFloatAttribute().eq(data.getPkFloatAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkIntAttribute().eq(data.getPkIntAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkLongAttribute().eq(data.getPkLongAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkShortAttribute().eq(data.getPkShortAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkStringAttribute().eq(data.getPkStringAttribute()));
+			op = op.and(EvoType1DatedTxnTypesFinder.pkTimestampAttribute().eq(data.getPkTimestampAttribute()));
+			return EvoType1DatedTxnTypesFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public boolean zHasSameNullPrimaryKeyAttributes(MithraTransactionalObject other)
+	{
+		return true;
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d)
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime();
+	}
+
+	protected boolean zMustCheckCurrent(MithraDataObject d, Timestamp exclusiveUntil)
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) d;
+		Timestamp businessTo = data.getBusinessDateTo();
+		return businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime();
+	}
+
+	public boolean isBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isBooleanAttributeNull();
+	}
+
+	public boolean isBusinessDateFromNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateFromNull();
+	}
+
+	public boolean isBusinessDateToNull()
+	{
+		return this.zSynchronizedGetData().isBusinessDateToNull();
+	}
+
+	public boolean isByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isByteAttributeNull();
+	}
+
+	public boolean isCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isCharAttributeNull();
+	}
+
+	public boolean isDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isDateAttributeNull();
+	}
+
+	public boolean isDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isDoubleAttributeNull();
+	}
+
+	public boolean isFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isFloatAttributeNull();
+	}
+
+	public boolean isIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isIntAttributeNull();
+	}
+
+	public boolean isLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isLongAttributeNull();
+	}
+
+	protected boolean isPkBigDecimalAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkBigDecimalAttributeNull();
+	}
+
+	protected boolean isPkBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkBooleanAttributeNull();
+	}
+
+	protected boolean isPkByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkByteAttributeNull();
+	}
+
+	protected boolean isPkCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkCharAttributeNull();
+	}
+
+	protected boolean isPkDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkDateAttributeNull();
+	}
+
+	protected boolean isPkDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkDoubleAttributeNull();
+	}
+
+	protected boolean isPkFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkFloatAttributeNull();
+	}
+
+	protected boolean isPkIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkIntAttributeNull();
+	}
+
+	protected boolean isPkLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkLongAttributeNull();
+	}
+
+	protected boolean isPkShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkShortAttributeNull();
+	}
+
+	protected boolean isPkStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkStringAttributeNull();
+	}
+
+	protected boolean isPkTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isPkTimestampAttributeNull();
+	}
+
+	public boolean isProcessingDateFromNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateFromNull();
+	}
+
+	public boolean isProcessingDateToNull()
+	{
+		return this.zSynchronizedGetData().isProcessingDateToNull();
+	}
+
+	protected boolean isRootEvoBigDecimalAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoBigDecimalAttributeNull();
+	}
+
+	protected boolean isRootEvoBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoByteAttributeNull();
+	}
+
+	protected boolean isRootEvoCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoCharAttributeNull();
+	}
+
+	protected boolean isRootEvoDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoDateAttributeNull();
+	}
+
+	protected boolean isRootEvoDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoDoubleAttributeNull();
+	}
+
+	protected boolean isRootEvoFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoFloatAttributeNull();
+	}
+
+	protected boolean isRootEvoIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoIntAttributeNull();
+	}
+
+	protected boolean isRootEvoLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoLongAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoBigDecimalAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoBigDecimalAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoByteAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoCharAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoDateAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoDoubleAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoFloatAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoIntAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoBigDecimalAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoByteAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoCharAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDateAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoDateAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoFloatAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoIntAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoLongAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoShortAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoStringAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLeafEvoTimestampAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoLongAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoLongAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoShortAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoStringAttributeNull();
+	}
+
+	protected boolean isRootEvoNestedEvoTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoNestedEvoTimestampAttributeNull();
+	}
+
+	protected boolean isRootEvoShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoShortAttributeNull();
+	}
+
+	protected boolean isRootEvoStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoStringAttributeNull();
+	}
+
+	protected boolean isRootEvoTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isRootEvoTimestampAttributeNull();
+	}
+
+	public boolean isShortAttributeNull()
+	{
+		return this.zSynchronizedGetData().isShortAttributeNull();
+	}
+
+	public boolean isStringAttributeNull()
+	{
+		return this.zSynchronizedGetData().isStringAttributeNull();
+	}
+
+	public boolean isTimestampAttributeNull()
+	{
+		return this.zSynchronizedGetData().isTimestampAttributeNull();
+	}
+
+	public boolean isBooleanAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("booleanAttribute", data);
+		return data.isBooleanAttribute();
+	}
+
+	public void setBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.booleanAttribute(), newValue, false ,true);
+	}
+
+	public void setBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.booleanAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Timestamp getBusinessDateFrom()
+	{
+		return this.zSynchronizedGetData().getBusinessDateFrom();
+	}
+
+	public void setBusinessDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.businessDateFrom(), newValue, false );
+	}
+
+	public Timestamp getBusinessDateTo()
+	{
+		return this.zSynchronizedGetData().getBusinessDateTo();
+	}
+
+	public void setBusinessDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.businessDateTo(), newValue, false );
+	}
+
+	public byte getByteAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isByteAttributeNull()) MithraNullPrimitiveException.throwNew("byteAttribute", data);
+		return data.getByteAttribute();
+	}
+
+	public void setByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.byteAttribute(), newValue, false ,true);
+	}
+
+	public void setByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.byteAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public char getCharAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isCharAttributeNull()) MithraNullPrimitiveException.throwNew("charAttribute", data);
+		return data.getCharAttribute();
+	}
+
+	public void setCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.charAttribute(), newValue, false ,true);
+	}
+
+	public void setCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.charAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public Date getDateAttribute()
+	{
+		return this.zSynchronizedGetData().getDateAttribute();
+	}
+
+	public void setDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.dateAttribute(), newValue, false );
+	}
+
+	public void setDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.dateAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	public double getDoubleAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("doubleAttribute", data);
+		return data.getDoubleAttribute();
+	}
+
+	public void setDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.doubleAttribute(), newValue, false ,true);
+	}
+
+	public void setDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.doubleAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public void incrementDoubleAttribute(double increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.doubleAttribute(), false);
+	}
+
+	public void incrementDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.doubleAttribute(), false);
+	}
+
+	public float getFloatAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isFloatAttributeNull()) MithraNullPrimitiveException.throwNew("floatAttribute", data);
+		return data.getFloatAttribute();
+	}
+
+	public void setFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.floatAttribute(), newValue, false ,true);
+	}
+
+	public void setFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.floatAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public int getIntAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isIntAttributeNull()) MithraNullPrimitiveException.throwNew("intAttribute", data);
+		return data.getIntAttribute();
+	}
+
+	public void setIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.intAttribute(), newValue, false ,true);
+	}
+
+	public void setIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.intAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public long getLongAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isLongAttributeNull()) MithraNullPrimitiveException.throwNew("longAttribute", data);
+		return data.getLongAttribute();
+	}
+
+	public void setLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.longAttribute(), newValue, false ,true);
+	}
+
+	public void setLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.longAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected BigDecimal getPkBigDecimalAttribute()
+	{
+		return this.zSynchronizedGetData().getPkBigDecimalAttribute();
+	}
+
+	protected void setPkBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), newValue, true );
+	}
+
+	protected void setPkBigDecimalAttributeUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	protected void incrementPkBigDecimalAttribute(BigDecimal increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), true);
+	}
+
+	protected void incrementPkBigDecimalAttributeUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), true);
+	}
+
+	protected boolean isPkBooleanAttribute()
+	{
+		return this.zSynchronizedGetData().isPkBooleanAttribute();
+	}
+
+	protected void setPkBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.pkBooleanAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.pkBooleanAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected byte getPkByteAttribute()
+	{
+		return this.zSynchronizedGetData().getPkByteAttribute();
+	}
+
+	protected void setPkByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.pkByteAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.pkByteAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected char getPkCharAttribute()
+	{
+		return this.zSynchronizedGetData().getPkCharAttribute();
+	}
+
+	protected void setPkCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.pkCharAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.pkCharAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected Date getPkDateAttribute()
+	{
+		return this.zSynchronizedGetData().getPkDateAttribute();
+	}
+
+	protected void setPkDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.pkDateAttribute(), newValue, true );
+	}
+
+	protected void setPkDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.pkDateAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	protected double getPkDoubleAttribute()
+	{
+		return this.zSynchronizedGetData().getPkDoubleAttribute();
+	}
+
+	protected void setPkDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected void incrementPkDoubleAttribute(double increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), true);
+	}
+
+	protected void incrementPkDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), true);
+	}
+
+	protected float getPkFloatAttribute()
+	{
+		return this.zSynchronizedGetData().getPkFloatAttribute();
+	}
+
+	protected void setPkFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.pkFloatAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.pkFloatAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected int getPkIntAttribute()
+	{
+		return this.zSynchronizedGetData().getPkIntAttribute();
+	}
+
+	protected void setPkIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.pkIntAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.pkIntAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected long getPkLongAttribute()
+	{
+		return this.zSynchronizedGetData().getPkLongAttribute();
+	}
+
+	protected void setPkLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.pkLongAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.pkLongAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected short getPkShortAttribute()
+	{
+		return this.zSynchronizedGetData().getPkShortAttribute();
+	}
+
+	protected void setPkShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.pkShortAttribute(), newValue, true ,false);
+	}
+
+	protected void setPkShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.pkShortAttribute(), newValue, true , exclusiveUntil,false);
+	}
+
+	protected String getPkStringAttribute()
+	{
+		return this.zSynchronizedGetData().getPkStringAttribute();
+	}
+
+	protected void setPkStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.pkStringAttribute(), newValue, true );
+	}
+
+	protected void setPkStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.pkStringAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	protected Timestamp getPkTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getPkTimestampAttribute();
+	}
+
+	protected void setPkTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.pkTimestampAttribute(), newValue, true );
+	}
+
+	protected void setPkTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.pkTimestampAttribute(), newValue, true , exclusiveUntil);
+	}
+
+	public Timestamp getProcessingDateFrom()
+	{
+		return this.zSynchronizedGetData().getProcessingDateFrom();
+	}
+
+	public void setProcessingDateFrom(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.processingDateFrom(), newValue, false );
+	}
+
+	public Timestamp getProcessingDateTo()
+	{
+		return this.zSynchronizedGetData().getProcessingDateTo();
+	}
+
+	public void setProcessingDateTo(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.processingDateTo(), newValue, false );
+	}
+
+	protected BigDecimal getRootEvoBigDecimalAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoBigDecimalAttributeUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected void incrementRootEvoBigDecimalAttribute(BigDecimal increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), false);
+	}
+
+	protected void incrementRootEvoBigDecimalAttributeUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), false);
+	}
+
+	protected boolean isRootEvoBooleanAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoBooleanAttribute", data);
+		return data.isRootEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected byte getRootEvoByteAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoByteAttribute", data);
+		return data.getRootEvoByteAttribute();
+	}
+
+	protected void setRootEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected char getRootEvoCharAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoCharAttribute", data);
+		return data.getRootEvoCharAttribute();
+	}
+
+	protected void setRootEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected Date getRootEvoDateAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoDateAttribute();
+	}
+
+	protected void setRootEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected double getRootEvoDoubleAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoDoubleAttribute", data);
+		return data.getRootEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void incrementRootEvoDoubleAttribute(double increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false);
+	}
+
+	protected void incrementRootEvoDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false);
+	}
+
+	protected float getRootEvoFloatAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoFloatAttribute", data);
+		return data.getRootEvoFloatAttribute();
+	}
+
+	protected void setRootEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected int getRootEvoIntAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoIntAttribute", data);
+		return data.getRootEvoIntAttribute();
+	}
+
+	protected void setRootEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected long getRootEvoLongAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoLongAttribute", data);
+		return data.getRootEvoLongAttribute();
+	}
+
+	protected void setRootEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected BigDecimal getRootEvoNestedEvoBigDecimalAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoBigDecimalAttributeUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected void incrementRootEvoNestedEvoBigDecimalAttribute(BigDecimal increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), false);
+	}
+
+	protected void incrementRootEvoNestedEvoBigDecimalAttributeUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), false);
+	}
+
+	protected boolean isRootEvoNestedEvoBooleanAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoBooleanAttribute", data);
+		return data.isRootEvoNestedEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected byte getRootEvoNestedEvoByteAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoByteAttribute", data);
+		return data.getRootEvoNestedEvoByteAttribute();
+	}
+
+	protected void setRootEvoNestedEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected char getRootEvoNestedEvoCharAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoCharAttribute", data);
+		return data.getRootEvoNestedEvoCharAttribute();
+	}
+
+	protected void setRootEvoNestedEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected Date getRootEvoNestedEvoDateAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoDateAttribute();
+	}
+
+	protected void setRootEvoNestedEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected double getRootEvoNestedEvoDoubleAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoDoubleAttribute", data);
+		return data.getRootEvoNestedEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void incrementRootEvoNestedEvoDoubleAttribute(double increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false);
+	}
+
+	protected void incrementRootEvoNestedEvoDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false);
+	}
+
+	protected float getRootEvoNestedEvoFloatAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoFloatAttribute", data);
+		return data.getRootEvoNestedEvoFloatAttribute();
+	}
+
+	protected void setRootEvoNestedEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected int getRootEvoNestedEvoIntAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoIntAttribute", data);
+		return data.getRootEvoNestedEvoIntAttribute();
+	}
+
+	protected void setRootEvoNestedEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected BigDecimal getRootEvoNestedEvoLeafEvoBigDecimalAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal newValue)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBigDecimalAttributeUntil(BigDecimal newValue, Timestamp exclusiveUntil)
+	{
+		zSetBigDecimal(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected void incrementRootEvoNestedEvoLeafEvoBigDecimalAttribute(BigDecimal increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), false);
+	}
+
+	protected void incrementRootEvoNestedEvoLeafEvoBigDecimalAttributeUntil(BigDecimal increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), false);
+	}
+
+	protected boolean isRootEvoNestedEvoLeafEvoBooleanAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoBooleanAttribute", data);
+		return data.isRootEvoNestedEvoLeafEvoBooleanAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttribute(boolean newValue)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeUntil(boolean newValue, Timestamp exclusiveUntil)
+	{
+		zSetBoolean(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected byte getRootEvoNestedEvoLeafEvoByteAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoByteAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoByteAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttribute(byte newValue)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeUntil(byte newValue, Timestamp exclusiveUntil)
+	{
+		zSetByte(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected char getRootEvoNestedEvoLeafEvoCharAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoCharAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoCharAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttribute(char newValue)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeUntil(char newValue, Timestamp exclusiveUntil)
+	{
+		zSetChar(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected Date getRootEvoNestedEvoLeafEvoDateAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoLeafEvoDateAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttribute(Date newValue)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDateAttributeUntil(Date newValue, Timestamp exclusiveUntil)
+	{
+		zSetDate(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected double getRootEvoNestedEvoLeafEvoDoubleAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoDoubleAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoDoubleAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttribute(double newValue)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeUntil(double newValue, Timestamp exclusiveUntil)
+	{
+		zSetDouble(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected void incrementRootEvoNestedEvoLeafEvoDoubleAttribute(double increment)
+	{
+		zIncrement(increment, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+	}
+
+	protected void incrementRootEvoNestedEvoLeafEvoDoubleAttributeUntil(double increment, Timestamp exclusiveUntil)
+	{
+		zIncrementUntil(increment, exclusiveUntil, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+	}
+
+	protected float getRootEvoNestedEvoLeafEvoFloatAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoFloatAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoFloatAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttribute(float newValue)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeUntil(float newValue, Timestamp exclusiveUntil)
+	{
+		zSetFloat(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected int getRootEvoNestedEvoLeafEvoIntAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoIntAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoIntAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttribute(int newValue)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeUntil(int newValue, Timestamp exclusiveUntil)
+	{
+		zSetInteger(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected long getRootEvoNestedEvoLeafEvoLongAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoLongAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoLongAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected short getRootEvoNestedEvoLeafEvoShortAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLeafEvoShortAttribute", data);
+		return data.getRootEvoNestedEvoLeafEvoShortAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected String getRootEvoNestedEvoLeafEvoStringAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoLeafEvoStringAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected Timestamp getRootEvoNestedEvoLeafEvoTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoLeafEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected long getRootEvoNestedEvoLongAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoLongAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoLongAttribute", data);
+		return data.getRootEvoNestedEvoLongAttribute();
+	}
+
+	protected void setRootEvoNestedEvoLongAttribute(long newValue)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeUntil(long newValue, Timestamp exclusiveUntil)
+	{
+		zSetLong(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected short getRootEvoNestedEvoShortAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoNestedEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoNestedEvoShortAttribute", data);
+		return data.getRootEvoNestedEvoShortAttribute();
+	}
+
+	protected void setRootEvoNestedEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected String getRootEvoNestedEvoStringAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoStringAttribute();
+	}
+
+	protected void setRootEvoNestedEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected Timestamp getRootEvoNestedEvoTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoNestedEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoNestedEvoTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected short getRootEvoShortAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isRootEvoShortAttributeNull()) MithraNullPrimitiveException.throwNew("rootEvoShortAttribute", data);
+		return data.getRootEvoShortAttribute();
+	}
+
+	protected void setRootEvoShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), newValue, false ,true);
+	}
+
+	protected void setRootEvoShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	protected String getRootEvoStringAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoStringAttribute();
+	}
+
+	protected void setRootEvoStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	protected Timestamp getRootEvoTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getRootEvoTimestampAttribute();
+	}
+
+	protected void setRootEvoTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(), newValue, false );
+	}
+
+	protected void setRootEvoTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	public short getShortAttribute()
+	{
+		EvoType1DatedTxnTypesData data = this.zSynchronizedGetData();
+		if (data.isShortAttributeNull()) MithraNullPrimitiveException.throwNew("shortAttribute", data);
+		return data.getShortAttribute();
+	}
+
+	public void setShortAttribute(short newValue)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.shortAttribute(), newValue, false ,true);
+	}
+
+	public void setShortAttributeUntil(short newValue, Timestamp exclusiveUntil)
+	{
+		zSetShort(EvoType1DatedTxnTypesFinder.shortAttribute(), newValue, false , exclusiveUntil,true);
+	}
+
+	public String getStringAttribute()
+	{
+		return this.zSynchronizedGetData().getStringAttribute();
+	}
+
+	public void setStringAttribute(String newValue)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.stringAttribute(), newValue, false );
+	}
+
+	public void setStringAttributeUntil(String newValue, Timestamp exclusiveUntil)
+	{
+		if (newValue != null) newValue = newValue.trim();
+		if (newValue != null && newValue.length() > 10)
+		{
+			throw new MithraBusinessException("Attribute 'stringAttribute' cannot exceed maximum length of 10: " + newValue);
+		}
+
+		zSetString(EvoType1DatedTxnTypesFinder.stringAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	public Timestamp getTimestampAttribute()
+	{
+		return this.zSynchronizedGetData().getTimestampAttribute();
+	}
+
+	public void setTimestampAttribute(Timestamp newValue)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.timestampAttribute(), newValue, false );
+	}
+
+	public void setTimestampAttributeUntil(Timestamp newValue, Timestamp exclusiveUntil)
+	{
+		zSetTimestamp(EvoType1DatedTxnTypesFinder.timestampAttribute(), newValue, false , exclusiveUntil);
+	}
+
+	public final EvoTypesLeaf getPk()
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) this.zSynchronizedGetData();
+		EvoTypesLeaf evo = data.getPk();
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType1DatedTxnTypesFinder.pk());
+			data.setPk(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyPk(EvoTypesLeaf pk)
+	{
+		boolean pkBooleanAttribute = pk.getBooleanAttribute();
+		boolean isPkBooleanAttributeNull = pk.isBooleanAttributeNull();
+		byte pkByteAttribute = pk.getByteAttribute();
+		boolean isPkByteAttributeNull = pk.isByteAttributeNull();
+		char pkCharAttribute = pk.getCharAttribute();
+		boolean isPkCharAttributeNull = pk.isCharAttributeNull();
+		Date pkDateAttribute = pk.getDateAttribute();
+		double pkDoubleAttribute = pk.getDoubleAttribute();
+		boolean isPkDoubleAttributeNull = pk.isDoubleAttributeNull();
+		zCheckDoubleValue(pkDoubleAttribute);
+		float pkFloatAttribute = pk.getFloatAttribute();
+		boolean isPkFloatAttributeNull = pk.isFloatAttributeNull();
+		zCheckFloatValue(pkFloatAttribute);
+		int pkIntAttribute = pk.getIntAttribute();
+		boolean isPkIntAttributeNull = pk.isIntAttributeNull();
+		long pkLongAttribute = pk.getLongAttribute();
+		boolean isPkLongAttributeNull = pk.isLongAttributeNull();
+		short pkShortAttribute = pk.getShortAttribute();
+		boolean isPkShortAttributeNull = pk.isShortAttributeNull();
+		String pkStringAttribute = pk.getStringAttribute();
+		if (pkStringAttribute != null) pkStringAttribute = pkStringAttribute.trim();
+		if (pkStringAttribute != null && pkStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + pkStringAttribute);
+		Timestamp pkTimestampAttribute = pk.getTimestampAttribute();
+		BigDecimal pkBigDecimalAttribute = pk.getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.isPkBooleanAttribute() != pkBooleanAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkByteAttribute() != pkByteAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkCharAttribute() != pkCharAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getPkDateAttribute() == null)
+			{
+				dataChanged = pkDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkDateAttribute().equals(pkDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkDoubleAttribute() != pkDoubleAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkFloatAttribute() != pkFloatAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkIntAttribute() != pkIntAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkLongAttribute() != pkLongAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			dataChanged = data.getPkShortAttribute() != pkShortAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getPkStringAttribute() == null)
+			{
+				dataChanged = pkStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkStringAttribute().equals(pkStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getPkTimestampAttribute() == null)
+			{
+				dataChanged = pkTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkTimestampAttribute().equals(pkTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getPkBigDecimalAttribute() == null)
+			{
+				dataChanged = pkBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkBigDecimalAttribute().equals(pkBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	public void copyPkUntil(EvoTypesLeaf pk, Timestamp exclusiveUntil)
+	{
+		boolean pkBooleanAttribute = pk.getBooleanAttribute();
+		boolean isPkBooleanAttributeNull = pk.isBooleanAttributeNull();
+		byte pkByteAttribute = pk.getByteAttribute();
+		boolean isPkByteAttributeNull = pk.isByteAttributeNull();
+		char pkCharAttribute = pk.getCharAttribute();
+		boolean isPkCharAttributeNull = pk.isCharAttributeNull();
+		Date pkDateAttribute = pk.getDateAttribute();
+		double pkDoubleAttribute = pk.getDoubleAttribute();
+		boolean isPkDoubleAttributeNull = pk.isDoubleAttributeNull();
+		this.zCheckDoubleValue(pkDoubleAttribute);
+		float pkFloatAttribute = pk.getFloatAttribute();
+		boolean isPkFloatAttributeNull = pk.isFloatAttributeNull();
+		this.zCheckFloatValue(pkFloatAttribute);
+		int pkIntAttribute = pk.getIntAttribute();
+		boolean isPkIntAttributeNull = pk.isIntAttributeNull();
+		long pkLongAttribute = pk.getLongAttribute();
+		boolean isPkLongAttributeNull = pk.isLongAttributeNull();
+		short pkShortAttribute = pk.getShortAttribute();
+		boolean isPkShortAttributeNull = pk.isShortAttributeNull();
+		String pkStringAttribute = pk.getStringAttribute();
+		if (pkStringAttribute != null) pkStringAttribute = pkStringAttribute.trim();
+		if (pkStringAttribute != null && pkStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'pkStringAttribute' cannot exceed maximum length of 10: " + pkStringAttribute);
+		Timestamp pkTimestampAttribute = pk.getTimestampAttribute();
+		BigDecimal pkBigDecimalAttribute = pk.getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.isPkBooleanAttribute() != pkBooleanAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkByteAttribute() != pkByteAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkCharAttribute() != pkCharAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getPkDateAttribute() == null)
+			{
+				dataChanged = pkDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkDateAttribute().equals(pkDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkDoubleAttribute() != pkDoubleAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkFloatAttribute() != pkFloatAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkIntAttribute() != pkIntAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkLongAttribute() != pkLongAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			dataChanged = data.getPkShortAttribute() != pkShortAttribute;
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getPkStringAttribute() == null)
+			{
+				dataChanged = pkStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkStringAttribute().equals(pkStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getPkTimestampAttribute() == null)
+			{
+				dataChanged = pkTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkTimestampAttribute().equals(pkTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getPkBigDecimalAttribute() == null)
+			{
+				dataChanged = pkBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getPkBigDecimalAttribute().equals(pkBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			if (!behavior.maySetPrimaryKey()) throw new MithraBusinessException("cannot change the primary key");
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				pkBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	public EvoTypesRoot getRootEvo()
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) this.zSynchronizedGetData();
+		EvoTypesRoot evo = data.getRootEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesRoot.managedInstance(this, EvoType1DatedTxnTypesFinder.rootEvo());
+			data.setRootEvo(evo);
+		}
+
+		return evo;
+	}
+
+	public void copyRootEvo(EvoTypesRoot rootEvo)
+	{
+		boolean rootEvoBooleanAttribute = rootEvo.getBooleanAttribute();
+		boolean isRootEvoBooleanAttributeNull = rootEvo.isBooleanAttributeNull();
+		byte rootEvoByteAttribute = rootEvo.getByteAttribute();
+		boolean isRootEvoByteAttributeNull = rootEvo.isByteAttributeNull();
+		char rootEvoCharAttribute = rootEvo.getCharAttribute();
+		boolean isRootEvoCharAttributeNull = rootEvo.isCharAttributeNull();
+		Date rootEvoDateAttribute = rootEvo.getDateAttribute();
+		double rootEvoDoubleAttribute = rootEvo.getDoubleAttribute();
+		boolean isRootEvoDoubleAttributeNull = rootEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoDoubleAttribute);
+		float rootEvoFloatAttribute = rootEvo.getFloatAttribute();
+		boolean isRootEvoFloatAttributeNull = rootEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoFloatAttribute);
+		int rootEvoIntAttribute = rootEvo.getIntAttribute();
+		boolean isRootEvoIntAttributeNull = rootEvo.isIntAttributeNull();
+		long rootEvoLongAttribute = rootEvo.getLongAttribute();
+		boolean isRootEvoLongAttributeNull = rootEvo.isLongAttributeNull();
+		short rootEvoShortAttribute = rootEvo.getShortAttribute();
+		boolean isRootEvoShortAttributeNull = rootEvo.isShortAttributeNull();
+		String rootEvoStringAttribute = rootEvo.getStringAttribute();
+		if (rootEvoStringAttribute != null) rootEvoStringAttribute = rootEvoStringAttribute.trim();
+		if (rootEvoStringAttribute != null && rootEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoStringAttribute);
+		Timestamp rootEvoTimestampAttribute = rootEvo.getTimestampAttribute();
+		BigDecimal rootEvoBigDecimalAttribute = rootEvo.getBigDecimalAttribute();
+		boolean rootEvoNestedEvoBooleanAttribute = rootEvo.getNestedEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoBooleanAttributeNull = rootEvo.getNestedEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoByteAttribute = rootEvo.getNestedEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoByteAttributeNull = rootEvo.getNestedEvo().isByteAttributeNull();
+		char rootEvoNestedEvoCharAttribute = rootEvo.getNestedEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoCharAttributeNull = rootEvo.getNestedEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoDateAttribute = rootEvo.getNestedEvo().getDateAttribute();
+		double rootEvoNestedEvoDoubleAttribute = rootEvo.getNestedEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoDoubleAttributeNull = rootEvo.getNestedEvo().isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoDoubleAttribute);
+		float rootEvoNestedEvoFloatAttribute = rootEvo.getNestedEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoFloatAttributeNull = rootEvo.getNestedEvo().isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoFloatAttribute);
+		int rootEvoNestedEvoIntAttribute = rootEvo.getNestedEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoIntAttributeNull = rootEvo.getNestedEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLongAttribute = rootEvo.getNestedEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLongAttributeNull = rootEvo.getNestedEvo().isLongAttributeNull();
+		short rootEvoNestedEvoShortAttribute = rootEvo.getNestedEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoShortAttributeNull = rootEvo.getNestedEvo().isShortAttributeNull();
+		String rootEvoNestedEvoStringAttribute = rootEvo.getNestedEvo().getStringAttribute();
+		if (rootEvoNestedEvoStringAttribute != null) rootEvoNestedEvoStringAttribute = rootEvoNestedEvoStringAttribute.trim();
+		if (rootEvoNestedEvoStringAttribute != null && rootEvoNestedEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoStringAttribute);
+		Timestamp rootEvoNestedEvoTimestampAttribute = rootEvo.getNestedEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoBigDecimalAttribute = rootEvo.getNestedEvo().getBigDecimalAttribute();
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = rootEvo.getNestedEvo().getLeafEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = rootEvo.getNestedEvo().getLeafEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = rootEvo.getNestedEvo().getLeafEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = rootEvo.getNestedEvo().getLeafEvo().getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = rootEvo.getNestedEvo().getLeafEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = rootEvo.getNestedEvo().getLeafEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = rootEvo.getNestedEvo().getLeafEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = rootEvo.getNestedEvo().getLeafEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = rootEvo.getNestedEvo().getLeafEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = rootEvo.getNestedEvo().getLeafEvo().getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = rootEvo.getNestedEvo().getLeafEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = rootEvo.getNestedEvo().getLeafEvo().getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoBooleanAttributeNull() && isRootEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoBooleanAttribute() != rootEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoByteAttributeNull() && isRootEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoByteAttribute() != rootEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoCharAttributeNull() && isRootEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoCharAttribute() != rootEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoDateAttribute().equals(rootEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoDoubleAttributeNull() && isRootEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoDoubleAttribute() != rootEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoFloatAttributeNull() && isRootEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoFloatAttribute() != rootEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoIntAttributeNull() && isRootEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoIntAttribute() != rootEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoLongAttributeNull() && isRootEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoLongAttribute() != rootEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoShortAttributeNull() && isRootEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoShortAttribute() != rootEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoStringAttribute().equals(rootEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoTimestampAttribute().equals(rootEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoBigDecimalAttribute().equals(rootEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoBooleanAttributeNull() && isRootEvoNestedEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoBooleanAttribute() != rootEvoNestedEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoByteAttributeNull() && isRootEvoNestedEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoByteAttribute() != rootEvoNestedEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoCharAttributeNull() && isRootEvoNestedEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoCharAttribute() != rootEvoNestedEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoDateAttribute().equals(rootEvoNestedEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoDoubleAttributeNull() && isRootEvoNestedEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoDoubleAttribute() != rootEvoNestedEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoFloatAttributeNull() && isRootEvoNestedEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoFloatAttribute() != rootEvoNestedEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoIntAttributeNull() && isRootEvoNestedEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoIntAttribute() != rootEvoNestedEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLongAttributeNull() && isRootEvoNestedEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLongAttribute() != rootEvoNestedEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoShortAttributeNull() && isRootEvoNestedEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoShortAttribute() != rootEvoNestedEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoStringAttribute().equals(rootEvoNestedEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoTimestampAttribute().equals(rootEvoNestedEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoBigDecimalAttribute().equals(rootEvoNestedEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() && isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() && isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() && isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() && isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() && isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() && isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() && isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() && isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	public void copyRootEvoUntil(EvoTypesRoot rootEvo, Timestamp exclusiveUntil)
+	{
+		boolean rootEvoBooleanAttribute = rootEvo.getBooleanAttribute();
+		boolean isRootEvoBooleanAttributeNull = rootEvo.isBooleanAttributeNull();
+		byte rootEvoByteAttribute = rootEvo.getByteAttribute();
+		boolean isRootEvoByteAttributeNull = rootEvo.isByteAttributeNull();
+		char rootEvoCharAttribute = rootEvo.getCharAttribute();
+		boolean isRootEvoCharAttributeNull = rootEvo.isCharAttributeNull();
+		Date rootEvoDateAttribute = rootEvo.getDateAttribute();
+		double rootEvoDoubleAttribute = rootEvo.getDoubleAttribute();
+		boolean isRootEvoDoubleAttributeNull = rootEvo.isDoubleAttributeNull();
+		this.zCheckDoubleValue(rootEvoDoubleAttribute);
+		float rootEvoFloatAttribute = rootEvo.getFloatAttribute();
+		boolean isRootEvoFloatAttributeNull = rootEvo.isFloatAttributeNull();
+		this.zCheckFloatValue(rootEvoFloatAttribute);
+		int rootEvoIntAttribute = rootEvo.getIntAttribute();
+		boolean isRootEvoIntAttributeNull = rootEvo.isIntAttributeNull();
+		long rootEvoLongAttribute = rootEvo.getLongAttribute();
+		boolean isRootEvoLongAttributeNull = rootEvo.isLongAttributeNull();
+		short rootEvoShortAttribute = rootEvo.getShortAttribute();
+		boolean isRootEvoShortAttributeNull = rootEvo.isShortAttributeNull();
+		String rootEvoStringAttribute = rootEvo.getStringAttribute();
+		if (rootEvoStringAttribute != null) rootEvoStringAttribute = rootEvoStringAttribute.trim();
+		if (rootEvoStringAttribute != null && rootEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoStringAttribute);
+		Timestamp rootEvoTimestampAttribute = rootEvo.getTimestampAttribute();
+		BigDecimal rootEvoBigDecimalAttribute = rootEvo.getBigDecimalAttribute();
+		boolean rootEvoNestedEvoBooleanAttribute = rootEvo.getNestedEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoBooleanAttributeNull = rootEvo.getNestedEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoByteAttribute = rootEvo.getNestedEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoByteAttributeNull = rootEvo.getNestedEvo().isByteAttributeNull();
+		char rootEvoNestedEvoCharAttribute = rootEvo.getNestedEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoCharAttributeNull = rootEvo.getNestedEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoDateAttribute = rootEvo.getNestedEvo().getDateAttribute();
+		double rootEvoNestedEvoDoubleAttribute = rootEvo.getNestedEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoDoubleAttributeNull = rootEvo.getNestedEvo().isDoubleAttributeNull();
+		this.zCheckDoubleValue(rootEvoNestedEvoDoubleAttribute);
+		float rootEvoNestedEvoFloatAttribute = rootEvo.getNestedEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoFloatAttributeNull = rootEvo.getNestedEvo().isFloatAttributeNull();
+		this.zCheckFloatValue(rootEvoNestedEvoFloatAttribute);
+		int rootEvoNestedEvoIntAttribute = rootEvo.getNestedEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoIntAttributeNull = rootEvo.getNestedEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLongAttribute = rootEvo.getNestedEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLongAttributeNull = rootEvo.getNestedEvo().isLongAttributeNull();
+		short rootEvoNestedEvoShortAttribute = rootEvo.getNestedEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoShortAttributeNull = rootEvo.getNestedEvo().isShortAttributeNull();
+		String rootEvoNestedEvoStringAttribute = rootEvo.getNestedEvo().getStringAttribute();
+		if (rootEvoNestedEvoStringAttribute != null) rootEvoNestedEvoStringAttribute = rootEvoNestedEvoStringAttribute.trim();
+		if (rootEvoNestedEvoStringAttribute != null && rootEvoNestedEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoStringAttribute);
+		Timestamp rootEvoNestedEvoTimestampAttribute = rootEvo.getNestedEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoBigDecimalAttribute = rootEvo.getNestedEvo().getBigDecimalAttribute();
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = rootEvo.getNestedEvo().getLeafEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = rootEvo.getNestedEvo().getLeafEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = rootEvo.getNestedEvo().getLeafEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = rootEvo.getNestedEvo().getLeafEvo().getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = rootEvo.getNestedEvo().getLeafEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isDoubleAttributeNull();
+		this.zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = rootEvo.getNestedEvo().getLeafEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isFloatAttributeNull();
+		this.zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = rootEvo.getNestedEvo().getLeafEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = rootEvo.getNestedEvo().getLeafEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = rootEvo.getNestedEvo().getLeafEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = rootEvo.getNestedEvo().getLeafEvo().isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = rootEvo.getNestedEvo().getLeafEvo().getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = rootEvo.getNestedEvo().getLeafEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = rootEvo.getNestedEvo().getLeafEvo().getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoBooleanAttributeNull() && isRootEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoBooleanAttribute() != rootEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoByteAttributeNull() && isRootEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoByteAttribute() != rootEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoCharAttributeNull() && isRootEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoCharAttribute() != rootEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoDateAttribute().equals(rootEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoDoubleAttributeNull() && isRootEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoDoubleAttribute() != rootEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoFloatAttributeNull() && isRootEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoFloatAttribute() != rootEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoIntAttributeNull() && isRootEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoIntAttribute() != rootEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoLongAttributeNull() && isRootEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoLongAttribute() != rootEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoShortAttributeNull() && isRootEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoShortAttribute() != rootEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoStringAttribute().equals(rootEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoTimestampAttribute().equals(rootEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoBigDecimalAttribute().equals(rootEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoBooleanAttributeNull() && isRootEvoNestedEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoBooleanAttribute() != rootEvoNestedEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoByteAttributeNull() && isRootEvoNestedEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoByteAttribute() != rootEvoNestedEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoCharAttributeNull() && isRootEvoNestedEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoCharAttribute() != rootEvoNestedEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoDateAttribute().equals(rootEvoNestedEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoDoubleAttributeNull() && isRootEvoNestedEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoDoubleAttribute() != rootEvoNestedEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoFloatAttributeNull() && isRootEvoNestedEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoFloatAttribute() != rootEvoNestedEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoIntAttributeNull() && isRootEvoNestedEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoIntAttribute() != rootEvoNestedEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLongAttributeNull() && isRootEvoNestedEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLongAttribute() != rootEvoNestedEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoShortAttributeNull() && isRootEvoNestedEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoShortAttribute() != rootEvoNestedEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoStringAttribute().equals(rootEvoNestedEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoTimestampAttribute().equals(rootEvoNestedEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoBigDecimalAttribute().equals(rootEvoNestedEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() && isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() && isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() && isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() && isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() && isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() && isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() && isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() && isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	protected EvoTypesNested getRootEvoNestedEvo()
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) this.zSynchronizedGetData();
+		EvoTypesNested evo = data.getRootEvoNestedEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesNested.managedInstance(this, EvoType1DatedTxnTypesFinder.rootEvoNestedEvo());
+			data.setRootEvoNestedEvo(evo);
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvo(EvoTypesNested nestedEvo)
+	{
+		boolean rootEvoNestedEvoBooleanAttribute = nestedEvo.getBooleanAttribute();
+		boolean isRootEvoNestedEvoBooleanAttributeNull = nestedEvo.isBooleanAttributeNull();
+		byte rootEvoNestedEvoByteAttribute = nestedEvo.getByteAttribute();
+		boolean isRootEvoNestedEvoByteAttributeNull = nestedEvo.isByteAttributeNull();
+		char rootEvoNestedEvoCharAttribute = nestedEvo.getCharAttribute();
+		boolean isRootEvoNestedEvoCharAttributeNull = nestedEvo.isCharAttributeNull();
+		Date rootEvoNestedEvoDateAttribute = nestedEvo.getDateAttribute();
+		double rootEvoNestedEvoDoubleAttribute = nestedEvo.getDoubleAttribute();
+		boolean isRootEvoNestedEvoDoubleAttributeNull = nestedEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoDoubleAttribute);
+		float rootEvoNestedEvoFloatAttribute = nestedEvo.getFloatAttribute();
+		boolean isRootEvoNestedEvoFloatAttributeNull = nestedEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoFloatAttribute);
+		int rootEvoNestedEvoIntAttribute = nestedEvo.getIntAttribute();
+		boolean isRootEvoNestedEvoIntAttributeNull = nestedEvo.isIntAttributeNull();
+		long rootEvoNestedEvoLongAttribute = nestedEvo.getLongAttribute();
+		boolean isRootEvoNestedEvoLongAttributeNull = nestedEvo.isLongAttributeNull();
+		short rootEvoNestedEvoShortAttribute = nestedEvo.getShortAttribute();
+		boolean isRootEvoNestedEvoShortAttributeNull = nestedEvo.isShortAttributeNull();
+		String rootEvoNestedEvoStringAttribute = nestedEvo.getStringAttribute();
+		if (rootEvoNestedEvoStringAttribute != null) rootEvoNestedEvoStringAttribute = rootEvoNestedEvoStringAttribute.trim();
+		if (rootEvoNestedEvoStringAttribute != null && rootEvoNestedEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoStringAttribute);
+		Timestamp rootEvoNestedEvoTimestampAttribute = nestedEvo.getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoBigDecimalAttribute = nestedEvo.getBigDecimalAttribute();
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = nestedEvo.getLeafEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = nestedEvo.getLeafEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = nestedEvo.getLeafEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = nestedEvo.getLeafEvo().isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = nestedEvo.getLeafEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = nestedEvo.getLeafEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = nestedEvo.getLeafEvo().getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = nestedEvo.getLeafEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = nestedEvo.getLeafEvo().isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = nestedEvo.getLeafEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = nestedEvo.getLeafEvo().isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = nestedEvo.getLeafEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = nestedEvo.getLeafEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = nestedEvo.getLeafEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = nestedEvo.getLeafEvo().isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = nestedEvo.getLeafEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = nestedEvo.getLeafEvo().isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = nestedEvo.getLeafEvo().getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = nestedEvo.getLeafEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = nestedEvo.getLeafEvo().getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoBooleanAttributeNull() && isRootEvoNestedEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoBooleanAttribute() != rootEvoNestedEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoByteAttributeNull() && isRootEvoNestedEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoByteAttribute() != rootEvoNestedEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoCharAttributeNull() && isRootEvoNestedEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoCharAttribute() != rootEvoNestedEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoDateAttribute().equals(rootEvoNestedEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoDoubleAttributeNull() && isRootEvoNestedEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoDoubleAttribute() != rootEvoNestedEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoFloatAttributeNull() && isRootEvoNestedEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoFloatAttribute() != rootEvoNestedEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoIntAttributeNull() && isRootEvoNestedEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoIntAttribute() != rootEvoNestedEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLongAttributeNull() && isRootEvoNestedEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLongAttribute() != rootEvoNestedEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoShortAttributeNull() && isRootEvoNestedEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoShortAttribute() != rootEvoNestedEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoStringAttribute().equals(rootEvoNestedEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoTimestampAttribute().equals(rootEvoNestedEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoBigDecimalAttribute().equals(rootEvoNestedEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() && isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() && isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() && isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() && isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() && isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() && isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() && isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() && isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	protected void copyRootEvoNestedEvoUntil(EvoTypesNested nestedEvo, Timestamp exclusiveUntil)
+	{
+		boolean rootEvoNestedEvoBooleanAttribute = nestedEvo.getBooleanAttribute();
+		boolean isRootEvoNestedEvoBooleanAttributeNull = nestedEvo.isBooleanAttributeNull();
+		byte rootEvoNestedEvoByteAttribute = nestedEvo.getByteAttribute();
+		boolean isRootEvoNestedEvoByteAttributeNull = nestedEvo.isByteAttributeNull();
+		char rootEvoNestedEvoCharAttribute = nestedEvo.getCharAttribute();
+		boolean isRootEvoNestedEvoCharAttributeNull = nestedEvo.isCharAttributeNull();
+		Date rootEvoNestedEvoDateAttribute = nestedEvo.getDateAttribute();
+		double rootEvoNestedEvoDoubleAttribute = nestedEvo.getDoubleAttribute();
+		boolean isRootEvoNestedEvoDoubleAttributeNull = nestedEvo.isDoubleAttributeNull();
+		this.zCheckDoubleValue(rootEvoNestedEvoDoubleAttribute);
+		float rootEvoNestedEvoFloatAttribute = nestedEvo.getFloatAttribute();
+		boolean isRootEvoNestedEvoFloatAttributeNull = nestedEvo.isFloatAttributeNull();
+		this.zCheckFloatValue(rootEvoNestedEvoFloatAttribute);
+		int rootEvoNestedEvoIntAttribute = nestedEvo.getIntAttribute();
+		boolean isRootEvoNestedEvoIntAttributeNull = nestedEvo.isIntAttributeNull();
+		long rootEvoNestedEvoLongAttribute = nestedEvo.getLongAttribute();
+		boolean isRootEvoNestedEvoLongAttributeNull = nestedEvo.isLongAttributeNull();
+		short rootEvoNestedEvoShortAttribute = nestedEvo.getShortAttribute();
+		boolean isRootEvoNestedEvoShortAttributeNull = nestedEvo.isShortAttributeNull();
+		String rootEvoNestedEvoStringAttribute = nestedEvo.getStringAttribute();
+		if (rootEvoNestedEvoStringAttribute != null) rootEvoNestedEvoStringAttribute = rootEvoNestedEvoStringAttribute.trim();
+		if (rootEvoNestedEvoStringAttribute != null && rootEvoNestedEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoStringAttribute);
+		Timestamp rootEvoNestedEvoTimestampAttribute = nestedEvo.getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoBigDecimalAttribute = nestedEvo.getBigDecimalAttribute();
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = nestedEvo.getLeafEvo().getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = nestedEvo.getLeafEvo().isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = nestedEvo.getLeafEvo().getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = nestedEvo.getLeafEvo().isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = nestedEvo.getLeafEvo().getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = nestedEvo.getLeafEvo().isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = nestedEvo.getLeafEvo().getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = nestedEvo.getLeafEvo().getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = nestedEvo.getLeafEvo().isDoubleAttributeNull();
+		this.zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = nestedEvo.getLeafEvo().getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = nestedEvo.getLeafEvo().isFloatAttributeNull();
+		this.zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = nestedEvo.getLeafEvo().getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = nestedEvo.getLeafEvo().isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = nestedEvo.getLeafEvo().getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = nestedEvo.getLeafEvo().isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = nestedEvo.getLeafEvo().getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = nestedEvo.getLeafEvo().isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = nestedEvo.getLeafEvo().getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = nestedEvo.getLeafEvo().getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = nestedEvo.getLeafEvo().getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoBooleanAttributeNull() && isRootEvoNestedEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoBooleanAttribute() != rootEvoNestedEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoByteAttributeNull() && isRootEvoNestedEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoByteAttribute() != rootEvoNestedEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoCharAttributeNull() && isRootEvoNestedEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoCharAttribute() != rootEvoNestedEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoDateAttribute().equals(rootEvoNestedEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoDoubleAttributeNull() && isRootEvoNestedEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoDoubleAttribute() != rootEvoNestedEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoFloatAttributeNull() && isRootEvoNestedEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoFloatAttribute() != rootEvoNestedEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoIntAttributeNull() && isRootEvoNestedEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoIntAttribute() != rootEvoNestedEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLongAttributeNull() && isRootEvoNestedEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLongAttribute() != rootEvoNestedEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoShortAttributeNull() && isRootEvoNestedEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoShortAttribute() != rootEvoNestedEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoStringAttribute().equals(rootEvoNestedEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoTimestampAttribute().equals(rootEvoNestedEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoBigDecimalAttribute().equals(rootEvoNestedEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() && isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() && isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() && isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() && isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() && isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() && isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() && isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() && isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	protected EvoTypesLeaf getRootEvoNestedEvoLeafEvo()
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) this.zSynchronizedGetData();
+		EvoTypesLeaf evo = data.getRootEvoNestedEvoLeafEvo();
+		if (evo == null)
+		{
+			evo = EvoTypesLeaf.managedInstance(this, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvo());
+			data.setRootEvoNestedEvoLeafEvo(evo);
+		}
+
+		return evo;
+	}
+
+	protected void copyRootEvoNestedEvoLeafEvo(EvoTypesLeaf leafEvo)
+	{
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = leafEvo.getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = leafEvo.isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = leafEvo.getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = leafEvo.isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = leafEvo.getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = leafEvo.isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = leafEvo.getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = leafEvo.getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = leafEvo.isDoubleAttributeNull();
+		zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = leafEvo.getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = leafEvo.isFloatAttributeNull();
+		zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = leafEvo.getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = leafEvo.isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = leafEvo.getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = leafEvo.isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = leafEvo.getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = leafEvo.isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = leafEvo.getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = leafEvo.getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = leafEvo.getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() && isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBooleanAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() && isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoByteAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() && isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoCharAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDateAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() && isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDoubleAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() && isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoFloatAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() && isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoIntAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() && isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoLongAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() && isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoShortAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoStringAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoTimestampAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		if (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() == businessTo.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			behavior.update(this, updateWrapper, false, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	protected void copyRootEvoNestedEvoLeafEvoUntil(EvoTypesLeaf leafEvo, Timestamp exclusiveUntil)
+	{
+		boolean rootEvoNestedEvoLeafEvoBooleanAttribute = leafEvo.getBooleanAttribute();
+		boolean isRootEvoNestedEvoLeafEvoBooleanAttributeNull = leafEvo.isBooleanAttributeNull();
+		byte rootEvoNestedEvoLeafEvoByteAttribute = leafEvo.getByteAttribute();
+		boolean isRootEvoNestedEvoLeafEvoByteAttributeNull = leafEvo.isByteAttributeNull();
+		char rootEvoNestedEvoLeafEvoCharAttribute = leafEvo.getCharAttribute();
+		boolean isRootEvoNestedEvoLeafEvoCharAttributeNull = leafEvo.isCharAttributeNull();
+		Date rootEvoNestedEvoLeafEvoDateAttribute = leafEvo.getDateAttribute();
+		double rootEvoNestedEvoLeafEvoDoubleAttribute = leafEvo.getDoubleAttribute();
+		boolean isRootEvoNestedEvoLeafEvoDoubleAttributeNull = leafEvo.isDoubleAttributeNull();
+		this.zCheckDoubleValue(rootEvoNestedEvoLeafEvoDoubleAttribute);
+		float rootEvoNestedEvoLeafEvoFloatAttribute = leafEvo.getFloatAttribute();
+		boolean isRootEvoNestedEvoLeafEvoFloatAttributeNull = leafEvo.isFloatAttributeNull();
+		this.zCheckFloatValue(rootEvoNestedEvoLeafEvoFloatAttribute);
+		int rootEvoNestedEvoLeafEvoIntAttribute = leafEvo.getIntAttribute();
+		boolean isRootEvoNestedEvoLeafEvoIntAttributeNull = leafEvo.isIntAttributeNull();
+		long rootEvoNestedEvoLeafEvoLongAttribute = leafEvo.getLongAttribute();
+		boolean isRootEvoNestedEvoLeafEvoLongAttributeNull = leafEvo.isLongAttributeNull();
+		short rootEvoNestedEvoLeafEvoShortAttribute = leafEvo.getShortAttribute();
+		boolean isRootEvoNestedEvoLeafEvoShortAttributeNull = leafEvo.isShortAttributeNull();
+		String rootEvoNestedEvoLeafEvoStringAttribute = leafEvo.getStringAttribute();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null) rootEvoNestedEvoLeafEvoStringAttribute = rootEvoNestedEvoLeafEvoStringAttribute.trim();
+		if (rootEvoNestedEvoLeafEvoStringAttribute != null && rootEvoNestedEvoLeafEvoStringAttribute.length() > 10)
+		throw new MithraBusinessException("Attribute 'rootEvoNestedEvoLeafEvoStringAttribute' cannot exceed maximum length of 10: " + rootEvoNestedEvoLeafEvoStringAttribute);
+		Timestamp rootEvoNestedEvoLeafEvoTimestampAttribute = leafEvo.getTimestampAttribute();
+		BigDecimal rootEvoNestedEvoLeafEvoBigDecimalAttribute = leafEvo.getBigDecimalAttribute();
+		DatedTransactionalBehavior behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		boolean dataChanged = true;
+		AttributeUpdateWrapper updateWrapper;
+		Timestamp businessTo = data.getBusinessDateTo();
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoBooleanAttributeNull() && isRootEvoNestedEvoLeafEvoBooleanAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.isRootEvoNestedEvoLeafEvoBooleanAttribute() != rootEvoNestedEvoLeafEvoBooleanAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BooleanUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBooleanAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoByteAttributeNull() && isRootEvoNestedEvoLeafEvoByteAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoByteAttribute() != rootEvoNestedEvoLeafEvoByteAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ByteUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoByteAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoCharAttributeNull() && isRootEvoNestedEvoLeafEvoCharAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoCharAttribute() != rootEvoNestedEvoLeafEvoCharAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new CharUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoCharAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoDateAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoDateAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoDateAttribute().equals(rootEvoNestedEvoLeafEvoDateAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DateUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDateAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoDoubleAttributeNull() && isRootEvoNestedEvoLeafEvoDoubleAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoDoubleAttribute() != rootEvoNestedEvoLeafEvoDoubleAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new DoubleUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoDoubleAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoFloatAttributeNull() && isRootEvoNestedEvoLeafEvoFloatAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoFloatAttribute() != rootEvoNestedEvoLeafEvoFloatAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new FloatUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoFloatAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoIntAttributeNull() && isRootEvoNestedEvoLeafEvoIntAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoIntAttribute() != rootEvoNestedEvoLeafEvoIntAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new IntegerUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoIntAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoLongAttributeNull() && isRootEvoNestedEvoLeafEvoLongAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoLongAttribute() != rootEvoNestedEvoLeafEvoLongAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new LongUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoLongAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.isRootEvoNestedEvoLeafEvoShortAttributeNull() && isRootEvoNestedEvoLeafEvoShortAttributeNull)
+			{
+				dataChanged = false;
+			}
+			else
+			{
+				dataChanged = data.getRootEvoNestedEvoLeafEvoShortAttribute() != rootEvoNestedEvoLeafEvoShortAttribute;
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new ShortUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoShortAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoStringAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoStringAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoStringAttribute().equals(rootEvoNestedEvoLeafEvoStringAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new StringUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoStringAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoTimestampAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoTimestampAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoTimestampAttribute().equals(rootEvoNestedEvoLeafEvoTimestampAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new TimestampUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoTimestampAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		if (businessTo != null && businessTo.getTime() >= exclusiveUntil.getTime())
+		{
+			if (data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute() == null)
+			{
+				dataChanged = rootEvoNestedEvoLeafEvoBigDecimalAttribute != null;
+			}
+			else
+			{
+				dataChanged = !data.getRootEvoNestedEvoLeafEvoBigDecimalAttribute().equals(rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			}
+		}
+
+		if (dataChanged)
+		{
+			updateWrapper = new BigDecimalUpdateWrapper(
+				EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(),
+				behavior.getCurrentDataForWrite(this),
+				rootEvoNestedEvoLeafEvoBigDecimalAttribute);
+			behavior.updateUntil(this, updateWrapper, false, exclusiveUntil, true);
+		}
+
+		this.zResetEmbeddedValueObjects(behavior);
+	}
+
+	protected void issuePrimitiveNullSetters(DatedTransactionalBehavior behavior, MithraDataObject data, boolean mustCheckCurrent)
+	{
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.booleanAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.byteAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.charAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.doubleAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.floatAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.intAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.longAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.shortAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false, mustCheckCurrent);
+		zNullify(behavior, data, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false, mustCheckCurrent);
+	}
+
+	protected boolean zCheckInfiniteBusinessDate(MithraDataObject data)
+	{
+		EvoType1DatedTxnTypesData data2 = (EvoType1DatedTxnTypesData) data;
+		Timestamp businessTo = data2.getBusinessDateTo();
+		return (businessTo != null && EvoType1DatedTxnTypesFinder.businessDate().getInfinityDate().getTime() ==
+		businessTo.getTime());
+	}
+
+	public void setBooleanAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.booleanAttribute(), false);
+	}
+
+	public void setBooleanAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.booleanAttribute(), false, exclusiveUntil);
+	}
+
+	public void setByteAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.byteAttribute(), false);
+	}
+
+	public void setByteAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.byteAttribute(), false, exclusiveUntil);
+	}
+
+	public void setCharAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.charAttribute(), false);
+	}
+
+	public void setCharAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.charAttribute(), false, exclusiveUntil);
+	}
+
+	public void setDoubleAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.doubleAttribute(), false);
+	}
+
+	public void setDoubleAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.doubleAttribute(), false, exclusiveUntil);
+	}
+
+	public void setFloatAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.floatAttribute(), false);
+	}
+
+	public void setFloatAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.floatAttribute(), false, exclusiveUntil);
+	}
+
+	public void setIntAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.intAttribute(), false);
+	}
+
+	public void setIntAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.intAttribute(), false, exclusiveUntil);
+	}
+
+	public void setLongAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.longAttribute(), false);
+	}
+
+	public void setLongAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.longAttribute(), false, exclusiveUntil);
+	}
+
+	public void setShortAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.shortAttribute(), false);
+	}
+
+	public void setShortAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.shortAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoBooleanAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoByteAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoByteAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoCharAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoCharAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoDoubleAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoFloatAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoFloatAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoIntAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoIntAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoLongAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoLongAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoShortAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), false);
+	}
+
+	protected void setRootEvoShortAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoBooleanAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoByteAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoCharAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoDoubleAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoFloatAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoIntAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLongAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoShortAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoBooleanAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoByteAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoCharAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoDoubleAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoFloatAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoIntAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoLongAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false, exclusiveUntil);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeNull()
+	{
+		zNullify(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false);
+	}
+
+	protected void setRootEvoNestedEvoLeafEvoShortAttributeNullUntil(Timestamp exclusiveUntil)
+	{
+		zNullifyUntil(EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false, exclusiveUntil);
+	}
+
+	public Timestamp getBusinessDate()
+	{
+		return this.businessDate;
+	}
+
+	public Timestamp getProcessingDate()
+	{
+		return this.processingDate;
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		EvoType1DatedTxnTypesData _newData = (EvoType1DatedTxnTypesData) _data;
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		if (behavior.isDetached() && behavior.isDeleted()) return;
+		EvoType1DatedTxnTypesData _newData = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		this.zSetTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		DatedTransactionalBehavior behavior = this.zGetTransactionalBehavior();
+		EvoType1DatedTxnTypesData _newData = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForRead(this);
+		this.zSetNonTxPersistenceState(DatedPersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId</pre>
+	* @return The root evo order
+	*/
+	public Order getRootEvoOrder()
+	{
+		Order _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EvoType1DatedTxnTypesData _data = (EvoType1DatedTxnTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isRootEvoIntAttributeNull())
+			{
+				_portal = OrderFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrootEvoOrder, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (Order) _related;
+				if (_related == null)
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isRootEvoIntAttributeNull())
+				{
+					Operation detachedOp = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+					_result = OrderFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (Order) _data.getRootEvoOrder();
+			if (_result == null)
+			{
+				if (!_data.isRootEvoIntAttributeNull())
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRootEvoOrder(Order rootEvoOrder)
+	{
+		Order _rootEvoOrder = (Order) rootEvoOrder;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData _data = (EvoType1DatedTxnTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRootEvoOrder(_rootEvoOrder);
+			if (_rootEvoOrder == null)
+			{
+				this.setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoIntAttribute(
+					_rootEvoOrder.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_rootEvoOrder == null)
+			{
+				this.setRootEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoIntAttribute(
+					_rootEvoOrder.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoIntAttribute = Order.orderId and Order.orderDate = {date}</pre>
+	* @return The root evo order with date
+	*/
+	public Order getRootEvoOrderWithDate(Timestamp date)
+	{
+		Order _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EvoType1DatedTxnTypesData _data = (EvoType1DatedTxnTypesData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isRootEvoIntAttributeNull())
+			{
+				{
+					_op = OrderFinder.orderId().eq(_data.getRootEvoIntAttribute()).and(OrderFinder.orderDate().eq(date));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId</pre>
+	* @return The root evo nested evo order status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatus()
+	{
+		OrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EvoType1DatedTxnTypesData _data = (EvoType1DatedTxnTypesData) _behavior.getCurrentDataForRead(this);
+		MithraObjectPortal _portal = null;
+		if (_behavior.isPersisted())
+		{
+			if (!_data.isRootEvoNestedEvoIntAttributeNull())
+			{
+				_portal = OrderStatusFinder.getMithraObjectPortal();
+				Object _related = _portal.getAsOneFromCache(this, _data, forrootEvoNestedEvoOrderStatus, null, null);
+				if (!(_related instanceof NulledRelation)) _result = (OrderStatus) _related;
+				if (_related == null)
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			{
+				if (!_data.isRootEvoNestedEvoIntAttributeNull())
+				{
+					Operation detachedOp = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+					_result = OrderStatusFinder.zFindOneForRelationship(detachedOp);
+				}
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (OrderStatus) _data.getRootEvoNestedEvoOrderStatus();
+			if (_result == null)
+			{
+				if (!_data.isRootEvoNestedEvoIntAttributeNull())
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute());
+				}
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public void setRootEvoNestedEvoOrderStatus(OrderStatus rootEvoNestedEvoOrderStatus)
+	{
+		OrderStatus _rootEvoNestedEvoOrderStatus = (OrderStatus) rootEvoNestedEvoOrderStatus;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehaviorForWrite();
+		EvoType1DatedTxnTypesData _data = (EvoType1DatedTxnTypesData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			_data.setRootEvoNestedEvoOrderStatus(_rootEvoNestedEvoOrderStatus);
+			if (_rootEvoNestedEvoOrderStatus == null)
+			{
+				this.setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoNestedEvoIntAttribute(
+					_rootEvoNestedEvoOrderStatus.getOrderId());
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			if (_rootEvoNestedEvoOrderStatus == null)
+			{
+				this.setRootEvoNestedEvoIntAttributeNull();
+			}
+			else
+			{
+				this.setRootEvoNestedEvoIntAttribute(
+					_rootEvoNestedEvoOrderStatus.getOrderId());
+			}
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.rootEvoNestedEvoIntAttribute = OrderStatus.orderId and OrderStatus.status = {status}</pre>
+	* @return The root evo nested evo order status with status
+	*/
+	public OrderStatus getRootEvoNestedEvoOrderStatusWithStatus(int status)
+	{
+		OrderStatus _result = null;
+		Operation _op = null;
+		DatedTransactionalBehavior _behavior = zGetTransactionalBehavior();
+		EvoType1DatedTxnTypesData _data = (EvoType1DatedTxnTypesData) _behavior.getCurrentDataForRead(this);
+		{
+			if (!_data.isRootEvoNestedEvoIntAttributeNull())
+			{
+				{
+					_op = OrderStatusFinder.orderId().eq(_data.getRootEvoNestedEvoIntAttribute()).and(OrderStatusFinder.status().eq(status));
+				}
+			}
+			else 
+			{
+				return null;
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = OrderStatusFinder.zFindOneForRelationship(_op);
+		}
+
+		return _result;
+	}
+
+	public Cache zGetCache()
+	{
+		return EvoType1DatedTxnTypesFinder.getMithraObjectPortal().getCache();
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new EvoType1DatedTxnTypesData();
+	}
+
+	public MithraDataObject zRefreshWithLock(boolean lock)
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) EvoType1DatedTxnTypesFinder.getMithraObjectPortal().refreshDatedObject(this, lock);
+		if (data == null)
+		{
+			throw new MithraDeletedException("EvoType1DatedTxnTypes has been deleted.");
+		}
+
+		return data;
+	}
+
+	public void setFromEvoType1DatedTxnTypesData( EvoType1DatedTxnTypesData data )
+	{
+		this.zSetData(data);
+	}
+
+	protected void zSetFromEvoType1DatedTxnTypesData( EvoType1DatedTxnTypesData data )
+	{
+		this.zSetData(data);
+		this.zSetNonTxPersistenceState(PERSISTED_STATE);
+	}
+
+	public MithraTransactionalDatabaseObject zGetDatabaseObject()
+	{
+		return (MithraTransactionalDatabaseObject) EvoType1DatedTxnTypesFinder.getMithraObjectPortal().getDatabaseObject();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return EvoType1DatedTxnTypesFinder.getMithraObjectPortal();
+	}
+
+	public EvoType1DatedTxnTypes getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	public void copyNonPrimaryKeyAttributesFrom(EvoType1DatedTxnTypesAbstract from) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesFrom((MithraTransactionalObject)from);
+	}
+
+	protected void copyNonPrimaryKeyAttributesFromImpl(MithraTransactionalObject f, MithraTransaction tx) throws MithraBusinessException
+	{
+		EvoType1DatedTxnTypesAbstract from = (EvoType1DatedTxnTypesAbstract) f;
+		EvoType1DatedTxnTypesData newData = from.zSynchronizedGetData();
+		if (from.isBooleanAttributeNull())
+		{
+			this.setBooleanAttributeNull();
+		}
+		else
+		{
+			this.setBooleanAttribute(newData.isBooleanAttribute());
+		}
+
+		if (from.isByteAttributeNull())
+		{
+			this.setByteAttributeNull();
+		}
+		else
+		{
+			this.setByteAttribute(newData.getByteAttribute());
+		}
+
+		if (from.isCharAttributeNull())
+		{
+			this.setCharAttributeNull();
+		}
+		else
+		{
+			this.setCharAttribute(newData.getCharAttribute());
+		}
+
+		this.setDateAttribute(newData.getDateAttribute());
+		if (from.isDoubleAttributeNull())
+		{
+			this.setDoubleAttributeNull();
+		}
+		else
+		{
+			this.setDoubleAttribute(newData.getDoubleAttribute());
+		}
+
+		if (from.isFloatAttributeNull())
+		{
+			this.setFloatAttributeNull();
+		}
+		else
+		{
+			this.setFloatAttribute(newData.getFloatAttribute());
+		}
+
+		if (from.isIntAttributeNull())
+		{
+			this.setIntAttributeNull();
+		}
+		else
+		{
+			this.setIntAttribute(newData.getIntAttribute());
+		}
+
+		if (from.isLongAttributeNull())
+		{
+			this.setLongAttributeNull();
+		}
+		else
+		{
+			this.setLongAttribute(newData.getLongAttribute());
+		}
+
+		this.setRootEvoBigDecimalAttribute(newData.getRootEvoBigDecimalAttribute());
+		if (from.isRootEvoBooleanAttributeNull())
+		{
+			this.setRootEvoBooleanAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoBooleanAttribute(newData.isRootEvoBooleanAttribute());
+		}
+
+		if (from.isRootEvoByteAttributeNull())
+		{
+			this.setRootEvoByteAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoByteAttribute(newData.getRootEvoByteAttribute());
+		}
+
+		if (from.isRootEvoCharAttributeNull())
+		{
+			this.setRootEvoCharAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoCharAttribute(newData.getRootEvoCharAttribute());
+		}
+
+		this.setRootEvoDateAttribute(newData.getRootEvoDateAttribute());
+		if (from.isRootEvoDoubleAttributeNull())
+		{
+			this.setRootEvoDoubleAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoDoubleAttribute(newData.getRootEvoDoubleAttribute());
+		}
+
+		if (from.isRootEvoFloatAttributeNull())
+		{
+			this.setRootEvoFloatAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoFloatAttribute(newData.getRootEvoFloatAttribute());
+		}
+
+		if (from.isRootEvoIntAttributeNull())
+		{
+			this.setRootEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoIntAttribute(newData.getRootEvoIntAttribute());
+		}
+
+		if (from.isRootEvoLongAttributeNull())
+		{
+			this.setRootEvoLongAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoLongAttribute(newData.getRootEvoLongAttribute());
+		}
+
+		this.setRootEvoNestedEvoBigDecimalAttribute(newData.getRootEvoNestedEvoBigDecimalAttribute());
+		if (from.isRootEvoNestedEvoBooleanAttributeNull())
+		{
+			this.setRootEvoNestedEvoBooleanAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoBooleanAttribute(newData.isRootEvoNestedEvoBooleanAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoByteAttributeNull())
+		{
+			this.setRootEvoNestedEvoByteAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoByteAttribute(newData.getRootEvoNestedEvoByteAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoCharAttributeNull())
+		{
+			this.setRootEvoNestedEvoCharAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoCharAttribute(newData.getRootEvoNestedEvoCharAttribute());
+		}
+
+		this.setRootEvoNestedEvoDateAttribute(newData.getRootEvoNestedEvoDateAttribute());
+		if (from.isRootEvoNestedEvoDoubleAttributeNull())
+		{
+			this.setRootEvoNestedEvoDoubleAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoDoubleAttribute(newData.getRootEvoNestedEvoDoubleAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoFloatAttributeNull())
+		{
+			this.setRootEvoNestedEvoFloatAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoFloatAttribute(newData.getRootEvoNestedEvoFloatAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoIntAttributeNull())
+		{
+			this.setRootEvoNestedEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoIntAttribute(newData.getRootEvoNestedEvoIntAttribute());
+		}
+
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttribute(newData.getRootEvoNestedEvoLeafEvoBigDecimalAttribute());
+		if (from.isRootEvoNestedEvoLeafEvoBooleanAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoBooleanAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoBooleanAttribute(newData.isRootEvoNestedEvoLeafEvoBooleanAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoByteAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoByteAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoByteAttribute(newData.getRootEvoNestedEvoLeafEvoByteAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoCharAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoCharAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoCharAttribute(newData.getRootEvoNestedEvoLeafEvoCharAttribute());
+		}
+
+		this.setRootEvoNestedEvoLeafEvoDateAttribute(newData.getRootEvoNestedEvoLeafEvoDateAttribute());
+		if (from.isRootEvoNestedEvoLeafEvoDoubleAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoDoubleAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoDoubleAttribute(newData.getRootEvoNestedEvoLeafEvoDoubleAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoFloatAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoFloatAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoFloatAttribute(newData.getRootEvoNestedEvoLeafEvoFloatAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoIntAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoIntAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoIntAttribute(newData.getRootEvoNestedEvoLeafEvoIntAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoLongAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoLongAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoLongAttribute(newData.getRootEvoNestedEvoLeafEvoLongAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoShortAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoShortAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoShortAttribute(newData.getRootEvoNestedEvoLeafEvoShortAttribute());
+		}
+
+		this.setRootEvoNestedEvoLeafEvoStringAttribute(newData.getRootEvoNestedEvoLeafEvoStringAttribute());
+		this.setRootEvoNestedEvoLeafEvoTimestampAttribute(newData.getRootEvoNestedEvoLeafEvoTimestampAttribute());
+		if (from.isRootEvoNestedEvoLongAttributeNull())
+		{
+			this.setRootEvoNestedEvoLongAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLongAttribute(newData.getRootEvoNestedEvoLongAttribute());
+		}
+
+		if (from.isRootEvoNestedEvoShortAttributeNull())
+		{
+			this.setRootEvoNestedEvoShortAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoNestedEvoShortAttribute(newData.getRootEvoNestedEvoShortAttribute());
+		}
+
+		this.setRootEvoNestedEvoStringAttribute(newData.getRootEvoNestedEvoStringAttribute());
+		this.setRootEvoNestedEvoTimestampAttribute(newData.getRootEvoNestedEvoTimestampAttribute());
+		if (from.isRootEvoShortAttributeNull())
+		{
+			this.setRootEvoShortAttributeNull();
+		}
+		else
+		{
+			this.setRootEvoShortAttribute(newData.getRootEvoShortAttribute());
+		}
+
+		this.setRootEvoStringAttribute(newData.getRootEvoStringAttribute());
+		this.setRootEvoTimestampAttribute(newData.getRootEvoTimestampAttribute());
+		if (from.isShortAttributeNull())
+		{
+			this.setShortAttributeNull();
+		}
+		else
+		{
+			this.setShortAttribute(newData.getShortAttribute());
+		}
+
+		this.setStringAttribute(newData.getStringAttribute());
+		this.setTimestampAttribute(newData.getTimestampAttribute());
+	}
+
+	public void zPersistDetachedRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		EvoType1DatedTxnTypesData _newData = (EvoType1DatedTxnTypesData) _data;
+	}
+
+	public void zInsertRelationshipsUntil(MithraDataObject _data, Timestamp exclusiveUntil)
+	{
+		EvoType1DatedTxnTypesData _newData = (EvoType1DatedTxnTypesData) _data;
+	}
+
+	public void copyNonPrimaryKeyAttributesUntilFrom(EvoType1DatedTxnTypesAbstract from, Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.copyNonPrimaryKeyAttributesUntilFrom((MithraDatedTransactionalObject)from, exclusiveUntil);
+	}
+
+	protected void copyNonPrimaryKeyAttributesUntilFromImpl(MithraDatedTransactionalObject f, Timestamp exclusiveUntil, MithraTransaction tx) throws MithraBusinessException
+	{
+		EvoType1DatedTxnTypesAbstract from = (EvoType1DatedTxnTypesAbstract)f;
+		EvoType1DatedTxnTypesData newData = from.zSynchronizedGetData();
+		if (from.isBooleanAttributeNull())
+		{
+			this.setBooleanAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setBooleanAttributeUntil(newData.isBooleanAttribute(), exclusiveUntil);
+		}
+
+		if (from.isByteAttributeNull())
+		{
+			this.setByteAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setByteAttributeUntil(newData.getByteAttribute(), exclusiveUntil);
+		}
+
+		if (from.isCharAttributeNull())
+		{
+			this.setCharAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setCharAttributeUntil(newData.getCharAttribute(), exclusiveUntil);
+		}
+
+		this.setDateAttributeUntil(newData.getDateAttribute(), exclusiveUntil);
+		if (from.isDoubleAttributeNull())
+		{
+			this.setDoubleAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setDoubleAttributeUntil(newData.getDoubleAttribute(), exclusiveUntil);
+		}
+
+		if (from.isFloatAttributeNull())
+		{
+			this.setFloatAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setFloatAttributeUntil(newData.getFloatAttribute(), exclusiveUntil);
+		}
+
+		if (from.isIntAttributeNull())
+		{
+			this.setIntAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setIntAttributeUntil(newData.getIntAttribute(), exclusiveUntil);
+		}
+
+		if (from.isLongAttributeNull())
+		{
+			this.setLongAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setLongAttributeUntil(newData.getLongAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoBigDecimalAttributeUntil(newData.getRootEvoBigDecimalAttribute(), exclusiveUntil);
+		if (from.isRootEvoBooleanAttributeNull())
+		{
+			this.setRootEvoBooleanAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoBooleanAttributeUntil(newData.isRootEvoBooleanAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoByteAttributeNull())
+		{
+			this.setRootEvoByteAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoByteAttributeUntil(newData.getRootEvoByteAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoCharAttributeNull())
+		{
+			this.setRootEvoCharAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoCharAttributeUntil(newData.getRootEvoCharAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoDateAttributeUntil(newData.getRootEvoDateAttribute(), exclusiveUntil);
+		if (from.isRootEvoDoubleAttributeNull())
+		{
+			this.setRootEvoDoubleAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoDoubleAttributeUntil(newData.getRootEvoDoubleAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoFloatAttributeNull())
+		{
+			this.setRootEvoFloatAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoFloatAttributeUntil(newData.getRootEvoFloatAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoIntAttributeNull())
+		{
+			this.setRootEvoIntAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoIntAttributeUntil(newData.getRootEvoIntAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoLongAttributeNull())
+		{
+			this.setRootEvoLongAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoLongAttributeUntil(newData.getRootEvoLongAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoNestedEvoBigDecimalAttributeUntil(newData.getRootEvoNestedEvoBigDecimalAttribute(), exclusiveUntil);
+		if (from.isRootEvoNestedEvoBooleanAttributeNull())
+		{
+			this.setRootEvoNestedEvoBooleanAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoBooleanAttributeUntil(newData.isRootEvoNestedEvoBooleanAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoByteAttributeNull())
+		{
+			this.setRootEvoNestedEvoByteAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoByteAttributeUntil(newData.getRootEvoNestedEvoByteAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoCharAttributeNull())
+		{
+			this.setRootEvoNestedEvoCharAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoCharAttributeUntil(newData.getRootEvoNestedEvoCharAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoNestedEvoDateAttributeUntil(newData.getRootEvoNestedEvoDateAttribute(), exclusiveUntil);
+		if (from.isRootEvoNestedEvoDoubleAttributeNull())
+		{
+			this.setRootEvoNestedEvoDoubleAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoDoubleAttributeUntil(newData.getRootEvoNestedEvoDoubleAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoFloatAttributeNull())
+		{
+			this.setRootEvoNestedEvoFloatAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoFloatAttributeUntil(newData.getRootEvoNestedEvoFloatAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoIntAttributeNull())
+		{
+			this.setRootEvoNestedEvoIntAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoIntAttributeUntil(newData.getRootEvoNestedEvoIntAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoNestedEvoLeafEvoBigDecimalAttributeUntil(newData.getRootEvoNestedEvoLeafEvoBigDecimalAttribute(), exclusiveUntil);
+		if (from.isRootEvoNestedEvoLeafEvoBooleanAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoBooleanAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoBooleanAttributeUntil(newData.isRootEvoNestedEvoLeafEvoBooleanAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoByteAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoByteAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoByteAttributeUntil(newData.getRootEvoNestedEvoLeafEvoByteAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoCharAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoCharAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoCharAttributeUntil(newData.getRootEvoNestedEvoLeafEvoCharAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoNestedEvoLeafEvoDateAttributeUntil(newData.getRootEvoNestedEvoLeafEvoDateAttribute(), exclusiveUntil);
+		if (from.isRootEvoNestedEvoLeafEvoDoubleAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoDoubleAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoDoubleAttributeUntil(newData.getRootEvoNestedEvoLeafEvoDoubleAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoFloatAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoFloatAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoFloatAttributeUntil(newData.getRootEvoNestedEvoLeafEvoFloatAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoIntAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoIntAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoIntAttributeUntil(newData.getRootEvoNestedEvoLeafEvoIntAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoLongAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoLongAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoLongAttributeUntil(newData.getRootEvoNestedEvoLeafEvoLongAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoLeafEvoShortAttributeNull())
+		{
+			this.setRootEvoNestedEvoLeafEvoShortAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLeafEvoShortAttributeUntil(newData.getRootEvoNestedEvoLeafEvoShortAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoNestedEvoLeafEvoStringAttributeUntil(newData.getRootEvoNestedEvoLeafEvoStringAttribute(), exclusiveUntil);
+		this.setRootEvoNestedEvoLeafEvoTimestampAttributeUntil(newData.getRootEvoNestedEvoLeafEvoTimestampAttribute(), exclusiveUntil);
+		if (from.isRootEvoNestedEvoLongAttributeNull())
+		{
+			this.setRootEvoNestedEvoLongAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoLongAttributeUntil(newData.getRootEvoNestedEvoLongAttribute(), exclusiveUntil);
+		}
+
+		if (from.isRootEvoNestedEvoShortAttributeNull())
+		{
+			this.setRootEvoNestedEvoShortAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoNestedEvoShortAttributeUntil(newData.getRootEvoNestedEvoShortAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoNestedEvoStringAttributeUntil(newData.getRootEvoNestedEvoStringAttribute(), exclusiveUntil);
+		this.setRootEvoNestedEvoTimestampAttributeUntil(newData.getRootEvoNestedEvoTimestampAttribute(), exclusiveUntil);
+		if (from.isRootEvoShortAttributeNull())
+		{
+			this.setRootEvoShortAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setRootEvoShortAttributeUntil(newData.getRootEvoShortAttribute(), exclusiveUntil);
+		}
+
+		this.setRootEvoStringAttributeUntil(newData.getRootEvoStringAttribute(), exclusiveUntil);
+		this.setRootEvoTimestampAttributeUntil(newData.getRootEvoTimestampAttribute(), exclusiveUntil);
+		if (from.isShortAttributeNull())
+		{
+			this.setShortAttributeNullUntil(exclusiveUntil);
+		}
+		else
+		{
+			this.setShortAttributeUntil(newData.getShortAttribute(), exclusiveUntil);
+		}
+
+		this.setStringAttributeUntil(newData.getStringAttribute(), exclusiveUntil);
+		this.setTimestampAttributeUntil(newData.getTimestampAttribute(), exclusiveUntil);
+	}
+
+	protected void zCheckOptimisticLocking(MithraTransaction tx, MithraDataObject d, MithraDataObject nd)
+	{
+		EvoType1DatedTxnTypesData newData = (EvoType1DatedTxnTypesData) d;
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) nd;
+		if (EvoType1DatedTxnTypesFinder.getMithraObjectPortal().getTxParticipationMode(tx).isOptimisticLocking()
+		&& !tx.retryOnOptimisticLockFailure() && !newData.getProcessingDateFrom().equals(data.getProcessingDateFrom()))
+		{
+			throw new MithraOptimisticLockException("Optimistic lock failure. "+data.zGetPrintablePrimaryKey());
+		}
+	}
+
+	protected boolean issueUpdates(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.booleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.byteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.charAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.dateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.doubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.floatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.intAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.longAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkTimestampAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), false);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), false);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), false);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), false);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(), false);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.shortAttribute(), false);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.stringAttribute(), false);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.timestampAttribute(), false);
+		return changed;
+	}
+
+	protected boolean issueUpdatesUntil(DatedTransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData, Timestamp until)
+	{
+		boolean changed = false;
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.booleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.byteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.charAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.dateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.doubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.floatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.intAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.longAttribute(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkBigDecimalAttribute(), false, until);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkBooleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkByteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkCharAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkDateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkDoubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkFloatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkIntAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkLongAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkShortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkStringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.pkTimestampAttribute(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoBigDecimalAttribute(), false, until);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoBooleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoByteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoCharAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoDateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoDoubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoFloatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoIntAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoLongAttribute(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBigDecimalAttribute(), false, until);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoBooleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoByteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoCharAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoDoubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoFloatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoIntAttribute(), false, until);
+		changed |= zUpdateBigDecimal(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBigDecimalAttribute(), false, until);
+		changed |= zUpdateBoolean(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoBooleanAttribute(), false, until);
+		changed |= zUpdateByte(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoByteAttribute(), false, until);
+		changed |= zUpdateChar(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoCharAttribute(), false, until);
+		changed |= zUpdateDate(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDateAttribute(), false, until);
+		changed |= zUpdateDouble(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoDoubleAttribute(), false, until);
+		changed |= zUpdateFloat(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoFloatAttribute(), false, until);
+		changed |= zUpdateInteger(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoIntAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoLongAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoShortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoStringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLeafEvoTimestampAttribute(), false, until);
+		changed |= zUpdateLong(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoLongAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoShortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoStringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoNestedEvoTimestampAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoShortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoStringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.rootEvoTimestampAttribute(), false, until);
+		changed |= zUpdateShort(behavior, data, newData, EvoType1DatedTxnTypesFinder.shortAttribute(), false, until);
+		changed |= zUpdateString(behavior, data, newData, EvoType1DatedTxnTypesFinder.stringAttribute(), false, until);
+		changed |= zUpdateTimestamp(behavior, data, newData, EvoType1DatedTxnTypesFinder.timestampAttribute(), false, until);
+		return changed;
+	}
+
+	public void cascadeTerminate()
+	{
+		this.terminate();
+	}
+
+	public void cascadeTerminateUntil(Timestamp exclusiveUntil) throws MithraBusinessException
+	{
+		this.terminateUntil(exclusiveUntil);
+	}
+
+	public void zSerializePrimaryKey(ObjectOutput out) throws IOException
+	{
+		EvoType1DatedTxnTypesData data = ((EvoType1DatedTxnTypesData)this.zGetCurrentOrTransactionalData());
+		data.zSerializePrimaryKey(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		EvoType1DatedTxnTypesData data = ((EvoType1DatedTxnTypesData)this.zGetCurrentDataWithCheck());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		EvoType1DatedTxnTypesData data = ((EvoType1DatedTxnTypesData)this.zGetTxDataForRead());
+		data.zSerializeFullData(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zSerializeAsOfAttributes(java.io.ObjectOutputStream out) throws IOException
+	{
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, businessDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+		MithraTimestamp.writeTimezoneInsensitiveTimestampWithInfinity(out, processingDate, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity());
+	}
+
+	protected void zDeserializeAsOfAttributes(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.businessDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), EvoType1DatedTxnTypesFinder.isFullCache());
+		this.processingDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestampWithInfinity(in, com.gs.fw.common.mithra.test.domain.InfinityTimestamp.getParaInfinity()), EvoType1DatedTxnTypesFinder.isFullCache());
+	}
+
+	public boolean zDataMatches(Object data, Timestamp[] asOfDates)
+	{
+		EvoType1DatedTxnTypesData localData = (EvoType1DatedTxnTypesData) data;
+		MithraDataObject thisData = this.zGetCurrentOrTransactionalData();
+		return thisData != null && localData.hasSamePrimaryKeyIgnoringAsOfAttributes(thisData)
+		&& this.businessDate.equals(asOfDates[0])
+		&& this.processingDate.equals(asOfDates[1])
+		;
+	}
+
+	protected void zResetEmbeddedValueObjects(DatedTransactionalBehavior behavior)
+	{
+		EvoType1DatedTxnTypesData data = (EvoType1DatedTxnTypesData) behavior.getCurrentDataForWrite(this);
+		data.setPk(null);
+		data.setRootEvo(null);
+		data.setRootEvoNestedEvo(null);
+		data.setRootEvoNestedEvoLeafEvo(null);
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = DatedPersistenceState.IN_MEMORY;
+		PERSISTED_STATE = DatedPersistenceState.PERSISTED;
+	}
+}
@@ -0,0 +1,109 @@
+package com.gs.fw.common.mithra.test.domain.evo;
+import com.gs.fw.common.mithra.test.domain.*;
+import com.gs.fw.common.mithra.test.domain.Order;
+import com.gs.fw.common.mithra.test.domain.OrderAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderData;
+import com.gs.fw.common.mithra.test.domain.OrderFinder;
+import com.gs.fw.common.mithra.test.domain.OrderList;
+import com.gs.fw.common.mithra.test.domain.OrderStatus;
+import com.gs.fw.common.mithra.test.domain.OrderStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.OrderStatusData;
+import com.gs.fw.common.mithra.test.domain.OrderStatusFinder;
+import com.gs.fw.common.mithra.test.domain.OrderStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.attribute.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public interface EvoType2DatedReadOnlyTypesFinder<Result extends EvoType2DatedReadOnlyTypes> extends RelatedFinder<Result>
+{
+	public RelatedFinder getRelationshipFinderByName(String relationshipName);
+	public Attribute getAttributeByName(String attributeName);
+	public BooleanAttribute booleanAttribute();
+	public ByteAttribute byteAttribute();
+	public CharAttribute charAttribute();
+	public DateAttribute dateAttribute();
+	public DoubleAttribute doubleAttribute();
+	public FloatAttribute floatAttribute();
+	public IntegerAttribute intAttribute();
+	public LongAttribute longAttribute();
+	public ShortAttribute shortAttribute();
+	public StringAttribute stringAttribute();
+	public TimestampAttribute timestampAttribute();
+	public TimestampAttribute businessDateFrom();
+	public TimestampAttribute businessDateTo();
+	public TimestampAttribute processingDateFrom();
+	public TimestampAttribute processingDateTo();
+	public BooleanAttribute pkBooleanAttribute();
+	public ByteAttribute pkByteAttribute();
+	public CharAttribute pkCharAttribute();
+	public DateAttribute pkDateAttribute();
+	public DoubleAttribute pkDoubleAttribute();
+	public FloatAttribute pkFloatAttribute();
+	public IntegerAttribute pkIntAttribute();
+	public LongAttribute pkLongAttribute();
+	public ShortAttribute pkShortAttribute();
+	public StringAttribute pkStringAttribute();
+	public TimestampAttribute pkTimestampAttribute();
+	public BigDecimalAttribute pkBigDecimalAttribute();
+	public BooleanAttribute rootEvoBooleanAttribute();
+	public ByteAttribute rootEvoByteAttribute();
+	public CharAttribute rootEvoCharAttribute();
+	public DateAttribute rootEvoDateAttribute();
+	public DoubleAttribute rootEvoDoubleAttribute();
+	public FloatAttribute rootEvoFloatAttribute();
+	public IntegerAttribute rootEvoIntAttribute();
+	public LongAttribute rootEvoLongAttribute();
+	public ShortAttribute rootEvoShortAttribute();
+	public StringAttribute rootEvoStringAttribute();
+	public TimestampAttribute rootEvoTimestampAttribute();
+	public BigDecimalAttribute rootEvoBigDecimalAttribute();
+	public BooleanAttribute rootEvoNestedEvoBooleanAttribute();
+	public ByteAttribute rootEvoNestedEvoByteAttribute();
+	public CharAttribute rootEvoNestedEvoCharAttribute();
+	public DateAttribute rootEvoNestedEvoDateAttribute();
+	public DoubleAttribute rootEvoNestedEvoDoubleAttribute();
+	public FloatAttribute rootEvoNestedEvoFloatAttribute();
+	public IntegerAttribute rootEvoNestedEvoIntAttribute();
+	public LongAttribute rootEvoNestedEvoLongAttribute();
+	public ShortAttribute rootEvoNestedEvoShortAttribute();
+	public StringAttribute rootEvoNestedEvoStringAttribute();
+	public TimestampAttribute rootEvoNestedEvoTimestampAttribute();
+	public BigDecimalAttribute rootEvoNestedEvoBigDecimalAttribute();
+	public BooleanAttribute rootEvoNestedEvoLeafEvoBooleanAttribute();
+	public ByteAttribute rootEvoNestedEvoLeafEvoByteAttribute();
+	public CharAttribute rootEvoNestedEvoLeafEvoCharAttribute();
+	public DateAttribute rootEvoNestedEvoLeafEvoDateAttribute();
+	public DoubleAttribute rootEvoNestedEvoLeafEvoDoubleAttribute();
+	public FloatAttribute rootEvoNestedEvoLeafEvoFloatAttribute();
+	public IntegerAttribute rootEvoNestedEvoLeafEvoIntAttribute();
+	public LongAttribute rootEvoNestedEvoLeafEvoLongAttribute();
+	public ShortAttribute rootEvoNestedEvoLeafEvoShortAttribute();
+	public StringAttribute rootEvoNestedEvoLeafEvoStringAttribute();
+	public TimestampAttribute rootEvoNestedEvoLeafEvoTimestampAttribute();
+	public BigDecimalAttribute rootEvoNestedEvoLeafEvoBigDecimalAttribute();
+	public EvoTypesLeaf.ManagedEvoTypesLeafAttribute pk();
+	public EvoTypesRoot.ManagedEvoTypesRootAttribute rootEvo();
+	public EvoTypesNested.ManagedEvoTypesNestedAttribute rootEvoNestedEvo();
+	public EvoTypesLeaf.ManagedEvoTypesLeafAttribute rootEvoNestedEvoLeafEvo();
+	public OrderFinder.OrderSingleFinderForRelatedClasses rootEvoOrder();
+	public OrderFinder.OrderSingleFinderForRelatedClasses rootEvoOrderWithDate(Timestamp date);
+	public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses rootEvoNestedEvoOrderStatus();
+	public OrderStatusFinder.OrderStatusSingleFinderForRelatedClasses rootEvoNestedEvoOrderStatusWithStatus(int status);
+	public AsOfAttribute businessDate();
+	public AsOfAttribute processingDate();
+}
@@ -0,0 +1,233 @@
+package com.gs.fw.common.mithra.test.domain.inherited;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.MithraDataObject;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import java.util.HashSet;
+import java.util.Arrays;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/readonly/Abstract.jsp
+public abstract class ReadOnlyMonkeyAbstract extends com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMammal
+implements MithraObject, Serializable
+{
+	private byte isNullBits0c = 0;
+	private Timestamp alphaMaleDate;
+	private double tailLength;
+	public boolean isAlphaMaleDateNull()
+	{
+		return this.getAlphaMaleDate() == null;
+	}
+
+	public boolean isTailLengthNull()
+	{
+		return (isNullBits0c & 1) != 0 ;
+	}
+
+	public void zSerializeFullData(ObjectOutput out) throws IOException
+	{
+		super.zSerializeFullData(out);
+		zWriteNullBits(out);
+		MithraTimestamp.writeTimezoneInsensitiveTimestamp(out, this.alphaMaleDate);
+		out.writeDouble(this.tailLength);
+	}
+
+	private void zWriteNullBits(ObjectOutput out) throws IOException
+	{
+		out.writeByte(this.isNullBits0c);
+	}
+
+	public MithraDataObject zGetCurrentData()
+	{
+		ReadOnlyMonkeyData data = new ReadOnlyMonkeyData();
+		((ReadOnlyMammalData)super.zGetCurrentData()).copyInto(data, false);
+		data.setAlphaMaleDate(alphaMaleDate);
+		data.setTailLength(tailLength);
+		data.zSetIsNullBits0c(this.isNullBits0c);
+		return data;
+	}
+
+	public ReadOnlyMonkey getNonPersistentCopy() throws MithraBusinessException
+	{
+		MithraDataObject newData = this.zGetCurrentData();
+		ReadOnlyMonkeyAbstract copy = (ReadOnlyMonkeyAbstract) ReadOnlyMonkeyFinder.getMithraObjectPortal().getMithraObjectFactory().createObject(newData);
+		copy.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		return (ReadOnlyMonkey)copy;
+	}
+
+	protected void zSetFromReadOnlyMonkeyData(ReadOnlyMonkeyData data)
+	{
+		this.setFromReadOnlyMonkeyData(data);
+	}
+
+	public void setFromReadOnlyMonkeyData(ReadOnlyMonkeyData data)
+	{
+		super.setFromReadOnlyMammalData(data);
+		alphaMaleDate = data.getAlphaMaleDate();
+		tailLength = data.getTailLength();
+		this.isNullBits0c = data.zGetIsNullBits0c();
+	}
+
+	public void zSetNonTxPersistenceState(int state)
+	{
+		this.persistenceState = (byte) state;
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return ReadOnlyMonkeyFinder.getMithraObjectPortal();
+	}
+
+	public boolean isDeletedOrMarkForDeletion()
+	{
+		return this.persistenceState == PersistenceState.DELETED;
+	}
+
+	public void zReindexAndSetDataIfChanged(MithraDataObject data, Cache cache)
+	{
+		if (this.zChanged(data))
+		{
+			cache.reindex(this, data, null, null);
+		}
+	}
+
+	public void zSetData(MithraDataObject data, Object optionalBehavior)
+	{
+		this.setFromReadOnlyMonkeyData((ReadOnlyMonkeyData)data);
+	}
+
+	private void throwNullPrimitiveException(String attributeName)
+	{
+		throw new MithraNullPrimitiveException("attribute '"+attributeName+"' is null in database and a default is not specified in mithra xml for primary key / "+this.zGetPrintablePrimaryKey());
+	}
+
+	public Timestamp getAlphaMaleDate()
+	{
+		return this.alphaMaleDate;
+	}
+
+	public void setAlphaMaleDate(Timestamp value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.alphaMaleDate = TimestampPool.getInstance().getOrAddToCache(value, ReadOnlyMonkeyFinder.isFullCache());
+	}
+
+	public double getTailLength()
+	{
+		if (isTailLengthNull()) throwNullPrimitiveException("tailLength");
+		return this.tailLength;
+	}
+
+	public void setTailLength(double value)
+	{
+		this.ensureSetAttributeAllowed();
+		this.tailLength = value;
+		isNullBits0c = (byte)((int)isNullBits0c & ~( 1));
+	}
+
+	private void ensureSetAttributeAllowed()
+	{
+		if (this.persistenceState != PersistenceState.IN_MEMORY_NON_TRANSACTIONAL)
+		{
+			throw new MithraBusinessException("Cannot set an attribute of a persisted read-only object");
+		}
+	}
+
+	public void setTailLengthNull()
+	{
+		this.ensureSetAttributeAllowed();
+		isNullBits0c = (byte)((int)isNullBits0c | 1);
+	}
+
+	protected boolean zChanged(MithraDataObject newData)
+	{
+		if (super.zChanged(newData)) return true;
+		final ReadOnlyMonkeyData readOnlyMonkeyData = (ReadOnlyMonkeyData) newData;
+		if (isNullBits0c != readOnlyMonkeyData.zGetIsNullBits0c())
+		{
+			return true;
+		}
+
+		if (!isAlphaMaleDateNull() ? !getAlphaMaleDate().equals(readOnlyMonkeyData.getAlphaMaleDate()) : !readOnlyMonkeyData.isAlphaMaleDateNull())
+		{
+			return true;
+		}
+
+		if (tailLength != readOnlyMonkeyData.getTailLength())
+		{
+			return true;
+		}
+
+		return false;
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+		out.writeObject("com.gs.fw.common.mithra.test.domain.inherited.ReadOnlyMonkeyData");
+	}
+
+	public void zSerializeFullTxData(ObjectOutput out) throws IOException
+	{
+		this.zSerializeFullData(out);
+	}
+
+	protected void zReadObject(ObjectInputStream in) throws IOException, ClassNotFoundException
+	{
+		this.readObject(in);
+	}
+
+	private void readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		super.zReadObject(in);
+		final boolean fullData = this.persistenceState == PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		if (fullData)
+		{
+			this.isNullBits0c = in.readByte();
+			this.alphaMaleDate = TimestampPool.getInstance().getOrAddToCache(MithraTimestamp.readTimezoneInsensitiveTimestamp(in), ReadOnlyMonkeyFinder.isFullCache(), ReadOnlyMonkeyFinder.isOffHeap());
+			this.tailLength = in.readDouble();
+			this.persistenceState = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		}
+		else
+		{
+			this.persistenceState = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+		}
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		if (this.persistenceState == PersistenceState.PERSISTED_NON_TRANSACTIONAL)
+		{
+			Operation op = ReadOnlyMonkeyFinder.animalId().eq(this.getAnimalId());
+			return ReadOnlyMonkeyFinder.findOne(op);
+		}
+
+		return this;
+	}
+
+	public void zMarkDirty()
+	{
+	}
+
+	private void resetEmbeddedValueObjects()
+	{
+	}
+}
@@ -0,0 +1,440 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.conflict;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalArea;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaAbstract;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaData;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaFinder;
+import com.gs.fw.common.mithra.test.domain.model.refactored.CheckPrincipalAreaList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.behavior.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.behavior.state.PersistenceState;
+import com.gs.fw.common.mithra.attribute.update.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import java.util.Arrays;
+import java.util.HashSet;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/Abstract.jsp
+public abstract class BankingDealDetailImplAbstract extends com.gs.fw.common.mithra.superclassimpl.MithraTransactionalObjectImpl
+{
+	private static byte MEMORY_STATE = PersistenceState.IN_MEMORY;
+	private static byte PERSISTED_STATE = PersistenceState.PERSISTED;
+	private static final Logger logger = LoggerFactory.getLogger(BankingDealDetailImpl.class.getName());
+	public BankingDealDetailImplAbstract()
+	{
+		this.persistenceState = MEMORY_STATE;
+	}
+
+	public BankingDealDetailImpl getDetachedCopy() throws MithraBusinessException
+	{
+		return (BankingDealDetailImpl) super.getDetachedCopy();
+	}
+
+	public BankingDealDetailImpl getNonPersistentCopy() throws MithraBusinessException
+	{
+		BankingDealDetailImpl result = (BankingDealDetailImpl) super.getNonPersistentCopy();
+		result.persistenceState = MEMORY_STATE;
+		return result;
+	}
+
+	public BankingDealDetailImpl copyDetachedValuesToOriginalOrInsertIfNew()
+	{
+		return (BankingDealDetailImpl) this.zCopyDetachedValuesToOriginalOrInsertIfNew();
+	}
+
+	public BankingDealDetailImpl zFindOriginal()
+	{
+		BankingDealDetailImplData data = (BankingDealDetailImplData) this.currentData;
+		Operation op;
+		op = BankingDealDetailImplFinder.checkId().eq(data.getCheckId());
+		return BankingDealDetailImplFinder.findOne(op);
+	}
+
+	public boolean isModifiedSinceDetachmentByDependentRelationships()
+	{
+		if(this.isModifiedSinceDetachment()) return true;
+		if(isCheckPrincipalAreasModifiedSinceDetachment()) return true;
+		return false;
+	}
+
+	private Logger getLogger()
+	{
+		return logger;
+	}
+
+	public MithraDataObject zAllocateData()
+	{
+		return new BankingDealDetailImplData();
+	}
+
+	protected void zSetFromBankingDealDetailImplData( BankingDealDetailImplData data )
+	{
+		super.zSetData(data);
+		this.persistenceState = PERSISTED_STATE;
+	}
+
+	public void setFromBankingDealDetailImplData( BankingDealDetailImplData data )
+	{
+		super.zSetData(data);
+	}
+
+	public void zWriteDataClassName(ObjectOutput out) throws IOException
+	{
+	}
+
+	public boolean isCheckIdNull()
+	{
+		return ((BankingDealDetailImplData) this.zSynchronizedGetData()).isCheckIdNull();
+	}
+
+	public int getCheckId()
+	{
+		BankingDealDetailImplData data = (BankingDealDetailImplData) this.zSynchronizedGetData();
+		return data.getCheckId();
+	}
+
+	public void setCheckId(int newValue)
+	{
+		MithraDataObject d = zSetInteger(BankingDealDetailImplFinder.checkId(), newValue, true, false ,false);
+		if (d == null) return;
+		BankingDealDetailImplData data = (BankingDealDetailImplData) d;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (!_behavior.isPersisted())
+		{
+			CheckPrincipalAreaList checkPrincipalAreas =
+			(CheckPrincipalAreaList ) data.getCheckPrincipalAreas();
+			if (checkPrincipalAreas != null)
+			{
+				checkPrincipalAreas.setCheckId(newValue);
+			}
+		}
+	}
+
+	protected void issuePrimitiveNullSetters(TransactionalBehavior behavior, MithraDataObject data)
+	{
+	}
+
+	public void zPersistDetachedRelationships(MithraDataObject _data)
+	{
+		BankingDealDetailImplData _newData = (BankingDealDetailImplData) _data;
+		{
+			CheckPrincipalAreaList checkPrincipalAreas =
+			(CheckPrincipalAreaList) _newData.getCheckPrincipalAreas();
+			if (checkPrincipalAreas != null)
+			{
+				checkPrincipalAreas.copyDetachedValuesToOriginalOrInsertIfNewOrDeleteIfRemoved();
+			}
+		}
+	}
+
+	public void zSetTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		if (_behavior.isDetached() && _behavior.isDeleted()) return;
+		BankingDealDetailImplData _newData = (BankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getCheckPrincipalAreas() != null && !(_newData.getCheckPrincipalAreas() instanceof NulledRelation))
+		{
+			((CheckPrincipalAreaList)_newData.getCheckPrincipalAreas()).zSetTxDetachedDeleted();
+		}
+
+		this.zSetTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	public void zSetNonTxDetachedDeleted()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BankingDealDetailImplData _newData = (BankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_newData.getCheckPrincipalAreas() != null && !(_newData.getCheckPrincipalAreas() instanceof NulledRelation))
+		{
+			((CheckPrincipalAreaList)_newData.getCheckPrincipalAreas()).zSetNonTxDetachedDeleted();
+		}
+
+		this.zSetNonTxPersistenceState(PersistenceState.DETACHED_DELETED);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.checkId = CheckPrincipalArea.checkId</pre>
+	* @return check principal areas
+	*/
+	public CheckPrincipalAreaList getCheckPrincipalAreas()
+	{
+		CheckPrincipalAreaList _result = null;
+		Operation _op = null;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BankingDealDetailImplData _data = (BankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		if (_behavior.isPersisted())
+		{
+			{
+				{
+					_op = CheckPrincipalAreaFinder.checkId().eq(_data.getCheckId());
+				}
+			}
+		}
+		else if (_behavior.isDetached())
+		{
+			_result = (CheckPrincipalAreaList) _data.getCheckPrincipalAreas();
+			if (_result == null)
+			{
+				{
+					Operation detachedOp = CheckPrincipalAreaFinder.checkId().eq(_data.getCheckId());
+					_result = new CheckPrincipalAreaList(detachedOp);
+					_result.zSetForRelationship();
+					if(_result != null)
+					{
+						_result = _result.getDetachedCopy();
+					}
+
+					_result.zSetAddHandler(new CheckPrincipalAreasAddHandlerInMemory());
+				}
+
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (BankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setCheckPrincipalAreas(_result);
+			}
+		}
+		else if (_behavior.isInMemory())
+		{
+			_result = (CheckPrincipalAreaList) _data.getCheckPrincipalAreas();
+			if (_result == null)
+			{
+				_result = new CheckPrincipalAreaList();
+				_result.zSetAddHandler(new CheckPrincipalAreasAddHandlerInMemory());
+				_behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+				_data = (BankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+				_data.setCheckPrincipalAreas(_result);
+			}
+		}
+
+		if (_op != null)
+		{
+			_result = new CheckPrincipalAreaList(_op);
+			_result.zSetForRelationship();
+			_result.zSetRemoveHandler(DeleteOnRemoveHandler.getInstance());
+			_result.zSetAddHandler(new CheckPrincipalAreasAddHandlerPersisted());
+		}
+
+		return _result;
+	}
+
+	public void setCheckPrincipalAreas(CheckPrincipalAreaList checkPrincipalAreas)
+	{
+		CheckPrincipalAreaList _checkPrincipalAreas = (CheckPrincipalAreaList) checkPrincipalAreas;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BankingDealDetailImplData _data = (BankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		if (_behavior.isInMemory())
+		{
+			if (_behavior.isDetached() && _checkPrincipalAreas != null)
+			{
+				_checkPrincipalAreas.zMakeDetached(CheckPrincipalAreaFinder.checkId().eq(_data.getCheckId()),
+					_data.getCheckPrincipalAreas());
+			}
+
+			_data.setCheckPrincipalAreas(_checkPrincipalAreas);
+			if (_checkPrincipalAreas != null)
+			{
+				_checkPrincipalAreas.setCheckId(_data.getCheckId());
+				_checkPrincipalAreas.zSetAddHandler(new CheckPrincipalAreasAddHandlerInMemory());
+			}
+			else if (_behavior.isDetached())
+			{
+				throw new MithraBusinessException("to-many relationships cannot be set to null. Use the clear() method on the list instead.");
+			}
+		}
+		else if (_behavior.isPersisted())
+		{
+			_behavior.clearTempTransaction(this);
+			_checkPrincipalAreas.zSetAddHandler(new CheckPrincipalAreasAddHandlerPersisted());
+			CheckPrincipalAreaList checkPrincipalAreasToDelete = new CheckPrincipalAreaList();
+			checkPrincipalAreasToDelete.addAll(this.getCheckPrincipalAreas());
+			for(int i=0;i < _checkPrincipalAreas.size(); i++)
+			{
+				CheckPrincipalArea item = _checkPrincipalAreas.getCheckPrincipalAreaAt(i);
+				if (!checkPrincipalAreasToDelete.remove(item))
+				{
+					item.setCheckId(_data.getCheckId());
+					item.cascadeInsert();
+				}
+			}
+
+			checkPrincipalAreasToDelete.cascadeDeleteAll();
+		}
+		else throw new RuntimeException("not implemented");
+	}
+
+	public boolean isCheckPrincipalAreasModifiedSinceDetachment()
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForReadWithWaitIfNecessary();
+		BankingDealDetailImplData _data = (BankingDealDetailImplData) _behavior.getCurrentDataForRead(this);
+		CheckPrincipalAreaList checkPrincipalAreas =
+		(CheckPrincipalAreaList) _data.getCheckPrincipalAreas();
+		if( checkPrincipalAreas != null)
+		{
+			return checkPrincipalAreas.isModifiedSinceDetachment();
+		}
+
+		return false;
+	}
+
+	protected void cascadeInsertImpl() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BankingDealDetailImplData _data = (BankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		CheckPrincipalAreaList checkPrincipalAreas =
+		(CheckPrincipalAreaList) _data.getCheckPrincipalAreas();
+		_behavior.insert(this);
+		if (checkPrincipalAreas != null)
+		{
+			checkPrincipalAreas.cascadeInsertAll();
+		}
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStats(RelatedFinder finder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		_behavior.addNavigatedRelationshipsStats(this, finder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForUpdate(RelatedFinder parentFinderGeneric, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		BankingDealDetailImplFinder.BankingDealDetailImplRelatedFinder parentFinder = (BankingDealDetailImplFinder.BankingDealDetailImplRelatedFinder) parentFinderGeneric;
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BankingDealDetailImplData _newData = (BankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		{
+			CheckPrincipalAreaList checkPrincipalAreas =
+			(CheckPrincipalAreaList) _newData.getCheckPrincipalAreas();
+			RelatedFinder dependentFinder = parentFinder.checkPrincipalAreas();
+			DeepRelationshipUtility.zAddToNavigationStats(dependentFinder, checkPrincipalAreas != null, navigationStats);
+			if (checkPrincipalAreas != null)
+			{
+				checkPrincipalAreas.zCascadeAddNavigatedRelationshipsStats(dependentFinder, navigationStats);
+			}
+		}
+
+		return navigationStats;
+	}
+
+	@Override
+	public Map< RelatedFinder, StatisticCounter > zAddNavigatedRelationshipsStatsForDelete(RelatedFinder parentFinder, Map< RelatedFinder, StatisticCounter > navigationStats)
+	{
+		DeepRelationshipUtility.zAddAllDependentNavigationsStatsForDelete(parentFinder, navigationStats);
+		return navigationStats;
+	}
+
+	@Override
+	public BankingDealDetailImpl zCascadeCopyThenInsert() throws MithraBusinessException
+	{
+		TransactionalBehavior _behavior = zGetTransactionalBehaviorForWriteWithWaitIfNecessary();
+		BankingDealDetailImplData _data = (BankingDealDetailImplData) _behavior.getCurrentDataForWrite(this);
+		CheckPrincipalAreaList checkPrincipalAreas =
+		(CheckPrincipalAreaList) _data.getCheckPrincipalAreas();
+		BankingDealDetailImpl original = (BankingDealDetailImpl) _behavior.copyThenInsert(this);
+		if (checkPrincipalAreas != null)
+		{
+			checkPrincipalAreas.zCascadeCopyThenInsertAll();
+		}
+
+		return original;
+	}
+
+	protected void cascadeDeleteImpl() throws MithraBusinessException
+	{
+		this.getCheckPrincipalAreas().cascadeDeleteAll();
+		this.delete();
+	}
+
+	public Cache zGetCache()
+	{
+		return BankingDealDetailImplFinder.getMithraObjectPortal().getCache();
+	}
+
+	public MithraObjectPortal zGetPortal()
+	{
+		return BankingDealDetailImplFinder.getMithraObjectPortal();
+	}
+
+	public BankingDealDetailImpl getOriginalPersistentObject()
+	{
+		return this.zFindOriginal();
+	}
+
+	protected boolean issueUpdatesForNonPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		return changed;
+	}
+
+	protected boolean issueUpdatesForPrimaryKeys(TransactionalBehavior behavior, MithraDataObject data, MithraDataObject newData)
+	{
+		boolean changed = false;
+		changed |= zUpdateInteger(behavior, data, newData, BankingDealDetailImplFinder.checkId(), false);
+		return changed;
+	}
+
+	public Object readResolve() throws ObjectStreamException
+	{
+		BankingDealDetailImplAbstract result = (BankingDealDetailImplAbstract) super.readResolve();
+		if (result.persistenceState == PersistenceState.PERSISTED)
+		{
+			result.persistenceState = PERSISTED_STATE;
+		}
+		else if (result.persistenceState == PersistenceState.IN_MEMORY)
+		{
+			result.persistenceState = MEMORY_STATE;
+		}
+
+		return result;
+	}
+
+	protected static void zConfigNonTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY_NON_TRANSACTIONAL;
+		PERSISTED_STATE = PersistenceState.PERSISTED_NON_TRANSACTIONAL;
+	}
+
+	protected static void zConfigFullTx()
+	{
+		MEMORY_STATE = PersistenceState.IN_MEMORY;
+		PERSISTED_STATE = PersistenceState.PERSISTED;
+	}
+
+	protected class CheckPrincipalAreasAddHandlerInMemory implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			CheckPrincipalArea item = (CheckPrincipalArea) relatedObject;
+			item.setCheckId(getCheckId());
+		}
+	}
+
+	protected class CheckPrincipalAreasAddHandlerPersisted implements DependentRelationshipAddHandler
+	{
+		public void addRelatedObject(MithraTransactionalObject relatedObject)
+		{
+			CheckPrincipalArea item = (CheckPrincipalArea) relatedObject;
+			item.setCheckId(getCheckId());
+			item.cascadeInsert();
+		}
+	}
+}
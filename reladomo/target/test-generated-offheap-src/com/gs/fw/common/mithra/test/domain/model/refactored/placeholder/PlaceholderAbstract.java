@@ -0,0 +1,22 @@
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface PlaceholderAbstract
+{
+	public String getDescription();
+	public void setDescription(String newValue);
+	public boolean isDescriptionNull();
+	public int getId();
+	public void setId(int newValue);
+	public boolean isIdNull();
+	public String getName();
+	public void setName(String newValue);
+	public boolean isNameNull();
+	public PlaceholderAssociatedCheckList getAssociatedChecks();
+	public void setAssociatedChecks(PlaceholderAssociatedCheckList associatedChecks);
+}
@@ -0,0 +1,130 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class PlaceholderAssociatedCheckListAbstract extends DelegatingList<PlaceholderAssociatedCheck> implements MithraTransactionalList<PlaceholderAssociatedCheck>
+{
+	public PlaceholderAssociatedCheckListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public PlaceholderAssociatedCheckListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public PlaceholderAssociatedCheckListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public PlaceholderAssociatedCheckListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public PlaceholderAssociatedCheck[] elements()
+	{
+		PlaceholderAssociatedCheck[] result = new PlaceholderAssociatedCheck[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public PlaceholderAssociatedCheckList intersection(PlaceholderAssociatedCheckList another)
+	{
+		return (PlaceholderAssociatedCheckList)super.intersection(another);
+	}
+
+	public PlaceholderAssociatedCheck getPlaceholderAssociatedCheckAt(int index)
+	{
+		return (PlaceholderAssociatedCheck)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return PlaceholderAssociatedCheckFinder.getMithraObjectPortal();
+	}
+
+	public PlaceholderAssociatedCheckList getNonPersistentCopy()
+	{
+		PlaceholderAssociatedCheckList result = new PlaceholderAssociatedCheckList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public PlaceholderAssociatedCheckList asAdhoc()
+	{
+		return (PlaceholderAssociatedCheckList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<PlaceholderAssociatedCheck> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public PlaceholderAssociatedCheckList merge(MithraTransactionalList<PlaceholderAssociatedCheck> incoming, TopLevelMergeOptions<PlaceholderAssociatedCheck> mergeOptions)
+	{
+		return (PlaceholderAssociatedCheckList) super.merge(incoming, mergeOptions);
+	}
+
+	public PlaceholderAssociatedCheckList getDetachedCopy()
+	{
+		PlaceholderAssociatedCheckList result = new PlaceholderAssociatedCheckList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setPlaceholderId(int newValue)
+	{
+		zSetInteger(PlaceholderAssociatedCheckFinder.placeholderId(), newValue);
+	}
+}
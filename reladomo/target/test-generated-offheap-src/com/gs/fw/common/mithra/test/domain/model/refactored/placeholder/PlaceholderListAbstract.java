@@ -0,0 +1,11 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+public interface PlaceholderListAbstract extends List<Placeholder>
+{
+	public PlaceholderAssociatedCheckList getAssociatedChecks();
+	public void setDescription(String newValue);
+	public void setId(int newValue);
+	public void setName(String newValue);
+}
@@ -0,0 +1,845 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class RestrictionFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/model/refactored/placeholder/Restriction";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.Restriction";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.Restriction");
+	private static final RestrictionSingleFinder<Restriction, Object, Restriction> finder = new RestrictionSingleFinder<Restriction, Object, Restriction>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(RestrictionFinder.RestrictionRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("specialConsiderations");
+		finderMethodMap.addNormalAttributeName("engagementDate");
+		finderMethodMap.addNormalAttributeName("engagementAndTailDate");
+		finderMethodMap.addNormalAttributeName("otherDate");
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("description");
+		finderMethodMap.addRelationshipName("associatedChecks");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[2];
+			result[0] = RestrictionFinder.id().constructEqualityMapper(PlaceholderAssociatedCheckFinder.placeholderId());
+			result[1] = PlaceholderAssociatedCheckFinder.placeholderId().constructEqualityMapper(RestrictionFinder.id());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static Restriction findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static Restriction findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static RestrictionList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (RestrictionList) finder.findMany(operation);
+	}
+
+	public static RestrictionList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (RestrictionList) finder.findManyBypassCache(operation);
+	}
+
+	private static Restriction findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (Restriction) FinderUtils.findOne(found);
+	}
+
+	public static Restriction findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			RestrictionData _castedTargetData = (RestrictionData) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static Restriction zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (Restriction) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class RestrictionRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<Restriction, ParentOwnerType, ReturnType, ReturnListType, OwnerType> implements PlaceholderFinder<Restriction>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> specialConsiderations;
+		private StringAttribute<ParentOwnerType> engagementDate;
+		private StringAttribute<ParentOwnerType> engagementAndTailDate;
+		private StringAttribute<ParentOwnerType> otherDate;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private StringAttribute<ParentOwnerType> description;
+		private RestrictionAssociatedChecksFinderSubclass<ParentOwnerType> associatedChecks;
+		public RestrictionRelatedFinder()
+		{
+			super();
+		}
+
+		public RestrictionRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.RestrictionFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return RestrictionFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return RestrictionFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return RestrictionFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[7];
+			attributes[0] = this.specialConsiderations();
+			attributes[1] = this.engagementDate();
+			attributes[2] = this.engagementAndTailDate();
+			attributes[3] = this.otherDate();
+			attributes[4] = this.id();
+			attributes[5] = this.name();
+			attributes[6] = this.description();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(1);
+				relatedFinders.add(this.associatedChecks());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(1);
+				dependentRelatedFinders.add(this.associatedChecks());
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public Restriction findOne(com.gs.fw.finder.Operation operation)
+		{
+			return RestrictionFinder.findOne(operation, false);
+		}
+
+		public Restriction findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return RestrictionFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends Restriction> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new RestrictionList((Operation) operation);
+		}
+
+		public MithraList<? extends Restriction> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			RestrictionList result = (RestrictionList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends Restriction> constructEmptyList()
+		{
+			return new RestrictionList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 182800801;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> specialConsiderations()
+		{
+			StringAttribute<ParentOwnerType> result = this.specialConsiderations;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("SPECIAL_CONSIDERATIONS","","specialConsiderations",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(RestrictionFinder.specialConsiderations(), this.mapper, this.zGetValueSelector());
+				this.specialConsiderations = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> engagementDate()
+		{
+			StringAttribute<ParentOwnerType> result = this.engagementDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENGAGEMENT_DATE","","engagementDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(RestrictionFinder.engagementDate(), this.mapper, this.zGetValueSelector());
+				this.engagementDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> engagementAndTailDate()
+		{
+			StringAttribute<ParentOwnerType> result = this.engagementAndTailDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("ENGAGEMENT_TAIL_DATE","","engagementAndTailDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(RestrictionFinder.engagementAndTailDate(), this.mapper, this.zGetValueSelector());
+				this.engagementAndTailDate = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> otherDate()
+		{
+			StringAttribute<ParentOwnerType> result = this.otherDate;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("OTHER_DATE","","otherDate",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(RestrictionFinder.otherDate(), this.mapper, this.zGetValueSelector());
+				this.otherDate = result;
+			}
+
+			return result;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("PLACEHOLDER_ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,true,false,false,-1,-1,-1,true, false) :
+					new MappedIntegerAttribute(RestrictionFinder.id(), this.mapper, this.zGetValueSelector());
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("PLACEHOLDER_NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,512,true, false) :
+					new MappedStringAttribute(RestrictionFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> description()
+		{
+			StringAttribute<ParentOwnerType> result = this.description;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("DESCRIPTION","","description",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,true,false,-1,-1,-1,Integer.MAX_VALUE,true, false) :
+					new MappedStringAttribute(RestrictionFinder.description(), this.mapper, this.zGetValueSelector());
+				this.description = result;
+			}
+
+			return result;
+		}
+
+		public PlaceholderAssociatedCheckFinder.PlaceholderAssociatedCheckCollectionFinderForRelatedClasses<ParentOwnerType, PlaceholderAssociatedCheckList, Restriction> associatedChecks()
+		{
+			RestrictionAssociatedChecksFinderSubclass<ParentOwnerType> result = this.associatedChecks;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(RestrictionFinder.zGetRestrictionAssociatedChecksReverseMapper());
+				newMapper.setToMany(true);
+				result = new RestrictionAssociatedChecksFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.associatedChecks = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return RestrictionFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return RestrictionFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class RestrictionCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends RestrictionRelatedFinder<ParentOwnerType, ReturnType, RestrictionList, OwnerType>
+	{
+		public RestrictionCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class RestrictionCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends RestrictionCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public RestrictionCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class RestrictionSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends RestrictionRelatedFinder<ParentOwnerType, ReturnType, RestrictionList, OwnerType>
+	implements ToOneFinder
+	{
+		public RestrictionSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public RestrictionSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(Restriction other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public Restriction findByPrimaryKey(int id)
+		{
+			Restriction _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (Restriction) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class RestrictionSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends RestrictionSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public RestrictionSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper associatedChecksReverseMapper = null;
+	public static Mapper zGetRestrictionAssociatedChecksReverseMapper()
+	{
+		if (associatedChecksReverseMapper == null)
+		{
+			associatedChecksReverseMapper = zConstructRestrictionAssociatedChecksReverseMapper();
+		}
+
+		return associatedChecksReverseMapper;
+	}
+
+	private static Mapper associatedChecksMapper = null;
+	public static Mapper zGetRestrictionAssociatedChecksMapper()
+	{
+		if (associatedChecksMapper == null)
+		{
+			associatedChecksMapper = zConstructRestrictionAssociatedChecksMapper();
+		}
+
+		return associatedChecksMapper;
+	}
+
+	private static Mapper associatedChecksPureReverseMapper = null;
+	public static Mapper zGetRestrictionAssociatedChecksPureReverseMapper()
+	{
+		if (associatedChecksPureReverseMapper == null)
+		{
+			associatedChecksPureReverseMapper = zConstructRestrictionAssociatedChecksPureReverseMapper();
+		}
+
+		return associatedChecksPureReverseMapper;
+	}
+
+	private static Mapper zConstructRestrictionAssociatedChecksPureReverseMapper()
+	{
+		Mapper associatedChecksMapper = RestrictionFinder.zGetConstantJoin(0);
+		associatedChecksMapper.setName("associatedChecks");
+		return associatedChecksMapper;
+	}
+
+	private static Mapper zConstructRestrictionAssociatedChecksReverseMapper()
+	{
+		Mapper associatedChecksMapper = RestrictionFinder.zGetConstantJoin(0);
+		associatedChecksMapper.setName("associatedChecks");
+		return associatedChecksMapper;
+	}
+
+	private static Mapper zConstructRestrictionAssociatedChecksMapper()
+	{
+		Mapper associatedChecksMapper = RestrictionFinder.zGetConstantJoin(1);
+		associatedChecksMapper.setName("associatedChecks_Reverse");
+		return associatedChecksMapper;
+	}
+
+	/** maps to RESTRICTION.SPECIAL_CONSIDERATIONS **/
+	public static StringAttribute<Restriction> specialConsiderations()
+	{
+		return finder.specialConsiderations();
+	}
+
+	/** maps to RESTRICTION.ENGAGEMENT_DATE **/
+	public static StringAttribute<Restriction> engagementDate()
+	{
+		return finder.engagementDate();
+	}
+
+	/** maps to RESTRICTION.ENGAGEMENT_TAIL_DATE **/
+	public static StringAttribute<Restriction> engagementAndTailDate()
+	{
+		return finder.engagementAndTailDate();
+	}
+
+	/** maps to RESTRICTION.OTHER_DATE **/
+	public static StringAttribute<Restriction> otherDate()
+	{
+		return finder.otherDate();
+	}
+
+	/** maps to RESTRICTION.PLACEHOLDER_ID **/
+	public static IntegerAttribute<Restriction> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to RESTRICTION.PLACEHOLDER_NAME **/
+	public static StringAttribute<Restriction> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to RESTRICTION.DESCRIPTION **/
+	public static StringAttribute<Restriction> description()
+	{
+		return finder.description();
+	}
+
+	public static PlaceholderAssociatedCheckFinder.PlaceholderAssociatedCheckCollectionFinderForRelatedClasses<Restriction, PlaceholderAssociatedCheckList, Restriction> associatedChecks()
+	{
+		return finder.associatedChecks();
+	}
+
+	public static class RestrictionAssociatedChecksFinderSubclass<ParentOwnerType> extends PlaceholderAssociatedCheckFinder.PlaceholderAssociatedCheckCollectionFinderForRelatedClasses<ParentOwnerType, PlaceholderAssociatedCheckList, Restriction>
+	{
+		public RestrictionAssociatedChecksFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "associatedChecks";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new RestrictionAssociatedChecksFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		public boolean isModifiedSinceDetachment(MithraTransactionalObject _obj)
+		{
+			return ((Restriction) _obj).isAssociatedChecksModifiedSinceDetachment();
+		}
+
+		protected PlaceholderAssociatedCheckList plainValueOf(Restriction _obj)
+		{
+			return _obj.getAssociatedChecks();
+		}
+
+		protected PlaceholderAssociatedCheckList plainListValueOf(Object _obj)
+		{
+			return ((RestrictionList)_obj).getAssociatedChecks();
+		}
+	}
+
+	public static Operation eq(Restriction other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static RestrictionSingleFinder<Restriction, Object, Restriction> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			specialConsiderations()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectPersister) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraTransactionalPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.model.refactored.placeholder.Restriction");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeReadCacheUpdateCausesRefreshAndLock(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, ReadCacheUpdateCausesRefreshAndLockTxParticipationMode.getInstance());
+	}
+
+	public static void setTransactionModeOptimisticRead(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, OptimisticReadTxParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
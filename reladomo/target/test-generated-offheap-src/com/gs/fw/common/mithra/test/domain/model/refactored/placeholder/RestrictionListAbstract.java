@@ -0,0 +1,180 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class RestrictionListAbstract extends DelegatingList<Restriction> implements MithraTransactionalList<Restriction>
+{
+	public RestrictionListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public RestrictionListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public RestrictionListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public RestrictionListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public Restriction[] elements()
+	{
+		Restriction[] result = new Restriction[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public RestrictionList intersection(RestrictionList another)
+	{
+		return (RestrictionList)super.intersection(another);
+	}
+
+	public Restriction getRestrictionAt(int index)
+	{
+		return (Restriction)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = PlaceholderAssociatedCheck.placeholderId</pre>
+	* @return associated checks
+	*/
+	public PlaceholderAssociatedCheckList getAssociatedChecks()
+	{
+		return (PlaceholderAssociatedCheckList) this.getDelegated().resolveRelationship(this, RestrictionFinder.associatedChecks());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return RestrictionFinder.getMithraObjectPortal();
+	}
+
+	public RestrictionList getNonPersistentCopy()
+	{
+		RestrictionList result = new RestrictionList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public RestrictionList asAdhoc()
+	{
+		return (RestrictionList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<Restriction> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public RestrictionList merge(MithraTransactionalList<Restriction> incoming, TopLevelMergeOptions<Restriction> mergeOptions)
+	{
+		return (RestrictionList) super.merge(incoming, mergeOptions);
+	}
+
+	public RestrictionList getDetachedCopy()
+	{
+		RestrictionList result = new RestrictionList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)RestrictionFinder.id(), false, "PlaceholderId", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(RestrictionFinder.description(), newValue);
+	}
+
+	public void setEngagementAndTailDate(String newValue)
+	{
+		zSetString(RestrictionFinder.engagementAndTailDate(), newValue);
+	}
+
+	public void setEngagementDate(String newValue)
+	{
+		zSetString(RestrictionFinder.engagementDate(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(RestrictionFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(RestrictionFinder.name(), newValue);
+	}
+
+	public void setOtherDate(String newValue)
+	{
+		zSetString(RestrictionFinder.otherDate(), newValue);
+	}
+
+	public void setSpecialConsiderations(String newValue)
+	{
+		zSetString(RestrictionFinder.specialConsiderations(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getAssociatedChecks()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,170 @@
+package com.gs.fw.common.mithra.test.domain.model.refactored.placeholder;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class SimplePlaceholderListImplAbstract extends DelegatingList<SimplePlaceholder> implements MithraTransactionalList<SimplePlaceholder>
+{
+	public SimplePlaceholderListImplAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public SimplePlaceholderListImplAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public SimplePlaceholderListImplAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public SimplePlaceholderListImplAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public SimplePlaceholder[] elements()
+	{
+		SimplePlaceholder[] result = new SimplePlaceholder[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public SimplePlaceholderListImpl intersection(SimplePlaceholderListImpl another)
+	{
+		return (SimplePlaceholderListImpl)super.intersection(another);
+	}
+
+	public SimplePlaceholderImpl getSimplePlaceholderAt(int index)
+	{
+		return (SimplePlaceholderImpl)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.id = PlaceholderAssociatedCheck.placeholderId</pre>
+	* @return associated checks
+	*/
+	public PlaceholderAssociatedCheckList getAssociatedChecks()
+	{
+		return (PlaceholderAssociatedCheckList) this.getDelegated().resolveRelationship(this, SimplePlaceholderFinder.associatedChecks());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return SimplePlaceholderFinder.getMithraObjectPortal();
+	}
+
+	public SimplePlaceholderListImpl getNonPersistentCopy()
+	{
+		SimplePlaceholderListImpl result = new SimplePlaceholderListImpl();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public SimplePlaceholderListImpl asAdhoc()
+	{
+		return (SimplePlaceholderListImpl) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<SimplePlaceholder> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public SimplePlaceholderListImpl merge(MithraTransactionalList<SimplePlaceholder> incoming, TopLevelMergeOptions<SimplePlaceholder> mergeOptions)
+	{
+		return (SimplePlaceholderListImpl) super.merge(incoming, mergeOptions);
+	}
+
+	public SimplePlaceholderListImpl getDetachedCopy()
+	{
+		SimplePlaceholderListImpl result = new SimplePlaceholderListImpl();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	protected void generateAndSetPrimaryKeys()
+	{
+		zGenerateAndSetPrimaryKeysForSingleSource((SequenceAttribute)SimplePlaceholderFinder.id(), false, "PlaceholderId", "com.gs.fw.common.mithra.test.domain.MithraTestSequenceObjectFactory", null);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(SimplePlaceholderFinder.description(), newValue);
+	}
+
+	public void setId(int newValue)
+	{
+		zSetInteger(SimplePlaceholderFinder.id(), newValue);
+	}
+
+	public void setName(String newValue)
+	{
+		zSetString(SimplePlaceholderFinder.name(), newValue);
+	}
+
+	public void setPlaceholderTypeId(int newValue)
+	{
+		zSetInteger(SimplePlaceholderFinder.placeholderTypeId(), newValue);
+	}
+
+	public void setPlaceholderTypeIdNull()
+	{
+		zSetAttributeNull(SimplePlaceholderFinder.placeholderTypeId());
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getAssociatedChecks()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain.nvmdev;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NvmDevNetworkDeviceListAbstract extends DelegatingList<NvmDevNetworkDevice> implements MithraTransactionalList<NvmDevNetworkDevice>
+{
+	public NvmDevNetworkDeviceListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NvmDevNetworkDeviceListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NvmDevNetworkDeviceListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NvmDevNetworkDeviceListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NvmDevNetworkDevice[] elements()
+	{
+		NvmDevNetworkDevice[] result = new NvmDevNetworkDevice[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NvmDevNetworkDeviceList intersection(NvmDevNetworkDeviceList another)
+	{
+		return (NvmDevNetworkDeviceList)super.intersection(another);
+	}
+
+	public NvmDevNetworkDevice getNvmDevNetworkDeviceAt(int index)
+	{
+		return (NvmDevNetworkDevice)this.get(index);
+	}
+
+	/**
+	* Relationship Expression:<pre>
+	this.networkDeviceId = NvmDevVirtualLan.networkDeviceId</pre>
+	* @return virtual lans
+	*/
+	public NvmDevVirtualLanList getVirtualLans()
+	{
+		return (NvmDevVirtualLanList) this.getDelegated().resolveRelationship(this, NvmDevNetworkDeviceFinder.virtualLans());
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NvmDevNetworkDeviceFinder.getMithraObjectPortal();
+	}
+
+	public NvmDevNetworkDeviceList getNonPersistentCopy()
+	{
+		NvmDevNetworkDeviceList result = new NvmDevNetworkDeviceList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NvmDevNetworkDeviceList asAdhoc()
+	{
+		return (NvmDevNetworkDeviceList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<NvmDevNetworkDevice> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public NvmDevNetworkDeviceList merge(MithraTransactionalList<NvmDevNetworkDevice> incoming, TopLevelMergeOptions<NvmDevNetworkDevice> mergeOptions)
+	{
+		return (NvmDevNetworkDeviceList) super.merge(incoming, mergeOptions);
+	}
+
+	public NvmDevNetworkDeviceList getDetachedCopy()
+	{
+		NvmDevNetworkDeviceList result = new NvmDevNetworkDeviceList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setHostname(String newValue)
+	{
+		zSetString(NvmDevNetworkDeviceFinder.hostname(), newValue);
+	}
+
+	public void setManagementIpAddress(String newValue)
+	{
+		zSetString(NvmDevNetworkDeviceFinder.managementIpAddress(), newValue);
+	}
+
+	public void setNetworkDeviceId(long newValue)
+	{
+		zSetLong(NvmDevNetworkDeviceFinder.networkDeviceId(), newValue);
+	}
+
+	protected void zCascadeDeleteRelationships()
+	{
+		((DelegatingList)this.getVirtualLans()).cascadeDeleteAll();
+	}
+}
@@ -0,0 +1,155 @@
+package com.gs.fw.common.mithra.test.domain.nvmdev;
+import java.util.*;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.list.*;
+import com.gs.fw.common.mithra.list.merge.TopLevelMergeOptions;
+import com.gs.fw.finder.OrderBy;
+import com.gs.collections.api.list.MutableList;
+import com.gs.collections.impl.list.mutable.ListAdapter;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+// Generated from templates/transactional/ListAbstract.jsp
+public class NvmDevVirtualLanListAbstract extends DelegatingList<NvmDevVirtualLan> implements MithraTransactionalList<NvmDevVirtualLan>
+{
+	public NvmDevVirtualLanListAbstract()
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this);
+	}
+
+	public NvmDevVirtualLanListAbstract(int initialSize)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, initialSize);
+	}
+
+	public NvmDevVirtualLanListAbstract(Collection c)
+	{
+		super();
+		this.setDelegated(AbstractTransactionalNonOperationBasedList.DEFAULT);
+		AbstractTransactionalNonOperationBasedList.DEFAULT.init(this, c);
+	}
+
+	public NvmDevVirtualLanListAbstract(com.gs.fw.finder.Operation operation)
+	{
+		super(operation);
+		this.setDelegated(AbstractTransactionalOperationBasedList.DEFAULT);
+	}
+
+	public NvmDevVirtualLan[] elements()
+	{
+		NvmDevVirtualLan[] result = new NvmDevVirtualLan[size()];
+		this.getDelegated().toArray(this, result);
+		return result;
+	}
+
+	public NvmDevVirtualLanList intersection(NvmDevVirtualLanList another)
+	{
+		return (NvmDevVirtualLanList)super.intersection(another);
+	}
+
+	public NvmDevVirtualLan getNvmDevVirtualLanAt(int index)
+	{
+		return (NvmDevVirtualLan)this.get(index);
+	}
+
+	public MithraObjectPortal getMithraObjectPortal()
+	{
+		return NvmDevVirtualLanFinder.getMithraObjectPortal();
+	}
+
+	public NvmDevVirtualLanList getNonPersistentCopy()
+	{
+		NvmDevVirtualLanList result = new NvmDevVirtualLanList();
+		zCopyNonPersistentInto(result);
+		return result;
+	}
+
+	public NvmDevVirtualLanList asAdhoc()
+	{
+		return (NvmDevVirtualLanList) super.asAdhoc();
+	}
+
+	public MithraTransactionalList getNonPersistentGenericCopy()
+	{
+		return this.getNonPersistentCopy();
+	}
+
+	/**
+	* Return a view of this list that implements GS Collections MutableList API.
+	* Since the returned list will be operation-based, it is effectively read-only,
+	* so mutating methods will throw a RuntimeException.
+	* (Implemented by a light-weight adapter, not a copy)
+	*/
+	public MutableList<NvmDevVirtualLan> asGscList()
+	{
+		return ListAdapter.adapt(this);
+	}
+
+	public NvmDevVirtualLanList merge(MithraTransactionalList<NvmDevVirtualLan> incoming, TopLevelMergeOptions<NvmDevVirtualLan> mergeOptions)
+	{
+		return (NvmDevVirtualLanList) super.merge(incoming, mergeOptions);
+	}
+
+	public NvmDevVirtualLanList getDetachedCopy()
+	{
+		NvmDevVirtualLanList result = new NvmDevVirtualLanList();
+		zDetachInto(result);
+		return result;
+	}
+
+	public void zMakeDetached(Operation op, Object previousDetachedList)
+	{
+		super.zMakeDetached(op, previousDetachedList);
+	}
+
+	public void setDescription(String newValue)
+	{
+		zSetString(NvmDevVirtualLanFinder.description(), newValue);
+	}
+
+	public void setNetworkDeviceId(long newValue)
+	{
+		zSetLong(NvmDevVirtualLanFinder.networkDeviceId(), newValue);
+	}
+
+	public void setNumber(int newValue)
+	{
+		zSetInteger(NvmDevVirtualLanFinder.number(), newValue);
+	}
+
+	public void setVirtualLanId(long newValue)
+	{
+		zSetLong(NvmDevVirtualLanFinder.virtualLanId(), newValue);
+	}
+
+	public void setNetworkDeviceIdNull()
+	{
+		zSetAttributeNull(NvmDevVirtualLanFinder.networkDeviceId());
+	}
+
+	public void setNumberNull()
+	{
+		zSetAttributeNull(NvmDevVirtualLanFinder.number());
+	}
+}
@@ -0,0 +1,1238 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import com.gs.fw.common.mithra.test.domain.child.*;
+import com.gs.fw.common.mithra.test.domain.child.ChildType;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeData;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildTypeList;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatus;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusAbstract;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusData;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusFinder;
+import com.gs.fw.common.mithra.test.domain.child.LifeStatusList;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParentTypeFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/parent/ParentType";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.parent.ParentType";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.parent.ParentType");
+	private static final ParentTypeSingleFinder<ParentType, Object, ParentType> finder = new ParentTypeSingleFinder<ParentType, Object, ParentType>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ParentTypeFinder.ParentTypeRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("id");
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("alive");
+		finderMethodMap.addNormalAttributeName("aliveByte");
+		finderMethodMap.addRelationshipName("liveTestByte");
+		finderMethodMap.addRelationshipName("liveTest");
+		finderMethodMap.addRelationshipName("children");
+		finderMethodMap.addRelationshipName("taxCode");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[5];
+			result[0] = ParentTypeFinder.id().constructEqualityMapper(ParentTypeFinder.id());
+			result[1] = ParentTypeFinder.id().constructEqualityMapper(ChildTypeFinder.parentId());
+			result[2] = ChildTypeFinder.parentId().constructEqualityMapper(ParentTypeFinder.id());
+			result[3] = ParentTypeFinder.alive().constructEqualityMapper(LifeStatusFinder.isAlive());
+			result[4] = LifeStatusFinder.isAlive().constructEqualityMapper(ParentTypeFinder.alive());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static Operation zGetConstantOperation(int index)
+	{
+		return getConstantOperationPool()[index];
+	}
+
+	private static Operation[] constantOperationPool;
+	private static Operation[] getConstantOperationPool()
+	{
+		if (constantOperationPool == null)
+		{
+			Operation[] result = new Operation[1];
+			result[0] = ParentTypeFinder.alive().eq(true);
+			constantOperationPool = result;
+		}
+
+		return constantOperationPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ParentType findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ParentType findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ParentTypeList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ParentTypeList) finder.findMany(operation);
+	}
+
+	public static ParentTypeList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ParentTypeList) finder.findManyBypassCache(operation);
+	}
+
+	private static ParentType findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ParentType) FinderUtils.findOne(found);
+	}
+
+	public static ParentType findByPrimaryKey(int id)
+	{
+		return finder.findByPrimaryKey(id);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ParentType _castedTargetData = (ParentType) _targetData;
+			if (_bean.getI1AsInteger() == _castedTargetData.getId())
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getI1AsInteger());
+		}
+	}
+
+	public static ParentType zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ParentType) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ParentTypeRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ParentType, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private IntegerAttribute<ParentOwnerType> id;
+		private StringAttribute<ParentOwnerType> name;
+		private BooleanAttribute<ParentOwnerType> alive;
+		private ByteAttribute<ParentOwnerType> aliveByte;
+		private ParentTypeLiveTestByteFinderSubclass<ParentOwnerType> liveTestByte;
+		private ParentTypeLiveTestFinderSubclass<ParentOwnerType> liveTest;
+		private ParentTypeChildrenFinderSubclass<ParentOwnerType> children;
+		private ParentTypeTaxCodeFinderSubclass<ParentOwnerType> taxCode;
+		public ParentTypeRelatedFinder()
+		{
+			super();
+		}
+
+		public ParentTypeRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.parent.ParentTypeFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ParentTypeFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ParentTypeFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ParentTypeFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[4];
+			attributes[0] = this.id();
+			attributes[1] = this.name();
+			attributes[2] = this.alive();
+			attributes[3] = this.aliveByte();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(4);
+				relatedFinders.add(this.liveTestByte());
+				relatedFinders.add(this.liveTest());
+				relatedFinders.add(this.children());
+				relatedFinders.add(this.taxCode());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ParentType findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ParentTypeFinder.findOne(operation, false);
+		}
+
+		public ParentType findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ParentTypeFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ParentType> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ParentTypeList((Operation) operation);
+		}
+
+		public MithraList<? extends ParentType> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ParentTypeList result = (ParentTypeList) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ParentType> constructEmptyList()
+		{
+			return new ParentTypeList();
+		}
+
+		public int getSerialVersionId()
+		{
+			return -913768861;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public IntegerAttribute<ParentOwnerType> id()
+		{
+			IntegerAttribute<ParentOwnerType> result = this.id;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnIntegerAttribute.generate("ID","","id",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,false,-1,-1,-1,false, false) :
+					new MappedIntegerAttribute(ParentTypeFinder.id(), this.mapper, this.zGetValueSelector());
+				result.zSetOwningRelationship("children");
+				this.id = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,256,true, false) :
+					new MappedStringAttribute(ParentTypeFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public BooleanAttribute<ParentOwnerType> alive()
+		{
+			BooleanAttribute<ParentOwnerType> result = this.alive;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnBooleanAttribute.generate("IS_ALIVE","","alive",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedBooleanAttribute(ParentTypeFinder.alive(), this.mapper, this.zGetValueSelector());
+				this.alive = result;
+			}
+
+			return result;
+		}
+
+		public ByteAttribute<ParentOwnerType> aliveByte()
+		{
+			ByteAttribute<ParentOwnerType> result = this.aliveByte;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnByteAttribute.generate("IS_ALIVE_BYTE","","aliveByte",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1, false) :
+					new MappedByteAttribute(ParentTypeFinder.aliveByte(), this.mapper, this.zGetValueSelector());
+				this.aliveByte = result;
+			}
+
+			return result;
+		}
+
+		public ParentTypeFinder.ParentTypeCollectionFinderForRelatedClasses<ParentOwnerType, ParentTypeList, ParentType> nameEquals(String name)
+		{
+			ParentTypeNameEqualsFinderSubclass<ParentOwnerType> result = null;
+			Mapper newMapper = combineWithMapperIfExists(ParentTypeFinder.zGetParentTypeNameEqualsReverseMapper(name));
+			newMapper.setToMany(true);
+			result = new ParentTypeNameEqualsFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() ,name);
+			return result;
+		}
+
+		public ParentTypeFinder.ParentTypeSingleFinderForRelatedClasses<ParentOwnerType, ParentType, ParentType> liveTestByte()
+		{
+			ParentTypeLiveTestByteFinderSubclass<ParentOwnerType> result = this.liveTestByte;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentTypeFinder.zGetParentTypeLiveTestByteReverseMapper());
+				newMapper.setToMany(false);
+				result = new ParentTypeLiveTestByteFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.liveTestByte = result;
+			}
+
+			return result;
+		}
+
+		public ParentTypeFinder.ParentTypeSingleFinderForRelatedClasses<ParentOwnerType, ParentType, ParentType> liveTest()
+		{
+			ParentTypeLiveTestFinderSubclass<ParentOwnerType> result = this.liveTest;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentTypeFinder.zGetParentTypeLiveTestReverseMapper());
+				newMapper.setToMany(false);
+				result = new ParentTypeLiveTestFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.liveTest = result;
+			}
+
+			return result;
+		}
+
+		public ChildTypeFinder.ChildTypeSingleFinderForRelatedClasses<ParentOwnerType, ChildType, ParentType> children()
+		{
+			ParentTypeChildrenFinderSubclass<ParentOwnerType> result = this.children;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentTypeFinder.zGetParentTypeChildrenReverseMapper());
+				newMapper.setToMany(false);
+				result = new ParentTypeChildrenFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.children = result;
+			}
+
+			return result;
+		}
+
+		public LifeStatusFinder.LifeStatusCollectionFinderForRelatedClasses<ParentOwnerType, LifeStatusList, ParentType> taxCode()
+		{
+			ParentTypeTaxCodeFinderSubclass<ParentOwnerType> result = this.taxCode;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentTypeFinder.zGetParentTypeTaxCodeReverseMapper());
+				newMapper.setToMany(true);
+				result = new ParentTypeTaxCodeFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.taxCode = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ParentTypeFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ParentTypeFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ParentTypeCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ParentTypeRelatedFinder<ParentOwnerType, ReturnType, ParentTypeList, OwnerType>
+	{
+		public ParentTypeCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ParentTypeCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ParentTypeCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParentTypeCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ParentTypeSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ParentTypeRelatedFinder<ParentOwnerType, ReturnType, ParentTypeList, OwnerType>
+	implements ToOneFinder
+	{
+		public ParentTypeSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ParentTypeSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ParentType other)
+		{
+			return this.id().eq(other.getId())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ParentType findByPrimaryKey(int id)
+		{
+			ParentType _result = null;
+			Operation _op = null;
+			Object _related = null;
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setI1AsInteger(id);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ParentType) _related;
+			if (_related == null)
+			{
+				_op = this.id().eq(id);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ParentTypeSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ParentTypeSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParentTypeSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static Mapper zGetParentTypeNameEqualsReverseMapper(String name)
+	{
+		return zConstructParentTypeNameEqualsReverseMapper(name);
+	}
+
+	public static Mapper zGetParentTypeNameEqualsMapper(String name)
+	{
+		return zConstructParentTypeNameEqualsMapper(name);
+	}
+
+	private static Mapper nameEqualsPureReverseMapper = null;
+	public static Mapper zGetParentTypeNameEqualsPureReverseMapper()
+	{
+		if (nameEqualsPureReverseMapper == null)
+		{
+			nameEqualsPureReverseMapper = zConstructParentTypeNameEqualsPureReverseMapper();
+		}
+
+		return nameEqualsPureReverseMapper;
+	}
+
+	private static Mapper zConstructParentTypeNameEqualsPureReverseMapper()
+	{
+		Mapper nameEqualsMapper = ParentTypeFinder.zGetConstantJoin(0);
+		nameEqualsMapper.setName("nameEquals");
+		return nameEqualsMapper;
+	}
+
+	private static Mapper zConstructParentTypeNameEqualsReverseMapper(String name)
+	{
+		Mapper nameEqualsMapperInnerMapper = ParentTypeFinder.zGetConstantJoin(0);
+		Mapper nameEqualsMapper = new FilteredMapper(nameEqualsMapperInnerMapper, null, ParentTypeFinder.name().eq(name));
+		nameEqualsMapper.setName("nameEquals");
+		return nameEqualsMapper;
+	}
+
+	private static Mapper zConstructParentTypeNameEqualsMapper(String name)
+	{
+		Mapper nameEqualsMapperInnerMapper = ParentTypeFinder.zGetConstantJoin(0);
+		Mapper nameEqualsMapper = new FilteredMapper(nameEqualsMapperInnerMapper, ParentTypeFinder.name().eq(name), null);
+		nameEqualsMapper.setName("nameEquals_Reverse");
+		return nameEqualsMapper;
+	}
+
+	private static Mapper liveTestByteReverseMapper = null;
+	public static Mapper zGetParentTypeLiveTestByteReverseMapper()
+	{
+		if (liveTestByteReverseMapper == null)
+		{
+			liveTestByteReverseMapper = zConstructParentTypeLiveTestByteReverseMapper();
+		}
+
+		return liveTestByteReverseMapper;
+	}
+
+	private static Mapper liveTestByteMapper = null;
+	public static Mapper zGetParentTypeLiveTestByteMapper()
+	{
+		if (liveTestByteMapper == null)
+		{
+			liveTestByteMapper = zConstructParentTypeLiveTestByteMapper();
+		}
+
+		return liveTestByteMapper;
+	}
+
+	private static Mapper liveTestBytePureReverseMapper = null;
+	public static Mapper zGetParentTypeLiveTestBytePureReverseMapper()
+	{
+		if (liveTestBytePureReverseMapper == null)
+		{
+			liveTestBytePureReverseMapper = zConstructParentTypeLiveTestBytePureReverseMapper();
+		}
+
+		return liveTestBytePureReverseMapper;
+	}
+
+	private static Mapper zConstructParentTypeLiveTestBytePureReverseMapper()
+	{
+		Mapper liveTestByteMapper = ParentTypeFinder.zGetConstantJoin(0);
+		liveTestByteMapper.setName("liveTestByte");
+		return liveTestByteMapper;
+	}
+
+	private static Mapper zConstructParentTypeLiveTestByteReverseMapper()
+	{
+		Mapper liveTestByteMapperInnerMapper = ParentTypeFinder.zGetConstantJoin(0);
+		Mapper liveTestByteMapper = new FilteredMapper(liveTestByteMapperInnerMapper, ParentTypeFinder.zGetConstantOperation(0), null);
+		liveTestByteMapper.setName("liveTestByte");
+		return liveTestByteMapper;
+	}
+
+	private static Mapper zConstructParentTypeLiveTestByteMapper()
+	{
+		Mapper liveTestByteMapperInnerMapper = ParentTypeFinder.zGetConstantJoin(0);
+		Mapper liveTestByteMapper = new FilteredMapper(liveTestByteMapperInnerMapper, null, ParentTypeFinder.zGetConstantOperation(0));
+		liveTestByteMapper.setName("liveTestByte_Reverse");
+		return liveTestByteMapper;
+	}
+
+	private static Mapper liveTestReverseMapper = null;
+	public static Mapper zGetParentTypeLiveTestReverseMapper()
+	{
+		if (liveTestReverseMapper == null)
+		{
+			liveTestReverseMapper = zConstructParentTypeLiveTestReverseMapper();
+		}
+
+		return liveTestReverseMapper;
+	}
+
+	private static Mapper liveTestMapper = null;
+	public static Mapper zGetParentTypeLiveTestMapper()
+	{
+		if (liveTestMapper == null)
+		{
+			liveTestMapper = zConstructParentTypeLiveTestMapper();
+		}
+
+		return liveTestMapper;
+	}
+
+	private static Mapper liveTestPureReverseMapper = null;
+	public static Mapper zGetParentTypeLiveTestPureReverseMapper()
+	{
+		if (liveTestPureReverseMapper == null)
+		{
+			liveTestPureReverseMapper = zConstructParentTypeLiveTestPureReverseMapper();
+		}
+
+		return liveTestPureReverseMapper;
+	}
+
+	private static Mapper zConstructParentTypeLiveTestPureReverseMapper()
+	{
+		Mapper liveTestMapper = ParentTypeFinder.zGetConstantJoin(0);
+		liveTestMapper.setName("liveTest");
+		return liveTestMapper;
+	}
+
+	private static Mapper zConstructParentTypeLiveTestReverseMapper()
+	{
+		Mapper liveTestMapperInnerMapper = ParentTypeFinder.zGetConstantJoin(0);
+		Mapper liveTestMapper = new FilteredMapper(liveTestMapperInnerMapper, null, ParentTypeFinder.zGetConstantOperation(0));
+		liveTestMapper.setName("liveTest");
+		return liveTestMapper;
+	}
+
+	private static Mapper zConstructParentTypeLiveTestMapper()
+	{
+		Mapper liveTestMapperInnerMapper = ParentTypeFinder.zGetConstantJoin(0);
+		Mapper liveTestMapper = new FilteredMapper(liveTestMapperInnerMapper, ParentTypeFinder.zGetConstantOperation(0), null);
+		liveTestMapper.setName("liveTest_Reverse");
+		return liveTestMapper;
+	}
+
+	private static Mapper childrenReverseMapper = null;
+	public static Mapper zGetParentTypeChildrenReverseMapper()
+	{
+		if (childrenReverseMapper == null)
+		{
+			childrenReverseMapper = zConstructParentTypeChildrenReverseMapper();
+		}
+
+		return childrenReverseMapper;
+	}
+
+	private static Mapper childrenMapper = null;
+	public static Mapper zGetParentTypeChildrenMapper()
+	{
+		if (childrenMapper == null)
+		{
+			childrenMapper = zConstructParentTypeChildrenMapper();
+		}
+
+		return childrenMapper;
+	}
+
+	private static Mapper childrenPureReverseMapper = null;
+	public static Mapper zGetParentTypeChildrenPureReverseMapper()
+	{
+		if (childrenPureReverseMapper == null)
+		{
+			childrenPureReverseMapper = zConstructParentTypeChildrenPureReverseMapper();
+		}
+
+		return childrenPureReverseMapper;
+	}
+
+	private static Mapper zConstructParentTypeChildrenPureReverseMapper()
+	{
+		Mapper childrenMapper = ParentTypeFinder.zGetConstantJoin(1);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructParentTypeChildrenReverseMapper()
+	{
+		Mapper childrenMapper = ParentTypeFinder.zGetConstantJoin(1);
+		childrenMapper.setName("children");
+		return childrenMapper;
+	}
+
+	private static Mapper zConstructParentTypeChildrenMapper()
+	{
+		Mapper childrenMapper = ParentTypeFinder.zGetConstantJoin(2);
+		childrenMapper.setName("children_Reverse");
+		return childrenMapper;
+	}
+
+	private static Mapper taxCodeReverseMapper = null;
+	public static Mapper zGetParentTypeTaxCodeReverseMapper()
+	{
+		if (taxCodeReverseMapper == null)
+		{
+			taxCodeReverseMapper = zConstructParentTypeTaxCodeReverseMapper();
+		}
+
+		return taxCodeReverseMapper;
+	}
+
+	private static Mapper taxCodeMapper = null;
+	public static Mapper zGetParentTypeTaxCodeMapper()
+	{
+		if (taxCodeMapper == null)
+		{
+			taxCodeMapper = zConstructParentTypeTaxCodeMapper();
+		}
+
+		return taxCodeMapper;
+	}
+
+	private static Mapper taxCodePureReverseMapper = null;
+	public static Mapper zGetParentTypeTaxCodePureReverseMapper()
+	{
+		if (taxCodePureReverseMapper == null)
+		{
+			taxCodePureReverseMapper = zConstructParentTypeTaxCodePureReverseMapper();
+		}
+
+		return taxCodePureReverseMapper;
+	}
+
+	private static Mapper zConstructParentTypeTaxCodePureReverseMapper()
+	{
+		Mapper taxCodeMapper = ParentTypeFinder.zGetConstantJoin(3);
+		taxCodeMapper.setName("taxCode");
+		return taxCodeMapper;
+	}
+
+	private static Mapper zConstructParentTypeTaxCodeReverseMapper()
+	{
+		Mapper taxCodeMapper = ParentTypeFinder.zGetConstantJoin(3);
+		taxCodeMapper.setName("taxCode");
+		return taxCodeMapper;
+	}
+
+	private static Mapper zConstructParentTypeTaxCodeMapper()
+	{
+		Mapper taxCodeMapper = ParentTypeFinder.zGetConstantJoin(4);
+		taxCodeMapper.setName("taxCode_Reverse");
+		return taxCodeMapper;
+	}
+
+	/** maps to PARENT_TYPE.ID **/
+	public static IntegerAttribute<ParentType> id()
+	{
+		return finder.id();
+	}
+
+	/** maps to PARENT_TYPE.NAME **/
+	public static StringAttribute<ParentType> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to PARENT_TYPE.IS_ALIVE **/
+	public static BooleanAttribute<ParentType> alive()
+	{
+		return finder.alive();
+	}
+
+	/** maps to PARENT_TYPE.IS_ALIVE_BYTE **/
+	public static ByteAttribute<ParentType> aliveByte()
+	{
+		return finder.aliveByte();
+	}
+
+	public static ParentTypeFinder.ParentTypeCollectionFinderForRelatedClasses<ParentType, ParentTypeList, ParentType> nameEquals(String name)
+	{
+		return finder.nameEquals(name);
+	}
+
+	public static class ParentTypeNameEqualsFinderSubclass<ParentOwnerType> extends ParentTypeFinder.ParentTypeCollectionFinderForRelatedClasses<ParentOwnerType, ParentTypeList, ParentType>
+	{
+		private String name;
+		public ParentTypeNameEqualsFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector , String name)
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this.name = name;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "nameEquals";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentTypeNameEqualsFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			, this.name
+			);
+		}
+
+		protected ParentTypeList plainValueOf(ParentType _obj)
+		{
+			return _obj.getNameEquals(name);
+		}
+
+		protected ParentTypeList plainListValueOf(Object _obj)
+		{
+			return ((ParentTypeList)_obj).getNameEquals(name);
+		}
+	}
+
+	public static ParentTypeFinder.ParentTypeSingleFinderForRelatedClasses<ParentType, ParentType, ParentType> liveTestByte()
+	{
+		return finder.liveTestByte();
+	}
+
+	public static class ParentTypeLiveTestByteFinderSubclass<ParentOwnerType> extends ParentTypeFinder.ParentTypeSingleFinderForRelatedClasses<ParentOwnerType, ParentType, ParentType>
+	{
+		public ParentTypeLiveTestByteFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "liveTestByte";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentTypeLiveTestByteFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParentType plainValueOf(ParentType _obj)
+		{
+			return _obj.getLiveTestByte();
+		}
+
+		protected ParentTypeList plainListValueOf(Object _obj)
+		{
+			return ((ParentTypeList)_obj).getLiveTestBytes();
+		}
+	}
+
+	public static ParentTypeFinder.ParentTypeSingleFinderForRelatedClasses<ParentType, ParentType, ParentType> liveTest()
+	{
+		return finder.liveTest();
+	}
+
+	public static class ParentTypeLiveTestFinderSubclass<ParentOwnerType> extends ParentTypeFinder.ParentTypeSingleFinderForRelatedClasses<ParentOwnerType, ParentType, ParentType>
+	{
+		public ParentTypeLiveTestFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "liveTest";
+			this.zSetRelationshipMultiExtractor(RelationshipMultiExtractor.withLeftAttributes(
+				ParentTypeFinder.alive(),
+				ParentTypeFinder.id()).withExtractors(
+				((OperationWithParameterExtractor)ParentTypeFinder.zGetConstantOperation(0)).getParameterExtractor(),
+				ParentTypeFinder.id()));
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentTypeLiveTestFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ParentType plainValueOf(ParentType _obj)
+		{
+			return _obj.getLiveTest();
+		}
+
+		protected ParentTypeList plainListValueOf(Object _obj)
+		{
+			return ((ParentTypeList)_obj).getLiveTests();
+		}
+	}
+
+	public static ChildTypeFinder.ChildTypeSingleFinderForRelatedClasses<ParentType, ChildType, ParentType> children()
+	{
+		return finder.children();
+	}
+
+	public static class ParentTypeChildrenFinderSubclass<ParentOwnerType> extends ChildTypeFinder.ChildTypeSingleFinderForRelatedClasses<ParentOwnerType, ChildType, ParentType>
+	{
+		public ParentTypeChildrenFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_ONE;
+			this._name = "children";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentTypeChildrenFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ChildType plainValueOf(ParentType _obj)
+		{
+			return _obj.getChildren();
+		}
+
+		protected ChildTypeList plainListValueOf(Object _obj)
+		{
+			return ((ParentTypeList)_obj).getChildrens();
+		}
+	}
+
+	public static LifeStatusFinder.LifeStatusCollectionFinderForRelatedClasses<ParentType, LifeStatusList, ParentType> taxCode()
+	{
+		return finder.taxCode();
+	}
+
+	public static class ParentTypeTaxCodeFinderSubclass<ParentOwnerType> extends LifeStatusFinder.LifeStatusCollectionFinderForRelatedClasses<ParentOwnerType, LifeStatusList, ParentType>
+	{
+		public ParentTypeTaxCodeFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "taxCode";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentTypeTaxCodeFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected LifeStatusList plainValueOf(ParentType _obj)
+		{
+			return _obj.getTaxCode();
+		}
+
+		protected LifeStatusList plainListValueOf(Object _obj)
+		{
+			return ((ParentTypeList)_obj).getTaxCode();
+		}
+	}
+
+	public static Operation eq(ParentType other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(id());
+	}
+
+	public static ParentTypeSingleFinder<ParentType, Object, ParentType> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			id()
+			, id()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			id()
+			, name()
+		}
+
+		);
+		cache.addIndex("1 Index", new Attribute[] 
+		{
+			alive()
+			, id()
+		}
+
+		);
+		cache.addIndex("2 Index", new Attribute[] 
+		{
+			alive()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ChildTypeFinder.getFinderInstance(),ParentTypeFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		portal.setParentFinders(new RelatedFinder[] 
+		{
+			ChildTypeFinder.getFinderInstance(),ParentTypeFinder.getFinderInstance(),
+		}
+
+		);
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.parent.ParentType");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}
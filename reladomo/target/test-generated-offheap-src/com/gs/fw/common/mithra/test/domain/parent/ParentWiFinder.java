@@ -0,0 +1,844 @@
+package com.gs.fw.common.mithra.test.domain.parent;
+import com.gs.fw.common.mithra.test.domain.child.Child;
+import com.gs.fw.common.mithra.test.domain.child.ChildAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildData;
+import com.gs.fw.common.mithra.test.domain.child.ChildFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWi;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiData;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiFinder;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImpl;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiImplAbstract;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiList;
+import com.gs.fw.common.mithra.test.domain.child.ChildWiListImpl;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.*;
+import java.io.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.util.*;
+import com.gs.fw.common.mithra.notification.*;
+import com.gs.fw.common.mithra.notification.listener.*;
+import com.gs.fw.common.mithra.list.cursor.Cursor;
+import com.gs.fw.common.mithra.bulkloader.*;
+import com.gs.fw.common.mithra.*;
+import com.gs.fw.common.mithra.attribute.*;
+import com.gs.fw.common.mithra.attribute.calculator.procedure.ObjectProcedure;
+import com.gs.fw.common.mithra.behavior.txparticipation.*;
+import com.gs.fw.common.mithra.cache.Cache;
+import com.gs.fw.common.mithra.cache.bean.*;
+import com.gs.fw.common.mithra.extractor.*;
+import com.gs.fw.common.mithra.finder.*;
+import com.gs.fw.common.mithra.finder.booleanop.*;
+import com.gs.fw.common.mithra.finder.integer.*;
+import com.gs.fw.common.mithra.finder.longop.*;
+import com.gs.fw.common.mithra.finder.orderby.OrderBy;
+import com.gs.fw.common.mithra.finder.string.*;
+import com.gs.fw.common.mithra.extractor.NormalAndListValueSelector;
+import com.gs.fw.common.mithra.list.NulledRelation;
+import com.gs.fw.common.mithra.querycache.CachedQuery;
+import com.gs.fw.common.mithra.querycache.QueryCache;
+import com.gs.fw.common.mithra.portal.*;
+import com.gs.fw.common.mithra.remote.*;
+import com.gs.fw.common.mithra.transaction.MithraObjectPersister;
+import com.gs.fw.common.mithra.util.TimestampPool;
+import com.gs.collections.impl.map.mutable.UnifiedMap;
+import java.io.Serializable;
+/**
+* This file was automatically generated using Mithra 16.5.1. Please do not modify it.
+* Add custom logic to its subclass instead.
+*/
+public class ParentWiFinder
+{
+	private static final String IMPL_CLASS_NAME_WITH_SLASHES = "com/gs/fw/common/mithra/test/domain/parent/ParentWiImpl";
+	private static final String BUSINESS_CLASS_NAME_WITH_DOTS = "com.gs.fw.common.mithra.test.domain.parent.ParentWi";
+	private static final FinderMethodMap finderMethodMap;
+	private static boolean isFullCache;
+	private static boolean isOffHeap;
+	private static volatile MithraObjectPortal objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.parent.ParentWi");
+	private static final ParentWiSingleFinder<ParentWi, Object, ParentWi> finder = new ParentWiSingleFinder<ParentWi, Object, ParentWi>();
+	private static ConstantStringSet[] constantStringSets = new ConstantStringSet[0];
+	private static ConstantIntSet[] constantIntSets = new ConstantIntSet[0];
+	private static ConstantShortSet[] constantShortSets = new ConstantShortSet[0];
+	static
+	{
+		finderMethodMap = new FinderMethodMap(ParentWiFinder.ParentWiRelatedFinder.class);
+		finderMethodMap.addNormalAttributeName("name");
+		finderMethodMap.addNormalAttributeName("childName");
+		finderMethodMap.addRelationshipName("childrenWithoutInterfaces");
+		finderMethodMap.addRelationshipName("childrenWi");
+	}
+
+	public static Attribute[] allPersistentAttributes()
+	{
+		return finder.getPersistentAttributes();
+	}
+
+	public static List<RelatedFinder> allRelatedFinders()
+	{
+		return finder.getRelationshipFinders();
+	}
+
+	public static List<RelatedFinder> allDependentRelatedFinders()
+	{
+		return finder.getDependentRelationshipFinders();
+	}
+
+	public static ConstantStringSet zGetConstantStringSet(int index)
+	{
+		return constantStringSets[index];
+	}
+
+	public static ConstantIntSet zGetConstantIntSet(int index)
+	{
+		return constantIntSets[index];
+	}
+
+	public static ConstantShortSet zGetConstantShortSet(int index)
+	{
+		return constantShortSets[index];
+	}
+
+	public static Mapper zGetConstantJoin(int index)
+	{
+		return getConstantJoinPool()[index];
+	}
+
+	private static Mapper[] constantJoinPool;
+	private static Mapper[] getConstantJoinPool()
+	{
+		if (constantJoinPool == null)
+		{
+			Mapper[] result = new Mapper[4];
+			result[0] = ParentWiFinder.childName().constructEqualityMapper(ChildFinder.name());
+			result[1] = ChildFinder.name().constructEqualityMapper(ParentWiFinder.childName());
+			result[2] = ParentWiFinder.childName().constructEqualityMapper(ChildWiFinder.name());
+			result[3] = ChildWiFinder.name().constructEqualityMapper(ParentWiFinder.childName());
+			constantJoinPool = result;
+		}
+
+		return constantJoinPool;
+	}
+
+	public static SourceAttributeType getSourceAttributeType()
+	{
+		return null;
+	}
+
+	public static ParentWi findOne(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, false);
+	}
+
+	public static ParentWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return findOne(operation, true);
+	}
+
+	public static ParentWiList findMany(com.gs.fw.finder.Operation operation)
+	{
+		return (ParentWiListImpl) finder.findMany(operation);
+	}
+
+	public static ParentWiList findManyBypassCache(com.gs.fw.finder.Operation operation)
+	{
+		return (ParentWiListImpl) finder.findManyBypassCache(operation);
+	}
+
+	private static ParentWi findOne(com.gs.fw.finder.Operation operation, boolean bypassCache)
+	{
+		List found = getMithraObjectPortal().find((Operation) operation, bypassCache);
+		return (ParentWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static ParentWi findByPrimaryKey(String name)
+	{
+		return finder.findByPrimaryKey(name);
+	}
+
+	private static final RelationshipHashStrategy forPrimaryKey = new PrimaryKeyRhs();
+	private static final class PrimaryKeyRhs implements RelationshipHashStrategy
+	{
+		public boolean equalsForRelationship(Object _srcObject, Object _srcData, Object _targetData, Timestamp _asOfDate0, Timestamp _asOfDate1)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			ParentWiImpl _castedTargetData = (ParentWiImpl) _targetData;
+			if (_bean.getO1AsString().equals(_castedTargetData.getName()))
+			{
+				return true;
+			}
+
+			return false;
+		}
+
+		public int computeHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.hash(_bean.getO1AsString());
+		}
+
+		public int computeOffHeapHashCodeFromRelated(Object _srcObject, Object _srcData)
+		{
+			I3O3L3 _bean = (I3O3L3) _srcData;
+			return HashUtil.offHeapHash(_bean.getO1AsString());
+		}
+	}
+
+	public static ParentWiImpl zFindOneForRelationship(Operation operation)
+	{
+		List found = getMithraObjectPortal().findAsCachedQuery(operation, null, false, true, 0).getResult();
+		return (ParentWiImpl) FinderUtils.findOne(found);
+	}
+
+	public static MithraObjectPortal getMithraObjectPortal()
+	{
+		return objectPortal.getInitializedPortal();
+	}
+
+	public static void clearQueryCache()
+	{
+		objectPortal.clearQueryCache();
+	}
+
+	public static void reloadCache()
+	{
+		objectPortal.reloadCache();
+	}
+
+	public static class ParentWiRelatedFinder<ParentOwnerType, ReturnType, ReturnListType extends List, OwnerType> extends AbstractRelatedFinder<ParentWi, ParentOwnerType, ReturnType, ReturnListType, OwnerType>
+	{
+		private List<RelatedFinder> relationshipFinders;
+		private List<RelatedFinder> dependentRelationshipFinders;
+		private StringAttribute<ParentOwnerType> name;
+		private StringAttribute<ParentOwnerType> childName;
+		private ParentWiChildrenWithoutInterfacesFinderSubclass<ParentOwnerType> childrenWithoutInterfaces;
+		private ParentWiChildrenWiFinderSubclass<ParentOwnerType> childrenWi;
+		public ParentWiRelatedFinder()
+		{
+			super();
+		}
+
+		public ParentWiRelatedFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public String getFinderClassName()
+		{
+			return "com.gs.fw.common.mithra.test.domain.parent.ParentWiFinder";
+		}
+
+		public RelatedFinder getRelationshipFinderByName(String relationshipName)
+		{
+			return ParentWiFinder.finderMethodMap.getRelationshipFinderByName(relationshipName, this);
+		}
+
+		public Attribute getAttributeByName(String attributeName)
+		{
+			return ParentWiFinder.finderMethodMap.getAttributeByName(attributeName, this);
+		}
+
+		public com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+		{
+			return ParentWiFinder.finderMethodMap.getAttributeOrRelationshipSelectorFunction(attributeName, this);
+		}
+
+		public Attribute[] getPersistentAttributes()
+		{
+			Attribute[] attributes = new Attribute[2];
+			attributes[0] = this.name();
+			attributes[1] = this.childName();
+			return attributes;
+		}
+
+		public List<RelatedFinder> getRelationshipFinders()
+		{
+			if (relationshipFinders == null)
+			{
+				List<RelatedFinder> relatedFinders = new ArrayList<RelatedFinder>(2);
+				relatedFinders.add(this.childrenWithoutInterfaces());
+				relatedFinders.add(this.childrenWi());
+				relationshipFinders = Collections.unmodifiableList(relatedFinders);
+			}
+
+			return relationshipFinders;
+		}
+
+		public List<RelatedFinder> getDependentRelationshipFinders()
+		{
+			if (dependentRelationshipFinders == null)
+			{
+				List<RelatedFinder> dependentRelatedFinders = new ArrayList<RelatedFinder>(0);
+				dependentRelationshipFinders = Collections.unmodifiableList(dependentRelatedFinders);
+			}
+
+			return dependentRelationshipFinders;
+		}
+
+		public ParentWi findOne(com.gs.fw.finder.Operation operation)
+		{
+			return ParentWiFinder.findOne(operation, false);
+		}
+
+		public ParentWi findOneBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			return ParentWiFinder.findOne(operation, true);
+		}
+
+		public MithraList<? extends ParentWi> findMany(com.gs.fw.finder.Operation operation)
+		{
+			return new ParentWiListImpl((Operation) operation);
+		}
+
+		public MithraList<? extends ParentWi> findManyBypassCache(com.gs.fw.finder.Operation operation)
+		{
+			ParentWiListImpl result = (ParentWiListImpl) this.findMany(operation);
+			result.setBypassCache(true);
+			return result;
+		}
+
+		public MithraList<? extends ParentWi> constructEmptyList()
+		{
+			return new ParentWiListImpl();
+		}
+
+		public int getSerialVersionId()
+		{
+			return 1175146212;
+		}
+
+		public boolean isPure()
+		{
+			return false;
+		}
+
+		public boolean isTemporary()
+		{
+			return false;
+		}
+
+		public int getHierarchyDepth()
+		{
+			return 0;
+		}
+
+		public StringAttribute<ParentOwnerType> name()
+		{
+			StringAttribute<ParentOwnerType> result = this.name;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("NAME","","name",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,false,false,this,null,false,false,-1,-1,-1,30,true, false) :
+					new MappedStringAttribute(ParentWiFinder.name(), this.mapper, this.zGetValueSelector());
+				this.name = result;
+			}
+
+			return result;
+		}
+
+		public StringAttribute<ParentOwnerType> childName()
+		{
+			StringAttribute<ParentOwnerType> result = this.childName;
+			if (result == null)
+			{
+				result = mapper == null ? SingleColumnStringAttribute.generate("CHILD_NAME_ID","","childName",BUSINESS_CLASS_NAME_WITH_DOTS,IMPL_CLASS_NAME_WITH_SLASHES,true,false,this,null,false,false,-1,-1,-1,30,true, false) :
+					new MappedStringAttribute(ParentWiFinder.childName(), this.mapper, this.zGetValueSelector());
+				this.childName = result;
+			}
+
+			return result;
+		}
+
+		public ChildFinder.ChildCollectionFinderForRelatedClasses<ParentOwnerType, ChildList, ParentWi> childrenWithoutInterfaces()
+		{
+			ParentWiChildrenWithoutInterfacesFinderSubclass<ParentOwnerType> result = this.childrenWithoutInterfaces;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentWiFinder.zGetParentWiChildrenWithoutInterfacesReverseMapper());
+				newMapper.setToMany(true);
+				result = new ParentWiChildrenWithoutInterfacesFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.childrenWithoutInterfaces = result;
+			}
+
+			return result;
+		}
+
+		public ChildWiFinder.ChildWiCollectionFinderForRelatedClasses<ParentOwnerType, ChildWiList, ParentWi> childrenWi()
+		{
+			ParentWiChildrenWiFinderSubclass<ParentOwnerType> result = this.childrenWi;
+			if (result == null)
+			{
+				Mapper newMapper = combineWithMapperIfExists(ParentWiFinder.zGetParentWiChildrenWiReverseMapper());
+				newMapper.setToMany(true);
+				result = new ParentWiChildrenWiFinderSubclass<ParentOwnerType>(newMapper , this.zGetValueSelector() );
+				this.childrenWi = result;
+			}
+
+			return result;
+		}
+
+		public Attribute getSourceAttribute()
+		{
+			return null;
+		}
+
+		private Mapper combineWithMapperIfExists(Mapper newMapper)
+		{
+			if (this.mapper != null)
+			{
+				return new LinkedMapper(this.mapper, newMapper);
+			}
+
+			return newMapper;
+		}
+
+		public Attribute[] getPrimaryKeyAttributes()
+		{
+			return ParentWiFinder.getPrimaryKeyAttributes();
+		}
+
+		public VersionAttribute getVersionAttribute()
+		{
+			return null;
+		}
+
+		public MithraObjectPortal getMithraObjectPortal()
+		{
+			return ParentWiFinder.getMithraObjectPortal();
+		}
+	}
+
+	public static class ParentWiCollectionFinder<ParentOwnerType, ReturnType extends List, OwnerType> extends ParentWiRelatedFinder<ParentOwnerType, ReturnType, ParentWiList, OwnerType>
+	{
+		public ParentWiCollectionFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+	}
+
+	public static abstract class ParentWiCollectionFinderForRelatedClasses<ParentOwnerType, ReturnType extends List, OwnerType>
+	extends ParentWiCollectionFinder<ParentOwnerType, ReturnType, OwnerType>
+	implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParentWiCollectionFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	public static class ParentWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> extends ParentWiRelatedFinder<ParentOwnerType, ReturnType, ParentWiList, OwnerType>
+	implements ToOneFinder
+	{
+		public ParentWiSingleFinder(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		public ParentWiSingleFinder()
+		{
+			super(null);
+		}
+
+		public Operation eq(ParentWi other)
+		{
+			return this.name().eq(other.getName())
+			;
+		}
+		// this implementation uses private API. Do NOT copy to application code. Application code must use normal operations for lookups.
+		public ParentWi findByPrimaryKey(String name)
+		{
+			ParentWi _result = null;
+			Operation _op = null;
+			Object _related = null;
+			if (name != null)
+			{
+				I3O3L3 _bean = I3O3L3.POOL.getOrConstruct();
+				_bean.setO1(name);
+				MithraObjectPortal _portal = this.getMithraObjectPortal();
+				_related = _portal.getAsOneFromCacheForFind(_bean, _bean, forPrimaryKey, null, null);
+				_bean.release();
+			}
+
+			if (!(_related instanceof NulledRelation)) _result = (ParentWi) _related;
+			if (_related == null)
+			{
+				_op = this.name().eq(name);
+			}
+
+			if (_op != null)
+			{
+				_result = this.findOne(_op);
+			}
+
+			return _result;
+		}
+	}
+
+	public static abstract class ParentWiSingleFinderForRelatedClasses<ParentOwnerType, ReturnType, OwnerType> extends ParentWiSingleFinder<ParentOwnerType, ReturnType, OwnerType> implements DeepRelationshipAttribute<ParentOwnerType, ReturnType>
+	{
+		public ParentWiSingleFinderForRelatedClasses(Mapper mapper)
+		{
+			super(mapper);
+		}
+
+		protected NormalAndListValueSelector zGetValueSelector()
+		{
+			return this;
+		}
+	}
+
+	private static Mapper childrenWithoutInterfacesReverseMapper = null;
+	public static Mapper zGetParentWiChildrenWithoutInterfacesReverseMapper()
+	{
+		if (childrenWithoutInterfacesReverseMapper == null)
+		{
+			childrenWithoutInterfacesReverseMapper = zConstructParentWiChildrenWithoutInterfacesReverseMapper();
+		}
+
+		return childrenWithoutInterfacesReverseMapper;
+	}
+
+	private static Mapper childrenWithoutInterfacesMapper = null;
+	public static Mapper zGetParentWiChildrenWithoutInterfacesMapper()
+	{
+		if (childrenWithoutInterfacesMapper == null)
+		{
+			childrenWithoutInterfacesMapper = zConstructParentWiChildrenWithoutInterfacesMapper();
+		}
+
+		return childrenWithoutInterfacesMapper;
+	}
+
+	private static Mapper childrenWithoutInterfacesPureReverseMapper = null;
+	public static Mapper zGetParentWiChildrenWithoutInterfacesPureReverseMapper()
+	{
+		if (childrenWithoutInterfacesPureReverseMapper == null)
+		{
+			childrenWithoutInterfacesPureReverseMapper = zConstructParentWiChildrenWithoutInterfacesPureReverseMapper();
+		}
+
+		return childrenWithoutInterfacesPureReverseMapper;
+	}
+
+	private static Mapper zConstructParentWiChildrenWithoutInterfacesPureReverseMapper()
+	{
+		Mapper childrenWithoutInterfacesMapper = ParentWiFinder.zGetConstantJoin(0);
+		childrenWithoutInterfacesMapper.setName("childrenWithoutInterfaces");
+		return childrenWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructParentWiChildrenWithoutInterfacesReverseMapper()
+	{
+		Mapper childrenWithoutInterfacesMapper = ParentWiFinder.zGetConstantJoin(0);
+		childrenWithoutInterfacesMapper.setName("childrenWithoutInterfaces");
+		return childrenWithoutInterfacesMapper;
+	}
+
+	private static Mapper zConstructParentWiChildrenWithoutInterfacesMapper()
+	{
+		Mapper childrenWithoutInterfacesMapper = ParentWiFinder.zGetConstantJoin(1);
+		childrenWithoutInterfacesMapper.setName("parentWithInterface");
+		return childrenWithoutInterfacesMapper;
+	}
+
+	private static Mapper childrenWiReverseMapper = null;
+	public static Mapper zGetParentWiChildrenWiReverseMapper()
+	{
+		if (childrenWiReverseMapper == null)
+		{
+			childrenWiReverseMapper = zConstructParentWiChildrenWiReverseMapper();
+		}
+
+		return childrenWiReverseMapper;
+	}
+
+	private static Mapper childrenWiMapper = null;
+	public static Mapper zGetParentWiChildrenWiMapper()
+	{
+		if (childrenWiMapper == null)
+		{
+			childrenWiMapper = zConstructParentWiChildrenWiMapper();
+		}
+
+		return childrenWiMapper;
+	}
+
+	private static Mapper childrenWiPureReverseMapper = null;
+	public static Mapper zGetParentWiChildrenWiPureReverseMapper()
+	{
+		if (childrenWiPureReverseMapper == null)
+		{
+			childrenWiPureReverseMapper = zConstructParentWiChildrenWiPureReverseMapper();
+		}
+
+		return childrenWiPureReverseMapper;
+	}
+
+	private static Mapper zConstructParentWiChildrenWiPureReverseMapper()
+	{
+		Mapper childrenWiMapper = ParentWiFinder.zGetConstantJoin(2);
+		childrenWiMapper.setName("childrenWi");
+		return childrenWiMapper;
+	}
+
+	private static Mapper zConstructParentWiChildrenWiReverseMapper()
+	{
+		Mapper childrenWiMapper = ParentWiFinder.zGetConstantJoin(2);
+		childrenWiMapper.setName("childrenWi");
+		return childrenWiMapper;
+	}
+
+	private static Mapper zConstructParentWiChildrenWiMapper()
+	{
+		Mapper childrenWiMapper = ParentWiFinder.zGetConstantJoin(3);
+		childrenWiMapper.setName("parent");
+		return childrenWiMapper;
+	}
+
+	/** maps to PARENT_WI.NAME **/
+	public static StringAttribute<ParentWi> name()
+	{
+		return finder.name();
+	}
+
+	/** maps to PARENT_WI.CHILD_NAME_ID **/
+	public static StringAttribute<ParentWi> childName()
+	{
+		return finder.childName();
+	}
+
+	public static ChildFinder.ChildCollectionFinderForRelatedClasses<ParentWi, ChildList, ParentWi> childrenWithoutInterfaces()
+	{
+		return finder.childrenWithoutInterfaces();
+	}
+
+	public static class ParentWiChildrenWithoutInterfacesFinderSubclass<ParentOwnerType> extends ChildFinder.ChildCollectionFinderForRelatedClasses<ParentOwnerType, ChildList, ParentWi>
+	{
+		public ParentWiChildrenWithoutInterfacesFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "childrenWithoutInterfaces";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentWiChildrenWithoutInterfacesFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ChildList plainValueOf(ParentWi _obj)
+		{
+			return _obj.getChildrenWithoutInterfaces();
+		}
+
+		protected ChildList plainListValueOf(Object _obj)
+		{
+			return ((ParentWiList)_obj).getChildrenWithoutInterfaces();
+		}
+	}
+
+	public static ChildWiFinder.ChildWiCollectionFinderForRelatedClasses<ParentWi, ChildWiList, ParentWi> childrenWi()
+	{
+		return finder.childrenWi();
+	}
+
+	public static class ParentWiChildrenWiFinderSubclass<ParentOwnerType> extends ChildWiFinder.ChildWiCollectionFinderForRelatedClasses<ParentOwnerType, ChildWiList, ParentWi>
+	{
+		public ParentWiChildrenWiFinderSubclass(Mapper mapper, NormalAndListValueSelector parentSelector )
+		{
+			super(mapper);
+			this._parentSelector = (AbstractRelatedFinder) parentSelector;
+			this._orderBy = null;
+			this._type = SIMPLE_TO_MANY;
+			this._name = "childrenWi";
+		}
+
+		public DeepRelationshipAttribute copy()
+		{
+			return new ParentWiChildrenWiFinderSubclass(zGetMapper(), (NormalAndListValueSelector) this._parentSelector
+			);
+		}
+
+		protected ChildWiList plainValueOf(ParentWi _obj)
+		{
+			return _obj.getChildrenWi();
+		}
+
+		protected ChildWiList plainListValueOf(Object _obj)
+		{
+			return ((ParentWiList)_obj).getChildrenWi();
+		}
+	}
+
+	public static Operation eq(ParentWi other)
+	{
+		return finder.eq(other);
+	}
+
+	public static Operation all()
+	{
+		return new All(name());
+	}
+
+	public static ParentWiSingleFinder<ParentWi, Object, ParentWi> getFinderInstance()
+	{
+		return finder;
+	}
+
+	public static Attribute[] getPrimaryKeyAttributes()
+	{
+		return new Attribute[] 
+		{
+			name()
+		}
+
+		;
+	}
+
+	public static Attribute[] getImmutableAttributes()
+	{
+		return new Attribute[] 
+		{
+			name()
+			, name()
+		}
+
+		;
+	}
+
+	public static AsOfAttribute[] getAsOfAttributes()
+	{
+		return null;
+	}
+
+	protected static void initializeIndicies(Cache cache)
+	{
+		cache.addIndex("0 Index", new Attribute[] 
+		{
+			childName()
+		}
+
+		);
+	}
+
+	protected static void initializePortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(), null,
+				null, null, 0,
+				(MithraObjectReader) objectFactory);
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	protected static void initializeClientPortal(MithraObjectDeserializer objectFactory, Cache cache,
+		MithraConfigurationManager.Config config)
+	{
+		initializeIndicies(cache);
+		isFullCache = cache.isFullCache();
+		isOffHeap = cache.isOffHeap();
+		MithraObjectPortal portal;
+		if (config.isParticipatingInTx())
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+		else
+		{
+			portal = new MithraReadOnlyPortal(objectFactory, cache, getFinderInstance(),
+				config.getRelationshipCacheSize(), config.getMinQueriesToKeep(),
+				null, null,
+				null, 0,
+				new RemoteMithraObjectPersister(config.getRemoteMithraService(), getFinderInstance(), false));
+		}
+
+		config.initializePortal(portal);
+		objectPortal.destroy();
+		objectPortal = portal;
+	}
+
+	public static boolean isFullCache()
+	{
+		return isFullCache;
+	}
+
+	public static boolean isOffHeap()
+	{
+		return isOffHeap;
+	}
+
+	public static Attribute getAttributeByName(String attributeName)
+	{
+		return finder.getAttributeByName(attributeName);
+	}
+
+	public static com.gs.collections.api.block.function.Function getAttributeOrRelationshipSelector(String attributeName)
+	{
+		return finder.getAttributeOrRelationshipSelector(attributeName);
+	}
+
+	public static RelatedFinder getRelatedFinderByName(String relationshipName)
+	{
+		return finder.getRelationshipFinderByName(relationshipName);
+	}
+
+	public static DoubleAttribute[] zGetDoubleAttributes()
+	{
+		DoubleAttribute[] result = new DoubleAttribute[0];
+		return result;
+	}
+
+	public static BigDecimalAttribute[] zGetBigDecimalAttributes()
+	{
+		BigDecimalAttribute[] result = new BigDecimalAttribute[0];
+		return result;
+	}
+
+	public static void zResetPortal()
+	{
+		objectPortal.destroy();
+		objectPortal = new UninitializedPortal("com.gs.fw.common.mithra.test.domain.parent.ParentWi");
+		isFullCache = false;
+		isOffHeap = false;
+	}
+
+	public static void setTransactionModeFullTransactionParticipation(MithraTransaction tx)
+	{
+		tx.setTxParticipationMode(objectPortal, FullTransactionalParticipationMode.getInstance());
+	}
+
+	public static void registerForNotification(MithraApplicationClassLevelNotificationListener listener)
+	{
+		getMithraObjectPortal().registerForApplicationClassLevelNotification(listener);
+	}
+}